@@ -0,0 +1,629 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse 
+ *       or promote products derived from this software without specific prior written 
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+import java.util.*;
+[#if grammar.options.freemarkerNodes]
+import freemarker.template.*;
+[/#if]
+
+/**
+ * A read-only tree whose nodes are held in parallel arrays (type id, parent, 
+ * next sibling, number of children and the range of tokens covered) rather than as
+ * individual objects. The nodes are laid out in document order, so the
+ * descendants of any node are a contiguous range of indices.
+ * The children of each node are also listed together in one array,
+ * so that getting a child by its index takes constant time.
+ * The tree is accessed through lightweight ArenaNode objects that implement the 
+ * Node API on top of the arrays. The location of a node is that of the
+ * first and last tokens it covers.
+ * An ArenaNode is never an instance of the node class it stands in for, so the
+ * type-based queries of ArenaNode go by the original type (see ArenaNode.getType()),
+ * and Nodes.getTokens turns the tokens of an arena into Token objects.
+ */
+public class ArenaTree {
+    
+    private final List<Class<? extends Node>> typeTable = new ArrayList<>();
+    private final Map<Class<? extends Node>, Integer> typeIds = new HashMap<>();
+    private int nodeCount, tokenCount;
+    private int[] types = new int[64], parents = new int[64], nextSiblings = new int[64], 
+                  childCounts = new int[64], firstTokens = new int[64], lastTokens = new int[64];
+    // The children of node i are childIndices[childOffsets[i]] up to 
+    // (but not including) childIndices[childOffsets[i] + childCounts[i]].
+    // These are filled in when the tree is built.
+    private int[] childOffsets, childIndices;
+    // Token kinds, and the begin line, begin column, end line and end column of each token
+    private int[] tokenKinds = new int[64], tokenLocations = new int[256];
+    private String[] tokenImages = new String[64];
+    private BitSet unparsedTokens = new BitSet();
+    private String inputSource;
+    
+    private ArenaTree() {}
+    
+    /**
+     * Copies an existing tree into an arena. Once that is done, the 
+     * original tree can be discarded.
+     */
+    static public ArenaTree build(Node root) {
+        Builder builder = new Builder();
+        builder.setInputSource(root.getInputSource());
+        Node[] nodes = new Node[16];
+        int[] indices = new int[16];
+        int depth = 0;
+        builder.startNode(root.getClass());
+        nodes[depth] = root;
+        indices[depth++] = 0;
+        while (depth > 0) {
+            int top = depth -1;
+            Node node = nodes[top];
+            if (indices[top] < node.getChildCount()) {
+                Node child = node.getChild(indices[top]++);
+                if (child instanceof Token) {
+                    builder.token((Token) child);
+                    continue;
+                }
+                builder.startNode(child.getClass());
+                if (depth == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, depth*2);
+                    indices = Arrays.copyOf(indices, depth*2);
+                }
+                nodes[depth] = child;
+                indices[depth++] = 0;
+                continue;
+            }
+            builder.endNode();
+            nodes[--depth] = null;
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Builds an ArenaTree from a sequence of start/end events, 
+     * without ever creating the node objects.
+[#if grammar.options.eventParsing]
+     * It can be set as the parser's event handler.
+[/#if]
+     */
+    static public class Builder [#if grammar.options.eventParsing]implements ${grammar.parserClassName}.EventHandler [/#if]{
+        private ArenaTree tree = new ArenaTree();
+        private int[] openNodes = new int[16], lastChildren = new int[16];
+        private int depth;
+        
+        public void setInputSource(String inputSource) {
+            tree.inputSource = inputSource;
+        }
+        
+        public void startNode(Class<? extends Node> type) {
+            int index = newNode(type);
+            tree.firstTokens[index] = tree.tokenCount;
+            if (depth == openNodes.length) {
+                openNodes = Arrays.copyOf(openNodes, depth*2);
+                lastChildren = Arrays.copyOf(lastChildren, depth*2);
+            }
+            openNodes[depth] = index;
+            lastChildren[depth++] = -1;
+        }
+        
+        public void token(Token token) {
+            int index = newNode(token.getClass());
+            int tokenIndex = tree.tokenCount++;
+            if (tokenIndex == tree.tokenKinds.length) {
+                tree.tokenKinds = Arrays.copyOf(tree.tokenKinds, tokenIndex*2);
+                tree.tokenImages = Arrays.copyOf(tree.tokenImages, tokenIndex*2);
+                tree.tokenLocations = Arrays.copyOf(tree.tokenLocations, tokenIndex*8);
+            }
+            tree.tokenKinds[tokenIndex] = token.getId();
+            tree.tokenImages[tokenIndex] = token.getRawText();
+            if (token.isUnparsed()) {
+                tree.unparsedTokens.set(tokenIndex);
+            }
+            tree.tokenLocations[4*tokenIndex] = token.getBeginLine();
+            tree.tokenLocations[4*tokenIndex+1] = token.getBeginColumn();
+            tree.tokenLocations[4*tokenIndex+2] = token.getEndLine();
+            tree.tokenLocations[4*tokenIndex+3] = token.getEndColumn();
+            tree.firstTokens[index] = tree.lastTokens[index] = tokenIndex;
+        }
+        
+        public void endNode() {
+            if (depth == 0) {
+                throw new IllegalStateException("No node is open.");
+            }
+            int index = openNodes[--depth];
+            if (tree.firstTokens[index] < tree.tokenCount) {
+                tree.lastTokens[index] = tree.tokenCount -1;
+            } else {
+                tree.firstTokens[index] = tree.lastTokens[index] = -1;
+            }
+        }
+        
+[#if grammar.options.eventParsing]
+        public void startNode(Class<? extends Node> type, Token first) {
+            startNode(type);
+        }
+        
+        public void endNode(Class<? extends Node> type, Token last) {
+            endNode();
+        }
+        
+[/#if]
+        public ArenaTree build() {
+            if (depth != 0) {
+                throw new IllegalStateException("There are " + depth + " nodes still open.");
+            }
+            ArenaTree result = tree;
+            result.trim();
+            tree = new ArenaTree();
+            return result;
+        }
+        
+        private int newNode(Class<? extends Node> type) {
+            if (depth == 0 && tree.nodeCount > 0) {
+                throw new IllegalStateException("An ArenaTree can only have one root node.");
+            }
+            Integer typeId = tree.typeIds.get(type);
+            if (typeId == null) {
+                typeId = tree.typeTable.size();
+                tree.typeTable.add(type);
+                tree.typeIds.put(type, typeId);
+            }
+            int index = tree.nodeCount++;
+            if (index == tree.types.length) {
+                tree.grow();
+            }
+            tree.types[index] = typeId;
+            tree.nextSiblings[index] = tree.parents[index] = -1;
+            if (depth > 0) {
+                int parent = openNodes[depth-1];
+                int lastChild = lastChildren[depth-1];
+                if (lastChild >= 0) {
+                    tree.nextSiblings[lastChild] = index;
+                }
+                lastChildren[depth-1] = index;
+                tree.parents[index] = parent;
+                tree.childCounts[parent]++;
+            }
+            return index;
+        }
+    }
+    
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+        childCounts = Arrays.copyOf(childCounts, capacity);
+        firstTokens = Arrays.copyOf(firstTokens, capacity);
+        lastTokens = Arrays.copyOf(lastTokens, capacity);
+    }
+    
+    private void trim() {
+        types = Arrays.copyOf(types, nodeCount);
+        parents = Arrays.copyOf(parents, nodeCount);
+        nextSiblings = Arrays.copyOf(nextSiblings, nodeCount);
+        childCounts = Arrays.copyOf(childCounts, nodeCount);
+        firstTokens = Arrays.copyOf(firstTokens, nodeCount);
+        lastTokens = Arrays.copyOf(lastTokens, nodeCount);
+        tokenKinds = Arrays.copyOf(tokenKinds, tokenCount);
+        tokenImages = Arrays.copyOf(tokenImages, tokenCount);
+        tokenLocations = Arrays.copyOf(tokenLocations, 4*tokenCount);
+        childOffsets = new int[nodeCount];
+        for (int i = 1; i < nodeCount; i++) {
+            childOffsets[i] = childOffsets[i-1] + childCounts[i-1];
+        }
+        // Every node but the root is somebody's child, and since the nodes 
+        // are in document order, each node's children come in order.
+        childIndices = new int[Math.max(nodeCount-1, 0)];
+        int[] filled = new int[nodeCount];
+        for (int i = 1; i < nodeCount; i++) {
+            int parent = parents[i];
+            childIndices[childOffsets[parent] + filled[parent]++] = i;
+        }
+    }
+    
+    public int size() {
+        return nodeCount;
+    }
+    
+    public ArenaNode getRoot() {
+        return nodeCount == 0 ? null : new ArenaNode(0);
+    }
+    
+    public ArenaNode getNode(int index) {
+        return new ArenaNode(index);
+    }
+    
+    /**
+     * @return the nodes whose (original) type is the given class or a subclass of it,
+     * in document order
+     */
+    public List<ArenaNode> nodesOfType(Class<?> clazz) {
+        return nodesOfType(clazz, 0, nodeCount);
+    }
+    
+    private List<ArenaNode> nodesOfType(Class<?> clazz, int from, int to) {
+        boolean[] matchingTypes = new boolean[typeTable.size()];
+        for (int i = 0; i < matchingTypes.length; i++) {
+            matchingTypes[i] = clazz.isAssignableFrom(typeTable.get(i));
+        }
+        List<ArenaNode> result = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (matchingTypes[types[i]]) {
+                result.add(new ArenaNode(i));
+            }
+        }
+        return result;
+    }
+    
+    // The index just past the last descendant of the given node
+    private int subtreeEnd(int index) {
+        while (index >= 0) {
+            if (nextSiblings[index] >= 0) {
+                return nextSiblings[index];
+            }
+            index = parents[index];
+        }
+        return nodeCount;
+    }
+    
+    /**
+     * A lightweight view of a node in an ArenaTree. Any number of these can
+     * exist for the same node, and they are equal to one another. The tree is read-only,
+     * so all the methods that would modify it throw UnsupportedOperationException.
+     */
+    public class ArenaNode implements Node {
+        private final int index;
+        
+        ArenaNode(int index) {
+            this.index = index;
+        }
+        
+        public ArenaTree getTree() {
+            return ArenaTree.this;
+        }
+        
+        public int getIndex() {
+            return index;
+        }
+        
+        /**
+         * @return the class of the node that this one stands in for
+         */
+        public Class<? extends Node> getType() {
+            return typeTable.get(types[index]);
+        }
+        
+        public boolean isOfType(Class<?> clazz) {
+            return clazz.isAssignableFrom(getType());
+        }
+        
+        public boolean isToken() {
+            return Token.class.isAssignableFrom(getType());
+        }
+        
+        /**
+         * @return the token kind if this node is a token, otherwise -1
+         */
+        public int getKind() {
+            return isToken() ? tokenKinds[firstTokens[index]] : -1;
+        }
+        
+        public boolean isUnparsed() {
+            return isToken() && unparsedTokens.get(firstTokens[index]);
+        }
+        
+        /**
+         * @return the image if this node is a token, otherwise null
+         */
+        public String getImage() {
+            return isToken() ? tokenImages[firstTokens[index]] : null;
+        }
+        
+        /**
+         * @return a new Token with the kind, image and location of this one,
+         * or null if this node is not a token. The Token is not part of any tree.
+         */
+        public Token toToken() {
+            if (!isToken()) {
+                return null;
+            }
+            int tokenIndex = firstTokens[index];
+            Token token = Token.newToken(tokenKinds[tokenIndex], tokenImages[tokenIndex]);
+            token.setInputSource(inputSource);
+            token.setBeginLine(tokenLocations[4*tokenIndex]);
+            token.setBeginColumn(tokenLocations[4*tokenIndex+1]);
+            token.setEndLine(tokenLocations[4*tokenIndex+2]);
+            token.setEndColumn(tokenLocations[4*tokenIndex+3]);
+            token.setUnparsed(unparsedTokens.get(tokenIndex));
+            return token;
+        }
+        
+        public List<ArenaNode> descendantsOfArenaType(Class<?> clazz) {
+            return nodesOfType(clazz, index+1, subtreeEnd(index));
+        }
+        
+        // The following type-based queries match on the original type of
+        // the nodes. What they return are really ArenaNodes, whatever T is, 
+        // so the results should only be used as Nodes.
+        
+        @SuppressWarnings("unchecked")
+        public <T extends Node> T firstChildOfType(Class<T> clazz) {
+            for (int i = childOffsets[index]; i < childOffsets[index] + childCounts[index]; i++) {
+                if (clazz.isAssignableFrom(typeTable.get(types[childIndices[i]]))) {
+                    return (T) new ArenaNode(childIndices[i]);
+                }
+            }
+            return null;
+        }
+        
+        @SuppressWarnings("unchecked")
+        public <T extends Node> List<T> childrenOfType(Class<T> clazz) {
+            List<Node> result = new ArrayList<>();
+            for (int i = childOffsets[index]; i < childOffsets[index] + childCounts[index]; i++) {
+                if (clazz.isAssignableFrom(typeTable.get(types[childIndices[i]]))) {
+                    result.add(new ArenaNode(childIndices[i]));
+                }
+            }
+            return (List<T>) result;
+        }
+        
+        @SuppressWarnings("unchecked")
+        public <T extends Node> List<T> descendantsOfType(Class<T> clazz) {
+            return (List<T>) (List<?>) descendantsOfArenaType(clazz);
+        }
+        
+        @SuppressWarnings("unchecked")
+        public <T extends Node> T firstAncestorOfType(Class<T> clazz) {
+            for (int i = parents[index]; i >= 0; i = parents[i]) {
+                if (clazz.isAssignableFrom(typeTable.get(types[i]))) {
+                    return (T) new ArenaNode(i);
+                }
+            }
+            return null;
+        }
+        
+        public void open() {}
+        
+        public void close() {}
+        
+        public Node getParent() {
+            return parents[index] < 0 ? null : new ArenaNode(parents[index]);
+        }
+        
+        public void setParent(Node n) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public void addChild(Node n) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public void addChild(int i, Node n) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public Node getChild(int i) {
+            if (i < 0 || i >= childCounts[index]) {
+                throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + childCounts[index]);
+            }
+            return new ArenaNode(childIndices[childOffsets[index] + i]);
+        }
+        
+        public void setChild(int i, Node n) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public Node removeChild(int i) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public boolean removeChild(Node n) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public void clearChildren() {
+            throw new UnsupportedOperationException();
+        }
+        
+        public int getChildCount() {
+            return childCounts[index];
+        }
+        
+        public int indexOf(Node child) {
+            if (!(child instanceof ArenaNode) || ((ArenaNode) child).getTree() != ArenaTree.this) {
+                return -1;
+            }
+            int offset = childOffsets[index];
+            int i = Arrays.binarySearch(childIndices, offset, offset + childCounts[index], ((ArenaNode) child).index);
+            return i < 0 ? -1 : i - offset;
+        }
+        
+        public List<Node> children() {
+            List<Node> result = new ArrayList<>(childCounts[index]);
+            for (int i = childOffsets[index]; i < childOffsets[index] + childCounts[index]; i++) {
+                result.add(new ArenaNode(childIndices[i]));
+            }
+            return result;
+        }
+        
+        public Iterator<Node> descendantIterator() {
+            final int end = subtreeEnd(index);
+            return new Iterator<Node>() {
+                int next = index + 1;
+                
+                public boolean hasNext() {
+                    return next < end;
+                }
+                
+                public Node next() {
+                    if (next >= end) throw new NoSuchElementException();
+                    return new ArenaNode(next++);
+                }
+            };
+        }
+        
+        public java.util.stream.Stream<Node> descendantStream() {
+            return java.util.stream.IntStream.range(index+1, subtreeEnd(index)).mapToObj(i -> new ArenaNode(i));
+        }
+        
+        public Object getAttribute(String name) {
+            return null;
+        }
+        
+        public void setAttribute(String name, Object value) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public boolean hasAttribute(String name) {
+            return false;
+        }
+        
+        public Set<String> getAttributeNames() {
+            return Collections.emptySet();
+        }
+        
+        public String getInputSource() {
+            return inputSource;
+        }
+        
+        public void setInputSource(String inputSource) {
+            throw new UnsupportedOperationException();
+        }
+        
+        private int location(int firstOrLast, int offset) {
+            return firstOrLast < 0 ? 0 : tokenLocations[4*firstOrLast + offset];
+        }
+        
+        public int getBeginLine() {
+            return location(firstTokens[index], 0);
+        }
+        
+        public int getBeginColumn() {
+            return location(firstTokens[index], 1);
+        }
+        
+        public int getEndLine() {
+            return location(lastTokens[index], 2);
+        }
+        
+        public int getEndColumn() {
+            return location(lastTokens[index], 3);
+        }
+        
+        public void setBeginLine(int beginLine) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public void setEndLine(int endLine) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public void setBeginColumn(int beginColumn) {
+            throw new UnsupportedOperationException();
+        }
+        
+        public void setEndColumn(int endColumn) {
+            throw new UnsupportedOperationException();
+        }
+[#if grammar.options.visitor]
+   [#var RETURN_TYPE = grammar.options.visitorReturnType]
+   [#if !RETURN_TYPE?has_content][#set RETURN_TYPE = "void"][/#if]
+   [#var DATA_TYPE = grammar.options.visitorDataType]
+   [#if !DATA_TYPE?has_content][#set DATA_TYPE="Object"][/#if]
+   [#var THROWS = ""]
+   [#if grammar.options.visitorException?has_content][#set THROWS = "throws " + grammar.options.visitorException][/#if]
+
+        public ${RETURN_TYPE} jjtAccept(${grammar.parserClassName}Visitor visitor, ${DATA_TYPE} data) ${THROWS} {
+            throw new UnsupportedOperationException("The visitor needs the node classes.");
+        }
+[/#if]
+[#if grammar.options.freemarkerNodes]
+
+        public TemplateSequenceModel getChildNodes() {
+            SimpleSequence seq = new SimpleSequence();
+            for (Node child : children()) {
+                seq.add(child);
+            }
+            return seq;
+        }
+        
+        public TemplateNodeModel getParentNode() {
+            return getParent();
+        }
+        
+        public String getNodeName() {
+            return getType().getSimpleName();
+        }
+        
+        public String getNodeType() {
+            return "";
+        }
+        
+        public String getNodeNamespace() {
+            return null;
+        }
+        
+        public String getAsString() {
+            return toString();
+        }
+[/#if]
+        
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ArenaNode)) {
+                return false;
+            }
+            ArenaNode other = (ArenaNode) obj;
+            return other.getTree() == ArenaTree.this && other.index == index;
+        }
+        
+        public int hashCode() {
+            return System.identityHashCode(ArenaTree.this) * 31 + index;
+        }
+        
+        public String toString() {
+            int first = firstTokens[index], last = lastTokens[index];
+            if (first < 0) {
+                return "";
+            }
+            if (isToken()) {
+                return tokenImages[first];
+            }
+            StringBuilder buf = new StringBuilder();
+            for (int i = first; i <= last; i++) {
+                if (!unparsedTokens.get(i)) {
+                    buf.append(tokenImages[i]);
+                }
+            }
+            return buf.toString();
+        }
+    }
+}
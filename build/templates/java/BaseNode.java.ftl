@@ -0,0 +1,471 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse 
+ *       or promote products derived from this software without specific prior written 
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. Do not edit. ${filename} */
+[#if explicitPackageName?has_content]
+package ${explicitPackageName};
+[#elseif grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+[#if grammar.options.freemarkerNodes]
+import freemarker.template.*;
+[/#if]
+
+import java.util.*;
+  
+ @SuppressWarnings("rawtypes")  
+public class ${grammar.baseNodeClassName} implements Node {
+
+    
+    static private Class listClass = ArrayList.class;
+
+	static public void setListClass(Class<? extends List> listClass) {
+        ${grammar.baseNodeClassName}.listClass = listClass;
+    }
+
+    @SuppressWarnings("unchecked")    
+    private List<Node> newList() {
+        try {
+           return (List<Node>) listClass.newInstance();
+        } catch (Exception e) {
+           throw new RuntimeException(e);
+        }
+    }
+    
+    protected Node parent;
+    protected List<Node> children = newList();
+    
+    private int beginLine, beginColumn, endLine, endColumn;
+    private String inputSource;
+    private Map<String,Object> attributes;
+[#if grammar.options.nodeUsesParser]    
+    protected ${grammar.parserClassName} parser;
+    public ${grammar.baseNodeClassName}(${grammar.parserClassName} parser) {
+        this.parser = parser;
+    }
+
+    public ${grammar.baseNodeClassName}() {
+    }
+
+[/#if]
+
+[#if grammar.options.faultTolerant]
+
+    private ParseException parseException;
+    
+    public ParseException getParseException() {return parseException;}
+    
+    public void setParseException(ParseException parseException) {this.parseException = parseException;}
+
+
+[/#if]
+
+    
+[#if grammar.options.visitor]
+    [#var VISITOR_THROWS = ""]
+    [#if grammar.options.visitorException?has_content]
+       [#set VISITOR_THROWS = "throws " + grammar.options.visitorException + " "]
+    [/#if]
+    [#var VISITOR_CLASS = grammar.parserClassName + "Visitor"]
+    [#var VISITOR_DATA_TYPE = grammar.options.visitorDataType]
+    [#var VISITOR_RETURN_TYPE = grammar.options.visitorReturnType]
+    [#if !VISITOR_DATA_TYPE?has_content][#set VISITOR_DATA_TYPE="Object"][/#if]
+    [#if !VISITOR_RETURN_TYPE?has_content][#set VISITOR_RETURN_TYPE="Object"][/#if]
+    /** Accept the visitor. **/
+    public ${VISITOR_RETURN_TYPE} jjtAccept(${VISITOR_CLASS} visitor, ${VISITOR_DATA_TYPE} data) ${VISITOR_THROWS}{
+      [#if VISITOR_RETURN_TYPE != "void"]
+        return visitor.visit(this, data);
+      [/#if]
+    }
+           
+    /** Accept the visitor. **/
+    public Object childrenAccept(${VISITOR_CLASS} visitor, ${VISITOR_DATA_TYPE} data) ${VISITOR_THROWS}{
+       for (Node child : children()) {
+           child.jjtAccept(visitor, data);
+       }
+       return data;
+    }
+[/#if]
+ 
+    public void open() {
+    }
+
+    public void close() {}
+
+    public void setParent(Node n) {
+        parent = n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void addChild(Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
+        children.add(n);
+        n.setParent(this);
+    }
+    
+    public void addChild(int i, Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
+        children.add(i, n);
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        return children.get(i);
+    }
+
+    public void setChild(int i, Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
+        children.set(i, n);
+        n.setParent(this);
+    }
+    
+    public Node removeChild(int i) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
+        return children.remove(i);
+    }
+    
+    public boolean  removeChild(Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
+        return children.remove(n);
+    }
+    
+    public void clearChildren() {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
+        children.clear();
+    }
+
+[#if grammar.usesLazyProductions]
+    private java.util.function.Supplier<Node> lazyContent;
+    
+    /**
+     * Makes this a placeholder for a lazily parsed production. The supplier 
+     * parses the production again and its result's children become this
+     * node's children the first time they are accessed.
+     * Note that the parser only checks that the lazy content is properly
+     * delimited, so a syntax error inside it is only reported when the
+     * children are first accessed, as a RuntimeException whose cause is
+     * the ParseException. It is reported again on every access after that.
+     * Use expandAll() to find any such errors up front.
+     */
+    public void setLazyContent(java.util.function.Supplier<Node> lazyContent) {
+        this.lazyContent = lazyContent;
+    }
+    
+    /**
+     * @return whether this node's children have been built. That is always
+     * the case unless it is a placeholder for a lazily parsed production.
+     */
+    public boolean isExpanded() {
+        return lazyContent == null;
+    }
+    
+    private void expand() {
+        if (lazyContent != null) {
+            // If this throws, we leave the content in place so that
+            // the next access reports the error again.
+            Node node = lazyContent.get();
+            lazyContent = null;
+            for (int i = 0; i < node.getChildCount(); i++) {
+                addChild(node.getChild(i));
+            }
+        }
+    }
+
+    /**
+     * Expands this node and all the lazily parsed nodes below it,
+     * so that the whole tree is built and checked for syntax errors.
+     * @throws ParseException the first syntax error in the lazy content
+     */
+    public void expandAll() throws ParseException {
+        try {
+            expand();
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw e;
+        }
+        for (Node child : children) {
+            if (child instanceof ${grammar.baseNodeClassName}) {
+                ((${grammar.baseNodeClassName}) child).expandAll();
+            }
+        }
+    }
+
+[/#if]
+    /**
+     * Discards the indexes cached on this node and its ancestors
+     * after a structural change to the tree.
+     */
+    private void invalidateIndexes() {
+[#if grammar.options.positionIndex || grammar.options.nodeTypeIndex]
+        for (Node n = this; n instanceof ${grammar.baseNodeClassName}; n = n.getParent()) {
+            ${grammar.baseNodeClassName} node = (${grammar.baseNodeClassName}) n;
+[#if grammar.options.positionIndex]
+            node.positionIndex = null;
+[/#if]
+[#if grammar.options.nodeTypeIndex]
+            node.nodeIndex = null;
+[/#if]
+        }
+[/#if]
+    }
+[#if grammar.options.positionIndex]
+
+    private Nodes.PositionIndex positionIndex;
+    
+    /**
+     * On the root node, position lookups go through a Nodes.PositionIndex
+     * that is built on first use and kept until the tree is modified. 
+     */
+    public Node findNodeAt(int line, int column) {
+        if (parent != null) {
+            return Node.super.findNodeAt(line, column);
+        }
+        Nodes.PositionIndex index = positionIndex;
+        if (index == null) {
+            index = positionIndex = new Nodes.PositionIndex(this);
+        }
+        return index.findNodeAt(line, column);
+    }
+[/#if]
+[#if grammar.options.nodeTypeIndex]
+
+    private Nodes.NodeIndex nodeIndex;
+    
+    /**
+     * @return the index of this node's descendants that the parser built
+     * along with the tree, or null if there is none (or it was discarded because 
+     * the tree was modified). 
+     */
+    public Nodes.NodeIndex getNodeIndex() {
+        return nodeIndex;
+    }
+    
+    public void setNodeIndex(Nodes.NodeIndex nodeIndex) {
+        this.nodeIndex = nodeIndex;
+    }
+    
+    public <T extends Node> List<T> descendantsOfType(Class<T> clazz) {
+        if (nodeIndex == null) {
+            return Node.super.descendantsOfType(clazz);
+        }
+        return new ArrayList<T>(nodeIndex.nodesOfType(clazz));
+    }
+    
+    /**
+     * @return the tokens of the given kind in this node, in document order
+     */
+    public List<Token> tokensOfKind(int kind) {
+        if (nodeIndex != null) {
+            return new ArrayList<Token>(nodeIndex.tokensOfKind(kind));
+        }
+        List<Token> result = new ArrayList<Token>();
+        for (Iterator<Token> it = Nodes.tokenIterator(this); it.hasNext();) {
+            Token token = it.next();
+            if (token.getId() == kind) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+[/#if]
+
+    public int getChildCount() {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        return children.size();
+    }
+    
+    public List<Node> children() {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        return Collections.unmodifiableList(children);
+    }
+    
+    public Object getAttribute(String name) {
+        return attributes == null ? null : attributes.get(name); 
+    }
+     
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<String, Object>();
+        }
+        attributes.put(name, value);
+    }
+     
+    public boolean hasAttribute(String name) {
+        return attributes == null ? false : attributes.containsKey(name);
+    }
+     
+    public Set<String> getAttributeNames() {
+        if (attributes == null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource = inputSource;
+    }
+    
+    public String getInputSource() {
+        return inputSource;
+    }
+    
+    public int getBeginLine() {
+        if (beginLine <= 0) {
+            if (!children.isEmpty()) {
+                beginLine = children.get(0).getBeginLine();
+                beginColumn = children.get(0).getBeginColumn();
+            }
+        }
+        return beginLine;
+    }
+     
+    public int getEndLine() {
+        if (endLine <=0) {
+            if (!children.isEmpty()) {
+                Node last = children.get(children.size()-1);
+                endLine = last.getEndLine();
+                endColumn = last.getEndColumn();
+            }
+        }
+        return endLine;
+    }
+    
+    public int getBeginColumn() {
+        if (beginColumn <= 0) {
+            if (!children.isEmpty()) {
+                beginLine = children.get(0).getBeginLine();
+                beginColumn = children.get(0).getBeginColumn();
+            }
+        }
+        return beginColumn;
+    }
+    
+    public int getEndColumn() {
+        if (endColumn <=0) {
+            if (!children.isEmpty()) {
+                Node last = children.get(children.size()-1);
+                endLine = last.getEndLine();
+                endColumn = last.getEndColumn();
+            }
+        }
+        return endColumn;
+    }
+     
+    public void setBeginLine(int beginLine) {
+        this.beginLine = beginLine;
+    }
+     
+    public void setEndLine(int endLine) {
+        this.endLine = endLine;
+    }
+     
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn = beginColumn;
+    }
+     
+    public void setEndColumn(int endColumn) {
+        this.endColumn = endColumn;
+    }
+     
+[#if grammar.options.freemarkerNodes]    
+    public TemplateSequenceModel getChildNodes() {
+        SimpleSequence seq = new SimpleSequence();
+        for (Node child : children()) {
+            seq.add(child);
+        }
+        return seq;
+    }
+    
+    public TemplateNodeModel getParentNode() {
+        return this.parent;
+    }
+    
+    public String getNodeName() {
+         return this.getClass().getSimpleName();
+    }
+    
+    public String getNodeType() {
+        return "";
+    }
+    
+    public String getNodeNamespace() {
+        return null;
+    }
+    
+    public String getAsString() throws TemplateModelException {
+        StringBuilder buf = new StringBuilder();
+        if (children != null) {
+	        for (Node child : children) {
+	            buf.append(child.getAsString());
+	            buf.append(" ");
+	        }
+	    }
+        return buf.toString();
+    }
+[/#if]    
+    
+    public String toString() {
+        StringBuilder buf=new StringBuilder();
+        for(Token t : Nodes.getRealTokens(this)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+    
+}
@@ -0,0 +1,27 @@
+/* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+ 
+public class InvalidToken extends Token {
+
+    public InvalidToken(String image) {
+       super(${grammar.constantsClassName}.INVALID, image);
+    }
+    
+    public InvalidToken() {
+       super(${grammar.constantsClassName}.INVALID);
+    }
+    
+    public String getNormalizedText() {
+        return "Lexically Invalid Input:" + image;
+    }
+    
+    public boolean isDirty() {
+        return true;
+    }
+}
@@ -0,0 +1,524 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse 
+ *       or promote products derived from this software without specific prior written
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+[#if grammar.options.treeBuildingDefault]
+    private boolean buildTree = true;
+[#else]
+    private boolean buildTree = false;
+[/#if]    
+[#if grammar.options.tokensAreNodes]
+    private boolean tokensAreNodes = true;
+[#else]
+    private boolean tokensAreNodes = false;
+[/#if]
+[#if grammar.options.specialTokensAreNodes]
+    private boolean specialTokensAreNodes = true;
+[#else]
+    private boolean specialTokensAreNodes = false;
+[/#if]
+
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes = specialTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+[#if grammar.options.nodeTypeIndex]
+        if (n instanceof Token) {
+            indexToken((Token) n);
+        }
+[/#if]
+        currentNodeScope.add(n);
+    }
+[#if grammar.options.nodeTypeIndex]
+
+    private Nodes.NodeIndex nodeIndex = new Nodes.NodeIndex();
+    
+    private void indexToken(Token token) {
+        Token firstSpecialToken = null;
+        if (specialTokensAreNodes) {
+            Token specialToken = token;
+            while (specialToken.specialToken != null) {
+                specialToken = specialToken.specialToken;
+            }
+            if (specialToken != token) {
+                firstSpecialToken = specialToken;
+            }
+            while (specialToken != null && specialToken != token) {
+                nodeIndex.add(specialToken, null);
+                specialToken = specialToken.next;
+            }
+        }
+        nodeIndex.add(token, firstSpecialToken);
+    }
+    
+    /**
+     * Hands the nodes recorded so far over to the nodes that have just
+     * ended up in the root scope, each one getting those in its own tree, 
+     * and starts a new index.
+     */
+    private void attachNodeIndex(List<Node> roots) {
+        List<Nodes.NodeIndex> indexes = nodeIndex.finish(roots);
+        for (int i = 0; i < roots.size(); i++) {
+            if (roots.get(i) instanceof ${grammar.baseNodeClassName}) {
+                ((${grammar.baseNodeClassName}) roots.get(i)).setNodeIndex(indexes.get(i));
+            }
+        }
+        nodeIndex = new Nodes.NodeIndex();
+    }
+    
+    /**
+     * Records a node that has just been closed, and if it is in the root scope,
+     * hands it its index.
+     * @param children the children that the node was given when it was closed
+     */
+    private void indexClosedNode(Node n, List<Node> children) {
+        nodeIndex.add(n, children.isEmpty() ? null : children.get(0));
+        if (!currentNodeScope.isRootScope()) {
+            return;
+        }
+        for (Node child : children) {
+            if (child instanceof ${grammar.baseNodeClassName} && ((${grammar.baseNodeClassName}) child).getNodeIndex() != null) {
+                // The node took in nodes from the root scope that were given
+                // indexes of their own, so the recorded entries are not enough.
+                nodeIndex = new Nodes.NodeIndex();
+                if (n instanceof ${grammar.baseNodeClassName}) {
+                    ((${grammar.baseNodeClassName}) n).setNodeIndex(Nodes.NodeIndex.of(n));
+                }
+                return;
+            }
+        }
+        attachNodeIndex(Collections.singletonList(n));
+    }
+[/#if]
+[#if grammar.usesLazyProductions]
+
+    // Set on a parser that is about to fill in a lazy node, so that it goes
+    // through the production rather than skipping it again.
+    private boolean expandingLazyNode;
+    
+    private interface LazyProduction {
+        void parse(${grammar.parserClassName} parser) throws ParseException;
+    }
+    
+    /**
+     * Skips over the tokens from an opening delimiter up to and including
+     * the matching closing delimiter.
+     */
+    private void skipDelimited(int openKind, int closeKind) throws ParseException {
+        int depth = 0;
+        do {
+            Token t = getNextToken();
+            if (t.kind == openKind) {
+                depth++;
+            } else if (t.kind == closeKind) {
+                depth--;
+            } else if (depth == 0 || t.kind == EOF) {
+                throw new ParseException(t);
+            }
+        } while (depth > 0);
+    }
+    
+    /**
+     * Parses the tokens following the given one with a new parser 
+     * that shares this one's token chain and settings.
+     * @return the node built by the production
+     */
+    private Node expandLazyNode(Token previous, LazyProduction production) {
+        ${grammar.parserClassName} parser = new ${grammar.parserClassName}(token_source);
+        parser.current_token = previous;
+        parser.tokensAreNodes = tokensAreNodes;
+        parser.specialTokensAreNodes = specialTokensAreNodes;
+[#if grammar.options.userDefinedLexer]
+        parser.inputSource = inputSource;
+[/#if]
+[#if grammar.options.traceSupport]
+        parser.trace_enabled = trace_enabled;
+[/#if]
+        parser.expandingLazyNode = true;
+        try {
+            production.parse(parser);
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
+        }
+        return parser.rootNode();
+    }
+[/#if]
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor = currentNodeScope.floor;
+        currentNodeScope.floor = currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark = currentNodeScope.floor;
+        currentNodeScope.floor = Math.min(previousFloor, mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n, int mark) {
+        List<Node> children = currentNodeScope.subList(mark, currentNodeScope.size());
+        List<Node> nodes = new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n, true);
+    }
+    
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: " + n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "  +  currentNodeScope.nestingLevel());
+    }
+
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + num + " nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i=0;i<num;i++) {
+           nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+        	if (specialTokensAreNodes && (child instanceof Token)) {
+        	    Token token = (Token) child;
+        	    Token specialToken = token;
+        	    while (specialToken != null) {
+        	        specialToken = specialToken.specialToken;
+        	    }
+        	    while (specialToken !=null && specialToken != token) {
+        	        n.addChild(specialToken);
+        	        specialToken = specialToken.next;
+        	    }
+        	}
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+ [#if grammar.options.nodeTypeIndex]
+        indexClosedNode(n, nodes);
+ [/#if]
+ [#if grammar.usesjjtreeCloseNodeScope]
+        jjtreeCloseNodeScope(${nodeVarName});
+ [/#if]
+ [#if grammar.usesCloseNodeScopeHook]
+        closeNodeScopeHook(${nodeVarName});
+ [/#if]
+     
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+	 
+    public void closeNodeScope(Node n, boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + nodeArity() + " nodes off the stack.");
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+	        	if (specialTokensAreNodes && (child instanceof Token)) {
+	        	    Token token = (Token) child;
+	        	    Token specialToken = token;
+	        	    while (specialToken.specialToken !=null) {
+	        	        specialToken = specialToken.specialToken;
+	        	    }
+	        	    while (specialToken !=null && specialToken != token) {
+	        	        n.addChild(specialToken);
+	        	        specialToken = specialToken.next;
+	        	    }
+	        	}
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", there are now " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+ [#if grammar.options.nodeTypeIndex]
+            indexClosedNode(n, nodes);
+ [/#if]
+ [#if grammar.usesjjtreeCloseNodeScope]
+	        jjtreeCloseNodeScope(${nodeVarName});
+ [/#if]
+ [#if grammar.usesCloseNodeScopeHook]
+    	    closeNodeScopeHook(${nodeVarName});
+ [/#if]
+        } else {
+ [#if grammar.options.nodeTypeIndex]
+            int a = nodeArity();
+ [/#if]
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+ [#if grammar.options.nodeTypeIndex]
+            if (currentNodeScope.isRootScope() && a > 0) {
+                // The nodes that the discarded node would have had are now 
+                // in the root scope, and the entries recorded so far are theirs.
+                attachNodeIndex(currentNodeScope.subList(currentNodeScope.size() - a, currentNodeScope.size()));
+            }
+ [/#if]
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+[#if grammar.options.eventParsing]
+
+    /**
+     * Receives the structure of the input as it is parsed, instead of
+     * (or rather than waiting for) a tree. The calls are made in document order,
+     * so startNode and endNode calls are properly nested.
+     * Note that nodes whose creation depends on a condition (such as 
+     * the smart nodes that SMART_NODE_CREATION produces) are always reported, 
+     * since the condition is only known after their content has been reported.
+     */
+    public interface EventHandler {
+        /**
+         * Called when the parser starts on a node of the given type, before its content.
+         * @param first the first token of the node
+         */
+        void startNode(Class<? extends Node> type, Token first);
+        
+        /**
+         * Called when the parser has successfully completed a node.
+         * @param last the last token of the node
+         */
+        void endNode(Class<? extends Node> type, Token last);
+        
+        /**
+         * Called instead of endNode when the parser abandons a node because of 
+         * a ParseException, which the grammar may catch and carry on from.
+         * By default, this just ends the node, so that every startNode call
+         * is still matched by an endNode call.
+         * @param last the last token that the parser consumed
+         * @param e the exception
+         */
+        default void abortNode(Class<? extends Node> type, Token last, ParseException e) {
+            endNode(type, last);
+        }
+        
+        /**
+         * Called for each token the parser consumes, if tokens are nodes.
+         */
+        void token(Token token);
+    }
+    
+    private EventHandler eventHandler;
+    
+    public EventHandler getEventHandler() {
+        return eventHandler;
+    }
+    
+    /**
+     * Sets a handler that the parser reports to while parsing. The handler 
+     * is only used while buildTree is false, so setting one turns off tree building.
+     */
+    public void setEventHandler(EventHandler eventHandler) {
+        this.eventHandler = eventHandler;
+        if (eventHandler != null) {
+            buildTree = false;
+        }
+    }
+[/#if]
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    ${grammar.parserClassName} jjtree = this; 
+    
+    
+    
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope = ${grammar.parserClassName}.this.currentNodeScope;
+            ${grammar.parserClassName}.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns. parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty() ? parentScope.peek() : get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result = remove(size()-1);
+            if (size() < floor) {
+                floor = size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            ${grammar.parserClassName}.this.currentNodeScope = parentScope;
+        }
+        
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+               result++;
+               parent = parent.parentScope;
+            }
+            return result;            
+        } 
+    }
+
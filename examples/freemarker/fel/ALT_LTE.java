@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ALT_LTE.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class ALT_LTE extends Token {
+    public ALT_LTE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AND.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class AND extends Token {
+    public AND(int kind, String image) {
+        super(kind, image);
+    }
+}
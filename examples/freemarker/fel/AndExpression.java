@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AndExpression.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class AndExpression extends BaseNode {
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BUILT_IN.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class BUILT_IN extends Token {
+    public BUILT_IN(int kind, String image) {
+        super(kind, image);
+    }
+}
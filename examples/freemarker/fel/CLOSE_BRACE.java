@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CLOSE_BRACE.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class CLOSE_BRACE extends Token {
+    public CLOSE_BRACE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. COLON.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class COLON extends Token {
+    public COLON(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DIVIDE.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class DIVIDE extends Token {
+    public DIVIDE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DOT_DOT.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class DOT_DOT extends Token {
+    public DOT_DOT(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DOUBLE_EQUALS.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class DOUBLE_EQUALS extends Token {
+    public DOUBLE_EQUALS(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ELLIPSIS.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class ELLIPSIS extends Token {
+    public ELLIPSIS(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. EXCLAM.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class EXCLAM extends Token {
+    public EXCLAM(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. EXISTS_OPERATOR.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class EXISTS_OPERATOR extends Token {
+    public EXISTS_OPERATOR(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. EXP_WHITE_SPACE.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class EXP_WHITE_SPACE extends Token {
+    public EXP_WHITE_SPACE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Exists.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class Exists extends BaseNode {
+
+}
@@ -0,0 +1,262 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FELConstants.java */
+package fel;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface FELConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int EXP_WHITE_SPACE = 1;
+  int OPEN_PAREN = 8;
+  int CLOSE_PAREN = 9;
+  int OPEN_BRACKET = 10;
+  int CLOSE_BRACKET = 11;
+  int OPEN_BRACE = 12;
+  int CLOSE_BRACE = 13;
+  int EQUALS = 14;
+  int DOT = 15;
+  int PLUS = 16;
+  int MINUS = 17;
+  int TIMES = 18;
+  int DIVIDE = 19;
+  int PERCENT = 20;
+  int OR = 21;
+  int AND = 22;
+  int LT = 23;
+  int GT = 24;
+  int COMMA = 25;
+  int COLON = 26;
+  int SEMICOLON = 27;
+  int EXCLAM = 28;
+  int BUILT_IN = 29;
+  int DOUBLE_EQUALS = 30;
+  int NOT_EQUALS = 31;
+  int EXISTS_OPERATOR = 32;
+  int LTE = 33;
+  int GTE = 34;
+  int OR2 = 35;
+  int AND2 = 36;
+  int DOT_DOT = 37;
+  int ALT_GT = 38;
+  int ALT_LT = 39;
+  int AS = 40;
+  int IN = 41;
+  int ALT_GTE = 42;
+  int ALT_LTE = 43;
+  int ELLIPSIS = 44;
+  int NULL = 45;
+  int TRUE = 46;
+  int FALSE = 47;
+  int USING = 48;
+  int INTEGER = 49;
+  int DECIMAL = 50;
+  int IDENTIFIER = 51;
+  int LETTER = 52;
+  int PART_LETTER = 53;
+  int STRING_LITERAL = 54;
+  int RAW_STRING = 55;
+  
+  /**
+   * Lexical States
+   */
+  int FTL_EXPRESSION = 0;
+  int EXPRESSION_COMMENT = 1;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "<EXP_WHITE_SPACE>"
+,
+      "\"<#--\""   
+,
+      "\"<!--\""   
+,
+      "\"[#--\""   
+,
+      "<5>"
+,
+      "\"-->\""   
+,
+      "\"--]\""   
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+      "\"[\""   
+,
+      "\"]\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\"=\""   
+,
+      "\".\""   
+,
+      "\"+\""   
+,
+      "\"-\""   
+,
+      "\"*\""   
+,
+      "\"/\""   
+,
+      "\"%\""   
+,
+      "\"|\""   
+,
+      "\"&\""   
+,
+      "\"<\""   
+,
+      "\">\""   
+,
+      "\",\""   
+,
+      "\":\""   
+,
+      "\";\""   
+,
+      "\"!\""   
+,
+      "\"?\""   
+,
+      "\"==\""   
+,
+      "\"!=\""   
+,
+      "\"??\""   
+,
+      "\"<=\""   
+,
+      "\">=\""   
+,
+      "\"||\""   
+,
+      "\"&&\""   
+,
+      "\"..\""   
+,
+      "\"gt\""   
+,
+      "\"lt\""   
+,
+      "\"as\""   
+,
+      "\"in\""   
+,
+      "\"gte\""   
+,
+      "\"lte\""   
+,
+      "\"...\""   
+,
+      "\"null\""   
+,
+      "\"true\""   
+,
+      "\"false\""   
+,
+      "\"using\""   
+,
+      "<INTEGER>"
+,
+      "<DECIMAL>"
+,
+      "<IDENTIFIER>"
+,
+      "<LETTER>"
+,
+      "<PART_LETTER>"
+,
+      "<STRING_LITERAL>"
+,
+      "<RAW_STRING>"
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "EXP_WHITE_SPACE",
+          "OPEN_PAREN",
+          "CLOSE_PAREN",
+          "OPEN_BRACKET",
+          "CLOSE_BRACKET",
+          "OPEN_BRACE",
+          "CLOSE_BRACE",
+          "EQUALS",
+          "DOT",
+          "PLUS",
+          "MINUS",
+          "TIMES",
+          "DIVIDE",
+          "PERCENT",
+          "OR",
+          "AND",
+          "LT",
+          "GT",
+          "COMMA",
+          "COLON",
+          "SEMICOLON",
+          "EXCLAM",
+          "BUILT_IN",
+          "DOUBLE_EQUALS",
+          "NOT_EQUALS",
+          "EXISTS_OPERATOR",
+          "LTE",
+          "GTE",
+          "OR2",
+          "AND2",
+          "DOT_DOT",
+          "ALT_GT",
+          "ALT_LT",
+          "AS",
+          "IN",
+          "ALT_GTE",
+          "ALT_LTE",
+          "ELLIPSIS",
+          "NULL",
+          "TRUE",
+          "FALSE",
+          "USING",
+          "INTEGER",
+          "DECIMAL",
+          "IDENTIFIER",
+          "LETTER",
+          "PART_LETTER",
+          "STRING_LITERAL",
+          "RAW_STRING",
+              "Expression", 
+              "OrExpression", 
+              "AndExpression", 
+              "EqualityExpression", 
+              "RelationalExpression", 
+              "RangeExpression", 
+              "AdditiveExpression", 
+              "MultiplicativeExpression", 
+              "UnaryPlusMinusExpression", 
+              "NotExpression", 
+              "BuiltinVariable", 
+              "DefaultToExpression", 
+              "PrimaryExpression", 
+              "BaseExpression", 
+              "Exists", 
+              "ListLiteral", 
+              "StringLiteral", 
+              "HashLiteral", 
+              "NumberLiteral", 
+              "BooleanLiteral", 
+              "NullLiteral", 
+              "Parenthesis", 
+              "NamedArgsList", 
+              "PositionalArgsList", 
+   };
+}
+
+
+
+
@@ -0,0 +1,2190 @@
+/* Generated by: JavaCC 21 Parser Generator. FELLexer.java */
+package fel;
+
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public class FELLexer implements FELConstants {
+  private static final Logger LOGGER = Logger.getLogger("FELParser");
+ 
+
+
+  int[] jjemptyLineNo = new int[2];
+  int[] jjemptyColNo = new int[2];
+  boolean[] jjbeenHere = new boolean[2];
+  
+  
+  private int jjnewStateCnt;
+  private int jjround;
+  private int jjmatchedPos;
+  private int jjmatchedKind;
+  private String inputSource = "input";
+  
+  private boolean trace_enabled = false;
+  
+  private void setTracingEnabled(boolean trace_enabled) {
+     this.trace_enabled = trace_enabled;
+  }
+  
+  public String getInputSource() {
+      return inputSource;
+  }
+  
+  public void setInputSource(String inputSource) {
+      this.inputSource = inputSource;
+  }
+   
+  private LexicalState lexicalState = LexicalState.FTL_EXPRESSION;
+  
+  public enum LexicalState {
+     FTL_EXPRESSION,
+     EXPRESSION_COMMENT,
+   }
+   
+
+
+   void doLexicalStateSwitch(int tokenType) {
+       LexicalState newLexState = newLexicalStates[tokenType];
+       if (newLexState != null) {
+           switchTo(newLexState);
+       }
+   }
+  
+  private static final LexicalState[] newLexicalStates = {
+                null,
+                null,
+                LexicalState.EXPRESSION_COMMENT,
+                LexicalState.EXPRESSION_COMMENT,
+                LexicalState.EXPRESSION_COMMENT,
+                null,
+                LexicalState.FTL_EXPRESSION,
+                LexicalState.FTL_EXPRESSION,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+  };
+  
+
+      // Bit vector for TOKEN
+  static final long[] jjtoToken = {
+      0xcfffffffffff01L, 
+  };
+
+      // Bit vector for SKIP
+   static final long[] jjtoSkip = {
+       0xc2L, 
+   };
+
+      // Bit vector for SPECIAL
+   static final long[] jjtoSpecial = {
+      0xc0L, 
+   };
+
+      // Bit vector for MORE
+    static final long[] jjtoMore = {
+        0x3cL, 
+    };
+
+    private final int[] jjrounds = new int[25];
+    private final int[] jjstateSet = new int[50];
+
+    private final StringBuilder image = new StringBuilder();
+    private int matchedCharsLength;
+
+    char curChar;
+    
+
+FileLineMap input_stream;
+
+public final void backup(int amount) {
+    input_stream.backup(amount);
+}
+
+    public FELLexer(Reader reader) {
+       this(reader, 0, 1, 1);
+    }
+    public FELLexer(Reader reader, int lexState, int line, int column) {
+        input_stream = new FileLineMap(reader, line, column);
+        SwitchTo(lexState);
+    }
+
+    
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+       int i;
+       jjround = 0x80000001;
+       for (i = 25; i-- > 0;) 
+          jjrounds[i] = 0x80000000;
+    }
+
+
+    /** Switch to specified lexical state. */
+    public void switchTo(LexicalState lexState) {
+        if (this.lexicalState != lexState) {
+           if (trace_enabled) LOGGER.info("Switching from lexical state " + this.lexicalState + " to " + lexState);
+        }
+        this.lexicalState = lexState;
+    }
+    
+    /**
+      * @deprecated Use the switchTo method that takes an Enum
+      */
+    @Deprecated
+    public void SwitchTo(int lexState) {
+       switchTo(LexicalState.values()[lexState]);
+    }
+
+  public Token getNextToken() {
+      Token tok = nextToken();
+      if (!(tok instanceof InvalidToken)) {
+          return tok;
+      }
+      InvalidToken invalidToken = (InvalidToken) tok;
+      StringBuilder invalidChars = new StringBuilder();
+      do {
+          invalidChars.append(tok.image);
+          tok = nextToken();
+      } while (tok instanceof InvalidToken);
+      invalidToken.image = invalidChars.toString();
+      tok.invalidToken = invalidToken;
+      return tok;
+  }
+ 
+  
+  Token nextToken() {
+    Token specialToken = null;
+    Token matchedToken;
+    int curPos = 0;
+
+    EOFLoop :
+    while (true) {
+        int retval1 = input_stream.beginToken();
+        curChar = (char) (retval1);
+         if (retval1 == -1) { // Handle end of file
+            if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+			jjmatchedKind = 0;
+            Token eof = jjFillToken();
+            tokenLexicalActions(eof);
+		    eof.specialToken = specialToken;
+    		return eof;
+       }
+
+       image.setLength(0);
+       matchedCharsLength = 0;
+
+       while (true) {
+       switch(lexicalState) {
+    
+            case FTL_EXPRESSION : 
+             
+             
+        jjmatchedKind = 0x7FFFFFFF;
+        jjmatchedPos = 0;
+        if (trace_enabled) LOGGER.info("<" + lexicalState + ">" + 
+            "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int) curChar + ") " +
+            "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn()); 
+        curPos = jjMoveStringLiteralDfa0_FTL_EXPRESSION();
+
+        break;
+            case EXPRESSION_COMMENT : 
+             
+             
+        jjmatchedKind = 0x7FFFFFFF;
+        jjmatchedPos = 0;
+        if (trace_enabled) LOGGER.info("<" + lexicalState + ">" + 
+            "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int) curChar + ") " +
+            "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn()); 
+        curPos = jjMoveStringLiteralDfa0_EXPRESSION_COMMENT();
+
+        break;
+      }
+  if (jjmatchedKind != 0x7FFFFFFF) { 
+      if (jjmatchedPos + 1 < curPos) {
+        if (trace_enabled) LOGGER.info("   Putting back " + (curPos - jjmatchedPos - 1) + " characters into the input stream.");
+        input_stream.backup(curPos - jjmatchedPos - 1);
+      }
+       if (trace_enabled) LOGGER.info("****** FOUND A " + tokenImage[jjmatchedKind] + " MATCH ("
+          + ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos + 1)) + ") ******\n");
+ 
+      if ((jjtoToken[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L) {
+
+         matchedToken = jjFillToken();
+ 
+
+         matchedToken.specialToken = specialToken;
+
+      tokenLexicalActions(matchedToken);
+
+ jjmatchedKind = matchedToken.kind;
+ 
+      if (newLexicalStates[jjmatchedKind] != null) {
+          switchTo(newLexicalStates[jjmatchedKind]);
+      }
+
+ return matchedToken;
+
+     }
+
+
+          
+          else if ((jjtoSkip[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L)
+
+          {
+
+          
+            if ((jjtoSpecial[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L) {
+
+              matchedToken = jjFillToken();
+              matchedToken.setUnparsed(true);
+
+              if (specialToken == null) {
+                specialToken = matchedToken;
+              }
+              else {
+                matchedToken.specialToken = specialToken;
+                specialToken = (specialToken.next = matchedToken);
+              }
+
+              tokenLexicalActions(matchedToken);
+          }
+      
+              else 
+                 tokenLexicalActions(null);
+
+            if (newLexicalStates[jjmatchedKind] != null) {
+               this.lexicalState = newLexicalStates[jjmatchedKind];
+            }
+
+            continue EOFLoop;
+          }
+
+          matchedCharsLength += jjmatchedPos + 1;
+		  
+             doLexicalStateSwitch(jjmatchedKind);
+          curPos = 0;
+          jjmatchedKind = 0x7FFFFFFF;
+          int retval = input_stream.readChar();
+          if (retval >=0) {
+               curChar = (char) retval;
+	
+	              if (trace_enabled) LOGGER.info("<" + lexicalState + ">" + 
+	              "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int) curChar + ") " +
+	              "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+	          continue;
+	      }
+   }
+    int error_line = input_stream.getEndLine();
+    int error_column = input_stream.getEndColumn();
+    String error_after = null;
+//    input_stream.backup(1);
+    error_after = curPos <= 1 ? "" : input_stream.getImage();
+    Token invalidToken = new InvalidToken("" + curChar);
+    invalidToken.specialToken = specialToken;
+    invalidToken.setBeginLine(error_line);
+    invalidToken.setEndLine(error_line);
+    invalidToken.setBeginColumn(error_column);
+    invalidToken.setEndColumn(error_column);
+    return invalidToken;
+    }
+     }
+  }
+
+  void tokenLexicalActions(Token matchedToken) {
+//       int matchedKind = (matchedToken != null) ? matchedToken.kind : jjmatchedKind; // REVISIT
+       matchedToken = null; 
+       switch(jjmatchedKind) {
+           default : break;
+      }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage = input_stream.getImage();
+        beginLine = input_stream.getBeginLine();
+        beginColumn = input_stream.getBeginColumn();
+        endLine = input_stream.getEndLine();
+        endColumn = input_stream.getEndColumn();
+        t = Token.newToken(jjmatchedKind, curTokenImage);
+        t.beginLine = beginLine;
+        t.endLine = endLine;
+        t.beginColumn = beginColumn;
+        t.endColumn = endColumn;
+        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state] != jjround) {
+            jjstateSet[jjnewStateCnt++] = state;
+            jjrounds[state] = jjround;
+        }
+    }
+    
+    private void jjAddStates(int start, int end) {
+       do {
+           jjstateSet[jjnewStateCnt++] = jjnextStates[start];
+       }   while (start++ != end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+    
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        } while (start++ != end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start + 1]);
+    }
+    
+    
+
+	private static boolean jjCanMove_0
+	   (int hiByte, int i1, int i2, long l1, long l2) {
+	
+	   switch(hiByte) {
+	      case 0 :
+	          return (jjbitVec2[i2] &l2) != 0L;
+	      case 2 :
+	          return (jjbitVec3[i2] &l2) != 0L;
+	      case 3 :
+	          return (jjbitVec4[i2] &l2) != 0L;
+	      case 4 :
+	          return (jjbitVec5[i2] &l2) != 0L;
+	      case 5 :
+	          return (jjbitVec6[i2] &l2) != 0L;
+	      case 6 :
+	          return (jjbitVec7[i2] &l2) != 0L;
+	      case 7 :
+	          return (jjbitVec8[i2] &l2) != 0L;
+	      case 9 :
+	          return (jjbitVec9[i2] &l2) != 0L;
+	      case 10 :
+	          return (jjbitVec10[i2] &l2) != 0L;
+	      case 11 :
+	          return (jjbitVec11[i2] &l2) != 0L;
+	      case 12 :
+	          return (jjbitVec12[i2] &l2) != 0L;
+	      case 13 :
+	          return (jjbitVec13[i2] &l2) != 0L;
+	      case 14 :
+	          return (jjbitVec14[i2] &l2) != 0L;
+	      case 15 :
+	          return (jjbitVec15[i2] &l2) != 0L;
+	      case 16 :
+	          return (jjbitVec16[i2] &l2) != 0L;
+	      case 17 :
+	          return (jjbitVec17[i2] &l2) != 0L;
+	      case 18 :
+	          return (jjbitVec18[i2] &l2) != 0L;
+	      case 19 :
+	          return (jjbitVec19[i2] &l2) != 0L;
+	      case 20 :
+	          return (jjbitVec20[i2] &l2) != 0L;
+	      case 22 :
+	          return (jjbitVec21[i2] &l2) != 0L;
+	      case 23 :
+	          return (jjbitVec22[i2] &l2) != 0L;
+	      case 24 :
+	          return (jjbitVec23[i2] &l2) != 0L;
+	      case 30 :
+	          return (jjbitVec24[i2] &l2) != 0L;
+	      case 31 :
+	          return (jjbitVec25[i2] &l2) != 0L;
+	      case 32 :
+	          return (jjbitVec26[i2] &l2) != 0L;
+	      case 33 :
+	          return (jjbitVec27[i2] &l2) != 0L;
+	      case 48 :
+	          return (jjbitVec28[i2] &l2) != 0L;
+	      case 49 :
+	          return (jjbitVec29[i2] &l2) != 0L;
+	      case 77 :
+	          return (jjbitVec30[i2] &l2) != 0L;
+	      case 159 :
+	          return (jjbitVec31[i2] &l2) != 0L;
+	      case 164 :
+	          return (jjbitVec32[i2] &l2) != 0L;
+	      case 215 :
+	          return (jjbitVec33[i2] &l2) != 0L;
+	      case 250 :
+	          return (jjbitVec34[i2] &l2) != 0L;
+	      case 251 :
+	          return (jjbitVec35[i2] &l2) != 0L;
+	      case 253 :
+	          return (jjbitVec36[i2] &l2) != 0L;
+	      case 254 :
+	          return (jjbitVec37[i2] &l2) != 0L;
+	      case 255 :
+	          return (jjbitVec38[i2] &l2) != 0L;
+	   	  default : 
+	   	     if ((jjbitVec0[i1] & l1) != 0L) {
+	   	        return (jjbitVec1[i2] & l2) != 0L;
+	   	     }
+	   	       return false;
+	   }		
+	}
+		
+
+	private static boolean jjCanMove_1
+	   (int hiByte, int i1, int i2, long l1, long l2) {
+	
+	   switch(hiByte) {
+	      case 0 :
+	          return (jjbitVec39[i2] &l2) != 0L;
+	      case 2 :
+	          return (jjbitVec3[i2] &l2) != 0L;
+	      case 3 :
+	          return (jjbitVec40[i2] &l2) != 0L;
+	      case 4 :
+	          return (jjbitVec41[i2] &l2) != 0L;
+	      case 5 :
+	          return (jjbitVec42[i2] &l2) != 0L;
+	      case 6 :
+	          return (jjbitVec43[i2] &l2) != 0L;
+	      case 7 :
+	          return (jjbitVec44[i2] &l2) != 0L;
+	      case 9 :
+	          return (jjbitVec45[i2] &l2) != 0L;
+	      case 10 :
+	          return (jjbitVec46[i2] &l2) != 0L;
+	      case 11 :
+	          return (jjbitVec47[i2] &l2) != 0L;
+	      case 12 :
+	          return (jjbitVec48[i2] &l2) != 0L;
+	      case 13 :
+	          return (jjbitVec49[i2] &l2) != 0L;
+	      case 14 :
+	          return (jjbitVec50[i2] &l2) != 0L;
+	      case 15 :
+	          return (jjbitVec51[i2] &l2) != 0L;
+	      case 16 :
+	          return (jjbitVec52[i2] &l2) != 0L;
+	      case 17 :
+	          return (jjbitVec17[i2] &l2) != 0L;
+	      case 18 :
+	          return (jjbitVec18[i2] &l2) != 0L;
+	      case 19 :
+	          return (jjbitVec53[i2] &l2) != 0L;
+	      case 20 :
+	          return (jjbitVec20[i2] &l2) != 0L;
+	      case 22 :
+	          return (jjbitVec21[i2] &l2) != 0L;
+	      case 23 :
+	          return (jjbitVec54[i2] &l2) != 0L;
+	      case 24 :
+	          return (jjbitVec55[i2] &l2) != 0L;
+	      case 30 :
+	          return (jjbitVec24[i2] &l2) != 0L;
+	      case 31 :
+	          return (jjbitVec25[i2] &l2) != 0L;
+	      case 32 :
+	          return (jjbitVec56[i2] &l2) != 0L;
+	      case 33 :
+	          return (jjbitVec27[i2] &l2) != 0L;
+	      case 48 :
+	          return (jjbitVec57[i2] &l2) != 0L;
+	      case 49 :
+	          return (jjbitVec29[i2] &l2) != 0L;
+	      case 77 :
+	          return (jjbitVec30[i2] &l2) != 0L;
+	      case 159 :
+	          return (jjbitVec31[i2] &l2) != 0L;
+	      case 164 :
+	          return (jjbitVec32[i2] &l2) != 0L;
+	      case 215 :
+	          return (jjbitVec33[i2] &l2) != 0L;
+	      case 250 :
+	          return (jjbitVec34[i2] &l2) != 0L;
+	      case 251 :
+	          return (jjbitVec58[i2] &l2) != 0L;
+	      case 253 :
+	          return (jjbitVec36[i2] &l2) != 0L;
+	      case 254 :
+	          return (jjbitVec59[i2] &l2) != 0L;
+	      case 255 :
+	          return (jjbitVec60[i2] &l2) != 0L;
+	   	  default : 
+	   	     if ((jjbitVec0[i1] & l1) != 0L) {
+	   	        return (jjbitVec1[i2] & l2) != 0L;
+	   	     }
+	   	       return false;
+	   }		
+	}
+		
+
+	private static boolean jjCanMove_2
+	   (int hiByte, int i1, int i2, long l1, long l2) {
+	
+	   switch(hiByte) {
+	      case 0 :
+	          return (jjbitVec62[i2] &l2) != 0L;
+	   	  default : 
+	   	     if ((jjbitVec61[i1] & l1) != 0L) {
+	   	        return (jjbitVec1[i2] & l2) != 0L;
+	   	     }
+	   	       return false;
+	   }		
+	}
+		
+    
+    private int jjStopAtPos(int pos, int kind) {
+         jjmatchedKind = kind;
+         jjmatchedPos = pos;
+         if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+         if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos + 1) 
+                            + " characters as a " + tokenImage[jjmatchedKind] + " token.");
+         return pos + 1;
+    }
+    
+
+    
+    
+    static final long[] jjbitVec0 = {
+   0xfff0000000200002L, 0xffffffffffffdfffL, 0xfffff00f7fffffffL, 0x12000000007fffffL};
+    static final long[] jjbitVec1 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL};
+    static final long[] jjbitVec2 = {
+   0x0L, 0x0L, 0x420043c00000000L, 0xff7fffffff7fffffL
+};
+    static final long[] jjbitVec3 = {
+   0xffffcffffffffL, 0xffffffffffff0000L, 0xf9ff3fffffffffffL, 0x401f00030003L
+};
+    static final long[] jjbitVec4 = {
+   0x0L, 0x400000000000000L, 0xfffffffbffffd740L, 0xffffffcff7fffL
+};
+    static final long[] jjbitVec5 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xfffffffffffff003L, 0x33fffffffff199fL
+};
+    static final long[] jjbitVec6 = {
+   0xfffe000000000000L, 0xfffffffe027fffffL, 0xffL, 0x707ffffff0000L
+};
+    static final long[] jjbitVec7 = {
+   0x7fffffe00000000L, 0xfffe0000000007ffL, 0xffffffffffffffffL, 0x1c000060002fffffL
+};
+    static final long[] jjbitVec8 = {
+   0x1ffffffd0000L, 0x0L, 0x3fffffffffL, 0x0L
+};
+    static final long[] jjbitVec9 = {
+   0x23ffffffffffffe0L, 0x3ff010000L, 0x3c5fdfffff99fe0L, 0xf0003b0000000L
+};
+    static final long[] jjbitVec10 = {
+   0x36dfdfffff987e0L, 0x1c00005e000000L, 0x23edfdfffffbafe0L, 0x100010000L
+};
+    static final long[] jjbitVec11 = {
+   0x23cdfdfffff99fe0L, 0x3b0000000L, 0x3bfc718d63dc7e0L, 0x0L
+};
+    static final long[] jjbitVec12 = {
+   0x3effdfffffddfe0L, 0x300000000L, 0x3effdfffffddfe0L, 0x340000000L
+};
+    static final long[] jjbitVec13 = {
+   0x3fffdfffffddfe0L, 0x300000000L, 0x2ffbfffffc7fffe0L, 0x7fL
+};
+    static final long[] jjbitVec14 = {
+   0x800dfffffffffffeL, 0x7fL, 0x200decaefef02596L, 0x3000005fL
+};
+    static final long[] jjbitVec15 = {
+   0x1L, 0x7fffffffeffL, 0xf00L, 0x0L
+};
+    static final long[] jjbitVec16 = {
+   0x6fbffffffffL, 0x3f0000L, 0xffffffff00000000L, 0x7fffffffff003fL
+};
+    static final long[] jjbitVec17 = {
+   0xffffffffffffffffL, 0xffffffff83ffffffL, 0xffffff07ffffffffL, 0x3ffffffffffffffL
+};
+    static final long[] jjbitVec18 = {
+   0xffffffffffffff7fL, 0xffffffff3d7f3d7fL, 0x7f3d7fffffff3d7fL, 0xffff7fffff7f7f3dL
+};
+    static final long[] jjbitVec19 = {
+   0xffffffff7f3d7fffL, 0x7ffff7fL, 0xffffffff00000000L, 0x1fffffffffffffL
+};
+    static final long[] jjbitVec20 = {
+   0xfffffffffffffffeL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+    static final long[] jjbitVec21 = {
+   0xffffffffffffffffL, 0x7f9fffffffffffL, 0xffffffff07fffffeL, 0x7ffffffffffL
+};
+    static final long[] jjbitVec22 = {
+   0x0L, 0x0L, 0xfffffffffffffL, 0x8000000L
+};
+    static final long[] jjbitVec23 = {
+   0xffffffff00000000L, 0xffffffffffffffL, 0x1ffffffffffL, 0x0L
+};
+    static final long[] jjbitVec24 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffff0fffffffL, 0x3ffffffffffffffL
+};
+    static final long[] jjbitVec25 = {
+   0xffffffff3f3fffffL, 0x3fffffffaaff3f3fL, 0x5fdfffffffffffffL, 0x1fdc1fff0fcf1fdcL
+};
+    static final long[] jjbitVec26 = {
+   0x8000000000000000L, 0x8000000000000001L, 0xffff00000000L, 0x0L
+};
+    static final long[] jjbitVec27 = {
+   0x3fbbd503e2ffc84L, 0xffffffff00000000L, 0xfL, 0x0L
+};
+    static final long[] jjbitVec28 = {
+   0x73e03fe000000e0L, 0xfffffffffffffffeL, 0xfffffffe601fffffL, 0x7fffffffffffffffL
+};
+    static final long[] jjbitVec29 = {
+   0xfffe1fffffffffe0L, 0xffffffffffffffffL, 0xffffff00007fffL, 0x0L
+};
+    static final long[] jjbitVec30 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0x3fffffffffffffL, 0x0L
+};
+    static final long[] jjbitVec31 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0x3fffffffffL, 0x0L
+};
+    static final long[] jjbitVec32 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0x1fffL, 0x0L
+};
+    static final long[] jjbitVec33 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xfffffffffL, 0x0L
+};
+    static final long[] jjbitVec34 = {
+   0x3fffffffffffL, 0x0L, 0x0L, 0x0L
+};
+    static final long[] jjbitVec35 = {
+   0x5f7ffdffa0f8007fL, 0xffffffffffffffdbL, 0x3ffffffffffffL, 0xfffffffffff80000L
+};
+    static final long[] jjbitVec36 = {
+   0x3fffffffffffffffL, 0xffffffffffff0000L, 0xfffffffffffcffffL, 0xfff0000000000ffL
+};
+    static final long[] jjbitVec37 = {
+   0x18000000000000L, 0xffd702000000e000L, 0xffffffffffffffffL, 0x1fffffffffffffffL
+};
+    static final long[] jjbitVec38 = {
+   0x87fffffe00000010L, 0xffffffe007fffffeL, 0x7fffffffffffffffL, 0x631cfcfcfcL
+};
+    static final long[] jjbitVec39 = {
+   0x0L, 0x0L, 0x420043cffffffffL, 0xff7fffffff7fffffL
+};
+    static final long[] jjbitVec40 = {
+   0xffffffffffffffffL, 0x400000700007fffL, 0xfffffffbffffd740L, 0xffffffcff7fffL
+};
+    static final long[] jjbitVec41 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xfffffffffffff07bL, 0x33fffffffff199fL
+};
+    static final long[] jjbitVec42 = {
+   0xfffe000000000000L, 0xfffffffe027fffffL, 0xbbfffffbfffe00ffL, 0x707ffffff0016L
+};
+    static final long[] jjbitVec43 = {
+   0x7fffffe00000000L, 0xffff03ff003fffffL, 0xffffffffffffffffL, 0x1fff3dff9fefffffL
+};
+    static final long[] jjbitVec44 = {
+   0xffff1fffffff8000L, 0x7ffL, 0x1ffffffffffffL, 0x0L
+};
+    static final long[] jjbitVec45 = {
+   0xf3ffffffffffffeeL, 0xffcfff1f3fffL, 0xd3c5fdfffff99feeL, 0xfffcfb080399fL
+};
+    static final long[] jjbitVec46 = {
+   0xd36dfdfffff987e4L, 0x1fffc05e003987L, 0xf3edfdfffffbafeeL, 0xffc100013bbfL
+};
+    static final long[] jjbitVec47 = {
+   0xf3cdfdfffff99feeL, 0xffc3b0c0398fL, 0xc3bfc718d63dc7ecL, 0xff8000803dc7L
+};
+    static final long[] jjbitVec48 = {
+   0xc3effdfffffddfeeL, 0xffc300603ddfL, 0xc3effdfffffddfecL, 0xffc340603ddfL
+};
+    static final long[] jjbitVec49 = {
+   0xc3fffdfffffddfecL, 0xffc300803dcfL, 0x2ffbfffffc7fffecL, 0xc0000ff5f847fL
+};
+    static final long[] jjbitVec50 = {
+   0x87fffffffffffffeL, 0x3ff7fffL, 0x3bffecaefef02596L, 0x33ff3f5fL
+};
+    static final long[] jjbitVec51 = {
+   0xc2a003ff03000001L, 0xfffe07fffffffeffL, 0x1ffffffffeff0fdfL, 0x40L
+};
+    static final long[] jjbitVec52 = {
+   0x3c7f6fbffffffffL, 0x3ff03ffL, 0xffffffff00000000L, 0x7fffffffff003fL
+};
+    static final long[] jjbitVec53 = {
+   0xffffffff7f3d7fffL, 0x3fe0007ffff7fL, 0xffffffff00000000L, 0x1fffffffffffffL
+};
+    static final long[] jjbitVec54 = {
+   0x0L, 0x0L, 0xffffffffffffffffL, 0x3ff080fffffL
+};
+    static final long[] jjbitVec55 = {
+   0xffffffff03ff7800L, 0xffffffffffffffL, 0x3ffffffffffL, 0x0L
+};
+    static final long[] jjbitVec56 = {
+   0x80007c000000f000L, 0x8000fc0000000001L, 0xffff00000000L, 0x21fff0000L
+};
+    static final long[] jjbitVec57 = {
+   0x73efffe000000e0L, 0xfffffffffffffffeL, 0xfffffffe661fffffL, 0x7fffffffffffffffL
+};
+    static final long[] jjbitVec58 = {
+   0x5f7ffdffe0f8007fL, 0xffffffffffffffdbL, 0x3ffffffffffffL, 0xfffffffffff80000L
+};
+    static final long[] jjbitVec59 = {
+   0x18000f00000000L, 0xffd702000000e000L, 0xffffffffffffffffL, 0x9fffffffffffffffL
+};
+    static final long[] jjbitVec60 = {
+   0x87fffffe03ff0010L, 0xffffffe007fffffeL, 0x7fffffffffffffffL, 0xe0000631cfcfcfcL
+};
+    static final long[] jjbitVec61 = {
+   0xfffffffffffffffeL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL};
+    static final long[] jjbitVec62 = {
+   0x0L, 0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+
+  
+    private int jjStartNfa_FTL_EXPRESSION(int pos, 
+       long active0) {
+       return jjMoveNfa_FTL_EXPRESSION(jjStopStringLiteralDfa_FTL_EXPRESSION(pos, 
+        active0)
+        , pos+1);}
+
+  
+    private final int jjStopStringLiteralDfa_FTL_EXPRESSION(int pos, 
+    long active0
+  ) { 
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch (pos) {
+            case 0 :
+               if (
+              (active0 & 0x1efc000000000L) != 0L 
+               ) 
+                 {
+                    jjmatchedKind = 51;
+                   return 2;
+              }
+                       return -1;
+            case 1 :
+               if (
+              (active0 & 0xfc000000000L) != 0L 
+               ) 
+                   return 2;
+               if (
+              (active0 & 0x1e00000000000L) != 0L 
+               ) 
+                 {
+                    if (jjmatchedPos != 1) {
+                        jjmatchedKind = 51;
+                        jjmatchedPos = 1;
+                    }
+                   return 2;
+              }
+                       return -1;
+            case 2 :
+               if (
+              (active0 & 0xc0000000000L) != 0L 
+               ) 
+                   return 2;
+               if (
+              (active0 & 0x1e00000000000L) != 0L 
+               ) 
+                 {
+                    jjmatchedKind = 51;
+                    jjmatchedPos = 2;
+                   return 2;
+              }
+                       return -1;
+            case 3 :
+               if (
+              (active0 & 0x600000000000L) != 0L 
+               ) 
+                   return 2;
+               if (
+              (active0 & 0x1800000000000L) != 0L 
+               ) 
+                 {
+                    jjmatchedKind = 51;
+                    jjmatchedPos = 3;
+                   return 2;
+              }
+                       return -1;
+            case 4 :
+               if (
+              (active0 & 0x1800000000000L) != 0L 
+               ) 
+                   return 2;
+                       return -1;
+                   default :
+                       return -1;
+      }
+    }
+    private int jjStartNfaWithStates_FTL_EXPRESSION(int pos, int kind, int state) {
+        jjmatchedKind = kind;
+        jjmatchedPos = pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token.");
+         int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       } 
+       else  { 
+            return pos + 1; 
+        }
+        if (trace_enabled) LOGGER.info("" + 
+            "<FTL_EXPRESSION>"+  
+            "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) 
+            + " (" + (int)curChar + ") " + "at line " + input_stream.getEndLine() 
+            + " column " + input_stream.getEndColumn());
+        return jjMoveNfa_FTL_EXPRESSION(state, pos+1);
+   }
+  
+    
+    private int jjMoveStringLiteralDfa0_FTL_EXPRESSION
+   (
+   )
+ {
+      switch (curChar) {
+	           case 33 :
+                    jjmatchedKind = 28;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x80000000L
+   )
+;
+	           case 37 :
+                    return jjStopAtPos(0, 20);
+	           case 38 :
+                    jjmatchedKind = 22;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x1000000000L
+   )
+;
+	           case 40 :
+                    return jjStopAtPos(0, 8);
+	           case 41 :
+                    return jjStopAtPos(0, 9);
+	           case 42 :
+                    return jjStopAtPos(0, 18);
+	           case 43 :
+                    return jjStopAtPos(0, 16);
+	           case 44 :
+                    return jjStopAtPos(0, 25);
+	           case 45 :
+                    return jjStopAtPos(0, 17);
+	           case 46 :
+                    jjmatchedKind = 15;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x102000000000L
+   )
+;
+	           case 47 :
+                    return jjStopAtPos(0, 19);
+	           case 58 :
+                    return jjStopAtPos(0, 26);
+	           case 59 :
+                    return jjStopAtPos(0, 27);
+	           case 60 :
+                    jjmatchedKind = 23;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x20000000cL
+   )
+;
+	           case 61 :
+                    jjmatchedKind = 14;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x40000000L
+   )
+;
+	           case 62 :
+                    jjmatchedKind = 24;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x400000000L
+   )
+;
+	           case 63 :
+                    jjmatchedKind = 29;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x100000000L
+   )
+;
+	           case 91 :
+                    jjmatchedKind = 10;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x10L
+   )
+;
+	           case 93 :
+                    return jjStopAtPos(0, 11);
+	           case 97 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x10000000000L
+   )
+;
+	           case 102 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x800000000000L
+   )
+;
+	           case 103 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x44000000000L
+   )
+;
+	           case 105 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x20000000000L
+   )
+;
+	           case 108 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x88000000000L
+   )
+;
+	           case 110 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x200000000000L
+   )
+;
+	           case 116 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x400000000000L
+   )
+;
+	           case 117 :
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x1000000000000L
+   )
+;
+	           case 123 :
+                    return jjStopAtPos(0, 12);
+	           case 124 :
+                    jjmatchedKind = 21;
+	           return jjMoveStringLiteralDfa1_FTL_EXPRESSION   (
+        0x800000000L
+   )
+;
+	           case 125 :
+                    return jjStopAtPos(0, 13);
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_FTL_EXPRESSION(1, 0);
+      }
+   }
+    
+    private int jjMoveStringLiteralDfa1_FTL_EXPRESSION
+   (
+        long active0
+   )
+ {
+       int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       }
+       else  {
+           jjStopStringLiteralDfa_FTL_EXPRESSION   (
+        0
+           , 
+        active0
+   )
+;
+          if (trace_enabled && jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+             LOGGER.info("    Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token. ");
+          }
+           return 1;
+       }
+      if (trace_enabled) LOGGER.info("" + 
+           "<FTL_EXPRESSION>" +
+        "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " ("
+        + (int) curChar + ") at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+      switch (curChar) {
+	           case 33 :
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0x8L
+   )
+;
+	           case 35 :
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0x14L
+   )
+;
+	           case 38 :
+                 if 
+                   ((active0 & 0x1000000000L) != 0L) 
+                    return jjStopAtPos(1, 36);
+	           break;
+	           case 46 :
+                 if 
+                   ((active0 & 0x2000000000L) != 0L) 
+                     {
+                    jjmatchedKind = 37;
+                    jjmatchedPos = 1;
+                 }
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0x100000000000L
+   )
+;
+	           case 61 :
+                 if 
+                   ((active0 & 0x40000000L) != 0L) 
+                    return jjStopAtPos(1, 30);
+                 else if 
+                   ((active0 & 0x80000000L) != 0L) 
+                    return jjStopAtPos(1, 31);
+                 else if 
+                   ((active0 & 0x200000000L) != 0L) 
+                    return jjStopAtPos(1, 33);
+                 else if 
+                   ((active0 & 0x400000000L) != 0L) 
+                    return jjStopAtPos(1, 34);
+	           break;
+	           case 63 :
+                 if 
+                   ((active0 & 0x100000000L) != 0L) 
+                    return jjStopAtPos(1, 32);
+	           break;
+	           case 97 :
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0x800000000000L
+   )
+;
+	           case 110 :
+                 if 
+                   ((active0 & 0x20000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(1, 41, 2);
+	           break;
+	           case 114 :
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0x400000000000L
+   )
+;
+	           case 115 :
+                 if 
+                   ((active0 & 0x10000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(1, 40, 2);
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0x1000000000000L
+   )
+;
+	           case 116 :
+                 if 
+                   ((active0 & 0x4000000000L) != 0L) 
+                     {
+                    jjmatchedKind = 38;
+                    jjmatchedPos = 1;
+                 }
+                 else if 
+                   ((active0 & 0x8000000000L) != 0L) 
+                     {
+                    jjmatchedKind = 39;
+                    jjmatchedPos = 1;
+                 }
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0xc0000000000L
+   )
+;
+	           case 117 :
+	           return jjMoveStringLiteralDfa2_FTL_EXPRESSION   (
+        active0
+           , 
+        0x200000000000L
+   )
+;
+	           case 124 :
+                 if 
+                   ((active0 & 0x800000000L) != 0L) 
+                    return jjStopAtPos(1, 35);
+	           break;
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+      }
+            return jjStartNfa_FTL_EXPRESSION   (
+        0
+           , 
+        active0
+   )
+;
+   }
+    
+    private int jjMoveStringLiteralDfa2_FTL_EXPRESSION
+   (
+        long old0
+           , 
+        long active0
+   )
+ {
+        active0 = active0 & old0;
+        if (   (
+        active0
+   )
+ == 0L)
+            return jjStartNfa_FTL_EXPRESSION
+   (
+        0
+           , 
+        old0
+   )
+;
+       int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       }
+       else  {
+           jjStopStringLiteralDfa_FTL_EXPRESSION   (
+        1
+           , 
+        active0
+   )
+;
+          if (trace_enabled && jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+             LOGGER.info("    Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token. ");
+          }
+           return 2;
+       }
+      if (trace_enabled) LOGGER.info("" + 
+           "<FTL_EXPRESSION>" +
+        "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " ("
+        + (int) curChar + ") at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+      switch (curChar) {
+	           case 45 :
+	           return jjMoveStringLiteralDfa3_FTL_EXPRESSION   (
+        active0
+           , 
+        0x1cL
+   )
+;
+	           case 46 :
+                 if 
+                   ((active0 & 0x100000000000L) != 0L) 
+                    return jjStopAtPos(2, 44);
+	           break;
+	           case 101 :
+                 if 
+                   ((active0 & 0x40000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(2, 42, 2);
+                 else if 
+                   ((active0 & 0x80000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(2, 43, 2);
+	           break;
+	           case 105 :
+	           return jjMoveStringLiteralDfa3_FTL_EXPRESSION   (
+        active0
+           , 
+        0x1000000000000L
+   )
+;
+	           case 108 :
+	           return jjMoveStringLiteralDfa3_FTL_EXPRESSION   (
+        active0
+           , 
+        0xa00000000000L
+   )
+;
+	           case 117 :
+	           return jjMoveStringLiteralDfa3_FTL_EXPRESSION   (
+        active0
+           , 
+        0x400000000000L
+   )
+;
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+      }
+            return jjStartNfa_FTL_EXPRESSION   (
+        1
+           , 
+        active0
+   )
+;
+   }
+    
+    private int jjMoveStringLiteralDfa3_FTL_EXPRESSION
+   (
+        long old0
+           , 
+        long active0
+   )
+ {
+        active0 = active0 & old0;
+        if (   (
+        active0
+   )
+ == 0L)
+            return jjStartNfa_FTL_EXPRESSION
+   (
+        1
+           , 
+        old0
+   )
+;
+       int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       }
+       else  {
+           jjStopStringLiteralDfa_FTL_EXPRESSION   (
+        2
+           , 
+        active0
+   )
+;
+          if (trace_enabled && jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+             LOGGER.info("    Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token. ");
+          }
+           return 3;
+       }
+      if (trace_enabled) LOGGER.info("" + 
+           "<FTL_EXPRESSION>" +
+        "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " ("
+        + (int) curChar + ") at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+      switch (curChar) {
+	           case 45 :
+                 if 
+                   ((active0 & 0x4L) != 0L) 
+                    return jjStopAtPos(3, 2);
+                 else if 
+                   ((active0 & 0x8L) != 0L) 
+                    return jjStopAtPos(3, 3);
+                 else if 
+                   ((active0 & 0x10L) != 0L) 
+                    return jjStopAtPos(3, 4);
+	           break;
+	           case 101 :
+                 if 
+                   ((active0 & 0x400000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(3, 46, 2);
+	           break;
+	           case 108 :
+                 if 
+                   ((active0 & 0x200000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(3, 45, 2);
+	           break;
+	           case 110 :
+	           return jjMoveStringLiteralDfa4_FTL_EXPRESSION   (
+        active0
+           , 
+        0x1000000000000L
+   )
+;
+	           case 115 :
+	           return jjMoveStringLiteralDfa4_FTL_EXPRESSION   (
+        active0
+           , 
+        0x800000000000L
+   )
+;
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+      }
+            return jjStartNfa_FTL_EXPRESSION   (
+        2
+           , 
+        active0
+   )
+;
+   }
+    
+    private int jjMoveStringLiteralDfa4_FTL_EXPRESSION
+   (
+        long old0
+           , 
+        long active0
+   )
+ {
+        active0 = active0 & old0;
+        if (   (
+        active0
+   )
+ == 0L)
+            return jjStartNfa_FTL_EXPRESSION
+   (
+        2
+           , 
+        old0
+   )
+;
+       int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       }
+       else  {
+           jjStopStringLiteralDfa_FTL_EXPRESSION   (
+        3
+           , 
+        active0
+   )
+;
+          if (trace_enabled && jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+             LOGGER.info("    Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token. ");
+          }
+           return 4;
+       }
+      if (trace_enabled) LOGGER.info("" + 
+           "<FTL_EXPRESSION>" +
+        "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " ("
+        + (int) curChar + ") at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+      switch (curChar) {
+	           case 101 :
+                 if 
+                   ((active0 & 0x800000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(4, 47, 2);
+	           break;
+	           case 103 :
+                 if 
+                   ((active0 & 0x1000000000000L) != 0L) 
+                    return jjStartNfaWithStates_FTL_EXPRESSION(4, 48, 2);
+	           break;
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+      }
+            return jjStartNfa_FTL_EXPRESSION   (
+        3
+           , 
+        active0
+   )
+;
+   }
+    private int jjMoveNfa_FTL_EXPRESSION(int startState, int curPos) {
+        int startsAt = 0;
+        jjnewStateCnt = 25;
+        int i=1;
+        jjstateSet[0] = startState;
+        int kind = 0x7fffffff;
+        while (true) {
+            if (++jjround == 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar < 64) {
+            long l = 1L << curChar;
+            do {
+                switch (jjstateSet[--i]) {
+                                        
+              case 1 :
+                 
+                if ((0x3ff000000000000L &l) != 0L)
+    {
+                  if (kind > 49)
+                      kind = 49;
+                   jjAddStates(0, 2);
+         }
+                else  if ((0x100002600L &l) != 0L)
+    {
+                  if (kind > 1)
+                      kind = 1;
+                   jjCheckNAdd(0);
+         }
+               else  if (curChar == 39)
+                      jjCheckNAddStates(3
+                   , 5
+                  );
+               else  if (curChar == 34)
+                      jjCheckNAddStates(6
+                   , 8
+                  );
+               else  if (curChar == 36)
+    {
+                  if (kind > 51)
+                      kind = 51;
+                   jjCheckNAdd(2);
+         }
+                  break;
+
+                        
+                  
+                  case 0 :
+                    if ((0x100002600L &l) == 0L)
+                          break;
+                    if (kind > 1)
+                         kind = 1;
+                    jjCheckNAdd(0);
+                         break;
+
+      
+                        
+                  
+                  case 2 :
+                    if ((0x3ff00100fffc1ffL &l) == 0L)
+                          break;
+                    if (kind > 51)
+                         kind = 51;
+                    jjCheckNAdd(2);
+                         break;
+
+                        
+                  
+                  case 3 :
+                    if (curChar == 34)
+                    jjCheckNAddStates(6
+                    , 8
+                    );
+                         break;
+
+      
+                        
+                  
+                  case 5 :
+                    jjCheckNAddStates(6
+                    , 8
+                    );
+                         break;
+
+                        
+                  
+                  case 6 :
+                    if ((0xfffffffbffffffffL & l) != 0L)
+                    jjCheckNAddStates(6
+                    , 8
+                    );
+                         break;
+
+                        
+                  
+                  case 7 :
+                     if (curChar == 34  && kind > 54)
+                         kind = 54;
+                         break;
+
+                        
+                  
+                  case 8 :
+                    if (curChar == 39)
+                    jjCheckNAddStates(3
+                    , 5
+                    );
+                         break;
+
+      
+                        
+                  
+                  case 10 :
+                    jjCheckNAddStates(3
+                    , 5
+                    );
+                         break;
+
+                        
+                  
+                  case 11 :
+                    if ((0xffffff7fffffffffL & l) != 0L)
+                    jjCheckNAddStates(3
+                    , 5
+                    );
+                         break;
+
+                        
+                  
+                  case 12 :
+                     if (curChar == 39  && kind > 54)
+                         kind = 54;
+                         break;
+
+      
+                        
+                  
+                  case 14 :
+                    if (curChar == 34)
+                    jjCheckNAddTwoStates(15, 16);
+                         break;
+
+                        
+                  
+                  case 15 :
+                    if ((0xfffffffbffffffffL & l) != 0L)
+                    jjCheckNAddTwoStates(15, 16);
+                         break;
+
+                        
+                  
+                  case 16 :
+                     if (curChar == 34  && kind > 55)
+                         kind = 55;
+                         break;
+
+                        
+                  
+                  case 17 :
+                    if (curChar == 39)
+                    jjCheckNAddTwoStates(18, 19);
+                         break;
+
+                        
+                  
+                  case 18 :
+                    if ((0xffffff7fffffffffL & l) != 0L)
+                    jjCheckNAddTwoStates(18, 19);
+                         break;
+
+                        
+                  
+                  case 19 :
+                     if (curChar == 39  && kind > 55)
+                         kind = 55;
+                         break;
+
+                        
+                  
+                  case 20 :
+                    if ((0x3ff000000000000L &l) == 0L)
+                          break;
+                    if (kind > 49)
+                         kind = 49;
+                    jjCheckNAddStates(0
+                    , 2
+                    );
+                         break;
+
+                        
+                  
+                  case 21 :
+                    if ((0x3ff000000000000L &l) == 0L)
+                          break;
+                    if (kind > 49)
+                         kind = 49;
+                    jjCheckNAdd(21);
+                         break;
+
+                        
+                  
+                  case 22 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(22, 23);
+                         break;
+
+                        
+                  
+                  case 23 :
+                    if (curChar == 46)
+                    jjstateSet[jjnewStateCnt++] = 24;
+                         break;
+
+                        
+                  
+                  case 24 :
+                    if ((0x3ff000000000000L &l) == 0L)
+                          break;
+                    if (kind > 50)
+                         kind = 50;
+                    jjCheckNAdd(24);
+                         break;
+
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            else if (curChar <128) {
+            long l = 1L << (curChar & 077);
+            do {
+                switch (jjstateSet[--i]) {
+                                    
+          
+          
+              
+              case 1 :
+                 
+                if ((0x7fffffe87ffffffL &l) != 0L)
+    {
+                  if (kind > 51)
+                      kind = 51;
+                   jjCheckNAdd(2);
+         }
+                if (curChar == 114)
+                      jjAddStates(9, 10);
+                  break;
+
+      
+      
+                        
+                  
+                  case 2 :
+                    if ((0x87fffffe87ffffffL &l) == 0L)
+                          break;
+                    if (kind > 51)
+                         kind = 51;
+                    jjCheckNAdd(2);
+                         break;
+
+      
+                        
+                  
+                  case 4 :
+                    if (curChar == 92)
+                    jjstateSet[jjnewStateCnt++] = 5;
+                         break;
+
+                        
+                  
+                  case 5 :
+                    jjCheckNAddStates(6
+                    , 8
+                    );
+                         break;
+
+                        
+                  
+                  case 6 :
+                    if ((0xffffffffefffffffL & l) != 0L)
+                    jjCheckNAddStates(6
+                    , 8
+                    );
+                         break;
+
+      
+      
+                        
+                  
+                  case 9 :
+                    if (curChar == 92)
+                    jjstateSet[jjnewStateCnt++] = 10;
+                         break;
+
+                        
+                  
+                  case 10 :
+                    jjCheckNAddStates(3
+                    , 5
+                    );
+                         break;
+
+                        
+                  
+                  case 11 :
+                    if ((0xffffffffefffffffL & l) != 0L)
+                    jjCheckNAddStates(3
+                    , 5
+                    );
+                         break;
+
+      
+                        
+                  
+                  case 13 :
+                    if (curChar == 114)
+                    jjCheckNAddTwoStates(14, 17);
+                         break;
+
+      
+                        
+                  
+                  case 15 :
+                    jjCheckNAddTwoStates(15, 16);
+                         break;
+
+      
+      
+                        
+                  
+                  case 18 :
+                    jjCheckNAddTwoStates(18, 19);
+                         break;
+
+      
+      
+      
+      
+      
+      
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            else {
+            int hiByte = (int)(curChar >> 8);
+            int i1 = hiByte >> 6;
+            long l1 = 1L << (hiByte & 077);
+            int i2 = (curChar & 0xff) >> 6;
+            long l2 = 1L << (curChar & 077);
+            do {
+                switch (jjstateSet[--i]) {
+                                    
+          
+          
+          
+          
+          
+          case 1 :
+              
+                    if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                          break;
+                    if (kind > 51)
+                         kind = 51;
+                    jjCheckNAdd(2);
+                         break;
+
+      
+      
+                        
+                  
+                  case 2 :
+                    if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
+                          break;
+                    if (kind > 51)
+                         kind = 51;
+                    jjCheckNAdd(2);
+                         break;
+
+      
+      
+                        
+                  
+                  case 5 :
+                   case 6 :
+                    if (jjCanMove_2(hiByte, i1, i2, l1, l2))
+                    jjCheckNAddStates(6
+                    , 8
+                    );
+                         break;
+
+      
+      
+      
+      
+                        
+                  
+                  case 10 :
+                   case 11 :
+                    if (jjCanMove_2(hiByte, i1, i2, l1, l2))
+                    jjCheckNAddStates(3
+                    , 5
+                    );
+                         break;
+
+      
+      
+      
+      
+                        
+                  
+                  case 15 :
+                    if (jjCanMove_2(hiByte, i1, i2, l1, l2))
+                    jjCheckNAddTwoStates(15, 16);
+                         break;
+
+      
+      
+                        
+                  
+                  case 18 :
+                    if (jjCanMove_2(hiByte, i1, i2, l1, l2))
+                    jjCheckNAddTwoStates(18, 19);
+                         break;
+
+      
+      
+      
+      
+      
+      
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            if (kind != 0x7fffffff) {
+                jjmatchedKind = kind;
+                jjmatchedPos = curPos;
+                kind = 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos +1) + " characters as a " 
+                                     + tokenImage[jjmatchedKind] + " token.");
+            }
+            if ((i = jjnewStateCnt) == (startsAt = 25 - (jjnewStateCnt = startsAt)))
+                 return curPos;
+            int retval = input_stream.readChar();
+            if (retval >=0) {
+                 curChar = (char) retval;
+            }
+            else  {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info("" + 
+               "<" + lexicalState + ">" + 
+               ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int)curChar + ") "
+              + "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+        }
+    }
+  
+    private int jjStartNfa_EXPRESSION_COMMENT(int pos, 
+       long active0) {
+       return jjMoveNfa_EXPRESSION_COMMENT(jjStopStringLiteralDfa_EXPRESSION_COMMENT(pos, 
+        active0)
+        , pos+1);}
+
+  
+    private final int jjStopStringLiteralDfa_EXPRESSION_COMMENT(int pos, 
+    long active0
+  ) { 
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch (pos) {
+            case 0 :
+               if (
+              (active0 & 0xc0L) != 0L 
+               ) 
+                 {
+                    jjmatchedKind = 5;
+                        return -1;
+              }
+                       return -1;
+            case 1 :
+               if (
+              (active0 & 0xc0L) != 0L 
+               ) 
+                 {
+                    if (jjmatchedPos == 0) {
+                        jjmatchedKind = 5;
+                        jjmatchedPos = 0;
+                    }
+                        return -1;
+              }
+                       return -1;
+            case 2 :
+               if (
+              (active0 & 0xc0L) != 0L 
+               ) 
+                 {
+                    if (jjmatchedPos == 0) {
+                        jjmatchedKind = 5;
+                        jjmatchedPos = 0;
+                    }
+                        return -1;
+              }
+                       return -1;
+                   default :
+                       return -1;
+      }
+    }
+    private int jjStartNfaWithStates_EXPRESSION_COMMENT(int pos, int kind, int state) {
+        jjmatchedKind = kind;
+        jjmatchedPos = pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token.");
+         int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       } 
+       else  { 
+            return pos + 1; 
+        }
+        if (trace_enabled) LOGGER.info("" + 
+            "<EXPRESSION_COMMENT>"+  
+            "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) 
+            + " (" + (int)curChar + ") " + "at line " + input_stream.getEndLine() 
+            + " column " + input_stream.getEndColumn());
+        return jjMoveNfa_EXPRESSION_COMMENT(state, pos+1);
+   }
+  
+    
+    private int jjMoveStringLiteralDfa0_EXPRESSION_COMMENT
+   (
+   )
+ {
+      switch (curChar) {
+	           case 45 :
+	           return jjMoveStringLiteralDfa1_EXPRESSION_COMMENT   (
+        0xc0L
+   )
+;
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_EXPRESSION_COMMENT(0, 0);
+      }
+   }
+    
+    private int jjMoveStringLiteralDfa1_EXPRESSION_COMMENT
+   (
+        long active0
+   )
+ {
+       int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       }
+       else  {
+           jjStopStringLiteralDfa_EXPRESSION_COMMENT   (
+        0
+           , 
+        active0
+   )
+;
+          if (trace_enabled && jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+             LOGGER.info("    Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token. ");
+          }
+           return 1;
+       }
+      if (trace_enabled) LOGGER.info("" + 
+           "<EXPRESSION_COMMENT>" +
+        "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " ("
+        + (int) curChar + ") at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+      switch (curChar) {
+	           case 45 :
+	           return jjMoveStringLiteralDfa2_EXPRESSION_COMMENT   (
+        active0
+           , 
+        0xc0L
+   )
+;
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+      }
+            return jjStartNfa_EXPRESSION_COMMENT   (
+        0
+           , 
+        active0
+   )
+;
+   }
+    
+    private int jjMoveStringLiteralDfa2_EXPRESSION_COMMENT
+   (
+        long old0
+           , 
+        long active0
+   )
+ {
+        active0 = active0 & old0;
+        if (   (
+        active0
+   )
+ == 0L)
+            return jjStartNfa_EXPRESSION_COMMENT
+   (
+        0
+           , 
+        old0
+   )
+;
+       int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       }
+       else  {
+           jjStopStringLiteralDfa_EXPRESSION_COMMENT   (
+        1
+           , 
+        active0
+   )
+;
+          if (trace_enabled && jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+             LOGGER.info("    Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token. ");
+          }
+           return 2;
+       }
+      if (trace_enabled) LOGGER.info("" + 
+           "<EXPRESSION_COMMENT>" +
+        "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " ("
+        + (int) curChar + ") at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+      switch (curChar) {
+	           case 62 :
+                 if 
+                   ((active0 & 0x40L) != 0L) 
+                    return jjStopAtPos(2, 6);
+	           break;
+	           case 93 :
+                 if 
+                   ((active0 & 0x80L) != 0L) 
+                    return jjStopAtPos(2, 7);
+	           break;
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+      }
+            return jjStartNfa_EXPRESSION_COMMENT   (
+        1
+           , 
+        active0
+   )
+;
+   }
+    private int jjMoveNfa_EXPRESSION_COMMENT(int startState, int curPos) {
+        int startsAt = 0;
+        jjnewStateCnt = 1;
+        int i=1;
+        jjstateSet[0] = startState;
+        int kind = 0x7fffffff;
+        while (true) {
+            if (++jjround == 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar < 64) {
+            long l = 1L << curChar;
+            do {
+                switch (jjstateSet[--i]) {
+                                            
+                  
+                  case 0 :
+                    kind = 5;
+                         break;
+
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            else if (curChar <128) {
+            long l = 1L << (curChar & 077);
+            do {
+                switch (jjstateSet[--i]) {
+                                            
+                  
+                  case 0 :
+                    kind = 5;
+                         break;
+
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            else {
+            int hiByte = (int)(curChar >> 8);
+            int i1 = hiByte >> 6;
+            long l1 = 1L << (hiByte & 077);
+            int i2 = (curChar & 0xff) >> 6;
+            long l2 = 1L << (curChar & 077);
+            do {
+                switch (jjstateSet[--i]) {
+                                            
+                  
+                  case 0 :
+                     if (jjCanMove_2(hiByte, i1, i2, l1, l2)  && kind > 5)
+                         kind = 5;
+                         break;
+
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            if (kind != 0x7fffffff) {
+                jjmatchedKind = kind;
+                jjmatchedPos = curPos;
+                kind = 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos +1) + " characters as a " 
+                                     + tokenImage[jjmatchedKind] + " token.");
+            }
+            if ((i = jjnewStateCnt) == (startsAt = 1 - (jjnewStateCnt = startsAt)))
+                 return curPos;
+            int retval = input_stream.readChar();
+            if (retval >=0) {
+                 curChar = (char) retval;
+            }
+            else  {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info("" + 
+               "<" + lexicalState + ">" + 
+               ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int)curChar + ") "
+              + "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+        }
+    }
+
+
+  static final int[] jjnextStates = {
+        
+    
+        21, 
+        
+        22, 
+        
+        23, 
+        
+        9, 
+        
+        11, 
+        
+        12, 
+        
+        4, 
+        
+        6, 
+        
+        7, 
+        
+        14, 
+        
+        17
+  };
+
+    private int tabSize = 8;
+    /**
+     * sets the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public void setTabSize(int tabSize) {this.tabSize = tabSize;}
+    
+    /**
+     * returns the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public int getTabSize() {return tabSize;}
+    
+  
+}
+
+
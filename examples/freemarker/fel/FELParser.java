@@ -0,0 +1,3232 @@
+/* Generated by: JavaCC 21 Parser Generator. FELParser.java */
+package fel;
+
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class FELParser implements FELConstants {
+    static public void main(String[] args) throws ParseException {
+        FELParser parser=new FELParser(new java.io.InputStreamReader(System.in));
+        Node n=parser.Input();
+        Nodes.dump(n,"  ");
+    }
+
+    static final java.util.logging.Logger LOGGER=Logger.getLogger("FELParser");
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private boolean tolerantParsing=true;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        this.tolerantParsing=tolerantParsing;
+    }
+
+    /** Generated Lexer. */
+    public FELLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    private boolean buildTree=true;
+    private boolean tokensAreNodes=true;
+    private boolean specialTokensAreNodes=true;
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes=specialTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes=tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope=new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor=currentNodeScope.floor;
+        currentNodeScope.floor=currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark=currentNodeScope.floor;
+        currentNodeScope.floor=Math.min(previousFloor,mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n,int mark) {
+        List<Node>children=currentNodeScope.subList(mark,currentNodeScope.size());
+        List<Node>nodes=new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n,true);
+    }
+
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n,int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node>nodes=new ArrayList<Node>();
+        for (int i=0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (specialTokensAreNodes&&(child instanceof Token)) {
+                Token token=(Token) child;
+                Token specialToken=token;
+                while (specialToken!=null) {
+                    specialToken=specialToken.specialToken;
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken=specialToken.next;
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n,boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a=nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node>nodes=new ArrayList<Node>();
+            while (a-->0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (specialTokensAreNodes&&(child instanceof Token)) {
+                    Token token=(Token) child;
+                    Token specialToken=token;
+                    while (specialToken.specialToken!=null) {
+                        specialToken=specialToken.specialToken;
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken=specialToken.next;
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree=buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    FELParser jjtree=this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope=FELParser.this.currentNodeScope;
+            FELParser.this.currentNodeScope=this;
+        }
+
+        boolean isRootScope() {
+            return parentScope==null;
+        }
+
+        Node rootNode() {
+            NodeScope ns=this;
+            while (ns.parentScope!=null) {
+                ns=ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result=remove(size()-1);
+            if (size()<floor) {
+                floor=size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1,n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            FELParser.this.currentNodeScope=parentScope;
+        }
+
+        int nestingLevel() {
+            int result=0;
+            NodeScope parent=this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent=parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+    static private final int INFINITY=Integer.MAX_VALUE;
+    //=================================
+    // Start of methods for BNF Productions
+    //=================================
+    // FEL.javacc, line 825
+    final public Node Input() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 825 of FEL.javacc");
+        // Code for expansion specified on line 828 of FEL.javacc
+        // Code for Expression specified on line 828 of FEL.javacc
+        Expression();
+        // Code for expansion specified on line 829 of FEL.javacc
+        consumeToken(0,false);
+        // Code for expansion specified on line 830 of FEL.javacc
+        return rootNode();
+    }
+
+    // FEL.javacc, line 835
+    final public void Expression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 835 of FEL.javacc");
+        // Code for expansion specified on line 837 of FEL.javacc
+        boolean Expression1forced=false;
+        Expression Expression1=null;
+        if (buildTree) {
+            Expression1=new Expression();
+            Token start=getToken(1);
+            Expression1.setBeginLine(start.beginLine);
+            Expression1.setBeginColumn(start.beginColumn);
+            Expression1.setInputSource(this.getInputSource());
+            openNodeScope(Expression1);
+        }
+        ParseException parseException1=null;
+        try {
+            // Code for OrExpression specified on line 837 of FEL.javacc
+            OrExpression();
+            if (trace_enabled) LOGGER.info("Exiting normally from Expression");
+        }
+        catch(ParseException e) {
+            parseException1=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException1==null) {
+                    Expression1.setEndLine(current_token.getEndLine());
+                    Expression1.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Expression1,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException1: "+parseException1.getMessage());
+                    Expression1.setParseException(parseException1);
+                    if (Expression1forced) {
+                        attemptRecovery(Expression1,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(Expression1,true);
+                    }
+                    else {
+                        closeNodeScope(Expression1,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException1");
+                        throw parseException1;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 840
+    final public void OrExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 840 of FEL.javacc");
+        // Code for expansion specified on line 842 of FEL.javacc
+        boolean OrExpression2forced=false;
+        OrExpression OrExpression2=null;
+        if (buildTree) {
+            OrExpression2=new OrExpression();
+            Token start=getToken(1);
+            OrExpression2.setBeginLine(start.beginLine);
+            OrExpression2.setBeginColumn(start.beginColumn);
+            OrExpression2.setInputSource(this.getInputSource());
+            openNodeScope(OrExpression2);
+        }
+        ParseException parseException2=null;
+        try {
+            // Code for AndExpression specified on line 842 of FEL.javacc
+            AndExpression();
+            // Code for expansion specified on line 845 of FEL.javacc
+            label_1:
+            while (true) {
+                int int1=nextTokenKind();
+                if (!(int1==OR||int1==OR2)) {
+                    break label_1;
+                }
+                // Code for expansion specified on line 844 of FEL.javacc
+                // Code for expansion specified on line 844 of FEL.javacc
+                switch(nextTokenKind()) {
+                    case OR:
+                    // Code for expansion specified on line 844 of FEL.javacc
+                    // Code for expansion specified on line 844 of FEL.javacc
+                    consumeToken(OR,false);
+                    break;
+                    case OR2:
+                    // Code for expansion specified on line 844 of FEL.javacc
+                    // Code for expansion specified on line 844 of FEL.javacc
+                    consumeToken(OR2,false);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for AndExpression specified on line 844 of FEL.javacc
+                AndExpression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from OrExpression");
+        }
+        catch(ParseException e) {
+            parseException2=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException2==null) {
+                    OrExpression2.setEndLine(current_token.getEndLine());
+                    OrExpression2.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(OrExpression2,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException2: "+parseException2.getMessage());
+                    OrExpression2.setParseException(parseException2);
+                    if (OrExpression2forced) {
+                        attemptRecovery(OrExpression2,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(OrExpression2,true);
+                    }
+                    else {
+                        closeNodeScope(OrExpression2,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException2");
+                        throw parseException2;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 848
+    final public void AndExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 848 of FEL.javacc");
+        // Code for expansion specified on line 850 of FEL.javacc
+        boolean AndExpression3forced=false;
+        AndExpression AndExpression3=null;
+        if (buildTree) {
+            AndExpression3=new AndExpression();
+            Token start=getToken(1);
+            AndExpression3.setBeginLine(start.beginLine);
+            AndExpression3.setBeginColumn(start.beginColumn);
+            AndExpression3.setInputSource(this.getInputSource());
+            openNodeScope(AndExpression3);
+        }
+        ParseException parseException3=null;
+        try {
+            // Code for EqualityExpression specified on line 850 of FEL.javacc
+            EqualityExpression();
+            // Code for expansion specified on line 853 of FEL.javacc
+            label_2:
+            while (true) {
+                int int2=nextTokenKind();
+                if (!(int2==AND||int2==AND2)) {
+                    break label_2;
+                }
+                // Code for expansion specified on line 852 of FEL.javacc
+                // Code for expansion specified on line 852 of FEL.javacc
+                switch(nextTokenKind()) {
+                    case AND:
+                    // Code for expansion specified on line 852 of FEL.javacc
+                    // Code for expansion specified on line 852 of FEL.javacc
+                    consumeToken(AND,false);
+                    break;
+                    case AND2:
+                    // Code for expansion specified on line 852 of FEL.javacc
+                    // Code for expansion specified on line 852 of FEL.javacc
+                    consumeToken(AND2,false);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for EqualityExpression specified on line 852 of FEL.javacc
+                EqualityExpression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+        }
+        catch(ParseException e) {
+            parseException3=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException3==null) {
+                    AndExpression3.setEndLine(current_token.getEndLine());
+                    AndExpression3.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(AndExpression3,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException3: "+parseException3.getMessage());
+                    AndExpression3.setParseException(parseException3);
+                    if (AndExpression3forced) {
+                        attemptRecovery(AndExpression3,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(AndExpression3,true);
+                    }
+                    else {
+                        closeNodeScope(AndExpression3,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException3");
+                        throw parseException3;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 856
+    final public void EqualityExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 856 of FEL.javacc");
+        // Code for expansion specified on line 858 of FEL.javacc
+        boolean EqualityExpression4forced=false;
+        EqualityExpression EqualityExpression4=null;
+        if (buildTree) {
+            EqualityExpression4=new EqualityExpression();
+            Token start=getToken(1);
+            EqualityExpression4.setBeginLine(start.beginLine);
+            EqualityExpression4.setBeginColumn(start.beginColumn);
+            EqualityExpression4.setInputSource(this.getInputSource());
+            openNodeScope(EqualityExpression4);
+        }
+        ParseException parseException4=null;
+        try {
+            // Code for RelationalExpression specified on line 858 of FEL.javacc
+            RelationalExpression();
+            // Code for expansion specified on line 859 of FEL.javacc
+            int int3=nextTokenKind();
+            if (int3==EQUALS||int3==DOUBLE_EQUALS||int3==NOT_EQUALS) {
+                // Code for expansion specified on line 860 of FEL.javacc
+                // Code for expansion specified on line 860 of FEL.javacc
+                switch(nextTokenKind()) {
+                    case EQUALS:
+                    // Code for expansion specified on line 860 of FEL.javacc
+                    // Code for expansion specified on line 860 of FEL.javacc
+                    consumeToken(EQUALS,false);
+                    break;
+                    case DOUBLE_EQUALS:
+                    // Code for expansion specified on line 860 of FEL.javacc
+                    // Code for expansion specified on line 860 of FEL.javacc
+                    consumeToken(DOUBLE_EQUALS,false);
+                    break;
+                    case NOT_EQUALS:
+                    // Code for expansion specified on line 860 of FEL.javacc
+                    // Code for expansion specified on line 860 of FEL.javacc
+                    consumeToken(NOT_EQUALS,false);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for RelationalExpression specified on line 861 of FEL.javacc
+                RelationalExpression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+        }
+        catch(ParseException e) {
+            parseException4=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException4==null) {
+                    EqualityExpression4.setEndLine(current_token.getEndLine());
+                    EqualityExpression4.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(EqualityExpression4,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException4: "+parseException4.getMessage());
+                    EqualityExpression4.setParseException(parseException4);
+                    if (EqualityExpression4forced) {
+                        attemptRecovery(EqualityExpression4,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(EqualityExpression4,true);
+                    }
+                    else {
+                        closeNodeScope(EqualityExpression4,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException4");
+                        throw parseException4;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 865
+    final public void RelationalExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 865 of FEL.javacc");
+        // Code for expansion specified on line 867 of FEL.javacc
+        boolean RelationalExpression5forced=false;
+        RelationalExpression RelationalExpression5=null;
+        if (buildTree) {
+            RelationalExpression5=new RelationalExpression();
+            Token start=getToken(1);
+            RelationalExpression5.setBeginLine(start.beginLine);
+            RelationalExpression5.setBeginColumn(start.beginColumn);
+            RelationalExpression5.setInputSource(this.getInputSource());
+            openNodeScope(RelationalExpression5);
+        }
+        ParseException parseException5=null;
+        try {
+            // Code for RangeExpression specified on line 867 of FEL.javacc
+            RangeExpression();
+            // Code for expansion specified on line 868 of FEL.javacc
+            int int4=nextTokenKind();
+            if (int4>=0&&(jj_first_set_0[int4>>6]&(1L<<int4))!=0L) {
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                switch(nextTokenKind()) {
+                    case GT:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(GT,false);
+                    break;
+                    case GTE:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(GTE,false);
+                    break;
+                    case LT:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(LT,false);
+                    break;
+                    case LTE:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(LTE,false);
+                    break;
+                    case ALT_GT:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(ALT_GT,false);
+                    break;
+                    case ALT_GTE:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(ALT_GTE,false);
+                    break;
+                    case ALT_LTE:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(ALT_LTE,false);
+                    break;
+                    case ALT_LT:
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    // Code for expansion specified on line 869 of FEL.javacc
+                    consumeToken(ALT_LT,false);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for RangeExpression specified on line 870 of FEL.javacc
+                RangeExpression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+        }
+        catch(ParseException e) {
+            parseException5=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException5==null) {
+                    RelationalExpression5.setEndLine(current_token.getEndLine());
+                    RelationalExpression5.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(RelationalExpression5,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException5: "+parseException5.getMessage());
+                    RelationalExpression5.setParseException(parseException5);
+                    if (RelationalExpression5forced) {
+                        attemptRecovery(RelationalExpression5,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(RelationalExpression5,true);
+                    }
+                    else {
+                        closeNodeScope(RelationalExpression5,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException5");
+                        throw parseException5;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 874
+    final public void RangeExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 874 of FEL.javacc");
+        // Code for expansion specified on line 876 of FEL.javacc
+        boolean RangeExpression6forced=false;
+        RangeExpression RangeExpression6=null;
+        if (buildTree) {
+            RangeExpression6=new RangeExpression();
+            Token start=getToken(1);
+            RangeExpression6.setBeginLine(start.beginLine);
+            RangeExpression6.setBeginColumn(start.beginColumn);
+            RangeExpression6.setInputSource(this.getInputSource());
+            openNodeScope(RangeExpression6);
+        }
+        ParseException parseException6=null;
+        try {
+            // Code for AdditiveExpression specified on line 876 of FEL.javacc
+            AdditiveExpression();
+            // Code for expansion specified on line 877 of FEL.javacc
+            int int5=nextTokenKind();
+            if (int5==DOT_DOT) {
+                // Code for expansion specified on line 878 of FEL.javacc
+                // Code for expansion specified on line 878 of FEL.javacc
+                consumeToken(DOT_DOT,false);
+                // Code for expansion specified on line 879 of FEL.javacc
+                if (phase2_6_FEL_javacc_line_880(INFINITY)) {
+                    // Code for expansion specified on line 880 of FEL.javacc
+                    // Code for AdditiveExpression specified on line 881 of FEL.javacc
+                    AdditiveExpression();
+                }
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from RangeExpression");
+        }
+        catch(ParseException e) {
+            parseException6=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException6==null) {
+                    RangeExpression6.setEndLine(current_token.getEndLine());
+                    RangeExpression6.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(RangeExpression6,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException6: "+parseException6.getMessage());
+                    RangeExpression6.setParseException(parseException6);
+                    if (RangeExpression6forced) {
+                        attemptRecovery(RangeExpression6,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(RangeExpression6,true);
+                    }
+                    else {
+                        closeNodeScope(RangeExpression6,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException6");
+                        throw parseException6;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 886
+    final public void AdditiveExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 886 of FEL.javacc");
+        // Code for expansion specified on line 888 of FEL.javacc
+        boolean AdditiveExpression7forced=false;
+        AdditiveExpression AdditiveExpression7=null;
+        if (buildTree) {
+            AdditiveExpression7=new AdditiveExpression();
+            Token start=getToken(1);
+            AdditiveExpression7.setBeginLine(start.beginLine);
+            AdditiveExpression7.setBeginColumn(start.beginColumn);
+            AdditiveExpression7.setInputSource(this.getInputSource());
+            openNodeScope(AdditiveExpression7);
+        }
+        ParseException parseException7=null;
+        try {
+            // Code for MultiplicativeExpression specified on line 888 of FEL.javacc
+            MultiplicativeExpression();
+            // Code for expansion specified on line 893 of FEL.javacc
+            label_8:
+            while (true) {
+                if (!(phase2_8_FEL_javacc_line_890(INFINITY))) {
+                    break label_8;
+                }
+                // Code for expansion specified on line 890 of FEL.javacc
+                // Code for expansion specified on line 891 of FEL.javacc
+                switch(nextTokenKind()) {
+                    case PLUS:
+                    // Code for expansion specified on line 891 of FEL.javacc
+                    // Code for expansion specified on line 891 of FEL.javacc
+                    consumeToken(PLUS,false);
+                    break;
+                    case MINUS:
+                    // Code for expansion specified on line 891 of FEL.javacc
+                    // Code for expansion specified on line 891 of FEL.javacc
+                    consumeToken(MINUS,false);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for MultiplicativeExpression specified on line 892 of FEL.javacc
+                MultiplicativeExpression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+        }
+        catch(ParseException e) {
+            parseException7=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException7==null) {
+                    AdditiveExpression7.setEndLine(current_token.getEndLine());
+                    AdditiveExpression7.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(AdditiveExpression7,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException7: "+parseException7.getMessage());
+                    AdditiveExpression7.setParseException(parseException7);
+                    if (AdditiveExpression7forced) {
+                        attemptRecovery(AdditiveExpression7,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(AdditiveExpression7,true);
+                    }
+                    else {
+                        closeNodeScope(AdditiveExpression7,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException7");
+                        throw parseException7;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 896
+    final public void MultiplicativeExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 896 of FEL.javacc");
+        // Code for expansion specified on line 898 of FEL.javacc
+        boolean MultiplicativeExpression8forced=false;
+        MultiplicativeExpression MultiplicativeExpression8=null;
+        if (buildTree) {
+            MultiplicativeExpression8=new MultiplicativeExpression();
+            Token start=getToken(1);
+            MultiplicativeExpression8.setBeginLine(start.beginLine);
+            MultiplicativeExpression8.setBeginColumn(start.beginColumn);
+            MultiplicativeExpression8.setInputSource(this.getInputSource());
+            openNodeScope(MultiplicativeExpression8);
+        }
+        ParseException parseException8=null;
+        try {
+            // Code for UnaryExpression specified on line 898 of FEL.javacc
+            UnaryExpression();
+            // Code for expansion specified on line 902 of FEL.javacc
+            label_10:
+            while (true) {
+                int int6=nextTokenKind();
+                if (!(int6==TIMES||int6==DIVIDE||int6==PERCENT)) {
+                    break label_10;
+                }
+                // Code for expansion specified on line 900 of FEL.javacc
+                // Code for expansion specified on line 900 of FEL.javacc
+                switch(nextTokenKind()) {
+                    case TIMES:
+                    // Code for expansion specified on line 900 of FEL.javacc
+                    // Code for expansion specified on line 900 of FEL.javacc
+                    consumeToken(TIMES,false);
+                    break;
+                    case DIVIDE:
+                    // Code for expansion specified on line 900 of FEL.javacc
+                    // Code for expansion specified on line 900 of FEL.javacc
+                    consumeToken(DIVIDE,false);
+                    break;
+                    case PERCENT:
+                    // Code for expansion specified on line 900 of FEL.javacc
+                    // Code for expansion specified on line 900 of FEL.javacc
+                    consumeToken(PERCENT,false);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for UnaryExpression specified on line 901 of FEL.javacc
+                UnaryExpression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+        }
+        catch(ParseException e) {
+            parseException8=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException8==null) {
+                    MultiplicativeExpression8.setEndLine(current_token.getEndLine());
+                    MultiplicativeExpression8.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(MultiplicativeExpression8,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException8: "+parseException8.getMessage());
+                    MultiplicativeExpression8.setParseException(parseException8);
+                    if (MultiplicativeExpression8forced) {
+                        attemptRecovery(MultiplicativeExpression8,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(MultiplicativeExpression8,true);
+                    }
+                    else {
+                        closeNodeScope(MultiplicativeExpression8,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException8");
+                        throw parseException8;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 906
+    final public void UnaryExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 906 of FEL.javacc");
+        // Code for expansion specified on line 908 of FEL.javacc
+        switch(nextTokenKind()) {
+            case PLUS:
+            case MINUS:
+            // Code for expansion specified on line 908 of FEL.javacc
+            // Code for UnaryPlusMinusExpression specified on line 908 of FEL.javacc
+            UnaryPlusMinusExpression();
+            break;
+            case EXCLAM:
+            // Code for expansion specified on line 910 of FEL.javacc
+            // Code for NotExpression specified on line 910 of FEL.javacc
+            NotExpression();
+            break;
+            case OPEN_PAREN:
+            case OPEN_BRACKET:
+            case OPEN_BRACE:
+            case DOT:
+            case NULL:
+            case TRUE:
+            case FALSE:
+            case INTEGER:
+            case DECIMAL:
+            case IDENTIFIER:
+            case STRING_LITERAL:
+            case RAW_STRING:
+            // Code for expansion specified on line 912 of FEL.javacc
+            // Code for DefaultToExpression specified on line 912 of FEL.javacc
+            DefaultToExpression();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+    }
+
+    // FEL.javacc, line 915
+    final public void UnaryPlusMinusExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 915 of FEL.javacc");
+        // Code for expansion specified on line 917 of FEL.javacc
+        boolean UnaryPlusMinusExpression9forced=false;
+        UnaryPlusMinusExpression UnaryPlusMinusExpression9=null;
+        if (buildTree) {
+            UnaryPlusMinusExpression9=new UnaryPlusMinusExpression();
+            Token start=getToken(1);
+            UnaryPlusMinusExpression9.setBeginLine(start.beginLine);
+            UnaryPlusMinusExpression9.setBeginColumn(start.beginColumn);
+            UnaryPlusMinusExpression9.setInputSource(this.getInputSource());
+            openNodeScope(UnaryPlusMinusExpression9);
+        }
+        ParseException parseException9=null;
+        try {
+            // Code for expansion specified on line 917 of FEL.javacc
+            switch(nextTokenKind()) {
+                case PLUS:
+                // Code for expansion specified on line 917 of FEL.javacc
+                // Code for expansion specified on line 917 of FEL.javacc
+                consumeToken(PLUS,false);
+                break;
+                case MINUS:
+                // Code for expansion specified on line 917 of FEL.javacc
+                // Code for expansion specified on line 917 of FEL.javacc
+                consumeToken(MINUS,false);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for DefaultToExpression specified on line 917 of FEL.javacc
+            DefaultToExpression();
+            if (trace_enabled) LOGGER.info("Exiting normally from UnaryPlusMinusExpression");
+        }
+        catch(ParseException e) {
+            parseException9=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException9==null) {
+                    UnaryPlusMinusExpression9.setEndLine(current_token.getEndLine());
+                    UnaryPlusMinusExpression9.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(UnaryPlusMinusExpression9,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException9: "+parseException9.getMessage());
+                    UnaryPlusMinusExpression9.setParseException(parseException9);
+                    if (UnaryPlusMinusExpression9forced) {
+                        attemptRecovery(UnaryPlusMinusExpression9,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(UnaryPlusMinusExpression9,true);
+                    }
+                    else {
+                        closeNodeScope(UnaryPlusMinusExpression9,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException9");
+                        throw parseException9;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 920
+    final public void NotExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 920 of FEL.javacc");
+        // Code for expansion specified on line 922 of FEL.javacc
+        boolean NotExpression10forced=false;
+        NotExpression NotExpression10=null;
+        if (buildTree) {
+            NotExpression10=new NotExpression();
+            Token start=getToken(1);
+            NotExpression10.setBeginLine(start.beginLine);
+            NotExpression10.setBeginColumn(start.beginColumn);
+            NotExpression10.setInputSource(this.getInputSource());
+            openNodeScope(NotExpression10);
+        }
+        ParseException parseException10=null;
+        try {
+            // Code for expansion specified on line 922 of FEL.javacc
+            consumeToken(EXCLAM,false);
+            // Code for DefaultToExpression specified on line 923 of FEL.javacc
+            DefaultToExpression();
+            if (trace_enabled) LOGGER.info("Exiting normally from NotExpression");
+        }
+        catch(ParseException e) {
+            parseException10=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException10==null) {
+                    NotExpression10.setEndLine(current_token.getEndLine());
+                    NotExpression10.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(NotExpression10,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException10: "+parseException10.getMessage());
+                    NotExpression10.setParseException(parseException10);
+                    if (NotExpression10forced) {
+                        attemptRecovery(NotExpression10,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(NotExpression10,true);
+                    }
+                    else {
+                        closeNodeScope(NotExpression10,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException10");
+                        throw parseException10;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 926
+    final public void BuiltinVariable() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 926 of FEL.javacc");
+        // Code for expansion specified on line 928 of FEL.javacc
+        boolean BuiltinVariable11forced=false;
+        BuiltinVariable BuiltinVariable11=null;
+        if (buildTree) {
+            BuiltinVariable11=new BuiltinVariable();
+            Token start=getToken(1);
+            BuiltinVariable11.setBeginLine(start.beginLine);
+            BuiltinVariable11.setBeginColumn(start.beginColumn);
+            BuiltinVariable11.setInputSource(this.getInputSource());
+            openNodeScope(BuiltinVariable11);
+        }
+        ParseException parseException11=null;
+        try {
+            // Code for expansion specified on line 928 of FEL.javacc
+            consumeToken(DOT,false);
+            // Code for expansion specified on line 928 of FEL.javacc
+            consumeToken(IDENTIFIER,false);
+            if (trace_enabled) LOGGER.info("Exiting normally from BuiltinVariable");
+        }
+        catch(ParseException e) {
+            parseException11=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException11==null) {
+                    BuiltinVariable11.setEndLine(current_token.getEndLine());
+                    BuiltinVariable11.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(BuiltinVariable11,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException11: "+parseException11.getMessage());
+                    BuiltinVariable11.setParseException(parseException11);
+                    if (BuiltinVariable11forced) {
+                        attemptRecovery(BuiltinVariable11,IDENTIFIER);
+                        closeNodeScope(BuiltinVariable11,true);
+                    }
+                    else {
+                        closeNodeScope(BuiltinVariable11,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException11");
+                        throw parseException11;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 931
+    final public void DefaultToExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 931 of FEL.javacc");
+        // Code for expansion specified on line 933 of FEL.javacc
+        boolean DefaultToExpression12forced=false;
+        DefaultToExpression DefaultToExpression12=null;
+        if (buildTree) {
+            DefaultToExpression12=new DefaultToExpression();
+            Token start=getToken(1);
+            DefaultToExpression12.setBeginLine(start.beginLine);
+            DefaultToExpression12.setBeginColumn(start.beginColumn);
+            DefaultToExpression12.setInputSource(this.getInputSource());
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException12=null;
+        try {
+            // Code for PrimaryExpression specified on line 933 of FEL.javacc
+            PrimaryExpression();
+            // Code for expansion specified on line 937 of FEL.javacc
+            label_11:
+            while (true) {
+                if (!(phase2_11_FEL_javacc_line_935(INFINITY)&&(getToken(2).kind!=IDENTIFIER||getToken(3).kind!=EQUALS))) {
+                    break label_11;
+                }
+                // Code for expansion specified on line 935 of FEL.javacc
+                // Code for expansion specified on line 936 of FEL.javacc
+                consumeToken(EXCLAM,false);
+                // Code for PrimaryExpression specified on line 936 of FEL.javacc
+                PrimaryExpression();
+            }
+            // Code for expansion specified on line 938 of FEL.javacc
+            int int7=nextTokenKind();
+            if (int7==EXCLAM) {
+                // Code for expansion specified on line 939 of FEL.javacc
+                // Code for expansion specified on line 940 of FEL.javacc
+                consumeToken(EXCLAM,false);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from DefaultToExpression");
+        }
+        catch(ParseException e) {
+            parseException12=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException12==null) {
+                    DefaultToExpression12.setEndLine(current_token.getEndLine());
+                    DefaultToExpression12.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(DefaultToExpression12,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException12: "+parseException12.getMessage());
+                    DefaultToExpression12.setParseException(parseException12);
+                    if (DefaultToExpression12forced) {
+                        attemptRecovery(DefaultToExpression12,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(DefaultToExpression12,true);
+                    }
+                    else {
+                        closeNodeScope(DefaultToExpression12,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException12");
+                        throw parseException12;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 944
+    final public void PrimaryExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 944 of FEL.javacc");
+        // Code for expansion specified on line 946 of FEL.javacc
+        boolean PrimaryExpression13forced=false;
+        PrimaryExpression PrimaryExpression13=null;
+        if (buildTree) {
+            PrimaryExpression13=new PrimaryExpression();
+            Token start=getToken(1);
+            PrimaryExpression13.setBeginLine(start.beginLine);
+            PrimaryExpression13.setBeginColumn(start.beginColumn);
+            PrimaryExpression13.setInputSource(this.getInputSource());
+            openNodeScope(PrimaryExpression13);
+        }
+        ParseException parseException13=null;
+        try {
+            // Code for BaseExpression specified on line 946 of FEL.javacc
+            BaseExpression();
+            // Code for expansion specified on line 960 of FEL.javacc
+            label_14:
+            while (true) {
+                if (!(phase2_14_FEL_javacc_line_948(INFINITY))) {
+                    break label_14;
+                }
+                // Code for expansion specified on line 948 of FEL.javacc
+                // Code for expansion specified on line 950 of FEL.javacc
+                switch(nextTokenKind()) {
+                    case DOT:
+                    // Code for expansion specified on line 950 of FEL.javacc
+                    // Code for DotKey specified on line 950 of FEL.javacc
+                    DotKey();
+                    break;
+                    case OPEN_BRACKET:
+                    // Code for expansion specified on line 952 of FEL.javacc
+                    // Code for DynamicKey specified on line 952 of FEL.javacc
+                    DynamicKey();
+                    break;
+                    case OPEN_PAREN:
+                    // Code for expansion specified on line 954 of FEL.javacc
+                    // Code for MethodInvoke specified on line 954 of FEL.javacc
+                    MethodInvoke();
+                    break;
+                    case BUILT_IN:
+                    // Code for expansion specified on line 956 of FEL.javacc
+                    // Code for BuiltIn specified on line 956 of FEL.javacc
+                    BuiltIn();
+                    break;
+                    case EXISTS_OPERATOR:
+                    // Code for expansion specified on line 958 of FEL.javacc
+                    // Code for Exists specified on line 958 of FEL.javacc
+                    Exists();
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from PrimaryExpression");
+        }
+        catch(ParseException e) {
+            parseException13=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException13==null) {
+                    PrimaryExpression13.setEndLine(current_token.getEndLine());
+                    PrimaryExpression13.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(PrimaryExpression13,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException13: "+parseException13.getMessage());
+                    PrimaryExpression13.setParseException(parseException13);
+                    if (PrimaryExpression13forced) {
+                        attemptRecovery(PrimaryExpression13,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXISTS_OPERATOR,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(PrimaryExpression13,true);
+                    }
+                    else {
+                        closeNodeScope(PrimaryExpression13,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException13");
+                        throw parseException13;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 963
+    final public void BaseExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 963 of FEL.javacc");
+        // Code for expansion specified on line 965 of FEL.javacc
+        boolean BaseExpression14forced=false;
+        BaseExpression BaseExpression14=null;
+        if (buildTree) {
+            BaseExpression14=new BaseExpression();
+            Token start=getToken(1);
+            BaseExpression14.setBeginLine(start.beginLine);
+            BaseExpression14.setBeginColumn(start.beginColumn);
+            BaseExpression14.setInputSource(this.getInputSource());
+            openNodeScope(BaseExpression14);
+        }
+        ParseException parseException14=null;
+        try {
+            switch(nextTokenKind()) {
+                case IDENTIFIER:
+                // Code for expansion specified on line 965 of FEL.javacc
+                // Code for expansion specified on line 965 of FEL.javacc
+                consumeToken(IDENTIFIER,false);
+                break;
+                case INTEGER:
+                case DECIMAL:
+                // Code for expansion specified on line 967 of FEL.javacc
+                // Code for NumberLiteral specified on line 967 of FEL.javacc
+                NumberLiteral();
+                break;
+                case OPEN_BRACE:
+                // Code for expansion specified on line 969 of FEL.javacc
+                // Code for HashLiteral specified on line 969 of FEL.javacc
+                HashLiteral();
+                break;
+                case STRING_LITERAL:
+                case RAW_STRING:
+                // Code for expansion specified on line 971 of FEL.javacc
+                // Code for StringLiteral specified on line 971 of FEL.javacc
+                StringLiteral();
+                break;
+                case TRUE:
+                case FALSE:
+                // Code for expansion specified on line 973 of FEL.javacc
+                // Code for BooleanLiteral specified on line 973 of FEL.javacc
+                BooleanLiteral();
+                break;
+                case NULL:
+                // Code for expansion specified on line 975 of FEL.javacc
+                // Code for NullLiteral specified on line 975 of FEL.javacc
+                NullLiteral();
+                break;
+                case OPEN_BRACKET:
+                // Code for expansion specified on line 977 of FEL.javacc
+                // Code for ListLiteral specified on line 977 of FEL.javacc
+                ListLiteral();
+                break;
+                case OPEN_PAREN:
+                // Code for expansion specified on line 979 of FEL.javacc
+                // Code for Parenthesis specified on line 979 of FEL.javacc
+                Parenthesis();
+                break;
+                case DOT:
+                // Code for expansion specified on line 981 of FEL.javacc
+                // Code for BuiltinVariable specified on line 981 of FEL.javacc
+                BuiltinVariable();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from BaseExpression");
+        }
+        catch(ParseException e) {
+            parseException14=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException14==null) {
+                    BaseExpression14.setEndLine(current_token.getEndLine());
+                    BaseExpression14.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(BaseExpression14,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException14: "+parseException14.getMessage());
+                    BaseExpression14.setParseException(parseException14);
+                    if (BaseExpression14forced) {
+                        attemptRecovery(BaseExpression14,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(BaseExpression14,true);
+                    }
+                    else {
+                        closeNodeScope(BaseExpression14,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException14");
+                        throw parseException14;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 985
+    final public void DotKey() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 985 of FEL.javacc");
+        // Code for expansion specified on line 987 of FEL.javacc
+        // Code for expansion specified on line 987 of FEL.javacc
+        consumeToken(DOT,false);
+        // Code for expansion specified on line 988 of FEL.javacc
+        switch(nextTokenKind()) {
+            case IDENTIFIER:
+            // Code for expansion specified on line 988 of FEL.javacc
+            // Code for expansion specified on line 988 of FEL.javacc
+            consumeToken(IDENTIFIER,false);
+            break;
+            case TIMES:
+            // Code for expansion specified on line 988 of FEL.javacc
+            // Code for expansion specified on line 988 of FEL.javacc
+            consumeToken(TIMES,false);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from DotKey");
+    }
+
+    // FEL.javacc, line 991
+    final public void DynamicKey() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 991 of FEL.javacc");
+        // Code for expansion specified on line 993 of FEL.javacc
+        // Code for expansion specified on line 993 of FEL.javacc
+        consumeToken(OPEN_BRACKET,false);
+        // Code for Expression specified on line 993 of FEL.javacc
+        Expression();
+        // Code for expansion specified on line 993 of FEL.javacc
+        consumeToken(CLOSE_BRACKET,false);
+        if (trace_enabled) LOGGER.info("Exiting normally from DynamicKey");
+    }
+
+    // FEL.javacc, line 997
+    final public void MethodInvoke() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 997 of FEL.javacc");
+        // Code for expansion specified on line 999 of FEL.javacc
+        // Code for expansion specified on line 999 of FEL.javacc
+        consumeToken(OPEN_PAREN,false);
+        // Code for expansion specified on line 999 of FEL.javacc
+        int int8=nextTokenKind();
+        if (int8>=0&&(jj_first_set_1[int8>>6]&(1L<<int8))!=0L) {
+            // Code for expansion specified on line 999 of FEL.javacc
+            // Code for ArgsList specified on line 999 of FEL.javacc
+            ArgsList();
+        }
+        // Code for expansion specified on line 999 of FEL.javacc
+        consumeToken(CLOSE_PAREN,false);
+        if (trace_enabled) LOGGER.info("Exiting normally from MethodInvoke");
+    }
+
+    // FEL.javacc, line 1002
+    final public void BuiltIn() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1002 of FEL.javacc");
+        // Code for expansion specified on line 1004 of FEL.javacc
+        // Code for expansion specified on line 1004 of FEL.javacc
+        consumeToken(BUILT_IN,false);
+        // Code for expansion specified on line 1004 of FEL.javacc
+        consumeToken(IDENTIFIER,false);
+        if (trace_enabled) LOGGER.info("Exiting normally from BuiltIn");
+    }
+
+    // FEL.javacc, line 1007
+    final public void Exists() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1007 of FEL.javacc");
+        // Code for expansion specified on line 1009 of FEL.javacc
+        boolean Exists15forced=false;
+        Exists Exists15=null;
+        if (buildTree) {
+            Exists15=new Exists();
+            Token start=getToken(1);
+            Exists15.setBeginLine(start.beginLine);
+            Exists15.setBeginColumn(start.beginColumn);
+            Exists15.setInputSource(this.getInputSource());
+            openNodeScope(Exists15);
+        }
+        ParseException parseException15=null;
+        try {
+            // Code for expansion specified on line 1009 of FEL.javacc
+            consumeToken(EXISTS_OPERATOR,false);
+            if (trace_enabled) LOGGER.info("Exiting normally from Exists");
+        }
+        catch(ParseException e) {
+            parseException15=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException15==null) {
+                    Exists15.setEndLine(current_token.getEndLine());
+                    Exists15.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Exists15,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException15: "+parseException15.getMessage());
+                    Exists15.setParseException(parseException15);
+                    if (Exists15forced) {
+                        attemptRecovery(Exists15,EXISTS_OPERATOR);
+                        closeNodeScope(Exists15,true);
+                    }
+                    else {
+                        closeNodeScope(Exists15,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException15");
+                        throw parseException15;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1012
+    final public void ListLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1012 of FEL.javacc");
+        // Code for expansion specified on line 1014 of FEL.javacc
+        boolean ListLiteral16forced=false;
+        ListLiteral ListLiteral16=null;
+        if (buildTree) {
+            ListLiteral16=new ListLiteral();
+            Token start=getToken(1);
+            ListLiteral16.setBeginLine(start.beginLine);
+            ListLiteral16.setBeginColumn(start.beginColumn);
+            ListLiteral16.setInputSource(this.getInputSource());
+            openNodeScope(ListLiteral16);
+        }
+        ParseException parseException16=null;
+        try {
+            // Code for expansion specified on line 1014 of FEL.javacc
+            consumeToken(OPEN_BRACKET,false);
+            // Code for expansion specified on line 1015 of FEL.javacc
+            int int11=nextTokenKind();
+            if (int11>=0&&(jj_first_set_1[int11>>6]&(1L<<int11))!=0L) {
+                // Code for expansion specified on line 1015 of FEL.javacc
+                // Code for Expression specified on line 1015 of FEL.javacc
+                Expression();
+                // Code for expansion specified on line 1015 of FEL.javacc
+                label_18:
+                while (true) {
+                    int int9=nextTokenKind();
+                    if (!(int9>=0&&(jj_first_set_2[int9>>6]&(1L<<int9))!=0L)) {
+                        break label_18;
+                    }
+                    // Code for expansion specified on line 1015 of FEL.javacc
+                    // Code for expansion specified on line 1015 of FEL.javacc
+                    int int10=nextTokenKind();
+                    if (int10==COMMA) {
+                        // Code for expansion specified on line 1015 of FEL.javacc
+                        // Code for expansion specified on line 1015 of FEL.javacc
+                        consumeToken(COMMA,false);
+                    }
+                    // Code for Expression specified on line 1015 of FEL.javacc
+                    Expression();
+                }
+            }
+            // Code for expansion specified on line 1016 of FEL.javacc
+            consumeToken(CLOSE_BRACKET,true);
+            if (trace_enabled) LOGGER.info("Exiting normally from ListLiteral");
+        }
+        catch(ParseException e) {
+            parseException16=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException16==null) {
+                    ListLiteral16.setEndLine(current_token.getEndLine());
+                    ListLiteral16.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(ListLiteral16,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException16: "+parseException16.getMessage());
+                    ListLiteral16.setParseException(parseException16);
+                    if (ListLiteral16forced) {
+                        attemptRecovery(ListLiteral16,CLOSE_BRACKET);
+                        closeNodeScope(ListLiteral16,true);
+                    }
+                    else {
+                        closeNodeScope(ListLiteral16,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException16");
+                        throw parseException16;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1019
+    final public void StringLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1019 of FEL.javacc");
+        // Code for expansion specified on line 1021 of FEL.javacc
+        boolean StringLiteral17forced=false;
+        StringLiteral StringLiteral17=null;
+        if (buildTree) {
+            StringLiteral17=new StringLiteral();
+            Token start=getToken(1);
+            StringLiteral17.setBeginLine(start.beginLine);
+            StringLiteral17.setBeginColumn(start.beginColumn);
+            StringLiteral17.setInputSource(this.getInputSource());
+            openNodeScope(StringLiteral17);
+        }
+        ParseException parseException17=null;
+        try {
+            switch(nextTokenKind()) {
+                case STRING_LITERAL:
+                // Code for expansion specified on line 1021 of FEL.javacc
+                // Code for expansion specified on line 1021 of FEL.javacc
+                consumeToken(STRING_LITERAL,false);
+                break;
+                case RAW_STRING:
+                // Code for expansion specified on line 1021 of FEL.javacc
+                // Code for expansion specified on line 1021 of FEL.javacc
+                consumeToken(RAW_STRING,false);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from StringLiteral");
+        }
+        catch(ParseException e) {
+            parseException17=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException17==null) {
+                    StringLiteral17.setEndLine(current_token.getEndLine());
+                    StringLiteral17.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(StringLiteral17,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException17: "+parseException17.getMessage());
+                    StringLiteral17.setParseException(parseException17);
+                    if (StringLiteral17forced) {
+                        attemptRecovery(StringLiteral17,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(StringLiteral17,true);
+                    }
+                    else {
+                        closeNodeScope(StringLiteral17,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException17");
+                        throw parseException17;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1025
+    final public void HashLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1025 of FEL.javacc");
+        // Code for expansion specified on line 1027 of FEL.javacc
+        boolean HashLiteral18forced=false;
+        HashLiteral HashLiteral18=null;
+        if (buildTree) {
+            HashLiteral18=new HashLiteral();
+            Token start=getToken(1);
+            HashLiteral18.setBeginLine(start.beginLine);
+            HashLiteral18.setBeginColumn(start.beginColumn);
+            HashLiteral18.setInputSource(this.getInputSource());
+            openNodeScope(HashLiteral18);
+        }
+        ParseException parseException18=null;
+        try {
+            // Code for expansion specified on line 1027 of FEL.javacc
+            consumeToken(OPEN_BRACE,false);
+            // Code for expansion specified on line 1028 of FEL.javacc
+            int int13=nextTokenKind();
+            if (int13>=0&&(jj_first_set_1[int13>>6]&(1L<<int13))!=0L) {
+                // Code for expansion specified on line 1029 of FEL.javacc
+                // Code for Expression specified on line 1029 of FEL.javacc
+                Expression();
+                // Code for expansion specified on line 1029 of FEL.javacc
+                consumeToken(COLON,false);
+                // Code for Expression specified on line 1029 of FEL.javacc
+                Expression();
+                // Code for expansion specified on line 1030 of FEL.javacc
+                label_21:
+                while (true) {
+                    int int12=nextTokenKind();
+                    if (!(int12==COMMA)) {
+                        break label_21;
+                    }
+                    // Code for expansion specified on line 1030 of FEL.javacc
+                    // Code for expansion specified on line 1030 of FEL.javacc
+                    consumeToken(COMMA,false);
+                    // Code for Expression specified on line 1030 of FEL.javacc
+                    Expression();
+                    // Code for expansion specified on line 1030 of FEL.javacc
+                    consumeToken(COLON,true);
+                    // Code for Expression specified on line 1030 of FEL.javacc
+                    Expression();
+                }
+            }
+            // Code for expansion specified on line 1032 of FEL.javacc
+            consumeToken(CLOSE_BRACE,true);
+            if (trace_enabled) LOGGER.info("Exiting normally from HashLiteral");
+        }
+        catch(ParseException e) {
+            parseException18=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException18==null) {
+                    HashLiteral18.setEndLine(current_token.getEndLine());
+                    HashLiteral18.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(HashLiteral18,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException18: "+parseException18.getMessage());
+                    HashLiteral18.setParseException(parseException18);
+                    if (HashLiteral18forced) {
+                        attemptRecovery(HashLiteral18,CLOSE_BRACE);
+                        closeNodeScope(HashLiteral18,true);
+                    }
+                    else {
+                        closeNodeScope(HashLiteral18,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException18");
+                        throw parseException18;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1035
+    final public void NumberLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1035 of FEL.javacc");
+        // Code for expansion specified on line 1037 of FEL.javacc
+        boolean NumberLiteral19forced=false;
+        NumberLiteral NumberLiteral19=null;
+        if (buildTree) {
+            NumberLiteral19=new NumberLiteral();
+            Token start=getToken(1);
+            NumberLiteral19.setBeginLine(start.beginLine);
+            NumberLiteral19.setBeginColumn(start.beginColumn);
+            NumberLiteral19.setInputSource(this.getInputSource());
+            openNodeScope(NumberLiteral19);
+        }
+        ParseException parseException19=null;
+        try {
+            switch(nextTokenKind()) {
+                case INTEGER:
+                // Code for expansion specified on line 1037 of FEL.javacc
+                // Code for expansion specified on line 1037 of FEL.javacc
+                consumeToken(INTEGER,false);
+                break;
+                case DECIMAL:
+                // Code for expansion specified on line 1037 of FEL.javacc
+                // Code for expansion specified on line 1037 of FEL.javacc
+                consumeToken(DECIMAL,false);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from NumberLiteral");
+        }
+        catch(ParseException e) {
+            parseException19=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException19==null) {
+                    NumberLiteral19.setEndLine(current_token.getEndLine());
+                    NumberLiteral19.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(NumberLiteral19,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException19: "+parseException19.getMessage());
+                    NumberLiteral19.setParseException(parseException19);
+                    if (NumberLiteral19forced) {
+                        attemptRecovery(NumberLiteral19,INTEGER,DECIMAL);
+                        closeNodeScope(NumberLiteral19,true);
+                    }
+                    else {
+                        closeNodeScope(NumberLiteral19,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException19");
+                        throw parseException19;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1040
+    final public void BooleanLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1040 of FEL.javacc");
+        // Code for expansion specified on line 1042 of FEL.javacc
+        boolean BooleanLiteral20forced=false;
+        BooleanLiteral BooleanLiteral20=null;
+        if (buildTree) {
+            BooleanLiteral20=new BooleanLiteral();
+            Token start=getToken(1);
+            BooleanLiteral20.setBeginLine(start.beginLine);
+            BooleanLiteral20.setBeginColumn(start.beginColumn);
+            BooleanLiteral20.setInputSource(this.getInputSource());
+            openNodeScope(BooleanLiteral20);
+        }
+        ParseException parseException20=null;
+        try {
+            switch(nextTokenKind()) {
+                case TRUE:
+                // Code for expansion specified on line 1042 of FEL.javacc
+                // Code for expansion specified on line 1042 of FEL.javacc
+                consumeToken(TRUE,false);
+                break;
+                case FALSE:
+                // Code for expansion specified on line 1042 of FEL.javacc
+                // Code for expansion specified on line 1042 of FEL.javacc
+                consumeToken(FALSE,false);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from BooleanLiteral");
+        }
+        catch(ParseException e) {
+            parseException20=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException20==null) {
+                    BooleanLiteral20.setEndLine(current_token.getEndLine());
+                    BooleanLiteral20.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(BooleanLiteral20,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException20: "+parseException20.getMessage());
+                    BooleanLiteral20.setParseException(parseException20);
+                    if (BooleanLiteral20forced) {
+                        attemptRecovery(BooleanLiteral20,TRUE,FALSE);
+                        closeNodeScope(BooleanLiteral20,true);
+                    }
+                    else {
+                        closeNodeScope(BooleanLiteral20,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException20");
+                        throw parseException20;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1045
+    final public void NullLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1045 of FEL.javacc");
+        // Code for expansion specified on line 1047 of FEL.javacc
+        boolean NullLiteral21forced=false;
+        NullLiteral NullLiteral21=null;
+        if (buildTree) {
+            NullLiteral21=new NullLiteral();
+            Token start=getToken(1);
+            NullLiteral21.setBeginLine(start.beginLine);
+            NullLiteral21.setBeginColumn(start.beginColumn);
+            NullLiteral21.setInputSource(this.getInputSource());
+            openNodeScope(NullLiteral21);
+        }
+        ParseException parseException21=null;
+        try {
+            // Code for expansion specified on line 1047 of FEL.javacc
+            consumeToken(NULL,false);
+            if (trace_enabled) LOGGER.info("Exiting normally from NullLiteral");
+        }
+        catch(ParseException e) {
+            parseException21=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException21==null) {
+                    NullLiteral21.setEndLine(current_token.getEndLine());
+                    NullLiteral21.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(NullLiteral21,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException21: "+parseException21.getMessage());
+                    NullLiteral21.setParseException(parseException21);
+                    if (NullLiteral21forced) {
+                        attemptRecovery(NullLiteral21,NULL);
+                        closeNodeScope(NullLiteral21,true);
+                    }
+                    else {
+                        closeNodeScope(NullLiteral21,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException21");
+                        throw parseException21;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1050
+    final public void Parenthesis() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1050 of FEL.javacc");
+        // Code for expansion specified on line 1052 of FEL.javacc
+        boolean Parenthesis22forced=false;
+        Parenthesis Parenthesis22=null;
+        if (buildTree) {
+            Parenthesis22=new Parenthesis();
+            Token start=getToken(1);
+            Parenthesis22.setBeginLine(start.beginLine);
+            Parenthesis22.setBeginColumn(start.beginColumn);
+            Parenthesis22.setInputSource(this.getInputSource());
+            openNodeScope(Parenthesis22);
+        }
+        ParseException parseException22=null;
+        try {
+            // Code for expansion specified on line 1052 of FEL.javacc
+            consumeToken(OPEN_PAREN,false);
+            // Code for Expression specified on line 1052 of FEL.javacc
+            Expression();
+            // Code for expansion specified on line 1052 of FEL.javacc
+            consumeToken(CLOSE_PAREN,true);
+            if (trace_enabled) LOGGER.info("Exiting normally from Parenthesis");
+        }
+        catch(ParseException e) {
+            parseException22=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException22==null) {
+                    Parenthesis22.setEndLine(current_token.getEndLine());
+                    Parenthesis22.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Parenthesis22,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException22: "+parseException22.getMessage());
+                    Parenthesis22.setParseException(parseException22);
+                    if (Parenthesis22forced) {
+                        attemptRecovery(Parenthesis22,CLOSE_PAREN);
+                        closeNodeScope(Parenthesis22,true);
+                    }
+                    else {
+                        closeNodeScope(Parenthesis22,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException22");
+                        throw parseException22;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1055
+    final public void ArgsList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1055 of FEL.javacc");
+        // Code for expansion specified on line 1057 of FEL.javacc
+        // Code for expansion specified on line 1058 of FEL.javacc
+        if (phase2_21_FEL_javacc_line_1058(INFINITY)) {
+            // Code for expansion specified on line 1058 of FEL.javacc
+            // Code for NamedArgsList specified on line 1059 of FEL.javacc
+            NamedArgsList();
+        }
+        else {
+            switch(nextTokenKind()) {
+                case OPEN_PAREN:
+                case OPEN_BRACKET:
+                case OPEN_BRACE:
+                case DOT:
+                case PLUS:
+                case MINUS:
+                case EXCLAM:
+                case NULL:
+                case TRUE:
+                case FALSE:
+                case INTEGER:
+                case DECIMAL:
+                case IDENTIFIER:
+                case STRING_LITERAL:
+                case RAW_STRING:
+                // Code for expansion specified on line 1061 of FEL.javacc
+                // Code for PositionalArgsList specified on line 1061 of FEL.javacc
+                PositionalArgsList();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from ArgsList");
+    }
+
+    // FEL.javacc, line 1065
+    final public void NamedArgsList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1065 of FEL.javacc");
+        // Code for expansion specified on line 1067 of FEL.javacc
+        boolean NamedArgsList23forced=false;
+        NamedArgsList NamedArgsList23=null;
+        if (buildTree) {
+            NamedArgsList23=new NamedArgsList();
+            Token start=getToken(1);
+            NamedArgsList23.setBeginLine(start.beginLine);
+            NamedArgsList23.setBeginColumn(start.beginColumn);
+            NamedArgsList23.setInputSource(this.getInputSource());
+            openNodeScope(NamedArgsList23);
+        }
+        ParseException parseException23=null;
+        try {
+            // Code for expansion specified on line 1067 of FEL.javacc
+            consumeToken(IDENTIFIER,false);
+            // Code for expansion specified on line 1068 of FEL.javacc
+            consumeToken(EQUALS,false);
+            // Code for Expression specified on line 1069 of FEL.javacc
+            Expression();
+            // Code for expansion specified on line 1075 of FEL.javacc
+            label_23:
+            while (true) {
+                int int14=nextTokenKind();
+                if (!(int14==COMMA||int14==IDENTIFIER)) {
+                    break label_23;
+                }
+                // Code for expansion specified on line 1071 of FEL.javacc
+                // Code for expansion specified on line 1071 of FEL.javacc
+                int int15=nextTokenKind();
+                if (int15==COMMA) {
+                    // Code for expansion specified on line 1071 of FEL.javacc
+                    // Code for expansion specified on line 1071 of FEL.javacc
+                    consumeToken(COMMA,false);
+                }
+                // Code for expansion specified on line 1072 of FEL.javacc
+                consumeToken(IDENTIFIER,false);
+                // Code for expansion specified on line 1073 of FEL.javacc
+                consumeToken(EQUALS,false);
+                // Code for Expression specified on line 1074 of FEL.javacc
+                Expression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from NamedArgsList");
+        }
+        catch(ParseException e) {
+            parseException23=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException23==null) {
+                    NamedArgsList23.setEndLine(current_token.getEndLine());
+                    NamedArgsList23.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(NamedArgsList23,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException23: "+parseException23.getMessage());
+                    NamedArgsList23.setParseException(parseException23);
+                    if (NamedArgsList23forced) {
+                        attemptRecovery(NamedArgsList23,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(NamedArgsList23,true);
+                    }
+                    else {
+                        closeNodeScope(NamedArgsList23,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException23");
+                        throw parseException23;
+                    }
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 1078
+    final public void PositionalArgsList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1078 of FEL.javacc");
+        // Code for expansion specified on line 1080 of FEL.javacc
+        boolean PositionalArgsList24forced=false;
+        PositionalArgsList PositionalArgsList24=null;
+        if (buildTree) {
+            PositionalArgsList24=new PositionalArgsList();
+            Token start=getToken(1);
+            PositionalArgsList24.setBeginLine(start.beginLine);
+            PositionalArgsList24.setBeginColumn(start.beginColumn);
+            PositionalArgsList24.setInputSource(this.getInputSource());
+            openNodeScope(PositionalArgsList24);
+        }
+        ParseException parseException24=null;
+        try {
+            // Code for Expression specified on line 1080 of FEL.javacc
+            Expression();
+            // Code for expansion specified on line 1084 of FEL.javacc
+            label_25:
+            while (true) {
+                int int16=nextTokenKind();
+                if (!(int16>=0&&(jj_first_set_2[int16>>6]&(1L<<int16))!=0L)) {
+                    break label_25;
+                }
+                // Code for expansion specified on line 1082 of FEL.javacc
+                // Code for expansion specified on line 1082 of FEL.javacc
+                int int17=nextTokenKind();
+                if (int17==COMMA) {
+                    // Code for expansion specified on line 1082 of FEL.javacc
+                    // Code for expansion specified on line 1082 of FEL.javacc
+                    consumeToken(COMMA,false);
+                }
+                // Code for Expression specified on line 1083 of FEL.javacc
+                Expression();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from PositionalArgsList");
+        }
+        catch(ParseException e) {
+            parseException24=e;
+            if (trace_enabled) LOGGER.info("We have a parse error but somehow handled it. (Or did we?)");
+        }
+        finally {
+            if (buildTree) {
+                if (parseException24==null) {
+                    PositionalArgsList24.setEndLine(current_token.getEndLine());
+                    PositionalArgsList24.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(PositionalArgsList24,nodeArity()>1);
+                }
+                else {
+                    if (trace_enabled) LOGGER.warning("ParseException parseException24: "+parseException24.getMessage());
+                    PositionalArgsList24.setParseException(parseException24);
+                    if (PositionalArgsList24forced) {
+                        attemptRecovery(PositionalArgsList24,CLOSE_PAREN,CLOSE_BRACKET,CLOSE_BRACE,TIMES,EXCLAM,EXISTS_OPERATOR,DOT_DOT,NULL,TRUE,FALSE,INTEGER,DECIMAL,IDENTIFIER,STRING_LITERAL,RAW_STRING);
+                        closeNodeScope(PositionalArgsList24,true);
+                    }
+                    else {
+                        closeNodeScope(PositionalArgsList24,false);
+                        if (trace_enabled) LOGGER.info("Rethrowing "+"parseException24");
+                        throw parseException24;
+                    }
+                }
+            }
+        }
+    }
+
+    static private final long[] jj_first_set_0={0xcc601800000L};
+    static private final long[] jj_first_set_1={0xcee00010039500L};
+    static private final long[] jj_first_set_2={0xcee00012039500L};
+    //====================================
+    // Start of methods for Phase 2 Lookaheads
+    //====================================
+    private boolean phase2_6_FEL_javacc_line_880(int maxLookahead) {
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return!phase3_6_FEL_javacc_line_880();
+        }
+        catch(LookaheadSuccess ls) {
+            return true;
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_8_FEL_javacc_line_890(int maxLookahead) {
+        if (jj_la_cached(0)) return jj_la_cacheResults[0];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(0,!phase3_8_FEL_javacc_line_890());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(0,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_11_FEL_javacc_line_935(int maxLookahead) {
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return!phase3_11_FEL_javacc_line_935();
+        }
+        catch(LookaheadSuccess ls) {
+            return true;
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_14_FEL_javacc_line_948(int maxLookahead) {
+        if (jj_la_cached(1)) return jj_la_cacheResults[1];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(1,!phase3_14_FEL_javacc_line_948());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(1,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_21_FEL_javacc_line_1058(int maxLookahead) {
+        if (jj_la_cached(2)) return jj_la_cacheResults[2];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(2,!phase3_21_FEL_javacc_line_1058());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(2,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    //====================================
+    // Start of methods for Phase 3 Lookaheads
+    //====================================
+    private boolean phase3_6_FEL_javacc_line_880() {
+        if (phase3R_223()) return true;
+        return false;
+    }
+
+    private boolean phase3_8_FEL_javacc_line_890() {
+        Token token18=jj_scanpos;
+        if (phase3R_28()) {
+            jj_scanpos=token18;
+            if (phase3R_29()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3_11_FEL_javacc_line_935() {
+        if (jj_scan_token(EXCLAM)) return true;
+        if (phase3R_98()) return true;
+        return false;
+    }
+
+    private boolean phase3_14_FEL_javacc_line_948() {
+        Token token19=jj_scanpos;
+        if (phase3R_31()) {
+            jj_scanpos=token19;
+            if (phase3R_32()) {
+                jj_scanpos=token19;
+                if (phase3R_33()) {
+                    jj_scanpos=token19;
+                    if (phase3R_34()) {
+                        jj_scanpos=token19;
+                        if (phase3R_35()) return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3_21_FEL_javacc_line_1058() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        if (jj_scan_token(EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_223() {
+        if (phase3R_51()) return true;
+        while (true) {
+            Token token20=jj_scanpos;
+            if (phase3R_37()) {
+                jj_scanpos=token20;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_28() {
+        if (jj_scan_token(PLUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_29() {
+        if (jj_scan_token(MINUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_98() {
+        Token token21=jj_scanpos;
+        if (phase3R_106()) {
+            jj_scanpos=token21;
+            if (phase3R_107()) {
+                jj_scanpos=token21;
+                if (phase3R_108()) {
+                    jj_scanpos=token21;
+                    if (phase3R_109()) {
+                        jj_scanpos=token21;
+                        if (phase3R_110()) {
+                            jj_scanpos=token21;
+                            if (phase3R_111()) {
+                                jj_scanpos=token21;
+                                if (phase3R_112()) {
+                                    jj_scanpos=token21;
+                                    if (phase3R_113()) {
+                                        jj_scanpos=token21;
+                                        if (phase3R_114()) return true;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_31() {
+        if (jj_scan_token(DOT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_32() {
+        if (jj_scan_token(OPEN_BRACKET)) return true;
+        return false;
+    }
+
+    private boolean phase3R_33() {
+        if (jj_scan_token(OPEN_PAREN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_34() {
+        if (jj_scan_token(BUILT_IN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_35() {
+        if (jj_scan_token(EXISTS_OPERATOR)) return true;
+        return false;
+    }
+
+    private boolean phase3R_51() {
+        if (phase3R_66()) return true;
+        while (true) {
+            Token token22=jj_scanpos;
+            if (phase3R_48()) {
+                jj_scanpos=token22;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_37() {
+        Token token23=jj_scanpos;
+        if (phase3R_49()) {
+            jj_scanpos=token23;
+            if (phase3R_50()) return true;
+        }
+        if (phase3R_51()) return true;
+        return false;
+    }
+
+    private boolean phase3R_106() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_107() {
+        if (phase3R_125()) return true;
+        return false;
+    }
+
+    private boolean phase3R_108() {
+        if (phase3R_126()) return true;
+        return false;
+    }
+
+    private boolean phase3R_109() {
+        if (phase3R_127()) return true;
+        return false;
+    }
+
+    private boolean phase3R_110() {
+        if (phase3R_128()) return true;
+        return false;
+    }
+
+    private boolean phase3R_111() {
+        if (phase3R_129()) return true;
+        return false;
+    }
+
+    private boolean phase3R_112() {
+        if (phase3R_130()) return true;
+        return false;
+    }
+
+    private boolean phase3R_113() {
+        if (phase3R_131()) return true;
+        return false;
+    }
+
+    private boolean phase3R_114() {
+        if (phase3R_132()) return true;
+        return false;
+    }
+
+    private boolean phase3R_66() {
+        Token token24=jj_scanpos;
+        if (phase3R_60()) {
+            jj_scanpos=token24;
+            if (phase3R_61()) {
+                jj_scanpos=token24;
+                if (phase3R_62()) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_48() {
+        Token token25=jj_scanpos;
+        if (phase3R_63()) {
+            jj_scanpos=token25;
+            if (phase3R_64()) {
+                jj_scanpos=token25;
+                if (phase3R_65()) return true;
+            }
+        }
+        if (phase3R_66()) return true;
+        return false;
+    }
+
+    private boolean phase3R_49() {
+        if (jj_scan_token(PLUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_50() {
+        if (jj_scan_token(MINUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_125() {
+        Token token26=jj_scanpos;
+        if (phase3R_144()) {
+            jj_scanpos=token26;
+            if (phase3R_145()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_126() {
+        if (jj_scan_token(OPEN_BRACE)) return true;
+        Token token27=jj_scanpos;
+        if (phase3R_146()) jj_scanpos=token27;
+        if (jj_scan_token(CLOSE_BRACE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_127() {
+        Token token28=jj_scanpos;
+        if (phase3R_147()) {
+            jj_scanpos=token28;
+            if (phase3R_148()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_128() {
+        Token token29=jj_scanpos;
+        if (phase3R_149()) {
+            jj_scanpos=token29;
+            if (phase3R_150()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_129() {
+        if (jj_scan_token(NULL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_130() {
+        if (jj_scan_token(OPEN_BRACKET)) return true;
+        Token token30=jj_scanpos;
+        if (phase3R_151()) jj_scanpos=token30;
+        if (jj_scan_token(CLOSE_BRACKET)) return true;
+        return false;
+    }
+
+    private boolean phase3R_131() {
+        if (jj_scan_token(OPEN_PAREN)) return true;
+        if (phase3R_210()) return true;
+        if (jj_scan_token(CLOSE_PAREN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_132() {
+        if (jj_scan_token(DOT)) return true;
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_60() {
+        if (phase3R_76()) return true;
+        return false;
+    }
+
+    private boolean phase3R_61() {
+        if (phase3R_77()) return true;
+        return false;
+    }
+
+    private boolean phase3R_62() {
+        if (phase3R_88()) return true;
+        return false;
+    }
+
+    private boolean phase3R_63() {
+        if (jj_scan_token(TIMES)) return true;
+        return false;
+    }
+
+    private boolean phase3R_64() {
+        if (jj_scan_token(DIVIDE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_65() {
+        if (jj_scan_token(PERCENT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_144() {
+        if (jj_scan_token(INTEGER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_145() {
+        if (jj_scan_token(DECIMAL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_146() {
+        if (phase3R_210()) return true;
+        if (jj_scan_token(COLON)) return true;
+        if (phase3R_210()) return true;
+        while (true) {
+            Token token31=jj_scanpos;
+            if (phase3R_170()) {
+                jj_scanpos=token31;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_147() {
+        if (jj_scan_token(STRING_LITERAL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_148() {
+        if (jj_scan_token(RAW_STRING)) return true;
+        return false;
+    }
+
+    private boolean phase3R_149() {
+        if (jj_scan_token(TRUE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_150() {
+        if (jj_scan_token(FALSE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_151() {
+        if (phase3R_210()) return true;
+        while (true) {
+            Token token32=jj_scanpos;
+            if (phase3R_172()) {
+                jj_scanpos=token32;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_210() {
+        if (phase3R_173()) return true;
+        return false;
+    }
+
+    private boolean phase3R_76() {
+        Token token33=jj_scanpos;
+        if (phase3R_85()) {
+            jj_scanpos=token33;
+            if (phase3R_86()) return true;
+        }
+        if (phase3R_88()) return true;
+        return false;
+    }
+
+    private boolean phase3R_77() {
+        if (jj_scan_token(EXCLAM)) return true;
+        if (phase3R_88()) return true;
+        return false;
+    }
+
+    private boolean phase3R_88() {
+        if (phase3R_100()) return true;
+        while (true) {
+            Token token34=jj_scanpos;
+            if (phase3R_90()) {
+                jj_scanpos=token34;
+                break;
+            }
+        }
+        Token token35=jj_scanpos;
+        if (phase3R_91()) jj_scanpos=token35;
+        return false;
+    }
+
+    private boolean phase3R_170() {
+        if (jj_scan_token(COMMA)) return true;
+        if (phase3R_210()) return true;
+        if (jj_scan_token(COLON)) return true;
+        if (phase3R_210()) return true;
+        return false;
+    }
+
+    private boolean phase3R_172() {
+        Token token36=jj_scanpos;
+        if (phase3R_178()) jj_scanpos=token36;
+        if (phase3R_210()) return true;
+        return false;
+    }
+
+    private boolean phase3R_173() {
+        if (phase3R_189()) return true;
+        while (true) {
+            Token token37=jj_scanpos;
+            if (phase3R_181()) {
+                jj_scanpos=token37;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_85() {
+        if (jj_scan_token(PLUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_86() {
+        if (jj_scan_token(MINUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_100() {
+        if (phase3R_98()) return true;
+        while (true) {
+            Token token38=jj_scanpos;
+            if (phase3R_99()) {
+                jj_scanpos=token38;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_90() {
+        if (jj_scan_token(EXCLAM)) return true;
+        if (phase3R_100()) return true;
+        return false;
+    }
+
+    private boolean phase3R_91() {
+        if (jj_scan_token(EXCLAM)) return true;
+        return false;
+    }
+
+    private boolean phase3R_178() {
+        if (jj_scan_token(COMMA)) return true;
+        return false;
+    }
+
+    private boolean phase3R_189() {
+        if (phase3R_196()) return true;
+        while (true) {
+            Token token39=jj_scanpos;
+            if (phase3R_186()) {
+                jj_scanpos=token39;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_181() {
+        Token token40=jj_scanpos;
+        if (phase3R_187()) {
+            jj_scanpos=token40;
+            if (phase3R_188()) return true;
+        }
+        if (phase3R_189()) return true;
+        return false;
+    }
+
+    private boolean phase3R_99() {
+        Token token41=jj_scanpos;
+        if (phase3R_115()) {
+            jj_scanpos=token41;
+            if (phase3R_116()) {
+                jj_scanpos=token41;
+                if (phase3R_117()) {
+                    jj_scanpos=token41;
+                    if (phase3R_118()) {
+                        jj_scanpos=token41;
+                        if (phase3R_119()) return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_196() {
+        if (phase3R_206()) return true;
+        Token token42=jj_scanpos;
+        if (phase3R_193()) jj_scanpos=token42;
+        return false;
+    }
+
+    private boolean phase3R_186() {
+        Token token43=jj_scanpos;
+        if (phase3R_194()) {
+            jj_scanpos=token43;
+            if (phase3R_195()) return true;
+        }
+        if (phase3R_196()) return true;
+        return false;
+    }
+
+    private boolean phase3R_187() {
+        if (jj_scan_token(OR)) return true;
+        return false;
+    }
+
+    private boolean phase3R_188() {
+        if (jj_scan_token(OR2)) return true;
+        return false;
+    }
+
+    private boolean phase3R_115() {
+        if (phase3R_133()) return true;
+        return false;
+    }
+
+    private boolean phase3R_116() {
+        if (phase3R_134()) return true;
+        return false;
+    }
+
+    private boolean phase3R_117() {
+        if (phase3R_135()) return true;
+        return false;
+    }
+
+    private boolean phase3R_118() {
+        if (phase3R_136()) return true;
+        return false;
+    }
+
+    private boolean phase3R_119() {
+        if (phase3R_137()) return true;
+        return false;
+    }
+
+    private boolean phase3R_206() {
+        if (phase3R_221()) return true;
+        Token token44=jj_scanpos;
+        if (phase3R_202()) jj_scanpos=token44;
+        return false;
+    }
+
+    private boolean phase3R_193() {
+        Token token45=jj_scanpos;
+        if (phase3R_203()) {
+            jj_scanpos=token45;
+            if (phase3R_204()) {
+                jj_scanpos=token45;
+                if (phase3R_205()) return true;
+            }
+        }
+        if (phase3R_206()) return true;
+        return false;
+    }
+
+    private boolean phase3R_194() {
+        if (jj_scan_token(AND)) return true;
+        return false;
+    }
+
+    private boolean phase3R_195() {
+        if (jj_scan_token(AND2)) return true;
+        return false;
+    }
+
+    private boolean phase3R_133() {
+        if (jj_scan_token(DOT)) return true;
+        Token token46=jj_scanpos;
+        if (phase3R_153()) {
+            jj_scanpos=token46;
+            if (phase3R_154()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_134() {
+        if (jj_scan_token(OPEN_BRACKET)) return true;
+        if (phase3R_210()) return true;
+        if (jj_scan_token(CLOSE_BRACKET)) return true;
+        return false;
+    }
+
+    private boolean phase3R_135() {
+        if (jj_scan_token(OPEN_PAREN)) return true;
+        Token token47=jj_scanpos;
+        if (phase3R_156()) jj_scanpos=token47;
+        if (jj_scan_token(CLOSE_PAREN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_136() {
+        if (jj_scan_token(BUILT_IN)) return true;
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_137() {
+        if (jj_scan_token(EXISTS_OPERATOR)) return true;
+        return false;
+    }
+
+    private boolean phase3R_221() {
+        if (phase3R_223()) return true;
+        Token token48=jj_scanpos;
+        if (phase3R_212()) jj_scanpos=token48;
+        return false;
+    }
+
+    private boolean phase3R_202() {
+        Token token49=jj_scanpos;
+        if (phase3R_213()) {
+            jj_scanpos=token49;
+            if (phase3R_214()) {
+                jj_scanpos=token49;
+                if (phase3R_215()) {
+                    jj_scanpos=token49;
+                    if (phase3R_216()) {
+                        jj_scanpos=token49;
+                        if (phase3R_217()) {
+                            jj_scanpos=token49;
+                            if (phase3R_218()) {
+                                jj_scanpos=token49;
+                                if (phase3R_219()) {
+                                    jj_scanpos=token49;
+                                    if (phase3R_220()) return true;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (phase3R_221()) return true;
+        return false;
+    }
+
+    private boolean phase3R_203() {
+        if (jj_scan_token(EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_204() {
+        if (jj_scan_token(DOUBLE_EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_205() {
+        if (jj_scan_token(NOT_EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_153() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_154() {
+        if (jj_scan_token(TIMES)) return true;
+        return false;
+    }
+
+    private boolean phase3R_156() {
+        if (phase3R_174()) return true;
+        return false;
+    }
+
+    private boolean phase3R_212() {
+        if (jj_scan_token(DOT_DOT)) return true;
+        Token token50=jj_scanpos;
+        if (phase3R_222()) jj_scanpos=token50;
+        return false;
+    }
+
+    private boolean phase3R_213() {
+        if (jj_scan_token(GT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_214() {
+        if (jj_scan_token(GTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_215() {
+        if (jj_scan_token(LT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_216() {
+        if (jj_scan_token(LTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_217() {
+        if (jj_scan_token(ALT_GT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_218() {
+        if (jj_scan_token(ALT_GTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_219() {
+        if (jj_scan_token(ALT_LTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_220() {
+        if (jj_scan_token(ALT_LT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_174() {
+        Token token51=jj_scanpos;
+        if (phase3R_182()) {
+            jj_scanpos=token51;
+            if (phase3R_183()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_222() {
+        if (phase3R_223()) return true;
+        return false;
+    }
+
+    private boolean phase3R_182() {
+        if (phase3R_190()) return true;
+        return false;
+    }
+
+    private boolean phase3R_183() {
+        if (phase3R_191()) return true;
+        return false;
+    }
+
+    private boolean phase3R_190() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        if (jj_scan_token(EQUALS)) return true;
+        if (phase3R_210()) return true;
+        while (true) {
+            Token token52=jj_scanpos;
+            if (phase3R_198()) {
+                jj_scanpos=token52;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_191() {
+        if (phase3R_210()) return true;
+        while (true) {
+            Token token53=jj_scanpos;
+            if (phase3R_200()) {
+                jj_scanpos=token53;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_198() {
+        Token token54=jj_scanpos;
+        if (phase3R_207()) jj_scanpos=token54;
+        if (jj_scan_token(IDENTIFIER)) return true;
+        if (jj_scan_token(EQUALS)) return true;
+        if (phase3R_210()) return true;
+        return false;
+    }
+
+    private boolean phase3R_200() {
+        Token token55=jj_scanpos;
+        if (phase3R_209()) jj_scanpos=token55;
+        if (phase3R_210()) return true;
+        return false;
+    }
+
+    private boolean phase3R_207() {
+        if (jj_scan_token(COMMA)) return true;
+        return false;
+    }
+
+    private boolean phase3R_209() {
+        if (jj_scan_token(COMMA)) return true;
+        return false;
+    }
+
+    Token current_token;
+    private Token jj_scanpos,jj_lastpos;
+    private int jj_la;
+    private boolean semanticLookahead;
+    public FELParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public FELParser(Reader reader) {
+        token_source=new FELLexer(reader);
+        current_token=new Token();
+    }
+
+    /** Constructor with generated Token Manager. */
+    public FELParser(FELLexer lexer) {
+        token_source=lexer;
+        current_token=new Token();
+    }
+
+    /**
+     * Based on the type of the node and the terminating token, we attempt to scan forward and recover. 
+     */
+    private void attemptRecovery(Node node,int...finalTokenTypes) {
+        int finalTokenType=finalTokenTypes[0];
+        List<Token>scanAhead=getTokensToEOL(finalTokenTypes);
+        List<Token>unparsedTokens=null;
+        Token terminalTokenFound=null;
+        for (Token tok : scanAhead) {
+            if (!intArrayContains(finalTokenTypes,tok.kind)) {
+                tok.setUnparsed(true);
+                tok.ignored=true;
+                node.setEndLine(tok.getEndLine());
+                node.setEndColumn(tok.getEndColumn());
+                if (unparsedTokens==null) unparsedTokens=new ArrayList<Token>();
+                tok.unparsed=true;
+                unparsedTokens.add(tok);
+            }
+            else {
+                terminalTokenFound=tok;
+                tok.precedingUnparsedTokens=unparsedTokens;
+                token_source.doLexicalStateSwitch(tok.kind);
+            }
+        }
+        if (terminalTokenFound!=null) {
+            Token lastScanned=scanAhead.get(scanAhead.size()-1);
+            Token virtualToken=Token.newToken(finalTokenType,"VIRTUAL "+nodeNames[finalTokenType]);
+            virtualToken.setUnparsed(true);
+            virtualToken.setBeginLine(lastScanned.getEndLine());
+            virtualToken.setBeginColumn(lastScanned.getEndColumn());
+            virtualToken.setEndLine(lastScanned.getEndLine());
+            virtualToken.setEndColumn(lastScanned.getEndColumn());
+            if (tokensAreNodes) {
+                currentNodeScope.add(virtualToken);
+            }
+            node.setEndLine(virtualToken.getEndLine());
+            node.setEndColumn(virtualToken.getEndColumn());
+        }
+        token_source.doLexicalStateSwitch(finalTokenType);
+    }
+
+    private Token consumeToken(int expectedType) throws ParseException {
+        return consumeToken(expectedType,false);
+    }
+
+    private Token consumeToken(int expectedType,boolean forced) throws ParseException {
+        Token oldToken=current_token;
+        current_token=current_token.next;
+        if (current_token==null) {
+            current_token=token_source.getNextToken();
+        }
+        if (!tolerantParsing&&current_token.invalidToken!=null) {
+            throw new ParseException(current_token);
+        }
+        if (current_token.kind!=expectedType) {
+            handleUnexpectedTokenType(expectedType,forced,oldToken);
+        }
+        if (tokensAreNodes) {
+            if (buildTree) {
+                pushNode(current_token);
+            }
+        }
+        if (trace_enabled) traceConsumedToken();
+        return current_token;
+    }
+
+    private void traceConsumedToken() {
+        LOGGER.info("Consumed token of type "+tokenImage[current_token.kind]+" from "+current_token.getLocation());
+    }
+
+    private void handleUnexpectedTokenType(int expectedType,boolean forced,Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+            //	    current_token = oldToken;
+            throw new ParseException(current_token);
+        }
+        if (forced&&tolerantParsing) {
+            Token virtualToken=Token.newToken(expectedType,"");
+            virtualToken.setVirtual(true);
+            virtualToken.setBeginLine(oldToken.getEndLine());
+            virtualToken.setBeginColumn(oldToken.getEndColumn());
+            virtualToken.setEndLine(current_token.getBeginLine());
+            virtualToken.setEndColumn(current_token.getBeginColumn());
+            virtualToken.next=current_token;
+            current_token=virtualToken;
+        }
+        else {
+            //	      current_token = oldToken;
+            throw new ParseException(current_token);
+            //	      throw new ParseException(generateErrorMessage(current_token));
+        }
+    }
+
+    private String generateErrorMessage(Token t) {
+        if (t.invalidToken!=null) {
+            Token iv=t.invalidToken;
+            return"Encountered invalid input: "+iv.image+" on "+iv.getLocation();
+        }
+        return"Encountered an error on (or somewhere around) line "+t.getBeginLine()+", column "+t.getBeginColumn()+" of "+t.getInputSource();
+    }
+
+    @SuppressWarnings("serial")
+    static private final class LookaheadSuccess extends java.lang.Error {
+    }
+    final private LookaheadSuccess LOOKAHEAD_SUCCESS=new LookaheadSuccess();
+    private boolean jj_scan_token(int kind) {
+        if (jj_scanpos==jj_lastpos) {
+            jj_la--;
+            if (jj_scanpos.next==null) {
+                jj_lastpos=jj_scanpos=jj_scanpos.next=token_source.getNextToken();
+            }
+            else {
+                jj_lastpos=jj_scanpos=jj_scanpos.next;
+            }
+        }
+        else {
+            jj_scanpos=jj_scanpos.next;
+        }
+        if (jj_scanpos.kind!=kind) return true;
+        if (jj_la==0&&jj_scanpos==jj_lastpos) throw LOOKAHEAD_SUCCESS;
+        return false;
+    }
+
+    // Results of phase 2 routines at current_token. Moving current_token
+    // bumps the stamp, which makes all the earlier results stale.
+    private Token jj_la_cacheToken;
+    private long jj_la_cacheStamp;
+    private final long[] jj_la_cacheStamps=new long[3];
+    private final boolean[] jj_la_cacheResults=new boolean[3];
+    private boolean jj_la_cached(int index) {
+        if (jj_la_cacheToken!=current_token) {
+            jj_la_cacheToken=current_token;
+            ++jj_la_cacheStamp;
+            return false;
+        }
+        return jj_la_cacheStamps[index]==jj_la_cacheStamp;
+    }
+
+    private boolean jj_la_cache(int index,boolean result) {
+        jj_la_cacheStamps[index]=jj_la_cacheStamp;
+        jj_la_cacheResults[index]=result;
+        return result;
+    }
+
+    final public Token getNextToken() {
+        if (current_token.next!=null) current_token=current_token.next;
+        else current_token=current_token.next=token_source.getNextToken();
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        Token t=current_token;
+        for (int i=0; i<index; i++) {
+            if (t.next!=null) t=t.next;
+            else t=t.next=token_source.getNextToken();
+        }
+        return t;
+    }
+
+    private int nextTokenKind() {
+        if (current_token.next==null) {
+            current_token.next=token_source.getNextToken();
+        }
+        return current_token.next.kind;
+    }
+
+    private List<Token>getTokensToEOL(int...desiredTokenTypes) {
+        ArrayList<Token>result=new ArrayList<>();
+        int currentLine=current_token.getBeginLine();
+        Token tok=current_token;
+        do {
+            Token prevToken=tok;
+            if (tok.next!=null) {
+                tok=tok.next;
+            }
+            else {
+                tok=token_source.getNextToken();
+                prevToken.next=tok;
+            }
+            result.add(tok);
+        }
+        while (tok.getBeginLine()==currentLine&&!intArrayContains(desiredTokenTypes,tok.kind)&&tok.kind!=EOF);
+        return result;
+    }
+
+    static private boolean intArrayContains(int[] array,int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i]==elem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trace_enabled=false;
+    public void setTracingEnabled(boolean tracingEnabled) {
+        trace_enabled=tracingEnabled;
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+}
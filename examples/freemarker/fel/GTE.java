@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. GTE.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class GTE extends Token {
+    public GTE(int kind, String image) {
+        super(kind, image);
+    }
+}
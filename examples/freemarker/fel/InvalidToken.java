@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+package fel;
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+ 
+public class InvalidToken extends Token {
+
+    public InvalidToken(String image) {
+       super(FELConstants.INVALID, image);
+    }
+    
+    public InvalidToken() {
+       super(FELConstants.INVALID);
+    }
+    
+    public String getNormalizedText() {
+        return "Lexically Invalid Input:" + image;
+    }
+    
+    public boolean isDirty() {
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LTE.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class LTE extends Token {
+    public LTE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MINUS.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class MINUS extends Token {
+    public MINUS(int kind, String image) {
+        super(kind, image);
+    }
+}
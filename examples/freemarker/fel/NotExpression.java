@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NotExpression.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class NotExpression extends BaseNode {
+
+}
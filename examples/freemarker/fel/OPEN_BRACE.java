@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. OPEN_BRACE.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class OPEN_BRACE extends Token {
+    public OPEN_BRACE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. OPEN_BRACKET.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class OPEN_BRACKET extends Token {
+    public OPEN_BRACKET(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. OR.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class OR extends Token {
+    public OR(int kind, String image) {
+        super(kind, image);
+    }
+}
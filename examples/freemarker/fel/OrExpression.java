@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. OrExpression.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class OrExpression extends BaseNode {
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. PERCENT.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class PERCENT extends Token {
+    public PERCENT(int kind, String image) {
+        super(kind, image);
+    }
+}
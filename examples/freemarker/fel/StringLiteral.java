@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. StringLiteral.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class StringLiteral extends BaseNode {
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. TIMES.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class TIMES extends Token {
+    public TIMES(int kind, String image) {
+        super(kind, image);
+    }
+}
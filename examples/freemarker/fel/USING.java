@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. USING.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class USING extends Token {
+    public USING(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. UnaryPlusMinusExpression.java */
+package fel;
+
+
+@SuppressWarnings("unused")
+public class UnaryPlusMinusExpression extends BaseNode {
+
+}
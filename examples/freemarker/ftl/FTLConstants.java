@@ -0,0 +1,557 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FTLConstants.java */
+package ftl;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface FTLConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int EXP_WHITE_SPACE = 1;
+  int OPEN_PAREN = 8;
+  int CLOSE_PAREN = 9;
+  int OPEN_BRACKET = 10;
+  int CLOSE_BRACKET = 11;
+  int OPEN_BRACE = 12;
+  int CLOSE_BRACE = 13;
+  int EQUALS = 14;
+  int DOT = 15;
+  int PLUS = 16;
+  int MINUS = 17;
+  int TIMES = 18;
+  int DIVIDE = 19;
+  int PERCENT = 20;
+  int OR = 21;
+  int AND = 22;
+  int LT = 23;
+  int GT = 24;
+  int COMMA = 25;
+  int COLON = 26;
+  int SEMICOLON = 27;
+  int EXCLAM = 28;
+  int BUILT_IN = 29;
+  int DOUBLE_EQUALS = 30;
+  int NOT_EQUALS = 31;
+  int EXISTS_OPERATOR = 32;
+  int LTE = 33;
+  int GTE = 34;
+  int OR2 = 35;
+  int AND2 = 36;
+  int DOT_DOT = 37;
+  int ALT_GT = 38;
+  int ALT_LT = 39;
+  int AS = 40;
+  int IN = 41;
+  int ALT_GTE = 42;
+  int ALT_LTE = 43;
+  int ELLIPSIS = 44;
+  int NULL = 45;
+  int TRUE = 46;
+  int FALSE = 47;
+  int USING = 48;
+  int INTEGER = 49;
+  int DECIMAL = 50;
+  int IDENTIFIER = 51;
+  int LETTER = 52;
+  int PART_LETTER = 53;
+  int STRING_LITERAL = 54;
+  int RAW_STRING = 55;
+  int FTL_DIRECTIVE_OPEN = 56;
+  int USER_DIRECTIVE_OPEN = 57;
+  int INTERPOLATE = 58;
+  int NUMERICAL_INTERPOLATE = 59;
+  int WHITESPACE = 60;
+  int SPECIAL_CHAR = 61;
+  int PRINTABLE_CHARS = 62;
+  int END_DIRECTIVE = 63;
+  int END_USER_DIRECTIVE = 64;
+  int END_DIRECTIVE1 = 65;
+  int END_DIRECTIVE2 = 66;
+  int END_USER_DIRECTIVE1 = 67;
+  int END_USER_DIRECTIVE2 = 68;
+  int TRIM = 69;
+  int COMMENT = 70;
+  int LTRIM = 71;
+  int RTRIM = 72;
+  int NOTRIM = 73;
+  int IF = 74;
+  int FTL = 75;
+  int SET = 76;
+  int VAR = 77;
+  int LIST = 78;
+  int ELSE = 79;
+  int STOP = 80;
+  int CASE = 81;
+  int MACRO = 82;
+  int LOCAL = 83;
+  int FLUSH = 84;
+  int BREAK = 85;
+  int EMBED = 86;
+  int NESTED = 87;
+  int VISIT = 88;
+  int SWITCH = 89;
+  int IMPORT = 90;
+  int DEFAUL = 91;
+  int RETURN = 92;
+  int GLOBAL = 93;
+  int ASSIGN = 94;
+  int ELSEIF = 95;
+  int ESCAPE = 96;
+  int RECURSE = 97;
+  int FUNCTION = 98;
+  int FALLBACK = 99;
+  int NOESCAPE = 100;
+  int SETTING = 101;
+  int NOPARSE = 102;
+  int _INCLUDE = 103;
+  int ATTEMPT = 104;
+  int FOREACH = 105;
+  int RECOVER = 106;
+  int COMPRESS = 107;
+  int BLOCKTRIM = 108;
+  int BLOCKTRIML = 109;
+  int BLOCKTRIMR = 110;
+  int BLOCKNOTRIM = 111;
+  int BLANK = 112;
+  int CLOSE_TAG = 113;
+  int CLOSE_EMPTY_TAG = 114;
+  int END_COMMENT = 116;
+  int NOPARSE_END = 118;
+  
+  /**
+   * Lexical States
+   */
+  int TEMPLATE_TEXT = 0;
+  int FTL_EXPRESSION = 1;
+  int EXPRESSION_COMMENT = 2;
+  int FTL_DIRECTIVE = 3;
+  int IN_COMMENT = 4;
+  int NO_PARSE = 5;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "<EXP_WHITE_SPACE>"
+,
+      "\"<#--\""   
+,
+      "\"<!--\""   
+,
+      "\"[#--\""   
+,
+      "<5>"
+,
+      "\"-->\""   
+,
+      "\"--]\""   
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+      "\"[\""   
+,
+      "\"]\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\"=\""   
+,
+      "\".\""   
+,
+      "\"+\""   
+,
+      "\"-\""   
+,
+      "\"*\""   
+,
+      "\"/\""   
+,
+      "\"%\""   
+,
+      "\"|\""   
+,
+      "\"&\""   
+,
+      "\"<\""   
+,
+      "\">\""   
+,
+      "\",\""   
+,
+      "\":\""   
+,
+      "\";\""   
+,
+      "\"!\""   
+,
+      "\"?\""   
+,
+      "\"==\""   
+,
+      "\"!=\""   
+,
+      "\"??\""   
+,
+      "\"<=\""   
+,
+      "\">=\""   
+,
+      "\"||\""   
+,
+      "\"&&\""   
+,
+      "\"..\""   
+,
+      "\"gt\""   
+,
+      "\"lt\""   
+,
+      "\"as\""   
+,
+      "\"in\""   
+,
+      "\"gte\""   
+,
+      "\"lte\""   
+,
+      "\"...\""   
+,
+      "\"null\""   
+,
+      "\"true\""   
+,
+      "\"false\""   
+,
+      "\"using\""   
+,
+      "<INTEGER>"
+,
+      "<DECIMAL>"
+,
+      "<IDENTIFIER>"
+,
+      "<LETTER>"
+,
+      "<PART_LETTER>"
+,
+      "<STRING_LITERAL>"
+,
+      "<RAW_STRING>"
+,
+      "<FTL_DIRECTIVE_OPEN>"
+,
+      "<USER_DIRECTIVE_OPEN>"
+,
+      "\"${\""   
+,
+      "\"#{\""   
+,
+      "<WHITESPACE>"
+,
+      "<SPECIAL_CHAR>"
+,
+      "<PRINTABLE_CHARS>"
+,
+      "<END_DIRECTIVE>"
+,
+      "<END_USER_DIRECTIVE>"
+,
+      "<END_DIRECTIVE1>"
+,
+      "<END_DIRECTIVE2>"
+,
+      "<END_USER_DIRECTIVE1>"
+,
+      "<END_USER_DIRECTIVE2>"
+,
+      "\"t\""   
+,
+      "\"--\""   
+,
+      "\"lt\""   
+,
+      "\"rt\""   
+,
+      "\"nt\""   
+,
+      "\"if\""   
+,
+      "\"ftl\""   
+,
+      "\"set\""   
+,
+      "\"var\""   
+,
+      "\"list\""   
+,
+      "\"else\""   
+,
+      "\"stop\""   
+,
+      "\"case\""   
+,
+      "\"macro\""   
+,
+      "\"local\""   
+,
+      "\"flush\""   
+,
+      "\"break\""   
+,
+      "\"embed\""   
+,
+      "\"nested\""   
+,
+      "\"visit\""   
+,
+      "\"switch\""   
+,
+      "\"import\""   
+,
+      "\"default\""   
+,
+      "\"return\""   
+,
+      "\"global\""   
+,
+      "\"assign\""   
+,
+      "\"elseif\""   
+,
+      "\"escape\""   
+,
+      "\"recurse\""   
+,
+      "\"function\""   
+,
+      "\"fallback\""   
+,
+      "\"noescape\""   
+,
+      "\"setting\""   
+,
+      "\"noparse\""   
+,
+      "\"include\""   
+,
+      "\"attempt\""   
+,
+      "\"foreach\""   
+,
+      "\"recover\""   
+,
+      "\"compress\""   
+,
+      "\"t_lines\""   
+,
+      "\"lt_lines\""   
+,
+      "\"rt_lines\""   
+,
+      "\"nt_lines\""   
+,
+      "<BLANK>"
+,
+      "<CLOSE_TAG>"
+,
+      "<CLOSE_EMPTY_TAG>"
+,
+      "<115>"
+,
+      "<END_COMMENT>"
+,
+      "<117>"
+,
+      "<NOPARSE_END>"
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "EXP_WHITE_SPACE",
+          "OPEN_PAREN",
+          "CLOSE_PAREN",
+          "OPEN_BRACKET",
+          "CLOSE_BRACKET",
+          "OPEN_BRACE",
+          "CLOSE_BRACE",
+          "EQUALS",
+          "DOT",
+          "PLUS",
+          "MINUS",
+          "TIMES",
+          "DIVIDE",
+          "PERCENT",
+          "OR",
+          "AND",
+          "LT",
+          "GT",
+          "COMMA",
+          "COLON",
+          "SEMICOLON",
+          "EXCLAM",
+          "BUILT_IN",
+          "DOUBLE_EQUALS",
+          "NOT_EQUALS",
+          "EXISTS_OPERATOR",
+          "LTE",
+          "GTE",
+          "OR2",
+          "AND2",
+          "DOT_DOT",
+          "ALT_GT",
+          "ALT_LT",
+          "AS",
+          "IN",
+          "ALT_GTE",
+          "ALT_LTE",
+          "ELLIPSIS",
+          "NULL",
+          "TRUE",
+          "FALSE",
+          "USING",
+          "INTEGER",
+          "DECIMAL",
+          "IDENTIFIER",
+          "LETTER",
+          "PART_LETTER",
+          "STRING_LITERAL",
+          "RAW_STRING",
+          "FTL_DIRECTIVE_OPEN",
+          "USER_DIRECTIVE_OPEN",
+          "INTERPOLATE",
+          "NUMERICAL_INTERPOLATE",
+          "WHITESPACE",
+          "SPECIAL_CHAR",
+          "PRINTABLE_CHARS",
+          "END_DIRECTIVE",
+          "END_USER_DIRECTIVE",
+          "END_DIRECTIVE1",
+          "END_DIRECTIVE2",
+          "END_USER_DIRECTIVE1",
+          "END_USER_DIRECTIVE2",
+          "TRIM",
+          "COMMENT",
+          "LTRIM",
+          "RTRIM",
+          "NOTRIM",
+          "IF",
+          "FTL",
+          "SET",
+          "VAR",
+          "LIST",
+          "ELSE",
+          "STOP",
+          "CASE",
+          "MACRO",
+          "LOCAL",
+          "FLUSH",
+          "BREAK",
+          "EMBED",
+          "NESTED",
+          "VISIT",
+          "SWITCH",
+          "IMPORT",
+          "DEFAUL",
+          "RETURN",
+          "GLOBAL",
+          "ASSIGN",
+          "ELSEIF",
+          "ESCAPE",
+          "RECURSE",
+          "FUNCTION",
+          "FALLBACK",
+          "NOESCAPE",
+          "SETTING",
+          "NOPARSE",
+          "_INCLUDE",
+          "ATTEMPT",
+          "FOREACH",
+          "RECOVER",
+          "COMPRESS",
+          "BLOCKTRIM",
+          "BLOCKTRIML",
+          "BLOCKTRIMR",
+          "BLOCKNOTRIM",
+          "BLANK",
+          "CLOSE_TAG",
+          "CLOSE_EMPTY_TAG",
+          "END_COMMENT",
+          "NOPARSE_END",
+              "Expression", 
+              "OrExpression", 
+              "AndExpression", 
+              "EqualityExpression", 
+              "RelationalExpression", 
+              "RangeExpression", 
+              "AdditiveExpression", 
+              "MultiplicativeExpression", 
+              "UnaryPlusMinusExpression", 
+              "NotExpression", 
+              "BuiltinVariable", 
+              "DefaultToExpression", 
+              "PrimaryExpression", 
+              "BaseExpression", 
+              "Exists", 
+              "ListLiteral", 
+              "StringLiteral", 
+              "HashLiteral", 
+              "NumberLiteral", 
+              "BooleanLiteral", 
+              "NullLiteral", 
+              "Parenthesis", 
+              "NamedArgsList", 
+              "PositionalArgsList", 
+              "IdentifierOrStringLiteral", 
+              "Interpolation", 
+              "NumericalInterpolation", 
+              "Assignment", 
+              "VarInstruction", 
+              "SettingInstruction", 
+              "AttemptRecover", 
+              "CommentBlock", 
+              "NoParseBlock", 
+              "TrimInstruction", 
+              "BreakInstruction", 
+              "FlushInstruction", 
+              "ReturnInstruction", 
+              "StopInstruction", 
+              "CompressBlock", 
+              "TrimBlock", 
+              "NoEscapeBlock", 
+              "EscapeBlock", 
+              "IncludeInstruction", 
+              "EmbedInstruction", 
+              "ImportInstruction", 
+              "VisitInstruction", 
+              "RecurseInstruction", 
+              "FallBackInstruction", 
+              "IfStatement", 
+              "ElseIfBlock", 
+              "ElseBlock", 
+              "SwitchInstruction", 
+              "CaseInstruction", 
+              "DefaultInstruction", 
+              "ListInstruction", 
+              "ForEachInstruction", 
+              "NestedInstruction", 
+              "MacroDefinition", 
+              "ParameterList", 
+              "LooseTagEnd", 
+              "DirectiveEnd", 
+              "Text", 
+              "RecoverBlock", 
+              "UserDirective", 
+              "Block", 
+              "FTLHeader", 
+              "Root", 
+   };
+}
+
+
+
+
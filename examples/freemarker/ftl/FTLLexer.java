@@ -0,0 +1,2628 @@
+/* Generated by: JavaCC 21 Parser Generator. FTLLexer.java */
+package ftl;
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+@SuppressWarnings("unused")
+public class FTLLexer implements FTLConstants {
+    boolean syntaxEstablished,olderSyntax;
+    boolean noWhitespaceInExpression,rightAfterHeader;
+    int parenthesisNesting,bracketNesting,braceNesting;
+    int lastMatchedTokenType;
+    void CommonTokenAction(Token tok) {
+        if (tok.kind==EOF) return;
+        if (noWhitespaceInExpression&&parenthesisNesting==0&&braceNesting==0&&tok.specialToken!=null) {
+            if (tok.specialToken.image.trim().length()==0) {
+                Token copy=cloneToken(tok);
+                copy.specialToken=null;
+                copyFieldsOfToken(tok.specialToken,tok);
+                tok.kind=BLANK;
+                tok.next=copy;
+                noWhitespaceInExpression=false;
+                lastMatchedTokenType=tok.kind;
+                return;
+            }
+        }
+        char firstChar=tok.image.charAt(0);
+        char lastChar=tok.image.charAt(tok.image.length()-1);
+        boolean hasPointyDelimiter=firstChar=='<'||lastChar=='>';
+        if (rightAfterHeader) {
+            // chop off the newline after a <#ftl ...> header
+            rightAfterHeader=false;
+            if (tok.kind==WHITESPACE) {
+                String img=tok.image;
+                int idx=img.indexOf('\n');
+                if (idx<0) idx=img.indexOf('\r');
+                if (idx>=0) {
+                    tok.image=img.substring(++idx);
+                    tok.beginLine++;
+                    tok.beginColumn=1;
+                }
+            }
+        }
+        switch(tok.kind) {
+            case USER_DIRECTIVE_OPEN:
+            case FTL_DIRECTIVE_OPEN:
+            if (syntaxEstablished) {
+                if (hasPointyDelimiter!=olderSyntax) {
+                    tok.kind=PRINTABLE_CHARS;
+                }
+                else {
+                    if (tok.kind==FTL_DIRECTIVE_OPEN) SwitchTo(FTL_DIRECTIVE);
+                    else {
+                        noWhitespaceInExpression=true;
+                        SwitchTo(FTL_EXPRESSION);
+                    }
+                }
+            }
+            else {
+                olderSyntax=(firstChar=='<');
+                syntaxEstablished=true;
+            }
+            break;
+            case CLOSE_TAG:
+            case CLOSE_EMPTY_TAG:
+            if (olderSyntax!=hasPointyDelimiter) tok.kind=PRINTABLE_CHARS;
+            else SwitchTo(TEMPLATE_TEXT);
+            break;
+            case END_DIRECTIVE:
+            if (olderSyntax!=hasPointyDelimiter) tok.kind=PRINTABLE_CHARS;
+            else SwitchTo(TEMPLATE_TEXT);
+            break;
+            case END_USER_DIRECTIVE:
+            if (hasPointyDelimiter!=olderSyntax) tok.kind=PRINTABLE_CHARS;
+            break;
+            case GT:
+            case GTE:
+            if (parenthesisNesting==0&&olderSyntax) {
+                tok.kind=CLOSE_TAG;
+                if (tok.kind==GTE) {
+                    tok.image=">";
+                    tok.endColumn--;
+                    input_stream.backup(1);
+                }
+                SwitchTo(TEMPLATE_TEXT);
+            }
+            break;
+            case OPEN_PAREN:
+            parenthesisNesting++;
+            break;
+            case CLOSE_PAREN:
+            parenthesisNesting--;
+            break;
+            case OPEN_BRACKET:
+            bracketNesting++;
+            break;
+            case CLOSE_BRACKET:
+            if (bracketNesting>0) {
+                --bracketNesting;
+            }
+            else if (!olderSyntax) {
+                tok.kind=CLOSE_TAG;
+                SwitchTo(TEMPLATE_TEXT);
+            }
+            break;
+            case OPEN_BRACE:
+            braceNesting++;
+            break;
+            case CLOSE_BRACE:
+            if (braceNesting>0) braceNesting--;
+            else SwitchTo(TEMPLATE_TEXT);
+            break;
+            case END_COMMENT:
+            if (hasPointyDelimiter!=olderSyntax) tok.kind=PRINTABLE_CHARS;
+            else SwitchTo(TEMPLATE_TEXT);
+            break;
+            default:
+            if (lastMatchedTokenType==DOT&&possibleIdentifier(tok.image)) {
+                tok.kind=IDENTIFIER;
+            }
+        }
+        lastMatchedTokenType=tok.kind;
+    }
+
+    private boolean possibleIdentifier(String s) {
+        for (char c : s.toCharArray()) {
+            if (c<'a'||c>'z') return false;
+        }
+        return true;
+    }
+
+    private void copyFieldsOfToken(Token src,Token dest) {
+        dest.kind=src.kind;
+        dest.image=src.image;
+        dest.specialToken=src.specialToken;
+        dest.next=src.next;
+        dest.beginLine=src.beginLine;
+        dest.beginColumn=src.beginColumn;
+        dest.endLine=src.endLine;
+        dest.endColumn=src.endColumn;
+        dest.setInputSource(src.getInputSource());
+    }
+
+    private Token cloneToken(Token t) {
+        Token result=Token.newToken(t.kind,t.image);
+        copyFieldsOfToken(t,result);
+        return result;
+    }
+
+    private static final Logger LOGGER=Logger.getLogger("FTLParser");
+    int[] jjemptyLineNo=new int[6];
+    int[] jjemptyColNo=new int[6];
+    boolean[] jjbeenHere=new boolean[6];
+    private int jjnewStateCnt;
+    private int jjround;
+    private int jjmatchedPos;
+    private int jjmatchedKind;
+    private String inputSource="input";
+    private boolean trace_enabled=false;
+    private void setTracingEnabled(boolean trace_enabled) {
+        this.trace_enabled=trace_enabled;
+    }
+
+    public String getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource=inputSource;
+    }
+
+    private LexicalState lexicalState=LexicalState.TEMPLATE_TEXT;
+    public enum LexicalState {
+        TEMPLATE_TEXT,FTL_EXPRESSION,EXPRESSION_COMMENT,FTL_DIRECTIVE,IN_COMMENT,NO_PARSE,
+    }
+    void doLexicalStateSwitch(int tokenType) {
+        LexicalState newLexState=newLexicalStates[tokenType];
+        if (newLexState!=null) {
+            switchTo(newLexState);
+        }
+    }
+
+    private static final LexicalState[] newLexicalStates={null,null,LexicalState.EXPRESSION_COMMENT,LexicalState.EXPRESSION_COMMENT,LexicalState.EXPRESSION_COMMENT,null,LexicalState.FTL_EXPRESSION,LexicalState.FTL_EXPRESSION,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,LexicalState.FTL_DIRECTIVE,LexicalState.FTL_EXPRESSION,LexicalState.FTL_EXPRESSION,LexicalState.FTL_EXPRESSION,null,null,null,null,null,null,null,null,null,null,LexicalState.IN_COMMENT,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,null,LexicalState.FTL_EXPRESSION,LexicalState.TEMPLATE_TEXT,LexicalState.TEMPLATE_TEXT,null,null,null,LexicalState.TEMPLATE_TEXT,};
+    // Bit vector for TOKEN
+    static final long[] jjtoToken={0xffcfffffffffff01L,0x57ffffffffffe1L,};
+    // Bit vector for SKIP
+    static final long[] jjtoSkip={0xc2L,0x0L,};
+    // Bit vector for SPECIAL
+    static final long[] jjtoSpecial={0xc0L,0x0L,};
+    // Bit vector for MORE
+    static final long[] jjtoMore={0x3cL,0x28000000000000L,};
+    private final int[] jjrounds=new int[37];
+    private final int[] jjstateSet=new int[74];
+    private final StringBuilder image=new StringBuilder();
+    private int matchedCharsLength;
+    char curChar;
+    FileLineMap input_stream;
+    public final void backup(int amount) {
+        input_stream.backup(amount);
+    }
+
+    public FTLLexer(Reader reader) {
+        this(reader,0,1,1);
+    }
+
+    public FTLLexer(Reader reader,int lexState,int line,int column) {
+        input_stream=new FileLineMap(reader,line,column);
+        SwitchTo(lexState);
+    }
+
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+        int i;
+        jjround=0x80000001;
+        for (i=37; i-->0; ) jjrounds[i]=0x80000000;
+    }
+
+    /** Switch to specified lexical state. */
+    public void switchTo(LexicalState lexState) {
+        if (this.lexicalState!=lexState) {
+            if (trace_enabled) LOGGER.info("Switching from lexical state "+this.lexicalState+" to "+lexState);
+        }
+        this.lexicalState=lexState;
+    }
+
+    /**
+      * @deprecated Use the switchTo method that takes an Enum
+      */
+    @Deprecated public void SwitchTo(int lexState) {
+        switchTo(LexicalState.values()[lexState]);
+    }
+
+    public Token getNextToken() {
+        Token specialToken=null;
+        Token matchedToken;
+        int curPos=0;
+        EOFLoop:
+        while (true) {
+            int retval1=input_stream.beginToken();
+            curChar=(char)(retval1);
+            if (retval1==-1) {
+                // Handle end of file
+                if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+                jjmatchedKind=0;
+                Token eof=jjFillToken();
+                tokenLexicalActions(eof);
+                CommonTokenAction(eof);
+                eof.specialToken=specialToken;
+                return eof;
+            }
+            image.setLength(0);
+            matchedCharsLength=0;
+            while (true) {
+                switch(lexicalState) {
+                    case TEMPLATE_TEXT:
+                    jjmatchedKind=0x7FFFFFFF;
+                    jjmatchedPos=0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos=jjMoveStringLiteralDfa0_TEMPLATE_TEXT();
+                    break;
+                    case FTL_EXPRESSION:
+                    jjmatchedKind=0x7FFFFFFF;
+                    jjmatchedPos=0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos=jjMoveStringLiteralDfa0_FTL_EXPRESSION();
+                    break;
+                    case EXPRESSION_COMMENT:
+                    jjmatchedKind=0x7FFFFFFF;
+                    jjmatchedPos=0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos=jjMoveStringLiteralDfa0_EXPRESSION_COMMENT();
+                    break;
+                    case FTL_DIRECTIVE:
+                    jjmatchedKind=0x7FFFFFFF;
+                    jjmatchedPos=0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos=jjMoveStringLiteralDfa0_FTL_DIRECTIVE();
+                    break;
+                    case IN_COMMENT:
+                    jjmatchedKind=0x7FFFFFFF;
+                    jjmatchedPos=0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos=jjMoveStringLiteralDfa0_IN_COMMENT();
+                    break;
+                    case NO_PARSE:
+                    jjmatchedKind=0x7FFFFFFF;
+                    jjmatchedPos=0;
+                    if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                    curPos=jjMoveStringLiteralDfa0_NO_PARSE();
+                    break;
+                }
+                if (jjmatchedKind!=0x7FFFFFFF) {
+                    if (jjmatchedPos+1<curPos) {
+                        if (trace_enabled) LOGGER.info("   Putting back "+(curPos-jjmatchedPos-1)+" characters into the input stream.");
+                        input_stream.backup(curPos-jjmatchedPos-1);
+                    }
+                    if (trace_enabled) LOGGER.info("****** FOUND A "+tokenImage[jjmatchedKind]+" MATCH ("+ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos+1))+") ******\n");
+                    if ((jjtoToken[jjmatchedKind>>6]&(1L<<(jjmatchedKind&077)))!=0L) {
+                        matchedToken=jjFillToken();
+                        matchedToken.specialToken=specialToken;
+                        tokenLexicalActions(matchedToken);
+                        CommonTokenAction(matchedToken);
+                        jjmatchedKind=matchedToken.kind;
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            switchTo(newLexicalStates[jjmatchedKind]);
+                        }
+                        return matchedToken;
+                    }
+                    else if ((jjtoSkip[jjmatchedKind>>6]&(1L<<(jjmatchedKind&077)))!=0L) {
+                        if ((jjtoSpecial[jjmatchedKind>>6]&(1L<<(jjmatchedKind&077)))!=0L) {
+                            matchedToken=jjFillToken();
+                            matchedToken.setUnparsed(true);
+                            if (specialToken==null) {
+                                specialToken=matchedToken;
+                            }
+                            else {
+                                matchedToken.specialToken=specialToken;
+                                specialToken=(specialToken.next=matchedToken);
+                            }
+                            tokenLexicalActions(matchedToken);
+                        }
+                        else tokenLexicalActions(null);
+                        if (newLexicalStates[jjmatchedKind]!=null) {
+                            this.lexicalState=newLexicalStates[jjmatchedKind];
+                        }
+                        continue EOFLoop;
+                    }
+                    matchedCharsLength+=jjmatchedPos+1;
+                    doLexicalStateSwitch(jjmatchedKind);
+                    curPos=0;
+                    jjmatchedKind=0x7FFFFFFF;
+                    int retval=input_stream.readChar();
+                    if (retval>=0) {
+                        curChar=(char) retval;
+                        if (trace_enabled) LOGGER.info("<"+lexicalState+">"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+                        continue;
+                    }
+                }
+                int error_line=input_stream.getEndLine();
+                int error_column=input_stream.getEndColumn();
+                String error_after=null;
+                //    input_stream.backup(1);
+                error_after=curPos<=1?"":
+                input_stream.getImage();
+                Token invalidToken=new InvalidToken(""+curChar);
+                invalidToken.specialToken=specialToken;
+                invalidToken.setBeginLine(error_line);
+                invalidToken.setEndLine(error_line);
+                invalidToken.setBeginColumn(error_column);
+                invalidToken.setEndColumn(error_column);
+                return invalidToken;
+            }
+        }
+    }
+
+    void tokenLexicalActions(Token matchedToken) {
+        //       int matchedKind = (matchedToken != null) ? matchedToken.kind : jjmatchedKind; // REVISIT
+        matchedToken=null;
+        switch(jjmatchedKind) {
+            default:
+            break;
+        }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage=input_stream.getImage();
+        beginLine=input_stream.getBeginLine();
+        beginColumn=input_stream.getBeginColumn();
+        endLine=input_stream.getEndLine();
+        endColumn=input_stream.getEndColumn();
+        t=Token.newToken(jjmatchedKind,curTokenImage);
+        t.beginLine=beginLine;
+        t.endLine=endLine;
+        t.beginColumn=beginColumn;
+        t.endColumn=endColumn;
+        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state]!=jjround) {
+            jjstateSet[jjnewStateCnt++]=state;
+            jjrounds[state]=jjround;
+        }
+    }
+
+    private void jjAddStates(int start,int end) {
+        do {
+            jjstateSet[jjnewStateCnt++]=jjnextStates[start];
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1,int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+
+    private void jjCheckNAddStates(int start,int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        }
+        while (start++!=end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start+1]);
+    }
+
+    private static boolean jjCanMove_0(int hiByte,int i1,int i2,long l1,long l2) {
+        switch(hiByte) {
+            case 0:
+            return(jjbitVec2[i2]&l2)!=0L;
+            default:
+            if ((jjbitVec0[i1]&l1)!=0L) {
+                return(jjbitVec1[i2]&l2)!=0L;
+            }
+            return false;
+        }
+    }
+
+    private static boolean jjCanMove_1(int hiByte,int i1,int i2,long l1,long l2) {
+        switch(hiByte) {
+            case 0:
+            return(jjbitVec4[i2]&l2)!=0L;
+            case 2:
+            return(jjbitVec5[i2]&l2)!=0L;
+            case 3:
+            return(jjbitVec6[i2]&l2)!=0L;
+            case 4:
+            return(jjbitVec7[i2]&l2)!=0L;
+            case 5:
+            return(jjbitVec8[i2]&l2)!=0L;
+            case 6:
+            return(jjbitVec9[i2]&l2)!=0L;
+            case 7:
+            return(jjbitVec10[i2]&l2)!=0L;
+            case 9:
+            return(jjbitVec11[i2]&l2)!=0L;
+            case 10:
+            return(jjbitVec12[i2]&l2)!=0L;
+            case 11:
+            return(jjbitVec13[i2]&l2)!=0L;
+            case 12:
+            return(jjbitVec14[i2]&l2)!=0L;
+            case 13:
+            return(jjbitVec15[i2]&l2)!=0L;
+            case 14:
+            return(jjbitVec16[i2]&l2)!=0L;
+            case 15:
+            return(jjbitVec17[i2]&l2)!=0L;
+            case 16:
+            return(jjbitVec18[i2]&l2)!=0L;
+            case 17:
+            return(jjbitVec19[i2]&l2)!=0L;
+            case 18:
+            return(jjbitVec20[i2]&l2)!=0L;
+            case 19:
+            return(jjbitVec21[i2]&l2)!=0L;
+            case 20:
+            return(jjbitVec22[i2]&l2)!=0L;
+            case 22:
+            return(jjbitVec23[i2]&l2)!=0L;
+            case 23:
+            return(jjbitVec24[i2]&l2)!=0L;
+            case 24:
+            return(jjbitVec25[i2]&l2)!=0L;
+            case 30:
+            return(jjbitVec26[i2]&l2)!=0L;
+            case 31:
+            return(jjbitVec27[i2]&l2)!=0L;
+            case 32:
+            return(jjbitVec28[i2]&l2)!=0L;
+            case 33:
+            return(jjbitVec29[i2]&l2)!=0L;
+            case 48:
+            return(jjbitVec30[i2]&l2)!=0L;
+            case 49:
+            return(jjbitVec31[i2]&l2)!=0L;
+            case 77:
+            return(jjbitVec32[i2]&l2)!=0L;
+            case 159:
+            return(jjbitVec33[i2]&l2)!=0L;
+            case 164:
+            return(jjbitVec34[i2]&l2)!=0L;
+            case 215:
+            return(jjbitVec35[i2]&l2)!=0L;
+            case 250:
+            return(jjbitVec36[i2]&l2)!=0L;
+            case 251:
+            return(jjbitVec37[i2]&l2)!=0L;
+            case 253:
+            return(jjbitVec38[i2]&l2)!=0L;
+            case 254:
+            return(jjbitVec39[i2]&l2)!=0L;
+            case 255:
+            return(jjbitVec40[i2]&l2)!=0L;
+            default:
+            if ((jjbitVec3[i1]&l1)!=0L) {
+                return(jjbitVec1[i2]&l2)!=0L;
+            }
+            return false;
+        }
+    }
+
+    private static boolean jjCanMove_2(int hiByte,int i1,int i2,long l1,long l2) {
+        switch(hiByte) {
+            case 0:
+            return(jjbitVec41[i2]&l2)!=0L;
+            case 2:
+            return(jjbitVec5[i2]&l2)!=0L;
+            case 3:
+            return(jjbitVec42[i2]&l2)!=0L;
+            case 4:
+            return(jjbitVec43[i2]&l2)!=0L;
+            case 5:
+            return(jjbitVec44[i2]&l2)!=0L;
+            case 6:
+            return(jjbitVec45[i2]&l2)!=0L;
+            case 7:
+            return(jjbitVec46[i2]&l2)!=0L;
+            case 9:
+            return(jjbitVec47[i2]&l2)!=0L;
+            case 10:
+            return(jjbitVec48[i2]&l2)!=0L;
+            case 11:
+            return(jjbitVec49[i2]&l2)!=0L;
+            case 12:
+            return(jjbitVec50[i2]&l2)!=0L;
+            case 13:
+            return(jjbitVec51[i2]&l2)!=0L;
+            case 14:
+            return(jjbitVec52[i2]&l2)!=0L;
+            case 15:
+            return(jjbitVec53[i2]&l2)!=0L;
+            case 16:
+            return(jjbitVec54[i2]&l2)!=0L;
+            case 17:
+            return(jjbitVec19[i2]&l2)!=0L;
+            case 18:
+            return(jjbitVec20[i2]&l2)!=0L;
+            case 19:
+            return(jjbitVec55[i2]&l2)!=0L;
+            case 20:
+            return(jjbitVec22[i2]&l2)!=0L;
+            case 22:
+            return(jjbitVec23[i2]&l2)!=0L;
+            case 23:
+            return(jjbitVec56[i2]&l2)!=0L;
+            case 24:
+            return(jjbitVec57[i2]&l2)!=0L;
+            case 30:
+            return(jjbitVec26[i2]&l2)!=0L;
+            case 31:
+            return(jjbitVec27[i2]&l2)!=0L;
+            case 32:
+            return(jjbitVec58[i2]&l2)!=0L;
+            case 33:
+            return(jjbitVec29[i2]&l2)!=0L;
+            case 48:
+            return(jjbitVec59[i2]&l2)!=0L;
+            case 49:
+            return(jjbitVec31[i2]&l2)!=0L;
+            case 77:
+            return(jjbitVec32[i2]&l2)!=0L;
+            case 159:
+            return(jjbitVec33[i2]&l2)!=0L;
+            case 164:
+            return(jjbitVec34[i2]&l2)!=0L;
+            case 215:
+            return(jjbitVec35[i2]&l2)!=0L;
+            case 250:
+            return(jjbitVec36[i2]&l2)!=0L;
+            case 251:
+            return(jjbitVec60[i2]&l2)!=0L;
+            case 253:
+            return(jjbitVec38[i2]&l2)!=0L;
+            case 254:
+            return(jjbitVec61[i2]&l2)!=0L;
+            case 255:
+            return(jjbitVec62[i2]&l2)!=0L;
+            default:
+            if ((jjbitVec3[i1]&l1)!=0L) {
+                return(jjbitVec1[i2]&l2)!=0L;
+            }
+            return false;
+        }
+    }
+
+    private int jjStopAtPos(int pos,int kind) {
+        jjmatchedKind=kind;
+        jjmatchedPos=pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        return pos+1;
+    }
+
+    static final long[] jjbitVec0={0xfffffffffffffffeL,0xffffffffffffffffL,0xffffffffffffffffL,0xffffffffffffffffL};
+    static final long[] jjbitVec1={0xffffffffffffffffL,0xffffffffffffffffL,0xffffffffffffffffL,0xffffffffffffffffL};
+    static final long[] jjbitVec2={0x0L,0x0L,0xffffffffffffffffL,0xffffffffffffffffL};
+    static final long[] jjbitVec3={0xfff0000000200002L,0xffffffffffffdfffL,0xfffff00f7fffffffL,0x12000000007fffffL};
+    static final long[] jjbitVec4={0x0L,0x0L,0x420043c00000000L,0xff7fffffff7fffffL};
+    static final long[] jjbitVec5={0xffffcffffffffL,0xffffffffffff0000L,0xf9ff3fffffffffffL,0x401f00030003L};
+    static final long[] jjbitVec6={0x0L,0x400000000000000L,0xfffffffbffffd740L,0xffffffcff7fffL};
+    static final long[] jjbitVec7={0xffffffffffffffffL,0xffffffffffffffffL,0xfffffffffffff003L,0x33fffffffff199fL};
+    static final long[] jjbitVec8={0xfffe000000000000L,0xfffffffe027fffffL,0xffL,0x707ffffff0000L};
+    static final long[] jjbitVec9={0x7fffffe00000000L,0xfffe0000000007ffL,0xffffffffffffffffL,0x1c000060002fffffL};
+    static final long[] jjbitVec10={0x1ffffffd0000L,0x0L,0x3fffffffffL,0x0L};
+    static final long[] jjbitVec11={0x23ffffffffffffe0L,0x3ff010000L,0x3c5fdfffff99fe0L,0xf0003b0000000L};
+    static final long[] jjbitVec12={0x36dfdfffff987e0L,0x1c00005e000000L,0x23edfdfffffbafe0L,0x100010000L};
+    static final long[] jjbitVec13={0x23cdfdfffff99fe0L,0x3b0000000L,0x3bfc718d63dc7e0L,0x0L};
+    static final long[] jjbitVec14={0x3effdfffffddfe0L,0x300000000L,0x3effdfffffddfe0L,0x340000000L};
+    static final long[] jjbitVec15={0x3fffdfffffddfe0L,0x300000000L,0x2ffbfffffc7fffe0L,0x7fL};
+    static final long[] jjbitVec16={0x800dfffffffffffeL,0x7fL,0x200decaefef02596L,0x3000005fL};
+    static final long[] jjbitVec17={0x1L,0x7fffffffeffL,0xf00L,0x0L};
+    static final long[] jjbitVec18={0x6fbffffffffL,0x3f0000L,0xffffffff00000000L,0x7fffffffff003fL};
+    static final long[] jjbitVec19={0xffffffffffffffffL,0xffffffff83ffffffL,0xffffff07ffffffffL,0x3ffffffffffffffL};
+    static final long[] jjbitVec20={0xffffffffffffff7fL,0xffffffff3d7f3d7fL,0x7f3d7fffffff3d7fL,0xffff7fffff7f7f3dL};
+    static final long[] jjbitVec21={0xffffffff7f3d7fffL,0x7ffff7fL,0xffffffff00000000L,0x1fffffffffffffL};
+    static final long[] jjbitVec22={0xfffffffffffffffeL,0xffffffffffffffffL,0xffffffffffffffffL,0xffffffffffffffffL};
+    static final long[] jjbitVec23={0xffffffffffffffffL,0x7f9fffffffffffL,0xffffffff07fffffeL,0x7ffffffffffL};
+    static final long[] jjbitVec24={0x0L,0x0L,0xfffffffffffffL,0x8000000L};
+    static final long[] jjbitVec25={0xffffffff00000000L,0xffffffffffffffL,0x1ffffffffffL,0x0L};
+    static final long[] jjbitVec26={0xffffffffffffffffL,0xffffffffffffffffL,0xffffffff0fffffffL,0x3ffffffffffffffL};
+    static final long[] jjbitVec27={0xffffffff3f3fffffL,0x3fffffffaaff3f3fL,0x5fdfffffffffffffL,0x1fdc1fff0fcf1fdcL};
+    static final long[] jjbitVec28={0x8000000000000000L,0x8000000000000001L,0xffff00000000L,0x0L};
+    static final long[] jjbitVec29={0x3fbbd503e2ffc84L,0xffffffff00000000L,0xfL,0x0L};
+    static final long[] jjbitVec30={0x73e03fe000000e0L,0xfffffffffffffffeL,0xfffffffe601fffffL,0x7fffffffffffffffL};
+    static final long[] jjbitVec31={0xfffe1fffffffffe0L,0xffffffffffffffffL,0xffffff00007fffL,0x0L};
+    static final long[] jjbitVec32={0xffffffffffffffffL,0xffffffffffffffffL,0x3fffffffffffffL,0x0L};
+    static final long[] jjbitVec33={0xffffffffffffffffL,0xffffffffffffffffL,0x3fffffffffL,0x0L};
+    static final long[] jjbitVec34={0xffffffffffffffffL,0xffffffffffffffffL,0x1fffL,0x0L};
+    static final long[] jjbitVec35={0xffffffffffffffffL,0xffffffffffffffffL,0xfffffffffL,0x0L};
+    static final long[] jjbitVec36={0x3fffffffffffL,0x0L,0x0L,0x0L};
+    static final long[] jjbitVec37={0x5f7ffdffa0f8007fL,0xffffffffffffffdbL,0x3ffffffffffffL,0xfffffffffff80000L};
+    static final long[] jjbitVec38={0x3fffffffffffffffL,0xffffffffffff0000L,0xfffffffffffcffffL,0xfff0000000000ffL};
+    static final long[] jjbitVec39={0x18000000000000L,0xffd702000000e000L,0xffffffffffffffffL,0x1fffffffffffffffL};
+    static final long[] jjbitVec40={0x87fffffe00000010L,0xffffffe007fffffeL,0x7fffffffffffffffL,0x631cfcfcfcL};
+    static final long[] jjbitVec41={0x0L,0x0L,0x420043cffffffffL,0xff7fffffff7fffffL};
+    static final long[] jjbitVec42={0xffffffffffffffffL,0x400000700007fffL,0xfffffffbffffd740L,0xffffffcff7fffL};
+    static final long[] jjbitVec43={0xffffffffffffffffL,0xffffffffffffffffL,0xfffffffffffff07bL,0x33fffffffff199fL};
+    static final long[] jjbitVec44={0xfffe000000000000L,0xfffffffe027fffffL,0xbbfffffbfffe00ffL,0x707ffffff0016L};
+    static final long[] jjbitVec45={0x7fffffe00000000L,0xffff03ff003fffffL,0xffffffffffffffffL,0x1fff3dff9fefffffL};
+    static final long[] jjbitVec46={0xffff1fffffff8000L,0x7ffL,0x1ffffffffffffL,0x0L};
+    static final long[] jjbitVec47={0xf3ffffffffffffeeL,0xffcfff1f3fffL,0xd3c5fdfffff99feeL,0xfffcfb080399fL};
+    static final long[] jjbitVec48={0xd36dfdfffff987e4L,0x1fffc05e003987L,0xf3edfdfffffbafeeL,0xffc100013bbfL};
+    static final long[] jjbitVec49={0xf3cdfdfffff99feeL,0xffc3b0c0398fL,0xc3bfc718d63dc7ecL,0xff8000803dc7L};
+    static final long[] jjbitVec50={0xc3effdfffffddfeeL,0xffc300603ddfL,0xc3effdfffffddfecL,0xffc340603ddfL};
+    static final long[] jjbitVec51={0xc3fffdfffffddfecL,0xffc300803dcfL,0x2ffbfffffc7fffecL,0xc0000ff5f847fL};
+    static final long[] jjbitVec52={0x87fffffffffffffeL,0x3ff7fffL,0x3bffecaefef02596L,0x33ff3f5fL};
+    static final long[] jjbitVec53={0xc2a003ff03000001L,0xfffe07fffffffeffL,0x1ffffffffeff0fdfL,0x40L};
+    static final long[] jjbitVec54={0x3c7f6fbffffffffL,0x3ff03ffL,0xffffffff00000000L,0x7fffffffff003fL};
+    static final long[] jjbitVec55={0xffffffff7f3d7fffL,0x3fe0007ffff7fL,0xffffffff00000000L,0x1fffffffffffffL};
+    static final long[] jjbitVec56={0x0L,0x0L,0xffffffffffffffffL,0x3ff080fffffL};
+    static final long[] jjbitVec57={0xffffffff03ff7800L,0xffffffffffffffL,0x3ffffffffffL,0x0L};
+    static final long[] jjbitVec58={0x80007c000000f000L,0x8000fc0000000001L,0xffff00000000L,0x21fff0000L};
+    static final long[] jjbitVec59={0x73efffe000000e0L,0xfffffffffffffffeL,0xfffffffe661fffffL,0x7fffffffffffffffL};
+    static final long[] jjbitVec60={0x5f7ffdffe0f8007fL,0xffffffffffffffdbL,0x3ffffffffffffL,0xfffffffffff80000L};
+    static final long[] jjbitVec61={0x18000f00000000L,0xffd702000000e000L,0xffffffffffffffffL,0x9fffffffffffffffL};
+    static final long[] jjbitVec62={0x87fffffe03ff0010L,0xffffffe007fffffeL,0x7fffffffffffffffL,0xe0000631cfcfcfcL};
+    private int jjStartNfa_TEMPLATE_TEXT(int pos,long active0) {
+        return jjMoveNfa_TEMPLATE_TEXT(jjStopStringLiteralDfa_TEMPLATE_TEXT(pos,active0),pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_TEMPLATE_TEXT(int pos,long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x400000000000000L)!=0L) {
+                jjmatchedKind=61;
+                return-1;
+            }
+            if ((active0&0x800000000000000L)!=0L) {
+                jjmatchedKind=62;
+                return 2;
+            }
+            return-1;
+            case 1:
+            if ((active0&0x400000000000000L)!=0L) {
+                if (jjmatchedPos==0) {
+                    jjmatchedKind=61;
+                    jjmatchedPos=0;
+                }
+                return-1;
+            }
+            if ((active0&0x800000000000000L)!=0L) return 2;
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_TEMPLATE_TEXT(int pos,int kind,int state) {
+        jjmatchedKind=kind;
+        jjmatchedPos=pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<TEMPLATE_TEXT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_TEMPLATE_TEXT(state,pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_TEMPLATE_TEXT() {
+        switch(curChar) {
+            case 35:
+            return jjMoveStringLiteralDfa1_TEMPLATE_TEXT(0x800000000000000L);
+            case 36:
+            return jjMoveStringLiteralDfa1_TEMPLATE_TEXT(0x400000000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_TEMPLATE_TEXT(1,0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_TEMPLATE_TEXT(long active0) {
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_TEMPLATE_TEXT(0,active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<TEMPLATE_TEXT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 123:
+            if ((active0&0x400000000000000L)!=0L) return jjStopAtPos(1,58);
+            else if ((active0&0x800000000000000L)!=0L) return jjStartNfaWithStates_TEMPLATE_TEXT(1,59,2);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_TEMPLATE_TEXT(0,active0);
+    }
+
+    private int jjMoveNfa_TEMPLATE_TEXT(int startState,int curPos) {
+        int startsAt=0;
+        jjnewStateCnt=37;
+        int i=1;
+        jjstateSet[0]=startState;
+        int kind=0x7fffffff;
+        while (true) {
+            if (++jjround==0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l=1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0xefffffeeffffd9ffL&l)!=0L) {
+                            if (kind>62) kind=62;
+                            jjCheckNAdd(2);
+                        }
+                        else if ((0x100002600L&l)!=0L) {
+                            if (kind>60) kind=60;
+                            jjCheckNAdd(0);
+                        }
+                        else if ((0x1000001000000000L&l)!=0L) {
+                            if (kind>61) kind=61;
+                        }
+                        if (curChar==60) jjAddStates(0,3);
+                        break;
+                        case 0:
+                        if ((0x100002600L&l)==0L) break;
+                        if (kind>60) kind=60;
+                        jjCheckNAdd(0);
+                        break;
+                        case 2:
+                        if ((0xefffffeeffffd9ffL&l)==0L) break;
+                        if (kind>62) kind=62;
+                        jjCheckNAdd(2);
+                        break;
+                        case 3:
+                        if (curChar==60) jjCheckNAddStates(0,3);
+                        break;
+                        case 4:
+                        if (curChar==35&&kind>56) kind=56;
+                        break;
+                        case 6:
+                        if (curChar==35) jjCheckNAddStates(4,6);
+                        break;
+                        case 7:
+                        if (curChar==36) jjCheckNAddStates(7,9);
+                        break;
+                        case 8:
+                        if ((0x3ff00100fffc1ffL&l)!=0L) jjCheckNAddStates(7,9);
+                        break;
+                        case 9:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(9,10);
+                        break;
+                        case 10:
+                        if (curChar==62&&kind>63) kind=63;
+                        break;
+                        case 11:
+                        if (curChar==47) jjstateSet[jjnewStateCnt++]=6;
+                        break;
+                        case 13:
+                        if (curChar==36) jjCheckNAddStates(10,13);
+                        break;
+                        case 14:
+                        if ((0x3ff00100fffc1ffL&l)!=0L) jjCheckNAddStates(10,13);
+                        break;
+                        case 15:
+                        if (curChar==46) jjstateSet[jjnewStateCnt++]=16;
+                        break;
+                        case 16:
+                        if (curChar==36) jjCheckNAddStates(14,17);
+                        break;
+                        case 17:
+                        if ((0x3ff00100fffc1ffL&l)!=0L) jjCheckNAddStates(14,17);
+                        break;
+                        case 18:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(18,19);
+                        break;
+                        case 19:
+                        if (curChar==62&&kind>64) kind=64;
+                        break;
+                        case 20:
+                        if (curChar==47) jjstateSet[jjnewStateCnt++]=12;
+                        break;
+                        case 22:
+                        if (curChar==35) jjCheckNAddStates(18,20);
+                        break;
+                        case 23:
+                        if (curChar==36) jjCheckNAddStates(21,23);
+                        break;
+                        case 24:
+                        if ((0x3ff00100fffc1ffL&l)!=0L) jjCheckNAddStates(21,23);
+                        break;
+                        case 25:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(25,26);
+                        break;
+                        case 27:
+                        if (curChar==47) jjstateSet[jjnewStateCnt++]=22;
+                        break;
+                        case 29:
+                        if (curChar==36) jjCheckNAddStates(24,27);
+                        break;
+                        case 30:
+                        if ((0x3ff00100fffc1ffL&l)!=0L) jjCheckNAddStates(24,27);
+                        break;
+                        case 31:
+                        if (curChar==46) jjstateSet[jjnewStateCnt++]=32;
+                        break;
+                        case 32:
+                        if (curChar==36) jjCheckNAddStates(28,31);
+                        break;
+                        case 33:
+                        if ((0x3ff00100fffc1ffL&l)!=0L) jjCheckNAddStates(28,31);
+                        break;
+                        case 34:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(34,35);
+                        break;
+                        case 36:
+                        if (curChar==47) jjstateSet[jjnewStateCnt++]=28;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        if ((0xfffffffff7ffffffL&l)!=0L) {
+                            if (kind>62) kind=62;
+                            jjCheckNAdd(2);
+                        }
+                        else if (curChar==91) jjAddStates(32,35);
+                        if (curChar==91) {
+                            if (kind>61) kind=61;
+                        }
+                        break;
+                        case 2:
+                        if ((0xfffffffff7ffffffL&l)==0L) break;
+                        if (kind>62) kind=62;
+                        jjCheckNAdd(2);
+                        break;
+                        case 5:
+                        if (curChar==64&&kind>57) kind=57;
+                        break;
+                        case 7:
+                        if ((0x7fffffe87ffffffL&l)!=0L) jjCheckNAddStates(7,9);
+                        break;
+                        case 8:
+                        if ((0x87fffffe87ffffffL&l)!=0L) jjCheckNAddStates(7,9);
+                        break;
+                        case 12:
+                        if (curChar==64) jjCheckNAddStates(36,38);
+                        break;
+                        case 13:
+                        if ((0x7fffffe87ffffffL&l)!=0L) jjCheckNAddStates(10,13);
+                        break;
+                        case 14:
+                        if ((0x87fffffe87ffffffL&l)!=0L) jjCheckNAddStates(10,13);
+                        break;
+                        case 16:
+                        if ((0x7fffffe87ffffffL&l)!=0L) jjCheckNAddStates(14,17);
+                        break;
+                        case 17:
+                        if ((0x87fffffe87ffffffL&l)!=0L) jjCheckNAddStates(14,17);
+                        break;
+                        case 21:
+                        if (curChar==91) jjCheckNAddStates(32,35);
+                        break;
+                        case 23:
+                        if ((0x7fffffe87ffffffL&l)!=0L) jjCheckNAddStates(21,23);
+                        break;
+                        case 24:
+                        if ((0x87fffffe87ffffffL&l)!=0L) jjCheckNAddStates(21,23);
+                        break;
+                        case 26:
+                        if (curChar==93&&kind>63) kind=63;
+                        break;
+                        case 28:
+                        if (curChar==64) jjCheckNAddStates(39,41);
+                        break;
+                        case 29:
+                        if ((0x7fffffe87ffffffL&l)!=0L) jjCheckNAddStates(24,27);
+                        break;
+                        case 30:
+                        if ((0x87fffffe87ffffffL&l)!=0L) jjCheckNAddStates(24,27);
+                        break;
+                        case 32:
+                        if ((0x7fffffe87ffffffL&l)!=0L) jjCheckNAddStates(28,31);
+                        break;
+                        case 33:
+                        if ((0x87fffffe87ffffffL&l)!=0L) jjCheckNAddStates(28,31);
+                        break;
+                        case 35:
+                        if (curChar==93&&kind>64) kind=64;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                int hiByte=(int)(curChar>>8);
+                int i1=hiByte>>6;
+                long l1=1L<<(hiByte&077);
+                int i2=(curChar&0xff)>>6;
+                long l2=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 1:
+                        case 2:
+                        if (!jjCanMove_0(hiByte,i1,i2,l1,l2)) break;
+                        if (kind>62) kind=62;
+                        jjCheckNAdd(2);
+                        break;
+                        case 7:
+                        if (jjCanMove_1(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(7,9);
+                        break;
+                        case 8:
+                        if (jjCanMove_2(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(7,9);
+                        break;
+                        case 13:
+                        if (jjCanMove_1(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(10,13);
+                        break;
+                        case 14:
+                        if (jjCanMove_2(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(10,13);
+                        break;
+                        case 16:
+                        if (jjCanMove_1(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(14,17);
+                        break;
+                        case 17:
+                        if (jjCanMove_2(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(14,17);
+                        break;
+                        case 23:
+                        if (jjCanMove_1(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(21,23);
+                        break;
+                        case 24:
+                        if (jjCanMove_2(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(21,23);
+                        break;
+                        case 29:
+                        if (jjCanMove_1(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(24,27);
+                        break;
+                        case 30:
+                        if (jjCanMove_2(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(24,27);
+                        break;
+                        case 32:
+                        if (jjCanMove_1(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(28,31);
+                        break;
+                        case 33:
+                        if (jjCanMove_2(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(28,31);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind=kind;
+                jjmatchedPos=curPos;
+                kind=0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i=jjnewStateCnt)==(startsAt=37-(jjnewStateCnt=startsAt))) return curPos;
+            int retval=input_stream.readChar();
+            if (retval>=0) {
+                curChar=(char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private int jjStartNfa_FTL_EXPRESSION(int pos,long active0) {
+        return jjMoveNfa_FTL_EXPRESSION(jjStopStringLiteralDfa_FTL_EXPRESSION(pos,active0),pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_FTL_EXPRESSION(int pos,long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0x80000L)!=0L) return 20;
+            if ((active0&0x1efc000000000L)!=0L) {
+                jjmatchedKind=51;
+                return 1;
+            }
+            return-1;
+            case 1:
+            if ((active0&0xfc000000000L)!=0L) return 1;
+            if ((active0&0x1e00000000000L)!=0L) {
+                if (jjmatchedPos!=1) {
+                    jjmatchedKind=51;
+                    jjmatchedPos=1;
+                }
+                return 1;
+            }
+            return-1;
+            case 2:
+            if ((active0&0xc0000000000L)!=0L) return 1;
+            if ((active0&0x1e00000000000L)!=0L) {
+                jjmatchedKind=51;
+                jjmatchedPos=2;
+                return 1;
+            }
+            return-1;
+            case 3:
+            if ((active0&0x600000000000L)!=0L) return 1;
+            if ((active0&0x1800000000000L)!=0L) {
+                jjmatchedKind=51;
+                jjmatchedPos=3;
+                return 1;
+            }
+            return-1;
+            case 4:
+            if ((active0&0x1800000000000L)!=0L) return 1;
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_FTL_EXPRESSION(int pos,int kind,int state) {
+        jjmatchedKind=kind;
+        jjmatchedPos=pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_FTL_EXPRESSION(state,pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_FTL_EXPRESSION() {
+        switch(curChar) {
+            case 33:
+            jjmatchedKind=28;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x80000000L);
+            case 37:
+            return jjStopAtPos(0,20);
+            case 38:
+            jjmatchedKind=22;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x1000000000L);
+            case 40:
+            return jjStopAtPos(0,8);
+            case 41:
+            return jjStopAtPos(0,9);
+            case 42:
+            return jjStopAtPos(0,18);
+            case 43:
+            return jjStopAtPos(0,16);
+            case 44:
+            return jjStopAtPos(0,25);
+            case 45:
+            return jjStopAtPos(0,17);
+            case 46:
+            jjmatchedKind=15;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x102000000000L);
+            case 47:
+            return jjStartNfaWithStates_FTL_EXPRESSION(0,19,20);
+            case 58:
+            return jjStopAtPos(0,26);
+            case 59:
+            return jjStopAtPos(0,27);
+            case 60:
+            jjmatchedKind=23;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x20000000cL);
+            case 61:
+            jjmatchedKind=14;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x40000000L);
+            case 62:
+            jjmatchedKind=24;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x400000000L);
+            case 63:
+            jjmatchedKind=29;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x100000000L);
+            case 91:
+            jjmatchedKind=10;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x10L);
+            case 93:
+            return jjStopAtPos(0,11);
+            case 97:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x10000000000L);
+            case 102:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x800000000000L);
+            case 103:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x44000000000L);
+            case 105:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x20000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x88000000000L);
+            case 110:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x200000000000L);
+            case 116:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x400000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x1000000000000L);
+            case 123:
+            return jjStopAtPos(0,12);
+            case 124:
+            jjmatchedKind=21;
+            return jjMoveStringLiteralDfa1_FTL_EXPRESSION(0x800000000L);
+            case 125:
+            return jjStopAtPos(0,13);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_FTL_EXPRESSION(0,0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_FTL_EXPRESSION(long active0) {
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(0,active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 33:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0x8L);
+            case 35:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0x14L);
+            case 38:
+            if ((active0&0x1000000000L)!=0L) return jjStopAtPos(1,36);
+            break;
+            case 46:
+            if ((active0&0x2000000000L)!=0L) {
+                jjmatchedKind=37;
+                jjmatchedPos=1;
+            }
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0x100000000000L);
+            case 61:
+            if ((active0&0x40000000L)!=0L) return jjStopAtPos(1,30);
+            else if ((active0&0x80000000L)!=0L) return jjStopAtPos(1,31);
+            else if ((active0&0x200000000L)!=0L) return jjStopAtPos(1,33);
+            else if ((active0&0x400000000L)!=0L) return jjStopAtPos(1,34);
+            break;
+            case 63:
+            if ((active0&0x100000000L)!=0L) return jjStopAtPos(1,32);
+            break;
+            case 97:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0x800000000000L);
+            case 110:
+            if ((active0&0x20000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(1,41,1);
+            break;
+            case 114:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0x400000000000L);
+            case 115:
+            if ((active0&0x10000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(1,40,1);
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0x1000000000000L);
+            case 116:
+            if ((active0&0x4000000000L)!=0L) {
+                jjmatchedKind=38;
+                jjmatchedPos=1;
+            }
+            else if ((active0&0x8000000000L)!=0L) {
+                jjmatchedKind=39;
+                jjmatchedPos=1;
+            }
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0xc0000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa2_FTL_EXPRESSION(active0,0x200000000000L);
+            case 124:
+            if ((active0&0x800000000L)!=0L) return jjStopAtPos(1,35);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(0,active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_FTL_EXPRESSION(long old0,long active0) {
+        active0=active0&old0;
+        if ((active0)==0L) return jjStartNfa_FTL_EXPRESSION(0,old0);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(1,active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 45:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0,0x1cL);
+            case 46:
+            if ((active0&0x100000000000L)!=0L) return jjStopAtPos(2,44);
+            break;
+            case 101:
+            if ((active0&0x40000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(2,42,1);
+            else if ((active0&0x80000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(2,43,1);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0,0x1000000000000L);
+            case 108:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0,0xa00000000000L);
+            case 117:
+            return jjMoveStringLiteralDfa3_FTL_EXPRESSION(active0,0x400000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(1,active0);
+    }
+
+    private int jjMoveStringLiteralDfa3_FTL_EXPRESSION(long old0,long active0) {
+        active0=active0&old0;
+        if ((active0)==0L) return jjStartNfa_FTL_EXPRESSION(1,old0);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(2,active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 45:
+            if ((active0&0x4L)!=0L) return jjStopAtPos(3,2);
+            else if ((active0&0x8L)!=0L) return jjStopAtPos(3,3);
+            else if ((active0&0x10L)!=0L) return jjStopAtPos(3,4);
+            break;
+            case 101:
+            if ((active0&0x400000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(3,46,1);
+            break;
+            case 108:
+            if ((active0&0x200000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(3,45,1);
+            break;
+            case 110:
+            return jjMoveStringLiteralDfa4_FTL_EXPRESSION(active0,0x1000000000000L);
+            case 115:
+            return jjMoveStringLiteralDfa4_FTL_EXPRESSION(active0,0x800000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(2,active0);
+    }
+
+    private int jjMoveStringLiteralDfa4_FTL_EXPRESSION(long old0,long active0) {
+        active0=active0&old0;
+        if ((active0)==0L) return jjStartNfa_FTL_EXPRESSION(2,old0);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_EXPRESSION(3,active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_EXPRESSION>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active0&0x800000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(4,47,1);
+            break;
+            case 103:
+            if ((active0&0x1000000000000L)!=0L) return jjStartNfaWithStates_FTL_EXPRESSION(4,48,1);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_EXPRESSION(3,active0);
+    }
+
+    private int jjMoveNfa_FTL_EXPRESSION(int startState,int curPos) {
+        int startsAt=0;
+        jjnewStateCnt=29;
+        int i=1;
+        jjstateSet[0]=startState;
+        int kind=0x7fffffff;
+        while (true) {
+            if (++jjround==0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l=1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x3ff000000000000L&l)!=0L) {
+                            if (kind>49) kind=49;
+                            jjAddStates(42,44);
+                        }
+                        else if ((0x100002600L&l)!=0L) {
+                            if (kind>1) kind=1;
+                            jjAddStates(45,47);
+                        }
+                        else if (curChar==47) jjstateSet[jjnewStateCnt++]=20;
+                        else if (curChar==39) jjCheckNAddStates(48,50);
+                        else if (curChar==34) jjCheckNAddStates(51,53);
+                        else if (curChar==36) {
+                            if (kind>51) kind=51;
+                            jjCheckNAdd(1);
+                        }
+                        break;
+                        case 1:
+                        if ((0x3ff00100fffc1ffL&l)==0L) break;
+                        if (kind>51) kind=51;
+                        jjCheckNAdd(1);
+                        break;
+                        case 2:
+                        if (curChar==34) jjCheckNAddStates(51,53);
+                        break;
+                        case 4:
+                        jjCheckNAddStates(51,53);
+                        break;
+                        case 5:
+                        if ((0xfffffffbffffffffL&l)!=0L) jjCheckNAddStates(51,53);
+                        break;
+                        case 6:
+                        if (curChar==34&&kind>54) kind=54;
+                        break;
+                        case 7:
+                        if (curChar==39) jjCheckNAddStates(48,50);
+                        break;
+                        case 9:
+                        jjCheckNAddStates(48,50);
+                        break;
+                        case 10:
+                        if ((0xffffff7fffffffffL&l)!=0L) jjCheckNAddStates(48,50);
+                        break;
+                        case 11:
+                        if (curChar==39&&kind>54) kind=54;
+                        break;
+                        case 13:
+                        if (curChar==34) jjCheckNAddTwoStates(14,15);
+                        break;
+                        case 14:
+                        if ((0xfffffffbffffffffL&l)!=0L) jjCheckNAddTwoStates(14,15);
+                        break;
+                        case 15:
+                        if (curChar==34&&kind>55) kind=55;
+                        break;
+                        case 16:
+                        if (curChar==39) jjCheckNAddTwoStates(17,18);
+                        break;
+                        case 17:
+                        if ((0xffffff7fffffffffL&l)!=0L) jjCheckNAddTwoStates(17,18);
+                        break;
+                        case 18:
+                        if (curChar==39&&kind>55) kind=55;
+                        break;
+                        case 19:
+                        if (curChar==47) jjCheckNAdd(20);
+                        break;
+                        case 20:
+                        if (curChar==62&&kind>114) kind=114;
+                        break;
+                        case 21:
+                        if ((0x100002600L&l)==0L) break;
+                        if (kind>1) kind=1;
+                        jjCheckNAddStates(45,47);
+                        break;
+                        case 22:
+                        if ((0x100002600L&l)==0L) break;
+                        if (kind>1) kind=1;
+                        jjCheckNAdd(22);
+                        break;
+                        case 23:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(23,19);
+                        break;
+                        case 24:
+                        if ((0x3ff000000000000L&l)==0L) break;
+                        if (kind>49) kind=49;
+                        jjCheckNAddStates(42,44);
+                        break;
+                        case 25:
+                        if ((0x3ff000000000000L&l)==0L) break;
+                        if (kind>49) kind=49;
+                        jjCheckNAdd(25);
+                        break;
+                        case 26:
+                        if ((0x3ff000000000000L&l)!=0L) jjCheckNAddTwoStates(26,27);
+                        break;
+                        case 27:
+                        if (curChar==46) jjstateSet[jjnewStateCnt++]=28;
+                        break;
+                        case 28:
+                        if ((0x3ff000000000000L&l)==0L) break;
+                        if (kind>50) kind=50;
+                        jjCheckNAdd(28);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if ((0x7fffffe87ffffffL&l)!=0L) {
+                            if (kind>51) kind=51;
+                            jjCheckNAdd(1);
+                        }
+                        if (curChar==114) jjAddStates(54,55);
+                        break;
+                        case 1:
+                        if ((0x87fffffe87ffffffL&l)==0L) break;
+                        if (kind>51) kind=51;
+                        jjCheckNAdd(1);
+                        break;
+                        case 3:
+                        if (curChar==92) jjstateSet[jjnewStateCnt++]=4;
+                        break;
+                        case 4:
+                        jjCheckNAddStates(51,53);
+                        break;
+                        case 5:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(51,53);
+                        break;
+                        case 8:
+                        if (curChar==92) jjstateSet[jjnewStateCnt++]=9;
+                        break;
+                        case 9:
+                        jjCheckNAddStates(48,50);
+                        break;
+                        case 10:
+                        if ((0xffffffffefffffffL&l)!=0L) jjCheckNAddStates(48,50);
+                        break;
+                        case 12:
+                        if (curChar==114) jjCheckNAddTwoStates(13,16);
+                        break;
+                        case 14:
+                        jjCheckNAddTwoStates(14,15);
+                        break;
+                        case 17:
+                        jjCheckNAddTwoStates(17,18);
+                        break;
+                        case 20:
+                        if (curChar==93&&kind>114) kind=114;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                int hiByte=(int)(curChar>>8);
+                int i1=hiByte>>6;
+                long l1=1L<<(hiByte&077);
+                int i2=(curChar&0xff)>>6;
+                long l2=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if (!jjCanMove_1(hiByte,i1,i2,l1,l2)) break;
+                        if (kind>51) kind=51;
+                        jjCheckNAdd(1);
+                        break;
+                        case 1:
+                        if (!jjCanMove_2(hiByte,i1,i2,l1,l2)) break;
+                        if (kind>51) kind=51;
+                        jjCheckNAdd(1);
+                        break;
+                        case 4:
+                        case 5:
+                        if (jjCanMove_0(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(51,53);
+                        break;
+                        case 9:
+                        case 10:
+                        if (jjCanMove_0(hiByte,i1,i2,l1,l2)) jjCheckNAddStates(48,50);
+                        break;
+                        case 14:
+                        if (jjCanMove_0(hiByte,i1,i2,l1,l2)) jjCheckNAddTwoStates(14,15);
+                        break;
+                        case 17:
+                        if (jjCanMove_0(hiByte,i1,i2,l1,l2)) jjCheckNAddTwoStates(17,18);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind=kind;
+                jjmatchedPos=curPos;
+                kind=0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i=jjnewStateCnt)==(startsAt=29-(jjnewStateCnt=startsAt))) return curPos;
+            int retval=input_stream.readChar();
+            if (retval>=0) {
+                curChar=(char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private int jjStartNfa_EXPRESSION_COMMENT(int pos,long active0) {
+        return jjMoveNfa_EXPRESSION_COMMENT(jjStopStringLiteralDfa_EXPRESSION_COMMENT(pos,active0),pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_EXPRESSION_COMMENT(int pos,long active0) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            case 0:
+            if ((active0&0xc0L)!=0L) {
+                jjmatchedKind=5;
+                return-1;
+            }
+            return-1;
+            case 1:
+            if ((active0&0xc0L)!=0L) {
+                if (jjmatchedPos==0) {
+                    jjmatchedKind=5;
+                    jjmatchedPos=0;
+                }
+                return-1;
+            }
+            return-1;
+            case 2:
+            if ((active0&0xc0L)!=0L) {
+                if (jjmatchedPos==0) {
+                    jjmatchedKind=5;
+                    jjmatchedPos=0;
+                }
+                return-1;
+            }
+            return-1;
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_EXPRESSION_COMMENT(int pos,int kind,int state) {
+        jjmatchedKind=kind;
+        jjmatchedPos=pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<EXPRESSION_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_EXPRESSION_COMMENT(state,pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_EXPRESSION_COMMENT() {
+        switch(curChar) {
+            case 45:
+            return jjMoveStringLiteralDfa1_EXPRESSION_COMMENT(0xc0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_EXPRESSION_COMMENT(0,0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_EXPRESSION_COMMENT(long active0) {
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_EXPRESSION_COMMENT(0,active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<EXPRESSION_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 45:
+            return jjMoveStringLiteralDfa2_EXPRESSION_COMMENT(active0,0xc0L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_EXPRESSION_COMMENT(0,active0);
+    }
+
+    private int jjMoveStringLiteralDfa2_EXPRESSION_COMMENT(long old0,long active0) {
+        active0=active0&old0;
+        if ((active0)==0L) return jjStartNfa_EXPRESSION_COMMENT(0,old0);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_EXPRESSION_COMMENT(1,active0);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<EXPRESSION_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 62:
+            if ((active0&0x40L)!=0L) return jjStopAtPos(2,6);
+            break;
+            case 93:
+            if ((active0&0x80L)!=0L) return jjStopAtPos(2,7);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_EXPRESSION_COMMENT(1,active0);
+    }
+
+    private int jjMoveNfa_EXPRESSION_COMMENT(int startState,int curPos) {
+        int startsAt=0;
+        jjnewStateCnt=1;
+        int i=1;
+        jjstateSet[0]=startState;
+        int kind=0x7fffffff;
+        while (true) {
+            if (++jjround==0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l=1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind=5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        kind=5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                int hiByte=(int)(curChar>>8);
+                int i1=hiByte>>6;
+                long l1=1L<<(hiByte&077);
+                int i2=(curChar&0xff)>>6;
+                long l2=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if (jjCanMove_0(hiByte,i1,i2,l1,l2)&&kind>5) kind=5;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind=kind;
+                jjmatchedPos=curPos;
+                kind=0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i=jjnewStateCnt)==(startsAt=1-(jjnewStateCnt=startsAt))) return curPos;
+            int retval=input_stream.readChar();
+            if (retval>=0) {
+                curChar=(char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private int jjStartNfa_FTL_DIRECTIVE(int pos,long active0,long active1) {
+        return jjMoveNfa_FTL_DIRECTIVE(jjStopStringLiteralDfa_FTL_DIRECTIVE(pos,active0,active1),pos+1);
+    }
+
+    private final int jjStopStringLiteralDfa_FTL_DIRECTIVE(int pos,long active0,long active1) {
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch(pos) {
+            default:
+            return-1;
+        }
+    }
+
+    private int jjStartNfaWithStates_FTL_DIRECTIVE(int pos,int kind,int state) {
+        jjmatchedKind=kind;
+        jjmatchedPos=pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_FTL_DIRECTIVE(state,pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_FTL_DIRECTIVE() {
+        switch(curChar) {
+            case 45:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x40L);
+            case 97:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x10040000000L);
+            case 98:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x200000L);
+            case 99:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x80000020000L);
+            case 100:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x8000000L);
+            case 101:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x180408000L);
+            case 102:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x20c00100800L);
+            case 103:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x20000000L);
+            case 105:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x8004000400L);
+            case 108:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x200000084080L);
+            case 109:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x40000L);
+            case 110:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x805000800200L);
+            case 114:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x440210000100L);
+            case 115:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x2002011000L);
+            case 116:
+            jjmatchedKind=69;
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x100000000000L);
+            case 118:
+            return jjMoveStringLiteralDfa1_FTL_DIRECTIVE(0x1002000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa_FTL_DIRECTIVE(3,0);
+        }
+    }
+
+    private int jjMoveStringLiteralDfa1_FTL_DIRECTIVE(long active1) {
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_DIRECTIVE(0,0L,active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 45:
+            if ((active1&0x40L)!=0L) return jjStopAtPos(1,70);
+            break;
+            case 95:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x100000000000L);
+            case 97:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x800062000L);
+            case 101:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x42218801000L);
+            case 102:
+            if ((active1&0x400L)!=0L) return jjStopAtPos(1,74);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x1004000L);
+            case 108:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0xa0108000L);
+            case 109:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x4400000L);
+            case 110:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x8000000000L);
+            case 111:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0xa5000080000L);
+            case 114:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x200000L);
+            case 115:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x140000000L);
+            case 116:
+            if ((active1&0x80L)!=0L) {
+                jjmatchedKind=71;
+                jjmatchedPos=1;
+            }
+            else if ((active1&0x100L)!=0L) {
+                jjmatchedKind=72;
+                jjmatchedPos=1;
+            }
+            else if ((active1&0x200L)!=0L) {
+                jjmatchedKind=73;
+                jjmatchedPos=1;
+            }
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0xe10000010800L);
+            case 117:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x400000000L);
+            case 119:
+            return jjMoveStringLiteralDfa2_FTL_DIRECTIVE(active1,0x2000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_DIRECTIVE(0,0L,active1);
+    }
+
+    private int jjMoveStringLiteralDfa2_FTL_DIRECTIVE(long old1,long active1) {
+        active1=active1&old1;
+        if ((active1)==0L) return jjStartNfa_FTL_DIRECTIVE(0,0L,old1);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_DIRECTIVE(1,0L,active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 2;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 95:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0xe00000000000L);
+            case 98:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x400000L);
+            case 99:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x483000c0000L);
+            case 101:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x1000200000L);
+            case 102:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x8000000L);
+            case 105:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x2000000L);
+            case 108:
+            if ((active1&0x800L)!=0L) return jjStopAtPos(2,75);
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x100800000000L);
+            case 109:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x80000000000L);
+            case 110:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x400000000L);
+            case 111:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x20010000L);
+            case 112:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x4004000000L);
+            case 114:
+            if ((active1&0x2000L)!=0L) return jjStopAtPos(2,77);
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x20000000000L);
+            case 115:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0xc182c000L);
+            case 116:
+            if ((active1&0x1000L)!=0L) {
+                jjmatchedKind=76;
+                jjmatchedPos=2;
+            }
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x12010000000L);
+            case 117:
+            return jjMoveStringLiteralDfa3_FTL_DIRECTIVE(active1,0x100000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_DIRECTIVE(1,0L,active1);
+    }
+
+    private int jjMoveStringLiteralDfa3_FTL_DIRECTIVE(long old1,long active1) {
+        active1=active1&old1;
+        if ((active1)==0L) return jjStartNfa_FTL_DIRECTIVE(1,0L,old1);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_DIRECTIVE(2,0L,active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 3;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x4108280000L);
+            case 98:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x20000000L);
+            case 99:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x400000000L);
+            case 101:
+            if ((active1&0x8000L)!=0L) {
+                jjmatchedKind=79;
+                jjmatchedPos=3;
+            }
+            else if ((active1&0x20000L)!=0L) return jjStopAtPos(3,81);
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x30080400000L);
+            case 105:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x100041000000L);
+            case 108:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0xe08800000000L);
+            case 111:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x40004000000L);
+            case 112:
+            if ((active1&0x10000L)!=0L) return jjStopAtPos(3,80);
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x80000000000L);
+            case 114:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x40000L);
+            case 115:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x1000100000L);
+            case 116:
+            if ((active1&0x4000L)!=0L) return jjStopAtPos(3,78);
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x2002800000L);
+            case 117:
+            return jjMoveStringLiteralDfa4_FTL_DIRECTIVE(active1,0x210000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_DIRECTIVE(2,0L,active1);
+    }
+
+    private int jjMoveStringLiteralDfa4_FTL_DIRECTIVE(long old1,long active1) {
+        active1=active1&old1;
+        if ((active1)==0L) return jjStartNfa_FTL_DIRECTIVE(2,0L,old1);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_DIRECTIVE(3,0L,active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 4;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x20020000000L);
+            case 98:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x800000000L);
+            case 99:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x1002000000L);
+            case 100:
+            if ((active1&0x400000L)!=0L) return jjStopAtPos(4,86);
+            break;
+            case 101:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x800000L);
+            case 103:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x40000000L);
+            case 104:
+            if ((active1&0x100000L)!=0L) return jjStopAtPos(4,84);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0xe02080000000L);
+            case 107:
+            if ((active1&0x200000L)!=0L) return jjStopAtPos(4,85);
+            break;
+            case 108:
+            if ((active1&0x80000L)!=0L) return jjStopAtPos(4,83);
+            break;
+            case 109:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x10000000000L);
+            case 110:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x100000000000L);
+            case 111:
+            if ((active1&0x40000L)!=0L) return jjStopAtPos(4,82);
+            break;
+            case 112:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x100000000L);
+            case 114:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x84214000000L);
+            case 116:
+            if ((active1&0x1000000L)!=0L) return jjStopAtPos(4,88);
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x400000000L);
+            case 117:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x8008000000L);
+            case 118:
+            return jjMoveStringLiteralDfa5_FTL_DIRECTIVE(active1,0x40000000000L);
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_DIRECTIVE(3,0L,active1);
+    }
+
+    private int jjMoveStringLiteralDfa5_FTL_DIRECTIVE(long old1,long active1) {
+        active1=active1&old1;
+        if ((active1)==0L) return jjStartNfa_FTL_DIRECTIVE(3,0L,old1);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_DIRECTIVE(4,0L,active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 5;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 97:
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x1800000000L);
+            case 99:
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x20000000000L);
+            case 100:
+            if ((active1&0x800000L)!=0L) return jjStopAtPos(5,87);
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x8000000000L);
+            case 101:
+            if ((active1&0x100000000L)!=0L) return jjStopAtPos(5,96);
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x1c0000000000L);
+            case 102:
+            if ((active1&0x80000000L)!=0L) return jjStopAtPos(5,95);
+            break;
+            case 104:
+            if ((active1&0x2000000L)!=0L) return jjStopAtPos(5,89);
+            break;
+            case 105:
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x400000000L);
+            case 108:
+            if ((active1&0x20000000L)!=0L) return jjStopAtPos(5,93);
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x8000000L);
+            case 110:
+            if ((active1&0x10000000L)!=0L) return jjStopAtPos(5,92);
+            else if ((active1&0x40000000L)!=0L) return jjStopAtPos(5,94);
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0xe02000000000L);
+            case 112:
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x10000000000L);
+            case 115:
+            return jjMoveStringLiteralDfa6_FTL_DIRECTIVE(active1,0x4200000000L);
+            case 116:
+            if ((active1&0x4000000L)!=0L) return jjStopAtPos(5,90);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_DIRECTIVE(4,0L,active1);
+    }
+
+    private int jjMoveStringLiteralDfa6_FTL_DIRECTIVE(long old1,long active1) {
+        active1=active1&old1;
+        if ((active1)==0L) return jjStartNfa_FTL_DIRECTIVE(4,0L,old1);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_DIRECTIVE(5,0L,active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 6;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 99:
+            return jjMoveStringLiteralDfa7_FTL_DIRECTIVE(active1,0x800000000L);
+            case 101:
+            if ((active1&0x200000000L)!=0L) return jjStopAtPos(6,97);
+            else if ((active1&0x4000000000L)!=0L) return jjStopAtPos(6,102);
+            else if ((active1&0x8000000000L)!=0L) return jjStopAtPos(6,103);
+            return jjMoveStringLiteralDfa7_FTL_DIRECTIVE(active1,0xe00000000000L);
+            case 103:
+            if ((active1&0x2000000000L)!=0L) return jjStopAtPos(6,101);
+            break;
+            case 104:
+            if ((active1&0x20000000000L)!=0L) return jjStopAtPos(6,105);
+            break;
+            case 111:
+            return jjMoveStringLiteralDfa7_FTL_DIRECTIVE(active1,0x400000000L);
+            case 112:
+            return jjMoveStringLiteralDfa7_FTL_DIRECTIVE(active1,0x1000000000L);
+            case 114:
+            if ((active1&0x40000000000L)!=0L) return jjStopAtPos(6,106);
+            break;
+            case 115:
+            if ((active1&0x100000000000L)!=0L) return jjStopAtPos(6,108);
+            return jjMoveStringLiteralDfa7_FTL_DIRECTIVE(active1,0x80000000000L);
+            case 116:
+            if ((active1&0x8000000L)!=0L) return jjStopAtPos(6,91);
+            else if ((active1&0x10000000000L)!=0L) return jjStopAtPos(6,104);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_DIRECTIVE(5,0L,active1);
+    }
+
+    private int jjMoveStringLiteralDfa7_FTL_DIRECTIVE(long old1,long active1) {
+        active1=active1&old1;
+        if ((active1)==0L) return jjStartNfa_FTL_DIRECTIVE(5,0L,old1);
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            jjStopStringLiteralDfa_FTL_DIRECTIVE(6,0L,active1);
+            if (trace_enabled&&jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                LOGGER.info("    Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token. ");
+            }
+            return 7;
+        }
+        if (trace_enabled) LOGGER.info(""+"<FTL_DIRECTIVE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        switch(curChar) {
+            case 101:
+            if ((active1&0x1000000000L)!=0L) return jjStopAtPos(7,100);
+            break;
+            case 107:
+            if ((active1&0x800000000L)!=0L) return jjStopAtPos(7,99);
+            break;
+            case 110:
+            if ((active1&0x400000000L)!=0L) return jjStopAtPos(7,98);
+            break;
+            case 115:
+            if ((active1&0x80000000000L)!=0L) return jjStopAtPos(7,107);
+            else if ((active1&0x200000000000L)!=0L) return jjStopAtPos(7,109);
+            else if ((active1&0x400000000000L)!=0L) return jjStopAtPos(7,110);
+            else if ((active1&0x800000000000L)!=0L) return jjStopAtPos(7,111);
+            break;
+            default:
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            break;
+        }
+        return jjStartNfa_FTL_DIRECTIVE(6,0L,active1);
+    }
+
+    private int jjMoveNfa_FTL_DIRECTIVE(int startState,int curPos) {
+        int startsAt=0;
+        jjnewStateCnt=6;
+        int i=1;
+        jjstateSet[0]=startState;
+        int kind=0x7fffffff;
+        while (true) {
+            if (++jjround==0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l=1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 3:
+                        if ((0x100002600L&l)!=0L) {
+                            if (kind>112) kind=112;
+                            jjAddStates(56,59);
+                        }
+                        else if (curChar==47) jjstateSet[jjnewStateCnt++]=2;
+                        else if (curChar==62) {
+                            if (kind>113) kind=113;
+                        }
+                        break;
+                        case 0:
+                        if (curChar==62&&kind>113) kind=113;
+                        break;
+                        case 1:
+                        if (curChar==47) jjCheckNAdd(2);
+                        break;
+                        case 2:
+                        if (curChar==62&&kind>114) kind=114;
+                        break;
+                        case 4:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(4,0);
+                        break;
+                        case 5:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(5,1);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 3:
+                        case 0:
+                        if (curChar==93&&kind>113) kind=113;
+                        break;
+                        case 2:
+                        if (curChar==93&&kind>114) kind=114;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                int hiByte=(int)(curChar>>8);
+                int i1=hiByte>>6;
+                long l1=1L<<(hiByte&077);
+                int i2=(curChar&0xff)>>6;
+                long l2=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind=kind;
+                jjmatchedPos=curPos;
+                kind=0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i=jjnewStateCnt)==(startsAt=6-(jjnewStateCnt=startsAt))) return curPos;
+            int retval=input_stream.readChar();
+            if (retval>=0) {
+                curChar=(char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private int jjStartNfaWithStates_IN_COMMENT(int pos,int kind,int state) {
+        jjmatchedKind=kind;
+        jjmatchedPos=pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<IN_COMMENT>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_IN_COMMENT(state,pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_IN_COMMENT() {
+        return jjMoveNfa_IN_COMMENT(0,0);
+    }
+
+    private int jjMoveNfa_IN_COMMENT(int startState,int curPos) {
+        int startsAt=0;
+        jjnewStateCnt=6;
+        int i=1;
+        jjstateSet[0]=startState;
+        int kind=0x7fffffff;
+        while (true) {
+            if (++jjround==0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l=1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                         {
+                            if (kind>115) kind=115;
+                        }
+                        if (curChar==45) jjAddStates(60,61);
+                        break;
+                        case 1:
+                        if (curChar==45) jjCheckNAddTwoStates(3,5);
+                        break;
+                        case 2:
+                        if (curChar==62&&kind>116) kind=116;
+                        break;
+                        case 3:
+                        if (curChar==45) jjstateSet[jjnewStateCnt++]=2;
+                        break;
+                        case 5:
+                        if (curChar==45) jjstateSet[jjnewStateCnt++]=4;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if (kind>115) kind=115;
+                        break;
+                        case 4:
+                        if (curChar==93&&kind>116) kind=116;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                int hiByte=(int)(curChar>>8);
+                int i1=hiByte>>6;
+                long l1=1L<<(hiByte&077);
+                int i2=(curChar&0xff)>>6;
+                long l2=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if (jjCanMove_0(hiByte,i1,i2,l1,l2)&&kind>115) kind=115;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind=kind;
+                jjmatchedPos=curPos;
+                kind=0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i=jjnewStateCnt)==(startsAt=6-(jjnewStateCnt=startsAt))) return curPos;
+            int retval=input_stream.readChar();
+            if (retval>=0) {
+                curChar=(char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    private int jjStartNfaWithStates_NO_PARSE(int pos,int kind,int state) {
+        jjmatchedKind=kind;
+        jjmatchedPos=pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+        int retval=input_stream.readChar();
+        if (retval>=0) {
+            curChar=(char) retval;
+        }
+        else {
+            return pos+1;
+        }
+        if (trace_enabled) LOGGER.info(""+"<NO_PARSE>"+"Current character : "+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        return jjMoveNfa_NO_PARSE(state,pos+1);
+    }
+
+    private int jjMoveStringLiteralDfa0_NO_PARSE() {
+        return jjMoveNfa_NO_PARSE(0,0);
+    }
+
+    private int jjMoveNfa_NO_PARSE(int startState,int curPos) {
+        int startsAt=0;
+        jjnewStateCnt=25;
+        int i=1;
+        jjstateSet[0]=startState;
+        int kind=0x7fffffff;
+        while (true) {
+            if (++jjround==0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar<64) {
+                long l=1L<<curChar;
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                         {
+                            if (kind>117) kind=117;
+                        }
+                        if (curChar==60) jjstateSet[jjnewStateCnt++]=11;
+                        break;
+                        case 2:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(2,3);
+                        break;
+                        case 3:
+                        if (curChar==62&&kind>118) kind=118;
+                        break;
+                        case 10:
+                        if (curChar==35) jjstateSet[jjnewStateCnt++]=9;
+                        break;
+                        case 11:
+                        if (curChar==47) jjstateSet[jjnewStateCnt++]=10;
+                        break;
+                        case 12:
+                        if (curChar==60) jjCheckNAdd(11);
+                        break;
+                        case 14:
+                        if ((0x100002600L&l)!=0L) jjCheckNAddTwoStates(14,15);
+                        break;
+                        case 22:
+                        if (curChar==35) jjstateSet[jjnewStateCnt++]=21;
+                        break;
+                        case 23:
+                        if (curChar==47) jjstateSet[jjnewStateCnt++]=22;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else if (curChar<128) {
+                long l=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                         {
+                            if (kind>117) kind=117;
+                        }
+                        if (curChar==91) jjstateSet[jjnewStateCnt++]=23;
+                        break;
+                        case 1:
+                        if (curChar==101) jjAddStates(62,63);
+                        break;
+                        case 4:
+                        if (curChar==115) jjstateSet[jjnewStateCnt++]=1;
+                        break;
+                        case 5:
+                        if (curChar==114) jjstateSet[jjnewStateCnt++]=4;
+                        break;
+                        case 6:
+                        if (curChar==97) jjstateSet[jjnewStateCnt++]=5;
+                        break;
+                        case 7:
+                        if (curChar==112) jjstateSet[jjnewStateCnt++]=6;
+                        break;
+                        case 8:
+                        if (curChar==111) jjstateSet[jjnewStateCnt++]=7;
+                        break;
+                        case 9:
+                        if (curChar==110) jjstateSet[jjnewStateCnt++]=8;
+                        break;
+                        case 13:
+                        if (curChar==101) jjAddStates(64,65);
+                        break;
+                        case 15:
+                        if (curChar==93&&kind>118) kind=118;
+                        break;
+                        case 16:
+                        if (curChar==115) jjstateSet[jjnewStateCnt++]=13;
+                        break;
+                        case 17:
+                        if (curChar==114) jjstateSet[jjnewStateCnt++]=16;
+                        break;
+                        case 18:
+                        if (curChar==97) jjstateSet[jjnewStateCnt++]=17;
+                        break;
+                        case 19:
+                        if (curChar==112) jjstateSet[jjnewStateCnt++]=18;
+                        break;
+                        case 20:
+                        if (curChar==111) jjstateSet[jjnewStateCnt++]=19;
+                        break;
+                        case 21:
+                        if (curChar==110) jjstateSet[jjnewStateCnt++]=20;
+                        break;
+                        case 24:
+                        if (curChar==91) jjCheckNAdd(23);
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            else {
+                int hiByte=(int)(curChar>>8);
+                int i1=hiByte>>6;
+                long l1=1L<<(hiByte&077);
+                int i2=(curChar&0xff)>>6;
+                long l2=1L<<(curChar&077);
+                do {
+                    switch(jjstateSet[--i]) {
+                        case 0:
+                        if (jjCanMove_0(hiByte,i1,i2,l1,l2)&&kind>117) kind=117;
+                        break;
+                        default:
+                        break;
+                    }
+                }
+                while (i!=startsAt);
+            }
+            if (kind!=0x7fffffff) {
+                jjmatchedKind=kind;
+                jjmatchedPos=curPos;
+                kind=0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind!=0&&jjmatchedKind!=0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first "+(jjmatchedPos+1)+" characters as a "+tokenImage[jjmatchedKind]+" token.");
+            }
+            if ((i=jjnewStateCnt)==(startsAt=25-(jjnewStateCnt=startsAt))) return curPos;
+            int retval=input_stream.readChar();
+            if (retval>=0) {
+                curChar=(char) retval;
+            }
+            else {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info(""+"<"+lexicalState+">"+ParseException.addEscapes(String.valueOf(curChar))+" ("+(int) curChar+") "+"at line "+input_stream.getEndLine()+" column "+input_stream.getEndColumn());
+        }
+    }
+
+    static final int[] jjnextStates={4,5,11,20,7,9,10,8,9,10,14,15,18,19,15,17,18,19,23,25,26,24,25,26,30,31,34,35,31,33,34,35,4,5,27,36,13,18,19,29,34,35,25,26,27,22,23,19,8,10,11,3,5,6,13,16,4,0,5,1,3,5,2,3,14,15};
+    private int tabSize=8;
+    /**
+     * sets the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public void setTabSize(int tabSize) {
+        this.tabSize=tabSize;
+    }
+
+    /**
+     * returns the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public int getTabSize() {
+        return tabSize;
+    }
+
+}
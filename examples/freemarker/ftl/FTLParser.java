@@ -0,0 +1,5989 @@
+/* Generated by: JavaCC 21 Parser Generator. FTLParser.java */
+package ftl;
+
+import ftl.ast.*;
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class FTLParser implements FTLConstants {
+    static final boolean DUMPTREE=false;
+    static public void main(String[] args) throws Exception {
+        if (args.length==0) {
+            usage();
+            System.exit(-1);
+        }
+        java.util.List<File>files=new java.util.ArrayList<File>();
+        for (String arg : args) {
+            File file=new File(arg);
+            if (file.isDirectory()) {
+                for (File f : file.listFiles()) {
+                    if (f.getName().endsWith(".ftl")) {
+                        files.add(f);
+                    }
+                }
+            }
+            else {
+                files.add(file);
+            }
+        }
+        for (File f : files) {
+            checkFTLFile(f,false);
+        }
+    }
+
+    static public void checkFTLFile(File inputFile,boolean dumpTree) {
+        FTLParser parser=null;
+        try {
+            FileReader reader=new FileReader(inputFile);
+            parser=new FTLParser(reader);
+            parser.setInputSource(inputFile.toString());
+            parser.Root();
+        }
+        catch(Exception e) {
+            System.err.println("Error parsing "+inputFile);
+            e.printStackTrace();
+            return;
+        }
+        System.err.println("File "+inputFile+" parsed successfully.");
+        if (dumpTree) {
+            Nodes.dump(parser.rootNode(),"---");
+        }
+    }
+
+    static public void usage() {
+        System.err.println("Usage: java ftl.FTLParser <filenames>");
+    }
+
+    static final java.util.logging.Logger LOGGER=Logger.getLogger("FTLParser");
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing=false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    /** Generated Lexer. */
+    public FTLLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    private boolean buildTree=true;
+    private boolean tokensAreNodes=true;
+    private boolean specialTokensAreNodes=false;
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes=specialTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes=tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope=new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor=currentNodeScope.floor;
+        currentNodeScope.floor=currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark=currentNodeScope.floor;
+        currentNodeScope.floor=Math.min(previousFloor,mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n,int mark) {
+        List<Node>children=currentNodeScope.subList(mark,currentNodeScope.size());
+        List<Node>nodes=new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n,true);
+    }
+
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n,int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node>nodes=new ArrayList<Node>();
+        for (int i=0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (specialTokensAreNodes&&(child instanceof Token)) {
+                Token token=(Token) child;
+                Token specialToken=token;
+                while (specialToken!=null) {
+                    specialToken=specialToken.specialToken;
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken=specialToken.next;
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n,boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a=nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node>nodes=new ArrayList<Node>();
+            while (a-->0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (specialTokensAreNodes&&(child instanceof Token)) {
+                    Token token=(Token) child;
+                    Token specialToken=token;
+                    while (specialToken.specialToken!=null) {
+                        specialToken=specialToken.specialToken;
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken=specialToken.next;
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree=buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    FTLParser jjtree=this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope=FTLParser.this.currentNodeScope;
+            FTLParser.this.currentNodeScope=this;
+        }
+
+        boolean isRootScope() {
+            return parentScope==null;
+        }
+
+        Node rootNode() {
+            NodeScope ns=this;
+            while (ns.parentScope!=null) {
+                ns=ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result=remove(size()-1);
+            if (size()<floor) {
+                floor=size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1,n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            FTLParser.this.currentNodeScope=parentScope;
+        }
+
+        int nestingLevel() {
+            int result=0;
+            NodeScope parent=this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent=parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+    static private final int INFINITY=Integer.MAX_VALUE;
+    //=================================
+    // Start of methods for BNF Productions
+    //=================================
+    // FEL.javacc, line 825
+    final public Node Input() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 825 of FEL.javacc");
+        // Code for expansion specified on line 828 of FEL.javacc
+        // Code for Expression specified on line 828 of FEL.javacc
+        Expression();
+        // Code for expansion specified on line 829 of FEL.javacc
+        consumeToken(0);
+        // Code for expansion specified on line 830 of FEL.javacc
+        return rootNode();
+    }
+
+    // FEL.javacc, line 835
+    final public void Expression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 835 of FEL.javacc");
+        // Code for expansion specified on line 837 of FEL.javacc
+        int Expression1Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Expression1Start=getToken(1);
+        // Code for OrExpression specified on line 837 of FEL.javacc
+        OrExpression();
+        if (trace_enabled) LOGGER.info("Exiting normally from Expression");
+        if (buildTree) {
+            int Expression1Mark=closeDeferredNodeScope(Expression1Floor);
+            if (nodeArity()-Expression1Mark>1) {
+                Expression Expression1=new Expression();
+                Expression1.setBeginLine(Expression1Start.beginLine);
+                Expression1.setBeginColumn(Expression1Start.beginColumn);
+                Expression1.setInputSource(this.getInputSource());
+                Expression1.setEndLine(current_token.getEndLine());
+                Expression1.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Expression1,Expression1Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 840
+    final public void OrExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 840 of FEL.javacc");
+        // Code for expansion specified on line 842 of FEL.javacc
+        int OrExpression2Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token OrExpression2Start=getToken(1);
+        // Code for AndExpression specified on line 842 of FEL.javacc
+        AndExpression();
+        // Code for expansion specified on line 845 of FEL.javacc
+        label_1:
+        while (true) {
+            int int1=nextTokenKind();
+            if (!(int1==OR||int1==OR2)) {
+                break label_1;
+            }
+            // Code for expansion specified on line 844 of FEL.javacc
+            // Code for expansion specified on line 844 of FEL.javacc
+            switch(nextTokenKind()) {
+                case OR:
+                // Code for expansion specified on line 844 of FEL.javacc
+                // Code for expansion specified on line 844 of FEL.javacc
+                consumeToken(OR);
+                break;
+                case OR2:
+                // Code for expansion specified on line 844 of FEL.javacc
+                // Code for expansion specified on line 844 of FEL.javacc
+                consumeToken(OR2);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for AndExpression specified on line 844 of FEL.javacc
+            AndExpression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from OrExpression");
+        if (buildTree) {
+            int OrExpression2Mark=closeDeferredNodeScope(OrExpression2Floor);
+            if (nodeArity()-OrExpression2Mark>1) {
+                OrExpression OrExpression2=new OrExpression();
+                OrExpression2.setBeginLine(OrExpression2Start.beginLine);
+                OrExpression2.setBeginColumn(OrExpression2Start.beginColumn);
+                OrExpression2.setInputSource(this.getInputSource());
+                OrExpression2.setEndLine(current_token.getEndLine());
+                OrExpression2.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(OrExpression2,OrExpression2Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 848
+    final public void AndExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 848 of FEL.javacc");
+        // Code for expansion specified on line 850 of FEL.javacc
+        int AndExpression3Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token AndExpression3Start=getToken(1);
+        // Code for EqualityExpression specified on line 850 of FEL.javacc
+        EqualityExpression();
+        // Code for expansion specified on line 853 of FEL.javacc
+        label_2:
+        while (true) {
+            int int2=nextTokenKind();
+            if (!(int2==AND||int2==AND2)) {
+                break label_2;
+            }
+            // Code for expansion specified on line 852 of FEL.javacc
+            // Code for expansion specified on line 852 of FEL.javacc
+            switch(nextTokenKind()) {
+                case AND:
+                // Code for expansion specified on line 852 of FEL.javacc
+                // Code for expansion specified on line 852 of FEL.javacc
+                consumeToken(AND);
+                break;
+                case AND2:
+                // Code for expansion specified on line 852 of FEL.javacc
+                // Code for expansion specified on line 852 of FEL.javacc
+                consumeToken(AND2);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for EqualityExpression specified on line 852 of FEL.javacc
+            EqualityExpression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+        if (buildTree) {
+            int AndExpression3Mark=closeDeferredNodeScope(AndExpression3Floor);
+            if (nodeArity()-AndExpression3Mark>1) {
+                AndExpression AndExpression3=new AndExpression();
+                AndExpression3.setBeginLine(AndExpression3Start.beginLine);
+                AndExpression3.setBeginColumn(AndExpression3Start.beginColumn);
+                AndExpression3.setInputSource(this.getInputSource());
+                AndExpression3.setEndLine(current_token.getEndLine());
+                AndExpression3.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AndExpression3,AndExpression3Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 856
+    final public void EqualityExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 856 of FEL.javacc");
+        // Code for expansion specified on line 858 of FEL.javacc
+        int EqualityExpression4Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token EqualityExpression4Start=getToken(1);
+        // Code for RelationalExpression specified on line 858 of FEL.javacc
+        RelationalExpression();
+        // Code for expansion specified on line 859 of FEL.javacc
+        int int3=nextTokenKind();
+        if (int3==EQUALS||int3==DOUBLE_EQUALS||int3==NOT_EQUALS) {
+            // Code for expansion specified on line 860 of FEL.javacc
+            // Code for expansion specified on line 860 of FEL.javacc
+            switch(nextTokenKind()) {
+                case EQUALS:
+                // Code for expansion specified on line 860 of FEL.javacc
+                // Code for expansion specified on line 860 of FEL.javacc
+                consumeToken(EQUALS);
+                break;
+                case DOUBLE_EQUALS:
+                // Code for expansion specified on line 860 of FEL.javacc
+                // Code for expansion specified on line 860 of FEL.javacc
+                consumeToken(DOUBLE_EQUALS);
+                break;
+                case NOT_EQUALS:
+                // Code for expansion specified on line 860 of FEL.javacc
+                // Code for expansion specified on line 860 of FEL.javacc
+                consumeToken(NOT_EQUALS);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for RelationalExpression specified on line 861 of FEL.javacc
+            RelationalExpression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+        if (buildTree) {
+            int EqualityExpression4Mark=closeDeferredNodeScope(EqualityExpression4Floor);
+            if (nodeArity()-EqualityExpression4Mark>1) {
+                EqualityExpression EqualityExpression4=new EqualityExpression();
+                EqualityExpression4.setBeginLine(EqualityExpression4Start.beginLine);
+                EqualityExpression4.setBeginColumn(EqualityExpression4Start.beginColumn);
+                EqualityExpression4.setInputSource(this.getInputSource());
+                EqualityExpression4.setEndLine(current_token.getEndLine());
+                EqualityExpression4.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(EqualityExpression4,EqualityExpression4Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 865
+    final public void RelationalExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 865 of FEL.javacc");
+        // Code for expansion specified on line 867 of FEL.javacc
+        int RelationalExpression5Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token RelationalExpression5Start=getToken(1);
+        // Code for RangeExpression specified on line 867 of FEL.javacc
+        RangeExpression();
+        // Code for expansion specified on line 868 of FEL.javacc
+        int int4=nextTokenKind();
+        if (int4>=0&&(jj_first_set_0[int4>>6]&(1L<<int4))!=0L) {
+            // Code for expansion specified on line 869 of FEL.javacc
+            // Code for expansion specified on line 869 of FEL.javacc
+            switch(nextTokenKind()) {
+                case GT:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(GT);
+                break;
+                case GTE:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(GTE);
+                break;
+                case LT:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(LT);
+                break;
+                case LTE:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(LTE);
+                break;
+                case ALT_GT:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(ALT_GT);
+                break;
+                case ALT_GTE:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(ALT_GTE);
+                break;
+                case ALT_LTE:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(ALT_LTE);
+                break;
+                case ALT_LT:
+                // Code for expansion specified on line 869 of FEL.javacc
+                // Code for expansion specified on line 869 of FEL.javacc
+                consumeToken(ALT_LT);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for RangeExpression specified on line 870 of FEL.javacc
+            RangeExpression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+        if (buildTree) {
+            int RelationalExpression5Mark=closeDeferredNodeScope(RelationalExpression5Floor);
+            if (nodeArity()-RelationalExpression5Mark>1) {
+                RelationalExpression RelationalExpression5=new RelationalExpression();
+                RelationalExpression5.setBeginLine(RelationalExpression5Start.beginLine);
+                RelationalExpression5.setBeginColumn(RelationalExpression5Start.beginColumn);
+                RelationalExpression5.setInputSource(this.getInputSource());
+                RelationalExpression5.setEndLine(current_token.getEndLine());
+                RelationalExpression5.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(RelationalExpression5,RelationalExpression5Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 874
+    final public void RangeExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 874 of FEL.javacc");
+        // Code for expansion specified on line 876 of FEL.javacc
+        int RangeExpression6Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token RangeExpression6Start=getToken(1);
+        // Code for AdditiveExpression specified on line 876 of FEL.javacc
+        AdditiveExpression();
+        // Code for expansion specified on line 877 of FEL.javacc
+        int int5=nextTokenKind();
+        if (int5==DOT_DOT) {
+            // Code for expansion specified on line 878 of FEL.javacc
+            // Code for expansion specified on line 878 of FEL.javacc
+            consumeToken(DOT_DOT);
+            // Code for expansion specified on line 879 of FEL.javacc
+            if (phase2_6_FEL_javacc_line_880(INFINITY)) {
+                // Code for expansion specified on line 880 of FEL.javacc
+                // Code for AdditiveExpression specified on line 881 of FEL.javacc
+                AdditiveExpression();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from RangeExpression");
+        if (buildTree) {
+            int RangeExpression6Mark=closeDeferredNodeScope(RangeExpression6Floor);
+            if (nodeArity()-RangeExpression6Mark>1) {
+                RangeExpression RangeExpression6=new RangeExpression();
+                RangeExpression6.setBeginLine(RangeExpression6Start.beginLine);
+                RangeExpression6.setBeginColumn(RangeExpression6Start.beginColumn);
+                RangeExpression6.setInputSource(this.getInputSource());
+                RangeExpression6.setEndLine(current_token.getEndLine());
+                RangeExpression6.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(RangeExpression6,RangeExpression6Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 886
+    final public void AdditiveExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 886 of FEL.javacc");
+        // Code for expansion specified on line 888 of FEL.javacc
+        int AdditiveExpression7Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token AdditiveExpression7Start=getToken(1);
+        // Code for MultiplicativeExpression specified on line 888 of FEL.javacc
+        MultiplicativeExpression();
+        // Code for expansion specified on line 893 of FEL.javacc
+        label_8:
+        while (true) {
+            if (!(phase2_8_FEL_javacc_line_890(INFINITY))) {
+                break label_8;
+            }
+            // Code for expansion specified on line 890 of FEL.javacc
+            // Code for expansion specified on line 891 of FEL.javacc
+            switch(nextTokenKind()) {
+                case PLUS:
+                // Code for expansion specified on line 891 of FEL.javacc
+                // Code for expansion specified on line 891 of FEL.javacc
+                consumeToken(PLUS);
+                break;
+                case MINUS:
+                // Code for expansion specified on line 891 of FEL.javacc
+                // Code for expansion specified on line 891 of FEL.javacc
+                consumeToken(MINUS);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for MultiplicativeExpression specified on line 892 of FEL.javacc
+            MultiplicativeExpression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+        if (buildTree) {
+            int AdditiveExpression7Mark=closeDeferredNodeScope(AdditiveExpression7Floor);
+            if (nodeArity()-AdditiveExpression7Mark>1) {
+                AdditiveExpression AdditiveExpression7=new AdditiveExpression();
+                AdditiveExpression7.setBeginLine(AdditiveExpression7Start.beginLine);
+                AdditiveExpression7.setBeginColumn(AdditiveExpression7Start.beginColumn);
+                AdditiveExpression7.setInputSource(this.getInputSource());
+                AdditiveExpression7.setEndLine(current_token.getEndLine());
+                AdditiveExpression7.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AdditiveExpression7,AdditiveExpression7Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 896
+    final public void MultiplicativeExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 896 of FEL.javacc");
+        // Code for expansion specified on line 898 of FEL.javacc
+        int MultiplicativeExpression8Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token MultiplicativeExpression8Start=getToken(1);
+        // Code for UnaryExpression specified on line 898 of FEL.javacc
+        UnaryExpression();
+        // Code for expansion specified on line 902 of FEL.javacc
+        label_10:
+        while (true) {
+            int int6=nextTokenKind();
+            if (!(int6==TIMES||int6==DIVIDE||int6==PERCENT)) {
+                break label_10;
+            }
+            // Code for expansion specified on line 900 of FEL.javacc
+            // Code for expansion specified on line 900 of FEL.javacc
+            switch(nextTokenKind()) {
+                case TIMES:
+                // Code for expansion specified on line 900 of FEL.javacc
+                // Code for expansion specified on line 900 of FEL.javacc
+                consumeToken(TIMES);
+                break;
+                case DIVIDE:
+                // Code for expansion specified on line 900 of FEL.javacc
+                // Code for expansion specified on line 900 of FEL.javacc
+                consumeToken(DIVIDE);
+                break;
+                case PERCENT:
+                // Code for expansion specified on line 900 of FEL.javacc
+                // Code for expansion specified on line 900 of FEL.javacc
+                consumeToken(PERCENT);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for UnaryExpression specified on line 901 of FEL.javacc
+            UnaryExpression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+        if (buildTree) {
+            int MultiplicativeExpression8Mark=closeDeferredNodeScope(MultiplicativeExpression8Floor);
+            if (nodeArity()-MultiplicativeExpression8Mark>1) {
+                MultiplicativeExpression MultiplicativeExpression8=new MultiplicativeExpression();
+                MultiplicativeExpression8.setBeginLine(MultiplicativeExpression8Start.beginLine);
+                MultiplicativeExpression8.setBeginColumn(MultiplicativeExpression8Start.beginColumn);
+                MultiplicativeExpression8.setInputSource(this.getInputSource());
+                MultiplicativeExpression8.setEndLine(current_token.getEndLine());
+                MultiplicativeExpression8.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MultiplicativeExpression8,MultiplicativeExpression8Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 906
+    final public void UnaryExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 906 of FEL.javacc");
+        // Code for expansion specified on line 908 of FEL.javacc
+        switch(nextTokenKind()) {
+            case PLUS:
+            case MINUS:
+            // Code for expansion specified on line 908 of FEL.javacc
+            // Code for UnaryPlusMinusExpression specified on line 908 of FEL.javacc
+            UnaryPlusMinusExpression();
+            break;
+            case EXCLAM:
+            // Code for expansion specified on line 910 of FEL.javacc
+            // Code for NotExpression specified on line 910 of FEL.javacc
+            NotExpression();
+            break;
+            case OPEN_PAREN:
+            case OPEN_BRACKET:
+            case OPEN_BRACE:
+            case DOT:
+            case NULL:
+            case TRUE:
+            case FALSE:
+            case INTEGER:
+            case DECIMAL:
+            case IDENTIFIER:
+            case STRING_LITERAL:
+            case RAW_STRING:
+            // Code for expansion specified on line 912 of FEL.javacc
+            // Code for DefaultToExpression specified on line 912 of FEL.javacc
+            DefaultToExpression();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+    }
+
+    // FEL.javacc, line 915
+    final public void UnaryPlusMinusExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 915 of FEL.javacc");
+        // Code for expansion specified on line 917 of FEL.javacc
+        int UnaryPlusMinusExpression9Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token UnaryPlusMinusExpression9Start=getToken(1);
+        // Code for expansion specified on line 917 of FEL.javacc
+        switch(nextTokenKind()) {
+            case PLUS:
+            // Code for expansion specified on line 917 of FEL.javacc
+            // Code for expansion specified on line 917 of FEL.javacc
+            consumeToken(PLUS);
+            break;
+            case MINUS:
+            // Code for expansion specified on line 917 of FEL.javacc
+            // Code for expansion specified on line 917 of FEL.javacc
+            consumeToken(MINUS);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        // Code for DefaultToExpression specified on line 917 of FEL.javacc
+        DefaultToExpression();
+        if (trace_enabled) LOGGER.info("Exiting normally from UnaryPlusMinusExpression");
+        if (buildTree) {
+            int UnaryPlusMinusExpression9Mark=closeDeferredNodeScope(UnaryPlusMinusExpression9Floor);
+            if (nodeArity()-UnaryPlusMinusExpression9Mark>1) {
+                UnaryPlusMinusExpression UnaryPlusMinusExpression9=new UnaryPlusMinusExpression();
+                UnaryPlusMinusExpression9.setBeginLine(UnaryPlusMinusExpression9Start.beginLine);
+                UnaryPlusMinusExpression9.setBeginColumn(UnaryPlusMinusExpression9Start.beginColumn);
+                UnaryPlusMinusExpression9.setInputSource(this.getInputSource());
+                UnaryPlusMinusExpression9.setEndLine(current_token.getEndLine());
+                UnaryPlusMinusExpression9.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(UnaryPlusMinusExpression9,UnaryPlusMinusExpression9Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 920
+    final public void NotExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 920 of FEL.javacc");
+        // Code for expansion specified on line 922 of FEL.javacc
+        int NotExpression10Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token NotExpression10Start=getToken(1);
+        // Code for expansion specified on line 922 of FEL.javacc
+        consumeToken(EXCLAM);
+        // Code for DefaultToExpression specified on line 923 of FEL.javacc
+        DefaultToExpression();
+        if (trace_enabled) LOGGER.info("Exiting normally from NotExpression");
+        if (buildTree) {
+            int NotExpression10Mark=closeDeferredNodeScope(NotExpression10Floor);
+            if (nodeArity()-NotExpression10Mark>1) {
+                NotExpression NotExpression10=new NotExpression();
+                NotExpression10.setBeginLine(NotExpression10Start.beginLine);
+                NotExpression10.setBeginColumn(NotExpression10Start.beginColumn);
+                NotExpression10.setInputSource(this.getInputSource());
+                NotExpression10.setEndLine(current_token.getEndLine());
+                NotExpression10.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(NotExpression10,NotExpression10Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 926
+    final public void BuiltinVariable() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 926 of FEL.javacc");
+        // Code for expansion specified on line 928 of FEL.javacc
+        int BuiltinVariable11Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token BuiltinVariable11Start=getToken(1);
+        // Code for expansion specified on line 928 of FEL.javacc
+        consumeToken(DOT);
+        // Code for expansion specified on line 928 of FEL.javacc
+        consumeToken(IDENTIFIER);
+        if (trace_enabled) LOGGER.info("Exiting normally from BuiltinVariable");
+        if (buildTree) {
+            int BuiltinVariable11Mark=closeDeferredNodeScope(BuiltinVariable11Floor);
+            if (nodeArity()-BuiltinVariable11Mark>1) {
+                BuiltinVariable BuiltinVariable11=new BuiltinVariable();
+                BuiltinVariable11.setBeginLine(BuiltinVariable11Start.beginLine);
+                BuiltinVariable11.setBeginColumn(BuiltinVariable11Start.beginColumn);
+                BuiltinVariable11.setInputSource(this.getInputSource());
+                BuiltinVariable11.setEndLine(current_token.getEndLine());
+                BuiltinVariable11.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(BuiltinVariable11,BuiltinVariable11Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 931
+    final public void DefaultToExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 931 of FEL.javacc");
+        // Code for expansion specified on line 933 of FEL.javacc
+        boolean DefaultToExpression12forced=false;
+        DefaultToExpression DefaultToExpression12=null;
+        if (buildTree) {
+            DefaultToExpression12=new DefaultToExpression();
+            Token start=getToken(1);
+            DefaultToExpression12.setBeginLine(start.beginLine);
+            DefaultToExpression12.setBeginColumn(start.beginColumn);
+            DefaultToExpression12.setInputSource(this.getInputSource());
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException12=null;
+        try {
+            // Code for PrimaryExpression specified on line 933 of FEL.javacc
+            PrimaryExpression();
+            // Code for expansion specified on line 937 of FEL.javacc
+            label_11:
+            while (true) {
+                if (!(phase2_11_FEL_javacc_line_935(INFINITY)&&(getToken(2).kind!=IDENTIFIER||getToken(3).kind!=EQUALS))) {
+                    break label_11;
+                }
+                // Code for expansion specified on line 935 of FEL.javacc
+                // Code for expansion specified on line 936 of FEL.javacc
+                consumeToken(EXCLAM);
+                // Code for PrimaryExpression specified on line 936 of FEL.javacc
+                PrimaryExpression();
+            }
+            // Code for expansion specified on line 938 of FEL.javacc
+            int int7=nextTokenKind();
+            if (int7==EXCLAM) {
+                // Code for expansion specified on line 939 of FEL.javacc
+                // Code for expansion specified on line 940 of FEL.javacc
+                consumeToken(EXCLAM);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from DefaultToExpression");
+        }
+        catch(ParseException e) {
+            parseException12=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException12!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException12.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    DefaultToExpression12.setEndLine(current_token.getEndLine());
+                    DefaultToExpression12.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(DefaultToExpression12,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    // FEL.javacc, line 944
+    final public void PrimaryExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 944 of FEL.javacc");
+        // Code for expansion specified on line 946 of FEL.javacc
+        int PrimaryExpression13Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token PrimaryExpression13Start=getToken(1);
+        // Code for BaseExpression specified on line 946 of FEL.javacc
+        BaseExpression();
+        // Code for expansion specified on line 960 of FEL.javacc
+        label_14:
+        while (true) {
+            if (!(phase2_14_FEL_javacc_line_948(INFINITY))) {
+                break label_14;
+            }
+            // Code for expansion specified on line 948 of FEL.javacc
+            // Code for expansion specified on line 950 of FEL.javacc
+            switch(nextTokenKind()) {
+                case DOT:
+                // Code for expansion specified on line 950 of FEL.javacc
+                // Code for DotKey specified on line 950 of FEL.javacc
+                DotKey();
+                break;
+                case OPEN_BRACKET:
+                // Code for expansion specified on line 952 of FEL.javacc
+                // Code for DynamicKey specified on line 952 of FEL.javacc
+                DynamicKey();
+                break;
+                case OPEN_PAREN:
+                // Code for expansion specified on line 954 of FEL.javacc
+                // Code for MethodInvoke specified on line 954 of FEL.javacc
+                MethodInvoke();
+                break;
+                case BUILT_IN:
+                // Code for expansion specified on line 956 of FEL.javacc
+                // Code for BuiltIn specified on line 956 of FEL.javacc
+                BuiltIn();
+                break;
+                case EXISTS_OPERATOR:
+                // Code for expansion specified on line 958 of FEL.javacc
+                // Code for Exists specified on line 958 of FEL.javacc
+                Exists();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from PrimaryExpression");
+        if (buildTree) {
+            int PrimaryExpression13Mark=closeDeferredNodeScope(PrimaryExpression13Floor);
+            if (nodeArity()-PrimaryExpression13Mark>1) {
+                PrimaryExpression PrimaryExpression13=new PrimaryExpression();
+                PrimaryExpression13.setBeginLine(PrimaryExpression13Start.beginLine);
+                PrimaryExpression13.setBeginColumn(PrimaryExpression13Start.beginColumn);
+                PrimaryExpression13.setInputSource(this.getInputSource());
+                PrimaryExpression13.setEndLine(current_token.getEndLine());
+                PrimaryExpression13.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PrimaryExpression13,PrimaryExpression13Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 963
+    final public void BaseExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 963 of FEL.javacc");
+        // Code for expansion specified on line 965 of FEL.javacc
+        int BaseExpression14Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token BaseExpression14Start=getToken(1);
+        switch(nextTokenKind()) {
+            case IDENTIFIER:
+            // Code for expansion specified on line 965 of FEL.javacc
+            // Code for expansion specified on line 965 of FEL.javacc
+            consumeToken(IDENTIFIER);
+            break;
+            case INTEGER:
+            case DECIMAL:
+            // Code for expansion specified on line 967 of FEL.javacc
+            // Code for NumberLiteral specified on line 967 of FEL.javacc
+            NumberLiteral();
+            break;
+            case OPEN_BRACE:
+            // Code for expansion specified on line 969 of FEL.javacc
+            // Code for HashLiteral specified on line 969 of FEL.javacc
+            HashLiteral();
+            break;
+            case STRING_LITERAL:
+            case RAW_STRING:
+            // Code for expansion specified on line 971 of FEL.javacc
+            // Code for StringLiteral specified on line 971 of FEL.javacc
+            StringLiteral();
+            break;
+            case TRUE:
+            case FALSE:
+            // Code for expansion specified on line 973 of FEL.javacc
+            // Code for BooleanLiteral specified on line 973 of FEL.javacc
+            BooleanLiteral();
+            break;
+            case NULL:
+            // Code for expansion specified on line 975 of FEL.javacc
+            // Code for NullLiteral specified on line 975 of FEL.javacc
+            NullLiteral();
+            break;
+            case OPEN_BRACKET:
+            // Code for expansion specified on line 977 of FEL.javacc
+            // Code for ListLiteral specified on line 977 of FEL.javacc
+            ListLiteral();
+            break;
+            case OPEN_PAREN:
+            // Code for expansion specified on line 979 of FEL.javacc
+            // Code for Parenthesis specified on line 979 of FEL.javacc
+            Parenthesis();
+            break;
+            case DOT:
+            // Code for expansion specified on line 981 of FEL.javacc
+            // Code for BuiltinVariable specified on line 981 of FEL.javacc
+            BuiltinVariable();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from BaseExpression");
+        if (buildTree) {
+            int BaseExpression14Mark=closeDeferredNodeScope(BaseExpression14Floor);
+            if (nodeArity()-BaseExpression14Mark>1) {
+                BaseExpression BaseExpression14=new BaseExpression();
+                BaseExpression14.setBeginLine(BaseExpression14Start.beginLine);
+                BaseExpression14.setBeginColumn(BaseExpression14Start.beginColumn);
+                BaseExpression14.setInputSource(this.getInputSource());
+                BaseExpression14.setEndLine(current_token.getEndLine());
+                BaseExpression14.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(BaseExpression14,BaseExpression14Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 985
+    final public void DotKey() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 985 of FEL.javacc");
+        // Code for expansion specified on line 987 of FEL.javacc
+        // Code for expansion specified on line 987 of FEL.javacc
+        consumeToken(DOT);
+        // Code for expansion specified on line 988 of FEL.javacc
+        switch(nextTokenKind()) {
+            case IDENTIFIER:
+            // Code for expansion specified on line 988 of FEL.javacc
+            // Code for expansion specified on line 988 of FEL.javacc
+            consumeToken(IDENTIFIER);
+            break;
+            case TIMES:
+            // Code for expansion specified on line 988 of FEL.javacc
+            // Code for expansion specified on line 988 of FEL.javacc
+            consumeToken(TIMES);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from DotKey");
+    }
+
+    // FEL.javacc, line 991
+    final public void DynamicKey() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 991 of FEL.javacc");
+        // Code for expansion specified on line 993 of FEL.javacc
+        // Code for expansion specified on line 993 of FEL.javacc
+        consumeToken(OPEN_BRACKET);
+        // Code for Expression specified on line 993 of FEL.javacc
+        Expression();
+        // Code for expansion specified on line 993 of FEL.javacc
+        consumeToken(CLOSE_BRACKET);
+        if (trace_enabled) LOGGER.info("Exiting normally from DynamicKey");
+    }
+
+    // FEL.javacc, line 997
+    final public void MethodInvoke() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 997 of FEL.javacc");
+        // Code for expansion specified on line 999 of FEL.javacc
+        // Code for expansion specified on line 999 of FEL.javacc
+        consumeToken(OPEN_PAREN);
+        // Code for expansion specified on line 999 of FEL.javacc
+        int int8=nextTokenKind();
+        if (int8>=0&&(jj_first_set_1[int8>>6]&(1L<<int8))!=0L) {
+            // Code for expansion specified on line 999 of FEL.javacc
+            // Code for ArgsList specified on line 999 of FEL.javacc
+            ArgsList();
+        }
+        // Code for expansion specified on line 999 of FEL.javacc
+        consumeToken(CLOSE_PAREN);
+        if (trace_enabled) LOGGER.info("Exiting normally from MethodInvoke");
+    }
+
+    // FEL.javacc, line 1002
+    final public void BuiltIn() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1002 of FEL.javacc");
+        // Code for expansion specified on line 1004 of FEL.javacc
+        // Code for expansion specified on line 1004 of FEL.javacc
+        consumeToken(BUILT_IN);
+        // Code for expansion specified on line 1004 of FEL.javacc
+        consumeToken(IDENTIFIER);
+        if (trace_enabled) LOGGER.info("Exiting normally from BuiltIn");
+    }
+
+    // FEL.javacc, line 1007
+    final public void Exists() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1007 of FEL.javacc");
+        // Code for expansion specified on line 1009 of FEL.javacc
+        int Exists15Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Exists15Start=getToken(1);
+        // Code for expansion specified on line 1009 of FEL.javacc
+        consumeToken(EXISTS_OPERATOR);
+        if (trace_enabled) LOGGER.info("Exiting normally from Exists");
+        if (buildTree) {
+            int Exists15Mark=closeDeferredNodeScope(Exists15Floor);
+            if (nodeArity()-Exists15Mark>1) {
+                Exists Exists15=new Exists();
+                Exists15.setBeginLine(Exists15Start.beginLine);
+                Exists15.setBeginColumn(Exists15Start.beginColumn);
+                Exists15.setInputSource(this.getInputSource());
+                Exists15.setEndLine(current_token.getEndLine());
+                Exists15.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Exists15,Exists15Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1012
+    final public void ListLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1012 of FEL.javacc");
+        // Code for expansion specified on line 1014 of FEL.javacc
+        int ListLiteral16Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token ListLiteral16Start=getToken(1);
+        // Code for expansion specified on line 1014 of FEL.javacc
+        consumeToken(OPEN_BRACKET);
+        // Code for expansion specified on line 1015 of FEL.javacc
+        int int11=nextTokenKind();
+        if (int11>=0&&(jj_first_set_1[int11>>6]&(1L<<int11))!=0L) {
+            // Code for expansion specified on line 1015 of FEL.javacc
+            // Code for Expression specified on line 1015 of FEL.javacc
+            Expression();
+            // Code for expansion specified on line 1015 of FEL.javacc
+            label_18:
+            while (true) {
+                int int9=nextTokenKind();
+                if (!(int9>=0&&(jj_first_set_2[int9>>6]&(1L<<int9))!=0L)) {
+                    break label_18;
+                }
+                // Code for expansion specified on line 1015 of FEL.javacc
+                // Code for expansion specified on line 1015 of FEL.javacc
+                int int10=nextTokenKind();
+                if (int10==COMMA) {
+                    // Code for expansion specified on line 1015 of FEL.javacc
+                    // Code for expansion specified on line 1015 of FEL.javacc
+                    consumeToken(COMMA);
+                }
+                // Code for Expression specified on line 1015 of FEL.javacc
+                Expression();
+            }
+        }
+        // Code for expansion specified on line 1016 of FEL.javacc
+        consumeToken(CLOSE_BRACKET);
+        if (trace_enabled) LOGGER.info("Exiting normally from ListLiteral");
+        if (buildTree) {
+            int ListLiteral16Mark=closeDeferredNodeScope(ListLiteral16Floor);
+            if (nodeArity()-ListLiteral16Mark>1) {
+                ListLiteral ListLiteral16=new ListLiteral();
+                ListLiteral16.setBeginLine(ListLiteral16Start.beginLine);
+                ListLiteral16.setBeginColumn(ListLiteral16Start.beginColumn);
+                ListLiteral16.setInputSource(this.getInputSource());
+                ListLiteral16.setEndLine(current_token.getEndLine());
+                ListLiteral16.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ListLiteral16,ListLiteral16Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1019
+    final public void StringLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1019 of FEL.javacc");
+        // Code for expansion specified on line 1021 of FEL.javacc
+        int StringLiteral17Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token StringLiteral17Start=getToken(1);
+        switch(nextTokenKind()) {
+            case STRING_LITERAL:
+            // Code for expansion specified on line 1021 of FEL.javacc
+            // Code for expansion specified on line 1021 of FEL.javacc
+            consumeToken(STRING_LITERAL);
+            break;
+            case RAW_STRING:
+            // Code for expansion specified on line 1021 of FEL.javacc
+            // Code for expansion specified on line 1021 of FEL.javacc
+            consumeToken(RAW_STRING);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from StringLiteral");
+        if (buildTree) {
+            int StringLiteral17Mark=closeDeferredNodeScope(StringLiteral17Floor);
+            if (nodeArity()-StringLiteral17Mark>1) {
+                StringLiteral StringLiteral17=new StringLiteral();
+                StringLiteral17.setBeginLine(StringLiteral17Start.beginLine);
+                StringLiteral17.setBeginColumn(StringLiteral17Start.beginColumn);
+                StringLiteral17.setInputSource(this.getInputSource());
+                StringLiteral17.setEndLine(current_token.getEndLine());
+                StringLiteral17.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(StringLiteral17,StringLiteral17Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1025
+    final public void HashLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1025 of FEL.javacc");
+        // Code for expansion specified on line 1027 of FEL.javacc
+        int HashLiteral18Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token HashLiteral18Start=getToken(1);
+        // Code for expansion specified on line 1027 of FEL.javacc
+        consumeToken(OPEN_BRACE);
+        // Code for expansion specified on line 1028 of FEL.javacc
+        int int13=nextTokenKind();
+        if (int13>=0&&(jj_first_set_1[int13>>6]&(1L<<int13))!=0L) {
+            // Code for expansion specified on line 1029 of FEL.javacc
+            // Code for Expression specified on line 1029 of FEL.javacc
+            Expression();
+            // Code for expansion specified on line 1029 of FEL.javacc
+            consumeToken(COLON);
+            // Code for Expression specified on line 1029 of FEL.javacc
+            Expression();
+            // Code for expansion specified on line 1030 of FEL.javacc
+            label_21:
+            while (true) {
+                int int12=nextTokenKind();
+                if (!(int12==COMMA)) {
+                    break label_21;
+                }
+                // Code for expansion specified on line 1030 of FEL.javacc
+                // Code for expansion specified on line 1030 of FEL.javacc
+                consumeToken(COMMA);
+                // Code for Expression specified on line 1030 of FEL.javacc
+                Expression();
+                // Code for expansion specified on line 1030 of FEL.javacc
+                consumeToken(COLON);
+                // Code for Expression specified on line 1030 of FEL.javacc
+                Expression();
+            }
+        }
+        // Code for expansion specified on line 1032 of FEL.javacc
+        consumeToken(CLOSE_BRACE);
+        if (trace_enabled) LOGGER.info("Exiting normally from HashLiteral");
+        if (buildTree) {
+            int HashLiteral18Mark=closeDeferredNodeScope(HashLiteral18Floor);
+            if (nodeArity()-HashLiteral18Mark>1) {
+                HashLiteral HashLiteral18=new HashLiteral();
+                HashLiteral18.setBeginLine(HashLiteral18Start.beginLine);
+                HashLiteral18.setBeginColumn(HashLiteral18Start.beginColumn);
+                HashLiteral18.setInputSource(this.getInputSource());
+                HashLiteral18.setEndLine(current_token.getEndLine());
+                HashLiteral18.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(HashLiteral18,HashLiteral18Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1035
+    final public void NumberLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1035 of FEL.javacc");
+        // Code for expansion specified on line 1037 of FEL.javacc
+        int NumberLiteral19Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token NumberLiteral19Start=getToken(1);
+        switch(nextTokenKind()) {
+            case INTEGER:
+            // Code for expansion specified on line 1037 of FEL.javacc
+            // Code for expansion specified on line 1037 of FEL.javacc
+            consumeToken(INTEGER);
+            break;
+            case DECIMAL:
+            // Code for expansion specified on line 1037 of FEL.javacc
+            // Code for expansion specified on line 1037 of FEL.javacc
+            consumeToken(DECIMAL);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from NumberLiteral");
+        if (buildTree) {
+            int NumberLiteral19Mark=closeDeferredNodeScope(NumberLiteral19Floor);
+            if (nodeArity()-NumberLiteral19Mark>1) {
+                NumberLiteral NumberLiteral19=new NumberLiteral();
+                NumberLiteral19.setBeginLine(NumberLiteral19Start.beginLine);
+                NumberLiteral19.setBeginColumn(NumberLiteral19Start.beginColumn);
+                NumberLiteral19.setInputSource(this.getInputSource());
+                NumberLiteral19.setEndLine(current_token.getEndLine());
+                NumberLiteral19.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(NumberLiteral19,NumberLiteral19Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1040
+    final public void BooleanLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1040 of FEL.javacc");
+        // Code for expansion specified on line 1042 of FEL.javacc
+        int BooleanLiteral20Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token BooleanLiteral20Start=getToken(1);
+        switch(nextTokenKind()) {
+            case TRUE:
+            // Code for expansion specified on line 1042 of FEL.javacc
+            // Code for expansion specified on line 1042 of FEL.javacc
+            consumeToken(TRUE);
+            break;
+            case FALSE:
+            // Code for expansion specified on line 1042 of FEL.javacc
+            // Code for expansion specified on line 1042 of FEL.javacc
+            consumeToken(FALSE);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from BooleanLiteral");
+        if (buildTree) {
+            int BooleanLiteral20Mark=closeDeferredNodeScope(BooleanLiteral20Floor);
+            if (nodeArity()-BooleanLiteral20Mark>1) {
+                BooleanLiteral BooleanLiteral20=new BooleanLiteral();
+                BooleanLiteral20.setBeginLine(BooleanLiteral20Start.beginLine);
+                BooleanLiteral20.setBeginColumn(BooleanLiteral20Start.beginColumn);
+                BooleanLiteral20.setInputSource(this.getInputSource());
+                BooleanLiteral20.setEndLine(current_token.getEndLine());
+                BooleanLiteral20.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(BooleanLiteral20,BooleanLiteral20Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1045
+    final public void NullLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1045 of FEL.javacc");
+        // Code for expansion specified on line 1047 of FEL.javacc
+        int NullLiteral21Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token NullLiteral21Start=getToken(1);
+        // Code for expansion specified on line 1047 of FEL.javacc
+        consumeToken(NULL);
+        if (trace_enabled) LOGGER.info("Exiting normally from NullLiteral");
+        if (buildTree) {
+            int NullLiteral21Mark=closeDeferredNodeScope(NullLiteral21Floor);
+            if (nodeArity()-NullLiteral21Mark>1) {
+                NullLiteral NullLiteral21=new NullLiteral();
+                NullLiteral21.setBeginLine(NullLiteral21Start.beginLine);
+                NullLiteral21.setBeginColumn(NullLiteral21Start.beginColumn);
+                NullLiteral21.setInputSource(this.getInputSource());
+                NullLiteral21.setEndLine(current_token.getEndLine());
+                NullLiteral21.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(NullLiteral21,NullLiteral21Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1050
+    final public void Parenthesis() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1050 of FEL.javacc");
+        // Code for expansion specified on line 1052 of FEL.javacc
+        int Parenthesis22Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Parenthesis22Start=getToken(1);
+        // Code for expansion specified on line 1052 of FEL.javacc
+        consumeToken(OPEN_PAREN);
+        // Code for Expression specified on line 1052 of FEL.javacc
+        Expression();
+        // Code for expansion specified on line 1052 of FEL.javacc
+        consumeToken(CLOSE_PAREN);
+        if (trace_enabled) LOGGER.info("Exiting normally from Parenthesis");
+        if (buildTree) {
+            int Parenthesis22Mark=closeDeferredNodeScope(Parenthesis22Floor);
+            if (nodeArity()-Parenthesis22Mark>1) {
+                Parenthesis Parenthesis22=new Parenthesis();
+                Parenthesis22.setBeginLine(Parenthesis22Start.beginLine);
+                Parenthesis22.setBeginColumn(Parenthesis22Start.beginColumn);
+                Parenthesis22.setInputSource(this.getInputSource());
+                Parenthesis22.setEndLine(current_token.getEndLine());
+                Parenthesis22.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Parenthesis22,Parenthesis22Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1055
+    final public void ArgsList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1055 of FEL.javacc");
+        // Code for expansion specified on line 1057 of FEL.javacc
+        // Code for expansion specified on line 1058 of FEL.javacc
+        if (phase2_21_FEL_javacc_line_1058(INFINITY)) {
+            // Code for expansion specified on line 1058 of FEL.javacc
+            // Code for NamedArgsList specified on line 1059 of FEL.javacc
+            NamedArgsList();
+        }
+        else {
+            switch(nextTokenKind()) {
+                case OPEN_PAREN:
+                case OPEN_BRACKET:
+                case OPEN_BRACE:
+                case DOT:
+                case PLUS:
+                case MINUS:
+                case EXCLAM:
+                case NULL:
+                case TRUE:
+                case FALSE:
+                case INTEGER:
+                case DECIMAL:
+                case IDENTIFIER:
+                case STRING_LITERAL:
+                case RAW_STRING:
+                // Code for expansion specified on line 1061 of FEL.javacc
+                // Code for PositionalArgsList specified on line 1061 of FEL.javacc
+                PositionalArgsList();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from ArgsList");
+    }
+
+    // FEL.javacc, line 1065
+    final public void NamedArgsList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1065 of FEL.javacc");
+        // Code for expansion specified on line 1067 of FEL.javacc
+        int NamedArgsList23Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token NamedArgsList23Start=getToken(1);
+        // Code for expansion specified on line 1067 of FEL.javacc
+        consumeToken(IDENTIFIER);
+        // Code for expansion specified on line 1068 of FEL.javacc
+        consumeToken(EQUALS);
+        // Code for Expression specified on line 1069 of FEL.javacc
+        Expression();
+        // Code for expansion specified on line 1075 of FEL.javacc
+        label_23:
+        while (true) {
+            int int14=nextTokenKind();
+            if (!(int14==COMMA||int14==IDENTIFIER)) {
+                break label_23;
+            }
+            // Code for expansion specified on line 1071 of FEL.javacc
+            // Code for expansion specified on line 1071 of FEL.javacc
+            int int15=nextTokenKind();
+            if (int15==COMMA) {
+                // Code for expansion specified on line 1071 of FEL.javacc
+                // Code for expansion specified on line 1071 of FEL.javacc
+                consumeToken(COMMA);
+            }
+            // Code for expansion specified on line 1072 of FEL.javacc
+            consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 1073 of FEL.javacc
+            consumeToken(EQUALS);
+            // Code for Expression specified on line 1074 of FEL.javacc
+            Expression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from NamedArgsList");
+        if (buildTree) {
+            int NamedArgsList23Mark=closeDeferredNodeScope(NamedArgsList23Floor);
+            if (nodeArity()-NamedArgsList23Mark>1) {
+                NamedArgsList NamedArgsList23=new NamedArgsList();
+                NamedArgsList23.setBeginLine(NamedArgsList23Start.beginLine);
+                NamedArgsList23.setBeginColumn(NamedArgsList23Start.beginColumn);
+                NamedArgsList23.setInputSource(this.getInputSource());
+                NamedArgsList23.setEndLine(current_token.getEndLine());
+                NamedArgsList23.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(NamedArgsList23,NamedArgsList23Mark);
+            }
+        }
+    }
+
+    // FEL.javacc, line 1078
+    final public void PositionalArgsList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 1078 of FEL.javacc");
+        // Code for expansion specified on line 1080 of FEL.javacc
+        int PositionalArgsList24Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token PositionalArgsList24Start=getToken(1);
+        // Code for Expression specified on line 1080 of FEL.javacc
+        Expression();
+        // Code for expansion specified on line 1084 of FEL.javacc
+        label_25:
+        while (true) {
+            int int16=nextTokenKind();
+            if (!(int16>=0&&(jj_first_set_2[int16>>6]&(1L<<int16))!=0L)) {
+                break label_25;
+            }
+            // Code for expansion specified on line 1082 of FEL.javacc
+            // Code for expansion specified on line 1082 of FEL.javacc
+            int int17=nextTokenKind();
+            if (int17==COMMA) {
+                // Code for expansion specified on line 1082 of FEL.javacc
+                // Code for expansion specified on line 1082 of FEL.javacc
+                consumeToken(COMMA);
+            }
+            // Code for Expression specified on line 1083 of FEL.javacc
+            Expression();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from PositionalArgsList");
+        if (buildTree) {
+            int PositionalArgsList24Mark=closeDeferredNodeScope(PositionalArgsList24Floor);
+            if (nodeArity()-PositionalArgsList24Mark>1) {
+                PositionalArgsList PositionalArgsList24=new PositionalArgsList();
+                PositionalArgsList24.setBeginLine(PositionalArgsList24Start.beginLine);
+                PositionalArgsList24.setBeginColumn(PositionalArgsList24Start.beginColumn);
+                PositionalArgsList24.setInputSource(this.getInputSource());
+                PositionalArgsList24.setEndLine(current_token.getEndLine());
+                PositionalArgsList24.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PositionalArgsList24,PositionalArgsList24Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 384
+    final public void IdentifierOrStringLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 384 of FTL.javacc");
+        // Code for expansion specified on line 386 of FTL.javacc
+        int IdentifierOrStringLiteral25Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token IdentifierOrStringLiteral25Start=getToken(1);
+        switch(nextTokenKind()) {
+            case IDENTIFIER:
+            // Code for expansion specified on line 386 of FTL.javacc
+            // Code for expansion specified on line 386 of FTL.javacc
+            consumeToken(IDENTIFIER);
+            break;
+            case STRING_LITERAL:
+            case RAW_STRING:
+            // Code for expansion specified on line 388 of FTL.javacc
+            // Code for StringLiteral specified on line 388 of FTL.javacc
+            StringLiteral();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from IdentifierOrStringLiteral");
+        if (buildTree) {
+            int IdentifierOrStringLiteral25Mark=closeDeferredNodeScope(IdentifierOrStringLiteral25Floor);
+            if (nodeArity()-IdentifierOrStringLiteral25Mark>1) {
+                IdentifierOrStringLiteral IdentifierOrStringLiteral25=new IdentifierOrStringLiteral();
+                IdentifierOrStringLiteral25.setBeginLine(IdentifierOrStringLiteral25Start.beginLine);
+                IdentifierOrStringLiteral25.setBeginColumn(IdentifierOrStringLiteral25Start.beginColumn);
+                IdentifierOrStringLiteral25.setInputSource(this.getInputSource());
+                IdentifierOrStringLiteral25.setEndLine(current_token.getEndLine());
+                IdentifierOrStringLiteral25.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(IdentifierOrStringLiteral25,IdentifierOrStringLiteral25Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 392
+    final public void Interpolation() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 392 of FTL.javacc");
+        // Code for expansion specified on line 394 of FTL.javacc
+        int Interpolation26Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Interpolation26Start=getToken(1);
+        // Code for expansion specified on line 394 of FTL.javacc
+        consumeToken(INTERPOLATE);
+        // Code for Expression specified on line 394 of FTL.javacc
+        Expression();
+        // Code for expansion specified on line 394 of FTL.javacc
+        consumeToken(CLOSE_BRACE);
+        if (trace_enabled) LOGGER.info("Exiting normally from Interpolation");
+        if (buildTree) {
+            int Interpolation26Mark=closeDeferredNodeScope(Interpolation26Floor);
+            if (nodeArity()-Interpolation26Mark>1) {
+                Interpolation Interpolation26=new Interpolation();
+                Interpolation26.setBeginLine(Interpolation26Start.beginLine);
+                Interpolation26.setBeginColumn(Interpolation26Start.beginColumn);
+                Interpolation26.setInputSource(this.getInputSource());
+                Interpolation26.setEndLine(current_token.getEndLine());
+                Interpolation26.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Interpolation26,Interpolation26Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 397
+    final public void NumericalInterpolation() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 397 of FTL.javacc");
+        // Code for expansion specified on line 399 of FTL.javacc
+        int NumericalInterpolation27Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token NumericalInterpolation27Start=getToken(1);
+        // Code for expansion specified on line 399 of FTL.javacc
+        consumeToken(NUMERICAL_INTERPOLATE);
+        // Code for Expression specified on line 399 of FTL.javacc
+        Expression();
+        // Code for expansion specified on line 399 of FTL.javacc
+        int int18=nextTokenKind();
+        if (int18==SEMICOLON) {
+            // Code for expansion specified on line 399 of FTL.javacc
+            // Code for expansion specified on line 399 of FTL.javacc
+            consumeToken(SEMICOLON);
+            // Code for expansion specified on line 399 of FTL.javacc
+            consumeToken(IDENTIFIER);
+        }
+        // Code for expansion specified on line 399 of FTL.javacc
+        consumeToken(CLOSE_BRACE);
+        if (trace_enabled) LOGGER.info("Exiting normally from NumericalInterpolation");
+        if (buildTree) {
+            int NumericalInterpolation27Mark=closeDeferredNodeScope(NumericalInterpolation27Floor);
+            if (nodeArity()-NumericalInterpolation27Mark>1) {
+                NumericalInterpolation NumericalInterpolation27=new NumericalInterpolation();
+                NumericalInterpolation27.setBeginLine(NumericalInterpolation27Start.beginLine);
+                NumericalInterpolation27.setBeginColumn(NumericalInterpolation27Start.beginColumn);
+                NumericalInterpolation27.setInputSource(this.getInputSource());
+                NumericalInterpolation27.setEndLine(current_token.getEndLine());
+                NumericalInterpolation27.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(NumericalInterpolation27,NumericalInterpolation27Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 403
+    final public void Assignment() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 403 of FTL.javacc");
+        Token t;
+        // Code for expansion specified on line 408 of FTL.javacc
+        int Assignment28Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Assignment28Start=getToken(1);
+        // Code for expansion specified on line 408 of FTL.javacc
+        consumeToken(FTL_DIRECTIVE_OPEN);
+        // Code for expansion specified on line 410 of FTL.javacc
+        switch(nextTokenKind()) {
+            case SET:
+            // Code for expansion specified on line 410 of FTL.javacc
+            // Code for expansion specified on line 410 of FTL.javacc
+            t=consumeToken(SET);
+            break;
+            case ASSIGN:
+            // Code for expansion specified on line 411 of FTL.javacc
+            // Code for expansion specified on line 411 of FTL.javacc
+            t=consumeToken(ASSIGN);
+            break;
+            case LOCAL:
+            // Code for expansion specified on line 412 of FTL.javacc
+            // Code for expansion specified on line 412 of FTL.javacc
+            t=consumeToken(LOCAL);
+            break;
+            case GLOBAL:
+            // Code for expansion specified on line 413 of FTL.javacc
+            // Code for expansion specified on line 413 of FTL.javacc
+            t=consumeToken(GLOBAL);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        // Code for expansion specified on line 415 of FTL.javacc
+        consumeToken(BLANK);
+        // Code for IdentifierOrStringLiteral specified on line 416 of FTL.javacc
+        IdentifierOrStringLiteral();
+        // Code for expansion specified on line 418 of FTL.javacc
+        switch(nextTokenKind()) {
+            case EQUALS:
+            // Code for expansion specified on line 418 of FTL.javacc
+            // Code for expansion specified on line 419 of FTL.javacc
+            // Code for expansion specified on line 419 of FTL.javacc
+            consumeToken(EQUALS);
+            // Code for Expression specified on line 419 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 420 of FTL.javacc
+            label_28:
+            while (true) {
+                int int19=nextTokenKind();
+                if (!(int19>=0&&(jj_first_set_3[int19>>6]&(1L<<int19))!=0L)) {
+                    break label_28;
+                }
+                // Code for expansion specified on line 420 of FTL.javacc
+                // Code for expansion specified on line 420 of FTL.javacc
+                int int20=nextTokenKind();
+                if (int20==COMMA) {
+                    // Code for expansion specified on line 420 of FTL.javacc
+                    // Code for expansion specified on line 420 of FTL.javacc
+                    consumeToken(COMMA);
+                }
+                // Code for IdentifierOrStringLiteral specified on line 420 of FTL.javacc
+                IdentifierOrStringLiteral();
+                // Code for expansion specified on line 420 of FTL.javacc
+                consumeToken(EQUALS);
+                // Code for Expression specified on line 420 of FTL.javacc
+                Expression();
+            }
+            // Code for expansion specified on line 421 of FTL.javacc
+            int int21=nextTokenKind();
+            if (int21==IN) {
+                // Code for expansion specified on line 421 of FTL.javacc
+                // Code for expansion specified on line 421 of FTL.javacc
+                consumeToken(IN);
+                // Code for Expression specified on line 421 of FTL.javacc
+                Expression();
+            }
+            // Code for LooseTagEnd specified on line 422 of FTL.javacc
+            LooseTagEnd();
+            break;
+            case IN:
+            case CLOSE_TAG:
+            // Code for expansion specified on line 425 of FTL.javacc
+            // Code for expansion specified on line 426 of FTL.javacc
+            // Code for expansion specified on line 426 of FTL.javacc
+            int int22=nextTokenKind();
+            if (int22==IN) {
+                // Code for expansion specified on line 426 of FTL.javacc
+                // Code for expansion specified on line 426 of FTL.javacc
+                consumeToken(IN);
+                // Code for Expression specified on line 426 of FTL.javacc
+                Expression();
+            }
+            // Code for expansion specified on line 427 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 428 of FTL.javacc
+            Block();
+            // Code for DirectiveEnd specified on line 429 of FTL.javacc
+            DirectiveEnd(t.image);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from Assignment");
+        if (buildTree) {
+            int Assignment28Mark=closeDeferredNodeScope(Assignment28Floor);
+            if (nodeArity()-Assignment28Mark>1) {
+                Assignment Assignment28=new Assignment();
+                Assignment28.setBeginLine(Assignment28Start.beginLine);
+                Assignment28.setBeginColumn(Assignment28Start.beginColumn);
+                Assignment28.setInputSource(this.getInputSource());
+                Assignment28.setEndLine(current_token.getEndLine());
+                Assignment28.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Assignment28,Assignment28Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 434
+    final public void Var() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 434 of FTL.javacc");
+        // Code for expansion specified on line 436 of FTL.javacc
+        boolean Var29forced=false;
+        VarInstruction Var29=null;
+        if (buildTree) {
+            Var29=new VarInstruction();
+            Token start=getToken(1);
+            Var29.setBeginLine(start.beginLine);
+            Var29.setBeginColumn(start.beginColumn);
+            Var29.setInputSource(this.getInputSource());
+            openNodeScope(Var29);
+        }
+        ParseException parseException29=null;
+        try {
+            // Code for expansion specified on line 436 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 436 of FTL.javacc
+            consumeToken(VAR);
+            // Code for expansion specified on line 436 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for IdentifierOrStringLiteral specified on line 437 of FTL.javacc
+            IdentifierOrStringLiteral();
+            // Code for expansion specified on line 437 of FTL.javacc
+            int int23=nextTokenKind();
+            if (int23==EQUALS) {
+                // Code for expansion specified on line 437 of FTL.javacc
+                // Code for expansion specified on line 437 of FTL.javacc
+                consumeToken(EQUALS);
+                // Code for Expression specified on line 437 of FTL.javacc
+                Expression();
+            }
+            // Code for expansion specified on line 438 of FTL.javacc
+            label_33:
+            while (true) {
+                int int24=nextTokenKind();
+                if (!(int24>=0&&(jj_first_set_3[int24>>6]&(1L<<int24))!=0L)) {
+                    break label_33;
+                }
+                // Code for expansion specified on line 438 of FTL.javacc
+                // Code for expansion specified on line 438 of FTL.javacc
+                int int25=nextTokenKind();
+                if (int25==COMMA) {
+                    // Code for expansion specified on line 438 of FTL.javacc
+                    // Code for expansion specified on line 438 of FTL.javacc
+                    consumeToken(COMMA);
+                }
+                // Code for IdentifierOrStringLiteral specified on line 438 of FTL.javacc
+                IdentifierOrStringLiteral();
+                // Code for expansion specified on line 438 of FTL.javacc
+                int int26=nextTokenKind();
+                if (int26==EQUALS) {
+                    // Code for expansion specified on line 438 of FTL.javacc
+                    // Code for expansion specified on line 438 of FTL.javacc
+                    consumeToken(EQUALS);
+                    // Code for Expression specified on line 438 of FTL.javacc
+                    Expression();
+                }
+            }
+            // Code for LooseTagEnd specified on line 439 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Var");
+        }
+        catch(ParseException e) {
+            parseException29=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException29!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException29.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Var29.setEndLine(current_token.getEndLine());
+                    Var29.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Var29,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 442
+    final public void Setting() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 442 of FTL.javacc");
+        // Code for expansion specified on line 444 of FTL.javacc
+        boolean Setting30forced=false;
+        SettingInstruction Setting30=null;
+        if (buildTree) {
+            Setting30=new SettingInstruction();
+            Token start=getToken(1);
+            Setting30.setBeginLine(start.beginLine);
+            Setting30.setBeginColumn(start.beginColumn);
+            Setting30.setInputSource(this.getInputSource());
+            openNodeScope(Setting30);
+        }
+        ParseException parseException30=null;
+        try {
+            // Code for expansion specified on line 444 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 444 of FTL.javacc
+            consumeToken(SETTING);
+            // Code for expansion specified on line 444 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for expansion specified on line 445 of FTL.javacc
+            consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 445 of FTL.javacc
+            int int27=nextTokenKind();
+            if (int27==EQUALS) {
+                // Code for expansion specified on line 445 of FTL.javacc
+                // Code for expansion specified on line 445 of FTL.javacc
+                consumeToken(EQUALS);
+                // Code for Expression specified on line 445 of FTL.javacc
+                Expression();
+            }
+            // Code for expansion specified on line 446 of FTL.javacc
+            label_37:
+            while (true) {
+                int int28=nextTokenKind();
+                if (!(int28>=0&&(jj_first_set_3[int28>>6]&(1L<<int28))!=0L)) {
+                    break label_37;
+                }
+                // Code for expansion specified on line 446 of FTL.javacc
+                // Code for expansion specified on line 446 of FTL.javacc
+                int int29=nextTokenKind();
+                if (int29==COMMA) {
+                    // Code for expansion specified on line 446 of FTL.javacc
+                    // Code for expansion specified on line 446 of FTL.javacc
+                    consumeToken(COMMA);
+                }
+                // Code for IdentifierOrStringLiteral specified on line 446 of FTL.javacc
+                IdentifierOrStringLiteral();
+                // Code for expansion specified on line 446 of FTL.javacc
+                int int30=nextTokenKind();
+                if (int30==EQUALS) {
+                    // Code for expansion specified on line 446 of FTL.javacc
+                    // Code for expansion specified on line 446 of FTL.javacc
+                    consumeToken(EQUALS);
+                    // Code for Expression specified on line 446 of FTL.javacc
+                    Expression();
+                }
+            }
+            // Code for LooseTagEnd specified on line 447 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Setting");
+        }
+        catch(ParseException e) {
+            parseException30=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException30!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException30.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Setting30.setEndLine(current_token.getEndLine());
+                    Setting30.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Setting30,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 450
+    final public void Attempt() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 450 of FTL.javacc");
+        // Code for expansion specified on line 452 of FTL.javacc
+        boolean Attempt31forced=false;
+        AttemptRecover Attempt31=null;
+        if (buildTree) {
+            Attempt31=new AttemptRecover();
+            Token start=getToken(1);
+            Attempt31.setBeginLine(start.beginLine);
+            Attempt31.setBeginColumn(start.beginColumn);
+            Attempt31.setInputSource(this.getInputSource());
+            openNodeScope(Attempt31);
+        }
+        ParseException parseException31=null;
+        try {
+            // Code for expansion specified on line 452 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 452 of FTL.javacc
+            consumeToken(ATTEMPT);
+            // Code for expansion specified on line 452 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 453 of FTL.javacc
+            Block();
+            // Code for Recover specified on line 454 of FTL.javacc
+            Recover();
+            if (trace_enabled) LOGGER.info("Exiting normally from Attempt");
+        }
+        catch(ParseException e) {
+            parseException31=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException31!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException31.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Attempt31.setEndLine(current_token.getEndLine());
+                    Attempt31.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Attempt31,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 457
+    final public void Comment() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 457 of FTL.javacc");
+        // Code for expansion specified on line 459 of FTL.javacc
+        boolean Comment32forced=false;
+        CommentBlock Comment32=null;
+        if (buildTree) {
+            Comment32=new CommentBlock();
+            Token start=getToken(1);
+            Comment32.setBeginLine(start.beginLine);
+            Comment32.setBeginColumn(start.beginColumn);
+            Comment32.setInputSource(this.getInputSource());
+            openNodeScope(Comment32);
+        }
+        ParseException parseException32=null;
+        try {
+            // Code for expansion specified on line 459 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 459 of FTL.javacc
+            consumeToken(COMMENT);
+            // Code for expansion specified on line 460 of FTL.javacc
+            consumeToken(END_COMMENT);
+            if (trace_enabled) LOGGER.info("Exiting normally from Comment");
+        }
+        catch(ParseException e) {
+            parseException32=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException32!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException32.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Comment32.setEndLine(current_token.getEndLine());
+                    Comment32.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Comment32,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 463
+    final public void NoParse() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 463 of FTL.javacc");
+        // Code for expansion specified on line 465 of FTL.javacc
+        boolean NoParse33forced=false;
+        NoParseBlock NoParse33=null;
+        if (buildTree) {
+            NoParse33=new NoParseBlock();
+            Token start=getToken(1);
+            NoParse33.setBeginLine(start.beginLine);
+            NoParse33.setBeginColumn(start.beginColumn);
+            NoParse33.setInputSource(this.getInputSource());
+            openNodeScope(NoParse33);
+        }
+        ParseException parseException33=null;
+        try {
+            // Code for expansion specified on line 465 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 465 of FTL.javacc
+            consumeToken(NOPARSE);
+            // Code for expansion specified on line 466 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for expansion specified on line 466 of FTL.javacc
+            token_source.SwitchTo(NO_PARSE);
+            // Code for expansion specified on line 467 of FTL.javacc
+            consumeToken(NOPARSE_END);
+            if (trace_enabled) LOGGER.info("Exiting normally from NoParse");
+        }
+        catch(ParseException e) {
+            parseException33=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException33!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException33.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    NoParse33.setEndLine(current_token.getEndLine());
+                    NoParse33.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(NoParse33,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 472
+    final public void Trim() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 472 of FTL.javacc");
+        // Code for expansion specified on line 474 of FTL.javacc
+        boolean Trim34forced=false;
+        TrimInstruction Trim34=null;
+        if (buildTree) {
+            Trim34=new TrimInstruction();
+            Token start=getToken(1);
+            Trim34.setBeginLine(start.beginLine);
+            Trim34.setBeginColumn(start.beginColumn);
+            Trim34.setInputSource(this.getInputSource());
+            openNodeScope(Trim34);
+        }
+        ParseException parseException34=null;
+        try {
+            // Code for expansion specified on line 474 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 474 of FTL.javacc
+            consumeToken(TRIM);
+            // Code for LooseTagEnd specified on line 475 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Trim");
+        }
+        catch(ParseException e) {
+            parseException34=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException34!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException34.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Trim34.setEndLine(current_token.getEndLine());
+                    Trim34.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Trim34,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 479
+    final public void NoTrim() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 479 of FTL.javacc");
+        // Code for expansion specified on line 481 of FTL.javacc
+        boolean NoTrim35forced=false;
+        TrimInstruction NoTrim35=null;
+        if (buildTree) {
+            NoTrim35=new TrimInstruction();
+            Token start=getToken(1);
+            NoTrim35.setBeginLine(start.beginLine);
+            NoTrim35.setBeginColumn(start.beginColumn);
+            NoTrim35.setInputSource(this.getInputSource());
+            openNodeScope(NoTrim35);
+        }
+        ParseException parseException35=null;
+        try {
+            // Code for expansion specified on line 481 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 481 of FTL.javacc
+            consumeToken(NOTRIM);
+            // Code for LooseTagEnd specified on line 482 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from NoTrim");
+        }
+        catch(ParseException e) {
+            parseException35=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException35!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException35.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    NoTrim35.setEndLine(current_token.getEndLine());
+                    NoTrim35.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(NoTrim35,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 486
+    final public void RightTrim() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 486 of FTL.javacc");
+        // Code for expansion specified on line 488 of FTL.javacc
+        boolean RightTrim36forced=false;
+        TrimInstruction RightTrim36=null;
+        if (buildTree) {
+            RightTrim36=new TrimInstruction();
+            Token start=getToken(1);
+            RightTrim36.setBeginLine(start.beginLine);
+            RightTrim36.setBeginColumn(start.beginColumn);
+            RightTrim36.setInputSource(this.getInputSource());
+            openNodeScope(RightTrim36);
+        }
+        ParseException parseException36=null;
+        try {
+            // Code for expansion specified on line 488 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 488 of FTL.javacc
+            consumeToken(RTRIM);
+            // Code for LooseTagEnd specified on line 489 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from RightTrim");
+        }
+        catch(ParseException e) {
+            parseException36=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException36!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException36.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    RightTrim36.setEndLine(current_token.getEndLine());
+                    RightTrim36.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(RightTrim36,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 493
+    final public void LeftTrim() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 493 of FTL.javacc");
+        // Code for expansion specified on line 495 of FTL.javacc
+        boolean LeftTrim37forced=false;
+        TrimInstruction LeftTrim37=null;
+        if (buildTree) {
+            LeftTrim37=new TrimInstruction();
+            Token start=getToken(1);
+            LeftTrim37.setBeginLine(start.beginLine);
+            LeftTrim37.setBeginColumn(start.beginColumn);
+            LeftTrim37.setInputSource(this.getInputSource());
+            openNodeScope(LeftTrim37);
+        }
+        ParseException parseException37=null;
+        try {
+            // Code for expansion specified on line 495 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 495 of FTL.javacc
+            consumeToken(LTRIM);
+            // Code for LooseTagEnd specified on line 496 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from LeftTrim");
+        }
+        catch(ParseException e) {
+            parseException37=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException37!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException37.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    LeftTrim37.setEndLine(current_token.getEndLine());
+                    LeftTrim37.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(LeftTrim37,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 499
+    final public void Break() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 499 of FTL.javacc");
+        // Code for expansion specified on line 501 of FTL.javacc
+        boolean Break38forced=false;
+        BreakInstruction Break38=null;
+        if (buildTree) {
+            Break38=new BreakInstruction();
+            Token start=getToken(1);
+            Break38.setBeginLine(start.beginLine);
+            Break38.setBeginColumn(start.beginColumn);
+            Break38.setInputSource(this.getInputSource());
+            openNodeScope(Break38);
+        }
+        ParseException parseException38=null;
+        try {
+            // Code for expansion specified on line 501 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 502 of FTL.javacc
+            consumeToken(BREAK);
+            // Code for LooseTagEnd specified on line 503 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Break");
+        }
+        catch(ParseException e) {
+            parseException38=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException38!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException38.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Break38.setEndLine(current_token.getEndLine());
+                    Break38.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Break38,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 506
+    final public void Flush() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 506 of FTL.javacc");
+        // Code for expansion specified on line 508 of FTL.javacc
+        boolean Flush39forced=false;
+        FlushInstruction Flush39=null;
+        if (buildTree) {
+            Flush39=new FlushInstruction();
+            Token start=getToken(1);
+            Flush39.setBeginLine(start.beginLine);
+            Flush39.setBeginColumn(start.beginColumn);
+            Flush39.setInputSource(this.getInputSource());
+            openNodeScope(Flush39);
+        }
+        ParseException parseException39=null;
+        try {
+            // Code for expansion specified on line 508 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 508 of FTL.javacc
+            consumeToken(FLUSH);
+            // Code for LooseTagEnd specified on line 508 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Flush");
+        }
+        catch(ParseException e) {
+            parseException39=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException39!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException39.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Flush39.setEndLine(current_token.getEndLine());
+                    Flush39.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Flush39,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 511
+    final public void Return() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 511 of FTL.javacc");
+        // Code for expansion specified on line 513 of FTL.javacc
+        boolean Return40forced=false;
+        ReturnInstruction Return40=null;
+        if (buildTree) {
+            Return40=new ReturnInstruction();
+            Token start=getToken(1);
+            Return40.setBeginLine(start.beginLine);
+            Return40.setBeginColumn(start.beginColumn);
+            Return40.setInputSource(this.getInputSource());
+            openNodeScope(Return40);
+        }
+        ParseException parseException40=null;
+        try {
+            // Code for expansion specified on line 513 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 513 of FTL.javacc
+            consumeToken(RETURN);
+            // Code for expansion specified on line 514 of FTL.javacc
+            int int31=nextTokenKind();
+            if (int31==BLANK) {
+                // Code for expansion specified on line 514 of FTL.javacc
+                // Code for expansion specified on line 514 of FTL.javacc
+                consumeToken(BLANK);
+                // Code for Expression specified on line 514 of FTL.javacc
+                Expression();
+            }
+            // Code for LooseTagEnd specified on line 515 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Return");
+        }
+        catch(ParseException e) {
+            parseException40=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException40!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException40.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Return40.setEndLine(current_token.getEndLine());
+                    Return40.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Return40,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 518
+    final public void Stop() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 518 of FTL.javacc");
+        // Code for expansion specified on line 520 of FTL.javacc
+        boolean Stop41forced=false;
+        StopInstruction Stop41=null;
+        if (buildTree) {
+            Stop41=new StopInstruction();
+            Token start=getToken(1);
+            Stop41.setBeginLine(start.beginLine);
+            Stop41.setBeginColumn(start.beginColumn);
+            Stop41.setInputSource(this.getInputSource());
+            openNodeScope(Stop41);
+        }
+        ParseException parseException41=null;
+        try {
+            // Code for expansion specified on line 520 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 520 of FTL.javacc
+            consumeToken(STOP);
+            // Code for expansion specified on line 521 of FTL.javacc
+            int int32=nextTokenKind();
+            if (int32==BLANK) {
+                // Code for expansion specified on line 521 of FTL.javacc
+                // Code for expansion specified on line 521 of FTL.javacc
+                consumeToken(BLANK);
+                // Code for Expression specified on line 521 of FTL.javacc
+                Expression();
+            }
+            // Code for LooseTagEnd specified on line 522 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Stop");
+        }
+        catch(ParseException e) {
+            parseException41=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException41!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException41.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Stop41.setEndLine(current_token.getEndLine());
+                    Stop41.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Stop41,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 526
+    final public void Compress() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 526 of FTL.javacc");
+        // Code for expansion specified on line 528 of FTL.javacc
+        boolean Compress42forced=false;
+        CompressBlock Compress42=null;
+        if (buildTree) {
+            Compress42=new CompressBlock();
+            Token start=getToken(1);
+            Compress42.setBeginLine(start.beginLine);
+            Compress42.setBeginColumn(start.beginColumn);
+            Compress42.setInputSource(this.getInputSource());
+            openNodeScope(Compress42);
+        }
+        ParseException parseException42=null;
+        try {
+            // Code for expansion specified on line 528 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 528 of FTL.javacc
+            consumeToken(COMPRESS);
+            // Code for expansion specified on line 528 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 529 of FTL.javacc
+            Block();
+            // Code for DirectiveEnd specified on line 530 of FTL.javacc
+            DirectiveEnd("compress");
+            if (trace_enabled) LOGGER.info("Exiting normally from Compress");
+        }
+        catch(ParseException e) {
+            parseException42=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException42!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException42.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Compress42.setEndLine(current_token.getEndLine());
+                    Compress42.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Compress42,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 533
+    final public void TrimBlock() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 533 of FTL.javacc");
+        String closeTag;
+        // Code for expansion specified on line 538 of FTL.javacc
+        boolean TrimBlock43forced=false;
+        TrimBlock TrimBlock43=null;
+        if (buildTree) {
+            TrimBlock43=new TrimBlock();
+            Token start=getToken(1);
+            TrimBlock43.setBeginLine(start.beginLine);
+            TrimBlock43.setBeginColumn(start.beginColumn);
+            TrimBlock43.setInputSource(this.getInputSource());
+            openNodeScope(TrimBlock43);
+        }
+        ParseException parseException43=null;
+        try {
+            // Code for expansion specified on line 538 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 540 of FTL.javacc
+            switch(nextTokenKind()) {
+                case BLOCKTRIM:
+                // Code for expansion specified on line 540 of FTL.javacc
+                // Code for expansion specified on line 540 of FTL.javacc
+                consumeToken(BLOCKTRIM);
+                // Code for expansion specified on line 540 of FTL.javacc
+                closeTag="t_lines";
+                break;
+                case BLOCKTRIML:
+                // Code for expansion specified on line 542 of FTL.javacc
+                // Code for expansion specified on line 542 of FTL.javacc
+                consumeToken(BLOCKTRIML);
+                // Code for expansion specified on line 542 of FTL.javacc
+                closeTag="lt_lines";
+                break;
+                case BLOCKTRIMR:
+                // Code for expansion specified on line 544 of FTL.javacc
+                // Code for expansion specified on line 544 of FTL.javacc
+                consumeToken(BLOCKTRIMR);
+                // Code for expansion specified on line 544 of FTL.javacc
+                closeTag="rt_lines";
+                break;
+                case BLOCKNOTRIM:
+                // Code for expansion specified on line 546 of FTL.javacc
+                // Code for expansion specified on line 546 of FTL.javacc
+                consumeToken(BLOCKNOTRIM);
+                // Code for expansion specified on line 546 of FTL.javacc
+                closeTag="nt_lines";
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for expansion specified on line 548 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 549 of FTL.javacc
+            Block();
+            // Code for DirectiveEnd specified on line 550 of FTL.javacc
+            DirectiveEnd(closeTag);
+            if (trace_enabled) LOGGER.info("Exiting normally from TrimBlock");
+        }
+        catch(ParseException e) {
+            parseException43=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException43!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException43.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    TrimBlock43.setEndLine(current_token.getEndLine());
+                    TrimBlock43.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(TrimBlock43,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 553
+    final public void NoEscapeBlock() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 553 of FTL.javacc");
+        // Code for expansion specified on line 555 of FTL.javacc
+        int NoEscapeBlock44Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token NoEscapeBlock44Start=getToken(1);
+        // Code for expansion specified on line 555 of FTL.javacc
+        consumeToken(FTL_DIRECTIVE_OPEN);
+        // Code for expansion specified on line 555 of FTL.javacc
+        consumeToken(NOESCAPE);
+        // Code for expansion specified on line 555 of FTL.javacc
+        consumeToken(CLOSE_TAG);
+        // Code for Block specified on line 556 of FTL.javacc
+        Block();
+        // Code for DirectiveEnd specified on line 557 of FTL.javacc
+        DirectiveEnd("noescape");
+        if (trace_enabled) LOGGER.info("Exiting normally from NoEscapeBlock");
+        if (buildTree) {
+            int NoEscapeBlock44Mark=closeDeferredNodeScope(NoEscapeBlock44Floor);
+            if (nodeArity()-NoEscapeBlock44Mark>1) {
+                NoEscapeBlock NoEscapeBlock44=new NoEscapeBlock();
+                NoEscapeBlock44.setBeginLine(NoEscapeBlock44Start.beginLine);
+                NoEscapeBlock44.setBeginColumn(NoEscapeBlock44Start.beginColumn);
+                NoEscapeBlock44.setInputSource(this.getInputSource());
+                NoEscapeBlock44.setEndLine(current_token.getEndLine());
+                NoEscapeBlock44.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(NoEscapeBlock44,NoEscapeBlock44Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 560
+    final public void EscapeBlock() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 560 of FTL.javacc");
+        // Code for expansion specified on line 562 of FTL.javacc
+        int EscapeBlock45Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token EscapeBlock45Start=getToken(1);
+        // Code for expansion specified on line 562 of FTL.javacc
+        consumeToken(FTL_DIRECTIVE_OPEN);
+        // Code for expansion specified on line 563 of FTL.javacc
+        consumeToken(ESCAPE);
+        // Code for expansion specified on line 564 of FTL.javacc
+        consumeToken(BLANK);
+        // Code for expansion specified on line 565 of FTL.javacc
+        consumeToken(IDENTIFIER);
+        // Code for expansion specified on line 566 of FTL.javacc
+        consumeToken(AS);
+        // Code for Expression specified on line 567 of FTL.javacc
+        Expression();
+        // Code for expansion specified on line 568 of FTL.javacc
+        consumeToken(CLOSE_TAG);
+        // Code for Block specified on line 569 of FTL.javacc
+        Block();
+        // Code for DirectiveEnd specified on line 570 of FTL.javacc
+        DirectiveEnd("escape");
+        if (trace_enabled) LOGGER.info("Exiting normally from EscapeBlock");
+        if (buildTree) {
+            int EscapeBlock45Mark=closeDeferredNodeScope(EscapeBlock45Floor);
+            if (nodeArity()-EscapeBlock45Mark>1) {
+                EscapeBlock EscapeBlock45=new EscapeBlock();
+                EscapeBlock45.setBeginLine(EscapeBlock45Start.beginLine);
+                EscapeBlock45.setBeginColumn(EscapeBlock45Start.beginColumn);
+                EscapeBlock45.setInputSource(this.getInputSource());
+                EscapeBlock45.setEndLine(current_token.getEndLine());
+                EscapeBlock45.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(EscapeBlock45,EscapeBlock45Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 573
+    final public void Include() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 573 of FTL.javacc");
+        // Code for expansion specified on line 575 of FTL.javacc
+        boolean Include46forced=false;
+        IncludeInstruction Include46=null;
+        if (buildTree) {
+            Include46=new IncludeInstruction();
+            Token start=getToken(1);
+            Include46.setBeginLine(start.beginLine);
+            Include46.setBeginColumn(start.beginColumn);
+            Include46.setInputSource(this.getInputSource());
+            openNodeScope(Include46);
+        }
+        ParseException parseException46=null;
+        try {
+            // Code for expansion specified on line 575 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 575 of FTL.javacc
+            consumeToken(_INCLUDE);
+            // Code for expansion specified on line 575 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 576 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 577 of FTL.javacc
+            int int33=nextTokenKind();
+            if (int33==SEMICOLON) {
+                // Code for expansion specified on line 577 of FTL.javacc
+                // Code for expansion specified on line 577 of FTL.javacc
+                consumeToken(SEMICOLON);
+            }
+            // Code for expansion specified on line 578 of FTL.javacc
+            label_43:
+            while (true) {
+                int int34=nextTokenKind();
+                if (!(int34==IDENTIFIER)) {
+                    break label_43;
+                }
+                // Code for expansion specified on line 578 of FTL.javacc
+                // Code for expansion specified on line 578 of FTL.javacc
+                consumeToken(IDENTIFIER);
+                // Code for expansion specified on line 578 of FTL.javacc
+                consumeToken(EQUALS);
+                // Code for Expression specified on line 578 of FTL.javacc
+                Expression();
+            }
+            // Code for LooseTagEnd specified on line 579 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Include");
+        }
+        catch(ParseException e) {
+            parseException46=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException46!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException46.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Include46.setEndLine(current_token.getEndLine());
+                    Include46.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Include46,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 582
+    final public void Embed() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 582 of FTL.javacc");
+        // Code for expansion specified on line 584 of FTL.javacc
+        boolean Embed47forced=false;
+        EmbedInstruction Embed47=null;
+        if (buildTree) {
+            Embed47=new EmbedInstruction();
+            Token start=getToken(1);
+            Embed47.setBeginLine(start.beginLine);
+            Embed47.setBeginColumn(start.beginColumn);
+            Embed47.setInputSource(this.getInputSource());
+            openNodeScope(Embed47);
+        }
+        ParseException parseException47=null;
+        try {
+            // Code for expansion specified on line 584 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 584 of FTL.javacc
+            consumeToken(EMBED);
+            // Code for expansion specified on line 584 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 585 of FTL.javacc
+            Expression();
+            // Code for LooseTagEnd specified on line 586 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Embed");
+        }
+        catch(ParseException e) {
+            parseException47=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException47!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException47.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Embed47.setEndLine(current_token.getEndLine());
+                    Embed47.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Embed47,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 589
+    final public void Import() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 589 of FTL.javacc");
+        // Code for expansion specified on line 591 of FTL.javacc
+        boolean Import48forced=false;
+        ImportInstruction Import48=null;
+        if (buildTree) {
+            Import48=new ImportInstruction();
+            Token start=getToken(1);
+            Import48.setBeginLine(start.beginLine);
+            Import48.setBeginColumn(start.beginColumn);
+            Import48.setInputSource(this.getInputSource());
+            openNodeScope(Import48);
+        }
+        ParseException parseException48=null;
+        try {
+            // Code for expansion specified on line 591 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 591 of FTL.javacc
+            consumeToken(IMPORT);
+            // Code for expansion specified on line 591 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 592 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 593 of FTL.javacc
+            consumeToken(AS);
+            // Code for expansion specified on line 594 of FTL.javacc
+            consumeToken(IDENTIFIER);
+            // Code for LooseTagEnd specified on line 595 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Import");
+        }
+        catch(ParseException e) {
+            parseException48=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException48!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException48.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Import48.setEndLine(current_token.getEndLine());
+                    Import48.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Import48,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 598
+    final public void Visit() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 598 of FTL.javacc");
+        // Code for expansion specified on line 600 of FTL.javacc
+        boolean Visit49forced=false;
+        VisitInstruction Visit49=null;
+        if (buildTree) {
+            Visit49=new VisitInstruction();
+            Token start=getToken(1);
+            Visit49.setBeginLine(start.beginLine);
+            Visit49.setBeginColumn(start.beginColumn);
+            Visit49.setInputSource(this.getInputSource());
+            openNodeScope(Visit49);
+        }
+        ParseException parseException49=null;
+        try {
+            // Code for expansion specified on line 600 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 601 of FTL.javacc
+            consumeToken(VISIT);
+            // Code for expansion specified on line 602 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 603 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 604 of FTL.javacc
+            int int37=nextTokenKind();
+            if (int37==USING) {
+                // Code for expansion specified on line 605 of FTL.javacc
+                // Code for expansion specified on line 605 of FTL.javacc
+                consumeToken(USING);
+                // Code for Expression specified on line 606 of FTL.javacc
+                Expression();
+                // Code for expansion specified on line 610 of FTL.javacc
+                label_45:
+                while (true) {
+                    int int35=nextTokenKind();
+                    if (!(int35>=0&&(jj_first_set_2[int35>>6]&(1L<<int35))!=0L)) {
+                        break label_45;
+                    }
+                    // Code for expansion specified on line 608 of FTL.javacc
+                    // Code for expansion specified on line 608 of FTL.javacc
+                    int int36=nextTokenKind();
+                    if (int36==COMMA) {
+                        // Code for expansion specified on line 608 of FTL.javacc
+                        // Code for expansion specified on line 608 of FTL.javacc
+                        consumeToken(COMMA);
+                    }
+                    // Code for Expression specified on line 609 of FTL.javacc
+                    Expression();
+                }
+            }
+            // Code for LooseTagEnd specified on line 612 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Visit");
+        }
+        catch(ParseException e) {
+            parseException49=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException49!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException49.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Visit49.setEndLine(current_token.getEndLine());
+                    Visit49.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Visit49,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 615
+    final public void Recurse() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 615 of FTL.javacc");
+        // Code for expansion specified on line 617 of FTL.javacc
+        boolean Recurse50forced=false;
+        RecurseInstruction Recurse50=null;
+        if (buildTree) {
+            Recurse50=new RecurseInstruction();
+            Token start=getToken(1);
+            Recurse50.setBeginLine(start.beginLine);
+            Recurse50.setBeginColumn(start.beginColumn);
+            Recurse50.setInputSource(this.getInputSource());
+            openNodeScope(Recurse50);
+        }
+        ParseException parseException50=null;
+        try {
+            // Code for expansion specified on line 617 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 617 of FTL.javacc
+            consumeToken(RECURSE);
+            // Code for expansion specified on line 619 of FTL.javacc
+            switch(nextTokenKind()) {
+                case CLOSE_TAG:
+                case CLOSE_EMPTY_TAG:
+                // Code for expansion specified on line 619 of FTL.javacc
+                // Code for LooseTagEnd specified on line 619 of FTL.javacc
+                LooseTagEnd();
+                break;
+                case BLANK:
+                // Code for expansion specified on line 621 of FTL.javacc
+                // Code for expansion specified on line 622 of FTL.javacc
+                // Code for expansion specified on line 622 of FTL.javacc
+                consumeToken(BLANK);
+                // Code for expansion specified on line 623 of FTL.javacc
+                int int38=nextTokenKind();
+                if (int38>=0&&(jj_first_set_1[int38>>6]&(1L<<int38))!=0L) {
+                    // Code for expansion specified on line 623 of FTL.javacc
+                    // Code for Expression specified on line 623 of FTL.javacc
+                    Expression();
+                }
+                // Code for expansion specified on line 624 of FTL.javacc
+                int int41=nextTokenKind();
+                if (int41==USING) {
+                    // Code for expansion specified on line 624 of FTL.javacc
+                    // Code for expansion specified on line 624 of FTL.javacc
+                    consumeToken(USING);
+                    // Code for Expression specified on line 625 of FTL.javacc
+                    Expression();
+                    // Code for expansion specified on line 626 of FTL.javacc
+                    label_49:
+                    while (true) {
+                        int int39=nextTokenKind();
+                        if (!(int39>=0&&(jj_first_set_2[int39>>6]&(1L<<int39))!=0L)) {
+                            break label_49;
+                        }
+                        // Code for expansion specified on line 626 of FTL.javacc
+                        // Code for expansion specified on line 626 of FTL.javacc
+                        int int40=nextTokenKind();
+                        if (int40==COMMA) {
+                            // Code for expansion specified on line 626 of FTL.javacc
+                            // Code for expansion specified on line 626 of FTL.javacc
+                            consumeToken(COMMA);
+                        }
+                        // Code for Expression specified on line 626 of FTL.javacc
+                        Expression();
+                    }
+                }
+                // Code for LooseTagEnd specified on line 628 of FTL.javacc
+                LooseTagEnd();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from Recurse");
+        }
+        catch(ParseException e) {
+            parseException50=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException50!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException50.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Recurse50.setEndLine(current_token.getEndLine());
+                    Recurse50.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Recurse50,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 633
+    final public void FallBack() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 633 of FTL.javacc");
+        // Code for expansion specified on line 635 of FTL.javacc
+        boolean FallBack51forced=false;
+        FallBackInstruction FallBack51=null;
+        if (buildTree) {
+            FallBack51=new FallBackInstruction();
+            Token start=getToken(1);
+            FallBack51.setBeginLine(start.beginLine);
+            FallBack51.setBeginColumn(start.beginColumn);
+            FallBack51.setInputSource(this.getInputSource());
+            openNodeScope(FallBack51);
+        }
+        ParseException parseException51=null;
+        try {
+            // Code for expansion specified on line 635 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 636 of FTL.javacc
+            consumeToken(FALLBACK);
+            // Code for LooseTagEnd specified on line 637 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from FallBack");
+        }
+        catch(ParseException e) {
+            parseException51=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException51!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException51.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    FallBack51.setEndLine(current_token.getEndLine());
+                    FallBack51.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(FallBack51,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 640
+    final public void If() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 640 of FTL.javacc");
+        // Code for expansion specified on line 642 of FTL.javacc
+        boolean If52forced=false;
+        IfStatement If52=null;
+        if (buildTree) {
+            If52=new IfStatement();
+            Token start=getToken(1);
+            If52.setBeginLine(start.beginLine);
+            If52.setBeginColumn(start.beginColumn);
+            If52.setInputSource(this.getInputSource());
+            openNodeScope(If52);
+        }
+        ParseException parseException52=null;
+        try {
+            // Code for expansion specified on line 642 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 642 of FTL.javacc
+            consumeToken(IF);
+            // Code for expansion specified on line 642 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 643 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 644 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 645 of FTL.javacc
+            Block();
+            // Code for expansion specified on line 649 of FTL.javacc
+            label_51:
+            while (true) {
+                if (!(phase2_51_FTL_javacc_line_647(2))) {
+                    break label_51;
+                }
+                // Code for expansion specified on line 647 of FTL.javacc
+                // Code for ElseIf specified on line 648 of FTL.javacc
+                ElseIf();
+            }
+            // Code for expansion specified on line 650 of FTL.javacc
+            if (phase2_53_FTL_javacc_line_651(2)) {
+                // Code for expansion specified on line 651 of FTL.javacc
+                // Code for Else specified on line 652 of FTL.javacc
+                Else();
+            }
+            // Code for DirectiveEnd specified on line 654 of FTL.javacc
+            DirectiveEnd("if");
+            if (trace_enabled) LOGGER.info("Exiting normally from If");
+        }
+        catch(ParseException e) {
+            parseException52=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException52!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException52.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    If52.setEndLine(current_token.getEndLine());
+                    If52.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(If52,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 657
+    final public void ElseIf() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 657 of FTL.javacc");
+        // Code for expansion specified on line 659 of FTL.javacc
+        boolean ElseIf53forced=false;
+        ElseIfBlock ElseIf53=null;
+        if (buildTree) {
+            ElseIf53=new ElseIfBlock();
+            Token start=getToken(1);
+            ElseIf53.setBeginLine(start.beginLine);
+            ElseIf53.setBeginColumn(start.beginColumn);
+            ElseIf53.setInputSource(this.getInputSource());
+            openNodeScope(ElseIf53);
+        }
+        ParseException parseException53=null;
+        try {
+            // Code for expansion specified on line 659 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 659 of FTL.javacc
+            consumeToken(ELSEIF);
+            // Code for expansion specified on line 659 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 660 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 661 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 662 of FTL.javacc
+            Block();
+            if (trace_enabled) LOGGER.info("Exiting normally from ElseIf");
+        }
+        catch(ParseException e) {
+            parseException53=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException53!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException53.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    ElseIf53.setEndLine(current_token.getEndLine());
+                    ElseIf53.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(ElseIf53,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 665
+    final public void Else() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 665 of FTL.javacc");
+        // Code for expansion specified on line 667 of FTL.javacc
+        boolean Else54forced=false;
+        ElseBlock Else54=null;
+        if (buildTree) {
+            Else54=new ElseBlock();
+            Token start=getToken(1);
+            Else54.setBeginLine(start.beginLine);
+            Else54.setBeginColumn(start.beginColumn);
+            Else54.setInputSource(this.getInputSource());
+            openNodeScope(Else54);
+        }
+        ParseException parseException54=null;
+        try {
+            // Code for expansion specified on line 667 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 667 of FTL.javacc
+            consumeToken(ELSE);
+            // Code for expansion specified on line 667 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 668 of FTL.javacc
+            Block();
+            if (trace_enabled) LOGGER.info("Exiting normally from Else");
+        }
+        catch(ParseException e) {
+            parseException54=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException54!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException54.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Else54.setEndLine(current_token.getEndLine());
+                    Else54.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Else54,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 671
+    final public void Switch() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 671 of FTL.javacc");
+        // Code for expansion specified on line 673 of FTL.javacc
+        boolean Switch55forced=false;
+        SwitchInstruction Switch55=null;
+        if (buildTree) {
+            Switch55=new SwitchInstruction();
+            Token start=getToken(1);
+            Switch55.setBeginLine(start.beginLine);
+            Switch55.setBeginColumn(start.beginColumn);
+            Switch55.setInputSource(this.getInputSource());
+            openNodeScope(Switch55);
+        }
+        ParseException parseException55=null;
+        try {
+            // Code for expansion specified on line 673 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 673 of FTL.javacc
+            consumeToken(SWITCH);
+            // Code for expansion specified on line 673 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 674 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 675 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for expansion specified on line 676 of FTL.javacc
+            int int42=nextTokenKind();
+            if (int42==WHITESPACE) {
+                // Code for expansion specified on line 676 of FTL.javacc
+                // Code for expansion specified on line 676 of FTL.javacc
+                consumeToken(WHITESPACE);
+            }
+            // Code for expansion specified on line 680 of FTL.javacc
+            label_56:
+            while (true) {
+                if (!(phase2_56_FTL_javacc_line_678(2))) {
+                    break label_56;
+                }
+                // Code for expansion specified on line 678 of FTL.javacc
+                // Code for Case specified on line 679 of FTL.javacc
+                Case();
+            }
+            // Code for expansion specified on line 681 of FTL.javacc
+            if (phase2_58_FTL_javacc_line_682(2)) {
+                // Code for expansion specified on line 682 of FTL.javacc
+                // Code for Default specified on line 683 of FTL.javacc
+                Default();
+            }
+            // Code for DirectiveEnd specified on line 685 of FTL.javacc
+            DirectiveEnd("switch");
+            if (trace_enabled) LOGGER.info("Exiting normally from Switch");
+        }
+        catch(ParseException e) {
+            parseException55=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException55!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException55.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Switch55.setEndLine(current_token.getEndLine());
+                    Switch55.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Switch55,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 688
+    final public void Case() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 688 of FTL.javacc");
+        // Code for expansion specified on line 690 of FTL.javacc
+        boolean Case56forced=false;
+        CaseInstruction Case56=null;
+        if (buildTree) {
+            Case56=new CaseInstruction();
+            Token start=getToken(1);
+            Case56.setBeginLine(start.beginLine);
+            Case56.setBeginColumn(start.beginColumn);
+            Case56.setInputSource(this.getInputSource());
+            openNodeScope(Case56);
+        }
+        ParseException parseException56=null;
+        try {
+            // Code for expansion specified on line 690 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 690 of FTL.javacc
+            consumeToken(CASE);
+            // Code for expansion specified on line 690 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 691 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 692 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 693 of FTL.javacc
+            Block();
+            if (trace_enabled) LOGGER.info("Exiting normally from Case");
+        }
+        catch(ParseException e) {
+            parseException56=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException56!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException56.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Case56.setEndLine(current_token.getEndLine());
+                    Case56.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Case56,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 696
+    final public void Default() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 696 of FTL.javacc");
+        // Code for expansion specified on line 698 of FTL.javacc
+        boolean Default57forced=false;
+        DefaultInstruction Default57=null;
+        if (buildTree) {
+            Default57=new DefaultInstruction();
+            Token start=getToken(1);
+            Default57.setBeginLine(start.beginLine);
+            Default57.setBeginColumn(start.beginColumn);
+            Default57.setInputSource(this.getInputSource());
+            openNodeScope(Default57);
+        }
+        ParseException parseException57=null;
+        try {
+            // Code for expansion specified on line 698 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 698 of FTL.javacc
+            consumeToken(DEFAUL);
+            // Code for expansion specified on line 698 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 699 of FTL.javacc
+            Block();
+            if (trace_enabled) LOGGER.info("Exiting normally from Default");
+        }
+        catch(ParseException e) {
+            parseException57=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException57!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException57.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Default57.setEndLine(current_token.getEndLine());
+                    Default57.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Default57,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 702
+    final public void List() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 702 of FTL.javacc");
+        // Code for expansion specified on line 704 of FTL.javacc
+        boolean List58forced=false;
+        ListInstruction List58=null;
+        if (buildTree) {
+            List58=new ListInstruction();
+            Token start=getToken(1);
+            List58.setBeginLine(start.beginLine);
+            List58.setBeginColumn(start.beginColumn);
+            List58.setInputSource(this.getInputSource());
+            openNodeScope(List58);
+        }
+        ParseException parseException58=null;
+        try {
+            // Code for expansion specified on line 704 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 704 of FTL.javacc
+            consumeToken(LIST);
+            // Code for expansion specified on line 704 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for Expression specified on line 705 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 706 of FTL.javacc
+            consumeToken(AS);
+            // Code for expansion specified on line 707 of FTL.javacc
+            consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 708 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 709 of FTL.javacc
+            Block();
+            // Code for DirectiveEnd specified on line 710 of FTL.javacc
+            DirectiveEnd("list");
+            if (trace_enabled) LOGGER.info("Exiting normally from List");
+        }
+        catch(ParseException e) {
+            parseException58=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException58!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException58.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    List58.setEndLine(current_token.getEndLine());
+                    List58.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(List58,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 713
+    final public void ForEach() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 713 of FTL.javacc");
+        // Code for expansion specified on line 715 of FTL.javacc
+        boolean ForEach59forced=false;
+        ForEachInstruction ForEach59=null;
+        if (buildTree) {
+            ForEach59=new ForEachInstruction();
+            Token start=getToken(1);
+            ForEach59.setBeginLine(start.beginLine);
+            ForEach59.setBeginColumn(start.beginColumn);
+            ForEach59.setInputSource(this.getInputSource());
+            openNodeScope(ForEach59);
+        }
+        ParseException parseException59=null;
+        try {
+            // Code for expansion specified on line 715 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 715 of FTL.javacc
+            consumeToken(FOREACH);
+            // Code for expansion specified on line 715 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for expansion specified on line 716 of FTL.javacc
+            consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 717 of FTL.javacc
+            consumeToken(IN);
+            // Code for Expression specified on line 718 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 719 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 720 of FTL.javacc
+            Block();
+            // Code for DirectiveEnd specified on line 721 of FTL.javacc
+            DirectiveEnd("foreach");
+            if (trace_enabled) LOGGER.info("Exiting normally from ForEach");
+        }
+        catch(ParseException e) {
+            parseException59=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException59!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException59.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    ForEach59.setEndLine(current_token.getEndLine());
+                    ForEach59.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(ForEach59,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 724
+    final public void Nested() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 724 of FTL.javacc");
+        // Code for expansion specified on line 726 of FTL.javacc
+        boolean Nested60forced=false;
+        NestedInstruction Nested60=null;
+        if (buildTree) {
+            Nested60=new NestedInstruction();
+            Token start=getToken(1);
+            Nested60.setBeginLine(start.beginLine);
+            Nested60.setBeginColumn(start.beginColumn);
+            Nested60.setInputSource(this.getInputSource());
+            openNodeScope(Nested60);
+        }
+        ParseException parseException60=null;
+        try {
+            // Code for expansion specified on line 726 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 726 of FTL.javacc
+            consumeToken(NESTED);
+            // Code for expansion specified on line 727 of FTL.javacc
+            int int43=nextTokenKind();
+            if (int43==BLANK) {
+                // Code for expansion specified on line 727 of FTL.javacc
+                // Code for expansion specified on line 727 of FTL.javacc
+                consumeToken(BLANK);
+                // Code for PositionalArgsList specified on line 727 of FTL.javacc
+                PositionalArgsList();
+            }
+            // Code for LooseTagEnd specified on line 728 of FTL.javacc
+            LooseTagEnd();
+            if (trace_enabled) LOGGER.info("Exiting normally from Nested");
+        }
+        catch(ParseException e) {
+            parseException60=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException60!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException60.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Nested60.setEndLine(current_token.getEndLine());
+                    Nested60.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Nested60,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 731
+    final public void MacroDefinition() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 731 of FTL.javacc");
+        Token t;
+        // Code for expansion specified on line 736 of FTL.javacc
+        int MacroDefinition61Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token MacroDefinition61Start=getToken(1);
+        // Code for expansion specified on line 736 of FTL.javacc
+        consumeToken(FTL_DIRECTIVE_OPEN);
+        // Code for expansion specified on line 738 of FTL.javacc
+        switch(nextTokenKind()) {
+            case MACRO:
+            // Code for expansion specified on line 738 of FTL.javacc
+            // Code for expansion specified on line 738 of FTL.javacc
+            t=consumeToken(MACRO);
+            break;
+            case FUNCTION:
+            // Code for expansion specified on line 740 of FTL.javacc
+            // Code for expansion specified on line 740 of FTL.javacc
+            t=consumeToken(FUNCTION);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        // Code for expansion specified on line 742 of FTL.javacc
+        consumeToken(BLANK);
+        // Code for IdentifierOrStringLiteral specified on line 743 of FTL.javacc
+        IdentifierOrStringLiteral();
+        // Code for expansion specified on line 744 of FTL.javacc
+        int int44=nextTokenKind();
+        if (int44==OPEN_PAREN) {
+            // Code for expansion specified on line 744 of FTL.javacc
+            // Code for expansion specified on line 744 of FTL.javacc
+            consumeToken(OPEN_PAREN);
+        }
+        // Code for expansion specified on line 745 of FTL.javacc
+        int int45=nextTokenKind();
+        if (int45==IDENTIFIER) {
+            // Code for expansion specified on line 745 of FTL.javacc
+            // Code for ParameterList specified on line 745 of FTL.javacc
+            ParameterList();
+        }
+        // Code for expansion specified on line 746 of FTL.javacc
+        int int46=nextTokenKind();
+        if (int46==CLOSE_PAREN) {
+            // Code for expansion specified on line 746 of FTL.javacc
+            // Code for expansion specified on line 746 of FTL.javacc
+            consumeToken(CLOSE_PAREN);
+        }
+        // Code for expansion specified on line 747 of FTL.javacc
+        consumeToken(CLOSE_TAG);
+        // Code for Block specified on line 748 of FTL.javacc
+        Block();
+        // Code for DirectiveEnd specified on line 749 of FTL.javacc
+        DirectiveEnd(t.image);
+        if (trace_enabled) LOGGER.info("Exiting normally from MacroDefinition");
+        if (buildTree) {
+            int MacroDefinition61Mark=closeDeferredNodeScope(MacroDefinition61Floor);
+            if (nodeArity()-MacroDefinition61Mark>1) {
+                MacroDefinition MacroDefinition61=new MacroDefinition();
+                MacroDefinition61.setBeginLine(MacroDefinition61Start.beginLine);
+                MacroDefinition61.setBeginColumn(MacroDefinition61Start.beginColumn);
+                MacroDefinition61.setInputSource(this.getInputSource());
+                MacroDefinition61.setEndLine(current_token.getEndLine());
+                MacroDefinition61.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MacroDefinition61,MacroDefinition61Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 752
+    final public void ParameterList() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 752 of FTL.javacc");
+        // Code for expansion specified on line 757 of FTL.javacc
+        int ParameterList62Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token ParameterList62Start=getToken(1);
+        // Code for expansion specified on line 757 of FTL.javacc
+        consumeToken(IDENTIFIER);
+        // Code for expansion specified on line 758 of FTL.javacc
+        int int47=nextTokenKind();
+        if (int47==EQUALS||int47==ELLIPSIS) {
+            // Code for expansion specified on line 758 of FTL.javacc
+            switch(nextTokenKind()) {
+                case EQUALS:
+                // Code for expansion specified on line 758 of FTL.javacc
+                // Code for expansion specified on line 758 of FTL.javacc
+                // Code for expansion specified on line 758 of FTL.javacc
+                consumeToken(EQUALS);
+                // Code for Expression specified on line 758 of FTL.javacc
+                Expression();
+                break;
+                case ELLIPSIS:
+                // Code for expansion specified on line 758 of FTL.javacc
+                // Code for expansion specified on line 758 of FTL.javacc
+                consumeToken(ELLIPSIS);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        // Code for expansion specified on line 767 of FTL.javacc
+        label_65:
+        while (true) {
+            int int48=nextTokenKind();
+            if (!(int48==COMMA||int48==IDENTIFIER)) {
+                break label_65;
+            }
+            // Code for expansion specified on line 760 of FTL.javacc
+            // Code for expansion specified on line 760 of FTL.javacc
+            int int49=nextTokenKind();
+            if (int49==COMMA) {
+                // Code for expansion specified on line 760 of FTL.javacc
+                // Code for expansion specified on line 760 of FTL.javacc
+                consumeToken(COMMA);
+            }
+            // Code for expansion specified on line 761 of FTL.javacc
+            consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 762 of FTL.javacc
+            int int50=nextTokenKind();
+            if (int50==EQUALS||int50==ELLIPSIS) {
+                // Code for expansion specified on line 763 of FTL.javacc
+                switch(nextTokenKind()) {
+                    case EQUALS:
+                    // Code for expansion specified on line 763 of FTL.javacc
+                    // Code for expansion specified on line 763 of FTL.javacc
+                    // Code for expansion specified on line 763 of FTL.javacc
+                    consumeToken(EQUALS);
+                    // Code for Expression specified on line 763 of FTL.javacc
+                    Expression();
+                    break;
+                    case ELLIPSIS:
+                    // Code for expansion specified on line 765 of FTL.javacc
+                    // Code for expansion specified on line 765 of FTL.javacc
+                    consumeToken(ELLIPSIS);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from ParameterList");
+        if (buildTree) {
+            int ParameterList62Mark=closeDeferredNodeScope(ParameterList62Floor);
+            if (nodeArity()-ParameterList62Mark>1) {
+                ParameterList ParameterList62=new ParameterList();
+                ParameterList62.setBeginLine(ParameterList62Start.beginLine);
+                ParameterList62.setBeginColumn(ParameterList62Start.beginColumn);
+                ParameterList62.setInputSource(this.getInputSource());
+                ParameterList62.setEndLine(current_token.getEndLine());
+                ParameterList62.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ParameterList62,ParameterList62Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 771
+    final public void LooseTagEnd() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 771 of FTL.javacc");
+        // Code for expansion specified on line 773 of FTL.javacc
+        int LooseTagEnd63Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token LooseTagEnd63Start=getToken(1);
+        switch(nextTokenKind()) {
+            case CLOSE_TAG:
+            // Code for expansion specified on line 773 of FTL.javacc
+            // Code for expansion specified on line 773 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            break;
+            case CLOSE_EMPTY_TAG:
+            // Code for expansion specified on line 775 of FTL.javacc
+            // Code for expansion specified on line 775 of FTL.javacc
+            consumeToken(CLOSE_EMPTY_TAG);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from LooseTagEnd");
+        if (buildTree) {
+            int LooseTagEnd63Mark=closeDeferredNodeScope(LooseTagEnd63Floor);
+            if (nodeArity()-LooseTagEnd63Mark>1) {
+                LooseTagEnd LooseTagEnd63=new LooseTagEnd();
+                LooseTagEnd63.setBeginLine(LooseTagEnd63Start.beginLine);
+                LooseTagEnd63.setBeginColumn(LooseTagEnd63Start.beginColumn);
+                LooseTagEnd63.setInputSource(this.getInputSource());
+                LooseTagEnd63.setEndLine(current_token.getEndLine());
+                LooseTagEnd63.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(LooseTagEnd63,LooseTagEnd63Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 778
+    final public void DirectiveEnd(String name) throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 778 of FTL.javacc");
+        Token t;
+        // Code for expansion specified on line 783 of FTL.javacc
+        boolean DirectiveEnd64forced=false;
+        DirectiveEnd DirectiveEnd64=null;
+        if (buildTree) {
+            DirectiveEnd64=new DirectiveEnd();
+            Token start=getToken(1);
+            DirectiveEnd64.setBeginLine(start.beginLine);
+            DirectiveEnd64.setBeginColumn(start.beginColumn);
+            DirectiveEnd64.setInputSource(this.getInputSource());
+            openNodeScope(DirectiveEnd64);
+        }
+        ParseException parseException64=null;
+        try {
+            // Code for expansion specified on line 783 of FTL.javacc
+            t=consumeToken(END_DIRECTIVE);
+            // Code for expansion specified on line 784 of FTL.javacc
+            String tag=t.image;
+            tag=tag.substring(3);
+            tag=tag.substring(0,tag.length()-1).trim();
+            if (tag.length()!=0&&!name.equals(tag)) {
+                throw new ParseException("Expecting closing tag for "+name);
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from DirectiveEnd");
+        }
+        catch(ParseException e) {
+            parseException64=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException64!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException64.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    DirectiveEnd64.setEndLine(current_token.getEndLine());
+                    DirectiveEnd64.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(DirectiveEnd64,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 794
+    final public void Text() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 794 of FTL.javacc");
+        Token t;
+        // Code for expansion specified on line 799 of FTL.javacc
+        int Text65Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Text65Start=getToken(1);
+        // Code for expansion specified on line 804 of FTL.javacc
+        label_68:
+        while (true) {
+            // Code for expansion specified on line 800 of FTL.javacc
+            // Code for expansion specified on line 801 of FTL.javacc
+            switch(nextTokenKind()) {
+                case PRINTABLE_CHARS:
+                // Code for expansion specified on line 801 of FTL.javacc
+                // Code for expansion specified on line 801 of FTL.javacc
+                t=consumeToken(PRINTABLE_CHARS);
+                break;
+                case WHITESPACE:
+                // Code for expansion specified on line 802 of FTL.javacc
+                // Code for expansion specified on line 802 of FTL.javacc
+                t=consumeToken(WHITESPACE);
+                break;
+                case SPECIAL_CHAR:
+                // Code for expansion specified on line 803 of FTL.javacc
+                // Code for expansion specified on line 803 of FTL.javacc
+                t=consumeToken(SPECIAL_CHAR);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            int int51=nextTokenKind();
+            if (!(int51==WHITESPACE||int51==SPECIAL_CHAR||int51==PRINTABLE_CHARS)) {
+                break label_68;
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from Text");
+        if (buildTree) {
+            int Text65Mark=closeDeferredNodeScope(Text65Floor);
+            if (nodeArity()-Text65Mark>1) {
+                Text Text65=new Text();
+                Text65.setBeginLine(Text65Start.beginLine);
+                Text65.setBeginColumn(Text65Start.beginColumn);
+                Text65.setInputSource(this.getInputSource());
+                Text65.setEndLine(current_token.getEndLine());
+                Text65.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Text65,Text65Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 808
+    final public void Recover() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 808 of FTL.javacc");
+        // Code for expansion specified on line 810 of FTL.javacc
+        boolean Recover66forced=false;
+        RecoverBlock Recover66=null;
+        if (buildTree) {
+            Recover66=new RecoverBlock();
+            Token start=getToken(1);
+            Recover66.setBeginLine(start.beginLine);
+            Recover66.setBeginColumn(start.beginColumn);
+            Recover66.setInputSource(this.getInputSource());
+            openNodeScope(Recover66);
+        }
+        ParseException parseException66=null;
+        try {
+            // Code for expansion specified on line 810 of FTL.javacc
+            consumeToken(FTL_DIRECTIVE_OPEN);
+            // Code for expansion specified on line 810 of FTL.javacc
+            consumeToken(RECOVER);
+            // Code for expansion specified on line 810 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            // Code for Block specified on line 811 of FTL.javacc
+            Block();
+            // Code for DirectiveEnd specified on line 812 of FTL.javacc
+            DirectiveEnd("attempt");
+            if (trace_enabled) LOGGER.info("Exiting normally from Recover");
+        }
+        catch(ParseException e) {
+            parseException66=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException66!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException66.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Recover66.setEndLine(current_token.getEndLine());
+                    Recover66.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Recover66,true);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 815
+    final public void TopLevelDirective() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 815 of FTL.javacc");
+        // Code for expansion specified on line 817 of FTL.javacc
+        // Code for expansion specified on line 818 of FTL.javacc
+        if (phase2_68_FTL_javacc_line_818(2)) {
+            // Code for expansion specified on line 818 of FTL.javacc
+            // Code for Assignment specified on line 818 of FTL.javacc
+            Assignment();
+        }
+        else if (phase2_69_FTL_javacc_line_819(2)) {
+            // Code for expansion specified on line 819 of FTL.javacc
+            // Code for Attempt specified on line 819 of FTL.javacc
+            Attempt();
+        }
+        else if (phase2_70_FTL_javacc_line_820(2)) {
+            // Code for expansion specified on line 820 of FTL.javacc
+            // Code for Comment specified on line 820 of FTL.javacc
+            Comment();
+        }
+        else if (phase2_71_FTL_javacc_line_821(2)) {
+            // Code for expansion specified on line 821 of FTL.javacc
+            // Code for Compress specified on line 821 of FTL.javacc
+            Compress();
+        }
+        else if (phase2_72_FTL_javacc_line_822(2)) {
+            // Code for expansion specified on line 822 of FTL.javacc
+            // Code for Embed specified on line 822 of FTL.javacc
+            Embed();
+        }
+        else if (phase2_73_FTL_javacc_line_823(2)) {
+            // Code for expansion specified on line 823 of FTL.javacc
+            // Code for ForEach specified on line 823 of FTL.javacc
+            ForEach();
+        }
+        else if (phase2_74_FTL_javacc_line_824(2)) {
+            // Code for expansion specified on line 824 of FTL.javacc
+            // Code for If specified on line 824 of FTL.javacc
+            If();
+        }
+        else if (phase2_75_FTL_javacc_line_825(2)) {
+            // Code for expansion specified on line 825 of FTL.javacc
+            // Code for List specified on line 825 of FTL.javacc
+            List();
+        }
+        else if (phase2_76_FTL_javacc_line_826(2)) {
+            // Code for expansion specified on line 826 of FTL.javacc
+            // Code for Include specified on line 826 of FTL.javacc
+            Include();
+        }
+        else if (phase2_77_FTL_javacc_line_827(2)) {
+            // Code for expansion specified on line 827 of FTL.javacc
+            // Code for Import specified on line 827 of FTL.javacc
+            Import();
+        }
+        else if (phase2_78_FTL_javacc_line_828(2)) {
+            // Code for expansion specified on line 828 of FTL.javacc
+            // Code for MacroDefinition specified on line 828 of FTL.javacc
+            MacroDefinition();
+        }
+        else if (phase2_79_FTL_javacc_line_829(2)) {
+            // Code for expansion specified on line 829 of FTL.javacc
+            // Code for NoParse specified on line 829 of FTL.javacc
+            NoParse();
+        }
+        else if (phase2_80_FTL_javacc_line_830(2)) {
+            // Code for expansion specified on line 830 of FTL.javacc
+            // Code for Switch specified on line 830 of FTL.javacc
+            Switch();
+        }
+        else if (phase2_81_FTL_javacc_line_831(2)) {
+            // Code for expansion specified on line 831 of FTL.javacc
+            // Code for Setting specified on line 831 of FTL.javacc
+            Setting();
+        }
+        else if (phase2_82_FTL_javacc_line_832(2)) {
+            // Code for expansion specified on line 832 of FTL.javacc
+            // Code for Var specified on line 832 of FTL.javacc
+            Var();
+        }
+        else if (phase2_83_FTL_javacc_line_833(2)) {
+            // Code for expansion specified on line 833 of FTL.javacc
+            // Code for Break specified on line 833 of FTL.javacc
+            Break();
+        }
+        else if (phase2_84_FTL_javacc_line_834(2)) {
+            // Code for expansion specified on line 834 of FTL.javacc
+            // Code for Return specified on line 834 of FTL.javacc
+            Return();
+        }
+        else if (phase2_85_FTL_javacc_line_835(2)) {
+            // Code for expansion specified on line 835 of FTL.javacc
+            // Code for Stop specified on line 835 of FTL.javacc
+            Stop();
+        }
+        else if (phase2_86_FTL_javacc_line_836(2)) {
+            // Code for expansion specified on line 836 of FTL.javacc
+            // Code for Flush specified on line 836 of FTL.javacc
+            Flush();
+        }
+        else if (phase2_87_FTL_javacc_line_837(2)) {
+            // Code for expansion specified on line 837 of FTL.javacc
+            // Code for Trim specified on line 837 of FTL.javacc
+            Trim();
+        }
+        else if (phase2_88_FTL_javacc_line_838(2)) {
+            // Code for expansion specified on line 838 of FTL.javacc
+            // Code for NoTrim specified on line 838 of FTL.javacc
+            NoTrim();
+        }
+        else if (phase2_89_FTL_javacc_line_839(2)) {
+            // Code for expansion specified on line 839 of FTL.javacc
+            // Code for LeftTrim specified on line 839 of FTL.javacc
+            LeftTrim();
+        }
+        else if (phase2_90_FTL_javacc_line_840(2)) {
+            // Code for expansion specified on line 840 of FTL.javacc
+            // Code for RightTrim specified on line 840 of FTL.javacc
+            RightTrim();
+        }
+        else if (phase2_91_FTL_javacc_line_841(2)) {
+            // Code for expansion specified on line 841 of FTL.javacc
+            // Code for TrimBlock specified on line 841 of FTL.javacc
+            TrimBlock();
+        }
+        else if (phase2_92_FTL_javacc_line_842(2)) {
+            // Code for expansion specified on line 842 of FTL.javacc
+            // Code for Nested specified on line 842 of FTL.javacc
+            Nested();
+        }
+        else if (phase2_93_FTL_javacc_line_843(2)) {
+            // Code for expansion specified on line 843 of FTL.javacc
+            // Code for EscapeBlock specified on line 843 of FTL.javacc
+            EscapeBlock();
+        }
+        else if (phase2_94_FTL_javacc_line_844(2)) {
+            // Code for expansion specified on line 844 of FTL.javacc
+            // Code for NoEscapeBlock specified on line 844 of FTL.javacc
+            NoEscapeBlock();
+        }
+        else if (phase2_95_FTL_javacc_line_845(2)) {
+            // Code for expansion specified on line 845 of FTL.javacc
+            // Code for Visit specified on line 845 of FTL.javacc
+            Visit();
+        }
+        else if (phase2_96_FTL_javacc_line_846(2)) {
+            // Code for expansion specified on line 846 of FTL.javacc
+            // Code for Recurse specified on line 846 of FTL.javacc
+            Recurse();
+        }
+        else if (phase2_97_FTL_javacc_line_847(2)) {
+            // Code for expansion specified on line 847 of FTL.javacc
+            // Code for FallBack specified on line 847 of FTL.javacc
+            FallBack();
+        }
+        else {
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from TopLevelDirective");
+    }
+
+    // FTL.javacc, line 851
+    final public void UserDirective() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 851 of FTL.javacc");
+        Token startToken;
+        token_source.noWhitespaceInExpression=true;
+        // Code for expansion specified on line 857 of FTL.javacc
+        boolean UserDirective67forced=false;
+        UserDirective UserDirective67=null;
+        if (buildTree) {
+            UserDirective67=new UserDirective();
+            Token start=getToken(1);
+            UserDirective67.setBeginLine(start.beginLine);
+            UserDirective67.setBeginColumn(start.beginColumn);
+            UserDirective67.setInputSource(this.getInputSource());
+            openNodeScope(UserDirective67);
+        }
+        ParseException parseException67=null;
+        try {
+            // Code for expansion specified on line 857 of FTL.javacc
+            startToken=consumeToken(USER_DIRECTIVE_OPEN);
+            // Code for Expression specified on line 858 of FTL.javacc
+            Expression();
+            // Code for expansion specified on line 859 of FTL.javacc
+            token_source.noWhitespaceInExpression=false;
+            // Code for expansion specified on line 860 of FTL.javacc
+            int int52=nextTokenKind();
+            if (int52==BLANK) {
+                // Code for expansion specified on line 860 of FTL.javacc
+                // Code for expansion specified on line 860 of FTL.javacc
+                consumeToken(BLANK);
+            }
+            // Code for expansion specified on line 861 of FTL.javacc
+            int int53=nextTokenKind();
+            if (int53>=0&&(jj_first_set_1[int53>>6]&(1L<<int53))!=0L) {
+                // Code for expansion specified on line 861 of FTL.javacc
+                // Code for ArgsList specified on line 861 of FTL.javacc
+                ArgsList();
+            }
+            // Code for expansion specified on line 862 of FTL.javacc
+            int int55=nextTokenKind();
+            if (int55==SEMICOLON) {
+                // Code for expansion specified on line 862 of FTL.javacc
+                // Code for expansion specified on line 862 of FTL.javacc
+                consumeToken(SEMICOLON);
+                // Code for expansion specified on line 862 of FTL.javacc
+                int int54=nextTokenKind();
+                if (int54==IDENTIFIER) {
+                    // Code for expansion specified on line 862 of FTL.javacc
+                    // Code for ParameterList specified on line 862 of FTL.javacc
+                    ParameterList();
+                }
+            }
+            // Code for expansion specified on line 864 of FTL.javacc
+            switch(nextTokenKind()) {
+                case CLOSE_EMPTY_TAG:
+                // Code for expansion specified on line 864 of FTL.javacc
+                // Code for expansion specified on line 864 of FTL.javacc
+                consumeToken(CLOSE_EMPTY_TAG);
+                break;
+                case CLOSE_TAG:
+                // Code for expansion specified on line 866 of FTL.javacc
+                // Code for expansion specified on line 867 of FTL.javacc
+                // Code for expansion specified on line 867 of FTL.javacc
+                consumeToken(CLOSE_TAG);
+                // Code for Block specified on line 868 of FTL.javacc
+                Block();
+                // Code for EndUserDirective specified on line 869 of FTL.javacc
+                EndUserDirective(startToken);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from UserDirective");
+        }
+        catch(ParseException e) {
+            parseException67=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException67!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException67.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    UserDirective67.setEndLine(current_token.getEndLine());
+                    UserDirective67.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(UserDirective67,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    // FTL.javacc, line 874
+    final public void EndUserDirective(Token startToken) throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 874 of FTL.javacc");
+        // Code for expansion specified on line 876 of FTL.javacc
+        // Code for expansion specified on line 876 of FTL.javacc
+        consumeToken(END_USER_DIRECTIVE);
+        if (trace_enabled) LOGGER.info("Exiting normally from EndUserDirective");
+    }
+
+    // FTL.javacc, line 879
+    final public void Block() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 879 of FTL.javacc");
+        // Code for expansion specified on line 881 of FTL.javacc
+        int Block68Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Block68Start=getToken(1);
+        // Code for expansion specified on line 894 of FTL.javacc
+        label_103:
+        while (true) {
+            if (!(phase2_103_FTL_javacc_line_882(2))) {
+                break label_103;
+            }
+            // Code for expansion specified on line 882 of FTL.javacc
+            // Code for expansion specified on line 884 of FTL.javacc
+            switch(nextTokenKind()) {
+                case WHITESPACE:
+                case SPECIAL_CHAR:
+                case PRINTABLE_CHARS:
+                // Code for expansion specified on line 884 of FTL.javacc
+                // Code for Text specified on line 884 of FTL.javacc
+                Text();
+                break;
+                case INTERPOLATE:
+                // Code for expansion specified on line 886 of FTL.javacc
+                // Code for Interpolation specified on line 886 of FTL.javacc
+                Interpolation();
+                break;
+                case NUMERICAL_INTERPOLATE:
+                // Code for expansion specified on line 888 of FTL.javacc
+                // Code for NumericalInterpolation specified on line 888 of FTL.javacc
+                NumericalInterpolation();
+                break;
+                case USER_DIRECTIVE_OPEN:
+                // Code for expansion specified on line 890 of FTL.javacc
+                // Code for UserDirective specified on line 890 of FTL.javacc
+                UserDirective();
+                break;
+                case FTL_DIRECTIVE_OPEN:
+                // Code for expansion specified on line 892 of FTL.javacc
+                // Code for TopLevelDirective specified on line 892 of FTL.javacc
+                TopLevelDirective();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from Block");
+        if (buildTree) {
+            int Block68Mark=closeDeferredNodeScope(Block68Floor);
+            if (nodeArity()-Block68Mark>1) {
+                Block Block68=new Block();
+                Block68.setBeginLine(Block68Start.beginLine);
+                Block68.setBeginColumn(Block68Start.beginColumn);
+                Block68.setInputSource(this.getInputSource());
+                Block68.setEndLine(current_token.getEndLine());
+                Block68.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Block68,Block68Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 897
+    final public void FTLHeader() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 897 of FTL.javacc");
+        // Code for expansion specified on line 899 of FTL.javacc
+        int FTLHeader69Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token FTLHeader69Start=getToken(1);
+        // Code for expansion specified on line 899 of FTL.javacc
+        consumeToken(FTL_DIRECTIVE_OPEN);
+        // Code for expansion specified on line 899 of FTL.javacc
+        consumeToken(FTL);
+        // Code for expansion specified on line 900 of FTL.javacc
+        int int57=nextTokenKind();
+        if (int57==BLANK) {
+            // Code for expansion specified on line 901 of FTL.javacc
+            // Code for expansion specified on line 901 of FTL.javacc
+            consumeToken(BLANK);
+            // Code for expansion specified on line 906 of FTL.javacc
+            label_106:
+            while (true) {
+                int int56=nextTokenKind();
+                if (!(int56==IDENTIFIER)) {
+                    break label_106;
+                }
+                // Code for expansion specified on line 903 of FTL.javacc
+                // Code for expansion specified on line 903 of FTL.javacc
+                consumeToken(IDENTIFIER);
+                // Code for expansion specified on line 904 of FTL.javacc
+                consumeToken(EQUALS);
+                // Code for Expression specified on line 905 of FTL.javacc
+                Expression();
+            }
+        }
+        // Code for expansion specified on line 908 of FTL.javacc
+        switch(nextTokenKind()) {
+            case CLOSE_TAG:
+            // Code for expansion specified on line 908 of FTL.javacc
+            // Code for expansion specified on line 908 of FTL.javacc
+            consumeToken(CLOSE_TAG);
+            break;
+            case CLOSE_EMPTY_TAG:
+            // Code for expansion specified on line 908 of FTL.javacc
+            // Code for expansion specified on line 908 of FTL.javacc
+            consumeToken(CLOSE_EMPTY_TAG);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from FTLHeader");
+        if (buildTree) {
+            int FTLHeader69Mark=closeDeferredNodeScope(FTLHeader69Floor);
+            if (nodeArity()-FTLHeader69Mark>1) {
+                FTLHeader FTLHeader69=new FTLHeader();
+                FTLHeader69.setBeginLine(FTLHeader69Start.beginLine);
+                FTLHeader69.setBeginColumn(FTLHeader69Start.beginColumn);
+                FTLHeader69.setInputSource(this.getInputSource());
+                FTLHeader69.setEndLine(current_token.getEndLine());
+                FTLHeader69.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(FTLHeader69,FTLHeader69Mark);
+            }
+        }
+    }
+
+    // FTL.javacc, line 913
+    final public void Root() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 913 of FTL.javacc");
+        // Code for expansion specified on line 915 of FTL.javacc
+        boolean Root70forced=false;
+        Root Root70=null;
+        if (buildTree) {
+            Root70=new Root();
+            Token start=getToken(1);
+            Root70.setBeginLine(start.beginLine);
+            Root70.setBeginColumn(start.beginColumn);
+            Root70.setInputSource(this.getInputSource());
+            openNodeScope(Root70);
+        }
+        ParseException parseException70=null;
+        try {
+            // Code for expansion specified on line 915 of FTL.javacc
+            if (phase2_108_FTL_javacc_line_916(INFINITY)) {
+                // Code for expansion specified on line 916 of FTL.javacc
+                // Code for expansion specified on line 917 of FTL.javacc
+                int int58=nextTokenKind();
+                if (int58==WHITESPACE) {
+                    // Code for expansion specified on line 917 of FTL.javacc
+                    // Code for expansion specified on line 917 of FTL.javacc
+                    consumeToken(WHITESPACE);
+                }
+                // Code for FTLHeader specified on line 918 of FTL.javacc
+                FTLHeader();
+                // Code for expansion specified on line 918 of FTL.javacc
+                token_source.rightAfterHeader=true;
+            }
+            // Code for Block specified on line 920 of FTL.javacc
+            Block();
+            // Code for expansion specified on line 921 of FTL.javacc
+            consumeToken(0);
+            if (trace_enabled) LOGGER.info("Exiting normally from Root");
+        }
+        catch(ParseException e) {
+            parseException70=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException70!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException70.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root70.setEndLine(current_token.getEndLine());
+                    Root70.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root70,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    static private final long[] jj_first_set_0={0xcc601800000L,0x0L};
+    static private final long[] jj_first_set_1={0xcee00010039500L,0x0L};
+    static private final long[] jj_first_set_2={0xcee00012039500L,0x0L};
+    static private final long[] jj_first_set_3={0xc8000002000000L,0x0L};
+    //====================================
+    // Start of methods for Phase 2 Lookaheads
+    //====================================
+    private boolean phase2_6_FEL_javacc_line_880(int maxLookahead) {
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return!phase3_6_FEL_javacc_line_880();
+        }
+        catch(LookaheadSuccess ls) {
+            return true;
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_8_FEL_javacc_line_890(int maxLookahead) {
+        if (jj_la_cached(0)) return jj_la_cacheResults[0];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(0,!phase3_8_FEL_javacc_line_890());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(0,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_11_FEL_javacc_line_935(int maxLookahead) {
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return!phase3_11_FEL_javacc_line_935();
+        }
+        catch(LookaheadSuccess ls) {
+            return true;
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_14_FEL_javacc_line_948(int maxLookahead) {
+        if (jj_la_cached(1)) return jj_la_cacheResults[1];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(1,!phase3_14_FEL_javacc_line_948());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(1,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_21_FEL_javacc_line_1058(int maxLookahead) {
+        if (jj_la_cached(2)) return jj_la_cacheResults[2];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(2,!phase3_21_FEL_javacc_line_1058());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(2,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_51_FTL_javacc_line_647(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case ELSEIF:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_53_FTL_javacc_line_651(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case ELSE:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_56_FTL_javacc_line_678(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case CASE:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_58_FTL_javacc_line_682(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case DEFAUL:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_68_FTL_javacc_line_818(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case SET:
+                case LOCAL:
+                case GLOBAL:
+                case ASSIGN:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_69_FTL_javacc_line_819(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case ATTEMPT:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_70_FTL_javacc_line_820(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case COMMENT:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_71_FTL_javacc_line_821(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case COMPRESS:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_72_FTL_javacc_line_822(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case EMBED:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_73_FTL_javacc_line_823(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case FOREACH:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_74_FTL_javacc_line_824(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case IF:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_75_FTL_javacc_line_825(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case LIST:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_76_FTL_javacc_line_826(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case _INCLUDE:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_77_FTL_javacc_line_827(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case IMPORT:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_78_FTL_javacc_line_828(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case MACRO:
+                case FUNCTION:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_79_FTL_javacc_line_829(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case NOPARSE:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_80_FTL_javacc_line_830(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case SWITCH:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_81_FTL_javacc_line_831(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case SETTING:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_82_FTL_javacc_line_832(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case VAR:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_83_FTL_javacc_line_833(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case BREAK:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_84_FTL_javacc_line_834(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case RETURN:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_85_FTL_javacc_line_835(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case STOP:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_86_FTL_javacc_line_836(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case FLUSH:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_87_FTL_javacc_line_837(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case TRIM:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_88_FTL_javacc_line_838(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case NOTRIM:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_89_FTL_javacc_line_839(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case LTRIM:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_90_FTL_javacc_line_840(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case RTRIM:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_91_FTL_javacc_line_841(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case BLOCKTRIM:
+                case BLOCKTRIML:
+                case BLOCKTRIMR:
+                case BLOCKNOTRIM:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_92_FTL_javacc_line_842(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case NESTED:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_93_FTL_javacc_line_843(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case ESCAPE:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_94_FTL_javacc_line_844(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case NOESCAPE:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_95_FTL_javacc_line_845(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case VISIT:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_96_FTL_javacc_line_846(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case RECURSE:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_97_FTL_javacc_line_847(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case FALLBACK:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_103_FTL_javacc_line_882(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case FTL_DIRECTIVE_OPEN:
+            switch(getToken(2).kind) {
+                case TRIM:
+                case COMMENT:
+                case LTRIM:
+                case RTRIM:
+                case NOTRIM:
+                case IF:
+                case SET:
+                case VAR:
+                case LIST:
+                case STOP:
+                case MACRO:
+                case LOCAL:
+                case FLUSH:
+                case BREAK:
+                case EMBED:
+                case NESTED:
+                case VISIT:
+                case SWITCH:
+                case IMPORT:
+                case RETURN:
+                case GLOBAL:
+                case ASSIGN:
+                case ESCAPE:
+                case RECURSE:
+                case FUNCTION:
+                case FALLBACK:
+                case NOESCAPE:
+                case SETTING:
+                case NOPARSE:
+                case _INCLUDE:
+                case ATTEMPT:
+                case FOREACH:
+                case COMPRESS:
+                case BLOCKTRIM:
+                case BLOCKTRIML:
+                case BLOCKTRIMR:
+                case BLOCKNOTRIM:
+                return true;
+                default:
+                return false;
+            }
+            case USER_DIRECTIVE_OPEN:
+            case INTERPOLATE:
+            case NUMERICAL_INTERPOLATE:
+            switch(getToken(2).kind) {
+                case OPEN_PAREN:
+                case OPEN_BRACKET:
+                case OPEN_BRACE:
+                case DOT:
+                case PLUS:
+                case MINUS:
+                case EXCLAM:
+                case NULL:
+                case TRUE:
+                case FALSE:
+                case INTEGER:
+                case DECIMAL:
+                case IDENTIFIER:
+                case STRING_LITERAL:
+                case RAW_STRING:
+                return true;
+                default:
+                return false;
+            }
+            case WHITESPACE:
+            case SPECIAL_CHAR:
+            case PRINTABLE_CHARS:
+            return true;
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_108_FTL_javacc_line_916(int maxLookahead) {
+        if (jj_la_cached(3)) return jj_la_cacheResults[3];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(3,!phase3_108_FTL_javacc_line_916());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(3,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    //====================================
+    // Start of methods for Phase 3 Lookaheads
+    //====================================
+    private boolean phase3_6_FEL_javacc_line_880() {
+        if (phase3R_307()) return true;
+        return false;
+    }
+
+    private boolean phase3_8_FEL_javacc_line_890() {
+        Token token59=jj_scanpos;
+        if (phase3R_111()) {
+            jj_scanpos=token59;
+            if (phase3R_112()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3_11_FEL_javacc_line_935() {
+        if (jj_scan_token(EXCLAM)) return true;
+        if (phase3R_182()) return true;
+        return false;
+    }
+
+    private boolean phase3_14_FEL_javacc_line_948() {
+        Token token60=jj_scanpos;
+        if (phase3R_114()) {
+            jj_scanpos=token60;
+            if (phase3R_115()) {
+                jj_scanpos=token60;
+                if (phase3R_116()) {
+                    jj_scanpos=token60;
+                    if (phase3R_117()) {
+                        jj_scanpos=token60;
+                        if (phase3R_118()) return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3_21_FEL_javacc_line_1058() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        if (jj_scan_token(EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3_108_FTL_javacc_line_916() {
+        Token token61=jj_scanpos;
+        if (phase3R_119()) jj_scanpos=token61;
+        if (jj_scan_token(FTL_DIRECTIVE_OPEN)) return true;
+        if (jj_scan_token(FTL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_307() {
+        if (phase3R_135()) return true;
+        while (true) {
+            Token token62=jj_scanpos;
+            if (phase3R_121()) {
+                jj_scanpos=token62;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_111() {
+        if (jj_scan_token(PLUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_112() {
+        if (jj_scan_token(MINUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_182() {
+        Token token63=jj_scanpos;
+        if (phase3R_190()) {
+            jj_scanpos=token63;
+            if (phase3R_191()) {
+                jj_scanpos=token63;
+                if (phase3R_192()) {
+                    jj_scanpos=token63;
+                    if (phase3R_193()) {
+                        jj_scanpos=token63;
+                        if (phase3R_194()) {
+                            jj_scanpos=token63;
+                            if (phase3R_195()) {
+                                jj_scanpos=token63;
+                                if (phase3R_196()) {
+                                    jj_scanpos=token63;
+                                    if (phase3R_197()) {
+                                        jj_scanpos=token63;
+                                        if (phase3R_198()) return true;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_114() {
+        if (jj_scan_token(DOT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_115() {
+        if (jj_scan_token(OPEN_BRACKET)) return true;
+        return false;
+    }
+
+    private boolean phase3R_116() {
+        if (jj_scan_token(OPEN_PAREN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_117() {
+        if (jj_scan_token(BUILT_IN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_118() {
+        if (jj_scan_token(EXISTS_OPERATOR)) return true;
+        return false;
+    }
+
+    private boolean phase3R_119() {
+        if (jj_scan_token(WHITESPACE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_135() {
+        if (phase3R_150()) return true;
+        while (true) {
+            Token token64=jj_scanpos;
+            if (phase3R_132()) {
+                jj_scanpos=token64;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_121() {
+        Token token65=jj_scanpos;
+        if (phase3R_133()) {
+            jj_scanpos=token65;
+            if (phase3R_134()) return true;
+        }
+        if (phase3R_135()) return true;
+        return false;
+    }
+
+    private boolean phase3R_190() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_191() {
+        if (phase3R_209()) return true;
+        return false;
+    }
+
+    private boolean phase3R_192() {
+        if (phase3R_210()) return true;
+        return false;
+    }
+
+    private boolean phase3R_193() {
+        if (phase3R_211()) return true;
+        return false;
+    }
+
+    private boolean phase3R_194() {
+        if (phase3R_212()) return true;
+        return false;
+    }
+
+    private boolean phase3R_195() {
+        if (phase3R_213()) return true;
+        return false;
+    }
+
+    private boolean phase3R_196() {
+        if (phase3R_214()) return true;
+        return false;
+    }
+
+    private boolean phase3R_197() {
+        if (phase3R_215()) return true;
+        return false;
+    }
+
+    private boolean phase3R_198() {
+        if (phase3R_216()) return true;
+        return false;
+    }
+
+    private boolean phase3R_150() {
+        Token token66=jj_scanpos;
+        if (phase3R_144()) {
+            jj_scanpos=token66;
+            if (phase3R_145()) {
+                jj_scanpos=token66;
+                if (phase3R_146()) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_132() {
+        Token token67=jj_scanpos;
+        if (phase3R_147()) {
+            jj_scanpos=token67;
+            if (phase3R_148()) {
+                jj_scanpos=token67;
+                if (phase3R_149()) return true;
+            }
+        }
+        if (phase3R_150()) return true;
+        return false;
+    }
+
+    private boolean phase3R_133() {
+        if (jj_scan_token(PLUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_134() {
+        if (jj_scan_token(MINUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_209() {
+        Token token68=jj_scanpos;
+        if (phase3R_228()) {
+            jj_scanpos=token68;
+            if (phase3R_229()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_210() {
+        if (jj_scan_token(OPEN_BRACE)) return true;
+        Token token69=jj_scanpos;
+        if (phase3R_230()) jj_scanpos=token69;
+        if (jj_scan_token(CLOSE_BRACE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_211() {
+        Token token70=jj_scanpos;
+        if (phase3R_231()) {
+            jj_scanpos=token70;
+            if (phase3R_232()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_212() {
+        Token token71=jj_scanpos;
+        if (phase3R_233()) {
+            jj_scanpos=token71;
+            if (phase3R_234()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_213() {
+        if (jj_scan_token(NULL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_214() {
+        if (jj_scan_token(OPEN_BRACKET)) return true;
+        Token token72=jj_scanpos;
+        if (phase3R_235()) jj_scanpos=token72;
+        if (jj_scan_token(CLOSE_BRACKET)) return true;
+        return false;
+    }
+
+    private boolean phase3R_215() {
+        if (jj_scan_token(OPEN_PAREN)) return true;
+        if (phase3R_294()) return true;
+        if (jj_scan_token(CLOSE_PAREN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_216() {
+        if (jj_scan_token(DOT)) return true;
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_144() {
+        if (phase3R_160()) return true;
+        return false;
+    }
+
+    private boolean phase3R_145() {
+        if (phase3R_161()) return true;
+        return false;
+    }
+
+    private boolean phase3R_146() {
+        if (phase3R_172()) return true;
+        return false;
+    }
+
+    private boolean phase3R_147() {
+        if (jj_scan_token(TIMES)) return true;
+        return false;
+    }
+
+    private boolean phase3R_148() {
+        if (jj_scan_token(DIVIDE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_149() {
+        if (jj_scan_token(PERCENT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_228() {
+        if (jj_scan_token(INTEGER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_229() {
+        if (jj_scan_token(DECIMAL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_230() {
+        if (phase3R_294()) return true;
+        if (jj_scan_token(COLON)) return true;
+        if (phase3R_294()) return true;
+        while (true) {
+            Token token73=jj_scanpos;
+            if (phase3R_254()) {
+                jj_scanpos=token73;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_231() {
+        if (jj_scan_token(STRING_LITERAL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_232() {
+        if (jj_scan_token(RAW_STRING)) return true;
+        return false;
+    }
+
+    private boolean phase3R_233() {
+        if (jj_scan_token(TRUE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_234() {
+        if (jj_scan_token(FALSE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_235() {
+        if (phase3R_294()) return true;
+        while (true) {
+            Token token74=jj_scanpos;
+            if (phase3R_256()) {
+                jj_scanpos=token74;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_294() {
+        if (phase3R_257()) return true;
+        return false;
+    }
+
+    private boolean phase3R_160() {
+        Token token75=jj_scanpos;
+        if (phase3R_169()) {
+            jj_scanpos=token75;
+            if (phase3R_170()) return true;
+        }
+        if (phase3R_172()) return true;
+        return false;
+    }
+
+    private boolean phase3R_161() {
+        if (jj_scan_token(EXCLAM)) return true;
+        if (phase3R_172()) return true;
+        return false;
+    }
+
+    private boolean phase3R_172() {
+        if (phase3R_184()) return true;
+        while (true) {
+            Token token76=jj_scanpos;
+            if (phase3R_174()) {
+                jj_scanpos=token76;
+                break;
+            }
+        }
+        Token token77=jj_scanpos;
+        if (phase3R_175()) jj_scanpos=token77;
+        return false;
+    }
+
+    private boolean phase3R_254() {
+        if (jj_scan_token(COMMA)) return true;
+        if (phase3R_294()) return true;
+        if (jj_scan_token(COLON)) return true;
+        if (phase3R_294()) return true;
+        return false;
+    }
+
+    private boolean phase3R_256() {
+        Token token78=jj_scanpos;
+        if (phase3R_262()) jj_scanpos=token78;
+        if (phase3R_294()) return true;
+        return false;
+    }
+
+    private boolean phase3R_257() {
+        if (phase3R_273()) return true;
+        while (true) {
+            Token token79=jj_scanpos;
+            if (phase3R_265()) {
+                jj_scanpos=token79;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_169() {
+        if (jj_scan_token(PLUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_170() {
+        if (jj_scan_token(MINUS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_184() {
+        if (phase3R_182()) return true;
+        while (true) {
+            Token token80=jj_scanpos;
+            if (phase3R_183()) {
+                jj_scanpos=token80;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_174() {
+        if (jj_scan_token(EXCLAM)) return true;
+        if (phase3R_184()) return true;
+        return false;
+    }
+
+    private boolean phase3R_175() {
+        if (jj_scan_token(EXCLAM)) return true;
+        return false;
+    }
+
+    private boolean phase3R_262() {
+        if (jj_scan_token(COMMA)) return true;
+        return false;
+    }
+
+    private boolean phase3R_273() {
+        if (phase3R_280()) return true;
+        while (true) {
+            Token token81=jj_scanpos;
+            if (phase3R_270()) {
+                jj_scanpos=token81;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_265() {
+        Token token82=jj_scanpos;
+        if (phase3R_271()) {
+            jj_scanpos=token82;
+            if (phase3R_272()) return true;
+        }
+        if (phase3R_273()) return true;
+        return false;
+    }
+
+    private boolean phase3R_183() {
+        Token token83=jj_scanpos;
+        if (phase3R_199()) {
+            jj_scanpos=token83;
+            if (phase3R_200()) {
+                jj_scanpos=token83;
+                if (phase3R_201()) {
+                    jj_scanpos=token83;
+                    if (phase3R_202()) {
+                        jj_scanpos=token83;
+                        if (phase3R_203()) return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_280() {
+        if (phase3R_290()) return true;
+        Token token84=jj_scanpos;
+        if (phase3R_277()) jj_scanpos=token84;
+        return false;
+    }
+
+    private boolean phase3R_270() {
+        Token token85=jj_scanpos;
+        if (phase3R_278()) {
+            jj_scanpos=token85;
+            if (phase3R_279()) return true;
+        }
+        if (phase3R_280()) return true;
+        return false;
+    }
+
+    private boolean phase3R_271() {
+        if (jj_scan_token(OR)) return true;
+        return false;
+    }
+
+    private boolean phase3R_272() {
+        if (jj_scan_token(OR2)) return true;
+        return false;
+    }
+
+    private boolean phase3R_199() {
+        if (phase3R_217()) return true;
+        return false;
+    }
+
+    private boolean phase3R_200() {
+        if (phase3R_218()) return true;
+        return false;
+    }
+
+    private boolean phase3R_201() {
+        if (phase3R_219()) return true;
+        return false;
+    }
+
+    private boolean phase3R_202() {
+        if (phase3R_220()) return true;
+        return false;
+    }
+
+    private boolean phase3R_203() {
+        if (phase3R_221()) return true;
+        return false;
+    }
+
+    private boolean phase3R_290() {
+        if (phase3R_305()) return true;
+        Token token86=jj_scanpos;
+        if (phase3R_286()) jj_scanpos=token86;
+        return false;
+    }
+
+    private boolean phase3R_277() {
+        Token token87=jj_scanpos;
+        if (phase3R_287()) {
+            jj_scanpos=token87;
+            if (phase3R_288()) {
+                jj_scanpos=token87;
+                if (phase3R_289()) return true;
+            }
+        }
+        if (phase3R_290()) return true;
+        return false;
+    }
+
+    private boolean phase3R_278() {
+        if (jj_scan_token(AND)) return true;
+        return false;
+    }
+
+    private boolean phase3R_279() {
+        if (jj_scan_token(AND2)) return true;
+        return false;
+    }
+
+    private boolean phase3R_217() {
+        if (jj_scan_token(DOT)) return true;
+        Token token88=jj_scanpos;
+        if (phase3R_237()) {
+            jj_scanpos=token88;
+            if (phase3R_238()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_218() {
+        if (jj_scan_token(OPEN_BRACKET)) return true;
+        if (phase3R_294()) return true;
+        if (jj_scan_token(CLOSE_BRACKET)) return true;
+        return false;
+    }
+
+    private boolean phase3R_219() {
+        if (jj_scan_token(OPEN_PAREN)) return true;
+        Token token89=jj_scanpos;
+        if (phase3R_240()) jj_scanpos=token89;
+        if (jj_scan_token(CLOSE_PAREN)) return true;
+        return false;
+    }
+
+    private boolean phase3R_220() {
+        if (jj_scan_token(BUILT_IN)) return true;
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_221() {
+        if (jj_scan_token(EXISTS_OPERATOR)) return true;
+        return false;
+    }
+
+    private boolean phase3R_305() {
+        if (phase3R_307()) return true;
+        Token token90=jj_scanpos;
+        if (phase3R_296()) jj_scanpos=token90;
+        return false;
+    }
+
+    private boolean phase3R_286() {
+        Token token91=jj_scanpos;
+        if (phase3R_297()) {
+            jj_scanpos=token91;
+            if (phase3R_298()) {
+                jj_scanpos=token91;
+                if (phase3R_299()) {
+                    jj_scanpos=token91;
+                    if (phase3R_300()) {
+                        jj_scanpos=token91;
+                        if (phase3R_301()) {
+                            jj_scanpos=token91;
+                            if (phase3R_302()) {
+                                jj_scanpos=token91;
+                                if (phase3R_303()) {
+                                    jj_scanpos=token91;
+                                    if (phase3R_304()) return true;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (phase3R_305()) return true;
+        return false;
+    }
+
+    private boolean phase3R_287() {
+        if (jj_scan_token(EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_288() {
+        if (jj_scan_token(DOUBLE_EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_289() {
+        if (jj_scan_token(NOT_EQUALS)) return true;
+        return false;
+    }
+
+    private boolean phase3R_237() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_238() {
+        if (jj_scan_token(TIMES)) return true;
+        return false;
+    }
+
+    private boolean phase3R_240() {
+        if (phase3R_258()) return true;
+        return false;
+    }
+
+    private boolean phase3R_296() {
+        if (jj_scan_token(DOT_DOT)) return true;
+        Token token92=jj_scanpos;
+        if (phase3R_306()) jj_scanpos=token92;
+        return false;
+    }
+
+    private boolean phase3R_297() {
+        if (jj_scan_token(GT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_298() {
+        if (jj_scan_token(GTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_299() {
+        if (jj_scan_token(LT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_300() {
+        if (jj_scan_token(LTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_301() {
+        if (jj_scan_token(ALT_GT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_302() {
+        if (jj_scan_token(ALT_GTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_303() {
+        if (jj_scan_token(ALT_LTE)) return true;
+        return false;
+    }
+
+    private boolean phase3R_304() {
+        if (jj_scan_token(ALT_LT)) return true;
+        return false;
+    }
+
+    private boolean phase3R_258() {
+        Token token93=jj_scanpos;
+        if (phase3R_266()) {
+            jj_scanpos=token93;
+            if (phase3R_267()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_306() {
+        if (phase3R_307()) return true;
+        return false;
+    }
+
+    private boolean phase3R_266() {
+        if (phase3R_274()) return true;
+        return false;
+    }
+
+    private boolean phase3R_267() {
+        if (phase3R_275()) return true;
+        return false;
+    }
+
+    private boolean phase3R_274() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        if (jj_scan_token(EQUALS)) return true;
+        if (phase3R_294()) return true;
+        while (true) {
+            Token token94=jj_scanpos;
+            if (phase3R_282()) {
+                jj_scanpos=token94;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_275() {
+        if (phase3R_294()) return true;
+        while (true) {
+            Token token95=jj_scanpos;
+            if (phase3R_284()) {
+                jj_scanpos=token95;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_282() {
+        Token token96=jj_scanpos;
+        if (phase3R_291()) jj_scanpos=token96;
+        if (jj_scan_token(IDENTIFIER)) return true;
+        if (jj_scan_token(EQUALS)) return true;
+        if (phase3R_294()) return true;
+        return false;
+    }
+
+    private boolean phase3R_284() {
+        Token token97=jj_scanpos;
+        if (phase3R_293()) jj_scanpos=token97;
+        if (phase3R_294()) return true;
+        return false;
+    }
+
+    private boolean phase3R_291() {
+        if (jj_scan_token(COMMA)) return true;
+        return false;
+    }
+
+    private boolean phase3R_293() {
+        if (jj_scan_token(COMMA)) return true;
+        return false;
+    }
+
+    Token current_token;
+    private Token jj_scanpos,jj_lastpos;
+    private int jj_la;
+    private boolean semanticLookahead;
+    public FTLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public FTLParser(Reader reader) {
+        token_source=new FTLLexer(reader);
+        current_token=new Token();
+    }
+
+    /** Constructor with generated Token Manager. */
+    public FTLParser(FTLLexer lexer) {
+        token_source=lexer;
+        current_token=new Token();
+    }
+
+    private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced=false;
+        Token oldToken=current_token;
+        current_token=current_token.next;
+        if (current_token==null) {
+            current_token=token_source.getNextToken();
+        }
+        if (current_token.kind!=expectedType) {
+            handleUnexpectedTokenType(expectedType,forced,oldToken);
+        }
+        if (tokensAreNodes) {
+            if (buildTree) {
+                pushNode(current_token);
+            }
+        }
+        if (trace_enabled) traceConsumedToken();
+        return current_token;
+    }
+
+    private void traceConsumedToken() {
+        LOGGER.info("Consumed token of type "+tokenImage[current_token.kind]+" from "+current_token.getLocation());
+    }
+
+    private void handleUnexpectedTokenType(int expectedType,boolean forced,Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+            //	    current_token = oldToken;
+            throw new ParseException(current_token);
+        }
+    }
+
+    private String generateErrorMessage(Token t) {
+        return"Encountered an error on (or somewhere around) line "+t.getBeginLine()+", column "+t.getBeginColumn()+" of "+t.getInputSource();
+    }
+
+    @SuppressWarnings("serial")
+    static private final class LookaheadSuccess extends java.lang.Error {
+    }
+    final private LookaheadSuccess LOOKAHEAD_SUCCESS=new LookaheadSuccess();
+    private boolean jj_scan_token(int kind) {
+        if (jj_scanpos==jj_lastpos) {
+            jj_la--;
+            if (jj_scanpos.next==null) {
+                jj_lastpos=jj_scanpos=jj_scanpos.next=token_source.getNextToken();
+            }
+            else {
+                jj_lastpos=jj_scanpos=jj_scanpos.next;
+            }
+        }
+        else {
+            jj_scanpos=jj_scanpos.next;
+        }
+        if (jj_scanpos.kind!=kind) return true;
+        if (jj_la==0&&jj_scanpos==jj_lastpos) throw LOOKAHEAD_SUCCESS;
+        return false;
+    }
+
+    // Results of phase 2 routines at current_token. Moving current_token
+    // bumps the stamp, which makes all the earlier results stale.
+    private Token jj_la_cacheToken;
+    private long jj_la_cacheStamp;
+    private final long[] jj_la_cacheStamps=new long[4];
+    private final boolean[] jj_la_cacheResults=new boolean[4];
+    private boolean jj_la_cached(int index) {
+        if (jj_la_cacheToken!=current_token) {
+            jj_la_cacheToken=current_token;
+            ++jj_la_cacheStamp;
+            return false;
+        }
+        return jj_la_cacheStamps[index]==jj_la_cacheStamp;
+    }
+
+    private boolean jj_la_cache(int index,boolean result) {
+        jj_la_cacheStamps[index]=jj_la_cacheStamp;
+        jj_la_cacheResults[index]=result;
+        return result;
+    }
+
+    final public Token getNextToken() {
+        if (current_token.next!=null) current_token=current_token.next;
+        else current_token=current_token.next=token_source.getNextToken();
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        Token t=current_token;
+        for (int i=0; i<index; i++) {
+            if (t.next!=null) t=t.next;
+            else t=t.next=token_source.getNextToken();
+        }
+        return t;
+    }
+
+    private int nextTokenKind() {
+        if (current_token.next==null) {
+            current_token.next=token_source.getNextToken();
+        }
+        return current_token.next.kind;
+    }
+
+    private List<Token>getTokensToEOL(int...desiredTokenTypes) {
+        ArrayList<Token>result=new ArrayList<>();
+        int currentLine=current_token.getBeginLine();
+        Token tok=current_token;
+        do {
+            Token prevToken=tok;
+            if (tok.next!=null) {
+                tok=tok.next;
+            }
+            else {
+                tok=token_source.getNextToken();
+                prevToken.next=tok;
+            }
+            result.add(tok);
+        }
+        while (tok.getBeginLine()==currentLine&&!intArrayContains(desiredTokenTypes,tok.kind)&&tok.kind!=EOF);
+        return result;
+    }
+
+    static private boolean intArrayContains(int[] array,int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i]==elem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trace_enabled=false;
+    public void setTracingEnabled(boolean tracingEnabled) {
+        trace_enabled=tracingEnabled;
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+}
@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+package ftl;
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+ 
+public class InvalidToken extends Token {
+
+    public InvalidToken(String image) {
+       super(FTLConstants.INVALID, image);
+    }
+    
+    public InvalidToken() {
+       super(FTLConstants.INVALID);
+    }
+    
+    public String getNormalizedText() {
+        return "Lexically Invalid Input:" + image;
+    }
+    
+    public boolean isDirty() {
+        return true;
+    }
+}
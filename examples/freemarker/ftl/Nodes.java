@@ -0,0 +1,422 @@
+ /* Generated by: JavaCC 21 Parser Generator. Nodes.java */
+package ftl;
+import java.util.*;
+
+/**
+ * A set of static utility routines, mostly for working with Node objects.
+ * These methods were not added to the Node interface in order to keep it 
+ * fairly easy for someone to write their own Node implementation. 
+ */
+
+abstract public class Nodes {
+    
+     static public List<Token> getTokens(Node node) {
+        List<Token> result = new ArrayList<Token>();
+        for (Iterator<Token> it = tokenIterator(node); it.hasNext();) {
+            result.add(it.next());
+        }
+        return result;
+    }
+        
+        
+    static public List<Token> getRealTokens(Node node) {
+        List<Token> result = new ArrayList<Token>();
+		for (Token token : getTokens(node)) {
+		    if (!token.isUnparsed()) {
+		        result.add(token);
+		    }
+		}
+	    return result;
+	}
+     
+    // NB: This is not thread-safe
+    // If the node's children could change out from under you,
+    // you could have a problem.
+
+    static public ListIterator<Node> iterator(final Node node) {
+        return new ListIterator<Node>() {
+            int current = -1;
+            boolean justModified;
+            
+            public boolean hasNext() {
+                return current+1 < node.getChildCount();
+            }
+            
+            public Node next() {
+                justModified = false;
+                return node.getChild(++current);
+            }
+            
+            public Node previous() {
+                justModified = false;
+                return node.getChild(--current);
+            }
+            
+            public void remove() {
+                if (justModified) throw new IllegalStateException();
+                node.removeChild(current);
+                --current;
+                justModified = true;
+            }
+            
+            public void add(Node n) {
+                if (justModified) throw new IllegalStateException();
+                node.addChild(current+1, n);
+                justModified = true;
+            }
+            
+            public boolean hasPrevious() {
+                return current >0;
+            }
+            
+            public int nextIndex() {
+                return current + 1;
+            }
+            
+            public int previousIndex() {
+                return current;
+            }
+            
+            public void set(Node n) {
+                node.setChild(current, n);
+            }
+        };
+    }
+ 
+    /**
+     * Expands (in place) a Node's children to include any comment tokens hanging
+     * off the regular tokens.
+     * @param n the Node 
+     * @param recursive whether to recurse into child nodes.
+     */
+
+    static public void expandSpecialTokens(Node n, boolean recursive) {
+        List<Token> expandedList = getAllTokens(n, true, false);
+        n.clearChildren();
+        for (Node child : expandedList) {
+            n.addChild(child);
+            if (recursive && child.getChildCount() >0) {
+                expandSpecialTokens(child, true);
+            }
+        }
+    }
+    
+    /**
+     * @return a List containing all the tokens in a Node
+     * @param n The Node 
+     * @param includeCommentTokens Whether to include comment tokens
+     * @param recursive Whether to recurse into child Nodes.
+     */
+    static public List<Token> getAllTokens(Node n, boolean includeCommentTokens, boolean recursive) {
+		List<Token> result = new ArrayList<Token>();
+        for (Iterator<Token> it = allTokensIterator(n, includeCommentTokens); it.hasNext();) {
+            result.add(it.next());
+        }
+        return result;
+    }
+    
+    /**
+     * @return an Iterator over the tokens in a Node, in document order.
+     * @param n The Node
+     */
+    static public Iterator<Token> tokenIterator(Node n) {
+        final Iterator<Node> descendants = n.descendantIterator();
+        return new Iterator<Token>() {
+            Token next = advance();
+            
+            private Token advance() {
+                while (descendants.hasNext()) {
+                    Node descendant = descendants.next();
+                    if (descendant instanceof Token) {
+                        return (Token) descendant;
+                    }
+                }
+                return null;
+            }
+            
+            public boolean hasNext() {
+                return next != null;
+            }
+            
+            public Token next() {
+                if (next == null) throw new NoSuchElementException();
+                Token result = next;
+                next = advance();
+                return result;
+            }
+        };
+    }
+    
+    /**
+     * A lazy version of getAllTokens. The unparsed tokens are skipped
+     * and, if so desired, the comment tokens hanging off each regular token
+     * are returned just before it.
+     * @param n The Node
+     * @param includeCommentTokens Whether to include comment tokens
+     */
+    static public Iterator<Token> allTokensIterator(Node n, final boolean includeCommentTokens) {
+        final Iterator<Token> tokens = tokenIterator(n);
+        return new Iterator<Token>() {
+            Token pendingSpecial, pendingToken;
+            
+            public boolean hasNext() {
+                while (pendingToken == null && tokens.hasNext()) {
+                    Token token = tokens.next();
+                    if (token.isUnparsed()) {
+                        continue;
+                    }
+                    pendingToken = token;
+                    if (includeCommentTokens) {
+                        Token specialToken = token;
+                        while (specialToken.specialToken != null) {
+                            specialToken = specialToken.specialToken;
+                        }
+                        pendingSpecial = specialToken == token ? null : specialToken;
+                    }
+                }
+                return pendingToken != null;
+            }
+            
+            public Token next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (pendingSpecial != null) {
+                    Token result = pendingSpecial;
+                    pendingSpecial = pendingSpecial.next;
+                    if (pendingSpecial == pendingToken) {
+                        pendingSpecial = null;
+                    }
+                    return result;
+                }
+                Token result = pendingToken;
+                pendingToken = null;
+                return result;
+            }
+        };
+    }
+    
+    /**
+     * @return an Iterator over the descendants of a Node in post-order, 
+     * i.e. each node comes after all of its own descendants.
+     * @param n The Node 
+     */
+    static public Iterator<Node> postOrderIterator(final Node n) {
+        return new Iterator<Node>() {
+            Node[] nodes = new Node[16];
+            int[] indices = new int[16];
+            int depth;
+            Node next;
+            {
+                nodes[0] = n;
+                depth = 1;
+                next = advance();
+            }
+            
+            private Node advance() {
+                while (depth > 0) {
+                    int top = depth -1;
+                    Node node = nodes[top];
+                    if (indices[top] < node.getChildCount()) {
+                        Node child = node.getChild(indices[top]++);
+                        if (depth == nodes.length) {
+                            nodes = Arrays.copyOf(nodes, depth*2);
+                            indices = Arrays.copyOf(indices, depth*2);
+                        }
+                        nodes[depth] = child;
+                        indices[depth++] = 0;
+                        continue;
+                    }
+                    nodes[--depth] = null;
+                    if (depth > 0) {
+                        return node;
+                    }
+                }
+                return null;
+            }
+            
+            public boolean hasNext() {
+                return next != null;
+            }
+            
+            public Node next() {
+                if (next == null) throw new NoSuchElementException();
+                Node result = next;
+                next = advance();
+                return result;
+            }
+        };
+    }
+    
+    /**
+     * A Spliterator that walks the descendants of a node in document (pre-order) order.
+     * It only keeps the path from the root to the current node, so nothing is materialized.
+     * Splitting hands off the first half of the pending sibling subtrees at the
+     * outermost level where there are at least two, so the encounter order is preserved
+     * when the traversal is used in a parallel stream.
+     */
+    static public class TreeSpliterator implements Spliterator<Node> {
+        private Node[] nodes = new Node[16];
+        private int[] nextIndex = new int[16], endIndex = new int[16];
+        private int depth;
+        
+        public TreeSpliterator(Node root) {
+            push(root, 0, root.getChildCount());
+        }
+        
+        private TreeSpliterator() {}
+        
+        private void push(Node node, int from, int to) {
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth*2);
+                nextIndex = Arrays.copyOf(nextIndex, depth*2);
+                endIndex = Arrays.copyOf(endIndex, depth*2);
+            }
+            nodes[depth] = node;
+            nextIndex[depth] = from;
+            endIndex[depth++] = to;
+        }
+        
+        public boolean tryAdvance(java.util.function.Consumer<? super Node> action) {
+            while (depth > 0) {
+                int top = depth -1;
+                if (nextIndex[top] < endIndex[top]) {
+                    Node child = nodes[top].getChild(nextIndex[top]++);
+                    int childCount = child.getChildCount();
+                    if (childCount > 0) {
+                        push(child, 0, childCount);
+                    }
+                    action.accept(child);
+                    return true;
+                }
+                nodes[--depth] = null;
+            }
+            return false;
+        }
+        
+        public Spliterator<Node> trySplit() {
+            for (int level = 0; level < depth; level++) {
+                int remaining = endIndex[level] - nextIndex[level];
+                if (remaining >= 2) {
+                    int mid = nextIndex[level] + remaining/2;
+                    TreeSpliterator prefix = new TreeSpliterator();
+                    prefix.push(nodes[level], nextIndex[level], mid);
+                    for (int i = level+1; i < depth; i++) {
+                        prefix.push(nodes[i], nextIndex[i], endIndex[i]);
+                        nodes[i] = null;
+                    }
+                    depth = level+1;
+                    nextIndex[level] = mid;
+                    return prefix;
+                }
+            }
+            return null;
+        }
+        
+        public long estimateSize() {
+            long result = 0;
+            for (int i = 0; i < depth; i++) {
+                result += endIndex[i] - nextIndex[i];
+            }
+            return result;
+        }
+        
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+    
+    /**
+     * A flat index of the position intervals of all the nodes in a tree,
+     * for repeated position lookups. The nodes are held in document order 
+     * along with their (packed) start and end positions and the index of their parent,
+     * so findNodeAt is a binary search followed by a walk up from the last node
+     * that starts at or before the position, which is almost always short.
+     * The index is a snapshot, so it must be rebuilt if the tree is modified.
+     */
+    static public class PositionIndex {
+        private final Node[] nodes;
+        private final long[] begins, ends;
+        private final int[] parents;
+        
+        public PositionIndex(Node root) {
+            List<Node> nodeList = new ArrayList<>();
+            nodeList.add(root);
+            for (Iterator<Node> it = root.descendantIterator(); it.hasNext();) {
+                nodeList.add(it.next());
+            }
+            int size = nodeList.size();
+            nodes = nodeList.toArray(new Node[size]);
+            begins = new long[size];
+            ends = new long[size];
+            parents = new int[size];
+            IdentityHashMap<Node, Integer> positions = new IdentityHashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                Node n = nodes[i];
+                positions.put(n, i);
+                begins[i] = pack(n.getBeginLine(), n.getBeginColumn());
+                ends[i] = pack(n.getEndLine(), n.getEndColumn());
+                Integer parent = i == 0 ? null : positions.get(n.getParent());
+                parents[i] = parent == null ? -1 : parent;
+                if (parent != null) {
+                    // A node can only be found through its ancestors, so (as with 
+                    // Node.findNodeAt) we clip its interval to that of its parent.
+                    begins[i] = Math.max(begins[i], begins[parent]);
+                    ends[i] = Math.min(ends[i], ends[parent]);
+                }
+            }
+        }
+        
+        static private long pack(int line, int column) {
+            return ((long) line << 32) | (column & 0xFFFFFFFFL);
+        }
+        
+        /**
+         * @return the innermost node that includes the given position, or null
+         * if the position is outside the tree.
+         */
+        public Node findNodeAt(int line, int column) {
+            long position = pack(line, column);
+            int low = 0, high = nodes.length -1, candidate = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (begins[mid] <= position) {
+                    candidate = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            for (int i = candidate; i >= 0; i = parents[i]) {
+                if (begins[i] <= position && position <= ends[i]) {
+                    return nodes[i];
+                }
+            }
+            return null;
+        }
+    }
+    
+    static public void copyLocationInfo(Node from, Node to) {
+        to.setInputSource(from.getInputSource());
+        to.setBeginLine(from.getBeginLine());
+        to.setBeginColumn(from.getBeginColumn());
+        to.setEndLine(from.getEndLine());
+        to.setEndColumn(from.getEndColumn());
+    }
+    
+    static private String stringrep(Node n) {
+        if (n instanceof Token) {
+            return n.toString().trim();
+        }
+        return n.getClass().getSimpleName();
+    }
+    
+    static public void dump(Node n, String prefix) {
+        String output = stringrep(n);
+        if (output.length() >0) {
+            System.out.println(prefix + output);
+        }
+        for (Iterator<Node> it = iterator(n); it.hasNext();) {
+            Node child = it.next();
+            dump(child, prefix+"  ");
+        }
+    }
+}
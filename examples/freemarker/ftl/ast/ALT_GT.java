@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ALT_GT.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ALT_GT extends Token {
+    public ALT_GT(int kind, String image) {
+        super(kind, image);
+    }
+}
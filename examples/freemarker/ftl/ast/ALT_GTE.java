@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ALT_GTE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ALT_GTE extends Token {
+    public ALT_GTE(int kind, String image) {
+        super(kind, image);
+    }
+}
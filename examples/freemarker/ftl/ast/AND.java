@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AND.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class AND extends Token {
+    public AND(int kind, String image) {
+        super(kind, image);
+    }
+}
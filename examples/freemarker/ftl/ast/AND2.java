@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AND2.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class AND2 extends Token {
+    public AND2(int kind, String image) {
+        super(kind, image);
+    }
+}
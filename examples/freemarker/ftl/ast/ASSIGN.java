@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ASSIGN.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ASSIGN extends Token {
+    public ASSIGN(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ATTEMPT.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ATTEMPT extends Token {
+    public ATTEMPT(int kind, String image) {
+        super(kind, image);
+    }
+}
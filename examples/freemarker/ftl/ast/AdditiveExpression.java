@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AdditiveExpression.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class AdditiveExpression extends BaseNode {
+
+}
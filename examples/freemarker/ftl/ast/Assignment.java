@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Assignment.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class Assignment extends BaseNode {
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BLANK.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class BLANK extends Token {
+    public BLANK(int kind, String image) {
+        super(kind, image);
+    }
+}
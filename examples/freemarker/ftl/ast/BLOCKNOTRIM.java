@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BLOCKNOTRIM.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class BLOCKNOTRIM extends Token {
+    public BLOCKNOTRIM(int kind, String image) {
+        super(kind, image);
+    }
+}
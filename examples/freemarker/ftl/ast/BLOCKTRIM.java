@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BLOCKTRIM.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class BLOCKTRIM extends Token {
+    public BLOCKTRIM(int kind, String image) {
+        super(kind, image);
+    }
+}
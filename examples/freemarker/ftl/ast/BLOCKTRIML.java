@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BLOCKTRIML.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class BLOCKTRIML extends Token {
+    public BLOCKTRIML(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BLOCKTRIMR.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class BLOCKTRIMR extends Token {
+    public BLOCKTRIMR(int kind, String image) {
+        super(kind, image);
+    }
+}
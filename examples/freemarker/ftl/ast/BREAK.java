@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BREAK.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class BREAK extends Token {
+    public BREAK(int kind, String image) {
+        super(kind, image);
+    }
+}
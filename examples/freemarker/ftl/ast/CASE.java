@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CASE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class CASE extends Token {
+    public CASE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CLOSE_BRACE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class CLOSE_BRACE extends Token {
+    public CLOSE_BRACE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CLOSE_PAREN.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class CLOSE_PAREN extends Token {
+    public CLOSE_PAREN(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CLOSE_TAG.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class CLOSE_TAG extends Token {
+    public CLOSE_TAG(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. COMMA.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class COMMA extends Token {
+    public COMMA(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. COMMENT.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class COMMENT extends Token {
+    public COMMENT(int kind, String image) {
+        super(kind, image);
+    }
+}
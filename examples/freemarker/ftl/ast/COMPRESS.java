@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. COMPRESS.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class COMPRESS extends Token {
+    public COMPRESS(int kind, String image) {
+        super(kind, image);
+    }
+}
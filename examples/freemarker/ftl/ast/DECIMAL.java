@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DECIMAL.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class DECIMAL extends Token {
+    public DECIMAL(int kind, String image) {
+        super(kind, image);
+    }
+}
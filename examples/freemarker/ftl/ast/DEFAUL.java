@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DEFAUL.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class DEFAUL extends Token {
+    public DEFAUL(int kind, String image) {
+        super(kind, image);
+    }
+}
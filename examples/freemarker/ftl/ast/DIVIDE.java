@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DIVIDE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class DIVIDE extends Token {
+    public DIVIDE(int kind, String image) {
+        super(kind, image);
+    }
+}
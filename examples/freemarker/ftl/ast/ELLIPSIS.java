@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ELLIPSIS.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ELLIPSIS extends Token {
+    public ELLIPSIS(int kind, String image) {
+        super(kind, image);
+    }
+}
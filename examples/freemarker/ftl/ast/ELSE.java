@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ELSE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ELSE extends Token {
+    public ELSE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ELSEIF.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ELSEIF extends Token {
+    public ELSEIF(int kind, String image) {
+        super(kind, image);
+    }
+}
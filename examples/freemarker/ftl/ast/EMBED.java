@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. EMBED.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class EMBED extends Token {
+    public EMBED(int kind, String image) {
+        super(kind, image);
+    }
+}
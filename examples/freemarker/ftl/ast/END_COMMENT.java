@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. END_COMMENT.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class END_COMMENT extends Token {
+    public END_COMMENT(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. END_DIRECTIVE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class END_DIRECTIVE extends Token {
+    public END_DIRECTIVE(int kind, String image) {
+        super(kind, image);
+    }
+}
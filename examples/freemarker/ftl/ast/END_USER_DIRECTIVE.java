@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. END_USER_DIRECTIVE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class END_USER_DIRECTIVE extends Token {
+    public END_USER_DIRECTIVE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ESCAPE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class ESCAPE extends Token {
+    public ESCAPE(int kind, String image) {
+        super(kind, image);
+    }
+}
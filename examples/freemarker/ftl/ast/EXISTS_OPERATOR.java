@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. EXISTS_OPERATOR.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class EXISTS_OPERATOR extends Token {
+    public EXISTS_OPERATOR(int kind, String image) {
+        super(kind, image);
+    }
+}
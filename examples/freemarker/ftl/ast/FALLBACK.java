@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FALLBACK.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class FALLBACK extends Token {
+    public FALLBACK(int kind, String image) {
+        super(kind, image);
+    }
+}
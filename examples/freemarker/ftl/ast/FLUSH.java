@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FLUSH.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class FLUSH extends Token {
+    public FLUSH(int kind, String image) {
+        super(kind, image);
+    }
+}
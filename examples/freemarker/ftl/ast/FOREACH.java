@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FOREACH.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class FOREACH extends Token {
+    public FOREACH(int kind, String image) {
+        super(kind, image);
+    }
+}
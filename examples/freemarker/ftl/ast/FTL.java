@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FTL.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class FTL extends Token {
+    public FTL(int kind, String image) {
+        super(kind, image);
+    }
+}
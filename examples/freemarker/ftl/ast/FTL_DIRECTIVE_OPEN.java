@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FTL_DIRECTIVE_OPEN.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class FTL_DIRECTIVE_OPEN extends Token {
+    public FTL_DIRECTIVE_OPEN(int kind, String image) {
+        super(kind, image);
+    }
+}
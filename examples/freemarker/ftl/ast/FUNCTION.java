@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FUNCTION.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class FUNCTION extends Token {
+    public FUNCTION(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. GLOBAL.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class GLOBAL extends Token {
+    public GLOBAL(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. GT.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class GT extends Token {
+    public GT(int kind, String image) {
+        super(kind, image);
+    }
+}
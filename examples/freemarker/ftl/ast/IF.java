@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IF.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class IF extends Token {
+    public IF(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IMPORT.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class IMPORT extends Token {
+    public IMPORT(int kind, String image) {
+        super(kind, image);
+    }
+}
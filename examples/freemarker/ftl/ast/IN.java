@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IN.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class IN extends Token {
+    public IN(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. INTEGER.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class INTEGER extends Token {
+    public INTEGER(int kind, String image) {
+        super(kind, image);
+    }
+}
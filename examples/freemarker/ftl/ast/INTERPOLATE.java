@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. INTERPOLATE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class INTERPOLATE extends Token {
+    public INTERPOLATE(int kind, String image) {
+        super(kind, image);
+    }
+}
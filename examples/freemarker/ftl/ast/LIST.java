@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LIST.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class LIST extends Token {
+    public LIST(int kind, String image) {
+        super(kind, image);
+    }
+}
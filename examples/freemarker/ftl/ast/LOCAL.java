@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LOCAL.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class LOCAL extends Token {
+    public LOCAL(int kind, String image) {
+        super(kind, image);
+    }
+}
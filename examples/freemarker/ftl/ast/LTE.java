@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LTE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class LTE extends Token {
+    public LTE(int kind, String image) {
+        super(kind, image);
+    }
+}
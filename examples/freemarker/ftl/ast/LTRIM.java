@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LTRIM.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class LTRIM extends Token {
+    public LTRIM(int kind, String image) {
+        super(kind, image);
+    }
+}
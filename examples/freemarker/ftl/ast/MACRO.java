@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MACRO.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class MACRO extends Token {
+    public MACRO(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MINUS.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class MINUS extends Token {
+    public MINUS(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NESTED.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NESTED extends Token {
+    public NESTED(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NOESCAPE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NOESCAPE extends Token {
+    public NOESCAPE(int kind, String image) {
+        super(kind, image);
+    }
+}
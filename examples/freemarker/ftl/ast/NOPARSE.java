@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NOPARSE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NOPARSE extends Token {
+    public NOPARSE(int kind, String image) {
+        super(kind, image);
+    }
+}
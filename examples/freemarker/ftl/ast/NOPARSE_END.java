@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NOPARSE_END.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NOPARSE_END extends Token {
+    public NOPARSE_END(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NOTRIM.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NOTRIM extends Token {
+    public NOTRIM(int kind, String image) {
+        super(kind, image);
+    }
+}
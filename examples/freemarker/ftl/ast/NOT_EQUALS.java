@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NOT_EQUALS.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NOT_EQUALS extends Token {
+    public NOT_EQUALS(int kind, String image) {
+        super(kind, image);
+    }
+}
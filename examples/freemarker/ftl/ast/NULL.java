@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NULL.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NULL extends Token {
+    public NULL(int kind, String image) {
+        super(kind, image);
+    }
+}
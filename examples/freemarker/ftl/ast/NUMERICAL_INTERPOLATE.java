@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NUMERICAL_INTERPOLATE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class NUMERICAL_INTERPOLATE extends Token {
+    public NUMERICAL_INTERPOLATE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. OPEN_PAREN.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class OPEN_PAREN extends Token {
+    public OPEN_PAREN(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. OR.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class OR extends Token {
+    public OR(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. PLUS.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class PLUS extends Token {
+    public PLUS(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. PRINTABLE_CHARS.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class PRINTABLE_CHARS extends Token {
+    public PRINTABLE_CHARS(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RAW_STRING.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class RAW_STRING extends Token {
+    public RAW_STRING(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RECOVER.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class RECOVER extends Token {
+    public RECOVER(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RECURSE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class RECURSE extends Token {
+    public RECURSE(int kind, String image) {
+        super(kind, image);
+    }
+}
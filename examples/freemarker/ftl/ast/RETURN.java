@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RETURN.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class RETURN extends Token {
+    public RETURN(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RTRIM.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class RTRIM extends Token {
+    public RTRIM(int kind, String image) {
+        super(kind, image);
+    }
+}
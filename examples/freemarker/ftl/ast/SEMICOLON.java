@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SEMICOLON.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class SEMICOLON extends Token {
+    public SEMICOLON(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SET.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class SET extends Token {
+    public SET(int kind, String image) {
+        super(kind, image);
+    }
+}
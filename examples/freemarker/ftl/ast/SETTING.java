@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SETTING.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class SETTING extends Token {
+    public SETTING(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SPECIAL_CHAR.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class SPECIAL_CHAR extends Token {
+    public SPECIAL_CHAR(int kind, String image) {
+        super(kind, image);
+    }
+}
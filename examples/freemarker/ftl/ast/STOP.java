@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. STOP.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class STOP extends Token {
+    public STOP(int kind, String image) {
+        super(kind, image);
+    }
+}
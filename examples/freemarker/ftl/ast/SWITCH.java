@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SWITCH.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class SWITCH extends Token {
+    public SWITCH(int kind, String image) {
+        super(kind, image);
+    }
+}
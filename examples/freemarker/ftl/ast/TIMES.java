@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. TIMES.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class TIMES extends Token {
+    public TIMES(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. TRIM.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class TRIM extends Token {
+    public TRIM(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. TRUE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class TRUE extends Token {
+    public TRUE(int kind, String image) {
+        super(kind, image);
+    }
+}
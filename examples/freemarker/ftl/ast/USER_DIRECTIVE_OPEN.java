@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. USER_DIRECTIVE_OPEN.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class USER_DIRECTIVE_OPEN extends Token {
+    public USER_DIRECTIVE_OPEN(int kind, String image) {
+        super(kind, image);
+    }
+}
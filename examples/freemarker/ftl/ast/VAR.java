@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. VAR.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class VAR extends Token {
+    public VAR(int kind, String image) {
+        super(kind, image);
+    }
+}
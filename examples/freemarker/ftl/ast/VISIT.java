@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. VISIT.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class VISIT extends Token {
+    public VISIT(int kind, String image) {
+        super(kind, image);
+    }
+}
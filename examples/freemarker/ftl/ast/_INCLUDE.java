@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. _INCLUDE.java */
+package ftl.ast;
+
+import ftl.*;
+
+@SuppressWarnings("unused")
+public class _INCLUDE extends Token {
+    public _INCLUDE(int kind, String image) {
+        super(kind, image);
+    }
+}
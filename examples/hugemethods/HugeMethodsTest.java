@@ -0,0 +1,103 @@
+import java.io.*;
+import java.util.*;
+import com.javacc.hugemethods.*;
+
+/**
+ * Checks that the lexer and parser for a grammar whose generated methods
+ * had to be split up still do the same as they would in one piece:
+ * every token is recognized as its own kind, and the tree and the
+ * syntax errors come out of the Root production the way they should.
+ */
+public class HugeMethodsTest {
+
+    static final int TOKEN_COUNT = 400;
+
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    // The word for 12 is "bc", and so on
+    static String word(int i) {
+        StringBuilder buf = new StringBuilder();
+        for (char digit : Integer.toString(i).toCharArray()) {
+            buf.append((char) ('a' + digit - '0'));
+        }
+        return buf.toString();
+    }
+
+    static int kind(int i) throws ReflectiveOperationException {
+        return HugeMethodsConstants.class.getField("W" + i).getInt(null);
+    }
+
+    static void dump(Node node, StringBuilder buf) {
+        buf.append(node.getClass().getSimpleName());
+        if (node.getChildCount() > 0) {
+            buf.append('(');
+            for (int i = 0; i < node.getChildCount(); i++) {
+                if (i > 0) buf.append(' ');
+                dump(node.getChild(i), buf);
+            }
+            buf.append(')');
+        }
+    }
+
+    // The helper methods are only there if the methods were split
+    static void testSplit() throws ReflectiveOperationException {
+        HugeMethodsLexer.class.getDeclaredMethod("jjMoveNfaAsciiHigh_1", int.class, long.class, int.class);
+        HugeMethodsParser.class.getDeclaredMethod("Root_part1");
+        System.out.println("The NFA moves and the Root production are split up");
+    }
+
+    static void testLexer() throws ReflectiveOperationException {
+        String[] middles = {"", "x", "q7", "zz9z"};
+        StringBuilder input = new StringBuilder();
+        List<Integer> expected = new ArrayList<>();
+        for (String middle : middles) {
+            for (int i = 0; i < TOKEN_COUNT; i++) {
+                String word = word(i);
+                input.append(word).append('_').append(middle).append('_').append(word).append(i % 10 == 0 ? '\n' : ' ');
+                expected.add(kind(i));
+            }
+        }
+        HugeMethodsLexer lexer = new HugeMethodsParser(new StringReader(input.toString())).token_source;
+        for (int kind : expected) {
+            Token token = lexer.getNextToken();
+            check(token.getId() == kind, "Expecting " + HugeMethodsConstants.tokenImage[kind]
+                  + " but got " + HugeMethodsConstants.tokenImage[token.getId()] + " for " + token);
+        }
+        check(lexer.getNextToken().getId() == HugeMethodsConstants.EOF, "Expecting the end of the input");
+        System.out.println("Lexed " + expected.size() + " tokens of " + TOKEN_COUNT + " kinds");
+    }
+
+    static void testParser(String input, String expected) throws ParseException {
+        HugeMethodsParser parser = new HugeMethodsParser(new StringReader(input));
+        parser.Root();
+        StringBuilder buf = new StringBuilder();
+        dump(parser.rootNode(), buf);
+        check(buf.toString().equals(expected), "Expecting " + expected + " but got " + buf + " for: " + input);
+        System.out.println("Parsed: " + input);
+    }
+
+    static void testSyntaxError(String input) {
+        try {
+            new HugeMethodsParser(new StringReader(input)).Root();
+        } catch (ParseException e) {
+            System.out.println("Syntax error as expected in: " + input);
+            return;
+        }
+        throw new AssertionError("Expecting a syntax error in: " + input);
+    }
+
+    public static void main(String[] args) throws Exception {
+        testSplit();
+        testLexer();
+        testParser("a__a b_x_b : jd_9_jd",
+                   "Root(Pair(W0 W1 Mark(Token)) Pair(W93) Token)");
+        testParser("bej_q_bej a__a : ba__ba bb__bb c__c",
+                   "Root(Pair(W149 W0 Mark(Token)) Pair(W10 W11) Pair(W2) Token)");
+        testSyntaxError("a__a : :");
+        testSyntaxError("a__a bfa__bfa");
+    }
+}
@@ -0,0 +1,1642 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. HugeMethodsConstants.java */
+package com.javacc.hugemethods;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface HugeMethodsConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int W0 = 5;
+  int W1 = 6;
+  int W2 = 7;
+  int W3 = 8;
+  int W4 = 9;
+  int W5 = 10;
+  int W6 = 11;
+  int W7 = 12;
+  int W8 = 13;
+  int W9 = 14;
+  int W10 = 15;
+  int W11 = 16;
+  int W12 = 17;
+  int W13 = 18;
+  int W14 = 19;
+  int W15 = 20;
+  int W16 = 21;
+  int W17 = 22;
+  int W18 = 23;
+  int W19 = 24;
+  int W20 = 25;
+  int W21 = 26;
+  int W22 = 27;
+  int W23 = 28;
+  int W24 = 29;
+  int W25 = 30;
+  int W26 = 31;
+  int W27 = 32;
+  int W28 = 33;
+  int W29 = 34;
+  int W30 = 35;
+  int W31 = 36;
+  int W32 = 37;
+  int W33 = 38;
+  int W34 = 39;
+  int W35 = 40;
+  int W36 = 41;
+  int W37 = 42;
+  int W38 = 43;
+  int W39 = 44;
+  int W40 = 45;
+  int W41 = 46;
+  int W42 = 47;
+  int W43 = 48;
+  int W44 = 49;
+  int W45 = 50;
+  int W46 = 51;
+  int W47 = 52;
+  int W48 = 53;
+  int W49 = 54;
+  int W50 = 55;
+  int W51 = 56;
+  int W52 = 57;
+  int W53 = 58;
+  int W54 = 59;
+  int W55 = 60;
+  int W56 = 61;
+  int W57 = 62;
+  int W58 = 63;
+  int W59 = 64;
+  int W60 = 65;
+  int W61 = 66;
+  int W62 = 67;
+  int W63 = 68;
+  int W64 = 69;
+  int W65 = 70;
+  int W66 = 71;
+  int W67 = 72;
+  int W68 = 73;
+  int W69 = 74;
+  int W70 = 75;
+  int W71 = 76;
+  int W72 = 77;
+  int W73 = 78;
+  int W74 = 79;
+  int W75 = 80;
+  int W76 = 81;
+  int W77 = 82;
+  int W78 = 83;
+  int W79 = 84;
+  int W80 = 85;
+  int W81 = 86;
+  int W82 = 87;
+  int W83 = 88;
+  int W84 = 89;
+  int W85 = 90;
+  int W86 = 91;
+  int W87 = 92;
+  int W88 = 93;
+  int W89 = 94;
+  int W90 = 95;
+  int W91 = 96;
+  int W92 = 97;
+  int W93 = 98;
+  int W94 = 99;
+  int W95 = 100;
+  int W96 = 101;
+  int W97 = 102;
+  int W98 = 103;
+  int W99 = 104;
+  int W100 = 105;
+  int W101 = 106;
+  int W102 = 107;
+  int W103 = 108;
+  int W104 = 109;
+  int W105 = 110;
+  int W106 = 111;
+  int W107 = 112;
+  int W108 = 113;
+  int W109 = 114;
+  int W110 = 115;
+  int W111 = 116;
+  int W112 = 117;
+  int W113 = 118;
+  int W114 = 119;
+  int W115 = 120;
+  int W116 = 121;
+  int W117 = 122;
+  int W118 = 123;
+  int W119 = 124;
+  int W120 = 125;
+  int W121 = 126;
+  int W122 = 127;
+  int W123 = 128;
+  int W124 = 129;
+  int W125 = 130;
+  int W126 = 131;
+  int W127 = 132;
+  int W128 = 133;
+  int W129 = 134;
+  int W130 = 135;
+  int W131 = 136;
+  int W132 = 137;
+  int W133 = 138;
+  int W134 = 139;
+  int W135 = 140;
+  int W136 = 141;
+  int W137 = 142;
+  int W138 = 143;
+  int W139 = 144;
+  int W140 = 145;
+  int W141 = 146;
+  int W142 = 147;
+  int W143 = 148;
+  int W144 = 149;
+  int W145 = 150;
+  int W146 = 151;
+  int W147 = 152;
+  int W148 = 153;
+  int W149 = 154;
+  int W150 = 155;
+  int W151 = 156;
+  int W152 = 157;
+  int W153 = 158;
+  int W154 = 159;
+  int W155 = 160;
+  int W156 = 161;
+  int W157 = 162;
+  int W158 = 163;
+  int W159 = 164;
+  int W160 = 165;
+  int W161 = 166;
+  int W162 = 167;
+  int W163 = 168;
+  int W164 = 169;
+  int W165 = 170;
+  int W166 = 171;
+  int W167 = 172;
+  int W168 = 173;
+  int W169 = 174;
+  int W170 = 175;
+  int W171 = 176;
+  int W172 = 177;
+  int W173 = 178;
+  int W174 = 179;
+  int W175 = 180;
+  int W176 = 181;
+  int W177 = 182;
+  int W178 = 183;
+  int W179 = 184;
+  int W180 = 185;
+  int W181 = 186;
+  int W182 = 187;
+  int W183 = 188;
+  int W184 = 189;
+  int W185 = 190;
+  int W186 = 191;
+  int W187 = 192;
+  int W188 = 193;
+  int W189 = 194;
+  int W190 = 195;
+  int W191 = 196;
+  int W192 = 197;
+  int W193 = 198;
+  int W194 = 199;
+  int W195 = 200;
+  int W196 = 201;
+  int W197 = 202;
+  int W198 = 203;
+  int W199 = 204;
+  int W200 = 205;
+  int W201 = 206;
+  int W202 = 207;
+  int W203 = 208;
+  int W204 = 209;
+  int W205 = 210;
+  int W206 = 211;
+  int W207 = 212;
+  int W208 = 213;
+  int W209 = 214;
+  int W210 = 215;
+  int W211 = 216;
+  int W212 = 217;
+  int W213 = 218;
+  int W214 = 219;
+  int W215 = 220;
+  int W216 = 221;
+  int W217 = 222;
+  int W218 = 223;
+  int W219 = 224;
+  int W220 = 225;
+  int W221 = 226;
+  int W222 = 227;
+  int W223 = 228;
+  int W224 = 229;
+  int W225 = 230;
+  int W226 = 231;
+  int W227 = 232;
+  int W228 = 233;
+  int W229 = 234;
+  int W230 = 235;
+  int W231 = 236;
+  int W232 = 237;
+  int W233 = 238;
+  int W234 = 239;
+  int W235 = 240;
+  int W236 = 241;
+  int W237 = 242;
+  int W238 = 243;
+  int W239 = 244;
+  int W240 = 245;
+  int W241 = 246;
+  int W242 = 247;
+  int W243 = 248;
+  int W244 = 249;
+  int W245 = 250;
+  int W246 = 251;
+  int W247 = 252;
+  int W248 = 253;
+  int W249 = 254;
+  int W250 = 255;
+  int W251 = 256;
+  int W252 = 257;
+  int W253 = 258;
+  int W254 = 259;
+  int W255 = 260;
+  int W256 = 261;
+  int W257 = 262;
+  int W258 = 263;
+  int W259 = 264;
+  int W260 = 265;
+  int W261 = 266;
+  int W262 = 267;
+  int W263 = 268;
+  int W264 = 269;
+  int W265 = 270;
+  int W266 = 271;
+  int W267 = 272;
+  int W268 = 273;
+  int W269 = 274;
+  int W270 = 275;
+  int W271 = 276;
+  int W272 = 277;
+  int W273 = 278;
+  int W274 = 279;
+  int W275 = 280;
+  int W276 = 281;
+  int W277 = 282;
+  int W278 = 283;
+  int W279 = 284;
+  int W280 = 285;
+  int W281 = 286;
+  int W282 = 287;
+  int W283 = 288;
+  int W284 = 289;
+  int W285 = 290;
+  int W286 = 291;
+  int W287 = 292;
+  int W288 = 293;
+  int W289 = 294;
+  int W290 = 295;
+  int W291 = 296;
+  int W292 = 297;
+  int W293 = 298;
+  int W294 = 299;
+  int W295 = 300;
+  int W296 = 301;
+  int W297 = 302;
+  int W298 = 303;
+  int W299 = 304;
+  int W300 = 305;
+  int W301 = 306;
+  int W302 = 307;
+  int W303 = 308;
+  int W304 = 309;
+  int W305 = 310;
+  int W306 = 311;
+  int W307 = 312;
+  int W308 = 313;
+  int W309 = 314;
+  int W310 = 315;
+  int W311 = 316;
+  int W312 = 317;
+  int W313 = 318;
+  int W314 = 319;
+  int W315 = 320;
+  int W316 = 321;
+  int W317 = 322;
+  int W318 = 323;
+  int W319 = 324;
+  int W320 = 325;
+  int W321 = 326;
+  int W322 = 327;
+  int W323 = 328;
+  int W324 = 329;
+  int W325 = 330;
+  int W326 = 331;
+  int W327 = 332;
+  int W328 = 333;
+  int W329 = 334;
+  int W330 = 335;
+  int W331 = 336;
+  int W332 = 337;
+  int W333 = 338;
+  int W334 = 339;
+  int W335 = 340;
+  int W336 = 341;
+  int W337 = 342;
+  int W338 = 343;
+  int W339 = 344;
+  int W340 = 345;
+  int W341 = 346;
+  int W342 = 347;
+  int W343 = 348;
+  int W344 = 349;
+  int W345 = 350;
+  int W346 = 351;
+  int W347 = 352;
+  int W348 = 353;
+  int W349 = 354;
+  int W350 = 355;
+  int W351 = 356;
+  int W352 = 357;
+  int W353 = 358;
+  int W354 = 359;
+  int W355 = 360;
+  int W356 = 361;
+  int W357 = 362;
+  int W358 = 363;
+  int W359 = 364;
+  int W360 = 365;
+  int W361 = 366;
+  int W362 = 367;
+  int W363 = 368;
+  int W364 = 369;
+  int W365 = 370;
+  int W366 = 371;
+  int W367 = 372;
+  int W368 = 373;
+  int W369 = 374;
+  int W370 = 375;
+  int W371 = 376;
+  int W372 = 377;
+  int W373 = 378;
+  int W374 = 379;
+  int W375 = 380;
+  int W376 = 381;
+  int W377 = 382;
+  int W378 = 383;
+  int W379 = 384;
+  int W380 = 385;
+  int W381 = 386;
+  int W382 = 387;
+  int W383 = 388;
+  int W384 = 389;
+  int W385 = 390;
+  int W386 = 391;
+  int W387 = 392;
+  int W388 = 393;
+  int W389 = 394;
+  int W390 = 395;
+  int W391 = 396;
+  int W392 = 397;
+  int W393 = 398;
+  int W394 = 399;
+  int W395 = 400;
+  int W396 = 401;
+  int W397 = 402;
+  int W398 = 403;
+  int W399 = 404;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "<W0>"
+,
+      "<W1>"
+,
+      "<W2>"
+,
+      "<W3>"
+,
+      "<W4>"
+,
+      "<W5>"
+,
+      "<W6>"
+,
+      "<W7>"
+,
+      "<W8>"
+,
+      "<W9>"
+,
+      "<W10>"
+,
+      "<W11>"
+,
+      "<W12>"
+,
+      "<W13>"
+,
+      "<W14>"
+,
+      "<W15>"
+,
+      "<W16>"
+,
+      "<W17>"
+,
+      "<W18>"
+,
+      "<W19>"
+,
+      "<W20>"
+,
+      "<W21>"
+,
+      "<W22>"
+,
+      "<W23>"
+,
+      "<W24>"
+,
+      "<W25>"
+,
+      "<W26>"
+,
+      "<W27>"
+,
+      "<W28>"
+,
+      "<W29>"
+,
+      "<W30>"
+,
+      "<W31>"
+,
+      "<W32>"
+,
+      "<W33>"
+,
+      "<W34>"
+,
+      "<W35>"
+,
+      "<W36>"
+,
+      "<W37>"
+,
+      "<W38>"
+,
+      "<W39>"
+,
+      "<W40>"
+,
+      "<W41>"
+,
+      "<W42>"
+,
+      "<W43>"
+,
+      "<W44>"
+,
+      "<W45>"
+,
+      "<W46>"
+,
+      "<W47>"
+,
+      "<W48>"
+,
+      "<W49>"
+,
+      "<W50>"
+,
+      "<W51>"
+,
+      "<W52>"
+,
+      "<W53>"
+,
+      "<W54>"
+,
+      "<W55>"
+,
+      "<W56>"
+,
+      "<W57>"
+,
+      "<W58>"
+,
+      "<W59>"
+,
+      "<W60>"
+,
+      "<W61>"
+,
+      "<W62>"
+,
+      "<W63>"
+,
+      "<W64>"
+,
+      "<W65>"
+,
+      "<W66>"
+,
+      "<W67>"
+,
+      "<W68>"
+,
+      "<W69>"
+,
+      "<W70>"
+,
+      "<W71>"
+,
+      "<W72>"
+,
+      "<W73>"
+,
+      "<W74>"
+,
+      "<W75>"
+,
+      "<W76>"
+,
+      "<W77>"
+,
+      "<W78>"
+,
+      "<W79>"
+,
+      "<W80>"
+,
+      "<W81>"
+,
+      "<W82>"
+,
+      "<W83>"
+,
+      "<W84>"
+,
+      "<W85>"
+,
+      "<W86>"
+,
+      "<W87>"
+,
+      "<W88>"
+,
+      "<W89>"
+,
+      "<W90>"
+,
+      "<W91>"
+,
+      "<W92>"
+,
+      "<W93>"
+,
+      "<W94>"
+,
+      "<W95>"
+,
+      "<W96>"
+,
+      "<W97>"
+,
+      "<W98>"
+,
+      "<W99>"
+,
+      "<W100>"
+,
+      "<W101>"
+,
+      "<W102>"
+,
+      "<W103>"
+,
+      "<W104>"
+,
+      "<W105>"
+,
+      "<W106>"
+,
+      "<W107>"
+,
+      "<W108>"
+,
+      "<W109>"
+,
+      "<W110>"
+,
+      "<W111>"
+,
+      "<W112>"
+,
+      "<W113>"
+,
+      "<W114>"
+,
+      "<W115>"
+,
+      "<W116>"
+,
+      "<W117>"
+,
+      "<W118>"
+,
+      "<W119>"
+,
+      "<W120>"
+,
+      "<W121>"
+,
+      "<W122>"
+,
+      "<W123>"
+,
+      "<W124>"
+,
+      "<W125>"
+,
+      "<W126>"
+,
+      "<W127>"
+,
+      "<W128>"
+,
+      "<W129>"
+,
+      "<W130>"
+,
+      "<W131>"
+,
+      "<W132>"
+,
+      "<W133>"
+,
+      "<W134>"
+,
+      "<W135>"
+,
+      "<W136>"
+,
+      "<W137>"
+,
+      "<W138>"
+,
+      "<W139>"
+,
+      "<W140>"
+,
+      "<W141>"
+,
+      "<W142>"
+,
+      "<W143>"
+,
+      "<W144>"
+,
+      "<W145>"
+,
+      "<W146>"
+,
+      "<W147>"
+,
+      "<W148>"
+,
+      "<W149>"
+,
+      "<W150>"
+,
+      "<W151>"
+,
+      "<W152>"
+,
+      "<W153>"
+,
+      "<W154>"
+,
+      "<W155>"
+,
+      "<W156>"
+,
+      "<W157>"
+,
+      "<W158>"
+,
+      "<W159>"
+,
+      "<W160>"
+,
+      "<W161>"
+,
+      "<W162>"
+,
+      "<W163>"
+,
+      "<W164>"
+,
+      "<W165>"
+,
+      "<W166>"
+,
+      "<W167>"
+,
+      "<W168>"
+,
+      "<W169>"
+,
+      "<W170>"
+,
+      "<W171>"
+,
+      "<W172>"
+,
+      "<W173>"
+,
+      "<W174>"
+,
+      "<W175>"
+,
+      "<W176>"
+,
+      "<W177>"
+,
+      "<W178>"
+,
+      "<W179>"
+,
+      "<W180>"
+,
+      "<W181>"
+,
+      "<W182>"
+,
+      "<W183>"
+,
+      "<W184>"
+,
+      "<W185>"
+,
+      "<W186>"
+,
+      "<W187>"
+,
+      "<W188>"
+,
+      "<W189>"
+,
+      "<W190>"
+,
+      "<W191>"
+,
+      "<W192>"
+,
+      "<W193>"
+,
+      "<W194>"
+,
+      "<W195>"
+,
+      "<W196>"
+,
+      "<W197>"
+,
+      "<W198>"
+,
+      "<W199>"
+,
+      "<W200>"
+,
+      "<W201>"
+,
+      "<W202>"
+,
+      "<W203>"
+,
+      "<W204>"
+,
+      "<W205>"
+,
+      "<W206>"
+,
+      "<W207>"
+,
+      "<W208>"
+,
+      "<W209>"
+,
+      "<W210>"
+,
+      "<W211>"
+,
+      "<W212>"
+,
+      "<W213>"
+,
+      "<W214>"
+,
+      "<W215>"
+,
+      "<W216>"
+,
+      "<W217>"
+,
+      "<W218>"
+,
+      "<W219>"
+,
+      "<W220>"
+,
+      "<W221>"
+,
+      "<W222>"
+,
+      "<W223>"
+,
+      "<W224>"
+,
+      "<W225>"
+,
+      "<W226>"
+,
+      "<W227>"
+,
+      "<W228>"
+,
+      "<W229>"
+,
+      "<W230>"
+,
+      "<W231>"
+,
+      "<W232>"
+,
+      "<W233>"
+,
+      "<W234>"
+,
+      "<W235>"
+,
+      "<W236>"
+,
+      "<W237>"
+,
+      "<W238>"
+,
+      "<W239>"
+,
+      "<W240>"
+,
+      "<W241>"
+,
+      "<W242>"
+,
+      "<W243>"
+,
+      "<W244>"
+,
+      "<W245>"
+,
+      "<W246>"
+,
+      "<W247>"
+,
+      "<W248>"
+,
+      "<W249>"
+,
+      "<W250>"
+,
+      "<W251>"
+,
+      "<W252>"
+,
+      "<W253>"
+,
+      "<W254>"
+,
+      "<W255>"
+,
+      "<W256>"
+,
+      "<W257>"
+,
+      "<W258>"
+,
+      "<W259>"
+,
+      "<W260>"
+,
+      "<W261>"
+,
+      "<W262>"
+,
+      "<W263>"
+,
+      "<W264>"
+,
+      "<W265>"
+,
+      "<W266>"
+,
+      "<W267>"
+,
+      "<W268>"
+,
+      "<W269>"
+,
+      "<W270>"
+,
+      "<W271>"
+,
+      "<W272>"
+,
+      "<W273>"
+,
+      "<W274>"
+,
+      "<W275>"
+,
+      "<W276>"
+,
+      "<W277>"
+,
+      "<W278>"
+,
+      "<W279>"
+,
+      "<W280>"
+,
+      "<W281>"
+,
+      "<W282>"
+,
+      "<W283>"
+,
+      "<W284>"
+,
+      "<W285>"
+,
+      "<W286>"
+,
+      "<W287>"
+,
+      "<W288>"
+,
+      "<W289>"
+,
+      "<W290>"
+,
+      "<W291>"
+,
+      "<W292>"
+,
+      "<W293>"
+,
+      "<W294>"
+,
+      "<W295>"
+,
+      "<W296>"
+,
+      "<W297>"
+,
+      "<W298>"
+,
+      "<W299>"
+,
+      "<W300>"
+,
+      "<W301>"
+,
+      "<W302>"
+,
+      "<W303>"
+,
+      "<W304>"
+,
+      "<W305>"
+,
+      "<W306>"
+,
+      "<W307>"
+,
+      "<W308>"
+,
+      "<W309>"
+,
+      "<W310>"
+,
+      "<W311>"
+,
+      "<W312>"
+,
+      "<W313>"
+,
+      "<W314>"
+,
+      "<W315>"
+,
+      "<W316>"
+,
+      "<W317>"
+,
+      "<W318>"
+,
+      "<W319>"
+,
+      "<W320>"
+,
+      "<W321>"
+,
+      "<W322>"
+,
+      "<W323>"
+,
+      "<W324>"
+,
+      "<W325>"
+,
+      "<W326>"
+,
+      "<W327>"
+,
+      "<W328>"
+,
+      "<W329>"
+,
+      "<W330>"
+,
+      "<W331>"
+,
+      "<W332>"
+,
+      "<W333>"
+,
+      "<W334>"
+,
+      "<W335>"
+,
+      "<W336>"
+,
+      "<W337>"
+,
+      "<W338>"
+,
+      "<W339>"
+,
+      "<W340>"
+,
+      "<W341>"
+,
+      "<W342>"
+,
+      "<W343>"
+,
+      "<W344>"
+,
+      "<W345>"
+,
+      "<W346>"
+,
+      "<W347>"
+,
+      "<W348>"
+,
+      "<W349>"
+,
+      "<W350>"
+,
+      "<W351>"
+,
+      "<W352>"
+,
+      "<W353>"
+,
+      "<W354>"
+,
+      "<W355>"
+,
+      "<W356>"
+,
+      "<W357>"
+,
+      "<W358>"
+,
+      "<W359>"
+,
+      "<W360>"
+,
+      "<W361>"
+,
+      "<W362>"
+,
+      "<W363>"
+,
+      "<W364>"
+,
+      "<W365>"
+,
+      "<W366>"
+,
+      "<W367>"
+,
+      "<W368>"
+,
+      "<W369>"
+,
+      "<W370>"
+,
+      "<W371>"
+,
+      "<W372>"
+,
+      "<W373>"
+,
+      "<W374>"
+,
+      "<W375>"
+,
+      "<W376>"
+,
+      "<W377>"
+,
+      "<W378>"
+,
+      "<W379>"
+,
+      "<W380>"
+,
+      "<W381>"
+,
+      "<W382>"
+,
+      "<W383>"
+,
+      "<W384>"
+,
+      "<W385>"
+,
+      "<W386>"
+,
+      "<W387>"
+,
+      "<W388>"
+,
+      "<W389>"
+,
+      "<W390>"
+,
+      "<W391>"
+,
+      "<W392>"
+,
+      "<W393>"
+,
+      "<W394>"
+,
+      "<W395>"
+,
+      "<W396>"
+,
+      "<W397>"
+,
+      "<W398>"
+,
+      "<W399>"
+,
+      "\":\""   
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "W0",
+          "W1",
+          "W2",
+          "W3",
+          "W4",
+          "W5",
+          "W6",
+          "W7",
+          "W8",
+          "W9",
+          "W10",
+          "W11",
+          "W12",
+          "W13",
+          "W14",
+          "W15",
+          "W16",
+          "W17",
+          "W18",
+          "W19",
+          "W20",
+          "W21",
+          "W22",
+          "W23",
+          "W24",
+          "W25",
+          "W26",
+          "W27",
+          "W28",
+          "W29",
+          "W30",
+          "W31",
+          "W32",
+          "W33",
+          "W34",
+          "W35",
+          "W36",
+          "W37",
+          "W38",
+          "W39",
+          "W40",
+          "W41",
+          "W42",
+          "W43",
+          "W44",
+          "W45",
+          "W46",
+          "W47",
+          "W48",
+          "W49",
+          "W50",
+          "W51",
+          "W52",
+          "W53",
+          "W54",
+          "W55",
+          "W56",
+          "W57",
+          "W58",
+          "W59",
+          "W60",
+          "W61",
+          "W62",
+          "W63",
+          "W64",
+          "W65",
+          "W66",
+          "W67",
+          "W68",
+          "W69",
+          "W70",
+          "W71",
+          "W72",
+          "W73",
+          "W74",
+          "W75",
+          "W76",
+          "W77",
+          "W78",
+          "W79",
+          "W80",
+          "W81",
+          "W82",
+          "W83",
+          "W84",
+          "W85",
+          "W86",
+          "W87",
+          "W88",
+          "W89",
+          "W90",
+          "W91",
+          "W92",
+          "W93",
+          "W94",
+          "W95",
+          "W96",
+          "W97",
+          "W98",
+          "W99",
+          "W100",
+          "W101",
+          "W102",
+          "W103",
+          "W104",
+          "W105",
+          "W106",
+          "W107",
+          "W108",
+          "W109",
+          "W110",
+          "W111",
+          "W112",
+          "W113",
+          "W114",
+          "W115",
+          "W116",
+          "W117",
+          "W118",
+          "W119",
+          "W120",
+          "W121",
+          "W122",
+          "W123",
+          "W124",
+          "W125",
+          "W126",
+          "W127",
+          "W128",
+          "W129",
+          "W130",
+          "W131",
+          "W132",
+          "W133",
+          "W134",
+          "W135",
+          "W136",
+          "W137",
+          "W138",
+          "W139",
+          "W140",
+          "W141",
+          "W142",
+          "W143",
+          "W144",
+          "W145",
+          "W146",
+          "W147",
+          "W148",
+          "W149",
+          "W150",
+          "W151",
+          "W152",
+          "W153",
+          "W154",
+          "W155",
+          "W156",
+          "W157",
+          "W158",
+          "W159",
+          "W160",
+          "W161",
+          "W162",
+          "W163",
+          "W164",
+          "W165",
+          "W166",
+          "W167",
+          "W168",
+          "W169",
+          "W170",
+          "W171",
+          "W172",
+          "W173",
+          "W174",
+          "W175",
+          "W176",
+          "W177",
+          "W178",
+          "W179",
+          "W180",
+          "W181",
+          "W182",
+          "W183",
+          "W184",
+          "W185",
+          "W186",
+          "W187",
+          "W188",
+          "W189",
+          "W190",
+          "W191",
+          "W192",
+          "W193",
+          "W194",
+          "W195",
+          "W196",
+          "W197",
+          "W198",
+          "W199",
+          "W200",
+          "W201",
+          "W202",
+          "W203",
+          "W204",
+          "W205",
+          "W206",
+          "W207",
+          "W208",
+          "W209",
+          "W210",
+          "W211",
+          "W212",
+          "W213",
+          "W214",
+          "W215",
+          "W216",
+          "W217",
+          "W218",
+          "W219",
+          "W220",
+          "W221",
+          "W222",
+          "W223",
+          "W224",
+          "W225",
+          "W226",
+          "W227",
+          "W228",
+          "W229",
+          "W230",
+          "W231",
+          "W232",
+          "W233",
+          "W234",
+          "W235",
+          "W236",
+          "W237",
+          "W238",
+          "W239",
+          "W240",
+          "W241",
+          "W242",
+          "W243",
+          "W244",
+          "W245",
+          "W246",
+          "W247",
+          "W248",
+          "W249",
+          "W250",
+          "W251",
+          "W252",
+          "W253",
+          "W254",
+          "W255",
+          "W256",
+          "W257",
+          "W258",
+          "W259",
+          "W260",
+          "W261",
+          "W262",
+          "W263",
+          "W264",
+          "W265",
+          "W266",
+          "W267",
+          "W268",
+          "W269",
+          "W270",
+          "W271",
+          "W272",
+          "W273",
+          "W274",
+          "W275",
+          "W276",
+          "W277",
+          "W278",
+          "W279",
+          "W280",
+          "W281",
+          "W282",
+          "W283",
+          "W284",
+          "W285",
+          "W286",
+          "W287",
+          "W288",
+          "W289",
+          "W290",
+          "W291",
+          "W292",
+          "W293",
+          "W294",
+          "W295",
+          "W296",
+          "W297",
+          "W298",
+          "W299",
+          "W300",
+          "W301",
+          "W302",
+          "W303",
+          "W304",
+          "W305",
+          "W306",
+          "W307",
+          "W308",
+          "W309",
+          "W310",
+          "W311",
+          "W312",
+          "W313",
+          "W314",
+          "W315",
+          "W316",
+          "W317",
+          "W318",
+          "W319",
+          "W320",
+          "W321",
+          "W322",
+          "W323",
+          "W324",
+          "W325",
+          "W326",
+          "W327",
+          "W328",
+          "W329",
+          "W330",
+          "W331",
+          "W332",
+          "W333",
+          "W334",
+          "W335",
+          "W336",
+          "W337",
+          "W338",
+          "W339",
+          "W340",
+          "W341",
+          "W342",
+          "W343",
+          "W344",
+          "W345",
+          "W346",
+          "W347",
+          "W348",
+          "W349",
+          "W350",
+          "W351",
+          "W352",
+          "W353",
+          "W354",
+          "W355",
+          "W356",
+          "W357",
+          "W358",
+          "W359",
+          "W360",
+          "W361",
+          "W362",
+          "W363",
+          "W364",
+          "W365",
+          "W366",
+          "W367",
+          "W368",
+          "W369",
+          "W370",
+          "W371",
+          "W372",
+          "W373",
+          "W374",
+          "W375",
+          "W376",
+          "W377",
+          "W378",
+          "W379",
+          "W380",
+          "W381",
+          "W382",
+          "W383",
+          "W384",
+          "W385",
+          "W386",
+          "W387",
+          "W388",
+          "W389",
+          "W390",
+          "W391",
+          "W392",
+          "W393",
+          "W394",
+          "W395",
+          "W396",
+          "W397",
+          "W398",
+          "W399",
+              "Mark", 
+              "Pair", 
+              "Root", 
+   };
+}
+
+
+
+
@@ -0,0 +1,23946 @@
+/* Generated by: JavaCC 21 Parser Generator. HugeMethodsLexer.java */
+package com.javacc.hugemethods;
+
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public class HugeMethodsLexer implements HugeMethodsConstants {
+  private static final Logger LOGGER = Logger.getLogger("HugeMethodsParser");
+ 
+
+
+  int[] jjemptyLineNo = new int[1];
+  int[] jjemptyColNo = new int[1];
+  boolean[] jjbeenHere = new boolean[1];
+  
+  
+  private int jjnewStateCnt;
+  private int jjround;
+  private int jjmatchedPos;
+  private int jjmatchedKind;
+  private String inputSource = "input";
+  
+  private boolean trace_enabled = false;
+  
+  private void setTracingEnabled(boolean trace_enabled) {
+     this.trace_enabled = trace_enabled;
+  }
+  
+  public String getInputSource() {
+      return inputSource;
+  }
+  
+  public void setInputSource(String inputSource) {
+      this.inputSource = inputSource;
+  }
+   
+  private LexicalState lexicalState = LexicalState.DEFAULT;
+  
+  public enum LexicalState {
+     DEFAULT,
+   }
+   
+
+      // Bit vector for TOKEN
+  static final long[] jjtoToken = {
+      0xffffffffffffffe1L, 
+      0xffffffffffffffffL, 
+      0xffffffffffffffffL, 
+      0xffffffffffffffffL, 
+      0xffffffffffffffffL, 
+      0xffffffffffffffffL, 
+      0x3fffffL, 
+  };
+
+      // Bit vector for SKIP
+   static final long[] jjtoSkip = {
+       0x1eL, 
+       0x0L, 
+       0x0L, 
+       0x0L, 
+       0x0L, 
+       0x0L, 
+       0x0L, 
+   };
+
+
+
+    private final int[] jjrounds = new int[2990];
+    private final int[] jjstateSet = new int[5980];
+
+    private final StringBuilder image = new StringBuilder();
+    private int matchedCharsLength;
+
+    char curChar;
+    
+
+FileLineMap input_stream;
+
+public final void backup(int amount) {
+    input_stream.backup(amount);
+}
+
+    public HugeMethodsLexer(Reader reader) {
+       this(reader, 0, 1, 1);
+    }
+    public HugeMethodsLexer(Reader reader, int lexState, int line, int column) {
+        input_stream = new FileLineMap(reader, line, column);
+        SwitchTo(lexState);
+    }
+
+    
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+       int i;
+       jjround = 0x80000001;
+       for (i = 2990; i-- > 0;) 
+          jjrounds[i] = 0x80000000;
+    }
+
+
+    /** Switch to specified lexical state. */
+    public void switchTo(LexicalState lexState) {
+        if (this.lexicalState != lexState) {
+           if (trace_enabled) LOGGER.info("Switching from lexical state " + this.lexicalState + " to " + lexState);
+        }
+        this.lexicalState = lexState;
+    }
+    
+    /**
+      * @deprecated Use the switchTo method that takes an Enum
+      */
+    @Deprecated
+    public void SwitchTo(int lexState) {
+       switchTo(LexicalState.values()[lexState]);
+    }
+
+ 
+  
+  public Token getNextToken() {
+    Token specialToken = null;
+    Token matchedToken;
+    int curPos = 0;
+
+    EOFLoop :
+    while (true) {
+        int retval1 = input_stream.beginToken();
+        curChar = (char) (retval1);
+         if (retval1 == -1) { // Handle end of file
+            if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+			jjmatchedKind = 0;
+            Token eof = jjFillToken();
+            tokenLexicalActions(eof);
+		    eof.specialToken = specialToken;
+    		return eof;
+       }
+
+       image.setLength(0);
+       matchedCharsLength = 0;
+
+    
+                 while (curChar <= 32 
+                        && (0x100002600L
+                        & (1L << curChar)) != 0L) 
+                 {
+                    if (trace_enabled) LOGGER.info("Skipping character : " + ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int) curChar + ")"); 
+                    curChar = (char) input_stream.beginToken();
+                    if (curChar == (char) -1) {
+                        continue EOFLoop;
+                    }
+                }
+             
+             
+        jjmatchedKind = 0x7FFFFFFF;
+        jjmatchedPos = 0;
+        if (trace_enabled) LOGGER.info("Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int) curChar + ") " +
+            "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn()); 
+        curPos = jjMoveStringLiteralDfa0();
+
+  if (jjmatchedKind != 0x7FFFFFFF) { 
+      if (jjmatchedPos + 1 < curPos) {
+        if (trace_enabled) LOGGER.info("   Putting back " + (curPos - jjmatchedPos - 1) + " characters into the input stream.");
+        input_stream.backup(curPos - jjmatchedPos - 1);
+      }
+       if (trace_enabled) LOGGER.info("****** FOUND A " + tokenImage[jjmatchedKind] + " MATCH ("
+          + ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos + 1)) + ") ******\n");
+ 
+      if ((jjtoToken[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L) {
+
+         matchedToken = jjFillToken();
+ 
+
+
+      tokenLexicalActions(matchedToken);
+
+ jjmatchedKind = matchedToken.kind;
+ 
+
+ return matchedToken;
+
+     }
+
+
+          
+          else
+
+          {
+
+
+
+            continue EOFLoop;
+          }
+
+   }
+    int error_line = input_stream.getEndLine();
+    int error_column = input_stream.getEndColumn();
+    String error_after = null;
+//    input_stream.backup(1);
+    error_after = curPos <= 1 ? "" : input_stream.getImage();
+    Token invalidToken = new InvalidToken("" + curChar);
+    invalidToken.specialToken = specialToken;
+    invalidToken.setBeginLine(error_line);
+    invalidToken.setEndLine(error_line);
+    invalidToken.setBeginColumn(error_column);
+    invalidToken.setEndColumn(error_column);
+    return invalidToken;
+     }
+  }
+
+  void tokenLexicalActions(Token matchedToken) {
+//       int matchedKind = (matchedToken != null) ? matchedToken.kind : jjmatchedKind; // REVISIT
+       matchedToken = null; 
+       switch(jjmatchedKind) {
+           default : break;
+      }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage = input_stream.getImage();
+        beginLine = input_stream.getBeginLine();
+        beginColumn = input_stream.getBeginColumn();
+        endLine = input_stream.getEndLine();
+        endColumn = input_stream.getEndColumn();
+        t = Token.newToken(jjmatchedKind, curTokenImage);
+        t.beginLine = beginLine;
+        t.endLine = endLine;
+        t.beginColumn = beginColumn;
+        t.endColumn = endColumn;
+        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state] != jjround) {
+            jjstateSet[jjnewStateCnt++] = state;
+            jjrounds[state] = jjround;
+        }
+    }
+    
+    private void jjAddStates(int start, int end) {
+       do {
+           jjstateSet[jjnewStateCnt++] = jjnextStates[start];
+       }   while (start++ != end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+    
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        } while (start++ != end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start + 1]);
+    }
+    
+    
+    
+    private int jjStopAtPos(int pos, int kind) {
+         jjmatchedKind = kind;
+         jjmatchedPos = pos;
+         if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+         if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos + 1) 
+                            + " characters as a " + tokenImage[jjmatchedKind] + " token.");
+         return pos + 1;
+    }
+    
+
+    
+    
+
+  
+    private int jjStartNfa(int pos, 
+       long active0, 
+       long active1, 
+       long active2, 
+       long active3, 
+       long active4, 
+       long active5, 
+       long active6) {
+       return jjMoveNfa(jjStopStringLiteralDfa(pos, 
+        active0, 
+        active1, 
+        active2, 
+        active3, 
+        active4, 
+        active5, 
+        active6)
+        , pos+1);}
+
+  
+    private final int jjStopStringLiteralDfa(int pos, 
+    long active0, 
+    long active1, 
+    long active2, 
+    long active3, 
+    long active4, 
+    long active5, 
+    long active6
+  ) { 
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch (pos) {
+                   default :
+                       return -1;
+      }
+    }
+    private int jjStartNfaWithStates(int pos, int kind, int state) {
+        jjmatchedKind = kind;
+        jjmatchedPos = pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token.");
+         int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       } 
+       else  { 
+            return pos + 1; 
+        }
+        if (trace_enabled) LOGGER.info("" + 
+            "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) 
+            + " (" + (int)curChar + ") " + "at line " + input_stream.getEndLine() 
+            + " column " + input_stream.getEndColumn());
+        return jjMoveNfa(state, pos+1);
+   }
+  
+    
+    private int jjMoveStringLiteralDfa0
+   (
+   )
+ {
+      switch (curChar) {
+	           case 58 :
+                    return jjStopAtPos(0, 405);
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa(4, 0);
+      }
+   }
+    private int jjMoveNfa(int startState, int curPos) {
+        int startsAt = 0;
+        jjnewStateCnt = 2990;
+        int i=1;
+        jjstateSet[0] = startState;
+        int kind = 0x7fffffff;
+        while (true) {
+            if (++jjround == 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar < 64) {
+                kind = jjMoveNfaAsciiLow(i, startsAt, kind);
+            }
+            else if (curChar <128) {
+                kind = jjMoveNfaAsciiHigh(i, startsAt, kind);
+            }
+            else {
+                kind = jjMoveNfaNonAscii(i, startsAt, kind);
+            }
+            if (kind != 0x7fffffff) {
+                jjmatchedKind = kind;
+                jjmatchedPos = curPos;
+                kind = 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos +1) + " characters as a " 
+                                     + tokenImage[jjmatchedKind] + " token.");
+            }
+            if ((i = jjnewStateCnt) == (startsAt = 2990 - (jjnewStateCnt = startsAt)))
+                 return curPos;
+            int retval = input_stream.readChar();
+            if (retval >=0) {
+                 curChar = (char) retval;
+            }
+            else  {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info("" + 
+               ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int)curChar + ") "
+              + "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+        }
+    }
+
+    private int jjMoveNfaAsciiLow(int i, int startsAt, int kind) {
+            long l = 1L << curChar;
+        do {
+            int state = jjstateSet[--i];
+            if (state >= 0 && state < jjMoveNfaAsciiLowParts.length()) {
+                switch (jjMoveNfaAsciiLowParts.charAt(state)) {
+                    case 1 :
+                        kind = jjMoveNfaAsciiLow_0(state, l, kind);
+                        break;
+                    case 2 :
+                        kind = jjMoveNfaAsciiLow_1(state, l, kind);
+                        break;
+                    case 3 :
+                        kind = jjMoveNfaAsciiLow_2(state, l, kind);
+                        break;
+                    default : break;
+                }
+            }
+        } while (i != startsAt);
+        return kind;
+    }
+
+    static final String jjMoveNfaAsciiLowParts =
+        "\000\001\000\000\000\000\000\001\000\000\000\001\000\000\000\000" +
+        "\000\001\000\000\000\000\000\001\000\000\000\000\000\001\000\000" +
+        "\000\000\000\001\000\000\000\000\000\001\000\000\000\000\000\001" +
+        "\000\000\000\000\000\001\000\000\000\000\000\001\000\000\000\000" +
+        "\000\001\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000\001" +
+        "\000\000\000\000\000\000\000\000\001\000\000\000\001\000\000\000" +
+        "\000\000\001\000\000\000\000\000\001\000\000\000\000\000\001\000" +
+        "\000\000\000\000\001\000\000\000\000\000\001\000\000\000\000\000" +
+        "\001\000\000\000\000\000\001\000\000\000\000\000\001\000\000\000" +
+        "\000\000\001\000\000\000\000\000\001\000\000\000\000\000\000\000" +
+        "\001\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000" +
+        "\001\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000" +
+        "\001\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000" +
+        "\001\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000" +
+        "\001\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000" +
+        "\001\000\000\000\000\000\000\000\001\000\000\000\000\000\000\000" +
+        "\001\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000\000" +
+        "\002\000\000\000\000\000\000\000\000\002\000\000\000\002\000\000" +
+        "\000\000\000\002\000\000\000\000\000\002\000\000\000\000\000\002" +
+        "\000\000\000\000\000\002\000\000\000\000\000\002\000\000\000\000" +
+        "\000\002\000\000\000\000\000\002\000\000\000\000\000\002\000\000" +
+        "\000\000\000\002\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\002\000\000\000\000\000\000\000\002\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\003\000\000\000\000\000\000" +
+        "\000\003\000\000\000\000\000\000\000\000\003\000\000\000\003\000" +
+        "\000\000\000\000\003\000\000\000\000\000\003\000\000\000\000\000" +
+        "\003\000\000\000\000\000\003\000\000\000\000\000\003\000\000\000" +
+        "\000\000\003\000\000\000\000\000\003\000\000\000\000\000\003\000" +
+        "\000\000\000\000\003\000\000\000\000\000\000\003\000\000\000\003" +
+        "\000\000\000\000\000\003\000\000\000\000\000\003\000\000\000\000" +
+        "\000\003\000\000\000\000\000\003\000\000\000\000\000\003\000\000" +
+        "\000\000\000\003\000\000\000\000\000\003\000\000\000\000\000\003" +
+        "\000\000\000\000\000\003\000\000\000\000\000\000\003\000\000\000" +
+        "\003\000\000\000\000\000\003\000\000\000\000\000\003\000\000\000" +
+        "\000\000\003\000\000\000\000\000\003\000\000\000\000\000\003\000" +
+        "\000\000\000\000\003\000\000\000\000\000\003\000\000\000\000\000" +
+        "\003\000\000\000\000\000\003\000\000\000\000\000\000\003\000\000" +
+        "\000\003\000\000\000\000\000\003\000\000\000\000\000\003\000\000" +
+        "\000\000\000\003\000\000\000\000\000\003\000\000\000\000\000\003" +
+        "\000\000\000\000\000\003\000\000\000\000\000\003\000\000\000\000" +
+        "\000\003\000\000\000\000\000\003\000\000\000\000\000\000\003\000" +
+        "\000\000\003\000\000\000\000\000\003\000\000\000\000\000\003\000" +
+        "\000\000\000\000\003\000\000\000\000\000\003\000\000\000\000\000" +
+        "\003\000\000\000\000\000\003\000\000\000\000\000\003\000\000\000" +
+        "\000\000\003\000\000\000\000\000\003\000\000\000\000\000\000\003" +
+        "\000\000\000\003\000\000\000\000\000\003\000\000\000\000\000\003" +
+        "\000\000\000\000\000\003\000\000\000\000\000\003\000\000\000\000" +
+        "\000\003\000\000\000\000\000\003\000\000\000\000\000\003\000\000" +
+        "\000\000\000\003\000\000\000\000\000\003";
+
+    private int jjMoveNfaAsciiLow_0(int state, long l, int kind) {
+        switch (state) {
+                      
+          
+          
+          
+          
+          
+          
+          
+          
+          
+                  
+                  
+                  case 1 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1, 3);
+                         break;
+                  
+                  
+                  case 7 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(7, 9);
+                         break;
+                  
+                  
+                  case 11 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(11, 14);
+                         break;
+                  
+                  
+                  case 17 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(17, 20);
+                         break;
+                  
+                  
+                  case 23 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(23, 26);
+                         break;
+                  
+                  
+                  case 29 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(29, 32);
+                         break;
+                  
+                  
+                  case 35 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(35, 38);
+                         break;
+                  
+                  
+                  case 41 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(41, 44);
+                         break;
+                  
+                  
+                  case 47 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(47, 50);
+                         break;
+                  
+                  
+                  case 53 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(53, 56);
+                         break;
+                  
+                  
+                  case 59 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(59, 62);
+                         break;
+                  
+                  
+                  case 65 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(65, 68);
+                         break;
+                  
+                  
+                  case 71 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(71, 75);
+                         break;
+                  
+                  
+                  case 79 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(79, 83);
+                         break;
+                  
+                  
+                  case 87 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(87, 91);
+                         break;
+                  
+                  
+                  case 95 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(95, 99);
+                         break;
+                  
+                  
+                  case 103 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(103, 107);
+                         break;
+                  
+                  
+                  case 111 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(111, 115);
+                         break;
+                  
+                  
+                  case 119 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(119, 123);
+                         break;
+                  
+                  
+                  case 127 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(127, 131);
+                         break;
+                  
+                  
+                  case 135 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(135, 139);
+                         break;
+                  
+                  
+                  case 143 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(143, 147);
+                         break;
+                  
+                  
+                  case 151 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(151, 155);
+                         break;
+                  
+                  
+                  case 159 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(159, 163);
+                         break;
+                  
+                  
+                  case 167 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(167, 171);
+                         break;
+                  
+                  
+                  case 175 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(175, 179);
+                         break;
+                  
+                  
+                  case 183 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(183, 187);
+                         break;
+                  
+                  
+                  case 191 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(191, 195);
+                         break;
+                  
+                  
+                  case 199 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(199, 203);
+                         break;
+                  
+                  
+                  case 207 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(207, 211);
+                         break;
+                  
+                  
+                  case 215 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(215, 219);
+                         break;
+                  
+                  
+                  case 223 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(223, 227);
+                         break;
+                  
+                  
+                  case 231 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(231, 235);
+                         break;
+                  
+                  
+                  case 239 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(239, 243);
+                         break;
+                  
+                  
+                  case 247 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(247, 251);
+                         break;
+                  
+                  
+                  case 255 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(255, 259);
+                         break;
+                  
+                  
+                  case 263 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(263, 267);
+                         break;
+                  
+                  
+                  case 271 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(271, 275);
+                         break;
+                  
+                  
+                  case 279 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(279, 283);
+                         break;
+                  
+                  
+                  case 287 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(287, 291);
+                         break;
+                  
+                  
+                  case 295 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(295, 299);
+                         break;
+                  
+                  
+                  case 303 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(303, 307);
+                         break;
+                  
+                  
+                  case 311 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(311, 315);
+                         break;
+                  
+                  
+                  case 319 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(319, 323);
+                         break;
+                  
+                  
+                  case 327 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(327, 331);
+                         break;
+                  
+                  
+                  case 335 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(335, 339);
+                         break;
+                  
+                  
+                  case 343 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(343, 347);
+                         break;
+                  
+                  
+                  case 351 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(351, 355);
+                         break;
+                  
+                  
+                  case 359 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(359, 363);
+                         break;
+                  
+                  
+                  case 367 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(367, 371);
+                         break;
+                  
+                  
+                  case 375 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(375, 379);
+                         break;
+                  
+                  
+                  case 383 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(383, 387);
+                         break;
+                  
+                  
+                  case 391 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(391, 395);
+                         break;
+                  
+                  
+                  case 399 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(399, 403);
+                         break;
+                  
+                  
+                  case 407 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(407, 411);
+                         break;
+                  
+                  
+                  case 415 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(415, 419);
+                         break;
+                  
+                  
+                  case 423 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(423, 427);
+                         break;
+                  
+                  
+                  case 431 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(431, 435);
+                         break;
+                  
+                  
+                  case 439 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(439, 443);
+                         break;
+                  
+                  
+                  case 447 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(447, 451);
+                         break;
+                  
+                  
+                  case 455 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(455, 459);
+                         break;
+                  
+                  
+                  case 463 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(463, 467);
+                         break;
+                  
+                  
+                  case 471 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(471, 475);
+                         break;
+                  
+                  
+                  case 479 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(479, 483);
+                         break;
+                  
+                  
+                  case 487 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(487, 491);
+                         break;
+                  
+                  
+                  case 495 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(495, 499);
+                         break;
+                  
+                  
+                  case 503 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(503, 507);
+                         break;
+                  
+                  
+                  case 511 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(511, 515);
+                         break;
+                  
+                  
+                  case 519 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(519, 523);
+                         break;
+                  
+                  
+                  case 527 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(527, 531);
+                         break;
+                  
+                  
+                  case 535 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(535, 539);
+                         break;
+                  
+                  
+                  case 543 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(543, 547);
+                         break;
+                  
+                  
+                  case 551 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(551, 555);
+                         break;
+                  
+                  
+                  case 559 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(559, 563);
+                         break;
+                  
+                  
+                  case 567 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(567, 571);
+                         break;
+                  
+                  
+                  case 575 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(575, 579);
+                         break;
+                  
+                  
+                  case 583 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(583, 587);
+                         break;
+                  
+                  
+                  case 591 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(591, 595);
+                         break;
+                  
+                  
+                  case 599 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(599, 603);
+                         break;
+                  
+                  
+                  case 607 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(607, 611);
+                         break;
+                  
+                  
+                  case 615 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(615, 619);
+                         break;
+                  
+                  
+                  case 623 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(623, 627);
+                         break;
+                  
+                  
+                  case 631 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(631, 635);
+                         break;
+                  
+                  
+                  case 639 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(639, 643);
+                         break;
+                  
+                  
+                  case 647 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(647, 651);
+                         break;
+                  
+                  
+                  case 655 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(655, 659);
+                         break;
+                  
+                  
+                  case 663 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(663, 667);
+                         break;
+                  
+                  
+                  case 671 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(671, 675);
+                         break;
+                  
+                  
+                  case 679 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(679, 683);
+                         break;
+                  
+                  
+                  case 687 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(687, 691);
+                         break;
+                  
+                  
+                  case 695 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(695, 699);
+                         break;
+                  
+                  
+                  case 703 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(703, 707);
+                         break;
+                  
+                  
+                  case 711 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(711, 715);
+                         break;
+                  
+                  
+                  case 719 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(719, 723);
+                         break;
+                  
+                  
+                  case 727 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(727, 731);
+                         break;
+                  
+                  
+                  case 735 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(735, 739);
+                         break;
+                  
+                  
+                  case 743 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(743, 747);
+                         break;
+                  
+                  
+                  case 751 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(751, 755);
+                         break;
+                  
+                  
+                  case 759 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(759, 763);
+                         break;
+                  
+                  
+                  case 767 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(767, 771);
+                         break;
+                  
+                  
+                  case 775 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(775, 779);
+                         break;
+                  
+                  
+                  case 783 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(783, 787);
+                         break;
+                  
+                  
+                  case 791 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(791, 795);
+                         break;
+                  
+                  
+                  case 799 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(799, 803);
+                         break;
+                  
+                  
+                  case 807 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(807, 811);
+                         break;
+                  
+                  
+                  case 815 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(815, 819);
+                         break;
+                  
+                  
+                  case 823 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(823, 827);
+                         break;
+                  
+                  
+                  case 831 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(831, 835);
+                         break;
+                  
+                  
+                  case 839 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(839, 843);
+                         break;
+                  
+                  
+                  case 847 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(847, 851);
+                         break;
+                  
+                  
+                  case 855 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(855, 859);
+                         break;
+                  
+                  
+                  case 863 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(863, 867);
+                         break;
+                  
+                  
+                  case 872 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(872, 874);
+                         break;
+                  
+                  
+                  case 876 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(876, 879);
+                         break;
+                  
+                  
+                  case 882 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(882, 885);
+                         break;
+                  
+                  
+                  case 888 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(888, 891);
+                         break;
+                  
+                  
+                  case 894 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(894, 897);
+                         break;
+                  
+                  
+                  case 900 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(900, 903);
+                         break;
+                  
+                  
+                  case 906 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(906, 909);
+                         break;
+                  
+                  
+                  case 912 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(912, 915);
+                         break;
+                  
+                  
+                  case 918 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(918, 921);
+                         break;
+                  
+                  
+                  case 924 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(924, 927);
+                         break;
+                  
+                  
+                  case 930 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(930, 933);
+                         break;
+                  
+                  
+                  case 936 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(936, 940);
+                         break;
+                  
+                  
+                  case 944 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(944, 948);
+                         break;
+                  
+                  
+                  case 952 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(952, 956);
+                         break;
+                  
+                  
+                  case 960 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(960, 964);
+                         break;
+                  
+                  
+                  case 968 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(968, 972);
+                         break;
+                  
+                  
+                  case 976 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(976, 980);
+                         break;
+                  
+                  
+                  case 984 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(984, 988);
+                         break;
+                  
+                  
+                  case 992 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(992, 996);
+                         break;
+                  
+                  
+                  case 1000 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1000, 1004);
+                         break;
+                  
+                  
+                  case 1008 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1008, 1012);
+                         break;
+                  
+                  
+                  case 1016 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1016, 1020);
+                         break;
+                  
+                  
+                  case 1024 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1024, 1028);
+                         break;
+                  
+                  
+                  case 1032 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1032, 1036);
+                         break;
+                  
+                  
+                  case 1040 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1040, 1044);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiLow_1(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 1048 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1048, 1052);
+                         break;
+                  
+                  
+                  case 1056 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1056, 1060);
+                         break;
+                  
+                  
+                  case 1064 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1064, 1068);
+                         break;
+                  
+                  
+                  case 1072 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1072, 1076);
+                         break;
+                  
+                  
+                  case 1080 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1080, 1084);
+                         break;
+                  
+                  
+                  case 1088 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1088, 1092);
+                         break;
+                  
+                  
+                  case 1096 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1096, 1100);
+                         break;
+                  
+                  
+                  case 1104 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1104, 1108);
+                         break;
+                  
+                  
+                  case 1112 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1112, 1116);
+                         break;
+                  
+                  
+                  case 1120 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1120, 1124);
+                         break;
+                  
+                  
+                  case 1128 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1128, 1132);
+                         break;
+                  
+                  
+                  case 1136 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1136, 1140);
+                         break;
+                  
+                  
+                  case 1144 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1144, 1148);
+                         break;
+                  
+                  
+                  case 1152 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1152, 1156);
+                         break;
+                  
+                  
+                  case 1160 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1160, 1164);
+                         break;
+                  
+                  
+                  case 1168 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1168, 1172);
+                         break;
+                  
+                  
+                  case 1176 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1176, 1180);
+                         break;
+                  
+                  
+                  case 1184 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1184, 1188);
+                         break;
+                  
+                  
+                  case 1192 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1192, 1196);
+                         break;
+                  
+                  
+                  case 1200 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1200, 1204);
+                         break;
+                  
+                  
+                  case 1208 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1208, 1212);
+                         break;
+                  
+                  
+                  case 1216 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1216, 1220);
+                         break;
+                  
+                  
+                  case 1224 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1224, 1228);
+                         break;
+                  
+                  
+                  case 1232 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1232, 1236);
+                         break;
+                  
+                  
+                  case 1240 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1240, 1244);
+                         break;
+                  
+                  
+                  case 1248 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1248, 1252);
+                         break;
+                  
+                  
+                  case 1256 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1256, 1260);
+                         break;
+                  
+                  
+                  case 1264 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1264, 1268);
+                         break;
+                  
+                  
+                  case 1272 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1272, 1276);
+                         break;
+                  
+                  
+                  case 1280 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1280, 1284);
+                         break;
+                  
+                  
+                  case 1288 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1288, 1292);
+                         break;
+                  
+                  
+                  case 1296 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1296, 1300);
+                         break;
+                  
+                  
+                  case 1304 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1304, 1308);
+                         break;
+                  
+                  
+                  case 1312 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1312, 1316);
+                         break;
+                  
+                  
+                  case 1320 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1320, 1324);
+                         break;
+                  
+                  
+                  case 1328 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1328, 1332);
+                         break;
+                  
+                  
+                  case 1336 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1336, 1340);
+                         break;
+                  
+                  
+                  case 1344 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1344, 1348);
+                         break;
+                  
+                  
+                  case 1352 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1352, 1356);
+                         break;
+                  
+                  
+                  case 1360 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1360, 1364);
+                         break;
+                  
+                  
+                  case 1368 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1368, 1372);
+                         break;
+                  
+                  
+                  case 1376 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1376, 1380);
+                         break;
+                  
+                  
+                  case 1384 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1384, 1388);
+                         break;
+                  
+                  
+                  case 1392 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1392, 1396);
+                         break;
+                  
+                  
+                  case 1400 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1400, 1404);
+                         break;
+                  
+                  
+                  case 1408 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1408, 1412);
+                         break;
+                  
+                  
+                  case 1416 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1416, 1420);
+                         break;
+                  
+                  
+                  case 1424 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1424, 1428);
+                         break;
+                  
+                  
+                  case 1432 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1432, 1436);
+                         break;
+                  
+                  
+                  case 1440 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1440, 1444);
+                         break;
+                  
+                  
+                  case 1448 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1448, 1452);
+                         break;
+                  
+                  
+                  case 1456 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1456, 1460);
+                         break;
+                  
+                  
+                  case 1464 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1464, 1468);
+                         break;
+                  
+                  
+                  case 1472 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1472, 1476);
+                         break;
+                  
+                  
+                  case 1480 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1480, 1484);
+                         break;
+                  
+                  
+                  case 1488 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1488, 1492);
+                         break;
+                  
+                  
+                  case 1496 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1496, 1500);
+                         break;
+                  
+                  
+                  case 1504 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1504, 1508);
+                         break;
+                  
+                  
+                  case 1512 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1512, 1516);
+                         break;
+                  
+                  
+                  case 1520 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1520, 1524);
+                         break;
+                  
+                  
+                  case 1528 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1528, 1532);
+                         break;
+                  
+                  
+                  case 1536 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1536, 1540);
+                         break;
+                  
+                  
+                  case 1544 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1544, 1548);
+                         break;
+                  
+                  
+                  case 1552 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1552, 1556);
+                         break;
+                  
+                  
+                  case 1560 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1560, 1564);
+                         break;
+                  
+                  
+                  case 1568 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1568, 1572);
+                         break;
+                  
+                  
+                  case 1576 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1576, 1580);
+                         break;
+                  
+                  
+                  case 1584 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1584, 1588);
+                         break;
+                  
+                  
+                  case 1592 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1592, 1596);
+                         break;
+                  
+                  
+                  case 1600 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1600, 1604);
+                         break;
+                  
+                  
+                  case 1608 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1608, 1612);
+                         break;
+                  
+                  
+                  case 1616 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1616, 1620);
+                         break;
+                  
+                  
+                  case 1624 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1624, 1628);
+                         break;
+                  
+                  
+                  case 1632 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1632, 1636);
+                         break;
+                  
+                  
+                  case 1640 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1640, 1644);
+                         break;
+                  
+                  
+                  case 1648 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1648, 1652);
+                         break;
+                  
+                  
+                  case 1656 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1656, 1660);
+                         break;
+                  
+                  
+                  case 1664 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1664, 1668);
+                         break;
+                  
+                  
+                  case 1672 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1672, 1676);
+                         break;
+                  
+                  
+                  case 1680 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1680, 1684);
+                         break;
+                  
+                  
+                  case 1688 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1688, 1692);
+                         break;
+                  
+                  
+                  case 1696 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1696, 1700);
+                         break;
+                  
+                  
+                  case 1704 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1704, 1708);
+                         break;
+                  
+                  
+                  case 1712 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1712, 1716);
+                         break;
+                  
+                  
+                  case 1720 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1720, 1724);
+                         break;
+                  
+                  
+                  case 1728 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1728, 1732);
+                         break;
+                  
+                  
+                  case 1737 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1737, 1739);
+                         break;
+                  
+                  
+                  case 1741 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1741, 1744);
+                         break;
+                  
+                  
+                  case 1747 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1747, 1750);
+                         break;
+                  
+                  
+                  case 1753 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1753, 1756);
+                         break;
+                  
+                  
+                  case 1759 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1759, 1762);
+                         break;
+                  
+                  
+                  case 1765 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1765, 1768);
+                         break;
+                  
+                  
+                  case 1771 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1771, 1774);
+                         break;
+                  
+                  
+                  case 1777 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1777, 1780);
+                         break;
+                  
+                  
+                  case 1783 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1783, 1786);
+                         break;
+                  
+                  
+                  case 1789 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1789, 1792);
+                         break;
+                  
+                  
+                  case 1795 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1795, 1798);
+                         break;
+                  
+                  
+                  case 1801 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1801, 1805);
+                         break;
+                  
+                  
+                  case 1809 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1809, 1813);
+                         break;
+                  
+                  
+                  case 1817 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1817, 1821);
+                         break;
+                  
+                  
+                  case 1825 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1825, 1829);
+                         break;
+                  
+                  
+                  case 1833 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1833, 1837);
+                         break;
+                  
+                  
+                  case 1841 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1841, 1845);
+                         break;
+                  
+                  
+                  case 1849 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1849, 1853);
+                         break;
+                  
+                  
+                  case 1857 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1857, 1861);
+                         break;
+                  
+                  
+                  case 1865 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1865, 1869);
+                         break;
+                  
+                  
+                  case 1873 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1873, 1877);
+                         break;
+                  
+                  
+                  case 1881 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1881, 1885);
+                         break;
+                  
+                  
+                  case 1889 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1889, 1893);
+                         break;
+                  
+                  
+                  case 1897 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1897, 1901);
+                         break;
+                  
+                  
+                  case 1905 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1905, 1909);
+                         break;
+                  
+                  
+                  case 1913 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1913, 1917);
+                         break;
+                  
+                  
+                  case 1921 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1921, 1925);
+                         break;
+                  
+                  
+                  case 1929 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1929, 1933);
+                         break;
+                  
+                  
+                  case 1937 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1937, 1941);
+                         break;
+                  
+                  
+                  case 1945 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1945, 1949);
+                         break;
+                  
+                  
+                  case 1953 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1953, 1957);
+                         break;
+                  
+                  
+                  case 1961 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1961, 1965);
+                         break;
+                  
+                  
+                  case 1969 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1969, 1973);
+                         break;
+                  
+                  
+                  case 1977 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1977, 1981);
+                         break;
+                  
+                  
+                  case 1985 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1985, 1989);
+                         break;
+                  
+                  
+                  case 1993 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1993, 1997);
+                         break;
+                  
+                  
+                  case 2001 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2001, 2005);
+                         break;
+                  
+                  
+                  case 2009 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2009, 2013);
+                         break;
+                  
+                  
+                  case 2017 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2017, 2021);
+                         break;
+                  
+                  
+                  case 2025 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2025, 2029);
+                         break;
+                  
+                  
+                  case 2033 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2033, 2037);
+                         break;
+                  
+                  
+                  case 2041 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2041, 2045);
+                         break;
+                  
+                  
+                  case 2049 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2049, 2053);
+                         break;
+                  
+                  
+                  case 2057 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2057, 2061);
+                         break;
+                  
+                  
+                  case 2065 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2065, 2069);
+                         break;
+                  
+                  
+                  case 2073 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2073, 2077);
+                         break;
+                  
+                  
+                  case 2081 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2081, 2085);
+                         break;
+                  
+                  
+                  case 2089 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2089, 2093);
+                         break;
+                  
+                  
+                  case 2097 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2097, 2101);
+                         break;
+                  
+                  
+                  case 2105 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2105, 2109);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiLow_2(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 2113 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2113, 2117);
+                         break;
+                  
+                  
+                  case 2121 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2121, 2125);
+                         break;
+                  
+                  
+                  case 2129 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2129, 2133);
+                         break;
+                  
+                  
+                  case 2137 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2137, 2141);
+                         break;
+                  
+                  
+                  case 2145 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2145, 2149);
+                         break;
+                  
+                  
+                  case 2153 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2153, 2157);
+                         break;
+                  
+                  
+                  case 2161 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2161, 2165);
+                         break;
+                  
+                  
+                  case 2169 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2169, 2173);
+                         break;
+                  
+                  
+                  case 2177 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2177, 2181);
+                         break;
+                  
+                  
+                  case 2185 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2185, 2189);
+                         break;
+                  
+                  
+                  case 2193 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2193, 2197);
+                         break;
+                  
+                  
+                  case 2201 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2201, 2205);
+                         break;
+                  
+                  
+                  case 2209 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2209, 2213);
+                         break;
+                  
+                  
+                  case 2217 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2217, 2221);
+                         break;
+                  
+                  
+                  case 2225 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2225, 2229);
+                         break;
+                  
+                  
+                  case 2233 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2233, 2237);
+                         break;
+                  
+                  
+                  case 2241 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2241, 2245);
+                         break;
+                  
+                  
+                  case 2249 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2249, 2253);
+                         break;
+                  
+                  
+                  case 2257 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2257, 2261);
+                         break;
+                  
+                  
+                  case 2265 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2265, 2269);
+                         break;
+                  
+                  
+                  case 2273 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2273, 2277);
+                         break;
+                  
+                  
+                  case 2281 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2281, 2285);
+                         break;
+                  
+                  
+                  case 2289 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2289, 2293);
+                         break;
+                  
+                  
+                  case 2297 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2297, 2301);
+                         break;
+                  
+                  
+                  case 2305 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2305, 2309);
+                         break;
+                  
+                  
+                  case 2313 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2313, 2317);
+                         break;
+                  
+                  
+                  case 2321 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2321, 2325);
+                         break;
+                  
+                  
+                  case 2329 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2329, 2333);
+                         break;
+                  
+                  
+                  case 2337 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2337, 2341);
+                         break;
+                  
+                  
+                  case 2345 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2345, 2349);
+                         break;
+                  
+                  
+                  case 2353 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2353, 2357);
+                         break;
+                  
+                  
+                  case 2361 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2361, 2365);
+                         break;
+                  
+                  
+                  case 2369 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2369, 2373);
+                         break;
+                  
+                  
+                  case 2377 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2377, 2381);
+                         break;
+                  
+                  
+                  case 2385 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2385, 2389);
+                         break;
+                  
+                  
+                  case 2393 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2393, 2397);
+                         break;
+                  
+                  
+                  case 2401 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2401, 2405);
+                         break;
+                  
+                  
+                  case 2409 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2409, 2413);
+                         break;
+                  
+                  
+                  case 2417 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2417, 2421);
+                         break;
+                  
+                  
+                  case 2425 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2425, 2429);
+                         break;
+                  
+                  
+                  case 2433 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2433, 2437);
+                         break;
+                  
+                  
+                  case 2441 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2441, 2445);
+                         break;
+                  
+                  
+                  case 2449 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2449, 2453);
+                         break;
+                  
+                  
+                  case 2457 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2457, 2461);
+                         break;
+                  
+                  
+                  case 2465 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2465, 2469);
+                         break;
+                  
+                  
+                  case 2473 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2473, 2477);
+                         break;
+                  
+                  
+                  case 2481 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2481, 2485);
+                         break;
+                  
+                  
+                  case 2489 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2489, 2493);
+                         break;
+                  
+                  
+                  case 2497 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2497, 2501);
+                         break;
+                  
+                  
+                  case 2505 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2505, 2509);
+                         break;
+                  
+                  
+                  case 2513 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2513, 2517);
+                         break;
+                  
+                  
+                  case 2521 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2521, 2525);
+                         break;
+                  
+                  
+                  case 2529 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2529, 2533);
+                         break;
+                  
+                  
+                  case 2537 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2537, 2541);
+                         break;
+                  
+                  
+                  case 2545 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2545, 2549);
+                         break;
+                  
+                  
+                  case 2553 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2553, 2557);
+                         break;
+                  
+                  
+                  case 2561 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2561, 2565);
+                         break;
+                  
+                  
+                  case 2569 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2569, 2573);
+                         break;
+                  
+                  
+                  case 2577 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2577, 2581);
+                         break;
+                  
+                  
+                  case 2585 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2585, 2589);
+                         break;
+                  
+                  
+                  case 2593 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2593, 2597);
+                         break;
+                  
+                  
+                  case 2602 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2602, 2604);
+                         break;
+                  
+                  
+                  case 2606 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2606, 2609);
+                         break;
+                  
+                  
+                  case 2612 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2612, 2615);
+                         break;
+                  
+                  
+                  case 2618 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2618, 2621);
+                         break;
+                  
+                  
+                  case 2624 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2624, 2627);
+                         break;
+                  
+                  
+                  case 2630 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2630, 2633);
+                         break;
+                  
+                  
+                  case 2636 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2636, 2639);
+                         break;
+                  
+                  
+                  case 2642 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2642, 2645);
+                         break;
+                  
+                  
+                  case 2648 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2648, 2651);
+                         break;
+                  
+                  
+                  case 2654 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2654, 2657);
+                         break;
+                  
+                  
+                  case 2660 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2660, 2663);
+                         break;
+                  
+                  
+                  case 2667 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2667, 2669);
+                         break;
+                  
+                  
+                  case 2671 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2671, 2674);
+                         break;
+                  
+                  
+                  case 2677 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2677, 2680);
+                         break;
+                  
+                  
+                  case 2683 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2683, 2686);
+                         break;
+                  
+                  
+                  case 2689 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2689, 2692);
+                         break;
+                  
+                  
+                  case 2695 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2695, 2698);
+                         break;
+                  
+                  
+                  case 2701 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2701, 2704);
+                         break;
+                  
+                  
+                  case 2707 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2707, 2710);
+                         break;
+                  
+                  
+                  case 2713 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2713, 2716);
+                         break;
+                  
+                  
+                  case 2719 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2719, 2722);
+                         break;
+                  
+                  
+                  case 2725 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2725, 2728);
+                         break;
+                  
+                  
+                  case 2732 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2732, 2734);
+                         break;
+                  
+                  
+                  case 2736 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2736, 2739);
+                         break;
+                  
+                  
+                  case 2742 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2742, 2745);
+                         break;
+                  
+                  
+                  case 2748 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2748, 2751);
+                         break;
+                  
+                  
+                  case 2754 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2754, 2757);
+                         break;
+                  
+                  
+                  case 2760 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2760, 2763);
+                         break;
+                  
+                  
+                  case 2766 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2766, 2769);
+                         break;
+                  
+                  
+                  case 2772 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2772, 2775);
+                         break;
+                  
+                  
+                  case 2778 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2778, 2781);
+                         break;
+                  
+                  
+                  case 2784 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2784, 2787);
+                         break;
+                  
+                  
+                  case 2790 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2790, 2793);
+                         break;
+                  
+                  
+                  case 2797 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2797, 2799);
+                         break;
+                  
+                  
+                  case 2801 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2801, 2804);
+                         break;
+                  
+                  
+                  case 2807 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2807, 2810);
+                         break;
+                  
+                  
+                  case 2813 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2813, 2816);
+                         break;
+                  
+                  
+                  case 2819 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2819, 2822);
+                         break;
+                  
+                  
+                  case 2825 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2825, 2828);
+                         break;
+                  
+                  
+                  case 2831 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2831, 2834);
+                         break;
+                  
+                  
+                  case 2837 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2837, 2840);
+                         break;
+                  
+                  
+                  case 2843 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2843, 2846);
+                         break;
+                  
+                  
+                  case 2849 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2849, 2852);
+                         break;
+                  
+                  
+                  case 2855 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2855, 2858);
+                         break;
+                  
+                  
+                  case 2862 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2862, 2864);
+                         break;
+                  
+                  
+                  case 2866 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2866, 2869);
+                         break;
+                  
+                  
+                  case 2872 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2872, 2875);
+                         break;
+                  
+                  
+                  case 2878 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2878, 2881);
+                         break;
+                  
+                  
+                  case 2884 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2884, 2887);
+                         break;
+                  
+                  
+                  case 2890 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2890, 2893);
+                         break;
+                  
+                  
+                  case 2896 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2896, 2899);
+                         break;
+                  
+                  
+                  case 2902 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2902, 2905);
+                         break;
+                  
+                  
+                  case 2908 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2908, 2911);
+                         break;
+                  
+                  
+                  case 2914 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2914, 2917);
+                         break;
+                  
+                  
+                  case 2920 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2920, 2923);
+                         break;
+                  
+                  
+                  case 2927 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2927, 2929);
+                         break;
+                  
+                  
+                  case 2931 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2931, 2934);
+                         break;
+                  
+                  
+                  case 2937 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2937, 2940);
+                         break;
+                  
+                  
+                  case 2943 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2943, 2946);
+                         break;
+                  
+                  
+                  case 2949 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2949, 2952);
+                         break;
+                  
+                  
+                  case 2955 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2955, 2958);
+                         break;
+                  
+                  
+                  case 2961 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2961, 2964);
+                         break;
+                  
+                  
+                  case 2967 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2967, 2970);
+                         break;
+                  
+                  
+                  case 2973 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2973, 2976);
+                         break;
+                  
+                  
+                  case 2979 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2979, 2982);
+                         break;
+                  
+                  
+                  case 2985 :
+                    if ((0x3ff000000000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2985, 2988);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh(int i, int startsAt, int kind) {
+            long l = 1L << (curChar & 077);
+        do {
+            int state = jjstateSet[--i];
+            if (state >= 0 && state < jjMoveNfaAsciiHighParts.length()) {
+                switch (jjMoveNfaAsciiHighParts.charAt(state)) {
+                    case 1 :
+                        kind = jjMoveNfaAsciiHigh_0(state, l, kind);
+                        break;
+                    case 2 :
+                        kind = jjMoveNfaAsciiHigh_1(state, l, kind);
+                        break;
+                    case 3 :
+                        kind = jjMoveNfaAsciiHigh_2(state, l, kind);
+                        break;
+                    case 4 :
+                        kind = jjMoveNfaAsciiHigh_3(state, l, kind);
+                        break;
+                    case 5 :
+                        kind = jjMoveNfaAsciiHigh_4(state, l, kind);
+                        break;
+                    case 6 :
+                        kind = jjMoveNfaAsciiHigh_5(state, l, kind);
+                        break;
+                    case 7 :
+                        kind = jjMoveNfaAsciiHigh_6(state, l, kind);
+                        break;
+                    case 8 :
+                        kind = jjMoveNfaAsciiHigh_7(state, l, kind);
+                        break;
+                    case 9 :
+                        kind = jjMoveNfaAsciiHigh_8(state, l, kind);
+                        break;
+                    case 10 :
+                        kind = jjMoveNfaAsciiHigh_9(state, l, kind);
+                        break;
+                    case 11 :
+                        kind = jjMoveNfaAsciiHigh_10(state, l, kind);
+                        break;
+                    case 12 :
+                        kind = jjMoveNfaAsciiHigh_11(state, l, kind);
+                        break;
+                    case 13 :
+                        kind = jjMoveNfaAsciiHigh_12(state, l, kind);
+                        break;
+                    case 14 :
+                        kind = jjMoveNfaAsciiHigh_13(state, l, kind);
+                        break;
+                    case 15 :
+                        kind = jjMoveNfaAsciiHigh_14(state, l, kind);
+                        break;
+                    case 16 :
+                        kind = jjMoveNfaAsciiHigh_15(state, l, kind);
+                        break;
+                    case 17 :
+                        kind = jjMoveNfaAsciiHigh_16(state, l, kind);
+                        break;
+                    case 18 :
+                        kind = jjMoveNfaAsciiHigh_17(state, l, kind);
+                        break;
+                    case 19 :
+                        kind = jjMoveNfaAsciiHigh_18(state, l, kind);
+                        break;
+                    default : break;
+                }
+            }
+        } while (i != startsAt);
+        return kind;
+    }
+
+    static final String jjMoveNfaAsciiHighParts =
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+        "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002" +
+        "\002\002\002\002\002\002\002\002\002\002\002\002\002\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003" +
+        "\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004" +
+        "\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005" +
+        "\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+        "\006\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007" +
+        "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010" +
+        "\010\010\010\010\010\010\010\010\010\010\010\010\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011" +
+        "\011\011\011\011\011\011\011\011\011\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012" +
+        "\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013" +
+        "\013\013\013\013\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014" +
+        "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015" +
+        "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016" +
+        "\016\016\016\016\016\016\016\016\016\016\016\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017" +
+        "\017\017\017\017\017\017\017\017\017\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020" +
+        "\020\020\020\020\020\020\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021" +
+        "\021\021\021\021\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022" +
+        "\022\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023" +
+        "\023\023\023\023\023\023\023\023\023\023\023\023\023\023";
+
+    private int jjMoveNfaAsciiHigh_0(int state, long l, int kind) {
+        switch (state) {
+                          
+              case 4 :
+                 
+                if (curChar == 106)
+                      jjAddStates(0, 10);
+               else  if (curChar == 105)
+                      jjAddStates(11, 21);
+               else  if (curChar == 104)
+                      jjAddStates(22, 32);
+               else  if (curChar == 103)
+                      jjAddStates(33, 43);
+               else  if (curChar == 102)
+                      jjAddStates(44, 54);
+               else  if (curChar == 101)
+                      jjAddStates(55, 65);
+               else  if (curChar == 100)
+                      jjAddStates(66, 176);
+               else  if (curChar == 99)
+                      jjAddStates(177, 287);
+               else  if (curChar == 98)
+                      jjAddStates(288, 398);
+               else  if (curChar == 97)
+                      jjstateSet[jjnewStateCnt++] = 0;
+                  break;
+                  
+                  
+                  case 0 :
+                    if (curChar == 95)
+                    jjAddStates(399, 400);
+                         break;
+                  
+                  
+                  case 1 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1, 3);
+                         break;
+                  
+                  
+                  case 2 :
+                     if (curChar == 97  && kind > 5)
+                         kind = 5;
+                         break;
+                  
+                  
+                  case 3 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2;
+                         break;
+                  
+                  
+                  case 5 :
+                    if (curChar == 98)
+                    jjCheckNAddStates(288
+                    , 398
+                    );
+                         break;
+                  
+                  
+                  case 6 :
+                    if (curChar == 95)
+                    jjAddStates(401, 402);
+                         break;
+                  
+                  
+                  case 7 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(7, 9);
+                         break;
+                  
+                  
+                  case 8 :
+                     if (curChar == 98  && kind > 6)
+                         kind = 6;
+                         break;
+                  
+                  
+                  case 9 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 8;
+                         break;
+                  
+                  
+                  case 10 :
+                    if (curChar == 95)
+                    jjAddStates(403, 404);
+                         break;
+                  
+                  
+                  case 11 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(11, 14);
+                         break;
+                  
+                  
+                  case 12 :
+                     if (curChar == 97  && kind > 15)
+                         kind = 15;
+                         break;
+                  
+                  
+                  case 13 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 12;
+                         break;
+                  
+                  
+                  case 14 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 13;
+                         break;
+                  
+                  
+                  case 15 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 10;
+                         break;
+                  
+                  
+                  case 16 :
+                    if (curChar == 95)
+                    jjAddStates(405, 406);
+                         break;
+                  
+                  
+                  case 17 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(17, 20);
+                         break;
+                  
+                  
+                  case 18 :
+                     if (curChar == 98  && kind > 16)
+                         kind = 16;
+                         break;
+                  
+                  
+                  case 19 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 18;
+                         break;
+                  
+                  
+                  case 20 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 19;
+                         break;
+                  
+                  
+                  case 21 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 16;
+                         break;
+                  
+                  
+                  case 22 :
+                    if (curChar == 95)
+                    jjAddStates(407, 408);
+                         break;
+                  
+                  
+                  case 23 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(23, 26);
+                         break;
+                  
+                  
+                  case 24 :
+                     if (curChar == 99  && kind > 17)
+                         kind = 17;
+                         break;
+                  
+                  
+                  case 25 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 24;
+                         break;
+                  
+                  
+                  case 26 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 25;
+                         break;
+                  
+                  
+                  case 27 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 22;
+                         break;
+                  
+                  
+                  case 28 :
+                    if (curChar == 95)
+                    jjAddStates(409, 410);
+                         break;
+                  
+                  
+                  case 29 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(29, 32);
+                         break;
+                  
+                  
+                  case 30 :
+                     if (curChar == 100  && kind > 18)
+                         kind = 18;
+                         break;
+                  
+                  
+                  case 31 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 30;
+                         break;
+                  
+                  
+                  case 32 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 31;
+                         break;
+                  
+                  
+                  case 33 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 28;
+                         break;
+                  
+                  
+                  case 34 :
+                    if (curChar == 95)
+                    jjAddStates(411, 412);
+                         break;
+                  
+                  
+                  case 35 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(35, 38);
+                         break;
+                  
+                  
+                  case 36 :
+                     if (curChar == 101  && kind > 19)
+                         kind = 19;
+                         break;
+                  
+                  
+                  case 37 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 36;
+                         break;
+                  
+                  
+                  case 38 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 37;
+                         break;
+                  
+                  
+                  case 39 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 34;
+                         break;
+                  
+                  
+                  case 40 :
+                    if (curChar == 95)
+                    jjAddStates(413, 414);
+                         break;
+                  
+                  
+                  case 41 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(41, 44);
+                         break;
+                  
+                  
+                  case 42 :
+                     if (curChar == 102  && kind > 20)
+                         kind = 20;
+                         break;
+                  
+                  
+                  case 43 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 42;
+                         break;
+                  
+                  
+                  case 44 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 43;
+                         break;
+                  
+                  
+                  case 45 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 40;
+                         break;
+                  
+                  
+                  case 46 :
+                    if (curChar == 95)
+                    jjAddStates(415, 416);
+                         break;
+                  
+                  
+                  case 47 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(47, 50);
+                         break;
+                  
+                  
+                  case 48 :
+                     if (curChar == 103  && kind > 21)
+                         kind = 21;
+                         break;
+                  
+                  
+                  case 49 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 48;
+                         break;
+                  
+                  
+                  case 50 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 49;
+                         break;
+                  
+                  
+                  case 51 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 46;
+                         break;
+                  
+                  
+                  case 52 :
+                    if (curChar == 95)
+                    jjAddStates(417, 418);
+                         break;
+                  
+                  
+                  case 53 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(53, 56);
+                         break;
+                  
+                  
+                  case 54 :
+                     if (curChar == 104  && kind > 22)
+                         kind = 22;
+                         break;
+                  
+                  
+                  case 55 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 54;
+                         break;
+                  
+                  
+                  case 56 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 55;
+                         break;
+                  
+                  
+                  case 57 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 52;
+                         break;
+                  
+                  
+                  case 58 :
+                    if (curChar == 95)
+                    jjAddStates(419, 420);
+                         break;
+                  
+                  
+                  case 59 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(59, 62);
+                         break;
+                  
+                  
+                  case 60 :
+                     if (curChar == 105  && kind > 23)
+                         kind = 23;
+                         break;
+                  
+                  
+                  case 61 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 60;
+                         break;
+                  
+                  
+                  case 62 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 61;
+                         break;
+                  
+                  
+                  case 63 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 58;
+                         break;
+                  
+                  
+                  case 64 :
+                    if (curChar == 95)
+                    jjAddStates(421, 422);
+                         break;
+                  
+                  
+                  case 65 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(65, 68);
+                         break;
+                  
+                  
+                  case 66 :
+                     if (curChar == 106  && kind > 24)
+                         kind = 24;
+                         break;
+                  
+                  
+                  case 67 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 66;
+                         break;
+                  
+                  
+                  case 68 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 67;
+                         break;
+                  
+                  
+                  case 69 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 64;
+                         break;
+                  
+                  
+                  case 70 :
+                    if (curChar == 95)
+                    jjAddStates(423, 424);
+                         break;
+                  
+                  
+                  case 71 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(71, 75);
+                         break;
+                  
+                  
+                  case 72 :
+                     if (curChar == 97  && kind > 105)
+                         kind = 105;
+                         break;
+                  
+                  
+                  case 73 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 72;
+                         break;
+                  
+                  
+                  case 74 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 73;
+                         break;
+                  
+                  
+                  case 75 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 74;
+                         break;
+                  
+                  
+                  case 76 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 70;
+                         break;
+                  
+                  
+                  case 77 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 76;
+                         break;
+                  
+                  
+                  case 78 :
+                    if (curChar == 95)
+                    jjAddStates(425, 426);
+                         break;
+                  
+                  
+                  case 79 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(79, 83);
+                         break;
+                  
+                  
+                  case 80 :
+                     if (curChar == 98  && kind > 106)
+                         kind = 106;
+                         break;
+                  
+                  
+                  case 81 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 80;
+                         break;
+                  
+                  
+                  case 82 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 81;
+                         break;
+                  
+                  
+                  case 83 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 82;
+                         break;
+                  
+                  
+                  case 84 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 78;
+                         break;
+                  
+                  
+                  case 85 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 84;
+                         break;
+                  
+                  
+                  case 86 :
+                    if (curChar == 95)
+                    jjAddStates(427, 428);
+                         break;
+                  
+                  
+                  case 87 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(87, 91);
+                         break;
+                  
+                  
+                  case 88 :
+                     if (curChar == 99  && kind > 107)
+                         kind = 107;
+                         break;
+                  
+                  
+                  case 89 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 88;
+                         break;
+                  
+                  
+                  case 90 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 89;
+                         break;
+                  
+                  
+                  case 91 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 90;
+                         break;
+                  
+                  
+                  case 92 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 86;
+                         break;
+                  
+                  
+                  case 93 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 92;
+                         break;
+                  
+                  
+                  case 94 :
+                    if (curChar == 95)
+                    jjAddStates(429, 430);
+                         break;
+                  
+                  
+                  case 95 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(95, 99);
+                         break;
+                  
+                  
+                  case 96 :
+                     if (curChar == 100  && kind > 108)
+                         kind = 108;
+                         break;
+                  
+                  
+                  case 97 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 96;
+                         break;
+                  
+                  
+                  case 98 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 97;
+                         break;
+                  
+                  
+                  case 99 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 98;
+                         break;
+                  
+                  
+                  case 100 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 94;
+                         break;
+                  
+                  
+                  case 101 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 100;
+                         break;
+                  
+                  
+                  case 102 :
+                    if (curChar == 95)
+                    jjAddStates(431, 432);
+                         break;
+                  
+                  
+                  case 103 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(103, 107);
+                         break;
+                  
+                  
+                  case 104 :
+                     if (curChar == 101  && kind > 109)
+                         kind = 109;
+                         break;
+                  
+                  
+                  case 105 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 104;
+                         break;
+                  
+                  
+                  case 106 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 105;
+                         break;
+                  
+                  
+                  case 107 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 106;
+                         break;
+                  
+                  
+                  case 108 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 102;
+                         break;
+                  
+                  
+                  case 109 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 108;
+                         break;
+                  
+                  
+                  case 110 :
+                    if (curChar == 95)
+                    jjAddStates(433, 434);
+                         break;
+                  
+                  
+                  case 111 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(111, 115);
+                         break;
+                  
+                  
+                  case 112 :
+                     if (curChar == 102  && kind > 110)
+                         kind = 110;
+                         break;
+                  
+                  
+                  case 113 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 112;
+                         break;
+                  
+                  
+                  case 114 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 113;
+                         break;
+                  
+                  
+                  case 115 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 114;
+                         break;
+                  
+                  
+                  case 116 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 110;
+                         break;
+                  
+                  
+                  case 117 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 116;
+                         break;
+                  
+                  
+                  case 118 :
+                    if (curChar == 95)
+                    jjAddStates(435, 436);
+                         break;
+                  
+                  
+                  case 119 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(119, 123);
+                         break;
+                  
+                  
+                  case 120 :
+                     if (curChar == 103  && kind > 111)
+                         kind = 111;
+                         break;
+                  
+                  
+                  case 121 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 120;
+                         break;
+                  
+                  
+                  case 122 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 121;
+                         break;
+                  
+                  
+                  case 123 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 122;
+                         break;
+                  
+                  
+                  case 124 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 118;
+                         break;
+                  
+                  
+                  case 125 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 124;
+                         break;
+                  
+                  
+                  case 126 :
+                    if (curChar == 95)
+                    jjAddStates(437, 438);
+                         break;
+                  
+                  
+                  case 127 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(127, 131);
+                         break;
+                  
+                  
+                  case 128 :
+                     if (curChar == 104  && kind > 112)
+                         kind = 112;
+                         break;
+                  
+                  
+                  case 129 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 128;
+                         break;
+                  
+                  
+                  case 130 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 129;
+                         break;
+                  
+                  
+                  case 131 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 130;
+                         break;
+                  
+                  
+                  case 132 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 126;
+                         break;
+                  
+                  
+                  case 133 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 132;
+                         break;
+                  
+                  
+                  case 134 :
+                    if (curChar == 95)
+                    jjAddStates(439, 440);
+                         break;
+                  
+                  
+                  case 135 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(135, 139);
+                         break;
+                  
+                  
+                  case 136 :
+                     if (curChar == 105  && kind > 113)
+                         kind = 113;
+                         break;
+                  
+                  
+                  case 137 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 136;
+                         break;
+                  
+                  
+                  case 138 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 137;
+                         break;
+                  
+                  
+                  case 139 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 138;
+                         break;
+                  
+                  
+                  case 140 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 134;
+                         break;
+                  
+                  
+                  case 141 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 140;
+                         break;
+                  
+                  
+                  case 142 :
+                    if (curChar == 95)
+                    jjAddStates(441, 442);
+                         break;
+                  
+                  
+                  case 143 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(143, 147);
+                         break;
+                  
+                  
+                  case 144 :
+                     if (curChar == 106  && kind > 114)
+                         kind = 114;
+                         break;
+                  
+                  
+                  case 145 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 144;
+                         break;
+                  
+                  
+                  case 146 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 145;
+                         break;
+                  
+                  
+                  case 147 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 146;
+                         break;
+                  
+                  
+                  case 148 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 142;
+                         break;
+                  
+                  
+                  case 149 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 148;
+                         break;
+                  
+                  
+                  case 150 :
+                    if (curChar == 95)
+                    jjAddStates(443, 444);
+                         break;
+                  
+                  
+                  case 151 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(151, 155);
+                         break;
+                  
+                  
+                  case 152 :
+                     if (curChar == 97  && kind > 115)
+                         kind = 115;
+                         break;
+                  
+                  
+                  case 153 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 152;
+                         break;
+                  
+                  
+                  case 154 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 153;
+                         break;
+                  
+                  
+                  case 155 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 154;
+                         break;
+                  
+                  
+                  case 156 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 150;
+                         break;
+                  
+                  
+                  case 157 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 156;
+                         break;
+                  
+                  
+                  case 158 :
+                    if (curChar == 95)
+                    jjAddStates(445, 446);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_1(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 159 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(159, 163);
+                         break;
+                  
+                  
+                  case 160 :
+                     if (curChar == 98  && kind > 116)
+                         kind = 116;
+                         break;
+                  
+                  
+                  case 161 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 160;
+                         break;
+                  
+                  
+                  case 162 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 161;
+                         break;
+                  
+                  
+                  case 163 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 162;
+                         break;
+                  
+                  
+                  case 164 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 158;
+                         break;
+                  
+                  
+                  case 165 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 164;
+                         break;
+                  
+                  
+                  case 166 :
+                    if (curChar == 95)
+                    jjAddStates(447, 448);
+                         break;
+                  
+                  
+                  case 167 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(167, 171);
+                         break;
+                  
+                  
+                  case 168 :
+                     if (curChar == 99  && kind > 117)
+                         kind = 117;
+                         break;
+                  
+                  
+                  case 169 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 168;
+                         break;
+                  
+                  
+                  case 170 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 169;
+                         break;
+                  
+                  
+                  case 171 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 170;
+                         break;
+                  
+                  
+                  case 172 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 166;
+                         break;
+                  
+                  
+                  case 173 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 172;
+                         break;
+                  
+                  
+                  case 174 :
+                    if (curChar == 95)
+                    jjAddStates(449, 450);
+                         break;
+                  
+                  
+                  case 175 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(175, 179);
+                         break;
+                  
+                  
+                  case 176 :
+                     if (curChar == 100  && kind > 118)
+                         kind = 118;
+                         break;
+                  
+                  
+                  case 177 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 176;
+                         break;
+                  
+                  
+                  case 178 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 177;
+                         break;
+                  
+                  
+                  case 179 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 178;
+                         break;
+                  
+                  
+                  case 180 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 174;
+                         break;
+                  
+                  
+                  case 181 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 180;
+                         break;
+                  
+                  
+                  case 182 :
+                    if (curChar == 95)
+                    jjAddStates(451, 452);
+                         break;
+                  
+                  
+                  case 183 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(183, 187);
+                         break;
+                  
+                  
+                  case 184 :
+                     if (curChar == 101  && kind > 119)
+                         kind = 119;
+                         break;
+                  
+                  
+                  case 185 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 184;
+                         break;
+                  
+                  
+                  case 186 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 185;
+                         break;
+                  
+                  
+                  case 187 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 186;
+                         break;
+                  
+                  
+                  case 188 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 182;
+                         break;
+                  
+                  
+                  case 189 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 188;
+                         break;
+                  
+                  
+                  case 190 :
+                    if (curChar == 95)
+                    jjAddStates(453, 454);
+                         break;
+                  
+                  
+                  case 191 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(191, 195);
+                         break;
+                  
+                  
+                  case 192 :
+                     if (curChar == 102  && kind > 120)
+                         kind = 120;
+                         break;
+                  
+                  
+                  case 193 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 192;
+                         break;
+                  
+                  
+                  case 194 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 193;
+                         break;
+                  
+                  
+                  case 195 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 194;
+                         break;
+                  
+                  
+                  case 196 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 190;
+                         break;
+                  
+                  
+                  case 197 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 196;
+                         break;
+                  
+                  
+                  case 198 :
+                    if (curChar == 95)
+                    jjAddStates(455, 456);
+                         break;
+                  
+                  
+                  case 199 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(199, 203);
+                         break;
+                  
+                  
+                  case 200 :
+                     if (curChar == 103  && kind > 121)
+                         kind = 121;
+                         break;
+                  
+                  
+                  case 201 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 200;
+                         break;
+                  
+                  
+                  case 202 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 201;
+                         break;
+                  
+                  
+                  case 203 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 202;
+                         break;
+                  
+                  
+                  case 204 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 198;
+                         break;
+                  
+                  
+                  case 205 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 204;
+                         break;
+                  
+                  
+                  case 206 :
+                    if (curChar == 95)
+                    jjAddStates(457, 458);
+                         break;
+                  
+                  
+                  case 207 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(207, 211);
+                         break;
+                  
+                  
+                  case 208 :
+                     if (curChar == 104  && kind > 122)
+                         kind = 122;
+                         break;
+                  
+                  
+                  case 209 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 208;
+                         break;
+                  
+                  
+                  case 210 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 209;
+                         break;
+                  
+                  
+                  case 211 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 210;
+                         break;
+                  
+                  
+                  case 212 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 206;
+                         break;
+                  
+                  
+                  case 213 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 212;
+                         break;
+                  
+                  
+                  case 214 :
+                    if (curChar == 95)
+                    jjAddStates(459, 460);
+                         break;
+                  
+                  
+                  case 215 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(215, 219);
+                         break;
+                  
+                  
+                  case 216 :
+                     if (curChar == 105  && kind > 123)
+                         kind = 123;
+                         break;
+                  
+                  
+                  case 217 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 216;
+                         break;
+                  
+                  
+                  case 218 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 217;
+                         break;
+                  
+                  
+                  case 219 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 218;
+                         break;
+                  
+                  
+                  case 220 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 214;
+                         break;
+                  
+                  
+                  case 221 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 220;
+                         break;
+                  
+                  
+                  case 222 :
+                    if (curChar == 95)
+                    jjAddStates(461, 462);
+                         break;
+                  
+                  
+                  case 223 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(223, 227);
+                         break;
+                  
+                  
+                  case 224 :
+                     if (curChar == 106  && kind > 124)
+                         kind = 124;
+                         break;
+                  
+                  
+                  case 225 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 224;
+                         break;
+                  
+                  
+                  case 226 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 225;
+                         break;
+                  
+                  
+                  case 227 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 226;
+                         break;
+                  
+                  
+                  case 228 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 222;
+                         break;
+                  
+                  
+                  case 229 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 228;
+                         break;
+                  
+                  
+                  case 230 :
+                    if (curChar == 95)
+                    jjAddStates(463, 464);
+                         break;
+                  
+                  
+                  case 231 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(231, 235);
+                         break;
+                  
+                  
+                  case 232 :
+                     if (curChar == 97  && kind > 125)
+                         kind = 125;
+                         break;
+                  
+                  
+                  case 233 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 232;
+                         break;
+                  
+                  
+                  case 234 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 233;
+                         break;
+                  
+                  
+                  case 235 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 234;
+                         break;
+                  
+                  
+                  case 236 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 230;
+                         break;
+                  
+                  
+                  case 237 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 236;
+                         break;
+                  
+                  
+                  case 238 :
+                    if (curChar == 95)
+                    jjAddStates(465, 466);
+                         break;
+                  
+                  
+                  case 239 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(239, 243);
+                         break;
+                  
+                  
+                  case 240 :
+                     if (curChar == 98  && kind > 126)
+                         kind = 126;
+                         break;
+                  
+                  
+                  case 241 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 240;
+                         break;
+                  
+                  
+                  case 242 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 241;
+                         break;
+                  
+                  
+                  case 243 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 242;
+                         break;
+                  
+                  
+                  case 244 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 238;
+                         break;
+                  
+                  
+                  case 245 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 244;
+                         break;
+                  
+                  
+                  case 246 :
+                    if (curChar == 95)
+                    jjAddStates(467, 468);
+                         break;
+                  
+                  
+                  case 247 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(247, 251);
+                         break;
+                  
+                  
+                  case 248 :
+                     if (curChar == 99  && kind > 127)
+                         kind = 127;
+                         break;
+                  
+                  
+                  case 249 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 248;
+                         break;
+                  
+                  
+                  case 250 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 249;
+                         break;
+                  
+                  
+                  case 251 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 250;
+                         break;
+                  
+                  
+                  case 252 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 246;
+                         break;
+                  
+                  
+                  case 253 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 252;
+                         break;
+                  
+                  
+                  case 254 :
+                    if (curChar == 95)
+                    jjAddStates(469, 470);
+                         break;
+                  
+                  
+                  case 255 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(255, 259);
+                         break;
+                  
+                  
+                  case 256 :
+                     if (curChar == 100  && kind > 128)
+                         kind = 128;
+                         break;
+                  
+                  
+                  case 257 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 256;
+                         break;
+                  
+                  
+                  case 258 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 257;
+                         break;
+                  
+                  
+                  case 259 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 258;
+                         break;
+                  
+                  
+                  case 260 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 254;
+                         break;
+                  
+                  
+                  case 261 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 260;
+                         break;
+                  
+                  
+                  case 262 :
+                    if (curChar == 95)
+                    jjAddStates(471, 472);
+                         break;
+                  
+                  
+                  case 263 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(263, 267);
+                         break;
+                  
+                  
+                  case 264 :
+                     if (curChar == 101  && kind > 129)
+                         kind = 129;
+                         break;
+                  
+                  
+                  case 265 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 264;
+                         break;
+                  
+                  
+                  case 266 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 265;
+                         break;
+                  
+                  
+                  case 267 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 266;
+                         break;
+                  
+                  
+                  case 268 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 262;
+                         break;
+                  
+                  
+                  case 269 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 268;
+                         break;
+                  
+                  
+                  case 270 :
+                    if (curChar == 95)
+                    jjAddStates(473, 474);
+                         break;
+                  
+                  
+                  case 271 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(271, 275);
+                         break;
+                  
+                  
+                  case 272 :
+                     if (curChar == 102  && kind > 130)
+                         kind = 130;
+                         break;
+                  
+                  
+                  case 273 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 272;
+                         break;
+                  
+                  
+                  case 274 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 273;
+                         break;
+                  
+                  
+                  case 275 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 274;
+                         break;
+                  
+                  
+                  case 276 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 270;
+                         break;
+                  
+                  
+                  case 277 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 276;
+                         break;
+                  
+                  
+                  case 278 :
+                    if (curChar == 95)
+                    jjAddStates(475, 476);
+                         break;
+                  
+                  
+                  case 279 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(279, 283);
+                         break;
+                  
+                  
+                  case 280 :
+                     if (curChar == 103  && kind > 131)
+                         kind = 131;
+                         break;
+                  
+                  
+                  case 281 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 280;
+                         break;
+                  
+                  
+                  case 282 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 281;
+                         break;
+                  
+                  
+                  case 283 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 282;
+                         break;
+                  
+                  
+                  case 284 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 278;
+                         break;
+                  
+                  
+                  case 285 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 284;
+                         break;
+                  
+                  
+                  case 286 :
+                    if (curChar == 95)
+                    jjAddStates(477, 478);
+                         break;
+                  
+                  
+                  case 287 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(287, 291);
+                         break;
+                  
+                  
+                  case 288 :
+                     if (curChar == 104  && kind > 132)
+                         kind = 132;
+                         break;
+                  
+                  
+                  case 289 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 288;
+                         break;
+                  
+                  
+                  case 290 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 289;
+                         break;
+                  
+                  
+                  case 291 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 290;
+                         break;
+                  
+                  
+                  case 292 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 286;
+                         break;
+                  
+                  
+                  case 293 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 292;
+                         break;
+                  
+                  
+                  case 294 :
+                    if (curChar == 95)
+                    jjAddStates(479, 480);
+                         break;
+                  
+                  
+                  case 295 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(295, 299);
+                         break;
+                  
+                  
+                  case 296 :
+                     if (curChar == 105  && kind > 133)
+                         kind = 133;
+                         break;
+                  
+                  
+                  case 297 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 296;
+                         break;
+                  
+                  
+                  case 298 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 297;
+                         break;
+                  
+                  
+                  case 299 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 298;
+                         break;
+                  
+                  
+                  case 300 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 294;
+                         break;
+                  
+                  
+                  case 301 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 300;
+                         break;
+                  
+                  
+                  case 302 :
+                    if (curChar == 95)
+                    jjAddStates(481, 482);
+                         break;
+                  
+                  
+                  case 303 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(303, 307);
+                         break;
+                  
+                  
+                  case 304 :
+                     if (curChar == 106  && kind > 134)
+                         kind = 134;
+                         break;
+                  
+                  
+                  case 305 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 304;
+                         break;
+                  
+                  
+                  case 306 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 305;
+                         break;
+                  
+                  
+                  case 307 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 306;
+                         break;
+                  
+                  
+                  case 308 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 302;
+                         break;
+                  
+                  
+                  case 309 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 308;
+                         break;
+                  
+                  
+                  case 310 :
+                    if (curChar == 95)
+                    jjAddStates(483, 484);
+                         break;
+                  
+                  
+                  case 311 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(311, 315);
+                         break;
+                  
+                  
+                  case 312 :
+                     if (curChar == 97  && kind > 135)
+                         kind = 135;
+                         break;
+                  
+                  
+                  case 313 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 312;
+                         break;
+                  
+                  
+                  case 314 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 313;
+                         break;
+                  
+                  
+                  case 315 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 314;
+                         break;
+                  
+                  
+                  case 316 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 310;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_2(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 317 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 316;
+                         break;
+                  
+                  
+                  case 318 :
+                    if (curChar == 95)
+                    jjAddStates(485, 486);
+                         break;
+                  
+                  
+                  case 319 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(319, 323);
+                         break;
+                  
+                  
+                  case 320 :
+                     if (curChar == 98  && kind > 136)
+                         kind = 136;
+                         break;
+                  
+                  
+                  case 321 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 320;
+                         break;
+                  
+                  
+                  case 322 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 321;
+                         break;
+                  
+                  
+                  case 323 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 322;
+                         break;
+                  
+                  
+                  case 324 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 318;
+                         break;
+                  
+                  
+                  case 325 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 324;
+                         break;
+                  
+                  
+                  case 326 :
+                    if (curChar == 95)
+                    jjAddStates(487, 488);
+                         break;
+                  
+                  
+                  case 327 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(327, 331);
+                         break;
+                  
+                  
+                  case 328 :
+                     if (curChar == 99  && kind > 137)
+                         kind = 137;
+                         break;
+                  
+                  
+                  case 329 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 328;
+                         break;
+                  
+                  
+                  case 330 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 329;
+                         break;
+                  
+                  
+                  case 331 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 330;
+                         break;
+                  
+                  
+                  case 332 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 326;
+                         break;
+                  
+                  
+                  case 333 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 332;
+                         break;
+                  
+                  
+                  case 334 :
+                    if (curChar == 95)
+                    jjAddStates(489, 490);
+                         break;
+                  
+                  
+                  case 335 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(335, 339);
+                         break;
+                  
+                  
+                  case 336 :
+                     if (curChar == 100  && kind > 138)
+                         kind = 138;
+                         break;
+                  
+                  
+                  case 337 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 336;
+                         break;
+                  
+                  
+                  case 338 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 337;
+                         break;
+                  
+                  
+                  case 339 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 338;
+                         break;
+                  
+                  
+                  case 340 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 334;
+                         break;
+                  
+                  
+                  case 341 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 340;
+                         break;
+                  
+                  
+                  case 342 :
+                    if (curChar == 95)
+                    jjAddStates(491, 492);
+                         break;
+                  
+                  
+                  case 343 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(343, 347);
+                         break;
+                  
+                  
+                  case 344 :
+                     if (curChar == 101  && kind > 139)
+                         kind = 139;
+                         break;
+                  
+                  
+                  case 345 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 344;
+                         break;
+                  
+                  
+                  case 346 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 345;
+                         break;
+                  
+                  
+                  case 347 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 346;
+                         break;
+                  
+                  
+                  case 348 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 342;
+                         break;
+                  
+                  
+                  case 349 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 348;
+                         break;
+                  
+                  
+                  case 350 :
+                    if (curChar == 95)
+                    jjAddStates(493, 494);
+                         break;
+                  
+                  
+                  case 351 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(351, 355);
+                         break;
+                  
+                  
+                  case 352 :
+                     if (curChar == 102  && kind > 140)
+                         kind = 140;
+                         break;
+                  
+                  
+                  case 353 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 352;
+                         break;
+                  
+                  
+                  case 354 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 353;
+                         break;
+                  
+                  
+                  case 355 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 354;
+                         break;
+                  
+                  
+                  case 356 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 350;
+                         break;
+                  
+                  
+                  case 357 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 356;
+                         break;
+                  
+                  
+                  case 358 :
+                    if (curChar == 95)
+                    jjAddStates(495, 496);
+                         break;
+                  
+                  
+                  case 359 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(359, 363);
+                         break;
+                  
+                  
+                  case 360 :
+                     if (curChar == 103  && kind > 141)
+                         kind = 141;
+                         break;
+                  
+                  
+                  case 361 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 360;
+                         break;
+                  
+                  
+                  case 362 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 361;
+                         break;
+                  
+                  
+                  case 363 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 362;
+                         break;
+                  
+                  
+                  case 364 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 358;
+                         break;
+                  
+                  
+                  case 365 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 364;
+                         break;
+                  
+                  
+                  case 366 :
+                    if (curChar == 95)
+                    jjAddStates(497, 498);
+                         break;
+                  
+                  
+                  case 367 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(367, 371);
+                         break;
+                  
+                  
+                  case 368 :
+                     if (curChar == 104  && kind > 142)
+                         kind = 142;
+                         break;
+                  
+                  
+                  case 369 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 368;
+                         break;
+                  
+                  
+                  case 370 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 369;
+                         break;
+                  
+                  
+                  case 371 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 370;
+                         break;
+                  
+                  
+                  case 372 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 366;
+                         break;
+                  
+                  
+                  case 373 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 372;
+                         break;
+                  
+                  
+                  case 374 :
+                    if (curChar == 95)
+                    jjAddStates(499, 500);
+                         break;
+                  
+                  
+                  case 375 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(375, 379);
+                         break;
+                  
+                  
+                  case 376 :
+                     if (curChar == 105  && kind > 143)
+                         kind = 143;
+                         break;
+                  
+                  
+                  case 377 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 376;
+                         break;
+                  
+                  
+                  case 378 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 377;
+                         break;
+                  
+                  
+                  case 379 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 378;
+                         break;
+                  
+                  
+                  case 380 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 374;
+                         break;
+                  
+                  
+                  case 381 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 380;
+                         break;
+                  
+                  
+                  case 382 :
+                    if (curChar == 95)
+                    jjAddStates(501, 502);
+                         break;
+                  
+                  
+                  case 383 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(383, 387);
+                         break;
+                  
+                  
+                  case 384 :
+                     if (curChar == 106  && kind > 144)
+                         kind = 144;
+                         break;
+                  
+                  
+                  case 385 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 384;
+                         break;
+                  
+                  
+                  case 386 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 385;
+                         break;
+                  
+                  
+                  case 387 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 386;
+                         break;
+                  
+                  
+                  case 388 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 382;
+                         break;
+                  
+                  
+                  case 389 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 388;
+                         break;
+                  
+                  
+                  case 390 :
+                    if (curChar == 95)
+                    jjAddStates(503, 504);
+                         break;
+                  
+                  
+                  case 391 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(391, 395);
+                         break;
+                  
+                  
+                  case 392 :
+                     if (curChar == 97  && kind > 145)
+                         kind = 145;
+                         break;
+                  
+                  
+                  case 393 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 392;
+                         break;
+                  
+                  
+                  case 394 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 393;
+                         break;
+                  
+                  
+                  case 395 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 394;
+                         break;
+                  
+                  
+                  case 396 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 390;
+                         break;
+                  
+                  
+                  case 397 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 396;
+                         break;
+                  
+                  
+                  case 398 :
+                    if (curChar == 95)
+                    jjAddStates(505, 506);
+                         break;
+                  
+                  
+                  case 399 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(399, 403);
+                         break;
+                  
+                  
+                  case 400 :
+                     if (curChar == 98  && kind > 146)
+                         kind = 146;
+                         break;
+                  
+                  
+                  case 401 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 400;
+                         break;
+                  
+                  
+                  case 402 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 401;
+                         break;
+                  
+                  
+                  case 403 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 402;
+                         break;
+                  
+                  
+                  case 404 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 398;
+                         break;
+                  
+                  
+                  case 405 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 404;
+                         break;
+                  
+                  
+                  case 406 :
+                    if (curChar == 95)
+                    jjAddStates(507, 508);
+                         break;
+                  
+                  
+                  case 407 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(407, 411);
+                         break;
+                  
+                  
+                  case 408 :
+                     if (curChar == 99  && kind > 147)
+                         kind = 147;
+                         break;
+                  
+                  
+                  case 409 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 408;
+                         break;
+                  
+                  
+                  case 410 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 409;
+                         break;
+                  
+                  
+                  case 411 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 410;
+                         break;
+                  
+                  
+                  case 412 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 406;
+                         break;
+                  
+                  
+                  case 413 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 412;
+                         break;
+                  
+                  
+                  case 414 :
+                    if (curChar == 95)
+                    jjAddStates(509, 510);
+                         break;
+                  
+                  
+                  case 415 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(415, 419);
+                         break;
+                  
+                  
+                  case 416 :
+                     if (curChar == 100  && kind > 148)
+                         kind = 148;
+                         break;
+                  
+                  
+                  case 417 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 416;
+                         break;
+                  
+                  
+                  case 418 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 417;
+                         break;
+                  
+                  
+                  case 419 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 418;
+                         break;
+                  
+                  
+                  case 420 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 414;
+                         break;
+                  
+                  
+                  case 421 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 420;
+                         break;
+                  
+                  
+                  case 422 :
+                    if (curChar == 95)
+                    jjAddStates(511, 512);
+                         break;
+                  
+                  
+                  case 423 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(423, 427);
+                         break;
+                  
+                  
+                  case 424 :
+                     if (curChar == 101  && kind > 149)
+                         kind = 149;
+                         break;
+                  
+                  
+                  case 425 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 424;
+                         break;
+                  
+                  
+                  case 426 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 425;
+                         break;
+                  
+                  
+                  case 427 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 426;
+                         break;
+                  
+                  
+                  case 428 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 422;
+                         break;
+                  
+                  
+                  case 429 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 428;
+                         break;
+                  
+                  
+                  case 430 :
+                    if (curChar == 95)
+                    jjAddStates(513, 514);
+                         break;
+                  
+                  
+                  case 431 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(431, 435);
+                         break;
+                  
+                  
+                  case 432 :
+                     if (curChar == 102  && kind > 150)
+                         kind = 150;
+                         break;
+                  
+                  
+                  case 433 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 432;
+                         break;
+                  
+                  
+                  case 434 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 433;
+                         break;
+                  
+                  
+                  case 435 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 434;
+                         break;
+                  
+                  
+                  case 436 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 430;
+                         break;
+                  
+                  
+                  case 437 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 436;
+                         break;
+                  
+                  
+                  case 438 :
+                    if (curChar == 95)
+                    jjAddStates(515, 516);
+                         break;
+                  
+                  
+                  case 439 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(439, 443);
+                         break;
+                  
+                  
+                  case 440 :
+                     if (curChar == 103  && kind > 151)
+                         kind = 151;
+                         break;
+                  
+                  
+                  case 441 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 440;
+                         break;
+                  
+                  
+                  case 442 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 441;
+                         break;
+                  
+                  
+                  case 443 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 442;
+                         break;
+                  
+                  
+                  case 444 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 438;
+                         break;
+                  
+                  
+                  case 445 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 444;
+                         break;
+                  
+                  
+                  case 446 :
+                    if (curChar == 95)
+                    jjAddStates(517, 518);
+                         break;
+                  
+                  
+                  case 447 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(447, 451);
+                         break;
+                  
+                  
+                  case 448 :
+                     if (curChar == 104  && kind > 152)
+                         kind = 152;
+                         break;
+                  
+                  
+                  case 449 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 448;
+                         break;
+                  
+                  
+                  case 450 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 449;
+                         break;
+                  
+                  
+                  case 451 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 450;
+                         break;
+                  
+                  
+                  case 452 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 446;
+                         break;
+                  
+                  
+                  case 453 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 452;
+                         break;
+                  
+                  
+                  case 454 :
+                    if (curChar == 95)
+                    jjAddStates(519, 520);
+                         break;
+                  
+                  
+                  case 455 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(455, 459);
+                         break;
+                  
+                  
+                  case 456 :
+                     if (curChar == 105  && kind > 153)
+                         kind = 153;
+                         break;
+                  
+                  
+                  case 457 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 456;
+                         break;
+                  
+                  
+                  case 458 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 457;
+                         break;
+                  
+                  
+                  case 459 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 458;
+                         break;
+                  
+                  
+                  case 460 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 454;
+                         break;
+                  
+                  
+                  case 461 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 460;
+                         break;
+                  
+                  
+                  case 462 :
+                    if (curChar == 95)
+                    jjAddStates(521, 522);
+                         break;
+                  
+                  
+                  case 463 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(463, 467);
+                         break;
+                  
+                  
+                  case 464 :
+                     if (curChar == 106  && kind > 154)
+                         kind = 154;
+                         break;
+                  
+                  
+                  case 465 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 464;
+                         break;
+                  
+                  
+                  case 466 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 465;
+                         break;
+                  
+                  
+                  case 467 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 466;
+                         break;
+                  
+                  
+                  case 468 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 462;
+                         break;
+                  
+                  
+                  case 469 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 468;
+                         break;
+                  
+                  
+                  case 470 :
+                    if (curChar == 95)
+                    jjAddStates(523, 524);
+                         break;
+                  
+                  
+                  case 471 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(471, 475);
+                         break;
+                  
+                  
+                  case 472 :
+                     if (curChar == 97  && kind > 155)
+                         kind = 155;
+                         break;
+                  
+                  
+                  case 473 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 472;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_3(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 474 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 473;
+                         break;
+                  
+                  
+                  case 475 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 474;
+                         break;
+                  
+                  
+                  case 476 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 470;
+                         break;
+                  
+                  
+                  case 477 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 476;
+                         break;
+                  
+                  
+                  case 478 :
+                    if (curChar == 95)
+                    jjAddStates(525, 526);
+                         break;
+                  
+                  
+                  case 479 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(479, 483);
+                         break;
+                  
+                  
+                  case 480 :
+                     if (curChar == 98  && kind > 156)
+                         kind = 156;
+                         break;
+                  
+                  
+                  case 481 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 480;
+                         break;
+                  
+                  
+                  case 482 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 481;
+                         break;
+                  
+                  
+                  case 483 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 482;
+                         break;
+                  
+                  
+                  case 484 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 478;
+                         break;
+                  
+                  
+                  case 485 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 484;
+                         break;
+                  
+                  
+                  case 486 :
+                    if (curChar == 95)
+                    jjAddStates(527, 528);
+                         break;
+                  
+                  
+                  case 487 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(487, 491);
+                         break;
+                  
+                  
+                  case 488 :
+                     if (curChar == 99  && kind > 157)
+                         kind = 157;
+                         break;
+                  
+                  
+                  case 489 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 488;
+                         break;
+                  
+                  
+                  case 490 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 489;
+                         break;
+                  
+                  
+                  case 491 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 490;
+                         break;
+                  
+                  
+                  case 492 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 486;
+                         break;
+                  
+                  
+                  case 493 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 492;
+                         break;
+                  
+                  
+                  case 494 :
+                    if (curChar == 95)
+                    jjAddStates(529, 530);
+                         break;
+                  
+                  
+                  case 495 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(495, 499);
+                         break;
+                  
+                  
+                  case 496 :
+                     if (curChar == 100  && kind > 158)
+                         kind = 158;
+                         break;
+                  
+                  
+                  case 497 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 496;
+                         break;
+                  
+                  
+                  case 498 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 497;
+                         break;
+                  
+                  
+                  case 499 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 498;
+                         break;
+                  
+                  
+                  case 500 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 494;
+                         break;
+                  
+                  
+                  case 501 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 500;
+                         break;
+                  
+                  
+                  case 502 :
+                    if (curChar == 95)
+                    jjAddStates(531, 532);
+                         break;
+                  
+                  
+                  case 503 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(503, 507);
+                         break;
+                  
+                  
+                  case 504 :
+                     if (curChar == 101  && kind > 159)
+                         kind = 159;
+                         break;
+                  
+                  
+                  case 505 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 504;
+                         break;
+                  
+                  
+                  case 506 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 505;
+                         break;
+                  
+                  
+                  case 507 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 506;
+                         break;
+                  
+                  
+                  case 508 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 502;
+                         break;
+                  
+                  
+                  case 509 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 508;
+                         break;
+                  
+                  
+                  case 510 :
+                    if (curChar == 95)
+                    jjAddStates(533, 534);
+                         break;
+                  
+                  
+                  case 511 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(511, 515);
+                         break;
+                  
+                  
+                  case 512 :
+                     if (curChar == 102  && kind > 160)
+                         kind = 160;
+                         break;
+                  
+                  
+                  case 513 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 512;
+                         break;
+                  
+                  
+                  case 514 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 513;
+                         break;
+                  
+                  
+                  case 515 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 514;
+                         break;
+                  
+                  
+                  case 516 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 510;
+                         break;
+                  
+                  
+                  case 517 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 516;
+                         break;
+                  
+                  
+                  case 518 :
+                    if (curChar == 95)
+                    jjAddStates(535, 536);
+                         break;
+                  
+                  
+                  case 519 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(519, 523);
+                         break;
+                  
+                  
+                  case 520 :
+                     if (curChar == 103  && kind > 161)
+                         kind = 161;
+                         break;
+                  
+                  
+                  case 521 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 520;
+                         break;
+                  
+                  
+                  case 522 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 521;
+                         break;
+                  
+                  
+                  case 523 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 522;
+                         break;
+                  
+                  
+                  case 524 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 518;
+                         break;
+                  
+                  
+                  case 525 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 524;
+                         break;
+                  
+                  
+                  case 526 :
+                    if (curChar == 95)
+                    jjAddStates(537, 538);
+                         break;
+                  
+                  
+                  case 527 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(527, 531);
+                         break;
+                  
+                  
+                  case 528 :
+                     if (curChar == 104  && kind > 162)
+                         kind = 162;
+                         break;
+                  
+                  
+                  case 529 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 528;
+                         break;
+                  
+                  
+                  case 530 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 529;
+                         break;
+                  
+                  
+                  case 531 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 530;
+                         break;
+                  
+                  
+                  case 532 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 526;
+                         break;
+                  
+                  
+                  case 533 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 532;
+                         break;
+                  
+                  
+                  case 534 :
+                    if (curChar == 95)
+                    jjAddStates(539, 540);
+                         break;
+                  
+                  
+                  case 535 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(535, 539);
+                         break;
+                  
+                  
+                  case 536 :
+                     if (curChar == 105  && kind > 163)
+                         kind = 163;
+                         break;
+                  
+                  
+                  case 537 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 536;
+                         break;
+                  
+                  
+                  case 538 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 537;
+                         break;
+                  
+                  
+                  case 539 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 538;
+                         break;
+                  
+                  
+                  case 540 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 534;
+                         break;
+                  
+                  
+                  case 541 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 540;
+                         break;
+                  
+                  
+                  case 542 :
+                    if (curChar == 95)
+                    jjAddStates(541, 542);
+                         break;
+                  
+                  
+                  case 543 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(543, 547);
+                         break;
+                  
+                  
+                  case 544 :
+                     if (curChar == 106  && kind > 164)
+                         kind = 164;
+                         break;
+                  
+                  
+                  case 545 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 544;
+                         break;
+                  
+                  
+                  case 546 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 545;
+                         break;
+                  
+                  
+                  case 547 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 546;
+                         break;
+                  
+                  
+                  case 548 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 542;
+                         break;
+                  
+                  
+                  case 549 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 548;
+                         break;
+                  
+                  
+                  case 550 :
+                    if (curChar == 95)
+                    jjAddStates(543, 544);
+                         break;
+                  
+                  
+                  case 551 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(551, 555);
+                         break;
+                  
+                  
+                  case 552 :
+                     if (curChar == 97  && kind > 165)
+                         kind = 165;
+                         break;
+                  
+                  
+                  case 553 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 552;
+                         break;
+                  
+                  
+                  case 554 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 553;
+                         break;
+                  
+                  
+                  case 555 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 554;
+                         break;
+                  
+                  
+                  case 556 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 550;
+                         break;
+                  
+                  
+                  case 557 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 556;
+                         break;
+                  
+                  
+                  case 558 :
+                    if (curChar == 95)
+                    jjAddStates(545, 546);
+                         break;
+                  
+                  
+                  case 559 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(559, 563);
+                         break;
+                  
+                  
+                  case 560 :
+                     if (curChar == 98  && kind > 166)
+                         kind = 166;
+                         break;
+                  
+                  
+                  case 561 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 560;
+                         break;
+                  
+                  
+                  case 562 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 561;
+                         break;
+                  
+                  
+                  case 563 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 562;
+                         break;
+                  
+                  
+                  case 564 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 558;
+                         break;
+                  
+                  
+                  case 565 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 564;
+                         break;
+                  
+                  
+                  case 566 :
+                    if (curChar == 95)
+                    jjAddStates(547, 548);
+                         break;
+                  
+                  
+                  case 567 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(567, 571);
+                         break;
+                  
+                  
+                  case 568 :
+                     if (curChar == 99  && kind > 167)
+                         kind = 167;
+                         break;
+                  
+                  
+                  case 569 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 568;
+                         break;
+                  
+                  
+                  case 570 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 569;
+                         break;
+                  
+                  
+                  case 571 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 570;
+                         break;
+                  
+                  
+                  case 572 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 566;
+                         break;
+                  
+                  
+                  case 573 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 572;
+                         break;
+                  
+                  
+                  case 574 :
+                    if (curChar == 95)
+                    jjAddStates(549, 550);
+                         break;
+                  
+                  
+                  case 575 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(575, 579);
+                         break;
+                  
+                  
+                  case 576 :
+                     if (curChar == 100  && kind > 168)
+                         kind = 168;
+                         break;
+                  
+                  
+                  case 577 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 576;
+                         break;
+                  
+                  
+                  case 578 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 577;
+                         break;
+                  
+                  
+                  case 579 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 578;
+                         break;
+                  
+                  
+                  case 580 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 574;
+                         break;
+                  
+                  
+                  case 581 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 580;
+                         break;
+                  
+                  
+                  case 582 :
+                    if (curChar == 95)
+                    jjAddStates(551, 552);
+                         break;
+                  
+                  
+                  case 583 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(583, 587);
+                         break;
+                  
+                  
+                  case 584 :
+                     if (curChar == 101  && kind > 169)
+                         kind = 169;
+                         break;
+                  
+                  
+                  case 585 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 584;
+                         break;
+                  
+                  
+                  case 586 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 585;
+                         break;
+                  
+                  
+                  case 587 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 586;
+                         break;
+                  
+                  
+                  case 588 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 582;
+                         break;
+                  
+                  
+                  case 589 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 588;
+                         break;
+                  
+                  
+                  case 590 :
+                    if (curChar == 95)
+                    jjAddStates(553, 554);
+                         break;
+                  
+                  
+                  case 591 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(591, 595);
+                         break;
+                  
+                  
+                  case 592 :
+                     if (curChar == 102  && kind > 170)
+                         kind = 170;
+                         break;
+                  
+                  
+                  case 593 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 592;
+                         break;
+                  
+                  
+                  case 594 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 593;
+                         break;
+                  
+                  
+                  case 595 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 594;
+                         break;
+                  
+                  
+                  case 596 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 590;
+                         break;
+                  
+                  
+                  case 597 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 596;
+                         break;
+                  
+                  
+                  case 598 :
+                    if (curChar == 95)
+                    jjAddStates(555, 556);
+                         break;
+                  
+                  
+                  case 599 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(599, 603);
+                         break;
+                  
+                  
+                  case 600 :
+                     if (curChar == 103  && kind > 171)
+                         kind = 171;
+                         break;
+                  
+                  
+                  case 601 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 600;
+                         break;
+                  
+                  
+                  case 602 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 601;
+                         break;
+                  
+                  
+                  case 603 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 602;
+                         break;
+                  
+                  
+                  case 604 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 598;
+                         break;
+                  
+                  
+                  case 605 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 604;
+                         break;
+                  
+                  
+                  case 606 :
+                    if (curChar == 95)
+                    jjAddStates(557, 558);
+                         break;
+                  
+                  
+                  case 607 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(607, 611);
+                         break;
+                  
+                  
+                  case 608 :
+                     if (curChar == 104  && kind > 172)
+                         kind = 172;
+                         break;
+                  
+                  
+                  case 609 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 608;
+                         break;
+                  
+                  
+                  case 610 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 609;
+                         break;
+                  
+                  
+                  case 611 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 610;
+                         break;
+                  
+                  
+                  case 612 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 606;
+                         break;
+                  
+                  
+                  case 613 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 612;
+                         break;
+                  
+                  
+                  case 614 :
+                    if (curChar == 95)
+                    jjAddStates(559, 560);
+                         break;
+                  
+                  
+                  case 615 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(615, 619);
+                         break;
+                  
+                  
+                  case 616 :
+                     if (curChar == 105  && kind > 173)
+                         kind = 173;
+                         break;
+                  
+                  
+                  case 617 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 616;
+                         break;
+                  
+                  
+                  case 618 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 617;
+                         break;
+                  
+                  
+                  case 619 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 618;
+                         break;
+                  
+                  
+                  case 620 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 614;
+                         break;
+                  
+                  
+                  case 621 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 620;
+                         break;
+                  
+                  
+                  case 622 :
+                    if (curChar == 95)
+                    jjAddStates(561, 562);
+                         break;
+                  
+                  
+                  case 623 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(623, 627);
+                         break;
+                  
+                  
+                  case 624 :
+                     if (curChar == 106  && kind > 174)
+                         kind = 174;
+                         break;
+                  
+                  
+                  case 625 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 624;
+                         break;
+                  
+                  
+                  case 626 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 625;
+                         break;
+                  
+                  
+                  case 627 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 626;
+                         break;
+                  
+                  
+                  case 628 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 622;
+                         break;
+                  
+                  
+                  case 629 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 628;
+                         break;
+                  
+                  
+                  case 630 :
+                    if (curChar == 95)
+                    jjAddStates(563, 564);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_4(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 631 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(631, 635);
+                         break;
+                  
+                  
+                  case 632 :
+                     if (curChar == 97  && kind > 175)
+                         kind = 175;
+                         break;
+                  
+                  
+                  case 633 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 632;
+                         break;
+                  
+                  
+                  case 634 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 633;
+                         break;
+                  
+                  
+                  case 635 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 634;
+                         break;
+                  
+                  
+                  case 636 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 630;
+                         break;
+                  
+                  
+                  case 637 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 636;
+                         break;
+                  
+                  
+                  case 638 :
+                    if (curChar == 95)
+                    jjAddStates(565, 566);
+                         break;
+                  
+                  
+                  case 639 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(639, 643);
+                         break;
+                  
+                  
+                  case 640 :
+                     if (curChar == 98  && kind > 176)
+                         kind = 176;
+                         break;
+                  
+                  
+                  case 641 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 640;
+                         break;
+                  
+                  
+                  case 642 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 641;
+                         break;
+                  
+                  
+                  case 643 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 642;
+                         break;
+                  
+                  
+                  case 644 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 638;
+                         break;
+                  
+                  
+                  case 645 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 644;
+                         break;
+                  
+                  
+                  case 646 :
+                    if (curChar == 95)
+                    jjAddStates(567, 568);
+                         break;
+                  
+                  
+                  case 647 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(647, 651);
+                         break;
+                  
+                  
+                  case 648 :
+                     if (curChar == 99  && kind > 177)
+                         kind = 177;
+                         break;
+                  
+                  
+                  case 649 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 648;
+                         break;
+                  
+                  
+                  case 650 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 649;
+                         break;
+                  
+                  
+                  case 651 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 650;
+                         break;
+                  
+                  
+                  case 652 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 646;
+                         break;
+                  
+                  
+                  case 653 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 652;
+                         break;
+                  
+                  
+                  case 654 :
+                    if (curChar == 95)
+                    jjAddStates(569, 570);
+                         break;
+                  
+                  
+                  case 655 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(655, 659);
+                         break;
+                  
+                  
+                  case 656 :
+                     if (curChar == 100  && kind > 178)
+                         kind = 178;
+                         break;
+                  
+                  
+                  case 657 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 656;
+                         break;
+                  
+                  
+                  case 658 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 657;
+                         break;
+                  
+                  
+                  case 659 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 658;
+                         break;
+                  
+                  
+                  case 660 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 654;
+                         break;
+                  
+                  
+                  case 661 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 660;
+                         break;
+                  
+                  
+                  case 662 :
+                    if (curChar == 95)
+                    jjAddStates(571, 572);
+                         break;
+                  
+                  
+                  case 663 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(663, 667);
+                         break;
+                  
+                  
+                  case 664 :
+                     if (curChar == 101  && kind > 179)
+                         kind = 179;
+                         break;
+                  
+                  
+                  case 665 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 664;
+                         break;
+                  
+                  
+                  case 666 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 665;
+                         break;
+                  
+                  
+                  case 667 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 666;
+                         break;
+                  
+                  
+                  case 668 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 662;
+                         break;
+                  
+                  
+                  case 669 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 668;
+                         break;
+                  
+                  
+                  case 670 :
+                    if (curChar == 95)
+                    jjAddStates(573, 574);
+                         break;
+                  
+                  
+                  case 671 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(671, 675);
+                         break;
+                  
+                  
+                  case 672 :
+                     if (curChar == 102  && kind > 180)
+                         kind = 180;
+                         break;
+                  
+                  
+                  case 673 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 672;
+                         break;
+                  
+                  
+                  case 674 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 673;
+                         break;
+                  
+                  
+                  case 675 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 674;
+                         break;
+                  
+                  
+                  case 676 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 670;
+                         break;
+                  
+                  
+                  case 677 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 676;
+                         break;
+                  
+                  
+                  case 678 :
+                    if (curChar == 95)
+                    jjAddStates(575, 576);
+                         break;
+                  
+                  
+                  case 679 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(679, 683);
+                         break;
+                  
+                  
+                  case 680 :
+                     if (curChar == 103  && kind > 181)
+                         kind = 181;
+                         break;
+                  
+                  
+                  case 681 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 680;
+                         break;
+                  
+                  
+                  case 682 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 681;
+                         break;
+                  
+                  
+                  case 683 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 682;
+                         break;
+                  
+                  
+                  case 684 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 678;
+                         break;
+                  
+                  
+                  case 685 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 684;
+                         break;
+                  
+                  
+                  case 686 :
+                    if (curChar == 95)
+                    jjAddStates(577, 578);
+                         break;
+                  
+                  
+                  case 687 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(687, 691);
+                         break;
+                  
+                  
+                  case 688 :
+                     if (curChar == 104  && kind > 182)
+                         kind = 182;
+                         break;
+                  
+                  
+                  case 689 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 688;
+                         break;
+                  
+                  
+                  case 690 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 689;
+                         break;
+                  
+                  
+                  case 691 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 690;
+                         break;
+                  
+                  
+                  case 692 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 686;
+                         break;
+                  
+                  
+                  case 693 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 692;
+                         break;
+                  
+                  
+                  case 694 :
+                    if (curChar == 95)
+                    jjAddStates(579, 580);
+                         break;
+                  
+                  
+                  case 695 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(695, 699);
+                         break;
+                  
+                  
+                  case 696 :
+                     if (curChar == 105  && kind > 183)
+                         kind = 183;
+                         break;
+                  
+                  
+                  case 697 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 696;
+                         break;
+                  
+                  
+                  case 698 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 697;
+                         break;
+                  
+                  
+                  case 699 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 698;
+                         break;
+                  
+                  
+                  case 700 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 694;
+                         break;
+                  
+                  
+                  case 701 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 700;
+                         break;
+                  
+                  
+                  case 702 :
+                    if (curChar == 95)
+                    jjAddStates(581, 582);
+                         break;
+                  
+                  
+                  case 703 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(703, 707);
+                         break;
+                  
+                  
+                  case 704 :
+                     if (curChar == 106  && kind > 184)
+                         kind = 184;
+                         break;
+                  
+                  
+                  case 705 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 704;
+                         break;
+                  
+                  
+                  case 706 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 705;
+                         break;
+                  
+                  
+                  case 707 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 706;
+                         break;
+                  
+                  
+                  case 708 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 702;
+                         break;
+                  
+                  
+                  case 709 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 708;
+                         break;
+                  
+                  
+                  case 710 :
+                    if (curChar == 95)
+                    jjAddStates(583, 584);
+                         break;
+                  
+                  
+                  case 711 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(711, 715);
+                         break;
+                  
+                  
+                  case 712 :
+                     if (curChar == 97  && kind > 185)
+                         kind = 185;
+                         break;
+                  
+                  
+                  case 713 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 712;
+                         break;
+                  
+                  
+                  case 714 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 713;
+                         break;
+                  
+                  
+                  case 715 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 714;
+                         break;
+                  
+                  
+                  case 716 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 710;
+                         break;
+                  
+                  
+                  case 717 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 716;
+                         break;
+                  
+                  
+                  case 718 :
+                    if (curChar == 95)
+                    jjAddStates(585, 586);
+                         break;
+                  
+                  
+                  case 719 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(719, 723);
+                         break;
+                  
+                  
+                  case 720 :
+                     if (curChar == 98  && kind > 186)
+                         kind = 186;
+                         break;
+                  
+                  
+                  case 721 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 720;
+                         break;
+                  
+                  
+                  case 722 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 721;
+                         break;
+                  
+                  
+                  case 723 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 722;
+                         break;
+                  
+                  
+                  case 724 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 718;
+                         break;
+                  
+                  
+                  case 725 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 724;
+                         break;
+                  
+                  
+                  case 726 :
+                    if (curChar == 95)
+                    jjAddStates(587, 588);
+                         break;
+                  
+                  
+                  case 727 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(727, 731);
+                         break;
+                  
+                  
+                  case 728 :
+                     if (curChar == 99  && kind > 187)
+                         kind = 187;
+                         break;
+                  
+                  
+                  case 729 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 728;
+                         break;
+                  
+                  
+                  case 730 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 729;
+                         break;
+                  
+                  
+                  case 731 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 730;
+                         break;
+                  
+                  
+                  case 732 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 726;
+                         break;
+                  
+                  
+                  case 733 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 732;
+                         break;
+                  
+                  
+                  case 734 :
+                    if (curChar == 95)
+                    jjAddStates(589, 590);
+                         break;
+                  
+                  
+                  case 735 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(735, 739);
+                         break;
+                  
+                  
+                  case 736 :
+                     if (curChar == 100  && kind > 188)
+                         kind = 188;
+                         break;
+                  
+                  
+                  case 737 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 736;
+                         break;
+                  
+                  
+                  case 738 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 737;
+                         break;
+                  
+                  
+                  case 739 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 738;
+                         break;
+                  
+                  
+                  case 740 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 734;
+                         break;
+                  
+                  
+                  case 741 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 740;
+                         break;
+                  
+                  
+                  case 742 :
+                    if (curChar == 95)
+                    jjAddStates(591, 592);
+                         break;
+                  
+                  
+                  case 743 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(743, 747);
+                         break;
+                  
+                  
+                  case 744 :
+                     if (curChar == 101  && kind > 189)
+                         kind = 189;
+                         break;
+                  
+                  
+                  case 745 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 744;
+                         break;
+                  
+                  
+                  case 746 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 745;
+                         break;
+                  
+                  
+                  case 747 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 746;
+                         break;
+                  
+                  
+                  case 748 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 742;
+                         break;
+                  
+                  
+                  case 749 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 748;
+                         break;
+                  
+                  
+                  case 750 :
+                    if (curChar == 95)
+                    jjAddStates(593, 594);
+                         break;
+                  
+                  
+                  case 751 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(751, 755);
+                         break;
+                  
+                  
+                  case 752 :
+                     if (curChar == 102  && kind > 190)
+                         kind = 190;
+                         break;
+                  
+                  
+                  case 753 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 752;
+                         break;
+                  
+                  
+                  case 754 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 753;
+                         break;
+                  
+                  
+                  case 755 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 754;
+                         break;
+                  
+                  
+                  case 756 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 750;
+                         break;
+                  
+                  
+                  case 757 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 756;
+                         break;
+                  
+                  
+                  case 758 :
+                    if (curChar == 95)
+                    jjAddStates(595, 596);
+                         break;
+                  
+                  
+                  case 759 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(759, 763);
+                         break;
+                  
+                  
+                  case 760 :
+                     if (curChar == 103  && kind > 191)
+                         kind = 191;
+                         break;
+                  
+                  
+                  case 761 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 760;
+                         break;
+                  
+                  
+                  case 762 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 761;
+                         break;
+                  
+                  
+                  case 763 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 762;
+                         break;
+                  
+                  
+                  case 764 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 758;
+                         break;
+                  
+                  
+                  case 765 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 764;
+                         break;
+                  
+                  
+                  case 766 :
+                    if (curChar == 95)
+                    jjAddStates(597, 598);
+                         break;
+                  
+                  
+                  case 767 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(767, 771);
+                         break;
+                  
+                  
+                  case 768 :
+                     if (curChar == 104  && kind > 192)
+                         kind = 192;
+                         break;
+                  
+                  
+                  case 769 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 768;
+                         break;
+                  
+                  
+                  case 770 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 769;
+                         break;
+                  
+                  
+                  case 771 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 770;
+                         break;
+                  
+                  
+                  case 772 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 766;
+                         break;
+                  
+                  
+                  case 773 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 772;
+                         break;
+                  
+                  
+                  case 774 :
+                    if (curChar == 95)
+                    jjAddStates(599, 600);
+                         break;
+                  
+                  
+                  case 775 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(775, 779);
+                         break;
+                  
+                  
+                  case 776 :
+                     if (curChar == 105  && kind > 193)
+                         kind = 193;
+                         break;
+                  
+                  
+                  case 777 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 776;
+                         break;
+                  
+                  
+                  case 778 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 777;
+                         break;
+                  
+                  
+                  case 779 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 778;
+                         break;
+                  
+                  
+                  case 780 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 774;
+                         break;
+                  
+                  
+                  case 781 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 780;
+                         break;
+                  
+                  
+                  case 782 :
+                    if (curChar == 95)
+                    jjAddStates(601, 602);
+                         break;
+                  
+                  
+                  case 783 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(783, 787);
+                         break;
+                  
+                  
+                  case 784 :
+                     if (curChar == 106  && kind > 194)
+                         kind = 194;
+                         break;
+                  
+                  
+                  case 785 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 784;
+                         break;
+                  
+                  
+                  case 786 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 785;
+                         break;
+                  
+                  
+                  case 787 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 786;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_5(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 788 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 782;
+                         break;
+                  
+                  
+                  case 789 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 788;
+                         break;
+                  
+                  
+                  case 790 :
+                    if (curChar == 95)
+                    jjAddStates(603, 604);
+                         break;
+                  
+                  
+                  case 791 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(791, 795);
+                         break;
+                  
+                  
+                  case 792 :
+                     if (curChar == 97  && kind > 195)
+                         kind = 195;
+                         break;
+                  
+                  
+                  case 793 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 792;
+                         break;
+                  
+                  
+                  case 794 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 793;
+                         break;
+                  
+                  
+                  case 795 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 794;
+                         break;
+                  
+                  
+                  case 796 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 790;
+                         break;
+                  
+                  
+                  case 797 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 796;
+                         break;
+                  
+                  
+                  case 798 :
+                    if (curChar == 95)
+                    jjAddStates(605, 606);
+                         break;
+                  
+                  
+                  case 799 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(799, 803);
+                         break;
+                  
+                  
+                  case 800 :
+                     if (curChar == 98  && kind > 196)
+                         kind = 196;
+                         break;
+                  
+                  
+                  case 801 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 800;
+                         break;
+                  
+                  
+                  case 802 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 801;
+                         break;
+                  
+                  
+                  case 803 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 802;
+                         break;
+                  
+                  
+                  case 804 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 798;
+                         break;
+                  
+                  
+                  case 805 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 804;
+                         break;
+                  
+                  
+                  case 806 :
+                    if (curChar == 95)
+                    jjAddStates(607, 608);
+                         break;
+                  
+                  
+                  case 807 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(807, 811);
+                         break;
+                  
+                  
+                  case 808 :
+                     if (curChar == 99  && kind > 197)
+                         kind = 197;
+                         break;
+                  
+                  
+                  case 809 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 808;
+                         break;
+                  
+                  
+                  case 810 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 809;
+                         break;
+                  
+                  
+                  case 811 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 810;
+                         break;
+                  
+                  
+                  case 812 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 806;
+                         break;
+                  
+                  
+                  case 813 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 812;
+                         break;
+                  
+                  
+                  case 814 :
+                    if (curChar == 95)
+                    jjAddStates(609, 610);
+                         break;
+                  
+                  
+                  case 815 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(815, 819);
+                         break;
+                  
+                  
+                  case 816 :
+                     if (curChar == 100  && kind > 198)
+                         kind = 198;
+                         break;
+                  
+                  
+                  case 817 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 816;
+                         break;
+                  
+                  
+                  case 818 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 817;
+                         break;
+                  
+                  
+                  case 819 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 818;
+                         break;
+                  
+                  
+                  case 820 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 814;
+                         break;
+                  
+                  
+                  case 821 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 820;
+                         break;
+                  
+                  
+                  case 822 :
+                    if (curChar == 95)
+                    jjAddStates(611, 612);
+                         break;
+                  
+                  
+                  case 823 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(823, 827);
+                         break;
+                  
+                  
+                  case 824 :
+                     if (curChar == 101  && kind > 199)
+                         kind = 199;
+                         break;
+                  
+                  
+                  case 825 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 824;
+                         break;
+                  
+                  
+                  case 826 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 825;
+                         break;
+                  
+                  
+                  case 827 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 826;
+                         break;
+                  
+                  
+                  case 828 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 822;
+                         break;
+                  
+                  
+                  case 829 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 828;
+                         break;
+                  
+                  
+                  case 830 :
+                    if (curChar == 95)
+                    jjAddStates(613, 614);
+                         break;
+                  
+                  
+                  case 831 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(831, 835);
+                         break;
+                  
+                  
+                  case 832 :
+                     if (curChar == 102  && kind > 200)
+                         kind = 200;
+                         break;
+                  
+                  
+                  case 833 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 832;
+                         break;
+                  
+                  
+                  case 834 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 833;
+                         break;
+                  
+                  
+                  case 835 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 834;
+                         break;
+                  
+                  
+                  case 836 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 830;
+                         break;
+                  
+                  
+                  case 837 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 836;
+                         break;
+                  
+                  
+                  case 838 :
+                    if (curChar == 95)
+                    jjAddStates(615, 616);
+                         break;
+                  
+                  
+                  case 839 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(839, 843);
+                         break;
+                  
+                  
+                  case 840 :
+                     if (curChar == 103  && kind > 201)
+                         kind = 201;
+                         break;
+                  
+                  
+                  case 841 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 840;
+                         break;
+                  
+                  
+                  case 842 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 841;
+                         break;
+                  
+                  
+                  case 843 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 842;
+                         break;
+                  
+                  
+                  case 844 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 838;
+                         break;
+                  
+                  
+                  case 845 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 844;
+                         break;
+                  
+                  
+                  case 846 :
+                    if (curChar == 95)
+                    jjAddStates(617, 618);
+                         break;
+                  
+                  
+                  case 847 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(847, 851);
+                         break;
+                  
+                  
+                  case 848 :
+                     if (curChar == 104  && kind > 202)
+                         kind = 202;
+                         break;
+                  
+                  
+                  case 849 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 848;
+                         break;
+                  
+                  
+                  case 850 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 849;
+                         break;
+                  
+                  
+                  case 851 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 850;
+                         break;
+                  
+                  
+                  case 852 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 846;
+                         break;
+                  
+                  
+                  case 853 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 852;
+                         break;
+                  
+                  
+                  case 854 :
+                    if (curChar == 95)
+                    jjAddStates(619, 620);
+                         break;
+                  
+                  
+                  case 855 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(855, 859);
+                         break;
+                  
+                  
+                  case 856 :
+                     if (curChar == 105  && kind > 203)
+                         kind = 203;
+                         break;
+                  
+                  
+                  case 857 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 856;
+                         break;
+                  
+                  
+                  case 858 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 857;
+                         break;
+                  
+                  
+                  case 859 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 858;
+                         break;
+                  
+                  
+                  case 860 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 854;
+                         break;
+                  
+                  
+                  case 861 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 860;
+                         break;
+                  
+                  
+                  case 862 :
+                    if (curChar == 95)
+                    jjAddStates(621, 622);
+                         break;
+                  
+                  
+                  case 863 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(863, 867);
+                         break;
+                  
+                  
+                  case 864 :
+                     if (curChar == 106  && kind > 204)
+                         kind = 204;
+                         break;
+                  
+                  
+                  case 865 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 864;
+                         break;
+                  
+                  
+                  case 866 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 865;
+                         break;
+                  
+                  
+                  case 867 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 866;
+                         break;
+                  
+                  
+                  case 868 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 862;
+                         break;
+                  
+                  
+                  case 869 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 868;
+                         break;
+                  
+                  
+                  case 870 :
+                    if (curChar == 99)
+                    jjCheckNAddStates(177
+                    , 287
+                    );
+                         break;
+                  
+                  
+                  case 871 :
+                    if (curChar == 95)
+                    jjAddStates(623, 624);
+                         break;
+                  
+                  
+                  case 872 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(872, 874);
+                         break;
+                  
+                  
+                  case 873 :
+                     if (curChar == 99  && kind > 7)
+                         kind = 7;
+                         break;
+                  
+                  
+                  case 874 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 873;
+                         break;
+                  
+                  
+                  case 875 :
+                    if (curChar == 95)
+                    jjAddStates(625, 626);
+                         break;
+                  
+                  
+                  case 876 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(876, 879);
+                         break;
+                  
+                  
+                  case 877 :
+                     if (curChar == 97  && kind > 25)
+                         kind = 25;
+                         break;
+                  
+                  
+                  case 878 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 877;
+                         break;
+                  
+                  
+                  case 879 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 878;
+                         break;
+                  
+                  
+                  case 880 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 875;
+                         break;
+                  
+                  
+                  case 881 :
+                    if (curChar == 95)
+                    jjAddStates(627, 628);
+                         break;
+                  
+                  
+                  case 882 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(882, 885);
+                         break;
+                  
+                  
+                  case 883 :
+                     if (curChar == 98  && kind > 26)
+                         kind = 26;
+                         break;
+                  
+                  
+                  case 884 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 883;
+                         break;
+                  
+                  
+                  case 885 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 884;
+                         break;
+                  
+                  
+                  case 886 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 881;
+                         break;
+                  
+                  
+                  case 887 :
+                    if (curChar == 95)
+                    jjAddStates(629, 630);
+                         break;
+                  
+                  
+                  case 888 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(888, 891);
+                         break;
+                  
+                  
+                  case 889 :
+                     if (curChar == 99  && kind > 27)
+                         kind = 27;
+                         break;
+                  
+                  
+                  case 890 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 889;
+                         break;
+                  
+                  
+                  case 891 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 890;
+                         break;
+                  
+                  
+                  case 892 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 887;
+                         break;
+                  
+                  
+                  case 893 :
+                    if (curChar == 95)
+                    jjAddStates(631, 632);
+                         break;
+                  
+                  
+                  case 894 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(894, 897);
+                         break;
+                  
+                  
+                  case 895 :
+                     if (curChar == 100  && kind > 28)
+                         kind = 28;
+                         break;
+                  
+                  
+                  case 896 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 895;
+                         break;
+                  
+                  
+                  case 897 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 896;
+                         break;
+                  
+                  
+                  case 898 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 893;
+                         break;
+                  
+                  
+                  case 899 :
+                    if (curChar == 95)
+                    jjAddStates(633, 634);
+                         break;
+                  
+                  
+                  case 900 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(900, 903);
+                         break;
+                  
+                  
+                  case 901 :
+                     if (curChar == 101  && kind > 29)
+                         kind = 29;
+                         break;
+                  
+                  
+                  case 902 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 901;
+                         break;
+                  
+                  
+                  case 903 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 902;
+                         break;
+                  
+                  
+                  case 904 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 899;
+                         break;
+                  
+                  
+                  case 905 :
+                    if (curChar == 95)
+                    jjAddStates(635, 636);
+                         break;
+                  
+                  
+                  case 906 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(906, 909);
+                         break;
+                  
+                  
+                  case 907 :
+                     if (curChar == 102  && kind > 30)
+                         kind = 30;
+                         break;
+                  
+                  
+                  case 908 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 907;
+                         break;
+                  
+                  
+                  case 909 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 908;
+                         break;
+                  
+                  
+                  case 910 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 905;
+                         break;
+                  
+                  
+                  case 911 :
+                    if (curChar == 95)
+                    jjAddStates(637, 638);
+                         break;
+                  
+                  
+                  case 912 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(912, 915);
+                         break;
+                  
+                  
+                  case 913 :
+                     if (curChar == 103  && kind > 31)
+                         kind = 31;
+                         break;
+                  
+                  
+                  case 914 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 913;
+                         break;
+                  
+                  
+                  case 915 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 914;
+                         break;
+                  
+                  
+                  case 916 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 911;
+                         break;
+                  
+                  
+                  case 917 :
+                    if (curChar == 95)
+                    jjAddStates(639, 640);
+                         break;
+                  
+                  
+                  case 918 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(918, 921);
+                         break;
+                  
+                  
+                  case 919 :
+                     if (curChar == 104  && kind > 32)
+                         kind = 32;
+                         break;
+                  
+                  
+                  case 920 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 919;
+                         break;
+                  
+                  
+                  case 921 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 920;
+                         break;
+                  
+                  
+                  case 922 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 917;
+                         break;
+                  
+                  
+                  case 923 :
+                    if (curChar == 95)
+                    jjAddStates(641, 642);
+                         break;
+                  
+                  
+                  case 924 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(924, 927);
+                         break;
+                  
+                  
+                  case 925 :
+                     if (curChar == 105  && kind > 33)
+                         kind = 33;
+                         break;
+                  
+                  
+                  case 926 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 925;
+                         break;
+                  
+                  
+                  case 927 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 926;
+                         break;
+                  
+                  
+                  case 928 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 923;
+                         break;
+                  
+                  
+                  case 929 :
+                    if (curChar == 95)
+                    jjAddStates(643, 644);
+                         break;
+                  
+                  
+                  case 930 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(930, 933);
+                         break;
+                  
+                  
+                  case 931 :
+                     if (curChar == 106  && kind > 34)
+                         kind = 34;
+                         break;
+                  
+                  
+                  case 932 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 931;
+                         break;
+                  
+                  
+                  case 933 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 932;
+                         break;
+                  
+                  
+                  case 934 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 929;
+                         break;
+                  
+                  
+                  case 935 :
+                    if (curChar == 95)
+                    jjAddStates(645, 646);
+                         break;
+                  
+                  
+                  case 936 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(936, 940);
+                         break;
+                  
+                  
+                  case 937 :
+                     if (curChar == 97  && kind > 205)
+                         kind = 205;
+                         break;
+                  
+                  
+                  case 938 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 937;
+                         break;
+                  
+                  
+                  case 939 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 938;
+                         break;
+                  
+                  
+                  case 940 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 939;
+                         break;
+                  
+                  
+                  case 941 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 935;
+                         break;
+                  
+                  
+                  case 942 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 941;
+                         break;
+                  
+                  
+                  case 943 :
+                    if (curChar == 95)
+                    jjAddStates(647, 648);
+                         break;
+                  
+                  
+                  case 944 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(944, 948);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_6(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 945 :
+                     if (curChar == 98  && kind > 206)
+                         kind = 206;
+                         break;
+                  
+                  
+                  case 946 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 945;
+                         break;
+                  
+                  
+                  case 947 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 946;
+                         break;
+                  
+                  
+                  case 948 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 947;
+                         break;
+                  
+                  
+                  case 949 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 943;
+                         break;
+                  
+                  
+                  case 950 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 949;
+                         break;
+                  
+                  
+                  case 951 :
+                    if (curChar == 95)
+                    jjAddStates(649, 650);
+                         break;
+                  
+                  
+                  case 952 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(952, 956);
+                         break;
+                  
+                  
+                  case 953 :
+                     if (curChar == 99  && kind > 207)
+                         kind = 207;
+                         break;
+                  
+                  
+                  case 954 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 953;
+                         break;
+                  
+                  
+                  case 955 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 954;
+                         break;
+                  
+                  
+                  case 956 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 955;
+                         break;
+                  
+                  
+                  case 957 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 951;
+                         break;
+                  
+                  
+                  case 958 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 957;
+                         break;
+                  
+                  
+                  case 959 :
+                    if (curChar == 95)
+                    jjAddStates(651, 652);
+                         break;
+                  
+                  
+                  case 960 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(960, 964);
+                         break;
+                  
+                  
+                  case 961 :
+                     if (curChar == 100  && kind > 208)
+                         kind = 208;
+                         break;
+                  
+                  
+                  case 962 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 961;
+                         break;
+                  
+                  
+                  case 963 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 962;
+                         break;
+                  
+                  
+                  case 964 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 963;
+                         break;
+                  
+                  
+                  case 965 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 959;
+                         break;
+                  
+                  
+                  case 966 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 965;
+                         break;
+                  
+                  
+                  case 967 :
+                    if (curChar == 95)
+                    jjAddStates(653, 654);
+                         break;
+                  
+                  
+                  case 968 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(968, 972);
+                         break;
+                  
+                  
+                  case 969 :
+                     if (curChar == 101  && kind > 209)
+                         kind = 209;
+                         break;
+                  
+                  
+                  case 970 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 969;
+                         break;
+                  
+                  
+                  case 971 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 970;
+                         break;
+                  
+                  
+                  case 972 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 971;
+                         break;
+                  
+                  
+                  case 973 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 967;
+                         break;
+                  
+                  
+                  case 974 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 973;
+                         break;
+                  
+                  
+                  case 975 :
+                    if (curChar == 95)
+                    jjAddStates(655, 656);
+                         break;
+                  
+                  
+                  case 976 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(976, 980);
+                         break;
+                  
+                  
+                  case 977 :
+                     if (curChar == 102  && kind > 210)
+                         kind = 210;
+                         break;
+                  
+                  
+                  case 978 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 977;
+                         break;
+                  
+                  
+                  case 979 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 978;
+                         break;
+                  
+                  
+                  case 980 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 979;
+                         break;
+                  
+                  
+                  case 981 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 975;
+                         break;
+                  
+                  
+                  case 982 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 981;
+                         break;
+                  
+                  
+                  case 983 :
+                    if (curChar == 95)
+                    jjAddStates(657, 658);
+                         break;
+                  
+                  
+                  case 984 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(984, 988);
+                         break;
+                  
+                  
+                  case 985 :
+                     if (curChar == 103  && kind > 211)
+                         kind = 211;
+                         break;
+                  
+                  
+                  case 986 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 985;
+                         break;
+                  
+                  
+                  case 987 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 986;
+                         break;
+                  
+                  
+                  case 988 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 987;
+                         break;
+                  
+                  
+                  case 989 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 983;
+                         break;
+                  
+                  
+                  case 990 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 989;
+                         break;
+                  
+                  
+                  case 991 :
+                    if (curChar == 95)
+                    jjAddStates(659, 660);
+                         break;
+                  
+                  
+                  case 992 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(992, 996);
+                         break;
+                  
+                  
+                  case 993 :
+                     if (curChar == 104  && kind > 212)
+                         kind = 212;
+                         break;
+                  
+                  
+                  case 994 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 993;
+                         break;
+                  
+                  
+                  case 995 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 994;
+                         break;
+                  
+                  
+                  case 996 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 995;
+                         break;
+                  
+                  
+                  case 997 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 991;
+                         break;
+                  
+                  
+                  case 998 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 997;
+                         break;
+                  
+                  
+                  case 999 :
+                    if (curChar == 95)
+                    jjAddStates(661, 662);
+                         break;
+                  
+                  
+                  case 1000 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1000, 1004);
+                         break;
+                  
+                  
+                  case 1001 :
+                     if (curChar == 105  && kind > 213)
+                         kind = 213;
+                         break;
+                  
+                  
+                  case 1002 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1001;
+                         break;
+                  
+                  
+                  case 1003 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1002;
+                         break;
+                  
+                  
+                  case 1004 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1003;
+                         break;
+                  
+                  
+                  case 1005 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 999;
+                         break;
+                  
+                  
+                  case 1006 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1005;
+                         break;
+                  
+                  
+                  case 1007 :
+                    if (curChar == 95)
+                    jjAddStates(663, 664);
+                         break;
+                  
+                  
+                  case 1008 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1008, 1012);
+                         break;
+                  
+                  
+                  case 1009 :
+                     if (curChar == 106  && kind > 214)
+                         kind = 214;
+                         break;
+                  
+                  
+                  case 1010 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1009;
+                         break;
+                  
+                  
+                  case 1011 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1010;
+                         break;
+                  
+                  
+                  case 1012 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1011;
+                         break;
+                  
+                  
+                  case 1013 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1007;
+                         break;
+                  
+                  
+                  case 1014 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1013;
+                         break;
+                  
+                  
+                  case 1015 :
+                    if (curChar == 95)
+                    jjAddStates(665, 666);
+                         break;
+                  
+                  
+                  case 1016 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1016, 1020);
+                         break;
+                  
+                  
+                  case 1017 :
+                     if (curChar == 97  && kind > 215)
+                         kind = 215;
+                         break;
+                  
+                  
+                  case 1018 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1017;
+                         break;
+                  
+                  
+                  case 1019 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1018;
+                         break;
+                  
+                  
+                  case 1020 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1019;
+                         break;
+                  
+                  
+                  case 1021 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1015;
+                         break;
+                  
+                  
+                  case 1022 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1021;
+                         break;
+                  
+                  
+                  case 1023 :
+                    if (curChar == 95)
+                    jjAddStates(667, 668);
+                         break;
+                  
+                  
+                  case 1024 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1024, 1028);
+                         break;
+                  
+                  
+                  case 1025 :
+                     if (curChar == 98  && kind > 216)
+                         kind = 216;
+                         break;
+                  
+                  
+                  case 1026 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1025;
+                         break;
+                  
+                  
+                  case 1027 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1026;
+                         break;
+                  
+                  
+                  case 1028 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1027;
+                         break;
+                  
+                  
+                  case 1029 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1023;
+                         break;
+                  
+                  
+                  case 1030 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1029;
+                         break;
+                  
+                  
+                  case 1031 :
+                    if (curChar == 95)
+                    jjAddStates(669, 670);
+                         break;
+                  
+                  
+                  case 1032 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1032, 1036);
+                         break;
+                  
+                  
+                  case 1033 :
+                     if (curChar == 99  && kind > 217)
+                         kind = 217;
+                         break;
+                  
+                  
+                  case 1034 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1033;
+                         break;
+                  
+                  
+                  case 1035 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1034;
+                         break;
+                  
+                  
+                  case 1036 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1035;
+                         break;
+                  
+                  
+                  case 1037 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1031;
+                         break;
+                  
+                  
+                  case 1038 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1037;
+                         break;
+                  
+                  
+                  case 1039 :
+                    if (curChar == 95)
+                    jjAddStates(671, 672);
+                         break;
+                  
+                  
+                  case 1040 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1040, 1044);
+                         break;
+                  
+                  
+                  case 1041 :
+                     if (curChar == 100  && kind > 218)
+                         kind = 218;
+                         break;
+                  
+                  
+                  case 1042 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1041;
+                         break;
+                  
+                  
+                  case 1043 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1042;
+                         break;
+                  
+                  
+                  case 1044 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1043;
+                         break;
+                  
+                  
+                  case 1045 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1039;
+                         break;
+                  
+                  
+                  case 1046 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1045;
+                         break;
+                  
+                  
+                  case 1047 :
+                    if (curChar == 95)
+                    jjAddStates(673, 674);
+                         break;
+                  
+                  
+                  case 1048 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1048, 1052);
+                         break;
+                  
+                  
+                  case 1049 :
+                     if (curChar == 101  && kind > 219)
+                         kind = 219;
+                         break;
+                  
+                  
+                  case 1050 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1049;
+                         break;
+                  
+                  
+                  case 1051 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1050;
+                         break;
+                  
+                  
+                  case 1052 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1051;
+                         break;
+                  
+                  
+                  case 1053 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1047;
+                         break;
+                  
+                  
+                  case 1054 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1053;
+                         break;
+                  
+                  
+                  case 1055 :
+                    if (curChar == 95)
+                    jjAddStates(675, 676);
+                         break;
+                  
+                  
+                  case 1056 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1056, 1060);
+                         break;
+                  
+                  
+                  case 1057 :
+                     if (curChar == 102  && kind > 220)
+                         kind = 220;
+                         break;
+                  
+                  
+                  case 1058 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1057;
+                         break;
+                  
+                  
+                  case 1059 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1058;
+                         break;
+                  
+                  
+                  case 1060 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1059;
+                         break;
+                  
+                  
+                  case 1061 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1055;
+                         break;
+                  
+                  
+                  case 1062 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1061;
+                         break;
+                  
+                  
+                  case 1063 :
+                    if (curChar == 95)
+                    jjAddStates(677, 678);
+                         break;
+                  
+                  
+                  case 1064 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1064, 1068);
+                         break;
+                  
+                  
+                  case 1065 :
+                     if (curChar == 103  && kind > 221)
+                         kind = 221;
+                         break;
+                  
+                  
+                  case 1066 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1065;
+                         break;
+                  
+                  
+                  case 1067 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1066;
+                         break;
+                  
+                  
+                  case 1068 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1067;
+                         break;
+                  
+                  
+                  case 1069 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1063;
+                         break;
+                  
+                  
+                  case 1070 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1069;
+                         break;
+                  
+                  
+                  case 1071 :
+                    if (curChar == 95)
+                    jjAddStates(679, 680);
+                         break;
+                  
+                  
+                  case 1072 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1072, 1076);
+                         break;
+                  
+                  
+                  case 1073 :
+                     if (curChar == 104  && kind > 222)
+                         kind = 222;
+                         break;
+                  
+                  
+                  case 1074 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1073;
+                         break;
+                  
+                  
+                  case 1075 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1074;
+                         break;
+                  
+                  
+                  case 1076 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1075;
+                         break;
+                  
+                  
+                  case 1077 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1071;
+                         break;
+                  
+                  
+                  case 1078 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1077;
+                         break;
+                  
+                  
+                  case 1079 :
+                    if (curChar == 95)
+                    jjAddStates(681, 682);
+                         break;
+                  
+                  
+                  case 1080 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1080, 1084);
+                         break;
+                  
+                  
+                  case 1081 :
+                     if (curChar == 105  && kind > 223)
+                         kind = 223;
+                         break;
+                  
+                  
+                  case 1082 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1081;
+                         break;
+                  
+                  
+                  case 1083 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1082;
+                         break;
+                  
+                  
+                  case 1084 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1083;
+                         break;
+                  
+                  
+                  case 1085 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1079;
+                         break;
+                  
+                  
+                  case 1086 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1085;
+                         break;
+                  
+                  
+                  case 1087 :
+                    if (curChar == 95)
+                    jjAddStates(683, 684);
+                         break;
+                  
+                  
+                  case 1088 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1088, 1092);
+                         break;
+                  
+                  
+                  case 1089 :
+                     if (curChar == 106  && kind > 224)
+                         kind = 224;
+                         break;
+                  
+                  
+                  case 1090 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1089;
+                         break;
+                  
+                  
+                  case 1091 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1090;
+                         break;
+                  
+                  
+                  case 1092 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1091;
+                         break;
+                  
+                  
+                  case 1093 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1087;
+                         break;
+                  
+                  
+                  case 1094 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1093;
+                         break;
+                  
+                  
+                  case 1095 :
+                    if (curChar == 95)
+                    jjAddStates(685, 686);
+                         break;
+                  
+                  
+                  case 1096 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1096, 1100);
+                         break;
+                  
+                  
+                  case 1097 :
+                     if (curChar == 97  && kind > 225)
+                         kind = 225;
+                         break;
+                  
+                  
+                  case 1098 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1097;
+                         break;
+                  
+                  
+                  case 1099 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1098;
+                         break;
+                  
+                  
+                  case 1100 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1099;
+                         break;
+                  
+                  
+                  case 1101 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1095;
+                         break;
+                  
+                  
+                  case 1102 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1101;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_7(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 1103 :
+                    if (curChar == 95)
+                    jjAddStates(687, 688);
+                         break;
+                  
+                  
+                  case 1104 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1104, 1108);
+                         break;
+                  
+                  
+                  case 1105 :
+                     if (curChar == 98  && kind > 226)
+                         kind = 226;
+                         break;
+                  
+                  
+                  case 1106 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1105;
+                         break;
+                  
+                  
+                  case 1107 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1106;
+                         break;
+                  
+                  
+                  case 1108 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1107;
+                         break;
+                  
+                  
+                  case 1109 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1103;
+                         break;
+                  
+                  
+                  case 1110 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1109;
+                         break;
+                  
+                  
+                  case 1111 :
+                    if (curChar == 95)
+                    jjAddStates(689, 690);
+                         break;
+                  
+                  
+                  case 1112 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1112, 1116);
+                         break;
+                  
+                  
+                  case 1113 :
+                     if (curChar == 99  && kind > 227)
+                         kind = 227;
+                         break;
+                  
+                  
+                  case 1114 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1113;
+                         break;
+                  
+                  
+                  case 1115 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1114;
+                         break;
+                  
+                  
+                  case 1116 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1115;
+                         break;
+                  
+                  
+                  case 1117 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1111;
+                         break;
+                  
+                  
+                  case 1118 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1117;
+                         break;
+                  
+                  
+                  case 1119 :
+                    if (curChar == 95)
+                    jjAddStates(691, 692);
+                         break;
+                  
+                  
+                  case 1120 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1120, 1124);
+                         break;
+                  
+                  
+                  case 1121 :
+                     if (curChar == 100  && kind > 228)
+                         kind = 228;
+                         break;
+                  
+                  
+                  case 1122 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1121;
+                         break;
+                  
+                  
+                  case 1123 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1122;
+                         break;
+                  
+                  
+                  case 1124 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1123;
+                         break;
+                  
+                  
+                  case 1125 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1119;
+                         break;
+                  
+                  
+                  case 1126 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1125;
+                         break;
+                  
+                  
+                  case 1127 :
+                    if (curChar == 95)
+                    jjAddStates(693, 694);
+                         break;
+                  
+                  
+                  case 1128 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1128, 1132);
+                         break;
+                  
+                  
+                  case 1129 :
+                     if (curChar == 101  && kind > 229)
+                         kind = 229;
+                         break;
+                  
+                  
+                  case 1130 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1129;
+                         break;
+                  
+                  
+                  case 1131 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1130;
+                         break;
+                  
+                  
+                  case 1132 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1131;
+                         break;
+                  
+                  
+                  case 1133 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1127;
+                         break;
+                  
+                  
+                  case 1134 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1133;
+                         break;
+                  
+                  
+                  case 1135 :
+                    if (curChar == 95)
+                    jjAddStates(695, 696);
+                         break;
+                  
+                  
+                  case 1136 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1136, 1140);
+                         break;
+                  
+                  
+                  case 1137 :
+                     if (curChar == 102  && kind > 230)
+                         kind = 230;
+                         break;
+                  
+                  
+                  case 1138 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1137;
+                         break;
+                  
+                  
+                  case 1139 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1138;
+                         break;
+                  
+                  
+                  case 1140 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1139;
+                         break;
+                  
+                  
+                  case 1141 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1135;
+                         break;
+                  
+                  
+                  case 1142 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1141;
+                         break;
+                  
+                  
+                  case 1143 :
+                    if (curChar == 95)
+                    jjAddStates(697, 698);
+                         break;
+                  
+                  
+                  case 1144 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1144, 1148);
+                         break;
+                  
+                  
+                  case 1145 :
+                     if (curChar == 103  && kind > 231)
+                         kind = 231;
+                         break;
+                  
+                  
+                  case 1146 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1145;
+                         break;
+                  
+                  
+                  case 1147 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1146;
+                         break;
+                  
+                  
+                  case 1148 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1147;
+                         break;
+                  
+                  
+                  case 1149 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1143;
+                         break;
+                  
+                  
+                  case 1150 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1149;
+                         break;
+                  
+                  
+                  case 1151 :
+                    if (curChar == 95)
+                    jjAddStates(699, 700);
+                         break;
+                  
+                  
+                  case 1152 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1152, 1156);
+                         break;
+                  
+                  
+                  case 1153 :
+                     if (curChar == 104  && kind > 232)
+                         kind = 232;
+                         break;
+                  
+                  
+                  case 1154 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1153;
+                         break;
+                  
+                  
+                  case 1155 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1154;
+                         break;
+                  
+                  
+                  case 1156 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1155;
+                         break;
+                  
+                  
+                  case 1157 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1151;
+                         break;
+                  
+                  
+                  case 1158 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1157;
+                         break;
+                  
+                  
+                  case 1159 :
+                    if (curChar == 95)
+                    jjAddStates(701, 702);
+                         break;
+                  
+                  
+                  case 1160 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1160, 1164);
+                         break;
+                  
+                  
+                  case 1161 :
+                     if (curChar == 105  && kind > 233)
+                         kind = 233;
+                         break;
+                  
+                  
+                  case 1162 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1161;
+                         break;
+                  
+                  
+                  case 1163 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1162;
+                         break;
+                  
+                  
+                  case 1164 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1163;
+                         break;
+                  
+                  
+                  case 1165 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1159;
+                         break;
+                  
+                  
+                  case 1166 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1165;
+                         break;
+                  
+                  
+                  case 1167 :
+                    if (curChar == 95)
+                    jjAddStates(703, 704);
+                         break;
+                  
+                  
+                  case 1168 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1168, 1172);
+                         break;
+                  
+                  
+                  case 1169 :
+                     if (curChar == 106  && kind > 234)
+                         kind = 234;
+                         break;
+                  
+                  
+                  case 1170 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1169;
+                         break;
+                  
+                  
+                  case 1171 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1170;
+                         break;
+                  
+                  
+                  case 1172 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1171;
+                         break;
+                  
+                  
+                  case 1173 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1167;
+                         break;
+                  
+                  
+                  case 1174 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1173;
+                         break;
+                  
+                  
+                  case 1175 :
+                    if (curChar == 95)
+                    jjAddStates(705, 706);
+                         break;
+                  
+                  
+                  case 1176 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1176, 1180);
+                         break;
+                  
+                  
+                  case 1177 :
+                     if (curChar == 97  && kind > 235)
+                         kind = 235;
+                         break;
+                  
+                  
+                  case 1178 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1177;
+                         break;
+                  
+                  
+                  case 1179 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1178;
+                         break;
+                  
+                  
+                  case 1180 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1179;
+                         break;
+                  
+                  
+                  case 1181 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1175;
+                         break;
+                  
+                  
+                  case 1182 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1181;
+                         break;
+                  
+                  
+                  case 1183 :
+                    if (curChar == 95)
+                    jjAddStates(707, 708);
+                         break;
+                  
+                  
+                  case 1184 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1184, 1188);
+                         break;
+                  
+                  
+                  case 1185 :
+                     if (curChar == 98  && kind > 236)
+                         kind = 236;
+                         break;
+                  
+                  
+                  case 1186 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1185;
+                         break;
+                  
+                  
+                  case 1187 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1186;
+                         break;
+                  
+                  
+                  case 1188 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1187;
+                         break;
+                  
+                  
+                  case 1189 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1183;
+                         break;
+                  
+                  
+                  case 1190 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1189;
+                         break;
+                  
+                  
+                  case 1191 :
+                    if (curChar == 95)
+                    jjAddStates(709, 710);
+                         break;
+                  
+                  
+                  case 1192 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1192, 1196);
+                         break;
+                  
+                  
+                  case 1193 :
+                     if (curChar == 99  && kind > 237)
+                         kind = 237;
+                         break;
+                  
+                  
+                  case 1194 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1193;
+                         break;
+                  
+                  
+                  case 1195 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1194;
+                         break;
+                  
+                  
+                  case 1196 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1195;
+                         break;
+                  
+                  
+                  case 1197 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1191;
+                         break;
+                  
+                  
+                  case 1198 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1197;
+                         break;
+                  
+                  
+                  case 1199 :
+                    if (curChar == 95)
+                    jjAddStates(711, 712);
+                         break;
+                  
+                  
+                  case 1200 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1200, 1204);
+                         break;
+                  
+                  
+                  case 1201 :
+                     if (curChar == 100  && kind > 238)
+                         kind = 238;
+                         break;
+                  
+                  
+                  case 1202 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1201;
+                         break;
+                  
+                  
+                  case 1203 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1202;
+                         break;
+                  
+                  
+                  case 1204 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1203;
+                         break;
+                  
+                  
+                  case 1205 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1199;
+                         break;
+                  
+                  
+                  case 1206 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1205;
+                         break;
+                  
+                  
+                  case 1207 :
+                    if (curChar == 95)
+                    jjAddStates(713, 714);
+                         break;
+                  
+                  
+                  case 1208 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1208, 1212);
+                         break;
+                  
+                  
+                  case 1209 :
+                     if (curChar == 101  && kind > 239)
+                         kind = 239;
+                         break;
+                  
+                  
+                  case 1210 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1209;
+                         break;
+                  
+                  
+                  case 1211 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1210;
+                         break;
+                  
+                  
+                  case 1212 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1211;
+                         break;
+                  
+                  
+                  case 1213 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1207;
+                         break;
+                  
+                  
+                  case 1214 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1213;
+                         break;
+                  
+                  
+                  case 1215 :
+                    if (curChar == 95)
+                    jjAddStates(715, 716);
+                         break;
+                  
+                  
+                  case 1216 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1216, 1220);
+                         break;
+                  
+                  
+                  case 1217 :
+                     if (curChar == 102  && kind > 240)
+                         kind = 240;
+                         break;
+                  
+                  
+                  case 1218 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1217;
+                         break;
+                  
+                  
+                  case 1219 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1218;
+                         break;
+                  
+                  
+                  case 1220 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1219;
+                         break;
+                  
+                  
+                  case 1221 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1215;
+                         break;
+                  
+                  
+                  case 1222 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1221;
+                         break;
+                  
+                  
+                  case 1223 :
+                    if (curChar == 95)
+                    jjAddStates(717, 718);
+                         break;
+                  
+                  
+                  case 1224 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1224, 1228);
+                         break;
+                  
+                  
+                  case 1225 :
+                     if (curChar == 103  && kind > 241)
+                         kind = 241;
+                         break;
+                  
+                  
+                  case 1226 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1225;
+                         break;
+                  
+                  
+                  case 1227 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1226;
+                         break;
+                  
+                  
+                  case 1228 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1227;
+                         break;
+                  
+                  
+                  case 1229 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1223;
+                         break;
+                  
+                  
+                  case 1230 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1229;
+                         break;
+                  
+                  
+                  case 1231 :
+                    if (curChar == 95)
+                    jjAddStates(719, 720);
+                         break;
+                  
+                  
+                  case 1232 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1232, 1236);
+                         break;
+                  
+                  
+                  case 1233 :
+                     if (curChar == 104  && kind > 242)
+                         kind = 242;
+                         break;
+                  
+                  
+                  case 1234 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1233;
+                         break;
+                  
+                  
+                  case 1235 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1234;
+                         break;
+                  
+                  
+                  case 1236 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1235;
+                         break;
+                  
+                  
+                  case 1237 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1231;
+                         break;
+                  
+                  
+                  case 1238 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1237;
+                         break;
+                  
+                  
+                  case 1239 :
+                    if (curChar == 95)
+                    jjAddStates(721, 722);
+                         break;
+                  
+                  
+                  case 1240 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1240, 1244);
+                         break;
+                  
+                  
+                  case 1241 :
+                     if (curChar == 105  && kind > 243)
+                         kind = 243;
+                         break;
+                  
+                  
+                  case 1242 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1241;
+                         break;
+                  
+                  
+                  case 1243 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1242;
+                         break;
+                  
+                  
+                  case 1244 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1243;
+                         break;
+                  
+                  
+                  case 1245 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1239;
+                         break;
+                  
+                  
+                  case 1246 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1245;
+                         break;
+                  
+                  
+                  case 1247 :
+                    if (curChar == 95)
+                    jjAddStates(723, 724);
+                         break;
+                  
+                  
+                  case 1248 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1248, 1252);
+                         break;
+                  
+                  
+                  case 1249 :
+                     if (curChar == 106  && kind > 244)
+                         kind = 244;
+                         break;
+                  
+                  
+                  case 1250 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1249;
+                         break;
+                  
+                  
+                  case 1251 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1250;
+                         break;
+                  
+                  
+                  case 1252 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1251;
+                         break;
+                  
+                  
+                  case 1253 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1247;
+                         break;
+                  
+                  
+                  case 1254 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1253;
+                         break;
+                  
+                  
+                  case 1255 :
+                    if (curChar == 95)
+                    jjAddStates(725, 726);
+                         break;
+                  
+                  
+                  case 1256 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1256, 1260);
+                         break;
+                  
+                  
+                  case 1257 :
+                     if (curChar == 97  && kind > 245)
+                         kind = 245;
+                         break;
+                  
+                  
+                  case 1258 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1257;
+                         break;
+                  
+                  
+                  case 1259 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1258;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_8(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 1260 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1259;
+                         break;
+                  
+                  
+                  case 1261 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1255;
+                         break;
+                  
+                  
+                  case 1262 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1261;
+                         break;
+                  
+                  
+                  case 1263 :
+                    if (curChar == 95)
+                    jjAddStates(727, 728);
+                         break;
+                  
+                  
+                  case 1264 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1264, 1268);
+                         break;
+                  
+                  
+                  case 1265 :
+                     if (curChar == 98  && kind > 246)
+                         kind = 246;
+                         break;
+                  
+                  
+                  case 1266 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1265;
+                         break;
+                  
+                  
+                  case 1267 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1266;
+                         break;
+                  
+                  
+                  case 1268 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1267;
+                         break;
+                  
+                  
+                  case 1269 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1263;
+                         break;
+                  
+                  
+                  case 1270 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1269;
+                         break;
+                  
+                  
+                  case 1271 :
+                    if (curChar == 95)
+                    jjAddStates(729, 730);
+                         break;
+                  
+                  
+                  case 1272 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1272, 1276);
+                         break;
+                  
+                  
+                  case 1273 :
+                     if (curChar == 99  && kind > 247)
+                         kind = 247;
+                         break;
+                  
+                  
+                  case 1274 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1273;
+                         break;
+                  
+                  
+                  case 1275 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1274;
+                         break;
+                  
+                  
+                  case 1276 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1275;
+                         break;
+                  
+                  
+                  case 1277 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1271;
+                         break;
+                  
+                  
+                  case 1278 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1277;
+                         break;
+                  
+                  
+                  case 1279 :
+                    if (curChar == 95)
+                    jjAddStates(731, 732);
+                         break;
+                  
+                  
+                  case 1280 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1280, 1284);
+                         break;
+                  
+                  
+                  case 1281 :
+                     if (curChar == 100  && kind > 248)
+                         kind = 248;
+                         break;
+                  
+                  
+                  case 1282 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1281;
+                         break;
+                  
+                  
+                  case 1283 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1282;
+                         break;
+                  
+                  
+                  case 1284 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1283;
+                         break;
+                  
+                  
+                  case 1285 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1279;
+                         break;
+                  
+                  
+                  case 1286 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1285;
+                         break;
+                  
+                  
+                  case 1287 :
+                    if (curChar == 95)
+                    jjAddStates(733, 734);
+                         break;
+                  
+                  
+                  case 1288 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1288, 1292);
+                         break;
+                  
+                  
+                  case 1289 :
+                     if (curChar == 101  && kind > 249)
+                         kind = 249;
+                         break;
+                  
+                  
+                  case 1290 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1289;
+                         break;
+                  
+                  
+                  case 1291 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1290;
+                         break;
+                  
+                  
+                  case 1292 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1291;
+                         break;
+                  
+                  
+                  case 1293 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1287;
+                         break;
+                  
+                  
+                  case 1294 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1293;
+                         break;
+                  
+                  
+                  case 1295 :
+                    if (curChar == 95)
+                    jjAddStates(735, 736);
+                         break;
+                  
+                  
+                  case 1296 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1296, 1300);
+                         break;
+                  
+                  
+                  case 1297 :
+                     if (curChar == 102  && kind > 250)
+                         kind = 250;
+                         break;
+                  
+                  
+                  case 1298 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1297;
+                         break;
+                  
+                  
+                  case 1299 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1298;
+                         break;
+                  
+                  
+                  case 1300 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1299;
+                         break;
+                  
+                  
+                  case 1301 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1295;
+                         break;
+                  
+                  
+                  case 1302 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1301;
+                         break;
+                  
+                  
+                  case 1303 :
+                    if (curChar == 95)
+                    jjAddStates(737, 738);
+                         break;
+                  
+                  
+                  case 1304 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1304, 1308);
+                         break;
+                  
+                  
+                  case 1305 :
+                     if (curChar == 103  && kind > 251)
+                         kind = 251;
+                         break;
+                  
+                  
+                  case 1306 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1305;
+                         break;
+                  
+                  
+                  case 1307 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1306;
+                         break;
+                  
+                  
+                  case 1308 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1307;
+                         break;
+                  
+                  
+                  case 1309 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1303;
+                         break;
+                  
+                  
+                  case 1310 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1309;
+                         break;
+                  
+                  
+                  case 1311 :
+                    if (curChar == 95)
+                    jjAddStates(739, 740);
+                         break;
+                  
+                  
+                  case 1312 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1312, 1316);
+                         break;
+                  
+                  
+                  case 1313 :
+                     if (curChar == 104  && kind > 252)
+                         kind = 252;
+                         break;
+                  
+                  
+                  case 1314 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1313;
+                         break;
+                  
+                  
+                  case 1315 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1314;
+                         break;
+                  
+                  
+                  case 1316 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1315;
+                         break;
+                  
+                  
+                  case 1317 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1311;
+                         break;
+                  
+                  
+                  case 1318 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1317;
+                         break;
+                  
+                  
+                  case 1319 :
+                    if (curChar == 95)
+                    jjAddStates(741, 742);
+                         break;
+                  
+                  
+                  case 1320 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1320, 1324);
+                         break;
+                  
+                  
+                  case 1321 :
+                     if (curChar == 105  && kind > 253)
+                         kind = 253;
+                         break;
+                  
+                  
+                  case 1322 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1321;
+                         break;
+                  
+                  
+                  case 1323 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1322;
+                         break;
+                  
+                  
+                  case 1324 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1323;
+                         break;
+                  
+                  
+                  case 1325 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1319;
+                         break;
+                  
+                  
+                  case 1326 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1325;
+                         break;
+                  
+                  
+                  case 1327 :
+                    if (curChar == 95)
+                    jjAddStates(743, 744);
+                         break;
+                  
+                  
+                  case 1328 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1328, 1332);
+                         break;
+                  
+                  
+                  case 1329 :
+                     if (curChar == 106  && kind > 254)
+                         kind = 254;
+                         break;
+                  
+                  
+                  case 1330 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1329;
+                         break;
+                  
+                  
+                  case 1331 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1330;
+                         break;
+                  
+                  
+                  case 1332 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1331;
+                         break;
+                  
+                  
+                  case 1333 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1327;
+                         break;
+                  
+                  
+                  case 1334 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1333;
+                         break;
+                  
+                  
+                  case 1335 :
+                    if (curChar == 95)
+                    jjAddStates(745, 746);
+                         break;
+                  
+                  
+                  case 1336 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1336, 1340);
+                         break;
+                  
+                  
+                  case 1337 :
+                     if (curChar == 97  && kind > 255)
+                         kind = 255;
+                         break;
+                  
+                  
+                  case 1338 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1337;
+                         break;
+                  
+                  
+                  case 1339 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1338;
+                         break;
+                  
+                  
+                  case 1340 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1339;
+                         break;
+                  
+                  
+                  case 1341 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1335;
+                         break;
+                  
+                  
+                  case 1342 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1341;
+                         break;
+                  
+                  
+                  case 1343 :
+                    if (curChar == 95)
+                    jjAddStates(747, 748);
+                         break;
+                  
+                  
+                  case 1344 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1344, 1348);
+                         break;
+                  
+                  
+                  case 1345 :
+                     if (curChar == 98  && kind > 256)
+                         kind = 256;
+                         break;
+                  
+                  
+                  case 1346 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1345;
+                         break;
+                  
+                  
+                  case 1347 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1346;
+                         break;
+                  
+                  
+                  case 1348 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1347;
+                         break;
+                  
+                  
+                  case 1349 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1343;
+                         break;
+                  
+                  
+                  case 1350 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1349;
+                         break;
+                  
+                  
+                  case 1351 :
+                    if (curChar == 95)
+                    jjAddStates(749, 750);
+                         break;
+                  
+                  
+                  case 1352 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1352, 1356);
+                         break;
+                  
+                  
+                  case 1353 :
+                     if (curChar == 99  && kind > 257)
+                         kind = 257;
+                         break;
+                  
+                  
+                  case 1354 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1353;
+                         break;
+                  
+                  
+                  case 1355 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1354;
+                         break;
+                  
+                  
+                  case 1356 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1355;
+                         break;
+                  
+                  
+                  case 1357 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1351;
+                         break;
+                  
+                  
+                  case 1358 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1357;
+                         break;
+                  
+                  
+                  case 1359 :
+                    if (curChar == 95)
+                    jjAddStates(751, 752);
+                         break;
+                  
+                  
+                  case 1360 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1360, 1364);
+                         break;
+                  
+                  
+                  case 1361 :
+                     if (curChar == 100  && kind > 258)
+                         kind = 258;
+                         break;
+                  
+                  
+                  case 1362 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1361;
+                         break;
+                  
+                  
+                  case 1363 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1362;
+                         break;
+                  
+                  
+                  case 1364 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1363;
+                         break;
+                  
+                  
+                  case 1365 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1359;
+                         break;
+                  
+                  
+                  case 1366 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1365;
+                         break;
+                  
+                  
+                  case 1367 :
+                    if (curChar == 95)
+                    jjAddStates(753, 754);
+                         break;
+                  
+                  
+                  case 1368 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1368, 1372);
+                         break;
+                  
+                  
+                  case 1369 :
+                     if (curChar == 101  && kind > 259)
+                         kind = 259;
+                         break;
+                  
+                  
+                  case 1370 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1369;
+                         break;
+                  
+                  
+                  case 1371 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1370;
+                         break;
+                  
+                  
+                  case 1372 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1371;
+                         break;
+                  
+                  
+                  case 1373 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1367;
+                         break;
+                  
+                  
+                  case 1374 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1373;
+                         break;
+                  
+                  
+                  case 1375 :
+                    if (curChar == 95)
+                    jjAddStates(755, 756);
+                         break;
+                  
+                  
+                  case 1376 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1376, 1380);
+                         break;
+                  
+                  
+                  case 1377 :
+                     if (curChar == 102  && kind > 260)
+                         kind = 260;
+                         break;
+                  
+                  
+                  case 1378 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1377;
+                         break;
+                  
+                  
+                  case 1379 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1378;
+                         break;
+                  
+                  
+                  case 1380 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1379;
+                         break;
+                  
+                  
+                  case 1381 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1375;
+                         break;
+                  
+                  
+                  case 1382 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1381;
+                         break;
+                  
+                  
+                  case 1383 :
+                    if (curChar == 95)
+                    jjAddStates(757, 758);
+                         break;
+                  
+                  
+                  case 1384 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1384, 1388);
+                         break;
+                  
+                  
+                  case 1385 :
+                     if (curChar == 103  && kind > 261)
+                         kind = 261;
+                         break;
+                  
+                  
+                  case 1386 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1385;
+                         break;
+                  
+                  
+                  case 1387 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1386;
+                         break;
+                  
+                  
+                  case 1388 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1387;
+                         break;
+                  
+                  
+                  case 1389 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1383;
+                         break;
+                  
+                  
+                  case 1390 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1389;
+                         break;
+                  
+                  
+                  case 1391 :
+                    if (curChar == 95)
+                    jjAddStates(759, 760);
+                         break;
+                  
+                  
+                  case 1392 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1392, 1396);
+                         break;
+                  
+                  
+                  case 1393 :
+                     if (curChar == 104  && kind > 262)
+                         kind = 262;
+                         break;
+                  
+                  
+                  case 1394 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1393;
+                         break;
+                  
+                  
+                  case 1395 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1394;
+                         break;
+                  
+                  
+                  case 1396 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1395;
+                         break;
+                  
+                  
+                  case 1397 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1391;
+                         break;
+                  
+                  
+                  case 1398 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1397;
+                         break;
+                  
+                  
+                  case 1399 :
+                    if (curChar == 95)
+                    jjAddStates(761, 762);
+                         break;
+                  
+                  
+                  case 1400 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1400, 1404);
+                         break;
+                  
+                  
+                  case 1401 :
+                     if (curChar == 105  && kind > 263)
+                         kind = 263;
+                         break;
+                  
+                  
+                  case 1402 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1401;
+                         break;
+                  
+                  
+                  case 1403 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1402;
+                         break;
+                  
+                  
+                  case 1404 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1403;
+                         break;
+                  
+                  
+                  case 1405 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1399;
+                         break;
+                  
+                  
+                  case 1406 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1405;
+                         break;
+                  
+                  
+                  case 1407 :
+                    if (curChar == 95)
+                    jjAddStates(763, 764);
+                         break;
+                  
+                  
+                  case 1408 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1408, 1412);
+                         break;
+                  
+                  
+                  case 1409 :
+                     if (curChar == 106  && kind > 264)
+                         kind = 264;
+                         break;
+                  
+                  
+                  case 1410 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1409;
+                         break;
+                  
+                  
+                  case 1411 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1410;
+                         break;
+                  
+                  
+                  case 1412 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1411;
+                         break;
+                  
+                  
+                  case 1413 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1407;
+                         break;
+                  
+                  
+                  case 1414 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1413;
+                         break;
+                  
+                  
+                  case 1415 :
+                    if (curChar == 95)
+                    jjAddStates(765, 766);
+                         break;
+                  
+                  
+                  case 1416 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1416, 1420);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_9(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 1417 :
+                     if (curChar == 97  && kind > 265)
+                         kind = 265;
+                         break;
+                  
+                  
+                  case 1418 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1417;
+                         break;
+                  
+                  
+                  case 1419 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1418;
+                         break;
+                  
+                  
+                  case 1420 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1419;
+                         break;
+                  
+                  
+                  case 1421 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1415;
+                         break;
+                  
+                  
+                  case 1422 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1421;
+                         break;
+                  
+                  
+                  case 1423 :
+                    if (curChar == 95)
+                    jjAddStates(767, 768);
+                         break;
+                  
+                  
+                  case 1424 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1424, 1428);
+                         break;
+                  
+                  
+                  case 1425 :
+                     if (curChar == 98  && kind > 266)
+                         kind = 266;
+                         break;
+                  
+                  
+                  case 1426 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1425;
+                         break;
+                  
+                  
+                  case 1427 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1426;
+                         break;
+                  
+                  
+                  case 1428 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1427;
+                         break;
+                  
+                  
+                  case 1429 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1423;
+                         break;
+                  
+                  
+                  case 1430 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1429;
+                         break;
+                  
+                  
+                  case 1431 :
+                    if (curChar == 95)
+                    jjAddStates(769, 770);
+                         break;
+                  
+                  
+                  case 1432 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1432, 1436);
+                         break;
+                  
+                  
+                  case 1433 :
+                     if (curChar == 99  && kind > 267)
+                         kind = 267;
+                         break;
+                  
+                  
+                  case 1434 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1433;
+                         break;
+                  
+                  
+                  case 1435 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1434;
+                         break;
+                  
+                  
+                  case 1436 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1435;
+                         break;
+                  
+                  
+                  case 1437 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1431;
+                         break;
+                  
+                  
+                  case 1438 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1437;
+                         break;
+                  
+                  
+                  case 1439 :
+                    if (curChar == 95)
+                    jjAddStates(771, 772);
+                         break;
+                  
+                  
+                  case 1440 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1440, 1444);
+                         break;
+                  
+                  
+                  case 1441 :
+                     if (curChar == 100  && kind > 268)
+                         kind = 268;
+                         break;
+                  
+                  
+                  case 1442 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1441;
+                         break;
+                  
+                  
+                  case 1443 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1442;
+                         break;
+                  
+                  
+                  case 1444 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1443;
+                         break;
+                  
+                  
+                  case 1445 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1439;
+                         break;
+                  
+                  
+                  case 1446 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1445;
+                         break;
+                  
+                  
+                  case 1447 :
+                    if (curChar == 95)
+                    jjAddStates(773, 774);
+                         break;
+                  
+                  
+                  case 1448 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1448, 1452);
+                         break;
+                  
+                  
+                  case 1449 :
+                     if (curChar == 101  && kind > 269)
+                         kind = 269;
+                         break;
+                  
+                  
+                  case 1450 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1449;
+                         break;
+                  
+                  
+                  case 1451 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1450;
+                         break;
+                  
+                  
+                  case 1452 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1451;
+                         break;
+                  
+                  
+                  case 1453 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1447;
+                         break;
+                  
+                  
+                  case 1454 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1453;
+                         break;
+                  
+                  
+                  case 1455 :
+                    if (curChar == 95)
+                    jjAddStates(775, 776);
+                         break;
+                  
+                  
+                  case 1456 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1456, 1460);
+                         break;
+                  
+                  
+                  case 1457 :
+                     if (curChar == 102  && kind > 270)
+                         kind = 270;
+                         break;
+                  
+                  
+                  case 1458 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1457;
+                         break;
+                  
+                  
+                  case 1459 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1458;
+                         break;
+                  
+                  
+                  case 1460 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1459;
+                         break;
+                  
+                  
+                  case 1461 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1455;
+                         break;
+                  
+                  
+                  case 1462 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1461;
+                         break;
+                  
+                  
+                  case 1463 :
+                    if (curChar == 95)
+                    jjAddStates(777, 778);
+                         break;
+                  
+                  
+                  case 1464 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1464, 1468);
+                         break;
+                  
+                  
+                  case 1465 :
+                     if (curChar == 103  && kind > 271)
+                         kind = 271;
+                         break;
+                  
+                  
+                  case 1466 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1465;
+                         break;
+                  
+                  
+                  case 1467 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1466;
+                         break;
+                  
+                  
+                  case 1468 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1467;
+                         break;
+                  
+                  
+                  case 1469 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1463;
+                         break;
+                  
+                  
+                  case 1470 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1469;
+                         break;
+                  
+                  
+                  case 1471 :
+                    if (curChar == 95)
+                    jjAddStates(779, 780);
+                         break;
+                  
+                  
+                  case 1472 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1472, 1476);
+                         break;
+                  
+                  
+                  case 1473 :
+                     if (curChar == 104  && kind > 272)
+                         kind = 272;
+                         break;
+                  
+                  
+                  case 1474 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1473;
+                         break;
+                  
+                  
+                  case 1475 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1474;
+                         break;
+                  
+                  
+                  case 1476 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1475;
+                         break;
+                  
+                  
+                  case 1477 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1471;
+                         break;
+                  
+                  
+                  case 1478 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1477;
+                         break;
+                  
+                  
+                  case 1479 :
+                    if (curChar == 95)
+                    jjAddStates(781, 782);
+                         break;
+                  
+                  
+                  case 1480 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1480, 1484);
+                         break;
+                  
+                  
+                  case 1481 :
+                     if (curChar == 105  && kind > 273)
+                         kind = 273;
+                         break;
+                  
+                  
+                  case 1482 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1481;
+                         break;
+                  
+                  
+                  case 1483 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1482;
+                         break;
+                  
+                  
+                  case 1484 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1483;
+                         break;
+                  
+                  
+                  case 1485 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1479;
+                         break;
+                  
+                  
+                  case 1486 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1485;
+                         break;
+                  
+                  
+                  case 1487 :
+                    if (curChar == 95)
+                    jjAddStates(783, 784);
+                         break;
+                  
+                  
+                  case 1488 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1488, 1492);
+                         break;
+                  
+                  
+                  case 1489 :
+                     if (curChar == 106  && kind > 274)
+                         kind = 274;
+                         break;
+                  
+                  
+                  case 1490 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1489;
+                         break;
+                  
+                  
+                  case 1491 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1490;
+                         break;
+                  
+                  
+                  case 1492 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1491;
+                         break;
+                  
+                  
+                  case 1493 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1487;
+                         break;
+                  
+                  
+                  case 1494 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1493;
+                         break;
+                  
+                  
+                  case 1495 :
+                    if (curChar == 95)
+                    jjAddStates(785, 786);
+                         break;
+                  
+                  
+                  case 1496 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1496, 1500);
+                         break;
+                  
+                  
+                  case 1497 :
+                     if (curChar == 97  && kind > 275)
+                         kind = 275;
+                         break;
+                  
+                  
+                  case 1498 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1497;
+                         break;
+                  
+                  
+                  case 1499 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1498;
+                         break;
+                  
+                  
+                  case 1500 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1499;
+                         break;
+                  
+                  
+                  case 1501 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1495;
+                         break;
+                  
+                  
+                  case 1502 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1501;
+                         break;
+                  
+                  
+                  case 1503 :
+                    if (curChar == 95)
+                    jjAddStates(787, 788);
+                         break;
+                  
+                  
+                  case 1504 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1504, 1508);
+                         break;
+                  
+                  
+                  case 1505 :
+                     if (curChar == 98  && kind > 276)
+                         kind = 276;
+                         break;
+                  
+                  
+                  case 1506 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1505;
+                         break;
+                  
+                  
+                  case 1507 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1506;
+                         break;
+                  
+                  
+                  case 1508 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1507;
+                         break;
+                  
+                  
+                  case 1509 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1503;
+                         break;
+                  
+                  
+                  case 1510 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1509;
+                         break;
+                  
+                  
+                  case 1511 :
+                    if (curChar == 95)
+                    jjAddStates(789, 790);
+                         break;
+                  
+                  
+                  case 1512 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1512, 1516);
+                         break;
+                  
+                  
+                  case 1513 :
+                     if (curChar == 99  && kind > 277)
+                         kind = 277;
+                         break;
+                  
+                  
+                  case 1514 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1513;
+                         break;
+                  
+                  
+                  case 1515 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1514;
+                         break;
+                  
+                  
+                  case 1516 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1515;
+                         break;
+                  
+                  
+                  case 1517 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1511;
+                         break;
+                  
+                  
+                  case 1518 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1517;
+                         break;
+                  
+                  
+                  case 1519 :
+                    if (curChar == 95)
+                    jjAddStates(791, 792);
+                         break;
+                  
+                  
+                  case 1520 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1520, 1524);
+                         break;
+                  
+                  
+                  case 1521 :
+                     if (curChar == 100  && kind > 278)
+                         kind = 278;
+                         break;
+                  
+                  
+                  case 1522 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1521;
+                         break;
+                  
+                  
+                  case 1523 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1522;
+                         break;
+                  
+                  
+                  case 1524 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1523;
+                         break;
+                  
+                  
+                  case 1525 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1519;
+                         break;
+                  
+                  
+                  case 1526 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1525;
+                         break;
+                  
+                  
+                  case 1527 :
+                    if (curChar == 95)
+                    jjAddStates(793, 794);
+                         break;
+                  
+                  
+                  case 1528 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1528, 1532);
+                         break;
+                  
+                  
+                  case 1529 :
+                     if (curChar == 101  && kind > 279)
+                         kind = 279;
+                         break;
+                  
+                  
+                  case 1530 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1529;
+                         break;
+                  
+                  
+                  case 1531 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1530;
+                         break;
+                  
+                  
+                  case 1532 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1531;
+                         break;
+                  
+                  
+                  case 1533 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1527;
+                         break;
+                  
+                  
+                  case 1534 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1533;
+                         break;
+                  
+                  
+                  case 1535 :
+                    if (curChar == 95)
+                    jjAddStates(795, 796);
+                         break;
+                  
+                  
+                  case 1536 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1536, 1540);
+                         break;
+                  
+                  
+                  case 1537 :
+                     if (curChar == 102  && kind > 280)
+                         kind = 280;
+                         break;
+                  
+                  
+                  case 1538 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1537;
+                         break;
+                  
+                  
+                  case 1539 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1538;
+                         break;
+                  
+                  
+                  case 1540 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1539;
+                         break;
+                  
+                  
+                  case 1541 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1535;
+                         break;
+                  
+                  
+                  case 1542 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1541;
+                         break;
+                  
+                  
+                  case 1543 :
+                    if (curChar == 95)
+                    jjAddStates(797, 798);
+                         break;
+                  
+                  
+                  case 1544 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1544, 1548);
+                         break;
+                  
+                  
+                  case 1545 :
+                     if (curChar == 103  && kind > 281)
+                         kind = 281;
+                         break;
+                  
+                  
+                  case 1546 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1545;
+                         break;
+                  
+                  
+                  case 1547 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1546;
+                         break;
+                  
+                  
+                  case 1548 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1547;
+                         break;
+                  
+                  
+                  case 1549 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1543;
+                         break;
+                  
+                  
+                  case 1550 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1549;
+                         break;
+                  
+                  
+                  case 1551 :
+                    if (curChar == 95)
+                    jjAddStates(799, 800);
+                         break;
+                  
+                  
+                  case 1552 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1552, 1556);
+                         break;
+                  
+                  
+                  case 1553 :
+                     if (curChar == 104  && kind > 282)
+                         kind = 282;
+                         break;
+                  
+                  
+                  case 1554 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1553;
+                         break;
+                  
+                  
+                  case 1555 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1554;
+                         break;
+                  
+                  
+                  case 1556 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1555;
+                         break;
+                  
+                  
+                  case 1557 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1551;
+                         break;
+                  
+                  
+                  case 1558 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1557;
+                         break;
+                  
+                  
+                  case 1559 :
+                    if (curChar == 95)
+                    jjAddStates(801, 802);
+                         break;
+                  
+                  
+                  case 1560 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1560, 1564);
+                         break;
+                  
+                  
+                  case 1561 :
+                     if (curChar == 105  && kind > 283)
+                         kind = 283;
+                         break;
+                  
+                  
+                  case 1562 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1561;
+                         break;
+                  
+                  
+                  case 1563 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1562;
+                         break;
+                  
+                  
+                  case 1564 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1563;
+                         break;
+                  
+                  
+                  case 1565 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1559;
+                         break;
+                  
+                  
+                  case 1566 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1565;
+                         break;
+                  
+                  
+                  case 1567 :
+                    if (curChar == 95)
+                    jjAddStates(803, 804);
+                         break;
+                  
+                  
+                  case 1568 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1568, 1572);
+                         break;
+                  
+                  
+                  case 1569 :
+                     if (curChar == 106  && kind > 284)
+                         kind = 284;
+                         break;
+                  
+                  
+                  case 1570 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1569;
+                         break;
+                  
+                  
+                  case 1571 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1570;
+                         break;
+                  
+                  
+                  case 1572 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1571;
+                         break;
+                  
+                  
+                  case 1573 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1567;
+                         break;
+                  
+                  
+                  case 1574 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1573;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_10(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 1575 :
+                    if (curChar == 95)
+                    jjAddStates(805, 806);
+                         break;
+                  
+                  
+                  case 1576 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1576, 1580);
+                         break;
+                  
+                  
+                  case 1577 :
+                     if (curChar == 97  && kind > 285)
+                         kind = 285;
+                         break;
+                  
+                  
+                  case 1578 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1577;
+                         break;
+                  
+                  
+                  case 1579 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1578;
+                         break;
+                  
+                  
+                  case 1580 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1579;
+                         break;
+                  
+                  
+                  case 1581 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1575;
+                         break;
+                  
+                  
+                  case 1582 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1581;
+                         break;
+                  
+                  
+                  case 1583 :
+                    if (curChar == 95)
+                    jjAddStates(807, 808);
+                         break;
+                  
+                  
+                  case 1584 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1584, 1588);
+                         break;
+                  
+                  
+                  case 1585 :
+                     if (curChar == 98  && kind > 286)
+                         kind = 286;
+                         break;
+                  
+                  
+                  case 1586 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1585;
+                         break;
+                  
+                  
+                  case 1587 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1586;
+                         break;
+                  
+                  
+                  case 1588 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1587;
+                         break;
+                  
+                  
+                  case 1589 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1583;
+                         break;
+                  
+                  
+                  case 1590 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1589;
+                         break;
+                  
+                  
+                  case 1591 :
+                    if (curChar == 95)
+                    jjAddStates(809, 810);
+                         break;
+                  
+                  
+                  case 1592 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1592, 1596);
+                         break;
+                  
+                  
+                  case 1593 :
+                     if (curChar == 99  && kind > 287)
+                         kind = 287;
+                         break;
+                  
+                  
+                  case 1594 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1593;
+                         break;
+                  
+                  
+                  case 1595 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1594;
+                         break;
+                  
+                  
+                  case 1596 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1595;
+                         break;
+                  
+                  
+                  case 1597 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1591;
+                         break;
+                  
+                  
+                  case 1598 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1597;
+                         break;
+                  
+                  
+                  case 1599 :
+                    if (curChar == 95)
+                    jjAddStates(811, 812);
+                         break;
+                  
+                  
+                  case 1600 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1600, 1604);
+                         break;
+                  
+                  
+                  case 1601 :
+                     if (curChar == 100  && kind > 288)
+                         kind = 288;
+                         break;
+                  
+                  
+                  case 1602 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1601;
+                         break;
+                  
+                  
+                  case 1603 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1602;
+                         break;
+                  
+                  
+                  case 1604 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1603;
+                         break;
+                  
+                  
+                  case 1605 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1599;
+                         break;
+                  
+                  
+                  case 1606 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1605;
+                         break;
+                  
+                  
+                  case 1607 :
+                    if (curChar == 95)
+                    jjAddStates(813, 814);
+                         break;
+                  
+                  
+                  case 1608 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1608, 1612);
+                         break;
+                  
+                  
+                  case 1609 :
+                     if (curChar == 101  && kind > 289)
+                         kind = 289;
+                         break;
+                  
+                  
+                  case 1610 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1609;
+                         break;
+                  
+                  
+                  case 1611 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1610;
+                         break;
+                  
+                  
+                  case 1612 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1611;
+                         break;
+                  
+                  
+                  case 1613 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1607;
+                         break;
+                  
+                  
+                  case 1614 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1613;
+                         break;
+                  
+                  
+                  case 1615 :
+                    if (curChar == 95)
+                    jjAddStates(815, 816);
+                         break;
+                  
+                  
+                  case 1616 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1616, 1620);
+                         break;
+                  
+                  
+                  case 1617 :
+                     if (curChar == 102  && kind > 290)
+                         kind = 290;
+                         break;
+                  
+                  
+                  case 1618 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1617;
+                         break;
+                  
+                  
+                  case 1619 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1618;
+                         break;
+                  
+                  
+                  case 1620 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1619;
+                         break;
+                  
+                  
+                  case 1621 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1615;
+                         break;
+                  
+                  
+                  case 1622 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1621;
+                         break;
+                  
+                  
+                  case 1623 :
+                    if (curChar == 95)
+                    jjAddStates(817, 818);
+                         break;
+                  
+                  
+                  case 1624 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1624, 1628);
+                         break;
+                  
+                  
+                  case 1625 :
+                     if (curChar == 103  && kind > 291)
+                         kind = 291;
+                         break;
+                  
+                  
+                  case 1626 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1625;
+                         break;
+                  
+                  
+                  case 1627 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1626;
+                         break;
+                  
+                  
+                  case 1628 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1627;
+                         break;
+                  
+                  
+                  case 1629 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1623;
+                         break;
+                  
+                  
+                  case 1630 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1629;
+                         break;
+                  
+                  
+                  case 1631 :
+                    if (curChar == 95)
+                    jjAddStates(819, 820);
+                         break;
+                  
+                  
+                  case 1632 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1632, 1636);
+                         break;
+                  
+                  
+                  case 1633 :
+                     if (curChar == 104  && kind > 292)
+                         kind = 292;
+                         break;
+                  
+                  
+                  case 1634 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1633;
+                         break;
+                  
+                  
+                  case 1635 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1634;
+                         break;
+                  
+                  
+                  case 1636 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1635;
+                         break;
+                  
+                  
+                  case 1637 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1631;
+                         break;
+                  
+                  
+                  case 1638 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1637;
+                         break;
+                  
+                  
+                  case 1639 :
+                    if (curChar == 95)
+                    jjAddStates(821, 822);
+                         break;
+                  
+                  
+                  case 1640 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1640, 1644);
+                         break;
+                  
+                  
+                  case 1641 :
+                     if (curChar == 105  && kind > 293)
+                         kind = 293;
+                         break;
+                  
+                  
+                  case 1642 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1641;
+                         break;
+                  
+                  
+                  case 1643 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1642;
+                         break;
+                  
+                  
+                  case 1644 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1643;
+                         break;
+                  
+                  
+                  case 1645 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1639;
+                         break;
+                  
+                  
+                  case 1646 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1645;
+                         break;
+                  
+                  
+                  case 1647 :
+                    if (curChar == 95)
+                    jjAddStates(823, 824);
+                         break;
+                  
+                  
+                  case 1648 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1648, 1652);
+                         break;
+                  
+                  
+                  case 1649 :
+                     if (curChar == 106  && kind > 294)
+                         kind = 294;
+                         break;
+                  
+                  
+                  case 1650 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1649;
+                         break;
+                  
+                  
+                  case 1651 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1650;
+                         break;
+                  
+                  
+                  case 1652 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1651;
+                         break;
+                  
+                  
+                  case 1653 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1647;
+                         break;
+                  
+                  
+                  case 1654 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1653;
+                         break;
+                  
+                  
+                  case 1655 :
+                    if (curChar == 95)
+                    jjAddStates(825, 826);
+                         break;
+                  
+                  
+                  case 1656 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1656, 1660);
+                         break;
+                  
+                  
+                  case 1657 :
+                     if (curChar == 97  && kind > 295)
+                         kind = 295;
+                         break;
+                  
+                  
+                  case 1658 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1657;
+                         break;
+                  
+                  
+                  case 1659 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1658;
+                         break;
+                  
+                  
+                  case 1660 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1659;
+                         break;
+                  
+                  
+                  case 1661 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1655;
+                         break;
+                  
+                  
+                  case 1662 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1661;
+                         break;
+                  
+                  
+                  case 1663 :
+                    if (curChar == 95)
+                    jjAddStates(827, 828);
+                         break;
+                  
+                  
+                  case 1664 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1664, 1668);
+                         break;
+                  
+                  
+                  case 1665 :
+                     if (curChar == 98  && kind > 296)
+                         kind = 296;
+                         break;
+                  
+                  
+                  case 1666 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1665;
+                         break;
+                  
+                  
+                  case 1667 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1666;
+                         break;
+                  
+                  
+                  case 1668 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1667;
+                         break;
+                  
+                  
+                  case 1669 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1663;
+                         break;
+                  
+                  
+                  case 1670 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1669;
+                         break;
+                  
+                  
+                  case 1671 :
+                    if (curChar == 95)
+                    jjAddStates(829, 830);
+                         break;
+                  
+                  
+                  case 1672 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1672, 1676);
+                         break;
+                  
+                  
+                  case 1673 :
+                     if (curChar == 99  && kind > 297)
+                         kind = 297;
+                         break;
+                  
+                  
+                  case 1674 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1673;
+                         break;
+                  
+                  
+                  case 1675 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1674;
+                         break;
+                  
+                  
+                  case 1676 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1675;
+                         break;
+                  
+                  
+                  case 1677 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1671;
+                         break;
+                  
+                  
+                  case 1678 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1677;
+                         break;
+                  
+                  
+                  case 1679 :
+                    if (curChar == 95)
+                    jjAddStates(831, 832);
+                         break;
+                  
+                  
+                  case 1680 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1680, 1684);
+                         break;
+                  
+                  
+                  case 1681 :
+                     if (curChar == 100  && kind > 298)
+                         kind = 298;
+                         break;
+                  
+                  
+                  case 1682 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1681;
+                         break;
+                  
+                  
+                  case 1683 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1682;
+                         break;
+                  
+                  
+                  case 1684 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1683;
+                         break;
+                  
+                  
+                  case 1685 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1679;
+                         break;
+                  
+                  
+                  case 1686 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1685;
+                         break;
+                  
+                  
+                  case 1687 :
+                    if (curChar == 95)
+                    jjAddStates(833, 834);
+                         break;
+                  
+                  
+                  case 1688 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1688, 1692);
+                         break;
+                  
+                  
+                  case 1689 :
+                     if (curChar == 101  && kind > 299)
+                         kind = 299;
+                         break;
+                  
+                  
+                  case 1690 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1689;
+                         break;
+                  
+                  
+                  case 1691 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1690;
+                         break;
+                  
+                  
+                  case 1692 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1691;
+                         break;
+                  
+                  
+                  case 1693 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1687;
+                         break;
+                  
+                  
+                  case 1694 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1693;
+                         break;
+                  
+                  
+                  case 1695 :
+                    if (curChar == 95)
+                    jjAddStates(835, 836);
+                         break;
+                  
+                  
+                  case 1696 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1696, 1700);
+                         break;
+                  
+                  
+                  case 1697 :
+                     if (curChar == 102  && kind > 300)
+                         kind = 300;
+                         break;
+                  
+                  
+                  case 1698 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1697;
+                         break;
+                  
+                  
+                  case 1699 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1698;
+                         break;
+                  
+                  
+                  case 1700 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1699;
+                         break;
+                  
+                  
+                  case 1701 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1695;
+                         break;
+                  
+                  
+                  case 1702 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1701;
+                         break;
+                  
+                  
+                  case 1703 :
+                    if (curChar == 95)
+                    jjAddStates(837, 838);
+                         break;
+                  
+                  
+                  case 1704 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1704, 1708);
+                         break;
+                  
+                  
+                  case 1705 :
+                     if (curChar == 103  && kind > 301)
+                         kind = 301;
+                         break;
+                  
+                  
+                  case 1706 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1705;
+                         break;
+                  
+                  
+                  case 1707 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1706;
+                         break;
+                  
+                  
+                  case 1708 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1707;
+                         break;
+                  
+                  
+                  case 1709 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1703;
+                         break;
+                  
+                  
+                  case 1710 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1709;
+                         break;
+                  
+                  
+                  case 1711 :
+                    if (curChar == 95)
+                    jjAddStates(839, 840);
+                         break;
+                  
+                  
+                  case 1712 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1712, 1716);
+                         break;
+                  
+                  
+                  case 1713 :
+                     if (curChar == 104  && kind > 302)
+                         kind = 302;
+                         break;
+                  
+                  
+                  case 1714 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1713;
+                         break;
+                  
+                  
+                  case 1715 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1714;
+                         break;
+                  
+                  
+                  case 1716 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1715;
+                         break;
+                  
+                  
+                  case 1717 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1711;
+                         break;
+                  
+                  
+                  case 1718 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1717;
+                         break;
+                  
+                  
+                  case 1719 :
+                    if (curChar == 95)
+                    jjAddStates(841, 842);
+                         break;
+                  
+                  
+                  case 1720 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1720, 1724);
+                         break;
+                  
+                  
+                  case 1721 :
+                     if (curChar == 105  && kind > 303)
+                         kind = 303;
+                         break;
+                  
+                  
+                  case 1722 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1721;
+                         break;
+                  
+                  
+                  case 1723 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1722;
+                         break;
+                  
+                  
+                  case 1724 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1723;
+                         break;
+                  
+                  
+                  case 1725 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1719;
+                         break;
+                  
+                  
+                  case 1726 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1725;
+                         break;
+                  
+                  
+                  case 1727 :
+                    if (curChar == 95)
+                    jjAddStates(843, 844);
+                         break;
+                  
+                  
+                  case 1728 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1728, 1732);
+                         break;
+                  
+                  
+                  case 1729 :
+                     if (curChar == 106  && kind > 304)
+                         kind = 304;
+                         break;
+                  
+                  
+                  case 1730 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1729;
+                         break;
+                  
+                  
+                  case 1731 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1730;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_11(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 1732 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1731;
+                         break;
+                  
+                  
+                  case 1733 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1727;
+                         break;
+                  
+                  
+                  case 1734 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1733;
+                         break;
+                  
+                  
+                  case 1735 :
+                    if (curChar == 100)
+                    jjCheckNAddStates(66
+                    , 176
+                    );
+                         break;
+                  
+                  
+                  case 1736 :
+                    if (curChar == 95)
+                    jjAddStates(845, 846);
+                         break;
+                  
+                  
+                  case 1737 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1737, 1739);
+                         break;
+                  
+                  
+                  case 1738 :
+                     if (curChar == 100  && kind > 8)
+                         kind = 8;
+                         break;
+                  
+                  
+                  case 1739 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1738;
+                         break;
+                  
+                  
+                  case 1740 :
+                    if (curChar == 95)
+                    jjAddStates(847, 848);
+                         break;
+                  
+                  
+                  case 1741 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1741, 1744);
+                         break;
+                  
+                  
+                  case 1742 :
+                     if (curChar == 97  && kind > 35)
+                         kind = 35;
+                         break;
+                  
+                  
+                  case 1743 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1742;
+                         break;
+                  
+                  
+                  case 1744 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1743;
+                         break;
+                  
+                  
+                  case 1745 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1740;
+                         break;
+                  
+                  
+                  case 1746 :
+                    if (curChar == 95)
+                    jjAddStates(849, 850);
+                         break;
+                  
+                  
+                  case 1747 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1747, 1750);
+                         break;
+                  
+                  
+                  case 1748 :
+                     if (curChar == 98  && kind > 36)
+                         kind = 36;
+                         break;
+                  
+                  
+                  case 1749 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1748;
+                         break;
+                  
+                  
+                  case 1750 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1749;
+                         break;
+                  
+                  
+                  case 1751 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1746;
+                         break;
+                  
+                  
+                  case 1752 :
+                    if (curChar == 95)
+                    jjAddStates(851, 852);
+                         break;
+                  
+                  
+                  case 1753 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1753, 1756);
+                         break;
+                  
+                  
+                  case 1754 :
+                     if (curChar == 99  && kind > 37)
+                         kind = 37;
+                         break;
+                  
+                  
+                  case 1755 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1754;
+                         break;
+                  
+                  
+                  case 1756 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1755;
+                         break;
+                  
+                  
+                  case 1757 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1752;
+                         break;
+                  
+                  
+                  case 1758 :
+                    if (curChar == 95)
+                    jjAddStates(853, 854);
+                         break;
+                  
+                  
+                  case 1759 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1759, 1762);
+                         break;
+                  
+                  
+                  case 1760 :
+                     if (curChar == 100  && kind > 38)
+                         kind = 38;
+                         break;
+                  
+                  
+                  case 1761 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1760;
+                         break;
+                  
+                  
+                  case 1762 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1761;
+                         break;
+                  
+                  
+                  case 1763 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1758;
+                         break;
+                  
+                  
+                  case 1764 :
+                    if (curChar == 95)
+                    jjAddStates(855, 856);
+                         break;
+                  
+                  
+                  case 1765 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1765, 1768);
+                         break;
+                  
+                  
+                  case 1766 :
+                     if (curChar == 101  && kind > 39)
+                         kind = 39;
+                         break;
+                  
+                  
+                  case 1767 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1766;
+                         break;
+                  
+                  
+                  case 1768 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1767;
+                         break;
+                  
+                  
+                  case 1769 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1764;
+                         break;
+                  
+                  
+                  case 1770 :
+                    if (curChar == 95)
+                    jjAddStates(857, 858);
+                         break;
+                  
+                  
+                  case 1771 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1771, 1774);
+                         break;
+                  
+                  
+                  case 1772 :
+                     if (curChar == 102  && kind > 40)
+                         kind = 40;
+                         break;
+                  
+                  
+                  case 1773 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1772;
+                         break;
+                  
+                  
+                  case 1774 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1773;
+                         break;
+                  
+                  
+                  case 1775 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1770;
+                         break;
+                  
+                  
+                  case 1776 :
+                    if (curChar == 95)
+                    jjAddStates(859, 860);
+                         break;
+                  
+                  
+                  case 1777 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1777, 1780);
+                         break;
+                  
+                  
+                  case 1778 :
+                     if (curChar == 103  && kind > 41)
+                         kind = 41;
+                         break;
+                  
+                  
+                  case 1779 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1778;
+                         break;
+                  
+                  
+                  case 1780 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1779;
+                         break;
+                  
+                  
+                  case 1781 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1776;
+                         break;
+                  
+                  
+                  case 1782 :
+                    if (curChar == 95)
+                    jjAddStates(861, 862);
+                         break;
+                  
+                  
+                  case 1783 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1783, 1786);
+                         break;
+                  
+                  
+                  case 1784 :
+                     if (curChar == 104  && kind > 42)
+                         kind = 42;
+                         break;
+                  
+                  
+                  case 1785 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1784;
+                         break;
+                  
+                  
+                  case 1786 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1785;
+                         break;
+                  
+                  
+                  case 1787 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1782;
+                         break;
+                  
+                  
+                  case 1788 :
+                    if (curChar == 95)
+                    jjAddStates(863, 864);
+                         break;
+                  
+                  
+                  case 1789 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1789, 1792);
+                         break;
+                  
+                  
+                  case 1790 :
+                     if (curChar == 105  && kind > 43)
+                         kind = 43;
+                         break;
+                  
+                  
+                  case 1791 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1790;
+                         break;
+                  
+                  
+                  case 1792 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1791;
+                         break;
+                  
+                  
+                  case 1793 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1788;
+                         break;
+                  
+                  
+                  case 1794 :
+                    if (curChar == 95)
+                    jjAddStates(865, 866);
+                         break;
+                  
+                  
+                  case 1795 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1795, 1798);
+                         break;
+                  
+                  
+                  case 1796 :
+                     if (curChar == 106  && kind > 44)
+                         kind = 44;
+                         break;
+                  
+                  
+                  case 1797 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1796;
+                         break;
+                  
+                  
+                  case 1798 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1797;
+                         break;
+                  
+                  
+                  case 1799 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1794;
+                         break;
+                  
+                  
+                  case 1800 :
+                    if (curChar == 95)
+                    jjAddStates(867, 868);
+                         break;
+                  
+                  
+                  case 1801 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1801, 1805);
+                         break;
+                  
+                  
+                  case 1802 :
+                     if (curChar == 97  && kind > 305)
+                         kind = 305;
+                         break;
+                  
+                  
+                  case 1803 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1802;
+                         break;
+                  
+                  
+                  case 1804 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1803;
+                         break;
+                  
+                  
+                  case 1805 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1804;
+                         break;
+                  
+                  
+                  case 1806 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1800;
+                         break;
+                  
+                  
+                  case 1807 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1806;
+                         break;
+                  
+                  
+                  case 1808 :
+                    if (curChar == 95)
+                    jjAddStates(869, 870);
+                         break;
+                  
+                  
+                  case 1809 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1809, 1813);
+                         break;
+                  
+                  
+                  case 1810 :
+                     if (curChar == 98  && kind > 306)
+                         kind = 306;
+                         break;
+                  
+                  
+                  case 1811 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1810;
+                         break;
+                  
+                  
+                  case 1812 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1811;
+                         break;
+                  
+                  
+                  case 1813 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1812;
+                         break;
+                  
+                  
+                  case 1814 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1808;
+                         break;
+                  
+                  
+                  case 1815 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1814;
+                         break;
+                  
+                  
+                  case 1816 :
+                    if (curChar == 95)
+                    jjAddStates(871, 872);
+                         break;
+                  
+                  
+                  case 1817 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1817, 1821);
+                         break;
+                  
+                  
+                  case 1818 :
+                     if (curChar == 99  && kind > 307)
+                         kind = 307;
+                         break;
+                  
+                  
+                  case 1819 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1818;
+                         break;
+                  
+                  
+                  case 1820 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1819;
+                         break;
+                  
+                  
+                  case 1821 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1820;
+                         break;
+                  
+                  
+                  case 1822 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1816;
+                         break;
+                  
+                  
+                  case 1823 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1822;
+                         break;
+                  
+                  
+                  case 1824 :
+                    if (curChar == 95)
+                    jjAddStates(873, 874);
+                         break;
+                  
+                  
+                  case 1825 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1825, 1829);
+                         break;
+                  
+                  
+                  case 1826 :
+                     if (curChar == 100  && kind > 308)
+                         kind = 308;
+                         break;
+                  
+                  
+                  case 1827 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1826;
+                         break;
+                  
+                  
+                  case 1828 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1827;
+                         break;
+                  
+                  
+                  case 1829 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1828;
+                         break;
+                  
+                  
+                  case 1830 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1824;
+                         break;
+                  
+                  
+                  case 1831 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1830;
+                         break;
+                  
+                  
+                  case 1832 :
+                    if (curChar == 95)
+                    jjAddStates(875, 876);
+                         break;
+                  
+                  
+                  case 1833 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1833, 1837);
+                         break;
+                  
+                  
+                  case 1834 :
+                     if (curChar == 101  && kind > 309)
+                         kind = 309;
+                         break;
+                  
+                  
+                  case 1835 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1834;
+                         break;
+                  
+                  
+                  case 1836 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1835;
+                         break;
+                  
+                  
+                  case 1837 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1836;
+                         break;
+                  
+                  
+                  case 1838 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1832;
+                         break;
+                  
+                  
+                  case 1839 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1838;
+                         break;
+                  
+                  
+                  case 1840 :
+                    if (curChar == 95)
+                    jjAddStates(877, 878);
+                         break;
+                  
+                  
+                  case 1841 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1841, 1845);
+                         break;
+                  
+                  
+                  case 1842 :
+                     if (curChar == 102  && kind > 310)
+                         kind = 310;
+                         break;
+                  
+                  
+                  case 1843 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1842;
+                         break;
+                  
+                  
+                  case 1844 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1843;
+                         break;
+                  
+                  
+                  case 1845 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1844;
+                         break;
+                  
+                  
+                  case 1846 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1840;
+                         break;
+                  
+                  
+                  case 1847 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1846;
+                         break;
+                  
+                  
+                  case 1848 :
+                    if (curChar == 95)
+                    jjAddStates(879, 880);
+                         break;
+                  
+                  
+                  case 1849 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1849, 1853);
+                         break;
+                  
+                  
+                  case 1850 :
+                     if (curChar == 103  && kind > 311)
+                         kind = 311;
+                         break;
+                  
+                  
+                  case 1851 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1850;
+                         break;
+                  
+                  
+                  case 1852 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1851;
+                         break;
+                  
+                  
+                  case 1853 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1852;
+                         break;
+                  
+                  
+                  case 1854 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1848;
+                         break;
+                  
+                  
+                  case 1855 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1854;
+                         break;
+                  
+                  
+                  case 1856 :
+                    if (curChar == 95)
+                    jjAddStates(881, 882);
+                         break;
+                  
+                  
+                  case 1857 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1857, 1861);
+                         break;
+                  
+                  
+                  case 1858 :
+                     if (curChar == 104  && kind > 312)
+                         kind = 312;
+                         break;
+                  
+                  
+                  case 1859 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1858;
+                         break;
+                  
+                  
+                  case 1860 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1859;
+                         break;
+                  
+                  
+                  case 1861 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1860;
+                         break;
+                  
+                  
+                  case 1862 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1856;
+                         break;
+                  
+                  
+                  case 1863 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1862;
+                         break;
+                  
+                  
+                  case 1864 :
+                    if (curChar == 95)
+                    jjAddStates(883, 884);
+                         break;
+                  
+                  
+                  case 1865 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1865, 1869);
+                         break;
+                  
+                  
+                  case 1866 :
+                     if (curChar == 105  && kind > 313)
+                         kind = 313;
+                         break;
+                  
+                  
+                  case 1867 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1866;
+                         break;
+                  
+                  
+                  case 1868 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1867;
+                         break;
+                  
+                  
+                  case 1869 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1868;
+                         break;
+                  
+                  
+                  case 1870 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1864;
+                         break;
+                  
+                  
+                  case 1871 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1870;
+                         break;
+                  
+                  
+                  case 1872 :
+                    if (curChar == 95)
+                    jjAddStates(885, 886);
+                         break;
+                  
+                  
+                  case 1873 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1873, 1877);
+                         break;
+                  
+                  
+                  case 1874 :
+                     if (curChar == 106  && kind > 314)
+                         kind = 314;
+                         break;
+                  
+                  
+                  case 1875 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1874;
+                         break;
+                  
+                  
+                  case 1876 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1875;
+                         break;
+                  
+                  
+                  case 1877 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1876;
+                         break;
+                  
+                  
+                  case 1878 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1872;
+                         break;
+                  
+                  
+                  case 1879 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1878;
+                         break;
+                  
+                  
+                  case 1880 :
+                    if (curChar == 95)
+                    jjAddStates(887, 888);
+                         break;
+                  
+                  
+                  case 1881 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1881, 1885);
+                         break;
+                  
+                  
+                  case 1882 :
+                     if (curChar == 97  && kind > 315)
+                         kind = 315;
+                         break;
+                  
+                  
+                  case 1883 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1882;
+                         break;
+                  
+                  
+                  case 1884 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1883;
+                         break;
+                  
+                  
+                  case 1885 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1884;
+                         break;
+                  
+                  
+                  case 1886 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1880;
+                         break;
+                  
+                  
+                  case 1887 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1886;
+                         break;
+                  
+                  
+                  case 1888 :
+                    if (curChar == 95)
+                    jjAddStates(889, 890);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_12(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 1889 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1889, 1893);
+                         break;
+                  
+                  
+                  case 1890 :
+                     if (curChar == 98  && kind > 316)
+                         kind = 316;
+                         break;
+                  
+                  
+                  case 1891 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1890;
+                         break;
+                  
+                  
+                  case 1892 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1891;
+                         break;
+                  
+                  
+                  case 1893 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1892;
+                         break;
+                  
+                  
+                  case 1894 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1888;
+                         break;
+                  
+                  
+                  case 1895 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1894;
+                         break;
+                  
+                  
+                  case 1896 :
+                    if (curChar == 95)
+                    jjAddStates(891, 892);
+                         break;
+                  
+                  
+                  case 1897 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1897, 1901);
+                         break;
+                  
+                  
+                  case 1898 :
+                     if (curChar == 99  && kind > 317)
+                         kind = 317;
+                         break;
+                  
+                  
+                  case 1899 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1898;
+                         break;
+                  
+                  
+                  case 1900 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1899;
+                         break;
+                  
+                  
+                  case 1901 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1900;
+                         break;
+                  
+                  
+                  case 1902 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1896;
+                         break;
+                  
+                  
+                  case 1903 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1902;
+                         break;
+                  
+                  
+                  case 1904 :
+                    if (curChar == 95)
+                    jjAddStates(893, 894);
+                         break;
+                  
+                  
+                  case 1905 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1905, 1909);
+                         break;
+                  
+                  
+                  case 1906 :
+                     if (curChar == 100  && kind > 318)
+                         kind = 318;
+                         break;
+                  
+                  
+                  case 1907 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1906;
+                         break;
+                  
+                  
+                  case 1908 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1907;
+                         break;
+                  
+                  
+                  case 1909 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1908;
+                         break;
+                  
+                  
+                  case 1910 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1904;
+                         break;
+                  
+                  
+                  case 1911 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1910;
+                         break;
+                  
+                  
+                  case 1912 :
+                    if (curChar == 95)
+                    jjAddStates(895, 896);
+                         break;
+                  
+                  
+                  case 1913 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1913, 1917);
+                         break;
+                  
+                  
+                  case 1914 :
+                     if (curChar == 101  && kind > 319)
+                         kind = 319;
+                         break;
+                  
+                  
+                  case 1915 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1914;
+                         break;
+                  
+                  
+                  case 1916 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1915;
+                         break;
+                  
+                  
+                  case 1917 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1916;
+                         break;
+                  
+                  
+                  case 1918 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1912;
+                         break;
+                  
+                  
+                  case 1919 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1918;
+                         break;
+                  
+                  
+                  case 1920 :
+                    if (curChar == 95)
+                    jjAddStates(897, 898);
+                         break;
+                  
+                  
+                  case 1921 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1921, 1925);
+                         break;
+                  
+                  
+                  case 1922 :
+                     if (curChar == 102  && kind > 320)
+                         kind = 320;
+                         break;
+                  
+                  
+                  case 1923 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1922;
+                         break;
+                  
+                  
+                  case 1924 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1923;
+                         break;
+                  
+                  
+                  case 1925 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1924;
+                         break;
+                  
+                  
+                  case 1926 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 1920;
+                         break;
+                  
+                  
+                  case 1927 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1926;
+                         break;
+                  
+                  
+                  case 1928 :
+                    if (curChar == 95)
+                    jjAddStates(899, 900);
+                         break;
+                  
+                  
+                  case 1929 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1929, 1933);
+                         break;
+                  
+                  
+                  case 1930 :
+                     if (curChar == 103  && kind > 321)
+                         kind = 321;
+                         break;
+                  
+                  
+                  case 1931 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1930;
+                         break;
+                  
+                  
+                  case 1932 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1931;
+                         break;
+                  
+                  
+                  case 1933 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1932;
+                         break;
+                  
+                  
+                  case 1934 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 1928;
+                         break;
+                  
+                  
+                  case 1935 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1934;
+                         break;
+                  
+                  
+                  case 1936 :
+                    if (curChar == 95)
+                    jjAddStates(901, 902);
+                         break;
+                  
+                  
+                  case 1937 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1937, 1941);
+                         break;
+                  
+                  
+                  case 1938 :
+                     if (curChar == 104  && kind > 322)
+                         kind = 322;
+                         break;
+                  
+                  
+                  case 1939 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1938;
+                         break;
+                  
+                  
+                  case 1940 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1939;
+                         break;
+                  
+                  
+                  case 1941 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1940;
+                         break;
+                  
+                  
+                  case 1942 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 1936;
+                         break;
+                  
+                  
+                  case 1943 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1942;
+                         break;
+                  
+                  
+                  case 1944 :
+                    if (curChar == 95)
+                    jjAddStates(903, 904);
+                         break;
+                  
+                  
+                  case 1945 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1945, 1949);
+                         break;
+                  
+                  
+                  case 1946 :
+                     if (curChar == 105  && kind > 323)
+                         kind = 323;
+                         break;
+                  
+                  
+                  case 1947 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1946;
+                         break;
+                  
+                  
+                  case 1948 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1947;
+                         break;
+                  
+                  
+                  case 1949 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1948;
+                         break;
+                  
+                  
+                  case 1950 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 1944;
+                         break;
+                  
+                  
+                  case 1951 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1950;
+                         break;
+                  
+                  
+                  case 1952 :
+                    if (curChar == 95)
+                    jjAddStates(905, 906);
+                         break;
+                  
+                  
+                  case 1953 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1953, 1957);
+                         break;
+                  
+                  
+                  case 1954 :
+                     if (curChar == 106  && kind > 324)
+                         kind = 324;
+                         break;
+                  
+                  
+                  case 1955 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1954;
+                         break;
+                  
+                  
+                  case 1956 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1955;
+                         break;
+                  
+                  
+                  case 1957 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1956;
+                         break;
+                  
+                  
+                  case 1958 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 1952;
+                         break;
+                  
+                  
+                  case 1959 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1958;
+                         break;
+                  
+                  
+                  case 1960 :
+                    if (curChar == 95)
+                    jjAddStates(907, 908);
+                         break;
+                  
+                  
+                  case 1961 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1961, 1965);
+                         break;
+                  
+                  
+                  case 1962 :
+                     if (curChar == 97  && kind > 325)
+                         kind = 325;
+                         break;
+                  
+                  
+                  case 1963 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1962;
+                         break;
+                  
+                  
+                  case 1964 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1963;
+                         break;
+                  
+                  
+                  case 1965 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1964;
+                         break;
+                  
+                  
+                  case 1966 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 1960;
+                         break;
+                  
+                  
+                  case 1967 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1966;
+                         break;
+                  
+                  
+                  case 1968 :
+                    if (curChar == 95)
+                    jjAddStates(909, 910);
+                         break;
+                  
+                  
+                  case 1969 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1969, 1973);
+                         break;
+                  
+                  
+                  case 1970 :
+                     if (curChar == 98  && kind > 326)
+                         kind = 326;
+                         break;
+                  
+                  
+                  case 1971 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1970;
+                         break;
+                  
+                  
+                  case 1972 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1971;
+                         break;
+                  
+                  
+                  case 1973 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1972;
+                         break;
+                  
+                  
+                  case 1974 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 1968;
+                         break;
+                  
+                  
+                  case 1975 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1974;
+                         break;
+                  
+                  
+                  case 1976 :
+                    if (curChar == 95)
+                    jjAddStates(911, 912);
+                         break;
+                  
+                  
+                  case 1977 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1977, 1981);
+                         break;
+                  
+                  
+                  case 1978 :
+                     if (curChar == 99  && kind > 327)
+                         kind = 327;
+                         break;
+                  
+                  
+                  case 1979 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1978;
+                         break;
+                  
+                  
+                  case 1980 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1979;
+                         break;
+                  
+                  
+                  case 1981 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1980;
+                         break;
+                  
+                  
+                  case 1982 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1976;
+                         break;
+                  
+                  
+                  case 1983 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1982;
+                         break;
+                  
+                  
+                  case 1984 :
+                    if (curChar == 95)
+                    jjAddStates(913, 914);
+                         break;
+                  
+                  
+                  case 1985 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1985, 1989);
+                         break;
+                  
+                  
+                  case 1986 :
+                     if (curChar == 100  && kind > 328)
+                         kind = 328;
+                         break;
+                  
+                  
+                  case 1987 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1986;
+                         break;
+                  
+                  
+                  case 1988 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1987;
+                         break;
+                  
+                  
+                  case 1989 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1988;
+                         break;
+                  
+                  
+                  case 1990 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1984;
+                         break;
+                  
+                  
+                  case 1991 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1990;
+                         break;
+                  
+                  
+                  case 1992 :
+                    if (curChar == 95)
+                    jjAddStates(915, 916);
+                         break;
+                  
+                  
+                  case 1993 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(1993, 1997);
+                         break;
+                  
+                  
+                  case 1994 :
+                     if (curChar == 101  && kind > 329)
+                         kind = 329;
+                         break;
+                  
+                  
+                  case 1995 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1994;
+                         break;
+                  
+                  
+                  case 1996 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 1995;
+                         break;
+                  
+                  
+                  case 1997 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 1996;
+                         break;
+                  
+                  
+                  case 1998 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 1992;
+                         break;
+                  
+                  
+                  case 1999 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 1998;
+                         break;
+                  
+                  
+                  case 2000 :
+                    if (curChar == 95)
+                    jjAddStates(917, 918);
+                         break;
+                  
+                  
+                  case 2001 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2001, 2005);
+                         break;
+                  
+                  
+                  case 2002 :
+                     if (curChar == 102  && kind > 330)
+                         kind = 330;
+                         break;
+                  
+                  
+                  case 2003 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2002;
+                         break;
+                  
+                  
+                  case 2004 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2003;
+                         break;
+                  
+                  
+                  case 2005 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2004;
+                         break;
+                  
+                  
+                  case 2006 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2000;
+                         break;
+                  
+                  
+                  case 2007 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2006;
+                         break;
+                  
+                  
+                  case 2008 :
+                    if (curChar == 95)
+                    jjAddStates(919, 920);
+                         break;
+                  
+                  
+                  case 2009 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2009, 2013);
+                         break;
+                  
+                  
+                  case 2010 :
+                     if (curChar == 103  && kind > 331)
+                         kind = 331;
+                         break;
+                  
+                  
+                  case 2011 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2010;
+                         break;
+                  
+                  
+                  case 2012 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2011;
+                         break;
+                  
+                  
+                  case 2013 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2012;
+                         break;
+                  
+                  
+                  case 2014 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2008;
+                         break;
+                  
+                  
+                  case 2015 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2014;
+                         break;
+                  
+                  
+                  case 2016 :
+                    if (curChar == 95)
+                    jjAddStates(921, 922);
+                         break;
+                  
+                  
+                  case 2017 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2017, 2021);
+                         break;
+                  
+                  
+                  case 2018 :
+                     if (curChar == 104  && kind > 332)
+                         kind = 332;
+                         break;
+                  
+                  
+                  case 2019 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2018;
+                         break;
+                  
+                  
+                  case 2020 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2019;
+                         break;
+                  
+                  
+                  case 2021 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2020;
+                         break;
+                  
+                  
+                  case 2022 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2016;
+                         break;
+                  
+                  
+                  case 2023 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2022;
+                         break;
+                  
+                  
+                  case 2024 :
+                    if (curChar == 95)
+                    jjAddStates(923, 924);
+                         break;
+                  
+                  
+                  case 2025 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2025, 2029);
+                         break;
+                  
+                  
+                  case 2026 :
+                     if (curChar == 105  && kind > 333)
+                         kind = 333;
+                         break;
+                  
+                  
+                  case 2027 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2026;
+                         break;
+                  
+                  
+                  case 2028 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2027;
+                         break;
+                  
+                  
+                  case 2029 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2028;
+                         break;
+                  
+                  
+                  case 2030 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2024;
+                         break;
+                  
+                  
+                  case 2031 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2030;
+                         break;
+                  
+                  
+                  case 2032 :
+                    if (curChar == 95)
+                    jjAddStates(925, 926);
+                         break;
+                  
+                  
+                  case 2033 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2033, 2037);
+                         break;
+                  
+                  
+                  case 2034 :
+                     if (curChar == 106  && kind > 334)
+                         kind = 334;
+                         break;
+                  
+                  
+                  case 2035 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2034;
+                         break;
+                  
+                  
+                  case 2036 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2035;
+                         break;
+                  
+                  
+                  case 2037 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2036;
+                         break;
+                  
+                  
+                  case 2038 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2032;
+                         break;
+                  
+                  
+                  case 2039 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2038;
+                         break;
+                  
+                  
+                  case 2040 :
+                    if (curChar == 95)
+                    jjAddStates(927, 928);
+                         break;
+                  
+                  
+                  case 2041 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2041, 2045);
+                         break;
+                  
+                  
+                  case 2042 :
+                     if (curChar == 97  && kind > 335)
+                         kind = 335;
+                         break;
+                  
+                  
+                  case 2043 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2042;
+                         break;
+                  
+                  
+                  case 2044 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2043;
+                         break;
+                  
+                  
+                  case 2045 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2044;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_13(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 2046 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2040;
+                         break;
+                  
+                  
+                  case 2047 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2046;
+                         break;
+                  
+                  
+                  case 2048 :
+                    if (curChar == 95)
+                    jjAddStates(929, 930);
+                         break;
+                  
+                  
+                  case 2049 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2049, 2053);
+                         break;
+                  
+                  
+                  case 2050 :
+                     if (curChar == 98  && kind > 336)
+                         kind = 336;
+                         break;
+                  
+                  
+                  case 2051 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2050;
+                         break;
+                  
+                  
+                  case 2052 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2051;
+                         break;
+                  
+                  
+                  case 2053 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2052;
+                         break;
+                  
+                  
+                  case 2054 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2048;
+                         break;
+                  
+                  
+                  case 2055 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2054;
+                         break;
+                  
+                  
+                  case 2056 :
+                    if (curChar == 95)
+                    jjAddStates(931, 932);
+                         break;
+                  
+                  
+                  case 2057 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2057, 2061);
+                         break;
+                  
+                  
+                  case 2058 :
+                     if (curChar == 99  && kind > 337)
+                         kind = 337;
+                         break;
+                  
+                  
+                  case 2059 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2058;
+                         break;
+                  
+                  
+                  case 2060 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2059;
+                         break;
+                  
+                  
+                  case 2061 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2060;
+                         break;
+                  
+                  
+                  case 2062 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2056;
+                         break;
+                  
+                  
+                  case 2063 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2062;
+                         break;
+                  
+                  
+                  case 2064 :
+                    if (curChar == 95)
+                    jjAddStates(933, 934);
+                         break;
+                  
+                  
+                  case 2065 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2065, 2069);
+                         break;
+                  
+                  
+                  case 2066 :
+                     if (curChar == 100  && kind > 338)
+                         kind = 338;
+                         break;
+                  
+                  
+                  case 2067 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2066;
+                         break;
+                  
+                  
+                  case 2068 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2067;
+                         break;
+                  
+                  
+                  case 2069 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2068;
+                         break;
+                  
+                  
+                  case 2070 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2064;
+                         break;
+                  
+                  
+                  case 2071 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2070;
+                         break;
+                  
+                  
+                  case 2072 :
+                    if (curChar == 95)
+                    jjAddStates(935, 936);
+                         break;
+                  
+                  
+                  case 2073 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2073, 2077);
+                         break;
+                  
+                  
+                  case 2074 :
+                     if (curChar == 101  && kind > 339)
+                         kind = 339;
+                         break;
+                  
+                  
+                  case 2075 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2074;
+                         break;
+                  
+                  
+                  case 2076 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2075;
+                         break;
+                  
+                  
+                  case 2077 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2076;
+                         break;
+                  
+                  
+                  case 2078 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2072;
+                         break;
+                  
+                  
+                  case 2079 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2078;
+                         break;
+                  
+                  
+                  case 2080 :
+                    if (curChar == 95)
+                    jjAddStates(937, 938);
+                         break;
+                  
+                  
+                  case 2081 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2081, 2085);
+                         break;
+                  
+                  
+                  case 2082 :
+                     if (curChar == 102  && kind > 340)
+                         kind = 340;
+                         break;
+                  
+                  
+                  case 2083 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2082;
+                         break;
+                  
+                  
+                  case 2084 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2083;
+                         break;
+                  
+                  
+                  case 2085 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2084;
+                         break;
+                  
+                  
+                  case 2086 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2080;
+                         break;
+                  
+                  
+                  case 2087 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2086;
+                         break;
+                  
+                  
+                  case 2088 :
+                    if (curChar == 95)
+                    jjAddStates(939, 940);
+                         break;
+                  
+                  
+                  case 2089 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2089, 2093);
+                         break;
+                  
+                  
+                  case 2090 :
+                     if (curChar == 103  && kind > 341)
+                         kind = 341;
+                         break;
+                  
+                  
+                  case 2091 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2090;
+                         break;
+                  
+                  
+                  case 2092 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2091;
+                         break;
+                  
+                  
+                  case 2093 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2092;
+                         break;
+                  
+                  
+                  case 2094 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2088;
+                         break;
+                  
+                  
+                  case 2095 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2094;
+                         break;
+                  
+                  
+                  case 2096 :
+                    if (curChar == 95)
+                    jjAddStates(941, 942);
+                         break;
+                  
+                  
+                  case 2097 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2097, 2101);
+                         break;
+                  
+                  
+                  case 2098 :
+                     if (curChar == 104  && kind > 342)
+                         kind = 342;
+                         break;
+                  
+                  
+                  case 2099 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2098;
+                         break;
+                  
+                  
+                  case 2100 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2099;
+                         break;
+                  
+                  
+                  case 2101 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2100;
+                         break;
+                  
+                  
+                  case 2102 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2096;
+                         break;
+                  
+                  
+                  case 2103 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2102;
+                         break;
+                  
+                  
+                  case 2104 :
+                    if (curChar == 95)
+                    jjAddStates(943, 944);
+                         break;
+                  
+                  
+                  case 2105 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2105, 2109);
+                         break;
+                  
+                  
+                  case 2106 :
+                     if (curChar == 105  && kind > 343)
+                         kind = 343;
+                         break;
+                  
+                  
+                  case 2107 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2106;
+                         break;
+                  
+                  
+                  case 2108 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2107;
+                         break;
+                  
+                  
+                  case 2109 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2108;
+                         break;
+                  
+                  
+                  case 2110 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2104;
+                         break;
+                  
+                  
+                  case 2111 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2110;
+                         break;
+                  
+                  
+                  case 2112 :
+                    if (curChar == 95)
+                    jjAddStates(945, 946);
+                         break;
+                  
+                  
+                  case 2113 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2113, 2117);
+                         break;
+                  
+                  
+                  case 2114 :
+                     if (curChar == 106  && kind > 344)
+                         kind = 344;
+                         break;
+                  
+                  
+                  case 2115 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2114;
+                         break;
+                  
+                  
+                  case 2116 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2115;
+                         break;
+                  
+                  
+                  case 2117 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2116;
+                         break;
+                  
+                  
+                  case 2118 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2112;
+                         break;
+                  
+                  
+                  case 2119 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2118;
+                         break;
+                  
+                  
+                  case 2120 :
+                    if (curChar == 95)
+                    jjAddStates(947, 948);
+                         break;
+                  
+                  
+                  case 2121 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2121, 2125);
+                         break;
+                  
+                  
+                  case 2122 :
+                     if (curChar == 97  && kind > 345)
+                         kind = 345;
+                         break;
+                  
+                  
+                  case 2123 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2122;
+                         break;
+                  
+                  
+                  case 2124 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2123;
+                         break;
+                  
+                  
+                  case 2125 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2124;
+                         break;
+                  
+                  
+                  case 2126 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2120;
+                         break;
+                  
+                  
+                  case 2127 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2126;
+                         break;
+                  
+                  
+                  case 2128 :
+                    if (curChar == 95)
+                    jjAddStates(949, 950);
+                         break;
+                  
+                  
+                  case 2129 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2129, 2133);
+                         break;
+                  
+                  
+                  case 2130 :
+                     if (curChar == 98  && kind > 346)
+                         kind = 346;
+                         break;
+                  
+                  
+                  case 2131 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2130;
+                         break;
+                  
+                  
+                  case 2132 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2131;
+                         break;
+                  
+                  
+                  case 2133 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2132;
+                         break;
+                  
+                  
+                  case 2134 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2128;
+                         break;
+                  
+                  
+                  case 2135 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2134;
+                         break;
+                  
+                  
+                  case 2136 :
+                    if (curChar == 95)
+                    jjAddStates(951, 952);
+                         break;
+                  
+                  
+                  case 2137 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2137, 2141);
+                         break;
+                  
+                  
+                  case 2138 :
+                     if (curChar == 99  && kind > 347)
+                         kind = 347;
+                         break;
+                  
+                  
+                  case 2139 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2138;
+                         break;
+                  
+                  
+                  case 2140 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2139;
+                         break;
+                  
+                  
+                  case 2141 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2140;
+                         break;
+                  
+                  
+                  case 2142 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2136;
+                         break;
+                  
+                  
+                  case 2143 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2142;
+                         break;
+                  
+                  
+                  case 2144 :
+                    if (curChar == 95)
+                    jjAddStates(953, 954);
+                         break;
+                  
+                  
+                  case 2145 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2145, 2149);
+                         break;
+                  
+                  
+                  case 2146 :
+                     if (curChar == 100  && kind > 348)
+                         kind = 348;
+                         break;
+                  
+                  
+                  case 2147 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2146;
+                         break;
+                  
+                  
+                  case 2148 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2147;
+                         break;
+                  
+                  
+                  case 2149 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2148;
+                         break;
+                  
+                  
+                  case 2150 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2144;
+                         break;
+                  
+                  
+                  case 2151 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2150;
+                         break;
+                  
+                  
+                  case 2152 :
+                    if (curChar == 95)
+                    jjAddStates(955, 956);
+                         break;
+                  
+                  
+                  case 2153 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2153, 2157);
+                         break;
+                  
+                  
+                  case 2154 :
+                     if (curChar == 101  && kind > 349)
+                         kind = 349;
+                         break;
+                  
+                  
+                  case 2155 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2154;
+                         break;
+                  
+                  
+                  case 2156 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2155;
+                         break;
+                  
+                  
+                  case 2157 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2156;
+                         break;
+                  
+                  
+                  case 2158 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2152;
+                         break;
+                  
+                  
+                  case 2159 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2158;
+                         break;
+                  
+                  
+                  case 2160 :
+                    if (curChar == 95)
+                    jjAddStates(957, 958);
+                         break;
+                  
+                  
+                  case 2161 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2161, 2165);
+                         break;
+                  
+                  
+                  case 2162 :
+                     if (curChar == 102  && kind > 350)
+                         kind = 350;
+                         break;
+                  
+                  
+                  case 2163 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2162;
+                         break;
+                  
+                  
+                  case 2164 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2163;
+                         break;
+                  
+                  
+                  case 2165 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2164;
+                         break;
+                  
+                  
+                  case 2166 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2160;
+                         break;
+                  
+                  
+                  case 2167 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2166;
+                         break;
+                  
+                  
+                  case 2168 :
+                    if (curChar == 95)
+                    jjAddStates(959, 960);
+                         break;
+                  
+                  
+                  case 2169 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2169, 2173);
+                         break;
+                  
+                  
+                  case 2170 :
+                     if (curChar == 103  && kind > 351)
+                         kind = 351;
+                         break;
+                  
+                  
+                  case 2171 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2170;
+                         break;
+                  
+                  
+                  case 2172 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2171;
+                         break;
+                  
+                  
+                  case 2173 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2172;
+                         break;
+                  
+                  
+                  case 2174 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2168;
+                         break;
+                  
+                  
+                  case 2175 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2174;
+                         break;
+                  
+                  
+                  case 2176 :
+                    if (curChar == 95)
+                    jjAddStates(961, 962);
+                         break;
+                  
+                  
+                  case 2177 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2177, 2181);
+                         break;
+                  
+                  
+                  case 2178 :
+                     if (curChar == 104  && kind > 352)
+                         kind = 352;
+                         break;
+                  
+                  
+                  case 2179 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2178;
+                         break;
+                  
+                  
+                  case 2180 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2179;
+                         break;
+                  
+                  
+                  case 2181 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2180;
+                         break;
+                  
+                  
+                  case 2182 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2176;
+                         break;
+                  
+                  
+                  case 2183 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2182;
+                         break;
+                  
+                  
+                  case 2184 :
+                    if (curChar == 95)
+                    jjAddStates(963, 964);
+                         break;
+                  
+                  
+                  case 2185 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2185, 2189);
+                         break;
+                  
+                  
+                  case 2186 :
+                     if (curChar == 105  && kind > 353)
+                         kind = 353;
+                         break;
+                  
+                  
+                  case 2187 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2186;
+                         break;
+                  
+                  
+                  case 2188 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2187;
+                         break;
+                  
+                  
+                  case 2189 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2188;
+                         break;
+                  
+                  
+                  case 2190 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2184;
+                         break;
+                  
+                  
+                  case 2191 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2190;
+                         break;
+                  
+                  
+                  case 2192 :
+                    if (curChar == 95)
+                    jjAddStates(965, 966);
+                         break;
+                  
+                  
+                  case 2193 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2193, 2197);
+                         break;
+                  
+                  
+                  case 2194 :
+                     if (curChar == 106  && kind > 354)
+                         kind = 354;
+                         break;
+                  
+                  
+                  case 2195 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2194;
+                         break;
+                  
+                  
+                  case 2196 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2195;
+                         break;
+                  
+                  
+                  case 2197 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2196;
+                         break;
+                  
+                  
+                  case 2198 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2192;
+                         break;
+                  
+                  
+                  case 2199 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2198;
+                         break;
+                  
+                  
+                  case 2200 :
+                    if (curChar == 95)
+                    jjAddStates(967, 968);
+                         break;
+                  
+                  
+                  case 2201 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2201, 2205);
+                         break;
+                  
+                  
+                  case 2202 :
+                     if (curChar == 97  && kind > 355)
+                         kind = 355;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_14(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 2203 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2202;
+                         break;
+                  
+                  
+                  case 2204 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2203;
+                         break;
+                  
+                  
+                  case 2205 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2204;
+                         break;
+                  
+                  
+                  case 2206 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2200;
+                         break;
+                  
+                  
+                  case 2207 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2206;
+                         break;
+                  
+                  
+                  case 2208 :
+                    if (curChar == 95)
+                    jjAddStates(969, 970);
+                         break;
+                  
+                  
+                  case 2209 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2209, 2213);
+                         break;
+                  
+                  
+                  case 2210 :
+                     if (curChar == 98  && kind > 356)
+                         kind = 356;
+                         break;
+                  
+                  
+                  case 2211 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2210;
+                         break;
+                  
+                  
+                  case 2212 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2211;
+                         break;
+                  
+                  
+                  case 2213 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2212;
+                         break;
+                  
+                  
+                  case 2214 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2208;
+                         break;
+                  
+                  
+                  case 2215 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2214;
+                         break;
+                  
+                  
+                  case 2216 :
+                    if (curChar == 95)
+                    jjAddStates(971, 972);
+                         break;
+                  
+                  
+                  case 2217 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2217, 2221);
+                         break;
+                  
+                  
+                  case 2218 :
+                     if (curChar == 99  && kind > 357)
+                         kind = 357;
+                         break;
+                  
+                  
+                  case 2219 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2218;
+                         break;
+                  
+                  
+                  case 2220 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2219;
+                         break;
+                  
+                  
+                  case 2221 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2220;
+                         break;
+                  
+                  
+                  case 2222 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2216;
+                         break;
+                  
+                  
+                  case 2223 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2222;
+                         break;
+                  
+                  
+                  case 2224 :
+                    if (curChar == 95)
+                    jjAddStates(973, 974);
+                         break;
+                  
+                  
+                  case 2225 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2225, 2229);
+                         break;
+                  
+                  
+                  case 2226 :
+                     if (curChar == 100  && kind > 358)
+                         kind = 358;
+                         break;
+                  
+                  
+                  case 2227 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2226;
+                         break;
+                  
+                  
+                  case 2228 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2227;
+                         break;
+                  
+                  
+                  case 2229 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2228;
+                         break;
+                  
+                  
+                  case 2230 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2224;
+                         break;
+                  
+                  
+                  case 2231 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2230;
+                         break;
+                  
+                  
+                  case 2232 :
+                    if (curChar == 95)
+                    jjAddStates(975, 976);
+                         break;
+                  
+                  
+                  case 2233 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2233, 2237);
+                         break;
+                  
+                  
+                  case 2234 :
+                     if (curChar == 101  && kind > 359)
+                         kind = 359;
+                         break;
+                  
+                  
+                  case 2235 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2234;
+                         break;
+                  
+                  
+                  case 2236 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2235;
+                         break;
+                  
+                  
+                  case 2237 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2236;
+                         break;
+                  
+                  
+                  case 2238 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2232;
+                         break;
+                  
+                  
+                  case 2239 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2238;
+                         break;
+                  
+                  
+                  case 2240 :
+                    if (curChar == 95)
+                    jjAddStates(977, 978);
+                         break;
+                  
+                  
+                  case 2241 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2241, 2245);
+                         break;
+                  
+                  
+                  case 2242 :
+                     if (curChar == 102  && kind > 360)
+                         kind = 360;
+                         break;
+                  
+                  
+                  case 2243 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2242;
+                         break;
+                  
+                  
+                  case 2244 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2243;
+                         break;
+                  
+                  
+                  case 2245 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2244;
+                         break;
+                  
+                  
+                  case 2246 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2240;
+                         break;
+                  
+                  
+                  case 2247 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2246;
+                         break;
+                  
+                  
+                  case 2248 :
+                    if (curChar == 95)
+                    jjAddStates(979, 980);
+                         break;
+                  
+                  
+                  case 2249 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2249, 2253);
+                         break;
+                  
+                  
+                  case 2250 :
+                     if (curChar == 103  && kind > 361)
+                         kind = 361;
+                         break;
+                  
+                  
+                  case 2251 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2250;
+                         break;
+                  
+                  
+                  case 2252 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2251;
+                         break;
+                  
+                  
+                  case 2253 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2252;
+                         break;
+                  
+                  
+                  case 2254 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2248;
+                         break;
+                  
+                  
+                  case 2255 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2254;
+                         break;
+                  
+                  
+                  case 2256 :
+                    if (curChar == 95)
+                    jjAddStates(981, 982);
+                         break;
+                  
+                  
+                  case 2257 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2257, 2261);
+                         break;
+                  
+                  
+                  case 2258 :
+                     if (curChar == 104  && kind > 362)
+                         kind = 362;
+                         break;
+                  
+                  
+                  case 2259 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2258;
+                         break;
+                  
+                  
+                  case 2260 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2259;
+                         break;
+                  
+                  
+                  case 2261 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2260;
+                         break;
+                  
+                  
+                  case 2262 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2256;
+                         break;
+                  
+                  
+                  case 2263 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2262;
+                         break;
+                  
+                  
+                  case 2264 :
+                    if (curChar == 95)
+                    jjAddStates(983, 984);
+                         break;
+                  
+                  
+                  case 2265 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2265, 2269);
+                         break;
+                  
+                  
+                  case 2266 :
+                     if (curChar == 105  && kind > 363)
+                         kind = 363;
+                         break;
+                  
+                  
+                  case 2267 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2266;
+                         break;
+                  
+                  
+                  case 2268 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2267;
+                         break;
+                  
+                  
+                  case 2269 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2268;
+                         break;
+                  
+                  
+                  case 2270 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2264;
+                         break;
+                  
+                  
+                  case 2271 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2270;
+                         break;
+                  
+                  
+                  case 2272 :
+                    if (curChar == 95)
+                    jjAddStates(985, 986);
+                         break;
+                  
+                  
+                  case 2273 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2273, 2277);
+                         break;
+                  
+                  
+                  case 2274 :
+                     if (curChar == 106  && kind > 364)
+                         kind = 364;
+                         break;
+                  
+                  
+                  case 2275 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2274;
+                         break;
+                  
+                  
+                  case 2276 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2275;
+                         break;
+                  
+                  
+                  case 2277 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2276;
+                         break;
+                  
+                  
+                  case 2278 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2272;
+                         break;
+                  
+                  
+                  case 2279 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2278;
+                         break;
+                  
+                  
+                  case 2280 :
+                    if (curChar == 95)
+                    jjAddStates(987, 988);
+                         break;
+                  
+                  
+                  case 2281 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2281, 2285);
+                         break;
+                  
+                  
+                  case 2282 :
+                     if (curChar == 97  && kind > 365)
+                         kind = 365;
+                         break;
+                  
+                  
+                  case 2283 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2282;
+                         break;
+                  
+                  
+                  case 2284 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2283;
+                         break;
+                  
+                  
+                  case 2285 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2284;
+                         break;
+                  
+                  
+                  case 2286 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2280;
+                         break;
+                  
+                  
+                  case 2287 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2286;
+                         break;
+                  
+                  
+                  case 2288 :
+                    if (curChar == 95)
+                    jjAddStates(989, 990);
+                         break;
+                  
+                  
+                  case 2289 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2289, 2293);
+                         break;
+                  
+                  
+                  case 2290 :
+                     if (curChar == 98  && kind > 366)
+                         kind = 366;
+                         break;
+                  
+                  
+                  case 2291 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2290;
+                         break;
+                  
+                  
+                  case 2292 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2291;
+                         break;
+                  
+                  
+                  case 2293 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2292;
+                         break;
+                  
+                  
+                  case 2294 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2288;
+                         break;
+                  
+                  
+                  case 2295 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2294;
+                         break;
+                  
+                  
+                  case 2296 :
+                    if (curChar == 95)
+                    jjAddStates(991, 992);
+                         break;
+                  
+                  
+                  case 2297 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2297, 2301);
+                         break;
+                  
+                  
+                  case 2298 :
+                     if (curChar == 99  && kind > 367)
+                         kind = 367;
+                         break;
+                  
+                  
+                  case 2299 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2298;
+                         break;
+                  
+                  
+                  case 2300 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2299;
+                         break;
+                  
+                  
+                  case 2301 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2300;
+                         break;
+                  
+                  
+                  case 2302 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2296;
+                         break;
+                  
+                  
+                  case 2303 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2302;
+                         break;
+                  
+                  
+                  case 2304 :
+                    if (curChar == 95)
+                    jjAddStates(993, 994);
+                         break;
+                  
+                  
+                  case 2305 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2305, 2309);
+                         break;
+                  
+                  
+                  case 2306 :
+                     if (curChar == 100  && kind > 368)
+                         kind = 368;
+                         break;
+                  
+                  
+                  case 2307 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2306;
+                         break;
+                  
+                  
+                  case 2308 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2307;
+                         break;
+                  
+                  
+                  case 2309 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2308;
+                         break;
+                  
+                  
+                  case 2310 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2304;
+                         break;
+                  
+                  
+                  case 2311 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2310;
+                         break;
+                  
+                  
+                  case 2312 :
+                    if (curChar == 95)
+                    jjAddStates(995, 996);
+                         break;
+                  
+                  
+                  case 2313 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2313, 2317);
+                         break;
+                  
+                  
+                  case 2314 :
+                     if (curChar == 101  && kind > 369)
+                         kind = 369;
+                         break;
+                  
+                  
+                  case 2315 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2314;
+                         break;
+                  
+                  
+                  case 2316 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2315;
+                         break;
+                  
+                  
+                  case 2317 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2316;
+                         break;
+                  
+                  
+                  case 2318 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2312;
+                         break;
+                  
+                  
+                  case 2319 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2318;
+                         break;
+                  
+                  
+                  case 2320 :
+                    if (curChar == 95)
+                    jjAddStates(997, 998);
+                         break;
+                  
+                  
+                  case 2321 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2321, 2325);
+                         break;
+                  
+                  
+                  case 2322 :
+                     if (curChar == 102  && kind > 370)
+                         kind = 370;
+                         break;
+                  
+                  
+                  case 2323 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2322;
+                         break;
+                  
+                  
+                  case 2324 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2323;
+                         break;
+                  
+                  
+                  case 2325 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2324;
+                         break;
+                  
+                  
+                  case 2326 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2320;
+                         break;
+                  
+                  
+                  case 2327 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2326;
+                         break;
+                  
+                  
+                  case 2328 :
+                    if (curChar == 95)
+                    jjAddStates(999, 1000);
+                         break;
+                  
+                  
+                  case 2329 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2329, 2333);
+                         break;
+                  
+                  
+                  case 2330 :
+                     if (curChar == 103  && kind > 371)
+                         kind = 371;
+                         break;
+                  
+                  
+                  case 2331 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2330;
+                         break;
+                  
+                  
+                  case 2332 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2331;
+                         break;
+                  
+                  
+                  case 2333 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2332;
+                         break;
+                  
+                  
+                  case 2334 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2328;
+                         break;
+                  
+                  
+                  case 2335 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2334;
+                         break;
+                  
+                  
+                  case 2336 :
+                    if (curChar == 95)
+                    jjAddStates(1001, 1002);
+                         break;
+                  
+                  
+                  case 2337 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2337, 2341);
+                         break;
+                  
+                  
+                  case 2338 :
+                     if (curChar == 104  && kind > 372)
+                         kind = 372;
+                         break;
+                  
+                  
+                  case 2339 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2338;
+                         break;
+                  
+                  
+                  case 2340 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2339;
+                         break;
+                  
+                  
+                  case 2341 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2340;
+                         break;
+                  
+                  
+                  case 2342 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2336;
+                         break;
+                  
+                  
+                  case 2343 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2342;
+                         break;
+                  
+                  
+                  case 2344 :
+                    if (curChar == 95)
+                    jjAddStates(1003, 1004);
+                         break;
+                  
+                  
+                  case 2345 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2345, 2349);
+                         break;
+                  
+                  
+                  case 2346 :
+                     if (curChar == 105  && kind > 373)
+                         kind = 373;
+                         break;
+                  
+                  
+                  case 2347 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2346;
+                         break;
+                  
+                  
+                  case 2348 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2347;
+                         break;
+                  
+                  
+                  case 2349 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2348;
+                         break;
+                  
+                  
+                  case 2350 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2344;
+                         break;
+                  
+                  
+                  case 2351 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2350;
+                         break;
+                  
+                  
+                  case 2352 :
+                    if (curChar == 95)
+                    jjAddStates(1005, 1006);
+                         break;
+                  
+                  
+                  case 2353 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2353, 2357);
+                         break;
+                  
+                  
+                  case 2354 :
+                     if (curChar == 106  && kind > 374)
+                         kind = 374;
+                         break;
+                  
+                  
+                  case 2355 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2354;
+                         break;
+                  
+                  
+                  case 2356 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2355;
+                         break;
+                  
+                  
+                  case 2357 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2356;
+                         break;
+                  
+                  
+                  case 2358 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2352;
+                         break;
+                  
+                  
+                  case 2359 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2358;
+                         break;
+                  
+                  
+                  case 2360 :
+                    if (curChar == 95)
+                    jjAddStates(1007, 1008);
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_15(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 2361 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2361, 2365);
+                         break;
+                  
+                  
+                  case 2362 :
+                     if (curChar == 97  && kind > 375)
+                         kind = 375;
+                         break;
+                  
+                  
+                  case 2363 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2362;
+                         break;
+                  
+                  
+                  case 2364 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2363;
+                         break;
+                  
+                  
+                  case 2365 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2364;
+                         break;
+                  
+                  
+                  case 2366 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2360;
+                         break;
+                  
+                  
+                  case 2367 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2366;
+                         break;
+                  
+                  
+                  case 2368 :
+                    if (curChar == 95)
+                    jjAddStates(1009, 1010);
+                         break;
+                  
+                  
+                  case 2369 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2369, 2373);
+                         break;
+                  
+                  
+                  case 2370 :
+                     if (curChar == 98  && kind > 376)
+                         kind = 376;
+                         break;
+                  
+                  
+                  case 2371 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2370;
+                         break;
+                  
+                  
+                  case 2372 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2371;
+                         break;
+                  
+                  
+                  case 2373 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2372;
+                         break;
+                  
+                  
+                  case 2374 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2368;
+                         break;
+                  
+                  
+                  case 2375 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2374;
+                         break;
+                  
+                  
+                  case 2376 :
+                    if (curChar == 95)
+                    jjAddStates(1011, 1012);
+                         break;
+                  
+                  
+                  case 2377 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2377, 2381);
+                         break;
+                  
+                  
+                  case 2378 :
+                     if (curChar == 99  && kind > 377)
+                         kind = 377;
+                         break;
+                  
+                  
+                  case 2379 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2378;
+                         break;
+                  
+                  
+                  case 2380 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2379;
+                         break;
+                  
+                  
+                  case 2381 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2380;
+                         break;
+                  
+                  
+                  case 2382 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2376;
+                         break;
+                  
+                  
+                  case 2383 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2382;
+                         break;
+                  
+                  
+                  case 2384 :
+                    if (curChar == 95)
+                    jjAddStates(1013, 1014);
+                         break;
+                  
+                  
+                  case 2385 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2385, 2389);
+                         break;
+                  
+                  
+                  case 2386 :
+                     if (curChar == 100  && kind > 378)
+                         kind = 378;
+                         break;
+                  
+                  
+                  case 2387 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2386;
+                         break;
+                  
+                  
+                  case 2388 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2387;
+                         break;
+                  
+                  
+                  case 2389 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2388;
+                         break;
+                  
+                  
+                  case 2390 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2384;
+                         break;
+                  
+                  
+                  case 2391 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2390;
+                         break;
+                  
+                  
+                  case 2392 :
+                    if (curChar == 95)
+                    jjAddStates(1015, 1016);
+                         break;
+                  
+                  
+                  case 2393 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2393, 2397);
+                         break;
+                  
+                  
+                  case 2394 :
+                     if (curChar == 101  && kind > 379)
+                         kind = 379;
+                         break;
+                  
+                  
+                  case 2395 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2394;
+                         break;
+                  
+                  
+                  case 2396 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2395;
+                         break;
+                  
+                  
+                  case 2397 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2396;
+                         break;
+                  
+                  
+                  case 2398 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2392;
+                         break;
+                  
+                  
+                  case 2399 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2398;
+                         break;
+                  
+                  
+                  case 2400 :
+                    if (curChar == 95)
+                    jjAddStates(1017, 1018);
+                         break;
+                  
+                  
+                  case 2401 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2401, 2405);
+                         break;
+                  
+                  
+                  case 2402 :
+                     if (curChar == 102  && kind > 380)
+                         kind = 380;
+                         break;
+                  
+                  
+                  case 2403 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2402;
+                         break;
+                  
+                  
+                  case 2404 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2403;
+                         break;
+                  
+                  
+                  case 2405 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2404;
+                         break;
+                  
+                  
+                  case 2406 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2400;
+                         break;
+                  
+                  
+                  case 2407 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2406;
+                         break;
+                  
+                  
+                  case 2408 :
+                    if (curChar == 95)
+                    jjAddStates(1019, 1020);
+                         break;
+                  
+                  
+                  case 2409 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2409, 2413);
+                         break;
+                  
+                  
+                  case 2410 :
+                     if (curChar == 103  && kind > 381)
+                         kind = 381;
+                         break;
+                  
+                  
+                  case 2411 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2410;
+                         break;
+                  
+                  
+                  case 2412 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2411;
+                         break;
+                  
+                  
+                  case 2413 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2412;
+                         break;
+                  
+                  
+                  case 2414 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2408;
+                         break;
+                  
+                  
+                  case 2415 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2414;
+                         break;
+                  
+                  
+                  case 2416 :
+                    if (curChar == 95)
+                    jjAddStates(1021, 1022);
+                         break;
+                  
+                  
+                  case 2417 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2417, 2421);
+                         break;
+                  
+                  
+                  case 2418 :
+                     if (curChar == 104  && kind > 382)
+                         kind = 382;
+                         break;
+                  
+                  
+                  case 2419 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2418;
+                         break;
+                  
+                  
+                  case 2420 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2419;
+                         break;
+                  
+                  
+                  case 2421 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2420;
+                         break;
+                  
+                  
+                  case 2422 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2416;
+                         break;
+                  
+                  
+                  case 2423 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2422;
+                         break;
+                  
+                  
+                  case 2424 :
+                    if (curChar == 95)
+                    jjAddStates(1023, 1024);
+                         break;
+                  
+                  
+                  case 2425 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2425, 2429);
+                         break;
+                  
+                  
+                  case 2426 :
+                     if (curChar == 105  && kind > 383)
+                         kind = 383;
+                         break;
+                  
+                  
+                  case 2427 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2426;
+                         break;
+                  
+                  
+                  case 2428 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2427;
+                         break;
+                  
+                  
+                  case 2429 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2428;
+                         break;
+                  
+                  
+                  case 2430 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2424;
+                         break;
+                  
+                  
+                  case 2431 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2430;
+                         break;
+                  
+                  
+                  case 2432 :
+                    if (curChar == 95)
+                    jjAddStates(1025, 1026);
+                         break;
+                  
+                  
+                  case 2433 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2433, 2437);
+                         break;
+                  
+                  
+                  case 2434 :
+                     if (curChar == 106  && kind > 384)
+                         kind = 384;
+                         break;
+                  
+                  
+                  case 2435 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2434;
+                         break;
+                  
+                  
+                  case 2436 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2435;
+                         break;
+                  
+                  
+                  case 2437 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2436;
+                         break;
+                  
+                  
+                  case 2438 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2432;
+                         break;
+                  
+                  
+                  case 2439 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2438;
+                         break;
+                  
+                  
+                  case 2440 :
+                    if (curChar == 95)
+                    jjAddStates(1027, 1028);
+                         break;
+                  
+                  
+                  case 2441 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2441, 2445);
+                         break;
+                  
+                  
+                  case 2442 :
+                     if (curChar == 97  && kind > 385)
+                         kind = 385;
+                         break;
+                  
+                  
+                  case 2443 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2442;
+                         break;
+                  
+                  
+                  case 2444 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2443;
+                         break;
+                  
+                  
+                  case 2445 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2444;
+                         break;
+                  
+                  
+                  case 2446 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2440;
+                         break;
+                  
+                  
+                  case 2447 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2446;
+                         break;
+                  
+                  
+                  case 2448 :
+                    if (curChar == 95)
+                    jjAddStates(1029, 1030);
+                         break;
+                  
+                  
+                  case 2449 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2449, 2453);
+                         break;
+                  
+                  
+                  case 2450 :
+                     if (curChar == 98  && kind > 386)
+                         kind = 386;
+                         break;
+                  
+                  
+                  case 2451 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2450;
+                         break;
+                  
+                  
+                  case 2452 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2451;
+                         break;
+                  
+                  
+                  case 2453 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2452;
+                         break;
+                  
+                  
+                  case 2454 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2448;
+                         break;
+                  
+                  
+                  case 2455 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2454;
+                         break;
+                  
+                  
+                  case 2456 :
+                    if (curChar == 95)
+                    jjAddStates(1031, 1032);
+                         break;
+                  
+                  
+                  case 2457 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2457, 2461);
+                         break;
+                  
+                  
+                  case 2458 :
+                     if (curChar == 99  && kind > 387)
+                         kind = 387;
+                         break;
+                  
+                  
+                  case 2459 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2458;
+                         break;
+                  
+                  
+                  case 2460 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2459;
+                         break;
+                  
+                  
+                  case 2461 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2460;
+                         break;
+                  
+                  
+                  case 2462 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2456;
+                         break;
+                  
+                  
+                  case 2463 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2462;
+                         break;
+                  
+                  
+                  case 2464 :
+                    if (curChar == 95)
+                    jjAddStates(1033, 1034);
+                         break;
+                  
+                  
+                  case 2465 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2465, 2469);
+                         break;
+                  
+                  
+                  case 2466 :
+                     if (curChar == 100  && kind > 388)
+                         kind = 388;
+                         break;
+                  
+                  
+                  case 2467 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2466;
+                         break;
+                  
+                  
+                  case 2468 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2467;
+                         break;
+                  
+                  
+                  case 2469 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2468;
+                         break;
+                  
+                  
+                  case 2470 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2464;
+                         break;
+                  
+                  
+                  case 2471 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2470;
+                         break;
+                  
+                  
+                  case 2472 :
+                    if (curChar == 95)
+                    jjAddStates(1035, 1036);
+                         break;
+                  
+                  
+                  case 2473 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2473, 2477);
+                         break;
+                  
+                  
+                  case 2474 :
+                     if (curChar == 101  && kind > 389)
+                         kind = 389;
+                         break;
+                  
+                  
+                  case 2475 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2474;
+                         break;
+                  
+                  
+                  case 2476 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2475;
+                         break;
+                  
+                  
+                  case 2477 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2476;
+                         break;
+                  
+                  
+                  case 2478 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2472;
+                         break;
+                  
+                  
+                  case 2479 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2478;
+                         break;
+                  
+                  
+                  case 2480 :
+                    if (curChar == 95)
+                    jjAddStates(1037, 1038);
+                         break;
+                  
+                  
+                  case 2481 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2481, 2485);
+                         break;
+                  
+                  
+                  case 2482 :
+                     if (curChar == 102  && kind > 390)
+                         kind = 390;
+                         break;
+                  
+                  
+                  case 2483 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2482;
+                         break;
+                  
+                  
+                  case 2484 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2483;
+                         break;
+                  
+                  
+                  case 2485 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2484;
+                         break;
+                  
+                  
+                  case 2486 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2480;
+                         break;
+                  
+                  
+                  case 2487 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2486;
+                         break;
+                  
+                  
+                  case 2488 :
+                    if (curChar == 95)
+                    jjAddStates(1039, 1040);
+                         break;
+                  
+                  
+                  case 2489 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2489, 2493);
+                         break;
+                  
+                  
+                  case 2490 :
+                     if (curChar == 103  && kind > 391)
+                         kind = 391;
+                         break;
+                  
+                  
+                  case 2491 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2490;
+                         break;
+                  
+                  
+                  case 2492 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2491;
+                         break;
+                  
+                  
+                  case 2493 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2492;
+                         break;
+                  
+                  
+                  case 2494 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2488;
+                         break;
+                  
+                  
+                  case 2495 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2494;
+                         break;
+                  
+                  
+                  case 2496 :
+                    if (curChar == 95)
+                    jjAddStates(1041, 1042);
+                         break;
+                  
+                  
+                  case 2497 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2497, 2501);
+                         break;
+                  
+                  
+                  case 2498 :
+                     if (curChar == 104  && kind > 392)
+                         kind = 392;
+                         break;
+                  
+                  
+                  case 2499 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2498;
+                         break;
+                  
+                  
+                  case 2500 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2499;
+                         break;
+                  
+                  
+                  case 2501 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2500;
+                         break;
+                  
+                  
+                  case 2502 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2496;
+                         break;
+                  
+                  
+                  case 2503 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2502;
+                         break;
+                  
+                  
+                  case 2504 :
+                    if (curChar == 95)
+                    jjAddStates(1043, 1044);
+                         break;
+                  
+                  
+                  case 2505 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2505, 2509);
+                         break;
+                  
+                  
+                  case 2506 :
+                     if (curChar == 105  && kind > 393)
+                         kind = 393;
+                         break;
+                  
+                  
+                  case 2507 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2506;
+                         break;
+                  
+                  
+                  case 2508 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2507;
+                         break;
+                  
+                  
+                  case 2509 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2508;
+                         break;
+                  
+                  
+                  case 2510 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2504;
+                         break;
+                  
+                  
+                  case 2511 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2510;
+                         break;
+                  
+                  
+                  case 2512 :
+                    if (curChar == 95)
+                    jjAddStates(1045, 1046);
+                         break;
+                  
+                  
+                  case 2513 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2513, 2517);
+                         break;
+                  
+                  
+                  case 2514 :
+                     if (curChar == 106  && kind > 394)
+                         kind = 394;
+                         break;
+                  
+                  
+                  case 2515 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2514;
+                         break;
+                  
+                  
+                  case 2516 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2515;
+                         break;
+                  
+                  
+                  case 2517 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2516;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_16(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 2518 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2512;
+                         break;
+                  
+                  
+                  case 2519 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2518;
+                         break;
+                  
+                  
+                  case 2520 :
+                    if (curChar == 95)
+                    jjAddStates(1047, 1048);
+                         break;
+                  
+                  
+                  case 2521 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2521, 2525);
+                         break;
+                  
+                  
+                  case 2522 :
+                     if (curChar == 97  && kind > 395)
+                         kind = 395;
+                         break;
+                  
+                  
+                  case 2523 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2522;
+                         break;
+                  
+                  
+                  case 2524 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2523;
+                         break;
+                  
+                  
+                  case 2525 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2524;
+                         break;
+                  
+                  
+                  case 2526 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2520;
+                         break;
+                  
+                  
+                  case 2527 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2526;
+                         break;
+                  
+                  
+                  case 2528 :
+                    if (curChar == 95)
+                    jjAddStates(1049, 1050);
+                         break;
+                  
+                  
+                  case 2529 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2529, 2533);
+                         break;
+                  
+                  
+                  case 2530 :
+                     if (curChar == 98  && kind > 396)
+                         kind = 396;
+                         break;
+                  
+                  
+                  case 2531 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2530;
+                         break;
+                  
+                  
+                  case 2532 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2531;
+                         break;
+                  
+                  
+                  case 2533 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2532;
+                         break;
+                  
+                  
+                  case 2534 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2528;
+                         break;
+                  
+                  
+                  case 2535 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2534;
+                         break;
+                  
+                  
+                  case 2536 :
+                    if (curChar == 95)
+                    jjAddStates(1051, 1052);
+                         break;
+                  
+                  
+                  case 2537 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2537, 2541);
+                         break;
+                  
+                  
+                  case 2538 :
+                     if (curChar == 99  && kind > 397)
+                         kind = 397;
+                         break;
+                  
+                  
+                  case 2539 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2538;
+                         break;
+                  
+                  
+                  case 2540 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2539;
+                         break;
+                  
+                  
+                  case 2541 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2540;
+                         break;
+                  
+                  
+                  case 2542 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2536;
+                         break;
+                  
+                  
+                  case 2543 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2542;
+                         break;
+                  
+                  
+                  case 2544 :
+                    if (curChar == 95)
+                    jjAddStates(1053, 1054);
+                         break;
+                  
+                  
+                  case 2545 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2545, 2549);
+                         break;
+                  
+                  
+                  case 2546 :
+                     if (curChar == 100  && kind > 398)
+                         kind = 398;
+                         break;
+                  
+                  
+                  case 2547 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2546;
+                         break;
+                  
+                  
+                  case 2548 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2547;
+                         break;
+                  
+                  
+                  case 2549 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2548;
+                         break;
+                  
+                  
+                  case 2550 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2544;
+                         break;
+                  
+                  
+                  case 2551 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2550;
+                         break;
+                  
+                  
+                  case 2552 :
+                    if (curChar == 95)
+                    jjAddStates(1055, 1056);
+                         break;
+                  
+                  
+                  case 2553 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2553, 2557);
+                         break;
+                  
+                  
+                  case 2554 :
+                     if (curChar == 101  && kind > 399)
+                         kind = 399;
+                         break;
+                  
+                  
+                  case 2555 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2554;
+                         break;
+                  
+                  
+                  case 2556 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2555;
+                         break;
+                  
+                  
+                  case 2557 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2556;
+                         break;
+                  
+                  
+                  case 2558 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2552;
+                         break;
+                  
+                  
+                  case 2559 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2558;
+                         break;
+                  
+                  
+                  case 2560 :
+                    if (curChar == 95)
+                    jjAddStates(1057, 1058);
+                         break;
+                  
+                  
+                  case 2561 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2561, 2565);
+                         break;
+                  
+                  
+                  case 2562 :
+                     if (curChar == 102  && kind > 400)
+                         kind = 400;
+                         break;
+                  
+                  
+                  case 2563 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2562;
+                         break;
+                  
+                  
+                  case 2564 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2563;
+                         break;
+                  
+                  
+                  case 2565 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2564;
+                         break;
+                  
+                  
+                  case 2566 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2560;
+                         break;
+                  
+                  
+                  case 2567 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2566;
+                         break;
+                  
+                  
+                  case 2568 :
+                    if (curChar == 95)
+                    jjAddStates(1059, 1060);
+                         break;
+                  
+                  
+                  case 2569 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2569, 2573);
+                         break;
+                  
+                  
+                  case 2570 :
+                     if (curChar == 103  && kind > 401)
+                         kind = 401;
+                         break;
+                  
+                  
+                  case 2571 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2570;
+                         break;
+                  
+                  
+                  case 2572 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2571;
+                         break;
+                  
+                  
+                  case 2573 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2572;
+                         break;
+                  
+                  
+                  case 2574 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2568;
+                         break;
+                  
+                  
+                  case 2575 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2574;
+                         break;
+                  
+                  
+                  case 2576 :
+                    if (curChar == 95)
+                    jjAddStates(1061, 1062);
+                         break;
+                  
+                  
+                  case 2577 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2577, 2581);
+                         break;
+                  
+                  
+                  case 2578 :
+                     if (curChar == 104  && kind > 402)
+                         kind = 402;
+                         break;
+                  
+                  
+                  case 2579 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2578;
+                         break;
+                  
+                  
+                  case 2580 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2579;
+                         break;
+                  
+                  
+                  case 2581 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2580;
+                         break;
+                  
+                  
+                  case 2582 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2576;
+                         break;
+                  
+                  
+                  case 2583 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2582;
+                         break;
+                  
+                  
+                  case 2584 :
+                    if (curChar == 95)
+                    jjAddStates(1063, 1064);
+                         break;
+                  
+                  
+                  case 2585 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2585, 2589);
+                         break;
+                  
+                  
+                  case 2586 :
+                     if (curChar == 105  && kind > 403)
+                         kind = 403;
+                         break;
+                  
+                  
+                  case 2587 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2586;
+                         break;
+                  
+                  
+                  case 2588 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2587;
+                         break;
+                  
+                  
+                  case 2589 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2588;
+                         break;
+                  
+                  
+                  case 2590 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2584;
+                         break;
+                  
+                  
+                  case 2591 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2590;
+                         break;
+                  
+                  
+                  case 2592 :
+                    if (curChar == 95)
+                    jjAddStates(1065, 1066);
+                         break;
+                  
+                  
+                  case 2593 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2593, 2597);
+                         break;
+                  
+                  
+                  case 2594 :
+                     if (curChar == 106  && kind > 404)
+                         kind = 404;
+                         break;
+                  
+                  
+                  case 2595 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2594;
+                         break;
+                  
+                  
+                  case 2596 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2595;
+                         break;
+                  
+                  
+                  case 2597 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2596;
+                         break;
+                  
+                  
+                  case 2598 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2592;
+                         break;
+                  
+                  
+                  case 2599 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2598;
+                         break;
+                  
+                  
+                  case 2600 :
+                    if (curChar == 101)
+                    jjCheckNAddStates(55
+                    , 65
+                    );
+                         break;
+                  
+                  
+                  case 2601 :
+                    if (curChar == 95)
+                    jjAddStates(1067, 1068);
+                         break;
+                  
+                  
+                  case 2602 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2602, 2604);
+                         break;
+                  
+                  
+                  case 2603 :
+                     if (curChar == 101  && kind > 9)
+                         kind = 9;
+                         break;
+                  
+                  
+                  case 2604 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2603;
+                         break;
+                  
+                  
+                  case 2605 :
+                    if (curChar == 95)
+                    jjAddStates(1069, 1070);
+                         break;
+                  
+                  
+                  case 2606 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2606, 2609);
+                         break;
+                  
+                  
+                  case 2607 :
+                     if (curChar == 97  && kind > 45)
+                         kind = 45;
+                         break;
+                  
+                  
+                  case 2608 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2607;
+                         break;
+                  
+                  
+                  case 2609 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2608;
+                         break;
+                  
+                  
+                  case 2610 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2605;
+                         break;
+                  
+                  
+                  case 2611 :
+                    if (curChar == 95)
+                    jjAddStates(1071, 1072);
+                         break;
+                  
+                  
+                  case 2612 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2612, 2615);
+                         break;
+                  
+                  
+                  case 2613 :
+                     if (curChar == 98  && kind > 46)
+                         kind = 46;
+                         break;
+                  
+                  
+                  case 2614 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2613;
+                         break;
+                  
+                  
+                  case 2615 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2614;
+                         break;
+                  
+                  
+                  case 2616 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2611;
+                         break;
+                  
+                  
+                  case 2617 :
+                    if (curChar == 95)
+                    jjAddStates(1073, 1074);
+                         break;
+                  
+                  
+                  case 2618 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2618, 2621);
+                         break;
+                  
+                  
+                  case 2619 :
+                     if (curChar == 99  && kind > 47)
+                         kind = 47;
+                         break;
+                  
+                  
+                  case 2620 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2619;
+                         break;
+                  
+                  
+                  case 2621 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2620;
+                         break;
+                  
+                  
+                  case 2622 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2617;
+                         break;
+                  
+                  
+                  case 2623 :
+                    if (curChar == 95)
+                    jjAddStates(1075, 1076);
+                         break;
+                  
+                  
+                  case 2624 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2624, 2627);
+                         break;
+                  
+                  
+                  case 2625 :
+                     if (curChar == 100  && kind > 48)
+                         kind = 48;
+                         break;
+                  
+                  
+                  case 2626 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2625;
+                         break;
+                  
+                  
+                  case 2627 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2626;
+                         break;
+                  
+                  
+                  case 2628 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2623;
+                         break;
+                  
+                  
+                  case 2629 :
+                    if (curChar == 95)
+                    jjAddStates(1077, 1078);
+                         break;
+                  
+                  
+                  case 2630 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2630, 2633);
+                         break;
+                  
+                  
+                  case 2631 :
+                     if (curChar == 101  && kind > 49)
+                         kind = 49;
+                         break;
+                  
+                  
+                  case 2632 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2631;
+                         break;
+                  
+                  
+                  case 2633 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2632;
+                         break;
+                  
+                  
+                  case 2634 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2629;
+                         break;
+                  
+                  
+                  case 2635 :
+                    if (curChar == 95)
+                    jjAddStates(1079, 1080);
+                         break;
+                  
+                  
+                  case 2636 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2636, 2639);
+                         break;
+                  
+                  
+                  case 2637 :
+                     if (curChar == 102  && kind > 50)
+                         kind = 50;
+                         break;
+                  
+                  
+                  case 2638 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2637;
+                         break;
+                  
+                  
+                  case 2639 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2638;
+                         break;
+                  
+                  
+                  case 2640 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2635;
+                         break;
+                  
+                  
+                  case 2641 :
+                    if (curChar == 95)
+                    jjAddStates(1081, 1082);
+                         break;
+                  
+                  
+                  case 2642 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2642, 2645);
+                         break;
+                  
+                  
+                  case 2643 :
+                     if (curChar == 103  && kind > 51)
+                         kind = 51;
+                         break;
+                  
+                  
+                  case 2644 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2643;
+                         break;
+                  
+                  
+                  case 2645 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2644;
+                         break;
+                  
+                  
+                  case 2646 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2641;
+                         break;
+                  
+                  
+                  case 2647 :
+                    if (curChar == 95)
+                    jjAddStates(1083, 1084);
+                         break;
+                  
+                  
+                  case 2648 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2648, 2651);
+                         break;
+                  
+                  
+                  case 2649 :
+                     if (curChar == 104  && kind > 52)
+                         kind = 52;
+                         break;
+                  
+                  
+                  case 2650 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2649;
+                         break;
+                  
+                  
+                  case 2651 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2650;
+                         break;
+                  
+                  
+                  case 2652 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2647;
+                         break;
+                  
+                  
+                  case 2653 :
+                    if (curChar == 95)
+                    jjAddStates(1085, 1086);
+                         break;
+                  
+                  
+                  case 2654 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2654, 2657);
+                         break;
+                  
+                  
+                  case 2655 :
+                     if (curChar == 105  && kind > 53)
+                         kind = 53;
+                         break;
+                  
+                  
+                  case 2656 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2655;
+                         break;
+                  
+                  
+                  case 2657 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2656;
+                         break;
+                  
+                  
+                  case 2658 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2653;
+                         break;
+                  
+                  
+                  case 2659 :
+                    if (curChar == 95)
+                    jjAddStates(1087, 1088);
+                         break;
+                  
+                  
+                  case 2660 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2660, 2663);
+                         break;
+                  
+                  
+                  case 2661 :
+                     if (curChar == 106  && kind > 54)
+                         kind = 54;
+                         break;
+                  
+                  
+                  case 2662 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2661;
+                         break;
+                  
+                  
+                  case 2663 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2662;
+                         break;
+                  
+                  
+                  case 2664 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2659;
+                         break;
+                  
+                  
+                  case 2665 :
+                    if (curChar == 102)
+                    jjCheckNAddStates(44
+                    , 54
+                    );
+                         break;
+                  
+                  
+                  case 2666 :
+                    if (curChar == 95)
+                    jjAddStates(1089, 1090);
+                         break;
+                  
+                  
+                  case 2667 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2667, 2669);
+                         break;
+                  
+                  
+                  case 2668 :
+                     if (curChar == 102  && kind > 10)
+                         kind = 10;
+                         break;
+                  
+                  
+                  case 2669 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2668;
+                         break;
+                  
+                  
+                  case 2670 :
+                    if (curChar == 95)
+                    jjAddStates(1091, 1092);
+                         break;
+                  
+                  
+                  case 2671 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2671, 2674);
+                         break;
+                  
+                  
+                  case 2672 :
+                     if (curChar == 97  && kind > 55)
+                         kind = 55;
+                         break;
+                  
+                  
+                  case 2673 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2672;
+                         break;
+                  
+                  
+                  case 2674 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2673;
+                         break;
+                  
+                  
+                  case 2675 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2670;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_17(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 2676 :
+                    if (curChar == 95)
+                    jjAddStates(1093, 1094);
+                         break;
+                  
+                  
+                  case 2677 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2677, 2680);
+                         break;
+                  
+                  
+                  case 2678 :
+                     if (curChar == 98  && kind > 56)
+                         kind = 56;
+                         break;
+                  
+                  
+                  case 2679 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2678;
+                         break;
+                  
+                  
+                  case 2680 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2679;
+                         break;
+                  
+                  
+                  case 2681 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2676;
+                         break;
+                  
+                  
+                  case 2682 :
+                    if (curChar == 95)
+                    jjAddStates(1095, 1096);
+                         break;
+                  
+                  
+                  case 2683 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2683, 2686);
+                         break;
+                  
+                  
+                  case 2684 :
+                     if (curChar == 99  && kind > 57)
+                         kind = 57;
+                         break;
+                  
+                  
+                  case 2685 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2684;
+                         break;
+                  
+                  
+                  case 2686 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2685;
+                         break;
+                  
+                  
+                  case 2687 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2682;
+                         break;
+                  
+                  
+                  case 2688 :
+                    if (curChar == 95)
+                    jjAddStates(1097, 1098);
+                         break;
+                  
+                  
+                  case 2689 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2689, 2692);
+                         break;
+                  
+                  
+                  case 2690 :
+                     if (curChar == 100  && kind > 58)
+                         kind = 58;
+                         break;
+                  
+                  
+                  case 2691 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2690;
+                         break;
+                  
+                  
+                  case 2692 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2691;
+                         break;
+                  
+                  
+                  case 2693 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2688;
+                         break;
+                  
+                  
+                  case 2694 :
+                    if (curChar == 95)
+                    jjAddStates(1099, 1100);
+                         break;
+                  
+                  
+                  case 2695 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2695, 2698);
+                         break;
+                  
+                  
+                  case 2696 :
+                     if (curChar == 101  && kind > 59)
+                         kind = 59;
+                         break;
+                  
+                  
+                  case 2697 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2696;
+                         break;
+                  
+                  
+                  case 2698 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2697;
+                         break;
+                  
+                  
+                  case 2699 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2694;
+                         break;
+                  
+                  
+                  case 2700 :
+                    if (curChar == 95)
+                    jjAddStates(1101, 1102);
+                         break;
+                  
+                  
+                  case 2701 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2701, 2704);
+                         break;
+                  
+                  
+                  case 2702 :
+                     if (curChar == 102  && kind > 60)
+                         kind = 60;
+                         break;
+                  
+                  
+                  case 2703 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2702;
+                         break;
+                  
+                  
+                  case 2704 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2703;
+                         break;
+                  
+                  
+                  case 2705 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2700;
+                         break;
+                  
+                  
+                  case 2706 :
+                    if (curChar == 95)
+                    jjAddStates(1103, 1104);
+                         break;
+                  
+                  
+                  case 2707 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2707, 2710);
+                         break;
+                  
+                  
+                  case 2708 :
+                     if (curChar == 103  && kind > 61)
+                         kind = 61;
+                         break;
+                  
+                  
+                  case 2709 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2708;
+                         break;
+                  
+                  
+                  case 2710 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2709;
+                         break;
+                  
+                  
+                  case 2711 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2706;
+                         break;
+                  
+                  
+                  case 2712 :
+                    if (curChar == 95)
+                    jjAddStates(1105, 1106);
+                         break;
+                  
+                  
+                  case 2713 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2713, 2716);
+                         break;
+                  
+                  
+                  case 2714 :
+                     if (curChar == 104  && kind > 62)
+                         kind = 62;
+                         break;
+                  
+                  
+                  case 2715 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2714;
+                         break;
+                  
+                  
+                  case 2716 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2715;
+                         break;
+                  
+                  
+                  case 2717 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2712;
+                         break;
+                  
+                  
+                  case 2718 :
+                    if (curChar == 95)
+                    jjAddStates(1107, 1108);
+                         break;
+                  
+                  
+                  case 2719 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2719, 2722);
+                         break;
+                  
+                  
+                  case 2720 :
+                     if (curChar == 105  && kind > 63)
+                         kind = 63;
+                         break;
+                  
+                  
+                  case 2721 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2720;
+                         break;
+                  
+                  
+                  case 2722 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2721;
+                         break;
+                  
+                  
+                  case 2723 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2718;
+                         break;
+                  
+                  
+                  case 2724 :
+                    if (curChar == 95)
+                    jjAddStates(1109, 1110);
+                         break;
+                  
+                  
+                  case 2725 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2725, 2728);
+                         break;
+                  
+                  
+                  case 2726 :
+                     if (curChar == 106  && kind > 64)
+                         kind = 64;
+                         break;
+                  
+                  
+                  case 2727 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2726;
+                         break;
+                  
+                  
+                  case 2728 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2727;
+                         break;
+                  
+                  
+                  case 2729 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2724;
+                         break;
+                  
+                  
+                  case 2730 :
+                    if (curChar == 103)
+                    jjCheckNAddStates(33
+                    , 43
+                    );
+                         break;
+                  
+                  
+                  case 2731 :
+                    if (curChar == 95)
+                    jjAddStates(1111, 1112);
+                         break;
+                  
+                  
+                  case 2732 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2732, 2734);
+                         break;
+                  
+                  
+                  case 2733 :
+                     if (curChar == 103  && kind > 11)
+                         kind = 11;
+                         break;
+                  
+                  
+                  case 2734 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2733;
+                         break;
+                  
+                  
+                  case 2735 :
+                    if (curChar == 95)
+                    jjAddStates(1113, 1114);
+                         break;
+                  
+                  
+                  case 2736 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2736, 2739);
+                         break;
+                  
+                  
+                  case 2737 :
+                     if (curChar == 97  && kind > 65)
+                         kind = 65;
+                         break;
+                  
+                  
+                  case 2738 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2737;
+                         break;
+                  
+                  
+                  case 2739 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2738;
+                         break;
+                  
+                  
+                  case 2740 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2735;
+                         break;
+                  
+                  
+                  case 2741 :
+                    if (curChar == 95)
+                    jjAddStates(1115, 1116);
+                         break;
+                  
+                  
+                  case 2742 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2742, 2745);
+                         break;
+                  
+                  
+                  case 2743 :
+                     if (curChar == 98  && kind > 66)
+                         kind = 66;
+                         break;
+                  
+                  
+                  case 2744 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2743;
+                         break;
+                  
+                  
+                  case 2745 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2744;
+                         break;
+                  
+                  
+                  case 2746 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2741;
+                         break;
+                  
+                  
+                  case 2747 :
+                    if (curChar == 95)
+                    jjAddStates(1117, 1118);
+                         break;
+                  
+                  
+                  case 2748 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2748, 2751);
+                         break;
+                  
+                  
+                  case 2749 :
+                     if (curChar == 99  && kind > 67)
+                         kind = 67;
+                         break;
+                  
+                  
+                  case 2750 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2749;
+                         break;
+                  
+                  
+                  case 2751 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2750;
+                         break;
+                  
+                  
+                  case 2752 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2747;
+                         break;
+                  
+                  
+                  case 2753 :
+                    if (curChar == 95)
+                    jjAddStates(1119, 1120);
+                         break;
+                  
+                  
+                  case 2754 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2754, 2757);
+                         break;
+                  
+                  
+                  case 2755 :
+                     if (curChar == 100  && kind > 68)
+                         kind = 68;
+                         break;
+                  
+                  
+                  case 2756 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2755;
+                         break;
+                  
+                  
+                  case 2757 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2756;
+                         break;
+                  
+                  
+                  case 2758 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2753;
+                         break;
+                  
+                  
+                  case 2759 :
+                    if (curChar == 95)
+                    jjAddStates(1121, 1122);
+                         break;
+                  
+                  
+                  case 2760 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2760, 2763);
+                         break;
+                  
+                  
+                  case 2761 :
+                     if (curChar == 101  && kind > 69)
+                         kind = 69;
+                         break;
+                  
+                  
+                  case 2762 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2761;
+                         break;
+                  
+                  
+                  case 2763 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2762;
+                         break;
+                  
+                  
+                  case 2764 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2759;
+                         break;
+                  
+                  
+                  case 2765 :
+                    if (curChar == 95)
+                    jjAddStates(1123, 1124);
+                         break;
+                  
+                  
+                  case 2766 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2766, 2769);
+                         break;
+                  
+                  
+                  case 2767 :
+                     if (curChar == 102  && kind > 70)
+                         kind = 70;
+                         break;
+                  
+                  
+                  case 2768 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2767;
+                         break;
+                  
+                  
+                  case 2769 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2768;
+                         break;
+                  
+                  
+                  case 2770 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2765;
+                         break;
+                  
+                  
+                  case 2771 :
+                    if (curChar == 95)
+                    jjAddStates(1125, 1126);
+                         break;
+                  
+                  
+                  case 2772 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2772, 2775);
+                         break;
+                  
+                  
+                  case 2773 :
+                     if (curChar == 103  && kind > 71)
+                         kind = 71;
+                         break;
+                  
+                  
+                  case 2774 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2773;
+                         break;
+                  
+                  
+                  case 2775 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2774;
+                         break;
+                  
+                  
+                  case 2776 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2771;
+                         break;
+                  
+                  
+                  case 2777 :
+                    if (curChar == 95)
+                    jjAddStates(1127, 1128);
+                         break;
+                  
+                  
+                  case 2778 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2778, 2781);
+                         break;
+                  
+                  
+                  case 2779 :
+                     if (curChar == 104  && kind > 72)
+                         kind = 72;
+                         break;
+                  
+                  
+                  case 2780 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2779;
+                         break;
+                  
+                  
+                  case 2781 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2780;
+                         break;
+                  
+                  
+                  case 2782 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2777;
+                         break;
+                  
+                  
+                  case 2783 :
+                    if (curChar == 95)
+                    jjAddStates(1129, 1130);
+                         break;
+                  
+                  
+                  case 2784 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2784, 2787);
+                         break;
+                  
+                  
+                  case 2785 :
+                     if (curChar == 105  && kind > 73)
+                         kind = 73;
+                         break;
+                  
+                  
+                  case 2786 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2785;
+                         break;
+                  
+                  
+                  case 2787 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2786;
+                         break;
+                  
+                  
+                  case 2788 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2783;
+                         break;
+                  
+                  
+                  case 2789 :
+                    if (curChar == 95)
+                    jjAddStates(1131, 1132);
+                         break;
+                  
+                  
+                  case 2790 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2790, 2793);
+                         break;
+                  
+                  
+                  case 2791 :
+                     if (curChar == 106  && kind > 74)
+                         kind = 74;
+                         break;
+                  
+                  
+                  case 2792 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2791;
+                         break;
+                  
+                  
+                  case 2793 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2792;
+                         break;
+                  
+                  
+                  case 2794 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2789;
+                         break;
+                  
+                  
+                  case 2795 :
+                    if (curChar == 104)
+                    jjCheckNAddStates(22
+                    , 32
+                    );
+                         break;
+                  
+                  
+                  case 2796 :
+                    if (curChar == 95)
+                    jjAddStates(1133, 1134);
+                         break;
+                  
+                  
+                  case 2797 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2797, 2799);
+                         break;
+                  
+                  
+                  case 2798 :
+                     if (curChar == 104  && kind > 12)
+                         kind = 12;
+                         break;
+                  
+                  
+                  case 2799 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2798;
+                         break;
+                  
+                  
+                  case 2800 :
+                    if (curChar == 95)
+                    jjAddStates(1135, 1136);
+                         break;
+                  
+                  
+                  case 2801 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2801, 2804);
+                         break;
+                  
+                  
+                  case 2802 :
+                     if (curChar == 97  && kind > 75)
+                         kind = 75;
+                         break;
+                  
+                  
+                  case 2803 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2802;
+                         break;
+                  
+                  
+                  case 2804 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2803;
+                         break;
+                  
+                  
+                  case 2805 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2800;
+                         break;
+                  
+                  
+                  case 2806 :
+                    if (curChar == 95)
+                    jjAddStates(1137, 1138);
+                         break;
+                  
+                  
+                  case 2807 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2807, 2810);
+                         break;
+                  
+                  
+                  case 2808 :
+                     if (curChar == 98  && kind > 76)
+                         kind = 76;
+                         break;
+                  
+                  
+                  case 2809 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2808;
+                         break;
+                  
+                  
+                  case 2810 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2809;
+                         break;
+                  
+                  
+                  case 2811 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2806;
+                         break;
+                  
+                  
+                  case 2812 :
+                    if (curChar == 95)
+                    jjAddStates(1139, 1140);
+                         break;
+                  
+                  
+                  case 2813 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2813, 2816);
+                         break;
+                  
+                  
+                  case 2814 :
+                     if (curChar == 99  && kind > 77)
+                         kind = 77;
+                         break;
+                  
+                  
+                  case 2815 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2814;
+                         break;
+                  
+                  
+                  case 2816 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2815;
+                         break;
+                  
+                  
+                  case 2817 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2812;
+                         break;
+                  
+                  
+                  case 2818 :
+                    if (curChar == 95)
+                    jjAddStates(1141, 1142);
+                         break;
+                  
+                  
+                  case 2819 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2819, 2822);
+                         break;
+                  
+                  
+                  case 2820 :
+                     if (curChar == 100  && kind > 78)
+                         kind = 78;
+                         break;
+                  
+                  
+                  case 2821 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2820;
+                         break;
+                  
+                  
+                  case 2822 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2821;
+                         break;
+                  
+                  
+                  case 2823 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2818;
+                         break;
+                  
+                  
+                  case 2824 :
+                    if (curChar == 95)
+                    jjAddStates(1143, 1144);
+                         break;
+                  
+                  
+                  case 2825 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2825, 2828);
+                         break;
+                  
+                  
+                  case 2826 :
+                     if (curChar == 101  && kind > 79)
+                         kind = 79;
+                         break;
+                  
+                  
+                  case 2827 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2826;
+                         break;
+                  
+                  
+                  case 2828 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2827;
+                         break;
+                  
+                  
+                  case 2829 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2824;
+                         break;
+                  
+                  
+                  case 2830 :
+                    if (curChar == 95)
+                    jjAddStates(1145, 1146);
+                         break;
+                  
+                  
+                  case 2831 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2831, 2834);
+                         break;
+                  
+                  
+                  case 2832 :
+                     if (curChar == 102  && kind > 80)
+                         kind = 80;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaAsciiHigh_18(int state, long l, int kind) {
+        switch (state) {
+                              
+                  
+                  case 2833 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2832;
+                         break;
+                  
+                  
+                  case 2834 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2833;
+                         break;
+                  
+                  
+                  case 2835 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2830;
+                         break;
+                  
+                  
+                  case 2836 :
+                    if (curChar == 95)
+                    jjAddStates(1147, 1148);
+                         break;
+                  
+                  
+                  case 2837 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2837, 2840);
+                         break;
+                  
+                  
+                  case 2838 :
+                     if (curChar == 103  && kind > 81)
+                         kind = 81;
+                         break;
+                  
+                  
+                  case 2839 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2838;
+                         break;
+                  
+                  
+                  case 2840 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2839;
+                         break;
+                  
+                  
+                  case 2841 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2836;
+                         break;
+                  
+                  
+                  case 2842 :
+                    if (curChar == 95)
+                    jjAddStates(1149, 1150);
+                         break;
+                  
+                  
+                  case 2843 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2843, 2846);
+                         break;
+                  
+                  
+                  case 2844 :
+                     if (curChar == 104  && kind > 82)
+                         kind = 82;
+                         break;
+                  
+                  
+                  case 2845 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2844;
+                         break;
+                  
+                  
+                  case 2846 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2845;
+                         break;
+                  
+                  
+                  case 2847 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2842;
+                         break;
+                  
+                  
+                  case 2848 :
+                    if (curChar == 95)
+                    jjAddStates(1151, 1152);
+                         break;
+                  
+                  
+                  case 2849 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2849, 2852);
+                         break;
+                  
+                  
+                  case 2850 :
+                     if (curChar == 105  && kind > 83)
+                         kind = 83;
+                         break;
+                  
+                  
+                  case 2851 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2850;
+                         break;
+                  
+                  
+                  case 2852 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2851;
+                         break;
+                  
+                  
+                  case 2853 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2848;
+                         break;
+                  
+                  
+                  case 2854 :
+                    if (curChar == 95)
+                    jjAddStates(1153, 1154);
+                         break;
+                  
+                  
+                  case 2855 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2855, 2858);
+                         break;
+                  
+                  
+                  case 2856 :
+                     if (curChar == 106  && kind > 84)
+                         kind = 84;
+                         break;
+                  
+                  
+                  case 2857 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2856;
+                         break;
+                  
+                  
+                  case 2858 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2857;
+                         break;
+                  
+                  
+                  case 2859 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2854;
+                         break;
+                  
+                  
+                  case 2860 :
+                    if (curChar == 105)
+                    jjCheckNAddStates(11
+                    , 21
+                    );
+                         break;
+                  
+                  
+                  case 2861 :
+                    if (curChar == 95)
+                    jjAddStates(1155, 1156);
+                         break;
+                  
+                  
+                  case 2862 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2862, 2864);
+                         break;
+                  
+                  
+                  case 2863 :
+                     if (curChar == 105  && kind > 13)
+                         kind = 13;
+                         break;
+                  
+                  
+                  case 2864 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2863;
+                         break;
+                  
+                  
+                  case 2865 :
+                    if (curChar == 95)
+                    jjAddStates(1157, 1158);
+                         break;
+                  
+                  
+                  case 2866 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2866, 2869);
+                         break;
+                  
+                  
+                  case 2867 :
+                     if (curChar == 97  && kind > 85)
+                         kind = 85;
+                         break;
+                  
+                  
+                  case 2868 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2867;
+                         break;
+                  
+                  
+                  case 2869 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2868;
+                         break;
+                  
+                  
+                  case 2870 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2865;
+                         break;
+                  
+                  
+                  case 2871 :
+                    if (curChar == 95)
+                    jjAddStates(1159, 1160);
+                         break;
+                  
+                  
+                  case 2872 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2872, 2875);
+                         break;
+                  
+                  
+                  case 2873 :
+                     if (curChar == 98  && kind > 86)
+                         kind = 86;
+                         break;
+                  
+                  
+                  case 2874 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2873;
+                         break;
+                  
+                  
+                  case 2875 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2874;
+                         break;
+                  
+                  
+                  case 2876 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2871;
+                         break;
+                  
+                  
+                  case 2877 :
+                    if (curChar == 95)
+                    jjAddStates(1161, 1162);
+                         break;
+                  
+                  
+                  case 2878 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2878, 2881);
+                         break;
+                  
+                  
+                  case 2879 :
+                     if (curChar == 99  && kind > 87)
+                         kind = 87;
+                         break;
+                  
+                  
+                  case 2880 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2879;
+                         break;
+                  
+                  
+                  case 2881 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2880;
+                         break;
+                  
+                  
+                  case 2882 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2877;
+                         break;
+                  
+                  
+                  case 2883 :
+                    if (curChar == 95)
+                    jjAddStates(1163, 1164);
+                         break;
+                  
+                  
+                  case 2884 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2884, 2887);
+                         break;
+                  
+                  
+                  case 2885 :
+                     if (curChar == 100  && kind > 88)
+                         kind = 88;
+                         break;
+                  
+                  
+                  case 2886 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2885;
+                         break;
+                  
+                  
+                  case 2887 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2886;
+                         break;
+                  
+                  
+                  case 2888 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2883;
+                         break;
+                  
+                  
+                  case 2889 :
+                    if (curChar == 95)
+                    jjAddStates(1165, 1166);
+                         break;
+                  
+                  
+                  case 2890 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2890, 2893);
+                         break;
+                  
+                  
+                  case 2891 :
+                     if (curChar == 101  && kind > 89)
+                         kind = 89;
+                         break;
+                  
+                  
+                  case 2892 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2891;
+                         break;
+                  
+                  
+                  case 2893 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2892;
+                         break;
+                  
+                  
+                  case 2894 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2889;
+                         break;
+                  
+                  
+                  case 2895 :
+                    if (curChar == 95)
+                    jjAddStates(1167, 1168);
+                         break;
+                  
+                  
+                  case 2896 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2896, 2899);
+                         break;
+                  
+                  
+                  case 2897 :
+                     if (curChar == 102  && kind > 90)
+                         kind = 90;
+                         break;
+                  
+                  
+                  case 2898 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2897;
+                         break;
+                  
+                  
+                  case 2899 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2898;
+                         break;
+                  
+                  
+                  case 2900 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2895;
+                         break;
+                  
+                  
+                  case 2901 :
+                    if (curChar == 95)
+                    jjAddStates(1169, 1170);
+                         break;
+                  
+                  
+                  case 2902 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2902, 2905);
+                         break;
+                  
+                  
+                  case 2903 :
+                     if (curChar == 103  && kind > 91)
+                         kind = 91;
+                         break;
+                  
+                  
+                  case 2904 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2903;
+                         break;
+                  
+                  
+                  case 2905 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2904;
+                         break;
+                  
+                  
+                  case 2906 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2901;
+                         break;
+                  
+                  
+                  case 2907 :
+                    if (curChar == 95)
+                    jjAddStates(1171, 1172);
+                         break;
+                  
+                  
+                  case 2908 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2908, 2911);
+                         break;
+                  
+                  
+                  case 2909 :
+                     if (curChar == 104  && kind > 92)
+                         kind = 92;
+                         break;
+                  
+                  
+                  case 2910 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2909;
+                         break;
+                  
+                  
+                  case 2911 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2910;
+                         break;
+                  
+                  
+                  case 2912 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2907;
+                         break;
+                  
+                  
+                  case 2913 :
+                    if (curChar == 95)
+                    jjAddStates(1173, 1174);
+                         break;
+                  
+                  
+                  case 2914 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2914, 2917);
+                         break;
+                  
+                  
+                  case 2915 :
+                     if (curChar == 105  && kind > 93)
+                         kind = 93;
+                         break;
+                  
+                  
+                  case 2916 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2915;
+                         break;
+                  
+                  
+                  case 2917 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2916;
+                         break;
+                  
+                  
+                  case 2918 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2913;
+                         break;
+                  
+                  
+                  case 2919 :
+                    if (curChar == 95)
+                    jjAddStates(1175, 1176);
+                         break;
+                  
+                  
+                  case 2920 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2920, 2923);
+                         break;
+                  
+                  
+                  case 2921 :
+                     if (curChar == 106  && kind > 94)
+                         kind = 94;
+                         break;
+                  
+                  
+                  case 2922 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2921;
+                         break;
+                  
+                  
+                  case 2923 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2922;
+                         break;
+                  
+                  
+                  case 2924 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2919;
+                         break;
+                  
+                  
+                  case 2925 :
+                    if (curChar == 106)
+                    jjCheckNAddStates(0
+                    , 10
+                    );
+                         break;
+                  
+                  
+                  case 2926 :
+                    if (curChar == 95)
+                    jjAddStates(1177, 1178);
+                         break;
+                  
+                  
+                  case 2927 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2927, 2929);
+                         break;
+                  
+                  
+                  case 2928 :
+                     if (curChar == 106  && kind > 14)
+                         kind = 14;
+                         break;
+                  
+                  
+                  case 2929 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2928;
+                         break;
+                  
+                  
+                  case 2930 :
+                    if (curChar == 95)
+                    jjAddStates(1179, 1180);
+                         break;
+                  
+                  
+                  case 2931 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2931, 2934);
+                         break;
+                  
+                  
+                  case 2932 :
+                     if (curChar == 97  && kind > 95)
+                         kind = 95;
+                         break;
+                  
+                  
+                  case 2933 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2932;
+                         break;
+                  
+                  
+                  case 2934 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2933;
+                         break;
+                  
+                  
+                  case 2935 :
+                    if (curChar == 97)
+                    jjstateSet[jjnewStateCnt++] = 2930;
+                         break;
+                  
+                  
+                  case 2936 :
+                    if (curChar == 95)
+                    jjAddStates(1181, 1182);
+                         break;
+                  
+                  
+                  case 2937 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2937, 2940);
+                         break;
+                  
+                  
+                  case 2938 :
+                     if (curChar == 98  && kind > 96)
+                         kind = 96;
+                         break;
+                  
+                  
+                  case 2939 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2938;
+                         break;
+                  
+                  
+                  case 2940 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2939;
+                         break;
+                  
+                  
+                  case 2941 :
+                    if (curChar == 98)
+                    jjstateSet[jjnewStateCnt++] = 2936;
+                         break;
+                  
+                  
+                  case 2942 :
+                    if (curChar == 95)
+                    jjAddStates(1183, 1184);
+                         break;
+                  
+                  
+                  case 2943 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2943, 2946);
+                         break;
+                  
+                  
+                  case 2944 :
+                     if (curChar == 99  && kind > 97)
+                         kind = 97;
+                         break;
+                  
+                  
+                  case 2945 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2944;
+                         break;
+                  
+                  
+                  case 2946 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2945;
+                         break;
+                  
+                  
+                  case 2947 :
+                    if (curChar == 99)
+                    jjstateSet[jjnewStateCnt++] = 2942;
+                         break;
+                  
+                  
+                  case 2948 :
+                    if (curChar == 95)
+                    jjAddStates(1185, 1186);
+                         break;
+                  
+                  
+                  case 2949 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2949, 2952);
+                         break;
+                  
+                  
+                  case 2950 :
+                     if (curChar == 100  && kind > 98)
+                         kind = 98;
+                         break;
+                  
+                  
+                  case 2951 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2950;
+                         break;
+                  
+                  
+                  case 2952 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2951;
+                         break;
+                  
+                  
+                  case 2953 :
+                    if (curChar == 100)
+                    jjstateSet[jjnewStateCnt++] = 2948;
+                         break;
+                  
+                  
+                  case 2954 :
+                    if (curChar == 95)
+                    jjAddStates(1187, 1188);
+                         break;
+                  
+                  
+                  case 2955 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2955, 2958);
+                         break;
+                  
+                  
+                  case 2956 :
+                     if (curChar == 101  && kind > 99)
+                         kind = 99;
+                         break;
+                  
+                  
+                  case 2957 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2956;
+                         break;
+                  
+                  
+                  case 2958 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2957;
+                         break;
+                  
+                  
+                  case 2959 :
+                    if (curChar == 101)
+                    jjstateSet[jjnewStateCnt++] = 2954;
+                         break;
+                  
+                  
+                  case 2960 :
+                    if (curChar == 95)
+                    jjAddStates(1189, 1190);
+                         break;
+                  
+                  
+                  case 2961 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2961, 2964);
+                         break;
+                  
+                  
+                  case 2962 :
+                     if (curChar == 102  && kind > 100)
+                         kind = 100;
+                         break;
+                  
+                  
+                  case 2963 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2962;
+                         break;
+                  
+                  
+                  case 2964 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2963;
+                         break;
+                  
+                  
+                  case 2965 :
+                    if (curChar == 102)
+                    jjstateSet[jjnewStateCnt++] = 2960;
+                         break;
+                  
+                  
+                  case 2966 :
+                    if (curChar == 95)
+                    jjAddStates(1191, 1192);
+                         break;
+                  
+                  
+                  case 2967 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2967, 2970);
+                         break;
+                  
+                  
+                  case 2968 :
+                     if (curChar == 103  && kind > 101)
+                         kind = 101;
+                         break;
+                  
+                  
+                  case 2969 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2968;
+                         break;
+                  
+                  
+                  case 2970 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2969;
+                         break;
+                  
+                  
+                  case 2971 :
+                    if (curChar == 103)
+                    jjstateSet[jjnewStateCnt++] = 2966;
+                         break;
+                  
+                  
+                  case 2972 :
+                    if (curChar == 95)
+                    jjAddStates(1193, 1194);
+                         break;
+                  
+                  
+                  case 2973 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2973, 2976);
+                         break;
+                  
+                  
+                  case 2974 :
+                     if (curChar == 104  && kind > 102)
+                         kind = 102;
+                         break;
+                  
+                  
+                  case 2975 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2974;
+                         break;
+                  
+                  
+                  case 2976 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2975;
+                         break;
+                  
+                  
+                  case 2977 :
+                    if (curChar == 104)
+                    jjstateSet[jjnewStateCnt++] = 2972;
+                         break;
+                  
+                  
+                  case 2978 :
+                    if (curChar == 95)
+                    jjAddStates(1195, 1196);
+                         break;
+                  
+                  
+                  case 2979 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2979, 2982);
+                         break;
+                  
+                  
+                  case 2980 :
+                     if (curChar == 105  && kind > 103)
+                         kind = 103;
+                         break;
+                  
+                  
+                  case 2981 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2980;
+                         break;
+                  
+                  
+                  case 2982 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2981;
+                         break;
+                  
+                  
+                  case 2983 :
+                    if (curChar == 105)
+                    jjstateSet[jjnewStateCnt++] = 2978;
+                         break;
+                  
+                  
+                  case 2984 :
+                    if (curChar == 95)
+                    jjAddStates(1197, 1198);
+                         break;
+                  
+                  
+                  case 2985 :
+                    if ((0x7fffffe00000000L & l) != 0L)
+                    jjCheckNAddTwoStates(2985, 2988);
+                         break;
+                  
+                  
+                  case 2986 :
+                     if (curChar == 106  && kind > 104)
+                         kind = 104;
+                         break;
+                  
+                  
+                  case 2987 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2986;
+                         break;
+                  
+                  
+                  case 2988 :
+                    if (curChar == 95)
+                    jjstateSet[jjnewStateCnt++] = 2987;
+                         break;
+                  
+                  
+                  case 2989 :
+                    if (curChar == 106)
+                    jjstateSet[jjnewStateCnt++] = 2984;
+                         break;
+
+            default : break;
+        }
+        return kind;
+    }
+
+    private int jjMoveNfaNonAscii(int i, int startsAt, int kind) {
+            int hiByte = (int)(curChar >> 8);
+            int i1 = hiByte >> 6;
+            long l1 = 1L << (hiByte & 077);
+            int i2 = (curChar & 0xff) >> 6;
+            long l2 = 1L << (curChar & 077);
+            do {
+                switch (jjstateSet[--i]) {
+                              
+          
+          
+          
+          
+          
+          
+          
+          
+          
+
+                    default : break;
+                }
+            } while (i != startsAt);
+        return kind;
+    }
+
+
+  static final int[] jjnextStates = {
+        
+    
+        2926, 
+        
+        2935, 
+        
+        2941, 
+        
+        2947, 
+        
+        2953, 
+        
+        2959, 
+        
+        2965, 
+        
+        2971, 
+        
+        2977, 
+        
+        2983, 
+        
+        2989, 
+        
+        2861, 
+        
+        2870, 
+        
+        2876, 
+        
+        2882, 
+        
+        2888, 
+        
+    
+        2894, 
+        
+        2900, 
+        
+        2906, 
+        
+        2912, 
+        
+        2918, 
+        
+        2924, 
+        
+        2796, 
+        
+        2805, 
+        
+        2811, 
+        
+        2817, 
+        
+        2823, 
+        
+        2829, 
+        
+        2835, 
+        
+        2841, 
+        
+        2847, 
+        
+        2853, 
+        
+    
+        2859, 
+        
+        2731, 
+        
+        2740, 
+        
+        2746, 
+        
+        2752, 
+        
+        2758, 
+        
+        2764, 
+        
+        2770, 
+        
+        2776, 
+        
+        2782, 
+        
+        2788, 
+        
+        2794, 
+        
+        2666, 
+        
+        2675, 
+        
+        2681, 
+        
+        2687, 
+        
+    
+        2693, 
+        
+        2699, 
+        
+        2705, 
+        
+        2711, 
+        
+        2717, 
+        
+        2723, 
+        
+        2729, 
+        
+        2601, 
+        
+        2610, 
+        
+        2616, 
+        
+        2622, 
+        
+        2628, 
+        
+        2634, 
+        
+        2640, 
+        
+        2646, 
+        
+        2652, 
+        
+    
+        2658, 
+        
+        2664, 
+        
+        1736, 
+        
+        1745, 
+        
+        1751, 
+        
+        1757, 
+        
+        1763, 
+        
+        1769, 
+        
+        1775, 
+        
+        1781, 
+        
+        1787, 
+        
+        1793, 
+        
+        1799, 
+        
+        1807, 
+        
+        1815, 
+        
+        1823, 
+        
+    
+        1831, 
+        
+        1839, 
+        
+        1847, 
+        
+        1855, 
+        
+        1863, 
+        
+        1871, 
+        
+        1879, 
+        
+        1887, 
+        
+        1895, 
+        
+        1903, 
+        
+        1911, 
+        
+        1919, 
+        
+        1927, 
+        
+        1935, 
+        
+        1943, 
+        
+        1951, 
+        
+    
+        1959, 
+        
+        1967, 
+        
+        1975, 
+        
+        1983, 
+        
+        1991, 
+        
+        1999, 
+        
+        2007, 
+        
+        2015, 
+        
+        2023, 
+        
+        2031, 
+        
+        2039, 
+        
+        2047, 
+        
+        2055, 
+        
+        2063, 
+        
+        2071, 
+        
+        2079, 
+        
+    
+        2087, 
+        
+        2095, 
+        
+        2103, 
+        
+        2111, 
+        
+        2119, 
+        
+        2127, 
+        
+        2135, 
+        
+        2143, 
+        
+        2151, 
+        
+        2159, 
+        
+        2167, 
+        
+        2175, 
+        
+        2183, 
+        
+        2191, 
+        
+        2199, 
+        
+        2207, 
+        
+    
+        2215, 
+        
+        2223, 
+        
+        2231, 
+        
+        2239, 
+        
+        2247, 
+        
+        2255, 
+        
+        2263, 
+        
+        2271, 
+        
+        2279, 
+        
+        2287, 
+        
+        2295, 
+        
+        2303, 
+        
+        2311, 
+        
+        2319, 
+        
+        2327, 
+        
+        2335, 
+        
+    
+        2343, 
+        
+        2351, 
+        
+        2359, 
+        
+        2367, 
+        
+        2375, 
+        
+        2383, 
+        
+        2391, 
+        
+        2399, 
+        
+        2407, 
+        
+        2415, 
+        
+        2423, 
+        
+        2431, 
+        
+        2439, 
+        
+        2447, 
+        
+        2455, 
+        
+        2463, 
+        
+    
+        2471, 
+        
+        2479, 
+        
+        2487, 
+        
+        2495, 
+        
+        2503, 
+        
+        2511, 
+        
+        2519, 
+        
+        2527, 
+        
+        2535, 
+        
+        2543, 
+        
+        2551, 
+        
+        2559, 
+        
+        2567, 
+        
+        2575, 
+        
+        2583, 
+        
+        2591, 
+        
+    
+        2599, 
+        
+        871, 
+        
+        880, 
+        
+        886, 
+        
+        892, 
+        
+        898, 
+        
+        904, 
+        
+        910, 
+        
+        916, 
+        
+        922, 
+        
+        928, 
+        
+        934, 
+        
+        942, 
+        
+        950, 
+        
+        958, 
+        
+        966, 
+        
+    
+        974, 
+        
+        982, 
+        
+        990, 
+        
+        998, 
+        
+        1006, 
+        
+        1014, 
+        
+        1022, 
+        
+        1030, 
+        
+        1038, 
+        
+        1046, 
+        
+        1054, 
+        
+        1062, 
+        
+        1070, 
+        
+        1078, 
+        
+        1086, 
+        
+        1094, 
+        
+    
+        1102, 
+        
+        1110, 
+        
+        1118, 
+        
+        1126, 
+        
+        1134, 
+        
+        1142, 
+        
+        1150, 
+        
+        1158, 
+        
+        1166, 
+        
+        1174, 
+        
+        1182, 
+        
+        1190, 
+        
+        1198, 
+        
+        1206, 
+        
+        1214, 
+        
+        1222, 
+        
+    
+        1230, 
+        
+        1238, 
+        
+        1246, 
+        
+        1254, 
+        
+        1262, 
+        
+        1270, 
+        
+        1278, 
+        
+        1286, 
+        
+        1294, 
+        
+        1302, 
+        
+        1310, 
+        
+        1318, 
+        
+        1326, 
+        
+        1334, 
+        
+        1342, 
+        
+        1350, 
+        
+    
+        1358, 
+        
+        1366, 
+        
+        1374, 
+        
+        1382, 
+        
+        1390, 
+        
+        1398, 
+        
+        1406, 
+        
+        1414, 
+        
+        1422, 
+        
+        1430, 
+        
+        1438, 
+        
+        1446, 
+        
+        1454, 
+        
+        1462, 
+        
+        1470, 
+        
+        1478, 
+        
+    
+        1486, 
+        
+        1494, 
+        
+        1502, 
+        
+        1510, 
+        
+        1518, 
+        
+        1526, 
+        
+        1534, 
+        
+        1542, 
+        
+        1550, 
+        
+        1558, 
+        
+        1566, 
+        
+        1574, 
+        
+        1582, 
+        
+        1590, 
+        
+        1598, 
+        
+        1606, 
+        
+    
+        1614, 
+        
+        1622, 
+        
+        1630, 
+        
+        1638, 
+        
+        1646, 
+        
+        1654, 
+        
+        1662, 
+        
+        1670, 
+        
+        1678, 
+        
+        1686, 
+        
+        1694, 
+        
+        1702, 
+        
+        1710, 
+        
+        1718, 
+        
+        1726, 
+        
+        1734, 
+        
+    
+        6, 
+        
+        15, 
+        
+        21, 
+        
+        27, 
+        
+        33, 
+        
+        39, 
+        
+        45, 
+        
+        51, 
+        
+        57, 
+        
+        63, 
+        
+        69, 
+        
+        77, 
+        
+        85, 
+        
+        93, 
+        
+        101, 
+        
+        109, 
+        
+    
+        117, 
+        
+        125, 
+        
+        133, 
+        
+        141, 
+        
+        149, 
+        
+        157, 
+        
+        165, 
+        
+        173, 
+        
+        181, 
+        
+        189, 
+        
+        197, 
+        
+        205, 
+        
+        213, 
+        
+        221, 
+        
+        229, 
+        
+        237, 
+        
+    
+        245, 
+        
+        253, 
+        
+        261, 
+        
+        269, 
+        
+        277, 
+        
+        285, 
+        
+        293, 
+        
+        301, 
+        
+        309, 
+        
+        317, 
+        
+        325, 
+        
+        333, 
+        
+        341, 
+        
+        349, 
+        
+        357, 
+        
+        365, 
+        
+    
+        373, 
+        
+        381, 
+        
+        389, 
+        
+        397, 
+        
+        405, 
+        
+        413, 
+        
+        421, 
+        
+        429, 
+        
+        437, 
+        
+        445, 
+        
+        453, 
+        
+        461, 
+        
+        469, 
+        
+        477, 
+        
+        485, 
+        
+        493, 
+        
+    
+        501, 
+        
+        509, 
+        
+        517, 
+        
+        525, 
+        
+        533, 
+        
+        541, 
+        
+        549, 
+        
+        557, 
+        
+        565, 
+        
+        573, 
+        
+        581, 
+        
+        589, 
+        
+        597, 
+        
+        605, 
+        
+        613, 
+        
+        621, 
+        
+    
+        629, 
+        
+        637, 
+        
+        645, 
+        
+        653, 
+        
+        661, 
+        
+        669, 
+        
+        677, 
+        
+        685, 
+        
+        693, 
+        
+        701, 
+        
+        709, 
+        
+        717, 
+        
+        725, 
+        
+        733, 
+        
+        741, 
+        
+        749, 
+        
+    
+        757, 
+        
+        765, 
+        
+        773, 
+        
+        781, 
+        
+        789, 
+        
+        797, 
+        
+        805, 
+        
+        813, 
+        
+        821, 
+        
+        829, 
+        
+        837, 
+        
+        845, 
+        
+        853, 
+        
+        861, 
+        
+        869, 
+        
+        1, 
+        
+    
+        3, 
+        
+        7, 
+        
+        9, 
+        
+        11, 
+        
+        14, 
+        
+        17, 
+        
+        20, 
+        
+        23, 
+        
+        26, 
+        
+        29, 
+        
+        32, 
+        
+        35, 
+        
+        38, 
+        
+        41, 
+        
+        44, 
+        
+        47, 
+        
+    
+        50, 
+        
+        53, 
+        
+        56, 
+        
+        59, 
+        
+        62, 
+        
+        65, 
+        
+        68, 
+        
+        71, 
+        
+        75, 
+        
+        79, 
+        
+        83, 
+        
+        87, 
+        
+        91, 
+        
+        95, 
+        
+        99, 
+        
+        103, 
+        
+    
+        107, 
+        
+        111, 
+        
+        115, 
+        
+        119, 
+        
+        123, 
+        
+        127, 
+        
+        131, 
+        
+        135, 
+        
+        139, 
+        
+        143, 
+        
+        147, 
+        
+        151, 
+        
+        155, 
+        
+        159, 
+        
+        163, 
+        
+        167, 
+        
+    
+        171, 
+        
+        175, 
+        
+        179, 
+        
+        183, 
+        
+        187, 
+        
+        191, 
+        
+        195, 
+        
+        199, 
+        
+        203, 
+        
+        207, 
+        
+        211, 
+        
+        215, 
+        
+        219, 
+        
+        223, 
+        
+        227, 
+        
+        231, 
+        
+    
+        235, 
+        
+        239, 
+        
+        243, 
+        
+        247, 
+        
+        251, 
+        
+        255, 
+        
+        259, 
+        
+        263, 
+        
+        267, 
+        
+        271, 
+        
+        275, 
+        
+        279, 
+        
+        283, 
+        
+        287, 
+        
+        291, 
+        
+        295, 
+        
+    
+        299, 
+        
+        303, 
+        
+        307, 
+        
+        311, 
+        
+        315, 
+        
+        319, 
+        
+        323, 
+        
+        327, 
+        
+        331, 
+        
+        335, 
+        
+        339, 
+        
+        343, 
+        
+        347, 
+        
+        351, 
+        
+        355, 
+        
+        359, 
+        
+    
+        363, 
+        
+        367, 
+        
+        371, 
+        
+        375, 
+        
+        379, 
+        
+        383, 
+        
+        387, 
+        
+        391, 
+        
+        395, 
+        
+        399, 
+        
+        403, 
+        
+        407, 
+        
+        411, 
+        
+        415, 
+        
+        419, 
+        
+        423, 
+        
+    
+        427, 
+        
+        431, 
+        
+        435, 
+        
+        439, 
+        
+        443, 
+        
+        447, 
+        
+        451, 
+        
+        455, 
+        
+        459, 
+        
+        463, 
+        
+        467, 
+        
+        471, 
+        
+        475, 
+        
+        479, 
+        
+        483, 
+        
+        487, 
+        
+    
+        491, 
+        
+        495, 
+        
+        499, 
+        
+        503, 
+        
+        507, 
+        
+        511, 
+        
+        515, 
+        
+        519, 
+        
+        523, 
+        
+        527, 
+        
+        531, 
+        
+        535, 
+        
+        539, 
+        
+        543, 
+        
+        547, 
+        
+        551, 
+        
+    
+        555, 
+        
+        559, 
+        
+        563, 
+        
+        567, 
+        
+        571, 
+        
+        575, 
+        
+        579, 
+        
+        583, 
+        
+        587, 
+        
+        591, 
+        
+        595, 
+        
+        599, 
+        
+        603, 
+        
+        607, 
+        
+        611, 
+        
+        615, 
+        
+    
+        619, 
+        
+        623, 
+        
+        627, 
+        
+        631, 
+        
+        635, 
+        
+        639, 
+        
+        643, 
+        
+        647, 
+        
+        651, 
+        
+        655, 
+        
+        659, 
+        
+        663, 
+        
+        667, 
+        
+        671, 
+        
+        675, 
+        
+        679, 
+        
+    
+        683, 
+        
+        687, 
+        
+        691, 
+        
+        695, 
+        
+        699, 
+        
+        703, 
+        
+        707, 
+        
+        711, 
+        
+        715, 
+        
+        719, 
+        
+        723, 
+        
+        727, 
+        
+        731, 
+        
+        735, 
+        
+        739, 
+        
+        743, 
+        
+    
+        747, 
+        
+        751, 
+        
+        755, 
+        
+        759, 
+        
+        763, 
+        
+        767, 
+        
+        771, 
+        
+        775, 
+        
+        779, 
+        
+        783, 
+        
+        787, 
+        
+        791, 
+        
+        795, 
+        
+        799, 
+        
+        803, 
+        
+        807, 
+        
+    
+        811, 
+        
+        815, 
+        
+        819, 
+        
+        823, 
+        
+        827, 
+        
+        831, 
+        
+        835, 
+        
+        839, 
+        
+        843, 
+        
+        847, 
+        
+        851, 
+        
+        855, 
+        
+        859, 
+        
+        863, 
+        
+        867, 
+        
+        872, 
+        
+    
+        874, 
+        
+        876, 
+        
+        879, 
+        
+        882, 
+        
+        885, 
+        
+        888, 
+        
+        891, 
+        
+        894, 
+        
+        897, 
+        
+        900, 
+        
+        903, 
+        
+        906, 
+        
+        909, 
+        
+        912, 
+        
+        915, 
+        
+        918, 
+        
+    
+        921, 
+        
+        924, 
+        
+        927, 
+        
+        930, 
+        
+        933, 
+        
+        936, 
+        
+        940, 
+        
+        944, 
+        
+        948, 
+        
+        952, 
+        
+        956, 
+        
+        960, 
+        
+        964, 
+        
+        968, 
+        
+        972, 
+        
+        976, 
+        
+    
+        980, 
+        
+        984, 
+        
+        988, 
+        
+        992, 
+        
+        996, 
+        
+        1000, 
+        
+        1004, 
+        
+        1008, 
+        
+        1012, 
+        
+        1016, 
+        
+        1020, 
+        
+        1024, 
+        
+        1028, 
+        
+        1032, 
+        
+        1036, 
+        
+        1040, 
+        
+    
+        1044, 
+        
+        1048, 
+        
+        1052, 
+        
+        1056, 
+        
+        1060, 
+        
+        1064, 
+        
+        1068, 
+        
+        1072, 
+        
+        1076, 
+        
+        1080, 
+        
+        1084, 
+        
+        1088, 
+        
+        1092, 
+        
+        1096, 
+        
+        1100, 
+        
+        1104, 
+        
+    
+        1108, 
+        
+        1112, 
+        
+        1116, 
+        
+        1120, 
+        
+        1124, 
+        
+        1128, 
+        
+        1132, 
+        
+        1136, 
+        
+        1140, 
+        
+        1144, 
+        
+        1148, 
+        
+        1152, 
+        
+        1156, 
+        
+        1160, 
+        
+        1164, 
+        
+        1168, 
+        
+    
+        1172, 
+        
+        1176, 
+        
+        1180, 
+        
+        1184, 
+        
+        1188, 
+        
+        1192, 
+        
+        1196, 
+        
+        1200, 
+        
+        1204, 
+        
+        1208, 
+        
+        1212, 
+        
+        1216, 
+        
+        1220, 
+        
+        1224, 
+        
+        1228, 
+        
+        1232, 
+        
+    
+        1236, 
+        
+        1240, 
+        
+        1244, 
+        
+        1248, 
+        
+        1252, 
+        
+        1256, 
+        
+        1260, 
+        
+        1264, 
+        
+        1268, 
+        
+        1272, 
+        
+        1276, 
+        
+        1280, 
+        
+        1284, 
+        
+        1288, 
+        
+        1292, 
+        
+        1296, 
+        
+    
+        1300, 
+        
+        1304, 
+        
+        1308, 
+        
+        1312, 
+        
+        1316, 
+        
+        1320, 
+        
+        1324, 
+        
+        1328, 
+        
+        1332, 
+        
+        1336, 
+        
+        1340, 
+        
+        1344, 
+        
+        1348, 
+        
+        1352, 
+        
+        1356, 
+        
+        1360, 
+        
+    
+        1364, 
+        
+        1368, 
+        
+        1372, 
+        
+        1376, 
+        
+        1380, 
+        
+        1384, 
+        
+        1388, 
+        
+        1392, 
+        
+        1396, 
+        
+        1400, 
+        
+        1404, 
+        
+        1408, 
+        
+        1412, 
+        
+        1416, 
+        
+        1420, 
+        
+        1424, 
+        
+    
+        1428, 
+        
+        1432, 
+        
+        1436, 
+        
+        1440, 
+        
+        1444, 
+        
+        1448, 
+        
+        1452, 
+        
+        1456, 
+        
+        1460, 
+        
+        1464, 
+        
+        1468, 
+        
+        1472, 
+        
+        1476, 
+        
+        1480, 
+        
+        1484, 
+        
+        1488, 
+        
+    
+        1492, 
+        
+        1496, 
+        
+        1500, 
+        
+        1504, 
+        
+        1508, 
+        
+        1512, 
+        
+        1516, 
+        
+        1520, 
+        
+        1524, 
+        
+        1528, 
+        
+        1532, 
+        
+        1536, 
+        
+        1540, 
+        
+        1544, 
+        
+        1548, 
+        
+        1552, 
+        
+    
+        1556, 
+        
+        1560, 
+        
+        1564, 
+        
+        1568, 
+        
+        1572, 
+        
+        1576, 
+        
+        1580, 
+        
+        1584, 
+        
+        1588, 
+        
+        1592, 
+        
+        1596, 
+        
+        1600, 
+        
+        1604, 
+        
+        1608, 
+        
+        1612, 
+        
+        1616, 
+        
+    
+        1620, 
+        
+        1624, 
+        
+        1628, 
+        
+        1632, 
+        
+        1636, 
+        
+        1640, 
+        
+        1644, 
+        
+        1648, 
+        
+        1652, 
+        
+        1656, 
+        
+        1660, 
+        
+        1664, 
+        
+        1668, 
+        
+        1672, 
+        
+        1676, 
+        
+        1680, 
+        
+    
+        1684, 
+        
+        1688, 
+        
+        1692, 
+        
+        1696, 
+        
+        1700, 
+        
+        1704, 
+        
+        1708, 
+        
+        1712, 
+        
+        1716, 
+        
+        1720, 
+        
+        1724, 
+        
+        1728, 
+        
+        1732, 
+        
+        1737, 
+        
+        1739, 
+        
+        1741, 
+        
+    
+        1744, 
+        
+        1747, 
+        
+        1750, 
+        
+        1753, 
+        
+        1756, 
+        
+        1759, 
+        
+        1762, 
+        
+        1765, 
+        
+        1768, 
+        
+        1771, 
+        
+        1774, 
+        
+        1777, 
+        
+        1780, 
+        
+        1783, 
+        
+        1786, 
+        
+        1789, 
+        
+    
+        1792, 
+        
+        1795, 
+        
+        1798, 
+        
+        1801, 
+        
+        1805, 
+        
+        1809, 
+        
+        1813, 
+        
+        1817, 
+        
+        1821, 
+        
+        1825, 
+        
+        1829, 
+        
+        1833, 
+        
+        1837, 
+        
+        1841, 
+        
+        1845, 
+        
+        1849, 
+        
+    
+        1853, 
+        
+        1857, 
+        
+        1861, 
+        
+        1865, 
+        
+        1869, 
+        
+        1873, 
+        
+        1877, 
+        
+        1881, 
+        
+        1885, 
+        
+        1889, 
+        
+        1893, 
+        
+        1897, 
+        
+        1901, 
+        
+        1905, 
+        
+        1909, 
+        
+        1913, 
+        
+    
+        1917, 
+        
+        1921, 
+        
+        1925, 
+        
+        1929, 
+        
+        1933, 
+        
+        1937, 
+        
+        1941, 
+        
+        1945, 
+        
+        1949, 
+        
+        1953, 
+        
+        1957, 
+        
+        1961, 
+        
+        1965, 
+        
+        1969, 
+        
+        1973, 
+        
+        1977, 
+        
+    
+        1981, 
+        
+        1985, 
+        
+        1989, 
+        
+        1993, 
+        
+        1997, 
+        
+        2001, 
+        
+        2005, 
+        
+        2009, 
+        
+        2013, 
+        
+        2017, 
+        
+        2021, 
+        
+        2025, 
+        
+        2029, 
+        
+        2033, 
+        
+        2037, 
+        
+        2041, 
+        
+    
+        2045, 
+        
+        2049, 
+        
+        2053, 
+        
+        2057, 
+        
+        2061, 
+        
+        2065, 
+        
+        2069, 
+        
+        2073, 
+        
+        2077, 
+        
+        2081, 
+        
+        2085, 
+        
+        2089, 
+        
+        2093, 
+        
+        2097, 
+        
+        2101, 
+        
+        2105, 
+        
+    
+        2109, 
+        
+        2113, 
+        
+        2117, 
+        
+        2121, 
+        
+        2125, 
+        
+        2129, 
+        
+        2133, 
+        
+        2137, 
+        
+        2141, 
+        
+        2145, 
+        
+        2149, 
+        
+        2153, 
+        
+        2157, 
+        
+        2161, 
+        
+        2165, 
+        
+        2169, 
+        
+    
+        2173, 
+        
+        2177, 
+        
+        2181, 
+        
+        2185, 
+        
+        2189, 
+        
+        2193, 
+        
+        2197, 
+        
+        2201, 
+        
+        2205, 
+        
+        2209, 
+        
+        2213, 
+        
+        2217, 
+        
+        2221, 
+        
+        2225, 
+        
+        2229, 
+        
+        2233, 
+        
+    
+        2237, 
+        
+        2241, 
+        
+        2245, 
+        
+        2249, 
+        
+        2253, 
+        
+        2257, 
+        
+        2261, 
+        
+        2265, 
+        
+        2269, 
+        
+        2273, 
+        
+        2277, 
+        
+        2281, 
+        
+        2285, 
+        
+        2289, 
+        
+        2293, 
+        
+        2297, 
+        
+    
+        2301, 
+        
+        2305, 
+        
+        2309, 
+        
+        2313, 
+        
+        2317, 
+        
+        2321, 
+        
+        2325, 
+        
+        2329, 
+        
+        2333, 
+        
+        2337, 
+        
+        2341, 
+        
+        2345, 
+        
+        2349, 
+        
+        2353, 
+        
+        2357, 
+        
+        2361, 
+        
+    
+        2365, 
+        
+        2369, 
+        
+        2373, 
+        
+        2377, 
+        
+        2381, 
+        
+        2385, 
+        
+        2389, 
+        
+        2393, 
+        
+        2397, 
+        
+        2401, 
+        
+        2405, 
+        
+        2409, 
+        
+        2413, 
+        
+        2417, 
+        
+        2421, 
+        
+        2425, 
+        
+    
+        2429, 
+        
+        2433, 
+        
+        2437, 
+        
+        2441, 
+        
+        2445, 
+        
+        2449, 
+        
+        2453, 
+        
+        2457, 
+        
+        2461, 
+        
+        2465, 
+        
+        2469, 
+        
+        2473, 
+        
+        2477, 
+        
+        2481, 
+        
+        2485, 
+        
+        2489, 
+        
+    
+        2493, 
+        
+        2497, 
+        
+        2501, 
+        
+        2505, 
+        
+        2509, 
+        
+        2513, 
+        
+        2517, 
+        
+        2521, 
+        
+        2525, 
+        
+        2529, 
+        
+        2533, 
+        
+        2537, 
+        
+        2541, 
+        
+        2545, 
+        
+        2549, 
+        
+        2553, 
+        
+    
+        2557, 
+        
+        2561, 
+        
+        2565, 
+        
+        2569, 
+        
+        2573, 
+        
+        2577, 
+        
+        2581, 
+        
+        2585, 
+        
+        2589, 
+        
+        2593, 
+        
+        2597, 
+        
+        2602, 
+        
+        2604, 
+        
+        2606, 
+        
+        2609, 
+        
+        2612, 
+        
+    
+        2615, 
+        
+        2618, 
+        
+        2621, 
+        
+        2624, 
+        
+        2627, 
+        
+        2630, 
+        
+        2633, 
+        
+        2636, 
+        
+        2639, 
+        
+        2642, 
+        
+        2645, 
+        
+        2648, 
+        
+        2651, 
+        
+        2654, 
+        
+        2657, 
+        
+        2660, 
+        
+    
+        2663, 
+        
+        2667, 
+        
+        2669, 
+        
+        2671, 
+        
+        2674, 
+        
+        2677, 
+        
+        2680, 
+        
+        2683, 
+        
+        2686, 
+        
+        2689, 
+        
+        2692, 
+        
+        2695, 
+        
+        2698, 
+        
+        2701, 
+        
+        2704, 
+        
+        2707, 
+        
+    
+        2710, 
+        
+        2713, 
+        
+        2716, 
+        
+        2719, 
+        
+        2722, 
+        
+        2725, 
+        
+        2728, 
+        
+        2732, 
+        
+        2734, 
+        
+        2736, 
+        
+        2739, 
+        
+        2742, 
+        
+        2745, 
+        
+        2748, 
+        
+        2751, 
+        
+        2754, 
+        
+    
+        2757, 
+        
+        2760, 
+        
+        2763, 
+        
+        2766, 
+        
+        2769, 
+        
+        2772, 
+        
+        2775, 
+        
+        2778, 
+        
+        2781, 
+        
+        2784, 
+        
+        2787, 
+        
+        2790, 
+        
+        2793, 
+        
+        2797, 
+        
+        2799, 
+        
+        2801, 
+        
+    
+        2804, 
+        
+        2807, 
+        
+        2810, 
+        
+        2813, 
+        
+        2816, 
+        
+        2819, 
+        
+        2822, 
+        
+        2825, 
+        
+        2828, 
+        
+        2831, 
+        
+        2834, 
+        
+        2837, 
+        
+        2840, 
+        
+        2843, 
+        
+        2846, 
+        
+        2849, 
+        
+    
+        2852, 
+        
+        2855, 
+        
+        2858, 
+        
+        2862, 
+        
+        2864, 
+        
+        2866, 
+        
+        2869, 
+        
+        2872, 
+        
+        2875, 
+        
+        2878, 
+        
+        2881, 
+        
+        2884, 
+        
+        2887, 
+        
+        2890, 
+        
+        2893, 
+        
+        2896, 
+        
+    
+        2899, 
+        
+        2902, 
+        
+        2905, 
+        
+        2908, 
+        
+        2911, 
+        
+        2914, 
+        
+        2917, 
+        
+        2920, 
+        
+        2923, 
+        
+        2927, 
+        
+        2929, 
+        
+        2931, 
+        
+        2934, 
+        
+        2937, 
+        
+        2940, 
+        
+        2943, 
+        
+    
+        2946, 
+        
+        2949, 
+        
+        2952, 
+        
+        2955, 
+        
+        2958, 
+        
+        2961, 
+        
+        2964, 
+        
+        2967, 
+        
+        2970, 
+        
+        2973, 
+        
+        2976, 
+        
+        2979, 
+        
+        2982, 
+        
+        2985, 
+        
+        2988
+  };
+
+    private int tabSize = 8;
+    /**
+     * sets the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public void setTabSize(int tabSize) {this.tabSize = tabSize;}
+    
+    /**
+     * returns the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public int getTabSize() {return tabSize;}
+    
+  
+}
+
+
@@ -0,0 +1,13052 @@
+/* Generated by: JavaCC 21 Parser Generator. HugeMethodsParser.java */
+package com.javacc.hugemethods;
+
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class HugeMethodsParser implements HugeMethodsConstants {
+    static final java.util.logging.Logger LOGGER=Logger.getLogger("HugeMethodsParser");
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing=false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    /** Generated Lexer. */
+    public HugeMethodsLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    private boolean buildTree=true;
+    private boolean tokensAreNodes=true;
+    private boolean specialTokensAreNodes=false;
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes=specialTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes=tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope=new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor=currentNodeScope.floor;
+        currentNodeScope.floor=currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark=currentNodeScope.floor;
+        currentNodeScope.floor=Math.min(previousFloor,mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n,int mark) {
+        List<Node>children=currentNodeScope.subList(mark,currentNodeScope.size());
+        List<Node>nodes=new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n,true);
+    }
+
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n,int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node>nodes=new ArrayList<Node>();
+        for (int i=0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (specialTokensAreNodes&&(child instanceof Token)) {
+                Token token=(Token) child;
+                Token specialToken=token;
+                while (specialToken!=null) {
+                    specialToken=specialToken.specialToken;
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken=specialToken.next;
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n,boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a=nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node>nodes=new ArrayList<Node>();
+            while (a-->0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (specialTokensAreNodes&&(child instanceof Token)) {
+                    Token token=(Token) child;
+                    Token specialToken=token;
+                    while (specialToken.specialToken!=null) {
+                        specialToken=specialToken.specialToken;
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken=specialToken.next;
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree=buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    HugeMethodsParser jjtree=this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope=HugeMethodsParser.this.currentNodeScope;
+            HugeMethodsParser.this.currentNodeScope=this;
+        }
+
+        boolean isRootScope() {
+            return parentScope==null;
+        }
+
+        Node rootNode() {
+            NodeScope ns=this;
+            while (ns.parentScope!=null) {
+                ns=ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result=remove(size()-1);
+            if (size()<floor) {
+                floor=size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1,n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            HugeMethodsParser.this.currentNodeScope=parentScope;
+        }
+
+        int nestingLevel() {
+            int result=0;
+            NodeScope parent=this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent=parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+    static private final int INFINITY=Integer.MAX_VALUE;
+    //=================================
+    // Start of methods for BNF Productions
+    //=================================
+    // HugeMethods.javacc, line 820
+    final public void Root() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 820 of HugeMethods.javacc");
+        // Code for expansion specified on line 823 of HugeMethods.javacc
+        int Root1Floor=buildTree?openDeferredNodeScope():
+        0;
+        Token Root1Start=getToken(1);
+        // Code for expansion specified on line 1123 of HugeMethods.javacc
+        label_1:
+        while (true) {
+            int int1=nextTokenKind();
+            if (!(int1>=0&&(jj_first_set_0[int1>>6]&(1L<<int1))!=0L)) {
+                break label_1;
+            }
+            // Code for expansion specified on line 824 of HugeMethods.javacc
+            switch(nextTokenKind()) {
+                case W0:
+                Root_part1();
+                break;
+                case W1:
+                Root_part2();
+                break;
+                case W2:
+                Root_part3();
+                break;
+                case W3:
+                Root_part4();
+                break;
+                case W4:
+                Root_part5();
+                break;
+                case W5:
+                Root_part6();
+                break;
+                case W6:
+                Root_part7();
+                break;
+                case W7:
+                Root_part8();
+                break;
+                case W8:
+                Root_part9();
+                break;
+                case W9:
+                Root_part10();
+                break;
+                case W10:
+                Root_part11();
+                break;
+                case W11:
+                Root_part12();
+                break;
+                case W12:
+                Root_part13();
+                break;
+                case W13:
+                Root_part14();
+                break;
+                case W14:
+                Root_part15();
+                break;
+                case W15:
+                Root_part16();
+                break;
+                case W16:
+                Root_part17();
+                break;
+                case W17:
+                Root_part18();
+                break;
+                case W18:
+                Root_part19();
+                break;
+                case W19:
+                Root_part20();
+                break;
+                case W20:
+                Root_part21();
+                break;
+                case W21:
+                Root_part22();
+                break;
+                case W22:
+                Root_part23();
+                break;
+                case W23:
+                Root_part24();
+                break;
+                case W24:
+                Root_part25();
+                break;
+                case W25:
+                Root_part26();
+                break;
+                case W26:
+                Root_part27();
+                break;
+                case W27:
+                Root_part28();
+                break;
+                case W28:
+                Root_part29();
+                break;
+                case W29:
+                Root_part30();
+                break;
+                case W30:
+                Root_part31();
+                break;
+                case W31:
+                Root_part32();
+                break;
+                case W32:
+                Root_part33();
+                break;
+                case W33:
+                Root_part34();
+                break;
+                case W34:
+                Root_part35();
+                break;
+                case W35:
+                Root_part36();
+                break;
+                case W36:
+                Root_part37();
+                break;
+                case W37:
+                Root_part38();
+                break;
+                case W38:
+                Root_part39();
+                break;
+                case W39:
+                Root_part40();
+                break;
+                case W40:
+                Root_part41();
+                break;
+                case W41:
+                Root_part42();
+                break;
+                case W42:
+                Root_part43();
+                break;
+                case W43:
+                Root_part44();
+                break;
+                case W44:
+                Root_part45();
+                break;
+                case W45:
+                Root_part46();
+                break;
+                case W46:
+                Root_part47();
+                break;
+                case W47:
+                Root_part48();
+                break;
+                case W48:
+                Root_part49();
+                break;
+                case W49:
+                Root_part50();
+                break;
+                case W50:
+                Root_part51();
+                break;
+                case W51:
+                Root_part52();
+                break;
+                case W52:
+                Root_part53();
+                break;
+                case W53:
+                Root_part54();
+                break;
+                case W54:
+                Root_part55();
+                break;
+                case W55:
+                Root_part56();
+                break;
+                case W56:
+                Root_part57();
+                break;
+                case W57:
+                Root_part58();
+                break;
+                case W58:
+                Root_part59();
+                break;
+                case W59:
+                Root_part60();
+                break;
+                case W60:
+                Root_part61();
+                break;
+                case W61:
+                Root_part62();
+                break;
+                case W62:
+                Root_part63();
+                break;
+                case W63:
+                Root_part64();
+                break;
+                case W64:
+                Root_part65();
+                break;
+                case W65:
+                Root_part66();
+                break;
+                case W66:
+                Root_part67();
+                break;
+                case W67:
+                Root_part68();
+                break;
+                case W68:
+                Root_part69();
+                break;
+                case W69:
+                Root_part70();
+                break;
+                case W70:
+                Root_part71();
+                break;
+                case W71:
+                Root_part72();
+                break;
+                case W72:
+                Root_part73();
+                break;
+                case W73:
+                Root_part74();
+                break;
+                case W74:
+                Root_part75();
+                break;
+                case W75:
+                Root_part76();
+                break;
+                case W76:
+                Root_part77();
+                break;
+                case W77:
+                Root_part78();
+                break;
+                case W78:
+                Root_part79();
+                break;
+                case W79:
+                Root_part80();
+                break;
+                case W80:
+                Root_part81();
+                break;
+                case W81:
+                Root_part82();
+                break;
+                case W82:
+                Root_part83();
+                break;
+                case W83:
+                Root_part84();
+                break;
+                case W84:
+                Root_part85();
+                break;
+                case W85:
+                Root_part86();
+                break;
+                case W86:
+                Root_part87();
+                break;
+                case W87:
+                Root_part88();
+                break;
+                case W88:
+                Root_part89();
+                break;
+                case W89:
+                Root_part90();
+                break;
+                case W90:
+                Root_part91();
+                break;
+                case W91:
+                Root_part92();
+                break;
+                case W92:
+                Root_part93();
+                break;
+                case W93:
+                Root_part94();
+                break;
+                case W94:
+                Root_part95();
+                break;
+                case W95:
+                Root_part96();
+                break;
+                case W96:
+                Root_part97();
+                break;
+                case W97:
+                Root_part98();
+                break;
+                case W98:
+                Root_part99();
+                break;
+                case W99:
+                Root_part100();
+                break;
+                case W100:
+                Root_part101();
+                break;
+                case W101:
+                Root_part102();
+                break;
+                case W102:
+                Root_part103();
+                break;
+                case W103:
+                Root_part104();
+                break;
+                case W104:
+                Root_part105();
+                break;
+                case W105:
+                Root_part106();
+                break;
+                case W106:
+                Root_part107();
+                break;
+                case W107:
+                Root_part108();
+                break;
+                case W108:
+                Root_part109();
+                break;
+                case W109:
+                Root_part110();
+                break;
+                case W110:
+                Root_part111();
+                break;
+                case W111:
+                Root_part112();
+                break;
+                case W112:
+                Root_part113();
+                break;
+                case W113:
+                Root_part114();
+                break;
+                case W114:
+                Root_part115();
+                break;
+                case W115:
+                Root_part116();
+                break;
+                case W116:
+                Root_part117();
+                break;
+                case W117:
+                Root_part118();
+                break;
+                case W118:
+                Root_part119();
+                break;
+                case W119:
+                Root_part120();
+                break;
+                case W120:
+                Root_part121();
+                break;
+                case W121:
+                Root_part122();
+                break;
+                case W122:
+                Root_part123();
+                break;
+                case W123:
+                Root_part124();
+                break;
+                case W124:
+                Root_part125();
+                break;
+                case W125:
+                Root_part126();
+                break;
+                case W126:
+                Root_part127();
+                break;
+                case W127:
+                Root_part128();
+                break;
+                case W128:
+                Root_part129();
+                break;
+                case W129:
+                Root_part130();
+                break;
+                case W130:
+                Root_part131();
+                break;
+                case W131:
+                Root_part132();
+                break;
+                case W132:
+                Root_part133();
+                break;
+                case W133:
+                Root_part134();
+                break;
+                case W134:
+                Root_part135();
+                break;
+                case W135:
+                Root_part136();
+                break;
+                case W136:
+                Root_part137();
+                break;
+                case W137:
+                Root_part138();
+                break;
+                case W138:
+                Root_part139();
+                break;
+                case W139:
+                Root_part140();
+                break;
+                case W140:
+                Root_part141();
+                break;
+                case W141:
+                Root_part142();
+                break;
+                case W142:
+                Root_part143();
+                break;
+                case W143:
+                Root_part144();
+                break;
+                case W144:
+                Root_part145();
+                break;
+                case W145:
+                Root_part146();
+                break;
+                case W146:
+                Root_part147();
+                break;
+                case W147:
+                // Code for expansion specified on line 1118 of HugeMethods.javacc
+                // Code for expansion specified on line 1118 of HugeMethods.javacc
+                boolean Root296forced=false;
+                Pair Root296=null;
+                if (buildTree) {
+                    Root296=new Pair();
+                    Token start=getToken(1);
+                    Root296.setBeginLine(start.beginLine);
+                    Root296.setBeginColumn(start.beginColumn);
+                    Root296.setInputSource(this.getInputSource());
+                    openNodeScope(Root296);
+                }
+                ParseException parseException296=null;
+                try {
+                    // Code for expansion specified on line 1118 of HugeMethods.javacc
+                    consumeToken(W147);
+                    // Code for expansion specified on line 1118 of HugeMethods.javacc
+                    int int296=nextTokenKind();
+                    if (int296==W148) {
+                        // Code for expansion specified on line 1118 of HugeMethods.javacc
+                        // Code for expansion specified on line 1118 of HugeMethods.javacc
+                        consumeToken(W148);
+                    }
+                    // Code for expansion specified on line 1118 of HugeMethods.javacc
+                    int int297=nextTokenKind();
+                    if (int297==405) {
+                        // Code for expansion specified on line 1118 of HugeMethods.javacc
+                        // Code for expansion specified on line 1118 of HugeMethods.javacc
+                        boolean Root297forced=false;
+                        Mark Root297=null;
+                        if (buildTree) {
+                            Root297=new Mark();
+                            Token start=getToken(1);
+                            Root297.setBeginLine(start.beginLine);
+                            Root297.setBeginColumn(start.beginColumn);
+                            Root297.setInputSource(this.getInputSource());
+                            openNodeScope(Root297);
+                        }
+                        ParseException parseException297=null;
+                        try {
+                            consumeToken(405);
+                        }
+                        catch(ParseException e) {
+                            parseException297=e;
+                            throw e;
+                        }
+                        finally {
+                            if (buildTree) {
+                                if (parseException297!=null) {
+                                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException297.getMessage());
+                                    clearNodeScope();
+                                }
+                                else {
+                                    Root297.setEndLine(current_token.getEndLine());
+                                    Root297.setEndColumn(current_token.getEndColumn());
+                                    closeNodeScope(Root297,true);
+                                }
+                            }
+                        }
+                    }
+                }
+                catch(ParseException e) {
+                    parseException296=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException296!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException296.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root296.setEndLine(current_token.getEndLine());
+                            Root296.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root296,true);
+                        }
+                    }
+                }
+                break;
+                case W148:
+                // Code for expansion specified on line 1120 of HugeMethods.javacc
+                // Code for expansion specified on line 1120 of HugeMethods.javacc
+                boolean Root298forced=false;
+                Pair Root298=null;
+                if (buildTree) {
+                    Root298=new Pair();
+                    Token start=getToken(1);
+                    Root298.setBeginLine(start.beginLine);
+                    Root298.setBeginColumn(start.beginColumn);
+                    Root298.setInputSource(this.getInputSource());
+                    openNodeScope(Root298);
+                }
+                ParseException parseException298=null;
+                try {
+                    // Code for expansion specified on line 1120 of HugeMethods.javacc
+                    consumeToken(W148);
+                    // Code for expansion specified on line 1120 of HugeMethods.javacc
+                    int int298=nextTokenKind();
+                    if (int298==W149) {
+                        // Code for expansion specified on line 1120 of HugeMethods.javacc
+                        // Code for expansion specified on line 1120 of HugeMethods.javacc
+                        consumeToken(W149);
+                    }
+                    // Code for expansion specified on line 1120 of HugeMethods.javacc
+                    int int299=nextTokenKind();
+                    if (int299==405) {
+                        // Code for expansion specified on line 1120 of HugeMethods.javacc
+                        // Code for expansion specified on line 1120 of HugeMethods.javacc
+                        boolean Root299forced=false;
+                        Mark Root299=null;
+                        if (buildTree) {
+                            Root299=new Mark();
+                            Token start=getToken(1);
+                            Root299.setBeginLine(start.beginLine);
+                            Root299.setBeginColumn(start.beginColumn);
+                            Root299.setInputSource(this.getInputSource());
+                            openNodeScope(Root299);
+                        }
+                        ParseException parseException299=null;
+                        try {
+                            consumeToken(405);
+                        }
+                        catch(ParseException e) {
+                            parseException299=e;
+                            throw e;
+                        }
+                        finally {
+                            if (buildTree) {
+                                if (parseException299!=null) {
+                                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException299.getMessage());
+                                    clearNodeScope();
+                                }
+                                else {
+                                    Root299.setEndLine(current_token.getEndLine());
+                                    Root299.setEndColumn(current_token.getEndColumn());
+                                    closeNodeScope(Root299,true);
+                                }
+                            }
+                        }
+                    }
+                }
+                catch(ParseException e) {
+                    parseException298=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException298!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException298.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root298.setEndLine(current_token.getEndLine());
+                            Root298.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root298,true);
+                        }
+                    }
+                }
+                break;
+                case W149:
+                // Code for expansion specified on line 1122 of HugeMethods.javacc
+                // Code for expansion specified on line 1122 of HugeMethods.javacc
+                boolean Root300forced=false;
+                Pair Root300=null;
+                if (buildTree) {
+                    Root300=new Pair();
+                    Token start=getToken(1);
+                    Root300.setBeginLine(start.beginLine);
+                    Root300.setBeginColumn(start.beginColumn);
+                    Root300.setInputSource(this.getInputSource());
+                    openNodeScope(Root300);
+                }
+                ParseException parseException300=null;
+                try {
+                    // Code for expansion specified on line 1122 of HugeMethods.javacc
+                    consumeToken(W149);
+                    // Code for expansion specified on line 1122 of HugeMethods.javacc
+                    int int300=nextTokenKind();
+                    if (int300==W0) {
+                        // Code for expansion specified on line 1122 of HugeMethods.javacc
+                        // Code for expansion specified on line 1122 of HugeMethods.javacc
+                        consumeToken(W0);
+                    }
+                    // Code for expansion specified on line 1122 of HugeMethods.javacc
+                    int int301=nextTokenKind();
+                    if (int301==405) {
+                        // Code for expansion specified on line 1122 of HugeMethods.javacc
+                        // Code for expansion specified on line 1122 of HugeMethods.javacc
+                        boolean Root301forced=false;
+                        Mark Root301=null;
+                        if (buildTree) {
+                            Root301=new Mark();
+                            Token start=getToken(1);
+                            Root301.setBeginLine(start.beginLine);
+                            Root301.setBeginColumn(start.beginColumn);
+                            Root301.setInputSource(this.getInputSource());
+                            openNodeScope(Root301);
+                        }
+                        ParseException parseException301=null;
+                        try {
+                            consumeToken(405);
+                        }
+                        catch(ParseException e) {
+                            parseException301=e;
+                            throw e;
+                        }
+                        finally {
+                            if (buildTree) {
+                                if (parseException301!=null) {
+                                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException301.getMessage());
+                                    clearNodeScope();
+                                }
+                                else {
+                                    Root301.setEndLine(current_token.getEndLine());
+                                    Root301.setEndColumn(current_token.getEndColumn());
+                                    closeNodeScope(Root301,true);
+                                }
+                            }
+                        }
+                    }
+                }
+                catch(ParseException e) {
+                    parseException300=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException300!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException300.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root300.setEndLine(current_token.getEndLine());
+                            Root300.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root300,true);
+                        }
+                    }
+                }
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        // Code for expansion specified on line 1124 of HugeMethods.javacc
+        consumeToken(0);
+        if (trace_enabled) LOGGER.info("Exiting normally from Root");
+        if (buildTree) {
+            int Root1Mark=closeDeferredNodeScope(Root1Floor);
+            if (nodeArity()-Root1Mark>1) {
+                Root Root1=new Root();
+                Root1.setBeginLine(Root1Start.beginLine);
+                Root1.setBeginColumn(Root1Start.beginColumn);
+                Root1.setInputSource(this.getInputSource());
+                Root1.setEndLine(current_token.getEndLine());
+                Root1.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Root1,Root1Mark);
+            }
+        }
+    }
+
+    private void Root_part147() throws ParseException {
+        // Code for expansion specified on line 1116 of HugeMethods.javacc
+        // Code for expansion specified on line 1116 of HugeMethods.javacc
+        boolean Root294forced=false;
+        Pair Root294=null;
+        if (buildTree) {
+            Root294=new Pair();
+            Token start=getToken(1);
+            Root294.setBeginLine(start.beginLine);
+            Root294.setBeginColumn(start.beginColumn);
+            Root294.setInputSource(this.getInputSource());
+            openNodeScope(Root294);
+        }
+        ParseException parseException294=null;
+        try {
+            // Code for expansion specified on line 1116 of HugeMethods.javacc
+            consumeToken(W146);
+            // Code for expansion specified on line 1116 of HugeMethods.javacc
+            int int294=nextTokenKind();
+            if (int294==W147) {
+                // Code for expansion specified on line 1116 of HugeMethods.javacc
+                // Code for expansion specified on line 1116 of HugeMethods.javacc
+                consumeToken(W147);
+            }
+            // Code for expansion specified on line 1116 of HugeMethods.javacc
+            int int295=nextTokenKind();
+            if (int295==405) {
+                // Code for expansion specified on line 1116 of HugeMethods.javacc
+                // Code for expansion specified on line 1116 of HugeMethods.javacc
+                boolean Root295forced=false;
+                Mark Root295=null;
+                if (buildTree) {
+                    Root295=new Mark();
+                    Token start=getToken(1);
+                    Root295.setBeginLine(start.beginLine);
+                    Root295.setBeginColumn(start.beginColumn);
+                    Root295.setInputSource(this.getInputSource());
+                    openNodeScope(Root295);
+                }
+                ParseException parseException295=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException295=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException295!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException295.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root295.setEndLine(current_token.getEndLine());
+                            Root295.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root295,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException294=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException294!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException294.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root294.setEndLine(current_token.getEndLine());
+                    Root294.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root294,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part146() throws ParseException {
+        // Code for expansion specified on line 1114 of HugeMethods.javacc
+        // Code for expansion specified on line 1114 of HugeMethods.javacc
+        boolean Root292forced=false;
+        Pair Root292=null;
+        if (buildTree) {
+            Root292=new Pair();
+            Token start=getToken(1);
+            Root292.setBeginLine(start.beginLine);
+            Root292.setBeginColumn(start.beginColumn);
+            Root292.setInputSource(this.getInputSource());
+            openNodeScope(Root292);
+        }
+        ParseException parseException292=null;
+        try {
+            // Code for expansion specified on line 1114 of HugeMethods.javacc
+            consumeToken(W145);
+            // Code for expansion specified on line 1114 of HugeMethods.javacc
+            int int292=nextTokenKind();
+            if (int292==W146) {
+                // Code for expansion specified on line 1114 of HugeMethods.javacc
+                // Code for expansion specified on line 1114 of HugeMethods.javacc
+                consumeToken(W146);
+            }
+            // Code for expansion specified on line 1114 of HugeMethods.javacc
+            int int293=nextTokenKind();
+            if (int293==405) {
+                // Code for expansion specified on line 1114 of HugeMethods.javacc
+                // Code for expansion specified on line 1114 of HugeMethods.javacc
+                boolean Root293forced=false;
+                Mark Root293=null;
+                if (buildTree) {
+                    Root293=new Mark();
+                    Token start=getToken(1);
+                    Root293.setBeginLine(start.beginLine);
+                    Root293.setBeginColumn(start.beginColumn);
+                    Root293.setInputSource(this.getInputSource());
+                    openNodeScope(Root293);
+                }
+                ParseException parseException293=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException293=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException293!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException293.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root293.setEndLine(current_token.getEndLine());
+                            Root293.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root293,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException292=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException292!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException292.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root292.setEndLine(current_token.getEndLine());
+                    Root292.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root292,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part145() throws ParseException {
+        // Code for expansion specified on line 1112 of HugeMethods.javacc
+        // Code for expansion specified on line 1112 of HugeMethods.javacc
+        boolean Root290forced=false;
+        Pair Root290=null;
+        if (buildTree) {
+            Root290=new Pair();
+            Token start=getToken(1);
+            Root290.setBeginLine(start.beginLine);
+            Root290.setBeginColumn(start.beginColumn);
+            Root290.setInputSource(this.getInputSource());
+            openNodeScope(Root290);
+        }
+        ParseException parseException290=null;
+        try {
+            // Code for expansion specified on line 1112 of HugeMethods.javacc
+            consumeToken(W144);
+            // Code for expansion specified on line 1112 of HugeMethods.javacc
+            int int290=nextTokenKind();
+            if (int290==W145) {
+                // Code for expansion specified on line 1112 of HugeMethods.javacc
+                // Code for expansion specified on line 1112 of HugeMethods.javacc
+                consumeToken(W145);
+            }
+            // Code for expansion specified on line 1112 of HugeMethods.javacc
+            int int291=nextTokenKind();
+            if (int291==405) {
+                // Code for expansion specified on line 1112 of HugeMethods.javacc
+                // Code for expansion specified on line 1112 of HugeMethods.javacc
+                boolean Root291forced=false;
+                Mark Root291=null;
+                if (buildTree) {
+                    Root291=new Mark();
+                    Token start=getToken(1);
+                    Root291.setBeginLine(start.beginLine);
+                    Root291.setBeginColumn(start.beginColumn);
+                    Root291.setInputSource(this.getInputSource());
+                    openNodeScope(Root291);
+                }
+                ParseException parseException291=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException291=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException291!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException291.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root291.setEndLine(current_token.getEndLine());
+                            Root291.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root291,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException290=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException290!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException290.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root290.setEndLine(current_token.getEndLine());
+                    Root290.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root290,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part144() throws ParseException {
+        // Code for expansion specified on line 1110 of HugeMethods.javacc
+        // Code for expansion specified on line 1110 of HugeMethods.javacc
+        boolean Root288forced=false;
+        Pair Root288=null;
+        if (buildTree) {
+            Root288=new Pair();
+            Token start=getToken(1);
+            Root288.setBeginLine(start.beginLine);
+            Root288.setBeginColumn(start.beginColumn);
+            Root288.setInputSource(this.getInputSource());
+            openNodeScope(Root288);
+        }
+        ParseException parseException288=null;
+        try {
+            // Code for expansion specified on line 1110 of HugeMethods.javacc
+            consumeToken(W143);
+            // Code for expansion specified on line 1110 of HugeMethods.javacc
+            int int288=nextTokenKind();
+            if (int288==W144) {
+                // Code for expansion specified on line 1110 of HugeMethods.javacc
+                // Code for expansion specified on line 1110 of HugeMethods.javacc
+                consumeToken(W144);
+            }
+            // Code for expansion specified on line 1110 of HugeMethods.javacc
+            int int289=nextTokenKind();
+            if (int289==405) {
+                // Code for expansion specified on line 1110 of HugeMethods.javacc
+                // Code for expansion specified on line 1110 of HugeMethods.javacc
+                boolean Root289forced=false;
+                Mark Root289=null;
+                if (buildTree) {
+                    Root289=new Mark();
+                    Token start=getToken(1);
+                    Root289.setBeginLine(start.beginLine);
+                    Root289.setBeginColumn(start.beginColumn);
+                    Root289.setInputSource(this.getInputSource());
+                    openNodeScope(Root289);
+                }
+                ParseException parseException289=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException289=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException289!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException289.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root289.setEndLine(current_token.getEndLine());
+                            Root289.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root289,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException288=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException288!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException288.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root288.setEndLine(current_token.getEndLine());
+                    Root288.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root288,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part143() throws ParseException {
+        // Code for expansion specified on line 1108 of HugeMethods.javacc
+        // Code for expansion specified on line 1108 of HugeMethods.javacc
+        boolean Root286forced=false;
+        Pair Root286=null;
+        if (buildTree) {
+            Root286=new Pair();
+            Token start=getToken(1);
+            Root286.setBeginLine(start.beginLine);
+            Root286.setBeginColumn(start.beginColumn);
+            Root286.setInputSource(this.getInputSource());
+            openNodeScope(Root286);
+        }
+        ParseException parseException286=null;
+        try {
+            // Code for expansion specified on line 1108 of HugeMethods.javacc
+            consumeToken(W142);
+            // Code for expansion specified on line 1108 of HugeMethods.javacc
+            int int286=nextTokenKind();
+            if (int286==W143) {
+                // Code for expansion specified on line 1108 of HugeMethods.javacc
+                // Code for expansion specified on line 1108 of HugeMethods.javacc
+                consumeToken(W143);
+            }
+            // Code for expansion specified on line 1108 of HugeMethods.javacc
+            int int287=nextTokenKind();
+            if (int287==405) {
+                // Code for expansion specified on line 1108 of HugeMethods.javacc
+                // Code for expansion specified on line 1108 of HugeMethods.javacc
+                boolean Root287forced=false;
+                Mark Root287=null;
+                if (buildTree) {
+                    Root287=new Mark();
+                    Token start=getToken(1);
+                    Root287.setBeginLine(start.beginLine);
+                    Root287.setBeginColumn(start.beginColumn);
+                    Root287.setInputSource(this.getInputSource());
+                    openNodeScope(Root287);
+                }
+                ParseException parseException287=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException287=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException287!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException287.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root287.setEndLine(current_token.getEndLine());
+                            Root287.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root287,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException286=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException286!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException286.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root286.setEndLine(current_token.getEndLine());
+                    Root286.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root286,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part142() throws ParseException {
+        // Code for expansion specified on line 1106 of HugeMethods.javacc
+        // Code for expansion specified on line 1106 of HugeMethods.javacc
+        boolean Root284forced=false;
+        Pair Root284=null;
+        if (buildTree) {
+            Root284=new Pair();
+            Token start=getToken(1);
+            Root284.setBeginLine(start.beginLine);
+            Root284.setBeginColumn(start.beginColumn);
+            Root284.setInputSource(this.getInputSource());
+            openNodeScope(Root284);
+        }
+        ParseException parseException284=null;
+        try {
+            // Code for expansion specified on line 1106 of HugeMethods.javacc
+            consumeToken(W141);
+            // Code for expansion specified on line 1106 of HugeMethods.javacc
+            int int284=nextTokenKind();
+            if (int284==W142) {
+                // Code for expansion specified on line 1106 of HugeMethods.javacc
+                // Code for expansion specified on line 1106 of HugeMethods.javacc
+                consumeToken(W142);
+            }
+            // Code for expansion specified on line 1106 of HugeMethods.javacc
+            int int285=nextTokenKind();
+            if (int285==405) {
+                // Code for expansion specified on line 1106 of HugeMethods.javacc
+                // Code for expansion specified on line 1106 of HugeMethods.javacc
+                boolean Root285forced=false;
+                Mark Root285=null;
+                if (buildTree) {
+                    Root285=new Mark();
+                    Token start=getToken(1);
+                    Root285.setBeginLine(start.beginLine);
+                    Root285.setBeginColumn(start.beginColumn);
+                    Root285.setInputSource(this.getInputSource());
+                    openNodeScope(Root285);
+                }
+                ParseException parseException285=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException285=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException285!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException285.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root285.setEndLine(current_token.getEndLine());
+                            Root285.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root285,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException284=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException284!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException284.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root284.setEndLine(current_token.getEndLine());
+                    Root284.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root284,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part141() throws ParseException {
+        // Code for expansion specified on line 1104 of HugeMethods.javacc
+        // Code for expansion specified on line 1104 of HugeMethods.javacc
+        boolean Root282forced=false;
+        Pair Root282=null;
+        if (buildTree) {
+            Root282=new Pair();
+            Token start=getToken(1);
+            Root282.setBeginLine(start.beginLine);
+            Root282.setBeginColumn(start.beginColumn);
+            Root282.setInputSource(this.getInputSource());
+            openNodeScope(Root282);
+        }
+        ParseException parseException282=null;
+        try {
+            // Code for expansion specified on line 1104 of HugeMethods.javacc
+            consumeToken(W140);
+            // Code for expansion specified on line 1104 of HugeMethods.javacc
+            int int282=nextTokenKind();
+            if (int282==W141) {
+                // Code for expansion specified on line 1104 of HugeMethods.javacc
+                // Code for expansion specified on line 1104 of HugeMethods.javacc
+                consumeToken(W141);
+            }
+            // Code for expansion specified on line 1104 of HugeMethods.javacc
+            int int283=nextTokenKind();
+            if (int283==405) {
+                // Code for expansion specified on line 1104 of HugeMethods.javacc
+                // Code for expansion specified on line 1104 of HugeMethods.javacc
+                boolean Root283forced=false;
+                Mark Root283=null;
+                if (buildTree) {
+                    Root283=new Mark();
+                    Token start=getToken(1);
+                    Root283.setBeginLine(start.beginLine);
+                    Root283.setBeginColumn(start.beginColumn);
+                    Root283.setInputSource(this.getInputSource());
+                    openNodeScope(Root283);
+                }
+                ParseException parseException283=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException283=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException283!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException283.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root283.setEndLine(current_token.getEndLine());
+                            Root283.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root283,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException282=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException282!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException282.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root282.setEndLine(current_token.getEndLine());
+                    Root282.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root282,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part140() throws ParseException {
+        // Code for expansion specified on line 1102 of HugeMethods.javacc
+        // Code for expansion specified on line 1102 of HugeMethods.javacc
+        boolean Root280forced=false;
+        Pair Root280=null;
+        if (buildTree) {
+            Root280=new Pair();
+            Token start=getToken(1);
+            Root280.setBeginLine(start.beginLine);
+            Root280.setBeginColumn(start.beginColumn);
+            Root280.setInputSource(this.getInputSource());
+            openNodeScope(Root280);
+        }
+        ParseException parseException280=null;
+        try {
+            // Code for expansion specified on line 1102 of HugeMethods.javacc
+            consumeToken(W139);
+            // Code for expansion specified on line 1102 of HugeMethods.javacc
+            int int280=nextTokenKind();
+            if (int280==W140) {
+                // Code for expansion specified on line 1102 of HugeMethods.javacc
+                // Code for expansion specified on line 1102 of HugeMethods.javacc
+                consumeToken(W140);
+            }
+            // Code for expansion specified on line 1102 of HugeMethods.javacc
+            int int281=nextTokenKind();
+            if (int281==405) {
+                // Code for expansion specified on line 1102 of HugeMethods.javacc
+                // Code for expansion specified on line 1102 of HugeMethods.javacc
+                boolean Root281forced=false;
+                Mark Root281=null;
+                if (buildTree) {
+                    Root281=new Mark();
+                    Token start=getToken(1);
+                    Root281.setBeginLine(start.beginLine);
+                    Root281.setBeginColumn(start.beginColumn);
+                    Root281.setInputSource(this.getInputSource());
+                    openNodeScope(Root281);
+                }
+                ParseException parseException281=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException281=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException281!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException281.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root281.setEndLine(current_token.getEndLine());
+                            Root281.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root281,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException280=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException280!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException280.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root280.setEndLine(current_token.getEndLine());
+                    Root280.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root280,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part139() throws ParseException {
+        // Code for expansion specified on line 1100 of HugeMethods.javacc
+        // Code for expansion specified on line 1100 of HugeMethods.javacc
+        boolean Root278forced=false;
+        Pair Root278=null;
+        if (buildTree) {
+            Root278=new Pair();
+            Token start=getToken(1);
+            Root278.setBeginLine(start.beginLine);
+            Root278.setBeginColumn(start.beginColumn);
+            Root278.setInputSource(this.getInputSource());
+            openNodeScope(Root278);
+        }
+        ParseException parseException278=null;
+        try {
+            // Code for expansion specified on line 1100 of HugeMethods.javacc
+            consumeToken(W138);
+            // Code for expansion specified on line 1100 of HugeMethods.javacc
+            int int278=nextTokenKind();
+            if (int278==W139) {
+                // Code for expansion specified on line 1100 of HugeMethods.javacc
+                // Code for expansion specified on line 1100 of HugeMethods.javacc
+                consumeToken(W139);
+            }
+            // Code for expansion specified on line 1100 of HugeMethods.javacc
+            int int279=nextTokenKind();
+            if (int279==405) {
+                // Code for expansion specified on line 1100 of HugeMethods.javacc
+                // Code for expansion specified on line 1100 of HugeMethods.javacc
+                boolean Root279forced=false;
+                Mark Root279=null;
+                if (buildTree) {
+                    Root279=new Mark();
+                    Token start=getToken(1);
+                    Root279.setBeginLine(start.beginLine);
+                    Root279.setBeginColumn(start.beginColumn);
+                    Root279.setInputSource(this.getInputSource());
+                    openNodeScope(Root279);
+                }
+                ParseException parseException279=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException279=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException279!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException279.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root279.setEndLine(current_token.getEndLine());
+                            Root279.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root279,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException278=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException278!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException278.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root278.setEndLine(current_token.getEndLine());
+                    Root278.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root278,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part138() throws ParseException {
+        // Code for expansion specified on line 1098 of HugeMethods.javacc
+        // Code for expansion specified on line 1098 of HugeMethods.javacc
+        boolean Root276forced=false;
+        Pair Root276=null;
+        if (buildTree) {
+            Root276=new Pair();
+            Token start=getToken(1);
+            Root276.setBeginLine(start.beginLine);
+            Root276.setBeginColumn(start.beginColumn);
+            Root276.setInputSource(this.getInputSource());
+            openNodeScope(Root276);
+        }
+        ParseException parseException276=null;
+        try {
+            // Code for expansion specified on line 1098 of HugeMethods.javacc
+            consumeToken(W137);
+            // Code for expansion specified on line 1098 of HugeMethods.javacc
+            int int276=nextTokenKind();
+            if (int276==W138) {
+                // Code for expansion specified on line 1098 of HugeMethods.javacc
+                // Code for expansion specified on line 1098 of HugeMethods.javacc
+                consumeToken(W138);
+            }
+            // Code for expansion specified on line 1098 of HugeMethods.javacc
+            int int277=nextTokenKind();
+            if (int277==405) {
+                // Code for expansion specified on line 1098 of HugeMethods.javacc
+                // Code for expansion specified on line 1098 of HugeMethods.javacc
+                boolean Root277forced=false;
+                Mark Root277=null;
+                if (buildTree) {
+                    Root277=new Mark();
+                    Token start=getToken(1);
+                    Root277.setBeginLine(start.beginLine);
+                    Root277.setBeginColumn(start.beginColumn);
+                    Root277.setInputSource(this.getInputSource());
+                    openNodeScope(Root277);
+                }
+                ParseException parseException277=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException277=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException277!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException277.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root277.setEndLine(current_token.getEndLine());
+                            Root277.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root277,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException276=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException276!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException276.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root276.setEndLine(current_token.getEndLine());
+                    Root276.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root276,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part137() throws ParseException {
+        // Code for expansion specified on line 1096 of HugeMethods.javacc
+        // Code for expansion specified on line 1096 of HugeMethods.javacc
+        boolean Root274forced=false;
+        Pair Root274=null;
+        if (buildTree) {
+            Root274=new Pair();
+            Token start=getToken(1);
+            Root274.setBeginLine(start.beginLine);
+            Root274.setBeginColumn(start.beginColumn);
+            Root274.setInputSource(this.getInputSource());
+            openNodeScope(Root274);
+        }
+        ParseException parseException274=null;
+        try {
+            // Code for expansion specified on line 1096 of HugeMethods.javacc
+            consumeToken(W136);
+            // Code for expansion specified on line 1096 of HugeMethods.javacc
+            int int274=nextTokenKind();
+            if (int274==W137) {
+                // Code for expansion specified on line 1096 of HugeMethods.javacc
+                // Code for expansion specified on line 1096 of HugeMethods.javacc
+                consumeToken(W137);
+            }
+            // Code for expansion specified on line 1096 of HugeMethods.javacc
+            int int275=nextTokenKind();
+            if (int275==405) {
+                // Code for expansion specified on line 1096 of HugeMethods.javacc
+                // Code for expansion specified on line 1096 of HugeMethods.javacc
+                boolean Root275forced=false;
+                Mark Root275=null;
+                if (buildTree) {
+                    Root275=new Mark();
+                    Token start=getToken(1);
+                    Root275.setBeginLine(start.beginLine);
+                    Root275.setBeginColumn(start.beginColumn);
+                    Root275.setInputSource(this.getInputSource());
+                    openNodeScope(Root275);
+                }
+                ParseException parseException275=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException275=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException275!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException275.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root275.setEndLine(current_token.getEndLine());
+                            Root275.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root275,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException274=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException274!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException274.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root274.setEndLine(current_token.getEndLine());
+                    Root274.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root274,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part136() throws ParseException {
+        // Code for expansion specified on line 1094 of HugeMethods.javacc
+        // Code for expansion specified on line 1094 of HugeMethods.javacc
+        boolean Root272forced=false;
+        Pair Root272=null;
+        if (buildTree) {
+            Root272=new Pair();
+            Token start=getToken(1);
+            Root272.setBeginLine(start.beginLine);
+            Root272.setBeginColumn(start.beginColumn);
+            Root272.setInputSource(this.getInputSource());
+            openNodeScope(Root272);
+        }
+        ParseException parseException272=null;
+        try {
+            // Code for expansion specified on line 1094 of HugeMethods.javacc
+            consumeToken(W135);
+            // Code for expansion specified on line 1094 of HugeMethods.javacc
+            int int272=nextTokenKind();
+            if (int272==W136) {
+                // Code for expansion specified on line 1094 of HugeMethods.javacc
+                // Code for expansion specified on line 1094 of HugeMethods.javacc
+                consumeToken(W136);
+            }
+            // Code for expansion specified on line 1094 of HugeMethods.javacc
+            int int273=nextTokenKind();
+            if (int273==405) {
+                // Code for expansion specified on line 1094 of HugeMethods.javacc
+                // Code for expansion specified on line 1094 of HugeMethods.javacc
+                boolean Root273forced=false;
+                Mark Root273=null;
+                if (buildTree) {
+                    Root273=new Mark();
+                    Token start=getToken(1);
+                    Root273.setBeginLine(start.beginLine);
+                    Root273.setBeginColumn(start.beginColumn);
+                    Root273.setInputSource(this.getInputSource());
+                    openNodeScope(Root273);
+                }
+                ParseException parseException273=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException273=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException273!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException273.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root273.setEndLine(current_token.getEndLine());
+                            Root273.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root273,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException272=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException272!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException272.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root272.setEndLine(current_token.getEndLine());
+                    Root272.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root272,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part135() throws ParseException {
+        // Code for expansion specified on line 1092 of HugeMethods.javacc
+        // Code for expansion specified on line 1092 of HugeMethods.javacc
+        boolean Root270forced=false;
+        Pair Root270=null;
+        if (buildTree) {
+            Root270=new Pair();
+            Token start=getToken(1);
+            Root270.setBeginLine(start.beginLine);
+            Root270.setBeginColumn(start.beginColumn);
+            Root270.setInputSource(this.getInputSource());
+            openNodeScope(Root270);
+        }
+        ParseException parseException270=null;
+        try {
+            // Code for expansion specified on line 1092 of HugeMethods.javacc
+            consumeToken(W134);
+            // Code for expansion specified on line 1092 of HugeMethods.javacc
+            int int270=nextTokenKind();
+            if (int270==W135) {
+                // Code for expansion specified on line 1092 of HugeMethods.javacc
+                // Code for expansion specified on line 1092 of HugeMethods.javacc
+                consumeToken(W135);
+            }
+            // Code for expansion specified on line 1092 of HugeMethods.javacc
+            int int271=nextTokenKind();
+            if (int271==405) {
+                // Code for expansion specified on line 1092 of HugeMethods.javacc
+                // Code for expansion specified on line 1092 of HugeMethods.javacc
+                boolean Root271forced=false;
+                Mark Root271=null;
+                if (buildTree) {
+                    Root271=new Mark();
+                    Token start=getToken(1);
+                    Root271.setBeginLine(start.beginLine);
+                    Root271.setBeginColumn(start.beginColumn);
+                    Root271.setInputSource(this.getInputSource());
+                    openNodeScope(Root271);
+                }
+                ParseException parseException271=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException271=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException271!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException271.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root271.setEndLine(current_token.getEndLine());
+                            Root271.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root271,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException270=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException270!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException270.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root270.setEndLine(current_token.getEndLine());
+                    Root270.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root270,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part134() throws ParseException {
+        // Code for expansion specified on line 1090 of HugeMethods.javacc
+        // Code for expansion specified on line 1090 of HugeMethods.javacc
+        boolean Root268forced=false;
+        Pair Root268=null;
+        if (buildTree) {
+            Root268=new Pair();
+            Token start=getToken(1);
+            Root268.setBeginLine(start.beginLine);
+            Root268.setBeginColumn(start.beginColumn);
+            Root268.setInputSource(this.getInputSource());
+            openNodeScope(Root268);
+        }
+        ParseException parseException268=null;
+        try {
+            // Code for expansion specified on line 1090 of HugeMethods.javacc
+            consumeToken(W133);
+            // Code for expansion specified on line 1090 of HugeMethods.javacc
+            int int268=nextTokenKind();
+            if (int268==W134) {
+                // Code for expansion specified on line 1090 of HugeMethods.javacc
+                // Code for expansion specified on line 1090 of HugeMethods.javacc
+                consumeToken(W134);
+            }
+            // Code for expansion specified on line 1090 of HugeMethods.javacc
+            int int269=nextTokenKind();
+            if (int269==405) {
+                // Code for expansion specified on line 1090 of HugeMethods.javacc
+                // Code for expansion specified on line 1090 of HugeMethods.javacc
+                boolean Root269forced=false;
+                Mark Root269=null;
+                if (buildTree) {
+                    Root269=new Mark();
+                    Token start=getToken(1);
+                    Root269.setBeginLine(start.beginLine);
+                    Root269.setBeginColumn(start.beginColumn);
+                    Root269.setInputSource(this.getInputSource());
+                    openNodeScope(Root269);
+                }
+                ParseException parseException269=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException269=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException269!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException269.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root269.setEndLine(current_token.getEndLine());
+                            Root269.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root269,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException268=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException268!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException268.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root268.setEndLine(current_token.getEndLine());
+                    Root268.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root268,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part133() throws ParseException {
+        // Code for expansion specified on line 1088 of HugeMethods.javacc
+        // Code for expansion specified on line 1088 of HugeMethods.javacc
+        boolean Root266forced=false;
+        Pair Root266=null;
+        if (buildTree) {
+            Root266=new Pair();
+            Token start=getToken(1);
+            Root266.setBeginLine(start.beginLine);
+            Root266.setBeginColumn(start.beginColumn);
+            Root266.setInputSource(this.getInputSource());
+            openNodeScope(Root266);
+        }
+        ParseException parseException266=null;
+        try {
+            // Code for expansion specified on line 1088 of HugeMethods.javacc
+            consumeToken(W132);
+            // Code for expansion specified on line 1088 of HugeMethods.javacc
+            int int266=nextTokenKind();
+            if (int266==W133) {
+                // Code for expansion specified on line 1088 of HugeMethods.javacc
+                // Code for expansion specified on line 1088 of HugeMethods.javacc
+                consumeToken(W133);
+            }
+            // Code for expansion specified on line 1088 of HugeMethods.javacc
+            int int267=nextTokenKind();
+            if (int267==405) {
+                // Code for expansion specified on line 1088 of HugeMethods.javacc
+                // Code for expansion specified on line 1088 of HugeMethods.javacc
+                boolean Root267forced=false;
+                Mark Root267=null;
+                if (buildTree) {
+                    Root267=new Mark();
+                    Token start=getToken(1);
+                    Root267.setBeginLine(start.beginLine);
+                    Root267.setBeginColumn(start.beginColumn);
+                    Root267.setInputSource(this.getInputSource());
+                    openNodeScope(Root267);
+                }
+                ParseException parseException267=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException267=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException267!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException267.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root267.setEndLine(current_token.getEndLine());
+                            Root267.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root267,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException266=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException266!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException266.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root266.setEndLine(current_token.getEndLine());
+                    Root266.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root266,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part132() throws ParseException {
+        // Code for expansion specified on line 1086 of HugeMethods.javacc
+        // Code for expansion specified on line 1086 of HugeMethods.javacc
+        boolean Root264forced=false;
+        Pair Root264=null;
+        if (buildTree) {
+            Root264=new Pair();
+            Token start=getToken(1);
+            Root264.setBeginLine(start.beginLine);
+            Root264.setBeginColumn(start.beginColumn);
+            Root264.setInputSource(this.getInputSource());
+            openNodeScope(Root264);
+        }
+        ParseException parseException264=null;
+        try {
+            // Code for expansion specified on line 1086 of HugeMethods.javacc
+            consumeToken(W131);
+            // Code for expansion specified on line 1086 of HugeMethods.javacc
+            int int264=nextTokenKind();
+            if (int264==W132) {
+                // Code for expansion specified on line 1086 of HugeMethods.javacc
+                // Code for expansion specified on line 1086 of HugeMethods.javacc
+                consumeToken(W132);
+            }
+            // Code for expansion specified on line 1086 of HugeMethods.javacc
+            int int265=nextTokenKind();
+            if (int265==405) {
+                // Code for expansion specified on line 1086 of HugeMethods.javacc
+                // Code for expansion specified on line 1086 of HugeMethods.javacc
+                boolean Root265forced=false;
+                Mark Root265=null;
+                if (buildTree) {
+                    Root265=new Mark();
+                    Token start=getToken(1);
+                    Root265.setBeginLine(start.beginLine);
+                    Root265.setBeginColumn(start.beginColumn);
+                    Root265.setInputSource(this.getInputSource());
+                    openNodeScope(Root265);
+                }
+                ParseException parseException265=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException265=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException265!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException265.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root265.setEndLine(current_token.getEndLine());
+                            Root265.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root265,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException264=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException264!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException264.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root264.setEndLine(current_token.getEndLine());
+                    Root264.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root264,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part131() throws ParseException {
+        // Code for expansion specified on line 1084 of HugeMethods.javacc
+        // Code for expansion specified on line 1084 of HugeMethods.javacc
+        boolean Root262forced=false;
+        Pair Root262=null;
+        if (buildTree) {
+            Root262=new Pair();
+            Token start=getToken(1);
+            Root262.setBeginLine(start.beginLine);
+            Root262.setBeginColumn(start.beginColumn);
+            Root262.setInputSource(this.getInputSource());
+            openNodeScope(Root262);
+        }
+        ParseException parseException262=null;
+        try {
+            // Code for expansion specified on line 1084 of HugeMethods.javacc
+            consumeToken(W130);
+            // Code for expansion specified on line 1084 of HugeMethods.javacc
+            int int262=nextTokenKind();
+            if (int262==W131) {
+                // Code for expansion specified on line 1084 of HugeMethods.javacc
+                // Code for expansion specified on line 1084 of HugeMethods.javacc
+                consumeToken(W131);
+            }
+            // Code for expansion specified on line 1084 of HugeMethods.javacc
+            int int263=nextTokenKind();
+            if (int263==405) {
+                // Code for expansion specified on line 1084 of HugeMethods.javacc
+                // Code for expansion specified on line 1084 of HugeMethods.javacc
+                boolean Root263forced=false;
+                Mark Root263=null;
+                if (buildTree) {
+                    Root263=new Mark();
+                    Token start=getToken(1);
+                    Root263.setBeginLine(start.beginLine);
+                    Root263.setBeginColumn(start.beginColumn);
+                    Root263.setInputSource(this.getInputSource());
+                    openNodeScope(Root263);
+                }
+                ParseException parseException263=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException263=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException263!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException263.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root263.setEndLine(current_token.getEndLine());
+                            Root263.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root263,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException262=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException262!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException262.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root262.setEndLine(current_token.getEndLine());
+                    Root262.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root262,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part130() throws ParseException {
+        // Code for expansion specified on line 1082 of HugeMethods.javacc
+        // Code for expansion specified on line 1082 of HugeMethods.javacc
+        boolean Root260forced=false;
+        Pair Root260=null;
+        if (buildTree) {
+            Root260=new Pair();
+            Token start=getToken(1);
+            Root260.setBeginLine(start.beginLine);
+            Root260.setBeginColumn(start.beginColumn);
+            Root260.setInputSource(this.getInputSource());
+            openNodeScope(Root260);
+        }
+        ParseException parseException260=null;
+        try {
+            // Code for expansion specified on line 1082 of HugeMethods.javacc
+            consumeToken(W129);
+            // Code for expansion specified on line 1082 of HugeMethods.javacc
+            int int260=nextTokenKind();
+            if (int260==W130) {
+                // Code for expansion specified on line 1082 of HugeMethods.javacc
+                // Code for expansion specified on line 1082 of HugeMethods.javacc
+                consumeToken(W130);
+            }
+            // Code for expansion specified on line 1082 of HugeMethods.javacc
+            int int261=nextTokenKind();
+            if (int261==405) {
+                // Code for expansion specified on line 1082 of HugeMethods.javacc
+                // Code for expansion specified on line 1082 of HugeMethods.javacc
+                boolean Root261forced=false;
+                Mark Root261=null;
+                if (buildTree) {
+                    Root261=new Mark();
+                    Token start=getToken(1);
+                    Root261.setBeginLine(start.beginLine);
+                    Root261.setBeginColumn(start.beginColumn);
+                    Root261.setInputSource(this.getInputSource());
+                    openNodeScope(Root261);
+                }
+                ParseException parseException261=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException261=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException261!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException261.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root261.setEndLine(current_token.getEndLine());
+                            Root261.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root261,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException260=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException260!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException260.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root260.setEndLine(current_token.getEndLine());
+                    Root260.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root260,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part129() throws ParseException {
+        // Code for expansion specified on line 1080 of HugeMethods.javacc
+        // Code for expansion specified on line 1080 of HugeMethods.javacc
+        boolean Root258forced=false;
+        Pair Root258=null;
+        if (buildTree) {
+            Root258=new Pair();
+            Token start=getToken(1);
+            Root258.setBeginLine(start.beginLine);
+            Root258.setBeginColumn(start.beginColumn);
+            Root258.setInputSource(this.getInputSource());
+            openNodeScope(Root258);
+        }
+        ParseException parseException258=null;
+        try {
+            // Code for expansion specified on line 1080 of HugeMethods.javacc
+            consumeToken(W128);
+            // Code for expansion specified on line 1080 of HugeMethods.javacc
+            int int258=nextTokenKind();
+            if (int258==W129) {
+                // Code for expansion specified on line 1080 of HugeMethods.javacc
+                // Code for expansion specified on line 1080 of HugeMethods.javacc
+                consumeToken(W129);
+            }
+            // Code for expansion specified on line 1080 of HugeMethods.javacc
+            int int259=nextTokenKind();
+            if (int259==405) {
+                // Code for expansion specified on line 1080 of HugeMethods.javacc
+                // Code for expansion specified on line 1080 of HugeMethods.javacc
+                boolean Root259forced=false;
+                Mark Root259=null;
+                if (buildTree) {
+                    Root259=new Mark();
+                    Token start=getToken(1);
+                    Root259.setBeginLine(start.beginLine);
+                    Root259.setBeginColumn(start.beginColumn);
+                    Root259.setInputSource(this.getInputSource());
+                    openNodeScope(Root259);
+                }
+                ParseException parseException259=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException259=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException259!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException259.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root259.setEndLine(current_token.getEndLine());
+                            Root259.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root259,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException258=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException258!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException258.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root258.setEndLine(current_token.getEndLine());
+                    Root258.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root258,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part128() throws ParseException {
+        // Code for expansion specified on line 1078 of HugeMethods.javacc
+        // Code for expansion specified on line 1078 of HugeMethods.javacc
+        boolean Root256forced=false;
+        Pair Root256=null;
+        if (buildTree) {
+            Root256=new Pair();
+            Token start=getToken(1);
+            Root256.setBeginLine(start.beginLine);
+            Root256.setBeginColumn(start.beginColumn);
+            Root256.setInputSource(this.getInputSource());
+            openNodeScope(Root256);
+        }
+        ParseException parseException256=null;
+        try {
+            // Code for expansion specified on line 1078 of HugeMethods.javacc
+            consumeToken(W127);
+            // Code for expansion specified on line 1078 of HugeMethods.javacc
+            int int256=nextTokenKind();
+            if (int256==W128) {
+                // Code for expansion specified on line 1078 of HugeMethods.javacc
+                // Code for expansion specified on line 1078 of HugeMethods.javacc
+                consumeToken(W128);
+            }
+            // Code for expansion specified on line 1078 of HugeMethods.javacc
+            int int257=nextTokenKind();
+            if (int257==405) {
+                // Code for expansion specified on line 1078 of HugeMethods.javacc
+                // Code for expansion specified on line 1078 of HugeMethods.javacc
+                boolean Root257forced=false;
+                Mark Root257=null;
+                if (buildTree) {
+                    Root257=new Mark();
+                    Token start=getToken(1);
+                    Root257.setBeginLine(start.beginLine);
+                    Root257.setBeginColumn(start.beginColumn);
+                    Root257.setInputSource(this.getInputSource());
+                    openNodeScope(Root257);
+                }
+                ParseException parseException257=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException257=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException257!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException257.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root257.setEndLine(current_token.getEndLine());
+                            Root257.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root257,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException256=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException256!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException256.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root256.setEndLine(current_token.getEndLine());
+                    Root256.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root256,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part127() throws ParseException {
+        // Code for expansion specified on line 1076 of HugeMethods.javacc
+        // Code for expansion specified on line 1076 of HugeMethods.javacc
+        boolean Root254forced=false;
+        Pair Root254=null;
+        if (buildTree) {
+            Root254=new Pair();
+            Token start=getToken(1);
+            Root254.setBeginLine(start.beginLine);
+            Root254.setBeginColumn(start.beginColumn);
+            Root254.setInputSource(this.getInputSource());
+            openNodeScope(Root254);
+        }
+        ParseException parseException254=null;
+        try {
+            // Code for expansion specified on line 1076 of HugeMethods.javacc
+            consumeToken(W126);
+            // Code for expansion specified on line 1076 of HugeMethods.javacc
+            int int254=nextTokenKind();
+            if (int254==W127) {
+                // Code for expansion specified on line 1076 of HugeMethods.javacc
+                // Code for expansion specified on line 1076 of HugeMethods.javacc
+                consumeToken(W127);
+            }
+            // Code for expansion specified on line 1076 of HugeMethods.javacc
+            int int255=nextTokenKind();
+            if (int255==405) {
+                // Code for expansion specified on line 1076 of HugeMethods.javacc
+                // Code for expansion specified on line 1076 of HugeMethods.javacc
+                boolean Root255forced=false;
+                Mark Root255=null;
+                if (buildTree) {
+                    Root255=new Mark();
+                    Token start=getToken(1);
+                    Root255.setBeginLine(start.beginLine);
+                    Root255.setBeginColumn(start.beginColumn);
+                    Root255.setInputSource(this.getInputSource());
+                    openNodeScope(Root255);
+                }
+                ParseException parseException255=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException255=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException255!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException255.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root255.setEndLine(current_token.getEndLine());
+                            Root255.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root255,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException254=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException254!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException254.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root254.setEndLine(current_token.getEndLine());
+                    Root254.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root254,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part126() throws ParseException {
+        // Code for expansion specified on line 1074 of HugeMethods.javacc
+        // Code for expansion specified on line 1074 of HugeMethods.javacc
+        boolean Root252forced=false;
+        Pair Root252=null;
+        if (buildTree) {
+            Root252=new Pair();
+            Token start=getToken(1);
+            Root252.setBeginLine(start.beginLine);
+            Root252.setBeginColumn(start.beginColumn);
+            Root252.setInputSource(this.getInputSource());
+            openNodeScope(Root252);
+        }
+        ParseException parseException252=null;
+        try {
+            // Code for expansion specified on line 1074 of HugeMethods.javacc
+            consumeToken(W125);
+            // Code for expansion specified on line 1074 of HugeMethods.javacc
+            int int252=nextTokenKind();
+            if (int252==W126) {
+                // Code for expansion specified on line 1074 of HugeMethods.javacc
+                // Code for expansion specified on line 1074 of HugeMethods.javacc
+                consumeToken(W126);
+            }
+            // Code for expansion specified on line 1074 of HugeMethods.javacc
+            int int253=nextTokenKind();
+            if (int253==405) {
+                // Code for expansion specified on line 1074 of HugeMethods.javacc
+                // Code for expansion specified on line 1074 of HugeMethods.javacc
+                boolean Root253forced=false;
+                Mark Root253=null;
+                if (buildTree) {
+                    Root253=new Mark();
+                    Token start=getToken(1);
+                    Root253.setBeginLine(start.beginLine);
+                    Root253.setBeginColumn(start.beginColumn);
+                    Root253.setInputSource(this.getInputSource());
+                    openNodeScope(Root253);
+                }
+                ParseException parseException253=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException253=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException253!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException253.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root253.setEndLine(current_token.getEndLine());
+                            Root253.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root253,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException252=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException252!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException252.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root252.setEndLine(current_token.getEndLine());
+                    Root252.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root252,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part125() throws ParseException {
+        // Code for expansion specified on line 1072 of HugeMethods.javacc
+        // Code for expansion specified on line 1072 of HugeMethods.javacc
+        boolean Root250forced=false;
+        Pair Root250=null;
+        if (buildTree) {
+            Root250=new Pair();
+            Token start=getToken(1);
+            Root250.setBeginLine(start.beginLine);
+            Root250.setBeginColumn(start.beginColumn);
+            Root250.setInputSource(this.getInputSource());
+            openNodeScope(Root250);
+        }
+        ParseException parseException250=null;
+        try {
+            // Code for expansion specified on line 1072 of HugeMethods.javacc
+            consumeToken(W124);
+            // Code for expansion specified on line 1072 of HugeMethods.javacc
+            int int250=nextTokenKind();
+            if (int250==W125) {
+                // Code for expansion specified on line 1072 of HugeMethods.javacc
+                // Code for expansion specified on line 1072 of HugeMethods.javacc
+                consumeToken(W125);
+            }
+            // Code for expansion specified on line 1072 of HugeMethods.javacc
+            int int251=nextTokenKind();
+            if (int251==405) {
+                // Code for expansion specified on line 1072 of HugeMethods.javacc
+                // Code for expansion specified on line 1072 of HugeMethods.javacc
+                boolean Root251forced=false;
+                Mark Root251=null;
+                if (buildTree) {
+                    Root251=new Mark();
+                    Token start=getToken(1);
+                    Root251.setBeginLine(start.beginLine);
+                    Root251.setBeginColumn(start.beginColumn);
+                    Root251.setInputSource(this.getInputSource());
+                    openNodeScope(Root251);
+                }
+                ParseException parseException251=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException251=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException251!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException251.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root251.setEndLine(current_token.getEndLine());
+                            Root251.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root251,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException250=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException250!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException250.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root250.setEndLine(current_token.getEndLine());
+                    Root250.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root250,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part124() throws ParseException {
+        // Code for expansion specified on line 1070 of HugeMethods.javacc
+        // Code for expansion specified on line 1070 of HugeMethods.javacc
+        boolean Root248forced=false;
+        Pair Root248=null;
+        if (buildTree) {
+            Root248=new Pair();
+            Token start=getToken(1);
+            Root248.setBeginLine(start.beginLine);
+            Root248.setBeginColumn(start.beginColumn);
+            Root248.setInputSource(this.getInputSource());
+            openNodeScope(Root248);
+        }
+        ParseException parseException248=null;
+        try {
+            // Code for expansion specified on line 1070 of HugeMethods.javacc
+            consumeToken(W123);
+            // Code for expansion specified on line 1070 of HugeMethods.javacc
+            int int248=nextTokenKind();
+            if (int248==W124) {
+                // Code for expansion specified on line 1070 of HugeMethods.javacc
+                // Code for expansion specified on line 1070 of HugeMethods.javacc
+                consumeToken(W124);
+            }
+            // Code for expansion specified on line 1070 of HugeMethods.javacc
+            int int249=nextTokenKind();
+            if (int249==405) {
+                // Code for expansion specified on line 1070 of HugeMethods.javacc
+                // Code for expansion specified on line 1070 of HugeMethods.javacc
+                boolean Root249forced=false;
+                Mark Root249=null;
+                if (buildTree) {
+                    Root249=new Mark();
+                    Token start=getToken(1);
+                    Root249.setBeginLine(start.beginLine);
+                    Root249.setBeginColumn(start.beginColumn);
+                    Root249.setInputSource(this.getInputSource());
+                    openNodeScope(Root249);
+                }
+                ParseException parseException249=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException249=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException249!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException249.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root249.setEndLine(current_token.getEndLine());
+                            Root249.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root249,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException248=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException248!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException248.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root248.setEndLine(current_token.getEndLine());
+                    Root248.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root248,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part123() throws ParseException {
+        // Code for expansion specified on line 1068 of HugeMethods.javacc
+        // Code for expansion specified on line 1068 of HugeMethods.javacc
+        boolean Root246forced=false;
+        Pair Root246=null;
+        if (buildTree) {
+            Root246=new Pair();
+            Token start=getToken(1);
+            Root246.setBeginLine(start.beginLine);
+            Root246.setBeginColumn(start.beginColumn);
+            Root246.setInputSource(this.getInputSource());
+            openNodeScope(Root246);
+        }
+        ParseException parseException246=null;
+        try {
+            // Code for expansion specified on line 1068 of HugeMethods.javacc
+            consumeToken(W122);
+            // Code for expansion specified on line 1068 of HugeMethods.javacc
+            int int246=nextTokenKind();
+            if (int246==W123) {
+                // Code for expansion specified on line 1068 of HugeMethods.javacc
+                // Code for expansion specified on line 1068 of HugeMethods.javacc
+                consumeToken(W123);
+            }
+            // Code for expansion specified on line 1068 of HugeMethods.javacc
+            int int247=nextTokenKind();
+            if (int247==405) {
+                // Code for expansion specified on line 1068 of HugeMethods.javacc
+                // Code for expansion specified on line 1068 of HugeMethods.javacc
+                boolean Root247forced=false;
+                Mark Root247=null;
+                if (buildTree) {
+                    Root247=new Mark();
+                    Token start=getToken(1);
+                    Root247.setBeginLine(start.beginLine);
+                    Root247.setBeginColumn(start.beginColumn);
+                    Root247.setInputSource(this.getInputSource());
+                    openNodeScope(Root247);
+                }
+                ParseException parseException247=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException247=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException247!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException247.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root247.setEndLine(current_token.getEndLine());
+                            Root247.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root247,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException246=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException246!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException246.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root246.setEndLine(current_token.getEndLine());
+                    Root246.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root246,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part122() throws ParseException {
+        // Code for expansion specified on line 1066 of HugeMethods.javacc
+        // Code for expansion specified on line 1066 of HugeMethods.javacc
+        boolean Root244forced=false;
+        Pair Root244=null;
+        if (buildTree) {
+            Root244=new Pair();
+            Token start=getToken(1);
+            Root244.setBeginLine(start.beginLine);
+            Root244.setBeginColumn(start.beginColumn);
+            Root244.setInputSource(this.getInputSource());
+            openNodeScope(Root244);
+        }
+        ParseException parseException244=null;
+        try {
+            // Code for expansion specified on line 1066 of HugeMethods.javacc
+            consumeToken(W121);
+            // Code for expansion specified on line 1066 of HugeMethods.javacc
+            int int244=nextTokenKind();
+            if (int244==W122) {
+                // Code for expansion specified on line 1066 of HugeMethods.javacc
+                // Code for expansion specified on line 1066 of HugeMethods.javacc
+                consumeToken(W122);
+            }
+            // Code for expansion specified on line 1066 of HugeMethods.javacc
+            int int245=nextTokenKind();
+            if (int245==405) {
+                // Code for expansion specified on line 1066 of HugeMethods.javacc
+                // Code for expansion specified on line 1066 of HugeMethods.javacc
+                boolean Root245forced=false;
+                Mark Root245=null;
+                if (buildTree) {
+                    Root245=new Mark();
+                    Token start=getToken(1);
+                    Root245.setBeginLine(start.beginLine);
+                    Root245.setBeginColumn(start.beginColumn);
+                    Root245.setInputSource(this.getInputSource());
+                    openNodeScope(Root245);
+                }
+                ParseException parseException245=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException245=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException245!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException245.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root245.setEndLine(current_token.getEndLine());
+                            Root245.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root245,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException244=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException244!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException244.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root244.setEndLine(current_token.getEndLine());
+                    Root244.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root244,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part121() throws ParseException {
+        // Code for expansion specified on line 1064 of HugeMethods.javacc
+        // Code for expansion specified on line 1064 of HugeMethods.javacc
+        boolean Root242forced=false;
+        Pair Root242=null;
+        if (buildTree) {
+            Root242=new Pair();
+            Token start=getToken(1);
+            Root242.setBeginLine(start.beginLine);
+            Root242.setBeginColumn(start.beginColumn);
+            Root242.setInputSource(this.getInputSource());
+            openNodeScope(Root242);
+        }
+        ParseException parseException242=null;
+        try {
+            // Code for expansion specified on line 1064 of HugeMethods.javacc
+            consumeToken(W120);
+            // Code for expansion specified on line 1064 of HugeMethods.javacc
+            int int242=nextTokenKind();
+            if (int242==W121) {
+                // Code for expansion specified on line 1064 of HugeMethods.javacc
+                // Code for expansion specified on line 1064 of HugeMethods.javacc
+                consumeToken(W121);
+            }
+            // Code for expansion specified on line 1064 of HugeMethods.javacc
+            int int243=nextTokenKind();
+            if (int243==405) {
+                // Code for expansion specified on line 1064 of HugeMethods.javacc
+                // Code for expansion specified on line 1064 of HugeMethods.javacc
+                boolean Root243forced=false;
+                Mark Root243=null;
+                if (buildTree) {
+                    Root243=new Mark();
+                    Token start=getToken(1);
+                    Root243.setBeginLine(start.beginLine);
+                    Root243.setBeginColumn(start.beginColumn);
+                    Root243.setInputSource(this.getInputSource());
+                    openNodeScope(Root243);
+                }
+                ParseException parseException243=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException243=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException243!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException243.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root243.setEndLine(current_token.getEndLine());
+                            Root243.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root243,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException242=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException242!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException242.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root242.setEndLine(current_token.getEndLine());
+                    Root242.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root242,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part120() throws ParseException {
+        // Code for expansion specified on line 1062 of HugeMethods.javacc
+        // Code for expansion specified on line 1062 of HugeMethods.javacc
+        boolean Root240forced=false;
+        Pair Root240=null;
+        if (buildTree) {
+            Root240=new Pair();
+            Token start=getToken(1);
+            Root240.setBeginLine(start.beginLine);
+            Root240.setBeginColumn(start.beginColumn);
+            Root240.setInputSource(this.getInputSource());
+            openNodeScope(Root240);
+        }
+        ParseException parseException240=null;
+        try {
+            // Code for expansion specified on line 1062 of HugeMethods.javacc
+            consumeToken(W119);
+            // Code for expansion specified on line 1062 of HugeMethods.javacc
+            int int240=nextTokenKind();
+            if (int240==W120) {
+                // Code for expansion specified on line 1062 of HugeMethods.javacc
+                // Code for expansion specified on line 1062 of HugeMethods.javacc
+                consumeToken(W120);
+            }
+            // Code for expansion specified on line 1062 of HugeMethods.javacc
+            int int241=nextTokenKind();
+            if (int241==405) {
+                // Code for expansion specified on line 1062 of HugeMethods.javacc
+                // Code for expansion specified on line 1062 of HugeMethods.javacc
+                boolean Root241forced=false;
+                Mark Root241=null;
+                if (buildTree) {
+                    Root241=new Mark();
+                    Token start=getToken(1);
+                    Root241.setBeginLine(start.beginLine);
+                    Root241.setBeginColumn(start.beginColumn);
+                    Root241.setInputSource(this.getInputSource());
+                    openNodeScope(Root241);
+                }
+                ParseException parseException241=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException241=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException241!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException241.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root241.setEndLine(current_token.getEndLine());
+                            Root241.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root241,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException240=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException240!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException240.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root240.setEndLine(current_token.getEndLine());
+                    Root240.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root240,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part119() throws ParseException {
+        // Code for expansion specified on line 1060 of HugeMethods.javacc
+        // Code for expansion specified on line 1060 of HugeMethods.javacc
+        boolean Root238forced=false;
+        Pair Root238=null;
+        if (buildTree) {
+            Root238=new Pair();
+            Token start=getToken(1);
+            Root238.setBeginLine(start.beginLine);
+            Root238.setBeginColumn(start.beginColumn);
+            Root238.setInputSource(this.getInputSource());
+            openNodeScope(Root238);
+        }
+        ParseException parseException238=null;
+        try {
+            // Code for expansion specified on line 1060 of HugeMethods.javacc
+            consumeToken(W118);
+            // Code for expansion specified on line 1060 of HugeMethods.javacc
+            int int238=nextTokenKind();
+            if (int238==W119) {
+                // Code for expansion specified on line 1060 of HugeMethods.javacc
+                // Code for expansion specified on line 1060 of HugeMethods.javacc
+                consumeToken(W119);
+            }
+            // Code for expansion specified on line 1060 of HugeMethods.javacc
+            int int239=nextTokenKind();
+            if (int239==405) {
+                // Code for expansion specified on line 1060 of HugeMethods.javacc
+                // Code for expansion specified on line 1060 of HugeMethods.javacc
+                boolean Root239forced=false;
+                Mark Root239=null;
+                if (buildTree) {
+                    Root239=new Mark();
+                    Token start=getToken(1);
+                    Root239.setBeginLine(start.beginLine);
+                    Root239.setBeginColumn(start.beginColumn);
+                    Root239.setInputSource(this.getInputSource());
+                    openNodeScope(Root239);
+                }
+                ParseException parseException239=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException239=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException239!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException239.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root239.setEndLine(current_token.getEndLine());
+                            Root239.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root239,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException238=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException238!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException238.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root238.setEndLine(current_token.getEndLine());
+                    Root238.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root238,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part118() throws ParseException {
+        // Code for expansion specified on line 1058 of HugeMethods.javacc
+        // Code for expansion specified on line 1058 of HugeMethods.javacc
+        boolean Root236forced=false;
+        Pair Root236=null;
+        if (buildTree) {
+            Root236=new Pair();
+            Token start=getToken(1);
+            Root236.setBeginLine(start.beginLine);
+            Root236.setBeginColumn(start.beginColumn);
+            Root236.setInputSource(this.getInputSource());
+            openNodeScope(Root236);
+        }
+        ParseException parseException236=null;
+        try {
+            // Code for expansion specified on line 1058 of HugeMethods.javacc
+            consumeToken(W117);
+            // Code for expansion specified on line 1058 of HugeMethods.javacc
+            int int236=nextTokenKind();
+            if (int236==W118) {
+                // Code for expansion specified on line 1058 of HugeMethods.javacc
+                // Code for expansion specified on line 1058 of HugeMethods.javacc
+                consumeToken(W118);
+            }
+            // Code for expansion specified on line 1058 of HugeMethods.javacc
+            int int237=nextTokenKind();
+            if (int237==405) {
+                // Code for expansion specified on line 1058 of HugeMethods.javacc
+                // Code for expansion specified on line 1058 of HugeMethods.javacc
+                boolean Root237forced=false;
+                Mark Root237=null;
+                if (buildTree) {
+                    Root237=new Mark();
+                    Token start=getToken(1);
+                    Root237.setBeginLine(start.beginLine);
+                    Root237.setBeginColumn(start.beginColumn);
+                    Root237.setInputSource(this.getInputSource());
+                    openNodeScope(Root237);
+                }
+                ParseException parseException237=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException237=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException237!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException237.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root237.setEndLine(current_token.getEndLine());
+                            Root237.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root237,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException236=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException236!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException236.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root236.setEndLine(current_token.getEndLine());
+                    Root236.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root236,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part117() throws ParseException {
+        // Code for expansion specified on line 1056 of HugeMethods.javacc
+        // Code for expansion specified on line 1056 of HugeMethods.javacc
+        boolean Root234forced=false;
+        Pair Root234=null;
+        if (buildTree) {
+            Root234=new Pair();
+            Token start=getToken(1);
+            Root234.setBeginLine(start.beginLine);
+            Root234.setBeginColumn(start.beginColumn);
+            Root234.setInputSource(this.getInputSource());
+            openNodeScope(Root234);
+        }
+        ParseException parseException234=null;
+        try {
+            // Code for expansion specified on line 1056 of HugeMethods.javacc
+            consumeToken(W116);
+            // Code for expansion specified on line 1056 of HugeMethods.javacc
+            int int234=nextTokenKind();
+            if (int234==W117) {
+                // Code for expansion specified on line 1056 of HugeMethods.javacc
+                // Code for expansion specified on line 1056 of HugeMethods.javacc
+                consumeToken(W117);
+            }
+            // Code for expansion specified on line 1056 of HugeMethods.javacc
+            int int235=nextTokenKind();
+            if (int235==405) {
+                // Code for expansion specified on line 1056 of HugeMethods.javacc
+                // Code for expansion specified on line 1056 of HugeMethods.javacc
+                boolean Root235forced=false;
+                Mark Root235=null;
+                if (buildTree) {
+                    Root235=new Mark();
+                    Token start=getToken(1);
+                    Root235.setBeginLine(start.beginLine);
+                    Root235.setBeginColumn(start.beginColumn);
+                    Root235.setInputSource(this.getInputSource());
+                    openNodeScope(Root235);
+                }
+                ParseException parseException235=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException235=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException235!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException235.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root235.setEndLine(current_token.getEndLine());
+                            Root235.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root235,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException234=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException234!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException234.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root234.setEndLine(current_token.getEndLine());
+                    Root234.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root234,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part116() throws ParseException {
+        // Code for expansion specified on line 1054 of HugeMethods.javacc
+        // Code for expansion specified on line 1054 of HugeMethods.javacc
+        boolean Root232forced=false;
+        Pair Root232=null;
+        if (buildTree) {
+            Root232=new Pair();
+            Token start=getToken(1);
+            Root232.setBeginLine(start.beginLine);
+            Root232.setBeginColumn(start.beginColumn);
+            Root232.setInputSource(this.getInputSource());
+            openNodeScope(Root232);
+        }
+        ParseException parseException232=null;
+        try {
+            // Code for expansion specified on line 1054 of HugeMethods.javacc
+            consumeToken(W115);
+            // Code for expansion specified on line 1054 of HugeMethods.javacc
+            int int232=nextTokenKind();
+            if (int232==W116) {
+                // Code for expansion specified on line 1054 of HugeMethods.javacc
+                // Code for expansion specified on line 1054 of HugeMethods.javacc
+                consumeToken(W116);
+            }
+            // Code for expansion specified on line 1054 of HugeMethods.javacc
+            int int233=nextTokenKind();
+            if (int233==405) {
+                // Code for expansion specified on line 1054 of HugeMethods.javacc
+                // Code for expansion specified on line 1054 of HugeMethods.javacc
+                boolean Root233forced=false;
+                Mark Root233=null;
+                if (buildTree) {
+                    Root233=new Mark();
+                    Token start=getToken(1);
+                    Root233.setBeginLine(start.beginLine);
+                    Root233.setBeginColumn(start.beginColumn);
+                    Root233.setInputSource(this.getInputSource());
+                    openNodeScope(Root233);
+                }
+                ParseException parseException233=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException233=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException233!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException233.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root233.setEndLine(current_token.getEndLine());
+                            Root233.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root233,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException232=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException232!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException232.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root232.setEndLine(current_token.getEndLine());
+                    Root232.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root232,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part115() throws ParseException {
+        // Code for expansion specified on line 1052 of HugeMethods.javacc
+        // Code for expansion specified on line 1052 of HugeMethods.javacc
+        boolean Root230forced=false;
+        Pair Root230=null;
+        if (buildTree) {
+            Root230=new Pair();
+            Token start=getToken(1);
+            Root230.setBeginLine(start.beginLine);
+            Root230.setBeginColumn(start.beginColumn);
+            Root230.setInputSource(this.getInputSource());
+            openNodeScope(Root230);
+        }
+        ParseException parseException230=null;
+        try {
+            // Code for expansion specified on line 1052 of HugeMethods.javacc
+            consumeToken(W114);
+            // Code for expansion specified on line 1052 of HugeMethods.javacc
+            int int230=nextTokenKind();
+            if (int230==W115) {
+                // Code for expansion specified on line 1052 of HugeMethods.javacc
+                // Code for expansion specified on line 1052 of HugeMethods.javacc
+                consumeToken(W115);
+            }
+            // Code for expansion specified on line 1052 of HugeMethods.javacc
+            int int231=nextTokenKind();
+            if (int231==405) {
+                // Code for expansion specified on line 1052 of HugeMethods.javacc
+                // Code for expansion specified on line 1052 of HugeMethods.javacc
+                boolean Root231forced=false;
+                Mark Root231=null;
+                if (buildTree) {
+                    Root231=new Mark();
+                    Token start=getToken(1);
+                    Root231.setBeginLine(start.beginLine);
+                    Root231.setBeginColumn(start.beginColumn);
+                    Root231.setInputSource(this.getInputSource());
+                    openNodeScope(Root231);
+                }
+                ParseException parseException231=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException231=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException231!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException231.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root231.setEndLine(current_token.getEndLine());
+                            Root231.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root231,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException230=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException230!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException230.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root230.setEndLine(current_token.getEndLine());
+                    Root230.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root230,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part114() throws ParseException {
+        // Code for expansion specified on line 1050 of HugeMethods.javacc
+        // Code for expansion specified on line 1050 of HugeMethods.javacc
+        boolean Root228forced=false;
+        Pair Root228=null;
+        if (buildTree) {
+            Root228=new Pair();
+            Token start=getToken(1);
+            Root228.setBeginLine(start.beginLine);
+            Root228.setBeginColumn(start.beginColumn);
+            Root228.setInputSource(this.getInputSource());
+            openNodeScope(Root228);
+        }
+        ParseException parseException228=null;
+        try {
+            // Code for expansion specified on line 1050 of HugeMethods.javacc
+            consumeToken(W113);
+            // Code for expansion specified on line 1050 of HugeMethods.javacc
+            int int228=nextTokenKind();
+            if (int228==W114) {
+                // Code for expansion specified on line 1050 of HugeMethods.javacc
+                // Code for expansion specified on line 1050 of HugeMethods.javacc
+                consumeToken(W114);
+            }
+            // Code for expansion specified on line 1050 of HugeMethods.javacc
+            int int229=nextTokenKind();
+            if (int229==405) {
+                // Code for expansion specified on line 1050 of HugeMethods.javacc
+                // Code for expansion specified on line 1050 of HugeMethods.javacc
+                boolean Root229forced=false;
+                Mark Root229=null;
+                if (buildTree) {
+                    Root229=new Mark();
+                    Token start=getToken(1);
+                    Root229.setBeginLine(start.beginLine);
+                    Root229.setBeginColumn(start.beginColumn);
+                    Root229.setInputSource(this.getInputSource());
+                    openNodeScope(Root229);
+                }
+                ParseException parseException229=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException229=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException229!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException229.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root229.setEndLine(current_token.getEndLine());
+                            Root229.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root229,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException228=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException228!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException228.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root228.setEndLine(current_token.getEndLine());
+                    Root228.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root228,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part113() throws ParseException {
+        // Code for expansion specified on line 1048 of HugeMethods.javacc
+        // Code for expansion specified on line 1048 of HugeMethods.javacc
+        boolean Root226forced=false;
+        Pair Root226=null;
+        if (buildTree) {
+            Root226=new Pair();
+            Token start=getToken(1);
+            Root226.setBeginLine(start.beginLine);
+            Root226.setBeginColumn(start.beginColumn);
+            Root226.setInputSource(this.getInputSource());
+            openNodeScope(Root226);
+        }
+        ParseException parseException226=null;
+        try {
+            // Code for expansion specified on line 1048 of HugeMethods.javacc
+            consumeToken(W112);
+            // Code for expansion specified on line 1048 of HugeMethods.javacc
+            int int226=nextTokenKind();
+            if (int226==W113) {
+                // Code for expansion specified on line 1048 of HugeMethods.javacc
+                // Code for expansion specified on line 1048 of HugeMethods.javacc
+                consumeToken(W113);
+            }
+            // Code for expansion specified on line 1048 of HugeMethods.javacc
+            int int227=nextTokenKind();
+            if (int227==405) {
+                // Code for expansion specified on line 1048 of HugeMethods.javacc
+                // Code for expansion specified on line 1048 of HugeMethods.javacc
+                boolean Root227forced=false;
+                Mark Root227=null;
+                if (buildTree) {
+                    Root227=new Mark();
+                    Token start=getToken(1);
+                    Root227.setBeginLine(start.beginLine);
+                    Root227.setBeginColumn(start.beginColumn);
+                    Root227.setInputSource(this.getInputSource());
+                    openNodeScope(Root227);
+                }
+                ParseException parseException227=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException227=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException227!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException227.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root227.setEndLine(current_token.getEndLine());
+                            Root227.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root227,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException226=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException226!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException226.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root226.setEndLine(current_token.getEndLine());
+                    Root226.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root226,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part112() throws ParseException {
+        // Code for expansion specified on line 1046 of HugeMethods.javacc
+        // Code for expansion specified on line 1046 of HugeMethods.javacc
+        boolean Root224forced=false;
+        Pair Root224=null;
+        if (buildTree) {
+            Root224=new Pair();
+            Token start=getToken(1);
+            Root224.setBeginLine(start.beginLine);
+            Root224.setBeginColumn(start.beginColumn);
+            Root224.setInputSource(this.getInputSource());
+            openNodeScope(Root224);
+        }
+        ParseException parseException224=null;
+        try {
+            // Code for expansion specified on line 1046 of HugeMethods.javacc
+            consumeToken(W111);
+            // Code for expansion specified on line 1046 of HugeMethods.javacc
+            int int224=nextTokenKind();
+            if (int224==W112) {
+                // Code for expansion specified on line 1046 of HugeMethods.javacc
+                // Code for expansion specified on line 1046 of HugeMethods.javacc
+                consumeToken(W112);
+            }
+            // Code for expansion specified on line 1046 of HugeMethods.javacc
+            int int225=nextTokenKind();
+            if (int225==405) {
+                // Code for expansion specified on line 1046 of HugeMethods.javacc
+                // Code for expansion specified on line 1046 of HugeMethods.javacc
+                boolean Root225forced=false;
+                Mark Root225=null;
+                if (buildTree) {
+                    Root225=new Mark();
+                    Token start=getToken(1);
+                    Root225.setBeginLine(start.beginLine);
+                    Root225.setBeginColumn(start.beginColumn);
+                    Root225.setInputSource(this.getInputSource());
+                    openNodeScope(Root225);
+                }
+                ParseException parseException225=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException225=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException225!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException225.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root225.setEndLine(current_token.getEndLine());
+                            Root225.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root225,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException224=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException224!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException224.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root224.setEndLine(current_token.getEndLine());
+                    Root224.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root224,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part111() throws ParseException {
+        // Code for expansion specified on line 1044 of HugeMethods.javacc
+        // Code for expansion specified on line 1044 of HugeMethods.javacc
+        boolean Root222forced=false;
+        Pair Root222=null;
+        if (buildTree) {
+            Root222=new Pair();
+            Token start=getToken(1);
+            Root222.setBeginLine(start.beginLine);
+            Root222.setBeginColumn(start.beginColumn);
+            Root222.setInputSource(this.getInputSource());
+            openNodeScope(Root222);
+        }
+        ParseException parseException222=null;
+        try {
+            // Code for expansion specified on line 1044 of HugeMethods.javacc
+            consumeToken(W110);
+            // Code for expansion specified on line 1044 of HugeMethods.javacc
+            int int222=nextTokenKind();
+            if (int222==W111) {
+                // Code for expansion specified on line 1044 of HugeMethods.javacc
+                // Code for expansion specified on line 1044 of HugeMethods.javacc
+                consumeToken(W111);
+            }
+            // Code for expansion specified on line 1044 of HugeMethods.javacc
+            int int223=nextTokenKind();
+            if (int223==405) {
+                // Code for expansion specified on line 1044 of HugeMethods.javacc
+                // Code for expansion specified on line 1044 of HugeMethods.javacc
+                boolean Root223forced=false;
+                Mark Root223=null;
+                if (buildTree) {
+                    Root223=new Mark();
+                    Token start=getToken(1);
+                    Root223.setBeginLine(start.beginLine);
+                    Root223.setBeginColumn(start.beginColumn);
+                    Root223.setInputSource(this.getInputSource());
+                    openNodeScope(Root223);
+                }
+                ParseException parseException223=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException223=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException223!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException223.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root223.setEndLine(current_token.getEndLine());
+                            Root223.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root223,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException222=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException222!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException222.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root222.setEndLine(current_token.getEndLine());
+                    Root222.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root222,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part110() throws ParseException {
+        // Code for expansion specified on line 1042 of HugeMethods.javacc
+        // Code for expansion specified on line 1042 of HugeMethods.javacc
+        boolean Root220forced=false;
+        Pair Root220=null;
+        if (buildTree) {
+            Root220=new Pair();
+            Token start=getToken(1);
+            Root220.setBeginLine(start.beginLine);
+            Root220.setBeginColumn(start.beginColumn);
+            Root220.setInputSource(this.getInputSource());
+            openNodeScope(Root220);
+        }
+        ParseException parseException220=null;
+        try {
+            // Code for expansion specified on line 1042 of HugeMethods.javacc
+            consumeToken(W109);
+            // Code for expansion specified on line 1042 of HugeMethods.javacc
+            int int220=nextTokenKind();
+            if (int220==W110) {
+                // Code for expansion specified on line 1042 of HugeMethods.javacc
+                // Code for expansion specified on line 1042 of HugeMethods.javacc
+                consumeToken(W110);
+            }
+            // Code for expansion specified on line 1042 of HugeMethods.javacc
+            int int221=nextTokenKind();
+            if (int221==405) {
+                // Code for expansion specified on line 1042 of HugeMethods.javacc
+                // Code for expansion specified on line 1042 of HugeMethods.javacc
+                boolean Root221forced=false;
+                Mark Root221=null;
+                if (buildTree) {
+                    Root221=new Mark();
+                    Token start=getToken(1);
+                    Root221.setBeginLine(start.beginLine);
+                    Root221.setBeginColumn(start.beginColumn);
+                    Root221.setInputSource(this.getInputSource());
+                    openNodeScope(Root221);
+                }
+                ParseException parseException221=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException221=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException221!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException221.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root221.setEndLine(current_token.getEndLine());
+                            Root221.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root221,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException220=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException220!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException220.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root220.setEndLine(current_token.getEndLine());
+                    Root220.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root220,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part109() throws ParseException {
+        // Code for expansion specified on line 1040 of HugeMethods.javacc
+        // Code for expansion specified on line 1040 of HugeMethods.javacc
+        boolean Root218forced=false;
+        Pair Root218=null;
+        if (buildTree) {
+            Root218=new Pair();
+            Token start=getToken(1);
+            Root218.setBeginLine(start.beginLine);
+            Root218.setBeginColumn(start.beginColumn);
+            Root218.setInputSource(this.getInputSource());
+            openNodeScope(Root218);
+        }
+        ParseException parseException218=null;
+        try {
+            // Code for expansion specified on line 1040 of HugeMethods.javacc
+            consumeToken(W108);
+            // Code for expansion specified on line 1040 of HugeMethods.javacc
+            int int218=nextTokenKind();
+            if (int218==W109) {
+                // Code for expansion specified on line 1040 of HugeMethods.javacc
+                // Code for expansion specified on line 1040 of HugeMethods.javacc
+                consumeToken(W109);
+            }
+            // Code for expansion specified on line 1040 of HugeMethods.javacc
+            int int219=nextTokenKind();
+            if (int219==405) {
+                // Code for expansion specified on line 1040 of HugeMethods.javacc
+                // Code for expansion specified on line 1040 of HugeMethods.javacc
+                boolean Root219forced=false;
+                Mark Root219=null;
+                if (buildTree) {
+                    Root219=new Mark();
+                    Token start=getToken(1);
+                    Root219.setBeginLine(start.beginLine);
+                    Root219.setBeginColumn(start.beginColumn);
+                    Root219.setInputSource(this.getInputSource());
+                    openNodeScope(Root219);
+                }
+                ParseException parseException219=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException219=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException219!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException219.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root219.setEndLine(current_token.getEndLine());
+                            Root219.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root219,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException218=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException218!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException218.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root218.setEndLine(current_token.getEndLine());
+                    Root218.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root218,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part108() throws ParseException {
+        // Code for expansion specified on line 1038 of HugeMethods.javacc
+        // Code for expansion specified on line 1038 of HugeMethods.javacc
+        boolean Root216forced=false;
+        Pair Root216=null;
+        if (buildTree) {
+            Root216=new Pair();
+            Token start=getToken(1);
+            Root216.setBeginLine(start.beginLine);
+            Root216.setBeginColumn(start.beginColumn);
+            Root216.setInputSource(this.getInputSource());
+            openNodeScope(Root216);
+        }
+        ParseException parseException216=null;
+        try {
+            // Code for expansion specified on line 1038 of HugeMethods.javacc
+            consumeToken(W107);
+            // Code for expansion specified on line 1038 of HugeMethods.javacc
+            int int216=nextTokenKind();
+            if (int216==W108) {
+                // Code for expansion specified on line 1038 of HugeMethods.javacc
+                // Code for expansion specified on line 1038 of HugeMethods.javacc
+                consumeToken(W108);
+            }
+            // Code for expansion specified on line 1038 of HugeMethods.javacc
+            int int217=nextTokenKind();
+            if (int217==405) {
+                // Code for expansion specified on line 1038 of HugeMethods.javacc
+                // Code for expansion specified on line 1038 of HugeMethods.javacc
+                boolean Root217forced=false;
+                Mark Root217=null;
+                if (buildTree) {
+                    Root217=new Mark();
+                    Token start=getToken(1);
+                    Root217.setBeginLine(start.beginLine);
+                    Root217.setBeginColumn(start.beginColumn);
+                    Root217.setInputSource(this.getInputSource());
+                    openNodeScope(Root217);
+                }
+                ParseException parseException217=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException217=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException217!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException217.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root217.setEndLine(current_token.getEndLine());
+                            Root217.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root217,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException216=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException216!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException216.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root216.setEndLine(current_token.getEndLine());
+                    Root216.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root216,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part107() throws ParseException {
+        // Code for expansion specified on line 1036 of HugeMethods.javacc
+        // Code for expansion specified on line 1036 of HugeMethods.javacc
+        boolean Root214forced=false;
+        Pair Root214=null;
+        if (buildTree) {
+            Root214=new Pair();
+            Token start=getToken(1);
+            Root214.setBeginLine(start.beginLine);
+            Root214.setBeginColumn(start.beginColumn);
+            Root214.setInputSource(this.getInputSource());
+            openNodeScope(Root214);
+        }
+        ParseException parseException214=null;
+        try {
+            // Code for expansion specified on line 1036 of HugeMethods.javacc
+            consumeToken(W106);
+            // Code for expansion specified on line 1036 of HugeMethods.javacc
+            int int214=nextTokenKind();
+            if (int214==W107) {
+                // Code for expansion specified on line 1036 of HugeMethods.javacc
+                // Code for expansion specified on line 1036 of HugeMethods.javacc
+                consumeToken(W107);
+            }
+            // Code for expansion specified on line 1036 of HugeMethods.javacc
+            int int215=nextTokenKind();
+            if (int215==405) {
+                // Code for expansion specified on line 1036 of HugeMethods.javacc
+                // Code for expansion specified on line 1036 of HugeMethods.javacc
+                boolean Root215forced=false;
+                Mark Root215=null;
+                if (buildTree) {
+                    Root215=new Mark();
+                    Token start=getToken(1);
+                    Root215.setBeginLine(start.beginLine);
+                    Root215.setBeginColumn(start.beginColumn);
+                    Root215.setInputSource(this.getInputSource());
+                    openNodeScope(Root215);
+                }
+                ParseException parseException215=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException215=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException215!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException215.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root215.setEndLine(current_token.getEndLine());
+                            Root215.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root215,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException214=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException214!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException214.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root214.setEndLine(current_token.getEndLine());
+                    Root214.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root214,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part106() throws ParseException {
+        // Code for expansion specified on line 1034 of HugeMethods.javacc
+        // Code for expansion specified on line 1034 of HugeMethods.javacc
+        boolean Root212forced=false;
+        Pair Root212=null;
+        if (buildTree) {
+            Root212=new Pair();
+            Token start=getToken(1);
+            Root212.setBeginLine(start.beginLine);
+            Root212.setBeginColumn(start.beginColumn);
+            Root212.setInputSource(this.getInputSource());
+            openNodeScope(Root212);
+        }
+        ParseException parseException212=null;
+        try {
+            // Code for expansion specified on line 1034 of HugeMethods.javacc
+            consumeToken(W105);
+            // Code for expansion specified on line 1034 of HugeMethods.javacc
+            int int212=nextTokenKind();
+            if (int212==W106) {
+                // Code for expansion specified on line 1034 of HugeMethods.javacc
+                // Code for expansion specified on line 1034 of HugeMethods.javacc
+                consumeToken(W106);
+            }
+            // Code for expansion specified on line 1034 of HugeMethods.javacc
+            int int213=nextTokenKind();
+            if (int213==405) {
+                // Code for expansion specified on line 1034 of HugeMethods.javacc
+                // Code for expansion specified on line 1034 of HugeMethods.javacc
+                boolean Root213forced=false;
+                Mark Root213=null;
+                if (buildTree) {
+                    Root213=new Mark();
+                    Token start=getToken(1);
+                    Root213.setBeginLine(start.beginLine);
+                    Root213.setBeginColumn(start.beginColumn);
+                    Root213.setInputSource(this.getInputSource());
+                    openNodeScope(Root213);
+                }
+                ParseException parseException213=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException213=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException213!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException213.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root213.setEndLine(current_token.getEndLine());
+                            Root213.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root213,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException212=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException212!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException212.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root212.setEndLine(current_token.getEndLine());
+                    Root212.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root212,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part105() throws ParseException {
+        // Code for expansion specified on line 1032 of HugeMethods.javacc
+        // Code for expansion specified on line 1032 of HugeMethods.javacc
+        boolean Root210forced=false;
+        Pair Root210=null;
+        if (buildTree) {
+            Root210=new Pair();
+            Token start=getToken(1);
+            Root210.setBeginLine(start.beginLine);
+            Root210.setBeginColumn(start.beginColumn);
+            Root210.setInputSource(this.getInputSource());
+            openNodeScope(Root210);
+        }
+        ParseException parseException210=null;
+        try {
+            // Code for expansion specified on line 1032 of HugeMethods.javacc
+            consumeToken(W104);
+            // Code for expansion specified on line 1032 of HugeMethods.javacc
+            int int210=nextTokenKind();
+            if (int210==W105) {
+                // Code for expansion specified on line 1032 of HugeMethods.javacc
+                // Code for expansion specified on line 1032 of HugeMethods.javacc
+                consumeToken(W105);
+            }
+            // Code for expansion specified on line 1032 of HugeMethods.javacc
+            int int211=nextTokenKind();
+            if (int211==405) {
+                // Code for expansion specified on line 1032 of HugeMethods.javacc
+                // Code for expansion specified on line 1032 of HugeMethods.javacc
+                boolean Root211forced=false;
+                Mark Root211=null;
+                if (buildTree) {
+                    Root211=new Mark();
+                    Token start=getToken(1);
+                    Root211.setBeginLine(start.beginLine);
+                    Root211.setBeginColumn(start.beginColumn);
+                    Root211.setInputSource(this.getInputSource());
+                    openNodeScope(Root211);
+                }
+                ParseException parseException211=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException211=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException211!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException211.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root211.setEndLine(current_token.getEndLine());
+                            Root211.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root211,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException210=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException210!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException210.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root210.setEndLine(current_token.getEndLine());
+                    Root210.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root210,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part104() throws ParseException {
+        // Code for expansion specified on line 1030 of HugeMethods.javacc
+        // Code for expansion specified on line 1030 of HugeMethods.javacc
+        boolean Root208forced=false;
+        Pair Root208=null;
+        if (buildTree) {
+            Root208=new Pair();
+            Token start=getToken(1);
+            Root208.setBeginLine(start.beginLine);
+            Root208.setBeginColumn(start.beginColumn);
+            Root208.setInputSource(this.getInputSource());
+            openNodeScope(Root208);
+        }
+        ParseException parseException208=null;
+        try {
+            // Code for expansion specified on line 1030 of HugeMethods.javacc
+            consumeToken(W103);
+            // Code for expansion specified on line 1030 of HugeMethods.javacc
+            int int208=nextTokenKind();
+            if (int208==W104) {
+                // Code for expansion specified on line 1030 of HugeMethods.javacc
+                // Code for expansion specified on line 1030 of HugeMethods.javacc
+                consumeToken(W104);
+            }
+            // Code for expansion specified on line 1030 of HugeMethods.javacc
+            int int209=nextTokenKind();
+            if (int209==405) {
+                // Code for expansion specified on line 1030 of HugeMethods.javacc
+                // Code for expansion specified on line 1030 of HugeMethods.javacc
+                boolean Root209forced=false;
+                Mark Root209=null;
+                if (buildTree) {
+                    Root209=new Mark();
+                    Token start=getToken(1);
+                    Root209.setBeginLine(start.beginLine);
+                    Root209.setBeginColumn(start.beginColumn);
+                    Root209.setInputSource(this.getInputSource());
+                    openNodeScope(Root209);
+                }
+                ParseException parseException209=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException209=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException209!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException209.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root209.setEndLine(current_token.getEndLine());
+                            Root209.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root209,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException208=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException208!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException208.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root208.setEndLine(current_token.getEndLine());
+                    Root208.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root208,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part103() throws ParseException {
+        // Code for expansion specified on line 1028 of HugeMethods.javacc
+        // Code for expansion specified on line 1028 of HugeMethods.javacc
+        boolean Root206forced=false;
+        Pair Root206=null;
+        if (buildTree) {
+            Root206=new Pair();
+            Token start=getToken(1);
+            Root206.setBeginLine(start.beginLine);
+            Root206.setBeginColumn(start.beginColumn);
+            Root206.setInputSource(this.getInputSource());
+            openNodeScope(Root206);
+        }
+        ParseException parseException206=null;
+        try {
+            // Code for expansion specified on line 1028 of HugeMethods.javacc
+            consumeToken(W102);
+            // Code for expansion specified on line 1028 of HugeMethods.javacc
+            int int206=nextTokenKind();
+            if (int206==W103) {
+                // Code for expansion specified on line 1028 of HugeMethods.javacc
+                // Code for expansion specified on line 1028 of HugeMethods.javacc
+                consumeToken(W103);
+            }
+            // Code for expansion specified on line 1028 of HugeMethods.javacc
+            int int207=nextTokenKind();
+            if (int207==405) {
+                // Code for expansion specified on line 1028 of HugeMethods.javacc
+                // Code for expansion specified on line 1028 of HugeMethods.javacc
+                boolean Root207forced=false;
+                Mark Root207=null;
+                if (buildTree) {
+                    Root207=new Mark();
+                    Token start=getToken(1);
+                    Root207.setBeginLine(start.beginLine);
+                    Root207.setBeginColumn(start.beginColumn);
+                    Root207.setInputSource(this.getInputSource());
+                    openNodeScope(Root207);
+                }
+                ParseException parseException207=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException207=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException207!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException207.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root207.setEndLine(current_token.getEndLine());
+                            Root207.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root207,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException206=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException206!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException206.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root206.setEndLine(current_token.getEndLine());
+                    Root206.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root206,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part102() throws ParseException {
+        // Code for expansion specified on line 1026 of HugeMethods.javacc
+        // Code for expansion specified on line 1026 of HugeMethods.javacc
+        boolean Root204forced=false;
+        Pair Root204=null;
+        if (buildTree) {
+            Root204=new Pair();
+            Token start=getToken(1);
+            Root204.setBeginLine(start.beginLine);
+            Root204.setBeginColumn(start.beginColumn);
+            Root204.setInputSource(this.getInputSource());
+            openNodeScope(Root204);
+        }
+        ParseException parseException204=null;
+        try {
+            // Code for expansion specified on line 1026 of HugeMethods.javacc
+            consumeToken(W101);
+            // Code for expansion specified on line 1026 of HugeMethods.javacc
+            int int204=nextTokenKind();
+            if (int204==W102) {
+                // Code for expansion specified on line 1026 of HugeMethods.javacc
+                // Code for expansion specified on line 1026 of HugeMethods.javacc
+                consumeToken(W102);
+            }
+            // Code for expansion specified on line 1026 of HugeMethods.javacc
+            int int205=nextTokenKind();
+            if (int205==405) {
+                // Code for expansion specified on line 1026 of HugeMethods.javacc
+                // Code for expansion specified on line 1026 of HugeMethods.javacc
+                boolean Root205forced=false;
+                Mark Root205=null;
+                if (buildTree) {
+                    Root205=new Mark();
+                    Token start=getToken(1);
+                    Root205.setBeginLine(start.beginLine);
+                    Root205.setBeginColumn(start.beginColumn);
+                    Root205.setInputSource(this.getInputSource());
+                    openNodeScope(Root205);
+                }
+                ParseException parseException205=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException205=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException205!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException205.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root205.setEndLine(current_token.getEndLine());
+                            Root205.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root205,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException204=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException204!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException204.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root204.setEndLine(current_token.getEndLine());
+                    Root204.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root204,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part101() throws ParseException {
+        // Code for expansion specified on line 1024 of HugeMethods.javacc
+        // Code for expansion specified on line 1024 of HugeMethods.javacc
+        boolean Root202forced=false;
+        Pair Root202=null;
+        if (buildTree) {
+            Root202=new Pair();
+            Token start=getToken(1);
+            Root202.setBeginLine(start.beginLine);
+            Root202.setBeginColumn(start.beginColumn);
+            Root202.setInputSource(this.getInputSource());
+            openNodeScope(Root202);
+        }
+        ParseException parseException202=null;
+        try {
+            // Code for expansion specified on line 1024 of HugeMethods.javacc
+            consumeToken(W100);
+            // Code for expansion specified on line 1024 of HugeMethods.javacc
+            int int202=nextTokenKind();
+            if (int202==W101) {
+                // Code for expansion specified on line 1024 of HugeMethods.javacc
+                // Code for expansion specified on line 1024 of HugeMethods.javacc
+                consumeToken(W101);
+            }
+            // Code for expansion specified on line 1024 of HugeMethods.javacc
+            int int203=nextTokenKind();
+            if (int203==405) {
+                // Code for expansion specified on line 1024 of HugeMethods.javacc
+                // Code for expansion specified on line 1024 of HugeMethods.javacc
+                boolean Root203forced=false;
+                Mark Root203=null;
+                if (buildTree) {
+                    Root203=new Mark();
+                    Token start=getToken(1);
+                    Root203.setBeginLine(start.beginLine);
+                    Root203.setBeginColumn(start.beginColumn);
+                    Root203.setInputSource(this.getInputSource());
+                    openNodeScope(Root203);
+                }
+                ParseException parseException203=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException203=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException203!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException203.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root203.setEndLine(current_token.getEndLine());
+                            Root203.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root203,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException202=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException202!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException202.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root202.setEndLine(current_token.getEndLine());
+                    Root202.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root202,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part100() throws ParseException {
+        // Code for expansion specified on line 1022 of HugeMethods.javacc
+        // Code for expansion specified on line 1022 of HugeMethods.javacc
+        boolean Root200forced=false;
+        Pair Root200=null;
+        if (buildTree) {
+            Root200=new Pair();
+            Token start=getToken(1);
+            Root200.setBeginLine(start.beginLine);
+            Root200.setBeginColumn(start.beginColumn);
+            Root200.setInputSource(this.getInputSource());
+            openNodeScope(Root200);
+        }
+        ParseException parseException200=null;
+        try {
+            // Code for expansion specified on line 1022 of HugeMethods.javacc
+            consumeToken(W99);
+            // Code for expansion specified on line 1022 of HugeMethods.javacc
+            int int200=nextTokenKind();
+            if (int200==W100) {
+                // Code for expansion specified on line 1022 of HugeMethods.javacc
+                // Code for expansion specified on line 1022 of HugeMethods.javacc
+                consumeToken(W100);
+            }
+            // Code for expansion specified on line 1022 of HugeMethods.javacc
+            int int201=nextTokenKind();
+            if (int201==405) {
+                // Code for expansion specified on line 1022 of HugeMethods.javacc
+                // Code for expansion specified on line 1022 of HugeMethods.javacc
+                boolean Root201forced=false;
+                Mark Root201=null;
+                if (buildTree) {
+                    Root201=new Mark();
+                    Token start=getToken(1);
+                    Root201.setBeginLine(start.beginLine);
+                    Root201.setBeginColumn(start.beginColumn);
+                    Root201.setInputSource(this.getInputSource());
+                    openNodeScope(Root201);
+                }
+                ParseException parseException201=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException201=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException201!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException201.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root201.setEndLine(current_token.getEndLine());
+                            Root201.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root201,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException200=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException200!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException200.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root200.setEndLine(current_token.getEndLine());
+                    Root200.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root200,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part99() throws ParseException {
+        // Code for expansion specified on line 1020 of HugeMethods.javacc
+        // Code for expansion specified on line 1020 of HugeMethods.javacc
+        boolean Root198forced=false;
+        Pair Root198=null;
+        if (buildTree) {
+            Root198=new Pair();
+            Token start=getToken(1);
+            Root198.setBeginLine(start.beginLine);
+            Root198.setBeginColumn(start.beginColumn);
+            Root198.setInputSource(this.getInputSource());
+            openNodeScope(Root198);
+        }
+        ParseException parseException198=null;
+        try {
+            // Code for expansion specified on line 1020 of HugeMethods.javacc
+            consumeToken(W98);
+            // Code for expansion specified on line 1020 of HugeMethods.javacc
+            int int198=nextTokenKind();
+            if (int198==W99) {
+                // Code for expansion specified on line 1020 of HugeMethods.javacc
+                // Code for expansion specified on line 1020 of HugeMethods.javacc
+                consumeToken(W99);
+            }
+            // Code for expansion specified on line 1020 of HugeMethods.javacc
+            int int199=nextTokenKind();
+            if (int199==405) {
+                // Code for expansion specified on line 1020 of HugeMethods.javacc
+                // Code for expansion specified on line 1020 of HugeMethods.javacc
+                boolean Root199forced=false;
+                Mark Root199=null;
+                if (buildTree) {
+                    Root199=new Mark();
+                    Token start=getToken(1);
+                    Root199.setBeginLine(start.beginLine);
+                    Root199.setBeginColumn(start.beginColumn);
+                    Root199.setInputSource(this.getInputSource());
+                    openNodeScope(Root199);
+                }
+                ParseException parseException199=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException199=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException199!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException199.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root199.setEndLine(current_token.getEndLine());
+                            Root199.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root199,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException198=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException198!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException198.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root198.setEndLine(current_token.getEndLine());
+                    Root198.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root198,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part98() throws ParseException {
+        // Code for expansion specified on line 1018 of HugeMethods.javacc
+        // Code for expansion specified on line 1018 of HugeMethods.javacc
+        boolean Root196forced=false;
+        Pair Root196=null;
+        if (buildTree) {
+            Root196=new Pair();
+            Token start=getToken(1);
+            Root196.setBeginLine(start.beginLine);
+            Root196.setBeginColumn(start.beginColumn);
+            Root196.setInputSource(this.getInputSource());
+            openNodeScope(Root196);
+        }
+        ParseException parseException196=null;
+        try {
+            // Code for expansion specified on line 1018 of HugeMethods.javacc
+            consumeToken(W97);
+            // Code for expansion specified on line 1018 of HugeMethods.javacc
+            int int196=nextTokenKind();
+            if (int196==W98) {
+                // Code for expansion specified on line 1018 of HugeMethods.javacc
+                // Code for expansion specified on line 1018 of HugeMethods.javacc
+                consumeToken(W98);
+            }
+            // Code for expansion specified on line 1018 of HugeMethods.javacc
+            int int197=nextTokenKind();
+            if (int197==405) {
+                // Code for expansion specified on line 1018 of HugeMethods.javacc
+                // Code for expansion specified on line 1018 of HugeMethods.javacc
+                boolean Root197forced=false;
+                Mark Root197=null;
+                if (buildTree) {
+                    Root197=new Mark();
+                    Token start=getToken(1);
+                    Root197.setBeginLine(start.beginLine);
+                    Root197.setBeginColumn(start.beginColumn);
+                    Root197.setInputSource(this.getInputSource());
+                    openNodeScope(Root197);
+                }
+                ParseException parseException197=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException197=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException197!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException197.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root197.setEndLine(current_token.getEndLine());
+                            Root197.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root197,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException196=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException196!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException196.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root196.setEndLine(current_token.getEndLine());
+                    Root196.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root196,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part97() throws ParseException {
+        // Code for expansion specified on line 1016 of HugeMethods.javacc
+        // Code for expansion specified on line 1016 of HugeMethods.javacc
+        boolean Root194forced=false;
+        Pair Root194=null;
+        if (buildTree) {
+            Root194=new Pair();
+            Token start=getToken(1);
+            Root194.setBeginLine(start.beginLine);
+            Root194.setBeginColumn(start.beginColumn);
+            Root194.setInputSource(this.getInputSource());
+            openNodeScope(Root194);
+        }
+        ParseException parseException194=null;
+        try {
+            // Code for expansion specified on line 1016 of HugeMethods.javacc
+            consumeToken(W96);
+            // Code for expansion specified on line 1016 of HugeMethods.javacc
+            int int194=nextTokenKind();
+            if (int194==W97) {
+                // Code for expansion specified on line 1016 of HugeMethods.javacc
+                // Code for expansion specified on line 1016 of HugeMethods.javacc
+                consumeToken(W97);
+            }
+            // Code for expansion specified on line 1016 of HugeMethods.javacc
+            int int195=nextTokenKind();
+            if (int195==405) {
+                // Code for expansion specified on line 1016 of HugeMethods.javacc
+                // Code for expansion specified on line 1016 of HugeMethods.javacc
+                boolean Root195forced=false;
+                Mark Root195=null;
+                if (buildTree) {
+                    Root195=new Mark();
+                    Token start=getToken(1);
+                    Root195.setBeginLine(start.beginLine);
+                    Root195.setBeginColumn(start.beginColumn);
+                    Root195.setInputSource(this.getInputSource());
+                    openNodeScope(Root195);
+                }
+                ParseException parseException195=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException195=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException195!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException195.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root195.setEndLine(current_token.getEndLine());
+                            Root195.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root195,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException194=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException194!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException194.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root194.setEndLine(current_token.getEndLine());
+                    Root194.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root194,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part96() throws ParseException {
+        // Code for expansion specified on line 1014 of HugeMethods.javacc
+        // Code for expansion specified on line 1014 of HugeMethods.javacc
+        boolean Root192forced=false;
+        Pair Root192=null;
+        if (buildTree) {
+            Root192=new Pair();
+            Token start=getToken(1);
+            Root192.setBeginLine(start.beginLine);
+            Root192.setBeginColumn(start.beginColumn);
+            Root192.setInputSource(this.getInputSource());
+            openNodeScope(Root192);
+        }
+        ParseException parseException192=null;
+        try {
+            // Code for expansion specified on line 1014 of HugeMethods.javacc
+            consumeToken(W95);
+            // Code for expansion specified on line 1014 of HugeMethods.javacc
+            int int192=nextTokenKind();
+            if (int192==W96) {
+                // Code for expansion specified on line 1014 of HugeMethods.javacc
+                // Code for expansion specified on line 1014 of HugeMethods.javacc
+                consumeToken(W96);
+            }
+            // Code for expansion specified on line 1014 of HugeMethods.javacc
+            int int193=nextTokenKind();
+            if (int193==405) {
+                // Code for expansion specified on line 1014 of HugeMethods.javacc
+                // Code for expansion specified on line 1014 of HugeMethods.javacc
+                boolean Root193forced=false;
+                Mark Root193=null;
+                if (buildTree) {
+                    Root193=new Mark();
+                    Token start=getToken(1);
+                    Root193.setBeginLine(start.beginLine);
+                    Root193.setBeginColumn(start.beginColumn);
+                    Root193.setInputSource(this.getInputSource());
+                    openNodeScope(Root193);
+                }
+                ParseException parseException193=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException193=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException193!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException193.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root193.setEndLine(current_token.getEndLine());
+                            Root193.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root193,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException192=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException192!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException192.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root192.setEndLine(current_token.getEndLine());
+                    Root192.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root192,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part95() throws ParseException {
+        // Code for expansion specified on line 1012 of HugeMethods.javacc
+        // Code for expansion specified on line 1012 of HugeMethods.javacc
+        boolean Root190forced=false;
+        Pair Root190=null;
+        if (buildTree) {
+            Root190=new Pair();
+            Token start=getToken(1);
+            Root190.setBeginLine(start.beginLine);
+            Root190.setBeginColumn(start.beginColumn);
+            Root190.setInputSource(this.getInputSource());
+            openNodeScope(Root190);
+        }
+        ParseException parseException190=null;
+        try {
+            // Code for expansion specified on line 1012 of HugeMethods.javacc
+            consumeToken(W94);
+            // Code for expansion specified on line 1012 of HugeMethods.javacc
+            int int190=nextTokenKind();
+            if (int190==W95) {
+                // Code for expansion specified on line 1012 of HugeMethods.javacc
+                // Code for expansion specified on line 1012 of HugeMethods.javacc
+                consumeToken(W95);
+            }
+            // Code for expansion specified on line 1012 of HugeMethods.javacc
+            int int191=nextTokenKind();
+            if (int191==405) {
+                // Code for expansion specified on line 1012 of HugeMethods.javacc
+                // Code for expansion specified on line 1012 of HugeMethods.javacc
+                boolean Root191forced=false;
+                Mark Root191=null;
+                if (buildTree) {
+                    Root191=new Mark();
+                    Token start=getToken(1);
+                    Root191.setBeginLine(start.beginLine);
+                    Root191.setBeginColumn(start.beginColumn);
+                    Root191.setInputSource(this.getInputSource());
+                    openNodeScope(Root191);
+                }
+                ParseException parseException191=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException191=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException191!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException191.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root191.setEndLine(current_token.getEndLine());
+                            Root191.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root191,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException190=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException190!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException190.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root190.setEndLine(current_token.getEndLine());
+                    Root190.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root190,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part94() throws ParseException {
+        // Code for expansion specified on line 1010 of HugeMethods.javacc
+        // Code for expansion specified on line 1010 of HugeMethods.javacc
+        boolean Root188forced=false;
+        Pair Root188=null;
+        if (buildTree) {
+            Root188=new Pair();
+            Token start=getToken(1);
+            Root188.setBeginLine(start.beginLine);
+            Root188.setBeginColumn(start.beginColumn);
+            Root188.setInputSource(this.getInputSource());
+            openNodeScope(Root188);
+        }
+        ParseException parseException188=null;
+        try {
+            // Code for expansion specified on line 1010 of HugeMethods.javacc
+            consumeToken(W93);
+            // Code for expansion specified on line 1010 of HugeMethods.javacc
+            int int188=nextTokenKind();
+            if (int188==W94) {
+                // Code for expansion specified on line 1010 of HugeMethods.javacc
+                // Code for expansion specified on line 1010 of HugeMethods.javacc
+                consumeToken(W94);
+            }
+            // Code for expansion specified on line 1010 of HugeMethods.javacc
+            int int189=nextTokenKind();
+            if (int189==405) {
+                // Code for expansion specified on line 1010 of HugeMethods.javacc
+                // Code for expansion specified on line 1010 of HugeMethods.javacc
+                boolean Root189forced=false;
+                Mark Root189=null;
+                if (buildTree) {
+                    Root189=new Mark();
+                    Token start=getToken(1);
+                    Root189.setBeginLine(start.beginLine);
+                    Root189.setBeginColumn(start.beginColumn);
+                    Root189.setInputSource(this.getInputSource());
+                    openNodeScope(Root189);
+                }
+                ParseException parseException189=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException189=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException189!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException189.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root189.setEndLine(current_token.getEndLine());
+                            Root189.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root189,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException188=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException188!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException188.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root188.setEndLine(current_token.getEndLine());
+                    Root188.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root188,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part93() throws ParseException {
+        // Code for expansion specified on line 1008 of HugeMethods.javacc
+        // Code for expansion specified on line 1008 of HugeMethods.javacc
+        boolean Root186forced=false;
+        Pair Root186=null;
+        if (buildTree) {
+            Root186=new Pair();
+            Token start=getToken(1);
+            Root186.setBeginLine(start.beginLine);
+            Root186.setBeginColumn(start.beginColumn);
+            Root186.setInputSource(this.getInputSource());
+            openNodeScope(Root186);
+        }
+        ParseException parseException186=null;
+        try {
+            // Code for expansion specified on line 1008 of HugeMethods.javacc
+            consumeToken(W92);
+            // Code for expansion specified on line 1008 of HugeMethods.javacc
+            int int186=nextTokenKind();
+            if (int186==W93) {
+                // Code for expansion specified on line 1008 of HugeMethods.javacc
+                // Code for expansion specified on line 1008 of HugeMethods.javacc
+                consumeToken(W93);
+            }
+            // Code for expansion specified on line 1008 of HugeMethods.javacc
+            int int187=nextTokenKind();
+            if (int187==405) {
+                // Code for expansion specified on line 1008 of HugeMethods.javacc
+                // Code for expansion specified on line 1008 of HugeMethods.javacc
+                boolean Root187forced=false;
+                Mark Root187=null;
+                if (buildTree) {
+                    Root187=new Mark();
+                    Token start=getToken(1);
+                    Root187.setBeginLine(start.beginLine);
+                    Root187.setBeginColumn(start.beginColumn);
+                    Root187.setInputSource(this.getInputSource());
+                    openNodeScope(Root187);
+                }
+                ParseException parseException187=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException187=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException187!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException187.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root187.setEndLine(current_token.getEndLine());
+                            Root187.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root187,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException186=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException186!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException186.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root186.setEndLine(current_token.getEndLine());
+                    Root186.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root186,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part92() throws ParseException {
+        // Code for expansion specified on line 1006 of HugeMethods.javacc
+        // Code for expansion specified on line 1006 of HugeMethods.javacc
+        boolean Root184forced=false;
+        Pair Root184=null;
+        if (buildTree) {
+            Root184=new Pair();
+            Token start=getToken(1);
+            Root184.setBeginLine(start.beginLine);
+            Root184.setBeginColumn(start.beginColumn);
+            Root184.setInputSource(this.getInputSource());
+            openNodeScope(Root184);
+        }
+        ParseException parseException184=null;
+        try {
+            // Code for expansion specified on line 1006 of HugeMethods.javacc
+            consumeToken(W91);
+            // Code for expansion specified on line 1006 of HugeMethods.javacc
+            int int184=nextTokenKind();
+            if (int184==W92) {
+                // Code for expansion specified on line 1006 of HugeMethods.javacc
+                // Code for expansion specified on line 1006 of HugeMethods.javacc
+                consumeToken(W92);
+            }
+            // Code for expansion specified on line 1006 of HugeMethods.javacc
+            int int185=nextTokenKind();
+            if (int185==405) {
+                // Code for expansion specified on line 1006 of HugeMethods.javacc
+                // Code for expansion specified on line 1006 of HugeMethods.javacc
+                boolean Root185forced=false;
+                Mark Root185=null;
+                if (buildTree) {
+                    Root185=new Mark();
+                    Token start=getToken(1);
+                    Root185.setBeginLine(start.beginLine);
+                    Root185.setBeginColumn(start.beginColumn);
+                    Root185.setInputSource(this.getInputSource());
+                    openNodeScope(Root185);
+                }
+                ParseException parseException185=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException185=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException185!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException185.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root185.setEndLine(current_token.getEndLine());
+                            Root185.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root185,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException184=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException184!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException184.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root184.setEndLine(current_token.getEndLine());
+                    Root184.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root184,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part91() throws ParseException {
+        // Code for expansion specified on line 1004 of HugeMethods.javacc
+        // Code for expansion specified on line 1004 of HugeMethods.javacc
+        boolean Root182forced=false;
+        Pair Root182=null;
+        if (buildTree) {
+            Root182=new Pair();
+            Token start=getToken(1);
+            Root182.setBeginLine(start.beginLine);
+            Root182.setBeginColumn(start.beginColumn);
+            Root182.setInputSource(this.getInputSource());
+            openNodeScope(Root182);
+        }
+        ParseException parseException182=null;
+        try {
+            // Code for expansion specified on line 1004 of HugeMethods.javacc
+            consumeToken(W90);
+            // Code for expansion specified on line 1004 of HugeMethods.javacc
+            int int182=nextTokenKind();
+            if (int182==W91) {
+                // Code for expansion specified on line 1004 of HugeMethods.javacc
+                // Code for expansion specified on line 1004 of HugeMethods.javacc
+                consumeToken(W91);
+            }
+            // Code for expansion specified on line 1004 of HugeMethods.javacc
+            int int183=nextTokenKind();
+            if (int183==405) {
+                // Code for expansion specified on line 1004 of HugeMethods.javacc
+                // Code for expansion specified on line 1004 of HugeMethods.javacc
+                boolean Root183forced=false;
+                Mark Root183=null;
+                if (buildTree) {
+                    Root183=new Mark();
+                    Token start=getToken(1);
+                    Root183.setBeginLine(start.beginLine);
+                    Root183.setBeginColumn(start.beginColumn);
+                    Root183.setInputSource(this.getInputSource());
+                    openNodeScope(Root183);
+                }
+                ParseException parseException183=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException183=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException183!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException183.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root183.setEndLine(current_token.getEndLine());
+                            Root183.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root183,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException182=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException182!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException182.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root182.setEndLine(current_token.getEndLine());
+                    Root182.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root182,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part90() throws ParseException {
+        // Code for expansion specified on line 1002 of HugeMethods.javacc
+        // Code for expansion specified on line 1002 of HugeMethods.javacc
+        boolean Root180forced=false;
+        Pair Root180=null;
+        if (buildTree) {
+            Root180=new Pair();
+            Token start=getToken(1);
+            Root180.setBeginLine(start.beginLine);
+            Root180.setBeginColumn(start.beginColumn);
+            Root180.setInputSource(this.getInputSource());
+            openNodeScope(Root180);
+        }
+        ParseException parseException180=null;
+        try {
+            // Code for expansion specified on line 1002 of HugeMethods.javacc
+            consumeToken(W89);
+            // Code for expansion specified on line 1002 of HugeMethods.javacc
+            int int180=nextTokenKind();
+            if (int180==W90) {
+                // Code for expansion specified on line 1002 of HugeMethods.javacc
+                // Code for expansion specified on line 1002 of HugeMethods.javacc
+                consumeToken(W90);
+            }
+            // Code for expansion specified on line 1002 of HugeMethods.javacc
+            int int181=nextTokenKind();
+            if (int181==405) {
+                // Code for expansion specified on line 1002 of HugeMethods.javacc
+                // Code for expansion specified on line 1002 of HugeMethods.javacc
+                boolean Root181forced=false;
+                Mark Root181=null;
+                if (buildTree) {
+                    Root181=new Mark();
+                    Token start=getToken(1);
+                    Root181.setBeginLine(start.beginLine);
+                    Root181.setBeginColumn(start.beginColumn);
+                    Root181.setInputSource(this.getInputSource());
+                    openNodeScope(Root181);
+                }
+                ParseException parseException181=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException181=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException181!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException181.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root181.setEndLine(current_token.getEndLine());
+                            Root181.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root181,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException180=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException180!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException180.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root180.setEndLine(current_token.getEndLine());
+                    Root180.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root180,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part89() throws ParseException {
+        // Code for expansion specified on line 1000 of HugeMethods.javacc
+        // Code for expansion specified on line 1000 of HugeMethods.javacc
+        boolean Root178forced=false;
+        Pair Root178=null;
+        if (buildTree) {
+            Root178=new Pair();
+            Token start=getToken(1);
+            Root178.setBeginLine(start.beginLine);
+            Root178.setBeginColumn(start.beginColumn);
+            Root178.setInputSource(this.getInputSource());
+            openNodeScope(Root178);
+        }
+        ParseException parseException178=null;
+        try {
+            // Code for expansion specified on line 1000 of HugeMethods.javacc
+            consumeToken(W88);
+            // Code for expansion specified on line 1000 of HugeMethods.javacc
+            int int178=nextTokenKind();
+            if (int178==W89) {
+                // Code for expansion specified on line 1000 of HugeMethods.javacc
+                // Code for expansion specified on line 1000 of HugeMethods.javacc
+                consumeToken(W89);
+            }
+            // Code for expansion specified on line 1000 of HugeMethods.javacc
+            int int179=nextTokenKind();
+            if (int179==405) {
+                // Code for expansion specified on line 1000 of HugeMethods.javacc
+                // Code for expansion specified on line 1000 of HugeMethods.javacc
+                boolean Root179forced=false;
+                Mark Root179=null;
+                if (buildTree) {
+                    Root179=new Mark();
+                    Token start=getToken(1);
+                    Root179.setBeginLine(start.beginLine);
+                    Root179.setBeginColumn(start.beginColumn);
+                    Root179.setInputSource(this.getInputSource());
+                    openNodeScope(Root179);
+                }
+                ParseException parseException179=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException179=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException179!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException179.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root179.setEndLine(current_token.getEndLine());
+                            Root179.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root179,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException178=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException178!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException178.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root178.setEndLine(current_token.getEndLine());
+                    Root178.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root178,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part88() throws ParseException {
+        // Code for expansion specified on line 998 of HugeMethods.javacc
+        // Code for expansion specified on line 998 of HugeMethods.javacc
+        boolean Root176forced=false;
+        Pair Root176=null;
+        if (buildTree) {
+            Root176=new Pair();
+            Token start=getToken(1);
+            Root176.setBeginLine(start.beginLine);
+            Root176.setBeginColumn(start.beginColumn);
+            Root176.setInputSource(this.getInputSource());
+            openNodeScope(Root176);
+        }
+        ParseException parseException176=null;
+        try {
+            // Code for expansion specified on line 998 of HugeMethods.javacc
+            consumeToken(W87);
+            // Code for expansion specified on line 998 of HugeMethods.javacc
+            int int176=nextTokenKind();
+            if (int176==W88) {
+                // Code for expansion specified on line 998 of HugeMethods.javacc
+                // Code for expansion specified on line 998 of HugeMethods.javacc
+                consumeToken(W88);
+            }
+            // Code for expansion specified on line 998 of HugeMethods.javacc
+            int int177=nextTokenKind();
+            if (int177==405) {
+                // Code for expansion specified on line 998 of HugeMethods.javacc
+                // Code for expansion specified on line 998 of HugeMethods.javacc
+                boolean Root177forced=false;
+                Mark Root177=null;
+                if (buildTree) {
+                    Root177=new Mark();
+                    Token start=getToken(1);
+                    Root177.setBeginLine(start.beginLine);
+                    Root177.setBeginColumn(start.beginColumn);
+                    Root177.setInputSource(this.getInputSource());
+                    openNodeScope(Root177);
+                }
+                ParseException parseException177=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException177=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException177!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException177.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root177.setEndLine(current_token.getEndLine());
+                            Root177.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root177,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException176=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException176!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException176.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root176.setEndLine(current_token.getEndLine());
+                    Root176.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root176,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part87() throws ParseException {
+        // Code for expansion specified on line 996 of HugeMethods.javacc
+        // Code for expansion specified on line 996 of HugeMethods.javacc
+        boolean Root174forced=false;
+        Pair Root174=null;
+        if (buildTree) {
+            Root174=new Pair();
+            Token start=getToken(1);
+            Root174.setBeginLine(start.beginLine);
+            Root174.setBeginColumn(start.beginColumn);
+            Root174.setInputSource(this.getInputSource());
+            openNodeScope(Root174);
+        }
+        ParseException parseException174=null;
+        try {
+            // Code for expansion specified on line 996 of HugeMethods.javacc
+            consumeToken(W86);
+            // Code for expansion specified on line 996 of HugeMethods.javacc
+            int int174=nextTokenKind();
+            if (int174==W87) {
+                // Code for expansion specified on line 996 of HugeMethods.javacc
+                // Code for expansion specified on line 996 of HugeMethods.javacc
+                consumeToken(W87);
+            }
+            // Code for expansion specified on line 996 of HugeMethods.javacc
+            int int175=nextTokenKind();
+            if (int175==405) {
+                // Code for expansion specified on line 996 of HugeMethods.javacc
+                // Code for expansion specified on line 996 of HugeMethods.javacc
+                boolean Root175forced=false;
+                Mark Root175=null;
+                if (buildTree) {
+                    Root175=new Mark();
+                    Token start=getToken(1);
+                    Root175.setBeginLine(start.beginLine);
+                    Root175.setBeginColumn(start.beginColumn);
+                    Root175.setInputSource(this.getInputSource());
+                    openNodeScope(Root175);
+                }
+                ParseException parseException175=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException175=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException175!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException175.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root175.setEndLine(current_token.getEndLine());
+                            Root175.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root175,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException174=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException174!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException174.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root174.setEndLine(current_token.getEndLine());
+                    Root174.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root174,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part86() throws ParseException {
+        // Code for expansion specified on line 994 of HugeMethods.javacc
+        // Code for expansion specified on line 994 of HugeMethods.javacc
+        boolean Root172forced=false;
+        Pair Root172=null;
+        if (buildTree) {
+            Root172=new Pair();
+            Token start=getToken(1);
+            Root172.setBeginLine(start.beginLine);
+            Root172.setBeginColumn(start.beginColumn);
+            Root172.setInputSource(this.getInputSource());
+            openNodeScope(Root172);
+        }
+        ParseException parseException172=null;
+        try {
+            // Code for expansion specified on line 994 of HugeMethods.javacc
+            consumeToken(W85);
+            // Code for expansion specified on line 994 of HugeMethods.javacc
+            int int172=nextTokenKind();
+            if (int172==W86) {
+                // Code for expansion specified on line 994 of HugeMethods.javacc
+                // Code for expansion specified on line 994 of HugeMethods.javacc
+                consumeToken(W86);
+            }
+            // Code for expansion specified on line 994 of HugeMethods.javacc
+            int int173=nextTokenKind();
+            if (int173==405) {
+                // Code for expansion specified on line 994 of HugeMethods.javacc
+                // Code for expansion specified on line 994 of HugeMethods.javacc
+                boolean Root173forced=false;
+                Mark Root173=null;
+                if (buildTree) {
+                    Root173=new Mark();
+                    Token start=getToken(1);
+                    Root173.setBeginLine(start.beginLine);
+                    Root173.setBeginColumn(start.beginColumn);
+                    Root173.setInputSource(this.getInputSource());
+                    openNodeScope(Root173);
+                }
+                ParseException parseException173=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException173=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException173!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException173.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root173.setEndLine(current_token.getEndLine());
+                            Root173.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root173,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException172=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException172!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException172.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root172.setEndLine(current_token.getEndLine());
+                    Root172.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root172,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part85() throws ParseException {
+        // Code for expansion specified on line 992 of HugeMethods.javacc
+        // Code for expansion specified on line 992 of HugeMethods.javacc
+        boolean Root170forced=false;
+        Pair Root170=null;
+        if (buildTree) {
+            Root170=new Pair();
+            Token start=getToken(1);
+            Root170.setBeginLine(start.beginLine);
+            Root170.setBeginColumn(start.beginColumn);
+            Root170.setInputSource(this.getInputSource());
+            openNodeScope(Root170);
+        }
+        ParseException parseException170=null;
+        try {
+            // Code for expansion specified on line 992 of HugeMethods.javacc
+            consumeToken(W84);
+            // Code for expansion specified on line 992 of HugeMethods.javacc
+            int int170=nextTokenKind();
+            if (int170==W85) {
+                // Code for expansion specified on line 992 of HugeMethods.javacc
+                // Code for expansion specified on line 992 of HugeMethods.javacc
+                consumeToken(W85);
+            }
+            // Code for expansion specified on line 992 of HugeMethods.javacc
+            int int171=nextTokenKind();
+            if (int171==405) {
+                // Code for expansion specified on line 992 of HugeMethods.javacc
+                // Code for expansion specified on line 992 of HugeMethods.javacc
+                boolean Root171forced=false;
+                Mark Root171=null;
+                if (buildTree) {
+                    Root171=new Mark();
+                    Token start=getToken(1);
+                    Root171.setBeginLine(start.beginLine);
+                    Root171.setBeginColumn(start.beginColumn);
+                    Root171.setInputSource(this.getInputSource());
+                    openNodeScope(Root171);
+                }
+                ParseException parseException171=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException171=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException171!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException171.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root171.setEndLine(current_token.getEndLine());
+                            Root171.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root171,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException170=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException170!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException170.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root170.setEndLine(current_token.getEndLine());
+                    Root170.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root170,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part84() throws ParseException {
+        // Code for expansion specified on line 990 of HugeMethods.javacc
+        // Code for expansion specified on line 990 of HugeMethods.javacc
+        boolean Root168forced=false;
+        Pair Root168=null;
+        if (buildTree) {
+            Root168=new Pair();
+            Token start=getToken(1);
+            Root168.setBeginLine(start.beginLine);
+            Root168.setBeginColumn(start.beginColumn);
+            Root168.setInputSource(this.getInputSource());
+            openNodeScope(Root168);
+        }
+        ParseException parseException168=null;
+        try {
+            // Code for expansion specified on line 990 of HugeMethods.javacc
+            consumeToken(W83);
+            // Code for expansion specified on line 990 of HugeMethods.javacc
+            int int168=nextTokenKind();
+            if (int168==W84) {
+                // Code for expansion specified on line 990 of HugeMethods.javacc
+                // Code for expansion specified on line 990 of HugeMethods.javacc
+                consumeToken(W84);
+            }
+            // Code for expansion specified on line 990 of HugeMethods.javacc
+            int int169=nextTokenKind();
+            if (int169==405) {
+                // Code for expansion specified on line 990 of HugeMethods.javacc
+                // Code for expansion specified on line 990 of HugeMethods.javacc
+                boolean Root169forced=false;
+                Mark Root169=null;
+                if (buildTree) {
+                    Root169=new Mark();
+                    Token start=getToken(1);
+                    Root169.setBeginLine(start.beginLine);
+                    Root169.setBeginColumn(start.beginColumn);
+                    Root169.setInputSource(this.getInputSource());
+                    openNodeScope(Root169);
+                }
+                ParseException parseException169=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException169=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException169!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException169.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root169.setEndLine(current_token.getEndLine());
+                            Root169.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root169,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException168=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException168!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException168.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root168.setEndLine(current_token.getEndLine());
+                    Root168.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root168,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part83() throws ParseException {
+        // Code for expansion specified on line 988 of HugeMethods.javacc
+        // Code for expansion specified on line 988 of HugeMethods.javacc
+        boolean Root166forced=false;
+        Pair Root166=null;
+        if (buildTree) {
+            Root166=new Pair();
+            Token start=getToken(1);
+            Root166.setBeginLine(start.beginLine);
+            Root166.setBeginColumn(start.beginColumn);
+            Root166.setInputSource(this.getInputSource());
+            openNodeScope(Root166);
+        }
+        ParseException parseException166=null;
+        try {
+            // Code for expansion specified on line 988 of HugeMethods.javacc
+            consumeToken(W82);
+            // Code for expansion specified on line 988 of HugeMethods.javacc
+            int int166=nextTokenKind();
+            if (int166==W83) {
+                // Code for expansion specified on line 988 of HugeMethods.javacc
+                // Code for expansion specified on line 988 of HugeMethods.javacc
+                consumeToken(W83);
+            }
+            // Code for expansion specified on line 988 of HugeMethods.javacc
+            int int167=nextTokenKind();
+            if (int167==405) {
+                // Code for expansion specified on line 988 of HugeMethods.javacc
+                // Code for expansion specified on line 988 of HugeMethods.javacc
+                boolean Root167forced=false;
+                Mark Root167=null;
+                if (buildTree) {
+                    Root167=new Mark();
+                    Token start=getToken(1);
+                    Root167.setBeginLine(start.beginLine);
+                    Root167.setBeginColumn(start.beginColumn);
+                    Root167.setInputSource(this.getInputSource());
+                    openNodeScope(Root167);
+                }
+                ParseException parseException167=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException167=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException167!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException167.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root167.setEndLine(current_token.getEndLine());
+                            Root167.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root167,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException166=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException166!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException166.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root166.setEndLine(current_token.getEndLine());
+                    Root166.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root166,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part82() throws ParseException {
+        // Code for expansion specified on line 986 of HugeMethods.javacc
+        // Code for expansion specified on line 986 of HugeMethods.javacc
+        boolean Root164forced=false;
+        Pair Root164=null;
+        if (buildTree) {
+            Root164=new Pair();
+            Token start=getToken(1);
+            Root164.setBeginLine(start.beginLine);
+            Root164.setBeginColumn(start.beginColumn);
+            Root164.setInputSource(this.getInputSource());
+            openNodeScope(Root164);
+        }
+        ParseException parseException164=null;
+        try {
+            // Code for expansion specified on line 986 of HugeMethods.javacc
+            consumeToken(W81);
+            // Code for expansion specified on line 986 of HugeMethods.javacc
+            int int164=nextTokenKind();
+            if (int164==W82) {
+                // Code for expansion specified on line 986 of HugeMethods.javacc
+                // Code for expansion specified on line 986 of HugeMethods.javacc
+                consumeToken(W82);
+            }
+            // Code for expansion specified on line 986 of HugeMethods.javacc
+            int int165=nextTokenKind();
+            if (int165==405) {
+                // Code for expansion specified on line 986 of HugeMethods.javacc
+                // Code for expansion specified on line 986 of HugeMethods.javacc
+                boolean Root165forced=false;
+                Mark Root165=null;
+                if (buildTree) {
+                    Root165=new Mark();
+                    Token start=getToken(1);
+                    Root165.setBeginLine(start.beginLine);
+                    Root165.setBeginColumn(start.beginColumn);
+                    Root165.setInputSource(this.getInputSource());
+                    openNodeScope(Root165);
+                }
+                ParseException parseException165=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException165=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException165!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException165.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root165.setEndLine(current_token.getEndLine());
+                            Root165.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root165,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException164=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException164!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException164.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root164.setEndLine(current_token.getEndLine());
+                    Root164.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root164,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part81() throws ParseException {
+        // Code for expansion specified on line 984 of HugeMethods.javacc
+        // Code for expansion specified on line 984 of HugeMethods.javacc
+        boolean Root162forced=false;
+        Pair Root162=null;
+        if (buildTree) {
+            Root162=new Pair();
+            Token start=getToken(1);
+            Root162.setBeginLine(start.beginLine);
+            Root162.setBeginColumn(start.beginColumn);
+            Root162.setInputSource(this.getInputSource());
+            openNodeScope(Root162);
+        }
+        ParseException parseException162=null;
+        try {
+            // Code for expansion specified on line 984 of HugeMethods.javacc
+            consumeToken(W80);
+            // Code for expansion specified on line 984 of HugeMethods.javacc
+            int int162=nextTokenKind();
+            if (int162==W81) {
+                // Code for expansion specified on line 984 of HugeMethods.javacc
+                // Code for expansion specified on line 984 of HugeMethods.javacc
+                consumeToken(W81);
+            }
+            // Code for expansion specified on line 984 of HugeMethods.javacc
+            int int163=nextTokenKind();
+            if (int163==405) {
+                // Code for expansion specified on line 984 of HugeMethods.javacc
+                // Code for expansion specified on line 984 of HugeMethods.javacc
+                boolean Root163forced=false;
+                Mark Root163=null;
+                if (buildTree) {
+                    Root163=new Mark();
+                    Token start=getToken(1);
+                    Root163.setBeginLine(start.beginLine);
+                    Root163.setBeginColumn(start.beginColumn);
+                    Root163.setInputSource(this.getInputSource());
+                    openNodeScope(Root163);
+                }
+                ParseException parseException163=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException163=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException163!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException163.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root163.setEndLine(current_token.getEndLine());
+                            Root163.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root163,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException162=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException162!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException162.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root162.setEndLine(current_token.getEndLine());
+                    Root162.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root162,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part80() throws ParseException {
+        // Code for expansion specified on line 982 of HugeMethods.javacc
+        // Code for expansion specified on line 982 of HugeMethods.javacc
+        boolean Root160forced=false;
+        Pair Root160=null;
+        if (buildTree) {
+            Root160=new Pair();
+            Token start=getToken(1);
+            Root160.setBeginLine(start.beginLine);
+            Root160.setBeginColumn(start.beginColumn);
+            Root160.setInputSource(this.getInputSource());
+            openNodeScope(Root160);
+        }
+        ParseException parseException160=null;
+        try {
+            // Code for expansion specified on line 982 of HugeMethods.javacc
+            consumeToken(W79);
+            // Code for expansion specified on line 982 of HugeMethods.javacc
+            int int160=nextTokenKind();
+            if (int160==W80) {
+                // Code for expansion specified on line 982 of HugeMethods.javacc
+                // Code for expansion specified on line 982 of HugeMethods.javacc
+                consumeToken(W80);
+            }
+            // Code for expansion specified on line 982 of HugeMethods.javacc
+            int int161=nextTokenKind();
+            if (int161==405) {
+                // Code for expansion specified on line 982 of HugeMethods.javacc
+                // Code for expansion specified on line 982 of HugeMethods.javacc
+                boolean Root161forced=false;
+                Mark Root161=null;
+                if (buildTree) {
+                    Root161=new Mark();
+                    Token start=getToken(1);
+                    Root161.setBeginLine(start.beginLine);
+                    Root161.setBeginColumn(start.beginColumn);
+                    Root161.setInputSource(this.getInputSource());
+                    openNodeScope(Root161);
+                }
+                ParseException parseException161=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException161=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException161!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException161.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root161.setEndLine(current_token.getEndLine());
+                            Root161.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root161,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException160=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException160!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException160.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root160.setEndLine(current_token.getEndLine());
+                    Root160.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root160,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part79() throws ParseException {
+        // Code for expansion specified on line 980 of HugeMethods.javacc
+        // Code for expansion specified on line 980 of HugeMethods.javacc
+        boolean Root158forced=false;
+        Pair Root158=null;
+        if (buildTree) {
+            Root158=new Pair();
+            Token start=getToken(1);
+            Root158.setBeginLine(start.beginLine);
+            Root158.setBeginColumn(start.beginColumn);
+            Root158.setInputSource(this.getInputSource());
+            openNodeScope(Root158);
+        }
+        ParseException parseException158=null;
+        try {
+            // Code for expansion specified on line 980 of HugeMethods.javacc
+            consumeToken(W78);
+            // Code for expansion specified on line 980 of HugeMethods.javacc
+            int int158=nextTokenKind();
+            if (int158==W79) {
+                // Code for expansion specified on line 980 of HugeMethods.javacc
+                // Code for expansion specified on line 980 of HugeMethods.javacc
+                consumeToken(W79);
+            }
+            // Code for expansion specified on line 980 of HugeMethods.javacc
+            int int159=nextTokenKind();
+            if (int159==405) {
+                // Code for expansion specified on line 980 of HugeMethods.javacc
+                // Code for expansion specified on line 980 of HugeMethods.javacc
+                boolean Root159forced=false;
+                Mark Root159=null;
+                if (buildTree) {
+                    Root159=new Mark();
+                    Token start=getToken(1);
+                    Root159.setBeginLine(start.beginLine);
+                    Root159.setBeginColumn(start.beginColumn);
+                    Root159.setInputSource(this.getInputSource());
+                    openNodeScope(Root159);
+                }
+                ParseException parseException159=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException159=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException159!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException159.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root159.setEndLine(current_token.getEndLine());
+                            Root159.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root159,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException158=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException158!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException158.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root158.setEndLine(current_token.getEndLine());
+                    Root158.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root158,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part78() throws ParseException {
+        // Code for expansion specified on line 978 of HugeMethods.javacc
+        // Code for expansion specified on line 978 of HugeMethods.javacc
+        boolean Root156forced=false;
+        Pair Root156=null;
+        if (buildTree) {
+            Root156=new Pair();
+            Token start=getToken(1);
+            Root156.setBeginLine(start.beginLine);
+            Root156.setBeginColumn(start.beginColumn);
+            Root156.setInputSource(this.getInputSource());
+            openNodeScope(Root156);
+        }
+        ParseException parseException156=null;
+        try {
+            // Code for expansion specified on line 978 of HugeMethods.javacc
+            consumeToken(W77);
+            // Code for expansion specified on line 978 of HugeMethods.javacc
+            int int156=nextTokenKind();
+            if (int156==W78) {
+                // Code for expansion specified on line 978 of HugeMethods.javacc
+                // Code for expansion specified on line 978 of HugeMethods.javacc
+                consumeToken(W78);
+            }
+            // Code for expansion specified on line 978 of HugeMethods.javacc
+            int int157=nextTokenKind();
+            if (int157==405) {
+                // Code for expansion specified on line 978 of HugeMethods.javacc
+                // Code for expansion specified on line 978 of HugeMethods.javacc
+                boolean Root157forced=false;
+                Mark Root157=null;
+                if (buildTree) {
+                    Root157=new Mark();
+                    Token start=getToken(1);
+                    Root157.setBeginLine(start.beginLine);
+                    Root157.setBeginColumn(start.beginColumn);
+                    Root157.setInputSource(this.getInputSource());
+                    openNodeScope(Root157);
+                }
+                ParseException parseException157=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException157=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException157!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException157.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root157.setEndLine(current_token.getEndLine());
+                            Root157.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root157,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException156=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException156!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException156.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root156.setEndLine(current_token.getEndLine());
+                    Root156.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root156,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part77() throws ParseException {
+        // Code for expansion specified on line 976 of HugeMethods.javacc
+        // Code for expansion specified on line 976 of HugeMethods.javacc
+        boolean Root154forced=false;
+        Pair Root154=null;
+        if (buildTree) {
+            Root154=new Pair();
+            Token start=getToken(1);
+            Root154.setBeginLine(start.beginLine);
+            Root154.setBeginColumn(start.beginColumn);
+            Root154.setInputSource(this.getInputSource());
+            openNodeScope(Root154);
+        }
+        ParseException parseException154=null;
+        try {
+            // Code for expansion specified on line 976 of HugeMethods.javacc
+            consumeToken(W76);
+            // Code for expansion specified on line 976 of HugeMethods.javacc
+            int int154=nextTokenKind();
+            if (int154==W77) {
+                // Code for expansion specified on line 976 of HugeMethods.javacc
+                // Code for expansion specified on line 976 of HugeMethods.javacc
+                consumeToken(W77);
+            }
+            // Code for expansion specified on line 976 of HugeMethods.javacc
+            int int155=nextTokenKind();
+            if (int155==405) {
+                // Code for expansion specified on line 976 of HugeMethods.javacc
+                // Code for expansion specified on line 976 of HugeMethods.javacc
+                boolean Root155forced=false;
+                Mark Root155=null;
+                if (buildTree) {
+                    Root155=new Mark();
+                    Token start=getToken(1);
+                    Root155.setBeginLine(start.beginLine);
+                    Root155.setBeginColumn(start.beginColumn);
+                    Root155.setInputSource(this.getInputSource());
+                    openNodeScope(Root155);
+                }
+                ParseException parseException155=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException155=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException155!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException155.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root155.setEndLine(current_token.getEndLine());
+                            Root155.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root155,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException154=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException154!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException154.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root154.setEndLine(current_token.getEndLine());
+                    Root154.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root154,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part76() throws ParseException {
+        // Code for expansion specified on line 974 of HugeMethods.javacc
+        // Code for expansion specified on line 974 of HugeMethods.javacc
+        boolean Root152forced=false;
+        Pair Root152=null;
+        if (buildTree) {
+            Root152=new Pair();
+            Token start=getToken(1);
+            Root152.setBeginLine(start.beginLine);
+            Root152.setBeginColumn(start.beginColumn);
+            Root152.setInputSource(this.getInputSource());
+            openNodeScope(Root152);
+        }
+        ParseException parseException152=null;
+        try {
+            // Code for expansion specified on line 974 of HugeMethods.javacc
+            consumeToken(W75);
+            // Code for expansion specified on line 974 of HugeMethods.javacc
+            int int152=nextTokenKind();
+            if (int152==W76) {
+                // Code for expansion specified on line 974 of HugeMethods.javacc
+                // Code for expansion specified on line 974 of HugeMethods.javacc
+                consumeToken(W76);
+            }
+            // Code for expansion specified on line 974 of HugeMethods.javacc
+            int int153=nextTokenKind();
+            if (int153==405) {
+                // Code for expansion specified on line 974 of HugeMethods.javacc
+                // Code for expansion specified on line 974 of HugeMethods.javacc
+                boolean Root153forced=false;
+                Mark Root153=null;
+                if (buildTree) {
+                    Root153=new Mark();
+                    Token start=getToken(1);
+                    Root153.setBeginLine(start.beginLine);
+                    Root153.setBeginColumn(start.beginColumn);
+                    Root153.setInputSource(this.getInputSource());
+                    openNodeScope(Root153);
+                }
+                ParseException parseException153=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException153=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException153!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException153.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root153.setEndLine(current_token.getEndLine());
+                            Root153.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root153,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException152=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException152!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException152.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root152.setEndLine(current_token.getEndLine());
+                    Root152.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root152,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part75() throws ParseException {
+        // Code for expansion specified on line 972 of HugeMethods.javacc
+        // Code for expansion specified on line 972 of HugeMethods.javacc
+        boolean Root150forced=false;
+        Pair Root150=null;
+        if (buildTree) {
+            Root150=new Pair();
+            Token start=getToken(1);
+            Root150.setBeginLine(start.beginLine);
+            Root150.setBeginColumn(start.beginColumn);
+            Root150.setInputSource(this.getInputSource());
+            openNodeScope(Root150);
+        }
+        ParseException parseException150=null;
+        try {
+            // Code for expansion specified on line 972 of HugeMethods.javacc
+            consumeToken(W74);
+            // Code for expansion specified on line 972 of HugeMethods.javacc
+            int int150=nextTokenKind();
+            if (int150==W75) {
+                // Code for expansion specified on line 972 of HugeMethods.javacc
+                // Code for expansion specified on line 972 of HugeMethods.javacc
+                consumeToken(W75);
+            }
+            // Code for expansion specified on line 972 of HugeMethods.javacc
+            int int151=nextTokenKind();
+            if (int151==405) {
+                // Code for expansion specified on line 972 of HugeMethods.javacc
+                // Code for expansion specified on line 972 of HugeMethods.javacc
+                boolean Root151forced=false;
+                Mark Root151=null;
+                if (buildTree) {
+                    Root151=new Mark();
+                    Token start=getToken(1);
+                    Root151.setBeginLine(start.beginLine);
+                    Root151.setBeginColumn(start.beginColumn);
+                    Root151.setInputSource(this.getInputSource());
+                    openNodeScope(Root151);
+                }
+                ParseException parseException151=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException151=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException151!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException151.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root151.setEndLine(current_token.getEndLine());
+                            Root151.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root151,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException150=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException150!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException150.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root150.setEndLine(current_token.getEndLine());
+                    Root150.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root150,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part74() throws ParseException {
+        // Code for expansion specified on line 970 of HugeMethods.javacc
+        // Code for expansion specified on line 970 of HugeMethods.javacc
+        boolean Root148forced=false;
+        Pair Root148=null;
+        if (buildTree) {
+            Root148=new Pair();
+            Token start=getToken(1);
+            Root148.setBeginLine(start.beginLine);
+            Root148.setBeginColumn(start.beginColumn);
+            Root148.setInputSource(this.getInputSource());
+            openNodeScope(Root148);
+        }
+        ParseException parseException148=null;
+        try {
+            // Code for expansion specified on line 970 of HugeMethods.javacc
+            consumeToken(W73);
+            // Code for expansion specified on line 970 of HugeMethods.javacc
+            int int148=nextTokenKind();
+            if (int148==W74) {
+                // Code for expansion specified on line 970 of HugeMethods.javacc
+                // Code for expansion specified on line 970 of HugeMethods.javacc
+                consumeToken(W74);
+            }
+            // Code for expansion specified on line 970 of HugeMethods.javacc
+            int int149=nextTokenKind();
+            if (int149==405) {
+                // Code for expansion specified on line 970 of HugeMethods.javacc
+                // Code for expansion specified on line 970 of HugeMethods.javacc
+                boolean Root149forced=false;
+                Mark Root149=null;
+                if (buildTree) {
+                    Root149=new Mark();
+                    Token start=getToken(1);
+                    Root149.setBeginLine(start.beginLine);
+                    Root149.setBeginColumn(start.beginColumn);
+                    Root149.setInputSource(this.getInputSource());
+                    openNodeScope(Root149);
+                }
+                ParseException parseException149=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException149=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException149!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException149.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root149.setEndLine(current_token.getEndLine());
+                            Root149.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root149,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException148=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException148!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException148.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root148.setEndLine(current_token.getEndLine());
+                    Root148.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root148,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part73() throws ParseException {
+        // Code for expansion specified on line 968 of HugeMethods.javacc
+        // Code for expansion specified on line 968 of HugeMethods.javacc
+        boolean Root146forced=false;
+        Pair Root146=null;
+        if (buildTree) {
+            Root146=new Pair();
+            Token start=getToken(1);
+            Root146.setBeginLine(start.beginLine);
+            Root146.setBeginColumn(start.beginColumn);
+            Root146.setInputSource(this.getInputSource());
+            openNodeScope(Root146);
+        }
+        ParseException parseException146=null;
+        try {
+            // Code for expansion specified on line 968 of HugeMethods.javacc
+            consumeToken(W72);
+            // Code for expansion specified on line 968 of HugeMethods.javacc
+            int int146=nextTokenKind();
+            if (int146==W73) {
+                // Code for expansion specified on line 968 of HugeMethods.javacc
+                // Code for expansion specified on line 968 of HugeMethods.javacc
+                consumeToken(W73);
+            }
+            // Code for expansion specified on line 968 of HugeMethods.javacc
+            int int147=nextTokenKind();
+            if (int147==405) {
+                // Code for expansion specified on line 968 of HugeMethods.javacc
+                // Code for expansion specified on line 968 of HugeMethods.javacc
+                boolean Root147forced=false;
+                Mark Root147=null;
+                if (buildTree) {
+                    Root147=new Mark();
+                    Token start=getToken(1);
+                    Root147.setBeginLine(start.beginLine);
+                    Root147.setBeginColumn(start.beginColumn);
+                    Root147.setInputSource(this.getInputSource());
+                    openNodeScope(Root147);
+                }
+                ParseException parseException147=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException147=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException147!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException147.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root147.setEndLine(current_token.getEndLine());
+                            Root147.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root147,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException146=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException146!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException146.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root146.setEndLine(current_token.getEndLine());
+                    Root146.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root146,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part72() throws ParseException {
+        // Code for expansion specified on line 966 of HugeMethods.javacc
+        // Code for expansion specified on line 966 of HugeMethods.javacc
+        boolean Root144forced=false;
+        Pair Root144=null;
+        if (buildTree) {
+            Root144=new Pair();
+            Token start=getToken(1);
+            Root144.setBeginLine(start.beginLine);
+            Root144.setBeginColumn(start.beginColumn);
+            Root144.setInputSource(this.getInputSource());
+            openNodeScope(Root144);
+        }
+        ParseException parseException144=null;
+        try {
+            // Code for expansion specified on line 966 of HugeMethods.javacc
+            consumeToken(W71);
+            // Code for expansion specified on line 966 of HugeMethods.javacc
+            int int144=nextTokenKind();
+            if (int144==W72) {
+                // Code for expansion specified on line 966 of HugeMethods.javacc
+                // Code for expansion specified on line 966 of HugeMethods.javacc
+                consumeToken(W72);
+            }
+            // Code for expansion specified on line 966 of HugeMethods.javacc
+            int int145=nextTokenKind();
+            if (int145==405) {
+                // Code for expansion specified on line 966 of HugeMethods.javacc
+                // Code for expansion specified on line 966 of HugeMethods.javacc
+                boolean Root145forced=false;
+                Mark Root145=null;
+                if (buildTree) {
+                    Root145=new Mark();
+                    Token start=getToken(1);
+                    Root145.setBeginLine(start.beginLine);
+                    Root145.setBeginColumn(start.beginColumn);
+                    Root145.setInputSource(this.getInputSource());
+                    openNodeScope(Root145);
+                }
+                ParseException parseException145=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException145=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException145!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException145.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root145.setEndLine(current_token.getEndLine());
+                            Root145.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root145,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException144=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException144!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException144.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root144.setEndLine(current_token.getEndLine());
+                    Root144.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root144,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part71() throws ParseException {
+        // Code for expansion specified on line 964 of HugeMethods.javacc
+        // Code for expansion specified on line 964 of HugeMethods.javacc
+        boolean Root142forced=false;
+        Pair Root142=null;
+        if (buildTree) {
+            Root142=new Pair();
+            Token start=getToken(1);
+            Root142.setBeginLine(start.beginLine);
+            Root142.setBeginColumn(start.beginColumn);
+            Root142.setInputSource(this.getInputSource());
+            openNodeScope(Root142);
+        }
+        ParseException parseException142=null;
+        try {
+            // Code for expansion specified on line 964 of HugeMethods.javacc
+            consumeToken(W70);
+            // Code for expansion specified on line 964 of HugeMethods.javacc
+            int int142=nextTokenKind();
+            if (int142==W71) {
+                // Code for expansion specified on line 964 of HugeMethods.javacc
+                // Code for expansion specified on line 964 of HugeMethods.javacc
+                consumeToken(W71);
+            }
+            // Code for expansion specified on line 964 of HugeMethods.javacc
+            int int143=nextTokenKind();
+            if (int143==405) {
+                // Code for expansion specified on line 964 of HugeMethods.javacc
+                // Code for expansion specified on line 964 of HugeMethods.javacc
+                boolean Root143forced=false;
+                Mark Root143=null;
+                if (buildTree) {
+                    Root143=new Mark();
+                    Token start=getToken(1);
+                    Root143.setBeginLine(start.beginLine);
+                    Root143.setBeginColumn(start.beginColumn);
+                    Root143.setInputSource(this.getInputSource());
+                    openNodeScope(Root143);
+                }
+                ParseException parseException143=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException143=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException143!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException143.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root143.setEndLine(current_token.getEndLine());
+                            Root143.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root143,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException142=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException142!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException142.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root142.setEndLine(current_token.getEndLine());
+                    Root142.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root142,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part70() throws ParseException {
+        // Code for expansion specified on line 962 of HugeMethods.javacc
+        // Code for expansion specified on line 962 of HugeMethods.javacc
+        boolean Root140forced=false;
+        Pair Root140=null;
+        if (buildTree) {
+            Root140=new Pair();
+            Token start=getToken(1);
+            Root140.setBeginLine(start.beginLine);
+            Root140.setBeginColumn(start.beginColumn);
+            Root140.setInputSource(this.getInputSource());
+            openNodeScope(Root140);
+        }
+        ParseException parseException140=null;
+        try {
+            // Code for expansion specified on line 962 of HugeMethods.javacc
+            consumeToken(W69);
+            // Code for expansion specified on line 962 of HugeMethods.javacc
+            int int140=nextTokenKind();
+            if (int140==W70) {
+                // Code for expansion specified on line 962 of HugeMethods.javacc
+                // Code for expansion specified on line 962 of HugeMethods.javacc
+                consumeToken(W70);
+            }
+            // Code for expansion specified on line 962 of HugeMethods.javacc
+            int int141=nextTokenKind();
+            if (int141==405) {
+                // Code for expansion specified on line 962 of HugeMethods.javacc
+                // Code for expansion specified on line 962 of HugeMethods.javacc
+                boolean Root141forced=false;
+                Mark Root141=null;
+                if (buildTree) {
+                    Root141=new Mark();
+                    Token start=getToken(1);
+                    Root141.setBeginLine(start.beginLine);
+                    Root141.setBeginColumn(start.beginColumn);
+                    Root141.setInputSource(this.getInputSource());
+                    openNodeScope(Root141);
+                }
+                ParseException parseException141=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException141=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException141!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException141.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root141.setEndLine(current_token.getEndLine());
+                            Root141.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root141,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException140=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException140!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException140.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root140.setEndLine(current_token.getEndLine());
+                    Root140.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root140,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part69() throws ParseException {
+        // Code for expansion specified on line 960 of HugeMethods.javacc
+        // Code for expansion specified on line 960 of HugeMethods.javacc
+        boolean Root138forced=false;
+        Pair Root138=null;
+        if (buildTree) {
+            Root138=new Pair();
+            Token start=getToken(1);
+            Root138.setBeginLine(start.beginLine);
+            Root138.setBeginColumn(start.beginColumn);
+            Root138.setInputSource(this.getInputSource());
+            openNodeScope(Root138);
+        }
+        ParseException parseException138=null;
+        try {
+            // Code for expansion specified on line 960 of HugeMethods.javacc
+            consumeToken(W68);
+            // Code for expansion specified on line 960 of HugeMethods.javacc
+            int int138=nextTokenKind();
+            if (int138==W69) {
+                // Code for expansion specified on line 960 of HugeMethods.javacc
+                // Code for expansion specified on line 960 of HugeMethods.javacc
+                consumeToken(W69);
+            }
+            // Code for expansion specified on line 960 of HugeMethods.javacc
+            int int139=nextTokenKind();
+            if (int139==405) {
+                // Code for expansion specified on line 960 of HugeMethods.javacc
+                // Code for expansion specified on line 960 of HugeMethods.javacc
+                boolean Root139forced=false;
+                Mark Root139=null;
+                if (buildTree) {
+                    Root139=new Mark();
+                    Token start=getToken(1);
+                    Root139.setBeginLine(start.beginLine);
+                    Root139.setBeginColumn(start.beginColumn);
+                    Root139.setInputSource(this.getInputSource());
+                    openNodeScope(Root139);
+                }
+                ParseException parseException139=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException139=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException139!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException139.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root139.setEndLine(current_token.getEndLine());
+                            Root139.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root139,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException138=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException138!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException138.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root138.setEndLine(current_token.getEndLine());
+                    Root138.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root138,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part68() throws ParseException {
+        // Code for expansion specified on line 958 of HugeMethods.javacc
+        // Code for expansion specified on line 958 of HugeMethods.javacc
+        boolean Root136forced=false;
+        Pair Root136=null;
+        if (buildTree) {
+            Root136=new Pair();
+            Token start=getToken(1);
+            Root136.setBeginLine(start.beginLine);
+            Root136.setBeginColumn(start.beginColumn);
+            Root136.setInputSource(this.getInputSource());
+            openNodeScope(Root136);
+        }
+        ParseException parseException136=null;
+        try {
+            // Code for expansion specified on line 958 of HugeMethods.javacc
+            consumeToken(W67);
+            // Code for expansion specified on line 958 of HugeMethods.javacc
+            int int136=nextTokenKind();
+            if (int136==W68) {
+                // Code for expansion specified on line 958 of HugeMethods.javacc
+                // Code for expansion specified on line 958 of HugeMethods.javacc
+                consumeToken(W68);
+            }
+            // Code for expansion specified on line 958 of HugeMethods.javacc
+            int int137=nextTokenKind();
+            if (int137==405) {
+                // Code for expansion specified on line 958 of HugeMethods.javacc
+                // Code for expansion specified on line 958 of HugeMethods.javacc
+                boolean Root137forced=false;
+                Mark Root137=null;
+                if (buildTree) {
+                    Root137=new Mark();
+                    Token start=getToken(1);
+                    Root137.setBeginLine(start.beginLine);
+                    Root137.setBeginColumn(start.beginColumn);
+                    Root137.setInputSource(this.getInputSource());
+                    openNodeScope(Root137);
+                }
+                ParseException parseException137=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException137=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException137!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException137.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root137.setEndLine(current_token.getEndLine());
+                            Root137.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root137,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException136=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException136!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException136.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root136.setEndLine(current_token.getEndLine());
+                    Root136.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root136,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part67() throws ParseException {
+        // Code for expansion specified on line 956 of HugeMethods.javacc
+        // Code for expansion specified on line 956 of HugeMethods.javacc
+        boolean Root134forced=false;
+        Pair Root134=null;
+        if (buildTree) {
+            Root134=new Pair();
+            Token start=getToken(1);
+            Root134.setBeginLine(start.beginLine);
+            Root134.setBeginColumn(start.beginColumn);
+            Root134.setInputSource(this.getInputSource());
+            openNodeScope(Root134);
+        }
+        ParseException parseException134=null;
+        try {
+            // Code for expansion specified on line 956 of HugeMethods.javacc
+            consumeToken(W66);
+            // Code for expansion specified on line 956 of HugeMethods.javacc
+            int int134=nextTokenKind();
+            if (int134==W67) {
+                // Code for expansion specified on line 956 of HugeMethods.javacc
+                // Code for expansion specified on line 956 of HugeMethods.javacc
+                consumeToken(W67);
+            }
+            // Code for expansion specified on line 956 of HugeMethods.javacc
+            int int135=nextTokenKind();
+            if (int135==405) {
+                // Code for expansion specified on line 956 of HugeMethods.javacc
+                // Code for expansion specified on line 956 of HugeMethods.javacc
+                boolean Root135forced=false;
+                Mark Root135=null;
+                if (buildTree) {
+                    Root135=new Mark();
+                    Token start=getToken(1);
+                    Root135.setBeginLine(start.beginLine);
+                    Root135.setBeginColumn(start.beginColumn);
+                    Root135.setInputSource(this.getInputSource());
+                    openNodeScope(Root135);
+                }
+                ParseException parseException135=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException135=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException135!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException135.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root135.setEndLine(current_token.getEndLine());
+                            Root135.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root135,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException134=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException134!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException134.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root134.setEndLine(current_token.getEndLine());
+                    Root134.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root134,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part66() throws ParseException {
+        // Code for expansion specified on line 954 of HugeMethods.javacc
+        // Code for expansion specified on line 954 of HugeMethods.javacc
+        boolean Root132forced=false;
+        Pair Root132=null;
+        if (buildTree) {
+            Root132=new Pair();
+            Token start=getToken(1);
+            Root132.setBeginLine(start.beginLine);
+            Root132.setBeginColumn(start.beginColumn);
+            Root132.setInputSource(this.getInputSource());
+            openNodeScope(Root132);
+        }
+        ParseException parseException132=null;
+        try {
+            // Code for expansion specified on line 954 of HugeMethods.javacc
+            consumeToken(W65);
+            // Code for expansion specified on line 954 of HugeMethods.javacc
+            int int132=nextTokenKind();
+            if (int132==W66) {
+                // Code for expansion specified on line 954 of HugeMethods.javacc
+                // Code for expansion specified on line 954 of HugeMethods.javacc
+                consumeToken(W66);
+            }
+            // Code for expansion specified on line 954 of HugeMethods.javacc
+            int int133=nextTokenKind();
+            if (int133==405) {
+                // Code for expansion specified on line 954 of HugeMethods.javacc
+                // Code for expansion specified on line 954 of HugeMethods.javacc
+                boolean Root133forced=false;
+                Mark Root133=null;
+                if (buildTree) {
+                    Root133=new Mark();
+                    Token start=getToken(1);
+                    Root133.setBeginLine(start.beginLine);
+                    Root133.setBeginColumn(start.beginColumn);
+                    Root133.setInputSource(this.getInputSource());
+                    openNodeScope(Root133);
+                }
+                ParseException parseException133=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException133=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException133!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException133.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root133.setEndLine(current_token.getEndLine());
+                            Root133.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root133,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException132=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException132!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException132.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root132.setEndLine(current_token.getEndLine());
+                    Root132.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root132,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part65() throws ParseException {
+        // Code for expansion specified on line 952 of HugeMethods.javacc
+        // Code for expansion specified on line 952 of HugeMethods.javacc
+        boolean Root130forced=false;
+        Pair Root130=null;
+        if (buildTree) {
+            Root130=new Pair();
+            Token start=getToken(1);
+            Root130.setBeginLine(start.beginLine);
+            Root130.setBeginColumn(start.beginColumn);
+            Root130.setInputSource(this.getInputSource());
+            openNodeScope(Root130);
+        }
+        ParseException parseException130=null;
+        try {
+            // Code for expansion specified on line 952 of HugeMethods.javacc
+            consumeToken(W64);
+            // Code for expansion specified on line 952 of HugeMethods.javacc
+            int int130=nextTokenKind();
+            if (int130==W65) {
+                // Code for expansion specified on line 952 of HugeMethods.javacc
+                // Code for expansion specified on line 952 of HugeMethods.javacc
+                consumeToken(W65);
+            }
+            // Code for expansion specified on line 952 of HugeMethods.javacc
+            int int131=nextTokenKind();
+            if (int131==405) {
+                // Code for expansion specified on line 952 of HugeMethods.javacc
+                // Code for expansion specified on line 952 of HugeMethods.javacc
+                boolean Root131forced=false;
+                Mark Root131=null;
+                if (buildTree) {
+                    Root131=new Mark();
+                    Token start=getToken(1);
+                    Root131.setBeginLine(start.beginLine);
+                    Root131.setBeginColumn(start.beginColumn);
+                    Root131.setInputSource(this.getInputSource());
+                    openNodeScope(Root131);
+                }
+                ParseException parseException131=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException131=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException131!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException131.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root131.setEndLine(current_token.getEndLine());
+                            Root131.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root131,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException130=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException130!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException130.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root130.setEndLine(current_token.getEndLine());
+                    Root130.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root130,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part64() throws ParseException {
+        // Code for expansion specified on line 950 of HugeMethods.javacc
+        // Code for expansion specified on line 950 of HugeMethods.javacc
+        boolean Root128forced=false;
+        Pair Root128=null;
+        if (buildTree) {
+            Root128=new Pair();
+            Token start=getToken(1);
+            Root128.setBeginLine(start.beginLine);
+            Root128.setBeginColumn(start.beginColumn);
+            Root128.setInputSource(this.getInputSource());
+            openNodeScope(Root128);
+        }
+        ParseException parseException128=null;
+        try {
+            // Code for expansion specified on line 950 of HugeMethods.javacc
+            consumeToken(W63);
+            // Code for expansion specified on line 950 of HugeMethods.javacc
+            int int128=nextTokenKind();
+            if (int128==W64) {
+                // Code for expansion specified on line 950 of HugeMethods.javacc
+                // Code for expansion specified on line 950 of HugeMethods.javacc
+                consumeToken(W64);
+            }
+            // Code for expansion specified on line 950 of HugeMethods.javacc
+            int int129=nextTokenKind();
+            if (int129==405) {
+                // Code for expansion specified on line 950 of HugeMethods.javacc
+                // Code for expansion specified on line 950 of HugeMethods.javacc
+                boolean Root129forced=false;
+                Mark Root129=null;
+                if (buildTree) {
+                    Root129=new Mark();
+                    Token start=getToken(1);
+                    Root129.setBeginLine(start.beginLine);
+                    Root129.setBeginColumn(start.beginColumn);
+                    Root129.setInputSource(this.getInputSource());
+                    openNodeScope(Root129);
+                }
+                ParseException parseException129=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException129=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException129!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException129.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root129.setEndLine(current_token.getEndLine());
+                            Root129.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root129,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException128=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException128!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException128.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root128.setEndLine(current_token.getEndLine());
+                    Root128.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root128,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part63() throws ParseException {
+        // Code for expansion specified on line 948 of HugeMethods.javacc
+        // Code for expansion specified on line 948 of HugeMethods.javacc
+        boolean Root126forced=false;
+        Pair Root126=null;
+        if (buildTree) {
+            Root126=new Pair();
+            Token start=getToken(1);
+            Root126.setBeginLine(start.beginLine);
+            Root126.setBeginColumn(start.beginColumn);
+            Root126.setInputSource(this.getInputSource());
+            openNodeScope(Root126);
+        }
+        ParseException parseException126=null;
+        try {
+            // Code for expansion specified on line 948 of HugeMethods.javacc
+            consumeToken(W62);
+            // Code for expansion specified on line 948 of HugeMethods.javacc
+            int int126=nextTokenKind();
+            if (int126==W63) {
+                // Code for expansion specified on line 948 of HugeMethods.javacc
+                // Code for expansion specified on line 948 of HugeMethods.javacc
+                consumeToken(W63);
+            }
+            // Code for expansion specified on line 948 of HugeMethods.javacc
+            int int127=nextTokenKind();
+            if (int127==405) {
+                // Code for expansion specified on line 948 of HugeMethods.javacc
+                // Code for expansion specified on line 948 of HugeMethods.javacc
+                boolean Root127forced=false;
+                Mark Root127=null;
+                if (buildTree) {
+                    Root127=new Mark();
+                    Token start=getToken(1);
+                    Root127.setBeginLine(start.beginLine);
+                    Root127.setBeginColumn(start.beginColumn);
+                    Root127.setInputSource(this.getInputSource());
+                    openNodeScope(Root127);
+                }
+                ParseException parseException127=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException127=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException127!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException127.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root127.setEndLine(current_token.getEndLine());
+                            Root127.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root127,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException126=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException126!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException126.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root126.setEndLine(current_token.getEndLine());
+                    Root126.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root126,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part62() throws ParseException {
+        // Code for expansion specified on line 946 of HugeMethods.javacc
+        // Code for expansion specified on line 946 of HugeMethods.javacc
+        boolean Root124forced=false;
+        Pair Root124=null;
+        if (buildTree) {
+            Root124=new Pair();
+            Token start=getToken(1);
+            Root124.setBeginLine(start.beginLine);
+            Root124.setBeginColumn(start.beginColumn);
+            Root124.setInputSource(this.getInputSource());
+            openNodeScope(Root124);
+        }
+        ParseException parseException124=null;
+        try {
+            // Code for expansion specified on line 946 of HugeMethods.javacc
+            consumeToken(W61);
+            // Code for expansion specified on line 946 of HugeMethods.javacc
+            int int124=nextTokenKind();
+            if (int124==W62) {
+                // Code for expansion specified on line 946 of HugeMethods.javacc
+                // Code for expansion specified on line 946 of HugeMethods.javacc
+                consumeToken(W62);
+            }
+            // Code for expansion specified on line 946 of HugeMethods.javacc
+            int int125=nextTokenKind();
+            if (int125==405) {
+                // Code for expansion specified on line 946 of HugeMethods.javacc
+                // Code for expansion specified on line 946 of HugeMethods.javacc
+                boolean Root125forced=false;
+                Mark Root125=null;
+                if (buildTree) {
+                    Root125=new Mark();
+                    Token start=getToken(1);
+                    Root125.setBeginLine(start.beginLine);
+                    Root125.setBeginColumn(start.beginColumn);
+                    Root125.setInputSource(this.getInputSource());
+                    openNodeScope(Root125);
+                }
+                ParseException parseException125=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException125=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException125!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException125.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root125.setEndLine(current_token.getEndLine());
+                            Root125.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root125,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException124=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException124!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException124.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root124.setEndLine(current_token.getEndLine());
+                    Root124.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root124,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part61() throws ParseException {
+        // Code for expansion specified on line 944 of HugeMethods.javacc
+        // Code for expansion specified on line 944 of HugeMethods.javacc
+        boolean Root122forced=false;
+        Pair Root122=null;
+        if (buildTree) {
+            Root122=new Pair();
+            Token start=getToken(1);
+            Root122.setBeginLine(start.beginLine);
+            Root122.setBeginColumn(start.beginColumn);
+            Root122.setInputSource(this.getInputSource());
+            openNodeScope(Root122);
+        }
+        ParseException parseException122=null;
+        try {
+            // Code for expansion specified on line 944 of HugeMethods.javacc
+            consumeToken(W60);
+            // Code for expansion specified on line 944 of HugeMethods.javacc
+            int int122=nextTokenKind();
+            if (int122==W61) {
+                // Code for expansion specified on line 944 of HugeMethods.javacc
+                // Code for expansion specified on line 944 of HugeMethods.javacc
+                consumeToken(W61);
+            }
+            // Code for expansion specified on line 944 of HugeMethods.javacc
+            int int123=nextTokenKind();
+            if (int123==405) {
+                // Code for expansion specified on line 944 of HugeMethods.javacc
+                // Code for expansion specified on line 944 of HugeMethods.javacc
+                boolean Root123forced=false;
+                Mark Root123=null;
+                if (buildTree) {
+                    Root123=new Mark();
+                    Token start=getToken(1);
+                    Root123.setBeginLine(start.beginLine);
+                    Root123.setBeginColumn(start.beginColumn);
+                    Root123.setInputSource(this.getInputSource());
+                    openNodeScope(Root123);
+                }
+                ParseException parseException123=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException123=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException123!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException123.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root123.setEndLine(current_token.getEndLine());
+                            Root123.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root123,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException122=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException122!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException122.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root122.setEndLine(current_token.getEndLine());
+                    Root122.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root122,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part60() throws ParseException {
+        // Code for expansion specified on line 942 of HugeMethods.javacc
+        // Code for expansion specified on line 942 of HugeMethods.javacc
+        boolean Root120forced=false;
+        Pair Root120=null;
+        if (buildTree) {
+            Root120=new Pair();
+            Token start=getToken(1);
+            Root120.setBeginLine(start.beginLine);
+            Root120.setBeginColumn(start.beginColumn);
+            Root120.setInputSource(this.getInputSource());
+            openNodeScope(Root120);
+        }
+        ParseException parseException120=null;
+        try {
+            // Code for expansion specified on line 942 of HugeMethods.javacc
+            consumeToken(W59);
+            // Code for expansion specified on line 942 of HugeMethods.javacc
+            int int120=nextTokenKind();
+            if (int120==W60) {
+                // Code for expansion specified on line 942 of HugeMethods.javacc
+                // Code for expansion specified on line 942 of HugeMethods.javacc
+                consumeToken(W60);
+            }
+            // Code for expansion specified on line 942 of HugeMethods.javacc
+            int int121=nextTokenKind();
+            if (int121==405) {
+                // Code for expansion specified on line 942 of HugeMethods.javacc
+                // Code for expansion specified on line 942 of HugeMethods.javacc
+                boolean Root121forced=false;
+                Mark Root121=null;
+                if (buildTree) {
+                    Root121=new Mark();
+                    Token start=getToken(1);
+                    Root121.setBeginLine(start.beginLine);
+                    Root121.setBeginColumn(start.beginColumn);
+                    Root121.setInputSource(this.getInputSource());
+                    openNodeScope(Root121);
+                }
+                ParseException parseException121=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException121=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException121!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException121.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root121.setEndLine(current_token.getEndLine());
+                            Root121.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root121,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException120=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException120!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException120.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root120.setEndLine(current_token.getEndLine());
+                    Root120.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root120,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part59() throws ParseException {
+        // Code for expansion specified on line 940 of HugeMethods.javacc
+        // Code for expansion specified on line 940 of HugeMethods.javacc
+        boolean Root118forced=false;
+        Pair Root118=null;
+        if (buildTree) {
+            Root118=new Pair();
+            Token start=getToken(1);
+            Root118.setBeginLine(start.beginLine);
+            Root118.setBeginColumn(start.beginColumn);
+            Root118.setInputSource(this.getInputSource());
+            openNodeScope(Root118);
+        }
+        ParseException parseException118=null;
+        try {
+            // Code for expansion specified on line 940 of HugeMethods.javacc
+            consumeToken(W58);
+            // Code for expansion specified on line 940 of HugeMethods.javacc
+            int int118=nextTokenKind();
+            if (int118==W59) {
+                // Code for expansion specified on line 940 of HugeMethods.javacc
+                // Code for expansion specified on line 940 of HugeMethods.javacc
+                consumeToken(W59);
+            }
+            // Code for expansion specified on line 940 of HugeMethods.javacc
+            int int119=nextTokenKind();
+            if (int119==405) {
+                // Code for expansion specified on line 940 of HugeMethods.javacc
+                // Code for expansion specified on line 940 of HugeMethods.javacc
+                boolean Root119forced=false;
+                Mark Root119=null;
+                if (buildTree) {
+                    Root119=new Mark();
+                    Token start=getToken(1);
+                    Root119.setBeginLine(start.beginLine);
+                    Root119.setBeginColumn(start.beginColumn);
+                    Root119.setInputSource(this.getInputSource());
+                    openNodeScope(Root119);
+                }
+                ParseException parseException119=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException119=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException119!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException119.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root119.setEndLine(current_token.getEndLine());
+                            Root119.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root119,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException118=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException118!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException118.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root118.setEndLine(current_token.getEndLine());
+                    Root118.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root118,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part58() throws ParseException {
+        // Code for expansion specified on line 938 of HugeMethods.javacc
+        // Code for expansion specified on line 938 of HugeMethods.javacc
+        boolean Root116forced=false;
+        Pair Root116=null;
+        if (buildTree) {
+            Root116=new Pair();
+            Token start=getToken(1);
+            Root116.setBeginLine(start.beginLine);
+            Root116.setBeginColumn(start.beginColumn);
+            Root116.setInputSource(this.getInputSource());
+            openNodeScope(Root116);
+        }
+        ParseException parseException116=null;
+        try {
+            // Code for expansion specified on line 938 of HugeMethods.javacc
+            consumeToken(W57);
+            // Code for expansion specified on line 938 of HugeMethods.javacc
+            int int116=nextTokenKind();
+            if (int116==W58) {
+                // Code for expansion specified on line 938 of HugeMethods.javacc
+                // Code for expansion specified on line 938 of HugeMethods.javacc
+                consumeToken(W58);
+            }
+            // Code for expansion specified on line 938 of HugeMethods.javacc
+            int int117=nextTokenKind();
+            if (int117==405) {
+                // Code for expansion specified on line 938 of HugeMethods.javacc
+                // Code for expansion specified on line 938 of HugeMethods.javacc
+                boolean Root117forced=false;
+                Mark Root117=null;
+                if (buildTree) {
+                    Root117=new Mark();
+                    Token start=getToken(1);
+                    Root117.setBeginLine(start.beginLine);
+                    Root117.setBeginColumn(start.beginColumn);
+                    Root117.setInputSource(this.getInputSource());
+                    openNodeScope(Root117);
+                }
+                ParseException parseException117=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException117=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException117!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException117.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root117.setEndLine(current_token.getEndLine());
+                            Root117.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root117,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException116=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException116!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException116.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root116.setEndLine(current_token.getEndLine());
+                    Root116.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root116,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part57() throws ParseException {
+        // Code for expansion specified on line 936 of HugeMethods.javacc
+        // Code for expansion specified on line 936 of HugeMethods.javacc
+        boolean Root114forced=false;
+        Pair Root114=null;
+        if (buildTree) {
+            Root114=new Pair();
+            Token start=getToken(1);
+            Root114.setBeginLine(start.beginLine);
+            Root114.setBeginColumn(start.beginColumn);
+            Root114.setInputSource(this.getInputSource());
+            openNodeScope(Root114);
+        }
+        ParseException parseException114=null;
+        try {
+            // Code for expansion specified on line 936 of HugeMethods.javacc
+            consumeToken(W56);
+            // Code for expansion specified on line 936 of HugeMethods.javacc
+            int int114=nextTokenKind();
+            if (int114==W57) {
+                // Code for expansion specified on line 936 of HugeMethods.javacc
+                // Code for expansion specified on line 936 of HugeMethods.javacc
+                consumeToken(W57);
+            }
+            // Code for expansion specified on line 936 of HugeMethods.javacc
+            int int115=nextTokenKind();
+            if (int115==405) {
+                // Code for expansion specified on line 936 of HugeMethods.javacc
+                // Code for expansion specified on line 936 of HugeMethods.javacc
+                boolean Root115forced=false;
+                Mark Root115=null;
+                if (buildTree) {
+                    Root115=new Mark();
+                    Token start=getToken(1);
+                    Root115.setBeginLine(start.beginLine);
+                    Root115.setBeginColumn(start.beginColumn);
+                    Root115.setInputSource(this.getInputSource());
+                    openNodeScope(Root115);
+                }
+                ParseException parseException115=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException115=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException115!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException115.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root115.setEndLine(current_token.getEndLine());
+                            Root115.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root115,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException114=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException114!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException114.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root114.setEndLine(current_token.getEndLine());
+                    Root114.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root114,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part56() throws ParseException {
+        // Code for expansion specified on line 934 of HugeMethods.javacc
+        // Code for expansion specified on line 934 of HugeMethods.javacc
+        boolean Root112forced=false;
+        Pair Root112=null;
+        if (buildTree) {
+            Root112=new Pair();
+            Token start=getToken(1);
+            Root112.setBeginLine(start.beginLine);
+            Root112.setBeginColumn(start.beginColumn);
+            Root112.setInputSource(this.getInputSource());
+            openNodeScope(Root112);
+        }
+        ParseException parseException112=null;
+        try {
+            // Code for expansion specified on line 934 of HugeMethods.javacc
+            consumeToken(W55);
+            // Code for expansion specified on line 934 of HugeMethods.javacc
+            int int112=nextTokenKind();
+            if (int112==W56) {
+                // Code for expansion specified on line 934 of HugeMethods.javacc
+                // Code for expansion specified on line 934 of HugeMethods.javacc
+                consumeToken(W56);
+            }
+            // Code for expansion specified on line 934 of HugeMethods.javacc
+            int int113=nextTokenKind();
+            if (int113==405) {
+                // Code for expansion specified on line 934 of HugeMethods.javacc
+                // Code for expansion specified on line 934 of HugeMethods.javacc
+                boolean Root113forced=false;
+                Mark Root113=null;
+                if (buildTree) {
+                    Root113=new Mark();
+                    Token start=getToken(1);
+                    Root113.setBeginLine(start.beginLine);
+                    Root113.setBeginColumn(start.beginColumn);
+                    Root113.setInputSource(this.getInputSource());
+                    openNodeScope(Root113);
+                }
+                ParseException parseException113=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException113=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException113!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException113.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root113.setEndLine(current_token.getEndLine());
+                            Root113.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root113,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException112=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException112!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException112.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root112.setEndLine(current_token.getEndLine());
+                    Root112.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root112,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part55() throws ParseException {
+        // Code for expansion specified on line 932 of HugeMethods.javacc
+        // Code for expansion specified on line 932 of HugeMethods.javacc
+        boolean Root110forced=false;
+        Pair Root110=null;
+        if (buildTree) {
+            Root110=new Pair();
+            Token start=getToken(1);
+            Root110.setBeginLine(start.beginLine);
+            Root110.setBeginColumn(start.beginColumn);
+            Root110.setInputSource(this.getInputSource());
+            openNodeScope(Root110);
+        }
+        ParseException parseException110=null;
+        try {
+            // Code for expansion specified on line 932 of HugeMethods.javacc
+            consumeToken(W54);
+            // Code for expansion specified on line 932 of HugeMethods.javacc
+            int int110=nextTokenKind();
+            if (int110==W55) {
+                // Code for expansion specified on line 932 of HugeMethods.javacc
+                // Code for expansion specified on line 932 of HugeMethods.javacc
+                consumeToken(W55);
+            }
+            // Code for expansion specified on line 932 of HugeMethods.javacc
+            int int111=nextTokenKind();
+            if (int111==405) {
+                // Code for expansion specified on line 932 of HugeMethods.javacc
+                // Code for expansion specified on line 932 of HugeMethods.javacc
+                boolean Root111forced=false;
+                Mark Root111=null;
+                if (buildTree) {
+                    Root111=new Mark();
+                    Token start=getToken(1);
+                    Root111.setBeginLine(start.beginLine);
+                    Root111.setBeginColumn(start.beginColumn);
+                    Root111.setInputSource(this.getInputSource());
+                    openNodeScope(Root111);
+                }
+                ParseException parseException111=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException111=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException111!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException111.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root111.setEndLine(current_token.getEndLine());
+                            Root111.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root111,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException110=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException110!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException110.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root110.setEndLine(current_token.getEndLine());
+                    Root110.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root110,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part54() throws ParseException {
+        // Code for expansion specified on line 930 of HugeMethods.javacc
+        // Code for expansion specified on line 930 of HugeMethods.javacc
+        boolean Root108forced=false;
+        Pair Root108=null;
+        if (buildTree) {
+            Root108=new Pair();
+            Token start=getToken(1);
+            Root108.setBeginLine(start.beginLine);
+            Root108.setBeginColumn(start.beginColumn);
+            Root108.setInputSource(this.getInputSource());
+            openNodeScope(Root108);
+        }
+        ParseException parseException108=null;
+        try {
+            // Code for expansion specified on line 930 of HugeMethods.javacc
+            consumeToken(W53);
+            // Code for expansion specified on line 930 of HugeMethods.javacc
+            int int108=nextTokenKind();
+            if (int108==W54) {
+                // Code for expansion specified on line 930 of HugeMethods.javacc
+                // Code for expansion specified on line 930 of HugeMethods.javacc
+                consumeToken(W54);
+            }
+            // Code for expansion specified on line 930 of HugeMethods.javacc
+            int int109=nextTokenKind();
+            if (int109==405) {
+                // Code for expansion specified on line 930 of HugeMethods.javacc
+                // Code for expansion specified on line 930 of HugeMethods.javacc
+                boolean Root109forced=false;
+                Mark Root109=null;
+                if (buildTree) {
+                    Root109=new Mark();
+                    Token start=getToken(1);
+                    Root109.setBeginLine(start.beginLine);
+                    Root109.setBeginColumn(start.beginColumn);
+                    Root109.setInputSource(this.getInputSource());
+                    openNodeScope(Root109);
+                }
+                ParseException parseException109=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException109=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException109!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException109.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root109.setEndLine(current_token.getEndLine());
+                            Root109.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root109,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException108=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException108!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException108.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root108.setEndLine(current_token.getEndLine());
+                    Root108.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root108,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part53() throws ParseException {
+        // Code for expansion specified on line 928 of HugeMethods.javacc
+        // Code for expansion specified on line 928 of HugeMethods.javacc
+        boolean Root106forced=false;
+        Pair Root106=null;
+        if (buildTree) {
+            Root106=new Pair();
+            Token start=getToken(1);
+            Root106.setBeginLine(start.beginLine);
+            Root106.setBeginColumn(start.beginColumn);
+            Root106.setInputSource(this.getInputSource());
+            openNodeScope(Root106);
+        }
+        ParseException parseException106=null;
+        try {
+            // Code for expansion specified on line 928 of HugeMethods.javacc
+            consumeToken(W52);
+            // Code for expansion specified on line 928 of HugeMethods.javacc
+            int int106=nextTokenKind();
+            if (int106==W53) {
+                // Code for expansion specified on line 928 of HugeMethods.javacc
+                // Code for expansion specified on line 928 of HugeMethods.javacc
+                consumeToken(W53);
+            }
+            // Code for expansion specified on line 928 of HugeMethods.javacc
+            int int107=nextTokenKind();
+            if (int107==405) {
+                // Code for expansion specified on line 928 of HugeMethods.javacc
+                // Code for expansion specified on line 928 of HugeMethods.javacc
+                boolean Root107forced=false;
+                Mark Root107=null;
+                if (buildTree) {
+                    Root107=new Mark();
+                    Token start=getToken(1);
+                    Root107.setBeginLine(start.beginLine);
+                    Root107.setBeginColumn(start.beginColumn);
+                    Root107.setInputSource(this.getInputSource());
+                    openNodeScope(Root107);
+                }
+                ParseException parseException107=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException107=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException107!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException107.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root107.setEndLine(current_token.getEndLine());
+                            Root107.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root107,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException106=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException106!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException106.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root106.setEndLine(current_token.getEndLine());
+                    Root106.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root106,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part52() throws ParseException {
+        // Code for expansion specified on line 926 of HugeMethods.javacc
+        // Code for expansion specified on line 926 of HugeMethods.javacc
+        boolean Root104forced=false;
+        Pair Root104=null;
+        if (buildTree) {
+            Root104=new Pair();
+            Token start=getToken(1);
+            Root104.setBeginLine(start.beginLine);
+            Root104.setBeginColumn(start.beginColumn);
+            Root104.setInputSource(this.getInputSource());
+            openNodeScope(Root104);
+        }
+        ParseException parseException104=null;
+        try {
+            // Code for expansion specified on line 926 of HugeMethods.javacc
+            consumeToken(W51);
+            // Code for expansion specified on line 926 of HugeMethods.javacc
+            int int104=nextTokenKind();
+            if (int104==W52) {
+                // Code for expansion specified on line 926 of HugeMethods.javacc
+                // Code for expansion specified on line 926 of HugeMethods.javacc
+                consumeToken(W52);
+            }
+            // Code for expansion specified on line 926 of HugeMethods.javacc
+            int int105=nextTokenKind();
+            if (int105==405) {
+                // Code for expansion specified on line 926 of HugeMethods.javacc
+                // Code for expansion specified on line 926 of HugeMethods.javacc
+                boolean Root105forced=false;
+                Mark Root105=null;
+                if (buildTree) {
+                    Root105=new Mark();
+                    Token start=getToken(1);
+                    Root105.setBeginLine(start.beginLine);
+                    Root105.setBeginColumn(start.beginColumn);
+                    Root105.setInputSource(this.getInputSource());
+                    openNodeScope(Root105);
+                }
+                ParseException parseException105=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException105=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException105!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException105.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root105.setEndLine(current_token.getEndLine());
+                            Root105.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root105,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException104=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException104!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException104.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root104.setEndLine(current_token.getEndLine());
+                    Root104.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root104,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part51() throws ParseException {
+        // Code for expansion specified on line 924 of HugeMethods.javacc
+        // Code for expansion specified on line 924 of HugeMethods.javacc
+        boolean Root102forced=false;
+        Pair Root102=null;
+        if (buildTree) {
+            Root102=new Pair();
+            Token start=getToken(1);
+            Root102.setBeginLine(start.beginLine);
+            Root102.setBeginColumn(start.beginColumn);
+            Root102.setInputSource(this.getInputSource());
+            openNodeScope(Root102);
+        }
+        ParseException parseException102=null;
+        try {
+            // Code for expansion specified on line 924 of HugeMethods.javacc
+            consumeToken(W50);
+            // Code for expansion specified on line 924 of HugeMethods.javacc
+            int int102=nextTokenKind();
+            if (int102==W51) {
+                // Code for expansion specified on line 924 of HugeMethods.javacc
+                // Code for expansion specified on line 924 of HugeMethods.javacc
+                consumeToken(W51);
+            }
+            // Code for expansion specified on line 924 of HugeMethods.javacc
+            int int103=nextTokenKind();
+            if (int103==405) {
+                // Code for expansion specified on line 924 of HugeMethods.javacc
+                // Code for expansion specified on line 924 of HugeMethods.javacc
+                boolean Root103forced=false;
+                Mark Root103=null;
+                if (buildTree) {
+                    Root103=new Mark();
+                    Token start=getToken(1);
+                    Root103.setBeginLine(start.beginLine);
+                    Root103.setBeginColumn(start.beginColumn);
+                    Root103.setInputSource(this.getInputSource());
+                    openNodeScope(Root103);
+                }
+                ParseException parseException103=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException103=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException103!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException103.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root103.setEndLine(current_token.getEndLine());
+                            Root103.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root103,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException102=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException102!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException102.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root102.setEndLine(current_token.getEndLine());
+                    Root102.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root102,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part50() throws ParseException {
+        // Code for expansion specified on line 922 of HugeMethods.javacc
+        // Code for expansion specified on line 922 of HugeMethods.javacc
+        boolean Root100forced=false;
+        Pair Root100=null;
+        if (buildTree) {
+            Root100=new Pair();
+            Token start=getToken(1);
+            Root100.setBeginLine(start.beginLine);
+            Root100.setBeginColumn(start.beginColumn);
+            Root100.setInputSource(this.getInputSource());
+            openNodeScope(Root100);
+        }
+        ParseException parseException100=null;
+        try {
+            // Code for expansion specified on line 922 of HugeMethods.javacc
+            consumeToken(W49);
+            // Code for expansion specified on line 922 of HugeMethods.javacc
+            int int100=nextTokenKind();
+            if (int100==W50) {
+                // Code for expansion specified on line 922 of HugeMethods.javacc
+                // Code for expansion specified on line 922 of HugeMethods.javacc
+                consumeToken(W50);
+            }
+            // Code for expansion specified on line 922 of HugeMethods.javacc
+            int int101=nextTokenKind();
+            if (int101==405) {
+                // Code for expansion specified on line 922 of HugeMethods.javacc
+                // Code for expansion specified on line 922 of HugeMethods.javacc
+                boolean Root101forced=false;
+                Mark Root101=null;
+                if (buildTree) {
+                    Root101=new Mark();
+                    Token start=getToken(1);
+                    Root101.setBeginLine(start.beginLine);
+                    Root101.setBeginColumn(start.beginColumn);
+                    Root101.setInputSource(this.getInputSource());
+                    openNodeScope(Root101);
+                }
+                ParseException parseException101=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException101=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException101!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException101.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root101.setEndLine(current_token.getEndLine());
+                            Root101.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root101,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException100=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException100!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException100.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root100.setEndLine(current_token.getEndLine());
+                    Root100.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root100,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part49() throws ParseException {
+        // Code for expansion specified on line 920 of HugeMethods.javacc
+        // Code for expansion specified on line 920 of HugeMethods.javacc
+        boolean Root98forced=false;
+        Pair Root98=null;
+        if (buildTree) {
+            Root98=new Pair();
+            Token start=getToken(1);
+            Root98.setBeginLine(start.beginLine);
+            Root98.setBeginColumn(start.beginColumn);
+            Root98.setInputSource(this.getInputSource());
+            openNodeScope(Root98);
+        }
+        ParseException parseException98=null;
+        try {
+            // Code for expansion specified on line 920 of HugeMethods.javacc
+            consumeToken(W48);
+            // Code for expansion specified on line 920 of HugeMethods.javacc
+            int int98=nextTokenKind();
+            if (int98==W49) {
+                // Code for expansion specified on line 920 of HugeMethods.javacc
+                // Code for expansion specified on line 920 of HugeMethods.javacc
+                consumeToken(W49);
+            }
+            // Code for expansion specified on line 920 of HugeMethods.javacc
+            int int99=nextTokenKind();
+            if (int99==405) {
+                // Code for expansion specified on line 920 of HugeMethods.javacc
+                // Code for expansion specified on line 920 of HugeMethods.javacc
+                boolean Root99forced=false;
+                Mark Root99=null;
+                if (buildTree) {
+                    Root99=new Mark();
+                    Token start=getToken(1);
+                    Root99.setBeginLine(start.beginLine);
+                    Root99.setBeginColumn(start.beginColumn);
+                    Root99.setInputSource(this.getInputSource());
+                    openNodeScope(Root99);
+                }
+                ParseException parseException99=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException99=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException99!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException99.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root99.setEndLine(current_token.getEndLine());
+                            Root99.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root99,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException98=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException98!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException98.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root98.setEndLine(current_token.getEndLine());
+                    Root98.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root98,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part48() throws ParseException {
+        // Code for expansion specified on line 918 of HugeMethods.javacc
+        // Code for expansion specified on line 918 of HugeMethods.javacc
+        boolean Root96forced=false;
+        Pair Root96=null;
+        if (buildTree) {
+            Root96=new Pair();
+            Token start=getToken(1);
+            Root96.setBeginLine(start.beginLine);
+            Root96.setBeginColumn(start.beginColumn);
+            Root96.setInputSource(this.getInputSource());
+            openNodeScope(Root96);
+        }
+        ParseException parseException96=null;
+        try {
+            // Code for expansion specified on line 918 of HugeMethods.javacc
+            consumeToken(W47);
+            // Code for expansion specified on line 918 of HugeMethods.javacc
+            int int96=nextTokenKind();
+            if (int96==W48) {
+                // Code for expansion specified on line 918 of HugeMethods.javacc
+                // Code for expansion specified on line 918 of HugeMethods.javacc
+                consumeToken(W48);
+            }
+            // Code for expansion specified on line 918 of HugeMethods.javacc
+            int int97=nextTokenKind();
+            if (int97==405) {
+                // Code for expansion specified on line 918 of HugeMethods.javacc
+                // Code for expansion specified on line 918 of HugeMethods.javacc
+                boolean Root97forced=false;
+                Mark Root97=null;
+                if (buildTree) {
+                    Root97=new Mark();
+                    Token start=getToken(1);
+                    Root97.setBeginLine(start.beginLine);
+                    Root97.setBeginColumn(start.beginColumn);
+                    Root97.setInputSource(this.getInputSource());
+                    openNodeScope(Root97);
+                }
+                ParseException parseException97=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException97=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException97!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException97.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root97.setEndLine(current_token.getEndLine());
+                            Root97.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root97,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException96=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException96!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException96.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root96.setEndLine(current_token.getEndLine());
+                    Root96.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root96,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part47() throws ParseException {
+        // Code for expansion specified on line 916 of HugeMethods.javacc
+        // Code for expansion specified on line 916 of HugeMethods.javacc
+        boolean Root94forced=false;
+        Pair Root94=null;
+        if (buildTree) {
+            Root94=new Pair();
+            Token start=getToken(1);
+            Root94.setBeginLine(start.beginLine);
+            Root94.setBeginColumn(start.beginColumn);
+            Root94.setInputSource(this.getInputSource());
+            openNodeScope(Root94);
+        }
+        ParseException parseException94=null;
+        try {
+            // Code for expansion specified on line 916 of HugeMethods.javacc
+            consumeToken(W46);
+            // Code for expansion specified on line 916 of HugeMethods.javacc
+            int int94=nextTokenKind();
+            if (int94==W47) {
+                // Code for expansion specified on line 916 of HugeMethods.javacc
+                // Code for expansion specified on line 916 of HugeMethods.javacc
+                consumeToken(W47);
+            }
+            // Code for expansion specified on line 916 of HugeMethods.javacc
+            int int95=nextTokenKind();
+            if (int95==405) {
+                // Code for expansion specified on line 916 of HugeMethods.javacc
+                // Code for expansion specified on line 916 of HugeMethods.javacc
+                boolean Root95forced=false;
+                Mark Root95=null;
+                if (buildTree) {
+                    Root95=new Mark();
+                    Token start=getToken(1);
+                    Root95.setBeginLine(start.beginLine);
+                    Root95.setBeginColumn(start.beginColumn);
+                    Root95.setInputSource(this.getInputSource());
+                    openNodeScope(Root95);
+                }
+                ParseException parseException95=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException95=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException95!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException95.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root95.setEndLine(current_token.getEndLine());
+                            Root95.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root95,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException94=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException94!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException94.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root94.setEndLine(current_token.getEndLine());
+                    Root94.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root94,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part46() throws ParseException {
+        // Code for expansion specified on line 914 of HugeMethods.javacc
+        // Code for expansion specified on line 914 of HugeMethods.javacc
+        boolean Root92forced=false;
+        Pair Root92=null;
+        if (buildTree) {
+            Root92=new Pair();
+            Token start=getToken(1);
+            Root92.setBeginLine(start.beginLine);
+            Root92.setBeginColumn(start.beginColumn);
+            Root92.setInputSource(this.getInputSource());
+            openNodeScope(Root92);
+        }
+        ParseException parseException92=null;
+        try {
+            // Code for expansion specified on line 914 of HugeMethods.javacc
+            consumeToken(W45);
+            // Code for expansion specified on line 914 of HugeMethods.javacc
+            int int92=nextTokenKind();
+            if (int92==W46) {
+                // Code for expansion specified on line 914 of HugeMethods.javacc
+                // Code for expansion specified on line 914 of HugeMethods.javacc
+                consumeToken(W46);
+            }
+            // Code for expansion specified on line 914 of HugeMethods.javacc
+            int int93=nextTokenKind();
+            if (int93==405) {
+                // Code for expansion specified on line 914 of HugeMethods.javacc
+                // Code for expansion specified on line 914 of HugeMethods.javacc
+                boolean Root93forced=false;
+                Mark Root93=null;
+                if (buildTree) {
+                    Root93=new Mark();
+                    Token start=getToken(1);
+                    Root93.setBeginLine(start.beginLine);
+                    Root93.setBeginColumn(start.beginColumn);
+                    Root93.setInputSource(this.getInputSource());
+                    openNodeScope(Root93);
+                }
+                ParseException parseException93=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException93=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException93!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException93.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root93.setEndLine(current_token.getEndLine());
+                            Root93.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root93,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException92=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException92!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException92.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root92.setEndLine(current_token.getEndLine());
+                    Root92.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root92,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part45() throws ParseException {
+        // Code for expansion specified on line 912 of HugeMethods.javacc
+        // Code for expansion specified on line 912 of HugeMethods.javacc
+        boolean Root90forced=false;
+        Pair Root90=null;
+        if (buildTree) {
+            Root90=new Pair();
+            Token start=getToken(1);
+            Root90.setBeginLine(start.beginLine);
+            Root90.setBeginColumn(start.beginColumn);
+            Root90.setInputSource(this.getInputSource());
+            openNodeScope(Root90);
+        }
+        ParseException parseException90=null;
+        try {
+            // Code for expansion specified on line 912 of HugeMethods.javacc
+            consumeToken(W44);
+            // Code for expansion specified on line 912 of HugeMethods.javacc
+            int int90=nextTokenKind();
+            if (int90==W45) {
+                // Code for expansion specified on line 912 of HugeMethods.javacc
+                // Code for expansion specified on line 912 of HugeMethods.javacc
+                consumeToken(W45);
+            }
+            // Code for expansion specified on line 912 of HugeMethods.javacc
+            int int91=nextTokenKind();
+            if (int91==405) {
+                // Code for expansion specified on line 912 of HugeMethods.javacc
+                // Code for expansion specified on line 912 of HugeMethods.javacc
+                boolean Root91forced=false;
+                Mark Root91=null;
+                if (buildTree) {
+                    Root91=new Mark();
+                    Token start=getToken(1);
+                    Root91.setBeginLine(start.beginLine);
+                    Root91.setBeginColumn(start.beginColumn);
+                    Root91.setInputSource(this.getInputSource());
+                    openNodeScope(Root91);
+                }
+                ParseException parseException91=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException91=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException91!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException91.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root91.setEndLine(current_token.getEndLine());
+                            Root91.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root91,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException90=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException90!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException90.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root90.setEndLine(current_token.getEndLine());
+                    Root90.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root90,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part44() throws ParseException {
+        // Code for expansion specified on line 910 of HugeMethods.javacc
+        // Code for expansion specified on line 910 of HugeMethods.javacc
+        boolean Root88forced=false;
+        Pair Root88=null;
+        if (buildTree) {
+            Root88=new Pair();
+            Token start=getToken(1);
+            Root88.setBeginLine(start.beginLine);
+            Root88.setBeginColumn(start.beginColumn);
+            Root88.setInputSource(this.getInputSource());
+            openNodeScope(Root88);
+        }
+        ParseException parseException88=null;
+        try {
+            // Code for expansion specified on line 910 of HugeMethods.javacc
+            consumeToken(W43);
+            // Code for expansion specified on line 910 of HugeMethods.javacc
+            int int88=nextTokenKind();
+            if (int88==W44) {
+                // Code for expansion specified on line 910 of HugeMethods.javacc
+                // Code for expansion specified on line 910 of HugeMethods.javacc
+                consumeToken(W44);
+            }
+            // Code for expansion specified on line 910 of HugeMethods.javacc
+            int int89=nextTokenKind();
+            if (int89==405) {
+                // Code for expansion specified on line 910 of HugeMethods.javacc
+                // Code for expansion specified on line 910 of HugeMethods.javacc
+                boolean Root89forced=false;
+                Mark Root89=null;
+                if (buildTree) {
+                    Root89=new Mark();
+                    Token start=getToken(1);
+                    Root89.setBeginLine(start.beginLine);
+                    Root89.setBeginColumn(start.beginColumn);
+                    Root89.setInputSource(this.getInputSource());
+                    openNodeScope(Root89);
+                }
+                ParseException parseException89=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException89=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException89!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException89.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root89.setEndLine(current_token.getEndLine());
+                            Root89.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root89,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException88=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException88!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException88.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root88.setEndLine(current_token.getEndLine());
+                    Root88.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root88,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part43() throws ParseException {
+        // Code for expansion specified on line 908 of HugeMethods.javacc
+        // Code for expansion specified on line 908 of HugeMethods.javacc
+        boolean Root86forced=false;
+        Pair Root86=null;
+        if (buildTree) {
+            Root86=new Pair();
+            Token start=getToken(1);
+            Root86.setBeginLine(start.beginLine);
+            Root86.setBeginColumn(start.beginColumn);
+            Root86.setInputSource(this.getInputSource());
+            openNodeScope(Root86);
+        }
+        ParseException parseException86=null;
+        try {
+            // Code for expansion specified on line 908 of HugeMethods.javacc
+            consumeToken(W42);
+            // Code for expansion specified on line 908 of HugeMethods.javacc
+            int int86=nextTokenKind();
+            if (int86==W43) {
+                // Code for expansion specified on line 908 of HugeMethods.javacc
+                // Code for expansion specified on line 908 of HugeMethods.javacc
+                consumeToken(W43);
+            }
+            // Code for expansion specified on line 908 of HugeMethods.javacc
+            int int87=nextTokenKind();
+            if (int87==405) {
+                // Code for expansion specified on line 908 of HugeMethods.javacc
+                // Code for expansion specified on line 908 of HugeMethods.javacc
+                boolean Root87forced=false;
+                Mark Root87=null;
+                if (buildTree) {
+                    Root87=new Mark();
+                    Token start=getToken(1);
+                    Root87.setBeginLine(start.beginLine);
+                    Root87.setBeginColumn(start.beginColumn);
+                    Root87.setInputSource(this.getInputSource());
+                    openNodeScope(Root87);
+                }
+                ParseException parseException87=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException87=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException87!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException87.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root87.setEndLine(current_token.getEndLine());
+                            Root87.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root87,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException86=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException86!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException86.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root86.setEndLine(current_token.getEndLine());
+                    Root86.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root86,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part42() throws ParseException {
+        // Code for expansion specified on line 906 of HugeMethods.javacc
+        // Code for expansion specified on line 906 of HugeMethods.javacc
+        boolean Root84forced=false;
+        Pair Root84=null;
+        if (buildTree) {
+            Root84=new Pair();
+            Token start=getToken(1);
+            Root84.setBeginLine(start.beginLine);
+            Root84.setBeginColumn(start.beginColumn);
+            Root84.setInputSource(this.getInputSource());
+            openNodeScope(Root84);
+        }
+        ParseException parseException84=null;
+        try {
+            // Code for expansion specified on line 906 of HugeMethods.javacc
+            consumeToken(W41);
+            // Code for expansion specified on line 906 of HugeMethods.javacc
+            int int84=nextTokenKind();
+            if (int84==W42) {
+                // Code for expansion specified on line 906 of HugeMethods.javacc
+                // Code for expansion specified on line 906 of HugeMethods.javacc
+                consumeToken(W42);
+            }
+            // Code for expansion specified on line 906 of HugeMethods.javacc
+            int int85=nextTokenKind();
+            if (int85==405) {
+                // Code for expansion specified on line 906 of HugeMethods.javacc
+                // Code for expansion specified on line 906 of HugeMethods.javacc
+                boolean Root85forced=false;
+                Mark Root85=null;
+                if (buildTree) {
+                    Root85=new Mark();
+                    Token start=getToken(1);
+                    Root85.setBeginLine(start.beginLine);
+                    Root85.setBeginColumn(start.beginColumn);
+                    Root85.setInputSource(this.getInputSource());
+                    openNodeScope(Root85);
+                }
+                ParseException parseException85=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException85=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException85!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException85.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root85.setEndLine(current_token.getEndLine());
+                            Root85.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root85,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException84=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException84!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException84.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root84.setEndLine(current_token.getEndLine());
+                    Root84.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root84,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part41() throws ParseException {
+        // Code for expansion specified on line 904 of HugeMethods.javacc
+        // Code for expansion specified on line 904 of HugeMethods.javacc
+        boolean Root82forced=false;
+        Pair Root82=null;
+        if (buildTree) {
+            Root82=new Pair();
+            Token start=getToken(1);
+            Root82.setBeginLine(start.beginLine);
+            Root82.setBeginColumn(start.beginColumn);
+            Root82.setInputSource(this.getInputSource());
+            openNodeScope(Root82);
+        }
+        ParseException parseException82=null;
+        try {
+            // Code for expansion specified on line 904 of HugeMethods.javacc
+            consumeToken(W40);
+            // Code for expansion specified on line 904 of HugeMethods.javacc
+            int int82=nextTokenKind();
+            if (int82==W41) {
+                // Code for expansion specified on line 904 of HugeMethods.javacc
+                // Code for expansion specified on line 904 of HugeMethods.javacc
+                consumeToken(W41);
+            }
+            // Code for expansion specified on line 904 of HugeMethods.javacc
+            int int83=nextTokenKind();
+            if (int83==405) {
+                // Code for expansion specified on line 904 of HugeMethods.javacc
+                // Code for expansion specified on line 904 of HugeMethods.javacc
+                boolean Root83forced=false;
+                Mark Root83=null;
+                if (buildTree) {
+                    Root83=new Mark();
+                    Token start=getToken(1);
+                    Root83.setBeginLine(start.beginLine);
+                    Root83.setBeginColumn(start.beginColumn);
+                    Root83.setInputSource(this.getInputSource());
+                    openNodeScope(Root83);
+                }
+                ParseException parseException83=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException83=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException83!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException83.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root83.setEndLine(current_token.getEndLine());
+                            Root83.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root83,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException82=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException82!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException82.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root82.setEndLine(current_token.getEndLine());
+                    Root82.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root82,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part40() throws ParseException {
+        // Code for expansion specified on line 902 of HugeMethods.javacc
+        // Code for expansion specified on line 902 of HugeMethods.javacc
+        boolean Root80forced=false;
+        Pair Root80=null;
+        if (buildTree) {
+            Root80=new Pair();
+            Token start=getToken(1);
+            Root80.setBeginLine(start.beginLine);
+            Root80.setBeginColumn(start.beginColumn);
+            Root80.setInputSource(this.getInputSource());
+            openNodeScope(Root80);
+        }
+        ParseException parseException80=null;
+        try {
+            // Code for expansion specified on line 902 of HugeMethods.javacc
+            consumeToken(W39);
+            // Code for expansion specified on line 902 of HugeMethods.javacc
+            int int80=nextTokenKind();
+            if (int80==W40) {
+                // Code for expansion specified on line 902 of HugeMethods.javacc
+                // Code for expansion specified on line 902 of HugeMethods.javacc
+                consumeToken(W40);
+            }
+            // Code for expansion specified on line 902 of HugeMethods.javacc
+            int int81=nextTokenKind();
+            if (int81==405) {
+                // Code for expansion specified on line 902 of HugeMethods.javacc
+                // Code for expansion specified on line 902 of HugeMethods.javacc
+                boolean Root81forced=false;
+                Mark Root81=null;
+                if (buildTree) {
+                    Root81=new Mark();
+                    Token start=getToken(1);
+                    Root81.setBeginLine(start.beginLine);
+                    Root81.setBeginColumn(start.beginColumn);
+                    Root81.setInputSource(this.getInputSource());
+                    openNodeScope(Root81);
+                }
+                ParseException parseException81=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException81=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException81!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException81.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root81.setEndLine(current_token.getEndLine());
+                            Root81.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root81,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException80=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException80!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException80.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root80.setEndLine(current_token.getEndLine());
+                    Root80.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root80,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part39() throws ParseException {
+        // Code for expansion specified on line 900 of HugeMethods.javacc
+        // Code for expansion specified on line 900 of HugeMethods.javacc
+        boolean Root78forced=false;
+        Pair Root78=null;
+        if (buildTree) {
+            Root78=new Pair();
+            Token start=getToken(1);
+            Root78.setBeginLine(start.beginLine);
+            Root78.setBeginColumn(start.beginColumn);
+            Root78.setInputSource(this.getInputSource());
+            openNodeScope(Root78);
+        }
+        ParseException parseException78=null;
+        try {
+            // Code for expansion specified on line 900 of HugeMethods.javacc
+            consumeToken(W38);
+            // Code for expansion specified on line 900 of HugeMethods.javacc
+            int int78=nextTokenKind();
+            if (int78==W39) {
+                // Code for expansion specified on line 900 of HugeMethods.javacc
+                // Code for expansion specified on line 900 of HugeMethods.javacc
+                consumeToken(W39);
+            }
+            // Code for expansion specified on line 900 of HugeMethods.javacc
+            int int79=nextTokenKind();
+            if (int79==405) {
+                // Code for expansion specified on line 900 of HugeMethods.javacc
+                // Code for expansion specified on line 900 of HugeMethods.javacc
+                boolean Root79forced=false;
+                Mark Root79=null;
+                if (buildTree) {
+                    Root79=new Mark();
+                    Token start=getToken(1);
+                    Root79.setBeginLine(start.beginLine);
+                    Root79.setBeginColumn(start.beginColumn);
+                    Root79.setInputSource(this.getInputSource());
+                    openNodeScope(Root79);
+                }
+                ParseException parseException79=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException79=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException79!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException79.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root79.setEndLine(current_token.getEndLine());
+                            Root79.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root79,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException78=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException78!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException78.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root78.setEndLine(current_token.getEndLine());
+                    Root78.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root78,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part38() throws ParseException {
+        // Code for expansion specified on line 898 of HugeMethods.javacc
+        // Code for expansion specified on line 898 of HugeMethods.javacc
+        boolean Root76forced=false;
+        Pair Root76=null;
+        if (buildTree) {
+            Root76=new Pair();
+            Token start=getToken(1);
+            Root76.setBeginLine(start.beginLine);
+            Root76.setBeginColumn(start.beginColumn);
+            Root76.setInputSource(this.getInputSource());
+            openNodeScope(Root76);
+        }
+        ParseException parseException76=null;
+        try {
+            // Code for expansion specified on line 898 of HugeMethods.javacc
+            consumeToken(W37);
+            // Code for expansion specified on line 898 of HugeMethods.javacc
+            int int76=nextTokenKind();
+            if (int76==W38) {
+                // Code for expansion specified on line 898 of HugeMethods.javacc
+                // Code for expansion specified on line 898 of HugeMethods.javacc
+                consumeToken(W38);
+            }
+            // Code for expansion specified on line 898 of HugeMethods.javacc
+            int int77=nextTokenKind();
+            if (int77==405) {
+                // Code for expansion specified on line 898 of HugeMethods.javacc
+                // Code for expansion specified on line 898 of HugeMethods.javacc
+                boolean Root77forced=false;
+                Mark Root77=null;
+                if (buildTree) {
+                    Root77=new Mark();
+                    Token start=getToken(1);
+                    Root77.setBeginLine(start.beginLine);
+                    Root77.setBeginColumn(start.beginColumn);
+                    Root77.setInputSource(this.getInputSource());
+                    openNodeScope(Root77);
+                }
+                ParseException parseException77=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException77=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException77!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException77.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root77.setEndLine(current_token.getEndLine());
+                            Root77.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root77,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException76=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException76!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException76.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root76.setEndLine(current_token.getEndLine());
+                    Root76.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root76,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part37() throws ParseException {
+        // Code for expansion specified on line 896 of HugeMethods.javacc
+        // Code for expansion specified on line 896 of HugeMethods.javacc
+        boolean Root74forced=false;
+        Pair Root74=null;
+        if (buildTree) {
+            Root74=new Pair();
+            Token start=getToken(1);
+            Root74.setBeginLine(start.beginLine);
+            Root74.setBeginColumn(start.beginColumn);
+            Root74.setInputSource(this.getInputSource());
+            openNodeScope(Root74);
+        }
+        ParseException parseException74=null;
+        try {
+            // Code for expansion specified on line 896 of HugeMethods.javacc
+            consumeToken(W36);
+            // Code for expansion specified on line 896 of HugeMethods.javacc
+            int int74=nextTokenKind();
+            if (int74==W37) {
+                // Code for expansion specified on line 896 of HugeMethods.javacc
+                // Code for expansion specified on line 896 of HugeMethods.javacc
+                consumeToken(W37);
+            }
+            // Code for expansion specified on line 896 of HugeMethods.javacc
+            int int75=nextTokenKind();
+            if (int75==405) {
+                // Code for expansion specified on line 896 of HugeMethods.javacc
+                // Code for expansion specified on line 896 of HugeMethods.javacc
+                boolean Root75forced=false;
+                Mark Root75=null;
+                if (buildTree) {
+                    Root75=new Mark();
+                    Token start=getToken(1);
+                    Root75.setBeginLine(start.beginLine);
+                    Root75.setBeginColumn(start.beginColumn);
+                    Root75.setInputSource(this.getInputSource());
+                    openNodeScope(Root75);
+                }
+                ParseException parseException75=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException75=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException75!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException75.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root75.setEndLine(current_token.getEndLine());
+                            Root75.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root75,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException74=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException74!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException74.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root74.setEndLine(current_token.getEndLine());
+                    Root74.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root74,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part36() throws ParseException {
+        // Code for expansion specified on line 894 of HugeMethods.javacc
+        // Code for expansion specified on line 894 of HugeMethods.javacc
+        boolean Root72forced=false;
+        Pair Root72=null;
+        if (buildTree) {
+            Root72=new Pair();
+            Token start=getToken(1);
+            Root72.setBeginLine(start.beginLine);
+            Root72.setBeginColumn(start.beginColumn);
+            Root72.setInputSource(this.getInputSource());
+            openNodeScope(Root72);
+        }
+        ParseException parseException72=null;
+        try {
+            // Code for expansion specified on line 894 of HugeMethods.javacc
+            consumeToken(W35);
+            // Code for expansion specified on line 894 of HugeMethods.javacc
+            int int72=nextTokenKind();
+            if (int72==W36) {
+                // Code for expansion specified on line 894 of HugeMethods.javacc
+                // Code for expansion specified on line 894 of HugeMethods.javacc
+                consumeToken(W36);
+            }
+            // Code for expansion specified on line 894 of HugeMethods.javacc
+            int int73=nextTokenKind();
+            if (int73==405) {
+                // Code for expansion specified on line 894 of HugeMethods.javacc
+                // Code for expansion specified on line 894 of HugeMethods.javacc
+                boolean Root73forced=false;
+                Mark Root73=null;
+                if (buildTree) {
+                    Root73=new Mark();
+                    Token start=getToken(1);
+                    Root73.setBeginLine(start.beginLine);
+                    Root73.setBeginColumn(start.beginColumn);
+                    Root73.setInputSource(this.getInputSource());
+                    openNodeScope(Root73);
+                }
+                ParseException parseException73=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException73=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException73!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException73.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root73.setEndLine(current_token.getEndLine());
+                            Root73.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root73,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException72=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException72!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException72.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root72.setEndLine(current_token.getEndLine());
+                    Root72.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root72,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part35() throws ParseException {
+        // Code for expansion specified on line 892 of HugeMethods.javacc
+        // Code for expansion specified on line 892 of HugeMethods.javacc
+        boolean Root70forced=false;
+        Pair Root70=null;
+        if (buildTree) {
+            Root70=new Pair();
+            Token start=getToken(1);
+            Root70.setBeginLine(start.beginLine);
+            Root70.setBeginColumn(start.beginColumn);
+            Root70.setInputSource(this.getInputSource());
+            openNodeScope(Root70);
+        }
+        ParseException parseException70=null;
+        try {
+            // Code for expansion specified on line 892 of HugeMethods.javacc
+            consumeToken(W34);
+            // Code for expansion specified on line 892 of HugeMethods.javacc
+            int int70=nextTokenKind();
+            if (int70==W35) {
+                // Code for expansion specified on line 892 of HugeMethods.javacc
+                // Code for expansion specified on line 892 of HugeMethods.javacc
+                consumeToken(W35);
+            }
+            // Code for expansion specified on line 892 of HugeMethods.javacc
+            int int71=nextTokenKind();
+            if (int71==405) {
+                // Code for expansion specified on line 892 of HugeMethods.javacc
+                // Code for expansion specified on line 892 of HugeMethods.javacc
+                boolean Root71forced=false;
+                Mark Root71=null;
+                if (buildTree) {
+                    Root71=new Mark();
+                    Token start=getToken(1);
+                    Root71.setBeginLine(start.beginLine);
+                    Root71.setBeginColumn(start.beginColumn);
+                    Root71.setInputSource(this.getInputSource());
+                    openNodeScope(Root71);
+                }
+                ParseException parseException71=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException71=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException71!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException71.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root71.setEndLine(current_token.getEndLine());
+                            Root71.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root71,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException70=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException70!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException70.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root70.setEndLine(current_token.getEndLine());
+                    Root70.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root70,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part34() throws ParseException {
+        // Code for expansion specified on line 890 of HugeMethods.javacc
+        // Code for expansion specified on line 890 of HugeMethods.javacc
+        boolean Root68forced=false;
+        Pair Root68=null;
+        if (buildTree) {
+            Root68=new Pair();
+            Token start=getToken(1);
+            Root68.setBeginLine(start.beginLine);
+            Root68.setBeginColumn(start.beginColumn);
+            Root68.setInputSource(this.getInputSource());
+            openNodeScope(Root68);
+        }
+        ParseException parseException68=null;
+        try {
+            // Code for expansion specified on line 890 of HugeMethods.javacc
+            consumeToken(W33);
+            // Code for expansion specified on line 890 of HugeMethods.javacc
+            int int68=nextTokenKind();
+            if (int68==W34) {
+                // Code for expansion specified on line 890 of HugeMethods.javacc
+                // Code for expansion specified on line 890 of HugeMethods.javacc
+                consumeToken(W34);
+            }
+            // Code for expansion specified on line 890 of HugeMethods.javacc
+            int int69=nextTokenKind();
+            if (int69==405) {
+                // Code for expansion specified on line 890 of HugeMethods.javacc
+                // Code for expansion specified on line 890 of HugeMethods.javacc
+                boolean Root69forced=false;
+                Mark Root69=null;
+                if (buildTree) {
+                    Root69=new Mark();
+                    Token start=getToken(1);
+                    Root69.setBeginLine(start.beginLine);
+                    Root69.setBeginColumn(start.beginColumn);
+                    Root69.setInputSource(this.getInputSource());
+                    openNodeScope(Root69);
+                }
+                ParseException parseException69=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException69=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException69!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException69.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root69.setEndLine(current_token.getEndLine());
+                            Root69.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root69,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException68=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException68!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException68.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root68.setEndLine(current_token.getEndLine());
+                    Root68.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root68,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part33() throws ParseException {
+        // Code for expansion specified on line 888 of HugeMethods.javacc
+        // Code for expansion specified on line 888 of HugeMethods.javacc
+        boolean Root66forced=false;
+        Pair Root66=null;
+        if (buildTree) {
+            Root66=new Pair();
+            Token start=getToken(1);
+            Root66.setBeginLine(start.beginLine);
+            Root66.setBeginColumn(start.beginColumn);
+            Root66.setInputSource(this.getInputSource());
+            openNodeScope(Root66);
+        }
+        ParseException parseException66=null;
+        try {
+            // Code for expansion specified on line 888 of HugeMethods.javacc
+            consumeToken(W32);
+            // Code for expansion specified on line 888 of HugeMethods.javacc
+            int int66=nextTokenKind();
+            if (int66==W33) {
+                // Code for expansion specified on line 888 of HugeMethods.javacc
+                // Code for expansion specified on line 888 of HugeMethods.javacc
+                consumeToken(W33);
+            }
+            // Code for expansion specified on line 888 of HugeMethods.javacc
+            int int67=nextTokenKind();
+            if (int67==405) {
+                // Code for expansion specified on line 888 of HugeMethods.javacc
+                // Code for expansion specified on line 888 of HugeMethods.javacc
+                boolean Root67forced=false;
+                Mark Root67=null;
+                if (buildTree) {
+                    Root67=new Mark();
+                    Token start=getToken(1);
+                    Root67.setBeginLine(start.beginLine);
+                    Root67.setBeginColumn(start.beginColumn);
+                    Root67.setInputSource(this.getInputSource());
+                    openNodeScope(Root67);
+                }
+                ParseException parseException67=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException67=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException67!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException67.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root67.setEndLine(current_token.getEndLine());
+                            Root67.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root67,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException66=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException66!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException66.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root66.setEndLine(current_token.getEndLine());
+                    Root66.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root66,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part32() throws ParseException {
+        // Code for expansion specified on line 886 of HugeMethods.javacc
+        // Code for expansion specified on line 886 of HugeMethods.javacc
+        boolean Root64forced=false;
+        Pair Root64=null;
+        if (buildTree) {
+            Root64=new Pair();
+            Token start=getToken(1);
+            Root64.setBeginLine(start.beginLine);
+            Root64.setBeginColumn(start.beginColumn);
+            Root64.setInputSource(this.getInputSource());
+            openNodeScope(Root64);
+        }
+        ParseException parseException64=null;
+        try {
+            // Code for expansion specified on line 886 of HugeMethods.javacc
+            consumeToken(W31);
+            // Code for expansion specified on line 886 of HugeMethods.javacc
+            int int64=nextTokenKind();
+            if (int64==W32) {
+                // Code for expansion specified on line 886 of HugeMethods.javacc
+                // Code for expansion specified on line 886 of HugeMethods.javacc
+                consumeToken(W32);
+            }
+            // Code for expansion specified on line 886 of HugeMethods.javacc
+            int int65=nextTokenKind();
+            if (int65==405) {
+                // Code for expansion specified on line 886 of HugeMethods.javacc
+                // Code for expansion specified on line 886 of HugeMethods.javacc
+                boolean Root65forced=false;
+                Mark Root65=null;
+                if (buildTree) {
+                    Root65=new Mark();
+                    Token start=getToken(1);
+                    Root65.setBeginLine(start.beginLine);
+                    Root65.setBeginColumn(start.beginColumn);
+                    Root65.setInputSource(this.getInputSource());
+                    openNodeScope(Root65);
+                }
+                ParseException parseException65=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException65=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException65!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException65.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root65.setEndLine(current_token.getEndLine());
+                            Root65.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root65,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException64=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException64!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException64.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root64.setEndLine(current_token.getEndLine());
+                    Root64.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root64,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part31() throws ParseException {
+        // Code for expansion specified on line 884 of HugeMethods.javacc
+        // Code for expansion specified on line 884 of HugeMethods.javacc
+        boolean Root62forced=false;
+        Pair Root62=null;
+        if (buildTree) {
+            Root62=new Pair();
+            Token start=getToken(1);
+            Root62.setBeginLine(start.beginLine);
+            Root62.setBeginColumn(start.beginColumn);
+            Root62.setInputSource(this.getInputSource());
+            openNodeScope(Root62);
+        }
+        ParseException parseException62=null;
+        try {
+            // Code for expansion specified on line 884 of HugeMethods.javacc
+            consumeToken(W30);
+            // Code for expansion specified on line 884 of HugeMethods.javacc
+            int int62=nextTokenKind();
+            if (int62==W31) {
+                // Code for expansion specified on line 884 of HugeMethods.javacc
+                // Code for expansion specified on line 884 of HugeMethods.javacc
+                consumeToken(W31);
+            }
+            // Code for expansion specified on line 884 of HugeMethods.javacc
+            int int63=nextTokenKind();
+            if (int63==405) {
+                // Code for expansion specified on line 884 of HugeMethods.javacc
+                // Code for expansion specified on line 884 of HugeMethods.javacc
+                boolean Root63forced=false;
+                Mark Root63=null;
+                if (buildTree) {
+                    Root63=new Mark();
+                    Token start=getToken(1);
+                    Root63.setBeginLine(start.beginLine);
+                    Root63.setBeginColumn(start.beginColumn);
+                    Root63.setInputSource(this.getInputSource());
+                    openNodeScope(Root63);
+                }
+                ParseException parseException63=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException63=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException63!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException63.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root63.setEndLine(current_token.getEndLine());
+                            Root63.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root63,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException62=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException62!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException62.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root62.setEndLine(current_token.getEndLine());
+                    Root62.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root62,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part30() throws ParseException {
+        // Code for expansion specified on line 882 of HugeMethods.javacc
+        // Code for expansion specified on line 882 of HugeMethods.javacc
+        boolean Root60forced=false;
+        Pair Root60=null;
+        if (buildTree) {
+            Root60=new Pair();
+            Token start=getToken(1);
+            Root60.setBeginLine(start.beginLine);
+            Root60.setBeginColumn(start.beginColumn);
+            Root60.setInputSource(this.getInputSource());
+            openNodeScope(Root60);
+        }
+        ParseException parseException60=null;
+        try {
+            // Code for expansion specified on line 882 of HugeMethods.javacc
+            consumeToken(W29);
+            // Code for expansion specified on line 882 of HugeMethods.javacc
+            int int60=nextTokenKind();
+            if (int60==W30) {
+                // Code for expansion specified on line 882 of HugeMethods.javacc
+                // Code for expansion specified on line 882 of HugeMethods.javacc
+                consumeToken(W30);
+            }
+            // Code for expansion specified on line 882 of HugeMethods.javacc
+            int int61=nextTokenKind();
+            if (int61==405) {
+                // Code for expansion specified on line 882 of HugeMethods.javacc
+                // Code for expansion specified on line 882 of HugeMethods.javacc
+                boolean Root61forced=false;
+                Mark Root61=null;
+                if (buildTree) {
+                    Root61=new Mark();
+                    Token start=getToken(1);
+                    Root61.setBeginLine(start.beginLine);
+                    Root61.setBeginColumn(start.beginColumn);
+                    Root61.setInputSource(this.getInputSource());
+                    openNodeScope(Root61);
+                }
+                ParseException parseException61=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException61=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException61!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException61.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root61.setEndLine(current_token.getEndLine());
+                            Root61.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root61,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException60=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException60!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException60.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root60.setEndLine(current_token.getEndLine());
+                    Root60.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root60,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part29() throws ParseException {
+        // Code for expansion specified on line 880 of HugeMethods.javacc
+        // Code for expansion specified on line 880 of HugeMethods.javacc
+        boolean Root58forced=false;
+        Pair Root58=null;
+        if (buildTree) {
+            Root58=new Pair();
+            Token start=getToken(1);
+            Root58.setBeginLine(start.beginLine);
+            Root58.setBeginColumn(start.beginColumn);
+            Root58.setInputSource(this.getInputSource());
+            openNodeScope(Root58);
+        }
+        ParseException parseException58=null;
+        try {
+            // Code for expansion specified on line 880 of HugeMethods.javacc
+            consumeToken(W28);
+            // Code for expansion specified on line 880 of HugeMethods.javacc
+            int int58=nextTokenKind();
+            if (int58==W29) {
+                // Code for expansion specified on line 880 of HugeMethods.javacc
+                // Code for expansion specified on line 880 of HugeMethods.javacc
+                consumeToken(W29);
+            }
+            // Code for expansion specified on line 880 of HugeMethods.javacc
+            int int59=nextTokenKind();
+            if (int59==405) {
+                // Code for expansion specified on line 880 of HugeMethods.javacc
+                // Code for expansion specified on line 880 of HugeMethods.javacc
+                boolean Root59forced=false;
+                Mark Root59=null;
+                if (buildTree) {
+                    Root59=new Mark();
+                    Token start=getToken(1);
+                    Root59.setBeginLine(start.beginLine);
+                    Root59.setBeginColumn(start.beginColumn);
+                    Root59.setInputSource(this.getInputSource());
+                    openNodeScope(Root59);
+                }
+                ParseException parseException59=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException59=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException59!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException59.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root59.setEndLine(current_token.getEndLine());
+                            Root59.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root59,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException58=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException58!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException58.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root58.setEndLine(current_token.getEndLine());
+                    Root58.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root58,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part28() throws ParseException {
+        // Code for expansion specified on line 878 of HugeMethods.javacc
+        // Code for expansion specified on line 878 of HugeMethods.javacc
+        boolean Root56forced=false;
+        Pair Root56=null;
+        if (buildTree) {
+            Root56=new Pair();
+            Token start=getToken(1);
+            Root56.setBeginLine(start.beginLine);
+            Root56.setBeginColumn(start.beginColumn);
+            Root56.setInputSource(this.getInputSource());
+            openNodeScope(Root56);
+        }
+        ParseException parseException56=null;
+        try {
+            // Code for expansion specified on line 878 of HugeMethods.javacc
+            consumeToken(W27);
+            // Code for expansion specified on line 878 of HugeMethods.javacc
+            int int56=nextTokenKind();
+            if (int56==W28) {
+                // Code for expansion specified on line 878 of HugeMethods.javacc
+                // Code for expansion specified on line 878 of HugeMethods.javacc
+                consumeToken(W28);
+            }
+            // Code for expansion specified on line 878 of HugeMethods.javacc
+            int int57=nextTokenKind();
+            if (int57==405) {
+                // Code for expansion specified on line 878 of HugeMethods.javacc
+                // Code for expansion specified on line 878 of HugeMethods.javacc
+                boolean Root57forced=false;
+                Mark Root57=null;
+                if (buildTree) {
+                    Root57=new Mark();
+                    Token start=getToken(1);
+                    Root57.setBeginLine(start.beginLine);
+                    Root57.setBeginColumn(start.beginColumn);
+                    Root57.setInputSource(this.getInputSource());
+                    openNodeScope(Root57);
+                }
+                ParseException parseException57=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException57=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException57!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException57.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root57.setEndLine(current_token.getEndLine());
+                            Root57.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root57,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException56=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException56!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException56.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root56.setEndLine(current_token.getEndLine());
+                    Root56.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root56,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part27() throws ParseException {
+        // Code for expansion specified on line 876 of HugeMethods.javacc
+        // Code for expansion specified on line 876 of HugeMethods.javacc
+        boolean Root54forced=false;
+        Pair Root54=null;
+        if (buildTree) {
+            Root54=new Pair();
+            Token start=getToken(1);
+            Root54.setBeginLine(start.beginLine);
+            Root54.setBeginColumn(start.beginColumn);
+            Root54.setInputSource(this.getInputSource());
+            openNodeScope(Root54);
+        }
+        ParseException parseException54=null;
+        try {
+            // Code for expansion specified on line 876 of HugeMethods.javacc
+            consumeToken(W26);
+            // Code for expansion specified on line 876 of HugeMethods.javacc
+            int int54=nextTokenKind();
+            if (int54==W27) {
+                // Code for expansion specified on line 876 of HugeMethods.javacc
+                // Code for expansion specified on line 876 of HugeMethods.javacc
+                consumeToken(W27);
+            }
+            // Code for expansion specified on line 876 of HugeMethods.javacc
+            int int55=nextTokenKind();
+            if (int55==405) {
+                // Code for expansion specified on line 876 of HugeMethods.javacc
+                // Code for expansion specified on line 876 of HugeMethods.javacc
+                boolean Root55forced=false;
+                Mark Root55=null;
+                if (buildTree) {
+                    Root55=new Mark();
+                    Token start=getToken(1);
+                    Root55.setBeginLine(start.beginLine);
+                    Root55.setBeginColumn(start.beginColumn);
+                    Root55.setInputSource(this.getInputSource());
+                    openNodeScope(Root55);
+                }
+                ParseException parseException55=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException55=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException55!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException55.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root55.setEndLine(current_token.getEndLine());
+                            Root55.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root55,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException54=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException54!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException54.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root54.setEndLine(current_token.getEndLine());
+                    Root54.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root54,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part26() throws ParseException {
+        // Code for expansion specified on line 874 of HugeMethods.javacc
+        // Code for expansion specified on line 874 of HugeMethods.javacc
+        boolean Root52forced=false;
+        Pair Root52=null;
+        if (buildTree) {
+            Root52=new Pair();
+            Token start=getToken(1);
+            Root52.setBeginLine(start.beginLine);
+            Root52.setBeginColumn(start.beginColumn);
+            Root52.setInputSource(this.getInputSource());
+            openNodeScope(Root52);
+        }
+        ParseException parseException52=null;
+        try {
+            // Code for expansion specified on line 874 of HugeMethods.javacc
+            consumeToken(W25);
+            // Code for expansion specified on line 874 of HugeMethods.javacc
+            int int52=nextTokenKind();
+            if (int52==W26) {
+                // Code for expansion specified on line 874 of HugeMethods.javacc
+                // Code for expansion specified on line 874 of HugeMethods.javacc
+                consumeToken(W26);
+            }
+            // Code for expansion specified on line 874 of HugeMethods.javacc
+            int int53=nextTokenKind();
+            if (int53==405) {
+                // Code for expansion specified on line 874 of HugeMethods.javacc
+                // Code for expansion specified on line 874 of HugeMethods.javacc
+                boolean Root53forced=false;
+                Mark Root53=null;
+                if (buildTree) {
+                    Root53=new Mark();
+                    Token start=getToken(1);
+                    Root53.setBeginLine(start.beginLine);
+                    Root53.setBeginColumn(start.beginColumn);
+                    Root53.setInputSource(this.getInputSource());
+                    openNodeScope(Root53);
+                }
+                ParseException parseException53=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException53=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException53!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException53.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root53.setEndLine(current_token.getEndLine());
+                            Root53.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root53,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException52=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException52!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException52.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root52.setEndLine(current_token.getEndLine());
+                    Root52.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root52,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part25() throws ParseException {
+        // Code for expansion specified on line 872 of HugeMethods.javacc
+        // Code for expansion specified on line 872 of HugeMethods.javacc
+        boolean Root50forced=false;
+        Pair Root50=null;
+        if (buildTree) {
+            Root50=new Pair();
+            Token start=getToken(1);
+            Root50.setBeginLine(start.beginLine);
+            Root50.setBeginColumn(start.beginColumn);
+            Root50.setInputSource(this.getInputSource());
+            openNodeScope(Root50);
+        }
+        ParseException parseException50=null;
+        try {
+            // Code for expansion specified on line 872 of HugeMethods.javacc
+            consumeToken(W24);
+            // Code for expansion specified on line 872 of HugeMethods.javacc
+            int int50=nextTokenKind();
+            if (int50==W25) {
+                // Code for expansion specified on line 872 of HugeMethods.javacc
+                // Code for expansion specified on line 872 of HugeMethods.javacc
+                consumeToken(W25);
+            }
+            // Code for expansion specified on line 872 of HugeMethods.javacc
+            int int51=nextTokenKind();
+            if (int51==405) {
+                // Code for expansion specified on line 872 of HugeMethods.javacc
+                // Code for expansion specified on line 872 of HugeMethods.javacc
+                boolean Root51forced=false;
+                Mark Root51=null;
+                if (buildTree) {
+                    Root51=new Mark();
+                    Token start=getToken(1);
+                    Root51.setBeginLine(start.beginLine);
+                    Root51.setBeginColumn(start.beginColumn);
+                    Root51.setInputSource(this.getInputSource());
+                    openNodeScope(Root51);
+                }
+                ParseException parseException51=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException51=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException51!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException51.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root51.setEndLine(current_token.getEndLine());
+                            Root51.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root51,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException50=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException50!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException50.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root50.setEndLine(current_token.getEndLine());
+                    Root50.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root50,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part24() throws ParseException {
+        // Code for expansion specified on line 870 of HugeMethods.javacc
+        // Code for expansion specified on line 870 of HugeMethods.javacc
+        boolean Root48forced=false;
+        Pair Root48=null;
+        if (buildTree) {
+            Root48=new Pair();
+            Token start=getToken(1);
+            Root48.setBeginLine(start.beginLine);
+            Root48.setBeginColumn(start.beginColumn);
+            Root48.setInputSource(this.getInputSource());
+            openNodeScope(Root48);
+        }
+        ParseException parseException48=null;
+        try {
+            // Code for expansion specified on line 870 of HugeMethods.javacc
+            consumeToken(W23);
+            // Code for expansion specified on line 870 of HugeMethods.javacc
+            int int48=nextTokenKind();
+            if (int48==W24) {
+                // Code for expansion specified on line 870 of HugeMethods.javacc
+                // Code for expansion specified on line 870 of HugeMethods.javacc
+                consumeToken(W24);
+            }
+            // Code for expansion specified on line 870 of HugeMethods.javacc
+            int int49=nextTokenKind();
+            if (int49==405) {
+                // Code for expansion specified on line 870 of HugeMethods.javacc
+                // Code for expansion specified on line 870 of HugeMethods.javacc
+                boolean Root49forced=false;
+                Mark Root49=null;
+                if (buildTree) {
+                    Root49=new Mark();
+                    Token start=getToken(1);
+                    Root49.setBeginLine(start.beginLine);
+                    Root49.setBeginColumn(start.beginColumn);
+                    Root49.setInputSource(this.getInputSource());
+                    openNodeScope(Root49);
+                }
+                ParseException parseException49=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException49=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException49!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException49.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root49.setEndLine(current_token.getEndLine());
+                            Root49.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root49,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException48=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException48!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException48.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root48.setEndLine(current_token.getEndLine());
+                    Root48.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root48,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part23() throws ParseException {
+        // Code for expansion specified on line 868 of HugeMethods.javacc
+        // Code for expansion specified on line 868 of HugeMethods.javacc
+        boolean Root46forced=false;
+        Pair Root46=null;
+        if (buildTree) {
+            Root46=new Pair();
+            Token start=getToken(1);
+            Root46.setBeginLine(start.beginLine);
+            Root46.setBeginColumn(start.beginColumn);
+            Root46.setInputSource(this.getInputSource());
+            openNodeScope(Root46);
+        }
+        ParseException parseException46=null;
+        try {
+            // Code for expansion specified on line 868 of HugeMethods.javacc
+            consumeToken(W22);
+            // Code for expansion specified on line 868 of HugeMethods.javacc
+            int int46=nextTokenKind();
+            if (int46==W23) {
+                // Code for expansion specified on line 868 of HugeMethods.javacc
+                // Code for expansion specified on line 868 of HugeMethods.javacc
+                consumeToken(W23);
+            }
+            // Code for expansion specified on line 868 of HugeMethods.javacc
+            int int47=nextTokenKind();
+            if (int47==405) {
+                // Code for expansion specified on line 868 of HugeMethods.javacc
+                // Code for expansion specified on line 868 of HugeMethods.javacc
+                boolean Root47forced=false;
+                Mark Root47=null;
+                if (buildTree) {
+                    Root47=new Mark();
+                    Token start=getToken(1);
+                    Root47.setBeginLine(start.beginLine);
+                    Root47.setBeginColumn(start.beginColumn);
+                    Root47.setInputSource(this.getInputSource());
+                    openNodeScope(Root47);
+                }
+                ParseException parseException47=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException47=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException47!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException47.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root47.setEndLine(current_token.getEndLine());
+                            Root47.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root47,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException46=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException46!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException46.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root46.setEndLine(current_token.getEndLine());
+                    Root46.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root46,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part22() throws ParseException {
+        // Code for expansion specified on line 866 of HugeMethods.javacc
+        // Code for expansion specified on line 866 of HugeMethods.javacc
+        boolean Root44forced=false;
+        Pair Root44=null;
+        if (buildTree) {
+            Root44=new Pair();
+            Token start=getToken(1);
+            Root44.setBeginLine(start.beginLine);
+            Root44.setBeginColumn(start.beginColumn);
+            Root44.setInputSource(this.getInputSource());
+            openNodeScope(Root44);
+        }
+        ParseException parseException44=null;
+        try {
+            // Code for expansion specified on line 866 of HugeMethods.javacc
+            consumeToken(W21);
+            // Code for expansion specified on line 866 of HugeMethods.javacc
+            int int44=nextTokenKind();
+            if (int44==W22) {
+                // Code for expansion specified on line 866 of HugeMethods.javacc
+                // Code for expansion specified on line 866 of HugeMethods.javacc
+                consumeToken(W22);
+            }
+            // Code for expansion specified on line 866 of HugeMethods.javacc
+            int int45=nextTokenKind();
+            if (int45==405) {
+                // Code for expansion specified on line 866 of HugeMethods.javacc
+                // Code for expansion specified on line 866 of HugeMethods.javacc
+                boolean Root45forced=false;
+                Mark Root45=null;
+                if (buildTree) {
+                    Root45=new Mark();
+                    Token start=getToken(1);
+                    Root45.setBeginLine(start.beginLine);
+                    Root45.setBeginColumn(start.beginColumn);
+                    Root45.setInputSource(this.getInputSource());
+                    openNodeScope(Root45);
+                }
+                ParseException parseException45=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException45=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException45!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException45.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root45.setEndLine(current_token.getEndLine());
+                            Root45.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root45,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException44=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException44!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException44.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root44.setEndLine(current_token.getEndLine());
+                    Root44.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root44,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part21() throws ParseException {
+        // Code for expansion specified on line 864 of HugeMethods.javacc
+        // Code for expansion specified on line 864 of HugeMethods.javacc
+        boolean Root42forced=false;
+        Pair Root42=null;
+        if (buildTree) {
+            Root42=new Pair();
+            Token start=getToken(1);
+            Root42.setBeginLine(start.beginLine);
+            Root42.setBeginColumn(start.beginColumn);
+            Root42.setInputSource(this.getInputSource());
+            openNodeScope(Root42);
+        }
+        ParseException parseException42=null;
+        try {
+            // Code for expansion specified on line 864 of HugeMethods.javacc
+            consumeToken(W20);
+            // Code for expansion specified on line 864 of HugeMethods.javacc
+            int int42=nextTokenKind();
+            if (int42==W21) {
+                // Code for expansion specified on line 864 of HugeMethods.javacc
+                // Code for expansion specified on line 864 of HugeMethods.javacc
+                consumeToken(W21);
+            }
+            // Code for expansion specified on line 864 of HugeMethods.javacc
+            int int43=nextTokenKind();
+            if (int43==405) {
+                // Code for expansion specified on line 864 of HugeMethods.javacc
+                // Code for expansion specified on line 864 of HugeMethods.javacc
+                boolean Root43forced=false;
+                Mark Root43=null;
+                if (buildTree) {
+                    Root43=new Mark();
+                    Token start=getToken(1);
+                    Root43.setBeginLine(start.beginLine);
+                    Root43.setBeginColumn(start.beginColumn);
+                    Root43.setInputSource(this.getInputSource());
+                    openNodeScope(Root43);
+                }
+                ParseException parseException43=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException43=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException43!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException43.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root43.setEndLine(current_token.getEndLine());
+                            Root43.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root43,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException42=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException42!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException42.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root42.setEndLine(current_token.getEndLine());
+                    Root42.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root42,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part20() throws ParseException {
+        // Code for expansion specified on line 862 of HugeMethods.javacc
+        // Code for expansion specified on line 862 of HugeMethods.javacc
+        boolean Root40forced=false;
+        Pair Root40=null;
+        if (buildTree) {
+            Root40=new Pair();
+            Token start=getToken(1);
+            Root40.setBeginLine(start.beginLine);
+            Root40.setBeginColumn(start.beginColumn);
+            Root40.setInputSource(this.getInputSource());
+            openNodeScope(Root40);
+        }
+        ParseException parseException40=null;
+        try {
+            // Code for expansion specified on line 862 of HugeMethods.javacc
+            consumeToken(W19);
+            // Code for expansion specified on line 862 of HugeMethods.javacc
+            int int40=nextTokenKind();
+            if (int40==W20) {
+                // Code for expansion specified on line 862 of HugeMethods.javacc
+                // Code for expansion specified on line 862 of HugeMethods.javacc
+                consumeToken(W20);
+            }
+            // Code for expansion specified on line 862 of HugeMethods.javacc
+            int int41=nextTokenKind();
+            if (int41==405) {
+                // Code for expansion specified on line 862 of HugeMethods.javacc
+                // Code for expansion specified on line 862 of HugeMethods.javacc
+                boolean Root41forced=false;
+                Mark Root41=null;
+                if (buildTree) {
+                    Root41=new Mark();
+                    Token start=getToken(1);
+                    Root41.setBeginLine(start.beginLine);
+                    Root41.setBeginColumn(start.beginColumn);
+                    Root41.setInputSource(this.getInputSource());
+                    openNodeScope(Root41);
+                }
+                ParseException parseException41=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException41=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException41!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException41.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root41.setEndLine(current_token.getEndLine());
+                            Root41.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root41,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException40=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException40!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException40.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root40.setEndLine(current_token.getEndLine());
+                    Root40.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root40,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part19() throws ParseException {
+        // Code for expansion specified on line 860 of HugeMethods.javacc
+        // Code for expansion specified on line 860 of HugeMethods.javacc
+        boolean Root38forced=false;
+        Pair Root38=null;
+        if (buildTree) {
+            Root38=new Pair();
+            Token start=getToken(1);
+            Root38.setBeginLine(start.beginLine);
+            Root38.setBeginColumn(start.beginColumn);
+            Root38.setInputSource(this.getInputSource());
+            openNodeScope(Root38);
+        }
+        ParseException parseException38=null;
+        try {
+            // Code for expansion specified on line 860 of HugeMethods.javacc
+            consumeToken(W18);
+            // Code for expansion specified on line 860 of HugeMethods.javacc
+            int int38=nextTokenKind();
+            if (int38==W19) {
+                // Code for expansion specified on line 860 of HugeMethods.javacc
+                // Code for expansion specified on line 860 of HugeMethods.javacc
+                consumeToken(W19);
+            }
+            // Code for expansion specified on line 860 of HugeMethods.javacc
+            int int39=nextTokenKind();
+            if (int39==405) {
+                // Code for expansion specified on line 860 of HugeMethods.javacc
+                // Code for expansion specified on line 860 of HugeMethods.javacc
+                boolean Root39forced=false;
+                Mark Root39=null;
+                if (buildTree) {
+                    Root39=new Mark();
+                    Token start=getToken(1);
+                    Root39.setBeginLine(start.beginLine);
+                    Root39.setBeginColumn(start.beginColumn);
+                    Root39.setInputSource(this.getInputSource());
+                    openNodeScope(Root39);
+                }
+                ParseException parseException39=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException39=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException39!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException39.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root39.setEndLine(current_token.getEndLine());
+                            Root39.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root39,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException38=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException38!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException38.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root38.setEndLine(current_token.getEndLine());
+                    Root38.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root38,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part18() throws ParseException {
+        // Code for expansion specified on line 858 of HugeMethods.javacc
+        // Code for expansion specified on line 858 of HugeMethods.javacc
+        boolean Root36forced=false;
+        Pair Root36=null;
+        if (buildTree) {
+            Root36=new Pair();
+            Token start=getToken(1);
+            Root36.setBeginLine(start.beginLine);
+            Root36.setBeginColumn(start.beginColumn);
+            Root36.setInputSource(this.getInputSource());
+            openNodeScope(Root36);
+        }
+        ParseException parseException36=null;
+        try {
+            // Code for expansion specified on line 858 of HugeMethods.javacc
+            consumeToken(W17);
+            // Code for expansion specified on line 858 of HugeMethods.javacc
+            int int36=nextTokenKind();
+            if (int36==W18) {
+                // Code for expansion specified on line 858 of HugeMethods.javacc
+                // Code for expansion specified on line 858 of HugeMethods.javacc
+                consumeToken(W18);
+            }
+            // Code for expansion specified on line 858 of HugeMethods.javacc
+            int int37=nextTokenKind();
+            if (int37==405) {
+                // Code for expansion specified on line 858 of HugeMethods.javacc
+                // Code for expansion specified on line 858 of HugeMethods.javacc
+                boolean Root37forced=false;
+                Mark Root37=null;
+                if (buildTree) {
+                    Root37=new Mark();
+                    Token start=getToken(1);
+                    Root37.setBeginLine(start.beginLine);
+                    Root37.setBeginColumn(start.beginColumn);
+                    Root37.setInputSource(this.getInputSource());
+                    openNodeScope(Root37);
+                }
+                ParseException parseException37=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException37=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException37!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException37.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root37.setEndLine(current_token.getEndLine());
+                            Root37.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root37,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException36=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException36!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException36.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root36.setEndLine(current_token.getEndLine());
+                    Root36.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root36,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part17() throws ParseException {
+        // Code for expansion specified on line 856 of HugeMethods.javacc
+        // Code for expansion specified on line 856 of HugeMethods.javacc
+        boolean Root34forced=false;
+        Pair Root34=null;
+        if (buildTree) {
+            Root34=new Pair();
+            Token start=getToken(1);
+            Root34.setBeginLine(start.beginLine);
+            Root34.setBeginColumn(start.beginColumn);
+            Root34.setInputSource(this.getInputSource());
+            openNodeScope(Root34);
+        }
+        ParseException parseException34=null;
+        try {
+            // Code for expansion specified on line 856 of HugeMethods.javacc
+            consumeToken(W16);
+            // Code for expansion specified on line 856 of HugeMethods.javacc
+            int int34=nextTokenKind();
+            if (int34==W17) {
+                // Code for expansion specified on line 856 of HugeMethods.javacc
+                // Code for expansion specified on line 856 of HugeMethods.javacc
+                consumeToken(W17);
+            }
+            // Code for expansion specified on line 856 of HugeMethods.javacc
+            int int35=nextTokenKind();
+            if (int35==405) {
+                // Code for expansion specified on line 856 of HugeMethods.javacc
+                // Code for expansion specified on line 856 of HugeMethods.javacc
+                boolean Root35forced=false;
+                Mark Root35=null;
+                if (buildTree) {
+                    Root35=new Mark();
+                    Token start=getToken(1);
+                    Root35.setBeginLine(start.beginLine);
+                    Root35.setBeginColumn(start.beginColumn);
+                    Root35.setInputSource(this.getInputSource());
+                    openNodeScope(Root35);
+                }
+                ParseException parseException35=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException35=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException35!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException35.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root35.setEndLine(current_token.getEndLine());
+                            Root35.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root35,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException34=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException34!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException34.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root34.setEndLine(current_token.getEndLine());
+                    Root34.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root34,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part16() throws ParseException {
+        // Code for expansion specified on line 854 of HugeMethods.javacc
+        // Code for expansion specified on line 854 of HugeMethods.javacc
+        boolean Root32forced=false;
+        Pair Root32=null;
+        if (buildTree) {
+            Root32=new Pair();
+            Token start=getToken(1);
+            Root32.setBeginLine(start.beginLine);
+            Root32.setBeginColumn(start.beginColumn);
+            Root32.setInputSource(this.getInputSource());
+            openNodeScope(Root32);
+        }
+        ParseException parseException32=null;
+        try {
+            // Code for expansion specified on line 854 of HugeMethods.javacc
+            consumeToken(W15);
+            // Code for expansion specified on line 854 of HugeMethods.javacc
+            int int32=nextTokenKind();
+            if (int32==W16) {
+                // Code for expansion specified on line 854 of HugeMethods.javacc
+                // Code for expansion specified on line 854 of HugeMethods.javacc
+                consumeToken(W16);
+            }
+            // Code for expansion specified on line 854 of HugeMethods.javacc
+            int int33=nextTokenKind();
+            if (int33==405) {
+                // Code for expansion specified on line 854 of HugeMethods.javacc
+                // Code for expansion specified on line 854 of HugeMethods.javacc
+                boolean Root33forced=false;
+                Mark Root33=null;
+                if (buildTree) {
+                    Root33=new Mark();
+                    Token start=getToken(1);
+                    Root33.setBeginLine(start.beginLine);
+                    Root33.setBeginColumn(start.beginColumn);
+                    Root33.setInputSource(this.getInputSource());
+                    openNodeScope(Root33);
+                }
+                ParseException parseException33=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException33=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException33!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException33.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root33.setEndLine(current_token.getEndLine());
+                            Root33.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root33,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException32=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException32!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException32.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root32.setEndLine(current_token.getEndLine());
+                    Root32.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root32,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part15() throws ParseException {
+        // Code for expansion specified on line 852 of HugeMethods.javacc
+        // Code for expansion specified on line 852 of HugeMethods.javacc
+        boolean Root30forced=false;
+        Pair Root30=null;
+        if (buildTree) {
+            Root30=new Pair();
+            Token start=getToken(1);
+            Root30.setBeginLine(start.beginLine);
+            Root30.setBeginColumn(start.beginColumn);
+            Root30.setInputSource(this.getInputSource());
+            openNodeScope(Root30);
+        }
+        ParseException parseException30=null;
+        try {
+            // Code for expansion specified on line 852 of HugeMethods.javacc
+            consumeToken(W14);
+            // Code for expansion specified on line 852 of HugeMethods.javacc
+            int int30=nextTokenKind();
+            if (int30==W15) {
+                // Code for expansion specified on line 852 of HugeMethods.javacc
+                // Code for expansion specified on line 852 of HugeMethods.javacc
+                consumeToken(W15);
+            }
+            // Code for expansion specified on line 852 of HugeMethods.javacc
+            int int31=nextTokenKind();
+            if (int31==405) {
+                // Code for expansion specified on line 852 of HugeMethods.javacc
+                // Code for expansion specified on line 852 of HugeMethods.javacc
+                boolean Root31forced=false;
+                Mark Root31=null;
+                if (buildTree) {
+                    Root31=new Mark();
+                    Token start=getToken(1);
+                    Root31.setBeginLine(start.beginLine);
+                    Root31.setBeginColumn(start.beginColumn);
+                    Root31.setInputSource(this.getInputSource());
+                    openNodeScope(Root31);
+                }
+                ParseException parseException31=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException31=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException31!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException31.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root31.setEndLine(current_token.getEndLine());
+                            Root31.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root31,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException30=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException30!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException30.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root30.setEndLine(current_token.getEndLine());
+                    Root30.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root30,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part14() throws ParseException {
+        // Code for expansion specified on line 850 of HugeMethods.javacc
+        // Code for expansion specified on line 850 of HugeMethods.javacc
+        boolean Root28forced=false;
+        Pair Root28=null;
+        if (buildTree) {
+            Root28=new Pair();
+            Token start=getToken(1);
+            Root28.setBeginLine(start.beginLine);
+            Root28.setBeginColumn(start.beginColumn);
+            Root28.setInputSource(this.getInputSource());
+            openNodeScope(Root28);
+        }
+        ParseException parseException28=null;
+        try {
+            // Code for expansion specified on line 850 of HugeMethods.javacc
+            consumeToken(W13);
+            // Code for expansion specified on line 850 of HugeMethods.javacc
+            int int28=nextTokenKind();
+            if (int28==W14) {
+                // Code for expansion specified on line 850 of HugeMethods.javacc
+                // Code for expansion specified on line 850 of HugeMethods.javacc
+                consumeToken(W14);
+            }
+            // Code for expansion specified on line 850 of HugeMethods.javacc
+            int int29=nextTokenKind();
+            if (int29==405) {
+                // Code for expansion specified on line 850 of HugeMethods.javacc
+                // Code for expansion specified on line 850 of HugeMethods.javacc
+                boolean Root29forced=false;
+                Mark Root29=null;
+                if (buildTree) {
+                    Root29=new Mark();
+                    Token start=getToken(1);
+                    Root29.setBeginLine(start.beginLine);
+                    Root29.setBeginColumn(start.beginColumn);
+                    Root29.setInputSource(this.getInputSource());
+                    openNodeScope(Root29);
+                }
+                ParseException parseException29=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException29=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException29!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException29.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root29.setEndLine(current_token.getEndLine());
+                            Root29.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root29,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException28=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException28!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException28.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root28.setEndLine(current_token.getEndLine());
+                    Root28.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root28,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part13() throws ParseException {
+        // Code for expansion specified on line 848 of HugeMethods.javacc
+        // Code for expansion specified on line 848 of HugeMethods.javacc
+        boolean Root26forced=false;
+        Pair Root26=null;
+        if (buildTree) {
+            Root26=new Pair();
+            Token start=getToken(1);
+            Root26.setBeginLine(start.beginLine);
+            Root26.setBeginColumn(start.beginColumn);
+            Root26.setInputSource(this.getInputSource());
+            openNodeScope(Root26);
+        }
+        ParseException parseException26=null;
+        try {
+            // Code for expansion specified on line 848 of HugeMethods.javacc
+            consumeToken(W12);
+            // Code for expansion specified on line 848 of HugeMethods.javacc
+            int int26=nextTokenKind();
+            if (int26==W13) {
+                // Code for expansion specified on line 848 of HugeMethods.javacc
+                // Code for expansion specified on line 848 of HugeMethods.javacc
+                consumeToken(W13);
+            }
+            // Code for expansion specified on line 848 of HugeMethods.javacc
+            int int27=nextTokenKind();
+            if (int27==405) {
+                // Code for expansion specified on line 848 of HugeMethods.javacc
+                // Code for expansion specified on line 848 of HugeMethods.javacc
+                boolean Root27forced=false;
+                Mark Root27=null;
+                if (buildTree) {
+                    Root27=new Mark();
+                    Token start=getToken(1);
+                    Root27.setBeginLine(start.beginLine);
+                    Root27.setBeginColumn(start.beginColumn);
+                    Root27.setInputSource(this.getInputSource());
+                    openNodeScope(Root27);
+                }
+                ParseException parseException27=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException27=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException27!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException27.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root27.setEndLine(current_token.getEndLine());
+                            Root27.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root27,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException26=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException26!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException26.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root26.setEndLine(current_token.getEndLine());
+                    Root26.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root26,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part12() throws ParseException {
+        // Code for expansion specified on line 846 of HugeMethods.javacc
+        // Code for expansion specified on line 846 of HugeMethods.javacc
+        boolean Root24forced=false;
+        Pair Root24=null;
+        if (buildTree) {
+            Root24=new Pair();
+            Token start=getToken(1);
+            Root24.setBeginLine(start.beginLine);
+            Root24.setBeginColumn(start.beginColumn);
+            Root24.setInputSource(this.getInputSource());
+            openNodeScope(Root24);
+        }
+        ParseException parseException24=null;
+        try {
+            // Code for expansion specified on line 846 of HugeMethods.javacc
+            consumeToken(W11);
+            // Code for expansion specified on line 846 of HugeMethods.javacc
+            int int24=nextTokenKind();
+            if (int24==W12) {
+                // Code for expansion specified on line 846 of HugeMethods.javacc
+                // Code for expansion specified on line 846 of HugeMethods.javacc
+                consumeToken(W12);
+            }
+            // Code for expansion specified on line 846 of HugeMethods.javacc
+            int int25=nextTokenKind();
+            if (int25==405) {
+                // Code for expansion specified on line 846 of HugeMethods.javacc
+                // Code for expansion specified on line 846 of HugeMethods.javacc
+                boolean Root25forced=false;
+                Mark Root25=null;
+                if (buildTree) {
+                    Root25=new Mark();
+                    Token start=getToken(1);
+                    Root25.setBeginLine(start.beginLine);
+                    Root25.setBeginColumn(start.beginColumn);
+                    Root25.setInputSource(this.getInputSource());
+                    openNodeScope(Root25);
+                }
+                ParseException parseException25=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException25=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException25!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException25.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root25.setEndLine(current_token.getEndLine());
+                            Root25.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root25,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException24=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException24!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException24.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root24.setEndLine(current_token.getEndLine());
+                    Root24.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root24,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part11() throws ParseException {
+        // Code for expansion specified on line 844 of HugeMethods.javacc
+        // Code for expansion specified on line 844 of HugeMethods.javacc
+        boolean Root22forced=false;
+        Pair Root22=null;
+        if (buildTree) {
+            Root22=new Pair();
+            Token start=getToken(1);
+            Root22.setBeginLine(start.beginLine);
+            Root22.setBeginColumn(start.beginColumn);
+            Root22.setInputSource(this.getInputSource());
+            openNodeScope(Root22);
+        }
+        ParseException parseException22=null;
+        try {
+            // Code for expansion specified on line 844 of HugeMethods.javacc
+            consumeToken(W10);
+            // Code for expansion specified on line 844 of HugeMethods.javacc
+            int int22=nextTokenKind();
+            if (int22==W11) {
+                // Code for expansion specified on line 844 of HugeMethods.javacc
+                // Code for expansion specified on line 844 of HugeMethods.javacc
+                consumeToken(W11);
+            }
+            // Code for expansion specified on line 844 of HugeMethods.javacc
+            int int23=nextTokenKind();
+            if (int23==405) {
+                // Code for expansion specified on line 844 of HugeMethods.javacc
+                // Code for expansion specified on line 844 of HugeMethods.javacc
+                boolean Root23forced=false;
+                Mark Root23=null;
+                if (buildTree) {
+                    Root23=new Mark();
+                    Token start=getToken(1);
+                    Root23.setBeginLine(start.beginLine);
+                    Root23.setBeginColumn(start.beginColumn);
+                    Root23.setInputSource(this.getInputSource());
+                    openNodeScope(Root23);
+                }
+                ParseException parseException23=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException23=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException23!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException23.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root23.setEndLine(current_token.getEndLine());
+                            Root23.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root23,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException22=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException22!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException22.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root22.setEndLine(current_token.getEndLine());
+                    Root22.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root22,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part10() throws ParseException {
+        // Code for expansion specified on line 842 of HugeMethods.javacc
+        // Code for expansion specified on line 842 of HugeMethods.javacc
+        boolean Root20forced=false;
+        Pair Root20=null;
+        if (buildTree) {
+            Root20=new Pair();
+            Token start=getToken(1);
+            Root20.setBeginLine(start.beginLine);
+            Root20.setBeginColumn(start.beginColumn);
+            Root20.setInputSource(this.getInputSource());
+            openNodeScope(Root20);
+        }
+        ParseException parseException20=null;
+        try {
+            // Code for expansion specified on line 842 of HugeMethods.javacc
+            consumeToken(W9);
+            // Code for expansion specified on line 842 of HugeMethods.javacc
+            int int20=nextTokenKind();
+            if (int20==W10) {
+                // Code for expansion specified on line 842 of HugeMethods.javacc
+                // Code for expansion specified on line 842 of HugeMethods.javacc
+                consumeToken(W10);
+            }
+            // Code for expansion specified on line 842 of HugeMethods.javacc
+            int int21=nextTokenKind();
+            if (int21==405) {
+                // Code for expansion specified on line 842 of HugeMethods.javacc
+                // Code for expansion specified on line 842 of HugeMethods.javacc
+                boolean Root21forced=false;
+                Mark Root21=null;
+                if (buildTree) {
+                    Root21=new Mark();
+                    Token start=getToken(1);
+                    Root21.setBeginLine(start.beginLine);
+                    Root21.setBeginColumn(start.beginColumn);
+                    Root21.setInputSource(this.getInputSource());
+                    openNodeScope(Root21);
+                }
+                ParseException parseException21=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException21=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException21!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException21.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root21.setEndLine(current_token.getEndLine());
+                            Root21.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root21,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException20=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException20!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException20.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root20.setEndLine(current_token.getEndLine());
+                    Root20.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root20,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part9() throws ParseException {
+        // Code for expansion specified on line 840 of HugeMethods.javacc
+        // Code for expansion specified on line 840 of HugeMethods.javacc
+        boolean Root18forced=false;
+        Pair Root18=null;
+        if (buildTree) {
+            Root18=new Pair();
+            Token start=getToken(1);
+            Root18.setBeginLine(start.beginLine);
+            Root18.setBeginColumn(start.beginColumn);
+            Root18.setInputSource(this.getInputSource());
+            openNodeScope(Root18);
+        }
+        ParseException parseException18=null;
+        try {
+            // Code for expansion specified on line 840 of HugeMethods.javacc
+            consumeToken(W8);
+            // Code for expansion specified on line 840 of HugeMethods.javacc
+            int int18=nextTokenKind();
+            if (int18==W9) {
+                // Code for expansion specified on line 840 of HugeMethods.javacc
+                // Code for expansion specified on line 840 of HugeMethods.javacc
+                consumeToken(W9);
+            }
+            // Code for expansion specified on line 840 of HugeMethods.javacc
+            int int19=nextTokenKind();
+            if (int19==405) {
+                // Code for expansion specified on line 840 of HugeMethods.javacc
+                // Code for expansion specified on line 840 of HugeMethods.javacc
+                boolean Root19forced=false;
+                Mark Root19=null;
+                if (buildTree) {
+                    Root19=new Mark();
+                    Token start=getToken(1);
+                    Root19.setBeginLine(start.beginLine);
+                    Root19.setBeginColumn(start.beginColumn);
+                    Root19.setInputSource(this.getInputSource());
+                    openNodeScope(Root19);
+                }
+                ParseException parseException19=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException19=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException19!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException19.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root19.setEndLine(current_token.getEndLine());
+                            Root19.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root19,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException18=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException18!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException18.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root18.setEndLine(current_token.getEndLine());
+                    Root18.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root18,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part8() throws ParseException {
+        // Code for expansion specified on line 838 of HugeMethods.javacc
+        // Code for expansion specified on line 838 of HugeMethods.javacc
+        boolean Root16forced=false;
+        Pair Root16=null;
+        if (buildTree) {
+            Root16=new Pair();
+            Token start=getToken(1);
+            Root16.setBeginLine(start.beginLine);
+            Root16.setBeginColumn(start.beginColumn);
+            Root16.setInputSource(this.getInputSource());
+            openNodeScope(Root16);
+        }
+        ParseException parseException16=null;
+        try {
+            // Code for expansion specified on line 838 of HugeMethods.javacc
+            consumeToken(W7);
+            // Code for expansion specified on line 838 of HugeMethods.javacc
+            int int16=nextTokenKind();
+            if (int16==W8) {
+                // Code for expansion specified on line 838 of HugeMethods.javacc
+                // Code for expansion specified on line 838 of HugeMethods.javacc
+                consumeToken(W8);
+            }
+            // Code for expansion specified on line 838 of HugeMethods.javacc
+            int int17=nextTokenKind();
+            if (int17==405) {
+                // Code for expansion specified on line 838 of HugeMethods.javacc
+                // Code for expansion specified on line 838 of HugeMethods.javacc
+                boolean Root17forced=false;
+                Mark Root17=null;
+                if (buildTree) {
+                    Root17=new Mark();
+                    Token start=getToken(1);
+                    Root17.setBeginLine(start.beginLine);
+                    Root17.setBeginColumn(start.beginColumn);
+                    Root17.setInputSource(this.getInputSource());
+                    openNodeScope(Root17);
+                }
+                ParseException parseException17=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException17=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException17!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException17.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root17.setEndLine(current_token.getEndLine());
+                            Root17.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root17,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException16=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException16!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException16.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root16.setEndLine(current_token.getEndLine());
+                    Root16.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root16,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part7() throws ParseException {
+        // Code for expansion specified on line 836 of HugeMethods.javacc
+        // Code for expansion specified on line 836 of HugeMethods.javacc
+        boolean Root14forced=false;
+        Pair Root14=null;
+        if (buildTree) {
+            Root14=new Pair();
+            Token start=getToken(1);
+            Root14.setBeginLine(start.beginLine);
+            Root14.setBeginColumn(start.beginColumn);
+            Root14.setInputSource(this.getInputSource());
+            openNodeScope(Root14);
+        }
+        ParseException parseException14=null;
+        try {
+            // Code for expansion specified on line 836 of HugeMethods.javacc
+            consumeToken(W6);
+            // Code for expansion specified on line 836 of HugeMethods.javacc
+            int int14=nextTokenKind();
+            if (int14==W7) {
+                // Code for expansion specified on line 836 of HugeMethods.javacc
+                // Code for expansion specified on line 836 of HugeMethods.javacc
+                consumeToken(W7);
+            }
+            // Code for expansion specified on line 836 of HugeMethods.javacc
+            int int15=nextTokenKind();
+            if (int15==405) {
+                // Code for expansion specified on line 836 of HugeMethods.javacc
+                // Code for expansion specified on line 836 of HugeMethods.javacc
+                boolean Root15forced=false;
+                Mark Root15=null;
+                if (buildTree) {
+                    Root15=new Mark();
+                    Token start=getToken(1);
+                    Root15.setBeginLine(start.beginLine);
+                    Root15.setBeginColumn(start.beginColumn);
+                    Root15.setInputSource(this.getInputSource());
+                    openNodeScope(Root15);
+                }
+                ParseException parseException15=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException15=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException15!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException15.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root15.setEndLine(current_token.getEndLine());
+                            Root15.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root15,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException14=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException14!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException14.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root14.setEndLine(current_token.getEndLine());
+                    Root14.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root14,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part6() throws ParseException {
+        // Code for expansion specified on line 834 of HugeMethods.javacc
+        // Code for expansion specified on line 834 of HugeMethods.javacc
+        boolean Root12forced=false;
+        Pair Root12=null;
+        if (buildTree) {
+            Root12=new Pair();
+            Token start=getToken(1);
+            Root12.setBeginLine(start.beginLine);
+            Root12.setBeginColumn(start.beginColumn);
+            Root12.setInputSource(this.getInputSource());
+            openNodeScope(Root12);
+        }
+        ParseException parseException12=null;
+        try {
+            // Code for expansion specified on line 834 of HugeMethods.javacc
+            consumeToken(W5);
+            // Code for expansion specified on line 834 of HugeMethods.javacc
+            int int12=nextTokenKind();
+            if (int12==W6) {
+                // Code for expansion specified on line 834 of HugeMethods.javacc
+                // Code for expansion specified on line 834 of HugeMethods.javacc
+                consumeToken(W6);
+            }
+            // Code for expansion specified on line 834 of HugeMethods.javacc
+            int int13=nextTokenKind();
+            if (int13==405) {
+                // Code for expansion specified on line 834 of HugeMethods.javacc
+                // Code for expansion specified on line 834 of HugeMethods.javacc
+                boolean Root13forced=false;
+                Mark Root13=null;
+                if (buildTree) {
+                    Root13=new Mark();
+                    Token start=getToken(1);
+                    Root13.setBeginLine(start.beginLine);
+                    Root13.setBeginColumn(start.beginColumn);
+                    Root13.setInputSource(this.getInputSource());
+                    openNodeScope(Root13);
+                }
+                ParseException parseException13=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException13=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException13!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException13.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root13.setEndLine(current_token.getEndLine());
+                            Root13.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root13,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException12=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException12!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException12.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root12.setEndLine(current_token.getEndLine());
+                    Root12.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root12,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part5() throws ParseException {
+        // Code for expansion specified on line 832 of HugeMethods.javacc
+        // Code for expansion specified on line 832 of HugeMethods.javacc
+        boolean Root10forced=false;
+        Pair Root10=null;
+        if (buildTree) {
+            Root10=new Pair();
+            Token start=getToken(1);
+            Root10.setBeginLine(start.beginLine);
+            Root10.setBeginColumn(start.beginColumn);
+            Root10.setInputSource(this.getInputSource());
+            openNodeScope(Root10);
+        }
+        ParseException parseException10=null;
+        try {
+            // Code for expansion specified on line 832 of HugeMethods.javacc
+            consumeToken(W4);
+            // Code for expansion specified on line 832 of HugeMethods.javacc
+            int int10=nextTokenKind();
+            if (int10==W5) {
+                // Code for expansion specified on line 832 of HugeMethods.javacc
+                // Code for expansion specified on line 832 of HugeMethods.javacc
+                consumeToken(W5);
+            }
+            // Code for expansion specified on line 832 of HugeMethods.javacc
+            int int11=nextTokenKind();
+            if (int11==405) {
+                // Code for expansion specified on line 832 of HugeMethods.javacc
+                // Code for expansion specified on line 832 of HugeMethods.javacc
+                boolean Root11forced=false;
+                Mark Root11=null;
+                if (buildTree) {
+                    Root11=new Mark();
+                    Token start=getToken(1);
+                    Root11.setBeginLine(start.beginLine);
+                    Root11.setBeginColumn(start.beginColumn);
+                    Root11.setInputSource(this.getInputSource());
+                    openNodeScope(Root11);
+                }
+                ParseException parseException11=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException11=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException11!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException11.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root11.setEndLine(current_token.getEndLine());
+                            Root11.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root11,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException10=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException10!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException10.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root10.setEndLine(current_token.getEndLine());
+                    Root10.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root10,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part4() throws ParseException {
+        // Code for expansion specified on line 830 of HugeMethods.javacc
+        // Code for expansion specified on line 830 of HugeMethods.javacc
+        boolean Root8forced=false;
+        Pair Root8=null;
+        if (buildTree) {
+            Root8=new Pair();
+            Token start=getToken(1);
+            Root8.setBeginLine(start.beginLine);
+            Root8.setBeginColumn(start.beginColumn);
+            Root8.setInputSource(this.getInputSource());
+            openNodeScope(Root8);
+        }
+        ParseException parseException8=null;
+        try {
+            // Code for expansion specified on line 830 of HugeMethods.javacc
+            consumeToken(W3);
+            // Code for expansion specified on line 830 of HugeMethods.javacc
+            int int8=nextTokenKind();
+            if (int8==W4) {
+                // Code for expansion specified on line 830 of HugeMethods.javacc
+                // Code for expansion specified on line 830 of HugeMethods.javacc
+                consumeToken(W4);
+            }
+            // Code for expansion specified on line 830 of HugeMethods.javacc
+            int int9=nextTokenKind();
+            if (int9==405) {
+                // Code for expansion specified on line 830 of HugeMethods.javacc
+                // Code for expansion specified on line 830 of HugeMethods.javacc
+                boolean Root9forced=false;
+                Mark Root9=null;
+                if (buildTree) {
+                    Root9=new Mark();
+                    Token start=getToken(1);
+                    Root9.setBeginLine(start.beginLine);
+                    Root9.setBeginColumn(start.beginColumn);
+                    Root9.setInputSource(this.getInputSource());
+                    openNodeScope(Root9);
+                }
+                ParseException parseException9=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException9=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException9!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException9.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root9.setEndLine(current_token.getEndLine());
+                            Root9.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root9,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException8=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException8!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException8.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root8.setEndLine(current_token.getEndLine());
+                    Root8.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root8,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part3() throws ParseException {
+        // Code for expansion specified on line 828 of HugeMethods.javacc
+        // Code for expansion specified on line 828 of HugeMethods.javacc
+        boolean Root6forced=false;
+        Pair Root6=null;
+        if (buildTree) {
+            Root6=new Pair();
+            Token start=getToken(1);
+            Root6.setBeginLine(start.beginLine);
+            Root6.setBeginColumn(start.beginColumn);
+            Root6.setInputSource(this.getInputSource());
+            openNodeScope(Root6);
+        }
+        ParseException parseException6=null;
+        try {
+            // Code for expansion specified on line 828 of HugeMethods.javacc
+            consumeToken(W2);
+            // Code for expansion specified on line 828 of HugeMethods.javacc
+            int int6=nextTokenKind();
+            if (int6==W3) {
+                // Code for expansion specified on line 828 of HugeMethods.javacc
+                // Code for expansion specified on line 828 of HugeMethods.javacc
+                consumeToken(W3);
+            }
+            // Code for expansion specified on line 828 of HugeMethods.javacc
+            int int7=nextTokenKind();
+            if (int7==405) {
+                // Code for expansion specified on line 828 of HugeMethods.javacc
+                // Code for expansion specified on line 828 of HugeMethods.javacc
+                boolean Root7forced=false;
+                Mark Root7=null;
+                if (buildTree) {
+                    Root7=new Mark();
+                    Token start=getToken(1);
+                    Root7.setBeginLine(start.beginLine);
+                    Root7.setBeginColumn(start.beginColumn);
+                    Root7.setInputSource(this.getInputSource());
+                    openNodeScope(Root7);
+                }
+                ParseException parseException7=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException7=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException7!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException7.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root7.setEndLine(current_token.getEndLine());
+                            Root7.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root7,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException6=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException6!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException6.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root6.setEndLine(current_token.getEndLine());
+                    Root6.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root6,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part2() throws ParseException {
+        // Code for expansion specified on line 826 of HugeMethods.javacc
+        // Code for expansion specified on line 826 of HugeMethods.javacc
+        boolean Root4forced=false;
+        Pair Root4=null;
+        if (buildTree) {
+            Root4=new Pair();
+            Token start=getToken(1);
+            Root4.setBeginLine(start.beginLine);
+            Root4.setBeginColumn(start.beginColumn);
+            Root4.setInputSource(this.getInputSource());
+            openNodeScope(Root4);
+        }
+        ParseException parseException4=null;
+        try {
+            // Code for expansion specified on line 826 of HugeMethods.javacc
+            consumeToken(W1);
+            // Code for expansion specified on line 826 of HugeMethods.javacc
+            int int4=nextTokenKind();
+            if (int4==W2) {
+                // Code for expansion specified on line 826 of HugeMethods.javacc
+                // Code for expansion specified on line 826 of HugeMethods.javacc
+                consumeToken(W2);
+            }
+            // Code for expansion specified on line 826 of HugeMethods.javacc
+            int int5=nextTokenKind();
+            if (int5==405) {
+                // Code for expansion specified on line 826 of HugeMethods.javacc
+                // Code for expansion specified on line 826 of HugeMethods.javacc
+                boolean Root5forced=false;
+                Mark Root5=null;
+                if (buildTree) {
+                    Root5=new Mark();
+                    Token start=getToken(1);
+                    Root5.setBeginLine(start.beginLine);
+                    Root5.setBeginColumn(start.beginColumn);
+                    Root5.setInputSource(this.getInputSource());
+                    openNodeScope(Root5);
+                }
+                ParseException parseException5=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException5=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException5!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException5.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root5.setEndLine(current_token.getEndLine());
+                            Root5.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root5,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException4=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException4!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException4.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root4.setEndLine(current_token.getEndLine());
+                    Root4.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root4,true);
+                }
+            }
+        }
+    }
+
+    private void Root_part1() throws ParseException {
+        // Code for expansion specified on line 824 of HugeMethods.javacc
+        // Code for expansion specified on line 824 of HugeMethods.javacc
+        boolean Root2forced=false;
+        Pair Root2=null;
+        if (buildTree) {
+            Root2=new Pair();
+            Token start=getToken(1);
+            Root2.setBeginLine(start.beginLine);
+            Root2.setBeginColumn(start.beginColumn);
+            Root2.setInputSource(this.getInputSource());
+            openNodeScope(Root2);
+        }
+        ParseException parseException2=null;
+        try {
+            // Code for expansion specified on line 824 of HugeMethods.javacc
+            consumeToken(W0);
+            // Code for expansion specified on line 824 of HugeMethods.javacc
+            int int2=nextTokenKind();
+            if (int2==W1) {
+                // Code for expansion specified on line 824 of HugeMethods.javacc
+                // Code for expansion specified on line 824 of HugeMethods.javacc
+                consumeToken(W1);
+            }
+            // Code for expansion specified on line 824 of HugeMethods.javacc
+            int int3=nextTokenKind();
+            if (int3==405) {
+                // Code for expansion specified on line 824 of HugeMethods.javacc
+                // Code for expansion specified on line 824 of HugeMethods.javacc
+                boolean Root3forced=false;
+                Mark Root3=null;
+                if (buildTree) {
+                    Root3=new Mark();
+                    Token start=getToken(1);
+                    Root3.setBeginLine(start.beginLine);
+                    Root3.setBeginColumn(start.beginColumn);
+                    Root3.setInputSource(this.getInputSource());
+                    openNodeScope(Root3);
+                }
+                ParseException parseException3=null;
+                try {
+                    consumeToken(405);
+                }
+                catch(ParseException e) {
+                    parseException3=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException3!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            Root3.setEndLine(current_token.getEndLine());
+                            Root3.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(Root3,true);
+                        }
+                    }
+                }
+            }
+        }
+        catch(ParseException e) {
+            parseException2=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException2!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Root2.setEndLine(current_token.getEndLine());
+                    Root2.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Root2,true);
+                }
+            }
+        }
+    }
+
+    static private final long[] jj_first_set_0={0xffffffffffffffe0L,0xffffffffffffffffL,0x7ffffffL,0x0L,0x0L,0x0L,0x0L};
+    Token current_token;
+    public HugeMethodsParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public HugeMethodsParser(Reader reader) {
+        token_source=new HugeMethodsLexer(reader);
+        current_token=new Token();
+    }
+
+    /** Constructor with generated Token Manager. */
+    public HugeMethodsParser(HugeMethodsLexer lexer) {
+        token_source=lexer;
+        current_token=new Token();
+    }
+
+    private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced=false;
+        Token oldToken=current_token;
+        current_token=current_token.next;
+        if (current_token==null) {
+            current_token=token_source.getNextToken();
+        }
+        if (current_token.kind!=expectedType) {
+            handleUnexpectedTokenType(expectedType,forced,oldToken);
+        }
+        if (tokensAreNodes) {
+            if (buildTree) {
+                pushNode(current_token);
+            }
+        }
+        if (trace_enabled) traceConsumedToken();
+        return current_token;
+    }
+
+    private void traceConsumedToken() {
+        LOGGER.info("Consumed token of type "+tokenImage[current_token.kind]+" from "+current_token.getLocation());
+    }
+
+    private void handleUnexpectedTokenType(int expectedType,boolean forced,Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+            //	    current_token = oldToken;
+            throw new ParseException(current_token);
+        }
+    }
+
+    private String generateErrorMessage(Token t) {
+        return"Encountered an error on (or somewhere around) line "+t.getBeginLine()+", column "+t.getBeginColumn()+" of "+t.getInputSource();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.next!=null) current_token=current_token.next;
+        else current_token=current_token.next=token_source.getNextToken();
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        Token t=current_token;
+        for (int i=0; i<index; i++) {
+            if (t.next!=null) t=t.next;
+            else t=t.next=token_source.getNextToken();
+        }
+        return t;
+    }
+
+    private int nextTokenKind() {
+        if (current_token.next==null) {
+            current_token.next=token_source.getNextToken();
+        }
+        return current_token.next.kind;
+    }
+
+    private List<Token>getTokensToEOL(int...desiredTokenTypes) {
+        ArrayList<Token>result=new ArrayList<>();
+        int currentLine=current_token.getBeginLine();
+        Token tok=current_token;
+        do {
+            Token prevToken=tok;
+            if (tok.next!=null) {
+                tok=tok.next;
+            }
+            else {
+                tok=token_source.getNextToken();
+                prevToken.next=tok;
+            }
+            result.add(tok);
+        }
+        while (tok.getBeginLine()==currentLine&&!intArrayContains(desiredTokenTypes,tok.kind)&&tok.kind!=EOF);
+        return result;
+    }
+
+    static private boolean intArrayContains(int[] array,int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i]==elem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trace_enabled=false;
+    public void setTracingEnabled(boolean tracingEnabled) {
+        trace_enabled=tracingEnabled;
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+}
@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+package com.javacc.hugemethods;
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+ 
+public class InvalidToken extends Token {
+
+    public InvalidToken(String image) {
+       super(HugeMethodsConstants.INVALID, image);
+    }
+    
+    public InvalidToken() {
+       super(HugeMethodsConstants.INVALID);
+    }
+    
+    public String getNormalizedText() {
+        return "Lexically Invalid Input:" + image;
+    }
+    
+    public boolean isDirty() {
+        return true;
+    }
+}
@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Mark.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class Mark extends BaseNode {
+
+}
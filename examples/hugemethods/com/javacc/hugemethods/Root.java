@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Root.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class Root extends BaseNode {
+
+}
@@ -0,0 +1,632 @@
+/* Generated by: JavaCC 21 Parser Generator. Token.java */
+package com.javacc.hugemethods;
+import java.util.*;
+
+
+/**
+ * Describes the input token stream.
+ */
+ 
+ 
+ 
+public class Token implements HugeMethodsConstants , Node {
+
+
+    private String inputSource = "";
+
+    /**
+     * An integer that describes the kind of this token.  This numbering
+     * system is determined by JavaCCParser, and a table of these numbers is
+     * stored in the file ...Constants.java.
+     */
+    int kind;
+
+    /**
+     * beginLine and beginColumn describe the position of the first character
+     * of this token; endLine and endColumn describe the position of the
+     * last character of this token.
+     */
+    int beginLine, beginColumn, endLine, endColumn;
+
+    /**
+     * The string image of the token.
+     */
+    String image;
+
+    /**
+     * A reference to the next regular (non-special) token from the input
+     * stream.  If this is the last token from the input stream, or if the
+     * token manager has not read tokens beyond this one, this field is
+     * set to null.  This is true only if this token is also a regular
+     * token.  Otherwise, see below for a description of the contents of
+     * this field.
+     */
+    Token next;
+
+    /**
+     * This field is used to access special tokens that occur prior to this
+     * token, but after the immediately preceding regular (non-special) token.
+     * If there are no such special tokens, this field is set to null.
+     * When there are more than one such special token, this field refers
+     * to the last of these special tokens, which in turn refers to the next
+     * previous special token through its specialToken field, and so on
+     * until the first special token (whose specialToken field is null).
+     * The next fields of special tokens refer to other special tokens that
+     * immediately follow it (without an intervening regular token).  If there
+     * is no such token, this field is null.
+     */
+    Token specialToken;
+    
+    boolean unparsed;
+
+    public Token() {}
+
+    /**
+     * Constructs a new token for the specified Image.
+     */
+    public Token(int kind) {
+       this(kind, null);
+    }
+
+    /**
+     * Constructs a new token for the specified Image and Kind.
+     */
+    public Token(int kind, String image) {
+        this.kind = kind;
+        this.image = image;
+    }
+    
+    public int getId() {
+        return kind;
+    }
+
+    public boolean isUnparsed() {
+        return unparsed;
+    }
+    
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed = unparsed;
+    }
+    
+    public void clearChildren() {}
+    
+    public String getNormalizedText() {
+        return image;
+    }
+    
+    public String getRawText() {
+        return image;
+    }
+    
+    public String toString() {
+        return getNormalizedText();
+    }
+    
+    public static Token newToken(int ofKind, String image) {
+           switch(ofKind) {
+//              case -1 : return new InvalidToken(image);
+              case W0 : return new W0(ofKind, image);
+              case W1 : return new W1(ofKind, image);
+              case W2 : return new W2(ofKind, image);
+              case W3 : return new W3(ofKind, image);
+              case W4 : return new W4(ofKind, image);
+              case W5 : return new W5(ofKind, image);
+              case W6 : return new W6(ofKind, image);
+              case W7 : return new W7(ofKind, image);
+              case W8 : return new W8(ofKind, image);
+              case W9 : return new W9(ofKind, image);
+              case W10 : return new W10(ofKind, image);
+              case W11 : return new W11(ofKind, image);
+              case W12 : return new W12(ofKind, image);
+              case W13 : return new W13(ofKind, image);
+              case W14 : return new W14(ofKind, image);
+              case W15 : return new W15(ofKind, image);
+              case W16 : return new W16(ofKind, image);
+              case W17 : return new W17(ofKind, image);
+              case W18 : return new W18(ofKind, image);
+              case W19 : return new W19(ofKind, image);
+              case W20 : return new W20(ofKind, image);
+              case W21 : return new W21(ofKind, image);
+              case W22 : return new W22(ofKind, image);
+              case W23 : return new W23(ofKind, image);
+              case W24 : return new W24(ofKind, image);
+              case W25 : return new W25(ofKind, image);
+              case W26 : return new W26(ofKind, image);
+              case W27 : return new W27(ofKind, image);
+              case W28 : return new W28(ofKind, image);
+              case W29 : return new W29(ofKind, image);
+              case W30 : return new W30(ofKind, image);
+              case W31 : return new W31(ofKind, image);
+              case W32 : return new W32(ofKind, image);
+              case W33 : return new W33(ofKind, image);
+              case W34 : return new W34(ofKind, image);
+              case W35 : return new W35(ofKind, image);
+              case W36 : return new W36(ofKind, image);
+              case W37 : return new W37(ofKind, image);
+              case W38 : return new W38(ofKind, image);
+              case W39 : return new W39(ofKind, image);
+              case W40 : return new W40(ofKind, image);
+              case W41 : return new W41(ofKind, image);
+              case W42 : return new W42(ofKind, image);
+              case W43 : return new W43(ofKind, image);
+              case W44 : return new W44(ofKind, image);
+              case W45 : return new W45(ofKind, image);
+              case W46 : return new W46(ofKind, image);
+              case W47 : return new W47(ofKind, image);
+              case W48 : return new W48(ofKind, image);
+              case W49 : return new W49(ofKind, image);
+              case W50 : return new W50(ofKind, image);
+              case W51 : return new W51(ofKind, image);
+              case W52 : return new W52(ofKind, image);
+              case W53 : return new W53(ofKind, image);
+              case W54 : return new W54(ofKind, image);
+              case W55 : return new W55(ofKind, image);
+              case W56 : return new W56(ofKind, image);
+              case W57 : return new W57(ofKind, image);
+              case W58 : return new W58(ofKind, image);
+              case W59 : return new W59(ofKind, image);
+              case W60 : return new W60(ofKind, image);
+              case W61 : return new W61(ofKind, image);
+              case W62 : return new W62(ofKind, image);
+              case W63 : return new W63(ofKind, image);
+              case W64 : return new W64(ofKind, image);
+              case W65 : return new W65(ofKind, image);
+              case W66 : return new W66(ofKind, image);
+              case W67 : return new W67(ofKind, image);
+              case W68 : return new W68(ofKind, image);
+              case W69 : return new W69(ofKind, image);
+              case W70 : return new W70(ofKind, image);
+              case W71 : return new W71(ofKind, image);
+              case W72 : return new W72(ofKind, image);
+              case W73 : return new W73(ofKind, image);
+              case W74 : return new W74(ofKind, image);
+              case W75 : return new W75(ofKind, image);
+              case W76 : return new W76(ofKind, image);
+              case W77 : return new W77(ofKind, image);
+              case W78 : return new W78(ofKind, image);
+              case W79 : return new W79(ofKind, image);
+              case W80 : return new W80(ofKind, image);
+              case W81 : return new W81(ofKind, image);
+              case W82 : return new W82(ofKind, image);
+              case W83 : return new W83(ofKind, image);
+              case W84 : return new W84(ofKind, image);
+              case W85 : return new W85(ofKind, image);
+              case W86 : return new W86(ofKind, image);
+              case W87 : return new W87(ofKind, image);
+              case W88 : return new W88(ofKind, image);
+              case W89 : return new W89(ofKind, image);
+              case W90 : return new W90(ofKind, image);
+              case W91 : return new W91(ofKind, image);
+              case W92 : return new W92(ofKind, image);
+              case W93 : return new W93(ofKind, image);
+              case W94 : return new W94(ofKind, image);
+              case W95 : return new W95(ofKind, image);
+              case W96 : return new W96(ofKind, image);
+              case W97 : return new W97(ofKind, image);
+              case W98 : return new W98(ofKind, image);
+              case W99 : return new W99(ofKind, image);
+              case W100 : return new W100(ofKind, image);
+              case W101 : return new W101(ofKind, image);
+              case W102 : return new W102(ofKind, image);
+              case W103 : return new W103(ofKind, image);
+              case W104 : return new W104(ofKind, image);
+              case W105 : return new W105(ofKind, image);
+              case W106 : return new W106(ofKind, image);
+              case W107 : return new W107(ofKind, image);
+              case W108 : return new W108(ofKind, image);
+              case W109 : return new W109(ofKind, image);
+              case W110 : return new W110(ofKind, image);
+              case W111 : return new W111(ofKind, image);
+              case W112 : return new W112(ofKind, image);
+              case W113 : return new W113(ofKind, image);
+              case W114 : return new W114(ofKind, image);
+              case W115 : return new W115(ofKind, image);
+              case W116 : return new W116(ofKind, image);
+              case W117 : return new W117(ofKind, image);
+              case W118 : return new W118(ofKind, image);
+              case W119 : return new W119(ofKind, image);
+              case W120 : return new W120(ofKind, image);
+              case W121 : return new W121(ofKind, image);
+              case W122 : return new W122(ofKind, image);
+              case W123 : return new W123(ofKind, image);
+              case W124 : return new W124(ofKind, image);
+              case W125 : return new W125(ofKind, image);
+              case W126 : return new W126(ofKind, image);
+              case W127 : return new W127(ofKind, image);
+              case W128 : return new W128(ofKind, image);
+              case W129 : return new W129(ofKind, image);
+              case W130 : return new W130(ofKind, image);
+              case W131 : return new W131(ofKind, image);
+              case W132 : return new W132(ofKind, image);
+              case W133 : return new W133(ofKind, image);
+              case W134 : return new W134(ofKind, image);
+              case W135 : return new W135(ofKind, image);
+              case W136 : return new W136(ofKind, image);
+              case W137 : return new W137(ofKind, image);
+              case W138 : return new W138(ofKind, image);
+              case W139 : return new W139(ofKind, image);
+              case W140 : return new W140(ofKind, image);
+              case W141 : return new W141(ofKind, image);
+              case W142 : return new W142(ofKind, image);
+              case W143 : return new W143(ofKind, image);
+              case W144 : return new W144(ofKind, image);
+              case W145 : return new W145(ofKind, image);
+              case W146 : return new W146(ofKind, image);
+              case W147 : return new W147(ofKind, image);
+              case W148 : return new W148(ofKind, image);
+              case W149 : return new W149(ofKind, image);
+              case W150 : return new W150(ofKind, image);
+              case W151 : return new W151(ofKind, image);
+              case W152 : return new W152(ofKind, image);
+              case W153 : return new W153(ofKind, image);
+              case W154 : return new W154(ofKind, image);
+              case W155 : return new W155(ofKind, image);
+              case W156 : return new W156(ofKind, image);
+              case W157 : return new W157(ofKind, image);
+              case W158 : return new W158(ofKind, image);
+              case W159 : return new W159(ofKind, image);
+              case W160 : return new W160(ofKind, image);
+              case W161 : return new W161(ofKind, image);
+              case W162 : return new W162(ofKind, image);
+              case W163 : return new W163(ofKind, image);
+              case W164 : return new W164(ofKind, image);
+              case W165 : return new W165(ofKind, image);
+              case W166 : return new W166(ofKind, image);
+              case W167 : return new W167(ofKind, image);
+              case W168 : return new W168(ofKind, image);
+              case W169 : return new W169(ofKind, image);
+              case W170 : return new W170(ofKind, image);
+              case W171 : return new W171(ofKind, image);
+              case W172 : return new W172(ofKind, image);
+              case W173 : return new W173(ofKind, image);
+              case W174 : return new W174(ofKind, image);
+              case W175 : return new W175(ofKind, image);
+              case W176 : return new W176(ofKind, image);
+              case W177 : return new W177(ofKind, image);
+              case W178 : return new W178(ofKind, image);
+              case W179 : return new W179(ofKind, image);
+              case W180 : return new W180(ofKind, image);
+              case W181 : return new W181(ofKind, image);
+              case W182 : return new W182(ofKind, image);
+              case W183 : return new W183(ofKind, image);
+              case W184 : return new W184(ofKind, image);
+              case W185 : return new W185(ofKind, image);
+              case W186 : return new W186(ofKind, image);
+              case W187 : return new W187(ofKind, image);
+              case W188 : return new W188(ofKind, image);
+              case W189 : return new W189(ofKind, image);
+              case W190 : return new W190(ofKind, image);
+              case W191 : return new W191(ofKind, image);
+              case W192 : return new W192(ofKind, image);
+              case W193 : return new W193(ofKind, image);
+              case W194 : return new W194(ofKind, image);
+              case W195 : return new W195(ofKind, image);
+              case W196 : return new W196(ofKind, image);
+              case W197 : return new W197(ofKind, image);
+              case W198 : return new W198(ofKind, image);
+              case W199 : return new W199(ofKind, image);
+              case W200 : return new W200(ofKind, image);
+              case W201 : return new W201(ofKind, image);
+              case W202 : return new W202(ofKind, image);
+              case W203 : return new W203(ofKind, image);
+              case W204 : return new W204(ofKind, image);
+              case W205 : return new W205(ofKind, image);
+              case W206 : return new W206(ofKind, image);
+              case W207 : return new W207(ofKind, image);
+              case W208 : return new W208(ofKind, image);
+              case W209 : return new W209(ofKind, image);
+              case W210 : return new W210(ofKind, image);
+              case W211 : return new W211(ofKind, image);
+              case W212 : return new W212(ofKind, image);
+              case W213 : return new W213(ofKind, image);
+              case W214 : return new W214(ofKind, image);
+              case W215 : return new W215(ofKind, image);
+              case W216 : return new W216(ofKind, image);
+              case W217 : return new W217(ofKind, image);
+              case W218 : return new W218(ofKind, image);
+              case W219 : return new W219(ofKind, image);
+              case W220 : return new W220(ofKind, image);
+              case W221 : return new W221(ofKind, image);
+              case W222 : return new W222(ofKind, image);
+              case W223 : return new W223(ofKind, image);
+              case W224 : return new W224(ofKind, image);
+              case W225 : return new W225(ofKind, image);
+              case W226 : return new W226(ofKind, image);
+              case W227 : return new W227(ofKind, image);
+              case W228 : return new W228(ofKind, image);
+              case W229 : return new W229(ofKind, image);
+              case W230 : return new W230(ofKind, image);
+              case W231 : return new W231(ofKind, image);
+              case W232 : return new W232(ofKind, image);
+              case W233 : return new W233(ofKind, image);
+              case W234 : return new W234(ofKind, image);
+              case W235 : return new W235(ofKind, image);
+              case W236 : return new W236(ofKind, image);
+              case W237 : return new W237(ofKind, image);
+              case W238 : return new W238(ofKind, image);
+              case W239 : return new W239(ofKind, image);
+              case W240 : return new W240(ofKind, image);
+              case W241 : return new W241(ofKind, image);
+              case W242 : return new W242(ofKind, image);
+              case W243 : return new W243(ofKind, image);
+              case W244 : return new W244(ofKind, image);
+              case W245 : return new W245(ofKind, image);
+              case W246 : return new W246(ofKind, image);
+              case W247 : return new W247(ofKind, image);
+              case W248 : return new W248(ofKind, image);
+              case W249 : return new W249(ofKind, image);
+              case W250 : return new W250(ofKind, image);
+              case W251 : return new W251(ofKind, image);
+              case W252 : return new W252(ofKind, image);
+              case W253 : return new W253(ofKind, image);
+              case W254 : return new W254(ofKind, image);
+              case W255 : return new W255(ofKind, image);
+              case W256 : return new W256(ofKind, image);
+              case W257 : return new W257(ofKind, image);
+              case W258 : return new W258(ofKind, image);
+              case W259 : return new W259(ofKind, image);
+              case W260 : return new W260(ofKind, image);
+              case W261 : return new W261(ofKind, image);
+              case W262 : return new W262(ofKind, image);
+              case W263 : return new W263(ofKind, image);
+              case W264 : return new W264(ofKind, image);
+              case W265 : return new W265(ofKind, image);
+              case W266 : return new W266(ofKind, image);
+              case W267 : return new W267(ofKind, image);
+              case W268 : return new W268(ofKind, image);
+              case W269 : return new W269(ofKind, image);
+              case W270 : return new W270(ofKind, image);
+              case W271 : return new W271(ofKind, image);
+              case W272 : return new W272(ofKind, image);
+              case W273 : return new W273(ofKind, image);
+              case W274 : return new W274(ofKind, image);
+              case W275 : return new W275(ofKind, image);
+              case W276 : return new W276(ofKind, image);
+              case W277 : return new W277(ofKind, image);
+              case W278 : return new W278(ofKind, image);
+              case W279 : return new W279(ofKind, image);
+              case W280 : return new W280(ofKind, image);
+              case W281 : return new W281(ofKind, image);
+              case W282 : return new W282(ofKind, image);
+              case W283 : return new W283(ofKind, image);
+              case W284 : return new W284(ofKind, image);
+              case W285 : return new W285(ofKind, image);
+              case W286 : return new W286(ofKind, image);
+              case W287 : return new W287(ofKind, image);
+              case W288 : return new W288(ofKind, image);
+              case W289 : return new W289(ofKind, image);
+              case W290 : return new W290(ofKind, image);
+              case W291 : return new W291(ofKind, image);
+              case W292 : return new W292(ofKind, image);
+              case W293 : return new W293(ofKind, image);
+              case W294 : return new W294(ofKind, image);
+              case W295 : return new W295(ofKind, image);
+              case W296 : return new W296(ofKind, image);
+              case W297 : return new W297(ofKind, image);
+              case W298 : return new W298(ofKind, image);
+              case W299 : return new W299(ofKind, image);
+              case W300 : return new W300(ofKind, image);
+              case W301 : return new W301(ofKind, image);
+              case W302 : return new W302(ofKind, image);
+              case W303 : return new W303(ofKind, image);
+              case W304 : return new W304(ofKind, image);
+              case W305 : return new W305(ofKind, image);
+              case W306 : return new W306(ofKind, image);
+              case W307 : return new W307(ofKind, image);
+              case W308 : return new W308(ofKind, image);
+              case W309 : return new W309(ofKind, image);
+              case W310 : return new W310(ofKind, image);
+              case W311 : return new W311(ofKind, image);
+              case W312 : return new W312(ofKind, image);
+              case W313 : return new W313(ofKind, image);
+              case W314 : return new W314(ofKind, image);
+              case W315 : return new W315(ofKind, image);
+              case W316 : return new W316(ofKind, image);
+              case W317 : return new W317(ofKind, image);
+              case W318 : return new W318(ofKind, image);
+              case W319 : return new W319(ofKind, image);
+              case W320 : return new W320(ofKind, image);
+              case W321 : return new W321(ofKind, image);
+              case W322 : return new W322(ofKind, image);
+              case W323 : return new W323(ofKind, image);
+              case W324 : return new W324(ofKind, image);
+              case W325 : return new W325(ofKind, image);
+              case W326 : return new W326(ofKind, image);
+              case W327 : return new W327(ofKind, image);
+              case W328 : return new W328(ofKind, image);
+              case W329 : return new W329(ofKind, image);
+              case W330 : return new W330(ofKind, image);
+              case W331 : return new W331(ofKind, image);
+              case W332 : return new W332(ofKind, image);
+              case W333 : return new W333(ofKind, image);
+              case W334 : return new W334(ofKind, image);
+              case W335 : return new W335(ofKind, image);
+              case W336 : return new W336(ofKind, image);
+              case W337 : return new W337(ofKind, image);
+              case W338 : return new W338(ofKind, image);
+              case W339 : return new W339(ofKind, image);
+              case W340 : return new W340(ofKind, image);
+              case W341 : return new W341(ofKind, image);
+              case W342 : return new W342(ofKind, image);
+              case W343 : return new W343(ofKind, image);
+              case W344 : return new W344(ofKind, image);
+              case W345 : return new W345(ofKind, image);
+              case W346 : return new W346(ofKind, image);
+              case W347 : return new W347(ofKind, image);
+              case W348 : return new W348(ofKind, image);
+              case W349 : return new W349(ofKind, image);
+              case W350 : return new W350(ofKind, image);
+              case W351 : return new W351(ofKind, image);
+              case W352 : return new W352(ofKind, image);
+              case W353 : return new W353(ofKind, image);
+              case W354 : return new W354(ofKind, image);
+              case W355 : return new W355(ofKind, image);
+              case W356 : return new W356(ofKind, image);
+              case W357 : return new W357(ofKind, image);
+              case W358 : return new W358(ofKind, image);
+              case W359 : return new W359(ofKind, image);
+              case W360 : return new W360(ofKind, image);
+              case W361 : return new W361(ofKind, image);
+              case W362 : return new W362(ofKind, image);
+              case W363 : return new W363(ofKind, image);
+              case W364 : return new W364(ofKind, image);
+              case W365 : return new W365(ofKind, image);
+              case W366 : return new W366(ofKind, image);
+              case W367 : return new W367(ofKind, image);
+              case W368 : return new W368(ofKind, image);
+              case W369 : return new W369(ofKind, image);
+              case W370 : return new W370(ofKind, image);
+              case W371 : return new W371(ofKind, image);
+              case W372 : return new W372(ofKind, image);
+              case W373 : return new W373(ofKind, image);
+              case W374 : return new W374(ofKind, image);
+              case W375 : return new W375(ofKind, image);
+              case W376 : return new W376(ofKind, image);
+              case W377 : return new W377(ofKind, image);
+              case W378 : return new W378(ofKind, image);
+              case W379 : return new W379(ofKind, image);
+              case W380 : return new W380(ofKind, image);
+              case W381 : return new W381(ofKind, image);
+              case W382 : return new W382(ofKind, image);
+              case W383 : return new W383(ofKind, image);
+              case W384 : return new W384(ofKind, image);
+              case W385 : return new W385(ofKind, image);
+              case W386 : return new W386(ofKind, image);
+              case W387 : return new W387(ofKind, image);
+              case W388 : return new W388(ofKind, image);
+              case W389 : return new W389(ofKind, image);
+              case W390 : return new W390(ofKind, image);
+              case W391 : return new W391(ofKind, image);
+              case W392 : return new W392(ofKind, image);
+              case W393 : return new W393(ofKind, image);
+              case W394 : return new W394(ofKind, image);
+              case W395 : return new W395(ofKind, image);
+              case W396 : return new W396(ofKind, image);
+              case W397 : return new W397(ofKind, image);
+              case W398 : return new W398(ofKind, image);
+              case W399 : return new W399(ofKind, image);
+           }
+       return new Token(ofKind, image); 
+    }
+
+    public void setInputSource(String inputSource) {
+        this.inputSource = inputSource;
+    }
+    
+    public String getInputSource() {
+        return inputSource;
+    }
+    
+    
+    public void setBeginColumn(int beginColumn) {
+        this.beginColumn = beginColumn;
+    }	
+    
+    public void setEndColumn(int endColumn) {
+        this.endColumn = endColumn;
+    }	
+    
+    public void setBeginLine(int beginLine) {
+        this.beginLine = beginLine;
+    }	
+    
+    public void setEndLine(int endLine) {
+        this.endLine = endLine;
+    }	
+    
+    public int getBeginLine() {
+        return beginLine;
+    }
+    
+    public int getBeginColumn() {
+        return beginColumn;
+    }
+    
+    public int getEndLine() {
+        return endLine;
+    }
+    
+    public int getEndColumn() {
+        return endColumn;
+    }
+    
+    
+    private Node parent;
+    private Map<String,Object> attributes; 
+
+    public void setChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addChild(Node n) {
+        throw new UnsupportedOperationException();
+    }
+    
+    public void addChild(int i, Node n) {
+        throw new UnsupportedOperationException();
+    }
+    
+    public Node removeChild(int i) {
+        throw new UnsupportedOperationException();
+    }
+    
+    public boolean removeChild(Node n) {
+        return false;
+    }
+    
+    public int indexOf(Node n) {
+        return -1;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent = parent;
+    }
+    
+    public int getChildCount() {
+        return 0;
+    }
+    
+    public Node getChild(int i) {
+        return null;
+    }
+    
+    public List<Node> children() {
+        return Collections.emptyList();
+    }
+    
+    
+
+    public void open() {}
+
+    public void close() {}
+    
+    
+    public Object getAttribute(String name) {
+        return attributes == null ? null : attributes.get(name); 
+    }
+     
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<String, Object>();
+        }
+        attributes.put(name, value);
+    }
+     
+    public boolean hasAttribute(String name) {
+        return attributes == null ? false : attributes.containsKey(name);
+    }
+     
+    public Set<String> getAttributeNames() {
+        if (attributes == null) return Collections.emptySet();
+        return attributes.keySet();
+    }
+
+
+        
+                
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W0.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W0 extends Token {
+    public W0(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W1.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W1 extends Token {
+    public W1(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W10.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W10 extends Token {
+    public W10(int kind, String image) {
+        super(kind, image);
+    }
+}
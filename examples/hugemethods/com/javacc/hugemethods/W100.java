@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W100.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W100 extends Token {
+    public W100(int kind, String image) {
+        super(kind, image);
+    }
+}
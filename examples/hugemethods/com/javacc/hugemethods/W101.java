@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W101.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W101 extends Token {
+    public W101(int kind, String image) {
+        super(kind, image);
+    }
+}
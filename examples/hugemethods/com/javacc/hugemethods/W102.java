@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W102.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W102 extends Token {
+    public W102(int kind, String image) {
+        super(kind, image);
+    }
+}
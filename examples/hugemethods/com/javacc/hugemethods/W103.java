@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W103.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W103 extends Token {
+    public W103(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W104.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W104 extends Token {
+    public W104(int kind, String image) {
+        super(kind, image);
+    }
+}
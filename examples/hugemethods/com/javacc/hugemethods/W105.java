@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W105.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W105 extends Token {
+    public W105(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W106.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W106 extends Token {
+    public W106(int kind, String image) {
+        super(kind, image);
+    }
+}
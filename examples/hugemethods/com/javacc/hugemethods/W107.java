@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W107.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W107 extends Token {
+    public W107(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W108.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W108 extends Token {
+    public W108(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W109.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W109 extends Token {
+    public W109(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W11.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W11 extends Token {
+    public W11(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W110.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W110 extends Token {
+    public W110(int kind, String image) {
+        super(kind, image);
+    }
+}
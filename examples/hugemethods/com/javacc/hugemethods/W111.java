@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W111.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W111 extends Token {
+    public W111(int kind, String image) {
+        super(kind, image);
+    }
+}
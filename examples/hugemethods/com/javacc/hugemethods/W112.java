@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W112.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W112 extends Token {
+    public W112(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W113.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W113 extends Token {
+    public W113(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W114.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W114 extends Token {
+    public W114(int kind, String image) {
+        super(kind, image);
+    }
+}
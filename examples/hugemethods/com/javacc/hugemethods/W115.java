@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W115.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W115 extends Token {
+    public W115(int kind, String image) {
+        super(kind, image);
+    }
+}
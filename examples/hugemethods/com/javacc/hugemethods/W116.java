@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W116.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W116 extends Token {
+    public W116(int kind, String image) {
+        super(kind, image);
+    }
+}
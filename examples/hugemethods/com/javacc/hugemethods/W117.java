@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W117.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W117 extends Token {
+    public W117(int kind, String image) {
+        super(kind, image);
+    }
+}
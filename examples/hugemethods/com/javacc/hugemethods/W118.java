@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W118.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W118 extends Token {
+    public W118(int kind, String image) {
+        super(kind, image);
+    }
+}
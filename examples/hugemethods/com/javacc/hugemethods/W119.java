@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W119.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W119 extends Token {
+    public W119(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W12.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W12 extends Token {
+    public W12(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W120.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W120 extends Token {
+    public W120(int kind, String image) {
+        super(kind, image);
+    }
+}
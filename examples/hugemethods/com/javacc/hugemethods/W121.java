@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W121.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W121 extends Token {
+    public W121(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W122.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W122 extends Token {
+    public W122(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W123.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W123 extends Token {
+    public W123(int kind, String image) {
+        super(kind, image);
+    }
+}
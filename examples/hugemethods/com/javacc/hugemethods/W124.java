@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W124.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W124 extends Token {
+    public W124(int kind, String image) {
+        super(kind, image);
+    }
+}
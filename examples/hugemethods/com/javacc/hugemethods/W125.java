@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W125.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W125 extends Token {
+    public W125(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W126.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W126 extends Token {
+    public W126(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W127.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W127 extends Token {
+    public W127(int kind, String image) {
+        super(kind, image);
+    }
+}
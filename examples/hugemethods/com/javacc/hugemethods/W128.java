@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W128.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W128 extends Token {
+    public W128(int kind, String image) {
+        super(kind, image);
+    }
+}
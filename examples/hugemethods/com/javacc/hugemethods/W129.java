@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W129.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W129 extends Token {
+    public W129(int kind, String image) {
+        super(kind, image);
+    }
+}
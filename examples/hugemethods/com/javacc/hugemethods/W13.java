@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W13.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W13 extends Token {
+    public W13(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W130.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W130 extends Token {
+    public W130(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W131.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W131 extends Token {
+    public W131(int kind, String image) {
+        super(kind, image);
+    }
+}
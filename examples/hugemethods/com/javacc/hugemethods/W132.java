@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W132.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W132 extends Token {
+    public W132(int kind, String image) {
+        super(kind, image);
+    }
+}
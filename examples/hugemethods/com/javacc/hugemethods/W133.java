@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W133.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W133 extends Token {
+    public W133(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W134.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W134 extends Token {
+    public W134(int kind, String image) {
+        super(kind, image);
+    }
+}
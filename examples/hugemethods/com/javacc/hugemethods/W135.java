@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W135.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W135 extends Token {
+    public W135(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W136.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W136 extends Token {
+    public W136(int kind, String image) {
+        super(kind, image);
+    }
+}
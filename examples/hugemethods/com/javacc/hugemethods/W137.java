@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W137.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W137 extends Token {
+    public W137(int kind, String image) {
+        super(kind, image);
+    }
+}
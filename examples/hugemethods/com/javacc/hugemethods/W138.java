@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W138.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W138 extends Token {
+    public W138(int kind, String image) {
+        super(kind, image);
+    }
+}
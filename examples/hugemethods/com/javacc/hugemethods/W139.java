@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W139.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W139 extends Token {
+    public W139(int kind, String image) {
+        super(kind, image);
+    }
+}
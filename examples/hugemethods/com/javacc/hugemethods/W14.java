@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W14.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W14 extends Token {
+    public W14(int kind, String image) {
+        super(kind, image);
+    }
+}
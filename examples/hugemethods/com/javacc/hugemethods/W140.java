@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W140.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W140 extends Token {
+    public W140(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W141.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W141 extends Token {
+    public W141(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W142.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W142 extends Token {
+    public W142(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W143.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W143 extends Token {
+    public W143(int kind, String image) {
+        super(kind, image);
+    }
+}
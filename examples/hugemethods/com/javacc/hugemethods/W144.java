@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W144.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W144 extends Token {
+    public W144(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W145.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W145 extends Token {
+    public W145(int kind, String image) {
+        super(kind, image);
+    }
+}
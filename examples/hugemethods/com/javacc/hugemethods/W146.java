@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W146.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W146 extends Token {
+    public W146(int kind, String image) {
+        super(kind, image);
+    }
+}
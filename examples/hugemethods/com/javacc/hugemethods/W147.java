@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W147.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W147 extends Token {
+    public W147(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W148.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W148 extends Token {
+    public W148(int kind, String image) {
+        super(kind, image);
+    }
+}
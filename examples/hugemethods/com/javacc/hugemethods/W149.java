@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W149.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W149 extends Token {
+    public W149(int kind, String image) {
+        super(kind, image);
+    }
+}
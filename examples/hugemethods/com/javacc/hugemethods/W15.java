@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W15.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W15 extends Token {
+    public W15(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W150.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W150 extends Token {
+    public W150(int kind, String image) {
+        super(kind, image);
+    }
+}
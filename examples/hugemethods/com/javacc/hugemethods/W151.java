@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W151.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W151 extends Token {
+    public W151(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W152.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W152 extends Token {
+    public W152(int kind, String image) {
+        super(kind, image);
+    }
+}
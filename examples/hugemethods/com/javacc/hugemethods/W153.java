@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W153.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W153 extends Token {
+    public W153(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W154.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W154 extends Token {
+    public W154(int kind, String image) {
+        super(kind, image);
+    }
+}
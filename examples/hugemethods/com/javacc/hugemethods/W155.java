@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W155.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W155 extends Token {
+    public W155(int kind, String image) {
+        super(kind, image);
+    }
+}
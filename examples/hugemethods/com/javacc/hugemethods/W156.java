@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W156.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W156 extends Token {
+    public W156(int kind, String image) {
+        super(kind, image);
+    }
+}
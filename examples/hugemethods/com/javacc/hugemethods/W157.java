@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W157.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W157 extends Token {
+    public W157(int kind, String image) {
+        super(kind, image);
+    }
+}
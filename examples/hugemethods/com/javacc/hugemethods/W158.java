@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W158.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W158 extends Token {
+    public W158(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W159.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W159 extends Token {
+    public W159(int kind, String image) {
+        super(kind, image);
+    }
+}
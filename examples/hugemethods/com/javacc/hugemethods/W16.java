@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W16.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W16 extends Token {
+    public W16(int kind, String image) {
+        super(kind, image);
+    }
+}
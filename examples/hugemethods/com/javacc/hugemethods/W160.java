@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W160.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W160 extends Token {
+    public W160(int kind, String image) {
+        super(kind, image);
+    }
+}
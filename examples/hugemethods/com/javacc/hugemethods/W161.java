@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W161.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W161 extends Token {
+    public W161(int kind, String image) {
+        super(kind, image);
+    }
+}
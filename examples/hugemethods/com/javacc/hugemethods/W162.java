@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W162.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W162 extends Token {
+    public W162(int kind, String image) {
+        super(kind, image);
+    }
+}
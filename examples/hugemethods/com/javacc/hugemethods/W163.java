@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W163.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W163 extends Token {
+    public W163(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W164.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W164 extends Token {
+    public W164(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W165.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W165 extends Token {
+    public W165(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W166.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W166 extends Token {
+    public W166(int kind, String image) {
+        super(kind, image);
+    }
+}
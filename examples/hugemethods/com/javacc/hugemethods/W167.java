@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W167.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W167 extends Token {
+    public W167(int kind, String image) {
+        super(kind, image);
+    }
+}
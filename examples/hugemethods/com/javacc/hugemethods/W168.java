@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W168.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W168 extends Token {
+    public W168(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W169.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W169 extends Token {
+    public W169(int kind, String image) {
+        super(kind, image);
+    }
+}
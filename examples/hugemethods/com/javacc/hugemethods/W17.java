@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W17.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W17 extends Token {
+    public W17(int kind, String image) {
+        super(kind, image);
+    }
+}
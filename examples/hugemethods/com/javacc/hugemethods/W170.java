@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W170.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W170 extends Token {
+    public W170(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W171.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W171 extends Token {
+    public W171(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W172.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W172 extends Token {
+    public W172(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W173.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W173 extends Token {
+    public W173(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W174.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W174 extends Token {
+    public W174(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W175.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W175 extends Token {
+    public W175(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W176.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W176 extends Token {
+    public W176(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W177.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W177 extends Token {
+    public W177(int kind, String image) {
+        super(kind, image);
+    }
+}
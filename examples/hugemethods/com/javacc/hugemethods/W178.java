@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W178.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W178 extends Token {
+    public W178(int kind, String image) {
+        super(kind, image);
+    }
+}
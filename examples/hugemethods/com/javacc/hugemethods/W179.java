@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W179.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W179 extends Token {
+    public W179(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W18.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W18 extends Token {
+    public W18(int kind, String image) {
+        super(kind, image);
+    }
+}
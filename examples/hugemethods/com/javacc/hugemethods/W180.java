@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W180.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W180 extends Token {
+    public W180(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W181.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W181 extends Token {
+    public W181(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W182.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W182 extends Token {
+    public W182(int kind, String image) {
+        super(kind, image);
+    }
+}
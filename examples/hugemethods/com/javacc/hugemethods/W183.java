@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W183.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W183 extends Token {
+    public W183(int kind, String image) {
+        super(kind, image);
+    }
+}
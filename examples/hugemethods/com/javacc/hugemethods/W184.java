@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W184.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W184 extends Token {
+    public W184(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W185.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W185 extends Token {
+    public W185(int kind, String image) {
+        super(kind, image);
+    }
+}
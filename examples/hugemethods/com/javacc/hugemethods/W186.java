@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W186.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W186 extends Token {
+    public W186(int kind, String image) {
+        super(kind, image);
+    }
+}
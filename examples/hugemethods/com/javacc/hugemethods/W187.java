@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W187.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W187 extends Token {
+    public W187(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W188.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W188 extends Token {
+    public W188(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W189.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W189 extends Token {
+    public W189(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W19.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W19 extends Token {
+    public W19(int kind, String image) {
+        super(kind, image);
+    }
+}
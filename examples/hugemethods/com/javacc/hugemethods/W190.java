@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W190.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W190 extends Token {
+    public W190(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W191.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W191 extends Token {
+    public W191(int kind, String image) {
+        super(kind, image);
+    }
+}
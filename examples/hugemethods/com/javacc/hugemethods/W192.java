@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W192.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W192 extends Token {
+    public W192(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W193.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W193 extends Token {
+    public W193(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W194.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W194 extends Token {
+    public W194(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W195.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W195 extends Token {
+    public W195(int kind, String image) {
+        super(kind, image);
+    }
+}
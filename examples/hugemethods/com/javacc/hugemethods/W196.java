@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W196.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W196 extends Token {
+    public W196(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W197.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W197 extends Token {
+    public W197(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W198.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W198 extends Token {
+    public W198(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W199.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W199 extends Token {
+    public W199(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W2.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W2 extends Token {
+    public W2(int kind, String image) {
+        super(kind, image);
+    }
+}
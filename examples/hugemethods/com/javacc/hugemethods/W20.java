@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W20.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W20 extends Token {
+    public W20(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W200.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W200 extends Token {
+    public W200(int kind, String image) {
+        super(kind, image);
+    }
+}
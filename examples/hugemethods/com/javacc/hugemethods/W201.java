@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W201.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W201 extends Token {
+    public W201(int kind, String image) {
+        super(kind, image);
+    }
+}
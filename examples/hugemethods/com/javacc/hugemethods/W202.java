@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W202.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W202 extends Token {
+    public W202(int kind, String image) {
+        super(kind, image);
+    }
+}
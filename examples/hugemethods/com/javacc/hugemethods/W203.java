@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W203.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W203 extends Token {
+    public W203(int kind, String image) {
+        super(kind, image);
+    }
+}
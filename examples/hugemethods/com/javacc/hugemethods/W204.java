@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W204.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W204 extends Token {
+    public W204(int kind, String image) {
+        super(kind, image);
+    }
+}
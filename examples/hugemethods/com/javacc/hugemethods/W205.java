@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W205.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W205 extends Token {
+    public W205(int kind, String image) {
+        super(kind, image);
+    }
+}
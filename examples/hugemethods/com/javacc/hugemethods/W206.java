@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W206.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W206 extends Token {
+    public W206(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W207.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W207 extends Token {
+    public W207(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W208.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W208 extends Token {
+    public W208(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W209.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W209 extends Token {
+    public W209(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W21.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W21 extends Token {
+    public W21(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W210.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W210 extends Token {
+    public W210(int kind, String image) {
+        super(kind, image);
+    }
+}
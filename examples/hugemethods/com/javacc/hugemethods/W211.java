@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W211.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W211 extends Token {
+    public W211(int kind, String image) {
+        super(kind, image);
+    }
+}
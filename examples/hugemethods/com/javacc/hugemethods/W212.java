@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W212.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W212 extends Token {
+    public W212(int kind, String image) {
+        super(kind, image);
+    }
+}
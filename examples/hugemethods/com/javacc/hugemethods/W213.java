@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W213.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W213 extends Token {
+    public W213(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W214.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W214 extends Token {
+    public W214(int kind, String image) {
+        super(kind, image);
+    }
+}
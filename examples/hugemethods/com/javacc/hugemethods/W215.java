@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W215.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W215 extends Token {
+    public W215(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W216.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W216 extends Token {
+    public W216(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W217.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W217 extends Token {
+    public W217(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W218.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W218 extends Token {
+    public W218(int kind, String image) {
+        super(kind, image);
+    }
+}
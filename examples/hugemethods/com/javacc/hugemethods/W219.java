@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W219.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W219 extends Token {
+    public W219(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W22.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W22 extends Token {
+    public W22(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W220.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W220 extends Token {
+    public W220(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W221.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W221 extends Token {
+    public W221(int kind, String image) {
+        super(kind, image);
+    }
+}
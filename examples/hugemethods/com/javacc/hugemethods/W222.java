@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W222.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W222 extends Token {
+    public W222(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W223.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W223 extends Token {
+    public W223(int kind, String image) {
+        super(kind, image);
+    }
+}
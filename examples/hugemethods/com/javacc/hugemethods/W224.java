@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W224.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W224 extends Token {
+    public W224(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W225.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W225 extends Token {
+    public W225(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W226.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W226 extends Token {
+    public W226(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W227.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W227 extends Token {
+    public W227(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W228.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W228 extends Token {
+    public W228(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W229.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W229 extends Token {
+    public W229(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W23.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W23 extends Token {
+    public W23(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W230.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W230 extends Token {
+    public W230(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W231.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W231 extends Token {
+    public W231(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W232.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W232 extends Token {
+    public W232(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W233.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W233 extends Token {
+    public W233(int kind, String image) {
+        super(kind, image);
+    }
+}
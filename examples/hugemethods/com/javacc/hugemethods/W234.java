@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W234.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W234 extends Token {
+    public W234(int kind, String image) {
+        super(kind, image);
+    }
+}
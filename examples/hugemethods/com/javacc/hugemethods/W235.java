@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W235.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W235 extends Token {
+    public W235(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W236.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W236 extends Token {
+    public W236(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W237.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W237 extends Token {
+    public W237(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W238.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W238 extends Token {
+    public W238(int kind, String image) {
+        super(kind, image);
+    }
+}
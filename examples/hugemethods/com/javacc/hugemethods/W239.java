@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W239.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W239 extends Token {
+    public W239(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W24.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W24 extends Token {
+    public W24(int kind, String image) {
+        super(kind, image);
+    }
+}
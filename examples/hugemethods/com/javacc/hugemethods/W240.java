@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W240.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W240 extends Token {
+    public W240(int kind, String image) {
+        super(kind, image);
+    }
+}
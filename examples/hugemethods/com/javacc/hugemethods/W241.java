@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W241.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W241 extends Token {
+    public W241(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W242.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W242 extends Token {
+    public W242(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W243.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W243 extends Token {
+    public W243(int kind, String image) {
+        super(kind, image);
+    }
+}
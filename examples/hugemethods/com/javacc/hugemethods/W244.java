@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W244.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W244 extends Token {
+    public W244(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W245.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W245 extends Token {
+    public W245(int kind, String image) {
+        super(kind, image);
+    }
+}
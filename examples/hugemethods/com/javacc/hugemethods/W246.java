@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W246.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W246 extends Token {
+    public W246(int kind, String image) {
+        super(kind, image);
+    }
+}
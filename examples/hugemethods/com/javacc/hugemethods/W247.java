@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W247.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W247 extends Token {
+    public W247(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W248.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W248 extends Token {
+    public W248(int kind, String image) {
+        super(kind, image);
+    }
+}
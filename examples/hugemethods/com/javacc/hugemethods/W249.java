@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W249.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W249 extends Token {
+    public W249(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W25.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W25 extends Token {
+    public W25(int kind, String image) {
+        super(kind, image);
+    }
+}
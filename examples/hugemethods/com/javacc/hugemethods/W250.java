@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W250.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W250 extends Token {
+    public W250(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W251.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W251 extends Token {
+    public W251(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W252.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W252 extends Token {
+    public W252(int kind, String image) {
+        super(kind, image);
+    }
+}
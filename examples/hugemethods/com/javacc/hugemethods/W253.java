@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W253.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W253 extends Token {
+    public W253(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W254.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W254 extends Token {
+    public W254(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W255.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W255 extends Token {
+    public W255(int kind, String image) {
+        super(kind, image);
+    }
+}
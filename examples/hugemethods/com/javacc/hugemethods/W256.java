@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W256.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W256 extends Token {
+    public W256(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W257.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W257 extends Token {
+    public W257(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W258.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W258 extends Token {
+    public W258(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W259.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W259 extends Token {
+    public W259(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W26.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W26 extends Token {
+    public W26(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W260.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W260 extends Token {
+    public W260(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W261.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W261 extends Token {
+    public W261(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W262.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W262 extends Token {
+    public W262(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W263.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W263 extends Token {
+    public W263(int kind, String image) {
+        super(kind, image);
+    }
+}
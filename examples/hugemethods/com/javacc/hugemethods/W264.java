@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W264.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W264 extends Token {
+    public W264(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W265.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W265 extends Token {
+    public W265(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W266.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W266 extends Token {
+    public W266(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W267.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W267 extends Token {
+    public W267(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W268.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W268 extends Token {
+    public W268(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W269.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W269 extends Token {
+    public W269(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W27.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W27 extends Token {
+    public W27(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W270.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W270 extends Token {
+    public W270(int kind, String image) {
+        super(kind, image);
+    }
+}
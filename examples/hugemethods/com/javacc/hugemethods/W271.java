@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W271.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W271 extends Token {
+    public W271(int kind, String image) {
+        super(kind, image);
+    }
+}
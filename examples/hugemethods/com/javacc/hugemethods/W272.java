@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W272.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W272 extends Token {
+    public W272(int kind, String image) {
+        super(kind, image);
+    }
+}
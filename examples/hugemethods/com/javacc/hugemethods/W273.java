@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W273.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W273 extends Token {
+    public W273(int kind, String image) {
+        super(kind, image);
+    }
+}
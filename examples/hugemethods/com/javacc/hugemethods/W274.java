@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W274.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W274 extends Token {
+    public W274(int kind, String image) {
+        super(kind, image);
+    }
+}
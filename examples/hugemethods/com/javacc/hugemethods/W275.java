@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W275.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W275 extends Token {
+    public W275(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W276.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W276 extends Token {
+    public W276(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W277.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W277 extends Token {
+    public W277(int kind, String image) {
+        super(kind, image);
+    }
+}
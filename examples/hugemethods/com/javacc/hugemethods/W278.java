@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W278.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W278 extends Token {
+    public W278(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W279.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W279 extends Token {
+    public W279(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W28.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W28 extends Token {
+    public W28(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W280.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W280 extends Token {
+    public W280(int kind, String image) {
+        super(kind, image);
+    }
+}
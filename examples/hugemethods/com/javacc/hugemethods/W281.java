@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W281.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W281 extends Token {
+    public W281(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W282.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W282 extends Token {
+    public W282(int kind, String image) {
+        super(kind, image);
+    }
+}
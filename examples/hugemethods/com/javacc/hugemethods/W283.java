@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W283.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W283 extends Token {
+    public W283(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W284.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W284 extends Token {
+    public W284(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W285.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W285 extends Token {
+    public W285(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W286.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W286 extends Token {
+    public W286(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W287.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W287 extends Token {
+    public W287(int kind, String image) {
+        super(kind, image);
+    }
+}
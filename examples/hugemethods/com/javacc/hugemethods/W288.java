@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W288.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W288 extends Token {
+    public W288(int kind, String image) {
+        super(kind, image);
+    }
+}
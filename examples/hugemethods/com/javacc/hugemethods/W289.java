@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W289.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W289 extends Token {
+    public W289(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W29.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W29 extends Token {
+    public W29(int kind, String image) {
+        super(kind, image);
+    }
+}
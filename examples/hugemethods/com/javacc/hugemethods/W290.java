@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W290.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W290 extends Token {
+    public W290(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W291.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W291 extends Token {
+    public W291(int kind, String image) {
+        super(kind, image);
+    }
+}
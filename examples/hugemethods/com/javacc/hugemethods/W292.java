@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W292.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W292 extends Token {
+    public W292(int kind, String image) {
+        super(kind, image);
+    }
+}
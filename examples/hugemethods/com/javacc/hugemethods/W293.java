@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W293.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W293 extends Token {
+    public W293(int kind, String image) {
+        super(kind, image);
+    }
+}
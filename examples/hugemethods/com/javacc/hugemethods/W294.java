@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W294.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W294 extends Token {
+    public W294(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W295.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W295 extends Token {
+    public W295(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W296.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W296 extends Token {
+    public W296(int kind, String image) {
+        super(kind, image);
+    }
+}
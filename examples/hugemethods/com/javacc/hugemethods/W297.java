@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W297.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W297 extends Token {
+    public W297(int kind, String image) {
+        super(kind, image);
+    }
+}
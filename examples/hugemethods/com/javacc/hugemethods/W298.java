@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W298.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W298 extends Token {
+    public W298(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W299.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W299 extends Token {
+    public W299(int kind, String image) {
+        super(kind, image);
+    }
+}
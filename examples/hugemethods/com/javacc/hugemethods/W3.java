@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W3.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W3 extends Token {
+    public W3(int kind, String image) {
+        super(kind, image);
+    }
+}
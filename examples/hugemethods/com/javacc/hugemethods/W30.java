@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W30.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W30 extends Token {
+    public W30(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W300.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W300 extends Token {
+    public W300(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W301.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W301 extends Token {
+    public W301(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W302.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W302 extends Token {
+    public W302(int kind, String image) {
+        super(kind, image);
+    }
+}
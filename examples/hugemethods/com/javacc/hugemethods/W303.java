@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W303.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W303 extends Token {
+    public W303(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W304.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W304 extends Token {
+    public W304(int kind, String image) {
+        super(kind, image);
+    }
+}
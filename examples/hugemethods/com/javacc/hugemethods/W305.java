@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W305.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W305 extends Token {
+    public W305(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W306.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W306 extends Token {
+    public W306(int kind, String image) {
+        super(kind, image);
+    }
+}
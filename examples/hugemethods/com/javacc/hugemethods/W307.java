@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W307.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W307 extends Token {
+    public W307(int kind, String image) {
+        super(kind, image);
+    }
+}
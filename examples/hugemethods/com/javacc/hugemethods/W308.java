@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W308.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W308 extends Token {
+    public W308(int kind, String image) {
+        super(kind, image);
+    }
+}
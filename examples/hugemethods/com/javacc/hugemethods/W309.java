@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W309.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W309 extends Token {
+    public W309(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W31.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W31 extends Token {
+    public W31(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W310.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W310 extends Token {
+    public W310(int kind, String image) {
+        super(kind, image);
+    }
+}
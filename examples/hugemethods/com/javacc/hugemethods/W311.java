@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W311.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W311 extends Token {
+    public W311(int kind, String image) {
+        super(kind, image);
+    }
+}
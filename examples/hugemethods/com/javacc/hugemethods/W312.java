@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W312.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W312 extends Token {
+    public W312(int kind, String image) {
+        super(kind, image);
+    }
+}
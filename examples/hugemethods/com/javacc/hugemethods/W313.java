@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W313.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W313 extends Token {
+    public W313(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W314.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W314 extends Token {
+    public W314(int kind, String image) {
+        super(kind, image);
+    }
+}
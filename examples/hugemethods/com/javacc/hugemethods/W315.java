@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W315.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W315 extends Token {
+    public W315(int kind, String image) {
+        super(kind, image);
+    }
+}
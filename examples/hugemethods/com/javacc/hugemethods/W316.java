@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W316.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W316 extends Token {
+    public W316(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W317.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W317 extends Token {
+    public W317(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W318.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W318 extends Token {
+    public W318(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W319.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W319 extends Token {
+    public W319(int kind, String image) {
+        super(kind, image);
+    }
+}
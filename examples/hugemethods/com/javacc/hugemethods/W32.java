@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W32.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W32 extends Token {
+    public W32(int kind, String image) {
+        super(kind, image);
+    }
+}
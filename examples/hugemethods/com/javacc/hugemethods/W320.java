@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W320.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W320 extends Token {
+    public W320(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W321.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W321 extends Token {
+    public W321(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W322.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W322 extends Token {
+    public W322(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W323.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W323 extends Token {
+    public W323(int kind, String image) {
+        super(kind, image);
+    }
+}
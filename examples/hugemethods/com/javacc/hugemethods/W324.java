@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W324.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W324 extends Token {
+    public W324(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W325.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W325 extends Token {
+    public W325(int kind, String image) {
+        super(kind, image);
+    }
+}
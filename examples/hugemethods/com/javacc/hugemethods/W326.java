@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W326.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W326 extends Token {
+    public W326(int kind, String image) {
+        super(kind, image);
+    }
+}
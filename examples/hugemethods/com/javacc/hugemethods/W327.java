@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W327.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W327 extends Token {
+    public W327(int kind, String image) {
+        super(kind, image);
+    }
+}
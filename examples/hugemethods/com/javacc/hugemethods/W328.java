@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W328.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W328 extends Token {
+    public W328(int kind, String image) {
+        super(kind, image);
+    }
+}
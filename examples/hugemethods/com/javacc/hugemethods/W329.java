@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W329.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W329 extends Token {
+    public W329(int kind, String image) {
+        super(kind, image);
+    }
+}
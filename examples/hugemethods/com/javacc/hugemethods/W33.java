@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W33.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W33 extends Token {
+    public W33(int kind, String image) {
+        super(kind, image);
+    }
+}
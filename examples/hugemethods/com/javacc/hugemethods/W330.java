@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W330.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W330 extends Token {
+    public W330(int kind, String image) {
+        super(kind, image);
+    }
+}
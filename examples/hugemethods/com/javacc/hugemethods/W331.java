@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W331.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W331 extends Token {
+    public W331(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W332.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W332 extends Token {
+    public W332(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W333.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W333 extends Token {
+    public W333(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W334.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W334 extends Token {
+    public W334(int kind, String image) {
+        super(kind, image);
+    }
+}
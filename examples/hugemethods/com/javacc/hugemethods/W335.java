@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W335.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W335 extends Token {
+    public W335(int kind, String image) {
+        super(kind, image);
+    }
+}
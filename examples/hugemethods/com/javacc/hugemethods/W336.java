@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W336.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W336 extends Token {
+    public W336(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W337.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W337 extends Token {
+    public W337(int kind, String image) {
+        super(kind, image);
+    }
+}
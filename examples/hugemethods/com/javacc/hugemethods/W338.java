@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W338.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W338 extends Token {
+    public W338(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W339.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W339 extends Token {
+    public W339(int kind, String image) {
+        super(kind, image);
+    }
+}
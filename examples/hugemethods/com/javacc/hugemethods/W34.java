@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W34.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W34 extends Token {
+    public W34(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W340.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W340 extends Token {
+    public W340(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W341.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W341 extends Token {
+    public W341(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W342.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W342 extends Token {
+    public W342(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W343.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W343 extends Token {
+    public W343(int kind, String image) {
+        super(kind, image);
+    }
+}
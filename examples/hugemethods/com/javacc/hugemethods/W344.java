@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W344.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W344 extends Token {
+    public W344(int kind, String image) {
+        super(kind, image);
+    }
+}
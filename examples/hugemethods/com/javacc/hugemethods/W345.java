@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W345.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W345 extends Token {
+    public W345(int kind, String image) {
+        super(kind, image);
+    }
+}
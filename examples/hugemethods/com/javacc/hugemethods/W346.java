@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W346.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W346 extends Token {
+    public W346(int kind, String image) {
+        super(kind, image);
+    }
+}
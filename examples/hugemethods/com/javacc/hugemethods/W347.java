@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W347.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W347 extends Token {
+    public W347(int kind, String image) {
+        super(kind, image);
+    }
+}
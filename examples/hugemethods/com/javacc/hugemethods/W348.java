@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W348.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W348 extends Token {
+    public W348(int kind, String image) {
+        super(kind, image);
+    }
+}
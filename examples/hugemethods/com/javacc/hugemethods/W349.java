@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W349.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W349 extends Token {
+    public W349(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W35.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W35 extends Token {
+    public W35(int kind, String image) {
+        super(kind, image);
+    }
+}
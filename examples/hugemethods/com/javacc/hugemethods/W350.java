@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W350.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W350 extends Token {
+    public W350(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W351.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W351 extends Token {
+    public W351(int kind, String image) {
+        super(kind, image);
+    }
+}
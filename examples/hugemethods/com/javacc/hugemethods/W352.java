@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W352.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W352 extends Token {
+    public W352(int kind, String image) {
+        super(kind, image);
+    }
+}
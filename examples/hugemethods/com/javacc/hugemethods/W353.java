@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W353.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W353 extends Token {
+    public W353(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W354.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W354 extends Token {
+    public W354(int kind, String image) {
+        super(kind, image);
+    }
+}
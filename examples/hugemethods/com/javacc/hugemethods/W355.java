@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W355.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W355 extends Token {
+    public W355(int kind, String image) {
+        super(kind, image);
+    }
+}
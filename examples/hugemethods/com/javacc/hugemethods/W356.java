@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W356.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W356 extends Token {
+    public W356(int kind, String image) {
+        super(kind, image);
+    }
+}
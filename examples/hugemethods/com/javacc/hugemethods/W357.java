@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W357.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W357 extends Token {
+    public W357(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W358.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W358 extends Token {
+    public W358(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W359.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W359 extends Token {
+    public W359(int kind, String image) {
+        super(kind, image);
+    }
+}
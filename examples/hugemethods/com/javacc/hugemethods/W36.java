@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W36.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W36 extends Token {
+    public W36(int kind, String image) {
+        super(kind, image);
+    }
+}
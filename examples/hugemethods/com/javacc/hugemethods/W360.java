@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W360.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W360 extends Token {
+    public W360(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W361.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W361 extends Token {
+    public W361(int kind, String image) {
+        super(kind, image);
+    }
+}
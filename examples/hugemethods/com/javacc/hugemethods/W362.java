@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W362.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W362 extends Token {
+    public W362(int kind, String image) {
+        super(kind, image);
+    }
+}
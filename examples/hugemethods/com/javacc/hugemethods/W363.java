@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W363.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W363 extends Token {
+    public W363(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W364.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W364 extends Token {
+    public W364(int kind, String image) {
+        super(kind, image);
+    }
+}
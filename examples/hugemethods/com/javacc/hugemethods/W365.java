@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W365.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W365 extends Token {
+    public W365(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W366.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W366 extends Token {
+    public W366(int kind, String image) {
+        super(kind, image);
+    }
+}
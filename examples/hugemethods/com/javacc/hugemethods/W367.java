@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W367.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W367 extends Token {
+    public W367(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W368.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W368 extends Token {
+    public W368(int kind, String image) {
+        super(kind, image);
+    }
+}
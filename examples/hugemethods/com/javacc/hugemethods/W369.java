@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W369.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W369 extends Token {
+    public W369(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W37.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W37 extends Token {
+    public W37(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W370.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W370 extends Token {
+    public W370(int kind, String image) {
+        super(kind, image);
+    }
+}
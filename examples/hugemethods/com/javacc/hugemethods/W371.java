@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W371.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W371 extends Token {
+    public W371(int kind, String image) {
+        super(kind, image);
+    }
+}
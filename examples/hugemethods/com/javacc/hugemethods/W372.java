@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W372.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W372 extends Token {
+    public W372(int kind, String image) {
+        super(kind, image);
+    }
+}
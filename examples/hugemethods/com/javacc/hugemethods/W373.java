@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W373.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W373 extends Token {
+    public W373(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W374.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W374 extends Token {
+    public W374(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W375.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W375 extends Token {
+    public W375(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W376.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W376 extends Token {
+    public W376(int kind, String image) {
+        super(kind, image);
+    }
+}
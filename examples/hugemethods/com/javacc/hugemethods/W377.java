@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W377.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W377 extends Token {
+    public W377(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W378.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W378 extends Token {
+    public W378(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W379.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W379 extends Token {
+    public W379(int kind, String image) {
+        super(kind, image);
+    }
+}
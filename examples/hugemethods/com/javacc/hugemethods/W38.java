@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W38.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W38 extends Token {
+    public W38(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W380.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W380 extends Token {
+    public W380(int kind, String image) {
+        super(kind, image);
+    }
+}
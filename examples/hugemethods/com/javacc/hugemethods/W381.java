@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W381.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W381 extends Token {
+    public W381(int kind, String image) {
+        super(kind, image);
+    }
+}
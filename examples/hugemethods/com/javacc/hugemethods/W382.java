@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W382.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W382 extends Token {
+    public W382(int kind, String image) {
+        super(kind, image);
+    }
+}
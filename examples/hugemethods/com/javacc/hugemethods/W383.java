@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W383.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W383 extends Token {
+    public W383(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W384.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W384 extends Token {
+    public W384(int kind, String image) {
+        super(kind, image);
+    }
+}
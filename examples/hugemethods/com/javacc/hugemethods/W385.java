@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W385.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W385 extends Token {
+    public W385(int kind, String image) {
+        super(kind, image);
+    }
+}
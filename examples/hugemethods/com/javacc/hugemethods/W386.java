@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W386.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W386 extends Token {
+    public W386(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W387.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W387 extends Token {
+    public W387(int kind, String image) {
+        super(kind, image);
+    }
+}
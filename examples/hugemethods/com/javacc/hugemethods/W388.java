@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W388.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W388 extends Token {
+    public W388(int kind, String image) {
+        super(kind, image);
+    }
+}
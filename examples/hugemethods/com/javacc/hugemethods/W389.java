@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W389.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W389 extends Token {
+    public W389(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W39.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W39 extends Token {
+    public W39(int kind, String image) {
+        super(kind, image);
+    }
+}
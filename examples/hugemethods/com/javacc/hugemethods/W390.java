@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W390.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W390 extends Token {
+    public W390(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W391.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W391 extends Token {
+    public W391(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W392.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W392 extends Token {
+    public W392(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W393.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W393 extends Token {
+    public W393(int kind, String image) {
+        super(kind, image);
+    }
+}
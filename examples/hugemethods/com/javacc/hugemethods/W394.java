@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W394.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W394 extends Token {
+    public W394(int kind, String image) {
+        super(kind, image);
+    }
+}
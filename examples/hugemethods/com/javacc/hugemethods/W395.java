@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W395.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W395 extends Token {
+    public W395(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W396.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W396 extends Token {
+    public W396(int kind, String image) {
+        super(kind, image);
+    }
+}
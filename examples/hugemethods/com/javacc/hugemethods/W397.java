@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W397.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W397 extends Token {
+    public W397(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W398.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W398 extends Token {
+    public W398(int kind, String image) {
+        super(kind, image);
+    }
+}
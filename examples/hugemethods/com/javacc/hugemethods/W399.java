@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W399.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W399 extends Token {
+    public W399(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W4.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W4 extends Token {
+    public W4(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W40.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W40 extends Token {
+    public W40(int kind, String image) {
+        super(kind, image);
+    }
+}
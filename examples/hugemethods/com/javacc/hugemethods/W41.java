@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W41.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W41 extends Token {
+    public W41(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W42.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W42 extends Token {
+    public W42(int kind, String image) {
+        super(kind, image);
+    }
+}
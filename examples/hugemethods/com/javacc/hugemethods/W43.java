@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W43.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W43 extends Token {
+    public W43(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W44.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W44 extends Token {
+    public W44(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W45.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W45 extends Token {
+    public W45(int kind, String image) {
+        super(kind, image);
+    }
+}
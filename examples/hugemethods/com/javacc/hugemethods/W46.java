@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W46.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W46 extends Token {
+    public W46(int kind, String image) {
+        super(kind, image);
+    }
+}
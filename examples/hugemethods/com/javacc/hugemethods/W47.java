@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W47.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W47 extends Token {
+    public W47(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W48.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W48 extends Token {
+    public W48(int kind, String image) {
+        super(kind, image);
+    }
+}
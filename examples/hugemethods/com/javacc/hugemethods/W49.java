@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W49.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W49 extends Token {
+    public W49(int kind, String image) {
+        super(kind, image);
+    }
+}
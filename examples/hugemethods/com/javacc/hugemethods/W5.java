@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W5.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W5 extends Token {
+    public W5(int kind, String image) {
+        super(kind, image);
+    }
+}
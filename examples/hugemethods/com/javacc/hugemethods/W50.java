@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W50.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W50 extends Token {
+    public W50(int kind, String image) {
+        super(kind, image);
+    }
+}
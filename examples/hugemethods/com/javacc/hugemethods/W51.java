@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W51.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W51 extends Token {
+    public W51(int kind, String image) {
+        super(kind, image);
+    }
+}
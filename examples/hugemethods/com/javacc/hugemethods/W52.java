@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W52.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W52 extends Token {
+    public W52(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W53.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W53 extends Token {
+    public W53(int kind, String image) {
+        super(kind, image);
+    }
+}
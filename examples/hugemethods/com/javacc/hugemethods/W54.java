@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W54.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W54 extends Token {
+    public W54(int kind, String image) {
+        super(kind, image);
+    }
+}
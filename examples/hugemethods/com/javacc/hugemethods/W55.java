@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W55.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W55 extends Token {
+    public W55(int kind, String image) {
+        super(kind, image);
+    }
+}
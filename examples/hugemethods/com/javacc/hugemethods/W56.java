@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W56.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W56 extends Token {
+    public W56(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W57.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W57 extends Token {
+    public W57(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W58.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W58 extends Token {
+    public W58(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W59.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W59 extends Token {
+    public W59(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W6.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W6 extends Token {
+    public W6(int kind, String image) {
+        super(kind, image);
+    }
+}
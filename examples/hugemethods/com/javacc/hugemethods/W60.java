@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W60.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W60 extends Token {
+    public W60(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W61.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W61 extends Token {
+    public W61(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W62.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W62 extends Token {
+    public W62(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W63.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W63 extends Token {
+    public W63(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W64.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W64 extends Token {
+    public W64(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W65.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W65 extends Token {
+    public W65(int kind, String image) {
+        super(kind, image);
+    }
+}
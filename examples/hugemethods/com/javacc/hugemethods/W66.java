@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W66.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W66 extends Token {
+    public W66(int kind, String image) {
+        super(kind, image);
+    }
+}
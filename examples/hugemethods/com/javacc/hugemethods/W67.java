@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W67.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W67 extends Token {
+    public W67(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W68.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W68 extends Token {
+    public W68(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W69.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W69 extends Token {
+    public W69(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W7.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W7 extends Token {
+    public W7(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W70.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W70 extends Token {
+    public W70(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W71.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W71 extends Token {
+    public W71(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W72.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W72 extends Token {
+    public W72(int kind, String image) {
+        super(kind, image);
+    }
+}
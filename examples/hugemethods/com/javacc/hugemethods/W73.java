@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W73.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W73 extends Token {
+    public W73(int kind, String image) {
+        super(kind, image);
+    }
+}
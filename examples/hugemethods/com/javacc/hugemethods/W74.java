@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W74.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W74 extends Token {
+    public W74(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W75.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W75 extends Token {
+    public W75(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W76.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W76 extends Token {
+    public W76(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W77.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W77 extends Token {
+    public W77(int kind, String image) {
+        super(kind, image);
+    }
+}
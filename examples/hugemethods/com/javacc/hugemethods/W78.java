@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W78.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W78 extends Token {
+    public W78(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W79.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W79 extends Token {
+    public W79(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W8.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W8 extends Token {
+    public W8(int kind, String image) {
+        super(kind, image);
+    }
+}
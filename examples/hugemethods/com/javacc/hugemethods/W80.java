@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W80.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W80 extends Token {
+    public W80(int kind, String image) {
+        super(kind, image);
+    }
+}
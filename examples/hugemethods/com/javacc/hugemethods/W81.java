@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W81.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W81 extends Token {
+    public W81(int kind, String image) {
+        super(kind, image);
+    }
+}
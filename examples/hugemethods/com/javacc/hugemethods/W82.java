@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W82.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W82 extends Token {
+    public W82(int kind, String image) {
+        super(kind, image);
+    }
+}
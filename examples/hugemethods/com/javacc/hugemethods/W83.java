@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W83.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W83 extends Token {
+    public W83(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W84.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W84 extends Token {
+    public W84(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W85.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W85 extends Token {
+    public W85(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W86.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W86 extends Token {
+    public W86(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W87.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W87 extends Token {
+    public W87(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W88.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W88 extends Token {
+    public W88(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W89.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W89 extends Token {
+    public W89(int kind, String image) {
+        super(kind, image);
+    }
+}
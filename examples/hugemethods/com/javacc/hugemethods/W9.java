@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W9.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W9 extends Token {
+    public W9(int kind, String image) {
+        super(kind, image);
+    }
+}
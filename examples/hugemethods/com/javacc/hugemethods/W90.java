@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W90.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W90 extends Token {
+    public W90(int kind, String image) {
+        super(kind, image);
+    }
+}
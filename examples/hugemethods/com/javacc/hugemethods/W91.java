@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W91.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W91 extends Token {
+    public W91(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W92.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W92 extends Token {
+    public W92(int kind, String image) {
+        super(kind, image);
+    }
+}
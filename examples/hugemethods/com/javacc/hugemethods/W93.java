@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W93.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W93 extends Token {
+    public W93(int kind, String image) {
+        super(kind, image);
+    }
+}
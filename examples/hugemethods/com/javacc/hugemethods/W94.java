@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W94.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W94 extends Token {
+    public W94(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W95.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W95 extends Token {
+    public W95(int kind, String image) {
+        super(kind, image);
+    }
+}
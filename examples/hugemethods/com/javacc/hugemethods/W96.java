@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W96.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W96 extends Token {
+    public W96(int kind, String image) {
+        super(kind, image);
+    }
+}
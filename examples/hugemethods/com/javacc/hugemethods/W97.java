@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W97.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W97 extends Token {
+    public W97(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W98.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W98 extends Token {
+    public W98(int kind, String image) {
+        super(kind, image);
+    }
+}
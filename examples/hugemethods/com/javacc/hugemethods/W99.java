@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. W99.java */
+package com.javacc.hugemethods;
+
+
+@SuppressWarnings("unused")
+public class W99 extends Token {
+    public W99(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+package com.javacc.javaparser;
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+ 
+public class InvalidToken extends Token {
+
+    public InvalidToken(String image) {
+       super(JavaConstants.INVALID, image);
+    }
+    
+    public InvalidToken() {
+       super(JavaConstants.INVALID);
+    }
+    
+    public String getNormalizedText() {
+        return "Lexically Invalid Input:" + image;
+    }
+    
+    public boolean isDirty() {
+        return true;
+    }
+}
@@ -0,0 +1,638 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JavaConstants.java */
+package com.javacc.javaparser;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface JavaConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int WHITESPACE = 1;
+  int SINGLE_LINE_COMMENT = 5;
+  int FORMAL_COMMENT = 6;
+  int MULTI_LINE_COMMENT = 7;
+  int ABSTRACT = 9;
+  int ASSERT = 10;
+  int BOOLEAN = 11;
+  int BREAK = 12;
+  int BYTE = 13;
+  int CASE = 14;
+  int CATCH = 15;
+  int CHAR = 16;
+  int CLASS = 17;
+  int CONST = 18;
+  int CONTINUE = 19;
+  int _DEFAULT = 20;
+  int DO = 21;
+  int DOUBLE = 22;
+  int ELSE = 23;
+  int ENUM = 24;
+  int EXTENDS = 25;
+  int FALSE = 26;
+  int FINAL = 27;
+  int FINALLY = 28;
+  int FLOAT = 29;
+  int FOR = 30;
+  int GOTO = 31;
+  int IF = 32;
+  int IMPLEMENTS = 33;
+  int IMPORT = 34;
+  int INSTANCEOF = 35;
+  int INT = 36;
+  int INTERFACE = 37;
+  int LONG = 38;
+  int NATIVE = 39;
+  int NEW = 40;
+  int NULL = 41;
+  int PACKAGE = 42;
+  int PRIVATE = 43;
+  int PROTECTED = 44;
+  int PUBLIC = 45;
+  int RETURN = 46;
+  int SHORT = 47;
+  int STATIC = 48;
+  int STRICTFP = 49;
+  int SUPER = 50;
+  int SWITCH = 51;
+  int SYNCHRONIZED = 52;
+  int THIS = 53;
+  int THROW = 54;
+  int THROWS = 55;
+  int TRANSIENT = 56;
+  int TRUE = 57;
+  int TRY = 58;
+  int VOID = 59;
+  int VOLATILE = 60;
+  int WHILE = 61;
+  int LONG_LITERAL = 62;
+  int INTEGER_LITERAL = 63;
+  int DECIMAL_LITERAL = 64;
+  int HEX_LITERAL = 65;
+  int OCTAL_LITERAL = 66;
+  int BINARY_LITERAL = 67;
+  int FLOATING_POINT_LITERAL = 68;
+  int DECIMAL_FLOATING_POINT_LITERAL = 69;
+  int DECIMAL_EXPONENT = 70;
+  int HEXADECIMAL_FLOATING_POINT_LITERAL = 71;
+  int HEXADECIMAL_EXPONENT = 72;
+  int HEX_DIGITS = 73;
+  int CHARACTER_LITERAL = 74;
+  int STRING_LITERAL = 75;
+  int LPAREN = 76;
+  int RPAREN = 77;
+  int LBRACE = 78;
+  int RBRACE = 79;
+  int LBRACKET = 80;
+  int RBRACKET = 81;
+  int SEMICOLON = 82;
+  int COMMA = 83;
+  int DOT = 84;
+  int ASSIGN = 85;
+  int GT = 86;
+  int LT = 87;
+  int BANG = 88;
+  int TILDE = 89;
+  int HOOK = 90;
+  int COLON = 91;
+  int EQ = 92;
+  int LE = 93;
+  int GE = 94;
+  int NE = 95;
+  int SC_OR = 96;
+  int SC_AND = 97;
+  int INCR = 98;
+  int DECR = 99;
+  int PLUS = 100;
+  int MINUS = 101;
+  int STAR = 102;
+  int SLASH = 103;
+  int BIT_AND = 104;
+  int BIT_OR = 105;
+  int XOR = 106;
+  int REM = 107;
+  int LSHIFT = 108;
+  int PLUSASSIGN = 109;
+  int MINUSASSIGN = 110;
+  int STARASSIGN = 111;
+  int SLASHASSIGN = 112;
+  int ANDASSIGN = 113;
+  int ORASSIGN = 114;
+  int XORASSIGN = 115;
+  int REMASSIGN = 116;
+  int LSHIFTASSIGN = 117;
+  int RSIGNEDSHIFTASSIGN = 118;
+  int RUNSIGNEDSHIFTASSIGN = 119;
+  int LAMBDA = 120;
+  int DOUBLE_COLON = 121;
+  int VAR_ARGS = 122;
+  int AT = 123;
+  int RSIGNEDSHIFT = 124;
+  int RUNSIGNEDSHIFT = 125;
+  int IDENTIFIER = 126;
+  int LETTER = 127;
+  int PART_LETTER = 128;
+  
+  /**
+   * Lexical States
+   */
+  int JAVA = 0;
+  int IN_SINGLE_LINE_COMMENT = 1;
+  int IN_FORMAL_COMMENT = 2;
+  int IN_MULTI_LINE_COMMENT = 3;
+  int PHONY = 4;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "<WHITESPACE>"
+,
+      "\"//\""   
+,
+      "<3>"
+,
+      "\"/*\""   
+,
+      "<SINGLE_LINE_COMMENT>"
+,
+      "\"*/\""   
+,
+      "\"*/\""   
+,
+      "<8>"
+,
+      "\"abstract\""   
+,
+      "\"assert\""   
+,
+      "\"boolean\""   
+,
+      "\"break\""   
+,
+      "\"byte\""   
+,
+      "\"case\""   
+,
+      "\"catch\""   
+,
+      "\"char\""   
+,
+      "\"class\""   
+,
+      "\"const\""   
+,
+      "\"continue\""   
+,
+      "\"default\""   
+,
+      "\"do\""   
+,
+      "\"double\""   
+,
+      "\"else\""   
+,
+      "\"enum\""   
+,
+      "\"extends\""   
+,
+      "\"false\""   
+,
+      "\"final\""   
+,
+      "\"finally\""   
+,
+      "\"float\""   
+,
+      "\"for\""   
+,
+      "\"goto\""   
+,
+      "\"if\""   
+,
+      "\"implements\""   
+,
+      "\"import\""   
+,
+      "\"instanceof\""   
+,
+      "\"int\""   
+,
+      "\"interface\""   
+,
+      "\"long\""   
+,
+      "\"native\""   
+,
+      "\"new\""   
+,
+      "\"null\""   
+,
+      "\"package\""   
+,
+      "\"private\""   
+,
+      "\"protected\""   
+,
+      "\"public\""   
+,
+      "\"return\""   
+,
+      "\"short\""   
+,
+      "\"static\""   
+,
+      "\"strictfp\""   
+,
+      "\"super\""   
+,
+      "\"switch\""   
+,
+      "\"synchronized\""   
+,
+      "\"this\""   
+,
+      "\"throw\""   
+,
+      "\"throws\""   
+,
+      "\"transient\""   
+,
+      "\"true\""   
+,
+      "\"try\""   
+,
+      "\"void\""   
+,
+      "\"volatile\""   
+,
+      "\"while\""   
+,
+      "<LONG_LITERAL>"
+,
+      "<INTEGER_LITERAL>"
+,
+      "<DECIMAL_LITERAL>"
+,
+      "<HEX_LITERAL>"
+,
+      "<OCTAL_LITERAL>"
+,
+      "<BINARY_LITERAL>"
+,
+      "<FLOATING_POINT_LITERAL>"
+,
+      "<DECIMAL_FLOATING_POINT_LITERAL>"
+,
+      "<DECIMAL_EXPONENT>"
+,
+      "<HEXADECIMAL_FLOATING_POINT_LITERAL>"
+,
+      "<HEXADECIMAL_EXPONENT>"
+,
+      "<HEX_DIGITS>"
+,
+      "<CHARACTER_LITERAL>"
+,
+      "<STRING_LITERAL>"
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\"[\""   
+,
+      "\"]\""   
+,
+      "\";\""   
+,
+      "\",\""   
+,
+      "\".\""   
+,
+      "\"=\""   
+,
+      "\">\""   
+,
+      "\"<\""   
+,
+      "\"!\""   
+,
+      "\"~\""   
+,
+      "\"?\""   
+,
+      "\":\""   
+,
+      "\"==\""   
+,
+      "\"<=\""   
+,
+      "\">=\""   
+,
+      "\"!=\""   
+,
+      "\"||\""   
+,
+      "\"&&\""   
+,
+      "\"++\""   
+,
+      "\"--\""   
+,
+      "\"+\""   
+,
+      "\"-\""   
+,
+      "\"*\""   
+,
+      "\"/\""   
+,
+      "\"&\""   
+,
+      "\"|\""   
+,
+      "\"^\""   
+,
+      "\"%\""   
+,
+      "\"<<\""   
+,
+      "\"+=\""   
+,
+      "\"-=\""   
+,
+      "\"*=\""   
+,
+      "\"/=\""   
+,
+      "\"&=\""   
+,
+      "\"|=\""   
+,
+      "\"^=\""   
+,
+      "\"%=\""   
+,
+      "\"<<=\""   
+,
+      "\">>=\""   
+,
+      "\">>>=\""   
+,
+      "\"->\""   
+,
+      "\"::\""   
+,
+      "\"...\""   
+,
+      "\"@\""   
+,
+      "\">>\""   
+,
+      "\">>>\""   
+,
+      "<IDENTIFIER>"
+,
+      "<LETTER>"
+,
+      "<PART_LETTER>"
+
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "WHITESPACE",
+          "SINGLE_LINE_COMMENT",
+          "FORMAL_COMMENT",
+          "MULTI_LINE_COMMENT",
+          "ABSTRACT",
+          "ASSERT",
+          "BOOLEAN",
+          "BREAK",
+          "BYTE",
+          "CASE",
+          "CATCH",
+          "CHAR",
+          "CLASS",
+          "CONST",
+          "CONTINUE",
+          "_DEFAULT",
+          "DO",
+          "DOUBLE",
+          "ELSE",
+          "ENUM",
+          "EXTENDS",
+          "FALSE",
+          "FINAL",
+          "FINALLY",
+          "FLOAT",
+          "FOR",
+          "GOTO",
+          "IF",
+          "IMPLEMENTS",
+          "IMPORT",
+          "INSTANCEOF",
+          "INT",
+          "INTERFACE",
+          "LONG",
+          "NATIVE",
+          "NEW",
+          "NULL",
+          "PACKAGE",
+          "PRIVATE",
+          "PROTECTED",
+          "PUBLIC",
+          "RETURN",
+          "SHORT",
+          "STATIC",
+          "STRICTFP",
+          "SUPER",
+          "SWITCH",
+          "SYNCHRONIZED",
+          "THIS",
+          "THROW",
+          "THROWS",
+          "TRANSIENT",
+          "TRUE",
+          "TRY",
+          "VOID",
+          "VOLATILE",
+          "WHILE",
+          "LONG_LITERAL",
+          "INTEGER_LITERAL",
+          "DECIMAL_LITERAL",
+          "HEX_LITERAL",
+          "OCTAL_LITERAL",
+          "BINARY_LITERAL",
+          "FLOATING_POINT_LITERAL",
+          "DECIMAL_FLOATING_POINT_LITERAL",
+          "DECIMAL_EXPONENT",
+          "HEXADECIMAL_FLOATING_POINT_LITERAL",
+          "HEXADECIMAL_EXPONENT",
+          "HEX_DIGITS",
+          "CHARACTER_LITERAL",
+          "STRING_LITERAL",
+          "LPAREN",
+          "RPAREN",
+          "LBRACE",
+          "RBRACE",
+          "LBRACKET",
+          "RBRACKET",
+          "SEMICOLON",
+          "COMMA",
+          "DOT",
+          "ASSIGN",
+          "GT",
+          "LT",
+          "BANG",
+          "TILDE",
+          "HOOK",
+          "COLON",
+          "EQ",
+          "LE",
+          "GE",
+          "NE",
+          "SC_OR",
+          "SC_AND",
+          "INCR",
+          "DECR",
+          "PLUS",
+          "MINUS",
+          "STAR",
+          "SLASH",
+          "BIT_AND",
+          "BIT_OR",
+          "XOR",
+          "REM",
+          "LSHIFT",
+          "PLUSASSIGN",
+          "MINUSASSIGN",
+          "STARASSIGN",
+          "SLASHASSIGN",
+          "ANDASSIGN",
+          "ORASSIGN",
+          "XORASSIGN",
+          "REMASSIGN",
+          "LSHIFTASSIGN",
+          "RSIGNEDSHIFTASSIGN",
+          "RUNSIGNEDSHIFTASSIGN",
+          "LAMBDA",
+          "DOUBLE_COLON",
+          "VAR_ARGS",
+          "AT",
+          "RSIGNEDSHIFT",
+          "RUNSIGNEDSHIFT",
+          "IDENTIFIER",
+          "LETTER",
+          "PART_LETTER",
+              "CompilationUnit", 
+              "PackageDeclaration", 
+              "ImportDeclaration", 
+              "TypeDeclaration", 
+              "ExtendsList", 
+              "ImplementsList", 
+              "EnumDeclaration", 
+              "EnumBody", 
+              "EnumConstant", 
+              "TypeParameterList", 
+              "TypeParameter", 
+              "TypeBound", 
+              "ClassOrInterfaceBody", 
+              "ClassOrInterfaceBodyDeclaration", 
+              "FieldDeclaration", 
+              "VariableDeclarator", 
+              "VariableDeclaratorId", 
+              "VariableInitializer", 
+              "ArrayInitializer", 
+              "MethodDeclaration", 
+              "FormalParams", 
+              "FormalParameter", 
+              "ConstructorDeclaration", 
+              "ExplicitConstructorInvocation", 
+              "Initializer", 
+              "Type", 
+              "ReferenceType", 
+              "ObjectType", 
+              "DiamondOperator", 
+              "TypeArguments", 
+              "TypeArgument", 
+              "WildcardBounds", 
+              "PrimitiveArrayType", 
+              "ReturnType", 
+              "Name", 
+              "ThrowsList", 
+              "Expression", 
+              "AssignmentExpression", 
+              "TernaryExpression", 
+              "ConditionalOrExpression", 
+              "ConditionalAndExpression", 
+              "InclusiveOrExpression", 
+              "ExclusiveOrExpression", 
+              "AndExpression", 
+              "EqualityExpression", 
+              "InstanceOfExpression", 
+              "RelationalExpression", 
+              "ShiftExpression", 
+              "AdditiveExpression", 
+              "MultiplicativeExpression", 
+              "UnaryExpression", 
+              "PreIncrementExpression", 
+              "PreDecrementExpression", 
+              "UnaryExpressionNotPlusMinus", 
+              "PostfixExpression", 
+              "CastExpression", 
+              "PrimaryExpression", 
+              "MemberSelector", 
+              "PrimaryPrefix", 
+              "MethodReference", 
+              "PrimarySuffix", 
+              "InvocationArgs", 
+              "AllocationExpression", 
+              "ArrayDimsAndInits", 
+              "AssertStatement", 
+              "LabeledStatement", 
+              "CodeBlock", 
+              "LocalVariableDeclaration", 
+              "EmptyStatement", 
+              "StatementExpression", 
+              "SwitchStatement", 
+              "CaseStatement", 
+              "IfStatement", 
+              "WhileStatement", 
+              "DoStatement", 
+              "ForStatement", 
+              "ForInit", 
+              "StatementExpressionList", 
+              "ForUpdate", 
+              "BreakStatement", 
+              "ContinueStatement", 
+              "ReturnStatement", 
+              "ThrowStatement", 
+              "SynchronizedStatement", 
+              "ClassicTryStatement", 
+              "TryWithResources", 
+              "CatchBlock", 
+              "FinallyBlock", 
+              "Annotation", 
+              "MemberValuePairs", 
+              "MemberValuePair", 
+              "MemberValue", 
+              "MemberValueArrayInitializer", 
+              "AnnotationTypeDeclaration", 
+              "AnnotationTypeBody", 
+              "AnnotationTypeMemberDeclaration", 
+              "DefaultValue", 
+              "LambdaExpression", 
+              "LambdaLHS", 
+              "FormalParameters", 
+              "LambdaRHS", 
+   };
+}
+
+
+
+
@@ -0,0 +1,14838 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaParser.java */
+
+
+package com.javacc.javaparser;
+
+import com.javacc.javaparser.ast.*;  
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+
+@SuppressWarnings("unused")
+public class JavaParser implements JavaConstants {
+
+    static final java.util.logging.Logger LOGGER = Logger.getLogger("JavaParser");
+    
+
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing = false;
+    public boolean isParserTolerant() {return tolerantParsing;}
+    
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        } 
+    }
+
+  /** Generated Lexer. */
+  public JavaLexer token_source;
+  
+  public void setInputSource(String inputSource) {
+      token_source.setInputSource(inputSource);
+  }
+  
+
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean specialTokensAreNodes = true;
+
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes = specialTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor = currentNodeScope.floor;
+        currentNodeScope.floor = currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark = currentNodeScope.floor;
+        currentNodeScope.floor = Math.min(previousFloor, mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n, int mark) {
+        List<Node> children = currentNodeScope.subList(mark, currentNodeScope.size());
+        List<Node> nodes = new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n, true);
+    }
+    
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: " + n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "  +  currentNodeScope.nestingLevel());
+    }
+
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + num + " nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i=0;i<num;i++) {
+           nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+        	if (specialTokensAreNodes && (child instanceof Token)) {
+        	    Token token = (Token) child;
+        	    Token specialToken = token;
+        	    while (specialToken != null) {
+        	        specialToken = specialToken.specialToken;
+        	    }
+        	    while (specialToken !=null && specialToken != token) {
+        	        n.addChild(specialToken);
+        	        specialToken = specialToken.next;
+        	    }
+        	}
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+     
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+	 
+    public void closeNodeScope(Node n, boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + nodeArity() + " nodes off the stack.");
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+	        	if (specialTokensAreNodes && (child instanceof Token)) {
+	        	    Token token = (Token) child;
+	        	    Token specialToken = token;
+	        	    while (specialToken.specialToken !=null) {
+	        	        specialToken = specialToken.specialToken;
+	        	    }
+	        	    while (specialToken !=null && specialToken != token) {
+	        	        n.addChild(specialToken);
+	        	        specialToken = specialToken.next;
+	        	    }
+	        	}
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", there are now " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        } else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    JavaParser jjtree = this; 
+    
+    
+    
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope = JavaParser.this.currentNodeScope;
+            JavaParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns. parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty() ? parentScope.peek() : get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result = remove(size()-1);
+            if (size() < floor) {
+                floor = size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            JavaParser.this.currentNodeScope = parentScope;
+        }
+        
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+               result++;
+               parent = parent.parentScope;
+            }
+            return result;            
+        } 
+    }
+
+
+   static private final int INFINITY = Integer.MAX_VALUE;
+  //=================================
+ // Start of methods for BNF Productions
+ //=================================
+    
+
+
+
+// Java.javacc, line 332
+    final public 
+    CompilationUnit
+    CompilationUnit() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 332 of Java.javacc");
+     
+  // Code for expansion specified on line 335 of Java.javacc
+    
+        boolean CompilationUnit1forced = false;
+   CompilationUnit CompilationUnit1 = null;
+   if (buildTree) {
+       CompilationUnit1 = new CompilationUnit();
+       Token start = getToken(1);
+       CompilationUnit1.setBeginLine(start.beginLine);
+       CompilationUnit1.setBeginColumn(start.beginColumn);
+       CompilationUnit1.setInputSource(this.getInputSource());
+	    openNodeScope(CompilationUnit1);
+  }
+          ParseException parseException1 = null;
+         try {
+  // Code for expansion specified on line 335 of Java.javacc
+         if (        phase2_1_Java_javacc_line_335(INFINITY)
+) {
+              // Code for expansion specified on line 335 of Java.javacc
+  // Code for PackageDeclaration specified on line 335 of Java.javacc
+       PackageDeclaration();
+
+         }
+  // Code for expansion specified on line 336 of Java.javacc
+    label_3:
+    while (true) {
+   int int1
+      = nextTokenKind()
+   ;
+         if (!(             int1 == 34 
+)) {
+            break label_3;
+         }
+  // Code for expansion specified on line 336 of Java.javacc
+  // Code for ImportDeclaration specified on line 336 of Java.javacc
+       ImportDeclaration();
+    }
+  // Code for expansion specified on line 338 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 9: 
+                 case 17: 
+                 case 24: 
+                 case 27: 
+                 case 37: 
+                 case 39: 
+                 case 43: 
+                 case 44: 
+                 case 45: 
+                 case 48: 
+                 case 49: 
+                 case 52: 
+                 case 56: 
+                 case 60: 
+                 case 82: 
+                 case 123: 
+                      // Code for expansion specified on line 338 of Java.javacc
+  // Code for expansion specified on line 338 of Java.javacc
+   label_4:
+   while (true) {
+  // Code for expansion specified on line 338 of Java.javacc
+  // Code for TypeDeclaration specified on line 338 of Java.javacc
+       TypeDeclaration();
+   int int2
+      = nextTokenKind()
+   ;
+         if (!(             int2 >= 0 && (jj_first_set_0[int2 >> 6] & (1L << int2)) != 0L
+)) {
+            break label_4;
+         }
+   }
+
+                    break;
+                 case 0: 
+                      // Code for expansion specified on line 340 of Java.javacc
+  // Code for expansion specified on line 340 of Java.javacc
+       consumeToken(0);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for expansion specified on line 342 of Java.javacc
+       
+     return CompilationUnit1;
+  
+         }
+         catch (ParseException e) { 
+             parseException1 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException1 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException1.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  CompilationUnit1.setEndLine(current_token.getEndLine());
+		              CompilationUnit1.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(CompilationUnit1, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 385
+    final public 
+    PackageDeclaration
+    PackageDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 385 of Java.javacc");
+     
+  // Code for expansion specified on line 389 of Java.javacc
+    
+        boolean PackageDeclaration2forced = false;
+   PackageDeclaration PackageDeclaration2 = null;
+   if (buildTree) {
+       PackageDeclaration2 = new PackageDeclaration();
+       Token start = getToken(1);
+       PackageDeclaration2.setBeginLine(start.beginLine);
+       PackageDeclaration2.setBeginColumn(start.beginColumn);
+       PackageDeclaration2.setInputSource(this.getInputSource());
+	    openNodeScope(PackageDeclaration2);
+  }
+          ParseException parseException2 = null;
+         try {
+  // Code for expansion specified on line 389 of Java.javacc
+       consumeToken(42);
+  // Code for Name specified on line 389 of Java.javacc
+       Name();
+  // Code for expansion specified on line 389 of Java.javacc
+       consumeToken(82);
+  // Code for expansion specified on line 390 of Java.javacc
+       
+      return PackageDeclaration2;
+  
+         }
+         catch (ParseException e) { 
+             parseException2 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException2 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException2.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  PackageDeclaration2.setEndLine(current_token.getEndLine());
+		              PackageDeclaration2.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(PackageDeclaration2, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 412
+    final public 
+    ImportDeclaration
+    ImportDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 412 of Java.javacc");
+     
+  // Code for expansion specified on line 415 of Java.javacc
+    
+        boolean ImportDeclaration3forced = false;
+   ImportDeclaration ImportDeclaration3 = null;
+   if (buildTree) {
+       ImportDeclaration3 = new ImportDeclaration();
+       Token start = getToken(1);
+       ImportDeclaration3.setBeginLine(start.beginLine);
+       ImportDeclaration3.setBeginColumn(start.beginColumn);
+       ImportDeclaration3.setInputSource(this.getInputSource());
+	    openNodeScope(ImportDeclaration3);
+  }
+          ParseException parseException3 = null;
+         try {
+  // Code for expansion specified on line 415 of Java.javacc
+       consumeToken(34);
+  // Code for expansion specified on line 415 of Java.javacc
+   int int3
+      = nextTokenKind()
+   ;
+         if (             int3 == 48 
+) {
+              // Code for expansion specified on line 415 of Java.javacc
+  // Code for expansion specified on line 415 of Java.javacc
+       consumeToken(48);
+
+         }
+  // Code for Name specified on line 415 of Java.javacc
+       Name();
+  // Code for expansion specified on line 415 of Java.javacc
+   int int4
+      = nextTokenKind()
+   ;
+         if (             int4 == 84 
+) {
+              // Code for expansion specified on line 415 of Java.javacc
+  // Code for expansion specified on line 415 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 415 of Java.javacc
+       consumeToken(102);
+
+         }
+  // Code for expansion specified on line 415 of Java.javacc
+       consumeToken(82);
+  // Code for expansion specified on line 416 of Java.javacc
+       
+        return ImportDeclaration3;
+    
+         }
+         catch (ParseException e) { 
+             parseException3 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException3 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException3.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ImportDeclaration3.setEndLine(current_token.getEndLine());
+		              ImportDeclaration3.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ImportDeclaration3, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+/*
+ * Modifiers. We match all modifiers in a single rule to reduce the chances of
+ * syntax errors for simple modifier mistakes. It will also enable us to give
+ * better error messages.
+ */
+
+
+// Java.javacc, line 463
+    final public 
+    void
+    Modifiers() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 463 of Java.javacc");
+     
+  // Code for expansion specified on line 466 of Java.javacc
+  // Code for expansion specified on line 493 of Java.javacc
+    label_7:
+    while (true) {
+         if (!(        phase2_7_Java_javacc_line_467(2)
+)) {
+            break label_7;
+         }
+  // Code for expansion specified on line 467 of Java.javacc
+  // Code for expansion specified on line 469 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 45: 
+                      // Code for expansion specified on line 469 of Java.javacc
+  // Code for expansion specified on line 469 of Java.javacc
+       consumeToken(45);
+
+                    break;
+                 case 48: 
+                      // Code for expansion specified on line 471 of Java.javacc
+  // Code for expansion specified on line 471 of Java.javacc
+       consumeToken(48);
+
+                    break;
+                 case 44: 
+                      // Code for expansion specified on line 473 of Java.javacc
+  // Code for expansion specified on line 473 of Java.javacc
+       consumeToken(44);
+
+                    break;
+                 case 43: 
+                      // Code for expansion specified on line 475 of Java.javacc
+  // Code for expansion specified on line 475 of Java.javacc
+       consumeToken(43);
+
+                    break;
+                 case 27: 
+                      // Code for expansion specified on line 477 of Java.javacc
+  // Code for expansion specified on line 477 of Java.javacc
+       consumeToken(27);
+
+                    break;
+                 case 9: 
+                      // Code for expansion specified on line 479 of Java.javacc
+  // Code for expansion specified on line 479 of Java.javacc
+       consumeToken(9);
+
+                    break;
+                 case 52: 
+                      // Code for expansion specified on line 481 of Java.javacc
+  // Code for expansion specified on line 481 of Java.javacc
+       consumeToken(52);
+
+                    break;
+                 case 39: 
+                      // Code for expansion specified on line 483 of Java.javacc
+  // Code for expansion specified on line 483 of Java.javacc
+       consumeToken(39);
+
+                    break;
+                 case 56: 
+                      // Code for expansion specified on line 485 of Java.javacc
+  // Code for expansion specified on line 485 of Java.javacc
+       consumeToken(56);
+
+                    break;
+                 case 60: 
+                      // Code for expansion specified on line 487 of Java.javacc
+  // Code for expansion specified on line 487 of Java.javacc
+       consumeToken(60);
+
+                    break;
+                 case 49: 
+                      // Code for expansion specified on line 489 of Java.javacc
+  // Code for expansion specified on line 489 of Java.javacc
+       consumeToken(49);
+
+                    break;
+                 case 123: 
+                      // Code for expansion specified on line 491 of Java.javacc
+  // Code for Annotation specified on line 491 of Java.javacc
+       Annotation();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from Modifiers");
+    }   
+    
+
+
+
+// Java.javacc, line 497
+    final public 
+    void
+    Modifiers2() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 497 of Java.javacc");
+     
+  // Code for expansion specified on line 500 of Java.javacc
+  // Code for expansion specified on line 529 of Java.javacc
+    label_9:
+    while (true) {
+         if (!(        phase2_9_Java_javacc_line_501(2)
+)) {
+            break label_9;
+         }
+  // Code for expansion specified on line 501 of Java.javacc
+  // Code for expansion specified on line 503 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 45: 
+                      // Code for expansion specified on line 503 of Java.javacc
+  // Code for expansion specified on line 503 of Java.javacc
+       consumeToken(45);
+
+                    break;
+                 case 48: 
+                      // Code for expansion specified on line 505 of Java.javacc
+  // Code for expansion specified on line 505 of Java.javacc
+       consumeToken(48);
+
+                    break;
+                 case 44: 
+                      // Code for expansion specified on line 507 of Java.javacc
+  // Code for expansion specified on line 507 of Java.javacc
+       consumeToken(44);
+
+                    break;
+                 case 43: 
+                      // Code for expansion specified on line 509 of Java.javacc
+  // Code for expansion specified on line 509 of Java.javacc
+       consumeToken(43);
+
+                    break;
+                 case 27: 
+                      // Code for expansion specified on line 511 of Java.javacc
+  // Code for expansion specified on line 511 of Java.javacc
+       consumeToken(27);
+
+                    break;
+                 case 9: 
+                      // Code for expansion specified on line 513 of Java.javacc
+  // Code for expansion specified on line 513 of Java.javacc
+       consumeToken(9);
+
+                    break;
+                 case 52: 
+                      // Code for expansion specified on line 515 of Java.javacc
+  // Code for expansion specified on line 515 of Java.javacc
+       consumeToken(52);
+
+                    break;
+                 case 39: 
+                      // Code for expansion specified on line 517 of Java.javacc
+  // Code for expansion specified on line 517 of Java.javacc
+       consumeToken(39);
+
+                    break;
+                 case 56: 
+                      // Code for expansion specified on line 519 of Java.javacc
+  // Code for expansion specified on line 519 of Java.javacc
+       consumeToken(56);
+
+                    break;
+                 case 60: 
+                      // Code for expansion specified on line 521 of Java.javacc
+  // Code for expansion specified on line 521 of Java.javacc
+       consumeToken(60);
+
+                    break;
+                 case 49: 
+                      // Code for expansion specified on line 523 of Java.javacc
+  // Code for expansion specified on line 523 of Java.javacc
+       consumeToken(49);
+
+                    break;
+                 case 20: 
+                      // Code for expansion specified on line 525 of Java.javacc
+  // Code for expansion specified on line 525 of Java.javacc
+       consumeToken(20);
+
+                    break;
+                 case 123: 
+                      // Code for expansion specified on line 527 of Java.javacc
+  // Code for Annotation specified on line 527 of Java.javacc
+       Annotation();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from Modifiers2");
+    }   
+    
+
+/*
+ * Declaration syntax follows.
+ */
+
+// Java.javacc, line 535
+    final public 
+    TypeDeclaration
+    TypeDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 535 of Java.javacc");
+     
+  // Code for expansion specified on line 538 of Java.javacc
+    
+        boolean TypeDeclaration4forced = false;
+   TypeDeclaration TypeDeclaration4 = null;
+   if (buildTree) {
+       TypeDeclaration4 = new TypeDeclaration();
+       Token start = getToken(1);
+       TypeDeclaration4.setBeginLine(start.beginLine);
+       TypeDeclaration4.setBeginColumn(start.beginColumn);
+       TypeDeclaration4.setInputSource(this.getInputSource());
+	    openNodeScope(TypeDeclaration4);
+  }
+          ParseException parseException4 = null;
+         try {
+  // Code for expansion specified on line 539 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 82: 
+                      // Code for expansion specified on line 539 of Java.javacc
+  // Code for expansion specified on line 539 of Java.javacc
+       consumeToken(82);
+
+                    break;
+                 case 9: 
+                 case 17: 
+                 case 24: 
+                 case 27: 
+                 case 37: 
+                 case 39: 
+                 case 43: 
+                 case 44: 
+                 case 45: 
+                 case 48: 
+                 case 49: 
+                 case 52: 
+                 case 56: 
+                 case 60: 
+                 case 123: 
+                      // Code for expansion specified on line 541 of Java.javacc
+  // Code for Modifiers specified on line 541 of Java.javacc
+       Modifiers();
+  // Code for expansion specified on line 543 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 17: 
+                      // Code for expansion specified on line 543 of Java.javacc
+  // Code for ClassDeclaration specified on line 543 of Java.javacc
+       ClassDeclaration();
+
+                    break;
+                 case 37: 
+                      // Code for expansion specified on line 545 of Java.javacc
+  // Code for InterfaceDeclaration specified on line 545 of Java.javacc
+       InterfaceDeclaration();
+
+                    break;
+                 case 24: 
+                      // Code for expansion specified on line 547 of Java.javacc
+  // Code for EnumDeclaration specified on line 547 of Java.javacc
+       EnumDeclaration();
+
+                    break;
+                 case 123: 
+                      // Code for expansion specified on line 549 of Java.javacc
+  // Code for AnnotationTypeDeclaration specified on line 549 of Java.javacc
+       AnnotationTypeDeclaration();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for expansion specified on line 552 of Java.javacc
+       
+        return TypeDeclaration4;
+ 
+         }
+         catch (ParseException e) { 
+             parseException4 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException4 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException4.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  TypeDeclaration4.setEndLine(current_token.getEndLine());
+		              TypeDeclaration4.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(TypeDeclaration4, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 719
+    final public 
+    void
+    ClassDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 719 of Java.javacc");
+     
+  // Code for expansion specified on line 722 of Java.javacc
+  // Code for expansion specified on line 722 of Java.javacc
+       consumeToken(17);
+  // Code for expansion specified on line 723 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 724 of Java.javacc
+   int int5
+      = nextTokenKind()
+   ;
+         if (             int5 == 87 
+) {
+              // Code for expansion specified on line 724 of Java.javacc
+  // Code for TypeParameters specified on line 724 of Java.javacc
+       TypeParameters();
+
+         }
+  // Code for expansion specified on line 725 of Java.javacc
+   int int6
+      = nextTokenKind()
+   ;
+         if (             int6 == 25 
+) {
+              // Code for expansion specified on line 725 of Java.javacc
+  // Code for ExtendsList specified on line 725 of Java.javacc
+       ExtendsList(false);
+
+         }
+  // Code for expansion specified on line 726 of Java.javacc
+   int int7
+      = nextTokenKind()
+   ;
+         if (             int7 == 33 
+) {
+              // Code for expansion specified on line 726 of Java.javacc
+  // Code for ImplementsList specified on line 726 of Java.javacc
+       ImplementsList(false);
+
+         }
+  // Code for ClassOrInterfaceBody specified on line 727 of Java.javacc
+       ClassOrInterfaceBody(false);
+        if (trace_enabled) LOGGER.info("Exiting normally from ClassDeclaration");
+    }   
+    
+
+
+// Java.javacc, line 730
+    final public 
+    void
+    InterfaceDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 730 of Java.javacc");
+      
+  // Code for expansion specified on line 733 of Java.javacc
+  // Code for expansion specified on line 733 of Java.javacc
+       consumeToken(37);
+  // Code for expansion specified on line 734 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 735 of Java.javacc
+   int int8
+      = nextTokenKind()
+   ;
+         if (             int8 == 87 
+) {
+              // Code for expansion specified on line 735 of Java.javacc
+  // Code for TypeParameters specified on line 735 of Java.javacc
+       TypeParameters();
+
+         }
+  // Code for expansion specified on line 736 of Java.javacc
+   int int9
+      = nextTokenKind()
+   ;
+         if (             int9 == 25 
+) {
+              // Code for expansion specified on line 736 of Java.javacc
+  // Code for ExtendsList specified on line 736 of Java.javacc
+       ExtendsList(true);
+
+         }
+  // Code for ClassOrInterfaceBody specified on line 737 of Java.javacc
+       ClassOrInterfaceBody(true);
+        if (trace_enabled) LOGGER.info("Exiting normally from InterfaceDeclaration");
+    }   
+    
+
+
+// Java.javacc, line 740
+    final public 
+    ExtendsList
+    ExtendsList(boolean isInterface) 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 740 of Java.javacc");
+     
+   boolean extendsMoreThanOne = false;
+
+  // Code for expansion specified on line 745 of Java.javacc
+    
+        boolean ExtendsList5forced = false;
+   ExtendsList ExtendsList5 = null;
+   if (buildTree) {
+       ExtendsList5 = new ExtendsList();
+       Token start = getToken(1);
+       ExtendsList5.setBeginLine(start.beginLine);
+       ExtendsList5.setBeginColumn(start.beginColumn);
+       ExtendsList5.setInputSource(this.getInputSource());
+	    openNodeScope(ExtendsList5);
+  }
+          ParseException parseException5 = null;
+         try {
+  // Code for expansion specified on line 745 of Java.javacc
+       consumeToken(25);
+  // Code for ClassOrInterfaceType specified on line 745 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 746 of Java.javacc
+    label_16:
+    while (true) {
+   int int10
+      = nextTokenKind()
+   ;
+         if (!(             int10 == 83 
+)) {
+            break label_16;
+         }
+  // Code for expansion specified on line 746 of Java.javacc
+  // Code for expansion specified on line 746 of Java.javacc
+       consumeToken(83);
+  // Code for ClassOrInterfaceType specified on line 746 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 746 of Java.javacc
+        extendsMoreThanOne = true; 
+    }
+  // Code for expansion specified on line 747 of Java.javacc
+       
+      if (extendsMoreThanOne && !isInterface)
+         throw new ParseException("A class cannot extend more than one other class");
+      return ExtendsList5;
+   
+         }
+         catch (ParseException e) { 
+             parseException5 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException5 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException5.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ExtendsList5.setEndLine(current_token.getEndLine());
+		              ExtendsList5.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ExtendsList5, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 784
+    final public 
+    ImplementsList
+    ImplementsList(boolean isInterface) 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 784 of Java.javacc");
+     
+  // Code for expansion specified on line 787 of Java.javacc
+    
+        boolean ImplementsList6forced = false;
+   ImplementsList ImplementsList6 = null;
+   if (buildTree) {
+       ImplementsList6 = new ImplementsList();
+       Token start = getToken(1);
+       ImplementsList6.setBeginLine(start.beginLine);
+       ImplementsList6.setBeginColumn(start.beginColumn);
+       ImplementsList6.setInputSource(this.getInputSource());
+	    openNodeScope(ImplementsList6);
+  }
+          ParseException parseException6 = null;
+         try {
+  // Code for expansion specified on line 787 of Java.javacc
+       consumeToken(33);
+  // Code for ClassOrInterfaceType specified on line 787 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 788 of Java.javacc
+    label_17:
+    while (true) {
+   int int11
+      = nextTokenKind()
+   ;
+         if (!(             int11 == 83 
+)) {
+            break label_17;
+         }
+  // Code for expansion specified on line 788 of Java.javacc
+  // Code for expansion specified on line 788 of Java.javacc
+       consumeToken(83);
+  // Code for ClassOrInterfaceType specified on line 788 of Java.javacc
+       ClassOrInterfaceType();
+    }
+  // Code for expansion specified on line 789 of Java.javacc
+       
+      if (isInterface) {
+         throw new ParseException("An interface cannot implement other interfaces");
+      }
+      return ImplementsList6;
+   
+         }
+         catch (ParseException e) { 
+             parseException6 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException6 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException6.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ImplementsList6.setEndLine(current_token.getEndLine());
+		              ImplementsList6.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ImplementsList6, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 824
+    final public 
+    void
+    EnumDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 824 of Java.javacc");
+     
+  // Code for expansion specified on line 827 of Java.javacc
+    
+        int EnumDeclaration7Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token EnumDeclaration7Start = getToken(1);
+  // Code for expansion specified on line 827 of Java.javacc
+       consumeToken(24);
+  // Code for expansion specified on line 827 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 828 of Java.javacc
+   int int12
+      = nextTokenKind()
+   ;
+         if (             int12 == 33 
+) {
+              // Code for expansion specified on line 828 of Java.javacc
+  // Code for ImplementsList specified on line 828 of Java.javacc
+       ImplementsList(false);
+
+         }
+  // Code for EnumBody specified on line 829 of Java.javacc
+       EnumBody();
+        if (trace_enabled) LOGGER.info("Exiting normally from EnumDeclaration");
+        if (buildTree) {
+            int EnumDeclaration7Mark = closeDeferredNodeScope(EnumDeclaration7Floor);
+            if (nodeArity() - EnumDeclaration7Mark > 1) {
+                EnumDeclaration EnumDeclaration7 = new EnumDeclaration();
+                EnumDeclaration7.setBeginLine(EnumDeclaration7Start.beginLine);
+                EnumDeclaration7.setBeginColumn(EnumDeclaration7Start.beginColumn);
+                EnumDeclaration7.setInputSource(this.getInputSource());
+                EnumDeclaration7.setEndLine(current_token.getEndLine());
+                EnumDeclaration7.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(EnumDeclaration7, EnumDeclaration7Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 832
+    final public 
+    void
+    EnumBody() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 832 of Java.javacc");
+     
+  // Code for expansion specified on line 835 of Java.javacc
+    
+        int EnumBody8Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token EnumBody8Start = getToken(1);
+  // Code for expansion specified on line 835 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 836 of Java.javacc
+   int int13
+      = nextTokenKind()
+   ;
+         if (             int13 >= 0 && (jj_first_set_1[int13 >> 6] & (1L << int13)) != 0L
+) {
+              // Code for expansion specified on line 836 of Java.javacc
+  // Code for EnumConstant specified on line 836 of Java.javacc
+       EnumConstant();
+  // Code for expansion specified on line 836 of Java.javacc
+    label_20:
+    while (true) {
+         if (!(        phase2_20_Java_javacc_line_836(2)
+)) {
+            break label_20;
+         }
+  // Code for expansion specified on line 836 of Java.javacc
+  // Code for expansion specified on line 836 of Java.javacc
+       consumeToken(83);
+  // Code for EnumConstant specified on line 836 of Java.javacc
+       EnumConstant();
+    }
+
+         }
+  // Code for expansion specified on line 837 of Java.javacc
+   int int14
+      = nextTokenKind()
+   ;
+         if (             int14 == 83 
+) {
+              // Code for expansion specified on line 837 of Java.javacc
+  // Code for expansion specified on line 837 of Java.javacc
+       consumeToken(83);
+
+         }
+  // Code for expansion specified on line 838 of Java.javacc
+   int int16
+      = nextTokenKind()
+   ;
+         if (             int16 == 82 
+) {
+              // Code for expansion specified on line 838 of Java.javacc
+  // Code for expansion specified on line 838 of Java.javacc
+       consumeToken(82);
+  // Code for expansion specified on line 838 of Java.javacc
+    label_24:
+    while (true) {
+   int int15
+      = nextTokenKind()
+   ;
+         if (!(             int15 >= 0 && (jj_first_set_2[int15 >> 6] & (1L << int15)) != 0L
+)) {
+            break label_24;
+         }
+  // Code for expansion specified on line 838 of Java.javacc
+  // Code for ClassOrInterfaceBodyDeclaration specified on line 838 of Java.javacc
+       ClassOrInterfaceBodyDeclaration(false);
+    }
+
+         }
+  // Code for expansion specified on line 839 of Java.javacc
+       consumeToken(79);
+        if (trace_enabled) LOGGER.info("Exiting normally from EnumBody");
+        if (buildTree) {
+            int EnumBody8Mark = closeDeferredNodeScope(EnumBody8Floor);
+            if (nodeArity() - EnumBody8Mark > 1) {
+                EnumBody EnumBody8 = new EnumBody();
+                EnumBody8.setBeginLine(EnumBody8Start.beginLine);
+                EnumBody8.setBeginColumn(EnumBody8Start.beginColumn);
+                EnumBody8.setInputSource(this.getInputSource());
+                EnumBody8.setEndLine(current_token.getEndLine());
+                EnumBody8.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(EnumBody8, EnumBody8Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 842
+    final public 
+    void
+    EnumConstant() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 842 of Java.javacc");
+     
+  // Code for expansion specified on line 845 of Java.javacc
+    
+        int EnumConstant9Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token EnumConstant9Start = getToken(1);
+  // Code for Modifiers specified on line 845 of Java.javacc
+       Modifiers();
+  // Code for expansion specified on line 845 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 845 of Java.javacc
+   int int17
+      = nextTokenKind()
+   ;
+         if (             int17 == 76 
+) {
+              // Code for expansion specified on line 845 of Java.javacc
+  // Code for Arguments specified on line 845 of Java.javacc
+       Arguments();
+
+         }
+  // Code for expansion specified on line 845 of Java.javacc
+   int int18
+      = nextTokenKind()
+   ;
+         if (             int18 == 78 
+) {
+              // Code for expansion specified on line 845 of Java.javacc
+  // Code for ClassOrInterfaceBody specified on line 845 of Java.javacc
+       ClassOrInterfaceBody(false);
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from EnumConstant");
+        if (buildTree) {
+            int EnumConstant9Mark = closeDeferredNodeScope(EnumConstant9Floor);
+            if (nodeArity() - EnumConstant9Mark > 1) {
+                EnumConstant EnumConstant9 = new EnumConstant();
+                EnumConstant9.setBeginLine(EnumConstant9Start.beginLine);
+                EnumConstant9.setBeginColumn(EnumConstant9Start.beginColumn);
+                EnumConstant9.setInputSource(this.getInputSource());
+                EnumConstant9.setEndLine(current_token.getEndLine());
+                EnumConstant9.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(EnumConstant9, EnumConstant9Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 848
+    final public 
+    TypeParameterList
+    TypeParameters() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 848 of Java.javacc");
+     
+  // Code for expansion specified on line 851 of Java.javacc
+    
+        boolean TypeParameters10forced = false;
+   TypeParameterList TypeParameters10 = null;
+   if (buildTree) {
+       TypeParameters10 = new TypeParameterList();
+       Token start = getToken(1);
+       TypeParameters10.setBeginLine(start.beginLine);
+       TypeParameters10.setBeginColumn(start.beginColumn);
+       TypeParameters10.setInputSource(this.getInputSource());
+	    openNodeScope(TypeParameters10);
+  }
+          ParseException parseException10 = null;
+         try {
+  // Code for expansion specified on line 851 of Java.javacc
+       consumeToken(87);
+  // Code for TypeParameter specified on line 852 of Java.javacc
+       TypeParameter();
+  // Code for expansion specified on line 852 of Java.javacc
+    label_27:
+    while (true) {
+   int int19
+      = nextTokenKind()
+   ;
+         if (!(             int19 == 83 
+)) {
+            break label_27;
+         }
+  // Code for expansion specified on line 852 of Java.javacc
+  // Code for expansion specified on line 852 of Java.javacc
+       consumeToken(83);
+  // Code for TypeParameter specified on line 852 of Java.javacc
+       TypeParameter();
+    }
+  // Code for expansion specified on line 853 of Java.javacc
+       consumeToken(86);
+  // Code for expansion specified on line 854 of Java.javacc
+       
+           return TypeParameters10;
+   
+         }
+         catch (ParseException e) { 
+             parseException10 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException10 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException10.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  TypeParameters10.setEndLine(current_token.getEndLine());
+		              TypeParameters10.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(TypeParameters10, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 888
+    final public 
+    void
+    TypeParameter() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 888 of Java.javacc");
+     
+  // Code for expansion specified on line 891 of Java.javacc
+    
+        int TypeParameter11Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token TypeParameter11Start = getToken(1);
+  // Code for expansion specified on line 891 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 891 of Java.javacc
+   int int20
+      = nextTokenKind()
+   ;
+         if (             int20 == 25 
+) {
+              // Code for expansion specified on line 891 of Java.javacc
+  // Code for TypeBound specified on line 891 of Java.javacc
+       TypeBound();
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from TypeParameter");
+        if (buildTree) {
+            int TypeParameter11Mark = closeDeferredNodeScope(TypeParameter11Floor);
+            if (nodeArity() - TypeParameter11Mark > 1) {
+                TypeParameter TypeParameter11 = new TypeParameter();
+                TypeParameter11.setBeginLine(TypeParameter11Start.beginLine);
+                TypeParameter11.setBeginColumn(TypeParameter11Start.beginColumn);
+                TypeParameter11.setInputSource(this.getInputSource());
+                TypeParameter11.setEndLine(current_token.getEndLine());
+                TypeParameter11.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(TypeParameter11, TypeParameter11Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 894
+    final public 
+    void
+    TypeBound() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 894 of Java.javacc");
+     
+  // Code for expansion specified on line 897 of Java.javacc
+    
+        int TypeBound12Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token TypeBound12Start = getToken(1);
+  // Code for expansion specified on line 897 of Java.javacc
+       consumeToken(25);
+  // Code for ClassOrInterfaceType specified on line 897 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 897 of Java.javacc
+    label_29:
+    while (true) {
+   int int21
+      = nextTokenKind()
+   ;
+         if (!(             int21 == 104 
+)) {
+            break label_29;
+         }
+  // Code for expansion specified on line 897 of Java.javacc
+  // Code for expansion specified on line 897 of Java.javacc
+       consumeToken(104);
+  // Code for ClassOrInterfaceType specified on line 897 of Java.javacc
+       ClassOrInterfaceType();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from TypeBound");
+        if (buildTree) {
+            int TypeBound12Mark = closeDeferredNodeScope(TypeBound12Floor);
+            if (nodeArity() - TypeBound12Mark > 1) {
+                TypeBound TypeBound12 = new TypeBound();
+                TypeBound12.setBeginLine(TypeBound12Start.beginLine);
+                TypeBound12.setBeginColumn(TypeBound12Start.beginColumn);
+                TypeBound12.setInputSource(this.getInputSource());
+                TypeBound12.setEndLine(current_token.getEndLine());
+                TypeBound12.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(TypeBound12, TypeBound12Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 900
+    final public 
+    ClassOrInterfaceBody
+    ClassOrInterfaceBody(boolean isInterface) 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 900 of Java.javacc");
+     
+  // Code for expansion specified on line 903 of Java.javacc
+    
+        boolean ClassOrInterfaceBody13forced = false;
+   ClassOrInterfaceBody ClassOrInterfaceBody13 = null;
+   if (buildTree) {
+       ClassOrInterfaceBody13 = new ClassOrInterfaceBody();
+       Token start = getToken(1);
+       ClassOrInterfaceBody13.setBeginLine(start.beginLine);
+       ClassOrInterfaceBody13.setBeginColumn(start.beginColumn);
+       ClassOrInterfaceBody13.setInputSource(this.getInputSource());
+	    openNodeScope(ClassOrInterfaceBody13);
+  }
+          ParseException parseException13 = null;
+         try {
+  // Code for expansion specified on line 903 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 906 of Java.javacc
+    label_30:
+    while (true) {
+   int int22
+      = nextTokenKind()
+   ;
+         if (!(             int22 >= 0 && (jj_first_set_2[int22 >> 6] & (1L << int22)) != 0L
+)) {
+            break label_30;
+         }
+  // Code for expansion specified on line 905 of Java.javacc
+  // Code for ClassOrInterfaceBodyDeclaration specified on line 905 of Java.javacc
+       ClassOrInterfaceBodyDeclaration(isInterface);
+    }
+  // Code for expansion specified on line 907 of Java.javacc
+       consumeToken(79);
+  // Code for expansion specified on line 908 of Java.javacc
+       
+        return ClassOrInterfaceBody13;
+    
+         }
+         catch (ParseException e) { 
+             parseException13 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException13 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException13.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ClassOrInterfaceBody13.setEndLine(current_token.getEndLine());
+		              ClassOrInterfaceBody13.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ClassOrInterfaceBody13, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 960
+    final public 
+    void
+    ClassOrInterfaceBodyDeclaration(boolean isInterface) 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 960 of Java.javacc");
+     
+  // Code for expansion specified on line 963 of Java.javacc
+    
+        boolean ClassOrInterfaceBodyDeclaration14forced = false;
+   ClassOrInterfaceBodyDeclaration ClassOrInterfaceBodyDeclaration14 = null;
+   if (buildTree) {
+       ClassOrInterfaceBodyDeclaration14 = new ClassOrInterfaceBodyDeclaration();
+       Token start = getToken(1);
+       ClassOrInterfaceBodyDeclaration14.setBeginLine(start.beginLine);
+       ClassOrInterfaceBodyDeclaration14.setBeginColumn(start.beginColumn);
+       ClassOrInterfaceBodyDeclaration14.setInputSource(this.getInputSource());
+	    openNodeScope(ClassOrInterfaceBodyDeclaration14);
+  }
+          ParseException parseException14 = null;
+         try {
+            if (
+                phase2_32_Java_javacc_line_963(2)
+                ) { 
+                     // Code for expansion specified on line 963 of Java.javacc
+  // Code for Initializer specified on line 964 of Java.javacc
+       Initializer();
+  // Code for expansion specified on line 965 of Java.javacc
+       
+     if (isInterface)
+        throw new ParseException("An interface cannot have initializers");
+  
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 9: 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 17: 
+                 case 20: 
+                 case 22: 
+                 case 24: 
+                 case 27: 
+                 case 29: 
+                 case 36: 
+                 case 37: 
+                 case 38: 
+                 case 39: 
+                 case 43: 
+                 case 44: 
+                 case 45: 
+                 case 47: 
+                 case 48: 
+                 case 49: 
+                 case 52: 
+                 case 56: 
+                 case 59: 
+                 case 60: 
+                 case 87: 
+                 case 123: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 970 of Java.javacc
+  // Code for Modifiers2 specified on line 970 of Java.javacc
+       Modifiers2();
+  // Code for expansion specified on line 973 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 17: 
+                      // Code for expansion specified on line 973 of Java.javacc
+  // Code for ClassDeclaration specified on line 973 of Java.javacc
+       ClassDeclaration();
+
+                    break;
+                 case 37: 
+                      // Code for expansion specified on line 975 of Java.javacc
+  // Code for InterfaceDeclaration specified on line 975 of Java.javacc
+       InterfaceDeclaration();
+
+                    break;
+                 case 123: 
+                      // Code for expansion specified on line 977 of Java.javacc
+  // Code for AnnotationTypeDeclaration specified on line 977 of Java.javacc
+       AnnotationTypeDeclaration();
+
+                    break;
+                 case 24: 
+                      // Code for expansion specified on line 979 of Java.javacc
+  // Code for EnumDeclaration specified on line 979 of Java.javacc
+       EnumDeclaration();
+
+                    break;
+            default:
+               if (
+                phase2_30_Java_javacc_line_981(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 981 of Java.javacc
+  // Code for ConstructorDeclaration specified on line 982 of Java.javacc
+       ConstructorDeclaration();
+
+            } else if (
+                phase2_31_Java_javacc_line_984(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 984 of Java.javacc
+  // Code for FieldDeclaration specified on line 985 of Java.javacc
+       FieldDeclaration();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 47: 
+                 case 59: 
+                 case 87: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 987 of Java.javacc
+  // Code for MethodDeclaration specified on line 987 of Java.javacc
+       MethodDeclaration();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+           }
+
+                    break;
+                 case 82: 
+                      // Code for expansion specified on line 990 of Java.javacc
+  // Code for expansion specified on line 990 of Java.javacc
+       consumeToken(82);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from ClassOrInterfaceBodyDeclaration");
+         }
+         catch (ParseException e) { 
+             parseException14 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException14 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException14.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ClassOrInterfaceBodyDeclaration14.setEndLine(current_token.getEndLine());
+		              ClassOrInterfaceBodyDeclaration14.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ClassOrInterfaceBodyDeclaration14, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1005
+    final public 
+    void
+    FieldDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1005 of Java.javacc");
+     
+  // Code for expansion specified on line 1009 of Java.javacc
+    
+        int FieldDeclaration15Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token FieldDeclaration15Start = getToken(1);
+  // Code for Type specified on line 1009 of Java.javacc
+       Type();
+  // Code for VariableDeclarator specified on line 1009 of Java.javacc
+       VariableDeclarator();
+  // Code for expansion specified on line 1009 of Java.javacc
+    label_34:
+    while (true) {
+   int int23
+      = nextTokenKind()
+   ;
+         if (!(             int23 == 83 
+)) {
+            break label_34;
+         }
+  // Code for expansion specified on line 1009 of Java.javacc
+  // Code for expansion specified on line 1009 of Java.javacc
+       consumeToken(83);
+  // Code for VariableDeclarator specified on line 1009 of Java.javacc
+       VariableDeclarator();
+    }
+  // Code for expansion specified on line 1009 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from FieldDeclaration");
+        if (buildTree) {
+            int FieldDeclaration15Mark = closeDeferredNodeScope(FieldDeclaration15Floor);
+            if (nodeArity() - FieldDeclaration15Mark > 1) {
+                FieldDeclaration FieldDeclaration15 = new FieldDeclaration();
+                FieldDeclaration15.setBeginLine(FieldDeclaration15Start.beginLine);
+                FieldDeclaration15.setBeginColumn(FieldDeclaration15Start.beginColumn);
+                FieldDeclaration15.setInputSource(this.getInputSource());
+                FieldDeclaration15.setEndLine(current_token.getEndLine());
+                FieldDeclaration15.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(FieldDeclaration15, FieldDeclaration15Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1012
+    final public 
+    void
+    VariableDeclarator() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1012 of Java.javacc");
+     
+  // Code for expansion specified on line 1015 of Java.javacc
+    
+        int VariableDeclarator16Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token VariableDeclarator16Start = getToken(1);
+  // Code for VariableDeclaratorId specified on line 1015 of Java.javacc
+       VariableDeclaratorId();
+  // Code for expansion specified on line 1015 of Java.javacc
+   int int24
+      = nextTokenKind()
+   ;
+         if (             int24 == 85 
+) {
+              // Code for expansion specified on line 1015 of Java.javacc
+  // Code for expansion specified on line 1015 of Java.javacc
+       consumeToken(85);
+  // Code for VariableInitializer specified on line 1015 of Java.javacc
+       VariableInitializer();
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from VariableDeclarator");
+        if (buildTree) {
+            int VariableDeclarator16Mark = closeDeferredNodeScope(VariableDeclarator16Floor);
+            if (nodeArity() - VariableDeclarator16Mark > 1) {
+                VariableDeclarator VariableDeclarator16 = new VariableDeclarator();
+                VariableDeclarator16.setBeginLine(VariableDeclarator16Start.beginLine);
+                VariableDeclarator16.setBeginColumn(VariableDeclarator16Start.beginColumn);
+                VariableDeclarator16.setInputSource(this.getInputSource());
+                VariableDeclarator16.setEndLine(current_token.getEndLine());
+                VariableDeclarator16.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(VariableDeclarator16, VariableDeclarator16Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1018
+    final public 
+    void
+    VariableDeclaratorId() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1018 of Java.javacc");
+     
+  // Code for expansion specified on line 1021 of Java.javacc
+    
+        int VariableDeclaratorId17Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token VariableDeclaratorId17Start = getToken(1);
+  // Code for expansion specified on line 1021 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 1021 of Java.javacc
+    label_36:
+    while (true) {
+   int int25
+      = nextTokenKind()
+   ;
+         if (!(             int25 == 80 
+)) {
+            break label_36;
+         }
+  // Code for expansion specified on line 1021 of Java.javacc
+  // Code for expansion specified on line 1021 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1021 of Java.javacc
+       consumeToken(81);
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from VariableDeclaratorId");
+        if (buildTree) {
+            int VariableDeclaratorId17Mark = closeDeferredNodeScope(VariableDeclaratorId17Floor);
+            if (nodeArity() - VariableDeclaratorId17Mark > 1) {
+                VariableDeclaratorId VariableDeclaratorId17 = new VariableDeclaratorId();
+                VariableDeclaratorId17.setBeginLine(VariableDeclaratorId17Start.beginLine);
+                VariableDeclaratorId17.setBeginColumn(VariableDeclaratorId17Start.beginColumn);
+                VariableDeclaratorId17.setInputSource(this.getInputSource());
+                VariableDeclaratorId17.setEndLine(current_token.getEndLine());
+                VariableDeclaratorId17.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(VariableDeclaratorId17, VariableDeclaratorId17Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1024
+    final public 
+    void
+    VariableInitializer() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1024 of Java.javacc");
+     
+  // Code for expansion specified on line 1027 of Java.javacc
+    
+        int VariableInitializer18Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token VariableInitializer18Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 78: 
+                      // Code for expansion specified on line 1027 of Java.javacc
+  // Code for ArrayInitializer specified on line 1027 of Java.javacc
+       ArrayInitializer();
+
+                    break;
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case 88: 
+                 case 89: 
+                 case 98: 
+                 case 99: 
+                 case 100: 
+                 case 101: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1029 of Java.javacc
+  // Code for Expression specified on line 1029 of Java.javacc
+       Expression();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from VariableInitializer");
+        if (buildTree) {
+            int VariableInitializer18Mark = closeDeferredNodeScope(VariableInitializer18Floor);
+            if (nodeArity() - VariableInitializer18Mark > 1) {
+                VariableInitializer VariableInitializer18 = new VariableInitializer();
+                VariableInitializer18.setBeginLine(VariableInitializer18Start.beginLine);
+                VariableInitializer18.setBeginColumn(VariableInitializer18Start.beginColumn);
+                VariableInitializer18.setInputSource(this.getInputSource());
+                VariableInitializer18.setEndLine(current_token.getEndLine());
+                VariableInitializer18.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(VariableInitializer18, VariableInitializer18Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1032
+    final public 
+    void
+    ArrayInitializer() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1032 of Java.javacc");
+     
+  // Code for expansion specified on line 1035 of Java.javacc
+    
+        int ArrayInitializer19Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ArrayInitializer19Start = getToken(1);
+  // Code for expansion specified on line 1035 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 1035 of Java.javacc
+   int int26
+      = nextTokenKind()
+   ;
+         if (             int26 >= 0 && (jj_first_set_3[int26 >> 6] & (1L << int26)) != 0L
+) {
+              // Code for expansion specified on line 1035 of Java.javacc
+  // Code for VariableInitializer specified on line 1035 of Java.javacc
+       VariableInitializer();
+  // Code for expansion specified on line 1035 of Java.javacc
+    label_38:
+    while (true) {
+         if (!(        phase2_38_Java_javacc_line_1035(2)
+)) {
+            break label_38;
+         }
+  // Code for expansion specified on line 1035 of Java.javacc
+  // Code for expansion specified on line 1035 of Java.javacc
+       consumeToken(83);
+  // Code for VariableInitializer specified on line 1035 of Java.javacc
+       VariableInitializer();
+    }
+
+         }
+  // Code for expansion specified on line 1035 of Java.javacc
+   int int27
+      = nextTokenKind()
+   ;
+         if (             int27 == 83 
+) {
+              // Code for expansion specified on line 1035 of Java.javacc
+  // Code for expansion specified on line 1035 of Java.javacc
+       consumeToken(83);
+
+         }
+  // Code for expansion specified on line 1035 of Java.javacc
+       consumeToken(79);
+        if (trace_enabled) LOGGER.info("Exiting normally from ArrayInitializer");
+        if (buildTree) {
+            int ArrayInitializer19Mark = closeDeferredNodeScope(ArrayInitializer19Floor);
+            if (nodeArity() - ArrayInitializer19Mark > 1) {
+                ArrayInitializer ArrayInitializer19 = new ArrayInitializer();
+                ArrayInitializer19.setBeginLine(ArrayInitializer19Start.beginLine);
+                ArrayInitializer19.setBeginColumn(ArrayInitializer19Start.beginColumn);
+                ArrayInitializer19.setInputSource(this.getInputSource());
+                ArrayInitializer19.setEndLine(current_token.getEndLine());
+                ArrayInitializer19.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ArrayInitializer19, ArrayInitializer19Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1038
+    final public 
+    void
+    MethodDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1038 of Java.javacc");
+     
+  // Code for expansion specified on line 1042 of Java.javacc
+    
+        int MethodDeclaration20Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MethodDeclaration20Start = getToken(1);
+  // Code for expansion specified on line 1042 of Java.javacc
+   int int28
+      = nextTokenKind()
+   ;
+         if (             int28 == 87 
+) {
+              // Code for expansion specified on line 1042 of Java.javacc
+  // Code for TypeParameters specified on line 1042 of Java.javacc
+       TypeParameters();
+
+         }
+  // Code for ReturnType specified on line 1043 of Java.javacc
+       ReturnType();
+  // Code for MethodDeclarator specified on line 1044 of Java.javacc
+       MethodDeclarator();
+  // Code for expansion specified on line 1044 of Java.javacc
+   int int29
+      = nextTokenKind()
+   ;
+         if (             int29 == 55 
+) {
+              // Code for expansion specified on line 1044 of Java.javacc
+  // Code for ThrowsList specified on line 1044 of Java.javacc
+       ThrowsList();
+
+         }
+  // Code for expansion specified on line 1045 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 78: 
+                      // Code for expansion specified on line 1045 of Java.javacc
+  // Code for Block specified on line 1045 of Java.javacc
+       Block();
+
+                    break;
+                 case 82: 
+                      // Code for expansion specified on line 1045 of Java.javacc
+  // Code for expansion specified on line 1045 of Java.javacc
+       consumeToken(82);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from MethodDeclaration");
+        if (buildTree) {
+            int MethodDeclaration20Mark = closeDeferredNodeScope(MethodDeclaration20Floor);
+            if (nodeArity() - MethodDeclaration20Mark > 1) {
+                MethodDeclaration MethodDeclaration20 = new MethodDeclaration();
+                MethodDeclaration20.setBeginLine(MethodDeclaration20Start.beginLine);
+                MethodDeclaration20.setBeginColumn(MethodDeclaration20Start.beginColumn);
+                MethodDeclaration20.setInputSource(this.getInputSource());
+                MethodDeclaration20.setEndLine(current_token.getEndLine());
+                MethodDeclaration20.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MethodDeclaration20, MethodDeclaration20Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1068
+    final public 
+    void
+    MethodDeclarator() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1068 of Java.javacc");
+     
+  // Code for expansion specified on line 1071 of Java.javacc
+  // Code for expansion specified on line 1071 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for FormalParameters specified on line 1071 of Java.javacc
+       FormalParameters();
+  // Code for expansion specified on line 1071 of Java.javacc
+    label_43:
+    while (true) {
+   int int30
+      = nextTokenKind()
+   ;
+         if (!(             int30 == 80 
+)) {
+            break label_43;
+         }
+  // Code for expansion specified on line 1071 of Java.javacc
+  // Code for expansion specified on line 1071 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1071 of Java.javacc
+       consumeToken(81);
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from MethodDeclarator");
+    }   
+    
+
+
+// Java.javacc, line 1074
+    final public 
+    FormalParams
+    FormalParameters() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1074 of Java.javacc");
+     
+  // Code for expansion specified on line 1077 of Java.javacc
+    
+        boolean FormalParameters21forced = false;
+   FormalParams FormalParameters21 = null;
+   if (buildTree) {
+       FormalParameters21 = new FormalParams();
+       Token start = getToken(1);
+       FormalParameters21.setBeginLine(start.beginLine);
+       FormalParameters21.setBeginColumn(start.beginColumn);
+       FormalParameters21.setInputSource(this.getInputSource());
+	    openNodeScope(FormalParameters21);
+  }
+          ParseException parseException21 = null;
+         try {
+  // Code for expansion specified on line 1077 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 1078 of Java.javacc
+   int int32
+      = nextTokenKind()
+   ;
+         if (             int32 >= 0 && (jj_first_set_4[int32 >> 6] & (1L << int32)) != 0L
+) {
+              // Code for expansion specified on line 1078 of Java.javacc
+  // Code for FormalParameter specified on line 1078 of Java.javacc
+       FormalParameter();
+  // Code for expansion specified on line 1078 of Java.javacc
+    label_45:
+    while (true) {
+   int int31
+      = nextTokenKind()
+   ;
+         if (!(             int31 == 83 
+)) {
+            break label_45;
+         }
+  // Code for expansion specified on line 1078 of Java.javacc
+  // Code for expansion specified on line 1078 of Java.javacc
+       consumeToken(83);
+  // Code for FormalParameter specified on line 1078 of Java.javacc
+       FormalParameter();
+    }
+
+         }
+  // Code for expansion specified on line 1079 of Java.javacc
+       consumeToken(77);
+  // Code for expansion specified on line 1080 of Java.javacc
+       
+        return FormalParameters21;
+    
+         }
+         catch (ParseException e) { 
+             parseException21 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException21 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException21.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  FormalParameters21.setEndLine(current_token.getEndLine());
+		              FormalParameters21.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(FormalParameters21, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1118
+    final public 
+    FormalParameter
+    FormalParameter() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1118 of Java.javacc");
+     
+  // Code for expansion specified on line 1121 of Java.javacc
+    
+        boolean FormalParameter22forced = false;
+   FormalParameter FormalParameter22 = null;
+   if (buildTree) {
+       FormalParameter22 = new FormalParameter();
+       Token start = getToken(1);
+       FormalParameter22.setBeginLine(start.beginLine);
+       FormalParameter22.setBeginColumn(start.beginColumn);
+       FormalParameter22.setInputSource(this.getInputSource());
+	    openNodeScope(FormalParameter22);
+  }
+          ParseException parseException22 = null;
+         try {
+  // Code for Modifiers specified on line 1121 of Java.javacc
+       Modifiers();
+  // Code for Type specified on line 1121 of Java.javacc
+       Type();
+  // Code for expansion specified on line 1121 of Java.javacc
+   int int33
+      = nextTokenKind()
+   ;
+         if (             int33 == 122 
+) {
+              // Code for expansion specified on line 1121 of Java.javacc
+  // Code for expansion specified on line 1121 of Java.javacc
+       consumeToken(122);
+
+         }
+  // Code for VariableDeclaratorId specified on line 1121 of Java.javacc
+       VariableDeclaratorId();
+  // Code for expansion specified on line 1122 of Java.javacc
+       
+        return FormalParameter22;
+    
+         }
+         catch (ParseException e) { 
+             parseException22 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException22 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException22.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  FormalParameter22.setEndLine(current_token.getEndLine());
+		              FormalParameter22.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(FormalParameter22, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1127
+    final public 
+    void
+    ConstructorDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1127 of Java.javacc");
+     
+  // Code for expansion specified on line 1130 of Java.javacc
+    
+        int ConstructorDeclaration23Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ConstructorDeclaration23Start = getToken(1);
+  // Code for expansion specified on line 1130 of Java.javacc
+   int int34
+      = nextTokenKind()
+   ;
+         if (             int34 == 87 
+) {
+              // Code for expansion specified on line 1130 of Java.javacc
+  // Code for TypeParameters specified on line 1130 of Java.javacc
+       TypeParameters();
+
+         }
+  // Code for expansion specified on line 1132 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for FormalParameters specified on line 1132 of Java.javacc
+       FormalParameters();
+  // Code for expansion specified on line 1132 of Java.javacc
+   int int35
+      = nextTokenKind()
+   ;
+         if (             int35 == 55 
+) {
+              // Code for expansion specified on line 1132 of Java.javacc
+  // Code for ThrowsList specified on line 1132 of Java.javacc
+       ThrowsList();
+
+         }
+  // Code for expansion specified on line 1133 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 1134 of Java.javacc
+         if (        phase2_49_Java_javacc_line_1134(INFINITY)
+) {
+              // Code for expansion specified on line 1134 of Java.javacc
+  // Code for ExplicitConstructorInvocation specified on line 1134 of Java.javacc
+       ExplicitConstructorInvocation();
+
+         }
+  // Code for expansion specified on line 1135 of Java.javacc
+    label_51:
+    while (true) {
+   int int36
+      = nextTokenKind()
+   ;
+         if (!(             int36 >= 0 && (jj_first_set_5[int36 >> 6] & (1L << int36)) != 0L
+)) {
+            break label_51;
+         }
+  // Code for expansion specified on line 1135 of Java.javacc
+  // Code for BlockStatement specified on line 1135 of Java.javacc
+       BlockStatement();
+    }
+  // Code for expansion specified on line 1136 of Java.javacc
+       consumeToken(79);
+        if (trace_enabled) LOGGER.info("Exiting normally from ConstructorDeclaration");
+        if (buildTree) {
+            int ConstructorDeclaration23Mark = closeDeferredNodeScope(ConstructorDeclaration23Floor);
+            if (nodeArity() - ConstructorDeclaration23Mark > 1) {
+                ConstructorDeclaration ConstructorDeclaration23 = new ConstructorDeclaration();
+                ConstructorDeclaration23.setBeginLine(ConstructorDeclaration23Start.beginLine);
+                ConstructorDeclaration23.setBeginColumn(ConstructorDeclaration23Start.beginColumn);
+                ConstructorDeclaration23.setInputSource(this.getInputSource());
+                ConstructorDeclaration23.setEndLine(current_token.getEndLine());
+                ConstructorDeclaration23.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ConstructorDeclaration23, ConstructorDeclaration23Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1139
+    final public 
+    void
+    ExplicitConstructorInvocation() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1139 of Java.javacc");
+     
+  // Code for expansion specified on line 1142 of Java.javacc
+    
+        int ExplicitConstructorInvocation24Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ExplicitConstructorInvocation24Start = getToken(1);
+            if (
+                phase2_53_Java_javacc_line_1142(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1142 of Java.javacc
+  // Code for expansion specified on line 1143 of Java.javacc
+       consumeToken(53);
+  // Code for Arguments specified on line 1143 of Java.javacc
+       Arguments();
+  // Code for expansion specified on line 1143 of Java.javacc
+       consumeToken(82);
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1145 of Java.javacc
+  // Code for expansion specified on line 1145 of Java.javacc
+         if (        phase2_52_Java_javacc_line_1145(2)
+) {
+              // Code for expansion specified on line 1145 of Java.javacc
+  // Code for PrimaryExpression specified on line 1145 of Java.javacc
+       PrimaryExpression();
+  // Code for expansion specified on line 1145 of Java.javacc
+       consumeToken(84);
+
+         }
+  // Code for expansion specified on line 1145 of Java.javacc
+       consumeToken(50);
+  // Code for Arguments specified on line 1145 of Java.javacc
+       Arguments();
+  // Code for expansion specified on line 1145 of Java.javacc
+       consumeToken(82);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from ExplicitConstructorInvocation");
+        if (buildTree) {
+            int ExplicitConstructorInvocation24Mark = closeDeferredNodeScope(ExplicitConstructorInvocation24Floor);
+            if (nodeArity() - ExplicitConstructorInvocation24Mark > 1) {
+                ExplicitConstructorInvocation ExplicitConstructorInvocation24 = new ExplicitConstructorInvocation();
+                ExplicitConstructorInvocation24.setBeginLine(ExplicitConstructorInvocation24Start.beginLine);
+                ExplicitConstructorInvocation24.setBeginColumn(ExplicitConstructorInvocation24Start.beginColumn);
+                ExplicitConstructorInvocation24.setInputSource(this.getInputSource());
+                ExplicitConstructorInvocation24.setEndLine(current_token.getEndLine());
+                ExplicitConstructorInvocation24.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ExplicitConstructorInvocation24, ExplicitConstructorInvocation24Mark);
+            }
+        }
+    
+    }   
+    
+
+
+
+// Java.javacc, line 1149
+    final public 
+    void
+    Initializer() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1149 of Java.javacc");
+     
+  // Code for expansion specified on line 1152 of Java.javacc
+    
+        int Initializer25Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token Initializer25Start = getToken(1);
+  // Code for expansion specified on line 1152 of Java.javacc
+   int int37
+      = nextTokenKind()
+   ;
+         if (             int37 == 48 
+) {
+              // Code for expansion specified on line 1152 of Java.javacc
+  // Code for expansion specified on line 1152 of Java.javacc
+       consumeToken(48);
+
+         }
+  // Code for Block specified on line 1152 of Java.javacc
+       Block();
+        if (trace_enabled) LOGGER.info("Exiting normally from Initializer");
+        if (buildTree) {
+            int Initializer25Mark = closeDeferredNodeScope(Initializer25Floor);
+            if (nodeArity() - Initializer25Mark > 1) {
+                Initializer Initializer25 = new Initializer();
+                Initializer25.setBeginLine(Initializer25Start.beginLine);
+                Initializer25.setBeginColumn(Initializer25Start.beginColumn);
+                Initializer25.setInputSource(this.getInputSource());
+                Initializer25.setEndLine(current_token.getEndLine());
+                Initializer25.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Initializer25, Initializer25Mark);
+            }
+        }
+    
+    }   
+    
+
+
+/*
+ * Type, name and expression syntax follows.
+ */
+
+
+// Java.javacc, line 1160
+    final public 
+    void
+    Type() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1160 of Java.javacc");
+     
+  // Code for expansion specified on line 1163 of Java.javacc
+    
+        int Type26Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token Type26Start = getToken(1);
+            if (
+                phase2_55_Java_javacc_line_1163(2)
+                ) { 
+                     // Code for expansion specified on line 1163 of Java.javacc
+  // Code for ReferenceType specified on line 1163 of Java.javacc
+       ReferenceType();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 47: 
+                      // Code for expansion specified on line 1165 of Java.javacc
+  // Code for PrimitiveType specified on line 1165 of Java.javacc
+       PrimitiveType();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from Type");
+        if (buildTree) {
+            int Type26Mark = closeDeferredNodeScope(Type26Floor);
+            if (nodeArity() - Type26Mark > 1) {
+                Type Type26 = new Type();
+                Type26.setBeginLine(Type26Start.beginLine);
+                Type26.setBeginColumn(Type26Start.beginColumn);
+                Type26.setInputSource(this.getInputSource());
+                Type26.setEndLine(current_token.getEndLine());
+                Type26.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Type26, Type26Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1168
+    final public 
+    void
+    ReferenceType() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1168 of Java.javacc");
+     
+  // Code for expansion specified on line 1171 of Java.javacc
+    
+        int ReferenceType27Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ReferenceType27Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 47: 
+                      // Code for expansion specified on line 1171 of Java.javacc
+  // Code for PrimitiveArrayType specified on line 1171 of Java.javacc
+       PrimitiveArrayType();
+
+                    break;
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1173 of Java.javacc
+  // Code for expansion specified on line 1173 of Java.javacc
+  // Code for ClassOrInterfaceType specified on line 1173 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 1173 of Java.javacc
+    label_57:
+    while (true) {
+         if (!(        phase2_57_Java_javacc_line_1173(2)
+)) {
+            break label_57;
+         }
+  // Code for expansion specified on line 1173 of Java.javacc
+  // Code for expansion specified on line 1173 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1173 of Java.javacc
+       consumeToken(81);
+    }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from ReferenceType");
+        if (buildTree) {
+            int ReferenceType27Mark = closeDeferredNodeScope(ReferenceType27Floor);
+            if (nodeArity() - ReferenceType27Mark > 1) {
+                ReferenceType ReferenceType27 = new ReferenceType();
+                ReferenceType27.setBeginLine(ReferenceType27Start.beginLine);
+                ReferenceType27.setBeginColumn(ReferenceType27Start.beginColumn);
+                ReferenceType27.setInputSource(this.getInputSource());
+                ReferenceType27.setEndLine(current_token.getEndLine());
+                ReferenceType27.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ReferenceType27, ReferenceType27Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1176
+    final public 
+    ObjectType
+    ClassOrInterfaceType() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1176 of Java.javacc");
+     
+  // Code for expansion specified on line 1179 of Java.javacc
+    
+        boolean ClassOrInterfaceType28forced = false;
+   ObjectType ClassOrInterfaceType28 = null;
+   if (buildTree) {
+       ClassOrInterfaceType28 = new ObjectType();
+       Token start = getToken(1);
+       ClassOrInterfaceType28.setBeginLine(start.beginLine);
+       ClassOrInterfaceType28.setBeginColumn(start.beginColumn);
+       ClassOrInterfaceType28.setInputSource(this.getInputSource());
+	    openNodeScope(ClassOrInterfaceType28);
+  }
+          ParseException parseException28 = null;
+         try {
+  // Code for expansion specified on line 1179 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 1180 of Java.javacc
+         if (        phase2_59_Java_javacc_line_1180(2)
+) {
+              // Code for expansion specified on line 1180 of Java.javacc
+  // Code for TypeArguments specified on line 1180 of Java.javacc
+       TypeArguments();
+
+         }
+  // Code for expansion specified on line 1181 of Java.javacc
+    label_61:
+    while (true) {
+         if (!(        phase2_63_Java_javacc_line_1181(2)
+)) {
+            break label_61;
+         }
+  // Code for expansion specified on line 1181 of Java.javacc
+  // Code for expansion specified on line 1181 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 1181 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 1181 of Java.javacc
+         if (        phase2_62_Java_javacc_line_1181(2)
+) {
+              // Code for expansion specified on line 1181 of Java.javacc
+  // Code for TypeArguments specified on line 1181 of Java.javacc
+       TypeArguments();
+
+         }
+    }
+  // Code for expansion specified on line 1182 of Java.javacc
+       
+        return ClassOrInterfaceType28;
+    
+         }
+         catch (ParseException e) { 
+             parseException28 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException28 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException28.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ClassOrInterfaceType28.setEndLine(current_token.getEndLine());
+		              ClassOrInterfaceType28.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ClassOrInterfaceType28, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1205
+    final public 
+    void
+    DiamondOperator() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1205 of Java.javacc");
+     
+  // Code for expansion specified on line 1208 of Java.javacc
+    
+        int DiamondOperator29Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token DiamondOperator29Start = getToken(1);
+  // Code for expansion specified on line 1208 of Java.javacc
+       consumeToken(87);
+  // Code for expansion specified on line 1209 of Java.javacc
+       consumeToken(86);
+        if (trace_enabled) LOGGER.info("Exiting normally from DiamondOperator");
+        if (buildTree) {
+            int DiamondOperator29Mark = closeDeferredNodeScope(DiamondOperator29Floor);
+            if (nodeArity() - DiamondOperator29Mark > 1) {
+                DiamondOperator DiamondOperator29 = new DiamondOperator();
+                DiamondOperator29.setBeginLine(DiamondOperator29Start.beginLine);
+                DiamondOperator29.setBeginColumn(DiamondOperator29Start.beginColumn);
+                DiamondOperator29.setInputSource(this.getInputSource());
+                DiamondOperator29.setEndLine(current_token.getEndLine());
+                DiamondOperator29.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(DiamondOperator29, DiamondOperator29Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1212
+    final public 
+    void
+    PossiblyEmptyTypeArguments() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1212 of Java.javacc");
+     
+
+  // Code for expansion specified on line 1216 of Java.javacc
+            if (
+                phase2_64_Java_javacc_line_1216(2)
+                ) { 
+                     // Code for expansion specified on line 1216 of Java.javacc
+  // Code for DiamondOperator specified on line 1217 of Java.javacc
+       DiamondOperator();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 87: 
+                      // Code for expansion specified on line 1219 of Java.javacc
+  // Code for TypeArguments specified on line 1219 of Java.javacc
+       TypeArguments();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from PossiblyEmptyTypeArguments");
+    }   
+    
+
+
+// Java.javacc, line 1222
+    final public 
+    void
+    TypeArguments() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1222 of Java.javacc");
+     
+  // Code for expansion specified on line 1225 of Java.javacc
+    
+        int TypeArguments30Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token TypeArguments30Start = getToken(1);
+  // Code for expansion specified on line 1225 of Java.javacc
+       consumeToken(87);
+  // Code for TypeArgument specified on line 1226 of Java.javacc
+       TypeArgument();
+  // Code for expansion specified on line 1226 of Java.javacc
+    label_66:
+    while (true) {
+   int int38
+      = nextTokenKind()
+   ;
+         if (!(             int38 == 83 
+)) {
+            break label_66;
+         }
+  // Code for expansion specified on line 1226 of Java.javacc
+  // Code for expansion specified on line 1226 of Java.javacc
+       consumeToken(83);
+  // Code for TypeArgument specified on line 1226 of Java.javacc
+       TypeArgument();
+    }
+  // Code for expansion specified on line 1227 of Java.javacc
+       consumeToken(86);
+        if (trace_enabled) LOGGER.info("Exiting normally from TypeArguments");
+        if (buildTree) {
+            int TypeArguments30Mark = closeDeferredNodeScope(TypeArguments30Floor);
+            if (nodeArity() - TypeArguments30Mark > 1) {
+                TypeArguments TypeArguments30 = new TypeArguments();
+                TypeArguments30.setBeginLine(TypeArguments30Start.beginLine);
+                TypeArguments30.setBeginColumn(TypeArguments30Start.beginColumn);
+                TypeArguments30.setInputSource(this.getInputSource());
+                TypeArguments30.setEndLine(current_token.getEndLine());
+                TypeArguments30.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(TypeArguments30, TypeArguments30Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1230
+    final public 
+    void
+    TypeArgument() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1230 of Java.javacc");
+     
+  // Code for expansion specified on line 1233 of Java.javacc
+    
+        int TypeArgument31Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token TypeArgument31Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 47: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1233 of Java.javacc
+  // Code for ReferenceType specified on line 1233 of Java.javacc
+       ReferenceType();
+
+                    break;
+                 case 90: 
+                      // Code for expansion specified on line 1235 of Java.javacc
+  // Code for expansion specified on line 1235 of Java.javacc
+       consumeToken(90);
+  // Code for expansion specified on line 1235 of Java.javacc
+   int int39
+      = nextTokenKind()
+   ;
+         if (             int39 == 25 || 
+             int39 == 50 
+) {
+              // Code for expansion specified on line 1235 of Java.javacc
+  // Code for WildcardBounds specified on line 1235 of Java.javacc
+       WildcardBounds();
+
+         }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from TypeArgument");
+        if (buildTree) {
+            int TypeArgument31Mark = closeDeferredNodeScope(TypeArgument31Floor);
+            if (nodeArity() - TypeArgument31Mark > 1) {
+                TypeArgument TypeArgument31 = new TypeArgument();
+                TypeArgument31.setBeginLine(TypeArgument31Start.beginLine);
+                TypeArgument31.setBeginColumn(TypeArgument31Start.beginColumn);
+                TypeArgument31.setInputSource(this.getInputSource());
+                TypeArgument31.setEndLine(current_token.getEndLine());
+                TypeArgument31.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(TypeArgument31, TypeArgument31Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1238
+    final public 
+    void
+    WildcardBounds() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1238 of Java.javacc");
+     
+  // Code for expansion specified on line 1241 of Java.javacc
+    
+        int WildcardBounds32Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token WildcardBounds32Start = getToken(1);
+  // Code for expansion specified on line 1241 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 25: 
+                      // Code for expansion specified on line 1241 of Java.javacc
+  // Code for expansion specified on line 1241 of Java.javacc
+       consumeToken(25);
+
+                    break;
+                 case 50: 
+                      // Code for expansion specified on line 1241 of Java.javacc
+  // Code for expansion specified on line 1241 of Java.javacc
+       consumeToken(50);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for ReferenceType specified on line 1241 of Java.javacc
+       ReferenceType();
+        if (trace_enabled) LOGGER.info("Exiting normally from WildcardBounds");
+        if (buildTree) {
+            int WildcardBounds32Mark = closeDeferredNodeScope(WildcardBounds32Floor);
+            if (nodeArity() - WildcardBounds32Mark > 1) {
+                WildcardBounds WildcardBounds32 = new WildcardBounds();
+                WildcardBounds32.setBeginLine(WildcardBounds32Start.beginLine);
+                WildcardBounds32.setBeginColumn(WildcardBounds32Start.beginColumn);
+                WildcardBounds32.setInputSource(this.getInputSource());
+                WildcardBounds32.setEndLine(current_token.getEndLine());
+                WildcardBounds32.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(WildcardBounds32, WildcardBounds32Mark);
+            }
+        }
+    
+    }   
+    
+
+
+
+// Java.javacc, line 1245
+    final public 
+    void
+    PrimitiveType() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1245 of Java.javacc");
+     
+  // Code for expansion specified on line 1248 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                      // Code for expansion specified on line 1248 of Java.javacc
+  // Code for expansion specified on line 1248 of Java.javacc
+       consumeToken(11);
+
+                    break;
+                 case 16: 
+                      // Code for expansion specified on line 1250 of Java.javacc
+  // Code for expansion specified on line 1250 of Java.javacc
+       consumeToken(16);
+
+                    break;
+                 case 13: 
+                      // Code for expansion specified on line 1252 of Java.javacc
+  // Code for expansion specified on line 1252 of Java.javacc
+       consumeToken(13);
+
+                    break;
+                 case 47: 
+                      // Code for expansion specified on line 1254 of Java.javacc
+  // Code for expansion specified on line 1254 of Java.javacc
+       consumeToken(47);
+
+                    break;
+                 case 36: 
+                      // Code for expansion specified on line 1256 of Java.javacc
+  // Code for expansion specified on line 1256 of Java.javacc
+       consumeToken(36);
+
+                    break;
+                 case 38: 
+                      // Code for expansion specified on line 1258 of Java.javacc
+  // Code for expansion specified on line 1258 of Java.javacc
+       consumeToken(38);
+
+                    break;
+                 case 29: 
+                      // Code for expansion specified on line 1260 of Java.javacc
+  // Code for expansion specified on line 1260 of Java.javacc
+       consumeToken(29);
+
+                    break;
+                 case 22: 
+                      // Code for expansion specified on line 1262 of Java.javacc
+  // Code for expansion specified on line 1262 of Java.javacc
+       consumeToken(22);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from PrimitiveType");
+    }   
+    
+
+
+// Java.javacc, line 1265
+    final public 
+    void
+    PrimitiveArrayType() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1265 of Java.javacc");
+     
+  // Code for expansion specified on line 1268 of Java.javacc
+    
+        int PrimitiveArrayType33Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token PrimitiveArrayType33Start = getToken(1);
+  // Code for PrimitiveType specified on line 1268 of Java.javacc
+       PrimitiveType();
+  // Code for expansion specified on line 1268 of Java.javacc
+   label_68:
+   while (true) {
+  // Code for expansion specified on line 1268 of Java.javacc
+  // Code for expansion specified on line 1268 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1268 of Java.javacc
+       consumeToken(81);
+         if (!(        phase2_68_Java_javacc_line_1268(2)
+)) {
+            break label_68;
+         }
+   }
+        if (trace_enabled) LOGGER.info("Exiting normally from PrimitiveArrayType");
+        if (buildTree) {
+            int PrimitiveArrayType33Mark = closeDeferredNodeScope(PrimitiveArrayType33Floor);
+            if (nodeArity() - PrimitiveArrayType33Mark > 1) {
+                PrimitiveArrayType PrimitiveArrayType33 = new PrimitiveArrayType();
+                PrimitiveArrayType33.setBeginLine(PrimitiveArrayType33Start.beginLine);
+                PrimitiveArrayType33.setBeginColumn(PrimitiveArrayType33Start.beginColumn);
+                PrimitiveArrayType33.setInputSource(this.getInputSource());
+                PrimitiveArrayType33.setEndLine(current_token.getEndLine());
+                PrimitiveArrayType33.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PrimitiveArrayType33, PrimitiveArrayType33Mark);
+            }
+        }
+    
+    }   
+    
+
+
+
+// Java.javacc, line 1272
+    final public 
+    ReturnType
+    ReturnType() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1272 of Java.javacc");
+     
+  // Code for expansion specified on line 1275 of Java.javacc
+    
+        boolean ReturnType34forced = false;
+   ReturnType ReturnType34 = null;
+   if (buildTree) {
+       ReturnType34 = new ReturnType();
+       Token start = getToken(1);
+       ReturnType34.setBeginLine(start.beginLine);
+       ReturnType34.setBeginColumn(start.beginColumn);
+       ReturnType34.setInputSource(this.getInputSource());
+	    openNodeScope(ReturnType34);
+  }
+          ParseException parseException34 = null;
+         try {
+  // Code for expansion specified on line 1276 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 59: 
+                      // Code for expansion specified on line 1276 of Java.javacc
+  // Code for expansion specified on line 1276 of Java.javacc
+       consumeToken(59);
+
+                    break;
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 47: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1278 of Java.javacc
+  // Code for Type specified on line 1278 of Java.javacc
+       Type();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for expansion specified on line 1280 of Java.javacc
+       
+        return ReturnType34;
+    
+         }
+         catch (ParseException e) { 
+             parseException34 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException34 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException34.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ReturnType34.setEndLine(current_token.getEndLine());
+		              ReturnType34.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ReturnType34, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1285
+    final public 
+    Name
+    Name() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1285 of Java.javacc");
+     
+  // Code for expansion specified on line 1292 of Java.javacc
+    
+        boolean Name35forced = false;
+   Name Name35 = null;
+   if (buildTree) {
+       Name35 = new Name();
+       Token start = getToken(1);
+       Name35.setBeginLine(start.beginLine);
+       Name35.setBeginColumn(start.beginColumn);
+       Name35.setInputSource(this.getInputSource());
+	    openNodeScope(Name35);
+  }
+          ParseException parseException35 = null;
+         try {
+  // Code for expansion specified on line 1292 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 1296 of Java.javacc
+    label_70:
+    while (true) {
+         if (!(        phase2_70_Java_javacc_line_1294(2)
+)) {
+            break label_70;
+         }
+  // Code for expansion specified on line 1294 of Java.javacc
+  // Code for expansion specified on line 1295 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 1295 of Java.javacc
+       consumeToken(IDENTIFIER);
+    }
+  // Code for expansion specified on line 1297 of Java.javacc
+       
+        return Name35;
+    
+         }
+         catch (ParseException e) { 
+             parseException35 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException35 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException35.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Name35.setEndLine(current_token.getEndLine());
+		              Name35.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Name35, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+
+// Java.javacc, line 1314
+    final public 
+    ThrowsList
+    ThrowsList() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1314 of Java.javacc");
+     
+  // Code for expansion specified on line 1317 of Java.javacc
+    
+        boolean ThrowsList36forced = false;
+   ThrowsList ThrowsList36 = null;
+   if (buildTree) {
+       ThrowsList36 = new ThrowsList();
+       Token start = getToken(1);
+       ThrowsList36.setBeginLine(start.beginLine);
+       ThrowsList36.setBeginColumn(start.beginColumn);
+       ThrowsList36.setInputSource(this.getInputSource());
+	    openNodeScope(ThrowsList36);
+  }
+          ParseException parseException36 = null;
+         try {
+  // Code for expansion specified on line 1317 of Java.javacc
+       consumeToken(55);
+  // Code for Name specified on line 1317 of Java.javacc
+       Name();
+  // Code for expansion specified on line 1317 of Java.javacc
+    label_72:
+    while (true) {
+   int int40
+      = nextTokenKind()
+   ;
+         if (!(             int40 == 83 
+)) {
+            break label_72;
+         }
+  // Code for expansion specified on line 1317 of Java.javacc
+  // Code for expansion specified on line 1317 of Java.javacc
+       consumeToken(83);
+  // Code for Name specified on line 1317 of Java.javacc
+       Name();
+    }
+  // Code for expansion specified on line 1318 of Java.javacc
+       
+        return ThrowsList36;
+    
+         }
+         catch (ParseException e) { 
+             parseException36 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException36 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException36.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ThrowsList36.setEndLine(current_token.getEndLine());
+		              ThrowsList36.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ThrowsList36, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+/*
+ * Expression syntax follows.
+ */
+
+
+
+// Java.javacc, line 1346
+    final public 
+    Expression
+    Expression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1346 of Java.javacc");
+     
+  // Code for expansion specified on line 1349 of Java.javacc
+    
+        boolean Expression37forced = false;
+   Expression Expression37 = null;
+   if (buildTree) {
+       Expression37 = new Expression();
+       Token start = getToken(1);
+       Expression37.setBeginLine(start.beginLine);
+       Expression37.setBeginColumn(start.beginColumn);
+       Expression37.setInputSource(this.getInputSource());
+	    openNodeScope(Expression37);
+  }
+          ParseException parseException37 = null;
+         try {
+  // Code for AssignmentExpression specified on line 1349 of Java.javacc
+       AssignmentExpression();
+  // Code for expansion specified on line 1350 of Java.javacc
+       return (Expression) peekNode();
+         }
+         catch (ParseException e) { 
+             parseException37 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException37 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException37.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Expression37.setEndLine(current_token.getEndLine());
+		              Expression37.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Expression37, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+     
+
+/*
+ * This expansion has been written this way instead of:
+ *   Assignment() | TernaryExpression()
+ * for performance reasons.
+ * However, it is a weakening of the grammar for it allows the LHS of
+ * assignments to be any conditional expression whereas it can only be
+ * a primary expression.  Consider adding a semantic predicate to work
+ * around this.
+ */
+
+// Java.javacc, line 1385
+    final public 
+    void
+    AssignmentExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1385 of Java.javacc");
+     
+
+  // Code for expansion specified on line 1389 of Java.javacc
+    
+        int AssignmentExpression38Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token AssignmentExpression38Start = getToken(1);
+  // Code for TernaryExpression specified on line 1389 of Java.javacc
+       TernaryExpression();
+  // Code for expansion specified on line 1390 of Java.javacc
+         if (        phase2_73_Java_javacc_line_1391(2)
+) {
+              // Code for expansion specified on line 1391 of Java.javacc
+  // Code for AssignmentOperator specified on line 1392 of Java.javacc
+       AssignmentOperator();
+  // Code for Expression specified on line 1392 of Java.javacc
+       Expression();
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from AssignmentExpression");
+        if (buildTree) {
+            int AssignmentExpression38Mark = closeDeferredNodeScope(AssignmentExpression38Floor);
+            if (nodeArity() - AssignmentExpression38Mark > 1) {
+                AssignmentExpression AssignmentExpression38 = new AssignmentExpression();
+                AssignmentExpression38.setBeginLine(AssignmentExpression38Start.beginLine);
+                AssignmentExpression38.setBeginColumn(AssignmentExpression38Start.beginColumn);
+                AssignmentExpression38.setInputSource(this.getInputSource());
+                AssignmentExpression38.setEndLine(current_token.getEndLine());
+                AssignmentExpression38.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AssignmentExpression38, AssignmentExpression38Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1396
+    final public 
+    void
+    AssignmentOperator() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1396 of Java.javacc");
+     
+  // Code for expansion specified on line 1399 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 85: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(85);
+
+                    break;
+                 case 111: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(111);
+
+                    break;
+                 case 112: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(112);
+
+                    break;
+                 case 116: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(116);
+
+                    break;
+                 case 109: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(109);
+
+                    break;
+                 case 110: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(110);
+
+                    break;
+                 case 117: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(117);
+
+                    break;
+                 case 118: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(118);
+
+                    break;
+                 case 119: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(119);
+
+                    break;
+                 case 113: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(113);
+
+                    break;
+                 case 115: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(115);
+
+                    break;
+                 case 114: 
+                      // Code for expansion specified on line 1399 of Java.javacc
+  // Code for expansion specified on line 1399 of Java.javacc
+       consumeToken(114);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from AssignmentOperator");
+    }   
+    
+
+
+// Java.javacc, line 1402
+    final public 
+    void
+    TernaryExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1402 of Java.javacc");
+     
+  // Code for expansion specified on line 1405 of Java.javacc
+    
+        int TernaryExpression39Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token TernaryExpression39Start = getToken(1);
+  // Code for ConditionalOrExpression specified on line 1405 of Java.javacc
+       ConditionalOrExpression();
+  // Code for expansion specified on line 1405 of Java.javacc
+         if (        phase2_75_Java_javacc_line_1405(INFINITY)
+) {
+              // Code for expansion specified on line 1405 of Java.javacc
+  // Code for expansion specified on line 1405 of Java.javacc
+       consumeToken(90);
+  // Code for Expression specified on line 1405 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1405 of Java.javacc
+       consumeToken(91);
+  // Code for Expression specified on line 1405 of Java.javacc
+       Expression();
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from TernaryExpression");
+        if (buildTree) {
+            int TernaryExpression39Mark = closeDeferredNodeScope(TernaryExpression39Floor);
+            if (nodeArity() - TernaryExpression39Mark > 1) {
+                TernaryExpression TernaryExpression39 = new TernaryExpression();
+                TernaryExpression39.setBeginLine(TernaryExpression39Start.beginLine);
+                TernaryExpression39.setBeginColumn(TernaryExpression39Start.beginColumn);
+                TernaryExpression39.setInputSource(this.getInputSource());
+                TernaryExpression39.setEndLine(current_token.getEndLine());
+                TernaryExpression39.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(TernaryExpression39, TernaryExpression39Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1408
+    final public 
+    void
+    ConditionalOrExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1408 of Java.javacc");
+     
+     jj_climb_ConditionalOrExpression(0);
+     if (trace_enabled) LOGGER.info("Exiting normally from ConditionalOrExpression");
+    }   
+    private void jj_climb_ConditionalOrExpression(int minLevel) throws ParseException {
+        Token start = getToken(1);
+        InstanceOfExpression();
+        int level;
+        while ((level = jj_level_ConditionalOrExpression(nextTokenKind())) >= minLevel) {
+            Node node = null;
+            if (buildTree) {
+                switch (level) {
+                    case 0 : node = new ConditionalOrExpression(); break;
+                    case 1 : node = new ConditionalAndExpression(); break;
+                    case 2 : node = new InclusiveOrExpression(); break;
+                    case 3 : node = new ExclusiveOrExpression(); break;
+                    case 4 : node = new AndExpression(); break;
+                    case 5 : node = new EqualityExpression(); break;
+                }
+                node.setBeginLine(start.beginLine);
+                node.setBeginColumn(start.beginColumn);
+                node.setInputSource(this.getInputSource());
+                Node left = popNode();
+                openNodeScope(node);
+                pushNode(left);
+            }
+            do {
+                consumeToken(nextTokenKind());
+                if (level + 1 < 6) {
+                    jj_climb_ConditionalOrExpression(level + 1);
+                } else {
+                    InstanceOfExpression();
+                }
+            } while (jj_level_ConditionalOrExpression(nextTokenKind()) == level);
+            if (buildTree) {
+                node.setEndLine(current_token.getEndLine());
+                node.setEndColumn(current_token.getEndColumn());
+                closeNodeScope(node, true);
+            }
+        }
+    }
+
+    static private int jj_level_ConditionalOrExpression(int kind) {
+        switch (kind) {
+            case 96 :
+                return 0;
+            case 97 :
+                return 1;
+            case 105 :
+                return 2;
+            case 106 :
+                return 3;
+            case 104 :
+                return 4;
+            case 92 :
+            case 95 :
+                return 5;
+            default :
+                return -1;
+        }
+    }
+    
+
+
+// Java.javacc, line 1414
+    final public 
+    void
+    ConditionalAndExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1414 of Java.javacc");
+     
+  // Code for expansion specified on line 1417 of Java.javacc
+    
+        int ConditionalAndExpression40Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ConditionalAndExpression40Start = getToken(1);
+  // Code for InclusiveOrExpression specified on line 1417 of Java.javacc
+       InclusiveOrExpression();
+  // Code for expansion specified on line 1417 of Java.javacc
+    label_79:
+    while (true) {
+         if (!(        phase2_79_Java_javacc_line_1417(INFINITY)
+)) {
+            break label_79;
+         }
+  // Code for expansion specified on line 1417 of Java.javacc
+  // Code for expansion specified on line 1417 of Java.javacc
+       consumeToken(97);
+  // Code for InclusiveOrExpression specified on line 1417 of Java.javacc
+       InclusiveOrExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from ConditionalAndExpression");
+        if (buildTree) {
+            int ConditionalAndExpression40Mark = closeDeferredNodeScope(ConditionalAndExpression40Floor);
+            if (nodeArity() - ConditionalAndExpression40Mark > 1) {
+                ConditionalAndExpression ConditionalAndExpression40 = new ConditionalAndExpression();
+                ConditionalAndExpression40.setBeginLine(ConditionalAndExpression40Start.beginLine);
+                ConditionalAndExpression40.setBeginColumn(ConditionalAndExpression40Start.beginColumn);
+                ConditionalAndExpression40.setInputSource(this.getInputSource());
+                ConditionalAndExpression40.setEndLine(current_token.getEndLine());
+                ConditionalAndExpression40.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ConditionalAndExpression40, ConditionalAndExpression40Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1420
+    final public 
+    void
+    InclusiveOrExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1420 of Java.javacc");
+     
+  // Code for expansion specified on line 1423 of Java.javacc
+    
+        int InclusiveOrExpression41Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token InclusiveOrExpression41Start = getToken(1);
+  // Code for ExclusiveOrExpression specified on line 1423 of Java.javacc
+       ExclusiveOrExpression();
+  // Code for expansion specified on line 1423 of Java.javacc
+    label_81:
+    while (true) {
+         if (!(        phase2_81_Java_javacc_line_1423(INFINITY)
+)) {
+            break label_81;
+         }
+  // Code for expansion specified on line 1423 of Java.javacc
+  // Code for expansion specified on line 1423 of Java.javacc
+       consumeToken(105);
+  // Code for ExclusiveOrExpression specified on line 1423 of Java.javacc
+       ExclusiveOrExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from InclusiveOrExpression");
+        if (buildTree) {
+            int InclusiveOrExpression41Mark = closeDeferredNodeScope(InclusiveOrExpression41Floor);
+            if (nodeArity() - InclusiveOrExpression41Mark > 1) {
+                InclusiveOrExpression InclusiveOrExpression41 = new InclusiveOrExpression();
+                InclusiveOrExpression41.setBeginLine(InclusiveOrExpression41Start.beginLine);
+                InclusiveOrExpression41.setBeginColumn(InclusiveOrExpression41Start.beginColumn);
+                InclusiveOrExpression41.setInputSource(this.getInputSource());
+                InclusiveOrExpression41.setEndLine(current_token.getEndLine());
+                InclusiveOrExpression41.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(InclusiveOrExpression41, InclusiveOrExpression41Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1426
+    final public 
+    void
+    ExclusiveOrExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1426 of Java.javacc");
+     
+  // Code for expansion specified on line 1429 of Java.javacc
+    
+        int ExclusiveOrExpression42Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ExclusiveOrExpression42Start = getToken(1);
+  // Code for AndExpression specified on line 1429 of Java.javacc
+       AndExpression();
+  // Code for expansion specified on line 1429 of Java.javacc
+    label_83:
+    while (true) {
+         if (!(        phase2_83_Java_javacc_line_1429(INFINITY)
+)) {
+            break label_83;
+         }
+  // Code for expansion specified on line 1429 of Java.javacc
+  // Code for expansion specified on line 1429 of Java.javacc
+       consumeToken(106);
+  // Code for AndExpression specified on line 1429 of Java.javacc
+       AndExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from ExclusiveOrExpression");
+        if (buildTree) {
+            int ExclusiveOrExpression42Mark = closeDeferredNodeScope(ExclusiveOrExpression42Floor);
+            if (nodeArity() - ExclusiveOrExpression42Mark > 1) {
+                ExclusiveOrExpression ExclusiveOrExpression42 = new ExclusiveOrExpression();
+                ExclusiveOrExpression42.setBeginLine(ExclusiveOrExpression42Start.beginLine);
+                ExclusiveOrExpression42.setBeginColumn(ExclusiveOrExpression42Start.beginColumn);
+                ExclusiveOrExpression42.setInputSource(this.getInputSource());
+                ExclusiveOrExpression42.setEndLine(current_token.getEndLine());
+                ExclusiveOrExpression42.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ExclusiveOrExpression42, ExclusiveOrExpression42Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1432
+    final public 
+    void
+    AndExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1432 of Java.javacc");
+     
+  // Code for expansion specified on line 1435 of Java.javacc
+    
+        int AndExpression43Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token AndExpression43Start = getToken(1);
+  // Code for EqualityExpression specified on line 1435 of Java.javacc
+       EqualityExpression();
+  // Code for expansion specified on line 1435 of Java.javacc
+    label_85:
+    while (true) {
+         if (!(        phase2_85_Java_javacc_line_1435(INFINITY)
+)) {
+            break label_85;
+         }
+  // Code for expansion specified on line 1435 of Java.javacc
+  // Code for expansion specified on line 1435 of Java.javacc
+       consumeToken(104);
+  // Code for EqualityExpression specified on line 1435 of Java.javacc
+       EqualityExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+        if (buildTree) {
+            int AndExpression43Mark = closeDeferredNodeScope(AndExpression43Floor);
+            if (nodeArity() - AndExpression43Mark > 1) {
+                AndExpression AndExpression43 = new AndExpression();
+                AndExpression43.setBeginLine(AndExpression43Start.beginLine);
+                AndExpression43.setBeginColumn(AndExpression43Start.beginColumn);
+                AndExpression43.setInputSource(this.getInputSource());
+                AndExpression43.setEndLine(current_token.getEndLine());
+                AndExpression43.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AndExpression43, AndExpression43Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1438
+    final public 
+    void
+    EqualityExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1438 of Java.javacc");
+     
+  // Code for expansion specified on line 1441 of Java.javacc
+    
+        int EqualityExpression44Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token EqualityExpression44Start = getToken(1);
+  // Code for InstanceOfExpression specified on line 1441 of Java.javacc
+       InstanceOfExpression();
+  // Code for expansion specified on line 1441 of Java.javacc
+    label_87:
+    while (true) {
+   int int41
+      = nextTokenKind()
+   ;
+         if (!(             int41 == 92 || 
+             int41 == 95 
+)) {
+            break label_87;
+         }
+  // Code for expansion specified on line 1441 of Java.javacc
+  // Code for expansion specified on line 1441 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 92: 
+                      // Code for expansion specified on line 1441 of Java.javacc
+  // Code for expansion specified on line 1441 of Java.javacc
+       consumeToken(92);
+
+                    break;
+                 case 95: 
+                      // Code for expansion specified on line 1441 of Java.javacc
+  // Code for expansion specified on line 1441 of Java.javacc
+       consumeToken(95);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for InstanceOfExpression specified on line 1441 of Java.javacc
+       InstanceOfExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+        if (buildTree) {
+            int EqualityExpression44Mark = closeDeferredNodeScope(EqualityExpression44Floor);
+            if (nodeArity() - EqualityExpression44Mark > 1) {
+                EqualityExpression EqualityExpression44 = new EqualityExpression();
+                EqualityExpression44.setBeginLine(EqualityExpression44Start.beginLine);
+                EqualityExpression44.setBeginColumn(EqualityExpression44Start.beginColumn);
+                EqualityExpression44.setInputSource(this.getInputSource());
+                EqualityExpression44.setEndLine(current_token.getEndLine());
+                EqualityExpression44.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(EqualityExpression44, EqualityExpression44Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1444
+    final public 
+    void
+    InstanceOfExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1444 of Java.javacc");
+     
+  // Code for expansion specified on line 1447 of Java.javacc
+    
+        int InstanceOfExpression45Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token InstanceOfExpression45Start = getToken(1);
+  // Code for RelationalExpression specified on line 1447 of Java.javacc
+       RelationalExpression();
+  // Code for expansion specified on line 1447 of Java.javacc
+   int int42
+      = nextTokenKind()
+   ;
+         if (             int42 == 35 
+) {
+              // Code for expansion specified on line 1447 of Java.javacc
+  // Code for expansion specified on line 1447 of Java.javacc
+       consumeToken(35);
+  // Code for Type specified on line 1447 of Java.javacc
+       Type();
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from InstanceOfExpression");
+        if (buildTree) {
+            int InstanceOfExpression45Mark = closeDeferredNodeScope(InstanceOfExpression45Floor);
+            if (nodeArity() - InstanceOfExpression45Mark > 1) {
+                InstanceOfExpression InstanceOfExpression45 = new InstanceOfExpression();
+                InstanceOfExpression45.setBeginLine(InstanceOfExpression45Start.beginLine);
+                InstanceOfExpression45.setBeginColumn(InstanceOfExpression45Start.beginColumn);
+                InstanceOfExpression45.setInputSource(this.getInputSource());
+                InstanceOfExpression45.setEndLine(current_token.getEndLine());
+                InstanceOfExpression45.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(InstanceOfExpression45, InstanceOfExpression45Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1450
+    final public 
+    void
+    RelationalExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1450 of Java.javacc");
+     
+  // Code for expansion specified on line 1453 of Java.javacc
+    
+        int RelationalExpression46Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token RelationalExpression46Start = getToken(1);
+  // Code for ShiftExpression specified on line 1453 of Java.javacc
+       ShiftExpression();
+  // Code for expansion specified on line 1463 of Java.javacc
+    label_89:
+    while (true) {
+   int int43
+      = nextTokenKind()
+   ;
+         if (!(             int43 >= 0 && (jj_first_set_6[int43 >> 6] & (1L << int43)) != 0L
+)) {
+            break label_89;
+         }
+  // Code for expansion specified on line 1455 of Java.javacc
+  // Code for expansion specified on line 1457 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 87: 
+                      // Code for expansion specified on line 1457 of Java.javacc
+  // Code for expansion specified on line 1457 of Java.javacc
+       consumeToken(87);
+
+                    break;
+                 case 86: 
+                      // Code for expansion specified on line 1458 of Java.javacc
+  // Code for expansion specified on line 1458 of Java.javacc
+       consumeToken(86);
+
+                    break;
+                 case 93: 
+                      // Code for expansion specified on line 1459 of Java.javacc
+  // Code for expansion specified on line 1459 of Java.javacc
+       consumeToken(93);
+
+                    break;
+                 case 94: 
+                      // Code for expansion specified on line 1460 of Java.javacc
+  // Code for expansion specified on line 1460 of Java.javacc
+       consumeToken(94);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for ShiftExpression specified on line 1462 of Java.javacc
+       ShiftExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+        if (buildTree) {
+            int RelationalExpression46Mark = closeDeferredNodeScope(RelationalExpression46Floor);
+            if (nodeArity() - RelationalExpression46Mark > 1) {
+                RelationalExpression RelationalExpression46 = new RelationalExpression();
+                RelationalExpression46.setBeginLine(RelationalExpression46Start.beginLine);
+                RelationalExpression46.setBeginColumn(RelationalExpression46Start.beginColumn);
+                RelationalExpression46.setInputSource(this.getInputSource());
+                RelationalExpression46.setEndLine(current_token.getEndLine());
+                RelationalExpression46.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(RelationalExpression46, RelationalExpression46Mark);
+            }
+        }
+    
+    }   
+    
+
+
+
+// Java.javacc, line 1467
+    final public 
+    void
+    ShiftExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1467 of Java.javacc");
+     
+  // Code for expansion specified on line 1470 of Java.javacc
+    
+        int ShiftExpression47Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ShiftExpression47Start = getToken(1);
+  // Code for AdditiveExpression specified on line 1470 of Java.javacc
+       AdditiveExpression();
+  // Code for expansion specified on line 1479 of Java.javacc
+    label_90:
+    while (true) {
+         if (!(        phase2_90_Java_javacc_line_1472(2)
+)) {
+            break label_90;
+         }
+  // Code for expansion specified on line 1472 of Java.javacc
+  // Code for expansion specified on line 1474 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 108: 
+                      // Code for expansion specified on line 1474 of Java.javacc
+  // Code for expansion specified on line 1474 of Java.javacc
+       consumeToken(108);
+
+                    break;
+                 case 86: 
+                      // Code for expansion specified on line 1476 of Java.javacc
+  // Code for ShiftOperator specified on line 1476 of Java.javacc
+       ShiftOperator();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for AdditiveExpression specified on line 1478 of Java.javacc
+       AdditiveExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from ShiftExpression");
+        if (buildTree) {
+            int ShiftExpression47Mark = closeDeferredNodeScope(ShiftExpression47Floor);
+            if (nodeArity() - ShiftExpression47Mark > 1) {
+                ShiftExpression ShiftExpression47 = new ShiftExpression();
+                ShiftExpression47.setBeginLine(ShiftExpression47Start.beginLine);
+                ShiftExpression47.setBeginColumn(ShiftExpression47Start.beginColumn);
+                ShiftExpression47.setInputSource(this.getInputSource());
+                ShiftExpression47.setEndLine(current_token.getEndLine());
+                ShiftExpression47.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ShiftExpression47, ShiftExpression47Mark);
+            }
+        }
+    
+    }   
+    
+
+//Egad, what a ghastly kludge this is! Consider a REVISIT.
+
+
+// Java.javacc, line 1484
+    final public 
+    void
+    ShiftOperator() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1484 of Java.javacc");
+     
+   Token first, second, third=null;
+
+  // Code for expansion specified on line 1489 of Java.javacc
+  // Code for expansion specified on line 1489 of Java.javacc
+          
+   first =  
+       consumeToken(86);
+  // Code for expansion specified on line 1490 of Java.javacc
+          
+   second =  
+       consumeToken(86);
+  // Code for expansion specified on line 1491 of Java.javacc
+   int int44
+      = nextTokenKind()
+   ;
+         if (             int44 == 86 
+) {
+              // Code for expansion specified on line 1491 of Java.javacc
+  // Code for expansion specified on line 1491 of Java.javacc
+          third =  
+       consumeToken(86);
+
+         }
+  // Code for expansion specified on line 1492 of Java.javacc
+       
+      if (second.getBeginColumn() != first.getBeginColumn() + 1) {
+            throw new ParseException("Shift operator cannot have spaces or comments inside!\n" + getInputSource() + ":line " + first.beginLine + ":column " + first.beginColumn);
+      }
+      if (third!=null) {
+         if (third.getBeginColumn() != first.getBeginColumn() + 2) {
+              throw new ParseException("Shift operator >>> cannot have spaces or comments inside!\n" + getInputSource() + ":line " + first.beginLine +":column " +first.beginColumn);
+         }
+     	 first.image = ">>>";
+	 	 first.kind = RUNSIGNEDSHIFT;
+	 	 first.next = third.next;
+	 	 popNode();
+	 	 popNode();
+      } else {
+         first.image = ">>";
+	 	 first.kind = RSIGNEDSHIFT;
+	     first.next = second.next;
+	     popNode();
+      }
+   
+        if (trace_enabled) LOGGER.info("Exiting normally from ShiftOperator");
+    }   
+    
+
+
+
+// Java.javacc, line 1515
+    final public 
+    void
+    AdditiveExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1515 of Java.javacc");
+     
+     jj_climb_AdditiveExpression(0);
+     if (trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+    }   
+    private void jj_climb_AdditiveExpression(int minLevel) throws ParseException {
+        Token start = getToken(1);
+        UnaryExpression();
+        int level;
+        while ((level = jj_level_AdditiveExpression(nextTokenKind())) >= minLevel) {
+            Node node = null;
+            if (buildTree) {
+                switch (level) {
+                    case 0 : node = new AdditiveExpression(); break;
+                    case 1 : node = new MultiplicativeExpression(); break;
+                }
+                node.setBeginLine(start.beginLine);
+                node.setBeginColumn(start.beginColumn);
+                node.setInputSource(this.getInputSource());
+                Node left = popNode();
+                openNodeScope(node);
+                pushNode(left);
+            }
+            do {
+                consumeToken(nextTokenKind());
+                if (level + 1 < 2) {
+                    jj_climb_AdditiveExpression(level + 1);
+                } else {
+                    UnaryExpression();
+                }
+            } while (jj_level_AdditiveExpression(nextTokenKind()) == level);
+            if (buildTree) {
+                node.setEndLine(current_token.getEndLine());
+                node.setEndColumn(current_token.getEndColumn());
+                closeNodeScope(node, true);
+            }
+        }
+    }
+
+    static private int jj_level_AdditiveExpression(int kind) {
+        switch (kind) {
+            case 100 :
+            case 101 :
+                return 0;
+            case 102 :
+            case 103 :
+            case 107 :
+                return 1;
+            default :
+                return -1;
+        }
+    }
+    
+
+
+// Java.javacc, line 1521
+    final public 
+    void
+    MultiplicativeExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1521 of Java.javacc");
+     
+  // Code for expansion specified on line 1524 of Java.javacc
+    
+        int MultiplicativeExpression48Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MultiplicativeExpression48Start = getToken(1);
+  // Code for UnaryExpression specified on line 1524 of Java.javacc
+       UnaryExpression();
+  // Code for expansion specified on line 1524 of Java.javacc
+    label_94:
+    while (true) {
+   int int45
+      = nextTokenKind()
+   ;
+         if (!(             int45 == 102 || 
+             int45 == 103 || 
+             int45 == 107 
+)) {
+            break label_94;
+         }
+  // Code for expansion specified on line 1524 of Java.javacc
+  // Code for expansion specified on line 1524 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 102: 
+                      // Code for expansion specified on line 1524 of Java.javacc
+  // Code for expansion specified on line 1524 of Java.javacc
+       consumeToken(102);
+
+                    break;
+                 case 103: 
+                      // Code for expansion specified on line 1524 of Java.javacc
+  // Code for expansion specified on line 1524 of Java.javacc
+       consumeToken(103);
+
+                    break;
+                 case 107: 
+                      // Code for expansion specified on line 1524 of Java.javacc
+  // Code for expansion specified on line 1524 of Java.javacc
+       consumeToken(107);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for UnaryExpression specified on line 1524 of Java.javacc
+       UnaryExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+        if (buildTree) {
+            int MultiplicativeExpression48Mark = closeDeferredNodeScope(MultiplicativeExpression48Floor);
+            if (nodeArity() - MultiplicativeExpression48Mark > 1) {
+                MultiplicativeExpression MultiplicativeExpression48 = new MultiplicativeExpression();
+                MultiplicativeExpression48.setBeginLine(MultiplicativeExpression48Start.beginLine);
+                MultiplicativeExpression48.setBeginColumn(MultiplicativeExpression48Start.beginColumn);
+                MultiplicativeExpression48.setInputSource(this.getInputSource());
+                MultiplicativeExpression48.setEndLine(current_token.getEndLine());
+                MultiplicativeExpression48.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MultiplicativeExpression48, MultiplicativeExpression48Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1527
+    final public 
+    void
+    UnaryExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1527 of Java.javacc");
+     
+  // Code for expansion specified on line 1530 of Java.javacc
+    
+        int UnaryExpression49Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token UnaryExpression49Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 100: 
+                 case 101: 
+                      // Code for expansion specified on line 1530 of Java.javacc
+  // Code for expansion specified on line 1530 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 100: 
+                      // Code for expansion specified on line 1530 of Java.javacc
+  // Code for expansion specified on line 1530 of Java.javacc
+       consumeToken(100);
+
+                    break;
+                 case 101: 
+                      // Code for expansion specified on line 1530 of Java.javacc
+  // Code for expansion specified on line 1530 of Java.javacc
+       consumeToken(101);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for UnaryExpression specified on line 1530 of Java.javacc
+       UnaryExpression();
+
+                    break;
+                 case 98: 
+                      // Code for expansion specified on line 1532 of Java.javacc
+  // Code for PreIncrementExpression specified on line 1532 of Java.javacc
+       PreIncrementExpression();
+
+                    break;
+                 case 99: 
+                      // Code for expansion specified on line 1534 of Java.javacc
+  // Code for PreDecrementExpression specified on line 1534 of Java.javacc
+       PreDecrementExpression();
+
+                    break;
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case 88: 
+                 case 89: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1536 of Java.javacc
+  // Code for UnaryExpressionNotPlusMinus specified on line 1536 of Java.javacc
+       UnaryExpressionNotPlusMinus();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+        if (buildTree) {
+            int UnaryExpression49Mark = closeDeferredNodeScope(UnaryExpression49Floor);
+            if (nodeArity() - UnaryExpression49Mark > 1) {
+                UnaryExpression UnaryExpression49 = new UnaryExpression();
+                UnaryExpression49.setBeginLine(UnaryExpression49Start.beginLine);
+                UnaryExpression49.setBeginColumn(UnaryExpression49Start.beginColumn);
+                UnaryExpression49.setInputSource(this.getInputSource());
+                UnaryExpression49.setEndLine(current_token.getEndLine());
+                UnaryExpression49.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(UnaryExpression49, UnaryExpression49Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1539
+    final public 
+    void
+    PreIncrementExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1539 of Java.javacc");
+     
+  // Code for expansion specified on line 1542 of Java.javacc
+    
+        int PreIncrementExpression50Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token PreIncrementExpression50Start = getToken(1);
+  // Code for expansion specified on line 1542 of Java.javacc
+       consumeToken(98);
+  // Code for PrimaryExpression specified on line 1542 of Java.javacc
+       PrimaryExpression();
+        if (trace_enabled) LOGGER.info("Exiting normally from PreIncrementExpression");
+        if (buildTree) {
+            int PreIncrementExpression50Mark = closeDeferredNodeScope(PreIncrementExpression50Floor);
+            if (nodeArity() - PreIncrementExpression50Mark > 1) {
+                PreIncrementExpression PreIncrementExpression50 = new PreIncrementExpression();
+                PreIncrementExpression50.setBeginLine(PreIncrementExpression50Start.beginLine);
+                PreIncrementExpression50.setBeginColumn(PreIncrementExpression50Start.beginColumn);
+                PreIncrementExpression50.setInputSource(this.getInputSource());
+                PreIncrementExpression50.setEndLine(current_token.getEndLine());
+                PreIncrementExpression50.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PreIncrementExpression50, PreIncrementExpression50Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1545
+    final public 
+    void
+    PreDecrementExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1545 of Java.javacc");
+     
+  // Code for expansion specified on line 1548 of Java.javacc
+    
+        int PreDecrementExpression51Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token PreDecrementExpression51Start = getToken(1);
+  // Code for expansion specified on line 1548 of Java.javacc
+       consumeToken(99);
+  // Code for PrimaryExpression specified on line 1548 of Java.javacc
+       PrimaryExpression();
+        if (trace_enabled) LOGGER.info("Exiting normally from PreDecrementExpression");
+        if (buildTree) {
+            int PreDecrementExpression51Mark = closeDeferredNodeScope(PreDecrementExpression51Floor);
+            if (nodeArity() - PreDecrementExpression51Mark > 1) {
+                PreDecrementExpression PreDecrementExpression51 = new PreDecrementExpression();
+                PreDecrementExpression51.setBeginLine(PreDecrementExpression51Start.beginLine);
+                PreDecrementExpression51.setBeginColumn(PreDecrementExpression51Start.beginColumn);
+                PreDecrementExpression51.setInputSource(this.getInputSource());
+                PreDecrementExpression51.setEndLine(current_token.getEndLine());
+                PreDecrementExpression51.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PreDecrementExpression51, PreDecrementExpression51Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1551
+    final public 
+    void
+    UnaryExpressionNotPlusMinus() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1551 of Java.javacc");
+     
+  // Code for expansion specified on line 1554 of Java.javacc
+    
+        int UnaryExpressionNotPlusMinus52Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token UnaryExpressionNotPlusMinus52Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 88: 
+                 case 89: 
+                      // Code for expansion specified on line 1554 of Java.javacc
+  // Code for expansion specified on line 1554 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 89: 
+                      // Code for expansion specified on line 1554 of Java.javacc
+  // Code for expansion specified on line 1554 of Java.javacc
+       consumeToken(89);
+
+                    break;
+                 case 88: 
+                      // Code for expansion specified on line 1554 of Java.javacc
+  // Code for expansion specified on line 1554 of Java.javacc
+       consumeToken(88);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for UnaryExpression specified on line 1554 of Java.javacc
+       UnaryExpression();
+
+                    break;
+            default:
+               if (
+                phase2_94_Java_javacc_line_1556(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1556 of Java.javacc
+  // Code for LambdaExpression specified on line 1557 of Java.javacc
+       LambdaExpression();
+
+            } else if (
+                phase2_95_Java_javacc_line_1560(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1560 of Java.javacc
+  // Code for CastExpression specified on line 1563 of Java.javacc
+       CastExpression();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1565 of Java.javacc
+  // Code for PostfixExpression specified on line 1565 of Java.javacc
+       PostfixExpression();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from UnaryExpressionNotPlusMinus");
+        if (buildTree) {
+            int UnaryExpressionNotPlusMinus52Mark = closeDeferredNodeScope(UnaryExpressionNotPlusMinus52Floor);
+            if (nodeArity() - UnaryExpressionNotPlusMinus52Mark > 1) {
+                UnaryExpressionNotPlusMinus UnaryExpressionNotPlusMinus52 = new UnaryExpressionNotPlusMinus();
+                UnaryExpressionNotPlusMinus52.setBeginLine(UnaryExpressionNotPlusMinus52Start.beginLine);
+                UnaryExpressionNotPlusMinus52.setBeginColumn(UnaryExpressionNotPlusMinus52Start.beginColumn);
+                UnaryExpressionNotPlusMinus52.setInputSource(this.getInputSource());
+                UnaryExpressionNotPlusMinus52.setEndLine(current_token.getEndLine());
+                UnaryExpressionNotPlusMinus52.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(UnaryExpressionNotPlusMinus52, UnaryExpressionNotPlusMinus52Mark);
+            }
+        }
+    
+    }   
+    
+
+// This production is to determine lookahead only.  The LOOKAHEAD specifications
+// below are not used, but they are there just to indicate that we know about
+// this.
+
+// Java.javacc, line 1571
+    final public 
+    void
+    CastLookahead() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1571 of Java.javacc");
+     
+  // Code for expansion specified on line 1574 of Java.javacc
+            if (
+                phase2_97_Java_javacc_line_1574(3)
+                ) { 
+                     // Code for expansion specified on line 1574 of Java.javacc
+  // Code for expansion specified on line 1575 of Java.javacc
+       consumeToken(76);
+  // Code for PrimitiveType specified on line 1575 of Java.javacc
+       PrimitiveType();
+  // Code for expansion specified on line 1575 of Java.javacc
+       consumeToken(77);
+
+            } else if (
+                phase2_98_Java_javacc_line_1577(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1577 of Java.javacc
+  // Code for expansion specified on line 1578 of Java.javacc
+       consumeToken(76);
+  // Code for Type specified on line 1578 of Java.javacc
+       Type();
+  // Code for expansion specified on line 1578 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1578 of Java.javacc
+       consumeToken(81);
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 76: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(76);
+  // Code for Type specified on line 1580 of Java.javacc
+       Type();
+  // Code for expansion specified on line 1580 of Java.javacc
+    label_97:
+    while (true) {
+   int int46
+      = nextTokenKind()
+   ;
+         if (!(             int46 == 104 
+)) {
+            break label_97;
+         }
+  // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(104);
+  // Code for Type specified on line 1580 of Java.javacc
+       Type();
+    }
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(77);
+  // Code for expansion specified on line 1580 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 89: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(89);
+
+                    break;
+                 case 88: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(88);
+
+                    break;
+                 case 76: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(76);
+
+                    break;
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+                    break;
+                 case 53: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(53);
+
+                    break;
+                 case 50: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(50);
+
+                    break;
+                 case 40: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for expansion specified on line 1580 of Java.javacc
+       consumeToken(40);
+
+                    break;
+                 case 26: 
+                 case 41: 
+                 case 57: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                      // Code for expansion specified on line 1580 of Java.javacc
+  // Code for Literal specified on line 1580 of Java.javacc
+       Literal();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from CastLookahead");
+    }   
+    
+
+
+// Java.javacc, line 1583
+    final public 
+    void
+    PostfixExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1583 of Java.javacc");
+     
+  // Code for expansion specified on line 1586 of Java.javacc
+    
+        int PostfixExpression53Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token PostfixExpression53Start = getToken(1);
+  // Code for PrimaryExpression specified on line 1586 of Java.javacc
+       PrimaryExpression();
+  // Code for expansion specified on line 1586 of Java.javacc
+   int int47
+      = nextTokenKind()
+   ;
+         if (             int47 == 98 || 
+             int47 == 99 
+) {
+              // Code for expansion specified on line 1586 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 98: 
+                      // Code for expansion specified on line 1586 of Java.javacc
+  // Code for expansion specified on line 1586 of Java.javacc
+       consumeToken(98);
+
+                    break;
+                 case 99: 
+                      // Code for expansion specified on line 1586 of Java.javacc
+  // Code for expansion specified on line 1586 of Java.javacc
+       consumeToken(99);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from PostfixExpression");
+        if (buildTree) {
+            int PostfixExpression53Mark = closeDeferredNodeScope(PostfixExpression53Floor);
+            if (nodeArity() - PostfixExpression53Mark > 1) {
+                PostfixExpression PostfixExpression53 = new PostfixExpression();
+                PostfixExpression53.setBeginLine(PostfixExpression53Start.beginLine);
+                PostfixExpression53.setBeginColumn(PostfixExpression53Start.beginColumn);
+                PostfixExpression53.setInputSource(this.getInputSource());
+                PostfixExpression53.setEndLine(current_token.getEndLine());
+                PostfixExpression53.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PostfixExpression53, PostfixExpression53Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1589
+    final public 
+    void
+    CastExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1589 of Java.javacc");
+     
+  // Code for expansion specified on line 1592 of Java.javacc
+    
+        int CastExpression54Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token CastExpression54Start = getToken(1);
+            if (
+                phase2_101_Java_javacc_line_1592(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1592 of Java.javacc
+  // Code for expansion specified on line 1595 of Java.javacc
+       consumeToken(76);
+  // Code for PrimitiveType specified on line 1595 of Java.javacc
+       PrimitiveType();
+  // Code for expansion specified on line 1595 of Java.javacc
+       consumeToken(77);
+  // Code for UnaryExpression specified on line 1595 of Java.javacc
+       UnaryExpression();
+
+            } else if (
+                phase2_102_Java_javacc_line_1597(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1597 of Java.javacc
+  // Code for expansion specified on line 1599 of Java.javacc
+       consumeToken(76);
+  // Code for ReferenceType specified on line 1599 of Java.javacc
+       ReferenceType();
+  // Code for expansion specified on line 1599 of Java.javacc
+       consumeToken(77);
+  // Code for UnaryExpressionNotPlusMinus specified on line 1599 of Java.javacc
+       UnaryExpressionNotPlusMinus();
+
+            } else if (
+                phase2_103_Java_javacc_line_1601(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1601 of Java.javacc
+  // Code for expansion specified on line 1602 of Java.javacc
+       consumeToken(76);
+  // Code for ClassOrInterfaceType specified on line 1602 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 1602 of Java.javacc
+   label_101:
+   while (true) {
+  // Code for expansion specified on line 1602 of Java.javacc
+  // Code for expansion specified on line 1602 of Java.javacc
+       consumeToken(104);
+  // Code for ClassOrInterfaceType specified on line 1602 of Java.javacc
+       ClassOrInterfaceType();
+   int int48
+      = nextTokenKind()
+   ;
+         if (!(             int48 == 104 
+)) {
+            break label_101;
+         }
+   }
+  // Code for expansion specified on line 1602 of Java.javacc
+       consumeToken(77);
+  // Code for UnaryExpressionNotPlusMinus specified on line 1602 of Java.javacc
+       UnaryExpressionNotPlusMinus();
+
+           } else {
+             consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from CastExpression");
+        if (buildTree) {
+            int CastExpression54Mark = closeDeferredNodeScope(CastExpression54Floor);
+            if (nodeArity() - CastExpression54Mark > 1) {
+                CastExpression CastExpression54 = new CastExpression();
+                CastExpression54.setBeginLine(CastExpression54Start.beginLine);
+                CastExpression54.setBeginColumn(CastExpression54Start.beginColumn);
+                CastExpression54.setInputSource(this.getInputSource());
+                CastExpression54.setEndLine(current_token.getEndLine());
+                CastExpression54.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(CastExpression54, CastExpression54Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1605
+    final public 
+    Expression
+    PrimaryExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1605 of Java.javacc");
+     
+  // Code for expansion specified on line 1608 of Java.javacc
+    
+        boolean PrimaryExpression55forced = false;
+   PrimaryExpression PrimaryExpression55 = null;
+   if (buildTree) {
+       PrimaryExpression55 = new PrimaryExpression();
+       Token start = getToken(1);
+       PrimaryExpression55.setBeginLine(start.beginLine);
+       PrimaryExpression55.setBeginColumn(start.beginColumn);
+       PrimaryExpression55.setInputSource(this.getInputSource());
+	    openNodeScope(PrimaryExpression55);
+  }
+          ParseException parseException55 = null;
+         try {
+  // Code for PrimaryPrefix specified on line 1608 of Java.javacc
+       PrimaryPrefix();
+  // Code for expansion specified on line 1609 of Java.javacc
+    label_105:
+    while (true) {
+         if (!(        phase2_105_Java_javacc_line_1609(2)
+)) {
+            break label_105;
+         }
+  // Code for expansion specified on line 1609 of Java.javacc
+  // Code for PrimarySuffix specified on line 1609 of Java.javacc
+       PrimarySuffix();
+    }
+  // Code for expansion specified on line 1610 of Java.javacc
+       
+            return PrimaryExpression55;
+    
+         }
+         catch (ParseException e) { 
+             parseException55 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException55 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException55.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  PrimaryExpression55.setEndLine(current_token.getEndLine());
+		              PrimaryExpression55.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(PrimaryExpression55, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1615
+    final public 
+    void
+    MemberSelector() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1615 of Java.javacc");
+     
+
+  // Code for expansion specified on line 1619 of Java.javacc
+    
+        int MemberSelector56Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MemberSelector56Start = getToken(1);
+  // Code for expansion specified on line 1619 of Java.javacc
+       consumeToken(84);
+  // Code for TypeArguments specified on line 1619 of Java.javacc
+       TypeArguments();
+  // Code for expansion specified on line 1619 of Java.javacc
+       consumeToken(IDENTIFIER);
+        if (trace_enabled) LOGGER.info("Exiting normally from MemberSelector");
+        if (buildTree) {
+            int MemberSelector56Mark = closeDeferredNodeScope(MemberSelector56Floor);
+            if (nodeArity() - MemberSelector56Mark > 1) {
+                MemberSelector MemberSelector56 = new MemberSelector();
+                MemberSelector56.setBeginLine(MemberSelector56Start.beginLine);
+                MemberSelector56.setBeginColumn(MemberSelector56Start.beginColumn);
+                MemberSelector56.setInputSource(this.getInputSource());
+                MemberSelector56.setEndLine(current_token.getEndLine());
+                MemberSelector56.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MemberSelector56, MemberSelector56Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1622
+    final public 
+    void
+    PrimaryPrefix() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1622 of Java.javacc");
+     
+  // Code for expansion specified on line 1625 of Java.javacc
+    
+        int PrimaryPrefix57Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token PrimaryPrefix57Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 26: 
+                 case 41: 
+                 case 57: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                      // Code for expansion specified on line 1625 of Java.javacc
+  // Code for Literal specified on line 1625 of Java.javacc
+       Literal();
+
+                    break;
+                 case 53: 
+                      // Code for expansion specified on line 1627 of Java.javacc
+  // Code for expansion specified on line 1627 of Java.javacc
+       consumeToken(53);
+
+                    break;
+            default:
+               if (
+                phase2_106_Java_javacc_line_1629(2)
+                ) { 
+                     // Code for expansion specified on line 1629 of Java.javacc
+  // Code for expansion specified on line 1630 of Java.javacc
+       consumeToken(50);
+  // Code for expansion specified on line 1630 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 1630 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 76: 
+                      // Code for expansion specified on line 1632 of Java.javacc
+  // Code for expansion specified on line 1632 of Java.javacc
+       consumeToken(76);
+  // Code for Expression specified on line 1632 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1632 of Java.javacc
+       consumeToken(77);
+
+                    break;
+                 case 40: 
+                      // Code for expansion specified on line 1634 of Java.javacc
+  // Code for AllocationExpression specified on line 1634 of Java.javacc
+       AllocationExpression();
+
+                    break;
+            default:
+               if (
+                phase2_107_Java_javacc_line_1636(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1636 of Java.javacc
+  // Code for PrimitiveType specified on line 1637 of Java.javacc
+       PrimitiveType();
+  // Code for expansion specified on line 1637 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 1637 of Java.javacc
+       consumeToken(17);
+
+            } else if (
+                phase2_108_Java_javacc_line_1639(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1639 of Java.javacc
+  // Code for ReturnType specified on line 1640 of Java.javacc
+       ReturnType();
+  // Code for expansion specified on line 1640 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 1640 of Java.javacc
+       consumeToken(17);
+
+            } else if (
+                phase2_109_Java_javacc_line_1642(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1642 of Java.javacc
+  // Code for MethodReference specified on line 1643 of Java.javacc
+       MethodReference();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1645 of Java.javacc
+  // Code for Name specified on line 1645 of Java.javacc
+       Name();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+           }
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from PrimaryPrefix");
+        if (buildTree) {
+            int PrimaryPrefix57Mark = closeDeferredNodeScope(PrimaryPrefix57Floor);
+            if (nodeArity() - PrimaryPrefix57Mark > 1) {
+                PrimaryPrefix PrimaryPrefix57 = new PrimaryPrefix();
+                PrimaryPrefix57.setBeginLine(PrimaryPrefix57Start.beginLine);
+                PrimaryPrefix57.setBeginColumn(PrimaryPrefix57Start.beginColumn);
+                PrimaryPrefix57.setInputSource(this.getInputSource());
+                PrimaryPrefix57.setEndLine(current_token.getEndLine());
+                PrimaryPrefix57.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PrimaryPrefix57, PrimaryPrefix57Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1648
+    final public 
+    void
+    MethodReference() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1648 of Java.javacc");
+     
+  // Code for expansion specified on line 1651 of Java.javacc
+    
+        int MethodReference58Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MethodReference58Start = getToken(1);
+  // Code for expansion specified on line 1651 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 47: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1651 of Java.javacc
+  // Code for Type specified on line 1651 of Java.javacc
+       Type();
+
+                    break;
+                 case 50: 
+                      // Code for expansion specified on line 1651 of Java.javacc
+  // Code for expansion specified on line 1651 of Java.javacc
+       consumeToken(50);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for expansion specified on line 1652 of Java.javacc
+       consumeToken(121);
+  // Code for expansion specified on line 1653 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1653 of Java.javacc
+  // Code for expansion specified on line 1653 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+                    break;
+                 case 40: 
+                      // Code for expansion specified on line 1653 of Java.javacc
+  // Code for expansion specified on line 1653 of Java.javacc
+       consumeToken(40);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from MethodReference");
+        if (buildTree) {
+            int MethodReference58Mark = closeDeferredNodeScope(MethodReference58Floor);
+            if (nodeArity() - MethodReference58Mark > 1) {
+                MethodReference MethodReference58 = new MethodReference();
+                MethodReference58.setBeginLine(MethodReference58Start.beginLine);
+                MethodReference58.setBeginColumn(MethodReference58Start.beginColumn);
+                MethodReference58.setInputSource(this.getInputSource());
+                MethodReference58.setEndLine(current_token.getEndLine());
+                MethodReference58.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MethodReference58, MethodReference58Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1656
+    final public 
+    void
+    PrimarySuffix() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1656 of Java.javacc");
+     
+  // Code for expansion specified on line 1659 of Java.javacc
+    
+        int PrimarySuffix59Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token PrimarySuffix59Start = getToken(1);
+            if (
+                phase2_111_Java_javacc_line_1659(2)
+                ) { 
+                     // Code for expansion specified on line 1659 of Java.javacc
+  // Code for expansion specified on line 1660 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 1660 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 53: 
+                      // Code for expansion specified on line 1660 of Java.javacc
+  // Code for expansion specified on line 1660 of Java.javacc
+       consumeToken(53);
+
+                    break;
+                 case 50: 
+                      // Code for expansion specified on line 1660 of Java.javacc
+  // Code for expansion specified on line 1660 of Java.javacc
+       consumeToken(50);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+
+            } else if (
+                phase2_112_Java_javacc_line_1662(2)
+                ) { 
+                     // Code for expansion specified on line 1662 of Java.javacc
+  // Code for expansion specified on line 1663 of Java.javacc
+       consumeToken(84);
+  // Code for AllocationExpression specified on line 1663 of Java.javacc
+       AllocationExpression();
+
+            } else if (
+                phase2_113_Java_javacc_line_1665(3)
+                ) { 
+                     // Code for expansion specified on line 1665 of Java.javacc
+  // Code for MemberSelector specified on line 1666 of Java.javacc
+       MemberSelector();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 80: 
+                      // Code for expansion specified on line 1668 of Java.javacc
+  // Code for expansion specified on line 1668 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1668 of Java.javacc
+   int int49
+      = nextTokenKind()
+   ;
+         if (             int49 >= 0 && (jj_first_set_7[int49 >> 6] & (1L << int49)) != 0L
+) {
+              // Code for expansion specified on line 1668 of Java.javacc
+  // Code for Expression specified on line 1668 of Java.javacc
+       Expression();
+
+         }
+  // Code for expansion specified on line 1668 of Java.javacc
+       consumeToken(81);
+
+                    break;
+                 case 84: 
+                      // Code for expansion specified on line 1670 of Java.javacc
+  // Code for expansion specified on line 1670 of Java.javacc
+       consumeToken(84);
+  // Code for expansion specified on line 1670 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+                    break;
+                 case 121: 
+                      // Code for expansion specified on line 1672 of Java.javacc
+  // Code for expansion specified on line 1672 of Java.javacc
+       consumeToken(121);
+  // Code for expansion specified on line 1672 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1672 of Java.javacc
+  // Code for expansion specified on line 1672 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+                    break;
+                 case 40: 
+                      // Code for expansion specified on line 1672 of Java.javacc
+  // Code for expansion specified on line 1672 of Java.javacc
+       consumeToken(40);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+
+                    break;
+                 case 76: 
+                      // Code for expansion specified on line 1674 of Java.javacc
+  // Code for Arguments specified on line 1674 of Java.javacc
+       Arguments();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from PrimarySuffix");
+        if (buildTree) {
+            int PrimarySuffix59Mark = closeDeferredNodeScope(PrimarySuffix59Floor);
+            if (nodeArity() - PrimarySuffix59Mark > 1) {
+                PrimarySuffix PrimarySuffix59 = new PrimarySuffix();
+                PrimarySuffix59.setBeginLine(PrimarySuffix59Start.beginLine);
+                PrimarySuffix59.setBeginColumn(PrimarySuffix59Start.beginColumn);
+                PrimarySuffix59.setInputSource(this.getInputSource());
+                PrimarySuffix59.setEndLine(current_token.getEndLine());
+                PrimarySuffix59.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(PrimarySuffix59, PrimarySuffix59Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1677
+    final public 
+    void
+    Literal() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1677 of Java.javacc");
+     
+  // Code for expansion specified on line 1680 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case INTEGER_LITERAL: 
+                      // Code for expansion specified on line 1680 of Java.javacc
+  // Code for expansion specified on line 1680 of Java.javacc
+       consumeToken(INTEGER_LITERAL);
+
+                    break;
+                 case LONG_LITERAL: 
+                      // Code for expansion specified on line 1682 of Java.javacc
+  // Code for expansion specified on line 1682 of Java.javacc
+       consumeToken(LONG_LITERAL);
+
+                    break;
+                 case FLOATING_POINT_LITERAL: 
+                      // Code for expansion specified on line 1684 of Java.javacc
+  // Code for expansion specified on line 1684 of Java.javacc
+       consumeToken(FLOATING_POINT_LITERAL);
+
+                    break;
+                 case CHARACTER_LITERAL: 
+                      // Code for expansion specified on line 1686 of Java.javacc
+  // Code for expansion specified on line 1686 of Java.javacc
+       consumeToken(CHARACTER_LITERAL);
+
+                    break;
+                 case STRING_LITERAL: 
+                      // Code for expansion specified on line 1688 of Java.javacc
+  // Code for expansion specified on line 1688 of Java.javacc
+       consumeToken(STRING_LITERAL);
+
+                    break;
+                 case 57: 
+                      // Code for expansion specified on line 1690 of Java.javacc
+  // Code for expansion specified on line 1690 of Java.javacc
+       consumeToken(57);
+
+                    break;
+                 case 26: 
+                      // Code for expansion specified on line 1692 of Java.javacc
+  // Code for expansion specified on line 1692 of Java.javacc
+       consumeToken(26);
+
+                    break;
+                 case 41: 
+                      // Code for expansion specified on line 1694 of Java.javacc
+  // Code for expansion specified on line 1694 of Java.javacc
+       consumeToken(41);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from Literal");
+    }   
+    
+/*
+int IntegerLiteral() :
+{}
+{
+  <INTEGER_LITERAL>
+        {
+          try {
+            return Integer.parseInt(current_token.toString());
+          } catch (NumberFormatException e) {
+            throw new Error();
+          }
+        }
+}*/
+
+
+// Java.javacc, line 1710
+    final public 
+    InvocationArgs
+    Arguments() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1710 of Java.javacc");
+     
+  // Code for expansion specified on line 1713 of Java.javacc
+    
+        boolean Arguments60forced = false;
+   InvocationArgs Arguments60 = null;
+   if (buildTree) {
+       Arguments60 = new InvocationArgs();
+       Token start = getToken(1);
+       Arguments60.setBeginLine(start.beginLine);
+       Arguments60.setBeginColumn(start.beginColumn);
+       Arguments60.setInputSource(this.getInputSource());
+	    openNodeScope(Arguments60);
+  }
+          ParseException parseException60 = null;
+         try {
+  // Code for expansion specified on line 1713 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 1714 of Java.javacc
+   int int51
+      = nextTokenKind()
+   ;
+         if (             int51 >= 0 && (jj_first_set_7[int51 >> 6] & (1L << int51)) != 0L
+) {
+              // Code for expansion specified on line 1714 of Java.javacc
+  // Code for Expression specified on line 1714 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1714 of Java.javacc
+    label_116:
+    while (true) {
+   int int50
+      = nextTokenKind()
+   ;
+         if (!(             int50 == 83 
+)) {
+            break label_116;
+         }
+  // Code for expansion specified on line 1714 of Java.javacc
+  // Code for expansion specified on line 1714 of Java.javacc
+       consumeToken(83);
+  // Code for Expression specified on line 1714 of Java.javacc
+       Expression();
+    }
+
+         }
+  // Code for expansion specified on line 1715 of Java.javacc
+       consumeToken(77);
+  // Code for expansion specified on line 1716 of Java.javacc
+       
+        return Arguments60;
+    
+         }
+         catch (ParseException e) { 
+             parseException60 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException60 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException60.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Arguments60.setEndLine(current_token.getEndLine());
+		              Arguments60.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Arguments60, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1745
+    final public 
+    void
+    AllocationExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1745 of Java.javacc");
+     
+  // Code for expansion specified on line 1748 of Java.javacc
+    
+        int AllocationExpression61Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token AllocationExpression61Start = getToken(1);
+            if (
+                phase2_118_Java_javacc_line_1748(2)
+                ) { 
+                     // Code for expansion specified on line 1748 of Java.javacc
+  // Code for expansion specified on line 1749 of Java.javacc
+       consumeToken(40);
+  // Code for PrimitiveType specified on line 1749 of Java.javacc
+       PrimitiveType();
+  // Code for ArrayDimsAndInits specified on line 1749 of Java.javacc
+       ArrayDimsAndInits();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 40: 
+                      // Code for expansion specified on line 1751 of Java.javacc
+  // Code for expansion specified on line 1751 of Java.javacc
+       consumeToken(40);
+  // Code for ClassOrInterfaceType specified on line 1751 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 1751 of Java.javacc
+   int int52
+      = nextTokenKind()
+   ;
+         if (             int52 == 87 
+) {
+              // Code for expansion specified on line 1751 of Java.javacc
+  // Code for PossiblyEmptyTypeArguments specified on line 1751 of Java.javacc
+       PossiblyEmptyTypeArguments();
+
+         }
+  // Code for expansion specified on line 1753 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 80: 
+                      // Code for expansion specified on line 1753 of Java.javacc
+  // Code for ArrayDimsAndInits specified on line 1753 of Java.javacc
+       ArrayDimsAndInits();
+
+                    break;
+                 case 76: 
+                      // Code for expansion specified on line 1755 of Java.javacc
+  // Code for Arguments specified on line 1755 of Java.javacc
+       Arguments();
+  // Code for expansion specified on line 1755 of Java.javacc
+   int int53
+      = nextTokenKind()
+   ;
+         if (             int53 == 78 
+) {
+              // Code for expansion specified on line 1755 of Java.javacc
+  // Code for ClassOrInterfaceBody specified on line 1755 of Java.javacc
+       ClassOrInterfaceBody(false);
+
+         }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from AllocationExpression");
+        if (buildTree) {
+            int AllocationExpression61Mark = closeDeferredNodeScope(AllocationExpression61Floor);
+            if (nodeArity() - AllocationExpression61Mark > 1) {
+                AllocationExpression AllocationExpression61 = new AllocationExpression();
+                AllocationExpression61.setBeginLine(AllocationExpression61Start.beginLine);
+                AllocationExpression61.setBeginColumn(AllocationExpression61Start.beginColumn);
+                AllocationExpression61.setInputSource(this.getInputSource());
+                AllocationExpression61.setEndLine(current_token.getEndLine());
+                AllocationExpression61.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AllocationExpression61, AllocationExpression61Mark);
+            }
+        }
+    
+    }   
+    
+
+/*
+ * The third LOOKAHEAD specification below is to parse to PrimarySuffix
+ * if there is an expression between the "[...]".
+ */
+
+// Java.javacc, line 1763
+    final public 
+    void
+    ArrayDimsAndInits() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1763 of Java.javacc");
+     
+  // Code for expansion specified on line 1766 of Java.javacc
+    
+        int ArrayDimsAndInits62Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ArrayDimsAndInits62Start = getToken(1);
+            if (
+                phase2_124_Java_javacc_line_1766(2)
+                ) { 
+                     // Code for expansion specified on line 1766 of Java.javacc
+  // Code for expansion specified on line 1767 of Java.javacc
+   label_120:
+   while (true) {
+  // Code for expansion specified on line 1767 of Java.javacc
+  // Code for expansion specified on line 1767 of Java.javacc
+       consumeToken(80);
+  // Code for Expression specified on line 1767 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1767 of Java.javacc
+       consumeToken(81);
+         if (!(        phase2_120_Java_javacc_line_1767(2)
+)) {
+            break label_120;
+         }
+   }
+  // Code for expansion specified on line 1767 of Java.javacc
+    label_122:
+    while (true) {
+         if (!(        phase2_122_Java_javacc_line_1767(2)
+)) {
+            break label_122;
+         }
+  // Code for expansion specified on line 1767 of Java.javacc
+  // Code for expansion specified on line 1767 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1767 of Java.javacc
+       consumeToken(81);
+    }
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 80: 
+                      // Code for expansion specified on line 1769 of Java.javacc
+  // Code for expansion specified on line 1769 of Java.javacc
+   label_124:
+   while (true) {
+  // Code for expansion specified on line 1769 of Java.javacc
+  // Code for expansion specified on line 1769 of Java.javacc
+       consumeToken(80);
+  // Code for expansion specified on line 1769 of Java.javacc
+       consumeToken(81);
+   int int54
+      = nextTokenKind()
+   ;
+         if (!(             int54 == 80 
+)) {
+            break label_124;
+         }
+   }
+  // Code for ArrayInitializer specified on line 1769 of Java.javacc
+       ArrayInitializer();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from ArrayDimsAndInits");
+        if (buildTree) {
+            int ArrayDimsAndInits62Mark = closeDeferredNodeScope(ArrayDimsAndInits62Floor);
+            if (nodeArity() - ArrayDimsAndInits62Mark > 1) {
+                ArrayDimsAndInits ArrayDimsAndInits62 = new ArrayDimsAndInits();
+                ArrayDimsAndInits62.setBeginLine(ArrayDimsAndInits62Start.beginLine);
+                ArrayDimsAndInits62.setBeginColumn(ArrayDimsAndInits62Start.beginColumn);
+                ArrayDimsAndInits62.setInputSource(this.getInputSource());
+                ArrayDimsAndInits62.setEndLine(current_token.getEndLine());
+                ArrayDimsAndInits62.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ArrayDimsAndInits62, ArrayDimsAndInits62Mark);
+            }
+        }
+    
+    }   
+    
+
+
+/*
+ * Statement syntax follows.
+ */
+
+
+// Java.javacc, line 1777
+    final public 
+    void
+    Statement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1777 of Java.javacc");
+     
+  // Code for expansion specified on line 1780 of Java.javacc
+            if (
+                phase2_125_Java_javacc_line_1780(2)
+                ) { 
+                     // Code for expansion specified on line 1780 of Java.javacc
+  // Code for LabeledStatement specified on line 1781 of Java.javacc
+       LabeledStatement();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 10: 
+                      // Code for expansion specified on line 1783 of Java.javacc
+  // Code for AssertStatement specified on line 1783 of Java.javacc
+       AssertStatement();
+
+                    break;
+                 case 78: 
+                      // Code for expansion specified on line 1785 of Java.javacc
+  // Code for Block specified on line 1785 of Java.javacc
+       Block();
+
+                    break;
+                 case 82: 
+                      // Code for expansion specified on line 1787 of Java.javacc
+  // Code for EmptyStatement specified on line 1787 of Java.javacc
+       EmptyStatement();
+
+                    break;
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case 98: 
+                 case 99: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1789 of Java.javacc
+  // Code for StatementExpression specified on line 1789 of Java.javacc
+       StatementExpression();
+  // Code for expansion specified on line 1789 of Java.javacc
+       consumeToken(82);
+
+                    break;
+                 case 51: 
+                      // Code for expansion specified on line 1791 of Java.javacc
+  // Code for SwitchStatement specified on line 1791 of Java.javacc
+       SwitchStatement();
+
+                    break;
+                 case 32: 
+                      // Code for expansion specified on line 1793 of Java.javacc
+  // Code for IfStatement specified on line 1793 of Java.javacc
+       IfStatement();
+
+                    break;
+                 case 61: 
+                      // Code for expansion specified on line 1795 of Java.javacc
+  // Code for WhileStatement specified on line 1795 of Java.javacc
+       WhileStatement();
+
+                    break;
+                 case 21: 
+                      // Code for expansion specified on line 1797 of Java.javacc
+  // Code for DoStatement specified on line 1797 of Java.javacc
+       DoStatement();
+
+                    break;
+                 case 30: 
+                      // Code for expansion specified on line 1799 of Java.javacc
+  // Code for ForStatement specified on line 1799 of Java.javacc
+       ForStatement();
+
+                    break;
+                 case 12: 
+                      // Code for expansion specified on line 1801 of Java.javacc
+  // Code for BreakStatement specified on line 1801 of Java.javacc
+       BreakStatement();
+
+                    break;
+                 case 19: 
+                      // Code for expansion specified on line 1803 of Java.javacc
+  // Code for ContinueStatement specified on line 1803 of Java.javacc
+       ContinueStatement();
+
+                    break;
+                 case 46: 
+                      // Code for expansion specified on line 1805 of Java.javacc
+  // Code for ReturnStatement specified on line 1805 of Java.javacc
+       ReturnStatement();
+
+                    break;
+                 case 54: 
+                      // Code for expansion specified on line 1807 of Java.javacc
+  // Code for ThrowStatement specified on line 1807 of Java.javacc
+       ThrowStatement();
+
+                    break;
+                 case 52: 
+                      // Code for expansion specified on line 1809 of Java.javacc
+  // Code for SynchronizedStatement specified on line 1809 of Java.javacc
+       SynchronizedStatement();
+
+                    break;
+            default:
+               if (
+                phase2_126_Java_javacc_line_1811(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1811 of Java.javacc
+  // Code for ClassicTryStatement specified on line 1812 of Java.javacc
+       ClassicTryStatement();
+
+            } else if (
+                phase2_127_Java_javacc_line_1814(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1814 of Java.javacc
+  // Code for TryWithResources specified on line 1815 of Java.javacc
+       TryWithResources();
+
+           } else {
+             consumeToken(-1);
+throw new ParseException();
+           }
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from Statement");
+    }   
+    
+
+
+// Java.javacc, line 1818
+    final public 
+    void
+    AssertStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1818 of Java.javacc");
+     
+  // Code for expansion specified on line 1821 of Java.javacc
+    
+        int AssertStatement63Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token AssertStatement63Start = getToken(1);
+  // Code for expansion specified on line 1821 of Java.javacc
+       consumeToken(10);
+  // Code for Expression specified on line 1821 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1821 of Java.javacc
+   int int55
+      = nextTokenKind()
+   ;
+         if (             int55 == 91 
+) {
+              // Code for expansion specified on line 1821 of Java.javacc
+  // Code for expansion specified on line 1821 of Java.javacc
+       consumeToken(91);
+  // Code for Expression specified on line 1821 of Java.javacc
+       Expression();
+
+         }
+  // Code for expansion specified on line 1821 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from AssertStatement");
+        if (buildTree) {
+            int AssertStatement63Mark = closeDeferredNodeScope(AssertStatement63Floor);
+            if (nodeArity() - AssertStatement63Mark > 1) {
+                AssertStatement AssertStatement63 = new AssertStatement();
+                AssertStatement63.setBeginLine(AssertStatement63Start.beginLine);
+                AssertStatement63.setBeginColumn(AssertStatement63Start.beginColumn);
+                AssertStatement63.setInputSource(this.getInputSource());
+                AssertStatement63.setEndLine(current_token.getEndLine());
+                AssertStatement63.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AssertStatement63, AssertStatement63Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1824
+    final public 
+    void
+    LabeledStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1824 of Java.javacc");
+     
+  // Code for expansion specified on line 1827 of Java.javacc
+    
+        int LabeledStatement64Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token LabeledStatement64Start = getToken(1);
+  // Code for expansion specified on line 1827 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 1827 of Java.javacc
+       consumeToken(91);
+  // Code for Statement specified on line 1827 of Java.javacc
+       Statement();
+        if (trace_enabled) LOGGER.info("Exiting normally from LabeledStatement");
+        if (buildTree) {
+            int LabeledStatement64Mark = closeDeferredNodeScope(LabeledStatement64Floor);
+            if (nodeArity() - LabeledStatement64Mark > 1) {
+                LabeledStatement LabeledStatement64 = new LabeledStatement();
+                LabeledStatement64.setBeginLine(LabeledStatement64Start.beginLine);
+                LabeledStatement64.setBeginColumn(LabeledStatement64Start.beginColumn);
+                LabeledStatement64.setInputSource(this.getInputSource());
+                LabeledStatement64.setEndLine(current_token.getEndLine());
+                LabeledStatement64.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(LabeledStatement64, LabeledStatement64Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1830
+    final public 
+    CodeBlock
+    Block() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1830 of Java.javacc");
+     
+  // Code for expansion specified on line 1833 of Java.javacc
+    
+        boolean Block65forced = false;
+   CodeBlock Block65 = null;
+   if (buildTree) {
+       Block65 = new CodeBlock();
+       Token start = getToken(1);
+       Block65.setBeginLine(start.beginLine);
+       Block65.setBeginColumn(start.beginColumn);
+       Block65.setInputSource(this.getInputSource());
+	    openNodeScope(Block65);
+  }
+          ParseException parseException65 = null;
+         try {
+  // Code for expansion specified on line 1833 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 1834 of Java.javacc
+    label_130:
+    while (true) {
+   int int56
+      = nextTokenKind()
+   ;
+         if (!(             int56 >= 0 && (jj_first_set_5[int56 >> 6] & (1L << int56)) != 0L
+)) {
+            break label_130;
+         }
+  // Code for expansion specified on line 1834 of Java.javacc
+  // Code for BlockStatement specified on line 1834 of Java.javacc
+       BlockStatement();
+    }
+  // Code for expansion specified on line 1835 of Java.javacc
+       consumeToken(79);
+  // Code for expansion specified on line 1836 of Java.javacc
+       
+       return Block65;
+   
+         }
+         catch (ParseException e) { 
+             parseException65 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException65 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException65.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Block65.setEndLine(current_token.getEndLine());
+		              Block65.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Block65, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 1855
+    final public 
+    void
+    BlockStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1855 of Java.javacc");
+     
+  // Code for expansion specified on line 1858 of Java.javacc
+            if (
+                phase2_130_Java_javacc_line_1858(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1858 of Java.javacc
+  // Code for LocalVariableDeclaration specified on line 1859 of Java.javacc
+       LocalVariableDeclaration();
+  // Code for expansion specified on line 1859 of Java.javacc
+       consumeToken(82);
+
+            } else if (
+                phase2_131_Java_javacc_line_1861(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1861 of Java.javacc
+  // Code for Statement specified on line 1861 of Java.javacc
+       Statement();
+
+            } else if (
+                phase2_132_Java_javacc_line_1863(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1863 of Java.javacc
+  // Code for Modifiers specified on line 1864 of Java.javacc
+       Modifiers();
+  // Code for ClassDeclaration specified on line 1864 of Java.javacc
+       ClassDeclaration();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 37: 
+                      // Code for expansion specified on line 1866 of Java.javacc
+  // Code for InterfaceDeclaration specified on line 1866 of Java.javacc
+       InterfaceDeclaration();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from BlockStatement");
+    }   
+    
+
+
+// Java.javacc, line 1869
+    final public 
+    void
+    LocalVariableDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1869 of Java.javacc");
+     
+  // Code for expansion specified on line 1872 of Java.javacc
+    
+        int LocalVariableDeclaration66Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token LocalVariableDeclaration66Start = getToken(1);
+  // Code for Modifiers specified on line 1872 of Java.javacc
+       Modifiers();
+  // Code for Type specified on line 1872 of Java.javacc
+       Type();
+  // Code for VariableDeclarator specified on line 1872 of Java.javacc
+       VariableDeclarator();
+  // Code for expansion specified on line 1872 of Java.javacc
+    label_134:
+    while (true) {
+   int int57
+      = nextTokenKind()
+   ;
+         if (!(             int57 == 83 
+)) {
+            break label_134;
+         }
+  // Code for expansion specified on line 1872 of Java.javacc
+  // Code for expansion specified on line 1872 of Java.javacc
+       consumeToken(83);
+  // Code for VariableDeclarator specified on line 1872 of Java.javacc
+       VariableDeclarator();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from LocalVariableDeclaration");
+        if (buildTree) {
+            int LocalVariableDeclaration66Mark = closeDeferredNodeScope(LocalVariableDeclaration66Floor);
+            if (nodeArity() - LocalVariableDeclaration66Mark > 1) {
+                LocalVariableDeclaration LocalVariableDeclaration66 = new LocalVariableDeclaration();
+                LocalVariableDeclaration66.setBeginLine(LocalVariableDeclaration66Start.beginLine);
+                LocalVariableDeclaration66.setBeginColumn(LocalVariableDeclaration66Start.beginColumn);
+                LocalVariableDeclaration66.setInputSource(this.getInputSource());
+                LocalVariableDeclaration66.setEndLine(current_token.getEndLine());
+                LocalVariableDeclaration66.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(LocalVariableDeclaration66, LocalVariableDeclaration66Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1875
+    final public 
+    void
+    EmptyStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1875 of Java.javacc");
+     
+  // Code for expansion specified on line 1878 of Java.javacc
+    
+        int EmptyStatement67Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token EmptyStatement67Start = getToken(1);
+  // Code for expansion specified on line 1878 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from EmptyStatement");
+        if (buildTree) {
+            int EmptyStatement67Mark = closeDeferredNodeScope(EmptyStatement67Floor);
+            if (nodeArity() - EmptyStatement67Mark > 1) {
+                EmptyStatement EmptyStatement67 = new EmptyStatement();
+                EmptyStatement67.setBeginLine(EmptyStatement67Start.beginLine);
+                EmptyStatement67.setBeginColumn(EmptyStatement67Start.beginColumn);
+                EmptyStatement67.setInputSource(this.getInputSource());
+                EmptyStatement67.setEndLine(current_token.getEndLine());
+                EmptyStatement67.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(EmptyStatement67, EmptyStatement67Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1881
+    final public 
+    void
+    StatementExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1881 of Java.javacc");
+     
+  // Code for expansion specified on line 1889 of Java.javacc
+    
+        int StatementExpression68Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token StatementExpression68Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 98: 
+                      // Code for expansion specified on line 1889 of Java.javacc
+  // Code for PreIncrementExpression specified on line 1889 of Java.javacc
+       PreIncrementExpression();
+
+                    break;
+                 case 99: 
+                      // Code for expansion specified on line 1891 of Java.javacc
+  // Code for PreDecrementExpression specified on line 1891 of Java.javacc
+       PreDecrementExpression();
+
+                    break;
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1893 of Java.javacc
+  // Code for PrimaryExpression specified on line 1893 of Java.javacc
+       PrimaryExpression();
+  // Code for expansion specified on line 1894 of Java.javacc
+   int int58
+      = nextTokenKind()
+   ;
+         if (             int58 >= 0 && (jj_first_set_8[int58 >> 6] & (1L << int58)) != 0L
+) {
+              // Code for expansion specified on line 1895 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 98: 
+                      // Code for expansion specified on line 1895 of Java.javacc
+  // Code for expansion specified on line 1895 of Java.javacc
+       consumeToken(98);
+
+                    break;
+                 case 99: 
+                      // Code for expansion specified on line 1897 of Java.javacc
+  // Code for expansion specified on line 1897 of Java.javacc
+       consumeToken(99);
+
+                    break;
+                 case 85: 
+                 case 109: 
+                 case 110: 
+                 case 111: 
+                 case 112: 
+                 case 113: 
+                 case 114: 
+                 case 115: 
+                 case 116: 
+                 case 117: 
+                 case 118: 
+                 case 119: 
+                      // Code for expansion specified on line 1899 of Java.javacc
+  // Code for AssignmentOperator specified on line 1899 of Java.javacc
+       AssignmentOperator();
+  // Code for Expression specified on line 1899 of Java.javacc
+       Expression();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+
+         }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from StatementExpression");
+        if (buildTree) {
+            int StatementExpression68Mark = closeDeferredNodeScope(StatementExpression68Floor);
+            if (nodeArity() - StatementExpression68Mark > 1) {
+                StatementExpression StatementExpression68 = new StatementExpression();
+                StatementExpression68.setBeginLine(StatementExpression68Start.beginLine);
+                StatementExpression68.setBeginColumn(StatementExpression68Start.beginColumn);
+                StatementExpression68.setInputSource(this.getInputSource());
+                StatementExpression68.setEndLine(current_token.getEndLine());
+                StatementExpression68.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(StatementExpression68, StatementExpression68Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1903
+    final public 
+    void
+    SwitchStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1903 of Java.javacc");
+     
+  // Code for expansion specified on line 1906 of Java.javacc
+    
+        int SwitchStatement69Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token SwitchStatement69Start = getToken(1);
+  // Code for expansion specified on line 1906 of Java.javacc
+       consumeToken(51);
+  // Code for expansion specified on line 1906 of Java.javacc
+       consumeToken(76);
+  // Code for Expression specified on line 1906 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1906 of Java.javacc
+       consumeToken(77);
+  // Code for expansion specified on line 1906 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 1907 of Java.javacc
+    label_136:
+    while (true) {
+   int int59
+      = nextTokenKind()
+   ;
+         if (!(             int59 == 14 || 
+             int59 == 20 
+)) {
+            break label_136;
+         }
+  // Code for expansion specified on line 1907 of Java.javacc
+  // Code for CaseStatement specified on line 1907 of Java.javacc
+       CaseStatement();
+    }
+  // Code for expansion specified on line 1908 of Java.javacc
+       consumeToken(79);
+        if (trace_enabled) LOGGER.info("Exiting normally from SwitchStatement");
+        if (buildTree) {
+            int SwitchStatement69Mark = closeDeferredNodeScope(SwitchStatement69Floor);
+            if (nodeArity() - SwitchStatement69Mark > 1) {
+                SwitchStatement SwitchStatement69 = new SwitchStatement();
+                SwitchStatement69.setBeginLine(SwitchStatement69Start.beginLine);
+                SwitchStatement69.setBeginColumn(SwitchStatement69Start.beginColumn);
+                SwitchStatement69.setInputSource(this.getInputSource());
+                SwitchStatement69.setEndLine(current_token.getEndLine());
+                SwitchStatement69.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(SwitchStatement69, SwitchStatement69Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1911
+    final public 
+    void
+    CaseStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1911 of Java.javacc");
+     
+  // Code for expansion specified on line 1914 of Java.javacc
+    
+        int CaseStatement70Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token CaseStatement70Start = getToken(1);
+  // Code for SwitchLabel specified on line 1914 of Java.javacc
+       SwitchLabel();
+  // Code for expansion specified on line 1915 of Java.javacc
+    label_137:
+    while (true) {
+   int int60
+      = nextTokenKind()
+   ;
+         if (!(             int60 >= 0 && (jj_first_set_5[int60 >> 6] & (1L << int60)) != 0L
+)) {
+            break label_137;
+         }
+  // Code for expansion specified on line 1915 of Java.javacc
+  // Code for BlockStatement specified on line 1915 of Java.javacc
+       BlockStatement();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from CaseStatement");
+        if (buildTree) {
+            int CaseStatement70Mark = closeDeferredNodeScope(CaseStatement70Floor);
+            if (nodeArity() - CaseStatement70Mark > 1) {
+                CaseStatement CaseStatement70 = new CaseStatement();
+                CaseStatement70.setBeginLine(CaseStatement70Start.beginLine);
+                CaseStatement70.setBeginColumn(CaseStatement70Start.beginColumn);
+                CaseStatement70.setInputSource(this.getInputSource());
+                CaseStatement70.setEndLine(current_token.getEndLine());
+                CaseStatement70.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(CaseStatement70, CaseStatement70Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1918
+    final public 
+    void
+    SwitchLabel() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1918 of Java.javacc");
+     
+  // Code for expansion specified on line 1921 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 14: 
+                      // Code for expansion specified on line 1921 of Java.javacc
+  // Code for expansion specified on line 1921 of Java.javacc
+       consumeToken(14);
+  // Code for Expression specified on line 1921 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1921 of Java.javacc
+       consumeToken(91);
+
+                    break;
+                 case 20: 
+                      // Code for expansion specified on line 1923 of Java.javacc
+  // Code for expansion specified on line 1923 of Java.javacc
+       consumeToken(20);
+  // Code for expansion specified on line 1923 of Java.javacc
+       consumeToken(91);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from SwitchLabel");
+    }   
+    
+
+
+// Java.javacc, line 1926
+    final public 
+    void
+    IfStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1926 of Java.javacc");
+     
+  // Code for expansion specified on line 1934 of Java.javacc
+    
+        int IfStatement71Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token IfStatement71Start = getToken(1);
+  // Code for expansion specified on line 1934 of Java.javacc
+       consumeToken(32);
+  // Code for expansion specified on line 1934 of Java.javacc
+       consumeToken(76);
+  // Code for Expression specified on line 1934 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1934 of Java.javacc
+       consumeToken(77);
+  // Code for Statement specified on line 1934 of Java.javacc
+       Statement();
+  // Code for expansion specified on line 1934 of Java.javacc
+   int int61
+      = nextTokenKind()
+   ;
+         if (             int61 == 23 
+) {
+              // Code for expansion specified on line 1934 of Java.javacc
+  // Code for expansion specified on line 1934 of Java.javacc
+       consumeToken(23);
+  // Code for Statement specified on line 1934 of Java.javacc
+       Statement();
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from IfStatement");
+        if (buildTree) {
+            int IfStatement71Mark = closeDeferredNodeScope(IfStatement71Floor);
+            if (nodeArity() - IfStatement71Mark > 1) {
+                IfStatement IfStatement71 = new IfStatement();
+                IfStatement71.setBeginLine(IfStatement71Start.beginLine);
+                IfStatement71.setBeginColumn(IfStatement71Start.beginColumn);
+                IfStatement71.setInputSource(this.getInputSource());
+                IfStatement71.setEndLine(current_token.getEndLine());
+                IfStatement71.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(IfStatement71, IfStatement71Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1937
+    final public 
+    void
+    WhileStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1937 of Java.javacc");
+     
+  // Code for expansion specified on line 1940 of Java.javacc
+    
+        int WhileStatement72Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token WhileStatement72Start = getToken(1);
+  // Code for expansion specified on line 1940 of Java.javacc
+       consumeToken(61);
+  // Code for expansion specified on line 1940 of Java.javacc
+       consumeToken(76);
+  // Code for Expression specified on line 1940 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1940 of Java.javacc
+       consumeToken(77);
+  // Code for Statement specified on line 1940 of Java.javacc
+       Statement();
+        if (trace_enabled) LOGGER.info("Exiting normally from WhileStatement");
+        if (buildTree) {
+            int WhileStatement72Mark = closeDeferredNodeScope(WhileStatement72Floor);
+            if (nodeArity() - WhileStatement72Mark > 1) {
+                WhileStatement WhileStatement72 = new WhileStatement();
+                WhileStatement72.setBeginLine(WhileStatement72Start.beginLine);
+                WhileStatement72.setBeginColumn(WhileStatement72Start.beginColumn);
+                WhileStatement72.setInputSource(this.getInputSource());
+                WhileStatement72.setEndLine(current_token.getEndLine());
+                WhileStatement72.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(WhileStatement72, WhileStatement72Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1943
+    final public 
+    void
+    DoStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1943 of Java.javacc");
+     
+  // Code for expansion specified on line 1946 of Java.javacc
+    
+        int DoStatement73Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token DoStatement73Start = getToken(1);
+  // Code for expansion specified on line 1946 of Java.javacc
+       consumeToken(21);
+  // Code for Statement specified on line 1946 of Java.javacc
+       Statement();
+  // Code for expansion specified on line 1946 of Java.javacc
+       consumeToken(61);
+  // Code for expansion specified on line 1946 of Java.javacc
+       consumeToken(76);
+  // Code for Expression specified on line 1946 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 1946 of Java.javacc
+       consumeToken(77);
+  // Code for expansion specified on line 1946 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from DoStatement");
+        if (buildTree) {
+            int DoStatement73Mark = closeDeferredNodeScope(DoStatement73Floor);
+            if (nodeArity() - DoStatement73Mark > 1) {
+                DoStatement DoStatement73 = new DoStatement();
+                DoStatement73.setBeginLine(DoStatement73Start.beginLine);
+                DoStatement73.setBeginColumn(DoStatement73Start.beginColumn);
+                DoStatement73.setInputSource(this.getInputSource());
+                DoStatement73.setEndLine(current_token.getEndLine());
+                DoStatement73.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(DoStatement73, DoStatement73Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1949
+    final public 
+    void
+    ForStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1949 of Java.javacc");
+     
+  // Code for expansion specified on line 1952 of Java.javacc
+    
+        int ForStatement74Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ForStatement74Start = getToken(1);
+  // Code for expansion specified on line 1952 of Java.javacc
+       consumeToken(30);
+  // Code for expansion specified on line 1952 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 1954 of Java.javacc
+            if (
+                phase2_141_Java_javacc_line_1954(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1954 of Java.javacc
+  // Code for Modifiers specified on line 1955 of Java.javacc
+       Modifiers();
+  // Code for Type specified on line 1955 of Java.javacc
+       Type();
+  // Code for expansion specified on line 1955 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 1955 of Java.javacc
+       consumeToken(91);
+  // Code for Expression specified on line 1955 of Java.javacc
+       Expression();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 9: 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 27: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 39: 
+                 case 40: 
+                 case 41: 
+                 case 43: 
+                 case 44: 
+                 case 45: 
+                 case 47: 
+                 case 48: 
+                 case 49: 
+                 case 50: 
+                 case 52: 
+                 case 53: 
+                 case 56: 
+                 case 57: 
+                 case 59: 
+                 case 60: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case 82: 
+                 case 98: 
+                 case 99: 
+                 case 123: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1957 of Java.javacc
+  // Code for expansion specified on line 1957 of Java.javacc
+   int int62
+      = nextTokenKind()
+   ;
+         if (             int62 >= 0 && (jj_first_set_9[int62 >> 6] & (1L << int62)) != 0L
+) {
+              // Code for expansion specified on line 1957 of Java.javacc
+  // Code for ForInit specified on line 1957 of Java.javacc
+       ForInit();
+
+         }
+  // Code for expansion specified on line 1957 of Java.javacc
+       consumeToken(82);
+  // Code for expansion specified on line 1957 of Java.javacc
+   int int63
+      = nextTokenKind()
+   ;
+         if (             int63 >= 0 && (jj_first_set_7[int63 >> 6] & (1L << int63)) != 0L
+) {
+              // Code for expansion specified on line 1957 of Java.javacc
+  // Code for Expression specified on line 1957 of Java.javacc
+       Expression();
+
+         }
+  // Code for expansion specified on line 1957 of Java.javacc
+       consumeToken(82);
+  // Code for expansion specified on line 1957 of Java.javacc
+   int int64
+      = nextTokenKind()
+   ;
+         if (             int64 >= 0 && (jj_first_set_10[int64 >> 6] & (1L << int64)) != 0L
+) {
+              // Code for expansion specified on line 1957 of Java.javacc
+  // Code for ForUpdate specified on line 1957 of Java.javacc
+       ForUpdate();
+
+         }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+  // Code for expansion specified on line 1960 of Java.javacc
+       consumeToken(77);
+  // Code for Statement specified on line 1960 of Java.javacc
+       Statement();
+        if (trace_enabled) LOGGER.info("Exiting normally from ForStatement");
+        if (buildTree) {
+            int ForStatement74Mark = closeDeferredNodeScope(ForStatement74Floor);
+            if (nodeArity() - ForStatement74Mark > 1) {
+                ForStatement ForStatement74 = new ForStatement();
+                ForStatement74.setBeginLine(ForStatement74Start.beginLine);
+                ForStatement74.setBeginColumn(ForStatement74Start.beginColumn);
+                ForStatement74.setInputSource(this.getInputSource());
+                ForStatement74.setEndLine(current_token.getEndLine());
+                ForStatement74.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ForStatement74, ForStatement74Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1963
+    final public 
+    void
+    ForInit() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1963 of Java.javacc");
+     
+  // Code for expansion specified on line 1966 of Java.javacc
+    
+        int ForInit75Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ForInit75Start = getToken(1);
+            if (
+                phase2_142_Java_javacc_line_1966(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 1966 of Java.javacc
+  // Code for LocalVariableDeclaration specified on line 1967 of Java.javacc
+       LocalVariableDeclaration();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case 98: 
+                 case 99: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 1969 of Java.javacc
+  // Code for StatementExpressionList specified on line 1969 of Java.javacc
+       StatementExpressionList();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from ForInit");
+        if (buildTree) {
+            int ForInit75Mark = closeDeferredNodeScope(ForInit75Floor);
+            if (nodeArity() - ForInit75Mark > 1) {
+                ForInit ForInit75 = new ForInit();
+                ForInit75.setBeginLine(ForInit75Start.beginLine);
+                ForInit75.setBeginColumn(ForInit75Start.beginColumn);
+                ForInit75.setInputSource(this.getInputSource());
+                ForInit75.setEndLine(current_token.getEndLine());
+                ForInit75.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ForInit75, ForInit75Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1972
+    final public 
+    void
+    StatementExpressionList() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1972 of Java.javacc");
+     
+  // Code for expansion specified on line 1975 of Java.javacc
+    
+        int StatementExpressionList76Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token StatementExpressionList76Start = getToken(1);
+  // Code for StatementExpression specified on line 1975 of Java.javacc
+       StatementExpression();
+  // Code for expansion specified on line 1975 of Java.javacc
+    label_144:
+    while (true) {
+   int int65
+      = nextTokenKind()
+   ;
+         if (!(             int65 == 83 
+)) {
+            break label_144;
+         }
+  // Code for expansion specified on line 1975 of Java.javacc
+  // Code for expansion specified on line 1975 of Java.javacc
+       consumeToken(83);
+  // Code for StatementExpression specified on line 1975 of Java.javacc
+       StatementExpression();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from StatementExpressionList");
+        if (buildTree) {
+            int StatementExpressionList76Mark = closeDeferredNodeScope(StatementExpressionList76Floor);
+            if (nodeArity() - StatementExpressionList76Mark > 1) {
+                StatementExpressionList StatementExpressionList76 = new StatementExpressionList();
+                StatementExpressionList76.setBeginLine(StatementExpressionList76Start.beginLine);
+                StatementExpressionList76.setBeginColumn(StatementExpressionList76Start.beginColumn);
+                StatementExpressionList76.setInputSource(this.getInputSource());
+                StatementExpressionList76.setEndLine(current_token.getEndLine());
+                StatementExpressionList76.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(StatementExpressionList76, StatementExpressionList76Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1978
+    final public 
+    void
+    ForUpdate() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1978 of Java.javacc");
+     
+  // Code for expansion specified on line 1981 of Java.javacc
+    
+        int ForUpdate77Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ForUpdate77Start = getToken(1);
+  // Code for StatementExpressionList specified on line 1981 of Java.javacc
+       StatementExpressionList();
+        if (trace_enabled) LOGGER.info("Exiting normally from ForUpdate");
+        if (buildTree) {
+            int ForUpdate77Mark = closeDeferredNodeScope(ForUpdate77Floor);
+            if (nodeArity() - ForUpdate77Mark > 1) {
+                ForUpdate ForUpdate77 = new ForUpdate();
+                ForUpdate77.setBeginLine(ForUpdate77Start.beginLine);
+                ForUpdate77.setBeginColumn(ForUpdate77Start.beginColumn);
+                ForUpdate77.setInputSource(this.getInputSource());
+                ForUpdate77.setEndLine(current_token.getEndLine());
+                ForUpdate77.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ForUpdate77, ForUpdate77Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1984
+    final public 
+    void
+    BreakStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1984 of Java.javacc");
+     
+  // Code for expansion specified on line 1987 of Java.javacc
+    
+        int BreakStatement78Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token BreakStatement78Start = getToken(1);
+  // Code for expansion specified on line 1987 of Java.javacc
+       consumeToken(12);
+  // Code for expansion specified on line 1987 of Java.javacc
+   int int66
+      = nextTokenKind()
+   ;
+         if (             int66 == IDENTIFIER 
+) {
+              // Code for expansion specified on line 1987 of Java.javacc
+  // Code for expansion specified on line 1987 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+         }
+  // Code for expansion specified on line 1987 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from BreakStatement");
+        if (buildTree) {
+            int BreakStatement78Mark = closeDeferredNodeScope(BreakStatement78Floor);
+            if (nodeArity() - BreakStatement78Mark > 1) {
+                BreakStatement BreakStatement78 = new BreakStatement();
+                BreakStatement78.setBeginLine(BreakStatement78Start.beginLine);
+                BreakStatement78.setBeginColumn(BreakStatement78Start.beginColumn);
+                BreakStatement78.setInputSource(this.getInputSource());
+                BreakStatement78.setEndLine(current_token.getEndLine());
+                BreakStatement78.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(BreakStatement78, BreakStatement78Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1990
+    final public 
+    void
+    ContinueStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1990 of Java.javacc");
+     
+  // Code for expansion specified on line 1993 of Java.javacc
+    
+        int ContinueStatement79Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ContinueStatement79Start = getToken(1);
+  // Code for expansion specified on line 1993 of Java.javacc
+       consumeToken(19);
+  // Code for expansion specified on line 1993 of Java.javacc
+   int int67
+      = nextTokenKind()
+   ;
+         if (             int67 == IDENTIFIER 
+) {
+              // Code for expansion specified on line 1993 of Java.javacc
+  // Code for expansion specified on line 1993 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+         }
+  // Code for expansion specified on line 1993 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from ContinueStatement");
+        if (buildTree) {
+            int ContinueStatement79Mark = closeDeferredNodeScope(ContinueStatement79Floor);
+            if (nodeArity() - ContinueStatement79Mark > 1) {
+                ContinueStatement ContinueStatement79 = new ContinueStatement();
+                ContinueStatement79.setBeginLine(ContinueStatement79Start.beginLine);
+                ContinueStatement79.setBeginColumn(ContinueStatement79Start.beginColumn);
+                ContinueStatement79.setInputSource(this.getInputSource());
+                ContinueStatement79.setEndLine(current_token.getEndLine());
+                ContinueStatement79.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ContinueStatement79, ContinueStatement79Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 1996
+    final public 
+    void
+    ReturnStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 1996 of Java.javacc");
+     
+  // Code for expansion specified on line 1999 of Java.javacc
+    
+        int ReturnStatement80Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ReturnStatement80Start = getToken(1);
+  // Code for expansion specified on line 1999 of Java.javacc
+       consumeToken(46);
+  // Code for expansion specified on line 2000 of Java.javacc
+   int int68
+      = nextTokenKind()
+   ;
+         if (             int68 >= 0 && (jj_first_set_7[int68 >> 6] & (1L << int68)) != 0L
+) {
+              // Code for expansion specified on line 2001 of Java.javacc
+  // Code for Expression specified on line 2001 of Java.javacc
+       Expression();
+
+         }
+  // Code for expansion specified on line 2003 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from ReturnStatement");
+        if (buildTree) {
+            int ReturnStatement80Mark = closeDeferredNodeScope(ReturnStatement80Floor);
+            if (nodeArity() - ReturnStatement80Mark > 1) {
+                ReturnStatement ReturnStatement80 = new ReturnStatement();
+                ReturnStatement80.setBeginLine(ReturnStatement80Start.beginLine);
+                ReturnStatement80.setBeginColumn(ReturnStatement80Start.beginColumn);
+                ReturnStatement80.setInputSource(this.getInputSource());
+                ReturnStatement80.setEndLine(current_token.getEndLine());
+                ReturnStatement80.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ReturnStatement80, ReturnStatement80Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2006
+    final public 
+    void
+    ThrowStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2006 of Java.javacc");
+      
+  // Code for expansion specified on line 2009 of Java.javacc
+    
+        int ThrowStatement81Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ThrowStatement81Start = getToken(1);
+  // Code for expansion specified on line 2009 of Java.javacc
+       consumeToken(54);
+  // Code for Expression specified on line 2010 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 2011 of Java.javacc
+       consumeToken(82);
+        if (trace_enabled) LOGGER.info("Exiting normally from ThrowStatement");
+        if (buildTree) {
+            int ThrowStatement81Mark = closeDeferredNodeScope(ThrowStatement81Floor);
+            if (nodeArity() - ThrowStatement81Mark > 1) {
+                ThrowStatement ThrowStatement81 = new ThrowStatement();
+                ThrowStatement81.setBeginLine(ThrowStatement81Start.beginLine);
+                ThrowStatement81.setBeginColumn(ThrowStatement81Start.beginColumn);
+                ThrowStatement81.setInputSource(this.getInputSource());
+                ThrowStatement81.setEndLine(current_token.getEndLine());
+                ThrowStatement81.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(ThrowStatement81, ThrowStatement81Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2014
+    final public 
+    void
+    SynchronizedStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2014 of Java.javacc");
+     
+  // Code for expansion specified on line 2017 of Java.javacc
+    
+        int SynchronizedStatement82Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token SynchronizedStatement82Start = getToken(1);
+  // Code for expansion specified on line 2017 of Java.javacc
+       consumeToken(52);
+  // Code for expansion specified on line 2017 of Java.javacc
+       consumeToken(76);
+  // Code for Expression specified on line 2017 of Java.javacc
+       Expression();
+  // Code for expansion specified on line 2017 of Java.javacc
+       consumeToken(77);
+  // Code for Block specified on line 2017 of Java.javacc
+       Block();
+        if (trace_enabled) LOGGER.info("Exiting normally from SynchronizedStatement");
+        if (buildTree) {
+            int SynchronizedStatement82Mark = closeDeferredNodeScope(SynchronizedStatement82Floor);
+            if (nodeArity() - SynchronizedStatement82Mark > 1) {
+                SynchronizedStatement SynchronizedStatement82 = new SynchronizedStatement();
+                SynchronizedStatement82.setBeginLine(SynchronizedStatement82Start.beginLine);
+                SynchronizedStatement82.setBeginColumn(SynchronizedStatement82Start.beginColumn);
+                SynchronizedStatement82.setInputSource(this.getInputSource());
+                SynchronizedStatement82.setEndLine(current_token.getEndLine());
+                SynchronizedStatement82.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(SynchronizedStatement82, SynchronizedStatement82Mark);
+            }
+        }
+    
+    }   
+    
+
+// Java.javacc, line 2019
+    final public 
+    ClassicTryStatement
+    ClassicTryStatement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2019 of Java.javacc");
+     
+
+  // Code for expansion specified on line 2027 of Java.javacc
+    
+        boolean ClassicTryStatement83forced = false;
+   ClassicTryStatement ClassicTryStatement83 = null;
+   if (buildTree) {
+       ClassicTryStatement83 = new ClassicTryStatement();
+       Token start = getToken(1);
+       ClassicTryStatement83.setBeginLine(start.beginLine);
+       ClassicTryStatement83.setBeginColumn(start.beginColumn);
+       ClassicTryStatement83.setInputSource(this.getInputSource());
+	    openNodeScope(ClassicTryStatement83);
+  }
+          ParseException parseException83 = null;
+         try {
+  // Code for expansion specified on line 2027 of Java.javacc
+       consumeToken(58);
+  // Code for Block specified on line 2029 of Java.javacc
+       Block();
+  // Code for expansion specified on line 2031 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case 28: 
+                      // Code for expansion specified on line 2031 of Java.javacc
+  // Code for FinallyBlock specified on line 2031 of Java.javacc
+       FinallyBlock();
+
+                    break;
+                 case 15: 
+                      // Code for expansion specified on line 2033 of Java.javacc
+  // Code for expansion specified on line 2034 of Java.javacc
+  // Code for expansion specified on line 2034 of Java.javacc
+   label_148:
+   while (true) {
+  // Code for expansion specified on line 2034 of Java.javacc
+  // Code for CatchBlock specified on line 2034 of Java.javacc
+       CatchBlock();
+   int int69
+      = nextTokenKind()
+   ;
+         if (!(             int69 == 15 
+)) {
+            break label_148;
+         }
+   }
+  // Code for expansion specified on line 2035 of Java.javacc
+   int int70
+      = nextTokenKind()
+   ;
+         if (             int70 == 28 
+) {
+              // Code for expansion specified on line 2035 of Java.javacc
+  // Code for FinallyBlock specified on line 2035 of Java.javacc
+       FinallyBlock();
+
+         }
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+  // Code for expansion specified on line 2038 of Java.javacc
+       
+      return ClassicTryStatement83;
+  
+         }
+         catch (ParseException e) { 
+             parseException83 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException83 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException83.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  ClassicTryStatement83.setEndLine(current_token.getEndLine());
+		              ClassicTryStatement83.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(ClassicTryStatement83, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 2043
+    final public 
+    TryWithResources
+    TryWithResources() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2043 of Java.javacc");
+     
+  // Code for expansion specified on line 2046 of Java.javacc
+    
+        boolean TryWithResources84forced = false;
+   TryWithResources TryWithResources84 = null;
+   if (buildTree) {
+       TryWithResources84 = new TryWithResources();
+       Token start = getToken(1);
+       TryWithResources84.setBeginLine(start.beginLine);
+       TryWithResources84.setBeginColumn(start.beginColumn);
+       TryWithResources84.setInputSource(this.getInputSource());
+	    openNodeScope(TryWithResources84);
+  }
+          ParseException parseException84 = null;
+         try {
+  // Code for expansion specified on line 2046 of Java.javacc
+       consumeToken(58);
+  // Code for expansion specified on line 2047 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 2049 of Java.javacc
+            if (
+                phase2_149_Java_javacc_line_2049(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 2049 of Java.javacc
+  // Code for LocalVariableDeclaration specified on line 2050 of Java.javacc
+       LocalVariableDeclaration();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 2052 of Java.javacc
+  // Code for Name specified on line 2052 of Java.javacc
+       Name();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+  // Code for expansion specified on line 2061 of Java.javacc
+    label_151:
+    while (true) {
+   int int71
+      = nextTokenKind()
+   ;
+         if (!(             int71 == 82 
+)) {
+            break label_151;
+         }
+  // Code for expansion specified on line 2055 of Java.javacc
+  // Code for expansion specified on line 2055 of Java.javacc
+       consumeToken(82);
+  // Code for expansion specified on line 2056 of Java.javacc
+   int int72
+      = nextTokenKind()
+   ;
+         if (             int72 >= 0 && (jj_first_set_4[int72 >> 6] & (1L << int72)) != 0L
+) {
+              // Code for expansion specified on line 2057 of Java.javacc
+            if (
+                phase2_152_Java_javacc_line_2057(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 2057 of Java.javacc
+  // Code for LocalVariableDeclaration specified on line 2057 of Java.javacc
+       LocalVariableDeclaration();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 2059 of Java.javacc
+  // Code for Name specified on line 2059 of Java.javacc
+       Name();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+
+         }
+    }
+  // Code for expansion specified on line 2062 of Java.javacc
+       consumeToken(77);
+  // Code for Block specified on line 2063 of Java.javacc
+       Block();
+  // Code for expansion specified on line 2064 of Java.javacc
+    label_154:
+    while (true) {
+   int int73
+      = nextTokenKind()
+   ;
+         if (!(             int73 == 15 
+)) {
+            break label_154;
+         }
+  // Code for expansion specified on line 2064 of Java.javacc
+  // Code for CatchBlock specified on line 2064 of Java.javacc
+       CatchBlock();
+    }
+  // Code for expansion specified on line 2065 of Java.javacc
+   int int74
+      = nextTokenKind()
+   ;
+         if (             int74 == 28 
+) {
+              // Code for expansion specified on line 2065 of Java.javacc
+  // Code for FinallyBlock specified on line 2065 of Java.javacc
+       FinallyBlock();
+
+         }
+  // Code for expansion specified on line 2066 of Java.javacc
+       
+       return TryWithResources84;
+    
+         }
+         catch (ParseException e) { 
+             parseException84 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException84 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException84.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  TryWithResources84.setEndLine(current_token.getEndLine());
+		              TryWithResources84.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(TryWithResources84, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 2071
+    final public 
+    CatchBlock
+    CatchBlock() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2071 of Java.javacc");
+     
+  // Code for expansion specified on line 2074 of Java.javacc
+    
+        boolean CatchBlock85forced = false;
+   CatchBlock CatchBlock85 = null;
+   if (buildTree) {
+       CatchBlock85 = new CatchBlock();
+       Token start = getToken(1);
+       CatchBlock85.setBeginLine(start.beginLine);
+       CatchBlock85.setBeginColumn(start.beginColumn);
+       CatchBlock85.setInputSource(this.getInputSource());
+	    openNodeScope(CatchBlock85);
+  }
+          ParseException parseException85 = null;
+         try {
+  // Code for expansion specified on line 2074 of Java.javacc
+       consumeToken(15);
+  // Code for expansion specified on line 2075 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 2076 of Java.javacc
+   int int75
+      = nextTokenKind()
+   ;
+         if (             int75 == 27 
+) {
+              // Code for expansion specified on line 2076 of Java.javacc
+  // Code for expansion specified on line 2076 of Java.javacc
+       consumeToken(27);
+
+         }
+  // Code for ClassOrInterfaceType specified on line 2077 of Java.javacc
+       ClassOrInterfaceType();
+  // Code for expansion specified on line 2077 of Java.javacc
+    label_157:
+    while (true) {
+   int int76
+      = nextTokenKind()
+   ;
+         if (!(             int76 == 105 
+)) {
+            break label_157;
+         }
+  // Code for expansion specified on line 2077 of Java.javacc
+  // Code for expansion specified on line 2077 of Java.javacc
+       consumeToken(105);
+  // Code for ClassOrInterfaceType specified on line 2077 of Java.javacc
+       ClassOrInterfaceType();
+    }
+  // Code for VariableDeclaratorId specified on line 2077 of Java.javacc
+       VariableDeclaratorId();
+  // Code for expansion specified on line 2078 of Java.javacc
+       consumeToken(77);
+  // Code for Block specified on line 2079 of Java.javacc
+       Block();
+  // Code for expansion specified on line 2080 of Java.javacc
+       
+        return CatchBlock85;
+    
+         }
+         catch (ParseException e) { 
+             parseException85 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException85 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException85.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  CatchBlock85.setEndLine(current_token.getEndLine());
+		              CatchBlock85.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(CatchBlock85, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 2092
+    final public 
+    FinallyBlock
+    FinallyBlock() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2092 of Java.javacc");
+     
+  // Code for expansion specified on line 2095 of Java.javacc
+    
+        boolean FinallyBlock86forced = false;
+   FinallyBlock FinallyBlock86 = null;
+   if (buildTree) {
+       FinallyBlock86 = new FinallyBlock();
+       Token start = getToken(1);
+       FinallyBlock86.setBeginLine(start.beginLine);
+       FinallyBlock86.setBeginColumn(start.beginColumn);
+       FinallyBlock86.setInputSource(this.getInputSource());
+	    openNodeScope(FinallyBlock86);
+  }
+          ParseException parseException86 = null;
+         try {
+  // Code for expansion specified on line 2095 of Java.javacc
+       consumeToken(28);
+  // Code for Block specified on line 2095 of Java.javacc
+       Block();
+  // Code for expansion specified on line 2096 of Java.javacc
+       
+        return FinallyBlock86;
+    
+         }
+         catch (ParseException e) { 
+             parseException86 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException86 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException86.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  FinallyBlock86.setEndLine(current_token.getEndLine());
+		              FinallyBlock86.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(FinallyBlock86, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+/* Annotation syntax follows. */
+
+
+// Java.javacc, line 2111
+    final public 
+    Annotation
+    Annotation() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2111 of Java.javacc");
+     
+  // Code for expansion specified on line 2114 of Java.javacc
+    
+        boolean Annotation87forced = false;
+   Annotation Annotation87 = null;
+   if (buildTree) {
+       Annotation87 = new Annotation();
+       Token start = getToken(1);
+       Annotation87.setBeginLine(start.beginLine);
+       Annotation87.setBeginColumn(start.beginColumn);
+       Annotation87.setInputSource(this.getInputSource());
+	    openNodeScope(Annotation87);
+  }
+          ParseException parseException87 = null;
+         try {
+  // Code for expansion specified on line 2114 of Java.javacc
+            if (
+                phase2_157_Java_javacc_line_2114(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 2114 of Java.javacc
+  // Code for NormalAnnotation specified on line 2115 of Java.javacc
+       NormalAnnotation();
+
+            } else if (
+                phase2_158_Java_javacc_line_2117(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 2117 of Java.javacc
+  // Code for SingleMemberAnnotation specified on line 2118 of Java.javacc
+       SingleMemberAnnotation();
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 123: 
+                      // Code for expansion specified on line 2120 of Java.javacc
+  // Code for MarkerAnnotation specified on line 2120 of Java.javacc
+       MarkerAnnotation();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+  // Code for expansion specified on line 2121 of Java.javacc
+       
+      return Annotation87;
+   
+         }
+         catch (ParseException e) { 
+             parseException87 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException87 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException87.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Annotation87.setEndLine(current_token.getEndLine());
+		              Annotation87.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Annotation87, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 2126
+    final public 
+    void
+    NormalAnnotation() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2126 of Java.javacc");
+     
+  // Code for expansion specified on line 2129 of Java.javacc
+  // Code for expansion specified on line 2129 of Java.javacc
+       consumeToken(123);
+  // Code for Name specified on line 2129 of Java.javacc
+       Name();
+  // Code for expansion specified on line 2129 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 2129 of Java.javacc
+   int int77
+      = nextTokenKind()
+   ;
+         if (             int77 == IDENTIFIER 
+) {
+              // Code for expansion specified on line 2129 of Java.javacc
+  // Code for MemberValuePairs specified on line 2129 of Java.javacc
+       MemberValuePairs();
+
+         }
+  // Code for expansion specified on line 2129 of Java.javacc
+       consumeToken(77);
+        if (trace_enabled) LOGGER.info("Exiting normally from NormalAnnotation");
+    }   
+    
+
+
+// Java.javacc, line 2132
+    final public 
+    void
+    MarkerAnnotation() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2132 of Java.javacc");
+     
+  // Code for expansion specified on line 2135 of Java.javacc
+  // Code for expansion specified on line 2135 of Java.javacc
+       consumeToken(123);
+  // Code for Name specified on line 2135 of Java.javacc
+       Name();
+        if (trace_enabled) LOGGER.info("Exiting normally from MarkerAnnotation");
+    }   
+    
+
+
+// Java.javacc, line 2138
+    final public 
+    void
+    SingleMemberAnnotation() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2138 of Java.javacc");
+     
+  // Code for expansion specified on line 2141 of Java.javacc
+  // Code for expansion specified on line 2141 of Java.javacc
+       consumeToken(123);
+  // Code for Name specified on line 2141 of Java.javacc
+       Name();
+  // Code for expansion specified on line 2141 of Java.javacc
+       consumeToken(76);
+  // Code for MemberValue specified on line 2141 of Java.javacc
+       MemberValue();
+  // Code for expansion specified on line 2141 of Java.javacc
+       consumeToken(77);
+        if (trace_enabled) LOGGER.info("Exiting normally from SingleMemberAnnotation");
+    }   
+    
+
+
+// Java.javacc, line 2144
+    final public 
+    void
+    MemberValuePairs() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2144 of Java.javacc");
+     
+  // Code for expansion specified on line 2147 of Java.javacc
+    
+        int MemberValuePairs88Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MemberValuePairs88Start = getToken(1);
+  // Code for MemberValuePair specified on line 2147 of Java.javacc
+       MemberValuePair();
+  // Code for expansion specified on line 2147 of Java.javacc
+    label_161:
+    while (true) {
+   int int78
+      = nextTokenKind()
+   ;
+         if (!(             int78 == 83 
+)) {
+            break label_161;
+         }
+  // Code for expansion specified on line 2147 of Java.javacc
+  // Code for expansion specified on line 2147 of Java.javacc
+       consumeToken(83);
+  // Code for MemberValuePair specified on line 2147 of Java.javacc
+       MemberValuePair();
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from MemberValuePairs");
+        if (buildTree) {
+            int MemberValuePairs88Mark = closeDeferredNodeScope(MemberValuePairs88Floor);
+            if (nodeArity() - MemberValuePairs88Mark > 1) {
+                MemberValuePairs MemberValuePairs88 = new MemberValuePairs();
+                MemberValuePairs88.setBeginLine(MemberValuePairs88Start.beginLine);
+                MemberValuePairs88.setBeginColumn(MemberValuePairs88Start.beginColumn);
+                MemberValuePairs88.setInputSource(this.getInputSource());
+                MemberValuePairs88.setEndLine(current_token.getEndLine());
+                MemberValuePairs88.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MemberValuePairs88, MemberValuePairs88Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2150
+    final public 
+    void
+    MemberValuePair() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2150 of Java.javacc");
+     
+  // Code for expansion specified on line 2153 of Java.javacc
+    
+        int MemberValuePair89Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MemberValuePair89Start = getToken(1);
+  // Code for expansion specified on line 2153 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 2153 of Java.javacc
+       consumeToken(85);
+  // Code for MemberValue specified on line 2153 of Java.javacc
+       MemberValue();
+        if (trace_enabled) LOGGER.info("Exiting normally from MemberValuePair");
+        if (buildTree) {
+            int MemberValuePair89Mark = closeDeferredNodeScope(MemberValuePair89Floor);
+            if (nodeArity() - MemberValuePair89Mark > 1) {
+                MemberValuePair MemberValuePair89 = new MemberValuePair();
+                MemberValuePair89.setBeginLine(MemberValuePair89Start.beginLine);
+                MemberValuePair89.setBeginColumn(MemberValuePair89Start.beginColumn);
+                MemberValuePair89.setInputSource(this.getInputSource());
+                MemberValuePair89.setEndLine(current_token.getEndLine());
+                MemberValuePair89.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MemberValuePair89, MemberValuePair89Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2156
+    final public 
+    void
+    MemberValue() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2156 of Java.javacc");
+     
+  // Code for expansion specified on line 2159 of Java.javacc
+    
+        int MemberValue90Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MemberValue90Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 123: 
+                      // Code for expansion specified on line 2159 of Java.javacc
+  // Code for Annotation specified on line 2159 of Java.javacc
+       Annotation();
+
+                    break;
+                 case 78: 
+                      // Code for expansion specified on line 2161 of Java.javacc
+  // Code for MemberValueArrayInitializer specified on line 2161 of Java.javacc
+       MemberValueArrayInitializer();
+
+                    break;
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case 88: 
+                 case 89: 
+                 case 98: 
+                 case 99: 
+                 case 100: 
+                 case 101: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 2163 of Java.javacc
+  // Code for TernaryExpression specified on line 2163 of Java.javacc
+       TernaryExpression();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from MemberValue");
+        if (buildTree) {
+            int MemberValue90Mark = closeDeferredNodeScope(MemberValue90Floor);
+            if (nodeArity() - MemberValue90Mark > 1) {
+                MemberValue MemberValue90 = new MemberValue();
+                MemberValue90.setBeginLine(MemberValue90Start.beginLine);
+                MemberValue90.setBeginColumn(MemberValue90Start.beginColumn);
+                MemberValue90.setInputSource(this.getInputSource());
+                MemberValue90.setEndLine(current_token.getEndLine());
+                MemberValue90.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MemberValue90, MemberValue90Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2166
+    final public 
+    void
+    MemberValueArrayInitializer() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2166 of Java.javacc");
+     
+  // Code for expansion specified on line 2169 of Java.javacc
+    
+        int MemberValueArrayInitializer91Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token MemberValueArrayInitializer91Start = getToken(1);
+            if (
+                phase2_164_Java_javacc_line_2169(2)
+                ) { 
+                     // Code for expansion specified on line 2169 of Java.javacc
+  // Code for expansion specified on line 2169 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 2169 of Java.javacc
+       consumeToken(79);
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 78: 
+                      // Code for expansion specified on line 2171 of Java.javacc
+  // Code for expansion specified on line 2171 of Java.javacc
+       consumeToken(78);
+  // Code for MemberValue specified on line 2171 of Java.javacc
+       MemberValue();
+  // Code for expansion specified on line 2171 of Java.javacc
+    label_162:
+    while (true) {
+         if (!(        phase2_162_Java_javacc_line_2171(2)
+)) {
+            break label_162;
+         }
+  // Code for expansion specified on line 2171 of Java.javacc
+  // Code for expansion specified on line 2171 of Java.javacc
+       consumeToken(83);
+  // Code for MemberValue specified on line 2171 of Java.javacc
+       MemberValue();
+    }
+  // Code for expansion specified on line 2171 of Java.javacc
+   int int79
+      = nextTokenKind()
+   ;
+         if (             int79 == 83 
+) {
+              // Code for expansion specified on line 2171 of Java.javacc
+  // Code for expansion specified on line 2171 of Java.javacc
+       consumeToken(83);
+
+         }
+  // Code for expansion specified on line 2171 of Java.javacc
+       consumeToken(79);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from MemberValueArrayInitializer");
+        if (buildTree) {
+            int MemberValueArrayInitializer91Mark = closeDeferredNodeScope(MemberValueArrayInitializer91Floor);
+            if (nodeArity() - MemberValueArrayInitializer91Mark > 1) {
+                MemberValueArrayInitializer MemberValueArrayInitializer91 = new MemberValueArrayInitializer();
+                MemberValueArrayInitializer91.setBeginLine(MemberValueArrayInitializer91Start.beginLine);
+                MemberValueArrayInitializer91.setBeginColumn(MemberValueArrayInitializer91Start.beginColumn);
+                MemberValueArrayInitializer91.setInputSource(this.getInputSource());
+                MemberValueArrayInitializer91.setEndLine(current_token.getEndLine());
+                MemberValueArrayInitializer91.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(MemberValueArrayInitializer91, MemberValueArrayInitializer91Mark);
+            }
+        }
+    
+    }   
+    
+
+
+/* Annotation Types. */
+
+
+// Java.javacc, line 2177
+    final public 
+    void
+    AnnotationTypeDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2177 of Java.javacc");
+     
+  // Code for expansion specified on line 2180 of Java.javacc
+    
+        int AnnotationTypeDeclaration92Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token AnnotationTypeDeclaration92Start = getToken(1);
+  // Code for expansion specified on line 2180 of Java.javacc
+       consumeToken(123);
+  // Code for expansion specified on line 2180 of Java.javacc
+       consumeToken(37);
+  // Code for expansion specified on line 2180 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for AnnotationTypeBody specified on line 2180 of Java.javacc
+       AnnotationTypeBody();
+        if (trace_enabled) LOGGER.info("Exiting normally from AnnotationTypeDeclaration");
+        if (buildTree) {
+            int AnnotationTypeDeclaration92Mark = closeDeferredNodeScope(AnnotationTypeDeclaration92Floor);
+            if (nodeArity() - AnnotationTypeDeclaration92Mark > 1) {
+                AnnotationTypeDeclaration AnnotationTypeDeclaration92 = new AnnotationTypeDeclaration();
+                AnnotationTypeDeclaration92.setBeginLine(AnnotationTypeDeclaration92Start.beginLine);
+                AnnotationTypeDeclaration92.setBeginColumn(AnnotationTypeDeclaration92Start.beginColumn);
+                AnnotationTypeDeclaration92.setInputSource(this.getInputSource());
+                AnnotationTypeDeclaration92.setEndLine(current_token.getEndLine());
+                AnnotationTypeDeclaration92.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AnnotationTypeDeclaration92, AnnotationTypeDeclaration92Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2183
+    final public 
+    void
+    AnnotationTypeBody() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2183 of Java.javacc");
+     
+  // Code for expansion specified on line 2186 of Java.javacc
+    
+        int AnnotationTypeBody93Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token AnnotationTypeBody93Start = getToken(1);
+  // Code for expansion specified on line 2186 of Java.javacc
+       consumeToken(78);
+  // Code for expansion specified on line 2186 of Java.javacc
+    label_166:
+    while (true) {
+   int int80
+      = nextTokenKind()
+   ;
+         if (!(             int80 >= 0 && (jj_first_set_11[int80 >> 6] & (1L << int80)) != 0L
+)) {
+            break label_166;
+         }
+  // Code for expansion specified on line 2186 of Java.javacc
+  // Code for AnnotationTypeMemberDeclaration specified on line 2186 of Java.javacc
+       AnnotationTypeMemberDeclaration();
+    }
+  // Code for expansion specified on line 2186 of Java.javacc
+       consumeToken(79);
+        if (trace_enabled) LOGGER.info("Exiting normally from AnnotationTypeBody");
+        if (buildTree) {
+            int AnnotationTypeBody93Mark = closeDeferredNodeScope(AnnotationTypeBody93Floor);
+            if (nodeArity() - AnnotationTypeBody93Mark > 1) {
+                AnnotationTypeBody AnnotationTypeBody93 = new AnnotationTypeBody();
+                AnnotationTypeBody93.setBeginLine(AnnotationTypeBody93Start.beginLine);
+                AnnotationTypeBody93.setBeginColumn(AnnotationTypeBody93Start.beginColumn);
+                AnnotationTypeBody93.setInputSource(this.getInputSource());
+                AnnotationTypeBody93.setEndLine(current_token.getEndLine());
+                AnnotationTypeBody93.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AnnotationTypeBody93, AnnotationTypeBody93Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2189
+    final public 
+    void
+    AnnotationTypeMemberDeclaration() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2189 of Java.javacc");
+     
+  // Code for expansion specified on line 2192 of Java.javacc
+    
+        int AnnotationTypeMemberDeclaration94Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token AnnotationTypeMemberDeclaration94Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 9: 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 17: 
+                 case 22: 
+                 case 24: 
+                 case 27: 
+                 case 29: 
+                 case 36: 
+                 case 37: 
+                 case 38: 
+                 case 39: 
+                 case 43: 
+                 case 44: 
+                 case 45: 
+                 case 47: 
+                 case 48: 
+                 case 49: 
+                 case 52: 
+                 case 56: 
+                 case 60: 
+                 case 123: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 2192 of Java.javacc
+  // Code for Modifiers specified on line 2192 of Java.javacc
+       Modifiers();
+  // Code for expansion specified on line 2194 of Java.javacc
+            if (
+                phase2_167_Java_javacc_line_2194(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 2194 of Java.javacc
+  // Code for Type specified on line 2195 of Java.javacc
+       Type();
+  // Code for expansion specified on line 2195 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 2195 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 2195 of Java.javacc
+       consumeToken(77);
+  // Code for expansion specified on line 2195 of Java.javacc
+   int int81
+      = nextTokenKind()
+   ;
+         if (             int81 == 20 
+) {
+              // Code for expansion specified on line 2195 of Java.javacc
+  // Code for DefaultValue specified on line 2195 of Java.javacc
+       DefaultValue();
+
+         }
+  // Code for expansion specified on line 2195 of Java.javacc
+       consumeToken(82);
+
+                 } else {
+                 switch (nextTokenKind()) { 
+                 case 17: 
+                      // Code for expansion specified on line 2197 of Java.javacc
+  // Code for ClassDeclaration specified on line 2197 of Java.javacc
+       ClassDeclaration();
+
+                    break;
+                 case 37: 
+                      // Code for expansion specified on line 2199 of Java.javacc
+  // Code for InterfaceDeclaration specified on line 2199 of Java.javacc
+       InterfaceDeclaration();
+
+                    break;
+                 case 24: 
+                      // Code for expansion specified on line 2201 of Java.javacc
+  // Code for EnumDeclaration specified on line 2201 of Java.javacc
+       EnumDeclaration();
+
+                    break;
+                 case 123: 
+                      // Code for expansion specified on line 2203 of Java.javacc
+  // Code for AnnotationTypeDeclaration specified on line 2203 of Java.javacc
+       AnnotationTypeDeclaration();
+
+                    break;
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 47: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 2205 of Java.javacc
+  // Code for FieldDeclaration specified on line 2205 of Java.javacc
+       FieldDeclaration();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+           }
+
+                    break;
+                 case 82: 
+                      // Code for expansion specified on line 2208 of Java.javacc
+  // Code for expansion specified on line 2208 of Java.javacc
+  // Code for expansion specified on line 2208 of Java.javacc
+       consumeToken(82);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from AnnotationTypeMemberDeclaration");
+        if (buildTree) {
+            int AnnotationTypeMemberDeclaration94Mark = closeDeferredNodeScope(AnnotationTypeMemberDeclaration94Floor);
+            if (nodeArity() - AnnotationTypeMemberDeclaration94Mark > 1) {
+                AnnotationTypeMemberDeclaration AnnotationTypeMemberDeclaration94 = new AnnotationTypeMemberDeclaration();
+                AnnotationTypeMemberDeclaration94.setBeginLine(AnnotationTypeMemberDeclaration94Start.beginLine);
+                AnnotationTypeMemberDeclaration94.setBeginColumn(AnnotationTypeMemberDeclaration94Start.beginColumn);
+                AnnotationTypeMemberDeclaration94.setInputSource(this.getInputSource());
+                AnnotationTypeMemberDeclaration94.setEndLine(current_token.getEndLine());
+                AnnotationTypeMemberDeclaration94.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(AnnotationTypeMemberDeclaration94, AnnotationTypeMemberDeclaration94Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2211
+    final public 
+    void
+    DefaultValue() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2211 of Java.javacc");
+     
+  // Code for expansion specified on line 2214 of Java.javacc
+    
+        int DefaultValue95Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token DefaultValue95Start = getToken(1);
+  // Code for expansion specified on line 2214 of Java.javacc
+       consumeToken(20);
+  // Code for MemberValue specified on line 2214 of Java.javacc
+       MemberValue();
+        if (trace_enabled) LOGGER.info("Exiting normally from DefaultValue");
+        if (buildTree) {
+            int DefaultValue95Mark = closeDeferredNodeScope(DefaultValue95Floor);
+            if (nodeArity() - DefaultValue95Mark > 1) {
+                DefaultValue DefaultValue95 = new DefaultValue();
+                DefaultValue95.setBeginLine(DefaultValue95Start.beginLine);
+                DefaultValue95.setBeginColumn(DefaultValue95Start.beginColumn);
+                DefaultValue95.setInputSource(this.getInputSource());
+                DefaultValue95.setEndLine(current_token.getEndLine());
+                DefaultValue95.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(DefaultValue95, DefaultValue95Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2217
+    final public 
+    LambdaExpression
+    LambdaExpression() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2217 of Java.javacc");
+     
+  // Code for expansion specified on line 2220 of Java.javacc
+    
+        boolean LambdaExpression96forced = false;
+   LambdaExpression LambdaExpression96 = null;
+   if (buildTree) {
+       LambdaExpression96 = new LambdaExpression();
+       Token start = getToken(1);
+       LambdaExpression96.setBeginLine(start.beginLine);
+       LambdaExpression96.setBeginColumn(start.beginColumn);
+       LambdaExpression96.setInputSource(this.getInputSource());
+	    openNodeScope(LambdaExpression96);
+  }
+          ParseException parseException96 = null;
+         try {
+  // Code for LambdaLHS specified on line 2220 of Java.javacc
+       LambdaLHS();
+  // Code for expansion specified on line 2221 of Java.javacc
+       consumeToken(120);
+  // Code for LambdaRHS specified on line 2222 of Java.javacc
+       LambdaRHS();
+  // Code for expansion specified on line 2223 of Java.javacc
+       
+     return LambdaExpression96;
+  
+         }
+         catch (ParseException e) { 
+             parseException96 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException96 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException96.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  LambdaExpression96.setEndLine(current_token.getEndLine());
+		              LambdaExpression96.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(LambdaExpression96, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 2228
+    final public 
+    void
+    LambdaLHS() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2228 of Java.javacc");
+     
+  // Code for expansion specified on line 2230 of Java.javacc
+    
+        int LambdaLHS97Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token LambdaLHS97Start = getToken(1);
+            if (
+                phase2_168_Java_javacc_line_2230(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 2230 of Java.javacc
+  // Code for SimpleLambdaLHS specified on line 2231 of Java.javacc
+       SimpleLambdaLHS();
+
+            } else if (
+                phase2_169_Java_javacc_line_2233(INFINITY)
+                ) { 
+                     // Code for expansion specified on line 2233 of Java.javacc
+  // Code for FormalLambdaLHS specified on line 2234 of Java.javacc
+       FormalLambdaLHS();
+
+           } else {
+             consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from LambdaLHS");
+        if (buildTree) {
+            int LambdaLHS97Mark = closeDeferredNodeScope(LambdaLHS97Floor);
+            if (nodeArity() - LambdaLHS97Mark > 1) {
+                LambdaLHS LambdaLHS97 = new LambdaLHS();
+                LambdaLHS97.setBeginLine(LambdaLHS97Start.beginLine);
+                LambdaLHS97.setBeginColumn(LambdaLHS97Start.beginColumn);
+                LambdaLHS97.setInputSource(this.getInputSource());
+                LambdaLHS97.setEndLine(current_token.getEndLine());
+                LambdaLHS97.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(LambdaLHS97, LambdaLHS97Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Java.javacc, line 2237
+    final public 
+    void
+    SimpleLambdaLHS() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2237 of Java.javacc");
+     
+  // Code for expansion specified on line 2239 of Java.javacc
+                 switch (nextTokenKind()) { 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 2239 of Java.javacc
+  // Code for expansion specified on line 2239 of Java.javacc
+       consumeToken(IDENTIFIER);
+
+                    break;
+                 case 76: 
+                      // Code for expansion specified on line 2241 of Java.javacc
+  // Code for expansion specified on line 2242 of Java.javacc
+  // Code for expansion specified on line 2242 of Java.javacc
+       consumeToken(76);
+  // Code for expansion specified on line 2243 of Java.javacc
+   int int83
+      = nextTokenKind()
+   ;
+         if (             int83 == IDENTIFIER 
+) {
+              // Code for expansion specified on line 2243 of Java.javacc
+  // Code for expansion specified on line 2243 of Java.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 2243 of Java.javacc
+    label_172:
+    while (true) {
+   int int82
+      = nextTokenKind()
+   ;
+         if (!(             int82 == 83 
+)) {
+            break label_172;
+         }
+  // Code for expansion specified on line 2243 of Java.javacc
+  // Code for expansion specified on line 2243 of Java.javacc
+       consumeToken(83);
+  // Code for expansion specified on line 2243 of Java.javacc
+       consumeToken(IDENTIFIER);
+    }
+
+         }
+  // Code for expansion specified on line 2244 of Java.javacc
+       consumeToken(77);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from SimpleLambdaLHS");
+    }   
+    
+
+
+// Java.javacc, line 2248
+    final public 
+    void
+    FormalLambdaLHS() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2248 of Java.javacc");
+     
+  // Code for expansion specified on line 2250 of Java.javacc
+    
+        boolean FormalLambdaLHS98forced = false;
+   FormalParameters FormalLambdaLHS98 = null;
+   if (buildTree) {
+       FormalLambdaLHS98 = new FormalParameters();
+       Token start = getToken(1);
+       FormalLambdaLHS98.setBeginLine(start.beginLine);
+       FormalLambdaLHS98.setBeginColumn(start.beginColumn);
+       FormalLambdaLHS98.setInputSource(this.getInputSource());
+	    openNodeScope(FormalLambdaLHS98);
+  }
+          ParseException parseException98 = null;
+         try {
+  // Code for expansion specified on line 2250 of Java.javacc
+       consumeToken(76);
+  // Code for Type specified on line 2251 of Java.javacc
+       Type();
+  // Code for VariableDeclaratorId specified on line 2251 of Java.javacc
+       VariableDeclaratorId();
+  // Code for expansion specified on line 2254 of Java.javacc
+    label_173:
+    while (true) {
+   int int84
+      = nextTokenKind()
+   ;
+         if (!(             int84 == 83 
+)) {
+            break label_173;
+         }
+  // Code for expansion specified on line 2253 of Java.javacc
+  // Code for expansion specified on line 2253 of Java.javacc
+       consumeToken(83);
+  // Code for Type specified on line 2253 of Java.javacc
+       Type();
+  // Code for VariableDeclaratorId specified on line 2253 of Java.javacc
+       VariableDeclaratorId();
+    }
+  // Code for expansion specified on line 2255 of Java.javacc
+       consumeToken(77);
+        if (trace_enabled) LOGGER.info("Exiting normally from FormalLambdaLHS");
+         }
+         catch (ParseException e) { 
+             parseException98 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException98 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException98.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  FormalLambdaLHS98.setEndLine(current_token.getEndLine());
+		              FormalLambdaLHS98.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(FormalLambdaLHS98, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Java.javacc, line 2258
+    final public 
+    void
+    LambdaRHS() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 2258 of Java.javacc");
+     
+  // Code for expansion specified on line 2261 of Java.javacc
+    
+        int LambdaRHS99Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token LambdaRHS99Start = getToken(1);
+                 switch (nextTokenKind()) { 
+                 case 11: 
+                 case 13: 
+                 case 16: 
+                 case 22: 
+                 case 26: 
+                 case 29: 
+                 case 36: 
+                 case 38: 
+                 case 40: 
+                 case 41: 
+                 case 47: 
+                 case 50: 
+                 case 53: 
+                 case 57: 
+                 case 59: 
+                 case LONG_LITERAL: 
+                 case INTEGER_LITERAL: 
+                 case FLOATING_POINT_LITERAL: 
+                 case CHARACTER_LITERAL: 
+                 case STRING_LITERAL: 
+                 case 76: 
+                 case 88: 
+                 case 89: 
+                 case 98: 
+                 case 99: 
+                 case 100: 
+                 case 101: 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 2261 of Java.javacc
+  // Code for Expression specified on line 2261 of Java.javacc
+       Expression();
+
+                    break;
+                 case 78: 
+                      // Code for expansion specified on line 2263 of Java.javacc
+  // Code for Block specified on line 2263 of Java.javacc
+       Block();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from LambdaRHS");
+        if (buildTree) {
+            int LambdaRHS99Mark = closeDeferredNodeScope(LambdaRHS99Floor);
+            if (nodeArity() - LambdaRHS99Mark > 1) {
+                LambdaRHS LambdaRHS99 = new LambdaRHS();
+                LambdaRHS99.setBeginLine(LambdaRHS99Start.beginLine);
+                LambdaRHS99.setBeginColumn(LambdaRHS99Start.beginColumn);
+                LambdaRHS99.setInputSource(this.getInputSource());
+                LambdaRHS99.setEndLine(current_token.getEndLine());
+                LambdaRHS99.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(LambdaRHS99, LambdaRHS99Mark);
+            }
+        }
+    
+    }   
+   static private final long[] jj_first_set_0 = {0x111338a009020200L, 0x800000000040000L, 0x0L};
+   static private final long[] jj_first_set_1 = {0x1113388008000200L, 0x4800000000000000L, 0x0L};
+   static private final long[] jj_first_set_2 = {0x1913b8f029532a00L, 0x4800000000844000L, 0x0L};
+   static private final long[] jj_first_set_3 = {0xca24835024412800L, 0x4000003c03005c10L, 0x0L};
+   static private final long[] jj_first_set_4 = {0x1113b8d028412a00L, 0x4800000000000000L, 0x0L};
+   static private final long[] jj_first_set_5 = {0xff7ffbf16c6b3e00L, 0x4800000c00045c10L, 0x0L};
+   static private final long[] jj_first_set_6 = {0x0L, 0x60c00000L, 0x0L};
+   static private final long[] jj_first_set_7 = {0xca24835024412800L, 0x4000003c03001c10L, 0x0L};
+   static private final long[] jj_first_set_8 = {0x0L, 0xffe00c00200000L, 0x0L};
+   static private final long[] jj_first_set_9 = {0xdb37bbd02c412a00L, 0x4800000c00001c10L, 0x0L};
+   static private final long[] jj_first_set_10 = {0xca24835024412800L, 0x4000000c00001c10L, 0x0L};
+   static private final long[] jj_first_set_11 = {0x1113b8f029432a00L, 0x4800000000040000L, 0x0L};
+
+//====================================
+// Start of methods for Phase 2 Lookaheads
+//====================================
+   private boolean phase2_1_Java_javacc_line_335(int maxLookahead) {
+      if (jj_la_cached(0)) return jj_la_cacheResults[0];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(0, !phase3_1_Java_javacc_line_335());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(0, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_7_Java_javacc_line_467(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 9 :
+         case 27 :
+         case 39 :
+         case 43 :
+         case 44 :
+         case 45 :
+         case 48 :
+         case 49 :
+         case 52 :
+         case 56 :
+         case 60 :
+      return true;
+         case 123 :
+      switch (getToken(2).kind) {
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_9_Java_javacc_line_501(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 9 :
+         case 20 :
+         case 27 :
+         case 39 :
+         case 43 :
+         case 44 :
+         case 45 :
+         case 48 :
+         case 49 :
+         case 52 :
+         case 56 :
+         case 60 :
+      return true;
+         case 123 :
+      switch (getToken(2).kind) {
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_20_Java_javacc_line_836(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 83 :
+      switch (getToken(2).kind) {
+         case 9 :
+         case 27 :
+         case 39 :
+         case 43 :
+         case 44 :
+         case 45 :
+         case 48 :
+         case 49 :
+         case 52 :
+         case 56 :
+         case 60 :
+         case 123 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_30_Java_javacc_line_981(int maxLookahead) {
+      if (jj_la_cached(1)) return jj_la_cacheResults[1];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(1, !phase3_30_Java_javacc_line_981());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(1, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_31_Java_javacc_line_984(int maxLookahead) {
+      if (jj_la_cached(2)) return jj_la_cacheResults[2];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(2, !phase3_31_Java_javacc_line_984());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(2, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_32_Java_javacc_line_963(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 48 :
+      switch (getToken(2).kind) {
+         case 78 :
+      return true;
+         default :
+      return false;
+      }
+         case 78 :
+      switch (getToken(2).kind) {
+         case 9 :
+         case 10 :
+         case 11 :
+         case 12 :
+         case 13 :
+         case 16 :
+         case 17 :
+         case 19 :
+         case 21 :
+         case 22 :
+         case 26 :
+         case 27 :
+         case 29 :
+         case 30 :
+         case 32 :
+         case 36 :
+         case 37 :
+         case 38 :
+         case 39 :
+         case 40 :
+         case 41 :
+         case 43 :
+         case 44 :
+         case 45 :
+         case 46 :
+         case 47 :
+         case 48 :
+         case 49 :
+         case 50 :
+         case 51 :
+         case 52 :
+         case 53 :
+         case 54 :
+         case 56 :
+         case 57 :
+         case 58 :
+         case 59 :
+         case 60 :
+         case 61 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 78 :
+         case 79 :
+         case 82 :
+         case 98 :
+         case 99 :
+         case 123 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_38_Java_javacc_line_1035(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 83 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 78 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_49_Java_javacc_line_1134(int maxLookahead) {
+      if (jj_la_cached(3)) return jj_la_cacheResults[3];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(3, !phase3_49_Java_javacc_line_1134());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(3, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_52_Java_javacc_line_1145(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+      switch (getToken(2).kind) {
+         case 80 :
+         case 84 :
+         case 121 :
+      return true;
+         default :
+      return false;
+      }
+         case 26 :
+         case 41 :
+         case 53 :
+         case 57 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+      switch (getToken(2).kind) {
+         case 76 :
+         case 80 :
+         case 84 :
+         case 121 :
+      return true;
+         default :
+      return false;
+      }
+         case 40 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         case 50 :
+      switch (getToken(2).kind) {
+         case 84 :
+         case 121 :
+      return true;
+         default :
+      return false;
+      }
+         case 59 :
+      switch (getToken(2).kind) {
+         case 84 :
+      return true;
+         default :
+      return false;
+      }
+         case 76 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         case IDENTIFIER :
+      switch (getToken(2).kind) {
+         case 76 :
+         case 80 :
+         case 84 :
+         case 87 :
+         case 121 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_53_Java_javacc_line_1142(int maxLookahead) {
+      if (jj_la_cached(4)) return jj_la_cacheResults[4];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(4, !phase3_53_Java_javacc_line_1142());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(4, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_55_Java_javacc_line_1163(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+      switch (getToken(2).kind) {
+         case 80 :
+      return true;
+         default :
+      return false;
+      }
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_57_Java_javacc_line_1173(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 80 :
+      switch (getToken(2).kind) {
+         case 81 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_59_Java_javacc_line_1180(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 87 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+         case 90 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_62_Java_javacc_line_1181(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 87 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+         case 90 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_63_Java_javacc_line_1181(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 84 :
+      switch (getToken(2).kind) {
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_64_Java_javacc_line_1216(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 87 :
+      switch (getToken(2).kind) {
+         case 86 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_68_Java_javacc_line_1268(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 80 :
+      switch (getToken(2).kind) {
+         case 81 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_70_Java_javacc_line_1294(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 84 :
+      switch (getToken(2).kind) {
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_73_Java_javacc_line_1391(int maxLookahead) {
+      if (jj_la_cached(5)) return jj_la_cacheResults[5];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(5, !phase3_73_Java_javacc_line_1391());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(5, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_75_Java_javacc_line_1405(int maxLookahead) {
+      if (jj_la_cached(6)) return jj_la_cacheResults[6];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(6, !phase3_75_Java_javacc_line_1405());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(6, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_77_Java_javacc_line_1411(int maxLookahead) {
+      if (jj_la_cached(7)) return jj_la_cacheResults[7];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(7, !phase3_77_Java_javacc_line_1411());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(7, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_79_Java_javacc_line_1417(int maxLookahead) {
+      if (jj_la_cached(8)) return jj_la_cacheResults[8];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(8, !phase3_79_Java_javacc_line_1417());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(8, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_81_Java_javacc_line_1423(int maxLookahead) {
+      if (jj_la_cached(9)) return jj_la_cacheResults[9];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(9, !phase3_81_Java_javacc_line_1423());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(9, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_83_Java_javacc_line_1429(int maxLookahead) {
+      if (jj_la_cached(10)) return jj_la_cacheResults[10];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(10, !phase3_83_Java_javacc_line_1429());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(10, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_85_Java_javacc_line_1435(int maxLookahead) {
+      if (jj_la_cached(11)) return jj_la_cacheResults[11];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(11, !phase3_85_Java_javacc_line_1435());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(11, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_90_Java_javacc_line_1472(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 86 :
+      switch (getToken(2).kind) {
+         case 86 :
+      return true;
+         default :
+      return false;
+      }
+         case 108 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_94_Java_javacc_line_1556(int maxLookahead) {
+      if (jj_la_cached(12)) return jj_la_cacheResults[12];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(12, !phase3_94_Java_javacc_line_1556());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(12, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_95_Java_javacc_line_1560(int maxLookahead) {
+      if (jj_la_cached(13)) return jj_la_cacheResults[13];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(13, !phase3_95_Java_javacc_line_1560());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(13, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_97_Java_javacc_line_1574(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 76 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+      switch (getToken(3).kind) {
+         case 77 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_98_Java_javacc_line_1577(int maxLookahead) {
+      if (jj_la_cached(14)) return jj_la_cacheResults[14];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(14, !phase3_98_Java_javacc_line_1577());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(14, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_101_Java_javacc_line_1592(int maxLookahead) {
+      if (jj_la_cached(15)) return jj_la_cacheResults[15];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(15, !phase3_101_Java_javacc_line_1592());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(15, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_102_Java_javacc_line_1597(int maxLookahead) {
+      if (jj_la_cached(16)) return jj_la_cacheResults[16];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(16, !phase3_102_Java_javacc_line_1597());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(16, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_103_Java_javacc_line_1601(int maxLookahead) {
+      if (jj_la_cached(17)) return jj_la_cacheResults[17];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(17, !phase3_103_Java_javacc_line_1601());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(17, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_105_Java_javacc_line_1609(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 76 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 77 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         case 80 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 81 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         case 84 :
+      switch (getToken(2).kind) {
+         case 40 :
+         case 50 :
+         case 53 :
+         case 87 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         case 121 :
+      switch (getToken(2).kind) {
+         case 40 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_106_Java_javacc_line_1629(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 50 :
+      switch (getToken(2).kind) {
+         case 84 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_107_Java_javacc_line_1636(int maxLookahead) {
+      if (jj_la_cached(18)) return jj_la_cacheResults[18];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(18, !phase3_107_Java_javacc_line_1636());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(18, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_108_Java_javacc_line_1639(int maxLookahead) {
+      if (jj_la_cached(19)) return jj_la_cacheResults[19];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(19, !phase3_108_Java_javacc_line_1639());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(19, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_109_Java_javacc_line_1642(int maxLookahead) {
+      if (jj_la_cached(20)) return jj_la_cacheResults[20];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(20, !phase3_109_Java_javacc_line_1642());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(20, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_111_Java_javacc_line_1659(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 84 :
+      switch (getToken(2).kind) {
+         case 50 :
+         case 53 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_112_Java_javacc_line_1662(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 84 :
+      switch (getToken(2).kind) {
+         case 40 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_113_Java_javacc_line_1665(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 84 :
+      switch (getToken(2).kind) {
+         case 87 :
+      switch (getToken(3).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+         case 90 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_118_Java_javacc_line_1748(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 40 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 47 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_120_Java_javacc_line_1767(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 80 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_122_Java_javacc_line_1767(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 80 :
+      switch (getToken(2).kind) {
+         case 81 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_124_Java_javacc_line_1766(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 80 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_125_Java_javacc_line_1780(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case IDENTIFIER :
+      switch (getToken(2).kind) {
+         case 91 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_126_Java_javacc_line_1811(int maxLookahead) {
+      if (jj_la_cached(21)) return jj_la_cacheResults[21];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(21, !phase3_126_Java_javacc_line_1811());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(21, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_127_Java_javacc_line_1814(int maxLookahead) {
+      if (jj_la_cached(22)) return jj_la_cacheResults[22];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(22, !phase3_127_Java_javacc_line_1814());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(22, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_130_Java_javacc_line_1858(int maxLookahead) {
+      if (jj_la_cached(23)) return jj_la_cacheResults[23];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(23, !phase3_130_Java_javacc_line_1858());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(23, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_131_Java_javacc_line_1861(int maxLookahead) {
+      if (jj_la_cached(24)) return jj_la_cacheResults[24];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(24, !phase3_131_Java_javacc_line_1861());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(24, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_132_Java_javacc_line_1863(int maxLookahead) {
+      if (jj_la_cached(25)) return jj_la_cacheResults[25];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(25, !phase3_132_Java_javacc_line_1863());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(25, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_141_Java_javacc_line_1954(int maxLookahead) {
+      if (jj_la_cached(26)) return jj_la_cacheResults[26];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(26, !phase3_141_Java_javacc_line_1954());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(26, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_142_Java_javacc_line_1966(int maxLookahead) {
+      if (jj_la_cached(27)) return jj_la_cacheResults[27];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(27, !phase3_142_Java_javacc_line_1966());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(27, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_149_Java_javacc_line_2049(int maxLookahead) {
+      if (jj_la_cached(28)) return jj_la_cacheResults[28];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(28, !phase3_149_Java_javacc_line_2049());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(28, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_152_Java_javacc_line_2057(int maxLookahead) {
+      if (jj_la_cached(29)) return jj_la_cacheResults[29];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(29, !phase3_152_Java_javacc_line_2057());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(29, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_157_Java_javacc_line_2114(int maxLookahead) {
+      if (jj_la_cached(30)) return jj_la_cacheResults[30];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(30, !phase3_157_Java_javacc_line_2114());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(30, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_158_Java_javacc_line_2117(int maxLookahead) {
+      if (jj_la_cached(31)) return jj_la_cacheResults[31];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(31, !phase3_158_Java_javacc_line_2117());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(31, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_162_Java_javacc_line_2171(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 83 :
+      switch (getToken(2).kind) {
+         case 11 :
+         case 13 :
+         case 16 :
+         case 22 :
+         case 26 :
+         case 29 :
+         case 36 :
+         case 38 :
+         case 40 :
+         case 41 :
+         case 47 :
+         case 50 :
+         case 53 :
+         case 57 :
+         case 59 :
+         case LONG_LITERAL :
+         case INTEGER_LITERAL :
+         case FLOATING_POINT_LITERAL :
+         case CHARACTER_LITERAL :
+         case STRING_LITERAL :
+         case 76 :
+         case 78 :
+         case 88 :
+         case 89 :
+         case 98 :
+         case 99 :
+         case 100 :
+         case 101 :
+         case 123 :
+         case IDENTIFIER :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_164_Java_javacc_line_2169(int maxLookahead) {
+      switch (nextTokenKind()) {
+         case 78 :
+      switch (getToken(2).kind) {
+         case 79 :
+      return true;
+         default :
+      return false;
+      }
+         default :
+      return false;
+      }
+   }
+   private boolean phase2_167_Java_javacc_line_2194(int maxLookahead) {
+      if (jj_la_cached(32)) return jj_la_cacheResults[32];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(32, !phase3_167_Java_javacc_line_2194());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(32, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_168_Java_javacc_line_2230(int maxLookahead) {
+      if (jj_la_cached(33)) return jj_la_cacheResults[33];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(33, !phase3_168_Java_javacc_line_2230());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(33, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+   private boolean phase2_169_Java_javacc_line_2233(int maxLookahead) {
+      if (jj_la_cached(34)) return jj_la_cacheResults[34];
+      jj_la = maxLookahead; 
+      jj_lastpos = jj_scanpos = current_token;
+      try { 
+            return jj_la_cache(34, !phase3_169_Java_javacc_line_2233());
+      }
+      catch(LookaheadSuccess ls) {
+          return jj_la_cache(34, true);
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
+      }
+  }
+
+//====================================
+ // Start of methods for Phase 3 Lookaheads
+ //====================================
+     private boolean phase3_1_Java_javacc_line_335() {
+      while (true) {
+   Token token85
+      = jj_scanpos
+   ;
+         if (      phase3R_174()
+) {
+             jj_scanpos = token85;
+             break;
+         }
+      }
+    if (jj_scan_token(42))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_30_Java_javacc_line_981() {
+   Token token86
+      = jj_scanpos
+   ;
+   if (      phase3R_175()
+) 
+      jj_scanpos = token86;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_31_Java_javacc_line_984() {
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+      while (true) {
+   Token token87
+      = jj_scanpos
+   ;
+         if (      phase3R_177()
+) {
+             jj_scanpos = token87;
+             break;
+         }
+      }
+   Token token88
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_178()
+) {
+	        jj_scanpos = token88;
+	  if (
+	           phase3R_179()
+) {
+	        jj_scanpos = token88;
+	  if (
+      phase3R_180()
+	     ) 
+  return true;
+    }
+    }
+  return false;
+    }
+     private boolean phase3_49_Java_javacc_line_1134() {
+      if (      phase3R_825()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_53_Java_javacc_line_1142() {
+    if (jj_scan_token(53))   return true;
+ 
+      if (      phase3R_897()
+)
+  return true;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_73_Java_javacc_line_1391() {
+      if (      phase3R_572()
+)
+  return true;
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_75_Java_javacc_line_1405() {
+    if (jj_scan_token(90))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_77_Java_javacc_line_1411() {
+    if (jj_scan_token(96))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_79_Java_javacc_line_1417() {
+    if (jj_scan_token(97))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_81_Java_javacc_line_1423() {
+    if (jj_scan_token(105))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_83_Java_javacc_line_1429() {
+    if (jj_scan_token(106))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_85_Java_javacc_line_1435() {
+    if (jj_scan_token(104))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_94_Java_javacc_line_1556() {
+      if (      phase3R_948()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_95_Java_javacc_line_1560() {
+      if (      phase3R_949()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_98_Java_javacc_line_1577() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(80))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_101_Java_javacc_line_1592() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_666()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_947()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_102_Java_javacc_line_1597() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_729()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_930()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_103_Java_javacc_line_1601() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+   if (      phase3R_193()
+)   return true;
+
+   while (true) {
+   Token token89
+      = jj_scanpos
+   ;
+       if (      phase3R_193()
+) {
+           jj_scanpos = token89;
+           break;
+       }
+   }
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_930()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_107_Java_javacc_line_1636() {
+      if (      phase3R_666()
+)
+  return true;
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(17))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_108_Java_javacc_line_1639() {
+      if (      phase3R_801()
+)
+  return true;
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(17))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_109_Java_javacc_line_1642() {
+      if (      phase3R_539()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_126_Java_javacc_line_1811() {
+    if (jj_scan_token(58))   return true;
+ 
+    if (jj_scan_token(78))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_127_Java_javacc_line_1814() {
+    if (jj_scan_token(58))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_130_Java_javacc_line_1858() {
+      if (      phase3R_890()
+)
+  return true;
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_131_Java_javacc_line_1861() {
+      if (      phase3R_568()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_132_Java_javacc_line_1863() {
+      if (      phase3R_890()
+)
+  return true;
+    if (jj_scan_token(17))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_141_Java_javacc_line_1954() {
+      if (      phase3R_890()
+)
+  return true;
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(91))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_142_Java_javacc_line_1966() {
+      if (      phase3R_890()
+)
+  return true;
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_149_Java_javacc_line_2049() {
+      if (      phase3R_656()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_152_Java_javacc_line_2057() {
+      if (      phase3R_656()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_157_Java_javacc_line_2114() {
+    if (jj_scan_token(123))   return true;
+ 
+      if (      phase3R_874()
+)
+  return true;
+    if (jj_scan_token(76))   return true;
+ 
+   Token token90
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_209()
+) {
+	        jj_scanpos = token90;
+	  if (
+      phase3R_210()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3_158_Java_javacc_line_2117() {
+    if (jj_scan_token(123))   return true;
+ 
+      if (      phase3R_874()
+)
+  return true;
+    if (jj_scan_token(76))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_167_Java_javacc_line_2194() {
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_168_Java_javacc_line_2230() {
+      if (      phase3R_384()
+)
+  return true;
+    if (jj_scan_token(120))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_169_Java_javacc_line_2233() {
+      if (      phase3R_385()
+)
+  return true;
+    if (jj_scan_token(120))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_174() {
+      if (      phase3R_816()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_175() {
+      if (      phase3R_828()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_914() {
+   Token token91
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_55_Java_javacc_line_1163()
+) {
+	        jj_scanpos = token91;
+	  if (
+      phase3R_217()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_177() {
+    if (jj_scan_token(80))   return true;
+ 
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_178() {
+    if (jj_scan_token(83))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_179() {
+    if (jj_scan_token(85))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_180() {
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_825() {
+   Token token92
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_218()
+) {
+	        jj_scanpos = token92;
+	  if (
+      phase3R_219()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_897() {
+    if (jj_scan_token(76))   return true;
+ 
+   Token token93
+      = jj_scanpos
+   ;
+   if (      phase3R_220()
+) 
+      jj_scanpos = token93;
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_572() {
+   Token token94
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_643()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_644()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_645()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_646()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_647()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_648()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_649()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_650()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_651()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_652()
+) {
+	        jj_scanpos = token94;
+	  if (
+	           phase3R_653()
+) {
+	        jj_scanpos = token94;
+	  if (
+      phase3R_654()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_730() {
+      if (      phase3R_451()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_948() {
+      if (      phase3R_234()
+)
+  return true;
+    if (jj_scan_token(120))   return true;
+ 
+      if (      phase3R_235()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_949() {
+   Token token95
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_236()
+) {
+	        jj_scanpos = token95;
+	  if (
+	           phase3R_237()
+) {
+	        jj_scanpos = token95;
+	  if (
+      phase3R_238()
+	     ) 
+  return true;
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_666() {
+   Token token96
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_258()
+) {
+	        jj_scanpos = token96;
+	  if (
+	           phase3R_259()
+) {
+	        jj_scanpos = token96;
+	  if (
+	           phase3R_260()
+) {
+	        jj_scanpos = token96;
+	  if (
+	           phase3R_261()
+) {
+	        jj_scanpos = token96;
+	  if (
+	           phase3R_262()
+) {
+	        jj_scanpos = token96;
+	  if (
+	           phase3R_263()
+) {
+	        jj_scanpos = token96;
+	  if (
+	           phase3R_264()
+) {
+	        jj_scanpos = token96;
+	  if (
+      phase3R_265()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_947() {
+   Token token97
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_905()
+) {
+	        jj_scanpos = token97;
+	  if (
+	           phase3R_906()
+) {
+	        jj_scanpos = token97;
+	  if (
+	           phase3R_907()
+) {
+	        jj_scanpos = token97;
+	  if (
+      phase3R_908()
+	     ) 
+  return true;
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_729() {
+   Token token98
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_378()
+) {
+	        jj_scanpos = token98;
+	  if (
+      phase3R_379()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_930() {
+   Token token99
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_938()
+) {
+	        jj_scanpos = token99;
+	  if (
+	           phase3R_939()
+) {
+	        jj_scanpos = token99;
+	  if (
+	           phase3R_940()
+) {
+	        jj_scanpos = token99;
+	  if (
+      phase3R_941()
+	     ) 
+  return true;
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_724() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+   Token token100
+      = jj_scanpos
+   ;
+   if (      phase3_59_Java_javacc_line_1180()
+) 
+      jj_scanpos = token100;
+      while (true) {
+   Token token101
+      = jj_scanpos
+   ;
+         if (      phase3_63_Java_javacc_line_1181()
+) {
+             jj_scanpos = token101;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_193() {
+    if (jj_scan_token(104))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_801() {
+   Token token102
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_266()
+) {
+	        jj_scanpos = token102;
+	  if (
+      phase3R_267()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_539() {
+   Token token103
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_268()
+) {
+	        jj_scanpos = token103;
+	  if (
+      phase3R_269()
+	     ) 
+  return true;
+    }
+    if (jj_scan_token(121))   return true;
+ 
+   Token token104
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_270()
+) {
+	        jj_scanpos = token104;
+	  if (
+      phase3R_271()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_890() {
+      while (true) {
+   Token token105
+      = jj_scanpos
+   ;
+         if (      phase3_7_Java_javacc_line_467()
+) {
+             jj_scanpos = token105;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_568() {
+   Token token106
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_125_Java_javacc_line_1780()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_272()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_273()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_274()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_275()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_276()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_277()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_278()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_279()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_280()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_281()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_282()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_283()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_284()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_285()
+) {
+	        jj_scanpos = token106;
+	  if (
+	           phase3R_286()
+) {
+	        jj_scanpos = token106;
+	  if (
+      phase3R_287()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_656() {
+      if (      phase3R_890()
+)
+  return true;
+      if (      phase3R_914()
+)
+  return true;
+      if (      phase3R_827()
+)
+  return true;
+      while (true) {
+   Token token107
+      = jj_scanpos
+   ;
+         if (      phase3R_291()
+) {
+             jj_scanpos = token107;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_874() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+      while (true) {
+   Token token108
+      = jj_scanpos
+   ;
+         if (      phase3_70_Java_javacc_line_1294()
+) {
+             jj_scanpos = token108;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_209() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(85))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_210() {
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_384() {
+   Token token109
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_292()
+) {
+	        jj_scanpos = token109;
+	  if (
+      phase3R_293()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_385() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_914()
+)
+  return true;
+      if (      phase3R_872()
+)
+  return true;
+      while (true) {
+   Token token110
+      = jj_scanpos
+   ;
+         if (      phase3R_296()
+) {
+             jj_scanpos = token110;
+             break;
+         }
+      }
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_816() {
+   Token token111
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_297()
+) {
+	        jj_scanpos = token111;
+	  if (
+	           phase3R_298()
+) {
+	        jj_scanpos = token111;
+	  if (
+      phase3R_299()
+	     ) 
+  return true;
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_828() {
+    if (jj_scan_token(87))   return true;
+ 
+      if (      phase3R_377()
+)
+  return true;
+      while (true) {
+   Token token112
+      = jj_scanpos
+   ;
+         if (      phase3R_301()
+) {
+             jj_scanpos = token112;
+             break;
+         }
+      }
+    if (jj_scan_token(86))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_55_Java_javacc_line_1163() {
+      if (      phase3R_729()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_217() {
+      if (      phase3R_666()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_218() {
+    if (jj_scan_token(53))   return true;
+ 
+      if (      phase3R_897()
+)
+  return true;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_219() {
+   Token token113
+      = jj_scanpos
+   ;
+   if (      phase3_52_Java_javacc_line_1145()
+) 
+      jj_scanpos = token113;
+    if (jj_scan_token(50))   return true;
+ 
+      if (      phase3R_897()
+)
+  return true;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_220() {
+      if (      phase3R_730()
+)
+  return true;
+      while (true) {
+   Token token114
+      = jj_scanpos
+   ;
+         if (      phase3R_307()
+) {
+             jj_scanpos = token114;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_643() {
+    if (jj_scan_token(85))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_644() {
+    if (jj_scan_token(111))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_645() {
+    if (jj_scan_token(112))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_646() {
+    if (jj_scan_token(116))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_647() {
+    if (jj_scan_token(109))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_648() {
+    if (jj_scan_token(110))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_649() {
+    if (jj_scan_token(117))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_650() {
+    if (jj_scan_token(118))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_651() {
+    if (jj_scan_token(119))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_652() {
+    if (jj_scan_token(113))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_653() {
+    if (jj_scan_token(115))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_654() {
+    if (jj_scan_token(114))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_451() {
+      if (      phase3R_531()
+)
+  return true;
+   Token token115
+      = jj_scanpos
+   ;
+   if (      phase3_73_Java_javacc_line_1391()
+) 
+      jj_scanpos = token115;
+  return false;
+    }
+     private boolean phase3R_234() {
+   Token token116
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_309()
+) {
+	        jj_scanpos = token116;
+	  if (
+      phase3R_310()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_235() {
+   Token token117
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_311()
+) {
+	        jj_scanpos = token117;
+	  if (
+      phase3R_312()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_236() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_666()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_947()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_237() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_729()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_930()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_238() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+   if (      phase3R_318()
+)   return true;
+
+   while (true) {
+   Token token118
+      = jj_scanpos
+   ;
+       if (      phase3R_318()
+) {
+           jj_scanpos = token118;
+           break;
+       }
+   }
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_930()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_258() {
+    if (jj_scan_token(11))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_259() {
+    if (jj_scan_token(16))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_260() {
+    if (jj_scan_token(13))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_261() {
+    if (jj_scan_token(47))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_262() {
+    if (jj_scan_token(36))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_263() {
+    if (jj_scan_token(38))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_264() {
+    if (jj_scan_token(29))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_265() {
+    if (jj_scan_token(22))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_905() {
+   Token token119
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_925()
+) {
+	        jj_scanpos = token119;
+	  if (
+      phase3R_926()
+	     ) 
+  return true;
+    }
+      if (      phase3R_947()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_906() {
+      if (      phase3R_928()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_907() {
+      if (      phase3R_929()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_908() {
+      if (      phase3R_930()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_378() {
+      if (      phase3R_441()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_379() {
+      if (      phase3R_724()
+)
+  return true;
+      while (true) {
+   Token token120
+      = jj_scanpos
+   ;
+         if (      phase3_57_Java_javacc_line_1173()
+) {
+             jj_scanpos = token120;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_938() {
+   Token token121
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_945()
+) {
+	        jj_scanpos = token121;
+	  if (
+      phase3R_946()
+	     ) 
+  return true;
+    }
+      if (      phase3R_947()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_939() {
+      if (      phase3R_948()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_940() {
+      if (      phase3R_949()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_941() {
+      if (      phase3R_950()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_59_Java_javacc_line_1180() {
+      if (      phase3R_732()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_63_Java_javacc_line_1181() {
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+   Token token122
+      = jj_scanpos
+   ;
+   if (      phase3_62_Java_javacc_line_1181()
+) 
+      jj_scanpos = token122;
+  return false;
+    }
+     private boolean phase3R_266() {
+    if (jj_scan_token(59))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_267() {
+      if (      phase3R_914()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_268() {
+      if (      phase3R_914()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_269() {
+    if (jj_scan_token(50))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_270() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_271() {
+    if (jj_scan_token(40))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_7_Java_javacc_line_467() {
+   Token token123
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_337()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_338()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_339()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_340()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_341()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_342()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_343()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_344()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_345()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_346()
+) {
+	        jj_scanpos = token123;
+	  if (
+	           phase3R_347()
+) {
+	        jj_scanpos = token123;
+	  if (
+      phase3R_348()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3_125_Java_javacc_line_1780() {
+      if (      phase3R_349()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_272() {
+      if (      phase3R_350()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_273() {
+      if (      phase3R_832()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_274() {
+      if (      phase3R_352()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_275() {
+      if (      phase3R_689()
+)
+  return true;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_276() {
+      if (      phase3R_354()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_277() {
+      if (      phase3R_355()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_278() {
+      if (      phase3R_356()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_279() {
+      if (      phase3R_357()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_280() {
+      if (      phase3R_358()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_281() {
+      if (      phase3R_359()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_282() {
+      if (      phase3R_360()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_283() {
+      if (      phase3R_361()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_284() {
+      if (      phase3R_362()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_285() {
+      if (      phase3R_363()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_286() {
+      if (      phase3R_364()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_287() {
+      if (      phase3R_365()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_827() {
+      if (      phase3R_872()
+)
+  return true;
+   Token token124
+      = jj_scanpos
+   ;
+   if (      phase3R_367()
+) 
+      jj_scanpos = token124;
+  return false;
+    }
+     private boolean phase3R_291() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_827()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_70_Java_javacc_line_1294() {
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_292() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_293() {
+    if (jj_scan_token(76))   return true;
+ 
+   Token token125
+      = jj_scanpos
+   ;
+   if (      phase3R_369()
+) 
+      jj_scanpos = token125;
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_872() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+      while (true) {
+   Token token126
+      = jj_scanpos
+   ;
+         if (      phase3R_432()
+) {
+             jj_scanpos = token126;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_296() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_914()
+)
+  return true;
+      if (      phase3R_872()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_297() {
+      if (      phase3R_373()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_298() {
+      if (      phase3R_374()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_299() {
+      if (      phase3R_375()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_377() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+   Token token127
+      = jj_scanpos
+   ;
+   if (      phase3R_376()
+) 
+      jj_scanpos = token127;
+  return false;
+    }
+     private boolean phase3R_301() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_377()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_52_Java_javacc_line_1145() {
+      if (      phase3R_953()
+)
+  return true;
+    if (jj_scan_token(84))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_307() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_531() {
+      if (      phase3R_563()
+)
+  return true;
+   Token token128
+      = jj_scanpos
+   ;
+   if (      phase3R_564()
+) 
+      jj_scanpos = token128;
+  return false;
+    }
+     private boolean phase3R_309() {
+      if (      phase3R_384()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_310() {
+      if (      phase3R_385()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_311() {
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_312() {
+      if (      phase3R_832()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_318() {
+    if (jj_scan_token(104))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_925() {
+    if (jj_scan_token(100))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_926() {
+    if (jj_scan_token(101))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_928() {
+    if (jj_scan_token(98))   return true;
+ 
+      if (      phase3R_953()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_929() {
+    if (jj_scan_token(99))   return true;
+ 
+      if (      phase3R_953()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_441() {
+      if (      phase3R_666()
+)
+  return true;
+   if (      phase3_68_Java_javacc_line_1268()
+)   return true;
+
+   while (true) {
+   Token token129
+      = jj_scanpos
+   ;
+       if (      phase3_68_Java_javacc_line_1268()
+) {
+           jj_scanpos = token129;
+           break;
+       }
+   }
+  return false;
+    }
+     private boolean phase3_57_Java_javacc_line_1173() {
+    if (jj_scan_token(80))   return true;
+ 
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_945() {
+    if (jj_scan_token(89))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_946() {
+    if (jj_scan_token(88))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_950() {
+      if (      phase3R_953()
+)
+  return true;
+   Token token130
+      = jj_scanpos
+   ;
+   if (      phase3R_954()
+) 
+      jj_scanpos = token130;
+  return false;
+    }
+     private boolean phase3R_732() {
+    if (jj_scan_token(87))   return true;
+ 
+      if (      phase3R_665()
+)
+  return true;
+      while (true) {
+   Token token131
+      = jj_scanpos
+   ;
+         if (      phase3R_594()
+) {
+             jj_scanpos = token131;
+             break;
+         }
+      }
+    if (jj_scan_token(86))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_62_Java_javacc_line_1181() {
+      if (      phase3R_732()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_337() {
+    if (jj_scan_token(45))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_338() {
+    if (jj_scan_token(48))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_339() {
+    if (jj_scan_token(44))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_340() {
+    if (jj_scan_token(43))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_341() {
+    if (jj_scan_token(27))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_342() {
+    if (jj_scan_token(9))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_343() {
+    if (jj_scan_token(52))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_344() {
+    if (jj_scan_token(39))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_345() {
+    if (jj_scan_token(56))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_346() {
+    if (jj_scan_token(60))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_347() {
+    if (jj_scan_token(49))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_348() {
+      if (      phase3R_816()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_349() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(91))   return true;
+ 
+      if (      phase3R_568()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_350() {
+    if (jj_scan_token(10))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+   Token token132
+      = jj_scanpos
+   ;
+   if (      phase3R_400()
+) 
+      jj_scanpos = token132;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_832() {
+    if (jj_scan_token(78))   return true;
+ 
+      while (true) {
+   Token token133
+      = jj_scanpos
+   ;
+         if (      phase3R_401()
+) {
+             jj_scanpos = token133;
+             break;
+         }
+      }
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_352() {
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_689() {
+   Token token134
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_402()
+) {
+	        jj_scanpos = token134;
+	  if (
+	           phase3R_403()
+) {
+	        jj_scanpos = token134;
+	  if (
+      phase3R_404()
+	     ) 
+  return true;
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_354() {
+    if (jj_scan_token(51))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+    if (jj_scan_token(78))   return true;
+ 
+      while (true) {
+   Token token135
+      = jj_scanpos
+   ;
+         if (      phase3R_406()
+) {
+             jj_scanpos = token135;
+             break;
+         }
+      }
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_355() {
+    if (jj_scan_token(32))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_568()
+)
+  return true;
+   Token token136
+      = jj_scanpos
+   ;
+   if (      phase3R_409()
+) 
+      jj_scanpos = token136;
+  return false;
+    }
+     private boolean phase3R_356() {
+    if (jj_scan_token(61))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_568()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_357() {
+    if (jj_scan_token(21))   return true;
+ 
+      if (      phase3R_568()
+)
+  return true;
+    if (jj_scan_token(61))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_358() {
+    if (jj_scan_token(30))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+   Token token137
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_414()
+) {
+	        jj_scanpos = token137;
+	  if (
+      phase3R_415()
+	     ) 
+  return true;
+    }
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_568()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_359() {
+    if (jj_scan_token(12))   return true;
+ 
+   Token token138
+      = jj_scanpos
+   ;
+   if (      phase3R_417()
+) 
+      jj_scanpos = token138;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_360() {
+    if (jj_scan_token(19))   return true;
+ 
+   Token token139
+      = jj_scanpos
+   ;
+   if (      phase3R_418()
+) 
+      jj_scanpos = token139;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_361() {
+    if (jj_scan_token(46))   return true;
+ 
+   Token token140
+      = jj_scanpos
+   ;
+   if (      phase3R_419()
+) 
+      jj_scanpos = token140;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_362() {
+    if (jj_scan_token(54))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_363() {
+    if (jj_scan_token(52))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_832()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_364() {
+    if (jj_scan_token(58))   return true;
+ 
+      if (      phase3R_832()
+)
+  return true;
+   Token token141
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_424()
+) {
+	        jj_scanpos = token141;
+	  if (
+      phase3R_425()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_365() {
+    if (jj_scan_token(58))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+   Token token142
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_426()
+) {
+	        jj_scanpos = token142;
+	  if (
+      phase3R_427()
+	     ) 
+  return true;
+    }
+      while (true) {
+   Token token143
+      = jj_scanpos
+   ;
+         if (      phase3R_428()
+) {
+             jj_scanpos = token143;
+             break;
+         }
+      }
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_832()
+)
+  return true;
+      while (true) {
+   Token token144
+      = jj_scanpos
+   ;
+         if (      phase3R_430()
+) {
+             jj_scanpos = token144;
+             break;
+         }
+      }
+   Token token145
+      = jj_scanpos
+   ;
+   if (      phase3R_431()
+) 
+      jj_scanpos = token145;
+  return false;
+    }
+     private boolean phase3R_367() {
+    if (jj_scan_token(85))   return true;
+ 
+      if (      phase3R_690()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_369() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+      while (true) {
+   Token token146
+      = jj_scanpos
+   ;
+         if (      phase3R_434()
+) {
+             jj_scanpos = token146;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_432() {
+    if (jj_scan_token(80))   return true;
+ 
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_373() {
+    if (jj_scan_token(123))   return true;
+ 
+      if (      phase3R_874()
+)
+  return true;
+    if (jj_scan_token(76))   return true;
+ 
+   Token token147
+      = jj_scanpos
+   ;
+   if (      phase3R_436()
+) 
+      jj_scanpos = token147;
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_374() {
+    if (jj_scan_token(123))   return true;
+ 
+      if (      phase3R_874()
+)
+  return true;
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_942()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_375() {
+    if (jj_scan_token(123))   return true;
+ 
+      if (      phase3R_874()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_376() {
+      if (      phase3R_440()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_953() {
+      if (      phase3R_443()
+)
+  return true;
+      while (true) {
+   Token token148
+      = jj_scanpos
+   ;
+         if (      phase3_105_Java_javacc_line_1609()
+) {
+             jj_scanpos = token148;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_563() {
+      if (      phase3R_680()
+)
+  return true;
+      while (true) {
+   Token token149
+      = jj_scanpos
+   ;
+         if (      phase3R_621()
+) {
+             jj_scanpos = token149;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3_68_Java_javacc_line_1268() {
+    if (jj_scan_token(80))   return true;
+ 
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_954() {
+   Token token150
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_955()
+) {
+	        jj_scanpos = token150;
+	  if (
+      phase3R_956()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_665() {
+   Token token151
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_663()
+) {
+	        jj_scanpos = token151;
+	  if (
+      phase3R_664()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_594() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_665()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_400() {
+    if (jj_scan_token(91))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_401() {
+      if (      phase3R_826()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_402() {
+      if (      phase3R_928()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_403() {
+      if (      phase3R_929()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_404() {
+      if (      phase3R_953()
+)
+  return true;
+   Token token152
+      = jj_scanpos
+   ;
+   if (      phase3R_457()
+) 
+      jj_scanpos = token152;
+  return false;
+    }
+     private boolean phase3R_406() {
+      if (      phase3R_458()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_409() {
+    if (jj_scan_token(23))   return true;
+ 
+      if (      phase3R_568()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_414() {
+      if (      phase3R_890()
+)
+  return true;
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(91))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_415() {
+   Token token153
+      = jj_scanpos
+   ;
+   if (      phase3R_463()
+) 
+      jj_scanpos = token153;
+    if (jj_scan_token(82))   return true;
+ 
+   Token token154
+      = jj_scanpos
+   ;
+   if (      phase3R_464()
+) 
+      jj_scanpos = token154;
+    if (jj_scan_token(82))   return true;
+ 
+   Token token155
+      = jj_scanpos
+   ;
+   if (      phase3R_465()
+) 
+      jj_scanpos = token155;
+  return false;
+    }
+     private boolean phase3R_417() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_418() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_419() {
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_424() {
+      if (      phase3R_517()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_425() {
+   if (      phase3R_468()
+)   return true;
+
+   while (true) {
+   Token token156
+      = jj_scanpos
+   ;
+       if (      phase3R_468()
+) {
+           jj_scanpos = token156;
+           break;
+       }
+   }
+   Token token157
+      = jj_scanpos
+   ;
+   if (      phase3R_469()
+) 
+      jj_scanpos = token157;
+  return false;
+    }
+     private boolean phase3R_426() {
+      if (      phase3R_656()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_427() {
+      if (      phase3R_874()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_428() {
+    if (jj_scan_token(82))   return true;
+ 
+   Token token158
+      = jj_scanpos
+   ;
+   if (      phase3R_472()
+) 
+      jj_scanpos = token158;
+  return false;
+    }
+     private boolean phase3R_430() {
+      if (      phase3R_516()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_431() {
+      if (      phase3R_517()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_690() {
+   Token token159
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_475()
+) {
+	        jj_scanpos = token159;
+	  if (
+      phase3R_476()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_434() {
+    if (jj_scan_token(83))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_436() {
+      if (      phase3R_477()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_942() {
+   Token token160
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_478()
+) {
+	        jj_scanpos = token160;
+	  if (
+	           phase3R_479()
+) {
+	        jj_scanpos = token160;
+	  if (
+      phase3R_480()
+	     ) 
+  return true;
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_440() {
+    if (jj_scan_token(25))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+      while (true) {
+   Token token161
+      = jj_scanpos
+   ;
+         if (      phase3R_482()
+) {
+             jj_scanpos = token161;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_443() {
+   Token token162
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_484()
+) {
+	        jj_scanpos = token162;
+	  if (
+	           phase3R_485()
+) {
+	        jj_scanpos = token162;
+	  if (
+	           phase3_106_Java_javacc_line_1629()
+) {
+	        jj_scanpos = token162;
+	  if (
+	           phase3R_486()
+) {
+	        jj_scanpos = token162;
+	  if (
+	           phase3R_487()
+) {
+	        jj_scanpos = token162;
+	  if (
+	           phase3R_488()
+) {
+	        jj_scanpos = token162;
+	  if (
+	           phase3R_489()
+) {
+	        jj_scanpos = token162;
+	  if (
+	           phase3R_490()
+) {
+	        jj_scanpos = token162;
+	  if (
+      phase3R_491()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3_105_Java_javacc_line_1609() {
+      if (      phase3R_492()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_680() {
+      if (      phase3R_705()
+)
+  return true;
+      while (true) {
+   Token token163
+      = jj_scanpos
+   ;
+         if (      phase3R_679()
+) {
+             jj_scanpos = token163;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_955() {
+    if (jj_scan_token(98))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_956() {
+    if (jj_scan_token(99))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_663() {
+      if (      phase3R_729()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_664() {
+    if (jj_scan_token(90))   return true;
+ 
+   Token token164
+      = jj_scanpos
+   ;
+   if (      phase3R_693()
+) 
+      jj_scanpos = token164;
+  return false;
+    }
+     private boolean phase3R_826() {
+   Token token165
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_501()
+) {
+	        jj_scanpos = token165;
+	  if (
+	           phase3R_502()
+) {
+	        jj_scanpos = token165;
+	  if (
+	           phase3R_503()
+) {
+	        jj_scanpos = token165;
+	  if (
+      phase3R_504()
+	     ) 
+  return true;
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_457() {
+   Token token166
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_507()
+) {
+	        jj_scanpos = token166;
+	  if (
+	           phase3R_508()
+) {
+	        jj_scanpos = token166;
+	  if (
+      phase3R_509()
+	     ) 
+  return true;
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_458() {
+      if (      phase3R_510()
+)
+  return true;
+      while (true) {
+   Token token167
+      = jj_scanpos
+   ;
+         if (      phase3R_511()
+) {
+             jj_scanpos = token167;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_463() {
+      if (      phase3R_512()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_464() {
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_465() {
+      if (      phase3R_514()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_517() {
+    if (jj_scan_token(28))   return true;
+ 
+      if (      phase3R_832()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_468() {
+      if (      phase3R_516()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_469() {
+      if (      phase3R_517()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_472() {
+   Token token168
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_518()
+) {
+	        jj_scanpos = token168;
+	  if (
+      phase3R_519()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_516() {
+    if (jj_scan_token(15))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+   Token token169
+      = jj_scanpos
+   ;
+   if (      phase3R_580()
+) 
+      jj_scanpos = token169;
+      if (      phase3R_724()
+)
+  return true;
+      while (true) {
+   Token token170
+      = jj_scanpos
+   ;
+         if (      phase3R_582()
+) {
+             jj_scanpos = token170;
+             break;
+         }
+      }
+      if (      phase3R_872()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+      if (      phase3R_832()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_475() {
+      if (      phase3R_713()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_476() {
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_477() {
+      if (      phase3R_591()
+)
+  return true;
+      while (true) {
+   Token token171
+      = jj_scanpos
+   ;
+         if (      phase3R_528()
+) {
+             jj_scanpos = token171;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_478() {
+      if (      phase3R_816()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_479() {
+      if (      phase3R_530()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_480() {
+      if (      phase3R_531()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_482() {
+    if (jj_scan_token(104))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_484() {
+      if (      phase3R_534()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_485() {
+    if (jj_scan_token(53))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_106_Java_javacc_line_1629() {
+    if (jj_scan_token(50))   return true;
+ 
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_486() {
+    if (jj_scan_token(76))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_487() {
+      if (      phase3R_607()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_488() {
+      if (      phase3R_666()
+)
+  return true;
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(17))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_489() {
+      if (      phase3R_801()
+)
+  return true;
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(17))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_490() {
+      if (      phase3R_539()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_491() {
+      if (      phase3R_874()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_492() {
+   Token token172
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_111_Java_javacc_line_1659()
+) {
+	        jj_scanpos = token172;
+	  if (
+	           phase3_112_Java_javacc_line_1662()
+) {
+	        jj_scanpos = token172;
+	  if (
+	           phase3_113_Java_javacc_line_1665()
+) {
+	        jj_scanpos = token172;
+	  if (
+	           phase3R_541()
+) {
+	        jj_scanpos = token172;
+	  if (
+	           phase3R_542()
+) {
+	        jj_scanpos = token172;
+	  if (
+	           phase3R_543()
+) {
+	        jj_scanpos = token172;
+	  if (
+      phase3R_544()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_564() {
+    if (jj_scan_token(90))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(91))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_705() {
+      if (      phase3R_722()
+)
+  return true;
+      while (true) {
+   Token token173
+      = jj_scanpos
+   ;
+         if (      phase3R_704()
+) {
+             jj_scanpos = token173;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_693() {
+      if (      phase3R_711()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_501() {
+      if (      phase3R_656()
+)
+  return true;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_502() {
+      if (      phase3R_568()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_503() {
+      if (      phase3R_890()
+)
+  return true;
+      if (      phase3R_916()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_504() {
+      if (      phase3R_917()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_507() {
+    if (jj_scan_token(98))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_508() {
+    if (jj_scan_token(99))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_509() {
+      if (      phase3R_572()
+)
+  return true;
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_510() {
+   Token token174
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_574()
+) {
+	        jj_scanpos = token174;
+	  if (
+      phase3R_575()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_511() {
+      if (      phase3R_826()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_512() {
+   Token token175
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_577()
+) {
+	        jj_scanpos = token175;
+	  if (
+      phase3R_578()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_514() {
+      if (      phase3R_657()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_518() {
+      if (      phase3R_656()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_519() {
+      if (      phase3R_874()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_580() {
+    if (jj_scan_token(27))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_582() {
+    if (jj_scan_token(105))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_713() {
+    if (jj_scan_token(78))   return true;
+ 
+   Token token176
+      = jj_scanpos
+   ;
+   if (      phase3R_588()
+) 
+      jj_scanpos = token176;
+   Token token177
+      = jj_scanpos
+   ;
+   if (      phase3R_589()
+) 
+      jj_scanpos = token177;
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_591() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(85))   return true;
+ 
+      if (      phase3R_942()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_528() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_591()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_530() {
+   Token token178
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_164_Java_javacc_line_2169()
+) {
+	        jj_scanpos = token178;
+	  if (
+      phase3R_592()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_534() {
+   Token token179
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_596()
+) {
+	        jj_scanpos = token179;
+	  if (
+	           phase3R_597()
+) {
+	        jj_scanpos = token179;
+	  if (
+	           phase3R_598()
+) {
+	        jj_scanpos = token179;
+	  if (
+	           phase3R_599()
+) {
+	        jj_scanpos = token179;
+	  if (
+	           phase3R_600()
+) {
+	        jj_scanpos = token179;
+	  if (
+	           phase3R_601()
+) {
+	        jj_scanpos = token179;
+	  if (
+	           phase3R_602()
+) {
+	        jj_scanpos = token179;
+	  if (
+      phase3R_603()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_607() {
+   Token token180
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_118_Java_javacc_line_1748()
+) {
+	        jj_scanpos = token180;
+	  if (
+      phase3R_604()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3_111_Java_javacc_line_1659() {
+    if (jj_scan_token(84))   return true;
+ 
+   Token token181
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_605()
+) {
+	        jj_scanpos = token181;
+	  if (
+      phase3R_606()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3_112_Java_javacc_line_1662() {
+    if (jj_scan_token(84))   return true;
+ 
+      if (      phase3R_607()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_113_Java_javacc_line_1665() {
+      if (      phase3R_608()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_541() {
+    if (jj_scan_token(80))   return true;
+ 
+   Token token182
+      = jj_scanpos
+   ;
+   if (      phase3R_609()
+) 
+      jj_scanpos = token182;
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_542() {
+    if (jj_scan_token(84))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_543() {
+    if (jj_scan_token(121))   return true;
+ 
+   Token token183
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_610()
+) {
+	        jj_scanpos = token183;
+	  if (
+      phase3R_611()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_544() {
+      if (      phase3R_897()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_621() {
+    if (jj_scan_token(96))   return true;
+ 
+      if (      phase3R_680()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_722() {
+      if (      phase3R_739()
+)
+  return true;
+      while (true) {
+   Token token184
+      = jj_scanpos
+   ;
+         if (      phase3R_721()
+) {
+             jj_scanpos = token184;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_711() {
+   Token token185
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_727()
+) {
+	        jj_scanpos = token185;
+	  if (
+      phase3R_728()
+	     ) 
+  return true;
+    }
+      if (      phase3R_729()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_916() {
+    if (jj_scan_token(17))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+   Token token186
+      = jj_scanpos
+   ;
+   if (      phase3R_636()
+) 
+      jj_scanpos = token186;
+   Token token187
+      = jj_scanpos
+   ;
+   if (      phase3R_637()
+) 
+      jj_scanpos = token187;
+   Token token188
+      = jj_scanpos
+   ;
+   if (      phase3R_638()
+) 
+      jj_scanpos = token188;
+      if (      phase3R_898()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_917() {
+    if (jj_scan_token(37))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+   Token token189
+      = jj_scanpos
+   ;
+   if (      phase3R_640()
+) 
+      jj_scanpos = token189;
+   Token token190
+      = jj_scanpos
+   ;
+   if (      phase3R_641()
+) 
+      jj_scanpos = token190;
+      if (      phase3R_898()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_574() {
+    if (jj_scan_token(14))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(91))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_575() {
+    if (jj_scan_token(20))   return true;
+ 
+    if (jj_scan_token(91))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_577() {
+      if (      phase3R_656()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_578() {
+      if (      phase3R_657()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_657() {
+      if (      phase3R_689()
+)
+  return true;
+      while (true) {
+   Token token191
+      = jj_scanpos
+   ;
+         if (      phase3R_688()
+) {
+             jj_scanpos = token191;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_588() {
+      if (      phase3R_690()
+)
+  return true;
+      while (true) {
+   Token token192
+      = jj_scanpos
+   ;
+         if (      phase3_38_Java_javacc_line_1035()
+) {
+             jj_scanpos = token192;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_589() {
+    if (jj_scan_token(83))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_164_Java_javacc_line_2169() {
+    if (jj_scan_token(78))   return true;
+ 
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_592() {
+    if (jj_scan_token(78))   return true;
+ 
+      if (      phase3R_942()
+)
+  return true;
+      while (true) {
+   Token token193
+      = jj_scanpos
+   ;
+         if (      phase3_162_Java_javacc_line_2171()
+) {
+             jj_scanpos = token193;
+             break;
+         }
+      }
+   Token token194
+      = jj_scanpos
+   ;
+   if (      phase3R_662()
+) 
+      jj_scanpos = token194;
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_596() {
+    if (jj_scan_token(INTEGER_LITERAL))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_597() {
+    if (jj_scan_token(LONG_LITERAL))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_598() {
+    if (jj_scan_token(FLOATING_POINT_LITERAL))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_599() {
+    if (jj_scan_token(CHARACTER_LITERAL))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_600() {
+    if (jj_scan_token(STRING_LITERAL))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_601() {
+    if (jj_scan_token(57))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_602() {
+    if (jj_scan_token(26))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_603() {
+    if (jj_scan_token(41))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_118_Java_javacc_line_1748() {
+    if (jj_scan_token(40))   return true;
+ 
+      if (      phase3R_666()
+)
+  return true;
+      if (      phase3R_696()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_604() {
+    if (jj_scan_token(40))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+   Token token195
+      = jj_scanpos
+   ;
+   if (      phase3R_669()
+) 
+      jj_scanpos = token195;
+   Token token196
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_670()
+) {
+	        jj_scanpos = token196;
+	  if (
+      phase3R_671()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_605() {
+    if (jj_scan_token(53))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_606() {
+    if (jj_scan_token(50))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_608() {
+    if (jj_scan_token(84))   return true;
+ 
+      if (      phase3R_732()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_609() {
+      if (      phase3R_730()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_610() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_611() {
+    if (jj_scan_token(40))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_679() {
+    if (jj_scan_token(97))   return true;
+ 
+      if (      phase3R_705()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_739() {
+      if (      phase3R_757()
+)
+  return true;
+      while (true) {
+   Token token197
+      = jj_scanpos
+   ;
+         if (      phase3R_738()
+) {
+             jj_scanpos = token197;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_727() {
+    if (jj_scan_token(25))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_728() {
+    if (jj_scan_token(50))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_636() {
+      if (      phase3R_828()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_637() {
+      if (      phase3R_686()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_638() {
+      if (      phase3R_818()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_898() {
+    if (jj_scan_token(78))   return true;
+ 
+      while (true) {
+   Token token198
+      = jj_scanpos
+   ;
+         if (      phase3R_684()
+) {
+             jj_scanpos = token198;
+             break;
+         }
+      }
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_640() {
+      if (      phase3R_828()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_641() {
+      if (      phase3R_686()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_688() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_689()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_38_Java_javacc_line_1035() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_690()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_162_Java_javacc_line_2171() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_942()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_662() {
+    if (jj_scan_token(83))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_696() {
+   Token token199
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_124_Java_javacc_line_1766()
+) {
+	        jj_scanpos = token199;
+	  if (
+      phase3R_694()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_669() {
+      if (      phase3R_695()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_670() {
+      if (      phase3R_696()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_671() {
+      if (      phase3R_897()
+)
+  return true;
+   Token token200
+      = jj_scanpos
+   ;
+   if (      phase3R_698()
+) 
+      jj_scanpos = token200;
+  return false;
+    }
+     private boolean phase3R_704() {
+    if (jj_scan_token(105))   return true;
+ 
+      if (      phase3R_722()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_757() {
+      if (      phase3R_775()
+)
+  return true;
+      while (true) {
+   Token token201
+      = jj_scanpos
+   ;
+         if (      phase3R_756()
+) {
+             jj_scanpos = token201;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_686() {
+    if (jj_scan_token(25))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+      while (true) {
+   Token token202
+      = jj_scanpos
+   ;
+         if (      phase3R_707()
+) {
+             jj_scanpos = token202;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_818() {
+    if (jj_scan_token(33))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+      while (true) {
+   Token token203
+      = jj_scanpos
+   ;
+         if (      phase3R_709()
+) {
+             jj_scanpos = token203;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_684() {
+      if (      phase3R_868()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3_124_Java_javacc_line_1766() {
+   if (      phase3_120_Java_javacc_line_1767()
+)   return true;
+
+   while (true) {
+   Token token204
+      = jj_scanpos
+   ;
+       if (      phase3_120_Java_javacc_line_1767()
+) {
+           jj_scanpos = token204;
+           break;
+       }
+   }
+      while (true) {
+   Token token205
+      = jj_scanpos
+   ;
+         if (      phase3_122_Java_javacc_line_1767()
+) {
+             jj_scanpos = token205;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_694() {
+   if (      phase3R_712()
+)   return true;
+
+   while (true) {
+   Token token206
+      = jj_scanpos
+   ;
+       if (      phase3R_712()
+) {
+           jj_scanpos = token206;
+           break;
+       }
+   }
+      if (      phase3R_713()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_695() {
+   Token token207
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_64_Java_javacc_line_1216()
+) {
+	        jj_scanpos = token207;
+	  if (
+      phase3R_714()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_698() {
+      if (      phase3R_898()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_721() {
+    if (jj_scan_token(106))   return true;
+ 
+      if (      phase3R_739()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_775() {
+      if (      phase3R_771()
+)
+  return true;
+   Token token208
+      = jj_scanpos
+   ;
+   if (      phase3R_772()
+) 
+      jj_scanpos = token208;
+  return false;
+    }
+     private boolean phase3R_707() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_709() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_724()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_868() {
+   Token token209
+      = jj_scanpos
+   ;
+	  if (
+	           phase3_32_Java_javacc_line_963()
+) {
+	        jj_scanpos = token209;
+	  if (
+	           phase3R_725()
+) {
+	        jj_scanpos = token209;
+	  if (
+      phase3R_726()
+	     ) 
+  return true;
+    }
+    }
+  return false;
+    }
+     private boolean phase3_120_Java_javacc_line_1767() {
+    if (jj_scan_token(80))   return true;
+ 
+      if (      phase3R_730()
+)
+  return true;
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_122_Java_javacc_line_1767() {
+    if (jj_scan_token(80))   return true;
+ 
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_712() {
+    if (jj_scan_token(80))   return true;
+ 
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_64_Java_javacc_line_1216() {
+      if (      phase3R_731()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_714() {
+      if (      phase3R_732()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_738() {
+    if (jj_scan_token(104))   return true;
+ 
+      if (      phase3R_757()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_771() {
+      if (      phase3R_843()
+)
+  return true;
+      while (true) {
+   Token token210
+      = jj_scanpos
+   ;
+         if (      phase3R_814()
+) {
+             jj_scanpos = token210;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3_32_Java_javacc_line_963() {
+      if (      phase3R_740()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_725() {
+      if (      phase3R_741()
+)
+  return true;
+   Token token211
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_742()
+) {
+	        jj_scanpos = token211;
+	  if (
+	           phase3R_743()
+) {
+	        jj_scanpos = token211;
+	  if (
+	           phase3R_744()
+) {
+	        jj_scanpos = token211;
+	  if (
+	           phase3R_745()
+) {
+	        jj_scanpos = token211;
+	  if (
+	           phase3R_746()
+) {
+	        jj_scanpos = token211;
+	  if (
+	           phase3R_747()
+) {
+	        jj_scanpos = token211;
+	  if (
+      phase3R_748()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_726() {
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_731() {
+    if (jj_scan_token(87))   return true;
+ 
+    if (jj_scan_token(86))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_756() {
+   Token token212
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_773()
+) {
+	        jj_scanpos = token212;
+	  if (
+      phase3R_774()
+	     ) 
+  return true;
+    }
+      if (      phase3R_775()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_843() {
+      if (      phase3R_861()
+)
+  return true;
+      while (true) {
+   Token token213
+      = jj_scanpos
+   ;
+         if (      phase3_90_Java_javacc_line_1472()
+) {
+             jj_scanpos = token213;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_740() {
+   Token token214
+      = jj_scanpos
+   ;
+   if (      phase3R_758()
+) 
+      jj_scanpos = token214;
+      if (      phase3R_832()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_741() {
+      while (true) {
+   Token token215
+      = jj_scanpos
+   ;
+         if (      phase3_9_Java_javacc_line_501()
+) {
+             jj_scanpos = token215;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_742() {
+      if (      phase3R_916()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_743() {
+      if (      phase3R_917()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_744() {
+      if (      phase3R_919()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_745() {
+      if (      phase3R_918()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_746() {
+      if (      phase3R_764()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_747() {
+      if (      phase3R_920()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_748() {
+      if (      phase3R_766()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_772() {
+    if (jj_scan_token(35))   return true;
+ 
+      if (      phase3R_914()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_773() {
+    if (jj_scan_token(92))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_774() {
+    if (jj_scan_token(95))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_861() {
+      if (      phase3R_888()
+)
+  return true;
+      while (true) {
+   Token token216
+      = jj_scanpos
+   ;
+         if (      phase3R_858()
+) {
+             jj_scanpos = token216;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_758() {
+    if (jj_scan_token(48))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_9_Java_javacc_line_501() {
+   Token token217
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_776()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_777()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_778()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_779()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_780()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_781()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_782()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_783()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_784()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_785()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_786()
+) {
+	        jj_scanpos = token217;
+	  if (
+	           phase3R_787()
+) {
+	        jj_scanpos = token217;
+	  if (
+      phase3R_788()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_919() {
+    if (jj_scan_token(123))   return true;
+ 
+    if (jj_scan_token(37))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+      if (      phase3R_789()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_918() {
+    if (jj_scan_token(24))   return true;
+ 
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+   Token token218
+      = jj_scanpos
+   ;
+   if (      phase3R_790()
+) 
+      jj_scanpos = token218;
+      if (      phase3R_791()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_764() {
+   Token token219
+      = jj_scanpos
+   ;
+   if (      phase3R_792()
+) 
+      jj_scanpos = token219;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+      if (      phase3R_829()
+)
+  return true;
+   Token token220
+      = jj_scanpos
+   ;
+   if (      phase3R_794()
+) 
+      jj_scanpos = token220;
+    if (jj_scan_token(78))   return true;
+ 
+   Token token221
+      = jj_scanpos
+   ;
+   if (      phase3R_795()
+) 
+      jj_scanpos = token221;
+      while (true) {
+   Token token222
+      = jj_scanpos
+   ;
+         if (      phase3R_796()
+) {
+             jj_scanpos = token222;
+             break;
+         }
+      }
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_920() {
+      if (      phase3R_914()
+)
+  return true;
+      if (      phase3R_827()
+)
+  return true;
+      while (true) {
+   Token token223
+      = jj_scanpos
+   ;
+         if (      phase3R_799()
+) {
+             jj_scanpos = token223;
+             break;
+         }
+      }
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_766() {
+   Token token224
+      = jj_scanpos
+   ;
+   if (      phase3R_800()
+) 
+      jj_scanpos = token224;
+      if (      phase3R_801()
+)
+  return true;
+      if (      phase3R_802()
+)
+  return true;
+   Token token225
+      = jj_scanpos
+   ;
+   if (      phase3R_803()
+) 
+      jj_scanpos = token225;
+   Token token226
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_804()
+) {
+	        jj_scanpos = token226;
+	  if (
+      phase3R_805()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_814() {
+   Token token227
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_839()
+) {
+	        jj_scanpos = token227;
+	  if (
+	           phase3R_840()
+) {
+	        jj_scanpos = token227;
+	  if (
+	           phase3R_841()
+) {
+	        jj_scanpos = token227;
+	  if (
+      phase3R_842()
+	     ) 
+  return true;
+    }
+    }
+    }
+      if (      phase3R_843()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_888() {
+      if (      phase3R_947()
+)
+  return true;
+      while (true) {
+   Token token228
+      = jj_scanpos
+   ;
+         if (      phase3R_885()
+) {
+             jj_scanpos = token228;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_776() {
+    if (jj_scan_token(45))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_777() {
+    if (jj_scan_token(48))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_778() {
+    if (jj_scan_token(44))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_779() {
+    if (jj_scan_token(43))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_780() {
+    if (jj_scan_token(27))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_781() {
+    if (jj_scan_token(9))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_782() {
+    if (jj_scan_token(52))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_783() {
+    if (jj_scan_token(39))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_784() {
+    if (jj_scan_token(56))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_785() {
+    if (jj_scan_token(60))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_786() {
+    if (jj_scan_token(49))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_787() {
+    if (jj_scan_token(20))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_788() {
+      if (      phase3R_816()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_789() {
+    if (jj_scan_token(78))   return true;
+ 
+      while (true) {
+   Token token229
+      = jj_scanpos
+   ;
+         if (      phase3R_817()
+) {
+             jj_scanpos = token229;
+             break;
+         }
+      }
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_790() {
+      if (      phase3R_818()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_791() {
+    if (jj_scan_token(78))   return true;
+ 
+   Token token230
+      = jj_scanpos
+   ;
+   if (      phase3R_819()
+) 
+      jj_scanpos = token230;
+   Token token231
+      = jj_scanpos
+   ;
+   if (      phase3R_820()
+) 
+      jj_scanpos = token231;
+   Token token232
+      = jj_scanpos
+   ;
+   if (      phase3R_821()
+) 
+      jj_scanpos = token232;
+    if (jj_scan_token(79))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_792() {
+      if (      phase3R_828()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_829() {
+    if (jj_scan_token(76))   return true;
+ 
+   Token token233
+      = jj_scanpos
+   ;
+   if (      phase3R_823()
+) 
+      jj_scanpos = token233;
+    if (jj_scan_token(77))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_794() {
+      if (      phase3R_831()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_795() {
+      if (      phase3R_825()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_796() {
+      if (      phase3R_826()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_799() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_827()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_800() {
+      if (      phase3R_828()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_802() {
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+      if (      phase3R_829()
+)
+  return true;
+      while (true) {
+   Token token234
+      = jj_scanpos
+   ;
+         if (      phase3R_830()
+) {
+             jj_scanpos = token234;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_803() {
+      if (      phase3R_831()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_804() {
+      if (      phase3R_832()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_805() {
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3_90_Java_javacc_line_1472() {
+   Token token235
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_859()
+) {
+	        jj_scanpos = token235;
+	  if (
+      phase3R_860()
+	     ) 
+  return true;
+    }
+      if (      phase3R_861()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_839() {
+    if (jj_scan_token(87))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_840() {
+    if (jj_scan_token(86))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_841() {
+    if (jj_scan_token(93))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_842() {
+    if (jj_scan_token(94))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_817() {
+      if (      phase3R_844()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_819() {
+      if (      phase3R_867()
+)
+  return true;
+      while (true) {
+   Token token236
+      = jj_scanpos
+   ;
+         if (      phase3_20_Java_javacc_line_836()
+) {
+             jj_scanpos = token236;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_820() {
+    if (jj_scan_token(83))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_821() {
+    if (jj_scan_token(82))   return true;
+ 
+      while (true) {
+   Token token237
+      = jj_scanpos
+   ;
+         if (      phase3R_846()
+) {
+             jj_scanpos = token237;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_823() {
+      if (      phase3R_873()
+)
+  return true;
+      while (true) {
+   Token token238
+      = jj_scanpos
+   ;
+         if (      phase3R_848()
+) {
+             jj_scanpos = token238;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_831() {
+    if (jj_scan_token(55))   return true;
+ 
+      if (      phase3R_874()
+)
+  return true;
+      while (true) {
+   Token token239
+      = jj_scanpos
+   ;
+         if (      phase3R_850()
+) {
+             jj_scanpos = token239;
+             break;
+         }
+      }
+  return false;
+    }
+     private boolean phase3R_830() {
+    if (jj_scan_token(80))   return true;
+ 
+    if (jj_scan_token(81))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_858() {
+   Token token240
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_886()
+) {
+	        jj_scanpos = token240;
+	  if (
+      phase3R_887()
+	     ) 
+  return true;
+    }
+      if (      phase3R_888()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_859() {
+    if (jj_scan_token(108))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_860() {
+      if (      phase3R_889()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_844() {
+   Token token241
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_862()
+) {
+	        jj_scanpos = token241;
+	  if (
+      phase3R_863()
+	     ) 
+  return true;
+    }
+  return false;
+    }
+     private boolean phase3R_867() {
+      if (      phase3R_890()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+   Token token242
+      = jj_scanpos
+   ;
+   if (      phase3R_865()
+) 
+      jj_scanpos = token242;
+   Token token243
+      = jj_scanpos
+   ;
+   if (      phase3R_866()
+) 
+      jj_scanpos = token243;
+  return false;
+    }
+     private boolean phase3_20_Java_javacc_line_836() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_867()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_846() {
+      if (      phase3R_868()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_873() {
+      if (      phase3R_890()
+)
+  return true;
+      if (      phase3R_914()
+)
+  return true;
+   Token token244
+      = jj_scanpos
+   ;
+   if (      phase3R_871()
+) 
+      jj_scanpos = token244;
+      if (      phase3R_872()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_848() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_873()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_850() {
+    if (jj_scan_token(83))   return true;
+ 
+      if (      phase3R_874()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_885() {
+   Token token245
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_909()
+) {
+	        jj_scanpos = token245;
+	  if (
+	           phase3R_910()
+) {
+	        jj_scanpos = token245;
+	  if (
+      phase3R_911()
+	     ) 
+  return true;
+    }
+    }
+      if (      phase3R_947()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_886() {
+    if (jj_scan_token(100))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_887() {
+    if (jj_scan_token(101))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_889() {
+    if (jj_scan_token(86))   return true;
+ 
+    if (jj_scan_token(86))   return true;
+ 
+   Token token246
+      = jj_scanpos
+   ;
+   if (      phase3R_913()
+) 
+      jj_scanpos = token246;
+  return false;
+    }
+     private boolean phase3R_862() {
+      if (      phase3R_890()
+)
+  return true;
+   Token token247
+      = jj_scanpos
+   ;
+	  if (
+	           phase3R_891()
+) {
+	        jj_scanpos = token247;
+	  if (
+	           phase3R_892()
+) {
+	        jj_scanpos = token247;
+	  if (
+	           phase3R_893()
+) {
+	        jj_scanpos = token247;
+	  if (
+	           phase3R_894()
+) {
+	        jj_scanpos = token247;
+	  if (
+	           phase3R_895()
+) {
+	        jj_scanpos = token247;
+	  if (
+      phase3R_896()
+	     ) 
+  return true;
+    }
+    }
+    }
+    }
+    }
+  return false;
+    }
+     private boolean phase3R_863() {
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_865() {
+      if (      phase3R_897()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_866() {
+      if (      phase3R_898()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_871() {
+    if (jj_scan_token(122))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_909() {
+    if (jj_scan_token(102))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_910() {
+    if (jj_scan_token(103))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_911() {
+    if (jj_scan_token(107))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_913() {
+    if (jj_scan_token(86))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_891() {
+      if (      phase3R_914()
+)
+  return true;
+    if (jj_scan_token(IDENTIFIER))   return true;
+ 
+    if (jj_scan_token(76))   return true;
+ 
+    if (jj_scan_token(77))   return true;
+ 
+   Token token248
+      = jj_scanpos
+   ;
+   if (      phase3R_915()
+) 
+      jj_scanpos = token248;
+    if (jj_scan_token(82))   return true;
+ 
+  return false;
+    }
+     private boolean phase3R_892() {
+      if (      phase3R_916()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_893() {
+      if (      phase3R_917()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_894() {
+      if (      phase3R_918()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_895() {
+      if (      phase3R_919()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_896() {
+      if (      phase3R_920()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_915() {
+      if (      phase3R_931()
+)
+  return true;
+  return false;
+    }
+     private boolean phase3R_931() {
+    if (jj_scan_token(20))   return true;
+ 
+      if (      phase3R_942()
+)
+  return true;
+  return false;
+    }
+  
+
+  Token current_token;
+  private Token jj_scanpos, jj_lastpos;
+  private int jj_la;
+  private boolean semanticLookahead; 
+
+
+
+  public JavaParser(java.io.InputStream stream) {
+      this(new InputStreamReader(stream));
+  }
+
+  public JavaParser(Reader reader) {
+    token_source = new JavaLexer(reader);
+    current_token = new Token();
+  }
+
+  /** Constructor with generated Token Manager. */
+  public JavaParser(JavaLexer lexer) {
+    token_source = lexer;
+    current_token = new Token();
+  }
+  
+ 
+      private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced = false;
+  
+        Token oldToken = current_token;
+        current_token = current_token.next;
+        if (current_token == null ) {
+           current_token = token_source.getNextToken();
+        }
+        if (current_token.kind != expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken) ;
+        }      
+      if (tokensAreNodes) {
+          if (buildTree) {
+              pushNode(current_token);
+          }
+      }
+      if (trace_enabled) traceConsumedToken();
+      return current_token;
+  }
+  
+  private void traceConsumedToken() {
+      LOGGER.info("Consumed token of type " + tokenImage[current_token.kind] + " from " + current_token.getLocation());
+  }
+  
+  private void handleUnexpectedTokenType( int expectedType,  boolean forced, Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+  //	    current_token = oldToken;
+  		    throw new ParseException(current_token);
+	   } 
+  }
+  
+  
+  private String generateErrorMessage(Token t) {
+      return "Encountered an error on (or somewhere around) line "
+                + t.getBeginLine() 
+                + ", column " + t.getBeginColumn() 
+                + " of " + t.getInputSource();
+   }
+   
+  
+  @SuppressWarnings("serial")
+  static private final class LookaheadSuccess extends java.lang.Error { }
+  final private LookaheadSuccess LOOKAHEAD_SUCCESS = new LookaheadSuccess();
+  private boolean jj_scan_token(int kind) {
+    if (jj_scanpos == jj_lastpos) {
+      jj_la--;
+      if (jj_scanpos.next == null) {
+        jj_lastpos = jj_scanpos = jj_scanpos.next = token_source.getNextToken();
+      } else {
+        jj_lastpos = jj_scanpos = jj_scanpos.next;
+      }
+    } else {
+      jj_scanpos = jj_scanpos.next;
+    }
+
+     if (jj_scanpos.kind != kind) return true;
+    if (jj_la == 0 && jj_scanpos == jj_lastpos) throw LOOKAHEAD_SUCCESS;
+    return false;
+  }
+
+  // Results of phase 2 routines at current_token. Moving current_token
+  // bumps the stamp, which makes all the earlier results stale.
+  private Token jj_la_cacheToken;
+  private long jj_la_cacheStamp;
+  private final long[] jj_la_cacheStamps = new long[35];
+  private final boolean[] jj_la_cacheResults = new boolean[35];
+
+  private boolean jj_la_cached(int index) {
+    if (jj_la_cacheToken != current_token) {
+      jj_la_cacheToken = current_token;
+      ++jj_la_cacheStamp;
+      return false;
+    }
+    return jj_la_cacheStamps[index] == jj_la_cacheStamp;
+  }
+
+  private boolean jj_la_cache(int index, boolean result) {
+    jj_la_cacheStamps[index] = jj_la_cacheStamp;
+    jj_la_cacheResults[index] = result;
+    return result;
+  }
+
+  final public Token getNextToken() {
+    if (current_token.next != null) current_token = current_token.next;
+    else current_token = current_token.next = token_source.getNextToken();
+    return current_token;
+  }
+
+/** Get the specific Token index ahead in the stream. */
+  final public Token getToken(int index) {
+    Token t = current_token;
+    for (int i = 0; i < index; i++) {
+      if (t.next != null) t = t.next;
+      else t = t.next = token_source.getNextToken();
+    }
+    return t;
+  }
+  
+  private int nextTokenKind() {
+    if (current_token.next == null) {
+        current_token.next = token_source.getNextToken();
+    }
+    return current_token.next.kind;
+  }
+  
+  private List<Token> getTokensToEOL(int ...desiredTokenTypes) {
+     ArrayList<Token> result = new ArrayList<>();
+     int currentLine = current_token.getBeginLine();
+     Token tok = current_token;
+     do  {
+        Token prevToken = tok;
+        if (tok.next != null) {
+            tok = tok.next;
+        } else {
+        	tok = token_source.getNextToken();
+        	prevToken.next = tok;
+        }
+        result.add(tok);
+     } while (tok.getBeginLine() == currentLine && !intArrayContains(desiredTokenTypes, tok.kind) && tok.kind != EOF);
+     return result;
+  }
+     static private boolean intArrayContains(int[] array, int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i] == elem) {
+                return true;
+            }
+        }
+        return false;
+    } 
+  
+  private boolean trace_enabled = false;
+ 
+  public void setTracingEnabled(boolean tracingEnabled) {trace_enabled = tracingEnabled;}
+  
+ /**
+ * @deprecated Use #setTracingEnabled
+ */
+   @Deprecated
+  public void enable_tracing() {
+    setTracingEnabled(true);
+  }
+
+/**
+ * @deprecated Use #setTracingEnabled
+ */
+@Deprecated
+ public void disable_tracing() {
+    setTracingEnabled(false);
+  }
+  
+ 
+}
+
+
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AdditiveExpression.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class AdditiveExpression extends Expression {
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AllocationExpression.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+
+@SuppressWarnings("unused")
+public class AllocationExpression extends BaseNode {
+
+}
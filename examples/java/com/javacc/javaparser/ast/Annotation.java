@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Annotation.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+
+@SuppressWarnings("unused")
+public class Annotation extends BaseNode {
+
+}
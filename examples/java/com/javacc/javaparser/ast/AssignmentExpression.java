@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AssignmentExpression.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class AssignmentExpression extends Expression {
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CastExpression.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class CastExpression extends Expression {
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CatchBlock.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class CatchBlock extends BaseNode {
+    public CodeBlock getBlock() {
+        return firstChildOfType(CodeBlock.class);
+    }
+
+}
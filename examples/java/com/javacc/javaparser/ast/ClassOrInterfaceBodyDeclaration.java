@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ClassOrInterfaceBodyDeclaration.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class ClassOrInterfaceBodyDeclaration extends BaseNode {
+    public boolean isMethod() {
+        return firstChildOfType(MethodDeclaration.class)!=null;
+    }
+
+    public String getFullNameSignatureIfMethod() {
+        MethodDeclaration md=firstChildOfType(MethodDeclaration.class);
+        return md==null?null:
+        md.getFullSignature();
+    }
+
+}
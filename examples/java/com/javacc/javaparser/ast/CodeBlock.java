@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CodeBlock.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class CodeBlock extends BaseNode {
+    public String getAsString() {
+        return getInnerText();
+    }
+
+    /**
+     * The block is empty if it only consists of { and }
+     */
+    public boolean isEmpty() {
+        return Nodes.getRealTokens(this).size()==2;
+    }
+
+}
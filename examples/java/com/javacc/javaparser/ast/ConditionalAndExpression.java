@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ConditionalAndExpression.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class ConditionalAndExpression extends Expression {
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Identifier.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+
+@SuppressWarnings("unused")
+public class Identifier extends Token {
+    public Identifier(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,38 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ImportDeclaration.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class ImportDeclaration extends BaseNode {
+    public String getAsString() {
+        return super.getAsString().trim();
+    }
+
+    public boolean isStaticImport() {
+        for (Node n : children) {
+            if ((n instanceof KeyWord)&&n.toString().equals("static")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getName() {
+        StringBuilder buf=new StringBuilder();
+        for (Token tok : descendantsOfType(Token.class)) {
+            if (tok.getId()!=IMPORT&&tok.getId()!=SEMICOLON) {
+                buf.append(tok);
+            }
+        }
+        return buf.toString();
+    }
+
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ImportDeclaration)) {
+            return false;
+        }
+        ImportDeclaration other=(ImportDeclaration) obj;
+        return other.isStaticImport()==this.isStaticImport()&&other.getName().equals(this.getName());
+    }
+
+}
@@ -0,0 +1,26 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. InvocationArgs.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+import java.util.*;
+@SuppressWarnings("unused")
+public class InvocationArgs extends BaseNode {
+    public List<Expression>getArgs() {
+        return childrenOfType(Expression.class);
+    }
+
+    public String getAsString() {
+        StringBuilder buf=new StringBuilder();
+        List<Expression>args=getArgs();
+        boolean first=true;
+        for (Expression arg : args) {
+            if (!first) {
+                buf.append(", ");
+            }
+            buf.append(arg.getAsString());
+            first=false;
+        }
+        return buf.toString();
+    }
+
+}
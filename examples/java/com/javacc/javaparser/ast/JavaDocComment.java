@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JavaDocComment.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class JavaDocComment extends Comment {
+    public JavaDocComment(int kind,String image) {
+        super(kind,image);
+    }
+
+}
@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ObjectType.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class ObjectType extends BaseNode {
+    public boolean equals(Object obj) {
+        if (obj instanceof ObjectType) {
+            return((ObjectType) obj).toString().equals(this.toString());
+        }
+        return false;
+    }
+
+    public String toString() {
+        StringBuilder buf=new StringBuilder();
+        for (Token t : Nodes.getRealTokens(this)) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+}
@@ -0,0 +1,21 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. PackageDeclaration.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+@SuppressWarnings("unused")
+public class PackageDeclaration extends BaseNode {
+    public String getPackageName() {
+        StringBuilder buf=new StringBuilder();
+        boolean seenPackage=false;
+        for (Token t : Nodes.getRealTokens(this)) {
+            if (t.getId()==PACKAGE) {
+                seenPackage=true;
+            }
+            else if (seenPackage) {
+                if (t.getId()!=SEMICOLON) buf.append(t);
+            }
+        }
+        return buf.toString();
+    }
+
+}
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ThrowsList.java */
+package com.javacc.javaparser.ast;
+
+import com.javacc.javaparser.*;
+import java.util.List;
+import java.util.ArrayList;
+@SuppressWarnings("unused")
+public class ThrowsList extends BaseNode {
+    public List<Node>getTypes() {
+        List<Node>result=new ArrayList<Node>();
+        for (Node n : children) {
+            if ((n instanceof Name)||(n instanceof Identifier)) {
+                result.add(n);
+            }
+        }
+        return result;
+    }
+
+}
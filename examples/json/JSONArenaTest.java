@@ -0,0 +1,124 @@
+import java.io.*;
+import java.util.*;
+import com.javacc.jsonarena.*;
+
+public class JSONArenaTest {
+    // The types that we check the type-based queries with
+    static final List<Class<? extends Node>> QUERY_TYPES = Arrays.asList(
+        Value.class, Array.class, JSONObject.class, Token.class, Literal.class, StringLiteral.class, Delimiter.class);
+
+    static public void parseFile(File file) throws IOException, ParseException {
+        FileReader fr = new FileReader(file);
+        JSONArenaParser parser = new JSONArenaParser(fr);
+        parser.setInputSource(file.toString());
+        parser.Value();
+        check(file.toString(), parser.rootNode());
+    }
+
+    // A big array, so that walking the children by index 
+    // takes forever if getChild is not constant time.
+    static public void parseBigArray(int size) throws ParseException {
+        StringBuilder buf = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) buf.append(',');
+            buf.append(i);
+        }
+        buf.append(']');
+        JSONArenaParser parser = new JSONArenaParser(new StringReader(buf.toString()));
+        parser.Value();
+        check("an array of " + size + " elements", parser.rootNode());
+    }
+
+    static void check(String name, Node root) {
+        ArenaTree tree = ArenaTree.build(root);
+        int count = compare(root, tree.getRoot());
+        if (count != tree.size()) {
+            throw new IllegalStateException("The arena has " + tree.size() + " nodes, but the tree has " + count);
+        }
+        for (Class<? extends Node> clazz : QUERY_TYPES) {
+            sameNodes("descendants of type " + clazz.getSimpleName(), root.descendantsOfType(clazz), tree.getRoot().descendantsOfType(clazz));
+        }
+        List<Token> tokens = Nodes.getTokens(root), arenaTokens = Nodes.getTokens(tree.getRoot());
+        if (tokens.size() != arenaTokens.size()) {
+            throw new IllegalStateException("Expecting " + tokens.size() + " tokens, but got " + arenaTokens.size());
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i), arenaToken = arenaTokens.get(i);
+            if (token.getClass() != arenaToken.getClass() || token.getId() != arenaToken.getId()
+                    || !token.getRawText().equals(arenaToken.getRawText()) || !sameLocation(token, arenaToken)) {
+                throw new IllegalStateException("Expecting token " + token + ", but got " + arenaToken);
+            }
+        }
+        System.out.println("Arena for " + name + " matches the tree, " + count + " nodes");
+    }
+
+    // Walks the tree and the arena side by side, getting the children
+    // by index, and returns the number of nodes.
+    static int compare(Node node, ArenaTree.ArenaNode arenaNode) {
+        if (node.getClass() != arenaNode.getType()) {
+            throw new IllegalStateException("Expecting " + node.getClass() + ", but got " + arenaNode.getType());
+        }
+        if (node instanceof Token && !((Token) node).getRawText().equals(arenaNode.getImage())) {
+            throw new IllegalStateException("Expecting " + ((Token) node).getRawText() + ", but got " + arenaNode.getImage());
+        }
+        if (node.getChildCount() != arenaNode.getChildCount()) {
+            throw new IllegalStateException("Expecting " + node.getChildCount() + " children in " + node.getClass() + ", but got " + arenaNode.getChildCount());
+        }
+        for (Class<? extends Node> clazz : QUERY_TYPES) {
+            sameNodes("children of type " + clazz.getSimpleName(), node.childrenOfType(clazz), arenaNode.childrenOfType(clazz));
+            sameNode("first child of type " + clazz.getSimpleName(), node.firstChildOfType(clazz), arenaNode.firstChildOfType(clazz));
+            sameNode("first ancestor of type " + clazz.getSimpleName(), node.firstAncestorOfType(clazz), arenaNode.firstAncestorOfType(clazz));
+        }
+        int count = 1;
+        for (int i = 0; i < node.getChildCount(); i++) {
+            ArenaTree.ArenaNode child = (ArenaTree.ArenaNode) arenaNode.getChild(i);
+            if (!child.getParent().equals(arenaNode) || arenaNode.indexOf(child) != i) {
+                throw new IllegalStateException("Child " + i + " of " + node.getClass() + " is out of place");
+            }
+            count += compare(node.getChild(i), child);
+        }
+        return count;
+    }
+
+    static void sameNodes(String query, List<? extends Node> nodes, List<? extends Node> arenaNodes) {
+        if (nodes.size() != arenaNodes.size()) {
+            throw new IllegalStateException("Expecting " + nodes.size() + " " + query + ", but got " + arenaNodes.size());
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            sameNode(query, nodes.get(i), arenaNodes.get(i));
+        }
+    }
+
+    // Whether the arena node stands in for the node, going by the type and location
+    static void sameNode(String query, Node node, Node arenaNode) {
+        if (node == null && arenaNode == null) {
+            return;
+        }
+        if (node == null || !(arenaNode instanceof ArenaTree.ArenaNode) 
+                || ((ArenaTree.ArenaNode) arenaNode).getType() != node.getClass() || !sameLocation(node, arenaNode)) {
+            throw new IllegalStateException("Expecting " + node + " as the " + query + ", but got " + arenaNode);
+        }
+    }
+
+    static boolean sameLocation(Node node, Node other) {
+        return node.getBeginLine() == other.getBeginLine() && node.getBeginColumn() == other.getBeginColumn()
+            && node.getEndLine() == other.getEndLine() && node.getEndColumn() == other.getEndColumn();
+    }
+ 
+    static public void main(String[] args) throws Exception {
+      if (args.length == 0) {
+        usage();
+      }
+      else {
+        for (String arg :args) {
+          parseFile(new File(arg));
+        }
+        parseBigArray(40000);
+      }
+    }
+
+    static public void usage() {
+      System.out.println("Little test harness for the ArenaTree of the JSON Parser");
+      System.out.println("java JSONArenaTest <filename>");
+    }
+}
@@ -0,0 +1,127 @@
+import java.io.*;
+import java.util.*;
+import com.javacc.jsonevents.*;
+
+public class JSONEventsTest {
+
+    // Writes the events down as strings, and checks that they are properly nested.
+    static class Recorder implements JSONEventsParser.EventHandler {
+        List<String> events = new ArrayList<>();
+        Deque<Class<? extends Node>> openNodes = new ArrayDeque<>();
+        int abortedNodes;
+
+        public void startNode(Class<? extends Node> type, Token first) {
+            events.add("start " + type.getSimpleName() + " at " + first.getBeginLine() + ":" + first.getBeginColumn());
+            openNodes.push(type);
+        }
+
+        public void endNode(Class<? extends Node> type, Token last) {
+            if (openNodes.isEmpty() || openNodes.pop() != type) {
+                throw new IllegalStateException("End of " + type.getSimpleName() + " does not match a start");
+            }
+            events.add("end " + type.getSimpleName() + " at " + last.getEndLine() + ":" + last.getEndColumn());
+        }
+
+        public void abortNode(Class<? extends Node> type, Token last, ParseException e) {
+            abortedNodes++;
+            endNode(type, last);
+        }
+
+        public void token(Token token) {
+            events.add("token " + token.getClass().getSimpleName() + " " + token.getRawText());
+        }
+    }
+
+    // The events that the parser should give for the tree
+    static void treeEvents(Node node, List<String> events) {
+        if (node instanceof Token) {
+            events.add("token " + node.getClass().getSimpleName() + " " + ((Token) node).getRawText());
+            return;
+        }
+        events.add("start " + node.getClass().getSimpleName() + " at " + node.getBeginLine() + ":" + node.getBeginColumn());
+        for (Node child : node.children()) {
+            treeEvents(child, events);
+        }
+        events.add("end " + node.getClass().getSimpleName() + " at " + node.getEndLine() + ":" + node.getEndColumn());
+    }
+
+    static JSONEventsParser newParser(File file) throws IOException {
+        JSONEventsParser parser = new JSONEventsParser(new FileReader(file));
+        parser.setInputSource(file.toString());
+        return parser;
+    }
+
+    static void testValid(File file) throws IOException, ParseException {
+        JSONEventsParser parser = newParser(file);
+        parser.Value();
+        Node root = parser.rootNode();
+        List<String> expected = new ArrayList<>();
+        treeEvents(root, expected);
+        Recorder recorder = new Recorder();
+        parser = newParser(file);
+        parser.setEventHandler(recorder);
+        parser.Value();
+        if (!recorder.events.equals(expected)) {
+            throw new IllegalStateException("The events for " + file + " do not match the tree:\n" + recorder.events + "\n" + expected);
+        }
+        ArenaTree.Builder builder = new ArenaTree.Builder();
+        parser = newParser(file);
+        parser.setEventHandler(builder);
+        parser.Value();
+        ArenaTree tree = builder.build();
+        int nodeCount = 1;
+        for (Iterator<Node> it = root.descendantIterator(); it.hasNext(); it.next()) {
+            nodeCount++;
+        }
+        if (tree.size() != nodeCount) {
+            throw new IllegalStateException("The arena built from the events for " + file + " has " + tree.size() + " nodes");
+        }
+        System.out.println("Events for " + file + " match the tree, " + expected.size() + " events");
+    }
+
+    // When the parse fails, every node that was started is still ended,
+    // so that, for example, an ArenaTree.Builder can still be used.
+    static void testInvalid(File file) throws IOException {
+        Recorder recorder = new Recorder();
+        JSONEventsParser parser = newParser(file);
+        parser.setEventHandler(recorder);
+        try {
+            parser.Value();
+            throw new IllegalStateException("Expecting a ParseException for " + file);
+        } catch (ParseException e) {
+        }
+        if (!recorder.openNodes.isEmpty() || recorder.abortedNodes == 0) {
+            throw new IllegalStateException("After the error in " + file + ", " + recorder.openNodes.size() 
+                                            + " nodes are still open and " + recorder.abortedNodes + " were aborted");
+        }
+        ArenaTree.Builder builder = new ArenaTree.Builder();
+        parser = newParser(file);
+        parser.setEventHandler(builder);
+        try {
+            parser.Value();
+        } catch (ParseException e) {
+        }
+        builder.build();
+        System.out.println("Events for " + file + " are properly nested, " + recorder.abortedNodes + " nodes aborted");
+    }
+ 
+    static public void main(String[] args) throws Exception {
+      if (args.length == 0) {
+        usage();
+      }
+      else {
+        for (String arg : args) {
+          if (arg.startsWith("-invalid=")) {
+            testInvalid(new File(arg.substring("-invalid=".length())));
+          } else {
+            testValid(new File(arg));
+          }
+        }
+      }
+    }
+
+    static public void usage() {
+      System.out.println("Little test harness for the event parsing of the JSON Parser");
+      System.out.println("java JSONEventsTest <filename> ... -invalid=<filename> ...");
+    }
+}
@@ -0,0 +1,108 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JSONConstants.java */
+package com.javacc.json;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface JSONConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int WHITESPACE = 1;
+  int COLON = 2;
+  int COMMA = 3;
+  int OPEN_BRACKET = 4;
+  int CLOSE_BRACKET = 5;
+  int OPEN_BRACE = 6;
+  int CLOSE_BRACE = 7;
+  int TRUE = 8;
+  int FALSE = 9;
+  int NULL = 10;
+  int ESCAPE1 = 11;
+  int ESCAPE2 = 12;
+  int REGULAR_CHAR = 13;
+  int STRING_LITERAL = 14;
+  int ZERO = 15;
+  int NON_ZERO = 16;
+  int FRACTION = 17;
+  int EXPONENT = 18;
+  int NUMBER = 19;
+  
+  /**
+   * Lexical States
+   */
+  int JSON = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "<WHITESPACE>"
+,
+      "\":\""   
+,
+      "\",\""   
+,
+      "\"[\""   
+,
+      "\"]\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\"true\""   
+,
+      "\"false\""   
+,
+      "\"null\""   
+,
+      "<ESCAPE1>"
+,
+      "<ESCAPE2>"
+,
+      "<REGULAR_CHAR>"
+,
+      "<STRING_LITERAL>"
+,
+      "\"0\""   
+,
+      "<NON_ZERO>"
+,
+      "<FRACTION>"
+,
+      "<EXPONENT>"
+,
+      "<NUMBER>"
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "WHITESPACE",
+          "COLON",
+          "COMMA",
+          "OPEN_BRACKET",
+          "CLOSE_BRACKET",
+          "OPEN_BRACE",
+          "CLOSE_BRACE",
+          "TRUE",
+          "FALSE",
+          "NULL",
+          "ESCAPE1",
+          "ESCAPE2",
+          "REGULAR_CHAR",
+          "STRING_LITERAL",
+          "ZERO",
+          "NON_ZERO",
+          "FRACTION",
+          "EXPONENT",
+          "NUMBER",
+              "Array", 
+              "Value", 
+              "JSONObject", 
+   };
+}
+
+
+
+
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JSONObject.java */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+
+@SuppressWarnings("unused")
+public class JSONObject extends BaseNode {
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Literal.java */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+
+@SuppressWarnings("unused")
+public class Literal extends Token {
+    public Literal(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NullLiteral.java */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+
+@SuppressWarnings("unused")
+public class NullLiteral extends Literal {
+    public NullLiteral(int kind, String image) {
+        super(kind, image);
+    }
+}
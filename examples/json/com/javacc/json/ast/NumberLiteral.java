@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NumberLiteral.java */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+
+@SuppressWarnings("unused")
+public class NumberLiteral extends Literal {
+    public NumberLiteral(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. StringLiteral.java */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+
+@SuppressWarnings("unused")
+public class StringLiteral extends Literal {
+    public StringLiteral(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. WHITESPACE.java */
+package com.javacc.json.ast;
+
+import com.javacc.json.*;
+
+@SuppressWarnings("unused")
+public class WHITESPACE extends Token {
+    public WHITESPACE(int kind, String image) {
+        super(kind, image);
+    }
+}
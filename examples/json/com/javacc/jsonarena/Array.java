@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Array.java */
+package com.javacc.jsonarena;
+
+
+@SuppressWarnings("unused")
+public class Array extends BaseNode {
+
+}
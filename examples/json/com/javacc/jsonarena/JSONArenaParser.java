@@ -0,0 +1,668 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONArenaParser.java */
+
+
+package com.javacc.jsonarena;
+
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+
+@SuppressWarnings("unused")
+public class JSONArenaParser implements JSONArenaConstants {
+
+    static final java.util.logging.Logger LOGGER = Logger.getLogger("JSONArenaParser");
+    
+
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing = false;
+    public boolean isParserTolerant() {return tolerantParsing;}
+    
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        } 
+    }
+
+  /** Generated Lexer. */
+  public JSONArenaLexer token_source;
+  
+  public void setInputSource(String inputSource) {
+      token_source.setInputSource(inputSource);
+  }
+  
+
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean specialTokensAreNodes = false;
+
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes = specialTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor = currentNodeScope.floor;
+        currentNodeScope.floor = currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark = currentNodeScope.floor;
+        currentNodeScope.floor = Math.min(previousFloor, mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n, int mark) {
+        List<Node> children = currentNodeScope.subList(mark, currentNodeScope.size());
+        List<Node> nodes = new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n, true);
+    }
+    
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: " + n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "  +  currentNodeScope.nestingLevel());
+    }
+
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + num + " nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i=0;i<num;i++) {
+           nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+        	if (specialTokensAreNodes && (child instanceof Token)) {
+        	    Token token = (Token) child;
+        	    Token specialToken = token;
+        	    while (specialToken != null) {
+        	        specialToken = specialToken.specialToken;
+        	    }
+        	    while (specialToken !=null && specialToken != token) {
+        	        n.addChild(specialToken);
+        	        specialToken = specialToken.next;
+        	    }
+        	}
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+     
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+	 
+    public void closeNodeScope(Node n, boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + nodeArity() + " nodes off the stack.");
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+	        	if (specialTokensAreNodes && (child instanceof Token)) {
+	        	    Token token = (Token) child;
+	        	    Token specialToken = token;
+	        	    while (specialToken.specialToken !=null) {
+	        	        specialToken = specialToken.specialToken;
+	        	    }
+	        	    while (specialToken !=null && specialToken != token) {
+	        	        n.addChild(specialToken);
+	        	        specialToken = specialToken.next;
+	        	    }
+	        	}
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", there are now " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        } else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    JSONArenaParser jjtree = this; 
+    
+    
+    
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope = JSONArenaParser.this.currentNodeScope;
+            JSONArenaParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns. parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty() ? parentScope.peek() : get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result = remove(size()-1);
+            if (size() < floor) {
+                floor = size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            JSONArenaParser.this.currentNodeScope = parentScope;
+        }
+        
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+               result++;
+               parent = parent.parentScope;
+            }
+            return result;            
+        } 
+    }
+
+
+   static private final int INFINITY = Integer.MAX_VALUE;
+  //=================================
+ // Start of methods for BNF Productions
+ //=================================
+    
+
+
+// JSON.javacc, line 68
+    final public 
+    void
+    Array() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 68 of JSON.javacc");
+     
+  // Code for expansion specified on line 70 of JSON.javacc
+    
+        int Array1Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token Array1Start = getToken(1);
+  // Code for expansion specified on line 70 of JSON.javacc
+       consumeToken(OPEN_BRACKET);
+  // Code for expansion specified on line 71 of JSON.javacc
+   int int2
+      = nextTokenKind()
+   ;
+         if (             int2 >= 0 && (jj_first_set_0[int2 >> 6] & (1L << int2)) != 0L
+) {
+              // Code for expansion specified on line 72 of JSON.javacc
+  // Code for Value specified on line 72 of JSON.javacc
+       Value();
+  // Code for expansion specified on line 76 of JSON.javacc
+    label_2:
+    while (true) {
+   int int1
+      = nextTokenKind()
+   ;
+         if (!(             int1 == COMMA 
+)) {
+            break label_2;
+         }
+  // Code for expansion specified on line 74 of JSON.javacc
+  // Code for expansion specified on line 74 of JSON.javacc
+       consumeToken(COMMA);
+  // Code for Value specified on line 75 of JSON.javacc
+       Value();
+    }
+
+         }
+  // Code for expansion specified on line 78 of JSON.javacc
+       consumeToken(CLOSE_BRACKET);
+        if (trace_enabled) LOGGER.info("Exiting normally from Array");
+        if (buildTree) {
+            int Array1Mark = closeDeferredNodeScope(Array1Floor);
+            if (nodeArity() - Array1Mark > 1) {
+                Array Array1 = new Array();
+                Array1.setBeginLine(Array1Start.beginLine);
+                Array1.setBeginColumn(Array1Start.beginColumn);
+                Array1.setInputSource(this.getInputSource());
+                Array1.setEndLine(current_token.getEndLine());
+                Array1.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Array1, Array1Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// JSON.javacc, line 81
+    final public 
+    void
+    Value() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 81 of JSON.javacc");
+     
+  // Code for expansion specified on line 83 of JSON.javacc
+    
+        int Value2Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token Value2Start = getToken(1);
+  // Code for expansion specified on line 84 of JSON.javacc
+                 switch (nextTokenKind()) { 
+                 case TRUE: 
+                      // Code for expansion specified on line 84 of JSON.javacc
+  // Code for expansion specified on line 84 of JSON.javacc
+       consumeToken(TRUE);
+
+                    break;
+                 case FALSE: 
+                      // Code for expansion specified on line 86 of JSON.javacc
+  // Code for expansion specified on line 86 of JSON.javacc
+       consumeToken(FALSE);
+
+                    break;
+                 case NULL: 
+                      // Code for expansion specified on line 88 of JSON.javacc
+  // Code for expansion specified on line 88 of JSON.javacc
+       consumeToken(NULL);
+
+                    break;
+                 case STRING_LITERAL: 
+                      // Code for expansion specified on line 90 of JSON.javacc
+  // Code for expansion specified on line 90 of JSON.javacc
+       consumeToken(STRING_LITERAL);
+
+                    break;
+                 case NUMBER: 
+                      // Code for expansion specified on line 92 of JSON.javacc
+  // Code for expansion specified on line 92 of JSON.javacc
+       consumeToken(NUMBER);
+
+                    break;
+                 case OPEN_BRACKET: 
+                      // Code for expansion specified on line 94 of JSON.javacc
+  // Code for Array specified on line 94 of JSON.javacc
+       Array();
+
+                    break;
+                 case OPEN_BRACE: 
+                      // Code for expansion specified on line 96 of JSON.javacc
+  // Code for JSONObject specified on line 96 of JSON.javacc
+       JSONObject();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from Value");
+        if (buildTree) {
+            int Value2Mark = closeDeferredNodeScope(Value2Floor);
+            if (nodeArity() - Value2Mark > 1) {
+                Value Value2 = new Value();
+                Value2.setBeginLine(Value2Start.beginLine);
+                Value2.setBeginColumn(Value2Start.beginColumn);
+                Value2.setInputSource(this.getInputSource());
+                Value2.setEndLine(current_token.getEndLine());
+                Value2.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Value2, Value2Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// JSON.javacc, line 100
+    final public 
+    void
+    JSONObject() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 100 of JSON.javacc");
+     
+  // Code for expansion specified on line 102 of JSON.javacc
+    
+        int JSONObject3Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token JSONObject3Start = getToken(1);
+  // Code for expansion specified on line 102 of JSON.javacc
+       consumeToken(OPEN_BRACE);
+  // Code for expansion specified on line 103 of JSON.javacc
+   int int4
+      = nextTokenKind()
+   ;
+         if (             int4 == STRING_LITERAL 
+) {
+              // Code for expansion specified on line 104 of JSON.javacc
+  // Code for expansion specified on line 104 of JSON.javacc
+       consumeToken(STRING_LITERAL);
+  // Code for expansion specified on line 104 of JSON.javacc
+       consumeToken(COLON);
+  // Code for Value specified on line 104 of JSON.javacc
+       Value();
+  // Code for expansion specified on line 108 of JSON.javacc
+    label_4:
+    while (true) {
+   int int3
+      = nextTokenKind()
+   ;
+         if (!(             int3 == COMMA 
+)) {
+            break label_4;
+         }
+  // Code for expansion specified on line 106 of JSON.javacc
+  // Code for expansion specified on line 106 of JSON.javacc
+       consumeToken(COMMA);
+  // Code for expansion specified on line 107 of JSON.javacc
+       consumeToken(STRING_LITERAL);
+  // Code for expansion specified on line 107 of JSON.javacc
+       consumeToken(COLON);
+  // Code for Value specified on line 107 of JSON.javacc
+       Value();
+    }
+
+         }
+  // Code for expansion specified on line 110 of JSON.javacc
+       consumeToken(CLOSE_BRACE);
+        if (trace_enabled) LOGGER.info("Exiting normally from JSONObject");
+        if (buildTree) {
+            int JSONObject3Mark = closeDeferredNodeScope(JSONObject3Floor);
+            if (nodeArity() - JSONObject3Mark > 1) {
+                JSONObject JSONObject3 = new JSONObject();
+                JSONObject3.setBeginLine(JSONObject3Start.beginLine);
+                JSONObject3.setBeginColumn(JSONObject3Start.beginColumn);
+                JSONObject3.setInputSource(this.getInputSource());
+                JSONObject3.setEndLine(current_token.getEndLine());
+                JSONObject3.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(JSONObject3, JSONObject3Mark);
+            }
+        }
+    
+    }   
+   static private final long[] jj_first_set_0 = {0x84750L};
+
+
+  
+
+  Token current_token;
+
+
+
+  public JSONArenaParser(java.io.InputStream stream) {
+      this(new InputStreamReader(stream));
+  }
+
+  public JSONArenaParser(Reader reader) {
+    token_source = new JSONArenaLexer(reader);
+    current_token = new Token();
+  }
+
+  /** Constructor with generated Token Manager. */
+  public JSONArenaParser(JSONArenaLexer lexer) {
+    token_source = lexer;
+    current_token = new Token();
+  }
+  
+ 
+      private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced = false;
+  
+        Token oldToken = current_token;
+        current_token = current_token.next;
+        if (current_token == null ) {
+           current_token = token_source.getNextToken();
+        }
+        if (current_token.kind != expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken) ;
+        }      
+      if (tokensAreNodes) {
+          if (buildTree) {
+              pushNode(current_token);
+          }
+      }
+      if (trace_enabled) traceConsumedToken();
+      return current_token;
+  }
+  
+  private void traceConsumedToken() {
+      LOGGER.info("Consumed token of type " + tokenImage[current_token.kind] + " from " + current_token.getLocation());
+  }
+  
+  private void handleUnexpectedTokenType( int expectedType,  boolean forced, Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+  //	    current_token = oldToken;
+  		    throw new ParseException(current_token);
+	   } 
+  }
+  
+  
+  private String generateErrorMessage(Token t) {
+      return "Encountered an error on (or somewhere around) line "
+                + t.getBeginLine() 
+                + ", column " + t.getBeginColumn() 
+                + " of " + t.getInputSource();
+   }
+   
+  
+
+  final public Token getNextToken() {
+    if (current_token.next != null) current_token = current_token.next;
+    else current_token = current_token.next = token_source.getNextToken();
+    return current_token;
+  }
+
+/** Get the specific Token index ahead in the stream. */
+  final public Token getToken(int index) {
+    Token t = current_token;
+    for (int i = 0; i < index; i++) {
+      if (t.next != null) t = t.next;
+      else t = t.next = token_source.getNextToken();
+    }
+    return t;
+  }
+  
+  private int nextTokenKind() {
+    if (current_token.next == null) {
+        current_token.next = token_source.getNextToken();
+    }
+    return current_token.next.kind;
+  }
+  
+  private List<Token> getTokensToEOL(int ...desiredTokenTypes) {
+     ArrayList<Token> result = new ArrayList<>();
+     int currentLine = current_token.getBeginLine();
+     Token tok = current_token;
+     do  {
+        Token prevToken = tok;
+        if (tok.next != null) {
+            tok = tok.next;
+        } else {
+        	tok = token_source.getNextToken();
+        	prevToken.next = tok;
+        }
+        result.add(tok);
+     } while (tok.getBeginLine() == currentLine && !intArrayContains(desiredTokenTypes, tok.kind) && tok.kind != EOF);
+     return result;
+  }
+     static private boolean intArrayContains(int[] array, int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i] == elem) {
+                return true;
+            }
+        }
+        return false;
+    } 
+  
+  private boolean trace_enabled = false;
+ 
+  public void setTracingEnabled(boolean tracingEnabled) {trace_enabled = tracingEnabled;}
+  
+ /**
+ * @deprecated Use #setTracingEnabled
+ */
+   @Deprecated
+  public void enable_tracing() {
+    setTracingEnabled(true);
+  }
+
+/**
+ * @deprecated Use #setTracingEnabled
+ */
+@Deprecated
+ public void disable_tracing() {
+    setTracingEnabled(false);
+  }
+  
+ 
+}
+
+
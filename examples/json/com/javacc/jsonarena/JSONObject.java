@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JSONObject.java */
+package com.javacc.jsonarena;
+
+
+@SuppressWarnings("unused")
+public class JSONObject extends BaseNode {
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. StringLiteral.java */
+package com.javacc.jsonarena;
+
+
+@SuppressWarnings("unused")
+public class StringLiteral extends Literal {
+    public StringLiteral(int kind, String image) {
+        super(kind, image);
+    }
+}
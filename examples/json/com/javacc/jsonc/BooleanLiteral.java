@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BooleanLiteral.java */
+package com.javacc.jsonc;
+
+
+@SuppressWarnings("unused")
+public class BooleanLiteral extends Literal {
+    public BooleanLiteral(int kind, String image) {
+        super(kind, image);
+    }
+}
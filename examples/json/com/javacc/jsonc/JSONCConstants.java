@@ -0,0 +1,116 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JSONCConstants.java */
+package com.javacc.jsonc;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface JSONCConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int SINGLE_LINE_COMMENT = 1;
+  int MULTI_LINE_COMMENT = 2;
+  int WHITESPACE = 3;
+  int COLON = 4;
+  int COMMA = 5;
+  int OPEN_BRACKET = 6;
+  int CLOSE_BRACKET = 7;
+  int OPEN_BRACE = 8;
+  int CLOSE_BRACE = 9;
+  int TRUE = 10;
+  int FALSE = 11;
+  int NULL = 12;
+  int ESCAPE1 = 13;
+  int ESCAPE2 = 14;
+  int REGULAR_CHAR = 15;
+  int STRING_LITERAL = 16;
+  int ZERO = 17;
+  int NON_ZERO = 18;
+  int FRACTION = 19;
+  int EXPONENT = 20;
+  int NUMBER = 21;
+  
+  /**
+   * Lexical States
+   */
+  int JSON = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "<SINGLE_LINE_COMMENT>"
+,
+      "<MULTI_LINE_COMMENT>"
+,
+      "<WHITESPACE>"
+,
+      "\":\""   
+,
+      "\",\""   
+,
+      "\"[\""   
+,
+      "\"]\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\"true\""   
+,
+      "\"false\""   
+,
+      "\"null\""   
+,
+      "<ESCAPE1>"
+,
+      "<ESCAPE2>"
+,
+      "<REGULAR_CHAR>"
+,
+      "<STRING_LITERAL>"
+,
+      "\"0\""   
+,
+      "<NON_ZERO>"
+,
+      "<FRACTION>"
+,
+      "<EXPONENT>"
+,
+      "<NUMBER>"
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "SINGLE_LINE_COMMENT",
+          "MULTI_LINE_COMMENT",
+          "WHITESPACE",
+          "COLON",
+          "COMMA",
+          "OPEN_BRACKET",
+          "CLOSE_BRACKET",
+          "OPEN_BRACE",
+          "CLOSE_BRACE",
+          "TRUE",
+          "FALSE",
+          "NULL",
+          "ESCAPE1",
+          "ESCAPE2",
+          "REGULAR_CHAR",
+          "STRING_LITERAL",
+          "ZERO",
+          "NON_ZERO",
+          "FRACTION",
+          "EXPONENT",
+          "NUMBER",
+              "Array", 
+              "Value", 
+              "JSONObject", 
+   };
+}
+
+
+
+
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. WHITESPACE.java */
+package com.javacc.jsonc;
+
+
+@SuppressWarnings("unused")
+public class WHITESPACE extends Token {
+    public WHITESPACE(int kind, String image) {
+        super(kind, image);
+    }
+}
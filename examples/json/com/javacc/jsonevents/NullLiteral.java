@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NullLiteral.java */
+package com.javacc.jsonevents;
+
+
+@SuppressWarnings("unused")
+public class NullLiteral extends Literal {
+    public NullLiteral(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,71 @@
+import java.io.*;
+import com.javacc.lazy.*;
+
+/**
+ * Checks that the Body nodes are only parsed when they are accessed,
+ * and that a syntax error inside one comes out then, and again
+ * on every access after that, and also from expandAll().
+ */
+public class LazyTest {
+
+    static Node parseFile(File file) throws IOException, ParseException {
+        LazyParser parser = new LazyParser(new FileReader(file));
+        parser.setInputSource(file.toString());
+        parser.Root();
+        return parser.rootNode();
+    }
+
+    static Body firstBody(Node root) {
+        return root.getChild(0).firstChildOfType(Body.class);
+    }
+
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static void testValid(File file) throws Exception {
+        Node root = parseFile(file);
+        Body body = firstBody(root);
+        check(!body.isExpanded(), "The body should not be parsed yet");
+        body.expandAll();
+        check(body.isExpanded(), "The body should be parsed now");
+        check(body.descendantsOfType(Body.class).size() == 1, "The nested body should be there");
+        Nodes.dump(root, "");
+    }
+
+    static void testInvalid(File file) throws Exception {
+        Node root = parseFile(file);
+        Body body = firstBody(root);
+        for (int i = 0; i < 2; i++) {
+            try {
+                body.getChildCount();
+                check(false, "Accessing the body should report the syntax error");
+            } catch (RuntimeException e) {
+                check(e.getCause() instanceof ParseException, "Expected a ParseException, not " + e.getCause());
+            }
+        }
+        check(!body.isExpanded(), "The body should not be expanded after an error");
+        try {
+            ((BaseNode) root).expandAll();
+            check(false, "expandAll() should report the syntax error");
+        } catch (ParseException e) {
+            System.out.println("Syntax error reported as expected: " + e.getMessage());
+        }
+    }
+
+    static public void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            usage();
+            System.exit(1);
+        }
+        testValid(new File(args[0]));
+        testInvalid(new File(args[1]));
+    }
+
+    static public void usage() {
+        System.out.println("Little test harness for LAZY productions");
+        System.out.println("java LazyTest <valid file> <invalid file>");
+    }
+}
@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Item.java */
+package com.javacc.lazy;
+
+
+@SuppressWarnings("unused")
+public class Item extends BaseNode {
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LB.java */
+package com.javacc.lazy;
+
+
+@SuppressWarnings("unused")
+public class LB extends Token {
+    public LB(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,57 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LazyConstants.java */
+package com.javacc.lazy;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface LazyConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int LB = 5;
+  int RB = 6;
+  int SEMICOLON = 7;
+  int IDENTIFIER = 8;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\";\""   
+,
+      "<IDENTIFIER>"
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "LB",
+          "RB",
+          "SEMICOLON",
+          "IDENTIFIER",
+              "Root", 
+              "Item", 
+              "Body", 
+              "Statement", 
+   };
+}
+
+
+
+
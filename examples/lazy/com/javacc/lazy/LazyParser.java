@@ -0,0 +1,715 @@
+/* Generated by: JavaCC 21 Parser Generator. LazyParser.java */
+
+
+package com.javacc.lazy;
+
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+
+@SuppressWarnings("unused")
+public class LazyParser implements LazyConstants {
+
+    static final java.util.logging.Logger LOGGER = Logger.getLogger("LazyParser");
+    
+
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing = false;
+    public boolean isParserTolerant() {return tolerantParsing;}
+    
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        } 
+    }
+
+  /** Generated Lexer. */
+  public LazyLexer token_source;
+  
+  public void setInputSource(String inputSource) {
+      token_source.setInputSource(inputSource);
+  }
+  
+
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean specialTokensAreNodes = false;
+
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes = specialTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    // Set on a parser that is about to fill in a lazy node, so that it goes
+    // through the production rather than skipping it again.
+    private boolean expandingLazyNode;
+    
+    private interface LazyProduction {
+        void parse(LazyParser parser) throws ParseException;
+    }
+    
+    /**
+     * Skips over the tokens from an opening delimiter up to and including
+     * the matching closing delimiter.
+     */
+    private void skipDelimited(int openKind, int closeKind) throws ParseException {
+        int depth = 0;
+        do {
+            Token t = getNextToken();
+            if (t.kind == openKind) {
+                depth++;
+            } else if (t.kind == closeKind) {
+                depth--;
+            } else if (depth == 0 || t.kind == EOF) {
+                throw new ParseException(t);
+            }
+        } while (depth > 0);
+    }
+    
+    /**
+     * Parses the tokens following the given one with a new parser 
+     * that shares this one's token chain and settings.
+     * @return the node built by the production
+     */
+    private Node expandLazyNode(Token previous, LazyProduction production) {
+        LazyParser parser = new LazyParser(token_source);
+        parser.current_token = previous;
+        parser.tokensAreNodes = tokensAreNodes;
+        parser.specialTokensAreNodes = specialTokensAreNodes;
+        parser.trace_enabled = trace_enabled;
+        parser.expandingLazyNode = true;
+        try {
+            production.parse(parser);
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
+        }
+        return parser.rootNode();
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor = currentNodeScope.floor;
+        currentNodeScope.floor = currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark = currentNodeScope.floor;
+        currentNodeScope.floor = Math.min(previousFloor, mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n, int mark) {
+        List<Node> children = currentNodeScope.subList(mark, currentNodeScope.size());
+        List<Node> nodes = new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n, true);
+    }
+    
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: " + n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "  +  currentNodeScope.nestingLevel());
+    }
+
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + num + " nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i=0;i<num;i++) {
+           nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+        	if (specialTokensAreNodes && (child instanceof Token)) {
+        	    Token token = (Token) child;
+        	    Token specialToken = token;
+        	    while (specialToken != null) {
+        	        specialToken = specialToken.specialToken;
+        	    }
+        	    while (specialToken !=null && specialToken != token) {
+        	        n.addChild(specialToken);
+        	        specialToken = specialToken.next;
+        	    }
+        	}
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+     
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+	 
+    public void closeNodeScope(Node n, boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + nodeArity() + " nodes off the stack.");
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+	        	if (specialTokensAreNodes && (child instanceof Token)) {
+	        	    Token token = (Token) child;
+	        	    Token specialToken = token;
+	        	    while (specialToken.specialToken !=null) {
+	        	        specialToken = specialToken.specialToken;
+	        	    }
+	        	    while (specialToken !=null && specialToken != token) {
+	        	        n.addChild(specialToken);
+	        	        specialToken = specialToken.next;
+	        	    }
+	        	}
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", there are now " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        } else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    LazyParser jjtree = this; 
+    
+    
+    
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope = LazyParser.this.currentNodeScope;
+            LazyParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns. parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty() ? parentScope.peek() : get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result = remove(size()-1);
+            if (size() < floor) {
+                floor = size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            LazyParser.this.currentNodeScope = parentScope;
+        }
+        
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+               result++;
+               parent = parent.parentScope;
+            }
+            return result;            
+        } 
+    }
+
+
+   static private final int INFINITY = Integer.MAX_VALUE;
+  //=================================
+ // Start of methods for BNF Productions
+ //=================================
+    
+
+
+// Lazy.javacc, line 27
+    final public 
+    void
+    Root() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 27 of Lazy.javacc");
+     
+  // Code for expansion specified on line 29 of Lazy.javacc
+    
+        int Root1Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token Root1Start = getToken(1);
+  // Code for expansion specified on line 29 of Lazy.javacc
+    label_1:
+    while (true) {
+   int int1
+      = nextTokenKind()
+   ;
+         if (!(             int1 == IDENTIFIER 
+)) {
+            break label_1;
+         }
+  // Code for expansion specified on line 29 of Lazy.javacc
+  // Code for Item specified on line 29 of Lazy.javacc
+       Item();
+    }
+  // Code for expansion specified on line 29 of Lazy.javacc
+       consumeToken(0);
+        if (trace_enabled) LOGGER.info("Exiting normally from Root");
+        if (buildTree) {
+            int Root1Mark = closeDeferredNodeScope(Root1Floor);
+            if (nodeArity() - Root1Mark > 1) {
+                Root Root1 = new Root();
+                Root1.setBeginLine(Root1Start.beginLine);
+                Root1.setBeginColumn(Root1Start.beginColumn);
+                Root1.setInputSource(this.getInputSource());
+                Root1.setEndLine(current_token.getEndLine());
+                Root1.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Root1, Root1Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Lazy.javacc, line 32
+    final public 
+    void
+    Item() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 32 of Lazy.javacc");
+     
+  // Code for expansion specified on line 34 of Lazy.javacc
+    
+        int Item2Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token Item2Start = getToken(1);
+  // Code for expansion specified on line 34 of Lazy.javacc
+       consumeToken(IDENTIFIER);
+  // Code for Body specified on line 34 of Lazy.javacc
+       Body();
+        if (trace_enabled) LOGGER.info("Exiting normally from Item");
+        if (buildTree) {
+            int Item2Mark = closeDeferredNodeScope(Item2Floor);
+            if (nodeArity() - Item2Mark > 1) {
+                Item Item2 = new Item();
+                Item2.setBeginLine(Item2Start.beginLine);
+                Item2.setBeginColumn(Item2Start.beginColumn);
+                Item2.setInputSource(this.getInputSource());
+                Item2.setEndLine(current_token.getEndLine());
+                Item2.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Item2, Item2Mark);
+            }
+        }
+    
+    }   
+    
+
+
+// Lazy.javacc, line 37
+    final public 
+    void
+    Body() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 37 of Lazy.javacc");
+     if (expandingLazyNode) {
+         expandingLazyNode = false;
+     } else if (buildTree) {
+         final Token previous = current_token;
+         skipDelimited(LB, RB);
+         Body lazyNode = new Body();
+         lazyNode.setBeginLine(previous.next.beginLine);
+         lazyNode.setBeginColumn(previous.next.beginColumn);
+         lazyNode.setEndLine(current_token.getEndLine());
+         lazyNode.setEndColumn(current_token.getEndColumn());
+         lazyNode.setInputSource(this.getInputSource());
+         lazyNode.setLazyContent(() -> expandLazyNode(previous, parser -> parser.Body()));
+         openNodeScope(lazyNode);
+         closeNodeScope(lazyNode, true);
+         if (trace_enabled) LOGGER.info("Skipped over Body lazily");
+         return;
+     }
+     
+  // Code for expansion specified on line 39 of Lazy.javacc
+    
+        boolean Body3forced = false;
+   Body Body3 = null;
+   if (buildTree) {
+       Body3 = new Body();
+       Token start = getToken(1);
+       Body3.setBeginLine(start.beginLine);
+       Body3.setBeginColumn(start.beginColumn);
+       Body3.setInputSource(this.getInputSource());
+	    openNodeScope(Body3);
+  }
+          ParseException parseException3 = null;
+         try {
+  // Code for expansion specified on line 39 of Lazy.javacc
+       consumeToken(LB);
+  // Code for expansion specified on line 39 of Lazy.javacc
+    label_2:
+    while (true) {
+   int int2
+      = nextTokenKind()
+   ;
+         if (!(             int2 == IDENTIFIER 
+)) {
+            break label_2;
+         }
+  // Code for expansion specified on line 39 of Lazy.javacc
+  // Code for Statement specified on line 39 of Lazy.javacc
+       Statement();
+    }
+  // Code for expansion specified on line 39 of Lazy.javacc
+       consumeToken(RB);
+        if (trace_enabled) LOGGER.info("Exiting normally from Body");
+         }
+         catch (ParseException e) { 
+             parseException3 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException3 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException3.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Body3.setEndLine(current_token.getEndLine());
+		              Body3.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Body3, true);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// Lazy.javacc, line 42
+    final public 
+    void
+    Statement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 42 of Lazy.javacc");
+     
+  // Code for expansion specified on line 44 of Lazy.javacc
+    
+        int Statement4Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token Statement4Start = getToken(1);
+  // Code for expansion specified on line 44 of Lazy.javacc
+       consumeToken(IDENTIFIER);
+  // Code for expansion specified on line 44 of Lazy.javacc
+                 switch (nextTokenKind()) { 
+                 case SEMICOLON: 
+                      // Code for expansion specified on line 44 of Lazy.javacc
+  // Code for expansion specified on line 44 of Lazy.javacc
+       consumeToken(SEMICOLON);
+
+                    break;
+                 case LB: 
+                      // Code for expansion specified on line 44 of Lazy.javacc
+  // Code for Body specified on line 44 of Lazy.javacc
+       Body();
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from Statement");
+        if (buildTree) {
+            int Statement4Mark = closeDeferredNodeScope(Statement4Floor);
+            if (nodeArity() - Statement4Mark > 1) {
+                Statement Statement4 = new Statement();
+                Statement4.setBeginLine(Statement4Start.beginLine);
+                Statement4.setBeginColumn(Statement4Start.beginColumn);
+                Statement4.setInputSource(this.getInputSource());
+                Statement4.setEndLine(current_token.getEndLine());
+                Statement4.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(Statement4, Statement4Mark);
+            }
+        }
+    
+    }   
+
+
+  
+
+  Token current_token;
+
+
+
+  public LazyParser(java.io.InputStream stream) {
+      this(new InputStreamReader(stream));
+  }
+
+  public LazyParser(Reader reader) {
+    token_source = new LazyLexer(reader);
+    current_token = new Token();
+  }
+
+  /** Constructor with generated Token Manager. */
+  public LazyParser(LazyLexer lexer) {
+    token_source = lexer;
+    current_token = new Token();
+  }
+  
+ 
+      private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced = false;
+  
+        Token oldToken = current_token;
+        current_token = current_token.next;
+        if (current_token == null ) {
+           current_token = token_source.getNextToken();
+        }
+        if (current_token.kind != expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken) ;
+        }      
+      if (tokensAreNodes) {
+          if (buildTree) {
+              pushNode(current_token);
+          }
+      }
+      if (trace_enabled) traceConsumedToken();
+      return current_token;
+  }
+  
+  private void traceConsumedToken() {
+      LOGGER.info("Consumed token of type " + tokenImage[current_token.kind] + " from " + current_token.getLocation());
+  }
+  
+  private void handleUnexpectedTokenType( int expectedType,  boolean forced, Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+  //	    current_token = oldToken;
+  		    throw new ParseException(current_token);
+	   } 
+  }
+  
+  
+  private String generateErrorMessage(Token t) {
+      return "Encountered an error on (or somewhere around) line "
+                + t.getBeginLine() 
+                + ", column " + t.getBeginColumn() 
+                + " of " + t.getInputSource();
+   }
+   
+  
+
+  final public Token getNextToken() {
+    if (current_token.next != null) current_token = current_token.next;
+    else current_token = current_token.next = token_source.getNextToken();
+    return current_token;
+  }
+
+/** Get the specific Token index ahead in the stream. */
+  final public Token getToken(int index) {
+    Token t = current_token;
+    for (int i = 0; i < index; i++) {
+      if (t.next != null) t = t.next;
+      else t = t.next = token_source.getNextToken();
+    }
+    return t;
+  }
+  
+  private int nextTokenKind() {
+    if (current_token.next == null) {
+        current_token.next = token_source.getNextToken();
+    }
+    return current_token.next.kind;
+  }
+  
+  private List<Token> getTokensToEOL(int ...desiredTokenTypes) {
+     ArrayList<Token> result = new ArrayList<>();
+     int currentLine = current_token.getBeginLine();
+     Token tok = current_token;
+     do  {
+        Token prevToken = tok;
+        if (tok.next != null) {
+            tok = tok.next;
+        } else {
+        	tok = token_source.getNextToken();
+        	prevToken.next = tok;
+        }
+        result.add(tok);
+     } while (tok.getBeginLine() == currentLine && !intArrayContains(desiredTokenTypes, tok.kind) && tok.kind != EOF);
+     return result;
+  }
+     static private boolean intArrayContains(int[] array, int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i] == elem) {
+                return true;
+            }
+        }
+        return false;
+    } 
+  
+  private boolean trace_enabled = false;
+ 
+  public void setTracingEnabled(boolean tracingEnabled) {trace_enabled = tracingEnabled;}
+  
+ /**
+ * @deprecated Use #setTracingEnabled
+ */
+   @Deprecated
+  public void enable_tracing() {
+    setTracingEnabled(true);
+  }
+
+/**
+ * @deprecated Use #setTracingEnabled
+ */
+@Deprecated
+ public void disable_tracing() {
+    setTracingEnabled(false);
+  }
+  
+ 
+}
+
+
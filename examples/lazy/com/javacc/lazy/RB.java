@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RB.java */
+package com.javacc.lazy;
+
+
+@SuppressWarnings("unused")
+public class RB extends Token {
+    public RB(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Root.java */
+package com.javacc.lazy;
+
+
+@SuppressWarnings("unused")
+public class Root extends BaseNode {
+
+}
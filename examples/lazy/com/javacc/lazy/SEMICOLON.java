@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SEMICOLON.java */
+package com.javacc.lazy;
+
+
+@SuppressWarnings("unused")
+public class SEMICOLON extends Token {
+    public SEMICOLON(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,188 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IDLConstants.java */
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface IDLConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int ID = 65;
+  int OCTALINT = 66;
+  int DECIMALINT = 67;
+  int HEXADECIMALINT = 68;
+  int FLOATONE = 69;
+  int FLOATTWO = 70;
+  int CHARACTER = 71;
+  int STRING = 72;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "<5>"
+,
+      "<6>"
+,
+      "<7>"
+,
+      "\";\""   
+,
+      "\"module\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\"interface\""   
+,
+      "\":\""   
+,
+      "\",\""   
+,
+      "\"::\""   
+,
+      "\"const\""   
+,
+      "\"=\""   
+,
+      "\"|\""   
+,
+      "\"^\""   
+,
+      "\"&\""   
+,
+      "\">>\""   
+,
+      "\"<<\""   
+,
+      "\"+\""   
+,
+      "\"-\""   
+,
+      "\"*\""   
+,
+      "\"/\""   
+,
+      "\"%\""   
+,
+      "\"~\""   
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+      "\"TRUE\""   
+,
+      "\"FALSE\""   
+,
+      "\"typedef\""   
+,
+      "\"float\""   
+,
+      "\"double\""   
+,
+      "\"long\""   
+,
+      "\"short\""   
+,
+      "\"unsigned\""   
+,
+      "\"char\""   
+,
+      "\"boolean\""   
+,
+      "\"octet\""   
+,
+      "\"any\""   
+,
+      "\"struct\""   
+,
+      "\"union\""   
+,
+      "\"switch\""   
+,
+      "\"case\""   
+,
+      "\"default\""   
+,
+      "\"enum\""   
+,
+      "\"sequence\""   
+,
+      "\"<\""   
+,
+      "\">\""   
+,
+      "\"string\""   
+,
+      "\"[\""   
+,
+      "\"]\""   
+,
+      "\"readonly\""   
+,
+      "\"attribute\""   
+,
+      "\"exception\""   
+,
+      "\"oneway\""   
+,
+      "\"void\""   
+,
+      "\"in\""   
+,
+      "\"out\""   
+,
+      "\"inout\""   
+,
+      "\"raises\""   
+,
+      "\"context\""   
+,
+      "<ID>"
+,
+      "<OCTALINT>"
+,
+      "<DECIMALINT>"
+,
+      "<HEXADECIMALINT>"
+,
+      "<FLOATONE>"
+,
+      "<FLOATTWO>"
+,
+      "<CHARACTER>"
+,
+      "<STRING>"
+
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "ID",
+          "OCTALINT",
+          "DECIMALINT",
+          "HEXADECIMALINT",
+          "FLOATONE",
+          "FLOATTWO",
+          "CHARACTER",
+          "STRING",
+   };
+}
+
+
+
+
@@ -0,0 +1,2168 @@
+/* Generated by: JavaCC 21 Parser Generator. IDLParser.java */
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class IDLParser implements IDLConstants {
+    public static void main(String args[]) {
+        IDLParser parser;
+        if (args.length==0) {
+            System.out.println("IDL Parser Version 0.1:  Reading from standard input . . .");
+            parser=new IDLParser(new java.io.InputStreamReader(System.in));
+        }
+        else if (args.length==1) {
+            System.out.println("IDL Parser Version 0.1:  Reading from file "+args[0]+" . . .");
+            try {
+                parser=new IDLParser(new java.io.FileReader(args[0]));
+            }
+            catch(java.io.FileNotFoundException e) {
+                System.out.println("IDL Parser Version 0.1:  File "+args[0]+" not found.");
+                return;
+            }
+        }
+        else {
+            System.out.println("IDL Parser Version 0.1:  Usage is one of:");
+            System.out.println("         java IDLParser < inputfile");
+            System.out.println("OR");
+            System.out.println("         java IDLParser inputfile");
+            return;
+        }
+        try {
+            parser.specification();
+            System.out.println("IDL Parser Version 0.1:  IDL file parsed successfully.");
+        }
+        catch(ParseException e) {
+            System.out.println("IDL Parser Version 0.1:  Encountered errors during parse.");
+        }
+    }
+
+    static final java.util.logging.Logger LOGGER=Logger.getLogger("IDLParser");
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing=false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    /** Generated Lexer. */
+    public IDLLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    static private final int INFINITY=Integer.MAX_VALUE;
+    //=================================
+    // Start of methods for BNF Productions
+    //=================================
+    /* Production 1 */
+    // IDL.javacc, line 86
+    final public void specification() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 86 of IDL.javacc");
+        // Code for expansion specified on line 89 of IDL.javacc
+        // Code for expansion specified on line 89 of IDL.javacc
+        label_1:
+        while (true) {
+            // Code for expansion specified on line 89 of IDL.javacc
+            // Code for definition specified on line 89 of IDL.javacc
+            definition();
+            int int1=nextTokenKind();
+            if (!(int1>=0&&(jj_first_set_0[int1>>6]&(1L<<int1))!=0L)) {
+                break label_1;
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from specification");
+    }
+
+    /* Production 2 */
+    // IDL.javacc, line 94
+    final public void definition() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 94 of IDL.javacc");
+        // Code for expansion specified on line 97 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 33:
+            case 43:
+            case 44:
+            case 48:
+            // Code for expansion specified on line 97 of IDL.javacc
+            // Code for type_dcl specified on line 97 of IDL.javacc
+            type_dcl();
+            // Code for expansion specified on line 97 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 16:
+            // Code for expansion specified on line 99 of IDL.javacc
+            // Code for const_dcl specified on line 99 of IDL.javacc
+            const_dcl();
+            // Code for expansion specified on line 99 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 57:
+            // Code for expansion specified on line 101 of IDL.javacc
+            // Code for except_dcl specified on line 101 of IDL.javacc
+            except_dcl();
+            // Code for expansion specified on line 101 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 12:
+            // Code for expansion specified on line 103 of IDL.javacc
+            // Code for interfacex specified on line 103 of IDL.javacc
+            interfacex();
+            // Code for expansion specified on line 103 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 9:
+            // Code for expansion specified on line 105 of IDL.javacc
+            // Code for module specified on line 105 of IDL.javacc
+            module();
+            // Code for expansion specified on line 105 of IDL.javacc
+            consumeToken(8);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from definition");
+    }
+
+    /* Production 3 */
+    // IDL.javacc, line 110
+    final public void module() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 110 of IDL.javacc");
+        // Code for expansion specified on line 113 of IDL.javacc
+        // Code for expansion specified on line 113 of IDL.javacc
+        consumeToken(9);
+        // Code for identifier specified on line 113 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 113 of IDL.javacc
+        consumeToken(10);
+        // Code for expansion specified on line 113 of IDL.javacc
+        label_2:
+        while (true) {
+            // Code for expansion specified on line 113 of IDL.javacc
+            // Code for definition specified on line 113 of IDL.javacc
+            definition();
+            int int2=nextTokenKind();
+            if (!(int2>=0&&(jj_first_set_0[int2>>6]&(1L<<int2))!=0L)) {
+                break label_2;
+            }
+        }
+        // Code for expansion specified on line 113 of IDL.javacc
+        consumeToken(11);
+        if (trace_enabled) LOGGER.info("Exiting normally from module");
+    }
+
+    /* Production 4 */
+    // IDL.javacc, line 118
+    final public void interfacex() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 118 of IDL.javacc");
+        // Code for expansion specified on line 121 of IDL.javacc
+        if (phase2_2_IDL_javacc_line_121(3)) {
+            // Code for expansion specified on line 121 of IDL.javacc
+            // Code for interface_dcl specified on line 122 of IDL.javacc
+            interface_dcl();
+        }
+        else {
+            switch(nextTokenKind()) {
+                case 12:
+                // Code for expansion specified on line 124 of IDL.javacc
+                // Code for forward_dcl specified on line 124 of IDL.javacc
+                forward_dcl();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from interfacex");
+    }
+
+    /* Production 5 */
+    // IDL.javacc, line 129
+    final public void interface_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 129 of IDL.javacc");
+        // Code for expansion specified on line 132 of IDL.javacc
+        // Code for interface_header specified on line 132 of IDL.javacc
+        interface_header();
+        // Code for expansion specified on line 132 of IDL.javacc
+        consumeToken(10);
+        // Code for interface_body specified on line 132 of IDL.javacc
+        interface_body();
+        // Code for expansion specified on line 132 of IDL.javacc
+        consumeToken(11);
+        if (trace_enabled) LOGGER.info("Exiting normally from interface_dcl");
+    }
+
+    /* Production 6 */
+    // IDL.javacc, line 137
+    final public void forward_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 137 of IDL.javacc");
+        // Code for expansion specified on line 140 of IDL.javacc
+        // Code for expansion specified on line 140 of IDL.javacc
+        consumeToken(12);
+        // Code for identifier specified on line 140 of IDL.javacc
+        identifier();
+        if (trace_enabled) LOGGER.info("Exiting normally from forward_dcl");
+    }
+
+    /* Production 7 */
+    // IDL.javacc, line 145
+    final public void interface_header() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 145 of IDL.javacc");
+        // Code for expansion specified on line 148 of IDL.javacc
+        // Code for expansion specified on line 148 of IDL.javacc
+        consumeToken(12);
+        // Code for identifier specified on line 148 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 148 of IDL.javacc
+        int int3=nextTokenKind();
+        if (int3==13) {
+            // Code for expansion specified on line 148 of IDL.javacc
+            // Code for inheritance_spec specified on line 148 of IDL.javacc
+            inheritance_spec();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from interface_header");
+    }
+
+    /* Production 8 */
+    // IDL.javacc, line 153
+    final public void interface_body() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 153 of IDL.javacc");
+        // Code for expansion specified on line 156 of IDL.javacc
+        // Code for expansion specified on line 156 of IDL.javacc
+        label_5:
+        while (true) {
+            int int4=nextTokenKind();
+            if (!(int4>=0&&(jj_first_set_1[int4>>6]&(1L<<int4))!=0L)) {
+                break label_5;
+            }
+            // Code for expansion specified on line 156 of IDL.javacc
+            // Code for export specified on line 156 of IDL.javacc
+            export();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from interface_body");
+    }
+
+    /* Production 9 */
+    // IDL.javacc, line 161
+    final public void export() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 161 of IDL.javacc");
+        // Code for expansion specified on line 164 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 33:
+            case 43:
+            case 44:
+            case 48:
+            // Code for expansion specified on line 164 of IDL.javacc
+            // Code for type_dcl specified on line 164 of IDL.javacc
+            type_dcl();
+            // Code for expansion specified on line 164 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 16:
+            // Code for expansion specified on line 166 of IDL.javacc
+            // Code for const_dcl specified on line 166 of IDL.javacc
+            const_dcl();
+            // Code for expansion specified on line 166 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 57:
+            // Code for expansion specified on line 168 of IDL.javacc
+            // Code for except_dcl specified on line 168 of IDL.javacc
+            except_dcl();
+            // Code for expansion specified on line 168 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 55:
+            case 56:
+            // Code for expansion specified on line 170 of IDL.javacc
+            // Code for attr_dcl specified on line 170 of IDL.javacc
+            attr_dcl();
+            // Code for expansion specified on line 170 of IDL.javacc
+            consumeToken(8);
+            break;
+            case 15:
+            case 34:
+            case 35:
+            case 36:
+            case 37:
+            case 38:
+            case 39:
+            case 40:
+            case 41:
+            case 42:
+            case 52:
+            case 58:
+            case 59:
+            case ID:
+            // Code for expansion specified on line 172 of IDL.javacc
+            // Code for op_dcl specified on line 172 of IDL.javacc
+            op_dcl();
+            // Code for expansion specified on line 172 of IDL.javacc
+            consumeToken(8);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from export");
+    }
+
+    /* Production 10 */
+    // IDL.javacc, line 177
+    final public void inheritance_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 177 of IDL.javacc");
+        // Code for expansion specified on line 180 of IDL.javacc
+        // Code for expansion specified on line 180 of IDL.javacc
+        consumeToken(13);
+        // Code for scoped_name specified on line 180 of IDL.javacc
+        scoped_name();
+        // Code for expansion specified on line 180 of IDL.javacc
+        label_6:
+        while (true) {
+            int int5=nextTokenKind();
+            if (!(int5==14)) {
+                break label_6;
+            }
+            // Code for expansion specified on line 180 of IDL.javacc
+            // Code for expansion specified on line 180 of IDL.javacc
+            consumeToken(14);
+            // Code for scoped_name specified on line 180 of IDL.javacc
+            scoped_name();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from inheritance_spec");
+    }
+
+    /* Production 11 */
+    // IDL.javacc, line 185
+    final public void scoped_name() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 185 of IDL.javacc");
+        // Code for expansion specified on line 188 of IDL.javacc
+        // Code for expansion specified on line 188 of IDL.javacc
+        int int6=nextTokenKind();
+        if (int6==15) {
+            // Code for expansion specified on line 188 of IDL.javacc
+            // Code for expansion specified on line 188 of IDL.javacc
+            consumeToken(15);
+        }
+        // Code for identifier specified on line 188 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 188 of IDL.javacc
+        label_8:
+        while (true) {
+            int int7=nextTokenKind();
+            if (!(int7==15)) {
+                break label_8;
+            }
+            // Code for expansion specified on line 188 of IDL.javacc
+            // Code for expansion specified on line 188 of IDL.javacc
+            consumeToken(15);
+            // Code for identifier specified on line 188 of IDL.javacc
+            identifier();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from scoped_name");
+    }
+
+    /* Production 12 */
+    // IDL.javacc, line 193
+    final public void const_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 193 of IDL.javacc");
+        // Code for expansion specified on line 196 of IDL.javacc
+        // Code for expansion specified on line 196 of IDL.javacc
+        consumeToken(16);
+        // Code for const_type specified on line 196 of IDL.javacc
+        const_type();
+        // Code for identifier specified on line 196 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 196 of IDL.javacc
+        consumeToken(17);
+        // Code for const_exp specified on line 196 of IDL.javacc
+        const_exp();
+        if (trace_enabled) LOGGER.info("Exiting normally from const_dcl");
+    }
+
+    /* Production 13 */
+    // IDL.javacc, line 201
+    final public void const_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 201 of IDL.javacc");
+        // Code for expansion specified on line 204 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 36:
+            case 37:
+            case 38:
+            // Code for expansion specified on line 204 of IDL.javacc
+            // Code for integer_type specified on line 204 of IDL.javacc
+            integer_type();
+            break;
+            case 39:
+            // Code for expansion specified on line 206 of IDL.javacc
+            // Code for char_type specified on line 206 of IDL.javacc
+            char_type();
+            break;
+            case 40:
+            // Code for expansion specified on line 208 of IDL.javacc
+            // Code for boolean_type specified on line 208 of IDL.javacc
+            boolean_type();
+            break;
+            case 34:
+            case 35:
+            // Code for expansion specified on line 210 of IDL.javacc
+            // Code for floating_pt_type specified on line 210 of IDL.javacc
+            floating_pt_type();
+            break;
+            case 52:
+            // Code for expansion specified on line 212 of IDL.javacc
+            // Code for string_type specified on line 212 of IDL.javacc
+            string_type();
+            break;
+            case 15:
+            case ID:
+            // Code for expansion specified on line 214 of IDL.javacc
+            // Code for scoped_name specified on line 214 of IDL.javacc
+            scoped_name();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from const_type");
+    }
+
+    /* Production 14 */
+    // IDL.javacc, line 219
+    final public void const_exp() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 219 of IDL.javacc");
+        // Code for expansion specified on line 222 of IDL.javacc
+        // Code for or_expr specified on line 222 of IDL.javacc
+        or_expr();
+        if (trace_enabled) LOGGER.info("Exiting normally from const_exp");
+    }
+
+    /* Production 15 */
+    // IDL.javacc, line 227
+    final public void or_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 227 of IDL.javacc");
+        // Code for expansion specified on line 230 of IDL.javacc
+        // Code for xor_expr specified on line 230 of IDL.javacc
+        xor_expr();
+        // Code for expansion specified on line 230 of IDL.javacc
+        label_9:
+        while (true) {
+            int int8=nextTokenKind();
+            if (!(int8==18)) {
+                break label_9;
+            }
+            // Code for expansion specified on line 230 of IDL.javacc
+            // Code for expansion specified on line 230 of IDL.javacc
+            consumeToken(18);
+            // Code for xor_expr specified on line 230 of IDL.javacc
+            xor_expr();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from or_expr");
+    }
+
+    /* Production 16 */
+    // IDL.javacc, line 235
+    final public void xor_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 235 of IDL.javacc");
+        // Code for expansion specified on line 238 of IDL.javacc
+        // Code for and_expr specified on line 238 of IDL.javacc
+        and_expr();
+        // Code for expansion specified on line 238 of IDL.javacc
+        label_10:
+        while (true) {
+            int int9=nextTokenKind();
+            if (!(int9==19)) {
+                break label_10;
+            }
+            // Code for expansion specified on line 238 of IDL.javacc
+            // Code for expansion specified on line 238 of IDL.javacc
+            consumeToken(19);
+            // Code for and_expr specified on line 238 of IDL.javacc
+            and_expr();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from xor_expr");
+    }
+
+    /* Production 17 */
+    // IDL.javacc, line 243
+    final public void and_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 243 of IDL.javacc");
+        // Code for expansion specified on line 246 of IDL.javacc
+        // Code for shift_expr specified on line 246 of IDL.javacc
+        shift_expr();
+        // Code for expansion specified on line 246 of IDL.javacc
+        label_11:
+        while (true) {
+            int int10=nextTokenKind();
+            if (!(int10==20)) {
+                break label_11;
+            }
+            // Code for expansion specified on line 246 of IDL.javacc
+            // Code for expansion specified on line 246 of IDL.javacc
+            consumeToken(20);
+            // Code for shift_expr specified on line 246 of IDL.javacc
+            shift_expr();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from and_expr");
+    }
+
+    /* Production 18 */
+    // IDL.javacc, line 251
+    final public void shift_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 251 of IDL.javacc");
+        // Code for expansion specified on line 254 of IDL.javacc
+        // Code for add_expr specified on line 254 of IDL.javacc
+        add_expr();
+        // Code for expansion specified on line 254 of IDL.javacc
+        label_12:
+        while (true) {
+            int int11=nextTokenKind();
+            if (!(int11==21||int11==22)) {
+                break label_12;
+            }
+            // Code for expansion specified on line 254 of IDL.javacc
+            // Code for expansion specified on line 254 of IDL.javacc
+            switch(nextTokenKind()) {
+                case 21:
+                // Code for expansion specified on line 254 of IDL.javacc
+                // Code for expansion specified on line 254 of IDL.javacc
+                consumeToken(21);
+                break;
+                case 22:
+                // Code for expansion specified on line 254 of IDL.javacc
+                // Code for expansion specified on line 254 of IDL.javacc
+                consumeToken(22);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for add_expr specified on line 254 of IDL.javacc
+            add_expr();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from shift_expr");
+    }
+
+    /* Production 19 */
+    // IDL.javacc, line 259
+    final public void add_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 259 of IDL.javacc");
+        // Code for expansion specified on line 262 of IDL.javacc
+        // Code for mult_expr specified on line 262 of IDL.javacc
+        mult_expr();
+        // Code for expansion specified on line 262 of IDL.javacc
+        label_13:
+        while (true) {
+            int int12=nextTokenKind();
+            if (!(int12==23||int12==24)) {
+                break label_13;
+            }
+            // Code for expansion specified on line 262 of IDL.javacc
+            // Code for expansion specified on line 262 of IDL.javacc
+            switch(nextTokenKind()) {
+                case 23:
+                // Code for expansion specified on line 262 of IDL.javacc
+                // Code for expansion specified on line 262 of IDL.javacc
+                consumeToken(23);
+                break;
+                case 24:
+                // Code for expansion specified on line 262 of IDL.javacc
+                // Code for expansion specified on line 262 of IDL.javacc
+                consumeToken(24);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for mult_expr specified on line 262 of IDL.javacc
+            mult_expr();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from add_expr");
+    }
+
+    /* Production 20 */
+    // IDL.javacc, line 267
+    final public void mult_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 267 of IDL.javacc");
+        // Code for expansion specified on line 270 of IDL.javacc
+        // Code for unary_expr specified on line 270 of IDL.javacc
+        unary_expr();
+        // Code for expansion specified on line 270 of IDL.javacc
+        label_14:
+        while (true) {
+            int int13=nextTokenKind();
+            if (!(int13==25||int13==26||int13==27)) {
+                break label_14;
+            }
+            // Code for expansion specified on line 270 of IDL.javacc
+            // Code for expansion specified on line 270 of IDL.javacc
+            switch(nextTokenKind()) {
+                case 25:
+                // Code for expansion specified on line 270 of IDL.javacc
+                // Code for expansion specified on line 270 of IDL.javacc
+                consumeToken(25);
+                break;
+                case 26:
+                // Code for expansion specified on line 270 of IDL.javacc
+                // Code for expansion specified on line 270 of IDL.javacc
+                consumeToken(26);
+                break;
+                case 27:
+                // Code for expansion specified on line 270 of IDL.javacc
+                // Code for expansion specified on line 270 of IDL.javacc
+                consumeToken(27);
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for unary_expr specified on line 270 of IDL.javacc
+            unary_expr();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from mult_expr");
+    }
+
+    /* Production 21 */
+    // IDL.javacc, line 275
+    final public void unary_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 275 of IDL.javacc");
+        // Code for expansion specified on line 278 of IDL.javacc
+        // Code for expansion specified on line 278 of IDL.javacc
+        int int14=nextTokenKind();
+        if (int14==23||int14==24||int14==28) {
+            // Code for expansion specified on line 278 of IDL.javacc
+            // Code for unary_operator specified on line 278 of IDL.javacc
+            unary_operator();
+        }
+        // Code for primary_expr specified on line 278 of IDL.javacc
+        primary_expr();
+        if (trace_enabled) LOGGER.info("Exiting normally from unary_expr");
+    }
+
+    /* Production 22 */
+    // IDL.javacc, line 282
+    final public void unary_operator() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 282 of IDL.javacc");
+        // Code for expansion specified on line 285 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 24:
+            // Code for expansion specified on line 285 of IDL.javacc
+            // Code for expansion specified on line 285 of IDL.javacc
+            consumeToken(24);
+            break;
+            case 23:
+            // Code for expansion specified on line 287 of IDL.javacc
+            // Code for expansion specified on line 287 of IDL.javacc
+            consumeToken(23);
+            break;
+            case 28:
+            // Code for expansion specified on line 289 of IDL.javacc
+            // Code for expansion specified on line 289 of IDL.javacc
+            consumeToken(28);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from unary_operator");
+    }
+
+    /* Production 23 */
+    // IDL.javacc, line 294
+    final public void primary_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 294 of IDL.javacc");
+        // Code for expansion specified on line 297 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 15:
+            case ID:
+            // Code for expansion specified on line 297 of IDL.javacc
+            // Code for scoped_name specified on line 297 of IDL.javacc
+            scoped_name();
+            break;
+            case 31:
+            case 32:
+            case OCTALINT:
+            case DECIMALINT:
+            case HEXADECIMALINT:
+            case FLOATONE:
+            case FLOATTWO:
+            case CHARACTER:
+            case STRING:
+            // Code for expansion specified on line 299 of IDL.javacc
+            // Code for literal specified on line 299 of IDL.javacc
+            literal();
+            break;
+            case 29:
+            // Code for expansion specified on line 301 of IDL.javacc
+            // Code for expansion specified on line 301 of IDL.javacc
+            consumeToken(29);
+            // Code for const_exp specified on line 301 of IDL.javacc
+            const_exp();
+            // Code for expansion specified on line 301 of IDL.javacc
+            consumeToken(30);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from primary_expr");
+    }
+
+    /* Production 24 */
+    // IDL.javacc, line 306
+    final public void literal() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 306 of IDL.javacc");
+        // Code for expansion specified on line 309 of IDL.javacc
+        switch(nextTokenKind()) {
+            case OCTALINT:
+            case DECIMALINT:
+            case HEXADECIMALINT:
+            // Code for expansion specified on line 309 of IDL.javacc
+            // Code for integer_literal specified on line 309 of IDL.javacc
+            integer_literal();
+            break;
+            case STRING:
+            // Code for expansion specified on line 311 of IDL.javacc
+            // Code for string_literal specified on line 311 of IDL.javacc
+            string_literal();
+            break;
+            case CHARACTER:
+            // Code for expansion specified on line 313 of IDL.javacc
+            // Code for character_literal specified on line 313 of IDL.javacc
+            character_literal();
+            break;
+            case FLOATONE:
+            case FLOATTWO:
+            // Code for expansion specified on line 315 of IDL.javacc
+            // Code for floating_pt_literal specified on line 315 of IDL.javacc
+            floating_pt_literal();
+            break;
+            case 31:
+            case 32:
+            // Code for expansion specified on line 317 of IDL.javacc
+            // Code for boolean_literal specified on line 317 of IDL.javacc
+            boolean_literal();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from literal");
+    }
+
+    /* Production 25 */
+    // IDL.javacc, line 322
+    final public void boolean_literal() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 322 of IDL.javacc");
+        // Code for expansion specified on line 325 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 31:
+            // Code for expansion specified on line 325 of IDL.javacc
+            // Code for expansion specified on line 325 of IDL.javacc
+            consumeToken(31);
+            break;
+            case 32:
+            // Code for expansion specified on line 327 of IDL.javacc
+            // Code for expansion specified on line 327 of IDL.javacc
+            consumeToken(32);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from boolean_literal");
+    }
+
+    /* Production 26 */
+    // IDL.javacc, line 332
+    final public void positive_int_const() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 332 of IDL.javacc");
+        // Code for expansion specified on line 335 of IDL.javacc
+        // Code for const_exp specified on line 335 of IDL.javacc
+        const_exp();
+        if (trace_enabled) LOGGER.info("Exiting normally from positive_int_const");
+    }
+
+    /* Production 27 */
+    // IDL.javacc, line 340
+    final public void type_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 340 of IDL.javacc");
+        // Code for expansion specified on line 343 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 33:
+            // Code for expansion specified on line 343 of IDL.javacc
+            // Code for expansion specified on line 343 of IDL.javacc
+            consumeToken(33);
+            // Code for type_declarator specified on line 343 of IDL.javacc
+            type_declarator();
+            break;
+            case 43:
+            // Code for expansion specified on line 345 of IDL.javacc
+            // Code for struct_type specified on line 345 of IDL.javacc
+            struct_type();
+            break;
+            case 44:
+            // Code for expansion specified on line 347 of IDL.javacc
+            // Code for union_type specified on line 347 of IDL.javacc
+            union_type();
+            break;
+            case 48:
+            // Code for expansion specified on line 349 of IDL.javacc
+            // Code for enum_type specified on line 349 of IDL.javacc
+            enum_type();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from type_dcl");
+    }
+
+    /* Production 28 */
+    // IDL.javacc, line 354
+    final public void type_declarator() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 354 of IDL.javacc");
+        // Code for expansion specified on line 357 of IDL.javacc
+        // Code for type_spec specified on line 357 of IDL.javacc
+        type_spec();
+        // Code for declarators specified on line 357 of IDL.javacc
+        declarators();
+        if (trace_enabled) LOGGER.info("Exiting normally from type_declarator");
+    }
+
+    /* Production 29 */
+    // IDL.javacc, line 362
+    final public void type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 362 of IDL.javacc");
+        // Code for expansion specified on line 365 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 15:
+            case 34:
+            case 35:
+            case 36:
+            case 37:
+            case 38:
+            case 39:
+            case 40:
+            case 41:
+            case 42:
+            case 49:
+            case 52:
+            case ID:
+            // Code for expansion specified on line 365 of IDL.javacc
+            // Code for simple_type_spec specified on line 365 of IDL.javacc
+            simple_type_spec();
+            break;
+            case 43:
+            case 44:
+            case 48:
+            // Code for expansion specified on line 367 of IDL.javacc
+            // Code for constr_type_spec specified on line 367 of IDL.javacc
+            constr_type_spec();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from type_spec");
+    }
+
+    /* Production 30 */
+    // IDL.javacc, line 372
+    final public void simple_type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 372 of IDL.javacc");
+        // Code for expansion specified on line 375 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 34:
+            case 35:
+            case 36:
+            case 37:
+            case 38:
+            case 39:
+            case 40:
+            case 41:
+            case 42:
+            // Code for expansion specified on line 375 of IDL.javacc
+            // Code for base_type_spec specified on line 375 of IDL.javacc
+            base_type_spec();
+            break;
+            case 49:
+            case 52:
+            // Code for expansion specified on line 377 of IDL.javacc
+            // Code for template_type_spec specified on line 377 of IDL.javacc
+            template_type_spec();
+            break;
+            case 15:
+            case ID:
+            // Code for expansion specified on line 379 of IDL.javacc
+            // Code for scoped_name specified on line 379 of IDL.javacc
+            scoped_name();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from simple_type_spec");
+    }
+
+    /* Production 31 */
+    // IDL.javacc, line 384
+    final public void base_type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 384 of IDL.javacc");
+        // Code for expansion specified on line 387 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 34:
+            case 35:
+            // Code for expansion specified on line 387 of IDL.javacc
+            // Code for floating_pt_type specified on line 387 of IDL.javacc
+            floating_pt_type();
+            break;
+            case 36:
+            case 37:
+            case 38:
+            // Code for expansion specified on line 389 of IDL.javacc
+            // Code for integer_type specified on line 389 of IDL.javacc
+            integer_type();
+            break;
+            case 39:
+            // Code for expansion specified on line 391 of IDL.javacc
+            // Code for char_type specified on line 391 of IDL.javacc
+            char_type();
+            break;
+            case 40:
+            // Code for expansion specified on line 393 of IDL.javacc
+            // Code for boolean_type specified on line 393 of IDL.javacc
+            boolean_type();
+            break;
+            case 41:
+            // Code for expansion specified on line 395 of IDL.javacc
+            // Code for octet_type specified on line 395 of IDL.javacc
+            octet_type();
+            break;
+            case 42:
+            // Code for expansion specified on line 397 of IDL.javacc
+            // Code for any_type specified on line 397 of IDL.javacc
+            any_type();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from base_type_spec");
+    }
+
+    /* Production 32 */
+    // IDL.javacc, line 402
+    final public void template_type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 402 of IDL.javacc");
+        // Code for expansion specified on line 405 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 49:
+            // Code for expansion specified on line 405 of IDL.javacc
+            // Code for sequence_type specified on line 405 of IDL.javacc
+            sequence_type();
+            break;
+            case 52:
+            // Code for expansion specified on line 407 of IDL.javacc
+            // Code for string_type specified on line 407 of IDL.javacc
+            string_type();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from template_type_spec");
+    }
+
+    /* Production 33 */
+    // IDL.javacc, line 412
+    final public void constr_type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 412 of IDL.javacc");
+        // Code for expansion specified on line 415 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 43:
+            // Code for expansion specified on line 415 of IDL.javacc
+            // Code for struct_type specified on line 415 of IDL.javacc
+            struct_type();
+            break;
+            case 44:
+            // Code for expansion specified on line 417 of IDL.javacc
+            // Code for union_type specified on line 417 of IDL.javacc
+            union_type();
+            break;
+            case 48:
+            // Code for expansion specified on line 419 of IDL.javacc
+            // Code for enum_type specified on line 419 of IDL.javacc
+            enum_type();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from constr_type_spec");
+    }
+
+    /* Production 34 */
+    // IDL.javacc, line 424
+    final public void declarators() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 424 of IDL.javacc");
+        // Code for expansion specified on line 427 of IDL.javacc
+        // Code for declarator specified on line 427 of IDL.javacc
+        declarator();
+        // Code for expansion specified on line 427 of IDL.javacc
+        label_16:
+        while (true) {
+            int int15=nextTokenKind();
+            if (!(int15==14)) {
+                break label_16;
+            }
+            // Code for expansion specified on line 427 of IDL.javacc
+            // Code for expansion specified on line 427 of IDL.javacc
+            consumeToken(14);
+            // Code for declarator specified on line 427 of IDL.javacc
+            declarator();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from declarators");
+    }
+
+    /* Production 35 */
+    // IDL.javacc, line 432
+    final public void declarator() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 432 of IDL.javacc");
+        // Code for expansion specified on line 435 of IDL.javacc
+        if (phase2_16_IDL_javacc_line_435(2)) {
+            // Code for expansion specified on line 435 of IDL.javacc
+            // Code for complex_declarator specified on line 436 of IDL.javacc
+            complex_declarator();
+        }
+        else {
+            switch(nextTokenKind()) {
+                case ID:
+                // Code for expansion specified on line 438 of IDL.javacc
+                // Code for simple_declarator specified on line 438 of IDL.javacc
+                simple_declarator();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from declarator");
+    }
+
+    /* Production 36 */
+    // IDL.javacc, line 443
+    final public void simple_declarator() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 443 of IDL.javacc");
+        // Code for expansion specified on line 446 of IDL.javacc
+        // Code for identifier specified on line 446 of IDL.javacc
+        identifier();
+        if (trace_enabled) LOGGER.info("Exiting normally from simple_declarator");
+    }
+
+    /* Production 37 */
+    // IDL.javacc, line 451
+    final public void complex_declarator() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 451 of IDL.javacc");
+        // Code for expansion specified on line 454 of IDL.javacc
+        // Code for array_declarator specified on line 454 of IDL.javacc
+        array_declarator();
+        if (trace_enabled) LOGGER.info("Exiting normally from complex_declarator");
+    }
+
+    /* Production 38 */
+    // IDL.javacc, line 459
+    final public void floating_pt_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 459 of IDL.javacc");
+        // Code for expansion specified on line 462 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 34:
+            // Code for expansion specified on line 462 of IDL.javacc
+            // Code for expansion specified on line 462 of IDL.javacc
+            consumeToken(34);
+            break;
+            case 35:
+            // Code for expansion specified on line 464 of IDL.javacc
+            // Code for expansion specified on line 464 of IDL.javacc
+            consumeToken(35);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from floating_pt_type");
+    }
+
+    /* Production 39 */
+    // IDL.javacc, line 469
+    final public void integer_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 469 of IDL.javacc");
+        // Code for expansion specified on line 472 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 36:
+            case 37:
+            // Code for expansion specified on line 472 of IDL.javacc
+            // Code for signed_int specified on line 472 of IDL.javacc
+            signed_int();
+            break;
+            case 38:
+            // Code for expansion specified on line 474 of IDL.javacc
+            // Code for unsigned_int specified on line 474 of IDL.javacc
+            unsigned_int();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from integer_type");
+    }
+
+    /* Production 40 */
+    // IDL.javacc, line 479
+    final public void signed_int() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 479 of IDL.javacc");
+        // Code for expansion specified on line 482 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 36:
+            // Code for expansion specified on line 482 of IDL.javacc
+            // Code for signed_long_int specified on line 482 of IDL.javacc
+            signed_long_int();
+            break;
+            case 37:
+            // Code for expansion specified on line 484 of IDL.javacc
+            // Code for signed_short_int specified on line 484 of IDL.javacc
+            signed_short_int();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from signed_int");
+    }
+
+    /* Production 41 */
+    // IDL.javacc, line 489
+    final public void signed_long_int() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 489 of IDL.javacc");
+        // Code for expansion specified on line 492 of IDL.javacc
+        // Code for expansion specified on line 492 of IDL.javacc
+        consumeToken(36);
+        if (trace_enabled) LOGGER.info("Exiting normally from signed_long_int");
+    }
+
+    /* Production 42 */
+    // IDL.javacc, line 497
+    final public void signed_short_int() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 497 of IDL.javacc");
+        // Code for expansion specified on line 500 of IDL.javacc
+        // Code for expansion specified on line 500 of IDL.javacc
+        consumeToken(37);
+        if (trace_enabled) LOGGER.info("Exiting normally from signed_short_int");
+    }
+
+    /* Production 43 */
+    // IDL.javacc, line 505
+    final public void unsigned_int() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 505 of IDL.javacc");
+        // Code for expansion specified on line 508 of IDL.javacc
+        if (phase2_17_IDL_javacc_line_508(2)) {
+            // Code for expansion specified on line 508 of IDL.javacc
+            // Code for unsigned_long_int specified on line 509 of IDL.javacc
+            unsigned_long_int();
+        }
+        else {
+            switch(nextTokenKind()) {
+                case 38:
+                // Code for expansion specified on line 511 of IDL.javacc
+                // Code for unsigned_short_int specified on line 511 of IDL.javacc
+                unsigned_short_int();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from unsigned_int");
+    }
+
+    /* Production 44 */
+    // IDL.javacc, line 516
+    final public void unsigned_long_int() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 516 of IDL.javacc");
+        // Code for expansion specified on line 519 of IDL.javacc
+        // Code for expansion specified on line 519 of IDL.javacc
+        consumeToken(38);
+        // Code for expansion specified on line 519 of IDL.javacc
+        consumeToken(36);
+        if (trace_enabled) LOGGER.info("Exiting normally from unsigned_long_int");
+    }
+
+    /* Production 45 */
+    // IDL.javacc, line 524
+    final public void unsigned_short_int() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 524 of IDL.javacc");
+        // Code for expansion specified on line 527 of IDL.javacc
+        // Code for expansion specified on line 527 of IDL.javacc
+        consumeToken(38);
+        // Code for expansion specified on line 527 of IDL.javacc
+        consumeToken(37);
+        if (trace_enabled) LOGGER.info("Exiting normally from unsigned_short_int");
+    }
+
+    /* Production 46 */
+    // IDL.javacc, line 532
+    final public void char_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 532 of IDL.javacc");
+        // Code for expansion specified on line 535 of IDL.javacc
+        // Code for expansion specified on line 535 of IDL.javacc
+        consumeToken(39);
+        if (trace_enabled) LOGGER.info("Exiting normally from char_type");
+    }
+
+    /* Production 47 */
+    // IDL.javacc, line 540
+    final public void boolean_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 540 of IDL.javacc");
+        // Code for expansion specified on line 543 of IDL.javacc
+        // Code for expansion specified on line 543 of IDL.javacc
+        consumeToken(40);
+        if (trace_enabled) LOGGER.info("Exiting normally from boolean_type");
+    }
+
+    /* Production 48 */
+    // IDL.javacc, line 548
+    final public void octet_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 548 of IDL.javacc");
+        // Code for expansion specified on line 551 of IDL.javacc
+        // Code for expansion specified on line 551 of IDL.javacc
+        consumeToken(41);
+        if (trace_enabled) LOGGER.info("Exiting normally from octet_type");
+    }
+
+    /* Production 49 */
+    // IDL.javacc, line 556
+    final public void any_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 556 of IDL.javacc");
+        // Code for expansion specified on line 559 of IDL.javacc
+        // Code for expansion specified on line 559 of IDL.javacc
+        consumeToken(42);
+        if (trace_enabled) LOGGER.info("Exiting normally from any_type");
+    }
+
+    /* Production 50 */
+    // IDL.javacc, line 564
+    final public void struct_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 564 of IDL.javacc");
+        // Code for expansion specified on line 567 of IDL.javacc
+        // Code for expansion specified on line 567 of IDL.javacc
+        consumeToken(43);
+        // Code for identifier specified on line 567 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 567 of IDL.javacc
+        consumeToken(10);
+        // Code for member_list specified on line 567 of IDL.javacc
+        member_list();
+        // Code for expansion specified on line 567 of IDL.javacc
+        consumeToken(11);
+        if (trace_enabled) LOGGER.info("Exiting normally from struct_type");
+    }
+
+    /* Production 51 */
+    // IDL.javacc, line 572
+    final public void member_list() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 572 of IDL.javacc");
+        // Code for expansion specified on line 575 of IDL.javacc
+        // Code for expansion specified on line 575 of IDL.javacc
+        label_19:
+        while (true) {
+            // Code for expansion specified on line 575 of IDL.javacc
+            // Code for member specified on line 575 of IDL.javacc
+            member();
+            int int16=nextTokenKind();
+            if (!(int16>=0&&(jj_first_set_2[int16>>6]&(1L<<int16))!=0L)) {
+                break label_19;
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from member_list");
+    }
+
+    /* Production 52 */
+    // IDL.javacc, line 580
+    final public void member() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 580 of IDL.javacc");
+        // Code for expansion specified on line 583 of IDL.javacc
+        // Code for type_spec specified on line 583 of IDL.javacc
+        type_spec();
+        // Code for declarators specified on line 583 of IDL.javacc
+        declarators();
+        // Code for expansion specified on line 583 of IDL.javacc
+        consumeToken(8);
+        if (trace_enabled) LOGGER.info("Exiting normally from member");
+    }
+
+    /* Production 53 */
+    // IDL.javacc, line 588
+    final public void union_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 588 of IDL.javacc");
+        // Code for expansion specified on line 591 of IDL.javacc
+        // Code for expansion specified on line 591 of IDL.javacc
+        consumeToken(44);
+        // Code for identifier specified on line 591 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 591 of IDL.javacc
+        consumeToken(45);
+        // Code for expansion specified on line 591 of IDL.javacc
+        consumeToken(29);
+        // Code for switch_type_spec specified on line 591 of IDL.javacc
+        switch_type_spec();
+        // Code for expansion specified on line 591 of IDL.javacc
+        consumeToken(30);
+        // Code for expansion specified on line 591 of IDL.javacc
+        consumeToken(10);
+        // Code for switch_body specified on line 591 of IDL.javacc
+        switch_body();
+        // Code for expansion specified on line 591 of IDL.javacc
+        consumeToken(11);
+        if (trace_enabled) LOGGER.info("Exiting normally from union_type");
+    }
+
+    /* Production 54 */
+    // IDL.javacc, line 596
+    final public void switch_type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 596 of IDL.javacc");
+        // Code for expansion specified on line 599 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 36:
+            case 37:
+            case 38:
+            // Code for expansion specified on line 599 of IDL.javacc
+            // Code for integer_type specified on line 599 of IDL.javacc
+            integer_type();
+            break;
+            case 39:
+            // Code for expansion specified on line 601 of IDL.javacc
+            // Code for char_type specified on line 601 of IDL.javacc
+            char_type();
+            break;
+            case 40:
+            // Code for expansion specified on line 603 of IDL.javacc
+            // Code for boolean_type specified on line 603 of IDL.javacc
+            boolean_type();
+            break;
+            case 48:
+            // Code for expansion specified on line 605 of IDL.javacc
+            // Code for enum_type specified on line 605 of IDL.javacc
+            enum_type();
+            break;
+            case 15:
+            case ID:
+            // Code for expansion specified on line 607 of IDL.javacc
+            // Code for scoped_name specified on line 607 of IDL.javacc
+            scoped_name();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from switch_type_spec");
+    }
+
+    /* Production 55 */
+    // IDL.javacc, line 612
+    final public void switch_body() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 612 of IDL.javacc");
+        // Code for expansion specified on line 615 of IDL.javacc
+        // Code for expansion specified on line 615 of IDL.javacc
+        label_20:
+        while (true) {
+            // Code for expansion specified on line 615 of IDL.javacc
+            // Code for casex specified on line 615 of IDL.javacc
+            casex();
+            int int17=nextTokenKind();
+            if (!(int17==46||int17==47)) {
+                break label_20;
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from switch_body");
+    }
+
+    /* Production 56 */
+    // IDL.javacc, line 620
+    final public void casex() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 620 of IDL.javacc");
+        // Code for expansion specified on line 623 of IDL.javacc
+        // Code for expansion specified on line 623 of IDL.javacc
+        label_21:
+        while (true) {
+            // Code for expansion specified on line 623 of IDL.javacc
+            // Code for case_label specified on line 623 of IDL.javacc
+            case_label();
+            int int18=nextTokenKind();
+            if (!(int18==46||int18==47)) {
+                break label_21;
+            }
+        }
+        // Code for element_spec specified on line 623 of IDL.javacc
+        element_spec();
+        // Code for expansion specified on line 623 of IDL.javacc
+        consumeToken(8);
+        if (trace_enabled) LOGGER.info("Exiting normally from casex");
+    }
+
+    /* Production 57 */
+    // IDL.javacc, line 628
+    final public void case_label() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 628 of IDL.javacc");
+        // Code for expansion specified on line 631 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 46:
+            // Code for expansion specified on line 631 of IDL.javacc
+            // Code for expansion specified on line 631 of IDL.javacc
+            consumeToken(46);
+            // Code for const_exp specified on line 631 of IDL.javacc
+            const_exp();
+            // Code for expansion specified on line 631 of IDL.javacc
+            consumeToken(13);
+            break;
+            case 47:
+            // Code for expansion specified on line 633 of IDL.javacc
+            // Code for expansion specified on line 633 of IDL.javacc
+            consumeToken(47);
+            // Code for expansion specified on line 633 of IDL.javacc
+            consumeToken(13);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from case_label");
+    }
+
+    /* Production 58 */
+    // IDL.javacc, line 638
+    final public void element_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 638 of IDL.javacc");
+        // Code for expansion specified on line 641 of IDL.javacc
+        // Code for type_spec specified on line 641 of IDL.javacc
+        type_spec();
+        // Code for declarator specified on line 641 of IDL.javacc
+        declarator();
+        if (trace_enabled) LOGGER.info("Exiting normally from element_spec");
+    }
+
+    /* Production 59 */
+    // IDL.javacc, line 646
+    final public void enum_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 646 of IDL.javacc");
+        // Code for expansion specified on line 649 of IDL.javacc
+        // Code for expansion specified on line 649 of IDL.javacc
+        consumeToken(48);
+        // Code for identifier specified on line 649 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 649 of IDL.javacc
+        consumeToken(10);
+        // Code for enumerator specified on line 649 of IDL.javacc
+        enumerator();
+        // Code for expansion specified on line 649 of IDL.javacc
+        label_22:
+        while (true) {
+            int int19=nextTokenKind();
+            if (!(int19==14)) {
+                break label_22;
+            }
+            // Code for expansion specified on line 649 of IDL.javacc
+            // Code for expansion specified on line 649 of IDL.javacc
+            consumeToken(14);
+            // Code for enumerator specified on line 649 of IDL.javacc
+            enumerator();
+        }
+        // Code for expansion specified on line 649 of IDL.javacc
+        consumeToken(11);
+        if (trace_enabled) LOGGER.info("Exiting normally from enum_type");
+    }
+
+    /* Production 60 */
+    // IDL.javacc, line 654
+    final public void enumerator() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 654 of IDL.javacc");
+        // Code for expansion specified on line 657 of IDL.javacc
+        // Code for identifier specified on line 657 of IDL.javacc
+        identifier();
+        if (trace_enabled) LOGGER.info("Exiting normally from enumerator");
+    }
+
+    /* Production 61 */
+    // IDL.javacc, line 662
+    final public void sequence_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 662 of IDL.javacc");
+        // Code for expansion specified on line 665 of IDL.javacc
+        // Code for expansion specified on line 665 of IDL.javacc
+        consumeToken(49);
+        // Code for expansion specified on line 665 of IDL.javacc
+        consumeToken(50);
+        // Code for simple_type_spec specified on line 665 of IDL.javacc
+        simple_type_spec();
+        // Code for expansion specified on line 665 of IDL.javacc
+        int int20=nextTokenKind();
+        if (int20==14) {
+            // Code for expansion specified on line 665 of IDL.javacc
+            // Code for expansion specified on line 665 of IDL.javacc
+            consumeToken(14);
+            // Code for positive_int_const specified on line 665 of IDL.javacc
+            positive_int_const();
+        }
+        // Code for expansion specified on line 665 of IDL.javacc
+        consumeToken(51);
+        if (trace_enabled) LOGGER.info("Exiting normally from sequence_type");
+    }
+
+    /* Production 62 */
+    // IDL.javacc, line 670
+    final public void string_type() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 670 of IDL.javacc");
+        // Code for expansion specified on line 673 of IDL.javacc
+        // Code for expansion specified on line 673 of IDL.javacc
+        consumeToken(52);
+        // Code for expansion specified on line 673 of IDL.javacc
+        int int21=nextTokenKind();
+        if (int21==50) {
+            // Code for expansion specified on line 673 of IDL.javacc
+            // Code for expansion specified on line 673 of IDL.javacc
+            consumeToken(50);
+            // Code for positive_int_const specified on line 673 of IDL.javacc
+            positive_int_const();
+            // Code for expansion specified on line 673 of IDL.javacc
+            consumeToken(51);
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from string_type");
+    }
+
+    /* Production 63 */
+    // IDL.javacc, line 678
+    final public void array_declarator() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 678 of IDL.javacc");
+        // Code for expansion specified on line 681 of IDL.javacc
+        // Code for identifier specified on line 681 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 681 of IDL.javacc
+        label_25:
+        while (true) {
+            // Code for expansion specified on line 681 of IDL.javacc
+            // Code for fixed_array_size specified on line 681 of IDL.javacc
+            fixed_array_size();
+            int int22=nextTokenKind();
+            if (!(int22==53)) {
+                break label_25;
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from array_declarator");
+    }
+
+    /* Production 64 */
+    // IDL.javacc, line 686
+    final public void fixed_array_size() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 686 of IDL.javacc");
+        // Code for expansion specified on line 689 of IDL.javacc
+        // Code for expansion specified on line 689 of IDL.javacc
+        consumeToken(53);
+        // Code for positive_int_const specified on line 689 of IDL.javacc
+        positive_int_const();
+        // Code for expansion specified on line 689 of IDL.javacc
+        consumeToken(54);
+        if (trace_enabled) LOGGER.info("Exiting normally from fixed_array_size");
+    }
+
+    /* Production 65 */
+    // IDL.javacc, line 694
+    final public void attr_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 694 of IDL.javacc");
+        // Code for expansion specified on line 697 of IDL.javacc
+        // Code for expansion specified on line 697 of IDL.javacc
+        int int23=nextTokenKind();
+        if (int23==55) {
+            // Code for expansion specified on line 697 of IDL.javacc
+            // Code for expansion specified on line 697 of IDL.javacc
+            consumeToken(55);
+        }
+        // Code for expansion specified on line 697 of IDL.javacc
+        consumeToken(56);
+        // Code for param_type_spec specified on line 697 of IDL.javacc
+        param_type_spec();
+        // Code for simple_declarator specified on line 697 of IDL.javacc
+        simple_declarator();
+        // Code for expansion specified on line 697 of IDL.javacc
+        label_27:
+        while (true) {
+            int int24=nextTokenKind();
+            if (!(int24==14)) {
+                break label_27;
+            }
+            // Code for expansion specified on line 697 of IDL.javacc
+            // Code for expansion specified on line 697 of IDL.javacc
+            consumeToken(14);
+            // Code for simple_declarator specified on line 697 of IDL.javacc
+            simple_declarator();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from attr_dcl");
+    }
+
+    /* Production 66 */
+    // IDL.javacc, line 702
+    final public void except_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 702 of IDL.javacc");
+        // Code for expansion specified on line 705 of IDL.javacc
+        // Code for expansion specified on line 705 of IDL.javacc
+        consumeToken(57);
+        // Code for identifier specified on line 705 of IDL.javacc
+        identifier();
+        // Code for expansion specified on line 705 of IDL.javacc
+        consumeToken(10);
+        // Code for expansion specified on line 705 of IDL.javacc
+        label_28:
+        while (true) {
+            int int25=nextTokenKind();
+            if (!(int25>=0&&(jj_first_set_2[int25>>6]&(1L<<int25))!=0L)) {
+                break label_28;
+            }
+            // Code for expansion specified on line 705 of IDL.javacc
+            // Code for member specified on line 705 of IDL.javacc
+            member();
+        }
+        // Code for expansion specified on line 705 of IDL.javacc
+        consumeToken(11);
+        if (trace_enabled) LOGGER.info("Exiting normally from except_dcl");
+    }
+
+    /* Production 67 */
+    // IDL.javacc, line 710
+    final public void op_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 710 of IDL.javacc");
+        // Code for expansion specified on line 713 of IDL.javacc
+        // Code for expansion specified on line 713 of IDL.javacc
+        int int26=nextTokenKind();
+        if (int26==58) {
+            // Code for expansion specified on line 713 of IDL.javacc
+            // Code for op_attribute specified on line 713 of IDL.javacc
+            op_attribute();
+        }
+        // Code for op_type_spec specified on line 713 of IDL.javacc
+        op_type_spec();
+        // Code for identifier specified on line 713 of IDL.javacc
+        identifier();
+        // Code for parameter_dcls specified on line 713 of IDL.javacc
+        parameter_dcls();
+        // Code for expansion specified on line 713 of IDL.javacc
+        int int27=nextTokenKind();
+        if (int27==63) {
+            // Code for expansion specified on line 713 of IDL.javacc
+            // Code for raises_expr specified on line 713 of IDL.javacc
+            raises_expr();
+        }
+        // Code for expansion specified on line 713 of IDL.javacc
+        int int28=nextTokenKind();
+        if (int28==64) {
+            // Code for expansion specified on line 713 of IDL.javacc
+            // Code for context_expr specified on line 713 of IDL.javacc
+            context_expr();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from op_dcl");
+    }
+
+    /* Production 68 */
+    // IDL.javacc, line 718
+    final public void op_attribute() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 718 of IDL.javacc");
+        // Code for expansion specified on line 721 of IDL.javacc
+        // Code for expansion specified on line 721 of IDL.javacc
+        consumeToken(58);
+        if (trace_enabled) LOGGER.info("Exiting normally from op_attribute");
+    }
+
+    /* Production 69 */
+    // IDL.javacc, line 726
+    final public void op_type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 726 of IDL.javacc");
+        // Code for expansion specified on line 729 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 15:
+            case 34:
+            case 35:
+            case 36:
+            case 37:
+            case 38:
+            case 39:
+            case 40:
+            case 41:
+            case 42:
+            case 52:
+            case ID:
+            // Code for expansion specified on line 729 of IDL.javacc
+            // Code for param_type_spec specified on line 729 of IDL.javacc
+            param_type_spec();
+            break;
+            case 59:
+            // Code for expansion specified on line 731 of IDL.javacc
+            // Code for expansion specified on line 731 of IDL.javacc
+            consumeToken(59);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from op_type_spec");
+    }
+
+    /* Production 70 */
+    // IDL.javacc, line 736
+    final public void parameter_dcls() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 736 of IDL.javacc");
+        // Code for expansion specified on line 739 of IDL.javacc
+        // Code for expansion specified on line 739 of IDL.javacc
+        consumeToken(29);
+        // Code for expansion specified on line 739 of IDL.javacc
+        int int30=nextTokenKind();
+        if (int30==60||int30==61||int30==62) {
+            // Code for expansion specified on line 739 of IDL.javacc
+            // Code for param_dcl specified on line 739 of IDL.javacc
+            param_dcl();
+            // Code for expansion specified on line 739 of IDL.javacc
+            label_33:
+            while (true) {
+                int int29=nextTokenKind();
+                if (!(int29==14)) {
+                    break label_33;
+                }
+                // Code for expansion specified on line 739 of IDL.javacc
+                // Code for expansion specified on line 739 of IDL.javacc
+                consumeToken(14);
+                // Code for param_dcl specified on line 739 of IDL.javacc
+                param_dcl();
+            }
+        }
+        // Code for expansion specified on line 739 of IDL.javacc
+        consumeToken(30);
+        if (trace_enabled) LOGGER.info("Exiting normally from parameter_dcls");
+    }
+
+    /* Production 71 */
+    // IDL.javacc, line 744
+    final public void param_dcl() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 744 of IDL.javacc");
+        // Code for expansion specified on line 747 of IDL.javacc
+        // Code for param_attribute specified on line 747 of IDL.javacc
+        param_attribute();
+        // Code for param_type_spec specified on line 747 of IDL.javacc
+        param_type_spec();
+        // Code for simple_declarator specified on line 747 of IDL.javacc
+        simple_declarator();
+        if (trace_enabled) LOGGER.info("Exiting normally from param_dcl");
+    }
+
+    /* Production 72 */
+    // IDL.javacc, line 752
+    final public void param_attribute() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 752 of IDL.javacc");
+        // Code for expansion specified on line 755 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 60:
+            // Code for expansion specified on line 755 of IDL.javacc
+            // Code for expansion specified on line 755 of IDL.javacc
+            consumeToken(60);
+            break;
+            case 61:
+            // Code for expansion specified on line 757 of IDL.javacc
+            // Code for expansion specified on line 757 of IDL.javacc
+            consumeToken(61);
+            break;
+            case 62:
+            // Code for expansion specified on line 759 of IDL.javacc
+            // Code for expansion specified on line 759 of IDL.javacc
+            consumeToken(62);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from param_attribute");
+    }
+
+    /* Production 73 */
+    // IDL.javacc, line 764
+    final public void raises_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 764 of IDL.javacc");
+        // Code for expansion specified on line 767 of IDL.javacc
+        // Code for expansion specified on line 767 of IDL.javacc
+        consumeToken(63);
+        // Code for expansion specified on line 767 of IDL.javacc
+        consumeToken(29);
+        // Code for scoped_name specified on line 767 of IDL.javacc
+        scoped_name();
+        // Code for expansion specified on line 767 of IDL.javacc
+        label_34:
+        while (true) {
+            int int31=nextTokenKind();
+            if (!(int31==14)) {
+                break label_34;
+            }
+            // Code for expansion specified on line 767 of IDL.javacc
+            // Code for expansion specified on line 767 of IDL.javacc
+            consumeToken(14);
+            // Code for scoped_name specified on line 767 of IDL.javacc
+            scoped_name();
+        }
+        // Code for expansion specified on line 767 of IDL.javacc
+        consumeToken(30);
+        if (trace_enabled) LOGGER.info("Exiting normally from raises_expr");
+    }
+
+    /* Production 74 */
+    // IDL.javacc, line 772
+    final public void context_expr() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 772 of IDL.javacc");
+        // Code for expansion specified on line 775 of IDL.javacc
+        // Code for expansion specified on line 775 of IDL.javacc
+        consumeToken(64);
+        // Code for expansion specified on line 775 of IDL.javacc
+        consumeToken(29);
+        // Code for string_literal specified on line 775 of IDL.javacc
+        string_literal();
+        // Code for expansion specified on line 775 of IDL.javacc
+        label_35:
+        while (true) {
+            int int32=nextTokenKind();
+            if (!(int32==14)) {
+                break label_35;
+            }
+            // Code for expansion specified on line 775 of IDL.javacc
+            // Code for expansion specified on line 775 of IDL.javacc
+            consumeToken(14);
+            // Code for string_literal specified on line 775 of IDL.javacc
+            string_literal();
+        }
+        // Code for expansion specified on line 775 of IDL.javacc
+        consumeToken(30);
+        if (trace_enabled) LOGGER.info("Exiting normally from context_expr");
+    }
+
+    /* Production 75 */
+    // IDL.javacc, line 780
+    final public void param_type_spec() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 780 of IDL.javacc");
+        // Code for expansion specified on line 783 of IDL.javacc
+        switch(nextTokenKind()) {
+            case 34:
+            case 35:
+            case 36:
+            case 37:
+            case 38:
+            case 39:
+            case 40:
+            case 41:
+            case 42:
+            // Code for expansion specified on line 783 of IDL.javacc
+            // Code for base_type_spec specified on line 783 of IDL.javacc
+            base_type_spec();
+            break;
+            case 52:
+            // Code for expansion specified on line 785 of IDL.javacc
+            // Code for string_type specified on line 785 of IDL.javacc
+            string_type();
+            break;
+            case 15:
+            case ID:
+            // Code for expansion specified on line 787 of IDL.javacc
+            // Code for scoped_name specified on line 787 of IDL.javacc
+            scoped_name();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from param_type_spec");
+    }
+
+    /* Definitions of complex regular expressions follow */
+    // IDL.javacc, line 792
+    final public void identifier() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 792 of IDL.javacc");
+        // Code for expansion specified on line 795 of IDL.javacc
+        // Code for expansion specified on line 795 of IDL.javacc
+        consumeToken(ID);
+        if (trace_enabled) LOGGER.info("Exiting normally from identifier");
+    }
+
+    // IDL.javacc, line 798
+    final public void integer_literal() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 798 of IDL.javacc");
+        // Code for expansion specified on line 801 of IDL.javacc
+        switch(nextTokenKind()) {
+            case OCTALINT:
+            // Code for expansion specified on line 801 of IDL.javacc
+            // Code for expansion specified on line 801 of IDL.javacc
+            consumeToken(OCTALINT);
+            break;
+            case DECIMALINT:
+            // Code for expansion specified on line 803 of IDL.javacc
+            // Code for expansion specified on line 803 of IDL.javacc
+            consumeToken(DECIMALINT);
+            break;
+            case HEXADECIMALINT:
+            // Code for expansion specified on line 805 of IDL.javacc
+            // Code for expansion specified on line 805 of IDL.javacc
+            consumeToken(HEXADECIMALINT);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from integer_literal");
+    }
+
+    // IDL.javacc, line 808
+    final public void string_literal() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 808 of IDL.javacc");
+        // Code for expansion specified on line 811 of IDL.javacc
+        // Code for expansion specified on line 811 of IDL.javacc
+        consumeToken(STRING);
+        if (trace_enabled) LOGGER.info("Exiting normally from string_literal");
+    }
+
+    // IDL.javacc, line 814
+    final public void character_literal() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 814 of IDL.javacc");
+        // Code for expansion specified on line 817 of IDL.javacc
+        // Code for expansion specified on line 817 of IDL.javacc
+        consumeToken(CHARACTER);
+        if (trace_enabled) LOGGER.info("Exiting normally from character_literal");
+    }
+
+    // IDL.javacc, line 820
+    final public void floating_pt_literal() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 820 of IDL.javacc");
+        // Code for expansion specified on line 823 of IDL.javacc
+        switch(nextTokenKind()) {
+            case FLOATONE:
+            // Code for expansion specified on line 823 of IDL.javacc
+            // Code for expansion specified on line 823 of IDL.javacc
+            consumeToken(FLOATONE);
+            break;
+            case FLOATTWO:
+            // Code for expansion specified on line 825 of IDL.javacc
+            // Code for expansion specified on line 825 of IDL.javacc
+            consumeToken(FLOATTWO);
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from floating_pt_literal");
+    }
+
+    static private final long[] jj_first_set_0={0x201180200011200L,0x0L};
+    static private final long[] jj_first_set_1={0xf911ffe00018000L,0x2L};
+    static private final long[] jj_first_set_2={0x131ffc00008000L,0x2L};
+    //====================================
+    // Start of methods for Phase 2 Lookaheads
+    //====================================
+    private boolean phase2_2_IDL_javacc_line_121(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case 12:
+            switch(getToken(2).kind) {
+                case ID:
+                switch(getToken(3).kind) {
+                    case 10:
+                    case 13:
+                    return true;
+                    default:
+                    return false;
+                }
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_16_IDL_javacc_line_435(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case ID:
+            switch(getToken(2).kind) {
+                case 53:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    private boolean phase2_17_IDL_javacc_line_508(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case 38:
+            switch(getToken(2).kind) {
+                case 36:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    Token current_token;
+    private Token jj_scanpos,jj_lastpos;
+    private int jj_la;
+    private boolean semanticLookahead;
+    public IDLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public IDLParser(Reader reader) {
+        token_source=new IDLLexer(reader);
+        current_token=new Token();
+    }
+
+    /** Constructor with generated Token Manager. */
+    public IDLParser(IDLLexer lexer) {
+        token_source=lexer;
+        current_token=new Token();
+    }
+
+    private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced=false;
+        Token oldToken=current_token;
+        current_token=current_token.next;
+        if (current_token==null) {
+            current_token=token_source.getNextToken();
+        }
+        if (current_token.kind!=expectedType) {
+            handleUnexpectedTokenType(expectedType,forced,oldToken);
+        }
+        if (trace_enabled) traceConsumedToken();
+        return current_token;
+    }
+
+    private void traceConsumedToken() {
+        LOGGER.info("Consumed token of type "+tokenImage[current_token.kind]+" from "+current_token.getLocation());
+    }
+
+    private void handleUnexpectedTokenType(int expectedType,boolean forced,Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+            //	    current_token = oldToken;
+            throw new ParseException(current_token);
+        }
+    }
+
+    private String generateErrorMessage(Token t) {
+        return"Encountered an error on (or somewhere around) line "+t.getBeginLine()+", column "+t.getBeginColumn()+" of "+t.getInputSource();
+    }
+
+    @SuppressWarnings("serial")
+    static private final class LookaheadSuccess extends java.lang.Error {
+    }
+    final private LookaheadSuccess LOOKAHEAD_SUCCESS=new LookaheadSuccess();
+    private boolean jj_scan_token(int kind) {
+        if (jj_scanpos==jj_lastpos) {
+            jj_la--;
+            if (jj_scanpos.next==null) {
+                jj_lastpos=jj_scanpos=jj_scanpos.next=token_source.getNextToken();
+            }
+            else {
+                jj_lastpos=jj_scanpos=jj_scanpos.next;
+            }
+        }
+        else {
+            jj_scanpos=jj_scanpos.next;
+        }
+        if (jj_scanpos.kind!=kind) return true;
+        if (jj_la==0&&jj_scanpos==jj_lastpos) throw LOOKAHEAD_SUCCESS;
+        return false;
+    }
+
+    final public Token getNextToken() {
+        if (current_token.next!=null) current_token=current_token.next;
+        else current_token=current_token.next=token_source.getNextToken();
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        Token t=current_token;
+        for (int i=0; i<index; i++) {
+            if (t.next!=null) t=t.next;
+            else t=t.next=token_source.getNextToken();
+        }
+        return t;
+    }
+
+    private int nextTokenKind() {
+        if (current_token.next==null) {
+            current_token.next=token_source.getNextToken();
+        }
+        return current_token.next.kind;
+    }
+
+    private List<Token>getTokensToEOL(int...desiredTokenTypes) {
+        ArrayList<Token>result=new ArrayList<>();
+        int currentLine=current_token.getBeginLine();
+        Token tok=current_token;
+        do {
+            Token prevToken=tok;
+            if (tok.next!=null) {
+                tok=tok.next;
+            }
+            else {
+                tok=token_source.getNextToken();
+                prevToken.next=tok;
+            }
+            result.add(tok);
+        }
+        while (tok.getBeginLine()==currentLine&&!intArrayContains(desiredTokenTypes,tok.kind)&&tok.kind!=EOF);
+        return result;
+    }
+
+    static private boolean intArrayContains(int[] array,int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i]==elem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trace_enabled=false;
+    public void setTracingEnabled(boolean tracingEnabled) {
+        trace_enabled=tracingEnabled;
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+}
@@ -0,0 +1,54 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CalcInputConstants.java */
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface CalcInputConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int EQ = 1;
+  int ADD = 2;
+  int SUB = 3;
+  int MUL = 4;
+  int DIV = 5;
+  int DIGIT = 6;
+  int DOT = 7;
+  
+
+  String[] tokenImage = {
+      "<EOF>",
+      "<ADD>"
+,
+      "<SUB>"
+,
+      "<MUL>"
+,
+      "<DIV>"
+,
+      "\"=\""   
+,
+      "<DIGIT>"
+,
+      "<DOT>"
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "EQ",
+          "ADD",
+          "SUB",
+          "MUL",
+          "DIV",
+          "DIGIT",
+          "DOT",
+              "Input", 
+              "Number", 
+   };
+}
+
+
+
+
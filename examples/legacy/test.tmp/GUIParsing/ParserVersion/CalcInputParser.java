@@ -0,0 +1,763 @@
+/* Generated by: JavaCC 21 Parser Generator. CalcInputParser.java */
+
+
+
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+
+@SuppressWarnings("unused")
+public class CalcInputParser implements CalcInputConstants {
+
+    static final java.util.logging.Logger LOGGER = Logger.getLogger("CalcInputParser");
+    
+
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing = false;
+    public boolean isParserTolerant() {return tolerantParsing;}
+    
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        } 
+    }
+
+  private String inputSource = "input";
+  /** User defined Lexer. */
+  public Lexer token_source;
+
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean specialTokensAreNodes = false;
+
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes = specialTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor = currentNodeScope.floor;
+        currentNodeScope.floor = currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark = currentNodeScope.floor;
+        currentNodeScope.floor = Math.min(previousFloor, mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n, int mark) {
+        List<Node> children = currentNodeScope.subList(mark, currentNodeScope.size());
+        List<Node> nodes = new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n, true);
+    }
+    
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: " + n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "  +  currentNodeScope.nestingLevel());
+    }
+
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + num + " nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i=0;i<num;i++) {
+           nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+        	if (specialTokensAreNodes && (child instanceof Token)) {
+        	    Token token = (Token) child;
+        	    Token specialToken = token;
+        	    while (specialToken != null) {
+        	        specialToken = specialToken.specialToken;
+        	    }
+        	    while (specialToken !=null && specialToken != token) {
+        	        n.addChild(specialToken);
+        	        specialToken = specialToken.next;
+        	    }
+        	}
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+     
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+	 
+    public void closeNodeScope(Node n, boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + nodeArity() + " nodes off the stack.");
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+	        	if (specialTokensAreNodes && (child instanceof Token)) {
+	        	    Token token = (Token) child;
+	        	    Token specialToken = token;
+	        	    while (specialToken.specialToken !=null) {
+	        	        specialToken = specialToken.specialToken;
+	        	    }
+	        	    while (specialToken !=null && specialToken != token) {
+	        	        n.addChild(specialToken);
+	        	        specialToken = specialToken.next;
+	        	    }
+	        	}
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", there are now " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        } else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    CalcInputParser jjtree = this; 
+    
+    
+    
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope = CalcInputParser.this.currentNodeScope;
+            CalcInputParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns. parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty() ? parentScope.peek() : get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result = remove(size()-1);
+            if (size() < floor) {
+                floor = size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            CalcInputParser.this.currentNodeScope = parentScope;
+        }
+        
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+               result++;
+               parent = parent.parentScope;
+            }
+            return result;            
+        } 
+    }
+
+
+   static private final int INFINITY = Integer.MAX_VALUE;
+  //=================================
+ // Start of methods for BNF Productions
+ //=================================
+    
+
+
+// CalcInput.javacc, line 34
+    final public 
+    void
+    Input() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 34 of CalcInput.javacc");
+     
+	  double larg = 0.0;
+	  double rarg;
+	
+  // Code for expansion specified on line 40 of CalcInput.javacc
+    
+        boolean Input1forced = false;
+   Input Input1 = null;
+   if (buildTree) {
+       Input1 = new Input();
+       Token start = getToken(1);
+       Input1.setBeginLine(start.beginLine);
+       Input1.setBeginColumn(start.beginColumn);
+       Input1.setInputSource(this.getInputSource());
+	    openNodeScope(Input1);
+  }
+          ParseException parseException1 = null;
+         try {
+  // Code for expansion specified on line 77 of CalcInput.javacc
+    label_1:
+    while (true) {
+   int int1
+      = nextTokenKind()
+   ;
+         if (!(             int1 >= 0 && (jj_first_set_0[int1 >> 6] & (1L << int1)) != 0L
+)) {
+            break label_1;
+         }
+  // Code for expansion specified on line 41 of CalcInput.javacc
+  // Code for expansion specified on line 41 of CalcInput.javacc
+   int int2
+      = nextTokenKind()
+   ;
+         if (             int2 == DIGIT || 
+             int2 == DOT 
+) {
+              // Code for expansion specified on line 42 of CalcInput.javacc
+  // Code for Number specified on line 42 of CalcInput.javacc
+       
+      larg = Number();
+  // Code for expansion specified on line 43 of CalcInput.javacc
+       
+	  CalcGUI.print(larg);
+	
+
+         }
+  // Code for expansion specified on line 75 of CalcInput.javacc
+    label_3:
+    while (true) {
+   int int3
+      = nextTokenKind()
+   ;
+         if (!(             int3 >= 0 && (jj_first_set_1[int3 >> 6] & (1L << int3)) != 0L
+)) {
+            break label_3;
+         }
+  // Code for expansion specified on line 48 of CalcInput.javacc
+                 switch (nextTokenKind()) { 
+                 case ADD: 
+                      // Code for expansion specified on line 48 of CalcInput.javacc
+  // Code for expansion specified on line 48 of CalcInput.javacc
+       consumeToken(ADD);
+  // Code for Number specified on line 49 of CalcInput.javacc
+       
+      rarg = Number();
+  // Code for expansion specified on line 50 of CalcInput.javacc
+       
+	  larg = larg + rarg;
+	  CalcGUI.print(larg);
+	
+
+                    break;
+                 case SUB: 
+                      // Code for expansion specified on line 55 of CalcInput.javacc
+  // Code for expansion specified on line 55 of CalcInput.javacc
+       consumeToken(SUB);
+  // Code for Number specified on line 56 of CalcInput.javacc
+       
+      rarg = Number();
+  // Code for expansion specified on line 57 of CalcInput.javacc
+       
+	  larg = larg - rarg;
+	  CalcGUI.print(larg);
+	
+
+                    break;
+                 case MUL: 
+                      // Code for expansion specified on line 62 of CalcInput.javacc
+  // Code for expansion specified on line 62 of CalcInput.javacc
+       consumeToken(MUL);
+  // Code for Number specified on line 63 of CalcInput.javacc
+       
+      rarg = Number();
+  // Code for expansion specified on line 64 of CalcInput.javacc
+       
+	  larg = larg * rarg;
+	  CalcGUI.print(larg);
+	
+
+                    break;
+                 case DIV: 
+                      // Code for expansion specified on line 69 of CalcInput.javacc
+  // Code for expansion specified on line 69 of CalcInput.javacc
+       consumeToken(DIV);
+  // Code for Number specified on line 70 of CalcInput.javacc
+       
+      rarg = Number();
+  // Code for expansion specified on line 71 of CalcInput.javacc
+       
+	  larg = (rarg==0) ? Float.POSITIVE_INFINITY : (larg / rarg);
+	  CalcGUI.print(larg);
+	
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+    }
+  // Code for expansion specified on line 76 of CalcInput.javacc
+       consumeToken(EQ);
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from Input");
+         }
+         catch (ParseException e) { 
+             parseException1 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException1 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException1.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Input1.setEndLine(current_token.getEndLine());
+		              Input1.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Input1, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// CalcInput.javacc, line 80
+    final public 
+    double
+    Number() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 80 of CalcInput.javacc");
+     
+	  Token t;
+	  String image = "";
+	  double value = 0.0;
+	  double decimalPlace = 1.0;
+	
+  // Code for expansion specified on line 88 of CalcInput.javacc
+    
+        boolean Number2forced = false;
+   Number Number2 = null;
+   if (buildTree) {
+       Number2 = new Number();
+       Token start = getToken(1);
+       Number2.setBeginLine(start.beginLine);
+       Number2.setBeginColumn(start.beginColumn);
+       Number2.setInputSource(this.getInputSource());
+	    openNodeScope(Number2);
+  }
+          ParseException parseException2 = null;
+         try {
+                 switch (nextTokenKind()) { 
+                 case DIGIT: 
+                      // Code for expansion specified on line 88 of CalcInput.javacc
+  // Code for expansion specified on line 95 of CalcInput.javacc
+   label_4:
+   while (true) {
+  // Code for expansion specified on line 89 of CalcInput.javacc
+  // Code for expansion specified on line 89 of CalcInput.javacc
+          
+    t =  
+       consumeToken(DIGIT);
+  // Code for expansion specified on line 90 of CalcInput.javacc
+       
+	  image += t.image;
+	  value = value*10 + Integer.parseInt(t.image);
+	  CalcGUI.print(image);
+	
+   int int4
+      = nextTokenKind()
+   ;
+         if (!(             int4 == DIGIT 
+)) {
+            break label_4;
+         }
+   }
+  // Code for expansion specified on line 96 of CalcInput.javacc
+   int int6
+      = nextTokenKind()
+   ;
+         if (             int6 == DOT 
+) {
+              // Code for expansion specified on line 97 of CalcInput.javacc
+  // Code for expansion specified on line 97 of CalcInput.javacc
+       consumeToken(DOT);
+  // Code for expansion specified on line 98 of CalcInput.javacc
+       
+	  image += ".";
+	  CalcGUI.print(image);
+	
+  // Code for expansion specified on line 110 of CalcInput.javacc
+   label_6:
+   while (true) {
+  // Code for expansion specified on line 103 of CalcInput.javacc
+  // Code for expansion specified on line 103 of CalcInput.javacc
+          
+      t =  
+       consumeToken(DIGIT);
+  // Code for expansion specified on line 104 of CalcInput.javacc
+       
+	  image += t.image;
+	  decimalPlace *= 0.1;
+	  value = value + Integer.parseInt(t.image)*decimalPlace;
+	  CalcGUI.print(image);
+	
+   int int5
+      = nextTokenKind()
+   ;
+         if (!(             int5 == DIGIT 
+)) {
+            break label_6;
+         }
+   }
+
+         }
+  // Code for expansion specified on line 112 of CalcInput.javacc
+       
+	  return value;
+	
+
+                 case DOT: 
+                      // Code for expansion specified on line 116 of CalcInput.javacc
+  // Code for expansion specified on line 116 of CalcInput.javacc
+       consumeToken(DOT);
+  // Code for expansion specified on line 117 of CalcInput.javacc
+       
+	  image = "0.";
+	  CalcGUI.print(image);
+	
+  // Code for expansion specified on line 129 of CalcInput.javacc
+   label_7:
+   while (true) {
+  // Code for expansion specified on line 122 of CalcInput.javacc
+  // Code for expansion specified on line 122 of CalcInput.javacc
+          
+    t =  
+       consumeToken(DIGIT);
+  // Code for expansion specified on line 123 of CalcInput.javacc
+       
+	  image += t.image;
+	  decimalPlace *= 0.1;
+	  value = value + Integer.parseInt(t.image)*decimalPlace;
+	  CalcGUI.print(image);
+	
+   int int7
+      = nextTokenKind()
+   ;
+         if (!(             int7 == DIGIT 
+)) {
+            break label_7;
+         }
+   }
+  // Code for expansion specified on line 130 of CalcInput.javacc
+       
+	  return value;
+	
+
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+         }
+         catch (ParseException e) { 
+             parseException2 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException2 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException2.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Number2.setEndLine(current_token.getEndLine());
+		              Number2.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Number2, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+   static private final long[] jj_first_set_0 = {0xfeL};
+   static private final long[] jj_first_set_1 = {0x3cL};
+
+
+  
+
+  Token current_token;
+
+
+
+  /** Constructor with user supplied Lexer. */
+  public CalcInputParser(Lexer lexer) {
+    token_source = lexer;
+    current_token = new Token();
+  }
+  
+ 
+      private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced = false;
+  
+        Token oldToken = current_token;
+        current_token = current_token.next;
+        if (current_token == null ) {
+           current_token = token_source.getNextToken();
+        }
+        if (current_token.kind != expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken) ;
+        }      
+      if (tokensAreNodes) {
+          if (buildTree) {
+              pushTokenNode(current_token);
+          }
+      }
+      if (trace_enabled) traceConsumedToken();
+      return current_token;
+  }
+  
+  private void pushTokenNode(Token token) {
+      token.setInputSource(inputSource);
+      pushNode(token);
+  }
+  
+  private void traceConsumedToken() {
+      LOGGER.info("Consumed token of type " + tokenImage[current_token.kind] + " from " + current_token.getLocation());
+  }
+  
+  private void handleUnexpectedTokenType( int expectedType,  boolean forced, Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+  //	    current_token = oldToken;
+  		    throw new ParseException(current_token);
+	   } 
+  }
+  
+  
+  private String generateErrorMessage(Token t) {
+      return "Encountered an error on (or somewhere around) line "
+                + t.getBeginLine() 
+                + ", column " + t.getBeginColumn() 
+                + " of " + t.getInputSource();
+   }
+   
+  
+
+  final public Token getNextToken() {
+    if (current_token.next != null) current_token = current_token.next;
+    else current_token = current_token.next = token_source.getNextToken();
+    return current_token;
+  }
+
+/** Get the specific Token index ahead in the stream. */
+  final public Token getToken(int index) {
+    Token t = current_token;
+    for (int i = 0; i < index; i++) {
+      if (t.next != null) t = t.next;
+      else t = t.next = token_source.getNextToken();
+    }
+    return t;
+  }
+  
+  private int nextTokenKind() {
+    if (current_token.next == null) {
+        current_token.next = token_source.getNextToken();
+    }
+    return current_token.next.kind;
+  }
+  
+  private List<Token> getTokensToEOL(int ...desiredTokenTypes) {
+     ArrayList<Token> result = new ArrayList<>();
+     int currentLine = current_token.getBeginLine();
+     Token tok = current_token;
+     do  {
+        Token prevToken = tok;
+        if (tok.next != null) {
+            tok = tok.next;
+        } else {
+        	tok = token_source.getNextToken();
+        	prevToken.next = tok;
+        }
+        result.add(tok);
+     } while (tok.getBeginLine() == currentLine && !intArrayContains(desiredTokenTypes, tok.kind) && tok.kind != EOF);
+     return result;
+  }
+     static private boolean intArrayContains(int[] array, int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i] == elem) {
+                return true;
+            }
+        }
+        return false;
+    } 
+  
+  private boolean trace_enabled = false;
+ 
+  public void setTracingEnabled(boolean tracingEnabled) {trace_enabled = tracingEnabled;}
+  
+ /**
+ * @deprecated Use #setTracingEnabled
+ */
+   @Deprecated
+  public void enable_tracing() {
+    setTracingEnabled(true);
+  }
+
+/**
+ * @deprecated Use #setTracingEnabled
+ */
+@Deprecated
+ public void disable_tracing() {
+    setTracingEnabled(false);
+  }
+  
+ 
+}
+
+
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. EQ.java */
+
+
+@SuppressWarnings("unused")
+public class EQ extends Token {
+    public EQ(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Number.java */
+
+
+@SuppressWarnings("unused")
+public class Number extends BaseNode {
+
+}
@@ -0,0 +1,14 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AndNode.java */
+@SuppressWarnings("unused")
+public class AndNode extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        if (!((Boolean) stack[top]).booleanValue()) {
+            stack[top]=new Boolean(false);
+            return;
+        }
+        getChild(2).interpret();
+        stack[--top]=new Boolean(((Boolean) stack[top]).booleanValue()&&((Boolean) stack[top+1]).booleanValue());
+    }
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Assignment.java */
+@SuppressWarnings("unused")
+public class Assignment extends SimpleNode {
+    public void interpret() {
+        String name;
+        getChild(2).interpret();
+        symtab.put(name=((Id) getChild(0)).name,stack[top]);
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BOOL.java */
+
+
+@SuppressWarnings("unused")
+public class BOOL extends Token {
+    public BOOL(int kind, String image) {
+        super(kind, image);
+    }
+}
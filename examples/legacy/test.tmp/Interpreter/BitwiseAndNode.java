@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BitwiseAndNode.java */
+@SuppressWarnings("unused")
+public class BitwiseAndNode extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        getChild(2).interpret();
+        if (stack[top] instanceof Boolean) {
+            stack[--top]=new Boolean(((Boolean) stack[top]).booleanValue()&((Boolean) stack[top+1]).booleanValue());
+        }
+        else {
+            if (stack[top] instanceof Integer) {
+                stack[--top]=new Integer(((Integer) stack[top]).intValue()&((Integer) stack[top+1]).intValue());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BitwiseComplNode.java */
+@SuppressWarnings("unused")
+public class BitwiseComplNode extends SimpleNode {
+    public void interpret() {
+        getChild(1).interpret();
+        stack[top]=new Integer(~((Integer) stack[top]).intValue());
+    }
+
+}
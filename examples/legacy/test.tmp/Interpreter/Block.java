@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Block.java */
+@SuppressWarnings("unused")
+public class Block extends SimpleNode {
+    public void interpret() {
+        for (int i=0; i<getChildCount(); i++) {
+            Node n=getChild(i);
+            if (!(n instanceof Token)) n.interpret();
+        }
+    }
+
+}
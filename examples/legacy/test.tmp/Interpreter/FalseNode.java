@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FalseNode.java */
+@SuppressWarnings("unused")
+public class FalseNode extends SimpleNode {
+    public void interpret() {
+        stack[++top]=Boolean.FALSE;
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. INT.java */
+
+
+@SuppressWarnings("unused")
+public class INT extends Token {
+    public INT(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Id.java */
+@SuppressWarnings("unused")
+public class Id extends SimpleNode {
+    String name;
+    public void interpret() {
+        stack[++top]=symtab.get(name);
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IntConstNode.java */
+@SuppressWarnings("unused")
+public class IntConstNode extends SimpleNode {
+    int val;
+    public void interpret() {
+        stack[++top]=new Integer(val);
+    }
+
+}
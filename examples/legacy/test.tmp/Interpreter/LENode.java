@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LENode.java */
+@SuppressWarnings("unused")
+public class LENode extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        getChild(2).interpret();
+        stack[--top]=new Boolean(((Integer) stack[top]).intValue()<=((Integer) stack[top+1]).intValue());
+    }
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ModNode.java */
+@SuppressWarnings("unused")
+public class ModNode extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        getChild(2).interpret();
+        stack[--top]=new Integer(((Integer) stack[top]).intValue()%((Integer) stack[top+1]).intValue());
+    }
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NotNode.java */
+@SuppressWarnings("unused")
+public class NotNode extends SimpleNode {
+    public void interpret() {
+        getChild(1).interpret();
+        stack[top]=new Boolean(!((Boolean) stack[top]).booleanValue());
+    }
+
+}
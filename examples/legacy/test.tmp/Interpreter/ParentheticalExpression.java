@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ParentheticalExpression.java */
+@SuppressWarnings("unused")
+public class ParentheticalExpression extends SimpleNode {
+    public void interpret() {
+        getChild(1).interpret();
+    }
+
+}
@@ -0,0 +1,34 @@
+import java.io.IOException;
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ReadStatement.java */
+@SuppressWarnings("unused")
+public class ReadStatement extends SimpleNode {
+    String name;
+    public void interpret() {
+        Object o;
+        char[] b=new char[64];
+        if ((o=symtab.get(name))==null) {
+            System.err.println("Undefined variable : "+name);
+        }
+        try {
+            if (o instanceof Boolean) {
+                out.write("Enter a value for \'"+name+"\' (boolean) : ");
+                out.flush();
+                in.read(b);
+                symtab.put(name,new Boolean((new String(b)).trim()));
+            }
+            else {
+                if (o instanceof Integer) {
+                    out.write("Enter a value for \'"+name+"\' (int) : ");
+                    out.flush();
+                    in.read(b);
+                    symtab.put(name,new Integer((new String(b)).trim()));
+                }
+            }
+        }
+        catch(IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+}
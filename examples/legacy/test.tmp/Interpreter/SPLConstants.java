@@ -0,0 +1,158 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SPLConstants.java */
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface SPLConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int INT = 6;
+  int BOOL = 7;
+  int INTEGER_LITERAL = 8;
+  int IDENTIFIER = 41;
+  int LETTER = 42;
+  int DIGIT = 43;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "\"\\f\""   
+,
+      "\"int\""   
+,
+      "\"boolean\""   
+,
+      "<INTEGER_LITERAL>"
+,
+      "\";\""   
+,
+      "\"=\""   
+,
+      "\"||\""   
+,
+      "\"&&\""   
+,
+      "\"|\""   
+,
+      "\"^\""   
+,
+      "\"&\""   
+,
+      "\"==\""   
+,
+      "\"!=\""   
+,
+      "\"<\""   
+,
+      "\">\""   
+,
+      "\"<=\""   
+,
+      "\">=\""   
+,
+      "\"+\""   
+,
+      "\"-\""   
+,
+      "\"*\""   
+,
+      "\"/\""   
+,
+      "\"%\""   
+,
+      "\"~\""   
+,
+      "\"!\""   
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+      "\"true\""   
+,
+      "\"false\""   
+,
+      "\":\""   
+,
+      "\"{\""   
+,
+      "\"}\""   
+,
+      "\"if\""   
+,
+      "\"else\""   
+,
+      "\"while\""   
+,
+      "\"read\""   
+,
+      "\"write\""   
+,
+      "<IDENTIFIER>"
+,
+      "<LETTER>"
+,
+      "<DIGIT>"
+
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "INT",
+          "BOOL",
+          "INTEGER_LITERAL",
+          "IDENTIFIER",
+          "LETTER",
+          "DIGIT",
+              "CompilationUnit", 
+              "VarDeclaration", 
+              "Assignment", 
+              "OrNode", 
+              "AndNode", 
+              "BitwiseOrNode", 
+              "BitwiseXorNode", 
+              "BitwiseAndNode", 
+              "EQNode", 
+              "NENode", 
+              "LTNode", 
+              "GTNode", 
+              "LENode", 
+              "GENode", 
+              "AddNode", 
+              "SubtractNode", 
+              "MulNode", 
+              "DivNode", 
+              "ModNode", 
+              "BitwiseComplNode", 
+              "NotNode", 
+              "ParentheticalExpression", 
+              "Id", 
+              "IntConstNode", 
+              "TrueNode", 
+              "FalseNode", 
+              "Block", 
+              "StatementExpression", 
+              "IfStatement", 
+              "WhileStatement", 
+              "ReadStatement", 
+              "WriteStatement", 
+   };
+}
+
+
+
+
@@ -0,0 +1,2666 @@
+/* Generated by: JavaCC 21 Parser Generator. SPLParser.java */
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class SPLParser implements SPLConstants {
+    /**
+   * Returns the root node of the Id.  
+   * It only makes sense to call this after a successful parse. 
+   * @return the root node
+   */
+    public SimpleNode root() {
+        return(SimpleNode) rootNode();
+    }
+
+    /** Main entry point. */
+    public static void main(String args[]) {
+        SPLParser parser;
+        if (args.length==1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Reading from file "+args[0]+" . . .");
+            try {
+                parser=new SPLParser(new java.io.FileReader(args[0]));
+            }
+            catch(java.io.FileNotFoundException e) {
+                System.out.println("Stupid Programming Language Interpreter Version 0.1:  File "+args[0]+" not found.");
+                return;
+            }
+        }
+        else {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Usage :");
+            System.out.println("         java SPL inputfile");
+            return;
+        }
+        try {
+            parser.CompilationUnit();
+            parser.rootNode().interpret();
+        }
+        catch(ParseException e) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during parse.");
+            e.printStackTrace();
+        }
+        catch(Exception e1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during interpretation/tree building.");
+            e1.printStackTrace();
+        }
+    }
+
+    static final java.util.logging.Logger LOGGER=Logger.getLogger("SPLParser");
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing=false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    /** Generated Lexer. */
+    public SPLLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    private boolean buildTree=true;
+    private boolean tokensAreNodes=true;
+    private boolean specialTokensAreNodes=false;
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes=specialTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes=tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope=new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor=currentNodeScope.floor;
+        currentNodeScope.floor=currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark=currentNodeScope.floor;
+        currentNodeScope.floor=Math.min(previousFloor,mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n,int mark) {
+        List<Node>children=currentNodeScope.subList(mark,currentNodeScope.size());
+        List<Node>nodes=new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n,true);
+    }
+
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n,int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node>nodes=new ArrayList<Node>();
+        for (int i=0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (specialTokensAreNodes&&(child instanceof Token)) {
+                Token token=(Token) child;
+                Token specialToken=token;
+                while (specialToken!=null) {
+                    specialToken=specialToken.specialToken;
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken=specialToken.next;
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n,boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a=nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node>nodes=new ArrayList<Node>();
+            while (a-->0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (specialTokensAreNodes&&(child instanceof Token)) {
+                    Token token=(Token) child;
+                    Token specialToken=token;
+                    while (specialToken.specialToken!=null) {
+                        specialToken=specialToken.specialToken;
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken=specialToken.next;
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree=buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    SPLParser jjtree=this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope=SPLParser.this.currentNodeScope;
+            SPLParser.this.currentNodeScope=this;
+        }
+
+        boolean isRootScope() {
+            return parentScope==null;
+        }
+
+        Node rootNode() {
+            NodeScope ns=this;
+            while (ns.parentScope!=null) {
+                ns=ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result=remove(size()-1);
+            if (size()<floor) {
+                floor=size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1,n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            SPLParser.this.currentNodeScope=parentScope;
+        }
+
+        int nestingLevel() {
+            int result=0;
+            NodeScope parent=this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent=parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+    static private final int INFINITY=Integer.MAX_VALUE;
+    //=================================
+    // Start of methods for BNF Productions
+    //=================================
+    /** Compilation unit. */
+    // SPL.javacc, line 181
+    final public void CompilationUnit() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 181 of SPL.javacc");
+        String name;
+        // Code for expansion specified on line 186 of SPL.javacc
+        boolean CompilationUnit1forced=false;
+        CompilationUnit CompilationUnit1=null;
+        if (buildTree) {
+            CompilationUnit1=new CompilationUnit();
+            Token start=getToken(1);
+            CompilationUnit1.setBeginLine(start.beginLine);
+            CompilationUnit1.setBeginColumn(start.beginColumn);
+            CompilationUnit1.setInputSource(this.getInputSource());
+            openNodeScope(CompilationUnit1);
+        }
+        ParseException parseException1=null;
+        try {
+            // Code for expansion specified on line 190 of SPL.javacc
+            label_1:
+            while (true) {
+                int int1=nextTokenKind();
+                if (!(int1>=0&&(jj_first_set_0[int1>>6]&(1L<<int1))!=0L)) {
+                    break label_1;
+                }
+                // Code for expansion specified on line 187 of SPL.javacc
+                switch(nextTokenKind()) {
+                    case 6:
+                    case 7:
+                    // Code for expansion specified on line 187 of SPL.javacc
+                    // Code for VarDeclaration specified on line 187 of SPL.javacc
+                    VarDeclaration();
+                    // Code for expansion specified on line 187 of SPL.javacc
+                    consumeToken(9);
+                    break;
+                    case INTEGER_LITERAL:
+                    case 9:
+                    case 29:
+                    case 31:
+                    case 32:
+                    case 34:
+                    case 36:
+                    case 38:
+                    case 39:
+                    case 40:
+                    case IDENTIFIER:
+                    // Code for expansion specified on line 189 of SPL.javacc
+                    // Code for Statement specified on line 189 of SPL.javacc
+                    Statement();
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+            }
+            // Code for expansion specified on line 191 of SPL.javacc
+            consumeToken(0);
+            if (trace_enabled) LOGGER.info("Exiting normally from CompilationUnit");
+        }
+        catch(ParseException e) {
+            parseException1=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException1!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    CompilationUnit1.setEndLine(current_token.getEndLine());
+                    CompilationUnit1.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(CompilationUnit1,true);
+                }
+            }
+        }
+    }
+
+    /** Variable declaration. */
+    // SPL.javacc, line 212
+    final public void VarDeclaration() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 212 of SPL.javacc");
+        Token t;
+        // Code for expansion specified on line 215 of SPL.javacc
+        boolean VarDeclaration2forced=false;
+        VarDeclaration VarDeclaration2=null;
+        if (buildTree) {
+            VarDeclaration2=new VarDeclaration();
+            Token start=getToken(1);
+            VarDeclaration2.setBeginLine(start.beginLine);
+            VarDeclaration2.setBeginColumn(start.beginColumn);
+            VarDeclaration2.setInputSource(this.getInputSource());
+            openNodeScope(VarDeclaration2);
+        }
+        ParseException parseException2=null;
+        try {
+            // Code for expansion specified on line 216 of SPL.javacc
+            switch(nextTokenKind()) {
+                case 7:
+                // Code for expansion specified on line 216 of SPL.javacc
+                // Code for expansion specified on line 216 of SPL.javacc
+                consumeToken(7);
+                // Code for expansion specified on line 216 of SPL.javacc
+                VarDeclaration2.type=BOOL;
+                break;
+                case 6:
+                // Code for expansion specified on line 218 of SPL.javacc
+                // Code for expansion specified on line 218 of SPL.javacc
+                consumeToken(6);
+                // Code for expansion specified on line 218 of SPL.javacc
+                VarDeclaration2.type=INT;
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+            // Code for expansion specified on line 220 of SPL.javacc
+            t=consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 221 of SPL.javacc
+            VarDeclaration2.name=t.image;
+            if (trace_enabled) LOGGER.info("Exiting normally from VarDeclaration");
+        }
+        catch(ParseException e) {
+            parseException2=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException2!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    VarDeclaration2.setEndLine(current_token.getEndLine());
+                    VarDeclaration2.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(VarDeclaration2,true);
+                }
+            }
+        }
+    }
+
+    /*
+ * Expression syntax follows.
+ */
+    /** Expression. */
+    // SPL.javacc, line 229
+    final public void Expression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 229 of SPL.javacc");
+        // Code for expansion specified on line 232 of SPL.javacc
+        if (phase2_1_SPL_javacc_line_232(INFINITY)) {
+            // Code for expansion specified on line 232 of SPL.javacc
+            // Code for Assignment specified on line 233 of SPL.javacc
+            Assignment();
+        }
+        else {
+            switch(nextTokenKind()) {
+                case INTEGER_LITERAL:
+                case 27:
+                case 28:
+                case 29:
+                case 31:
+                case 32:
+                case IDENTIFIER:
+                // Code for expansion specified on line 235 of SPL.javacc
+                // Code for ConditionalOrExpression specified on line 235 of SPL.javacc
+                ConditionalOrExpression();
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from Expression");
+    }
+
+    /** Assignment. */
+    // SPL.javacc, line 249
+    final public void Assignment() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 249 of SPL.javacc");
+        // Code for expansion specified on line 252 of SPL.javacc
+        boolean Assignment3forced=false;
+        Assignment Assignment3=null;
+        if (buildTree) {
+            Assignment3=new Assignment();
+            Token start=getToken(1);
+            Assignment3.setBeginLine(start.beginLine);
+            Assignment3.setBeginColumn(start.beginColumn);
+            Assignment3.setInputSource(this.getInputSource());
+            openNodeScope(Assignment3);
+        }
+        ParseException parseException3=null;
+        try {
+            // Code for PrimaryExpression specified on line 252 of SPL.javacc
+            PrimaryExpression();
+            // Code for expansion specified on line 252 of SPL.javacc
+            consumeToken(10);
+            // Code for Expression specified on line 252 of SPL.javacc
+            Expression();
+            if (trace_enabled) LOGGER.info("Exiting normally from Assignment");
+        }
+        catch(ParseException e) {
+            parseException3=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException3!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Assignment3.setEndLine(current_token.getEndLine());
+                    Assignment3.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Assignment3,3);
+                }
+            }
+        }
+    }
+
+    /** Conditional or expression. */
+    // SPL.javacc, line 256
+    final public void ConditionalOrExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 256 of SPL.javacc");
+        // Code for expansion specified on line 259 of SPL.javacc
+        // Code for ConditionalAndExpression specified on line 259 of SPL.javacc
+        ConditionalAndExpression();
+        // Code for expansion specified on line 260 of SPL.javacc
+        label_3:
+        while (true) {
+            int int2=nextTokenKind();
+            if (!(int2==11)) {
+                break label_3;
+            }
+            // Code for expansion specified on line 260 of SPL.javacc
+            // Code for expansion specified on line 260 of SPL.javacc
+            consumeToken(11);
+            // Code for ConditionalAndExpression specified on line 260 of SPL.javacc
+            boolean ConditionalOrExpression4forced=false;
+            OrNode ConditionalOrExpression4=null;
+            if (buildTree) {
+                ConditionalOrExpression4=new OrNode();
+                Token start=getToken(1);
+                ConditionalOrExpression4.setBeginLine(start.beginLine);
+                ConditionalOrExpression4.setBeginColumn(start.beginColumn);
+                ConditionalOrExpression4.setInputSource(this.getInputSource());
+                openNodeScope(ConditionalOrExpression4);
+            }
+            ParseException parseException4=null;
+            try {
+                ConditionalAndExpression();
+            }
+            catch(ParseException e) {
+                parseException4=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException4!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException4.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        ConditionalOrExpression4.setEndLine(current_token.getEndLine());
+                        ConditionalOrExpression4.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(ConditionalOrExpression4,3);
+                    }
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from ConditionalOrExpression");
+    }
+
+    /** Conditional and expression. */
+    // SPL.javacc, line 280
+    final public void ConditionalAndExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 280 of SPL.javacc");
+        // Code for expansion specified on line 283 of SPL.javacc
+        // Code for InclusiveOrExpression specified on line 283 of SPL.javacc
+        InclusiveOrExpression();
+        // Code for expansion specified on line 284 of SPL.javacc
+        label_4:
+        while (true) {
+            int int3=nextTokenKind();
+            if (!(int3==12)) {
+                break label_4;
+            }
+            // Code for expansion specified on line 284 of SPL.javacc
+            // Code for expansion specified on line 284 of SPL.javacc
+            consumeToken(12);
+            // Code for InclusiveOrExpression specified on line 284 of SPL.javacc
+            boolean ConditionalAndExpression5forced=false;
+            AndNode ConditionalAndExpression5=null;
+            if (buildTree) {
+                ConditionalAndExpression5=new AndNode();
+                Token start=getToken(1);
+                ConditionalAndExpression5.setBeginLine(start.beginLine);
+                ConditionalAndExpression5.setBeginColumn(start.beginColumn);
+                ConditionalAndExpression5.setInputSource(this.getInputSource());
+                openNodeScope(ConditionalAndExpression5);
+            }
+            ParseException parseException5=null;
+            try {
+                InclusiveOrExpression();
+            }
+            catch(ParseException e) {
+                parseException5=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException5!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException5.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        ConditionalAndExpression5.setEndLine(current_token.getEndLine());
+                        ConditionalAndExpression5.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(ConditionalAndExpression5,3);
+                    }
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from ConditionalAndExpression");
+    }
+
+    /** Inclusive or expression. */
+    // SPL.javacc, line 304
+    final public void InclusiveOrExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 304 of SPL.javacc");
+        // Code for expansion specified on line 307 of SPL.javacc
+        // Code for ExclusiveOrExpression specified on line 307 of SPL.javacc
+        ExclusiveOrExpression();
+        // Code for expansion specified on line 308 of SPL.javacc
+        label_5:
+        while (true) {
+            int int4=nextTokenKind();
+            if (!(int4==13)) {
+                break label_5;
+            }
+            // Code for expansion specified on line 308 of SPL.javacc
+            // Code for expansion specified on line 308 of SPL.javacc
+            consumeToken(13);
+            // Code for ExclusiveOrExpression specified on line 308 of SPL.javacc
+            boolean InclusiveOrExpression6forced=false;
+            BitwiseOrNode InclusiveOrExpression6=null;
+            if (buildTree) {
+                InclusiveOrExpression6=new BitwiseOrNode();
+                Token start=getToken(1);
+                InclusiveOrExpression6.setBeginLine(start.beginLine);
+                InclusiveOrExpression6.setBeginColumn(start.beginColumn);
+                InclusiveOrExpression6.setInputSource(this.getInputSource());
+                openNodeScope(InclusiveOrExpression6);
+            }
+            ParseException parseException6=null;
+            try {
+                ExclusiveOrExpression();
+            }
+            catch(ParseException e) {
+                parseException6=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException6!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException6.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        InclusiveOrExpression6.setEndLine(current_token.getEndLine());
+                        InclusiveOrExpression6.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(InclusiveOrExpression6,2);
+                    }
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from InclusiveOrExpression");
+    }
+
+    /** Exclusive or expression. */
+    // SPL.javacc, line 330
+    final public void ExclusiveOrExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 330 of SPL.javacc");
+        // Code for expansion specified on line 333 of SPL.javacc
+        // Code for AndExpression specified on line 333 of SPL.javacc
+        AndExpression();
+        // Code for expansion specified on line 334 of SPL.javacc
+        label_6:
+        while (true) {
+            int int5=nextTokenKind();
+            if (!(int5==14)) {
+                break label_6;
+            }
+            // Code for expansion specified on line 334 of SPL.javacc
+            // Code for expansion specified on line 334 of SPL.javacc
+            consumeToken(14);
+            // Code for AndExpression specified on line 334 of SPL.javacc
+            boolean ExclusiveOrExpression7forced=false;
+            BitwiseXorNode ExclusiveOrExpression7=null;
+            if (buildTree) {
+                ExclusiveOrExpression7=new BitwiseXorNode();
+                Token start=getToken(1);
+                ExclusiveOrExpression7.setBeginLine(start.beginLine);
+                ExclusiveOrExpression7.setBeginColumn(start.beginColumn);
+                ExclusiveOrExpression7.setInputSource(this.getInputSource());
+                openNodeScope(ExclusiveOrExpression7);
+            }
+            ParseException parseException7=null;
+            try {
+                AndExpression();
+            }
+            catch(ParseException e) {
+                parseException7=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException7!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException7.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        ExclusiveOrExpression7.setEndLine(current_token.getEndLine());
+                        ExclusiveOrExpression7.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(ExclusiveOrExpression7,2);
+                    }
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from ExclusiveOrExpression");
+    }
+
+    /** And expression. */
+    // SPL.javacc, line 356
+    final public void AndExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 356 of SPL.javacc");
+        // Code for expansion specified on line 359 of SPL.javacc
+        // Code for EqualityExpression specified on line 359 of SPL.javacc
+        EqualityExpression();
+        // Code for expansion specified on line 360 of SPL.javacc
+        label_7:
+        while (true) {
+            int int6=nextTokenKind();
+            if (!(int6==15)) {
+                break label_7;
+            }
+            // Code for expansion specified on line 360 of SPL.javacc
+            // Code for expansion specified on line 360 of SPL.javacc
+            consumeToken(15);
+            // Code for EqualityExpression specified on line 360 of SPL.javacc
+            boolean AndExpression8forced=false;
+            BitwiseAndNode AndExpression8=null;
+            if (buildTree) {
+                AndExpression8=new BitwiseAndNode();
+                Token start=getToken(1);
+                AndExpression8.setBeginLine(start.beginLine);
+                AndExpression8.setBeginColumn(start.beginColumn);
+                AndExpression8.setInputSource(this.getInputSource());
+                openNodeScope(AndExpression8);
+            }
+            ParseException parseException8=null;
+            try {
+                EqualityExpression();
+            }
+            catch(ParseException e) {
+                parseException8=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException8!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException8.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        AndExpression8.setEndLine(current_token.getEndLine());
+                        AndExpression8.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(AndExpression8,2);
+                    }
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from AndExpression");
+    }
+
+    /** Equality expression. */
+    // SPL.javacc, line 380
+    final public void EqualityExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 380 of SPL.javacc");
+        // Code for expansion specified on line 383 of SPL.javacc
+        // Code for RelationalExpression specified on line 383 of SPL.javacc
+        RelationalExpression();
+        // Code for expansion specified on line 388 of SPL.javacc
+        label_8:
+        while (true) {
+            int int7=nextTokenKind();
+            if (!(int7==16||int7==17)) {
+                break label_8;
+            }
+            // Code for expansion specified on line 385 of SPL.javacc
+            switch(nextTokenKind()) {
+                case 16:
+                // Code for expansion specified on line 385 of SPL.javacc
+                // Code for expansion specified on line 385 of SPL.javacc
+                consumeToken(16);
+                // Code for RelationalExpression specified on line 385 of SPL.javacc
+                boolean EqualityExpression9forced=false;
+                EQNode EqualityExpression9=null;
+                if (buildTree) {
+                    EqualityExpression9=new EQNode();
+                    Token start=getToken(1);
+                    EqualityExpression9.setBeginLine(start.beginLine);
+                    EqualityExpression9.setBeginColumn(start.beginColumn);
+                    EqualityExpression9.setInputSource(this.getInputSource());
+                    openNodeScope(EqualityExpression9);
+                }
+                ParseException parseException9=null;
+                try {
+                    RelationalExpression();
+                }
+                catch(ParseException e) {
+                    parseException9=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException9!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException9.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            EqualityExpression9.setEndLine(current_token.getEndLine());
+                            EqualityExpression9.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(EqualityExpression9,3);
+                        }
+                    }
+                }
+                break;
+                case 17:
+                // Code for expansion specified on line 387 of SPL.javacc
+                // Code for expansion specified on line 387 of SPL.javacc
+                consumeToken(17);
+                // Code for RelationalExpression specified on line 387 of SPL.javacc
+                boolean EqualityExpression10forced=false;
+                NENode EqualityExpression10=null;
+                if (buildTree) {
+                    EqualityExpression10=new NENode();
+                    Token start=getToken(1);
+                    EqualityExpression10.setBeginLine(start.beginLine);
+                    EqualityExpression10.setBeginColumn(start.beginColumn);
+                    EqualityExpression10.setInputSource(this.getInputSource());
+                    openNodeScope(EqualityExpression10);
+                }
+                ParseException parseException10=null;
+                try {
+                    RelationalExpression();
+                }
+                catch(ParseException e) {
+                    parseException10=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException10!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException10.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            EqualityExpression10.setEndLine(current_token.getEndLine());
+                            EqualityExpression10.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(EqualityExpression10,3);
+                        }
+                    }
+                }
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from EqualityExpression");
+    }
+
+    /** Relational expression. */
+    // SPL.javacc, line 419
+    final public void RelationalExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 419 of SPL.javacc");
+        // Code for expansion specified on line 422 of SPL.javacc
+        // Code for AdditiveExpression specified on line 422 of SPL.javacc
+        AdditiveExpression();
+        // Code for expansion specified on line 431 of SPL.javacc
+        label_9:
+        while (true) {
+            int int8=nextTokenKind();
+            if (!(int8>=0&&(jj_first_set_1[int8>>6]&(1L<<int8))!=0L)) {
+                break label_9;
+            }
+            // Code for expansion specified on line 424 of SPL.javacc
+            switch(nextTokenKind()) {
+                case 18:
+                // Code for expansion specified on line 424 of SPL.javacc
+                // Code for expansion specified on line 424 of SPL.javacc
+                consumeToken(18);
+                // Code for AdditiveExpression specified on line 424 of SPL.javacc
+                boolean RelationalExpression11forced=false;
+                LTNode RelationalExpression11=null;
+                if (buildTree) {
+                    RelationalExpression11=new LTNode();
+                    Token start=getToken(1);
+                    RelationalExpression11.setBeginLine(start.beginLine);
+                    RelationalExpression11.setBeginColumn(start.beginColumn);
+                    RelationalExpression11.setInputSource(this.getInputSource());
+                    openNodeScope(RelationalExpression11);
+                }
+                ParseException parseException11=null;
+                try {
+                    AdditiveExpression();
+                }
+                catch(ParseException e) {
+                    parseException11=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException11!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException11.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            RelationalExpression11.setEndLine(current_token.getEndLine());
+                            RelationalExpression11.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(RelationalExpression11,3);
+                        }
+                    }
+                }
+                break;
+                case 19:
+                // Code for expansion specified on line 426 of SPL.javacc
+                // Code for expansion specified on line 426 of SPL.javacc
+                consumeToken(19);
+                // Code for AdditiveExpression specified on line 426 of SPL.javacc
+                boolean RelationalExpression12forced=false;
+                GTNode RelationalExpression12=null;
+                if (buildTree) {
+                    RelationalExpression12=new GTNode();
+                    Token start=getToken(1);
+                    RelationalExpression12.setBeginLine(start.beginLine);
+                    RelationalExpression12.setBeginColumn(start.beginColumn);
+                    RelationalExpression12.setInputSource(this.getInputSource());
+                    openNodeScope(RelationalExpression12);
+                }
+                ParseException parseException12=null;
+                try {
+                    AdditiveExpression();
+                }
+                catch(ParseException e) {
+                    parseException12=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException12!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException12.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            RelationalExpression12.setEndLine(current_token.getEndLine());
+                            RelationalExpression12.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(RelationalExpression12,3);
+                        }
+                    }
+                }
+                break;
+                case 20:
+                // Code for expansion specified on line 428 of SPL.javacc
+                // Code for expansion specified on line 428 of SPL.javacc
+                consumeToken(20);
+                // Code for AdditiveExpression specified on line 428 of SPL.javacc
+                boolean RelationalExpression13forced=false;
+                LENode RelationalExpression13=null;
+                if (buildTree) {
+                    RelationalExpression13=new LENode();
+                    Token start=getToken(1);
+                    RelationalExpression13.setBeginLine(start.beginLine);
+                    RelationalExpression13.setBeginColumn(start.beginColumn);
+                    RelationalExpression13.setInputSource(this.getInputSource());
+                    openNodeScope(RelationalExpression13);
+                }
+                ParseException parseException13=null;
+                try {
+                    AdditiveExpression();
+                }
+                catch(ParseException e) {
+                    parseException13=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException13!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException13.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            RelationalExpression13.setEndLine(current_token.getEndLine());
+                            RelationalExpression13.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(RelationalExpression13,3);
+                        }
+                    }
+                }
+                break;
+                case 21:
+                // Code for expansion specified on line 430 of SPL.javacc
+                // Code for expansion specified on line 430 of SPL.javacc
+                consumeToken(21);
+                // Code for AdditiveExpression specified on line 430 of SPL.javacc
+                boolean RelationalExpression14forced=false;
+                GENode RelationalExpression14=null;
+                if (buildTree) {
+                    RelationalExpression14=new GENode();
+                    Token start=getToken(1);
+                    RelationalExpression14.setBeginLine(start.beginLine);
+                    RelationalExpression14.setBeginColumn(start.beginColumn);
+                    RelationalExpression14.setInputSource(this.getInputSource());
+                    openNodeScope(RelationalExpression14);
+                }
+                ParseException parseException14=null;
+                try {
+                    AdditiveExpression();
+                }
+                catch(ParseException e) {
+                    parseException14=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException14!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException14.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            RelationalExpression14.setEndLine(current_token.getEndLine());
+                            RelationalExpression14.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(RelationalExpression14,3);
+                        }
+                    }
+                }
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from RelationalExpression");
+    }
+
+    /** Additive expression. */
+    // SPL.javacc, line 479
+    final public void AdditiveExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 479 of SPL.javacc");
+        // Code for expansion specified on line 482 of SPL.javacc
+        // Code for MultiplicativeExpression specified on line 482 of SPL.javacc
+        MultiplicativeExpression();
+        // Code for expansion specified on line 487 of SPL.javacc
+        label_10:
+        while (true) {
+            int int9=nextTokenKind();
+            if (!(int9==22||int9==23)) {
+                break label_10;
+            }
+            // Code for expansion specified on line 484 of SPL.javacc
+            switch(nextTokenKind()) {
+                case 22:
+                // Code for expansion specified on line 484 of SPL.javacc
+                // Code for expansion specified on line 484 of SPL.javacc
+                consumeToken(22);
+                // Code for MultiplicativeExpression specified on line 484 of SPL.javacc
+                boolean AdditiveExpression15forced=false;
+                AddNode AdditiveExpression15=null;
+                if (buildTree) {
+                    AdditiveExpression15=new AddNode();
+                    Token start=getToken(1);
+                    AdditiveExpression15.setBeginLine(start.beginLine);
+                    AdditiveExpression15.setBeginColumn(start.beginColumn);
+                    AdditiveExpression15.setInputSource(this.getInputSource());
+                    openNodeScope(AdditiveExpression15);
+                }
+                ParseException parseException15=null;
+                try {
+                    MultiplicativeExpression();
+                }
+                catch(ParseException e) {
+                    parseException15=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException15!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException15.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            AdditiveExpression15.setEndLine(current_token.getEndLine());
+                            AdditiveExpression15.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(AdditiveExpression15,3);
+                        }
+                    }
+                }
+                break;
+                case 23:
+                // Code for expansion specified on line 486 of SPL.javacc
+                // Code for expansion specified on line 486 of SPL.javacc
+                consumeToken(23);
+                // Code for MultiplicativeExpression specified on line 486 of SPL.javacc
+                boolean AdditiveExpression16forced=false;
+                SubtractNode AdditiveExpression16=null;
+                if (buildTree) {
+                    AdditiveExpression16=new SubtractNode();
+                    Token start=getToken(1);
+                    AdditiveExpression16.setBeginLine(start.beginLine);
+                    AdditiveExpression16.setBeginColumn(start.beginColumn);
+                    AdditiveExpression16.setInputSource(this.getInputSource());
+                    openNodeScope(AdditiveExpression16);
+                }
+                ParseException parseException16=null;
+                try {
+                    MultiplicativeExpression();
+                }
+                catch(ParseException e) {
+                    parseException16=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException16!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException16.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            AdditiveExpression16.setEndLine(current_token.getEndLine());
+                            AdditiveExpression16.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(AdditiveExpression16,3);
+                        }
+                    }
+                }
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+    }
+
+    /** Multiplicative expression. */
+    // SPL.javacc, line 510
+    final public void MultiplicativeExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 510 of SPL.javacc");
+        // Code for expansion specified on line 513 of SPL.javacc
+        // Code for UnaryExpression specified on line 513 of SPL.javacc
+        UnaryExpression();
+        // Code for expansion specified on line 520 of SPL.javacc
+        label_11:
+        while (true) {
+            int int10=nextTokenKind();
+            if (!(int10==24||int10==25||int10==26)) {
+                break label_11;
+            }
+            // Code for expansion specified on line 515 of SPL.javacc
+            switch(nextTokenKind()) {
+                case 24:
+                // Code for expansion specified on line 515 of SPL.javacc
+                // Code for expansion specified on line 515 of SPL.javacc
+                consumeToken(24);
+                // Code for UnaryExpression specified on line 515 of SPL.javacc
+                boolean MultiplicativeExpression17forced=false;
+                MulNode MultiplicativeExpression17=null;
+                if (buildTree) {
+                    MultiplicativeExpression17=new MulNode();
+                    Token start=getToken(1);
+                    MultiplicativeExpression17.setBeginLine(start.beginLine);
+                    MultiplicativeExpression17.setBeginColumn(start.beginColumn);
+                    MultiplicativeExpression17.setInputSource(this.getInputSource());
+                    openNodeScope(MultiplicativeExpression17);
+                }
+                ParseException parseException17=null;
+                try {
+                    UnaryExpression();
+                }
+                catch(ParseException e) {
+                    parseException17=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException17!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException17.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            MultiplicativeExpression17.setEndLine(current_token.getEndLine());
+                            MultiplicativeExpression17.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(MultiplicativeExpression17,3);
+                        }
+                    }
+                }
+                break;
+                case 25:
+                // Code for expansion specified on line 517 of SPL.javacc
+                // Code for expansion specified on line 517 of SPL.javacc
+                consumeToken(25);
+                // Code for UnaryExpression specified on line 517 of SPL.javacc
+                boolean MultiplicativeExpression18forced=false;
+                DivNode MultiplicativeExpression18=null;
+                if (buildTree) {
+                    MultiplicativeExpression18=new DivNode();
+                    Token start=getToken(1);
+                    MultiplicativeExpression18.setBeginLine(start.beginLine);
+                    MultiplicativeExpression18.setBeginColumn(start.beginColumn);
+                    MultiplicativeExpression18.setInputSource(this.getInputSource());
+                    openNodeScope(MultiplicativeExpression18);
+                }
+                ParseException parseException18=null;
+                try {
+                    UnaryExpression();
+                }
+                catch(ParseException e) {
+                    parseException18=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException18!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException18.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            MultiplicativeExpression18.setEndLine(current_token.getEndLine());
+                            MultiplicativeExpression18.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(MultiplicativeExpression18,3);
+                        }
+                    }
+                }
+                break;
+                case 26:
+                // Code for expansion specified on line 519 of SPL.javacc
+                // Code for expansion specified on line 519 of SPL.javacc
+                consumeToken(26);
+                // Code for UnaryExpression specified on line 519 of SPL.javacc
+                boolean MultiplicativeExpression19forced=false;
+                ModNode MultiplicativeExpression19=null;
+                if (buildTree) {
+                    MultiplicativeExpression19=new ModNode();
+                    Token start=getToken(1);
+                    MultiplicativeExpression19.setBeginLine(start.beginLine);
+                    MultiplicativeExpression19.setBeginColumn(start.beginColumn);
+                    MultiplicativeExpression19.setInputSource(this.getInputSource());
+                    openNodeScope(MultiplicativeExpression19);
+                }
+                ParseException parseException19=null;
+                try {
+                    UnaryExpression();
+                }
+                catch(ParseException e) {
+                    parseException19=e;
+                    throw e;
+                }
+                finally {
+                    if (buildTree) {
+                        if (parseException19!=null) {
+                            if (trace_enabled) LOGGER.warning("ParseException: "+parseException19.getMessage());
+                            clearNodeScope();
+                        }
+                        else {
+                            MultiplicativeExpression19.setEndLine(current_token.getEndLine());
+                            MultiplicativeExpression19.setEndColumn(current_token.getEndColumn());
+                            closeNodeScope(MultiplicativeExpression19,3);
+                        }
+                    }
+                }
+                break;
+                default:
+                consumeToken(-1);
+                throw new ParseException();
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+    }
+
+    /** Unary expression. */
+    // SPL.javacc, line 552
+    final public void UnaryExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 552 of SPL.javacc");
+        // Code for expansion specified on line 555 of SPL.javacc
+        switch(nextTokenKind()) {
+            case 27:
+            // Code for expansion specified on line 555 of SPL.javacc
+            // Code for expansion specified on line 555 of SPL.javacc
+            consumeToken(27);
+            // Code for UnaryExpression specified on line 555 of SPL.javacc
+            boolean UnaryExpression20forced=false;
+            BitwiseComplNode UnaryExpression20=null;
+            if (buildTree) {
+                UnaryExpression20=new BitwiseComplNode();
+                Token start=getToken(1);
+                UnaryExpression20.setBeginLine(start.beginLine);
+                UnaryExpression20.setBeginColumn(start.beginColumn);
+                UnaryExpression20.setInputSource(this.getInputSource());
+                openNodeScope(UnaryExpression20);
+            }
+            ParseException parseException20=null;
+            try {
+                UnaryExpression();
+            }
+            catch(ParseException e) {
+                parseException20=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException20!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException20.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        UnaryExpression20.setEndLine(current_token.getEndLine());
+                        UnaryExpression20.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(UnaryExpression20,2);
+                    }
+                }
+            }
+            break;
+            case 28:
+            // Code for expansion specified on line 557 of SPL.javacc
+            // Code for expansion specified on line 557 of SPL.javacc
+            consumeToken(28);
+            // Code for UnaryExpression specified on line 557 of SPL.javacc
+            boolean UnaryExpression21forced=false;
+            NotNode UnaryExpression21=null;
+            if (buildTree) {
+                UnaryExpression21=new NotNode();
+                Token start=getToken(1);
+                UnaryExpression21.setBeginLine(start.beginLine);
+                UnaryExpression21.setBeginColumn(start.beginColumn);
+                UnaryExpression21.setInputSource(this.getInputSource());
+                openNodeScope(UnaryExpression21);
+            }
+            ParseException parseException21=null;
+            try {
+                UnaryExpression();
+            }
+            catch(ParseException e) {
+                parseException21=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException21!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException21.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        UnaryExpression21.setEndLine(current_token.getEndLine());
+                        UnaryExpression21.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(UnaryExpression21,2);
+                    }
+                }
+            }
+            break;
+            case INTEGER_LITERAL:
+            case 29:
+            case 31:
+            case 32:
+            case IDENTIFIER:
+            // Code for expansion specified on line 559 of SPL.javacc
+            // Code for PrimaryExpression specified on line 559 of SPL.javacc
+            PrimaryExpression();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+    }
+
+    /** Primary expression. */
+    // SPL.javacc, line 581
+    final public void PrimaryExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 581 of SPL.javacc");
+        String name;
+        // Code for expansion specified on line 586 of SPL.javacc
+        switch(nextTokenKind()) {
+            case INTEGER_LITERAL:
+            case 31:
+            case 32:
+            // Code for expansion specified on line 586 of SPL.javacc
+            // Code for Literal specified on line 586 of SPL.javacc
+            Literal();
+            break;
+            case IDENTIFIER:
+            // Code for expansion specified on line 588 of SPL.javacc
+            // Code for Id specified on line 588 of SPL.javacc
+            Id();
+            break;
+            case 29:
+            // Code for expansion specified on line 590 of SPL.javacc
+            // Code for ParentheticalExpression specified on line 590 of SPL.javacc
+            ParentheticalExpression();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from PrimaryExpression");
+    }
+
+    // SPL.javacc, line 593
+    final public void ParentheticalExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 593 of SPL.javacc");
+        // Code for expansion specified on line 596 of SPL.javacc
+        boolean ParentheticalExpression22forced=false;
+        ParentheticalExpression ParentheticalExpression22=null;
+        if (buildTree) {
+            ParentheticalExpression22=new ParentheticalExpression();
+            Token start=getToken(1);
+            ParentheticalExpression22.setBeginLine(start.beginLine);
+            ParentheticalExpression22.setBeginColumn(start.beginColumn);
+            ParentheticalExpression22.setInputSource(this.getInputSource());
+            openNodeScope(ParentheticalExpression22);
+        }
+        ParseException parseException22=null;
+        try {
+            // Code for expansion specified on line 596 of SPL.javacc
+            consumeToken(29);
+            // Code for Expression specified on line 596 of SPL.javacc
+            Expression();
+            // Code for expansion specified on line 596 of SPL.javacc
+            consumeToken(30);
+            if (trace_enabled) LOGGER.info("Exiting normally from ParentheticalExpression");
+        }
+        catch(ParseException e) {
+            parseException22=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException22!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException22.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    ParentheticalExpression22.setEndLine(current_token.getEndLine());
+                    ParentheticalExpression22.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(ParentheticalExpression22,true);
+                }
+            }
+        }
+    }
+
+    /** An Id. */
+    // SPL.javacc, line 617
+    final public void Id() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 617 of SPL.javacc");
+        Token t;
+        // Code for expansion specified on line 622 of SPL.javacc
+        boolean Id23forced=false;
+        Id Id23=null;
+        if (buildTree) {
+            Id23=new Id();
+            Token start=getToken(1);
+            Id23.setBeginLine(start.beginLine);
+            Id23.setBeginColumn(start.beginColumn);
+            Id23.setInputSource(this.getInputSource());
+            openNodeScope(Id23);
+        }
+        ParseException parseException23=null;
+        try {
+            // Code for expansion specified on line 622 of SPL.javacc
+            t=consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 622 of SPL.javacc
+            Id23.name=t.image;
+            if (trace_enabled) LOGGER.info("Exiting normally from Id");
+        }
+        catch(ParseException e) {
+            parseException23=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException23!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException23.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Id23.setEndLine(current_token.getEndLine());
+                    Id23.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Id23,true);
+                }
+            }
+        }
+    }
+
+    /** A literal. */
+    // SPL.javacc, line 626
+    final public void Literal() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 626 of SPL.javacc");
+        Token t;
+        // Code for expansion specified on line 631 of SPL.javacc
+        switch(nextTokenKind()) {
+            case INTEGER_LITERAL:
+            // Code for expansion specified on line 631 of SPL.javacc
+            // Code for expansion specified on line 632 of SPL.javacc
+            boolean Literal24forced=false;
+            IntConstNode Literal24=null;
+            if (buildTree) {
+                Literal24=new IntConstNode();
+                Token start=getToken(1);
+                Literal24.setBeginLine(start.beginLine);
+                Literal24.setBeginColumn(start.beginColumn);
+                Literal24.setInputSource(this.getInputSource());
+                openNodeScope(Literal24);
+            }
+            ParseException parseException24=null;
+            try {
+                // Code for expansion specified on line 632 of SPL.javacc
+                t=consumeToken(INTEGER_LITERAL);
+                // Code for expansion specified on line 633 of SPL.javacc
+                Literal24.val=Integer.parseInt(t.image);
+            }
+            catch(ParseException e) {
+                parseException24=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException24!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException24.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        Literal24.setEndLine(current_token.getEndLine());
+                        Literal24.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(Literal24,true);
+                    }
+                }
+            }
+            break;
+            case 31:
+            case 32:
+            // Code for expansion specified on line 638 of SPL.javacc
+            // Code for BooleanLiteral specified on line 638 of SPL.javacc
+            BooleanLiteral();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from Literal");
+    }
+
+    /** A boolean literal. */
+    // SPL.javacc, line 651
+    final public void BooleanLiteral() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 651 of SPL.javacc");
+        // Code for expansion specified on line 654 of SPL.javacc
+        switch(nextTokenKind()) {
+            case 31:
+            // Code for expansion specified on line 654 of SPL.javacc
+            // Code for expansion specified on line 654 of SPL.javacc
+            boolean BooleanLiteral25forced=false;
+            TrueNode BooleanLiteral25=null;
+            if (buildTree) {
+                BooleanLiteral25=new TrueNode();
+                Token start=getToken(1);
+                BooleanLiteral25.setBeginLine(start.beginLine);
+                BooleanLiteral25.setBeginColumn(start.beginColumn);
+                BooleanLiteral25.setInputSource(this.getInputSource());
+                openNodeScope(BooleanLiteral25);
+            }
+            ParseException parseException25=null;
+            try {
+                consumeToken(31);
+            }
+            catch(ParseException e) {
+                parseException25=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException25!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException25.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        BooleanLiteral25.setEndLine(current_token.getEndLine());
+                        BooleanLiteral25.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(BooleanLiteral25,true);
+                    }
+                }
+            }
+            break;
+            case 32:
+            // Code for expansion specified on line 656 of SPL.javacc
+            // Code for expansion specified on line 656 of SPL.javacc
+            boolean BooleanLiteral26forced=false;
+            FalseNode BooleanLiteral26=null;
+            if (buildTree) {
+                BooleanLiteral26=new FalseNode();
+                Token start=getToken(1);
+                BooleanLiteral26.setBeginLine(start.beginLine);
+                BooleanLiteral26.setBeginColumn(start.beginColumn);
+                BooleanLiteral26.setInputSource(this.getInputSource());
+                openNodeScope(BooleanLiteral26);
+            }
+            ParseException parseException26=null;
+            try {
+                consumeToken(32);
+            }
+            catch(ParseException e) {
+                parseException26=e;
+                throw e;
+            }
+            finally {
+                if (buildTree) {
+                    if (parseException26!=null) {
+                        if (trace_enabled) LOGGER.warning("ParseException: "+parseException26.getMessage());
+                        clearNodeScope();
+                    }
+                    else {
+                        BooleanLiteral26.setEndLine(current_token.getEndLine());
+                        BooleanLiteral26.setEndColumn(current_token.getEndColumn());
+                        closeNodeScope(BooleanLiteral26,true);
+                    }
+                }
+            }
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from BooleanLiteral");
+    }
+
+    /*
+ * Statement syntax follows.
+ */
+    /** A statement. */
+    // SPL.javacc, line 681
+    final public void Statement() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 681 of SPL.javacc");
+        // Code for expansion specified on line 684 of SPL.javacc
+        switch(nextTokenKind()) {
+            case 9:
+            // Code for expansion specified on line 684 of SPL.javacc
+            // Code for expansion specified on line 684 of SPL.javacc
+            consumeToken(9);
+            break;
+            default:
+            if (phase2_11_SPL_javacc_line_686(2)) {
+                // Code for expansion specified on line 686 of SPL.javacc
+                // Code for LabeledStatement specified on line 687 of SPL.javacc
+                LabeledStatement();
+            }
+            else {
+                switch(nextTokenKind()) {
+                    case 34:
+                    // Code for expansion specified on line 689 of SPL.javacc
+                    // Code for Block specified on line 689 of SPL.javacc
+                    Block();
+                    break;
+                    case INTEGER_LITERAL:
+                    case 29:
+                    case 31:
+                    case 32:
+                    case IDENTIFIER:
+                    // Code for expansion specified on line 691 of SPL.javacc
+                    // Code for StatementExpression specified on line 691 of SPL.javacc
+                    StatementExpression();
+                    break;
+                    case 36:
+                    // Code for expansion specified on line 693 of SPL.javacc
+                    // Code for IfStatement specified on line 693 of SPL.javacc
+                    IfStatement();
+                    break;
+                    case 38:
+                    // Code for expansion specified on line 695 of SPL.javacc
+                    // Code for WhileStatement specified on line 695 of SPL.javacc
+                    WhileStatement();
+                    break;
+                    case 39:
+                    case 40:
+                    // Code for expansion specified on line 697 of SPL.javacc
+                    // Code for IOStatement specified on line 697 of SPL.javacc
+                    IOStatement();
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from Statement");
+    }
+
+    /** A labeled statement. */
+    // SPL.javacc, line 701
+    final public void LabeledStatement() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 701 of SPL.javacc");
+        // Code for expansion specified on line 704 of SPL.javacc
+        // Code for expansion specified on line 704 of SPL.javacc
+        consumeToken(IDENTIFIER);
+        // Code for expansion specified on line 704 of SPL.javacc
+        consumeToken(33);
+        // Code for Statement specified on line 704 of SPL.javacc
+        Statement();
+        if (trace_enabled) LOGGER.info("Exiting normally from LabeledStatement");
+    }
+
+    /** A block. */
+    // SPL.javacc, line 719
+    final public void Block() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 719 of SPL.javacc");
+        // Code for expansion specified on line 722 of SPL.javacc
+        boolean Block27forced=false;
+        Block Block27=null;
+        if (buildTree) {
+            Block27=new Block();
+            Token start=getToken(1);
+            Block27.setBeginLine(start.beginLine);
+            Block27.setBeginColumn(start.beginColumn);
+            Block27.setInputSource(this.getInputSource());
+            openNodeScope(Block27);
+        }
+        ParseException parseException27=null;
+        try {
+            // Code for expansion specified on line 722 of SPL.javacc
+            consumeToken(34);
+            // Code for expansion specified on line 722 of SPL.javacc
+            label_13:
+            while (true) {
+                int int11=nextTokenKind();
+                if (!(int11>=0&&(jj_first_set_2[int11>>6]&(1L<<int11))!=0L)) {
+                    break label_13;
+                }
+                // Code for expansion specified on line 722 of SPL.javacc
+                // Code for Statement specified on line 722 of SPL.javacc
+                Statement();
+            }
+            // Code for expansion specified on line 722 of SPL.javacc
+            consumeToken(35);
+            if (trace_enabled) LOGGER.info("Exiting normally from Block");
+        }
+        catch(ParseException e) {
+            parseException27=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException27!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException27.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Block27.setEndLine(current_token.getEndLine());
+                    Block27.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Block27,true);
+                }
+            }
+        }
+    }
+
+    /** A statement expression. */
+    // SPL.javacc, line 735
+    final public void StatementExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 735 of SPL.javacc");
+        // Code for expansion specified on line 742 of SPL.javacc
+        boolean StatementExpression28forced=false;
+        StatementExpression StatementExpression28=null;
+        if (buildTree) {
+            StatementExpression28=new StatementExpression();
+            Token start=getToken(1);
+            StatementExpression28.setBeginLine(start.beginLine);
+            StatementExpression28.setBeginColumn(start.beginColumn);
+            StatementExpression28.setInputSource(this.getInputSource());
+            openNodeScope(StatementExpression28);
+        }
+        ParseException parseException28=null;
+        try {
+            // Code for Assignment specified on line 742 of SPL.javacc
+            Assignment();
+            // Code for expansion specified on line 742 of SPL.javacc
+            consumeToken(9);
+            if (trace_enabled) LOGGER.info("Exiting normally from StatementExpression");
+        }
+        catch(ParseException e) {
+            parseException28=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException28!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException28.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    StatementExpression28.setEndLine(current_token.getEndLine());
+                    StatementExpression28.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(StatementExpression28,true);
+                }
+            }
+        }
+    }
+
+    /** An if statement. */
+    // SPL.javacc, line 762
+    final public void IfStatement() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 762 of SPL.javacc");
+        // Code for expansion specified on line 770 of SPL.javacc
+        boolean IfStatement29forced=false;
+        IfStatement IfStatement29=null;
+        if (buildTree) {
+            IfStatement29=new IfStatement();
+            Token start=getToken(1);
+            IfStatement29.setBeginLine(start.beginLine);
+            IfStatement29.setBeginColumn(start.beginColumn);
+            IfStatement29.setInputSource(this.getInputSource());
+            openNodeScope(IfStatement29);
+        }
+        ParseException parseException29=null;
+        try {
+            // Code for expansion specified on line 770 of SPL.javacc
+            consumeToken(36);
+            // Code for expansion specified on line 770 of SPL.javacc
+            consumeToken(29);
+            // Code for Expression specified on line 770 of SPL.javacc
+            Expression();
+            // Code for expansion specified on line 770 of SPL.javacc
+            consumeToken(30);
+            // Code for Statement specified on line 770 of SPL.javacc
+            Statement();
+            // Code for expansion specified on line 770 of SPL.javacc
+            int int12=nextTokenKind();
+            if (int12==37) {
+                // Code for expansion specified on line 770 of SPL.javacc
+                // Code for expansion specified on line 770 of SPL.javacc
+                consumeToken(37);
+                // Code for Statement specified on line 770 of SPL.javacc
+                Statement();
+            }
+            if (trace_enabled) LOGGER.info("Exiting normally from IfStatement");
+        }
+        catch(ParseException e) {
+            parseException29=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException29!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException29.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    IfStatement29.setEndLine(current_token.getEndLine());
+                    IfStatement29.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(IfStatement29,true);
+                }
+            }
+        }
+    }
+
+    /** A while statement. */
+    // SPL.javacc, line 793
+    final public void WhileStatement() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 793 of SPL.javacc");
+        // Code for expansion specified on line 796 of SPL.javacc
+        boolean WhileStatement30forced=false;
+        WhileStatement WhileStatement30=null;
+        if (buildTree) {
+            WhileStatement30=new WhileStatement();
+            Token start=getToken(1);
+            WhileStatement30.setBeginLine(start.beginLine);
+            WhileStatement30.setBeginColumn(start.beginColumn);
+            WhileStatement30.setInputSource(this.getInputSource());
+            openNodeScope(WhileStatement30);
+        }
+        ParseException parseException30=null;
+        try {
+            // Code for expansion specified on line 796 of SPL.javacc
+            consumeToken(38);
+            // Code for expansion specified on line 796 of SPL.javacc
+            consumeToken(29);
+            // Code for Expression specified on line 796 of SPL.javacc
+            Expression();
+            // Code for expansion specified on line 796 of SPL.javacc
+            consumeToken(30);
+            // Code for Statement specified on line 796 of SPL.javacc
+            Statement();
+            if (trace_enabled) LOGGER.info("Exiting normally from WhileStatement");
+        }
+        catch(ParseException e) {
+            parseException30=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException30!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException30.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    WhileStatement30.setEndLine(current_token.getEndLine());
+                    WhileStatement30.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(WhileStatement30,true);
+                }
+            }
+        }
+    }
+
+    /** An IO statement. */
+    // SPL.javacc, line 800
+    final public void IOStatement() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 800 of SPL.javacc");
+        String name;
+        // Code for expansion specified on line 803 of SPL.javacc
+        switch(nextTokenKind()) {
+            case 39:
+            // Code for expansion specified on line 803 of SPL.javacc
+            // Code for ReadStatement specified on line 803 of SPL.javacc
+            ReadStatement();
+            break;
+            case 40:
+            // Code for expansion specified on line 805 of SPL.javacc
+            // Code for WriteStatement specified on line 805 of SPL.javacc
+            WriteStatement();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from IOStatement");
+    }
+
+    /** A read statement. */
+    // SPL.javacc, line 862
+    final public void ReadStatement() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 862 of SPL.javacc");
+        Token t;
+        // Code for expansion specified on line 865 of SPL.javacc
+        boolean ReadStatement31forced=false;
+        ReadStatement ReadStatement31=null;
+        if (buildTree) {
+            ReadStatement31=new ReadStatement();
+            Token start=getToken(1);
+            ReadStatement31.setBeginLine(start.beginLine);
+            ReadStatement31.setBeginColumn(start.beginColumn);
+            ReadStatement31.setInputSource(this.getInputSource());
+            openNodeScope(ReadStatement31);
+        }
+        ParseException parseException31=null;
+        try {
+            // Code for expansion specified on line 865 of SPL.javacc
+            consumeToken(39);
+            // Code for expansion specified on line 865 of SPL.javacc
+            t=consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 866 of SPL.javacc
+            ReadStatement31.name=t.image;
+            if (trace_enabled) LOGGER.info("Exiting normally from ReadStatement");
+        }
+        catch(ParseException e) {
+            parseException31=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException31!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException31.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    ReadStatement31.setEndLine(current_token.getEndLine());
+                    ReadStatement31.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(ReadStatement31,true);
+                }
+            }
+        }
+    }
+
+    /** A write statement. */
+    // SPL.javacc, line 870
+    final public void WriteStatement() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 870 of SPL.javacc");
+        Token t;
+        // Code for expansion specified on line 873 of SPL.javacc
+        boolean WriteStatement32forced=false;
+        WriteStatement WriteStatement32=null;
+        if (buildTree) {
+            WriteStatement32=new WriteStatement();
+            Token start=getToken(1);
+            WriteStatement32.setBeginLine(start.beginLine);
+            WriteStatement32.setBeginColumn(start.beginColumn);
+            WriteStatement32.setInputSource(this.getInputSource());
+            openNodeScope(WriteStatement32);
+        }
+        ParseException parseException32=null;
+        try {
+            // Code for expansion specified on line 873 of SPL.javacc
+            consumeToken(40);
+            // Code for expansion specified on line 873 of SPL.javacc
+            t=consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 874 of SPL.javacc
+            WriteStatement32.name=t.image;
+            if (trace_enabled) LOGGER.info("Exiting normally from WriteStatement");
+        }
+        catch(ParseException e) {
+            parseException32=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException32!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException32.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    WriteStatement32.setEndLine(current_token.getEndLine());
+                    WriteStatement32.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(WriteStatement32,true);
+                }
+            }
+        }
+    }
+
+    static private final long[] jj_first_set_0={0x3d5a00003c0L};
+    static private final long[] jj_first_set_1={0x3c0000L};
+    static private final long[] jj_first_set_2={0x3d5a0000300L};
+    //====================================
+    // Start of methods for Phase 2 Lookaheads
+    //====================================
+    private boolean phase2_1_SPL_javacc_line_232(int maxLookahead) {
+        if (jj_la_cached(0)) return jj_la_cacheResults[0];
+        jj_la=maxLookahead;
+        jj_lastpos=jj_scanpos=current_token;
+        try {
+            return jj_la_cache(0,!phase3_1_SPL_javacc_line_232());
+        }
+        catch(LookaheadSuccess ls) {
+            return jj_la_cache(0,true);
+        }
+        finally {
+            // So that the scan position does not keep the tokens from here on reachable
+            jj_lastpos=jj_scanpos=null;
+        }
+    }
+
+    private boolean phase2_11_SPL_javacc_line_686(int maxLookahead) {
+        switch(nextTokenKind()) {
+            case IDENTIFIER:
+            switch(getToken(2).kind) {
+                case 33:
+                return true;
+                default:
+                return false;
+            }
+            default:
+            return false;
+        }
+    }
+
+    //====================================
+    // Start of methods for Phase 3 Lookaheads
+    //====================================
+    private boolean phase3_1_SPL_javacc_line_232() {
+        if (phase3R_81()) return true;
+        if (jj_scan_token(10)) return true;
+        return false;
+    }
+
+    private boolean phase3R_81() {
+        Token token13=jj_scanpos;
+        if (phase3R_16()) {
+            jj_scanpos=token13;
+            if (phase3R_17()) {
+                jj_scanpos=token13;
+                if (phase3R_18()) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_16() {
+        if (phase3R_19()) return true;
+        return false;
+    }
+
+    private boolean phase3R_17() {
+        if (phase3R_20()) return true;
+        return false;
+    }
+
+    private boolean phase3R_18() {
+        if (phase3R_21()) return true;
+        return false;
+    }
+
+    private boolean phase3R_19() {
+        Token token14=jj_scanpos;
+        if (phase3R_22()) {
+            jj_scanpos=token14;
+            if (phase3R_23()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_20() {
+        if (jj_scan_token(IDENTIFIER)) return true;
+        return false;
+    }
+
+    private boolean phase3R_21() {
+        if (jj_scan_token(29)) return true;
+        if (phase3R_33()) return true;
+        if (jj_scan_token(30)) return true;
+        return false;
+    }
+
+    private boolean phase3R_22() {
+        if (jj_scan_token(INTEGER_LITERAL)) return true;
+        return false;
+    }
+
+    private boolean phase3R_23() {
+        if (phase3R_25()) return true;
+        return false;
+    }
+
+    private boolean phase3R_33() {
+        Token token15=jj_scanpos;
+        if (phase3R_26()) {
+            jj_scanpos=token15;
+            if (phase3R_27()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_25() {
+        Token token16=jj_scanpos;
+        if (phase3R_28()) {
+            jj_scanpos=token16;
+            if (phase3R_29()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_26() {
+        if (phase3R_30()) return true;
+        return false;
+    }
+
+    private boolean phase3R_27() {
+        if (phase3R_31()) return true;
+        return false;
+    }
+
+    private boolean phase3R_28() {
+        if (jj_scan_token(31)) return true;
+        return false;
+    }
+
+    private boolean phase3R_29() {
+        if (jj_scan_token(32)) return true;
+        return false;
+    }
+
+    private boolean phase3R_30() {
+        if (phase3R_81()) return true;
+        if (jj_scan_token(10)) return true;
+        if (phase3R_33()) return true;
+        return false;
+    }
+
+    private boolean phase3R_31() {
+        if (phase3R_38()) return true;
+        while (true) {
+            Token token17=jj_scanpos;
+            if (phase3R_35()) {
+                jj_scanpos=token17;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_38() {
+        if (phase3R_41()) return true;
+        while (true) {
+            Token token18=jj_scanpos;
+            if (phase3R_37()) {
+                jj_scanpos=token18;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_35() {
+        if (jj_scan_token(11)) return true;
+        if (phase3R_38()) return true;
+        return false;
+    }
+
+    private boolean phase3R_41() {
+        if (phase3R_44()) return true;
+        while (true) {
+            Token token19=jj_scanpos;
+            if (phase3R_40()) {
+                jj_scanpos=token19;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_37() {
+        if (jj_scan_token(12)) return true;
+        if (phase3R_41()) return true;
+        return false;
+    }
+
+    private boolean phase3R_44() {
+        if (phase3R_47()) return true;
+        while (true) {
+            Token token20=jj_scanpos;
+            if (phase3R_43()) {
+                jj_scanpos=token20;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_40() {
+        if (jj_scan_token(13)) return true;
+        if (phase3R_44()) return true;
+        return false;
+    }
+
+    private boolean phase3R_47() {
+        if (phase3R_50()) return true;
+        while (true) {
+            Token token21=jj_scanpos;
+            if (phase3R_46()) {
+                jj_scanpos=token21;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_43() {
+        if (jj_scan_token(14)) return true;
+        if (phase3R_47()) return true;
+        return false;
+    }
+
+    private boolean phase3R_50() {
+        if (phase3R_62()) return true;
+        while (true) {
+            Token token22=jj_scanpos;
+            if (phase3R_49()) {
+                jj_scanpos=token22;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_46() {
+        if (jj_scan_token(15)) return true;
+        if (phase3R_50()) return true;
+        return false;
+    }
+
+    private boolean phase3R_62() {
+        if (phase3R_70()) return true;
+        while (true) {
+            Token token23=jj_scanpos;
+            if (phase3R_52()) {
+                jj_scanpos=token23;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_49() {
+        Token token24=jj_scanpos;
+        if (phase3R_53()) {
+            jj_scanpos=token24;
+            if (phase3R_54()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_70() {
+        if (phase3R_78()) return true;
+        while (true) {
+            Token token25=jj_scanpos;
+            if (phase3R_56()) {
+                jj_scanpos=token25;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_52() {
+        Token token26=jj_scanpos;
+        if (phase3R_57()) {
+            jj_scanpos=token26;
+            if (phase3R_58()) {
+                jj_scanpos=token26;
+                if (phase3R_59()) {
+                    jj_scanpos=token26;
+                    if (phase3R_60()) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_53() {
+        if (jj_scan_token(16)) return true;
+        if (phase3R_62()) return true;
+        return false;
+    }
+
+    private boolean phase3R_54() {
+        if (jj_scan_token(17)) return true;
+        if (phase3R_62()) return true;
+        return false;
+    }
+
+    private boolean phase3R_78() {
+        if (phase3R_84()) return true;
+        while (true) {
+            Token token27=jj_scanpos;
+            if (phase3R_64()) {
+                jj_scanpos=token27;
+                break;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_56() {
+        Token token28=jj_scanpos;
+        if (phase3R_65()) {
+            jj_scanpos=token28;
+            if (phase3R_66()) return true;
+        }
+        return false;
+    }
+
+    private boolean phase3R_57() {
+        if (jj_scan_token(18)) return true;
+        if (phase3R_70()) return true;
+        return false;
+    }
+
+    private boolean phase3R_58() {
+        if (jj_scan_token(19)) return true;
+        if (phase3R_70()) return true;
+        return false;
+    }
+
+    private boolean phase3R_59() {
+        if (jj_scan_token(20)) return true;
+        if (phase3R_70()) return true;
+        return false;
+    }
+
+    private boolean phase3R_60() {
+        if (jj_scan_token(21)) return true;
+        if (phase3R_70()) return true;
+        return false;
+    }
+
+    private boolean phase3R_84() {
+        Token token29=jj_scanpos;
+        if (phase3R_71()) {
+            jj_scanpos=token29;
+            if (phase3R_72()) {
+                jj_scanpos=token29;
+                if (phase3R_73()) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_64() {
+        Token token30=jj_scanpos;
+        if (phase3R_74()) {
+            jj_scanpos=token30;
+            if (phase3R_75()) {
+                jj_scanpos=token30;
+                if (phase3R_76()) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean phase3R_65() {
+        if (jj_scan_token(22)) return true;
+        if (phase3R_78()) return true;
+        return false;
+    }
+
+    private boolean phase3R_66() {
+        if (jj_scan_token(23)) return true;
+        if (phase3R_78()) return true;
+        return false;
+    }
+
+    private boolean phase3R_71() {
+        if (jj_scan_token(27)) return true;
+        if (phase3R_84()) return true;
+        return false;
+    }
+
+    private boolean phase3R_72() {
+        if (jj_scan_token(28)) return true;
+        if (phase3R_84()) return true;
+        return false;
+    }
+
+    private boolean phase3R_73() {
+        if (phase3R_81()) return true;
+        return false;
+    }
+
+    private boolean phase3R_74() {
+        if (jj_scan_token(24)) return true;
+        if (phase3R_84()) return true;
+        return false;
+    }
+
+    private boolean phase3R_75() {
+        if (jj_scan_token(25)) return true;
+        if (phase3R_84()) return true;
+        return false;
+    }
+
+    private boolean phase3R_76() {
+        if (jj_scan_token(26)) return true;
+        if (phase3R_84()) return true;
+        return false;
+    }
+
+    Token current_token;
+    private Token jj_scanpos,jj_lastpos;
+    private int jj_la;
+    private boolean semanticLookahead;
+    public SPLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public SPLParser(Reader reader) {
+        token_source=new SPLLexer(reader);
+        current_token=new Token();
+    }
+
+    /** Constructor with generated Token Manager. */
+    public SPLParser(SPLLexer lexer) {
+        token_source=lexer;
+        current_token=new Token();
+    }
+
+    private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced=false;
+        Token oldToken=current_token;
+        current_token=current_token.next;
+        if (current_token==null) {
+            current_token=token_source.getNextToken();
+        }
+        if (current_token.kind!=expectedType) {
+            handleUnexpectedTokenType(expectedType,forced,oldToken);
+        }
+        if (tokensAreNodes) {
+            if (buildTree) {
+                pushNode(current_token);
+            }
+        }
+        if (trace_enabled) traceConsumedToken();
+        return current_token;
+    }
+
+    private void traceConsumedToken() {
+        LOGGER.info("Consumed token of type "+tokenImage[current_token.kind]+" from "+current_token.getLocation());
+    }
+
+    private void handleUnexpectedTokenType(int expectedType,boolean forced,Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+            //	    current_token = oldToken;
+            throw new ParseException(current_token);
+        }
+    }
+
+    private String generateErrorMessage(Token t) {
+        return"Encountered an error on (or somewhere around) line "+t.getBeginLine()+", column "+t.getBeginColumn()+" of "+t.getInputSource();
+    }
+
+    @SuppressWarnings("serial")
+    static private final class LookaheadSuccess extends java.lang.Error {
+    }
+    final private LookaheadSuccess LOOKAHEAD_SUCCESS=new LookaheadSuccess();
+    private boolean jj_scan_token(int kind) {
+        if (jj_scanpos==jj_lastpos) {
+            jj_la--;
+            if (jj_scanpos.next==null) {
+                jj_lastpos=jj_scanpos=jj_scanpos.next=token_source.getNextToken();
+            }
+            else {
+                jj_lastpos=jj_scanpos=jj_scanpos.next;
+            }
+        }
+        else {
+            jj_scanpos=jj_scanpos.next;
+        }
+        if (jj_scanpos.kind!=kind) return true;
+        if (jj_la==0&&jj_scanpos==jj_lastpos) throw LOOKAHEAD_SUCCESS;
+        return false;
+    }
+
+    // Results of phase 2 routines at current_token. Moving current_token
+    // bumps the stamp, which makes all the earlier results stale.
+    private Token jj_la_cacheToken;
+    private long jj_la_cacheStamp;
+    private final long[] jj_la_cacheStamps=new long[1];
+    private final boolean[] jj_la_cacheResults=new boolean[1];
+    private boolean jj_la_cached(int index) {
+        if (jj_la_cacheToken!=current_token) {
+            jj_la_cacheToken=current_token;
+            ++jj_la_cacheStamp;
+            return false;
+        }
+        return jj_la_cacheStamps[index]==jj_la_cacheStamp;
+    }
+
+    private boolean jj_la_cache(int index,boolean result) {
+        jj_la_cacheStamps[index]=jj_la_cacheStamp;
+        jj_la_cacheResults[index]=result;
+        return result;
+    }
+
+    final public Token getNextToken() {
+        if (current_token.next!=null) current_token=current_token.next;
+        else current_token=current_token.next=token_source.getNextToken();
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        Token t=current_token;
+        for (int i=0; i<index; i++) {
+            if (t.next!=null) t=t.next;
+            else t=t.next=token_source.getNextToken();
+        }
+        return t;
+    }
+
+    private int nextTokenKind() {
+        if (current_token.next==null) {
+            current_token.next=token_source.getNextToken();
+        }
+        return current_token.next.kind;
+    }
+
+    private List<Token>getTokensToEOL(int...desiredTokenTypes) {
+        ArrayList<Token>result=new ArrayList<>();
+        int currentLine=current_token.getBeginLine();
+        Token tok=current_token;
+        do {
+            Token prevToken=tok;
+            if (tok.next!=null) {
+                tok=tok.next;
+            }
+            else {
+                tok=token_source.getNextToken();
+                prevToken.next=tok;
+            }
+            result.add(tok);
+        }
+        while (tok.getBeginLine()==currentLine&&!intArrayContains(desiredTokenTypes,tok.kind)&&tok.kind!=EOF);
+        return result;
+    }
+
+    static private boolean intArrayContains(int[] array,int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i]==elem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trace_enabled=false;
+    public void setTracingEnabled(boolean tracingEnabled) {
+        trace_enabled=tracingEnabled;
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. StatementExpression.java */
+@SuppressWarnings("unused")
+public class StatementExpression extends SimpleNode {
+    public void interpret() {
+        getChild(0).interpret();
+        top--;
+        //just throw away the value.
+    }
+
+}
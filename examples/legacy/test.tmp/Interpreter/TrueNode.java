@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. TrueNode.java */
+@SuppressWarnings("unused")
+public class TrueNode extends SimpleNode {
+    public void interpret() {
+        stack[++top]=Boolean.TRUE;
+    }
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. VarDeclaration.java */
+@SuppressWarnings("unused")
+public class VarDeclaration extends SimpleNode implements SPLConstants {
+    int type;
+    String name;
+    public void interpret() {
+        if (type==BOOL) symtab.put(name,new Boolean(false));
+        else symtab.put(name,new Integer(0));
+    }
+
+}
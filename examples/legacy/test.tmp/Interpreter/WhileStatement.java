@@ -0,0 +1,17 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. WhileStatement.java */
+@SuppressWarnings("unused")
+public class WhileStatement extends SimpleNode {
+    public void interpret() {
+        do {
+            getChild(2).interpret();
+            if (((Boolean) stack[top--]).booleanValue()) {
+                getChild(4).interpret();
+            }
+            else {
+                break;
+            }
+        }
+        while (true);
+    }
+
+}
@@ -0,0 +1,18 @@
+import java.io.IOException;
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. WriteStatement.java */
+@SuppressWarnings("unused")
+public class WriteStatement extends SimpleNode {
+    String name;
+    public void interpret() {
+        if (symtab.get(name)==null) System.err.println("Undefined variable : "+name);
+        else try {
+            out.write("Value of "+name+" : "+symtab.get(name));
+            out.flush();
+        }
+        catch(IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BC.java */
+
+
+@SuppressWarnings("unused")
+public class BC extends BaseNode {
+
+}
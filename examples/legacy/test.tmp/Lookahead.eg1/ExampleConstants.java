@@ -0,0 +1,44 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ExampleConstants.java */
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface ExampleConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "\"a\""   
+,
+      "\"c\""   
+,
+      "\"b\""   
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+              "Input", 
+              "BC", 
+   };
+}
+
+
+
+
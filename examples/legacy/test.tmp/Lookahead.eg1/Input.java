@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Input.java */
+
+
+@SuppressWarnings("unused")
+public class Input extends BaseNode {
+
+}
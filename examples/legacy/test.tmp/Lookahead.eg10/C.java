@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. C.java */
+
+
+@SuppressWarnings("unused")
+public class C extends BaseNode {
+
+}
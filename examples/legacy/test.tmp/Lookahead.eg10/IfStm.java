@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IfStm.java */
+
+
+@SuppressWarnings("unused")
+public class IfStm extends BaseNode {
+
+}
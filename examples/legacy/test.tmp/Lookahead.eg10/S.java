@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. S.java */
+
+
+@SuppressWarnings("unused")
+public class S extends BaseNode {
+
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. expr.java */
+
+
+@SuppressWarnings("unused")
+public class expr extends BaseNode {
+
+}
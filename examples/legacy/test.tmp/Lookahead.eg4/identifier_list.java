@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. identifier_list.java */
+
+
+@SuppressWarnings("unused")
+public class identifier_list extends BaseNode {
+
+}
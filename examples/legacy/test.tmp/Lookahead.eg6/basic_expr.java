@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. basic_expr.java */
+
+
+@SuppressWarnings("unused")
+public class basic_expr extends BaseNode {
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ID.java */
+
+
+@SuppressWarnings("unused")
+public class ID extends Token {
+    public ID(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,52 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ExampleConstants.java */
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface ExampleConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int ID = 10;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+      "\"new\""   
+,
+      "\".\""   
+,
+      "\"TBD\""   
+,
+      "<ID>"
+
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "ID",
+              "basic_expr", 
+              "expr", 
+   };
+}
+
+
+
+
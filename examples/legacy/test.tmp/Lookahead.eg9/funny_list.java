@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. funny_list.java */
+
+
+@SuppressWarnings("unused")
+public class funny_list extends BaseNode {
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BODY.java */
+
+
+@SuppressWarnings("unused")
+public class BODY extends Token {
+    public BODY(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DATE.java */
+
+
+@SuppressWarnings("unused")
+public class DATE extends Token {
+    public DATE(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,597 @@
+/* Generated by: JavaCC 21 Parser Generator. Digest.java */
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class Digest implements DigestConstants {
+    static int count=0;
+    static String buffer="";
+    public static void main(String args[]) throws ParseException {
+        Digest parser=new Digest(new java.io.InputStreamReader(System.in));
+        System.out.println("DIGEST OF RECENT MESSAGES FROM THE JAVACC MAILING LIST");
+        System.out.println("----------------------------------------------------------------------");
+        System.out.println("");
+        System.out.println("MESSAGE SUMMARY:");
+        System.out.println("");
+        parser.MailFile();
+        if (count==0) {
+            System.out.println("There have been no messages since the last digest posting.");
+            System.out.println("");
+            System.out.println("----------------------------------------------------------------------");
+        }
+        else {
+            System.out.println("");
+            System.out.println("----------------------------------------------------------------------");
+            System.out.println("");
+            System.out.println(buffer);
+        }
+    }
+
+    static final java.util.logging.Logger LOGGER=Logger.getLogger("Digest");
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing=false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    /** Generated Lexer. */
+    public DigestLexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    private boolean buildTree=true;
+    private boolean tokensAreNodes=true;
+    private boolean specialTokensAreNodes=false;
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes=specialTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes=tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope=new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor=currentNodeScope.floor;
+        currentNodeScope.floor=currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark=currentNodeScope.floor;
+        currentNodeScope.floor=Math.min(previousFloor,mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n,int mark) {
+        List<Node>children=currentNodeScope.subList(mark,currentNodeScope.size());
+        List<Node>nodes=new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n,true);
+    }
+
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n,int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node>nodes=new ArrayList<Node>();
+        for (int i=0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (specialTokensAreNodes&&(child instanceof Token)) {
+                Token token=(Token) child;
+                Token specialToken=token;
+                while (specialToken!=null) {
+                    specialToken=specialToken.specialToken;
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken=specialToken.next;
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n,boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a=nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node>nodes=new ArrayList<Node>();
+            while (a-->0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (specialTokensAreNodes&&(child instanceof Token)) {
+                    Token token=(Token) child;
+                    Token specialToken=token;
+                    while (specialToken.specialToken!=null) {
+                        specialToken=specialToken.specialToken;
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken=specialToken.next;
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree=buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    Digest jjtree=this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope=Digest.this.currentNodeScope;
+            Digest.this.currentNodeScope=this;
+        }
+
+        boolean isRootScope() {
+            return parentScope==null;
+        }
+
+        Node rootNode() {
+            NodeScope ns=this;
+            while (ns.parentScope!=null) {
+                ns=ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result=remove(size()-1);
+            if (size()<floor) {
+                floor=size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1,n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            Digest.this.currentNodeScope=parentScope;
+        }
+
+        int nestingLevel() {
+            int result=0;
+            NodeScope parent=this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent=parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+    static private final int INFINITY=Integer.MAX_VALUE;
+    //=================================
+    // Start of methods for BNF Productions
+    //=================================
+    // PARSER SPECIFICATIONS BEGIN HERE
+    // Digest.javacc, line 68
+    final public void MailFile() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 68 of Digest.javacc");
+        // Code for expansion specified on line 72 of Digest.javacc
+        boolean MailFile1forced=false;
+        MailFile MailFile1=null;
+        if (buildTree) {
+            MailFile1=new MailFile();
+            Token start=getToken(1);
+            MailFile1.setBeginLine(start.beginLine);
+            MailFile1.setBeginColumn(start.beginColumn);
+            MailFile1.setInputSource(this.getInputSource());
+            openNodeScope(MailFile1);
+        }
+        ParseException parseException1=null;
+        try {
+            // Code for expansion specified on line 77 of Digest.javacc
+            label_1:
+            while (true) {
+                int int1=nextTokenKind();
+                if (!(int1==SUBJECT||int1==FROM||int1==DATE)) {
+                    break label_1;
+                }
+                // Code for expansion specified on line 73 of Digest.javacc
+                // Code for expansion specified on line 73 of Digest.javacc
+                count++;
+                // Code for MailMessage specified on line 76 of Digest.javacc
+                MailMessage();
+            }
+            // Code for expansion specified on line 78 of Digest.javacc
+            consumeToken(0);
+            if (trace_enabled) LOGGER.info("Exiting normally from MailFile");
+        }
+        catch(ParseException e) {
+            parseException1=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException1!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    MailFile1.setEndLine(current_token.getEndLine());
+                    MailFile1.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(MailFile1,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    // Digest.javacc, line 81
+    final public void MailMessage() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 81 of Digest.javacc");
+        Token subj=null,from=null,date=null,body;
+        // Code for expansion specified on line 86 of Digest.javacc
+        boolean MailMessage2forced=false;
+        MailMessage MailMessage2=null;
+        if (buildTree) {
+            MailMessage2=new MailMessage();
+            Token start=getToken(1);
+            MailMessage2.setBeginLine(start.beginLine);
+            MailMessage2.setBeginColumn(start.beginColumn);
+            MailMessage2.setInputSource(this.getInputSource());
+            openNodeScope(MailMessage2);
+        }
+        ParseException parseException2=null;
+        try {
+            // Code for expansion specified on line 86 of Digest.javacc
+            label_2:
+            while (true) {
+                // Code for expansion specified on line 86 of Digest.javacc
+                switch(nextTokenKind()) {
+                    case SUBJECT:
+                    // Code for expansion specified on line 86 of Digest.javacc
+                    // Code for expansion specified on line 86 of Digest.javacc
+                    subj=consumeToken(SUBJECT);
+                    break;
+                    case FROM:
+                    // Code for expansion specified on line 86 of Digest.javacc
+                    // Code for expansion specified on line 86 of Digest.javacc
+                    from=consumeToken(FROM);
+                    break;
+                    case DATE:
+                    // Code for expansion specified on line 86 of Digest.javacc
+                    // Code for expansion specified on line 86 of Digest.javacc
+                    date=consumeToken(DATE);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                int int2=nextTokenKind();
+                if (!(int2==SUBJECT||int2==FROM||int2==DATE)) {
+                    break label_2;
+                }
+            }
+            // Code for expansion specified on line 87 of Digest.javacc
+            System.out.println(count+". "+((subj==null)?"no subject":
+            subj.image));
+            buffer+="\n";
+            buffer+="Message "+count+":\n";
+            buffer+="\n";
+            buffer+="Subject: "+((subj==null)?"no subject":
+            subj.image)+"\n";
+            buffer+="From: "+((from==null)?"":
+            from.image)+"\n";
+            buffer+="Date: "+((date==null)?"":
+            date.image)+"\n";
+            buffer+="\n";
+            // Code for expansion specified on line 101 of Digest.javacc
+            label_3:
+            while (true) {
+                int int3=nextTokenKind();
+                if (!(int3==BODY)) {
+                    break label_3;
+                }
+                // Code for expansion specified on line 97 of Digest.javacc
+                // Code for expansion specified on line 97 of Digest.javacc
+                body=consumeToken(BODY);
+                // Code for expansion specified on line 98 of Digest.javacc
+                buffer+=body.image;
+            }
+            // Code for expansion specified on line 102 of Digest.javacc
+            consumeToken(END);
+            // Code for expansion specified on line 103 of Digest.javacc
+            buffer+="\n";
+            buffer+="----------------------------------------------------------------------\n";
+            if (trace_enabled) LOGGER.info("Exiting normally from MailMessage");
+        }
+        catch(ParseException e) {
+            parseException2=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException2!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    MailMessage2.setEndLine(current_token.getEndLine());
+                    MailMessage2.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(MailMessage2,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    Token current_token;
+    public Digest(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public Digest(Reader reader) {
+        token_source=new DigestLexer(reader);
+        current_token=new Token();
+    }
+
+    /** Constructor with generated Token Manager. */
+    public Digest(DigestLexer lexer) {
+        token_source=lexer;
+        current_token=new Token();
+    }
+
+    private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced=false;
+        Token oldToken=current_token;
+        current_token=current_token.next;
+        if (current_token==null) {
+            current_token=token_source.getNextToken();
+        }
+        if (current_token.kind!=expectedType) {
+            handleUnexpectedTokenType(expectedType,forced,oldToken);
+        }
+        if (tokensAreNodes) {
+            if (buildTree) {
+                pushNode(current_token);
+            }
+        }
+        if (trace_enabled) traceConsumedToken();
+        return current_token;
+    }
+
+    private void traceConsumedToken() {
+        LOGGER.info("Consumed token of type "+tokenImage[current_token.kind]+" from "+current_token.getLocation());
+    }
+
+    private void handleUnexpectedTokenType(int expectedType,boolean forced,Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+            //	    current_token = oldToken;
+            throw new ParseException(current_token);
+        }
+    }
+
+    private String generateErrorMessage(Token t) {
+        return"Encountered an error on (or somewhere around) line "+t.getBeginLine()+", column "+t.getBeginColumn()+" of "+t.getInputSource();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.next!=null) current_token=current_token.next;
+        else current_token=current_token.next=token_source.getNextToken();
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        Token t=current_token;
+        for (int i=0; i<index; i++) {
+            if (t.next!=null) t=t.next;
+            else t=t.next=token_source.getNextToken();
+        }
+        return t;
+    }
+
+    private int nextTokenKind() {
+        if (current_token.next==null) {
+            current_token.next=token_source.getNextToken();
+        }
+        return current_token.next.kind;
+    }
+
+    private List<Token>getTokensToEOL(int...desiredTokenTypes) {
+        ArrayList<Token>result=new ArrayList<>();
+        int currentLine=current_token.getBeginLine();
+        Token tok=current_token;
+        do {
+            Token prevToken=tok;
+            if (tok.next!=null) {
+                tok=tok.next;
+            }
+            else {
+                tok=token_source.getNextToken();
+                prevToken.next=tok;
+            }
+            result.add(tok);
+        }
+        while (tok.getBeginLine()==currentLine&&!intArrayContains(desiredTokenTypes,tok.kind)&&tok.kind!=EOF);
+        return result;
+    }
+
+    static private boolean intArrayContains(int[] array,int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i]==elem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trace_enabled=false;
+    public void setTracingEnabled(boolean tracingEnabled) {
+        trace_enabled=tracingEnabled;
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+}
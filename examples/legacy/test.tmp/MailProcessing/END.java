@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. END.java */
+
+
+@SuppressWarnings("unused")
+public class END extends Token {
+    public END(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FROM.java */
+
+
+@SuppressWarnings("unused")
+public class FROM extends Token {
+    public FROM(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,95 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FaqConstants.java */
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface FaqConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int EOL = 1;
+  int TWOEOLS = 2;
+  int NOT_EOL = 3;
+  int _TWOEOLS = 6;
+  int SUBJECT = 11;
+  int _EOL1 = 12;
+  int FROM = 13;
+  int _EOL2 = 14;
+  int DATE = 15;
+  int _EOL3 = 16;
+  int BODY = 17;
+  int END = 18;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+  int MAILHEADER = 1;
+  int MAILSUBJECT = 2;
+  int MAILFROM = 3;
+  int MAILDATE = 4;
+  int MAILBODY = 5;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "<EOL>"
+,
+      "<TWOEOLS>"
+,
+      "<NOT_EOL>"
+,
+      "<4>"
+,
+      "<5>"
+,
+      "<_TWOEOLS>"
+,
+      "\"Subject: \""   
+,
+      "\"From: \""   
+,
+      "\"Date: \""   
+,
+      "<10>"
+,
+      "<SUBJECT>"
+,
+      "<_EOL1>"
+,
+      "<FROM>"
+,
+      "<_EOL2>"
+,
+      "<DATE>"
+,
+      "<_EOL3>"
+,
+      "<BODY>"
+,
+      "\"\\u001f\""   
+
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "EOL",
+          "TWOEOLS",
+          "NOT_EOL",
+          "_TWOEOLS",
+          "SUBJECT",
+          "_EOL1",
+          "FROM",
+          "_EOL2",
+          "DATE",
+          "_EOL3",
+          "BODY",
+          "END",
+              "MailFile", 
+              "MailMessage", 
+   };
+}
+
+
+
+
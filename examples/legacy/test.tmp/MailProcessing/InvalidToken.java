@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+
+/**
+ * Token subclass to represent lexically invalid input
+ */
+ 
+public class InvalidToken extends Token {
+
+    public InvalidToken(String image) {
+       super(DigestConstants.INVALID, image);
+    }
+    
+    public InvalidToken() {
+       super(DigestConstants.INVALID);
+    }
+    
+    public String getNormalizedText() {
+        return "Lexically Invalid Input:" + image;
+    }
+    
+    public boolean isDirty() {
+        return true;
+    }
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MailFile.java */
+
+
+@SuppressWarnings("unused")
+public class MailFile extends BaseNode {
+
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MailMessage.java */
+
+
+@SuppressWarnings("unused")
+public class MailMessage extends BaseNode {
+
+}
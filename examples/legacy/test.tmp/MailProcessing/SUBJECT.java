@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. SUBJECT.java */
+
+
+@SuppressWarnings("unused")
+public class SUBJECT extends Token {
+    public SUBJECT(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. _EOL1.java */
+
+
+@SuppressWarnings("unused")
+public class _EOL1 extends Token {
+    public _EOL1(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. _EOL2.java */
+
+
+@SuppressWarnings("unused")
+public class _EOL2 extends Token {
+    public _EOL2(int kind, String image) {
+        super(kind, image);
+    }
+}
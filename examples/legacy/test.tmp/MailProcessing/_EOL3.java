@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. _EOL3.java */
+
+
+@SuppressWarnings("unused")
+public class _EOL3 extends Token {
+    public _EOL3(int kind, String image) {
+        super(kind, image);
+    }
+}
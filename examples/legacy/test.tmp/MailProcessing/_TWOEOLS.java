@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. _TWOEOLS.java */
+
+
+@SuppressWarnings("unused")
+public class _TWOEOLS extends Token {
+    public _TWOEOLS(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AdditiveExpression.java */
+
+
+@SuppressWarnings("unused")
+public class AdditiveExpression extends BaseNode {
+
+}
@@ -0,0 +1,780 @@
+/* Generated by: JavaCC 21 Parser Generator. Eg1Lexer.java */
+
+
+import java.io.Reader;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public class Eg1Lexer implements Eg1Constants {
+  private static final Logger LOGGER = Logger.getLogger("Eg1");
+ 
+
+
+  int[] jjemptyLineNo = new int[1];
+  int[] jjemptyColNo = new int[1];
+  boolean[] jjbeenHere = new boolean[1];
+  
+  
+  private int jjnewStateCnt;
+  private int jjround;
+  private int jjmatchedPos;
+  private int jjmatchedKind;
+  private String inputSource = "input";
+  
+  private boolean trace_enabled = false;
+  
+  private void setTracingEnabled(boolean trace_enabled) {
+     this.trace_enabled = trace_enabled;
+  }
+  
+  public String getInputSource() {
+      return inputSource;
+  }
+  
+  public void setInputSource(String inputSource) {
+      this.inputSource = inputSource;
+  }
+   
+  private LexicalState lexicalState = LexicalState.DEFAULT;
+  
+  public enum LexicalState {
+     DEFAULT,
+   }
+   
+
+      // Bit vector for TOKEN
+  static final long[] jjtoToken = {
+      0x3fc881L, 
+  };
+
+      // Bit vector for SKIP
+   static final long[] jjtoSkip = {
+       0x7eL, 
+   };
+
+
+
+    private final int[] jjrounds = new int[21];
+    private final int[] jjstateSet = new int[42];
+
+    private final StringBuilder image = new StringBuilder();
+    private int matchedCharsLength;
+
+    char curChar;
+    
+
+FileLineMap input_stream;
+
+public final void backup(int amount) {
+    input_stream.backup(amount);
+}
+
+    public Eg1Lexer(Reader reader) {
+       this(reader, 0, 1, 1);
+    }
+    public Eg1Lexer(Reader reader, int lexState, int line, int column) {
+        input_stream = new FileLineMap(reader, line, column);
+        SwitchTo(lexState);
+    }
+
+    
+    // Method to reinitialize the jjrounds array.
+    private void ReInitRounds() {
+       int i;
+       jjround = 0x80000001;
+       for (i = 21; i-- > 0;) 
+          jjrounds[i] = 0x80000000;
+    }
+
+
+    /** Switch to specified lexical state. */
+    public void switchTo(LexicalState lexState) {
+        if (this.lexicalState != lexState) {
+           if (trace_enabled) LOGGER.info("Switching from lexical state " + this.lexicalState + " to " + lexState);
+        }
+        this.lexicalState = lexState;
+    }
+    
+    /**
+      * @deprecated Use the switchTo method that takes an Enum
+      */
+    @Deprecated
+    public void SwitchTo(int lexState) {
+       switchTo(LexicalState.values()[lexState]);
+    }
+
+ 
+  
+  public Token getNextToken() {
+    Token specialToken = null;
+    Token matchedToken;
+    int curPos = 0;
+
+    EOFLoop :
+    while (true) {
+        int retval1 = input_stream.beginToken();
+        curChar = (char) (retval1);
+         if (retval1 == -1) { // Handle end of file
+            if (trace_enabled) LOGGER.info("Returning the <EOF> token.");
+			jjmatchedKind = 0;
+            Token eof = jjFillToken();
+            tokenLexicalActions(eof);
+		    eof.specialToken = specialToken;
+    		return eof;
+       }
+
+       image.setLength(0);
+       matchedCharsLength = 0;
+
+    
+                 while (curChar <= 32 
+                        && (0x100002600L
+                        & (1L << curChar)) != 0L) 
+                 {
+                    if (trace_enabled) LOGGER.info("Skipping character : " + ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int) curChar + ")"); 
+                    curChar = (char) input_stream.beginToken();
+                    if (curChar == (char) -1) {
+                        continue EOFLoop;
+                    }
+                }
+             
+             
+        jjmatchedKind = 0x7FFFFFFF;
+        jjmatchedPos = 0;
+        if (trace_enabled) LOGGER.info("Current character : " + ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int) curChar + ") " +
+            "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn()); 
+        curPos = jjMoveStringLiteralDfa0();
+
+  if (jjmatchedKind != 0x7FFFFFFF) { 
+      if (jjmatchedPos + 1 < curPos) {
+        if (trace_enabled) LOGGER.info("   Putting back " + (curPos - jjmatchedPos - 1) + " characters into the input stream.");
+        input_stream.backup(curPos - jjmatchedPos - 1);
+      }
+       if (trace_enabled) LOGGER.info("****** FOUND A " + tokenImage[jjmatchedKind] + " MATCH ("
+          + ParseException.addEscapes(input_stream.getSuffix(jjmatchedPos + 1)) + ") ******\n");
+ 
+      if ((jjtoToken[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L) {
+
+         matchedToken = jjFillToken();
+ 
+
+
+      tokenLexicalActions(matchedToken);
+
+ jjmatchedKind = matchedToken.kind;
+ 
+
+ return matchedToken;
+
+     }
+
+
+          
+          else
+
+          {
+
+
+
+            continue EOFLoop;
+          }
+
+   }
+    int error_line = input_stream.getEndLine();
+    int error_column = input_stream.getEndColumn();
+    String error_after = null;
+//    input_stream.backup(1);
+    error_after = curPos <= 1 ? "" : input_stream.getImage();
+    Token invalidToken = new InvalidToken("" + curChar);
+    invalidToken.specialToken = specialToken;
+    invalidToken.setBeginLine(error_line);
+    invalidToken.setEndLine(error_line);
+    invalidToken.setBeginColumn(error_column);
+    invalidToken.setEndColumn(error_column);
+    return invalidToken;
+     }
+  }
+
+  void tokenLexicalActions(Token matchedToken) {
+//       int matchedKind = (matchedToken != null) ? matchedToken.kind : jjmatchedKind; // REVISIT
+       matchedToken = null; 
+       switch(jjmatchedKind) {
+           default : break;
+      }
+    }
+
+    private Token jjFillToken() {
+        final Token t;
+        final String curTokenImage;
+        final int beginLine;
+        final int endLine;
+        final int beginColumn;
+        final int endColumn;
+        curTokenImage = input_stream.getImage();
+        beginLine = input_stream.getBeginLine();
+        beginColumn = input_stream.getBeginColumn();
+        endLine = input_stream.getEndLine();
+        endColumn = input_stream.getEndColumn();
+        t = Token.newToken(jjmatchedKind, curTokenImage);
+        t.beginLine = beginLine;
+        t.endLine = endLine;
+        t.beginColumn = beginColumn;
+        t.endColumn = endColumn;
+        t.setInputSource(this.inputSource);
+        return t;
+    }
+
+    private void jjCheckNAdd(int state) {
+        if (jjrounds[state] != jjround) {
+            jjstateSet[jjnewStateCnt++] = state;
+            jjrounds[state] = jjround;
+        }
+    }
+    
+    private void jjAddStates(int start, int end) {
+       do {
+           jjstateSet[jjnewStateCnt++] = jjnextStates[start];
+       }   while (start++ != end);
+    }
+
+    private void jjCheckNAddTwoStates(int state1, int state2) {
+        jjCheckNAdd(state1);
+        jjCheckNAdd(state2);
+    }
+    
+    private void jjCheckNAddStates(int start, int end) {
+        do {
+            jjCheckNAdd(jjnextStates[start]);
+        } while (start++ != end);
+    }
+
+    private void jjCheckNAddStates(int start) {
+        jjCheckNAdd(jjnextStates[start]);
+        jjCheckNAdd(jjnextStates[start + 1]);
+    }
+    
+    
+
+	private static boolean jjCanMove_0
+	   (int hiByte, int i1, int i2, long l1, long l2) {
+	
+	   switch(hiByte) {
+	      case 0 :
+	          return (jjbitVec2[i2] &l2) != 0L;
+	   	  default : 
+	   	     if ((jjbitVec0[i1] & l1) != 0L) {
+	   	        return (jjbitVec1[i2] & l2) != 0L;
+	   	     }
+	   	       return false;
+	   }		
+	}
+		
+    
+    private int jjStopAtPos(int pos, int kind) {
+         jjmatchedKind = kind;
+         jjmatchedPos = pos;
+         if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+         if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos + 1) 
+                            + " characters as a " + tokenImage[jjmatchedKind] + " token.");
+         return pos + 1;
+    }
+    
+
+    
+    
+    static final long[] jjbitVec0 = {
+   0xfffffffffffffffeL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL};
+    static final long[] jjbitVec1 = {
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL};
+    static final long[] jjbitVec2 = {
+   0x0L, 0x0L, 0xffffffffffffffffL, 0xffffffffffffffffL
+};
+
+  
+    private int jjStartNfa(int pos, 
+       long active0) {
+       return jjMoveNfa(jjStopStringLiteralDfa(pos, 
+        active0)
+        , pos+1);}
+
+  
+    private final int jjStopStringLiteralDfa(int pos, 
+    long active0
+  ) { 
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        switch (pos) {
+            case 0 :
+               if (
+              (active0 & 0x40000L) != 0L 
+               ) 
+                   return 10;
+                       return -1;
+                   default :
+                       return -1;
+      }
+    }
+    private int jjStartNfaWithStates(int pos, int kind, int state) {
+        jjmatchedKind = kind;
+        jjmatchedPos = pos;
+        if (trace_enabled) LOGGER.info("   No more string literal token matches are possible.");
+        if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos + 1) + " characters as a " + tokenImage[jjmatchedKind] + " token.");
+         int retval = input_stream.readChar();
+       if (retval >=0) {
+           curChar = (char) retval;
+       } 
+       else  { 
+            return pos + 1; 
+        }
+        if (trace_enabled) LOGGER.info("" + 
+            "Current character : " + ParseException.addEscapes(String.valueOf(curChar)) 
+            + " (" + (int)curChar + ") " + "at line " + input_stream.getEndLine() 
+            + " column " + input_stream.getEndColumn());
+        return jjMoveNfa(state, pos+1);
+   }
+  
+    
+    private int jjMoveStringLiteralDfa0
+   (
+   )
+ {
+      switch (curChar) {
+	           case 37 :
+                    return jjStopAtPos(0, 19);
+	           case 40 :
+                    return jjStopAtPos(0, 20);
+	           case 41 :
+                    return jjStopAtPos(0, 21);
+	           case 42 :
+                    return jjStopAtPos(0, 17);
+	           case 43 :
+                    return jjStopAtPos(0, 15);
+	           case 45 :
+                    return jjStopAtPos(0, 16);
+	           case 47 :
+                    return jjStartNfaWithStates(0, 18, 10);
+	           case 59 :
+                    return jjStopAtPos(0, 14);
+         default : 
+            if (trace_enabled) LOGGER.info("   No string literal matches possible.");
+            return jjMoveNfa(0, 0);
+      }
+   }
+    private int jjMoveNfa(int startState, int curPos) {
+        int startsAt = 0;
+        jjnewStateCnt = 21;
+        int i=1;
+        jjstateSet[0] = startState;
+        int kind = 0x7fffffff;
+        while (true) {
+            if (++jjround == 0x7fffffff) {
+                ReInitRounds();
+            }
+            if (curChar < 64) {
+            long l = 1L << curChar;
+            do {
+                switch (jjstateSet[--i]) {
+                                    
+              
+              case 0 :
+                 
+                if ((0x3fe000000000000L &l) != 0L)
+    {
+                  if (kind > 7)
+                      kind = 7;
+                   jjAddStates(0, 1);
+         }
+               else  if (curChar == 47)
+                      jjAddStates(2, 3);
+               else  if (curChar == 48)
+    {
+                  if (kind > 7)
+                      kind = 7;
+                   jjAddStates(4, 6);
+         }
+                  break;
+
+                    
+              case 10 :
+                 
+                if (curChar == 42)
+                      jjCheckNAddTwoStates(16, 17);
+               else  if (curChar == 47)
+                      jjCheckNAddStates(7
+                   , 9
+                  );
+                  break;
+
+      
+                        
+                  
+                  case 1 :
+                    if ((0x3ff000000000000L &l) == 0L)
+                          break;
+                    if (kind > 7)
+                         kind = 7;
+                    jjCheckNAddTwoStates(1, 2);
+                         break;
+
+      
+      
+                        
+                  
+                  case 4 :
+                    if ((0x3ff000000000000L &l) == 0L)
+                          break;
+                    if (kind > 11)
+                         kind = 11;
+                    jjCheckNAdd(4);
+                         break;
+
+                        
+                  
+                  case 5 :
+                    if (curChar != 48)
+                          break;
+                    if (kind > 7)
+                         kind = 7;
+                    jjCheckNAddStates(4
+                    , 6
+                    );
+                         break;
+
+      
+                        
+                  
+                  case 7 :
+                    if ((0x3ff000000000000L &l) == 0L)
+                          break;
+                    if (kind > 7)
+                         kind = 7;
+                    jjCheckNAddTwoStates(7, 2);
+                         break;
+
+                        
+                  
+                  case 8 :
+                    if ((0xff000000000000L &l) == 0L)
+                          break;
+                    if (kind > 7)
+                         kind = 7;
+                    jjCheckNAddTwoStates(8, 2);
+                         break;
+
+                        
+                  
+                  case 9 :
+                    if (curChar == 47)
+                    jjCheckNAddTwoStates(10, 15);
+                         break;
+
+      
+                        
+                  
+                  case 11 :
+                    if ((0xffffffffffffdbffL & l) != 0L)
+                    jjCheckNAddStates(7
+                    , 9
+                    );
+                         break;
+
+                        
+                  
+                  case 12 :
+                     if (curChar == 10  && kind > 5)
+                         kind = 5;
+                         break;
+
+                        
+                  
+                  case 13 :
+                    if (curChar == 13)
+                    jjstateSet[jjnewStateCnt++] = 12;
+                         break;
+
+                        
+                  
+                  case 14 :
+                     if ((0x2400L & l) != 0L  && kind > 5)
+                         kind = 5;
+                         break;
+
+                        
+                  
+                  case 15 :
+                    if (curChar == 42)
+                    jjCheckNAddTwoStates(16, 17);
+                         break;
+
+                        
+                  
+                  case 16 :
+                    if ((0xfffffbffffffffffL & l) != 0L)
+                    jjCheckNAddTwoStates(16, 17);
+                         break;
+
+                        
+                  
+                  case 17 :
+                    if (curChar == 42)
+                    jjAddStates(10, 11);
+                         break;
+
+                        
+                  
+                  case 18 :
+                    if ((0xffff7fffffffffffL & l) != 0L)
+                    jjCheckNAddTwoStates(19, 17);
+                         break;
+
+                        
+                  
+                  case 19 :
+                    if ((0xfffffbffffffffffL & l) != 0L)
+                    jjCheckNAddTwoStates(19, 17);
+                         break;
+
+                        
+                  
+                  case 20 :
+                     if (curChar == 47  && kind > 6)
+                         kind = 6;
+                         break;
+
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            else if (curChar <128) {
+            long l = 1L << (curChar & 077);
+            do {
+                switch (jjstateSet[--i]) {
+                                    
+          
+          
+          
+          case 0 :
+              
+                    if ((0x7fffffe87fffffeL &l) == 0L)
+                          break;
+                    if (kind > 11)
+                         kind = 11;
+                    jjCheckNAdd(4);
+                         break;
+
+                
+          
+
+      
+      
+                        
+                  
+                  case 2 :
+                     if ((0x100000001000L & l) != 0L  && kind > 7)
+                         kind = 7;
+                         break;
+
+      
+                        
+                  
+                  case 4 :
+                    if ((0x7fffffe87fffffeL &l) == 0L)
+                          break;
+                    if (kind > 11)
+                         kind = 11;
+                    jjCheckNAdd(4);
+                         break;
+
+      
+                        
+                  
+                  case 6 :
+                    if ((0x100000001000000L & l) != 0L)
+                    jjstateSet[jjnewStateCnt++] = 7;
+                         break;
+
+                        
+                  
+                  case 7 :
+                    if ((0x7e0000007eL &l) == 0L)
+                          break;
+                    if (kind > 7)
+                         kind = 7;
+                    jjCheckNAddTwoStates(7, 2);
+                         break;
+
+      
+      
+      
+                        
+                  
+                  case 11 :
+                    jjCheckNAddStates(7
+                    , 9
+                    );
+                         break;
+
+      
+      
+      
+      
+                        
+                  
+                  case 16 :
+                    jjCheckNAddTwoStates(16, 17);
+                         break;
+
+      
+                        
+                  
+                  case 18 :
+                    jjCheckNAddTwoStates(19, 17);
+                         break;
+
+                        
+                  
+                  case 19 :
+                    jjCheckNAddTwoStates(19, 17);
+                         break;
+
+      
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            else {
+            int hiByte = (int)(curChar >> 8);
+            int i1 = hiByte >> 6;
+            long l1 = 1L << (hiByte & 077);
+            int i2 = (curChar & 0xff) >> 6;
+            long l2 = 1L << (curChar & 077);
+            do {
+                switch (jjstateSet[--i]) {
+                                    
+          
+          
+          
+
+                
+          
+
+      
+      
+      
+      
+      
+      
+      
+      
+      
+      
+      
+                        
+                  
+                  case 11 :
+                    if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                    jjCheckNAddStates(7
+                    , 9
+                    );
+                         break;
+
+      
+      
+      
+      
+                        
+                  
+                  case 16 :
+                    if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                    jjCheckNAddTwoStates(16, 17);
+                         break;
+
+      
+                        
+                  
+                  case 18 :
+                   case 19 :
+                    if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                    jjCheckNAddTwoStates(19, 17);
+                         break;
+
+      
+      
+
+                    default : break;
+                }
+            } while (i != startsAt);
+            }
+            if (kind != 0x7fffffff) {
+                jjmatchedKind = kind;
+                jjmatchedPos = curPos;
+                kind = 0x7fffffff;
+            }
+            ++curPos;
+            if (jjmatchedKind != 0 && jjmatchedKind != 0x7fffffff) {
+                if (trace_enabled) LOGGER.info("   Currently matched the first " + (jjmatchedPos +1) + " characters as a " 
+                                     + tokenImage[jjmatchedKind] + " token.");
+            }
+            if ((i = jjnewStateCnt) == (startsAt = 21 - (jjnewStateCnt = startsAt)))
+                 return curPos;
+            int retval = input_stream.readChar();
+            if (retval >=0) {
+                 curChar = (char) retval;
+            }
+            else  {
+                return curPos;
+            }
+            if (trace_enabled) LOGGER.info("" + 
+               ParseException.addEscapes(String.valueOf(curChar)) + " (" + (int)curChar + ") "
+              + "at line " + input_stream.getEndLine() + " column " + input_stream.getEndColumn());
+        }
+    }
+
+
+  static final int[] jjnextStates = {
+        
+    
+        1, 
+        
+        2, 
+        
+        10, 
+        
+        15, 
+        
+        6, 
+        
+        8, 
+        
+        2, 
+        
+        11, 
+        
+        13, 
+        
+        14, 
+        
+        18, 
+        
+        20
+  };
+
+    private int tabSize = 8;
+    /**
+     * sets the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public void setTabSize(int tabSize) {this.tabSize = tabSize;}
+    
+    /**
+     * returns the size of a tab for location reporting 
+     * purposes, default value is 8.
+     */
+    public int getTabSize() {return tabSize;}
+    
+  
+}
+
+
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Expression.java */
+
+
+@SuppressWarnings("unused")
+public class Expression extends BaseNode {
+
+}
@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. IDENTIFIER.java */
+
+
+@SuppressWarnings("unused")
+public class IDENTIFIER extends Token {
+    public IDENTIFIER(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MultiplicativeExpression.java */
+
+
+@SuppressWarnings("unused")
+public class MultiplicativeExpression extends BaseNode {
+
+}
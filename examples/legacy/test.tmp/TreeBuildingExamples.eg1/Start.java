@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Start.java */
+
+
+@SuppressWarnings("unused")
+public class Start extends BaseNode {
+
+}
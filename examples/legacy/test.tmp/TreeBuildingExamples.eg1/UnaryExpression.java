@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. UnaryExpression.java */
+
+
+@SuppressWarnings("unused")
+public class UnaryExpression extends BaseNode {
+
+}
@@ -0,0 +1,748 @@
+/* Generated by: JavaCC 21 Parser Generator. Eg2.java */
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+@SuppressWarnings("unused")
+public class Eg2 implements Eg2Constants {
+    /** Main entry point. */
+    public static void main(String args[]) {
+        System.out.println("Reading from standard input...");
+        Eg2 t=new Eg2(new java.io.InputStreamReader(System.in));
+        try {
+            Start n=t.Start();
+            Nodes.dump(n,"  ");
+            System.out.println("Thank you.");
+        }
+        catch(Exception e) {
+            System.out.println("Oops.");
+            System.out.println(e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    static final java.util.logging.Logger LOGGER=Logger.getLogger("Eg2");
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing=false;
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    /** Generated Lexer. */
+    public Eg2Lexer token_source;
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    private boolean buildTree=true;
+    private boolean tokensAreNodes=true;
+    private boolean specialTokensAreNodes=false;
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes=specialTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes=tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope=new NodeScope();
+    /** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor=currentNodeScope.floor;
+        currentNodeScope.floor=currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark=currentNodeScope.floor;
+        currentNodeScope.floor=Math.min(previousFloor,mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n,int mark) {
+        List<Node>children=currentNodeScope.subList(mark,currentNodeScope.size());
+        List<Node>nodes=new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n,true);
+    }
+
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: "+n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "+currentNodeScope.nestingLevel());
+    }
+
+    /* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n,int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", popping "+num+" nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node>nodes=new ArrayList<Node>();
+        for (int i=0; i<num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            if (specialTokensAreNodes&&(child instanceof Token)) {
+                Token token=(Token) child;
+                Token specialToken=token;
+                while (specialToken!=null) {
+                    specialToken=specialToken.specialToken;
+                }
+                while (specialToken!=null&&specialToken!=token) {
+                    n.addChild(specialToken);
+                    specialToken=specialToken.next;
+                }
+            }
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    public void closeNodeScope(Node n,boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: "+n.getClass().getName()+", popping "+nodeArity()+" nodes off the stack.");
+            int a=nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node>nodes=new ArrayList<Node>();
+            while (a-->0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (specialTokensAreNodes&&(child instanceof Token)) {
+                    Token token=(Token) child;
+                    Token specialToken=token;
+                    while (specialToken.specialToken!=null) {
+                        specialToken=specialToken.specialToken;
+                    }
+                    while (specialToken!=null&&specialToken!=token) {
+                        n.addChild(specialToken);
+                        specialToken=specialToken.next;
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", there are now "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+        else {
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: "+n.getClass().getName()+", leaving "+nodeArity()+" nodes on the stack.");
+                LOGGER.info("Nesting level is : "+currentNodeScope.nestingLevel());
+            }
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree=buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    Eg2 jjtree=this;
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope=Eg2.this.currentNodeScope;
+            Eg2.this.currentNodeScope=this;
+        }
+
+        boolean isRootScope() {
+            return parentScope==null;
+        }
+
+        Node rootNode() {
+            NodeScope ns=this;
+            while (ns.parentScope!=null) {
+                ns=ns.parentScope;
+            }
+            return ns.isEmpty()?null:
+            ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty()?parentScope.peek():
+            get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result=remove(size()-1);
+            if (size()<floor) {
+                floor=size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            }
+            else {
+                set(size()-1,n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            Eg2.this.currentNodeScope=parentScope;
+        }
+
+        int nestingLevel() {
+            int result=0;
+            NodeScope parent=this;
+            while (parent.parentScope!=null) {
+                result++;
+                parent=parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+    static private final int INFINITY=Integer.MAX_VALUE;
+    //=================================
+    // Start of methods for BNF Productions
+    //=================================
+    /** Main production. */
+    // eg2.javacc, line 111
+    final public Start Start() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 111 of eg2.javacc");
+        // Code for expansion specified on line 113 of eg2.javacc
+        boolean Start1forced=false;
+        Start Start1=null;
+        if (buildTree) {
+            Start1=new Start();
+            Token start=getToken(1);
+            Start1.setBeginLine(start.beginLine);
+            Start1.setBeginColumn(start.beginColumn);
+            Start1.setInputSource(this.getInputSource());
+            openNodeScope(Start1);
+        }
+        ParseException parseException1=null;
+        try {
+            // Code for Expression specified on line 113 of eg2.javacc
+            Expression();
+            // Code for expansion specified on line 113 of eg2.javacc
+            consumeToken(14);
+            // Code for expansion specified on line 114 of eg2.javacc
+            return Start1;
+        }
+        catch(ParseException e) {
+            parseException1=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException1!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException1.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Start1.setEndLine(current_token.getEndLine());
+                    Start1.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Start1,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    /** An Expression. */
+    // eg2.javacc, line 118
+    final public void Expression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 118 of eg2.javacc");
+        // Code for expansion specified on line 120 of eg2.javacc
+        // Code for AdditiveExpression specified on line 120 of eg2.javacc
+        AdditiveExpression();
+        if (trace_enabled) LOGGER.info("Exiting normally from Expression");
+    }
+
+    /** An Additive Expression. */
+    // eg2.javacc, line 124
+    final public void AdditiveExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 124 of eg2.javacc");
+        // Code for expansion specified on line 126 of eg2.javacc
+        // Code for expansion specified on line 127 of eg2.javacc
+        boolean AdditiveExpression2forced=false;
+        Add AdditiveExpression2=null;
+        if (buildTree) {
+            AdditiveExpression2=new Add();
+            Token start=getToken(1);
+            AdditiveExpression2.setBeginLine(start.beginLine);
+            AdditiveExpression2.setBeginColumn(start.beginColumn);
+            AdditiveExpression2.setInputSource(this.getInputSource());
+            openNodeScope(AdditiveExpression2);
+        }
+        ParseException parseException2=null;
+        try {
+            // Code for MultiplicativeExpression specified on line 127 of eg2.javacc
+            MultiplicativeExpression();
+            // Code for expansion specified on line 127 of eg2.javacc
+            label_1:
+            while (true) {
+                int int1=nextTokenKind();
+                if (!(int1==15||int1==16)) {
+                    break label_1;
+                }
+                // Code for expansion specified on line 127 of eg2.javacc
+                // Code for expansion specified on line 127 of eg2.javacc
+                switch(nextTokenKind()) {
+                    case 15:
+                    // Code for expansion specified on line 127 of eg2.javacc
+                    // Code for expansion specified on line 127 of eg2.javacc
+                    consumeToken(15);
+                    break;
+                    case 16:
+                    // Code for expansion specified on line 127 of eg2.javacc
+                    // Code for expansion specified on line 127 of eg2.javacc
+                    consumeToken(16);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for MultiplicativeExpression specified on line 127 of eg2.javacc
+                MultiplicativeExpression();
+            }
+        }
+        catch(ParseException e) {
+            parseException2=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException2!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException2.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    AdditiveExpression2.setEndLine(current_token.getEndLine());
+                    AdditiveExpression2.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(AdditiveExpression2,nodeArity()>1);
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from AdditiveExpression");
+    }
+
+    /** A Multiplicative Expression. */
+    // eg2.javacc, line 132
+    final public void MultiplicativeExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 132 of eg2.javacc");
+        // Code for expansion specified on line 134 of eg2.javacc
+        // Code for expansion specified on line 135 of eg2.javacc
+        boolean MultiplicativeExpression3forced=false;
+        Mult MultiplicativeExpression3=null;
+        if (buildTree) {
+            MultiplicativeExpression3=new Mult();
+            Token start=getToken(1);
+            MultiplicativeExpression3.setBeginLine(start.beginLine);
+            MultiplicativeExpression3.setBeginColumn(start.beginColumn);
+            MultiplicativeExpression3.setInputSource(this.getInputSource());
+            openNodeScope(MultiplicativeExpression3);
+        }
+        ParseException parseException3=null;
+        try {
+            // Code for UnaryExpression specified on line 135 of eg2.javacc
+            UnaryExpression();
+            // Code for expansion specified on line 135 of eg2.javacc
+            label_2:
+            while (true) {
+                int int2=nextTokenKind();
+                if (!(int2==17||int2==18||int2==19)) {
+                    break label_2;
+                }
+                // Code for expansion specified on line 135 of eg2.javacc
+                // Code for expansion specified on line 135 of eg2.javacc
+                switch(nextTokenKind()) {
+                    case 17:
+                    // Code for expansion specified on line 135 of eg2.javacc
+                    // Code for expansion specified on line 135 of eg2.javacc
+                    consumeToken(17);
+                    break;
+                    case 18:
+                    // Code for expansion specified on line 135 of eg2.javacc
+                    // Code for expansion specified on line 135 of eg2.javacc
+                    consumeToken(18);
+                    break;
+                    case 19:
+                    // Code for expansion specified on line 135 of eg2.javacc
+                    // Code for expansion specified on line 135 of eg2.javacc
+                    consumeToken(19);
+                    break;
+                    default:
+                    consumeToken(-1);
+                    throw new ParseException();
+                }
+                // Code for UnaryExpression specified on line 135 of eg2.javacc
+                UnaryExpression();
+            }
+        }
+        catch(ParseException e) {
+            parseException3=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException3!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException3.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    MultiplicativeExpression3.setEndLine(current_token.getEndLine());
+                    MultiplicativeExpression3.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(MultiplicativeExpression3,nodeArity()>1);
+                }
+            }
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from MultiplicativeExpression");
+    }
+
+    /** A Unary Expression. */
+    // eg2.javacc, line 140
+    final public void UnaryExpression() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 140 of eg2.javacc");
+        // Code for expansion specified on line 142 of eg2.javacc
+        switch(nextTokenKind()) {
+            case 20:
+            // Code for expansion specified on line 142 of eg2.javacc
+            // Code for expansion specified on line 142 of eg2.javacc
+            consumeToken(20);
+            // Code for Expression specified on line 142 of eg2.javacc
+            Expression();
+            // Code for expansion specified on line 142 of eg2.javacc
+            consumeToken(21);
+            break;
+            case IDENTIFIER:
+            // Code for expansion specified on line 142 of eg2.javacc
+            // Code for MyID specified on line 142 of eg2.javacc
+            MyID();
+            break;
+            case INTEGER_LITERAL:
+            // Code for expansion specified on line 142 of eg2.javacc
+            // Code for Integer specified on line 142 of eg2.javacc
+            Integer();
+            break;
+            default:
+            consumeToken(-1);
+            throw new ParseException();
+        }
+        if (trace_enabled) LOGGER.info("Exiting normally from UnaryExpression");
+    }
+
+    /** An Identifier. */
+    // eg2.javacc, line 146
+    final public void MyID() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 146 of eg2.javacc");
+        Token t;
+        // Code for expansion specified on line 151 of eg2.javacc
+        boolean MyID4forced=false;
+        MyID MyID4=null;
+        if (buildTree) {
+            MyID4=new MyID();
+            Token start=getToken(1);
+            MyID4.setBeginLine(start.beginLine);
+            MyID4.setBeginColumn(start.beginColumn);
+            MyID4.setInputSource(this.getInputSource());
+            openNodeScope(MyID4);
+        }
+        ParseException parseException4=null;
+        try {
+            // Code for expansion specified on line 151 of eg2.javacc
+            t=consumeToken(IDENTIFIER);
+            // Code for expansion specified on line 152 of eg2.javacc
+            MyID4.setName(t.image);
+            if (trace_enabled) LOGGER.info("Exiting normally from MyID");
+        }
+        catch(ParseException e) {
+            parseException4=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException4!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException4.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    MyID4.setEndLine(current_token.getEndLine());
+                    MyID4.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(MyID4,nodeArity()>1);
+                }
+            }
+        }
+    }
+
+    /** An Integer. */
+    // eg2.javacc, line 158
+    final public void Integer() throws ParseException {
+        if (trace_enabled) LOGGER.info("Entering production defined on line 158 of eg2.javacc");
+        // Code for expansion specified on line 160 of eg2.javacc
+        boolean Integer5forced=false;
+        Int Integer5=null;
+        if (buildTree) {
+            Integer5=new Int();
+            Token start=getToken(1);
+            Integer5.setBeginLine(start.beginLine);
+            Integer5.setBeginColumn(start.beginColumn);
+            Integer5.setInputSource(this.getInputSource());
+            openNodeScope(Integer5);
+        }
+        ParseException parseException5=null;
+        try {
+            // Code for expansion specified on line 160 of eg2.javacc
+            consumeToken(INTEGER_LITERAL);
+            if (trace_enabled) LOGGER.info("Exiting normally from Integer");
+        }
+        catch(ParseException e) {
+            parseException5=e;
+            throw e;
+        }
+        finally {
+            if (buildTree) {
+                if (parseException5!=null) {
+                    if (trace_enabled) LOGGER.warning("ParseException: "+parseException5.getMessage());
+                    clearNodeScope();
+                }
+                else {
+                    Integer5.setEndLine(current_token.getEndLine());
+                    Integer5.setEndColumn(current_token.getEndColumn());
+                    closeNodeScope(Integer5,true);
+                }
+            }
+        }
+    }
+
+    Token current_token;
+    public Eg2(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    public Eg2(Reader reader) {
+        token_source=new Eg2Lexer(reader);
+        current_token=new Token();
+    }
+
+    /** Constructor with generated Token Manager. */
+    public Eg2(Eg2Lexer lexer) {
+        token_source=lexer;
+        current_token=new Token();
+    }
+
+    private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced=false;
+        Token oldToken=current_token;
+        current_token=current_token.next;
+        if (current_token==null) {
+            current_token=token_source.getNextToken();
+        }
+        if (current_token.kind!=expectedType) {
+            handleUnexpectedTokenType(expectedType,forced,oldToken);
+        }
+        if (tokensAreNodes) {
+            if (buildTree) {
+                pushNode(current_token);
+            }
+        }
+        if (trace_enabled) traceConsumedToken();
+        return current_token;
+    }
+
+    private void traceConsumedToken() {
+        LOGGER.info("Consumed token of type "+tokenImage[current_token.kind]+" from "+current_token.getLocation());
+    }
+
+    private void handleUnexpectedTokenType(int expectedType,boolean forced,Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+            //	    current_token = oldToken;
+            throw new ParseException(current_token);
+        }
+    }
+
+    private String generateErrorMessage(Token t) {
+        return"Encountered an error on (or somewhere around) line "+t.getBeginLine()+", column "+t.getBeginColumn()+" of "+t.getInputSource();
+    }
+
+    final public Token getNextToken() {
+        if (current_token.next!=null) current_token=current_token.next;
+        else current_token=current_token.next=token_source.getNextToken();
+        return current_token;
+    }
+
+    /** Get the specific Token index ahead in the stream. */
+    final public Token getToken(int index) {
+        Token t=current_token;
+        for (int i=0; i<index; i++) {
+            if (t.next!=null) t=t.next;
+            else t=t.next=token_source.getNextToken();
+        }
+        return t;
+    }
+
+    private int nextTokenKind() {
+        if (current_token.next==null) {
+            current_token.next=token_source.getNextToken();
+        }
+        return current_token.next.kind;
+    }
+
+    private List<Token>getTokensToEOL(int...desiredTokenTypes) {
+        ArrayList<Token>result=new ArrayList<>();
+        int currentLine=current_token.getBeginLine();
+        Token tok=current_token;
+        do {
+            Token prevToken=tok;
+            if (tok.next!=null) {
+                tok=tok.next;
+            }
+            else {
+                tok=token_source.getNextToken();
+                prevToken.next=tok;
+            }
+            result.add(tok);
+        }
+        while (tok.getBeginLine()==currentLine&&!intArrayContains(desiredTokenTypes,tok.kind)&&tok.kind!=EOF);
+        return result;
+    }
+
+    static private boolean intArrayContains(int[] array,int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i]==elem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean trace_enabled=false;
+    public void setTracingEnabled(boolean tracingEnabled) {
+        trace_enabled=tracingEnabled;
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void enable_tracing() {
+        setTracingEnabled(true);
+    }
+
+    /**
+ * @deprecated Use #setTracingEnabled
+ */
+    @Deprecated public void disable_tracing() {
+        setTracingEnabled(false);
+    }
+
+}
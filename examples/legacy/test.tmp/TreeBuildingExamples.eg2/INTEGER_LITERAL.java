@@ -0,0 +1,9 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. INTEGER_LITERAL.java */
+
+
+@SuppressWarnings("unused")
+public class INTEGER_LITERAL extends Token {
+    public INTEGER_LITERAL(int kind, String image) {
+        super(kind, image);
+    }
+}
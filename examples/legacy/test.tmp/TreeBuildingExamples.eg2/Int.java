@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Int.java */
+
+
+@SuppressWarnings("unused")
+public class Int extends BaseNode {
+
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Add.java */
+
+
+@SuppressWarnings("unused")
+public class Add extends BaseNode {
+
+}
@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Mult.java */
+
+
+@SuppressWarnings("unused")
+public class Mult extends BaseNode {
+
+}
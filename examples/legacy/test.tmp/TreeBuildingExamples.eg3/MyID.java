@@ -0,0 +1,21 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MyID.java */
+@SuppressWarnings("unused")
+public class MyID extends BaseNode {
+    private String name;
+    /**
+    * Set the name.
+	* @param n the name
+	*/
+    public void setName(String name) {
+        this.name=name;
+    }
+
+    /**
+    * {@inheritDoc}
+	* @see org.javacc.examples.jjtree.eg2.SimpleNode#toString()
+	*/
+    public String toString() {
+        return"Identifier: "+name;
+    }
+
+}
@@ -0,0 +1,89 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Eg4Constants.java */
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface Eg4Constants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int INTEGER_LITERAL = 7;
+  int DECIMAL_LITERAL = 8;
+  int HEX_LITERAL = 9;
+  int OCTAL_LITERAL = 10;
+  int IDENTIFIER = 11;
+  int LETTER = 12;
+  int DIGIT = 13;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "<5>"
+,
+      "<6>"
+,
+      "<INTEGER_LITERAL>"
+,
+      "<DECIMAL_LITERAL>"
+,
+      "<HEX_LITERAL>"
+,
+      "<OCTAL_LITERAL>"
+,
+      "<IDENTIFIER>"
+,
+      "<LETTER>"
+,
+      "<DIGIT>"
+,
+      "\";\""   
+,
+      "\"+\""   
+,
+      "\"-\""   
+,
+      "\"*\""   
+,
+      "\"/\""   
+,
+      "\"%\""   
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "INTEGER_LITERAL",
+          "DECIMAL_LITERAL",
+          "HEX_LITERAL",
+          "OCTAL_LITERAL",
+          "IDENTIFIER",
+          "LETTER",
+          "DIGIT",
+              "Start", 
+              "Add", 
+              "Mult", 
+              "MyOtherID", 
+              "Int", 
+   };
+}
+
+
+
+
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Eg4Visitor.java */
+
+public interface Eg4Visitor {
+    Object visit(BaseNode node, Object data);
+    Object visit(Start node, Object data); 
+    Object visit(Add node, Object data); 
+    Object visit(Mult node, Object data); 
+    Object visit(MyOtherID node, Object data); 
+    Object visit(Int node, Object data); 
+    Object visit(Token node, Object data); 
+}
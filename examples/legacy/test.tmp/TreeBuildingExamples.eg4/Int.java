@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Int.java */
+
+
+@SuppressWarnings("unused")
+public class Int extends BaseNode {
+
+	 public Object jjtAccept(Eg4Visitor visitor, Object data)  {
+	     return visitor.visit(this, data);
+   }      
+}
@@ -0,0 +1,26 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. MyOtherID.java */
+@SuppressWarnings("unused")
+public class MyOtherID extends BaseNode {
+    private String name;
+    /**
+   * Set the name.
+   *
+   * @param n the name to set
+   */
+    public void setName(String n) {
+        name=n;
+    }
+
+    /**
+   * {@inheritDoc}
+   * @see org.javacc.examples.jjtree.eg4.BaseNode#toString()
+   */
+    public String toString() {
+        return"Identifier: "+name;
+    }
+
+    public Object jjtAccept(Eg4Visitor visitor,Object data) {
+        return visitor.visit(this,data);
+    }
+
+}
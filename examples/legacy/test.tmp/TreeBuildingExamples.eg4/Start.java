@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Start.java */
+
+
+@SuppressWarnings("unused")
+public class Start extends BaseNode {
+
+	 public Object jjtAccept(Eg4Visitor visitor, Object data)  {
+	     return visitor.visit(this, data);
+   }      
+}
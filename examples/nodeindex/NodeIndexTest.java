@@ -0,0 +1,95 @@
+import java.io.*;
+import java.util.*;
+import com.javacc.nodeindex.*;
+
+/**
+ * Checks that the index of node types that the parser builds along
+ * with the tree gives the same answers, in the same order, as walking 
+ * the tree, and that every node that ends up at the top level gets one.
+ */
+public class NodeIndexTest {
+    
+    static final List<Class<? extends Node>> QUERY_TYPES = Arrays.asList(
+        Node.class, Token.class, Identifier.class, Add.class, Expr.class, Term.class, Statement.class);
+
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    // The nodes that the parser has left at the top level
+    static List<Node> topLevelNodes(NodeIndexParser parser) {
+        List<Node> result = new ArrayList<>();
+        while (parser.nodeArity() > 0) {
+            result.add(0, parser.popNode());
+        }
+        return result;
+    }
+
+    static void checkIndex(String input, Node node) {
+        if (!(node instanceof BaseNode)) {
+            return;
+        }
+        BaseNode baseNode = (BaseNode) node;
+        Nodes.NodeIndex index = baseNode.getNodeIndex();
+        check(index != null, "No index for the " + node.getClass().getSimpleName() + " in: " + input);
+        for (Class<? extends Node> clazz : QUERY_TYPES) {
+            List<? extends Node> indexed = baseNode.descendantsOfType(clazz);
+            baseNode.setNodeIndex(null);
+            List<? extends Node> walked = baseNode.descendantsOfType(clazz);
+            baseNode.setNodeIndex(index);
+            check(indexed.equals(walked), "The index has " + indexed + " as the " + clazz.getSimpleName() 
+                  + " nodes of the " + node.getClass().getSimpleName() + " in: " + input + ", but the tree has " + walked);
+        }
+        for (int kind : new int[] {NodeIndexConstants.IDENTIFIER, NodeIndexConstants.PLUS}) {
+            List<Token> indexed = baseNode.tokensOfKind(kind);
+            baseNode.setNodeIndex(null);
+            List<Token> walked = baseNode.tokensOfKind(kind);
+            baseNode.setNodeIndex(index);
+            check(indexed.equals(walked), "The index has " + indexed + " as the tokens of kind " + kind + " in: " + input);
+        }
+    }
+
+    static void testRoot(String input) throws ParseException {
+        NodeIndexParser parser = new NodeIndexParser(new StringReader(input));
+        parser.Root();
+        checkIndex(input, parser.rootNode());
+        System.out.println("Index matches the tree for: " + input);
+    }
+
+    // Each of the nodes left at the top level gets the part of the index
+    // for its own tree, including the ones before a node that is not created.
+    static void testTopLevel(String input) throws ParseException {
+        NodeIndexParser parser = new NodeIndexParser(new StringReader(input));
+        parser.Statement();
+        parser.Pair();
+        parser.Nothing();
+        List<Node> nodes = topLevelNodes(parser);
+        check(nodes.size() == 4, "Expecting 4 top level nodes, but got " + nodes);
+        for (Node node : nodes) {
+            checkIndex(input, node);
+        }
+        System.out.println("Index matches the top level nodes for: " + input);
+    }
+
+    // A node that takes in a top level node that already has an index
+    static void testJoin(String input) throws ParseException {
+        NodeIndexParser parser = new NodeIndexParser(new StringReader(input));
+        parser.Statement();
+        parser.Join();
+        List<Node> nodes = topLevelNodes(parser);
+        check(nodes.size() == 1, "Expecting 1 top level node, but got " + nodes);
+        checkIndex(input, nodes.get(0));
+        System.out.println("Index matches the tree for: " + input);
+    }
+
+    static public void main(String[] args) throws Exception {
+        testRoot("a;");
+        testRoot("a + b + c;");
+        testRoot("a + (b + c + d) + e; f + g;");
+        testTopLevel("a; b, (c)");
+        testTopLevel("a + b + c; d + e, (f + g) + h");
+        testJoin("a + (b + c); +");
+    }
+}
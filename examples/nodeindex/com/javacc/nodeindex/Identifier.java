@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Identifier.java */
+package com.javacc.nodeindex;
+
+
+@SuppressWarnings("unused")
+public class Identifier extends Token {
+    public Identifier(int kind, String image) {
+        super(kind, image);
+    }
+}
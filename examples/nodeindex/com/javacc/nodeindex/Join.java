@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Join.java */
+package com.javacc.nodeindex;
+
+
+@SuppressWarnings("unused")
+public class Join extends BaseNode {
+
+}
@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. LPAREN.java */
+package com.javacc.nodeindex;
+
+
+@SuppressWarnings("unused")
+public class LPAREN extends Token {
+    public LPAREN(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,69 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. NodeIndexConstants.java */
+package com.javacc.nodeindex;
+
+/**
+ * Token literal values and constants.
+ */
+
+public interface NodeIndexConstants {
+  int INVALID = -1; // Used for Lexically invalid input
+  int EOF = 0; // End of file
+  int PLUS = 5;
+  int COMMA = 6;
+  int SEMICOLON = 7;
+  int LPAREN = 8;
+  int RPAREN = 9;
+  int IDENTIFIER = 10;
+  
+  /**
+   * Lexical States
+   */
+  int DEFAULT = 0;
+
+  String[] tokenImage = {
+      "<EOF>",
+      "\" \""   
+,
+      "\"\\t\""   
+,
+      "\"\\n\""   
+,
+      "\"\\r\""   
+,
+      "\"+\""   
+,
+      "\",\""   
+,
+      "\";\""   
+,
+      "\"(\""   
+,
+      "\")\""   
+,
+      "<IDENTIFIER>"
+,
+  };
+
+
+   String[] nodeNames = {
+       "EOF", 
+          "PLUS",
+          "COMMA",
+          "SEMICOLON",
+          "LPAREN",
+          "RPAREN",
+          "IDENTIFIER",
+              "Root", 
+              "Statement", 
+              "Add", 
+              "Expr", 
+              "Term", 
+              "Pair", 
+              "Nothing", 
+              "Join", 
+   };
+}
+
+
+
+
@@ -0,0 +1,954 @@
+/* Generated by: JavaCC 21 Parser Generator. NodeIndexParser.java */
+
+
+package com.javacc.nodeindex;
+
+import java.util.*;
+import java.util.logging.*;
+import java.io.*;
+
+@SuppressWarnings("unused")
+public class NodeIndexParser implements NodeIndexConstants {
+
+    static final java.util.logging.Logger LOGGER = Logger.getLogger("NodeIndexParser");
+    
+
+    static public void setLogLevel(Level level) {
+        LOGGER.setLevel(level);
+        Logger.getGlobal().getParent().getHandlers()[0].setLevel(level);
+    }
+
+    private final boolean tolerantParsing = false;
+    public boolean isParserTolerant() {return tolerantParsing;}
+    
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        } 
+    }
+
+  /** Generated Lexer. */
+  public NodeIndexLexer token_source;
+  
+  public void setInputSource(String inputSource) {
+      token_source.setInputSource(inputSource);
+  }
+  
+
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean specialTokensAreNodes = false;
+
+    public void setSpecialTokensAreNodes(boolean specialTokensAreNodes) {
+        this.specialTokensAreNodes = specialTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * Returns the root node of the AST.  It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+     * push a node onto the top of the node stack
+     */
+    public void pushNode(Node n) {
+        if (n instanceof Token) {
+            indexToken((Token) n);
+        }
+        currentNodeScope.add(n);
+    }
+
+    private Nodes.NodeIndex nodeIndex = new Nodes.NodeIndex();
+    
+    private void indexToken(Token token) {
+        Token firstSpecialToken = null;
+        if (specialTokensAreNodes) {
+            Token specialToken = token;
+            while (specialToken.specialToken != null) {
+                specialToken = specialToken.specialToken;
+            }
+            if (specialToken != token) {
+                firstSpecialToken = specialToken;
+            }
+            while (specialToken != null && specialToken != token) {
+                nodeIndex.add(specialToken, null);
+                specialToken = specialToken.next;
+            }
+        }
+        nodeIndex.add(token, firstSpecialToken);
+    }
+    
+    /**
+     * Hands the nodes recorded so far over to the nodes that have just
+     * ended up in the root scope, each one getting those in its own tree, 
+     * and starts a new index.
+     */
+    private void attachNodeIndex(List<Node> roots) {
+        List<Nodes.NodeIndex> indexes = nodeIndex.finish(roots);
+        for (int i = 0; i < roots.size(); i++) {
+            if (roots.get(i) instanceof BaseNode) {
+                ((BaseNode) roots.get(i)).setNodeIndex(indexes.get(i));
+            }
+        }
+        nodeIndex = new Nodes.NodeIndex();
+    }
+    
+    /**
+     * Records a node that has just been closed, and if it is in the root scope,
+     * hands it its index.
+     * @param children the children that the node was given when it was closed
+     */
+    private void indexClosedNode(Node n, List<Node> children) {
+        nodeIndex.add(n, children.isEmpty() ? null : children.get(0));
+        if (!currentNodeScope.isRootScope()) {
+            return;
+        }
+        for (Node child : children) {
+            if (child instanceof BaseNode && ((BaseNode) child).getNodeIndex() != null) {
+                // The node took in nodes from the root scope that were given
+                // indexes of their own, so the recorded entries are not enough.
+                nodeIndex = new Nodes.NodeIndex();
+                if (n instanceof BaseNode) {
+                    ((BaseNode) n).setNodeIndex(Nodes.NodeIndex.of(n));
+                }
+                return;
+            }
+        }
+        attachNodeIndex(Collections.singletonList(n));
+    }
+
+    /** 
+     * Returns the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * Returns the node currently on the top of the stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** Returns the number of children on the stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    public void clearNodeScope() {
+        currentNodeScope.clear();
+    }
+
+    /**
+     * Used instead of creating a smart node and opening its scope at the start of 
+     * a production, when the production cannot get at its node. The nodes that are
+     * pushed from here on are the node's potential children, and the node is only 
+     * created at the end, with createDeferredNode, if there is more than one of them.
+     * @return the state of the current scope to pass to closeDeferredNodeScope
+     */
+    private int openDeferredNodeScope() {
+        int previousFloor = currentNodeScope.floor;
+        currentNodeScope.floor = currentNodeScope.size();
+        return previousFloor;
+    }
+
+    /**
+     * @return the position in the current scope from which the nodes pushed 
+     * since the matching openDeferredNodeScope start
+     */
+    private int closeDeferredNodeScope(int previousFloor) {
+        int mark = currentNodeScope.floor;
+        currentNodeScope.floor = Math.min(previousFloor, mark);
+        return mark;
+    }
+
+    /**
+     * Makes the nodes from the mark on the children of the node, which
+     * goes on the stack in their place, as if the node had been opened at the mark.
+     */
+    private void createDeferredNode(Node n, int mark) {
+        List<Node> children = currentNodeScope.subList(mark, currentNodeScope.size());
+        List<Node> nodes = new ArrayList<>(children);
+        children.clear();
+        openNodeScope(n);
+        currentNodeScope.addAll(nodes);
+        closeNodeScope(n, true);
+    }
+    
+    public void openNodeScope(Node n) {
+        new NodeScope();
+        n.open();
+        if (trace_enabled) LOGGER.info("Opened node scope for node of type: " + n.getClass().getName());
+        if (trace_enabled) LOGGER.info("Scope nesting level is "  +  currentNodeScope.nestingLevel());
+    }
+
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    public void closeNodeScope(Node n, int num) {
+        if (trace_enabled) LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + num + " nodes off the stack.");
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i=0;i<num;i++) {
+           nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+        	if (specialTokensAreNodes && (child instanceof Token)) {
+        	    Token token = (Token) child;
+        	    Token specialToken = token;
+        	    while (specialToken != null) {
+        	        specialToken = specialToken.specialToken;
+        	    }
+        	    while (specialToken !=null && specialToken != token) {
+        	        n.addChild(specialToken);
+        	        specialToken = specialToken.next;
+        	    }
+        	}
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+        indexClosedNode(n, nodes);
+     
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+	 
+    public void closeNodeScope(Node n, boolean condition) {
+        if (condition) {
+            if (trace_enabled) LOGGER.finer("Closing node scope for node of type: " + n.getClass().getName() + ", popping " + nodeArity() + " nodes off the stack.");
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+	        	if (specialTokensAreNodes && (child instanceof Token)) {
+	        	    Token token = (Token) child;
+	        	    Token specialToken = token;
+	        	    while (specialToken.specialToken !=null) {
+	        	        specialToken = specialToken.specialToken;
+	        	    }
+	        	    while (specialToken !=null && specialToken != token) {
+	        	        n.addChild(specialToken);
+	        	        specialToken = specialToken.next;
+	        	    }
+	        	}
+                n.addChild(child);
+            }
+            n.close();
+            if (trace_enabled) {
+                LOGGER.info("Closing node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            pushNode(n);
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", there are now " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            indexClosedNode(n, nodes);
+        } else {
+            int a = nodeArity();
+            currentNodeScope.close();
+            if (trace_enabled) {
+                LOGGER.info("Closed node scope for node of type: " + n.getClass().getName() + ", leaving " + nodeArity() + " nodes on the stack.");
+                LOGGER.info("Nesting level is : " + currentNodeScope.nestingLevel());
+            }
+            if (currentNodeScope.isRootScope() && a > 0) {
+                // The nodes that the discarded node would have had are now 
+                // in the root scope, and the entries recorded so far are theirs.
+                attachNodeIndex(currentNodeScope.subList(currentNodeScope.size() - a, currentNodeScope.size()));
+            }
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    NodeIndexParser jjtree = this; 
+    
+    
+    
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope = NodeIndexParser.this.currentNodeScope;
+            NodeIndexParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns. parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            return isEmpty() ? parentScope.peek() : get(size()-1);
+        }
+
+        // The lowest size that the scope has had since the innermost
+        // openDeferredNodeScope on it
+        int floor;
+
+        Node pop() {
+            if (isEmpty()) {
+                return parentScope.pop();
+            }
+            Node result = remove(size()-1);
+            if (size() < floor) {
+                floor = size();
+            }
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                set(size()-1, n);
+            }
+        }
+
+        void close() {
+            parentScope.addAll(this);
+            NodeIndexParser.this.currentNodeScope = parentScope;
+        }
+        
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+               result++;
+               parent = parent.parentScope;
+            }
+            return result;            
+        } 
+    }
+
+
+   static private final int INFINITY = Integer.MAX_VALUE;
+  //=================================
+ // Start of methods for BNF Productions
+ //=================================
+    
+
+
+// NodeIndex.javacc, line 32
+    final public 
+    void
+    Root() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 32 of NodeIndex.javacc");
+     
+  // Code for expansion specified on line 34 of NodeIndex.javacc
+    
+        boolean Root1forced = false;
+   Root Root1 = null;
+   if (buildTree) {
+       Root1 = new Root();
+       Token start = getToken(1);
+       Root1.setBeginLine(start.beginLine);
+       Root1.setBeginColumn(start.beginColumn);
+       Root1.setInputSource(this.getInputSource());
+	    openNodeScope(Root1);
+  }
+          ParseException parseException1 = null;
+         try {
+  // Code for expansion specified on line 34 of NodeIndex.javacc
+    label_1:
+    while (true) {
+   int int1
+      = nextTokenKind()
+   ;
+         if (!(             int1 == LPAREN || 
+             int1 == IDENTIFIER 
+)) {
+            break label_1;
+         }
+  // Code for expansion specified on line 34 of NodeIndex.javacc
+  // Code for Statement specified on line 34 of NodeIndex.javacc
+       Statement();
+    }
+  // Code for expansion specified on line 34 of NodeIndex.javacc
+       consumeToken(0);
+        if (trace_enabled) LOGGER.info("Exiting normally from Root");
+         }
+         catch (ParseException e) { 
+             parseException1 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException1 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException1.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Root1.setEndLine(current_token.getEndLine());
+		              Root1.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Root1, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// NodeIndex.javacc, line 37
+    final public 
+    void
+    Statement() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 37 of NodeIndex.javacc");
+     
+  // Code for expansion specified on line 39 of NodeIndex.javacc
+    
+        boolean Statement2forced = false;
+   Statement Statement2 = null;
+   if (buildTree) {
+       Statement2 = new Statement();
+       Token start = getToken(1);
+       Statement2.setBeginLine(start.beginLine);
+       Statement2.setBeginColumn(start.beginColumn);
+       Statement2.setInputSource(this.getInputSource());
+	    openNodeScope(Statement2);
+  }
+          ParseException parseException2 = null;
+         try {
+  // Code for Expr specified on line 39 of NodeIndex.javacc
+       Expr();
+  // Code for expansion specified on line 39 of NodeIndex.javacc
+       consumeToken(SEMICOLON);
+        if (trace_enabled) LOGGER.info("Exiting normally from Statement");
+         }
+         catch (ParseException e) { 
+             parseException2 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException2 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException2.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Statement2.setEndLine(current_token.getEndLine());
+		              Statement2.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Statement2, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// NodeIndex.javacc, line 42
+    final public 
+    void
+    Expr() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 42 of NodeIndex.javacc");
+     
+  // Code for expansion specified on line 44 of NodeIndex.javacc
+    
+        boolean Expr3forced = false;
+   Expr Expr3 = null;
+   if (buildTree) {
+       Expr3 = new Expr();
+       Token start = getToken(1);
+       Expr3.setBeginLine(start.beginLine);
+       Expr3.setBeginColumn(start.beginColumn);
+       Expr3.setInputSource(this.getInputSource());
+	    openNodeScope(Expr3);
+  }
+          ParseException parseException3 = null;
+         try {
+  // Code for Term specified on line 44 of NodeIndex.javacc
+       Term();
+  // Code for expansion specified on line 44 of NodeIndex.javacc
+    label_2:
+    while (true) {
+   int int2
+      = nextTokenKind()
+   ;
+         if (!(             int2 == PLUS 
+)) {
+            break label_2;
+         }
+  // Code for expansion specified on line 44 of NodeIndex.javacc
+  // Code for expansion specified on line 44 of NodeIndex.javacc
+       consumeToken(PLUS);
+  // Code for Term specified on line 44 of NodeIndex.javacc
+    
+        boolean Expr4forced = false;
+   Add Expr4 = null;
+   if (buildTree) {
+       Expr4 = new Add();
+       Token start = getToken(1);
+       Expr4.setBeginLine(start.beginLine);
+       Expr4.setBeginColumn(start.beginColumn);
+       Expr4.setInputSource(this.getInputSource());
+	    openNodeScope(Expr4);
+  }
+          ParseException parseException4 = null;
+         try {
+       Term();
+         }
+         catch (ParseException e) { 
+             parseException4 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException4 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException4.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Expr4.setEndLine(current_token.getEndLine());
+		              Expr4.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Expr4, 3);
+                 }
+             }
+         }       
+          
+    }
+        if (trace_enabled) LOGGER.info("Exiting normally from Expr");
+         }
+         catch (ParseException e) { 
+             parseException3 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException3 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException3.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Expr3.setEndLine(current_token.getEndLine());
+		              Expr3.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Expr3, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// NodeIndex.javacc, line 47
+    final public 
+    void
+    Term() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 47 of NodeIndex.javacc");
+     
+  // Code for expansion specified on line 49 of NodeIndex.javacc
+    
+        boolean Term5forced = false;
+   Term Term5 = null;
+   if (buildTree) {
+       Term5 = new Term();
+       Token start = getToken(1);
+       Term5.setBeginLine(start.beginLine);
+       Term5.setBeginColumn(start.beginColumn);
+       Term5.setInputSource(this.getInputSource());
+	    openNodeScope(Term5);
+  }
+          ParseException parseException5 = null;
+         try {
+                 switch (nextTokenKind()) { 
+                 case IDENTIFIER: 
+                      // Code for expansion specified on line 49 of NodeIndex.javacc
+  // Code for expansion specified on line 49 of NodeIndex.javacc
+       consumeToken(IDENTIFIER);
+
+                    break;
+                 case LPAREN: 
+                      // Code for expansion specified on line 49 of NodeIndex.javacc
+  // Code for expansion specified on line 49 of NodeIndex.javacc
+       consumeToken(LPAREN);
+  // Code for Expr specified on line 49 of NodeIndex.javacc
+       Expr();
+  // Code for expansion specified on line 49 of NodeIndex.javacc
+       consumeToken(RPAREN);
+
+                    break;
+             default:
+                consumeToken(-1);
+throw new ParseException();
+           }
+        if (trace_enabled) LOGGER.info("Exiting normally from Term");
+         }
+         catch (ParseException e) { 
+             parseException5 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException5 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException5.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Term5.setEndLine(current_token.getEndLine());
+		              Term5.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Term5, nodeArity() > 1);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// NodeIndex.javacc, line 52
+    final public 
+    void
+    Pair() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 52 of NodeIndex.javacc");
+     
+  // Code for expansion specified on line 54 of NodeIndex.javacc
+    
+        boolean Pair6forced = false;
+   Pair Pair6 = null;
+   if (buildTree) {
+       Pair6 = new Pair();
+       Token start = getToken(1);
+       Pair6.setBeginLine(start.beginLine);
+       Pair6.setBeginColumn(start.beginColumn);
+       Pair6.setInputSource(this.getInputSource());
+	    openNodeScope(Pair6);
+  }
+          ParseException parseException6 = null;
+         try {
+  // Code for Expr specified on line 54 of NodeIndex.javacc
+       Expr();
+  // Code for expansion specified on line 54 of NodeIndex.javacc
+       consumeToken(COMMA);
+  // Code for Expr specified on line 54 of NodeIndex.javacc
+       Expr();
+        if (trace_enabled) LOGGER.info("Exiting normally from Pair");
+         }
+         catch (ParseException e) { 
+             parseException6 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException6 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException6.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Pair6.setEndLine(current_token.getEndLine());
+		              Pair6.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Pair6, false);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// NodeIndex.javacc, line 57
+    final public 
+    void
+    Nothing() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 57 of NodeIndex.javacc");
+     
+  // Code for expansion specified on line 59 of NodeIndex.javacc
+    
+        boolean Nothing7forced = false;
+   Nothing Nothing7 = null;
+   if (buildTree) {
+       Nothing7 = new Nothing();
+       Token start = getToken(1);
+       Nothing7.setBeginLine(start.beginLine);
+       Nothing7.setBeginColumn(start.beginColumn);
+       Nothing7.setInputSource(this.getInputSource());
+	    openNodeScope(Nothing7);
+  }
+          ParseException parseException7 = null;
+         try {
+  // Code for expansion specified on line 59 of NodeIndex.javacc
+   int int3
+      = nextTokenKind()
+   ;
+         if (             int3 == COMMA 
+) {
+              // Code for expansion specified on line 59 of NodeIndex.javacc
+  // Code for expansion specified on line 59 of NodeIndex.javacc
+       consumeToken(COMMA);
+
+         }
+        if (trace_enabled) LOGGER.info("Exiting normally from Nothing");
+         }
+         catch (ParseException e) { 
+             parseException7 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException7 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException7.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Nothing7.setEndLine(current_token.getEndLine());
+		              Nothing7.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Nothing7, false);
+                 }
+             }
+         }       
+          
+    }   
+    
+
+
+// NodeIndex.javacc, line 62
+    final public 
+    void
+    Join() 
+    throws ParseException
+     {
+     if (trace_enabled) LOGGER.info("Entering production defined on line 62 of NodeIndex.javacc");
+     
+  // Code for expansion specified on line 64 of NodeIndex.javacc
+    
+        boolean Join8forced = false;
+   Join Join8 = null;
+   if (buildTree) {
+       Join8 = new Join();
+       Token start = getToken(1);
+       Join8.setBeginLine(start.beginLine);
+       Join8.setBeginColumn(start.beginColumn);
+       Join8.setInputSource(this.getInputSource());
+	    openNodeScope(Join8);
+  }
+          ParseException parseException8 = null;
+         try {
+  // Code for expansion specified on line 64 of NodeIndex.javacc
+       consumeToken(PLUS);
+        if (trace_enabled) LOGGER.info("Exiting normally from Join");
+         }
+         catch (ParseException e) { 
+             parseException8 = e;
+             throw e;
+         }
+         finally {
+             if (buildTree) {
+                 if (parseException8 != null) {
+                     if (trace_enabled) LOGGER.warning("ParseException: " + parseException8.getMessage());
+                     clearNodeScope();
+                 } else {
+	                  Join8.setEndLine(current_token.getEndLine());
+		              Join8.setEndColumn(current_token.getEndColumn());
+ 	                 closeNodeScope(Join8, 2);
+                 }
+             }
+         }       
+          
+    }   
+
+
+  
+
+  Token current_token;
+
+
+
+  public NodeIndexParser(java.io.InputStream stream) {
+      this(new InputStreamReader(stream));
+  }
+
+  public NodeIndexParser(Reader reader) {
+    token_source = new NodeIndexLexer(reader);
+    current_token = new Token();
+  }
+
+  /** Constructor with generated Token Manager. */
+  public NodeIndexParser(NodeIndexLexer lexer) {
+    token_source = lexer;
+    current_token = new Token();
+  }
+  
+ 
+      private Token consumeToken(int expectedType) throws ParseException {
+        boolean forced = false;
+  
+        Token oldToken = current_token;
+        current_token = current_token.next;
+        if (current_token == null ) {
+           current_token = token_source.getNextToken();
+        }
+        if (current_token.kind != expectedType) {
+            handleUnexpectedTokenType(expectedType, forced, oldToken) ;
+        }      
+      if (tokensAreNodes) {
+          if (buildTree) {
+              pushNode(current_token);
+          }
+      }
+      if (trace_enabled) traceConsumedToken();
+      return current_token;
+  }
+  
+  private void traceConsumedToken() {
+      LOGGER.info("Consumed token of type " + tokenImage[current_token.kind] + " from " + current_token.getLocation());
+  }
+  
+  private void handleUnexpectedTokenType( int expectedType,  boolean forced, Token oldToken) throws ParseException {
+        if (!tolerantParsing) {
+  //	    current_token = oldToken;
+  		    throw new ParseException(current_token);
+	   } 
+  }
+  
+  
+  private String generateErrorMessage(Token t) {
+      return "Encountered an error on (or somewhere around) line "
+                + t.getBeginLine() 
+                + ", column " + t.getBeginColumn() 
+                + " of " + t.getInputSource();
+   }
+   
+  
+
+  final public Token getNextToken() {
+    if (current_token.next != null) current_token = current_token.next;
+    else current_token = current_token.next = token_source.getNextToken();
+    return current_token;
+  }
+
+/** Get the specific Token index ahead in the stream. */
+  final public Token getToken(int index) {
+    Token t = current_token;
+    for (int i = 0; i < index; i++) {
+      if (t.next != null) t = t.next;
+      else t = t.next = token_source.getNextToken();
+    }
+    return t;
+  }
+  
+  private int nextTokenKind() {
+    if (current_token.next == null) {
+        current_token.next = token_source.getNextToken();
+    }
+    return current_token.next.kind;
+  }
+  
+  private List<Token> getTokensToEOL(int ...desiredTokenTypes) {
+     ArrayList<Token> result = new ArrayList<>();
+     int currentLine = current_token.getBeginLine();
+     Token tok = current_token;
+     do  {
+        Token prevToken = tok;
+        if (tok.next != null) {
+            tok = tok.next;
+        } else {
+        	tok = token_source.getNextToken();
+        	prevToken.next = tok;
+        }
+        result.add(tok);
+     } while (tok.getBeginLine() == currentLine && !intArrayContains(desiredTokenTypes, tok.kind) && tok.kind != EOF);
+     return result;
+  }
+     static private boolean intArrayContains(int[] array, int elem) {
+        for (int i=0; i<array.length; i++) {
+            if (array[i] == elem) {
+                return true;
+            }
+        }
+        return false;
+    } 
+  
+  private boolean trace_enabled = false;
+ 
+  public void setTracingEnabled(boolean tracingEnabled) {trace_enabled = tracingEnabled;}
+  
+ /**
+ * @deprecated Use #setTracingEnabled
+ */
+   @Deprecated
+  public void enable_tracing() {
+    setTracingEnabled(true);
+  }
+
+/**
+ * @deprecated Use #setTracingEnabled
+ */
+@Deprecated
+ public void disable_tracing() {
+    setTracingEnabled(false);
+  }
+  
+ 
+}
+
+
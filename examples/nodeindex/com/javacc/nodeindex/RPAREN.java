@@ -0,0 +1,10 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RPAREN.java */
+package com.javacc.nodeindex;
+
+
+@SuppressWarnings("unused")
+public class RPAREN extends Token {
+    public RPAREN(int kind, String image) {
+        super(kind, image);
+    }
+}
@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Term.java */
+package com.javacc.nodeindex;
+
+
+@SuppressWarnings("unused")
+public class Term extends BaseNode {
+
+}
@@ -32,9 +32,11 @@ package com.javacc;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.javacc.lexgen.*;
 import com.javacc.output.java.FilesGenerator;
+import com.javacc.output.java.GenerationCache;
 import com.javacc.parsegen.*;
 import com.javacc.parser.*;
 import com.javacc.parser.tree.*;
@@ -62,6 +64,19 @@ public class Grammar extends BaseNode {
     private ParserData parserData;
     private LexerData lexerData = new LexerData(this);
     private int includeNesting;
+    private List<File> inputFiles = new ArrayList<>();
+    private GenerationCache generationCache;
+
+    // The Java files that have been included, by their canonical path. Parsing a
+    // Java file does not depend on the grammar and we only read the tree after that,
+    // so when we process more than one grammar in the same JVM (see Main.mainProgram),
+    // we only parse a file again if its content has changed.
+    static private Map<String, IncludedJavaFile> includedJavaFiles = new ConcurrentHashMap<>();
+
+    static private class IncludedJavaFile {
+        String location, content;
+        CompilationUnit compilationUnit;
+    }
 
     private List<TokenProduction> tokenProductions = new ArrayList<>();
 
@@ -101,6 +116,7 @@ public class Grammar extends BaseNode {
     Node parse(String location) throws IOException, ParseException {
         File file = new File(location);
         Reader input = new FileReader(file);
+        inputFiles.add(file);
         JavaCCParser parser = new JavaCCParser(this, input);
         parser.setInputSource(file.getCanonicalFile().getName());
         setFilename(location);
@@ -123,8 +139,11 @@ public class Grammar extends BaseNode {
             }
         }
         if (location.toLowerCase().endsWith(".java") || location.endsWith(".jav")) {
-            CompilationUnit cu = JavaCCParser.parseJavaFile(new FileReader(location), location);
-            codeInjections.add(cu);
+            inputFiles.add(new File(location));
+            CompilationUnit cu = parseIncludedJavaFile(location);
+            if (!codeInjections.contains(cu)) {
+                codeInjections.add(cu);
+            }
             return cu;
         } else {
             String prevLocation = this.filename;
@@ -138,6 +157,22 @@ public class Grammar extends BaseNode {
         }
     }
 
+    private CompilationUnit parseIncludedJavaFile(String location) throws IOException, ParseException {
+        File file = new File(location);
+        String content = new String(java.nio.file.Files.readAllBytes(file.toPath()));
+        String key = file.getCanonicalPath();
+        IncludedJavaFile included = includedJavaFiles.get(key);
+        // The location is the input source in error messages, so it has to match too.
+        if (included == null || !included.location.equals(location) || !included.content.equals(content)) {
+            included = new IncludedJavaFile();
+            included.location = location;
+            included.content = content;
+            included.compilationUnit = JavaCCParser.parseJavaFile(new StringReader(content), location);
+            includedJavaFiles.put(key, included);
+        }
+        return included.compilationUnit;
+    }
+
     public void createOutputDir() {
         String outputDirectory = options.getOutputDirectory();
         if (outputDirectory.equals("")) {
@@ -192,6 +227,39 @@ public class Grammar extends BaseNode {
 
     public void generateFiles() throws ParseException, IOException, TemplateException {
         new FilesGenerator(this, codeInjections).generateAll();
+        if (generationCache != null && getErrorCount() == 0) {
+            List<String> warnings = new ArrayList<>();
+            for (JavaCCError error : errors) {
+                if (error.type == JavaCCError.Type.WARNING) {
+                    warnings.add(error.toString());
+                }
+            }
+            generationCache.save(warnings);
+        }
+    }
+
+    /**
+     * Checks whether the files that we generated from this grammar last time
+     * are what we would generate now, in which case there is no need to go any
+     * further. We only keep track of this if the GENERATION_CACHE option is set.
+     */
+    public boolean isUpToDate() throws IOException {
+        if (!options.getGenerationCache() || getErrorCount() != 0) {
+            return false;
+        }
+        generationCache = new GenerationCache(this);
+        return generationCache.isUpToDate();
+    }
+
+    public GenerationCache getGenerationCache() {
+        return generationCache;
+    }
+
+    /**
+     * The grammar file and the files that it includes, in the order we read them.
+     */
+    public List<File> getInputFiles() {
+        return inputFiles;
     }
 
     public LexerData getLexerData() {
@@ -652,6 +720,23 @@ public class Grammar extends BaseNode {
     public boolean getUsesCloseNodeScopeHook() {
         return usesCloseNodeScopeHook;
     }
+
+    /**
+     * @return whether any productions are marked LAZY. That only 
+     * has an effect when building a tree in a parser that is not fault-tolerant.
+     */
+    public boolean getUsesLazyProductions() {
+        if (!options.getTreeBuildingEnabled() || options.getFaultTolerant()) {
+            return false;
+        }
+        for (BNFProduction production : getParserProductions()) {
+            if (production.getLazy()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean isInInclude() {
         return includeNesting >0;
     }
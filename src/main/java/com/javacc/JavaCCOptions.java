@@ -157,6 +157,9 @@ public class JavaCCOptions {
 
         optionValues.put("OUTPUT_DIRECTORY", "");
         optionValues.put("TOKEN_FACTORY", "");
+        optionValues.put("TRACE_SUPPORT", true);
+        optionValues.put("TRACE_SINK", "");
+        optionValues.put("PRECEDENCE_CLIMBING", "");
         optionValues.put("CSS", "");
 
         optionValues.put("NODE_DEFAULT_VOID", false);
@@ -176,8 +179,13 @@ public class JavaCCOptions {
         optionValues.put("TOKENS_ARE_NODES", true);
         optionValues.put("SPECIAL_TOKENS_ARE_NODES", false);
         optionValues.put("FREEMARKER_NODES", false);
+        optionValues.put("NODE_TYPE_INDEX", false);
+        optionValues.put("POSITION_INDEX", false);
+        optionValues.put("ARENA_TREES", false);
+        optionValues.put("EVENT_PARSING", false);
         optionValues.put("DEFAULT_LEXICAL_STATE", "DEFAULT");
         optionValues.put("HUGE_FILE_SUPPORT", false);
+        optionValues.put("GENERATION_CACHE", false);
         aliases.put("DEBUG_TOKEN_MANAGER", "DEBUG_LEXER");
         aliases.put("USER_TOKEN_MANAGER", "USER_DEFINED_LEXER");
         aliases.put("TOKEN_MANAGER_USES_PARSER", "LEXER_USES_PARSER");
@@ -431,6 +439,11 @@ public class JavaCCOptions {
             }
             setOption("DEBUG_PARSER", Boolean.TRUE);
         }
+        if (!getTraceSupport() && (getDebugParser() || getDebugLexer())) {
+            grammar.addWarning(null, "True setting of option DEBUG_PARSER, DEBUG_LOOKAHEAD or DEBUG_LEXER overrides "
+                    + "false setting of option TRACE_SUPPORT.");
+            setOption("TRACE_SUPPORT", Boolean.TRUE);
+        }
         grammar.setParserPackage(stringValue("PARSER_PACKAGE"));
         grammar.setParserClassName(stringValue("PARSER_CLASS"));
         grammar.setLexerClassName(stringValue("LEXER_CLASS"));
@@ -559,6 +572,36 @@ public class JavaCCOptions {
         return stringValue("TOKEN_FACTORY");
     }
 
+    /**
+     * @return the productions, named in a comma-separated list, that head a chain
+     * of binary operator productions to be parsed by precedence climbing.
+     */
+    public List<String> getPrecedenceClimbing() {
+        List<String> result = new ArrayList<>();
+        for (String name : stringValue("PRECEDENCE_CLIMBING").split(",")) {
+            if (name.trim().length() > 0) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return whether the generated parser and lexer contain the code 
+     * for tracing. If not, tracing cannot be turned on at run time.
+     */
+    public boolean getTraceSupport() {
+        return booleanValue("TRACE_SUPPORT");
+    }
+
+    /**
+     * @return the name of a static method taking a String that trace messages 
+     * are sent to instead of the java.util.logging Logger, or an empty string
+     */
+    public String getTraceSink() {
+        return stringValue("TRACE_SINK");
+    }
+
     /**
      * Find the output directory.
      *
@@ -588,6 +631,21 @@ public class JavaCCOptions {
     	return booleanValue("HUGE_FILE_SUPPORT");
     }
 
+    /**
+     * @return whether we skip generating the files when nothing that goes
+     * into them has changed since the last time we generated them.
+     */
+    public boolean getGenerationCache() {
+        return booleanValue("GENERATION_CACHE");
+    }
+
+    /**
+     * All the option settings, by name.
+     */
+    public SortedMap<String, Object> getSettings() {
+        return new TreeMap<>(optionValues);
+    }
+
     /**
      *  Check options for consistency
      */
@@ -706,6 +764,30 @@ public class JavaCCOptions {
         return booleanValue("FREEMARKER_NODES");
     }
 
+    /**
+     * Whether the generated parser records the nodes it builds per type (and tokens per kind)
+     * so that descendantsOfType queries on the root node are lookups rather than tree walks.
+     */
+    public boolean getNodeTypeIndex() {
+        return booleanValue("NODE_TYPE_INDEX") && getTreeBuildingEnabled();
+    }
+
+    /**
+     * Whether the root node keeps a Nodes.PositionIndex of the tree, built on first use,
+     * so that repeated findNodeAt queries on it are binary searches rather than tree walks.
+     */
+    public boolean getPositionIndex() {
+        return booleanValue("POSITION_INDEX") && getTreeBuildingEnabled();
+    }
+
+    public boolean getArenaTrees() {
+        return booleanValue("ARENA_TREES") && getTreeBuildingEnabled();
+    }
+
+    public boolean getEventParsing() {
+        return booleanValue("EVENT_PARSING") && getTreeBuildingEnabled();
+    }
+
     public String getDefaultLexicalState() {
         return this.stringValue("DEFAULT_LEXICAL_STATE");
     }
@@ -755,6 +837,18 @@ public class JavaCCOptions {
             if (getVisitor()) {
                 grammar.addWarning(null, msg.replace("OPTION_NAME", "VISITOR"));
             }
+            if (booleanValue("NODE_TYPE_INDEX")) {
+                grammar.addWarning(null, msg.replace("OPTION_NAME", "NODE_TYPE_INDEX"));
+            }
+            if (booleanValue("POSITION_INDEX")) {
+                grammar.addWarning(null, msg.replace("OPTION_NAME", "POSITION_INDEX"));
+            }
+            if (booleanValue("ARENA_TREES")) {
+                grammar.addWarning(null, msg.replace("OPTION_NAME", "ARENA_TREES"));
+            }
+            if (booleanValue("EVENT_PARSING")) {
+                grammar.addWarning(null, msg.replace("OPTION_NAME", "EVENT_PARSING"));
+            }
         }
     }
 }
@@ -30,8 +30,11 @@
 
 package com.javacc;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.Enumeration;
 import java.util.StringTokenizer;
@@ -80,6 +83,13 @@ public final class Main {
     static void usage() {
         System.out.println("Usage:");
         System.out.println("    java -jar " + jarFileName + " option-settings inputfile");
+        System.out.println("    java -jar " + jarFileName + " -daemon");
+        System.out.println();
+        System.out.println("With -daemon, each line of standard input is a sequence of option settings");
+        System.out.println("and an input file, separated by spaces, and the parser for it is generated");
+        System.out.println("just as if those were the arguments. After each one, a line saying");
+        System.out.println("\"Exit code: n\" is printed. This is much faster than starting JavaCC");
+        System.out.println("over for each grammar when there are many grammars to process.");
         System.out.println();
         System.out.println("\"option-settings\" is a sequence of settings separated by spaces.");
         System.out.println("Each option setting must be of one of the following forms:");
@@ -102,20 +112,26 @@ public final class Main {
         System.out.println();
         System.out.println("The boolean valued options are:");
         System.out.println();
+        System.out.println("    ARENA_TREES            (default false)");
         System.out.println("    BUILD_PARSER           (default true)");
         System.out.println("    DEBUG_PARSER           (default false)");
         System.out.println("    DEBUG_LOOKAHEAD        (default false)");
         System.out.println("    DEBUG_LEXER            (default false)");
+        System.out.println("    EVENT_PARSING          (default false)");
         System.out.println("    FAULT_TOLERANT         (default false)");
         System.out.println("    FREEMARKER_NODES       (default false)");
+        System.out.println("    GENERATION_CACHE       (default false)");
         System.out.println("    IGNORE_CASE            (default false)");
         System.out.println("    JAVA_UNICODE_ESCAPE    (default false)");
         System.out.println("    LEXER_USES_PARSER      (default false)");
         System.out.println("    NODES_USE_PARSER       (default false)");
+        System.out.println("    NODE_TYPE_INDEX        (default false)");
+        System.out.println("    POSITION_INDEX         (default false)");
         System.out.println("    PRESERVE_LINE_ENDINGS       (default true)");
         System.out.println("    SPECIAL_TOKENS_ARE_NODES (default false)");
         System.out.println("    SMART_NODE_CREATION    (default true)");
         System.out.println("    TOKENS_ARE_NODES       (default true)");
+        System.out.println("    TRACE_SUPPORT          (default true)");
         System.out.println("    TREE_BUILDING_DEFAULT  (default true)");
         System.out.println("    TREE_BUILDING_ENABLED  (default true)");
         System.out.println("    USER_DEFINED_LEXER     (default false)");
@@ -131,7 +147,9 @@ public final class Main {
         System.out.println("    OUTPUT_DIRECTORY       (default Current Directory)");
         System.out.println("    PARSER_CLASS           (default XXXParser based on grammar filename)");
         System.out.println("    PARSER_PACKAGE         (default not defined)");
+        System.out.println("    PRECEDENCE_CLIMBING    (default not defined)");
         System.out.println("    TOKEN_FACTORY          (default not defined)");
+        System.out.println("    TRACE_SINK             (default not defined)");
         System.out.println();
         System.out.println("EXAMPLE:");
         System.out.println("    javacc -IGNORE_CASE=true -LOOKAHEAD:2 -debug_parser MyGrammar.javacc");
@@ -155,6 +173,10 @@ public final class Main {
             usage();
             System.exit(1);
         } 
+        if (args.length == 1 && args[0].equalsIgnoreCase("-daemon")) {
+            daemon();
+            System.exit(0);
+        }
   		int errorcode = mainProgram(args);
         System.exit(errorcode);
     }
@@ -162,6 +184,9 @@ public final class Main {
     /**
      * The method to call to exercise the parser from other Java programs. It
      * returns an error code. See how the main program above uses this method.
+     * The templates are only loaded and compiled the first time, so
+     * generating many grammars by calling this repeatedly from the same JVM
+     * is much faster than running JavaCC once for each of them.
      */
     public static int mainProgram(String[] args) throws Exception {
         JavaCCOptions options = new JavaCCOptions(args);
@@ -175,6 +200,13 @@ public final class Main {
         grammar.parse(filename);
         try {
             grammar.createOutputDir();
+            if (grammar.isUpToDate()) {
+                for (String warning : grammar.getGenerationCache().getWarnings()) {
+                    System.err.println(warning);
+                }
+                System.out.println("The generated files are up to date.");
+                return 0;
+            }
             grammar.semanticize();
 
             if (!grammar.getOptions().getUserDefinedLexer() && grammar.getErrorCount() == 0) {
@@ -208,6 +240,35 @@ public final class Main {
         }
     }
     
+    /**
+     * Reads command lines from standard input and processes each one
+     * with mainProgram, until the end of the input.
+     */
+    static void daemon() throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        String line;
+        while ((line = in.readLine()) != null) {
+            StringTokenizer st = new StringTokenizer(line);
+            String[] args = new String[st.countTokens()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = st.nextToken();
+            }
+            if (args.length == 0) {
+                continue;
+            }
+            int errorcode;
+            try {
+                errorcode = mainProgram(args);
+            } catch (Exception e) {
+                e.printStackTrace();
+                errorcode = 1;
+            }
+            System.err.flush();
+            System.out.println("Exit code: " + errorcode);
+            System.out.flush();
+        }
+    }
+    
     /**
      * This prints the banner line when the various tools are invoked. This
      * takes as argument the tool's full name and its version.
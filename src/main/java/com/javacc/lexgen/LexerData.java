@@ -31,6 +31,7 @@
 package com.javacc.lexgen;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import com.javacc.Grammar;
 import com.javacc.parser.tree.EndOfFile;
@@ -60,7 +61,7 @@ public class LexerData {
 
     private List<String> allBitVectors = new ArrayList<String>();
     private int[] tempIndices = new int[512];
-    private Map<String, int[]> tableToDump = new HashMap<String, int[]>();
+    private Map<StateSet, int[]> tableToDump = new HashMap<>();
     private List<int[]> orderedStateSet = new ArrayList<int[]>();
     private int lastIndex;
 
@@ -210,7 +211,7 @@ public class LexerData {
         return tempIndices;
     }
 
-    Map<String, int[]> getTableToDump() {
+    Map<StateSet, int[]> getTableToDump() {
         return tableToDump;
     }
 
@@ -252,10 +253,19 @@ public class LexerData {
         toToken[0] = 1L;
         hasTokenActions = getRegularExpression(0) != null;
 
-        List<RegexpChoice> choices = new ArrayList<RegexpChoice>();
-        
         for (LexicalState lexState : lexicalStates) {
-            choices.addAll(lexState.process());
+            lexState.setupTokenKinds();
+        }
+        // Past this point, building each lexical state's automata only touches
+        // that lexical state, so they can be built in parallel. The shared data
+        // is then updated one lexical state at a time, in the usual order.
+        List<List<RegexpChoice>> processed = lexicalStates.parallelStream()
+                .map(LexicalState::process)
+                .collect(Collectors.toList());
+        List<RegexpChoice> choices = new ArrayList<RegexpChoice>();
+        for (int i = 0; i < lexicalStates.size(); i++) {
+            lexicalStates.get(i).updateLexerData();
+            choices.addAll(processed.get(i));
         }
         
         for (RegexpChoice choice : choices) {
@@ -50,15 +50,13 @@ public class LexicalState {
 
     int idCnt = 0;
     int dummyStateIndex = -1;
-    boolean done;
-    boolean mark[];
     Vector<NfaState> allStates = new Vector<>();
     List<NfaState> indexedAllStates = new ArrayList<>();
     Map<String, NfaState> equivStatesTable = new HashMap<>();
-    Map<String, int[]> allNextStates = new Hashtable<>();
-    private Hashtable<String, int[]> compositeStateTable = new Hashtable<>();
-    private Hashtable<String, Integer> stateIndexFromComposite = new Hashtable<>();
-    private Hashtable<String, int[]> stateSetsToFix = new Hashtable<>();
+    private Set<StateSet> compositeStateSets = new LinkedHashSet<>();
+    // The composite state sets that each state is in
+    private Map<Integer, List<StateSet>> compositesContaining = new HashMap<>();
+    private Map<StateSet, Integer> stateIndexFromComposite = new HashMap<>();
     private List<TokenProduction> tokenProductions = new ArrayList<>();
     private NfaState initialState;
     private Map<String, Map<String, RegularExpression>> tokenTable = new HashMap<>();
@@ -81,7 +79,7 @@ public class LexicalState {
 
     private boolean subString[];
     boolean[] subStringAtPos;
-    private List<Map<String, long[]>> statesForPos;
+    private List<Map<NfaStart, NfaStart>> statesForPos;
     private String[] images;
     private int[] kindsForStates;
     private int[][] statesForState;
@@ -123,8 +121,19 @@ public class LexicalState {
         tokenProductions.add(tokenProduction);
     }
 
-    public List<Map<String, long[]>> getStatesForPos() {
-        return statesForPos;
+    /**
+     * For each position, where the NFA takes over when no more string
+     * literals can match, or null if no string literal gets that far.
+     */
+    public List<Collection<NfaStart>> getStatesForPos() {
+        if (statesForPos == null) {
+            return null;
+        }
+        List<Collection<NfaStart>> result = new ArrayList<>(statesForPos.size());
+        for (Map<NfaStart, NfaStart> starts : statesForPos) {
+            result.add(starts == null ? null : starts.values());
+        }
+        return result;
     }
 
     public boolean hasNfa() {
@@ -195,12 +204,12 @@ public class LexicalState {
         return regularExpressions.contains(re);
     }
 
-    public Map<String, int[]> getCompositeStateTable() {
-        return compositeStateTable;
+    public Set<StateSet> getCompositeStateSets() {
+        return compositeStateSets;
     }
 
-    public NfaState[] getStateSetFromCompositeKey(String key) {
-        int[] indices = compositeStateTable.get(key);
+    public NfaState[] getStateSetFromCompositeKey(StateSet key) {
+        int[] indices = key.getStates();
         NfaState[] result = new NfaState[indices.length];
         for (int i = 0; i < indices.length; i++) {
             result[i] = allStates.get(indices[i]);
@@ -208,11 +217,7 @@ public class LexicalState {
         return result;
     }
 
-    public int[] nextStatesFromKey(String key) {
-        return allNextStates.get(key);
-    }
-
-    public int stateIndexFromComposite(String key) {
+    public int stateIndexFromComposite(StateSet key) {
         return stateIndexFromComposite.get(key);
     }
 
@@ -268,16 +273,8 @@ public class LexicalState {
         }
 
         if (initialState.kind != Integer.MAX_VALUE && initialState.kind != 0) {
-            if ((lexerData.toSkip[initialState.kind / 64] & (1L << initialState.kind)) != 0L
-                    || (lexerData.toSpecial[initialState.kind / 64] & (1L << initialState.kind)) != 0L)
-                lexerData.hasSkipActions = true;
-            else if ((lexerData.toMore[initialState.kind / 64] & (1L << initialState.kind)) != 0L)
-                lexerData.hasMoreActions = true;
-            else
-                lexerData.hasTokenActions = true;
             if (initMatch == 0 || initMatch > initialState.kind) {
                 initMatch = initialState.kind;
-                lexerData.hasEmptyMatch = true;
             }
         } else if (initMatch == 0) {
             initMatch = Integer.MAX_VALUE;
@@ -286,14 +283,9 @@ public class LexicalState {
         if (indexedAllStates.size() != 0 && !mixed) {
             generateNfaStartStates();
         }
-        if (lexerData.stateSetSize < indexedAllStates.size())
-            lexerData.stateSetSize = indexedAllStates.size();
         generateNfaStates();
         setupStateSetsForKinds();
-        for (NfaState nfaState : allStates) {
-            nfaState.generateNonAsciiMoves();
-        }
-        for (Map.Entry<String, Integer> entry : stateIndexFromComposite.entrySet()) {
+        for (Map.Entry<StateSet, Integer> entry : stateIndexFromComposite.entrySet()) {
 //REVISIT: I don't really grok this code. What is going on?            
             int state = entry.getValue();
             if (state >= indexedAllStates.size()) {
@@ -304,15 +296,89 @@ public class LexicalState {
                         statesForState[i] = prevStatesForState[i];
                     }
                 }
-                statesForState[state] = allNextStates.get(entry.getKey());
+                statesForState[state] = entry.getKey().getStates();
             }
         }
-        if (!stateSetsToFix.isEmpty()) {
-            fixStateSets();
-        }
         return choices;
     }
 
+    /**
+     * Sets up what kind of token each regular expression in this lexical
+     * state is (TOKEN, SKIP, MORE or SPECIAL_TOKEN), its action and the lexical
+     * state it switches to. This updates data that all the lexical states share,
+     * so it is done for each of them in turn, before any of them is processed.
+     */
+    void setupTokenKinds() {
+        for (TokenProduction tp : tokenProductions) {
+            boolean ignore = tp.getIgnoreCase() || grammar.getOptions().getIgnoreCase();
+            for (RegexpSpec respec : tp.getRegexpSpecs()) {
+                RegularExpression regexp = respec.getRegexp();
+                regexp.setIgnoreCase(ignore);
+                if (regexp.isPrivate()) {
+                    continue;
+                }
+                if (respec.getNextState() != null && !respec.getNextState().equals(this.name))
+                    regexp.setNewLexicalState(lexerData.getLexicalState(respec.getNextState()));
+
+                if (respec.getCodeSnippet() != null && !respec.getCodeSnippet().isEmpty()) {
+                    regexp.setCodeSnippet(respec.getCodeSnippet());
+                }
+                CodeBlock tokenAction = regexp.getCodeSnippet();
+                String kind = tp.getKind();
+                if (kind.equals("SPECIAL_TOKEN")) {
+                    if (tokenAction != null || regexp.getNewLexicalState() != null) {
+                        lexerData.hasSkipActions = true;
+                    }
+                    lexerData.hasSpecial = true;
+                    lexerData.toSpecial[regexp.getOrdinal() / 64] |= 1L << (regexp.getOrdinal() % 64);
+                    lexerData.toSkip[regexp.getOrdinal() / 64] |= 1L << (regexp.getOrdinal() % 64);
+                    regexp.setSpecialToken();
+                }
+                else if (kind.equals("SKIP")) {
+                    lexerData.hasSkipActions |= (tokenAction != null);
+                    lexerData.hasSkip = true;
+                    lexerData.toSkip[regexp.getOrdinal() / 64] |= 1L << (regexp.getOrdinal() % 64);
+                    regexp.setSkip();
+                }
+                else if (kind.equals("MORE")) {
+                    lexerData.hasMoreActions |= tokenAction != null;
+                    lexerData.hasMore = true;
+                    lexerData.toMore[regexp.getOrdinal() / 64] |= 1L << (regexp.getOrdinal() % 64);
+                    regexp.setMore();
+                }
+                else {
+                    lexerData.hasTokenActions |= (tokenAction != null);
+                    lexerData.toToken[regexp.getOrdinal() / 64] |= 1L << (regexp.getOrdinal() % 64);
+                    regexp.setRegularToken();
+                }
+            }
+        }
+    }
+
+    /**
+     * The part of the processing that updates data that all the lexical states
+     * share. This is done for each lexical state in turn, after they have all
+     * been processed, so that it comes out the same as if they had been
+     * processed one after the other.
+     */
+    void updateLexerData() {
+        if (initialState.kind != Integer.MAX_VALUE && initialState.kind != 0) {
+            if ((lexerData.toSkip[initialState.kind / 64] & (1L << initialState.kind)) != 0L
+                    || (lexerData.toSpecial[initialState.kind / 64] & (1L << initialState.kind)) != 0L)
+                lexerData.hasSkipActions = true;
+            else if ((lexerData.toMore[initialState.kind / 64] & (1L << initialState.kind)) != 0L)
+                lexerData.hasMoreActions = true;
+            else
+                lexerData.hasTokenActions = true;
+            lexerData.hasEmptyMatch = true;
+        }
+        if (lexerData.stateSetSize < indexedAllStates.size())
+            lexerData.stateSetSize = indexedAllStates.size();
+        for (NfaState nfaState : allStates) {
+            nfaState.generateNonAsciiMoves();
+        }
+    }
+
     List<RegexpChoice> processTokenProduction(TokenProduction tp, boolean isFirst) {
         boolean ignoring = false;
         boolean ignore = tp.getIgnoreCase() || grammar.getOptions().getIgnoreCase();
@@ -323,7 +389,6 @@ public class LexicalState {
         for (RegexpSpec respec : tp.getRegexpSpecs()) {
             currentRegexp = respec.getRegexp();
             regularExpressions.add(currentRegexp);
-            currentRegexp.setIgnoreCase(ignore);
             if (currentRegexp.isPrivate()) {
                 continue;
             }
@@ -349,45 +414,6 @@ public class LexicalState {
                 nfa.getEnd().kind = currentRegexp.getOrdinal();
                 initialState.addMove(nfa.getStart());
             }
-            if (respec.getNextState() != null && !respec.getNextState().equals(this.name))
-                currentRegexp.setNewLexicalState(lexerData.getLexicalState(respec.getNextState()));
-
-            if (respec.getCodeSnippet() != null && !respec.getCodeSnippet().isEmpty()) {
-                currentRegexp.setCodeSnippet(respec.getCodeSnippet());
-            }
-            CodeBlock tokenAction = currentRegexp.getCodeSnippet();
-            String kind = tp.getKind();
-            if (kind.equals("SPECIAL_TOKEN")) {
-                if (tokenAction != null || currentRegexp.getNewLexicalState() != null) {
-                    lexerData.hasSkipActions = true;
-                }
-                lexerData.hasSpecial = true;
-                lexerData.toSpecial[currentRegexp.getOrdinal() / 64] |= 1L << (currentRegexp
-                        .getOrdinal() % 64);
-                lexerData.toSkip[currentRegexp.getOrdinal() / 64] |= 1L << (currentRegexp
-                        .getOrdinal() % 64);
-                currentRegexp.setSpecialToken();
-            }
-            else if (kind.equals("SKIP")) {
-                lexerData.hasSkipActions |= (tokenAction != null);
-                lexerData.hasSkip = true;
-                lexerData.toSkip[currentRegexp.getOrdinal() / 64] |= 1L << (currentRegexp
-                        .getOrdinal() % 64);
-                currentRegexp.setSkip();
-            }
-            else if (kind.equals("MORE")) {
-                lexerData.hasMoreActions |= tokenAction != null;
-                lexerData.hasMore = true;
-                lexerData.toMore[currentRegexp.getOrdinal() / 64] |= 1L << (currentRegexp
-                        .getOrdinal() % 64);
-                currentRegexp.setMore();
-            }
-            else {
-                lexerData.hasTokenActions |= (tokenAction != null);
-                lexerData.toToken[currentRegexp.getOrdinal() / 64] |= 1L << (currentRegexp
-                        .getOrdinal() % 64);
-                currentRegexp.setRegularToken();
-            }
         }
         return choices;
 
@@ -475,21 +501,16 @@ public class LexicalState {
     public int getStateSetForKind(int pos, int kind) {
         if (!isMixedCase() && !indexedAllStates.isEmpty()) {
 
-            Map<String, long[]> allStateSets = statesForPos.get(pos);
+            Map<NfaStart, NfaStart> starts = statesForPos.get(pos);
 
-            if (allStateSets == null)
+            if (starts == null)
                 return -1;
-            for (String s : allStateSets.keySet()) {
-                long[] actives = allStateSets.get(s);
-
-                s = s.substring(s.indexOf(", ") + 2);
-                s = s.substring(s.indexOf(", ") + 2);
-
-                if (s.equals("null;"))
+            for (NfaStart start : starts.values()) {
+                if (start.stateSet == null)
                     continue;
 
-                if (actives != null && (actives[kind / 64] & (1L << (kind % 64))) != 0L) {
-                    return addStartStateSet(s);
+                if ((start.actives[kind / 64] & (1L << (kind % 64))) != 0L) {
+                    return addStartStateSet(start.stateSet);
                 }
             }
         }
@@ -648,15 +669,14 @@ public class LexicalState {
 
     void generateNfaStartStates() {
         boolean[] seen = new boolean[indexedAllStates.size()];
-        Map<String, String> stateSets = new HashMap<String, String>();
-        String stateSetString = "";
+        Set<StateSet> stateSets = new HashSet<>();
+        StateSet stateSet = null;
         int i, j, kind, jjmatchedPos = 0;
         int maxKindsReqd = maxStrKind / 64 + 1;
-        long[] actives;
         List<NfaState> newStates = new ArrayList<NfaState>();
         List<NfaState> jjtmpStates;
 
-        statesForPos = new ArrayList<Map<String, long[]>>(maxLen);
+        statesForPos = new ArrayList<Map<NfaStart, NfaStart>>(maxLen);
         for (int k = 0; k < maxLen; k++)
             statesForPos.add(null);
         intermediateKinds = new int[maxStrKind + 1][];
@@ -704,15 +724,14 @@ public class LexicalState {
                         jjmatchedPos = intermediateMatchedPos[i][j] = intermediateMatchedPos[i][j - 1];
                     }
 
-                    stateSetString = getStateSetString(newStates);
+                    stateSet = newStates.isEmpty() ? null : StateSet.of(newStates);
                 }
 
                 if (kind == Integer.MAX_VALUE && (newStates == null || newStates.size() == 0))
                     continue;
 
                 int p;
-                if (stateSets.get(stateSetString) == null) {
-                    stateSets.put(stateSetString, stateSetString);
+                if (stateSets.add(stateSet)) {
                     for (p = 0; p < newStates.size(); p++) {
                         if (seen[newStates.get(p).index])
                             newStates.get(p).inNextOf++;
@@ -729,16 +748,11 @@ public class LexicalState {
                 (newStates = jjtmpStates).clear();
 
                 if (statesForPos.get(j) == null)
-                    statesForPos.set(j, new HashMap<String, long[]>());
+                    statesForPos.set(j, new LinkedHashMap<NfaStart, NfaStart>());
 
-                if ((actives = (statesForPos.get(j).get(kind + ", " + jjmatchedPos + ", "
-                        + stateSetString))) == null) {
-                    actives = new long[maxKindsReqd];
-                    statesForPos.get(j).put(kind + ", " + jjmatchedPos + ", " + stateSetString,
-                            actives);
-                }
-
-                actives[i / 64] |= 1L << (i % 64);
+                NfaStart start = new NfaStart(kind, jjmatchedPos, stateSet, maxKindsReqd);
+                start = statesForPos.get(j).computeIfAbsent(start, k -> k);
+                start.actives[i / 64] |= 1L << (i % 64);
             }
         }
     }
@@ -747,12 +761,12 @@ public class LexicalState {
 
         assert c < 128 : "This should be impossible.";
 
-        String s = initialState.getEpsilonMovesString();
+        StateSet s = initialState.getEpsilonMovesSet();
 
-        if (s == null || s.equals("null;"))
+        if (s == null)
             return false;
 
-        int[] states = allNextStates.get(s);
+        int[] states = s.getStates();
 
         for (int i = 0; i < states.length; i++) {
             NfaState tmp = indexedAllStates.get(states[i]);
@@ -764,15 +778,16 @@ public class LexicalState {
         return false;
     }
 
-    public int addStartStateSet(String stateSetString) {
-        if (stateIndexFromComposite.contains(stateSetString)) {
-            return stateIndexFromComposite.get(stateSetString);
+    public int addStartStateSet(StateSet stateSet) {
+        Integer index = stateIndexFromComposite.get(stateSet);
+        if (index != null) {
+            return index;
         }
         int toRet = 0;
-        int[] nameSet = (int[]) allNextStates.get(stateSetString);
+        int[] nameSet = stateSet.getStates();
 
         if (nameSet.length == 1) {
-            stateIndexFromComposite.put(stateSetString, nameSet[0]);
+            stateIndexFromComposite.put(stateSet, nameSet[0]);
             return nameSet[0];
         }
 
@@ -785,23 +800,21 @@ public class LexicalState {
             st.compositeStates = nameSet;
         }
 
-        while (toRet < nameSet.length && (indexedAllStates.get(nameSet[toRet]).inNextOf > 1))
-            toRet++;
-
-        Enumeration<String> e = compositeStateTable.keys();
-        String s;
-        while (e.hasMoreElements()) {
-            s = e.nextElement();
-            if (!s.equals(stateSetString) && intersect(stateSetString, s)) {
-                int[] other = compositeStateTable.get(s);
-
-                while (toRet < nameSet.length
-                        && (((indexedAllStates.get(nameSet[toRet])).inNextOf > 1) || NfaState.arrayContains(other, nameSet[toRet]))) {
-                    toRet++;
+        // The state that stands for the composite can't be in any other composite.
+        BitSet inOtherComposites = new BitSet();
+        Set<StateSet> others = new HashSet<>();
+        for (int state : nameSet) {
+            for (StateSet other : compositesContaining.getOrDefault(state, Collections.emptyList())) {
+                if (others.add(other)) {
+                    inOtherComposites.or(other.getBits());
                 }
             }
         }
-        
+        while (toRet < nameSet.length
+                && (indexedAllStates.get(nameSet[toRet]).inNextOf > 1 || inOtherComposites.get(nameSet[toRet]))) {
+            toRet++;
+        }
+
         int tmp;
 
         if (toRet >= nameSet.length) {
@@ -813,95 +826,37 @@ public class LexicalState {
         } else {
             tmp = nameSet[toRet];
         }
-        stateIndexFromComposite.put(stateSetString, tmp);
-        compositeStateTable.put(stateSetString, nameSet);
+        stateIndexFromComposite.put(stateSet, tmp);
+        compositeStateSets.add(stateSet);
+        for (int state : nameSet) {
+            compositesContaining.computeIfAbsent(state, k -> new ArrayList<>()).add(stateSet);
+        }
         return tmp;
     }
     
     
 
-    public int[] getStateSetIndicesForUse(String arrayString) {
-        int[] set = allNextStates.get(arrayString);
-        int[] result = lexerData.getTableToDump().get(arrayString);
+    public int[] getStateSetIndicesForUse(StateSet stateSet) {
+        int[] set = stateSet.getStates();
+        int[] result = lexerData.getTableToDump().get(stateSet);
         if (result == null) {
             result = new int[2];
             int lastIndex = lexerData.getLastIndex();
             result[0] = lastIndex;
             result[1] = lastIndex + set.length - 1;
             lexerData.setLastIndex(lastIndex + set.length);
-            lexerData.getTableToDump().put(arrayString, result);
+            lexerData.getTableToDump().put(stateSet, result);
             lexerData.getOrderedStateSet().add(set);
         }
         return result;
     }
 
-    String getStateSetString(List<NfaState> states) {
-        if (states == null || states.size() == 0)
-            return "null;";
-
-        int[] set = new int[states.size()];
-        String retVal = "{ ";
-        for (int i = 0; i < states.size();) {
-            int k;
-            retVal += (k = ((NfaState) states.get(i)).index) + ", ";
-            set[i] = k;
-
-            if (i++ > 0 && i % 16 == 0)
-                retVal += "\n";
-        }
-
-        retVal += "};";
-        allNextStates.put(retVal, set);
-        return retVal;
-    }
-
-    private void fixStateSets() {
-        HashMap<String, int[]> fixedSets = new HashMap<String, int[]>();
-        int[] tmp = new int[indexedAllStates.size()];
-        for (Map.Entry<String, int[]> entry : stateSetsToFix.entrySet()) {
-            int cnt = 0;
-            for (int state : entry.getValue()) {
-                if (state != -1)
-                    tmp[cnt++] = state;
-            }
-            int[] fixed = new int[cnt];
-            System.arraycopy(tmp, 0, fixed, 0, cnt);
-            fixedSets.put(entry.getKey(), fixed);
-            allNextStates.put(entry.getKey(), fixed);
-        }
-        for (NfaState state : allStates) {
-            if (state.getNext() != null && state.getNext().hasEpsilonMoves()) {
-                int[] newSet = fixedSets.get(state.getNext().epsilonMovesString);
-                if (newSet != null) {
-                    state.fixNextStates(newSet);
-                }
-            }
-        }
-    }
-
-    public boolean intersect(String set1, String set2) {
-        if (set1 == null || set2 == null)
-            return false;
-
-        int[] nameSet1 = allNextStates.get(set1);
-        int[] nameSet2 = allNextStates.get(set2);
-
-        if (nameSet1 == null || nameSet2 == null)
-            return false;
-
-        if (nameSet1 == nameSet2)
-            return true;
-
-        for (int i = nameSet1.length; i-- > 0;)
-            for (int j = nameSet2.length; j-- > 0;)
-                if (nameSet1[i] == nameSet2[j])
-                    return true;
-
-        return false;
+    public boolean intersect(StateSet set1, StateSet set2) {
+        return set1 != null && set2 != null && set1.intersects(set2);
     }
 
     public boolean intersect(NfaState state1, NfaState state2) {
-        return intersect(state1.epsilonMovesString, state2.epsilonMovesString);
+        return intersect(state1.epsilonMovesSet, state2.epsilonMovesSet);
     }
 
     void computeClosures() {
@@ -1006,7 +961,7 @@ public class LexicalState {
     }
 
     public int initStateName() {
-        String s = initialState.getEpsilonMovesString();
+        StateSet s = initialState.getEpsilonMovesSet();
 
         if (initialState.hasEpsilonMoves())
             return stateIndexFromComposite.get(s);
@@ -1050,4 +1005,54 @@ public class LexicalState {
             }
         }
     }
+
+    /**
+     * Where the NFA takes over, at some position, for a set of string
+     * literals that have all matched the same characters so far: the kind
+     * and position of the longest match up to there, and the states the
+     * NFA is in. actives has a bit set for each of the string literals.
+     */
+    public static final class NfaStart {
+        final int kind, matchedPos;
+        final StateSet stateSet;
+        final long[] actives;
+
+        NfaStart(int kind, int matchedPos, StateSet stateSet, int activesLength) {
+            this.kind = kind;
+            this.matchedPos = matchedPos;
+            this.stateSet = stateSet;
+            this.actives = new long[activesLength];
+        }
+
+        public int getKind() {
+            return kind;
+        }
+
+        public int getMatchedPos() {
+            return matchedPos;
+        }
+
+        /**
+         * @return the NFA states, or null if there are none
+         */
+        public StateSet getStateSet() {
+            return stateSet;
+        }
+
+        public long[] getActives() {
+            return actives;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof NfaStart)) return false;
+            NfaStart other = (NfaStart) obj;
+            return kind == other.kind && matchedPos == other.matchedPos && Objects.equals(stateSet, other.stateSet);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, matchedPos, stateSet);
+        }
+    }
 }
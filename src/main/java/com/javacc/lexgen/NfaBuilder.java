@@ -200,20 +200,25 @@ public class NfaBuilder extends Node.Visitor {
         List<RegularExpression> units = new ArrayList<RegularExpression>();
         RegexpSequence seq;
         int i;
+        // The units refer to the regexp rather than take it in as a child,
+        // so that the grammar's tree is left as it is.
+        RegexpRef ref = new RegexpRef();
+        ref.setGrammar(grammar);
+        ref.setRegexp(repRange.getRegexp());
         for (i = 0; i < repRange.getMin(); i++) {
-            units.add(repRange.getRegexp());
+            units.add(ref);
         }
         if (repRange.hasMax() && repRange.getMax() == -1) // Unlimited
         {
             ZeroOrMoreRegexp zom = new ZeroOrMoreRegexp();
             zom.setGrammar(grammar);
-            zom.setRegexp(repRange.getRegexp());
+            zom.setRegexp(ref);
             units.add(zom);
         }
         while (i++ < repRange.getMax()) {
             ZeroOrOneRegexp zoo = new ZeroOrOneRegexp();
             zoo.setGrammar(grammar);
-            zoo.setRegexp(repRange.getRegexp());
+            zoo.setRegexp(ref);
             units.add(zoo);
         }
         seq = new RegexpSequence();
@@ -423,13 +428,11 @@ public class NfaBuilder extends Node.Visitor {
         List<CharacterRange> result = new ArrayList<>();
         CharacterRange previous = null;
         for (CharacterRange current : descriptors) {
-            if (previous == null) {
-                result.add(current);
-                previous = current;
-            } else if (current.left > previous.right + 1) {
-                result.add(current);
-                previous = current;
-            } else {
+            if (previous == null || current.left > previous.right + 1) {
+                // A copy, since merging changes it and the original is in the grammar's tree
+                previous = new CharacterRange(current.left, current.right);
+                result.add(previous);
+            } else if (current.right > previous.right) {
                 previous.right = current.right;
             }
         }
@@ -44,7 +44,7 @@ public class NfaState {
     private LexicalState lexicalState;
     private char[] rangeMoves = null;
     NfaState stateForCase;
-    String epsilonMovesString;
+    StateSet epsilonMovesSet;
     NfaState[] epsilonMoveArray;
     private int id;
     RegularExpression lookingFor;
@@ -299,39 +299,124 @@ public class NfaState {
      * This function computes the closure and also updates the kind so that any
      * time there is a move to this state, it can go on epsilon to a new state
      * in the epsilon moves that might have a lower kind of token number for the
-     * same length.
+     * same length. It does this for every state that can be reached from this one
+     * on epsilon moves, except the ones done in the previous call, whose epsilon
+     * moves are closed already.
+     * @return the ids of the states whose closure was computed
      */
-
-    private void epsilonClosure() {
-        if (closureDone || lexicalState.mark[id])
-            return;
-
-        lexicalState.mark[id] = true;
-
-        // Recursively do closure
-        for (NfaState state : epsilonMoves) {
-            state.epsilonClosure();
+    private BitSet epsilonClosure() {
+        EpsilonClosure closure = new EpsilonClosure(lexicalState.allStates);
+        closure.strongConnect(this);
+        BitSet result = new BitSet();
+        for (NfaState state : closure.visited) {
+            if (state.closureDone)
+                continue;
+            result.set(state.id);
+            int component = closure.component[state.id];
+            if (state.kind > closure.lowestKind.get(component))
+                state.kind = closure.lowestKind.get(component);
+            BitSet moves = new BitSet();
+            boolean sorted = true;
+            for (NfaState move : state.epsilonMoves) {
+                sorted &= moves.nextSetBit(move.id) < 0;
+                moves.set(move.id);
+            }
+            BitSet reachable = closure.reachable.get(component);
+            for (int id = reachable.nextSetBit(0); id >= 0; id = reachable.nextSetBit(id + 1)) {
+                NfaState other = lexicalState.allStates.get(id);
+                if (!moves.get(id) && other.usefulState()) {
+                    moves.set(id);
+                    if (!sorted) InsertInOrder(state.epsilonMoves, other);
+                }
+            }
+            if (state.hasTransitions() && !moves.get(state.id)) {
+                moves.set(state.id);
+                if (!sorted) InsertInOrder(state.epsilonMoves, state);
+            }
+            if (sorted && moves.cardinality() > state.epsilonMoves.size()) {
+                // Same as inserting them one by one in order of id
+                state.epsilonMoves.clear();
+                for (int id = moves.nextSetBit(0); id >= 0; id = moves.nextSetBit(id + 1)) {
+                    state.epsilonMoves.add(lexicalState.allStates.get(id));
+                }
+            }
         }
+        return result;
+    }
 
-        Enumeration<NfaState> e = epsilonMoves.elements();
+    // Tarjan's algorithm over the epsilon moves. For each strongly connected
+    // component, in reverse topological order, we get the ids of the states
+    // reachable from it in one or more moves and the lowest kind among them.
+    // The moves of a state whose closure is done are closed already, so from
+    // there we only follow the moves that the closure would take in.
+    static private class EpsilonClosure {
+        final List<NfaState> visited = new ArrayList<>();
+        final int[] component;
+        final List<BitSet> reachable = new ArrayList<>();
+        final List<Integer> lowestKind = new ArrayList<>();
+        private final int[] order, low;
+        private final boolean[] onStack;
+        private final Deque<NfaState> stack = new ArrayDeque<>();
+
+        EpsilonClosure(List<NfaState> allStates) {
+            int size = allStates.size();
+            component = new int[size];
+            order = new int[size];
+            low = new int[size];
+            onStack = new boolean[size];
+        }
 
-        while (e.hasMoreElements()) {
-            NfaState tmp = e.nextElement();
+        private List<NfaState> successors(NfaState state) {
+            if (!state.closureDone)
+                return state.epsilonMoves;
+            List<NfaState> result = new ArrayList<>();
+            for (NfaState move : state.epsilonMoves) {
+                if (move.usefulState())
+                    result.add(move);
+            }
+            return result;
+        }
 
-            for (int i = 0; i < tmp.epsilonMoves.size(); i++) {
-                NfaState tmp1 = tmp.epsilonMoves.get(i);
-                if (tmp1.usefulState() && !epsilonMoves.contains(tmp1)) {
-                    InsertInOrder(epsilonMoves, tmp1);
-                    lexicalState.done = false;
+        void strongConnect(NfaState state) {
+            visited.add(state);
+            order[state.id] = low[state.id] = visited.size();
+            stack.push(state);
+            onStack[state.id] = true;
+            for (NfaState next : successors(state)) {
+                if (order[next.id] == 0) {
+                    strongConnect(next);
+                    low[state.id] = Math.min(low[state.id], low[next.id]);
+                } else if (onStack[next.id]) {
+                    low[state.id] = Math.min(low[state.id], order[next.id]);
                 }
             }
-
-            if (kind > tmp.kind)
-                kind = tmp.kind;
+            if (low[state.id] != order[state.id])
+                return;
+            int index = reachable.size();
+            List<NfaState> members = new ArrayList<>();
+            NfaState member;
+            do {
+                member = stack.pop();
+                onStack[member.id] = false;
+                component[member.id] = index;
+                members.add(member);
+            } while (member != state);
+            BitSet reach = new BitSet();
+            int kind = Integer.MAX_VALUE;
+            for (NfaState m : members) {
+                for (NfaState next : successors(m)) {
+                    reach.set(next.id);
+                    kind = Math.min(kind, next.kind);
+                    int other = component[next.id];
+                    if (other != index) {
+                        reach.or(reachable.get(other));
+                        kind = Math.min(kind, lowestKind.get(other));
+                    }
+                }
+            }
+            reachable.add(reach);
+            lowestKind.add(kind);
         }
-
-        if (hasTransitions() && !epsilonMoves.contains(this))
-            InsertInOrder(epsilonMoves, this);
     }
 
     private boolean usefulState() {
@@ -460,22 +545,9 @@ public class NfaState {
     void optimizeEpsilonMoves(boolean optReqd) {
         int i;
         // First do epsilon closure
-        lexicalState.done = false;
-        while (!lexicalState.done) {
-            if (lexicalState.mark == null
-                    || lexicalState.mark.length < lexicalState.allStates.size())
-                lexicalState.mark = new boolean[lexicalState.allStates.size()];
-
-            for (i = lexicalState.allStates.size(); i-- > 0;)
-                lexicalState.mark[i] = false;
-
-            lexicalState.done = true;
-            epsilonClosure();
-        }
-
-        for (i = lexicalState.allStates.size(); i-- > 0;)
-            (lexicalState.allStates.get(i)).closureDone = lexicalState.mark[(lexicalState.allStates
-                    .get(i)).id];
+        BitSet closed = epsilonClosure();
+        for (NfaState state : lexicalState.allStates)
+            state.closureDone = closed.get(state.id);
 
         // Warning : The following piece of code is just an optimization.
         // in case of trouble, just remove this piece.
@@ -571,45 +643,32 @@ public class NfaState {
 
     void generateNextStatesCode() {
         if (getNext().usefulEpsilonMoves > 0)
-            getNext().getEpsilonMovesString();
+            getNext().getEpsilonMovesSet();
     }
 
-    public String getEpsilonMovesString() {
+    /**
+     * @return the states that the epsilon moves lead to, or null if there are none
+     */
+    public StateSet getEpsilonMovesSet() {
+        if (epsilonMovesSet != null || usefulEpsilonMoves == 0)
+            return epsilonMovesSet;
+
         int[] stateNames = new int[usefulEpsilonMoves];
         int cnt = 0;
+        for (NfaState tempState : epsilonMoves) {
+            if (tempState.hasTransitions()) {
+                if (tempState.index == -1)
+                    tempState.generateCode();
 
-        if (epsilonMovesString != null)
-            return epsilonMovesString;
-
-        if (usefulEpsilonMoves > 0) {
-            NfaState tempState;
-            epsilonMovesString = "{ ";
-            for (NfaState epsilonMove : epsilonMoves) {
-                if ((tempState = epsilonMove).hasTransitions()) {
-                    if (tempState.index == -1)
-                        tempState.generateCode();
-
-                    lexicalState.indexedAllStates.get(tempState.index).inNextOf++;
-                    stateNames[cnt] = tempState.index;
-                    epsilonMovesString += tempState.index + ", ";
-                    if (cnt++ > 0 && cnt % 16 == 0)
-                        epsilonMovesString += "\n";
-                }
+                lexicalState.indexedAllStates.get(tempState.index).inNextOf++;
+                stateNames[cnt++] = tempState.index;
             }
-
-            epsilonMovesString += "};";
         }
-
         usefulEpsilonMoves = cnt;
-        if (epsilonMovesString != null
-                && lexicalState.allNextStates.get(epsilonMovesString) == null) {
-            int[] statesToPut = new int[usefulEpsilonMoves];
-
-            System.arraycopy(stateNames, 0, statesToPut, 0, cnt);
-            lexicalState.allNextStates.put(epsilonMovesString, statesToPut);
+        if (cnt > 0) {
+            epsilonMovesSet = new StateSet(Arrays.copyOf(stateNames, cnt));
         }
-
-        return epsilonMovesString;
+        return epsilonMovesSet;
     }
 
     final boolean canMoveUsingChar(char c) {
@@ -909,12 +968,8 @@ public class NfaState {
     }
 
     void generateInitMoves() {
-        getEpsilonMovesString();
-
-        if (epsilonMovesString == null)
-            epsilonMovesString = "null;";
-
-        lexicalState.addStartStateSet(epsilonMovesString);
+        if (getEpsilonMovesSet() != null)
+            lexicalState.addStartStateSet(epsilonMovesSet);
     }
 
     public int OnlyOneBitSet(long l) {
@@ -929,27 +984,11 @@ public class NfaState {
         return oneSeen;
     }
 
-    final void fixNextStates(int[] newSet) {
-        getNext().usefulEpsilonMoves = newSet.length;
-        // next.epsilonMovesString = GetStateSetString(newSet);
-    }
-
     public boolean selfLoops() {
-        if (getNext() == null || getNext().epsilonMovesString == null)
+        if (getNext() == null || getNext().epsilonMovesSet == null)
             return false;
 
-        int[] set = lexicalState.allNextStates.get(getNext().epsilonMovesString);
-        return arrayContains(set, index);
-    }
-    
-    static boolean arrayContains(int[] arr, int elem) {
-        for (int i = arr.length; i-- > 0;) {
-            if (arr[i] == elem) {
-                return true;
-            }
-        }
-        return false;
-
+        return getNext().epsilonMovesSet.contains(index);
     }
 
     public boolean getNextIntersects() {
@@ -961,7 +1000,7 @@ public class NfaState {
                     || (state.nonAsciiMethod == -1))
                 continue;
 
-            if (lexicalState.intersect(state.getNext().epsilonMovesString, getNext().epsilonMovesString)) {
+            if (lexicalState.intersect(state.getNext().epsilonMovesSet, getNext().epsilonMovesSet)) {
                 return true;
             }
         }
@@ -981,13 +1020,7 @@ public class NfaState {
         if (byteNum >=0 && !this.asciiMoves.equals(other.asciiMoves)) {
             return false;
         }
-        if (this.getNext().epsilonMovesString == other.getNext().epsilonMovesString) {
-            return true;
-        }
-        if (this.getNext().epsilonMovesString == null || other.getNext().epsilonMovesString == null) {
-            return false;
-        }
-        return this.getNext().epsilonMovesString.equals(other.getNext().epsilonMovesString);
+        return Objects.equals(this.getNext().epsilonMovesSet, other.getNext().epsilonMovesSet);
     }
 
     public List<NfaState> getMoveStates(int byteNum, BitSet statesAlreadyHandled) {
@@ -0,0 +1,107 @@
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.lexgen;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A set of NFA states, given by their indices, that the lexer can be in
+ * after a move. The generated code lists the states in the order that
+ * they were added, and which state stands for a composite is picked
+ * in that order, so two sets with the same states in a different order
+ * are different keys.
+ */
+public final class StateSet {
+
+    private final int[] states;
+    private final int hash;
+    private BitSet bits;
+
+    StateSet(int[] states) {
+        this.states = states;
+        this.hash = Arrays.hashCode(states);
+    }
+
+    static StateSet of(List<NfaState> nfaStates) {
+        int[] states = new int[nfaStates.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = nfaStates.get(i).index;
+        }
+        return new StateSet(states);
+    }
+
+    /**
+     * The state indices. The caller must not modify the array.
+     */
+    public int[] getStates() {
+        return states;
+    }
+
+    public int size() {
+        return states.length;
+    }
+
+    public boolean contains(int state) {
+        return state >= 0 && getBits().get(state);
+    }
+
+    public boolean intersects(StateSet other) {
+        return this == other || getBits().intersects(other.getBits());
+    }
+
+    BitSet getBits() {
+        if (bits == null) {
+            bits = new BitSet();
+            for (int state : states) {
+                if (state >= 0) bits.set(state);
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof StateSet)) return false;
+        StateSet other = (StateSet) obj;
+        return hash == other.hash && Arrays.equals(states, other.states);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(states);
+    }
+}
@@ -46,9 +46,12 @@ class CodeInjector {
     private Map<String, TypeDeclaration> types = new HashMap<>();
     private Map<String, Set<ImportDeclaration>> injectedImportsMap = new HashMap<>();
     private Map<String, Set<Annotation>> injectedAnnotationsMap = new HashMap<>();
-    private Map<String, ExtendsList> extendsLists = new HashMap<>();
-    private Map<String, ImplementsList> implementsLists = new HashMap<>();
-    private Map<String, TypeParameterList> typeParameterLists = new HashMap<>();
+    // We collect the types and type parameters here rather than adding them
+    // to the first ExtendsList (etc.) that we see, since that belongs to
+    // the code being injected, which may be used again for another grammar.
+    private Map<String, List<ObjectType>> extendsLists = new HashMap<>();
+    private Map<String, List<ObjectType>> implementsLists = new HashMap<>();
+    private Map<String, List<TypeParameter>> typeParameterLists = new HashMap<>();
     private Map<String, List<ClassOrInterfaceBodyDeclaration>> bodyDeclarations = new HashMap<>();
     private Set<String> overriddenMethods = new HashSet<>();
     private Set<String> typeNames = new HashSet<>();
@@ -144,36 +147,26 @@ class CodeInjector {
             if (!importdecls.isEmpty()) {
                 Set<ImportDeclaration> injectedImports = injectedImportsMap.get(name);
                 if (injectedImports == null) {
-                    injectedImports = new HashSet<ImportDeclaration>();
+                    injectedImports = new LinkedHashSet<ImportDeclaration>();
                     injectedImportsMap.put(name, injectedImports);
                 }
                 injectedImports.addAll(importdecls);
             }
             ExtendsList extendsList = dec.getExtendsList();
-            ExtendsList existingOne = extendsLists.get(name);
-            if (existingOne == null) {
-                extendsLists.put(name, extendsList);
-            } else {
-                for (ObjectType type : extendsList.getTypes()) {
-                    existingOne.addType(type, interfaces.contains(name));
-                }
+            if (extendsList != null) {
+                addExtends(name, extendsList, interfaces.contains(name));
             }
             ImplementsList implementsList = dec.getImplementsList();
-            ImplementsList existing = implementsLists.get(name);
-            if (existing == null) {
-                implementsLists.put(name, implementsList);
-            } else {
-                for (ObjectType type : implementsList.getTypes()) {
-                    existing.addType(type);
-                }
+            if (implementsList != null) {
+                addImplements(name, implementsList);
             }
             TypeParameterList typeParameterList = dec.getTypeParameterList();
             if (typeParameterList != null) {
-                TypeParameterList injectedList = typeParameterLists.get(name);
-                if (injectedList == null) {
-                    typeParameterLists.put(name, typeParameterList);
-                } else {
-                    injectedList.add(typeParameterList);
+                List<TypeParameter> injectedList = typeParameterLists.computeIfAbsent(name, k -> new ArrayList<>());
+                for (TypeParameter param : typeParameterList.getParameters()) {
+                    if (!injectedList.contains(param)) {
+                        injectedList.add(param);
+                    }
                 }
             }
             List<ClassOrInterfaceBodyDeclaration> injectedCode = new ArrayList<ClassOrInterfaceBodyDeclaration>(); 
@@ -215,7 +208,7 @@ class CodeInjector {
         if (importDeclarations !=null && !importDeclarations.isEmpty()) {
             Set<ImportDeclaration> existingImports = injectedImportsMap.get(name);
             if (existingImports == null) {
-                existingImports = new HashSet<ImportDeclaration>();
+                existingImports = new LinkedHashSet<ImportDeclaration>();
                 injectedImportsMap.put(name, existingImports);
             }
             for (ImportDeclaration importDecl : importDeclarations) {
@@ -225,7 +218,7 @@ class CodeInjector {
         if (annotations != null && !annotations.isEmpty()) {
         	Set<Annotation> existingAnnotations = injectedAnnotationsMap.get(name);
         	if (existingAnnotations == null) {
-        		 existingAnnotations = new HashSet<Annotation>();
+        		 existingAnnotations = new LinkedHashSet<Annotation>();
         		 injectedAnnotationsMap.put(name, existingAnnotations);
         	}
         	for (Annotation annotation : annotations) {
@@ -233,24 +226,10 @@ class CodeInjector {
         	}
         }
         if (extendsList != null) {
-            ExtendsList existingExtendsList = extendsLists.get(name);
-            if (existingExtendsList == null) {
-                extendsLists.put(name, extendsList);
-            } else {
-                for (ObjectType type : extendsList.getTypes()) {
-                    existingExtendsList.addType(type, isInterface);
-                }
-            }
+            addExtends(name, extendsList, isInterface);
         }
         if (implementsList != null) {
-            ImplementsList existingImplementsList = implementsLists.get(name);
-            if (existingImplementsList == null) {
-                implementsLists.put(name, implementsList);
-            } else {
-                for (ObjectType type : implementsList.getTypes()) {
-                    existingImplementsList.addType(type);
-                }
-            }
+            addImplements(name, implementsList);
         }
         List<ClassOrInterfaceBodyDeclaration> existingDecls = bodyDeclarations.get(name);
         if (existingDecls == null) {
@@ -263,31 +242,56 @@ class CodeInjector {
         
     }
     
+    // A class only extends the last type it is given, but an interface
+    // extends all of them (cf. ExtendsList.addType)
+    private void addExtends(String name, ExtendsList extendsList, boolean isInterface) {
+        List<ObjectType> types = extendsLists.computeIfAbsent(name, k -> new ArrayList<>());
+        for (ObjectType type : extendsList.getTypes()) {
+            if (!isInterface) {
+                types.clear();
+            }
+            if (!types.contains(type)) {
+                types.add(type);
+            }
+        }
+    }
+
+    private void addImplements(String name, ImplementsList implementsList) {
+        List<ObjectType> types = implementsLists.computeIfAbsent(name, k -> new ArrayList<>());
+        for (ObjectType type : implementsList.getTypes()) {
+            if (!types.contains(type)) {
+                types.add(type);
+            }
+        }
+    }
+
     void injectCode(CompilationUnit jcu) {
-        Set<ImportDeclaration> allInjectedImports = new HashSet<ImportDeclaration>();
+        Set<ImportDeclaration> allInjectedImports = new LinkedHashSet<ImportDeclaration>();
         for (TypeDeclaration typedecl : jcu.getTypeDeclarations()) {
             String fullName = typedecl.getFullName();
             Set<ImportDeclaration> injectedImports = injectedImportsMap.get(fullName);
             if (injectedImports != null) {
                 allInjectedImports.addAll(injectedImports);
             }
-            ExtendsList injectedExtends = extendsLists.get(fullName);
+            List<ObjectType> injectedExtends = extendsLists.get(fullName);
             if (injectedExtends != null) {
-                for (ObjectType type : injectedExtends.getTypes()) {
+                for (ObjectType type : injectedExtends) {
                     typedecl.addExtends(type);
                 }
             }
-            ImplementsList injectedImplements = implementsLists.get(fullName);
+            List<ObjectType> injectedImplements = implementsLists.get(fullName);
             if (injectedImplements != null) {
-                for (ObjectType type : injectedImplements.getTypes()) {
+                for (ObjectType type : injectedImplements) {
                     typedecl.addImplements(type);
                 }
             }
             
-            TypeParameterList injectedTypeParameters = typeParameterLists.get(fullName);
+            List<TypeParameter> injectedTypeParameters = typeParameterLists.get(fullName);
             if (injectedTypeParameters != null) {
                 TypeParameterList typeParameters = typedecl.getTypeParameterList();
-                typeParameters.add(injectedTypeParameters);
+                for (TypeParameter param : injectedTypeParameters) {
+                    typeParameters.add(param);
+                }
             }
             Set<Annotation> annotations = this.injectedAnnotationsMap.get(fullName);
             if (annotations != null) {
@@ -31,12 +31,15 @@
 package com.javacc.output.java;
 
 import java.io.*;
+import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.*;
 
 import com.javacc.Grammar;
 import com.javacc.MetaParseException;
 import com.javacc.lexgen.RegularExpression;
 import com.javacc.parser.*;
+import com.javacc.parser.tree.BNFProduction;
 import com.javacc.parser.tree.CompilationUnit;
 
 import freemarker.template.*;
@@ -47,21 +50,57 @@ public class FilesGenerator {
 
     private Configuration fmConfig;
     private Grammar grammar;
-    private String currentFilename;
     private CodeInjector codeInjector;
+    private MethodSizeChecker methodSizeChecker;
+    private MethodSplitter methodSplitter;
+    private GenerationCache generationCache;
     private Set<String> tokenSubclassFileNames = new HashSet<>();
     private HashMap<String, String> superClassLookup = new HashMap<>();
 
+    // The template engine for each directory that grammar files are in.
+    // The engine compiles a template the first time it is used and then keeps it,
+    // so when we generate more than one grammar in the same JVM (see Main.mainProgram)
+    // we only load and compile the templates once.
+    static private final Map<File, Configuration> fmConfigs = new HashMap<>();
+
     void initializeTemplateEngine() throws IOException {
-        fmConfig = new freemarker.template.Configuration();
-        String filename = grammar.getFilename();
-        File dir = new File(filename).getCanonicalFile().getParentFile();
-        TemplateLoader templateLoader = new MultiTemplateLoader(new FileTemplateLoader(dir), 
-                                                                new ClassTemplateLoader(this.getClass(), "/templates/java"));
-        fmConfig.setTemplateLoader(templateLoader);
-        fmConfig.setObjectWrapper(new BeansWrapper());
-        fmConfig.setNumberFormat("computer");
-        fmConfig.setArithmeticEngine(freemarker.core.ast.ArithmeticEngine.CONSERVATIVE_ENGINE);
+        File dir = new File(grammar.getFilename()).getCanonicalFile().getParentFile();
+        synchronized (fmConfigs) {
+            fmConfig = fmConfigs.get(dir);
+            if (fmConfig == null) {
+                fmConfig = new freemarker.template.Configuration();
+                fmConfig.setTemplateLoader(new RecordingTemplateLoader(dir));
+                fmConfig.setObjectWrapper(new BeansWrapper());
+                fmConfig.setNumberFormat("computer");
+                fmConfig.setArithmeticEngine(freemarker.core.ast.ArithmeticEngine.CONSERVATIVE_ENGINE);
+                fmConfigs.put(dir, fmConfig);
+            }
+        }
+    }
+
+    /**
+     * The templates in the grammar file's directory take precedence over ours.
+     */
+    static TemplateLoader createTemplateLoader(Grammar grammar) throws IOException {
+        return new RecordingTemplateLoader(new File(grammar.getFilename()).getCanonicalFile().getParentFile());
+    }
+
+    // Keeps track of the templates that it has found, so that we can tell
+    // the GenerationCache which ones the generated files come from.
+    static private class RecordingTemplateLoader extends MultiTemplateLoader {
+        private Set<String> templateNames = ConcurrentHashMap.newKeySet();
+
+        RecordingTemplateLoader(File dir) throws IOException {
+            super(new FileTemplateLoader(dir), new ClassTemplateLoader(FilesGenerator.class, "/templates/java"));
+        }
+
+        public Object findTemplateSource(String name) throws IOException {
+            Object source = super.findTemplateSource(name);
+            if (source != null) {
+                templateNames.add(name);
+            }
+            return source;
+        }
     }
 
     public FilesGenerator(Grammar grammar, List<Node> codeInjections) {
@@ -73,6 +112,13 @@ public class FilesGenerator {
                                              grammar.getParserPackage(), 
                                              grammar.getNodePackage(), 
                                              codeInjections);
+        this.methodSizeChecker = new MethodSizeChecker();
+        List<String> productionNames = new ArrayList<>();
+        for (BNFProduction production : grammar.getParserProductions()) {
+            productionNames.add(production.getName());
+        }
+        this.methodSplitter = new MethodSplitter(grammar.getParserClassName(), productionNames);
+        this.generationCache = grammar.getGenerationCache();
     }
 
     public void generateAll() throws IOException, TemplateException, MetaParseException {
@@ -91,11 +137,58 @@ public class FilesGenerator {
     	if (!grammar.getOptions().getHugeFileSupport()) {
     		generateFileLineMap();
     	}
+        if (generationCache != null) {
+            for (String name : ((RecordingTemplateLoader) fmConfig.getTemplateLoader()).templateNames) {
+                generationCache.addTemplate(name);
+            }
+        }
         
     }
     
     public void generate(File outputFile) throws IOException, TemplateException  {
-        this.currentFilename = outputFile.getName();
+        List<String> warnings = write(outputFile);
+        System.out.println("Outputting: " + outputFile.getAbsolutePath());
+        for (String warning : warnings) {
+            grammar.addWarning(null, warning);
+        }
+    }
+
+    /**
+     * Generates the files on several threads at once. The messages and
+     * warnings come out in the same order as if we generated the files
+     * one after the other.
+     */
+    void generateInParallel(List<File> outputFiles) throws IOException, TemplateException {
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (File outputFile : outputFiles) {
+            results.add(ForkJoinPool.commonPool().submit(() -> write(outputFile)));
+        }
+        for (int i = 0; i < outputFiles.size(); i++) {
+            List<String> warnings;
+            try {
+                warnings = results.get(i).get();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) throw (IOException) cause;
+                if (cause instanceof TemplateException) throw (TemplateException) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new RuntimeException(cause);
+            }
+            System.out.println("Outputting: " + outputFiles.get(i).getAbsolutePath());
+            for (String warning : warnings) {
+                grammar.addWarning(null, warning);
+            }
+        }
+    }
+
+    // Renders and writes out the file, and returns any warnings about it.
+    // Other than putting the injected code in, this does not change anything
+    // that is shared with the other files, so it can run on any thread.
+    private List<String> write(File outputFile) throws IOException, TemplateException {
+        String currentFilename = outputFile.getName();
         String templateName = currentFilename + ".ftl";
         if (tokenSubclassFileNames.contains(currentFilename)) {
                 templateName = "ASTToken.java.ftl";
@@ -124,6 +217,7 @@ public class FilesGenerator {
                     || currentFilename.equals("Token.java")
                     || currentFilename.equals("Node.java")
                     || currentFilename.equals("Nodes.java")
+                    || currentFilename.equals("ArenaTree.java")
             		|| currentFilename.equals("InvalidToken.java")
             		|| currentFilename.equals("FileLineMap.java")))
             {
@@ -142,51 +236,70 @@ public class FilesGenerator {
         if (codeInjector.getExplicitlyDeclaredPackage(classname) != null) {
             dataModel.put("explicitPackageName", codeInjector.getExplicitlyDeclaredPackage(classname));
         }
-        Writer out = null;
-        out = new StringWriter();
         Template template = fmConfig.getTemplate(templateName);
+        StringWriter out = new StringWriter();
         template.process(dataModel, out);
         String code = out.toString();
-        System.out.println("Outputting: " + outputFile.getAbsolutePath());
-        if (outputFile.getName().endsWith(".java")) {
-            outputJavaFile(code, outputFile);
-        } else {
-            FileWriter outfile = new FileWriter(outputFile);
-            try {
-                outfile.write(code);
-            } 
-            finally {
-                outfile.close();
-            }
+        if (!outputFile.getName().endsWith(".java")) {
+            writeIfChanged(outputFile, code);
+            return Collections.emptyList();
         }
+        // The methods for the productions can only be split on the parsed code
+        boolean splitMethods = classname.equals(grammar.getParserClassName())
+                               && methodSplitter.needsSplitting(code);
+        if (codeInjector.hasInjectedCode(classname) || splitMethods) {
+            return outputJavaFile(code, outputFile, splitMethods);
+        }
+        return outputJavaFileAsIs(code, outputFile);
+    }
+
+    // Nothing is injected into this file, so we write the code as the template
+    // left it. Reparsing and formatting the code would take longer than rendering it.
+    List<String> outputJavaFileAsIs(String code, File outputFile) throws IOException {
+        writeIfChanged(outputFile, code);
+        return methodSizeChecker.check(code, outputFile.getName());
     }
     
-    void outputJavaFile(String code, File outputFile) throws IOException, TemplateException {
-        File dir = outputFile.getParentFile();
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
-        FileWriter out = new FileWriter(outputFile);
+    List<String> outputJavaFile(String code, File outputFile, boolean splitMethods) throws IOException, TemplateException {
         CompilationUnit jcu = null;
         try {
             jcu = JavaCCParser.parseJavaFile(new StringReader(code), outputFile.getName());
         } catch (Exception e) {
             e.printStackTrace();
-            try {
-                out.write(code);
-            } finally {
-                out.flush();
-                out.close();
-            }
+            writeIfChanged(outputFile, code);
+            return Collections.emptyList();
+        }
+        // The injected nodes can go into more than one file (imports, say),
+        // and each injection sets their parent, so one file at a time.
+        synchronized (codeInjector) {
+            codeInjector.injectCode(jcu);
+        }
+        if (splitMethods) {
+            methodSplitter.split(jcu);
+        }
+        List<String> warnings = methodSizeChecker.check(jcu, outputFile.getName());
+        JavaFormatter formatter = new JavaFormatter();
+        writeIfChanged(outputFile, formatter.format(jcu));
+        return warnings;
+    }
+
+    // If the file is already there with the same content, we leave it alone,
+    // so that its timestamp does not change and a build that compiles
+    // the generated code does not see it as out of date.
+    private void writeIfChanged(File outputFile, String content) throws IOException {
+        byte[] bytes = content.getBytes();
+        if (generationCache != null) {
+            generationCache.addOutput(outputFile, bytes);
+        }
+        if (outputFile.isFile() && outputFile.length() == bytes.length
+                && Arrays.equals(Files.readAllBytes(outputFile.toPath()), bytes)) {
             return;
         }
-        codeInjector.injectCode(jcu);
-        try {
-            JavaFormatter formatter = new JavaFormatter();
-            out.write(formatter.format(jcu));
-        } finally {
-            out.close();
+        File dir = outputFile.getParentFile();
+        if (!dir.exists()) {
+            dir.mkdirs();
         }
+        Files.write(outputFile.toPath(), bytes);
     }
     
     void generateConstantsFile() throws IOException, TemplateException {
@@ -254,6 +367,13 @@ public class FilesGenerator {
         }
     }
     
+    void generateArenaTreeFile() throws IOException, TemplateException {
+        File outputFile = new File(grammar.getParserOutputDirectory(), "ArenaTree.java");
+        if (regenerate(outputFile)) {
+            generate(outputFile);
+        }
+    }
+    
     boolean regenerate(File file) throws IOException {
         if (!file.exists()) {
         	return true;
@@ -275,12 +395,18 @@ public class FilesGenerator {
                 return true;
             }
         }
+        if (generationCache != null) {
+            generationCache.addExistingOutput(file);
+        }
         return false;
     }
     
     void generateTreeBuildingFiles() throws IOException, TemplateException {
     	generateNodeFile();
     	generateUtilsFile();
+    	if (grammar.getOptions().getArenaTrees()) {
+    	    generateArenaTreeFile();
+    	}
         Set<File> files = new LinkedHashSet<File>();
         files.add(getOutputFile(grammar.getBaseNodeClassName()));
         if (grammar.getOptions().getVisitor()) {
@@ -310,11 +436,13 @@ public class FilesGenerator {
             }
             files.add(outputFile);
         }
+        List<File> filesToGenerate = new ArrayList<>();
         for (File file : files) {
             if (regenerate(file)) {
-                generate(file);
+                filesToGenerate.add(file);
             }
         }
+        generateInParallel(filesToGenerate);
     }
     
     // only used for tree-building files (a bit kludgy)
@@ -378,7 +506,27 @@ public class FilesGenerator {
         public BitSet newBitSet() {
             return new BitSet();
         }
+
+        public List<String> newList() {
+            return new ArrayList<>();
+        }
         
+        public int estimatedBytecodeSize(String code) {
+            return MethodSizeChecker.estimateBytecodeSize(code);
+        }
+
+        public int getSplitTarget() {
+            return MethodSizeChecker.SPLIT_TARGET;
+        }
+
+        public List<String> splitCaseGroups(List<String> groups) {
+            return MethodSplitter.splitCaseGroups(groups);
+        }
+
+        public List<String> caseTable(List<String> pieces) {
+            return MethodSplitter.caseTable(pieces);
+        }
+
         public String getID(String name) {
             String value = id_map.get(name);
             if (value == null) {
@@ -0,0 +1,241 @@
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.output.java;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.javacc.Grammar;
+
+import freemarker.cache.TemplateLoader;
+
+/**
+ * What we generated from a grammar last time, so that we can skip generating
+ * it again if nothing has changed. This is kept in a file next to the
+ * generated parser, and it has a hash of everything that goes into the
+ * generated files: the JavaCC jar, the option settings, the grammar file
+ * and the files it includes, and the templates. It also has a hash of
+ * each generated file, so that if somebody edits or deletes one of them,
+ * we generate the files again.
+ * <p>
+ * Every template gets the whole grammar, so there is one key for all the files.
+ * Even when we do generate the files, we only write the ones that come
+ * out different (see FilesGenerator), so the others keep their timestamps.
+ */
+public class GenerationCache {
+
+    private Grammar grammar;
+    private File cacheFile;
+    private Set<String> templateNames = ConcurrentHashMap.newKeySet();
+    private Map<File, String> outputHashes = new ConcurrentHashMap<>();
+    private List<String> warnings = new ArrayList<>();
+
+    public GenerationCache(Grammar grammar) throws IOException {
+        this.grammar = grammar;
+        this.cacheFile = new File(grammar.getParserOutputDirectory(), "." + grammar.getParserClassName() + ".cache");
+    }
+
+    /**
+     * @return whether the files that we generated last time are still there
+     * and would come out the same if we generated them now.
+     */
+    public boolean isUpToDate() throws IOException {
+        if (!cacheFile.exists()) {
+            return false;
+        }
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(cacheFile)) {
+            props.load(in);
+        }
+        for (int i = 0; props.containsKey("template." + i); i++) {
+            templateNames.add(props.getProperty("template." + i));
+        }
+        String key = computeKey();
+        if (key == null || !key.equals(props.getProperty("key"))) {
+            return false;
+        }
+        for (int i = 0; props.containsKey("output." + i); i++) {
+            File file = new File(props.getProperty("output." + i));
+            String hash = props.getProperty("hash." + i, "");
+            if (!file.exists() || !(hash.equals("") || hash.equals(hash(Files.readAllBytes(file.toPath()))))) {
+                return false;
+            }
+        }
+        for (int i = 0; props.containsKey("warning." + i); i++) {
+            warnings.add(props.getProperty("warning." + i));
+        }
+        return true;
+    }
+
+    /**
+     * The warnings from when we generated the files, which the user would
+     * otherwise not see again until the grammar changes.
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * Saves what went into the files we just generated, along with the warnings.
+     */
+    public void save(List<String> warnings) throws IOException {
+        String key = computeKey();
+        if (key == null) {
+            return;
+        }
+        Properties props = new Properties();
+        props.setProperty("key", key);
+        List<String> names = new ArrayList<>(templateNames);
+        Collections.sort(names);
+        for (int i = 0; i < names.size(); i++) {
+            props.setProperty("template." + i, names.get(i));
+        }
+        List<File> files = new ArrayList<>(outputHashes.keySet());
+        Collections.sort(files);
+        for (int i = 0; i < files.size(); i++) {
+            props.setProperty("output." + i, files.get(i).getAbsolutePath());
+            props.setProperty("hash." + i, outputHashes.get(files.get(i)));
+        }
+        for (int i = 0; i < warnings.size(); i++) {
+            props.setProperty("warning." + i, warnings.get(i));
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(cacheFile))) {
+            props.store(out, grammar.getFilename());
+        }
+    }
+
+    /**
+     * Notes that we have generated the file with this content.
+     */
+    void addOutput(File file, byte[] content) {
+        outputHashes.put(file.getAbsoluteFile(), hash(content));
+    }
+
+    /**
+     * Notes that we left this file as it was. We don't care what is in it
+     * (it is the user's now), just that it is there.
+     */
+    void addExistingOutput(File file) {
+        outputHashes.put(file.getAbsoluteFile(), "");
+    }
+
+    /**
+     * Notes that the files we generate come from this template.
+     */
+    void addTemplate(String name) {
+        templateNames.add(name);
+    }
+
+    // The hash of everything that goes into the generated files, or null
+    // if we can't tell which JavaCC build we are.
+    private String computeKey() throws IOException {
+        File generator = getGeneratorJar();
+        if (generator == null) {
+            return null;
+        }
+        MessageDigest digest = newDigest();
+        update(digest, "generator", Files.readAllBytes(generator.toPath()));
+        update(digest, "options", grammar.getOptions().getSettings().toString().getBytes(StandardCharsets.UTF_8));
+        for (File file : grammar.getInputFiles()) {
+            update(digest, file.getPath(), Files.readAllBytes(file.toPath()));
+        }
+        TemplateLoader loader = FilesGenerator.createTemplateLoader(grammar);
+        List<String> names = new ArrayList<>(templateNames);
+        Collections.sort(names);
+        for (String name : names) {
+            Object source = loader.findTemplateSource(name);
+            if (source == null) {
+                return null;
+            }
+            StringWriter content = new StringWriter();
+            try (Reader reader = loader.getReader(source, "UTF-8")) {
+                char[] buf = new char[8192];
+                int n;
+                while ((n = reader.read(buf)) > 0) {
+                    content.write(buf, 0, n);
+                }
+            } finally {
+                loader.closeTemplateSource(source);
+            }
+            update(digest, name, content.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    // The jar we are running from. When we run from a directory of classes,
+    // e.g. in a development build, we don't try to tell one build from another
+    // and so we never skip generating the files.
+    private static File getGeneratorJar() {
+        CodeSource codeSource = GenerationCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+        try {
+            File file = new File(codeSource.getLocation().toURI());
+            return file.isFile() ? file : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest digest, String name, byte[] content) {
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Integer.toString(content.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content);
+    }
+
+    private static String hash(byte[] content) {
+        return toHex(newDigest().digest(content));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform has to have SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder buf = new StringBuilder();
+        for (byte b : bytes) {
+            buf.append(Character.forDigit((b >> 4) & 0xF, 16));
+            buf.append(Character.forDigit(b & 0xF, 16));
+        }
+        return buf.toString();
+    }
+}
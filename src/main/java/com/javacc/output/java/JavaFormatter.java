@@ -33,6 +33,7 @@ package com.javacc.output.java;
 import static com.javacc.parser.JavaCCConstants.*;
 
 import java.io.*;
+import java.util.*;
 
 import com.javacc.parser.*;
 import com.javacc.parser.tree.*;
@@ -49,6 +50,10 @@ public class JavaFormatter {
     private StringBuilder buf = new StringBuilder();
     private String indent = "    ";
     private String currentIndent = "";
+    // Where the current line starts and the first line ends in buf, and where
+    // the last character that is not whitespace is. We keep track of these
+    // as we go, so that we never have to search back through buf.
+    private int lineStart, firstNewLine, lastNonBlank;
     
     public JavaFormatter() {}
     
@@ -61,37 +66,85 @@ public class JavaFormatter {
     
     public String format(BaseNode code) {
         buf = new StringBuilder();
-        for (Token t :  Nodes.getAllTokens(code, true, true)) {
-            if (t instanceof Whitespace) {
-                continue;
+        lineStart = 0;
+        firstNewLine = lastNonBlank = -1;
+        formatTokens(code);
+        return buf.toString();
+    }
+
+    // Goes through the same tokens as Nodes.getAllTokens(node, true, true),
+    // without putting them all in a list first.
+    private void formatTokens(Node node) {
+        Deque<Token> comments = new ArrayDeque<>();
+        for (Node child : node.children()) {
+            if (child instanceof Token) {
+                Token token = (Token) child;
+                if (token.isUnparsed()) {
+                    continue;
+                }
+                for (Token special = token.getSpecialToken(); special != null; special = special.getSpecialToken()) {
+                    comments.push(special);
+                }
+                while (!comments.isEmpty()) {
+                    formatToken(comments.pop());
+                }
+                formatToken(token);
+            }
+            else if (child.getChildCount() > 0) {
+                formatTokens(child);
             }
-            lastToken = currentToken;
-            currentToken = t;
-            parent = (BaseNode) t.getParent();
-            handleToken();
         }
-        return buf.toString();
     }
-    
-    private void startNewLineIfNecessary() {
-        if (buf.length() == 0) {
+
+    private void formatToken(Token t) {
+        if (t instanceof Whitespace) {
             return;
         }
-        int lastNL = buf.lastIndexOf("\n");
-        if (lastNL +1 == buf.length()) {
+        lastToken = currentToken;
+        currentToken = t;
+        parent = (BaseNode) t.getParent();
+        handleToken();
+    }
+
+    private void append(CharSequence text) {
+        int start = buf.length();
+        buf.append(text);
+        for (int i = start; i < buf.length(); i++) {
+            char ch = buf.charAt(i);
+            if (ch == '\n') {
+                lineStart = i + 1;
+                if (firstNewLine < 0) {
+                    firstNewLine = i;
+                }
+            }
+            else if (ch > ' ') {
+                lastNonBlank = i;
+            }
+        }
+    }
+
+    private void append(char ch) {
+        append(String.valueOf(ch));
+    }
+
+    private void append(Token token) {
+        append(token.toString());
+    }
+
+    private void startNewLineIfNecessary() {
+        if (buf.length() == 0 || lineStart == buf.length()) {
             return;
         }
-        String line = buf.substring(lastNL+1);
-        if (line.trim().length() ==0) {
-            buf.setLength(lastNL+1);
+        if (lastNonBlank < lineStart) {
+            buf.setLength(lineStart);
         } else {
-            buf.append("\n");
+            append("\n");
         }
     }
     
     private void newLine() {
         startNewLineIfNecessary();
-        buf.append(currentIndent);
+        append(currentIndent);
     }
     
     private void handleToken() {
@@ -104,20 +157,20 @@ public class JavaFormatter {
                 break;
             case COLON :
                 if ((parent instanceof ConditionalOrExpression) || (parent instanceof ForStatement)) {
-                    buf.append(" : ");
+                    append(" : ");
                 } else {
-                    buf.append(':');
+                    append(':');
                     newLine();
                 }
                 break;
             case SEMICOLON :
-                buf.append(';');
+                append(';');
                 if (parent instanceof PackageDeclaration) {
-                    buf.append("\n\n");
+                    append("\n\n");
                 }
                 else if (parent instanceof ForStatement) {
                 	if (parent.getChild(parent.getChildCount()-1) != currentToken) {
-                		buf.append(" ");
+                		append(" ");
                 	} else {
                 		newLine();
                 	}
@@ -127,7 +180,7 @@ public class JavaFormatter {
                 }
                 break;
             case RPAREN :
-                buf.append(')');
+                append(')');
                 if (parent instanceof Annotation) {
                     newLine();
                 }
@@ -135,18 +188,18 @@ public class JavaFormatter {
             case FORMAL_COMMENT :
             case MULTI_LINE_COMMENT :
                 newLine();
-                buf.append(currentToken);
+                append(currentToken);
                 newLine();
                 break;
             case SINGLE_LINE_COMMENT : 
                 handleSingleLineComment();
                 break;
             case FOR : 
-            	buf.append("for ");
+            	append("for ");
             	break;
             case AT :
             	newLine();
-            	buf.append("@");
+            	append("@");
             	break;
             default:
                 if (buf.length() > 0) {
@@ -154,52 +207,53 @@ public class JavaFormatter {
                     char thisChar = currentToken.toString().charAt(0);
                     if ((Character.isJavaIdentifierPart(lastChar) || lastChar == ')' || lastChar == ']') 
                             && Character.isJavaIdentifierPart(thisChar)) {
-                        buf.append(' ');
+                        append(' ');
                     }
                 }
-                buf.append(currentToken);
+                append(currentToken);
                 if (currentToken.getId() == IF || currentToken.getId() == WHILE) {
-                    buf.append(' ');
+                    append(' ');
                 }
         }
     }
     
     private void handleSingleLineComment() {
         if (lastToken !=null && lastToken.getEndLine() == currentToken.getBeginLine()) {
-            int lastNL = buf.indexOf("\n");
-            if (lastNL >=0 && buf.substring(lastNL).trim().length() == 0) {
-                buf.setLength(lastNL);
+            if (firstNewLine >=0 && lastNonBlank < firstNewLine) {
+                buf.setLength(firstNewLine);
+                lineStart = 0;
+                firstNewLine = -1;
             }
         }
-        buf.append(currentToken);
+        append(currentToken);
         newLine();
     }
     
     
     private void handleOpenBrace() {
         if (parent instanceof ArrayInitializer) {
-            buf.append('{');
+            append('{');
             return;
         }
-        buf.append(' ');
-        buf.append('{');
+        append(' ');
+        append('{');
         currentIndent += indent;
         newLine();
     }
     
     private void handleCloseBrace() {
         if (parent instanceof ArrayInitializer) {
-            buf.append('}');
+            append('}');
             return;
         }
         currentIndent = currentIndent.substring(0, currentIndent.length() -indent.length());
         newLine();
-        buf.append('}');
+        append('}');
         if (parent instanceof TypeDeclaration 
             || parent instanceof ConstructorDeclaration
             || parent.getParent() instanceof MethodDeclaration)
         {
-            buf.append("\n\n");
+            append("\n\n");
         }
         newLine();
     }
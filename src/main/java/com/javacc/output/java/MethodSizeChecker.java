@@ -0,0 +1,355 @@
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * Copyright (c) 2006, Sun Microsystems Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse or promote
+ *       products derived from this software without specific prior written
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.output.java;
+
+import java.io.StringReader;
+import java.util.*;
+
+import com.javacc.parser.*;
+import com.javacc.parser.tree.*;
+
+/**
+ * Rough estimate of the bytecode size of generated methods.
+ * HotSpot does not JIT-compile a method whose bytecode is
+ * larger than HugeMethodLimit (8000 bytes), so such a method
+ * is interpreted for the whole life of the program. We have no
+ * compiler at hand, so the estimate is based on the tokens.
+ * Going by javap on the lexers and parsers of the examples and
+ * on lexers with a few hundred tokens, a token comes out at about
+ * one and a half bytes of bytecode, but a case label costs about
+ * seven bytes more in the tableswitch or lookupswitch, and an int
+ * constant outside the byte range or a long constant one more.
+ * javac also compiles a finally block twice (for the normal and
+ * the exceptional way out of the try) and once more for each
+ * return in the try statement. That gets within about a third of
+ * the real size, mostly on the high side, which is why we split
+ * methods down to SPLIT_TARGET rather than HUGE_METHOD_LIMIT.
+ */
+class MethodSizeChecker {
+
+    static final int HUGE_METHOD_LIMIT = 8000;
+
+    // The estimated size that methods are split down to (see MethodSplitter),
+    // which leaves room for the estimate to come out short
+    static final int SPLIT_TARGET = HUGE_METHOD_LIMIT * 3 / 4;
+
+    /**
+     * Returns a warning for every method or constructor in the
+     * compilation unit that would exceed HUGE_METHOD_LIMIT.
+     */
+    List<String> check(CompilationUnit jcu, String filename) {
+        List<String> warnings = new ArrayList<>();
+        for (MethodDeclaration method : jcu.descendantsOfType(MethodDeclaration.class)) {
+            checkSize(method.getName(), estimateBytecodeSize(method), filename, warnings);
+        }
+        for (ConstructorDeclaration constructor : jcu.descendantsOfType(ConstructorDeclaration.class)) {
+            Identifier name = constructor.firstChildOfType(Identifier.class);
+            checkSize("constructor " + name, estimateBytecodeSize(constructor), filename, warnings);
+        }
+        return warnings;
+    }
+
+    /**
+     * The same check, for code that we have not parsed.
+     */
+    List<String> check(String code, String filename) {
+        List<String> warnings = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : estimateMethodSizes(code).entrySet()) {
+            checkSize(entry.getKey(), entry.getValue(), filename, warnings);
+        }
+        return warnings;
+    }
+
+    /**
+     * The estimated size of each method and constructor in code that
+     * we have not parsed, by name (the biggest one, if the name is
+     * overloaded). Without a tree we go by the braces: a brace at the
+     * level of a class body opens a method or constructor body if there
+     * is a parameter list before it and no '=', which would make it an
+     * initializer. Anonymous classes and block lambdas are left out of
+     * the enclosing method, as above, but a lambda with an expression
+     * body is counted in.
+     */
+    static Map<String, Integer> estimateMethodSizes(String code) {
+        JavaCCLexer lexer = new JavaCCParser(new StringReader(code)).token_source;
+        List<Body> methods = new ArrayList<>();
+        Deque<Body> bodies = new ArrayDeque<>();
+        // Whether each open paren holds the arguments of a 'new'
+        Deque<Boolean> parens = new ArrayDeque<>();
+        boolean afterNew = false, newArgsClosed = false, typeDeclaration = false;
+        // Whether the next brace opens the block of a try, a catch or a finally
+        boolean afterTry = false, afterFinally = false;
+        // What we have seen of the current member of a class body
+        int headerSize = 0;
+        String name = null, typeName = null;
+        boolean hasParams = false, isInitializer = false;
+        Token previous = null;
+        for (Token t = lexer.getNextToken(); t.getId() != JavaCCConstants.EOF; previous = t, t = lexer.getNextToken()) {
+            Body body = bodies.peek();
+            boolean inClassBody = body == null || body.isClass;
+            if (body != null && body.method != null) {
+                body.method.size += halfBytes(t);
+            }
+            if (inClassBody) {
+                headerSize += halfBytes(t);
+            }
+            if (typeDeclaration && typeName == null) {
+                typeName = t.toString();
+            }
+            switch (t.getId()) {
+                case JavaCCConstants.NEW :
+                    afterNew = true;
+                    break;
+                case JavaCCConstants.LBRACKET :
+                    afterNew = false;
+                    break;
+                case JavaCCConstants.LPAREN :
+                    parens.push(afterNew);
+                    afterNew = false;
+                    if (inClassBody && parens.size() == 1 && previous != null) {
+                        hasParams = true;
+                        name = previous.toString();
+                    }
+                    break;
+                case JavaCCConstants.RPAREN :
+                    newArgsClosed = !parens.isEmpty() && parens.pop();
+                    break;
+                case JavaCCConstants.CLASS :
+                case JavaCCConstants.INTERFACE :
+                case JavaCCConstants.ENUM :
+                    if (previous == null || previous.getId() != JavaCCConstants.DOT) {
+                        typeDeclaration = true;
+                        typeName = null;
+                    }
+                    break;
+                case JavaCCConstants.ASSIGN :
+                    isInitializer = true;
+                    break;
+                case JavaCCConstants.TRY :
+                    afterTry = true;
+                    if (body != null) {
+                        body.tryReturns = 0;
+                    }
+                    break;
+                case JavaCCConstants.CATCH :
+                    afterTry = true;
+                    break;
+                case JavaCCConstants.FINALLY :
+                    afterFinally = true;
+                    break;
+                case JavaCCConstants.RETURN :
+                    // It counts toward every try or catch block that it is in
+                    for (Body b : bodies) {
+                        if (b.method == null) break;
+                        if (b.isTry) ++b.returns;
+                        if (b.method == b) break;
+                    }
+                    break;
+                case JavaCCConstants.LBRACE :
+                    Body newBody = new Body();
+                    int previousId = previous == null ? -1 : previous.getId();
+                    if (typeDeclaration || (previousId == JavaCCConstants.RPAREN && newArgsClosed)) {
+                        newBody.isClass = true;
+                        newBody.className = typeDeclaration ? typeName : null;
+                        typeDeclaration = false;
+                    }
+                    else if (previousId == JavaCCConstants.LAMBDA) {
+                        // A block lambda, which counts toward nothing
+                    }
+                    else if (inClassBody && hasParams && !isInitializer) {
+                        newBody.method = newBody;
+                        newBody.size = headerSize;
+                        if (body != null && name.equals(body.className)) {
+                            newBody.name = "constructor " + name;
+                        } else {
+                            newBody.name = name;
+                        }
+                        methods.add(newBody);
+                    }
+                    else if (!inClassBody) {
+                        newBody.method = body.method;
+                        newBody.isTry = afterTry;
+                        if (afterFinally && newBody.method != null) {
+                            newBody.copies = 2 + body.tryReturns;
+                            newBody.start = newBody.method.size;
+                        }
+                    }
+                    afterTry = afterFinally = false;
+                    bodies.push(newBody);
+                    if (inClassBody) {
+                        headerSize = 0;
+                        hasParams = isInitializer = false;
+                    }
+                    break;
+                case JavaCCConstants.RBRACE :
+                    if (!bodies.isEmpty()) {
+                        Body closed = bodies.pop();
+                        if (closed.isTry && !bodies.isEmpty()) {
+                            bodies.peek().tryReturns += closed.returns;
+                        }
+                        if (closed.copies > 0) {
+                            closed.method.size += (closed.copies - 1) * (closed.method.size - closed.start);
+                        }
+                    }
+                    if (bodies.isEmpty() || bodies.peek().isClass) {
+                        headerSize = 0;
+                        hasParams = isInitializer = false;
+                    }
+                    break;
+                case JavaCCConstants.SEMICOLON :
+                    typeDeclaration = false;
+                    if (inClassBody) {
+                        headerSize = 0;
+                        hasParams = isInitializer = false;
+                    }
+                    break;
+            }
+        }
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Body method : methods) {
+            sizes.merge(method.name, method.size / 2, Math::max);
+        }
+        return sizes;
+    }
+
+    private void checkSize(String name, int size, String filename, List<String> warnings) {
+        if (size > HUGE_METHOD_LIMIT) {
+            warnings.add("The generated method " + name + " in " + filename
+                + " has an estimated bytecode size of " + size
+                + " bytes. Methods over " + HUGE_METHOD_LIMIT
+                + " bytes are not JIT-compiled by HotSpot unless it is run with -XX:-DontCompileHugeMethods.");
+        }
+    }
+
+    static int estimateBytecodeSize(Node node) {
+        return halfBytes(node) / 2;
+    }
+
+    /**
+     * Estimate for a fragment of Java code (a run of statements, say)
+     * that has not been put together into a compilation unit yet.
+     */
+    static int estimateBytecodeSize(String code) {
+        if (code.trim().isEmpty()) {
+            // The lexer does not take empty input
+            return 0;
+        }
+        JavaCCLexer lexer = new JavaCCParser(new StringReader(code)).token_source;
+        int size = 0;
+        for (Token t = lexer.getNextToken(); t.getId() != JavaCCConstants.EOF; t = lexer.getNextToken()) {
+            size += halfBytes(t);
+        }
+        return size / 2;
+    }
+
+    // The estimate in half bytes, since most tokens come out at one and a half.
+    // Lambdas and the methods of nested classes are compiled separately,
+    // so they do not count toward the enclosing method.
+    static int halfBytes(Node node) {
+        if (node instanceof Token) {
+            return halfBytes((Token) node);
+        }
+        int size = 0;
+        for (Node child : node.children()) {
+            if (child instanceof FinallyBlock) {
+                Node tryStatement = child.getParent();
+                int copies = 2 + countReturns(tryStatement) - countReturns(child);
+                size += copies * halfBytes(child);
+            }
+            else if (!(child instanceof LambdaExpression) && !(child instanceof ClassOrInterfaceBody)) {
+                size += halfBytes(child);
+            }
+        }
+        return size;
+    }
+
+    static private int halfBytes(Token t) {
+        switch (t.getId()) {
+            case JavaCCConstants.CASE :
+                return 17;
+            case JavaCCConstants.INTEGER_LITERAL :
+            case JavaCCConstants.LONG_LITERAL :
+                return isWideConstant(t) ? 5 : 3;
+            default :
+                return 3;
+        }
+    }
+
+    // Whether a constant does not fit into the instruction that loads it,
+    // which is the case for an int outside the byte range and a long
+    // other than 0 or 1
+    static private boolean isWideConstant(Token t) {
+        boolean isLong = t.getId() == JavaCCConstants.LONG_LITERAL;
+        String image = t.toString().replace("_", "");
+        if (isLong) {
+            image = image.substring(0, image.length() - 1);
+        }
+        long value;
+        try {
+            value = Long.decode(image);
+        } catch (NumberFormatException e) {
+            // A binary literal, or one that is out of range for a long
+            return true;
+        }
+        return isLong ? value > 1 : value > 127;
+    }
+
+    static private int countReturns(Node node) {
+        int count = 0;
+        for (Node child : node.children()) {
+            if (child instanceof ReturnStatement) {
+                ++count;
+            }
+            else if (!(child instanceof Token) && !(child instanceof LambdaExpression) && !(child instanceof ClassOrInterfaceBody)) {
+                count += countReturns(child);
+            }
+        }
+        return count;
+    }
+
+    // An open brace in the code we check without parsing it
+    static private class Body {
+        boolean isClass;
+        String className, name;
+        // The method or constructor body that this counts toward, if any
+        Body method;
+        // For a method or constructor body, its estimated size in half bytes
+        int size;
+        // Whether this is the block of a try or a catch, and how many returns are in it
+        boolean isTry;
+        int returns;
+        // How many returns there are in the last try statement that is directly in this block
+        int tryReturns;
+        // For a finally block, how many times javac compiles it, and the
+        // size of the method where it starts
+        int copies, start;
+    }
+}
@@ -0,0 +1,690 @@
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * Copyright (c) 2006, Sun Microsystems Inc.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky, Sun Microsystems, Inc.
+ *       nor the names of any contributors may be used to endorse or promote
+ *       products derived from this software without specific prior written
+ *       permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.output.java;
+
+import java.io.StringReader;
+import java.util.*;
+import java.util.regex.*;
+
+import com.javacc.parser.*;
+import com.javacc.parser.tree.*;
+
+/**
+ * Splits the methods that the parser generator writes for BNF productions
+ * when they would be too big to be JIT-compiled (see MethodSizeChecker).
+ * The BuildCode macro puts the tree building scaffolding for every nested
+ * node into the method for the production, so that is what usually makes
+ * them big. We move runs of statements out into private void methods with
+ * no parameters, which is only possible for a run that does not refer to
+ * any local variable of the method from outside it, that has no return
+ * and no break or continue out of it, and that can complete normally
+ * (so that the compiler sees the same code as reachable, and the same
+ * variables as definitely assigned). The helper method throws whatever the
+ * method throws and whatever the try statements around the run catch.
+ * Methods that are left over the limit still get the warning.
+ */
+class MethodSplitter {
+
+    // A run of statements smaller than this is not worth a method of its own
+    static private final int MIN_FRAGMENT_SIZE = 100;
+
+    private final String className;
+    private final Set<String> methodNames;
+
+    MethodSplitter(String className, Collection<String> methodNames) {
+        this.className = className;
+        this.methodNames = new HashSet<>(methodNames);
+    }
+
+    /**
+     * Whether any of the methods we split in code that has
+     * not been parsed is over MethodSizeChecker.SPLIT_TARGET
+     */
+    boolean needsSplitting(String code) {
+        for (Map.Entry<String, Integer> entry : MethodSizeChecker.estimateMethodSizes(code).entrySet()) {
+            if (methodNames.contains(entry.getKey()) && entry.getValue() > MethodSizeChecker.SPLIT_TARGET) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void split(CompilationUnit jcu) {
+        for (TypeDeclaration type : jcu.childrenOfType(TypeDeclaration.class)) {
+            ClassOrInterfaceBody body = type.firstChildOfType(ClassOrInterfaceBody.class);
+            if (body == null || !type.getName().equals(className)) {
+                continue;
+            }
+            Set<String> usedNames = new HashSet<>();
+            List<MethodDeclaration> methods = new ArrayList<>();
+            for (ClassOrInterfaceBodyDeclaration declaration : body.childrenOfType(ClassOrInterfaceBodyDeclaration.class)) {
+                MethodDeclaration method = declaration.firstChildOfType(MethodDeclaration.class);
+                if (method != null) {
+                    usedNames.add(method.getName());
+                    if (methodNames.contains(method.getName())) {
+                        methods.add(method);
+                    }
+                }
+            }
+            for (MethodDeclaration method : methods) {
+                split(method, usedNames);
+            }
+        }
+    }
+
+    private void split(MethodDeclaration method, Set<String> usedNames) {
+        if (method.firstChildOfType(CodeBlock.class) == null
+                || method.firstChildOfType(TypeParameterList.class) != null
+                || hasLocalClass(method)) {
+            return;
+        }
+        Deque<MethodDeclaration> methods = new ArrayDeque<>();
+        methods.push(method);
+        int helperCount = 0;
+        while (!methods.isEmpty()) {
+            MethodDeclaration m = methods.pop();
+            while (MethodSizeChecker.estimateBytecodeSize(m) > MethodSizeChecker.SPLIT_TARGET) {
+                Fragment fragment = chooseFragment(m);
+                if (fragment == null) {
+                    break;
+                }
+                String name;
+                do {
+                    name = method.getName() + "_part" + ++helperCount;
+                } while (!usedNames.add(name));
+                methods.push(extract(m, fragment, name));
+            }
+        }
+    }
+
+    // A run of statements in a block, or in a case of a switch
+    static private class Fragment {
+        Node container;
+        // The range of the children of the container that it takes up
+        int start, end;
+        int size;
+    }
+
+    // A statement, with what we need to know to decide whether it can be moved
+    static private class Statement {
+        int start, end, size;
+        boolean movable;
+        Set<String> declared = new HashSet<>(), used = new HashSet<>();
+    }
+
+    // The biggest run of statements that still fits into a method, or
+    // failing that, the biggest one, which will be split in its turn
+    private Fragment chooseFragment(MethodDeclaration method) {
+        CodeBlock body = method.firstChildOfType(CodeBlock.class);
+        List<Fragment> fragments = new ArrayList<>();
+        collectFragments(body, method, fragments);
+        for (CodeBlock block : body.descendantsOfType(CodeBlock.class)) {
+            collectFragments(block, method, fragments);
+        }
+        for (CaseStatement caseStatement : body.descendantsOfType(CaseStatement.class)) {
+            collectFragments(caseStatement, method, fragments);
+        }
+        Fragment best = null;
+        for (Fragment fragment : fragments) {
+            if (fragment.container == body && fragment.start == 1 && fragment.end == body.getChildCount() - 1) {
+                // Moving the whole body gets us nowhere
+                continue;
+            }
+            boolean fits = fragment.size <= MethodSizeChecker.SPLIT_TARGET;
+            boolean bestFits = best != null && best.size <= MethodSizeChecker.SPLIT_TARGET;
+            if (best == null || (fits && !bestFits) || (fits == bestFits && fragment.size > best.size)) {
+                best = fragment;
+            }
+        }
+        return best;
+    }
+
+    private void collectFragments(Node container, MethodDeclaration method, List<Fragment> fragments) {
+        Set<String> namesInScope = new HashSet<>();
+        List<Statement> statements = statements(container);
+        if (statements == null || !namesInScope(container, method, namesInScope)) {
+            return;
+        }
+        // The names that are used after each statement, including in
+        // the cases that come after this one in a switch
+        int count = statements.size();
+        List<Set<String>> usedAfter = new ArrayList<>(Collections.nCopies(count + 1, null));
+        Set<String> used = new HashSet<>();
+        if (container instanceof CaseStatement) {
+            List<Node> cases = container.getParent().children();
+            for (Node later : cases.subList(cases.indexOf(container) + 1, cases.size())) {
+                collectNames(later, used);
+            }
+        }
+        usedAfter.set(count, new HashSet<>(used));
+        for (int i = count - 1; i >= 0; i--) {
+            used.addAll(statements.get(i).used);
+            usedAfter.set(i, new HashSet<>(used));
+        }
+        int runStart = 0;
+        for (int i = 0; i <= count; i++) {
+            Statement statement = i < count ? statements.get(i) : null;
+            if (statement != null && statement.movable && Collections.disjoint(statement.used, namesInScope)) {
+                continue;
+            }
+            addFragments(container, statements, runStart, i, usedAfter, fragments);
+            for (int j = runStart; j < i; j++) {
+                namesInScope.addAll(statements.get(j).declared);
+            }
+            if (statement != null) {
+                namesInScope.addAll(statement.declared);
+            }
+            runStart = i + 1;
+        }
+    }
+
+    // Cuts up a run of statements that can be moved into pieces that fit into a method.
+    // A piece can only end where none of the variables declared in it are used later on.
+    private void addFragments(Node container, List<Statement> statements, int runStart, int runEnd,
+                              List<Set<String>> usedAfter, List<Fragment> fragments) {
+        int start = runStart;
+        while (start < runEnd) {
+            int end = start, size = 0;
+            Set<String> declared = new HashSet<>();
+            // The last place where the piece could end
+            int lastEnd = -1, lastSize = 0;
+            while (end < runEnd) {
+                Statement statement = statements.get(end);
+                if (size + statement.size > MethodSizeChecker.SPLIT_TARGET && lastEnd > start) {
+                    break;
+                }
+                size += statement.size;
+                declared.addAll(statement.declared);
+                ++end;
+                if (Collections.disjoint(declared, usedAfter.get(end))) {
+                    lastEnd = end;
+                    lastSize = size;
+                }
+            }
+            if (lastEnd < 0) {
+                // Nothing from here on can be moved without what comes after the run
+                return;
+            }
+            if (lastSize >= MIN_FRAGMENT_SIZE) {
+                Fragment fragment = new Fragment();
+                fragment.container = container;
+                fragment.start = statements.get(start).start;
+                fragment.end = statements.get(lastEnd - 1).end;
+                fragment.size = lastSize;
+                fragments.add(fragment);
+            }
+            start = lastEnd;
+        }
+    }
+
+    // Moves the fragment out into a new method right after the one it is in,
+    // and puts a call to the new method where it was
+    private MethodDeclaration extract(MethodDeclaration method, Fragment fragment, String name) {
+        Node declaration = method.getParent();
+        boolean isStatic = false;
+        for (Node child : declaration.children()) {
+            if (child instanceof Token && ((Token) child).getId() == JavaCCConstants.STATIC) {
+                isStatic = true;
+            }
+        }
+        Set<String> exceptions = new LinkedHashSet<>();
+        ThrowsList throwsList = method.firstChildOfType(ThrowsList.class);
+        if (throwsList != null) {
+            for (Node child : throwsList.children()) {
+                if (!(child instanceof Token) || ((Token) child).getId() == JavaCCConstants.IDENTIFIER) {
+                    exceptions.add(text(child));
+                }
+            }
+        }
+        for (Node child = fragment.container, parent = child.getParent(); child != method; child = parent, parent = parent.getParent()) {
+            if ((parent instanceof ClassicTryStatement || parent instanceof TryWithResources)
+                    && child == parent.firstChildOfType(CodeBlock.class)) {
+                for (CatchBlock catchBlock : parent.childrenOfType(CatchBlock.class)) {
+                    exceptions.addAll(caughtTypes(catchBlock));
+                }
+            }
+        }
+        String code = "class Helper {\n"
+                    + "    private " + (isStatic ? "static " : "") + "void " + name + "()"
+                    + (exceptions.isEmpty() ? "" : " throws " + String.join(", ", exceptions)) + " {\n"
+                    + "    }\n"
+                    + "    void call() {\n"
+                    + "        " + name + "();\n"
+                    + "    }\n"
+                    + "}\n";
+        CompilationUnit helperCode;
+        try {
+            helperCode = JavaCCParser.parseJavaFile(new StringReader(code), name);
+        } catch (ParseException e) {
+            throw new IllegalStateException(e);
+        }
+        List<ClassOrInterfaceBodyDeclaration> declarations = helperCode.descendantsOfType(ClassOrInterfaceBodyDeclaration.class);
+        ClassOrInterfaceBodyDeclaration helperDeclaration = declarations.get(0);
+        MethodDeclaration helper = helperDeclaration.firstChildOfType(MethodDeclaration.class);
+        CodeBlock helperBody = helper.firstChildOfType(CodeBlock.class);
+        CodeBlock callBody = declarations.get(1).firstChildOfType(MethodDeclaration.class).firstChildOfType(CodeBlock.class);
+        Node container = fragment.container;
+        for (int i = fragment.start; i < fragment.end; i++) {
+            helperBody.addChild(helperBody.getChildCount() - 1, container.removeChild(fragment.start));
+        }
+        // The call and its semicolon, between the braces
+        for (int i = callBody.getChildCount() - 2; i >= 1; i--) {
+            container.addChild(fragment.start, callBody.removeChild(i));
+        }
+        Node classBody = declaration.getParent();
+        classBody.addChild(classBody.indexOf(declaration) + 1, helperDeclaration);
+        return helper;
+    }
+
+    /**
+     * Splits the case groups of a switch into pieces that each fit into a
+     * method, as far as possible. A group that does not end with a break
+     * falls through into the next one, so it stays with it.
+     */
+    static List<String> splitCaseGroups(List<String> groups) {
+        List<String> pieces = new ArrayList<>();
+        StringBuilder piece = new StringBuilder(), group = new StringBuilder();
+        int pieceSize = 0;
+        for (String text : groups) {
+            group.append(text);
+            String trimmed = group.toString().trim();
+            if (trimmed.length() > 0 && !trimmed.endsWith("break;")) {
+                continue;
+            }
+            int groupSize = MethodSizeChecker.estimateBytecodeSize(group.toString());
+            if (pieceSize > 0 && pieceSize + groupSize > MethodSizeChecker.SPLIT_TARGET) {
+                pieces.add(piece.toString());
+                piece.setLength(0);
+                pieceSize = 0;
+            }
+            piece.append(group);
+            pieceSize += groupSize;
+            group.setLength(0);
+        }
+        piece.append(group);
+        if (piece.toString().trim().length() > 0 || pieces.isEmpty()) {
+            pieces.add(piece.toString());
+        }
+        return pieces;
+    }
+
+    static private final Pattern CASE_LABEL = Pattern.compile("case\\s+(\\d+)\\s*:");
+
+    /**
+     * For the pieces that splitCaseGroups returned, a table of which piece
+     * has the case for each value, counting from 1, or 0 if none of them does.
+     * It is written out as the lines of a string literal, 16 values to a line.
+     */
+    static List<String> caseTable(List<String> pieces) {
+        Map<Integer, Integer> pieceIndices = new HashMap<>();
+        int size = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            Matcher matcher = CASE_LABEL.matcher(pieces.get(i));
+            while (matcher.find()) {
+                int value = Integer.parseInt(matcher.group(1));
+                pieceIndices.put(value, i + 1);
+                size = Math.max(size, value + 1);
+            }
+        }
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (int value = 0; value < size; value++) {
+            Integer pieceIndex = pieceIndices.get(value);
+            // Octal escapes, since javac would turn the unicode escape for a
+            // line feed into a line break before it ever saw the string. A class could never hold more
+            // than 255 pieces of any size, so three digits are enough.
+            line.append(String.format("\\%03o", pieceIndex == null ? 0 : pieceIndex));
+            if (value % 16 == 15 || value == size - 1) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+        }
+        return lines;
+    }
+
+    // The statements in a block or in a case of a switch, or null if there is
+    // something there that we do not know what to make of. An expression
+    // statement or a local variable declaration is a node and a semicolon.
+    static private List<Statement> statements(Node container) {
+        int start = 0, end = container.getChildCount();
+        if (container instanceof CodeBlock) {
+            start = 1;
+            --end;
+        } else {
+            // Past the label
+            while (start < end && !isToken(container.getChild(start), ":")) {
+                ++start;
+            }
+            ++start;
+        }
+        List<Statement> statements = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            Node child = container.getChild(i);
+            Statement statement = new Statement();
+            statement.start = i;
+            if (isToken(child, ";") || isStatement(child)) {
+                statement.end = i + 1;
+            }
+            else if (!(child instanceof Token) && i + 1 < end && isToken(container.getChild(i + 1), ";")) {
+                statement.end = i + 2;
+                ++i;
+            }
+            else {
+                return null;
+            }
+            statement.size = MethodSizeChecker.halfBytes(child) / 2;
+            statement.movable = !jumpsOut(child, child) && canCompleteNormally(child);
+            declaredNames(child, container, statement.declared);
+            collectNames(child, statement.used);
+            statements.add(statement);
+        }
+        return statements;
+    }
+
+    static private boolean isStatement(Node node) {
+        return node instanceof CodeBlock || node instanceof IfStatement
+            || node instanceof WhileStatement || node instanceof DoStatement
+            || node instanceof ForStatement || node instanceof SwitchStatement
+            || node instanceof ClassicTryStatement || node instanceof TryWithResources
+            || node instanceof LabeledStatement || node instanceof SynchronizedStatement
+            || node instanceof ReturnStatement || node instanceof BreakStatement
+            || node instanceof ContinueStatement || node instanceof ThrowStatement
+            || node instanceof AssertStatement || node instanceof EmptyStatement;
+    }
+
+    static private boolean isToken(Node node, String image) {
+        return node instanceof Token && node.toString().equals(image);
+    }
+
+    // The names of the local variables and parameters of the method that are
+    // in scope in the container, or false if it is in a lambda or a class body
+    static private boolean namesInScope(Node container, MethodDeclaration method, Set<String> names) {
+        for (Node child = container, parent = child.getParent(); child != method; child = parent, parent = parent.getParent()) {
+            if (parent == null || parent instanceof LambdaExpression || parent instanceof ClassOrInterfaceBody) {
+                return false;
+            }
+            boolean isList = parent instanceof CodeBlock || parent instanceof CaseStatement;
+            for (Node sibling : parent.children()) {
+                if (sibling == child) {
+                    if (isList) break;
+                    continue;
+                }
+                declaredNames(sibling, parent, names);
+            }
+        }
+        return true;
+    }
+
+    // The local variables or parameters that a child of parent declares
+    static private void declaredNames(Node node, Node parent, Set<String> names) {
+        if (node instanceof LocalVariableDeclaration) {
+            for (Node child : node.children()) {
+                if (child instanceof Identifier || child instanceof VariableDeclarator || child instanceof VariableDeclaratorId) {
+                    names.add(declaredName(child));
+                }
+            }
+        }
+        else if (node instanceof FormalParams || node instanceof ForInit || node instanceof CaseStatement) {
+            for (Node child : node.children()) {
+                declaredNames(child, node, names);
+            }
+        }
+        else if (node instanceof FormalParameter) {
+            names.add(declaredName(node.getChild(node.getChildCount() - 1)));
+        }
+        else if ((node instanceof Identifier || node instanceof VariableDeclaratorId)
+                && (parent instanceof ForStatement || parent instanceof CatchBlock)) {
+            names.add(declaredName(node));
+        }
+    }
+
+    // What is left of a VariableDeclarator or VariableDeclaratorId
+    // can be just the identifier, if there is nothing else in it.
+    static private String declaredName(Node node) {
+        while (!(node instanceof Token)) {
+            node = node.getChild(0);
+        }
+        return node.toString();
+    }
+
+    // The identifiers in node that could be local variables, so not the ones
+    // after a dot or the labels. This takes in the names of methods and types
+    // too, which can only make us more careful than we need to be.
+    static private void collectNames(Node node, Set<String> names) {
+        if (node instanceof Identifier) {
+            names.add(node.toString());
+            return;
+        }
+        boolean hasLabel = node instanceof LabeledStatement || node instanceof BreakStatement || node instanceof ContinueStatement;
+        Node previous = null;
+        for (Node child : node.children()) {
+            if (child instanceof Identifier) {
+                if (!hasLabel && !isToken(previous, ".")) {
+                    names.add(child.toString());
+                }
+            }
+            else if (!(child instanceof Token)) {
+                collectNames(child, names);
+            }
+            previous = child;
+        }
+    }
+
+    // Whether there is a return in node, or a break or continue that goes
+    // somewhere outside the statement, leaving aside lambdas and classes
+    static private boolean jumpsOut(Node node, Node statement) {
+        if (node instanceof ReturnStatement) {
+            return true;
+        }
+        if ((node instanceof BreakStatement || node instanceof ContinueStatement) && target(node, statement) == null) {
+            return true;
+        }
+        for (Node child : node.children()) {
+            if (!(child instanceof Token) && !(child instanceof LambdaExpression) && !(child instanceof ClassOrInterfaceBody)
+                    && jumpsOut(child, statement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The statement that a break or continue goes to, if it is in limit
+    static private Node target(Node jump, Node limit) {
+        if (jump == limit) {
+            return null;
+        }
+        Identifier label = jump.firstChildOfType(Identifier.class);
+        for (Node node = jump.getParent(); node != null; node = node.getParent()) {
+            if (label != null) {
+                if (node instanceof LabeledStatement && node.getChild(0).toString().equals(label.toString())) {
+                    return node;
+                }
+            }
+            else if (node instanceof WhileStatement || node instanceof DoStatement || node instanceof ForStatement
+                    || (node instanceof SwitchStatement && jump instanceof BreakStatement)) {
+                return node;
+            }
+            if (node == limit) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    // Whether there is a break in node that goes to the statement itself
+    static private boolean hasBreakTo(Node node, Node statement) {
+        for (Node child : node.children()) {
+            if (child instanceof BreakStatement && target(child, statement) == statement) {
+                return true;
+            }
+            if (!(child instanceof Token) && !(child instanceof LambdaExpression) && !(child instanceof ClassOrInterfaceBody)
+                    && hasBreakTo(child, statement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Whether the statement can complete normally, more or less as JLS 14.22
+    // has it, but erring on the side of no
+    static private boolean canCompleteNormally(Node statement) {
+        if (statement instanceof ReturnStatement || statement instanceof ThrowStatement
+                || statement instanceof BreakStatement || statement instanceof ContinueStatement) {
+            return false;
+        }
+        if (statement instanceof CodeBlock) {
+            List<Statement> statements = statements(statement);
+            if (statements == null) {
+                return false;
+            }
+            for (Statement s : statements) {
+                if (!canCompleteNormally(statement.getChild(s.start))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (statement instanceof IfStatement) {
+            int elseIndex = -1;
+            for (int i = 0; i < statement.getChildCount(); i++) {
+                if (isToken(statement.getChild(i), "else")) {
+                    elseIndex = i;
+                }
+            }
+            return elseIndex < 0
+                || canCompleteNormally(statement.getChild(4))
+                || canCompleteNormally(statement.getChild(elseIndex + 1));
+        }
+        if (statement instanceof WhileStatement) {
+            return !isConstantTrue(statement.getChild(2)) || hasBreakTo(statement, statement);
+        }
+        if (statement instanceof DoStatement) {
+            Node condition = statement.getChild(statement.getChildCount() - 3);
+            return hasBreakTo(statement, statement)
+                || (!isConstantTrue(condition) && canCompleteNormally(statement.getChild(1)));
+        }
+        if (statement instanceof ForStatement) {
+            List<Node> children = statement.children();
+            int firstSemicolon = -1, secondSemicolon = -1;
+            for (int i = 0; i < children.size(); i++) {
+                if (isToken(children.get(i), ":")) {
+                    // An enhanced for statement
+                    return true;
+                }
+                if (isToken(children.get(i), ";")) {
+                    if (firstSemicolon < 0) firstSemicolon = i;
+                    else if (secondSemicolon < 0) secondSemicolon = i;
+                }
+            }
+            boolean forever = secondSemicolon == firstSemicolon + 1
+                           || (secondSemicolon == firstSemicolon + 2 && isConstantTrue(children.get(firstSemicolon + 1)));
+            return !forever || hasBreakTo(statement, statement);
+        }
+        if (statement instanceof LabeledStatement) {
+            return canCompleteNormally(statement.getChild(2)) || hasBreakTo(statement, statement);
+        }
+        if (statement instanceof SwitchStatement) {
+            List<CaseStatement> cases = statement.childrenOfType(CaseStatement.class);
+            boolean hasDefault = false;
+            for (CaseStatement caseStatement : cases) {
+                hasDefault |= isToken(caseStatement.getChild(0), "default");
+            }
+            if (!hasDefault || cases.isEmpty() || hasBreakTo(statement, statement)) {
+                return true;
+            }
+            List<Statement> statements = statements(cases.get(cases.size() - 1));
+            if (statements == null) {
+                return false;
+            }
+            for (Statement s : statements) {
+                if (!canCompleteNormally(cases.get(cases.size() - 1).getChild(s.start))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (statement instanceof ClassicTryStatement || statement instanceof TryWithResources) {
+            boolean canComplete = canCompleteNormally(statement.firstChildOfType(CodeBlock.class));
+            for (CatchBlock catchBlock : statement.childrenOfType(CatchBlock.class)) {
+                canComplete |= canCompleteNormally(catchBlock.getBlock());
+            }
+            FinallyBlock finallyBlock = statement.firstChildOfType(FinallyBlock.class);
+            return canComplete && (finallyBlock == null || canCompleteNormally(finallyBlock.getBlock()));
+        }
+        if (statement instanceof SynchronizedStatement) {
+            return canCompleteNormally(statement.firstChildOfType(CodeBlock.class));
+        }
+        return true;
+    }
+
+    static private boolean isConstantTrue(Node node) {
+        while (!(node instanceof Token) && node.getChildCount() == 1) {
+            node = node.getChild(0);
+        }
+        return isToken(node, "true");
+    }
+
+    // The types in a catch, between the parenthesis and the parameter
+    static private List<String> caughtTypes(CatchBlock catchBlock) {
+        List<String> types = new ArrayList<>();
+        List<Node> children = catchBlock.children();
+        int open = 0, close = children.size() - 1;
+        while (!isToken(children.get(open), "(")) ++open;
+        while (!isToken(children.get(close), ")")) --close;
+        for (Node child : children.subList(open + 1, close - 1)) {
+            if (!(child instanceof Token) || ((Token) child).getId() == JavaCCConstants.IDENTIFIER) {
+                types.add(text(child));
+            }
+        }
+        return types;
+    }
+
+    static private String text(Node node) {
+        if (node instanceof Token) {
+            return node.toString();
+        }
+        StringBuilder buf = new StringBuilder();
+        for (Token token : Nodes.getRealTokens(node)) {
+            buf.append(token);
+        }
+        return buf.toString();
+    }
+
+    static private boolean hasLocalClass(MethodDeclaration method) {
+        for (ClassOrInterfaceBody body : method.descendantsOfType(ClassOrInterfaceBody.class)) {
+            Node parent = body.getParent();
+            if (parent instanceof CodeBlock || parent instanceof CaseStatement) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
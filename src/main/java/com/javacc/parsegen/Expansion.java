@@ -30,11 +30,16 @@
 
 package com.javacc.parsegen;
 
+import java.util.List;
+
 import com.javacc.Grammar;
 import com.javacc.lexgen.RegularExpression;
 import com.javacc.lexgen.TokenSet;
 import com.javacc.parser.BaseNode;
 import com.javacc.parser.tree.BNFProduction;
+import com.javacc.parser.tree.CodeBlock;
+import com.javacc.parser.tree.ExpansionSequence;
+import com.javacc.parser.tree.ReturnStatement;
 import com.javacc.parser.tree.TreeBuildingAnnotation;
 
 
@@ -176,6 +181,29 @@ abstract public class Expansion extends BaseNode {
     
     abstract public boolean requiresPhase2Routine();
     
+    /**
+     * Whether the code generated for this expansion ends with the return
+     * statement of a code block, in which case a break statement after it
+     * would be unreachable.
+     */
+    public boolean getEndsWithReturn() {
+        Expansion last = this;
+        while (true) {
+            TreeBuildingAnnotation tba = last.getTreeNodeBehavior();
+            if (tba != null && !tba.getVoid()) {
+                // The code is wrapped in a try statement that builds the node.
+                return false;
+            }
+            if (!(last instanceof ExpansionSequence)) {
+                break;
+            }
+            List<Expansion> units = ((ExpansionSequence) last).getUnits();
+            last = units.get(units.size() - 1);
+        }
+        return last instanceof CodeBlock && last.getChildCount() >= 3
+               && last.getChild(last.getChildCount() - 2) instanceof ReturnStatement;
+    }
+
     /*
      * Returns the minimum number of tokens that can parse to this expansion.
      */
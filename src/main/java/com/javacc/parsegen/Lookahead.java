@@ -48,6 +48,10 @@ import com.javacc.parser.tree.Expression;
 public class Lookahead extends Expansion {
 	
 	List<String> firstSetNames, finalSetNames;
+	
+	private LookaheadTable table;
+	
+	private int cacheIndex = -1;
 
     public Lookahead(Grammar grammar) {
         setGrammar(grammar);
@@ -74,6 +78,38 @@ public class Lookahead extends Expansion {
         return firstSetNames;
     }
     
+    /**
+     * The first set as a bit mask indexed by token kind, with enough
+     * words to cover every token kind in the grammar.
+     */
+    public long[] getFirstSetMask() {
+        int tokenCount = getGrammar().getLexerData().getTokenCount();
+        return Arrays.copyOf(expansion.getFirstSet().toLongArray(), tokenCount / 64 + 1);
+    }
+    
+    /**
+     * The decision table that replaces the phase 2 routine, if there is one.
+     */
+    public LookaheadTable getTable() {
+        return table;
+    }
+    
+    void setTable(LookaheadTable table) {
+        this.table = table;
+    }
+    
+    /**
+     * The slot in the generated parser's cache of phase 2 results,
+     * or -1 if the result of this lookahead is not cached.
+     */
+    public int getCacheIndex() {
+        return cacheIndex;
+    }
+    
+    void setCacheIndex(int cacheIndex) {
+        this.cacheIndex = cacheIndex;
+    }
+    
     public List<String> getFinalSetTokenNames() {
     	return expansion.getFinalSet().getTokenNames();
     }
@@ -0,0 +1,368 @@
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.parsegen;
+
+import java.util.*;
+
+import com.javacc.Grammar;
+import com.javacc.lexgen.RegularExpression;
+import com.javacc.parser.tree.*;
+
+/**
+ * A decision table that can stand in for the phase 2 routine of a
+ * LOOKAHEAD with a small fixed amount. The phase 3 routines never look at
+ * more than that many tokens, so as long as there is no semantic lookahead
+ * along the way, the outcome is a function of the kinds of the next few tokens.
+ * We work that function out here by running the phase 3 logic over token kinds
+ * at generation time, and the generated code becomes a nested switch
+ * on the next tokens' kinds.
+ *
+ * Note that this has to follow the phase 3 code exactly (first matching
+ * choice wins, loops are greedy) and not the plain set of k-token prefixes
+ * of the expansion, since the two can differ.
+ */
+public class LookaheadTable {
+
+    /**
+     * The largest lookahead amount for which we try to build a table.
+     */
+    static final int MAX_AMOUNT = 3;
+
+    /**
+     * Past this many case labels, we just use the phase 2 routine.
+     */
+    static final int MAX_CASES = 256;
+
+    static private final int MAX_SCANS = 20000, MAX_DEPTH = 200;
+
+    // Stands in for all the token kinds that the expansion never mentions.
+    static private final int OTHER = -2;
+
+    private Grammar grammar;
+    private Expansion expansion;
+    private int amount;
+    private List<Integer> kinds = new ArrayList<>();
+    private int[] prefix;
+    private int pos, depth, scans, cases;
+    private Decision decision;
+
+    private LookaheadTable(Lookahead lookahead) {
+        this.grammar = lookahead.getGrammar();
+        this.expansion = lookahead.getNestedExpansion();
+        this.amount = lookahead.getAmount();
+    }
+
+    /**
+     * @return the table for this lookahead, or null if the lookahead
+     * is not a candidate or the table would be too big.
+     */
+    static LookaheadTable build(Lookahead lookahead) {
+        if (lookahead.getAmount() > MAX_AMOUNT) {
+            return null;
+        }
+        LookaheadTable table = new LookaheadTable(lookahead);
+        try {
+            table.collectKinds(table.expansion, new HashSet<>());
+            Collections.sort(table.kinds);
+            table.kinds.add(OTHER);
+            table.decision = table.decide(new int[0]);
+        } catch (GiveUp gu) {
+            return null;
+        }
+        return table;
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
+    private void collectKinds(Expansion exp, Set<BNFProduction> visited) {
+        if (exp instanceof RegularExpression) {
+            int ordinal = exp.getOrdinal();
+            if (!kinds.contains(ordinal)) {
+                kinds.add(ordinal);
+            }
+        } else if (exp instanceof NonTerminal) {
+            BNFProduction production = ((NonTerminal) exp).getProduction();
+            if (visited.add(production)) {
+                collectKinds(production.getExpansion(), visited);
+            }
+        } else {
+            for (Expansion child : exp.childrenOfType(Expansion.class)) {
+                collectKinds(child, visited);
+            }
+        }
+    }
+
+    private Decision decide(int[] prefix) {
+        if (++scans > MAX_SCANS) {
+            throw new GiveUp();
+        }
+        this.prefix = prefix;
+        this.pos = this.depth = 0;
+        try {
+            return new Decision(scan(expansion));
+        } catch (Success s) {
+            return new Decision(true);
+        } catch (NeedToken nt) {
+            // The outcome depends on the next token, so we try every kind that
+            // could make a difference, and OTHER for the rest.
+            Map<Decision, List<String>> branches = new LinkedHashMap<>();
+            Decision defaultDecision = null;
+            int[] longerPrefix = Arrays.copyOf(prefix, prefix.length + 1);
+            for (int kind : kinds) {
+                longerPrefix[prefix.length] = kind;
+                Decision next = decide(longerPrefix.clone());
+                if (kind == OTHER) {
+                    defaultDecision = next;
+                } else {
+                    branches.computeIfAbsent(next, d -> new ArrayList<>()).add(grammar.getTokenName(kind));
+                }
+            }
+            // The default case already covers whatever leads to the same outcome.
+            branches.remove(defaultDecision);
+            if (branches.isEmpty()) {
+                return defaultDecision;
+            }
+            cases += branches.values().stream().mapToInt(List::size).sum();
+            if (cases > MAX_CASES) {
+                throw new GiveUp();
+            }
+            List<Branch> branchList = new ArrayList<>();
+            for (Map.Entry<Decision, List<String>> entry : branches.entrySet()) {
+                branchList.add(new Branch(entry.getValue(), entry.getKey()));
+            }
+            return new Decision(prefix.length + 1, branchList, defaultDecision);
+        }
+    }
+
+    // The same logic as the phase 3 routines generated in ParserProductions.java.ftl.
+    // Returns true if exp matches.
+    private boolean scan(Expansion exp) {
+        if (exp instanceof RegularExpression) {
+            return scanToken(exp.getOrdinal());
+        }
+        if (exp instanceof ExpansionSequence) {
+            List<Expansion> units = ((ExpansionSequence) exp).getUnits();
+            // The first unit is the lookahead, which phase 3 skips.
+            for (int i = 1; i < units.size(); i++) {
+                if (!scan(units.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (exp instanceof ExpansionChoice) {
+            int startPos = pos;
+            for (Expansion choice : ((ExpansionChoice) exp).getChoices()) {
+                if (choice instanceof ExpansionSequence) {
+                    List<Expansion> units = ((ExpansionSequence) choice).getUnits();
+                    if (!units.isEmpty() && units.get(0) instanceof Lookahead
+                            && ((Lookahead) units.get(0)).hasSemanticLookahead()) {
+                        throw new GiveUp();
+                    }
+                }
+                if (scan(choice)) {
+                    return true;
+                }
+                pos = startPos;
+            }
+            return false;
+        }
+        if (exp instanceof ZeroOrOne) {
+            int startPos = pos;
+            if (!scan(exp.getNestedExpansion())) {
+                pos = startPos;
+            }
+            return true;
+        }
+        if (exp instanceof OneOrMore) {
+            if (!scan(exp.getNestedExpansion())) {
+                return false;
+            }
+            scanRepeatedly(exp.getNestedExpansion());
+            return true;
+        }
+        if (exp instanceof ZeroOrMore) {
+            scanRepeatedly(exp.getNestedExpansion());
+            return true;
+        }
+        if (exp instanceof NonTerminal) {
+            if (++depth > MAX_DEPTH) {
+                throw new GiveUp();
+            }
+            boolean result = scan(((NonTerminal) exp).getProduction().getExpansion());
+            --depth;
+            return result;
+        }
+        if (exp instanceof TryBlock) {
+            return scan(exp.getNestedExpansion());
+        }
+        // Java code and the like, which phase 3 ignores
+        return true;
+    }
+
+    private void scanRepeatedly(Expansion nested) {
+        while (true) {
+            int startPos = pos;
+            if (!scan(nested)) {
+                pos = startPos;
+                return;
+            }
+            if (pos == startPos) {
+                throw new GiveUp();
+            }
+        }
+    }
+
+    // Like jj_scan_token in the generated parser, except that we only
+    // know the token kinds in the prefix.
+    private boolean scanToken(int kind) {
+        if (pos == prefix.length) {
+            throw new NeedToken();
+        }
+        if (prefix[pos++] != kind) {
+            return false;
+        }
+        if (pos == amount) {
+            throw new Success();
+        }
+        return true;
+    }
+
+    /**
+     * Either a fixed outcome, or a switch on the kind of the token
+     * at the given position (counting from 1).
+     */
+    public static class Decision {
+        private boolean outcome;
+        private int position;
+        private List<Branch> branches;
+        private Decision defaultDecision;
+
+        Decision(boolean outcome) {
+            this.outcome = outcome;
+        }
+
+        Decision(int position, List<Branch> branches, Decision defaultDecision) {
+            this.position = position;
+            this.branches = branches;
+            this.defaultDecision = defaultDecision;
+        }
+
+        public boolean getIsOutcome() {
+            return branches == null;
+        }
+
+        public boolean getOutcome() {
+            return outcome;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * The cases other than the default one.
+         */
+        public List<Branch> getBranches() {
+            return branches;
+        }
+
+        public Decision getDefaultDecision() {
+            return defaultDecision;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Decision)) {
+                return false;
+            }
+            Decision other = (Decision) obj;
+            return outcome == other.outcome && position == other.position
+                    && Objects.equals(branches, other.branches)
+                    && Objects.equals(defaultDecision, other.defaultDecision);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(outcome, position, branches, defaultDecision);
+        }
+    }
+
+    /**
+     * The token names of a case, and where they lead.
+     */
+    public static class Branch {
+        private List<String> tokenNames;
+        private Decision decision;
+
+        Branch(List<String> tokenNames, Decision decision) {
+            this.tokenNames = tokenNames;
+            this.decision = decision;
+        }
+
+        public List<String> getTokenNames() {
+            return tokenNames;
+        }
+
+        public Decision getDecision() {
+            return decision;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Branch)) {
+                return false;
+            }
+            Branch other = (Branch) obj;
+            return tokenNames.equals(other.tokenNames) && decision.equals(other.decision);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tokenNames, decision);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static private class Success extends RuntimeException {
+        Success() {super(null, null, false, false);}
+    }
+
+    @SuppressWarnings("serial")
+    static private class NeedToken extends RuntimeException {
+        NeedToken() {super(null, null, false, false);}
+    }
+
+    @SuppressWarnings("serial")
+    static private class GiveUp extends RuntimeException {
+        GiveUp() {super(null, null, false, false);}
+    }
+}
@@ -33,6 +33,7 @@ package com.javacc.parsegen;
 import java.util.*;
 
 import com.javacc.Grammar;
+import com.javacc.JavaCCOptions;
 import com.javacc.MetaParseException;
 import com.javacc.lexgen.LexerData;
 import com.javacc.lexgen.LexicalState;
@@ -63,6 +64,10 @@ public class ParserData {
 
     private List<Expansion> phase3list = new ArrayList<>();
 
+    private int phase2CacheSize;
+
+    private Map<BNFProduction, PrecedenceChain> precedenceChains = new HashMap<>();
+
     public ParserData(Grammar grammar) {
         this.grammar = grammar;
         this.lexerData = grammar.getLexerData();
@@ -73,9 +78,21 @@ public class ParserData {
             new Phase2TableBuilder().visit(production.getExpansion());
         }
         for (Lookahead lookahead : phase2lookaheads) {
-            Expansion expansion= lookahead.getNestedExpansion();
-            phase3list.add(expansion);
-            expansion.setPhase3LookaheadAmount(lookahead.getAmount());
+            if (!grammar.getOptions().getDebugLookahead()) {
+                lookahead.setTable(LookaheadTable.build(lookahead));
+            }
+            if (lookahead.getTable() == null) {
+                Expansion expansion= lookahead.getNestedExpansion();
+                phase3list.add(expansion);
+                expansion.setPhase3LookaheadAmount(lookahead.getAmount());
+                // Without semantic lookahead, the result only depends on where
+                // we are in the token stream, so the parser can hold on to it
+                // until current_token moves.
+                if (!grammar.getOptions().getDebugLookahead()
+                        && !reachesSemanticLookahead(expansion, new HashSet<>())) {
+                    lookahead.setCacheIndex(phase2CacheSize++);
+                }
+            }
         }
         for (int phase3index=0; phase3index < phase3list.size(); phase3index++) {
             Expansion exp = phase3list.get(phase3index);
@@ -86,6 +103,29 @@ public class ParserData {
     }
 
 
+    /**
+     * The number of phase 2 routines whose result is cached.
+     */
+    public int getPhase2CacheSize() {
+        return phase2CacheSize;
+    }
+
+    private boolean reachesSemanticLookahead(Expansion exp, Set<BNFProduction> visited) {
+        if (exp instanceof Lookahead) {
+            return ((Lookahead) exp).hasSemanticLookahead();
+        }
+        if (exp instanceof NonTerminal) {
+            BNFProduction production = ((NonTerminal) exp).getProduction();
+            return visited.add(production) && reachesSemanticLookahead(production.getExpansion(), visited);
+        }
+        for (Expansion child : exp.childrenOfType(Expansion.class)) {
+            if (reachesSemanticLookahead(child, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public List<Lookahead> getPhase2Lookaheads() {
         return phase2lookaheads;
     }
@@ -651,11 +691,126 @@ public class ParserData {
             }
 
         } 
+
+        for (BNFProduction production : grammar.getParserProductions()) {
+            if (production.getLazy()) {
+                checkLazyProduction(production);
+            }
+        }
+        buildPrecedenceChains();
         if (grammar.getErrorCount() != 0) {
             throw new MetaParseException();
         }
     }
 
+    private void buildPrecedenceChains() {
+        List<String> names = grammar.getOptions().getPrecedenceClimbing();
+        if (names.isEmpty()) {
+            return;
+        }
+        JavaCCOptions options = grammar.getOptions();
+        String unsupported = null;
+        if (options.getFaultTolerant()) unsupported = "FAULT_TOLERANT";
+        else if (options.getEventParsing()) unsupported = "EVENT_PARSING";
+        else if (options.getNodeTypeIndex()) unsupported = "NODE_TYPE_INDEX";
+        else if (options.getTreeBuildingEnabled() && (!options.getSmartNodeCreation() || options.getNodeDefaultVoid())) {
+            unsupported = "SMART_NODE_CREATION=false or NODE_DEFAULT_VOID";
+        }
+        else if (grammar.getUsesOpenNodeScopeHook() || grammar.getUsesjjtreeOpenNodeScope()) {
+            unsupported = "an open node scope hook";
+        }
+        if (unsupported != null) {
+            // These need a node to be opened for every level, whether it ends up
+            // in the tree or not, which is what precedence climbing does away with.
+            grammar.addWarning(null, "PRECEDENCE_CLIMBING is ignored with " + unsupported + ".");
+            return;
+        }
+        for (String name : names) {
+            BNFProduction production = grammar.getProductionByName(name);
+            if (production == null) {
+                grammar.addSemanticError(null, "PRECEDENCE_CLIMBING: there is no production named " + name + ".");
+                continue;
+            }
+            PrecedenceChain chain = PrecedenceChain.build(production);
+            if (chain != null) {
+                precedenceChains.put(production, chain);
+            }
+        }
+    }
+
+    /**
+     * @return the chain of operator productions that the production
+     * is parsed with, or null if it is a regular production.
+     */
+    public PrecedenceChain getPrecedenceChain(BNFProduction production) {
+        return precedenceChains.get(production);
+    }
+
+    /**
+     * Whether the production's node is a smart node (one that is only built
+     * if it has more than one child) that the parser can create on the way out
+     * of the production, rather than creating it and opening a scope for it
+     * on the way in and then throwing it away if it has only one child.
+     * That is only possible if nothing in the production can get at the node
+     * or the scope before it is closed.
+     */
+    public boolean getDefersNodeCreation(BNFProduction production) {
+        JavaCCOptions options = grammar.getOptions();
+        if (!options.getTreeBuildingEnabled() || options.getFaultTolerant() || options.getEventParsing()
+                || options.getNodeTypeIndex() || grammar.getUsesOpenNodeScopeHook()
+                || grammar.getUsesjjtreeOpenNodeScope() || production.getLazy()) {
+            return false;
+        }
+        TreeBuildingAnnotation tba = production.getTreeBuildingAnnotation();
+        if (tba == null) {
+            if (!options.getSmartNodeCreation() || options.getNodeDefaultVoid()) {
+                return false;
+            }
+        } else if (tba.getVoid() || !tba.getGtNode() || !tba.getCondition().toString().trim().equals("1")) {
+            return false;
+        }
+        for (Expansion exp : production.getExpansion().descendantsOfType(Expansion.class)) {
+            if (exp instanceof CodeBlock || exp instanceof TryBlock
+                    || (exp instanceof Lookahead && ((Lookahead) exp).hasSemanticLookahead())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * A LAZY production is skipped over by matching its opening and closing
+     * tokens, and is parsed again later on its own, so it has to be something 
+     * like a block that can be reparsed without any context.
+     */
+    private void checkLazyProduction(BNFProduction production) {
+        TreeBuildingAnnotation tba = production.getTreeBuildingAnnotation();
+        if (tba.getVoid() || tba.getCondition() != null) {
+            grammar.addSemanticError(production, "The LAZY production " + production.getName() 
+                    + " must unconditionally build a node.");
+        }
+        FormalParams params = production.firstChildOfType(FormalParams.class);
+        if (params != null && params.firstChildOfType(FormalParameter.class) != null) {
+            grammar.addSemanticError(production, "The LAZY production " + production.getName() + " cannot take parameters.");
+        }
+        String returnType = production.getReturnType().toString().trim();
+        if (!returnType.equals("void") && !returnType.equals(tba.getNodeName())) {
+            grammar.addSemanticError(production, "The LAZY production " + production.getName() 
+                    + " must either be void or return its node type, " + tba.getNodeName() + ".");
+        }
+        RegularExpression open = production.getLazyOpenDelimiter(), close = production.getLazyCloseDelimiter();
+        if (open == null || open.getOrdinal() == close.getOrdinal()) {
+            grammar.addSemanticError(production, "The LAZY production " + production.getName() 
+                    + " must start and end with two different tokens, like { and }.");
+        }
+        if (!grammar.getOptions().getTreeBuildingEnabled()) {
+            grammar.addWarning(production, "LAZY has no effect on " + production.getName() + " since tree building is disabled.");
+        }
+        if (grammar.getOptions().getFaultTolerant()) {
+            grammar.addWarning(production, "LAZY has no effect on " + production.getName() + " in a fault-tolerant parser.");
+        }
+    }
+
 
     private RegularExpression other;
 
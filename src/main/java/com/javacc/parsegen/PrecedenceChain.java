@@ -0,0 +1,224 @@
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.parsegen;
+
+import java.util.*;
+
+import com.javacc.Grammar;
+import com.javacc.lexgen.RegularExpression;
+import com.javacc.parser.tree.*;
+
+/**
+ * A chain of binary operator productions, as in:
+ * <pre>
+ *   void AdditiveExpression() : {} { MultiplicativeExpression() (("+" | "-") MultiplicativeExpression())* }
+ *   void MultiplicativeExpression() : {} { UnaryExpression() (("*" | "/") UnaryExpression())* }
+ * </pre>
+ * Each production in the chain is one precedence level, and its operators
+ * are that level's entry in the operator table. The chain ends at the first
+ * production that does not have this form, which is the operand.
+ * For a production named in the PRECEDENCE_CLIMBING option, the parser
+ * parses the whole chain by precedence climbing, so that an operand with
+ * no operators around it is parsed without going through all the levels.
+ * The tree is the same one that the productions would build with smart
+ * node creation, i.e. a level only gets a node if it has an operator.
+ */
+public class PrecedenceChain {
+
+    private Grammar grammar;
+    private BNFProduction production;
+    private List<BNFProduction> levels = new ArrayList<>();
+    private List<List<String>> operatorNames = new ArrayList<>();
+    private Set<Integer> operatorKinds = new HashSet<>();
+    private BNFProduction operand;
+
+    private PrecedenceChain(BNFProduction production) {
+        this.grammar = production.getGrammar();
+        this.production = production;
+    }
+
+    /**
+     * @return the chain starting at the production, or null if the production
+     * does not have the form of a precedence level, in which case an error
+     * has been added to the grammar.
+     */
+    static PrecedenceChain build(BNFProduction production) {
+        PrecedenceChain chain = new PrecedenceChain(production);
+        String problem = chain.addLevel(production);
+        if (problem != null) {
+            production.getGrammar().addSemanticError(production, "The production " + production.getName()
+                    + " cannot be parsed by precedence climbing since it " + problem + ".");
+            return null;
+        }
+        while (chain.operand != production && chain.addLevel(chain.operand) == null) {
+        }
+        return chain;
+    }
+
+    public BNFProduction getProduction() {
+        return production;
+    }
+
+    /**
+     * The productions in the chain, from the one whose operators bind the loosest.
+     */
+    public List<BNFProduction> getLevels() {
+        return levels;
+    }
+
+    /**
+     * The token names of each level's operators.
+     */
+    public List<List<String>> getOperatorNames() {
+        return operatorNames;
+    }
+
+    /**
+     * The production that the last level applies its operators to.
+     */
+    public BNFProduction getOperand() {
+        return operand;
+    }
+
+    // If the production is a level that fits in the chain, adds it and sets the
+    // operand to the next production down. Otherwise says what is wrong with it.
+    private String addLevel(BNFProduction level) {
+        if (level.getTreeBuildingAnnotation() != null) {
+            return "has a tree node annotation";
+        }
+        if (!level.getReturnType().toString().trim().equals("void")) {
+            return "is not void";
+        }
+        FormalParams params = level.firstChildOfType(FormalParams.class);
+        if (params != null && params.firstChildOfType(FormalParameter.class) != null) {
+            return "takes parameters";
+        }
+        if (level.getJavaCode() != null && level.getJavaCode().getChildCount() > 2) {
+            return "has Java code";
+        }
+        if (level.getForced() || level.getLazy()) {
+            return "is forced or lazy";
+        }
+        List<Expansion> units = getUnits(level.getExpansion());
+        if (units.size() != 2 || !(units.get(0) instanceof NonTerminal) || !(units.get(1) instanceof ZeroOrMore)) {
+            return "is not of the form: Operand() ((operator tokens) Operand())*";
+        }
+        NonTerminal left = (NonTerminal) units.get(0);
+        ZeroOrMore loop = (ZeroOrMore) units.get(1);
+        if (!isPlainCall(left) || loop.getTreeNodeBehavior() != null) {
+            return "passes arguments or has an assignment or tree node annotation";
+        }
+        if (!(loop.getNestedExpansion() instanceof ExpansionSequence)) {
+            return "is not of the form: Operand() ((operator tokens) Operand())*";
+        }
+        ExpansionSequence body = (ExpansionSequence) loop.getNestedExpansion();
+        List<Expansion> bodyUnits = getUnits(body);
+        if (bodyUnits.size() != 2 || !(bodyUnits.get(1) instanceof NonTerminal)
+                || !((NonTerminal) bodyUnits.get(1)).getName().equals(left.getName())
+                || !isPlainCall((NonTerminal) bodyUnits.get(1))) {
+            return "is not of the form: Operand() ((operator tokens) Operand())*";
+        }
+        List<RegularExpression> operators = getOperators(bodyUnits.get(0));
+        if (operators == null) {
+            return "has operators that are not plain tokens";
+        }
+        Set<Integer> kinds = new HashSet<>();
+        for (RegularExpression op : operators) {
+            kinds.add(op.getOrdinal());
+        }
+        if (!Collections.disjoint(kinds, operatorKinds)) {
+            return "has operators that are also used at another level";
+        }
+        // The loop has to be entered just when the next token is one of the operators.
+        Lookahead la = body.getLookahead();
+        if (la.hasSemanticLookahead()) {
+            return "has semantic lookahead";
+        }
+        if (la.getNestedExpansion() == body ? la.getAmount() != 1 : !sameKinds(getOperators(la.getNestedExpansion()), kinds)) {
+            return "has a lookahead that is not just for the operators";
+        }
+        levels.add(level);
+        List<String> names = new ArrayList<>();
+        for (RegularExpression op : operators) {
+            names.add(op.getLabel());
+        }
+        operatorNames.add(names);
+        operatorKinds.addAll(kinds);
+        operand = left.getProduction();
+        return null;
+    }
+
+    // The units of a sequence other than the lookahead at the start
+    private List<Expansion> getUnits(Expansion exp) {
+        if (exp instanceof ExpansionSequence) {
+            List<Expansion> units = ((ExpansionSequence) exp).getUnits();
+            return units.subList(1, units.size());
+        }
+        return Collections.singletonList(exp);
+    }
+
+    private boolean isPlainCall(NonTerminal nt) {
+        return nt.getLHS() == null && (nt.getArgs() == null || nt.getArgs().getChildCount() <= 2)
+                && nt.getTreeNodeBehavior() == null && !nt.getForced();
+    }
+
+    // The tokens of a single token or a choice of single tokens, else null
+    private List<RegularExpression> getOperators(Expansion exp) {
+        List<RegularExpression> result = new ArrayList<>();
+        List<Expansion> choices = exp instanceof ExpansionChoice
+                ? ((ExpansionChoice) exp).getChoices() : Collections.singletonList(exp);
+        for (Expansion choice : choices) {
+            if (choice instanceof ExpansionSequence
+                    && ((ExpansionSequence) choice).getLookahead() instanceof ExplicitLookahead) {
+                return null;
+            }
+            List<Expansion> units = getUnits(choice);
+            if (units.size() != 1 || !(units.get(0) instanceof RegularExpression)) {
+                return null;
+            }
+            RegularExpression re = (RegularExpression) units.get(0);
+            if (re.getLHS() != null || re.getTreeNodeBehavior() != null || re.getForced()) {
+                return null;
+            }
+            result.add(re);
+        }
+        return result;
+    }
+
+    private boolean sameKinds(List<RegularExpression> regexps, Set<Integer> kinds) {
+        if (regexps == null) {
+            return false;
+        }
+        Set<Integer> otherKinds = new HashSet<>();
+        for (RegularExpression re : regexps) {
+            otherKinds.add(re.getOrdinal());
+        }
+        return otherKinds.equals(kinds);
+    }
+}
@@ -0,0 +1,162 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JavaCCConstants.java */
+package com.javacc.parser;
+
+/**
+ * Token literal values and constants.
+ */
+public interface JavaCCConstants {
+    int INVALID=-1;
+    // Used for Lexically invalid input
+    int EOF=0;
+    // End of file
+    int _OPTIONS=1;
+    int _INJECT=2;
+    int _INCLUDE=3;
+    int _LOOKAHEAD=4;
+    int _SCAN=5;
+    int _IGNORE_CASE=6;
+    int _PARSER_BEGIN=7;
+    int _PARSER_END=8;
+    int _TOKEN=9;
+    int _SPECIAL_TOKEN=10;
+    int _MORE=11;
+    int _SKIP=12;
+    int _TOKEN_MGR_DECLS=13;
+    int _EOF=14;
+    int HASH=15;
+    int HASH_ID=16;
+    int WHITESPACE=17;
+    int SINGLE_LINE_COMMENT=21;
+    int FORMAL_COMMENT=22;
+    int MULTI_LINE_COMMENT=23;
+    int ABSTRACT=25;
+    int ASSERT=26;
+    int BOOLEAN=27;
+    int BREAK=28;
+    int BYTE=29;
+    int CASE=30;
+    int CATCH=31;
+    int CHAR=32;
+    int CLASS=33;
+    int CONST=34;
+    int CONTINUE=35;
+    int _DEFAULT=36;
+    int DO=37;
+    int DOUBLE=38;
+    int ELSE=39;
+    int ENUM=40;
+    int EXTENDS=41;
+    int FALSE=42;
+    int FINAL=43;
+    int FINALLY=44;
+    int FLOAT=45;
+    int FOR=46;
+    int GOTO=47;
+    int IF=48;
+    int IMPLEMENTS=49;
+    int IMPORT=50;
+    int INSTANCEOF=51;
+    int INT=52;
+    int INTERFACE=53;
+    int LONG=54;
+    int NATIVE=55;
+    int NEW=56;
+    int NULL=57;
+    int PACKAGE=58;
+    int PRIVATE=59;
+    int PROTECTED=60;
+    int PUBLIC=61;
+    int RETURN=62;
+    int SHORT=63;
+    int STATIC=64;
+    int STRICTFP=65;
+    int SUPER=66;
+    int SWITCH=67;
+    int SYNCHRONIZED=68;
+    int THIS=69;
+    int THROW=70;
+    int THROWS=71;
+    int TRANSIENT=72;
+    int TRUE=73;
+    int TRY=74;
+    int VOID=75;
+    int VOLATILE=76;
+    int WHILE=77;
+    int LONG_LITERAL=78;
+    int INTEGER_LITERAL=79;
+    int DECIMAL_LITERAL=80;
+    int HEX_LITERAL=81;
+    int OCTAL_LITERAL=82;
+    int BINARY_LITERAL=83;
+    int FLOATING_POINT_LITERAL=84;
+    int DECIMAL_FLOATING_POINT_LITERAL=85;
+    int DECIMAL_EXPONENT=86;
+    int HEXADECIMAL_FLOATING_POINT_LITERAL=87;
+    int HEXADECIMAL_EXPONENT=88;
+    int HEX_DIGITS=89;
+    int CHARACTER_LITERAL=90;
+    int STRING_LITERAL=91;
+    int LPAREN=92;
+    int RPAREN=93;
+    int LBRACE=94;
+    int RBRACE=95;
+    int LBRACKET=96;
+    int RBRACKET=97;
+    int SEMICOLON=98;
+    int COMMA=99;
+    int DOT=100;
+    int ASSIGN=101;
+    int GT=102;
+    int LT=103;
+    int BANG=104;
+    int TILDE=105;
+    int HOOK=106;
+    int COLON=107;
+    int EQ=108;
+    int LE=109;
+    int GE=110;
+    int NE=111;
+    int SC_OR=112;
+    int SC_AND=113;
+    int INCR=114;
+    int DECR=115;
+    int PLUS=116;
+    int MINUS=117;
+    int STAR=118;
+    int SLASH=119;
+    int BIT_AND=120;
+    int BIT_OR=121;
+    int XOR=122;
+    int REM=123;
+    int LSHIFT=124;
+    int PLUSASSIGN=125;
+    int MINUSASSIGN=126;
+    int STARASSIGN=127;
+    int SLASHASSIGN=128;
+    int ANDASSIGN=129;
+    int ORASSIGN=130;
+    int XORASSIGN=131;
+    int REMASSIGN=132;
+    int LSHIFTASSIGN=133;
+    int RSIGNEDSHIFTASSIGN=134;
+    int RUNSIGNEDSHIFTASSIGN=135;
+    int LAMBDA=136;
+    int DOUBLE_COLON=137;
+    int VAR_ARGS=138;
+    int AT=139;
+    int RSIGNEDSHIFT=140;
+    int RUNSIGNEDSHIFT=141;
+    int IDENTIFIER=142;
+    int LETTER=143;
+    int PART_LETTER=144;
+    /**
+   * Lexical States
+   */
+    int JAVA=0;
+    int IN_SINGLE_LINE_COMMENT=1;
+    int IN_FORMAL_COMMENT=2;
+    int IN_MULTI_LINE_COMMENT=3;
+    int PHONY=4;
+    String[] tokenImage={"<EOF>","<_OPTIONS>","<_INJECT>","<_INCLUDE>","\"LOOKAHEAD\"","\"SCAN\"","\"IGNORE_CASE\"","\"PARSER_BEGIN\"","\"PARSER_END\"","<_TOKEN>","<_SPECIAL_TOKEN>","<_MORE>","\"SKIP\"","\"TOKEN_MGR_DECLS\"","\"EOF\"","\"#\"","<HASH_ID>","<WHITESPACE>","\"//\"","<19>","\"/*\"","<SINGLE_LINE_COMMENT>","\"*/\"","\"*/\"","<24>","\"abstract\"","\"assert\"","\"boolean\"","\"break\"","\"byte\"","\"case\"","\"catch\"","\"char\"","\"class\"","\"const\"","\"continue\"","\"default\"","\"do\"","\"double\"","\"else\"","\"enum\"","\"extends\"","\"false\"","\"final\"","\"finally\"","\"float\"","\"for\"","\"goto\"","\"if\"","\"implements\"","\"import\"","\"instanceof\"","\"int\"","\"interface\"","\"long\"","\"native\"","\"new\"","\"null\"","\"package\"","\"private\"","\"protected\"","\"public\"","\"return\"","\"short\"","\"static\"","\"strictfp\"","\"super\"","\"switch\"","\"synchronized\"","\"this\"","\"throw\"","\"throws\"","\"transient\"","\"true\"","\"try\"","\"void\"","\"volatile\"","\"while\"","<LONG_LITERAL>","<INTEGER_LITERAL>","<DECIMAL_LITERAL>","<HEX_LITERAL>","<OCTAL_LITERAL>","<BINARY_LITERAL>","<FLOATING_POINT_LITERAL>","<DECIMAL_FLOATING_POINT_LITERAL>","<DECIMAL_EXPONENT>","<HEXADECIMAL_FLOATING_POINT_LITERAL>","<HEXADECIMAL_EXPONENT>","<HEX_DIGITS>","<CHARACTER_LITERAL>","<STRING_LITERAL>","\"(\"","\")\"","\"{\"","\"}\"","\"[\"","\"]\"","\";\"","\",\"","\".\"","\"=\"","\">\"","\"<\"","\"!\"","\"~\"","\"?\"","\":\"","\"==\"","\"<=\"","\">=\"","\"!=\"","\"||\"","\"&&\"","\"++\"","\"--\"","\"+\"","\"-\"","\"*\"","\"/\"","\"&\"","\"|\"","\"^\"","\"%\"","\"<<\"","\"+=\"","\"-=\"","\"*=\"","\"/=\"","\"&=\"","\"|=\"","\"^=\"","\"%=\"","\"<<=\"","\">>=\"","\">>>=\"","\"->\"","\"::\"","\"...\"","\"@\"","\">>\"","\">>>\"","<IDENTIFIER>","<LETTER>","<PART_LETTER>",};
+    String[] nodeNames={"EOF","_OPTIONS","_INJECT","_INCLUDE","_LOOKAHEAD","_SCAN","_IGNORE_CASE","_PARSER_BEGIN","_PARSER_END","_TOKEN","_SPECIAL_TOKEN","_MORE","_SKIP","_TOKEN_MGR_DECLS","_EOF","HASH","HASH_ID","WHITESPACE","SINGLE_LINE_COMMENT","FORMAL_COMMENT","MULTI_LINE_COMMENT","ABSTRACT","ASSERT","BOOLEAN","BREAK","BYTE","CASE","CATCH","CHAR","CLASS","CONST","CONTINUE","_DEFAULT","DO","DOUBLE","ELSE","ENUM","EXTENDS","FALSE","FINAL","FINALLY","FLOAT","FOR","GOTO","IF","IMPLEMENTS","IMPORT","INSTANCEOF","INT","INTERFACE","LONG","NATIVE","NEW","NULL","PACKAGE","PRIVATE","PROTECTED","PUBLIC","RETURN","SHORT","STATIC","STRICTFP","SUPER","SWITCH","SYNCHRONIZED","THIS","THROW","THROWS","TRANSIENT","TRUE","TRY","VOID","VOLATILE","WHILE","LONG_LITERAL","INTEGER_LITERAL","DECIMAL_LITERAL","HEX_LITERAL","OCTAL_LITERAL","BINARY_LITERAL","FLOATING_POINT_LITERAL","DECIMAL_FLOATING_POINT_LITERAL","DECIMAL_EXPONENT","HEXADECIMAL_FLOATING_POINT_LITERAL","HEXADECIMAL_EXPONENT","HEX_DIGITS","CHARACTER_LITERAL","STRING_LITERAL","LPAREN","RPAREN","LBRACE","RBRACE","LBRACKET","RBRACKET","SEMICOLON","COMMA","DOT","ASSIGN","GT","LT","BANG","TILDE","HOOK","COLON","EQ","LE","GE","NE","SC_OR","SC_AND","INCR","DECR","PLUS","MINUS","STAR","SLASH","BIT_AND","BIT_OR","XOR","REM","LSHIFT","PLUSASSIGN","MINUSASSIGN","STARASSIGN","SLASHASSIGN","ANDASSIGN","ORASSIGN","XORASSIGN","REMASSIGN","LSHIFTASSIGN","RSIGNEDSHIFTASSIGN","RUNSIGNEDSHIFTASSIGN","LAMBDA","DOUBLE_COLON","VAR_ARGS","AT","RSIGNEDSHIFT","RUNSIGNEDSHIFT","IDENTIFIER","LETTER","PART_LETTER","CompilationUnit","PackageDeclaration","ImportDeclaration","TypeDeclaration","ExtendsList","ImplementsList","EnumDeclaration","EnumBody","EnumConstant","TypeParameterList","TypeParameter","TypeBound","ClassOrInterfaceBody","ClassOrInterfaceBodyDeclaration","FieldDeclaration","VariableDeclarator","VariableDeclaratorId","VariableInitializer","ArrayInitializer","MethodDeclaration","FormalParams","FormalParameter","ConstructorDeclaration","ExplicitConstructorInvocation","Initializer","Type","ReferenceType","ObjectType","DiamondOperator","TypeArguments","TypeArgument","WildcardBounds","PrimitiveArrayType","ReturnType","Name","ThrowsList","Expression","AssignmentExpression","TernaryExpression","ConditionalOrExpression","ConditionalAndExpression","InclusiveOrExpression","ExclusiveOrExpression","AndExpression","EqualityExpression","InstanceOfExpression","RelationalExpression","ShiftExpression","AdditiveExpression","MultiplicativeExpression","UnaryExpression","PreIncrementExpression","PreDecrementExpression","UnaryExpressionNotPlusMinus","PostfixExpression","CastExpression","PrimaryExpression","MemberSelector","PrimaryPrefix","MethodReference","PrimarySuffix","InvocationArgs","AllocationExpression","ArrayDimsAndInits","AssertStatement","LabeledStatement","CodeBlock","LocalVariableDeclaration","EmptyStatement","StatementExpression","SwitchStatement","CaseStatement","IfStatement","WhileStatement","DoStatement","ForStatement","ForInit","StatementExpressionList","ForUpdate","BreakStatement","ContinueStatement","ReturnStatement","ThrowStatement","SynchronizedStatement","ClassicTryStatement","TryWithResources","CatchBlock","FinallyBlock","Annotation","MemberValuePairs","MemberValuePair","MemberValue","MemberValueArrayInitializer","AnnotationTypeDeclaration","AnnotationTypeBody","AnnotationTypeMemberDeclaration","DefaultValue","LambdaExpression","LambdaLHS","FormalParameters","LambdaRHS","GrammarFile","ParserCodeDecls","GrammarInclusion","CodeInjection","CodeInjection2","Options","BNFProduction","TreeBuildingAnnotation","TokenProduction","TokenManagerDecls","RegexpSpec","ExpansionChoice","ExpansionSequence","ExplicitLookahead","OneOrMore","ZeroOrMore","ZeroOrOne","ExpansionUnit","NonTerminal","TryBlock","RegexpStringLiteral","RegexpRef","EndOfFile","RegexpChoice","RegexpSequence","OneOrMoreRegexp","ZeroOrMoreRegexp","ZeroOrOneRegexp","RepetitionRange","IntegerLiteral","CharacterList","CharacterRange",};
+}
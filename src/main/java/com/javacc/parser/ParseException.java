@@ -0,0 +1,81 @@
+/* Generated by: JavaCC 21 Parser Generator. ParseException.java */
+package com.javacc.parser;
+
+/**
+ * This exception is thrown when parse errors are encountered.
+ * You can explicitly create objects of this exception type by
+ * calling the method generateParseException in the generated
+ * parser.
+ *
+ * You can modify this class to customize your error reporting
+ * mechanisms so long as you retain the public fields.
+ */
+@SuppressWarnings("serial")
+public class ParseException extends Exception {
+    // The token we tripped up on.
+    Token token;
+    public ParseException() {
+        super();
+    }
+
+    public ParseException(String message) {
+        super(message);
+    }
+
+    public ParseException(Token token) {
+        this.token=token;
+    }
+
+    public String getMessage() {
+        if (token==null) {
+            return super.getMessage();
+        }
+        return"Encountered an error on (or somewhere around) "+token.getLocation();
+    }
+
+    static public String addEscapes(String str) {
+        StringBuilder retval=new StringBuilder();
+        char ch;
+        for (int i=0; i<str.length(); i++) {
+            switch(str.charAt(i)) {
+                case 0:
+                continue;
+                case'\b':
+                retval.append("\\b");
+                continue;
+                case'\t':
+                retval.append("\\t");
+                continue;
+                case'\n':
+                retval.append("\\n");
+                continue;
+                case'\f':
+                retval.append("\\f");
+                continue;
+                case'\r':
+                retval.append("\\r");
+                continue;
+                case'\"':
+                retval.append("\\\"");
+                continue;
+                case'\'':
+                retval.append("\\\'");
+                continue;
+                case'\\':
+                retval.append("\\\\");
+                continue;
+                default:
+                if ((ch=str.charAt(i))<0x20||ch>0x7e) {
+                    String s="0000"+java.lang.Integer.toString(ch,16);
+                    retval.append("\\u"+s.substring(s.length()-4,s.length()));
+                }
+                else {
+                    retval.append(ch);
+                }
+                continue;
+            }
+        }
+        return retval.toString();
+    }
+
+}
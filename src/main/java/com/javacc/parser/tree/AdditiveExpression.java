@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AdditiveExpression.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class AdditiveExpression extends Expression {
+}
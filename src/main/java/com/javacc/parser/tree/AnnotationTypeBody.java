@@ -0,0 +1,7 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. AnnotationTypeBody.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class AnnotationTypeBody extends BaseNode {
+}
@@ -0,0 +1,196 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BNFProduction.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.TokenSet;
+import com.javacc.lexgen.RegularExpression;
+import com.javacc.parsegen.Lookahead;
+import com.javacc.parsegen.Expansion;
+import java.util.*;
+@SuppressWarnings("unused")
+public class BNFProduction extends BaseNode {
+    public CodeBlock getJavaCode() {
+        return firstChildOfType(CodeBlock.class);
+    }
+
+    public TreeBuildingAnnotation getTreeBuildingAnnotation() {
+        return firstChildOfType(TreeBuildingAnnotation.class);
+    }
+
+    public String getNodeName() {
+        TreeBuildingAnnotation tba=getTreeBuildingAnnotation();
+        if (tba!=null) {
+            String nodeName=tba.getNodeName();
+            if (nodeName==null) {
+                return nodeName;
+            }
+        }
+        return this.getName();
+    }
+
+    private boolean forced;
+    public void setForced(boolean forced) {
+        this.forced=forced;
+    }
+
+    public boolean getForced() {
+        return forced;
+    }
+
+    private boolean lazy;
+    /**
+     * A LAZY production (marked as in: void Foo() #Foo LAZY : ...) is not parsed
+     * when it is first encountered. The parser just skips to the matching 
+     * closing delimiter and builds the node's children when they are first accessed.
+     */
+    public boolean getLazy() {
+        return lazy;
+    }
+
+    public void setLazy(boolean lazy) {
+        this.lazy=lazy;
+    }
+
+    /**
+     * @return the token that a LAZY production starts with, or null if 
+     * the production does not start with a token
+     */
+    public RegularExpression getLazyOpenDelimiter() {
+        List<Expansion>units=getDelimitedUnits();
+        return units.isEmpty()?null:
+        (RegularExpression) units.get(0);
+    }
+
+    /**
+     * @return the token that a LAZY production ends with, or null if 
+     * the production does not end with a token
+     */
+    public RegularExpression getLazyCloseDelimiter() {
+        List<Expansion>units=getDelimitedUnits();
+        return units.isEmpty()?null:
+        (RegularExpression) units.get(units.size()-1);
+    }
+
+    private List<Expansion>getDelimitedUnits() {
+        List<Expansion>units=new ArrayList<>();
+        if (expansion instanceof ExpansionSequence) {
+            for (Expansion unit : ((ExpansionSequence) expansion).getUnits()) {
+                if (!(unit instanceof Lookahead)&&!(unit instanceof CodeBlock)) {
+                    units.add(unit);
+                }
+            }
+        }
+        if (units.size()<2||!(units.get(0) instanceof RegularExpression)||!(units.get(units.size()-1) instanceof RegularExpression)) {
+            units.clear();
+        }
+        return units;
+    }
+
+    private String leadingComments;
+    private Expansion expansion;
+    public void setName(String name) {
+        this.name=name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ThrowsList getThrowsList() {
+        return firstChildOfType(ThrowsList.class);
+    }
+
+    public FormalParams getParameterList() {
+        return firstChildOfType(FormalParams.class);
+    }
+
+    public TreeBuildingAnnotation getTreeNodeBehavior() {
+        return firstChildOfType(TreeBuildingAnnotation.class);
+    }
+
+    /**
+     * The NonTerminal nodes which refer to this production.
+     */
+    private List<NonTerminal>referringNonTerminals;
+    public List<NonTerminal>getReferringNonTerminals() {
+        if (referringNonTerminals==null) {
+            referringNonTerminals=new ArrayList<NonTerminal>();
+            for (NonTerminal nt : getGrammar().descendantsOfType(NonTerminal.class)) {
+                if (nt.getName().equals(name)) {
+                    referringNonTerminals.add(nt);
+                }
+            }
+        }
+        return referringNonTerminals;
+    }
+
+    /**
+     * The name of the non-terminal of this production.
+     */
+    private String name;
+    public Expansion getExpansion() {
+        return expansion;
+    }
+
+    public void setExpansion(Expansion expansion) {
+        this.expansion=expansion;
+    }
+
+    /**
+     * Can this production be matched by an empty string?
+     */
+    public boolean isPossiblyEmpty() {
+        return getExpansion().isPossiblyEmpty();
+    }
+
+    protected String getSimpleName() {
+        String name=getClass().getName();
+        return name.substring(name.lastIndexOf(".")+1);
+        // strip the package
+        // name
+    }
+
+    public String getAccessModifier() {
+        for (Token t : childrenOfType(Token.class)) {
+            if (t.getId()==JavaCCConstants.PRIVATE) {
+                return"private";
+            }
+            else if (t.getId()==JavaCCConstants.PROTECTED) {
+                return"protected";
+            }
+            else if (t.getId()==JavaCCConstants.PUBLIC) {
+                return"public";
+            }
+        }
+        return"";
+    }
+
+    public ReturnType getReturnType() {
+        return firstChildOfType(ReturnType.class);
+    }
+
+    public void adjustFirstToken(Token t) {
+        this.leadingComments=t.getLeadingComments();
+        t.clearSpecialToken();
+    }
+
+    public String getLeadingComments() {
+        return leadingComments;
+    }
+
+    private TokenSet firstSet,finalSet;
+    public TokenSet getFirstSet() {
+        if (firstSet==null) {
+            firstSet=getExpansion().getFirstSet();
+        }
+        return firstSet;
+    }
+
+    public TokenSet getFinalSet() {
+        if (finalSet==null) {
+            finalSet=getExpansion().getFinalSet();
+        }
+        return finalSet;
+    }
+
+}
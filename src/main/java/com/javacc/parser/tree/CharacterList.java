@@ -0,0 +1,25 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CharacterList.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import java.util.*;
+import com.javacc.lexgen.*;
+@SuppressWarnings("unused")
+public class CharacterList extends RegularExpression {
+    public List<CharacterRange>getDescriptors() {
+        return childrenOfType(CharacterRange.class);
+    }
+
+    public boolean isNegated() {
+        for (Node n : children) {
+            if (n instanceof Token) {
+                Token t=(Token) n;
+                if (t.getId()==JavaCCConstants.TILDE) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,27 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CharacterRange.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class CharacterRange extends BaseNode {
+    public char left,right;
+    public CharacterRange() {
+    }
+
+    public CharacterRange(char left,char right) {
+        setRange(left,right);
+    }
+
+    public void setRange(char left,char right) {
+        if (left>right) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        this.left=left;
+        this.right=right;
+    }
+
+    public boolean isSingleChar() {
+        return left==right;
+    }
+
+}
@@ -0,0 +1,49 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CodeBlock.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.TokenSet;
+@SuppressWarnings("unused")
+public class CodeBlock extends com.javacc.parsegen.Expansion {
+    public String getAsString() {
+        return getInnerText();
+    }
+
+    /**
+     * The block is empty if it only consists of { and }
+     */
+    public boolean isEmpty() {
+        return Nodes.getRealTokens(this).size()==2;
+    }
+
+    public CodeBlock getJavaCode() {
+        return this;
+    }
+
+    /**
+     * Always true
+     */
+    public boolean isPossiblyEmpty() {
+        return true;
+    }
+
+    /**
+     * These two do nothing but have to fullfil the superclass contract 
+     */
+    public TokenSet getFirstSet() {
+        return new TokenSet(getGrammar());
+    }
+
+    public TokenSet getFinalSet() {
+        return new TokenSet(getGrammar());
+    }
+
+    public boolean requiresPhase2Routine() {
+        return false;
+    }
+
+    public int minimumSize(int unused) {
+        return 0;
+    }
+
+}
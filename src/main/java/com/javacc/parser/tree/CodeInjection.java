@@ -0,0 +1,16 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CodeInjection.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import java.util.ArrayList;
+import java.util.List;
+@SuppressWarnings("unused")
+public class CodeInjection extends BaseNode {
+    public String name;
+    public List<ImportDeclaration>importDeclarations=new ArrayList<ImportDeclaration>();
+    public List<Annotation>annotations=new ArrayList<>();
+    public ExtendsList extendsList;
+    public ImplementsList implementsList;
+    public ClassOrInterfaceBody body;
+    public boolean isInterface;
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Comment.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class Comment extends Token {
+    public Comment(int kind,String image) {
+        super(kind,image);
+    }
+
+}
@@ -0,0 +1,8 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ExplicitLookahead.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.parsegen.Lookahead;
+@SuppressWarnings("unused")
+public class ExplicitLookahead extends Lookahead {
+}
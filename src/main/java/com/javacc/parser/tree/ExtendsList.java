@@ -0,0 +1,32 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ExtendsList.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import java.util.*;
+@SuppressWarnings("unused")
+public class ExtendsList extends BaseNode {
+    public List<ObjectType>getTypes() {
+        return childrenOfType(ObjectType.class);
+    }
+
+    public void addType(ObjectType type,boolean isInterface) {
+        if (!isInterface) {
+            children=new java.util.ArrayList<Node>();
+        }
+        ListIterator<Node>iterator=iterator();
+        if (!iterator.hasNext()) {
+            iterator.add(Token.newToken(EXTENDS,"extends"));
+            iterator.next();
+            iterator.add(type);
+        }
+        else {
+            while (iterator.hasNext()) {
+                if (type.equals(iterator.next())) return;
+            }
+            iterator.add(Token.newToken(COMMA,","));
+            iterator.next();
+            iterator.add(type);
+        }
+    }
+
+}
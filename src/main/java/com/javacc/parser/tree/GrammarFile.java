@@ -0,0 +1,12 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. GrammarFile.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class GrammarFile extends BaseNode {
+    public String getDefaultLexicalState() {
+        return null;
+        //TODO
+    }
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. HASH.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class HASH extends Token {
+    public HASH(int kind,String image) {
+        super(kind,image);
+    }
+
+}
@@ -0,0 +1,29 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ImplementsList.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import java.util.*;
+@SuppressWarnings("unused")
+public class ImplementsList extends BaseNode {
+    public List<ObjectType>getTypes() {
+        return childrenOfType(ObjectType.class);
+    }
+
+    public void addType(ObjectType type) {
+        ListIterator<Node>iterator=iterator();
+        if (!iterator.hasNext()) {
+            iterator.add(Token.newToken(IMPLEMENTS,"implements"));
+            iterator.next();
+            iterator.add(type);
+        }
+        else {
+            while (iterator.hasNext()) {
+                if (type.equals(iterator.next())) return;
+            }
+            iterator.add(Token.newToken(COMMA,","));
+            iterator.next();
+            iterator.add(type);
+        }
+    }
+
+}
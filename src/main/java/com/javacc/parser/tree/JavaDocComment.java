@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JavaDocComment.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class JavaDocComment extends Comment {
+    public JavaDocComment(int kind,String image) {
+        super(kind,image);
+    }
+
+}
@@ -0,0 +1,12 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. OneOrMoreRegexp.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.RegularExpression;
+@SuppressWarnings("unused")
+public class OneOrMoreRegexp extends RegularExpression {
+    public RegularExpression getRegexp() {
+        return firstChildOfType(RegularExpression.class);
+    }
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Operator.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class Operator extends Token {
+    public Operator(int kind,String image) {
+        super(kind,image);
+    }
+
+}
@@ -0,0 +1,13 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RegexpChoice.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.RegularExpression;
+import java.util.List;
+@SuppressWarnings("unused")
+public class RegexpChoice extends RegularExpression {
+    public List<RegularExpression>getChoices() {
+        return childrenOfType(RegularExpression.class);
+    }
+
+}
@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RegexpRef.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.*;
+@SuppressWarnings("unused")
+public class RegexpRef extends RegularExpression {
+    private RegularExpression regexp;
+    public void setRegexp(RegularExpression regexp) {
+        this.regexp=regexp;
+    }
+
+    public RegularExpression getRegexp() {
+        return regexp;
+    }
+
+    public boolean isPrivate() {
+        return regexp!=null&&regexp.isPrivate();
+        //REVISIT, why do we need a null check?
+    }
+
+}
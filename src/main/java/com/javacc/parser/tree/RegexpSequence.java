@@ -0,0 +1,13 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RegexpSequence.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import java.util.*;
+import com.javacc.lexgen.RegularExpression;
+@SuppressWarnings("unused")
+public class RegexpSequence extends RegularExpression {
+    public List<RegularExpression>getUnits() {
+        return childrenOfType(RegularExpression.class);
+    }
+
+}
@@ -0,0 +1,26 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RegexpSpec.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.RegularExpression;
+@SuppressWarnings("unused")
+public class RegexpSpec extends BaseNode {
+    public String getNextState() {
+        Token nsTok=getNsTok();
+        return nsTok==null?null:
+        nsTok.toString();
+    }
+
+    public Identifier getNsTok() {
+        return firstChildOfType(Identifier.class);
+    }
+
+    public RegularExpression getRegexp() {
+        return firstChildOfType(RegularExpression.class);
+    }
+
+    public CodeBlock getCodeSnippet() {
+        return firstChildOfType(CodeBlock.class);
+    }
+
+}
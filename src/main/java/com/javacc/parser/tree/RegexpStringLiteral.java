@@ -0,0 +1,29 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RegexpStringLiteral.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.*;
+@SuppressWarnings("unused")
+public class RegexpStringLiteral extends RegularExpression {
+    private String image;
+    public String toString() {
+        return super.toString()+" - "+getImage();
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image=image;
+    }
+
+    public boolean equals(Object obj) {
+        return obj instanceof RegexpStringLiteral&&((RegexpStringLiteral) obj).image==this.image;
+    }
+
+    public int hashCode() {
+        return image.hashCode();
+    }
+
+}
@@ -0,0 +1,40 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. RepetitionRange.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.lexgen.RegularExpression;
+@SuppressWarnings("unused")
+public class RepetitionRange extends RegularExpression {
+    private int min=0;
+    private int max=-1;
+    public boolean hasMax() {
+        for (Node n : children) {
+            if (n instanceof Token) {
+                Token t=(Token) n;
+                if (t.getId()==JavaCCConstants.COMMA) return true;
+            }
+        }
+        return false;
+    }
+
+    public void setMin(int min) {
+        this.min=min;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public void setMax(int max) {
+        this.max=max;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public RegularExpression getRegexp() {
+        return firstChildOfType(RegularExpression.class);
+    }
+
+}
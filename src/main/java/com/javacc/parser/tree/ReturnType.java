@@ -0,0 +1,13 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ReturnType.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import java.util.List;
+@SuppressWarnings("unused")
+public class ReturnType extends BaseNode implements freemarker.template.TemplateBooleanModel {
+    public boolean getAsBoolean() {
+        List<Token>lt=Nodes.getRealTokens(this);
+        return lt.size()!=1||lt.get(0).getId()!=VOID;
+    }
+
+}
@@ -0,0 +1,11 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Whitespace.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+@SuppressWarnings("unused")
+public class Whitespace extends Token {
+    public Whitespace(int kind,String image) {
+        super(kind,image);
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. ZeroOrMore.java */
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.parsegen.Expansion;
+import com.javacc.parsegen.Lookahead;
+import com.javacc.lexgen.TokenSet;
+@SuppressWarnings("unused")
+public class ZeroOrMore extends Expansion {
+    private String label;
+    public Lookahead getLookahead() {
+        Expansion exp=getNestedExpansion();
+        Lookahead lookahead=super.getLookahead();
+        if (lookahead==null) {
+            if (exp instanceof ExpansionSequence) {
+                lookahead=((ExpansionSequence) exp).getLookahead();
+            }
+            else {
+                lookahead=new Lookahead(exp);
+                setLookahead(lookahead);
+            }
+        }
+        return lookahead;
+    }
+
+    public Expansion getNestedExpansion() {
+        return firstChildOfType(Expansion.class);
+    }
+
+    public boolean isPossiblyEmpty() {
+        return true;
+    }
+
+    public TokenSet getFirstSet() {
+        if (firstSet==null) {
+            firstSet=getNestedExpansion().getFirstSet();
+        }
+        return firstSet;
+    }
+
+    public TokenSet getFinalSet() {
+        if (finalSet==null) {
+            finalSet=getNestedExpansion().getFinalSet();
+        }
+        return finalSet;
+    }
+
+    public boolean requiresPhase2Routine() {
+        return getNestedExpansion().requiresPhase2Routine();
+    }
+
+    public int minimumSize(int unused) {
+        return 0;
+    }
+
+}
@@ -108,7 +108,7 @@ public class ${grammar.baseNodeClassName} implements Node {
            
     /** Accept the visitor. **/
     public Object childrenAccept(${VISITOR_CLASS} visitor, ${VISITOR_DATA_TYPE} data) ${VISITOR_THROWS}{
-       for (Node child : children) {
+       for (Node child : children()) {
            child.jjtAccept(visitor, data);
        }
        return data;
@@ -129,41 +129,211 @@ public class ${grammar.baseNodeClassName} implements Node {
     }
 
     public void addChild(Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
         children.add(n);
         n.setParent(this);
     }
     
     public void addChild(int i, Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
         children.add(i, n);
         n.setParent(this);
     }
 
     public Node getChild(int i) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
         return children.get(i);
     }
 
     public void setChild(int i, Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
         children.set(i, n);
         n.setParent(this);
     }
     
     public Node removeChild(int i) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
         return children.remove(i);
     }
     
     public boolean  removeChild(Node n) {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
         return children.remove(n);
     }
     
     public void clearChildren() {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
+        invalidateIndexes();
         children.clear();
     }
 
+[#if grammar.usesLazyProductions]
+    private java.util.function.Supplier<Node> lazyContent;
+    
+    /**
+     * Makes this a placeholder for a lazily parsed production. The supplier 
+     * parses the production again and its result's children become this
+     * node's children the first time they are accessed.
+     * Note that the parser only checks that the lazy content is properly
+     * delimited, so a syntax error inside it is only reported when the
+     * children are first accessed, as a RuntimeException whose cause is
+     * the ParseException. It is reported again on every access after that.
+     * Use expandAll() to find any such errors up front.
+     */
+    public void setLazyContent(java.util.function.Supplier<Node> lazyContent) {
+        this.lazyContent = lazyContent;
+    }
+    
+    /**
+     * @return whether this node's children have been built. That is always
+     * the case unless it is a placeholder for a lazily parsed production.
+     */
+    public boolean isExpanded() {
+        return lazyContent == null;
+    }
+    
+    private void expand() {
+        if (lazyContent != null) {
+            // If this throws, we leave the content in place so that
+            // the next access reports the error again.
+            Node node = lazyContent.get();
+            lazyContent = null;
+            for (int i = 0; i < node.getChildCount(); i++) {
+                addChild(node.getChild(i));
+            }
+        }
+    }
+
+    /**
+     * Expands this node and all the lazily parsed nodes below it,
+     * so that the whole tree is built and checked for syntax errors.
+     * @throws ParseException the first syntax error in the lazy content
+     */
+    public void expandAll() throws ParseException {
+        try {
+            expand();
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw e;
+        }
+        for (Node child : children) {
+            if (child instanceof ${grammar.baseNodeClassName}) {
+                ((${grammar.baseNodeClassName}) child).expandAll();
+            }
+        }
+    }
+
+[/#if]
+    /**
+     * Discards the indexes cached on this node and its ancestors
+     * after a structural change to the tree.
+     */
+    private void invalidateIndexes() {
+[#if grammar.options.positionIndex || grammar.options.nodeTypeIndex]
+        for (Node n = this; n instanceof ${grammar.baseNodeClassName}; n = n.getParent()) {
+            ${grammar.baseNodeClassName} node = (${grammar.baseNodeClassName}) n;
+[#if grammar.options.positionIndex]
+            node.positionIndex = null;
+[/#if]
+[#if grammar.options.nodeTypeIndex]
+            node.nodeIndex = null;
+[/#if]
+        }
+[/#if]
+    }
+[#if grammar.options.positionIndex]
+
+    private Nodes.PositionIndex positionIndex;
+    
+    /**
+     * On the root node, position lookups go through a Nodes.PositionIndex
+     * that is built on first use and kept until the tree is modified. 
+     */
+    public Node findNodeAt(int line, int column) {
+        if (parent != null) {
+            return Node.super.findNodeAt(line, column);
+        }
+        Nodes.PositionIndex index = positionIndex;
+        if (index == null) {
+            index = positionIndex = new Nodes.PositionIndex(this);
+        }
+        return index.findNodeAt(line, column);
+    }
+[/#if]
+[#if grammar.options.nodeTypeIndex]
+
+    private Nodes.NodeIndex nodeIndex;
+    
+    /**
+     * @return the index of this node's descendants that the parser built
+     * along with the tree, or null if there is none (or it was discarded because 
+     * the tree was modified). 
+     */
+    public Nodes.NodeIndex getNodeIndex() {
+        return nodeIndex;
+    }
+    
+    public void setNodeIndex(Nodes.NodeIndex nodeIndex) {
+        this.nodeIndex = nodeIndex;
+    }
+    
+    public <T extends Node> List<T> descendantsOfType(Class<T> clazz) {
+        if (nodeIndex == null) {
+            return Node.super.descendantsOfType(clazz);
+        }
+        return new ArrayList<T>(nodeIndex.nodesOfType(clazz));
+    }
+    
+    /**
+     * @return the tokens of the given kind in this node, in document order
+     */
+    public List<Token> tokensOfKind(int kind) {
+        if (nodeIndex != null) {
+            return new ArrayList<Token>(nodeIndex.tokensOfKind(kind));
+        }
+        List<Token> result = new ArrayList<Token>();
+        for (Iterator<Token> it = Nodes.tokenIterator(this); it.hasNext();) {
+            Token token = it.next();
+            if (token.getId() == kind) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+[/#if]
+
     public int getChildCount() {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
         return children.size();
     }
     
     public List<Node> children() {
+[#if grammar.usesLazyProductions]
+        expand();
+[/#if]
         return Collections.unmodifiableList(children);
     }
     
@@ -256,7 +426,7 @@ public class ${grammar.baseNodeClassName} implements Node {
 [#if grammar.options.freemarkerNodes]    
     public TemplateSequenceModel getChildNodes() {
         SimpleSequence seq = new SimpleSequence();
-        for (Node child : children) {
+        for (Node child : children()) {
             seq.add(child);
         }
         return seq;
@@ -41,20 +41,17 @@ private class TokenBuilder {
 
 
     public String getImage() {
-          StringBuilder buf = new StringBuilder();
-          for (int i =tokenBegin; i<= bufpos; i++) {
-              buf.append(getCharAt(i));
-          }
-          return buf.toString();
+          return getSuffix(bufpos - tokenBegin + 1);
     }
     
     String getSuffix(final int len) {
-         StringBuilder buf = new StringBuilder();
+         if (len <= 0) return "";
+         char[] chars = new char[len];
          int startPos = bufpos - len +1;
          for (int i=0; i<len; i++) {
-             buf.append(getCharAt(startPos +i));
+             chars[i] = getCharAt(startPos +i);
         }
-        return buf.toString();
+        return new String(chars);
     } 
 
      int readChar() {
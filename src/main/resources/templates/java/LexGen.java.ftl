@@ -48,7 +48,15 @@ import java.util.logging.Logger;
 
 @SuppressWarnings("unused")
 public class ${grammar.lexerClassName} implements ${grammar.constantsClassName} {
+[#if grammar.options.traceSink?has_content]
+  private static final TraceSink LOGGER = new TraceSink();
+  
+  private static final class TraceSink {
+      void info(String message) {${grammar.options.traceSink}(message);}
+  }
+[#else]
   private static final Logger LOGGER = Logger.getLogger("${grammar.parserClassName}");
+[/#if]
  
 
 [#if options.lexerUsesParser]
@@ -67,15 +75,19 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   private int jjmatchedKind;
   private String inputSource = "input";
   
-[#if grammar.options.debugLexer]  
+[#if !grammar.options.traceSupport]
+  private static final boolean trace_enabled = false;
+[#elseif grammar.options.debugLexer]  
   private boolean trace_enabled = true;
 [#else]  
   private boolean trace_enabled = false;
 [/#if]
   
+[#if grammar.options.traceSupport]
   private void setTracingEnabled(boolean trace_enabled) {
      this.trace_enabled = trace_enabled;
   }
+[/#if]
   
   public String getInputSource() {
       return inputSource;
@@ -530,7 +542,7 @@ public final void backup(int amount) {
 		      ${act.javaCode}
 		  [/#if]
         [/#if]
-        [#if !jumpOut]
+        [#if !jumpOut && !(act?? && act.endsWithReturn)]
             break;
         [/#if]
       [/#if]
@@ -804,6 +816,19 @@ public final void backup(int amount) {
     }
        [#return]
     [/#if]
+    [#-- If the moves would take this method over the HugeMethodLimit,
+         the three character ranges go into separate methods, and the
+         cases of a range that is still too big are spread over as many
+         methods as it takes (see NfaMoveMethod), so that each of them
+         can still be JIT-compiled. --]
+    [#var asciiLowMoves asciiHighMoves nonAsciiMoves]
+    [#set asciiLowMoves][@DumpMoves lexicalState, 0/][/#set]
+    [#var asciiLowGroups = moveGroups]
+    [#set asciiHighMoves][@DumpMoves lexicalState, 1/][/#set]
+    [#var asciiHighGroups = moveGroups]
+    [#set nonAsciiMoves][@DumpMoves lexicalState, -1/][/#set]
+    [#var nonAsciiGroups = moveGroups]
+    [#var splitNfa = utils.estimatedBytecodeSize(asciiLowMoves + asciiHighMoves + nonAsciiMoves) > utils.splitTarget]
     [#if lexicalState.mixedCase]
         int strKind = jjmatchedKind;
         int strPos = jjmatchedPos;
@@ -831,36 +856,25 @@ public final void backup(int amount) {
                 ReInitRounds();
             }
             if (curChar < 64) {
-            	long l = 1L << curChar;
-	            do {
-	                switch (jjstateSet[--i]) {
-	                    [@DumpMoves lexicalState, 0/]
-	                    default : break;
-	                }
-	            } while (i != startsAt);
+    [#if splitNfa]
+                kind = jjMoveNfaAsciiLow${lexicalState.suffix}(i, startsAt, kind);
+    [#else]
+                [@NfaMoveLoop asciiLowMoves, 0/]
+    [/#if]
             }
             else if (curChar <128) {
-            	long l = 1L << (curChar & 077);
-	            do {
-	                switch (jjstateSet[--i]) {
- 	                    [@DumpMoves lexicalState, 1/]
-                	     default : break;
-                	}
-                } while (i!= startsAt);
+    [#if splitNfa]
+                kind = jjMoveNfaAsciiHigh${lexicalState.suffix}(i, startsAt, kind);
+    [#else]
+                [@NfaMoveLoop asciiHighMoves, 1/]
+    [/#if]
             }
             else {
-                int hiByte = (int)(curChar >> 8);
-                int i1 = hiByte >> 6;
-                long l1 = 1L << (hiByte & 077);
-                int i2 = (curChar & 0xff) >> 6;
-                long l2 = 1L << (curChar & 077);
-	            do {
-	                switch (jjstateSet[--i]) {
-	                    [@DumpMoves lexicalState, -1/]
-                        default : break;
-                    }
-                } while(i != startsAt);
-	                
+    [#if splitNfa]
+                kind = jjMoveNfaNonAscii${lexicalState.suffix}(i, startsAt, kind);
+    [#else]
+                [@NfaMoveLoop nonAsciiMoves, -1/]
+    [/#if]
             }
             if (kind != 0x7fffffff) {
                 jjmatchedKind = kind;
@@ -919,18 +933,107 @@ public final void backup(int amount) {
         return toRet;
     [/#if]
     }
+    [#if splitNfa]
+    [@NfaMoveMethod "jjMoveNfaAsciiLow" + lexicalState.suffix, asciiLowGroups, 0/]
+    [@NfaMoveMethod "jjMoveNfaAsciiHigh" + lexicalState.suffix, asciiHighGroups, 1/]
+    [@NfaMoveMethod "jjMoveNfaNonAscii" + lexicalState.suffix, nonAsciiGroups, -1/]
+    [/#if]
 [/#macro]
 
+[#-- The moves for one range of characters, split up by
+     utils.splitCaseGroups if need be. Then the loop looks up
+     which of the methods has the case for each state in a table,
+     which is a string so that it goes into the constant pool
+     rather than into the code of the static initializer. --]
+[#macro NfaMoveMethod name groups byteNum]
+    [#var parts = utils.splitCaseGroups(groups)]
+
+    private int ${name}(int i, int startsAt, int kind) {
+    [#if parts?size = 1]
+        [@NfaMoveLoop parts[0], byteNum/]
+        return kind;
+    }
+       [#return]
+    [/#if]
+        [@NfaMoveLocals byteNum/]
+        do {
+            int state = jjstateSet[--i];
+            if (state >= 0 && state < ${name}Parts.length()) {
+                switch (${name}Parts.charAt(state)) {
+    [#list parts as part]
+                    case ${part_index + 1} :
+                        kind = ${name}_${part_index}(state, [#if byteNum >= 0]l[#else]hiByte, i1, i2, l1, l2[/#if], kind);
+                        break;
+    [/#list]
+                    default : break;
+                }
+            }
+        } while (i != startsAt);
+        return kind;
+    }
+
+    static final String ${name}Parts =
+    [#list utils.caseTable(parts) as line]
+        "${line}"[#if line_has_next] +[#else];[/#if]
+    [/#list]
+    [#list parts as part]
+
+    private int ${name}_${part_index}(int state, [#if byteNum >= 0]long l[#else]int hiByte, int i1, int i2, long l1, long l2[/#if], int kind) {
+        switch (state) {
+            ${part}
+            default : break;
+        }
+        return kind;
+    }
+    [/#list]
+[/#macro]
+
+[#macro NfaMoveLocals byteNum]
+    [#if byteNum = 0]
+            long l = 1L << curChar;
+    [#elseif byteNum = 1]
+            long l = 1L << (curChar & 077);
+    [#else]
+            int hiByte = (int)(curChar >> 8);
+            int i1 = hiByte >> 6;
+            long l1 = 1L << (hiByte & 077);
+            int i2 = (curChar & 0xff) >> 6;
+            long l2 = 1L << (curChar & 077);
+    [/#if]
+[/#macro]
+
+[#macro NfaMoveLoop moves byteNum]
+            [@NfaMoveLocals byteNum/]
+            do {
+                switch (jjstateSet[--i]) {
+                    ${moves}
+                    default : break;
+                }
+            } while (i != startsAt);
+[/#macro]
+
+[#-- Besides writing out the moves, this leaves the case groups
+     that they are made of in moveGroups, for NfaMoveMethod. --]
 [#macro DumpMoves lexicalState byteNum]
    [#set statesDumped = utils.newBitSet()]
-   [#list lexicalState.compositeStateTable?keys as key]
-      [@dumpCompositeStatesMoves lexicalState, key, byteNum, statesDumped/]
+   [#set moveGroups = utils.newList()]
+   [#list lexicalState.compositeStateSets as key]
+      [#var group]
+      [#set group][@dumpCompositeStatesMoves lexicalState, key, byteNum, statesDumped/][/#set]
+      ${moveGroups.add(group)?string("", "")}${group}
    [/#list]
    [@dumpMoves lexicalState, byteNum, statesDumped/]
 [/#macro]
 
 [#macro dumpMoves lexicalState byteNum statesDumped]
    [#list lexicalState.allStates as state]
+      [#var group]
+      [#set group][@dumpStateMoves state, byteNum, statesDumped/][/#set]
+      ${moveGroups.add(group)?string("", "")}${group}
+   [/#list]
+[/#macro]
+
+[#macro dumpStateMoves state byteNum statesDumped]
       [#if state.index>=0&&!statesDumped.get(state.index)&&state.hasTransitions()]
           [#var toPrint=""]
           [#var stateForCaseHandled=false]
@@ -957,7 +1060,6 @@ public final void backup(int amount) {
               [/#if]
           [/#if]
       [/#if]
-   [/#list]
 [/#macro]
 
 [#macro dumpMove nfaState byteNum statesDumped]
@@ -1019,7 +1121,7 @@ public final void backup(int amount) {
                     if (jjCanMove_${nfaState.nonAsciiMethod}(hiByte, i1, i2, l1, l2))
    [/#if]
    [#if !nfaState.next?is_null&&nfaState.next.usefulEpsilonMoves>0]
-       [#var stateNames=lexicalState.nextStatesFromKey(nfaState.next.epsilonMovesString)]
+       [#var stateNames=nfaState.next.epsilonMovesSet.states]
        [#if nfaState.next.usefulEpsilonMoves = 1]
           [#var name=stateNames[0]]
           [#if nextIntersects]
@@ -1030,7 +1132,7 @@ public final void backup(int amount) {
        [#elseif nfaState.next.usefulEpsilonMoves = 2&&nextIntersects]
                     jjCheckNAddTwoStates(${stateNames[0]}, ${stateNames[1]});
        [#else]
-          [#var indices=lexicalState.getStateSetIndicesForUse(nfaState.next.epsilonMovesString)]
+          [#var indices=lexicalState.getStateSetIndicesForUse(nfaState.next.epsilonMovesSet)]
           [#var notTwo=(indices[0]+1 != indices[1])]
           [#if nextIntersects]
                     jjCheckNAddStates(${indices[0]}
@@ -1142,7 +1244,7 @@ public final void backup(int amount) {
                       kind = ${kindToPrint};
    [/#if]
    [#if !next?is_null&&next.usefulEpsilonMoves>0]
-       [#var stateNames=lexicalState.nextStatesFromKey(next.epsilonMovesString)]
+       [#var stateNames=next.epsilonMovesSet.states]
        [#if next.usefulEpsilonMoves = 1]
           [#var name=stateNames[0]]
           [#if nextIntersects]
@@ -1156,7 +1258,7 @@ public final void backup(int amount) {
            [#-- Note that the getStateSetIndicesForUse() method builds up a needed
                 data structure lexicalState.orderedStateSet, which is used to output
                 the jjnextStates vector. --]
-           [#var indices=nfaState.lexicalState.getStateSetIndicesForUse(next.epsilonMovesString)]
+           [#var indices=nfaState.lexicalState.getStateSetIndicesForUse(next.epsilonMovesSet)]
            [#var notTwo=(indices[0]+1 != indices[1])]
            [#if nextIntersects]
                    jjCheckNAddStates(${indices[0]}
@@ -1430,7 +1532,6 @@ public final void backup(int amount) {
 [#macro DumpNfaStartStatesCode lexicalState lexicalState_index]
   [#var statesForPos=lexicalState.statesForPos]
   [#var maxKindsReqd=(1+lexicalState.maxStrKind/64)?int]
-  [#var ind=0]
   [#var maxStrKind=lexicalState.maxStrKind]
   [#var maxLen=lexicalState.maxLen]
   
@@ -1464,9 +1565,9 @@ public final void backup(int amount) {
   [#list 0..(maxLen-1) as i]
 	 [#if statesForPos[i]??]
             case ${i} :
-        [#list statesForPos[i]?keys as stateSetString]
+        [#list statesForPos[i] as nfaStart]
            [#var condGenerated=false]
-           [#var actives=statesForPos[i][stateSetString]]
+           [#var actives=nfaStart.actives]
            [#list 0..(maxKindsReqd-1) as j]
              [#if actives[j] != 0]
                [#if !condGenerated]
@@ -1480,25 +1581,23 @@ public final void backup(int amount) {
            [/#list]
            [#if condGenerated]
                ) 
-              [#set ind = stateSetString?index_of(", ")]
-              [#var kindStr=stateSetString?substring(0, ind)]
-              [#var afterKind=stateSetString?substring(ind+2)] 
-              [#var jjmatchedPos=afterKind?substring(0, afterKind?index_of(", "))?number]
-              [#if kindStr != "2147483647"]
+              [#var kind=nfaStart.kind]
+              [#var jjmatchedPos=nfaStart.matchedPos]
+              [#if kind != MAX_INT]
                  {
                  [#if i = 0]
-                    jjmatchedKind = ${kindStr};
+                    jjmatchedKind = ${kind};
 					[#if lexicalState.initMatch != 0&&lexicalState.initMatch != MAX_INT]
                     jjmatchedPos = 0;
                     [/#if]
                  [#elseif i = jjmatchedPos]
                     [#if lexicalState.subStringAtPos[i]]
                     if (jjmatchedPos != ${i}) {
-                        jjmatchedKind = ${kindStr};
+                        jjmatchedKind = ${kind};
                         jjmatchedPos = ${i};
                     }
                     [#else]
-                    jjmatchedKind = ${kindStr};
+                    jjmatchedKind = ${kind};
                     jjmatchedPos = ${i};
                     [/#if]
                  [#else]
@@ -1507,21 +1606,17 @@ public final void backup(int amount) {
                     [#else]
                     if (jjmatchedPos == 0) {
                     [/#if]
-                        jjmatchedKind = ${kindStr};
+                        jjmatchedKind = ${kind};
                         jjmatchedPos = ${jjmatchedPos};
                     }
                  [/#if]
               [/#if]
-              [#set ind = stateSetString?index_of(", ")]
-			  [#set kindStr = stateSetString?substring(0, ind)]
-			  [#set afterKind = stateSetString?substring(ind+2)]
-			  [#set stateSetString = afterKind?substring(afterKind?index_of(",")+2)]
-              [#if stateSetString = "null;"]
-                        return -1;
+              [#if nfaStart.stateSet??]
+                   return ${lexicalState.addStartStateSet(nfaStart.stateSet)};
               [#else]
-                   return ${lexicalState.addStartStateSet(stateSetString)};
+                        return -1;
               [/#if]
-              [#if kindStr != "2147483647"]
+              [#if kind != MAX_INT]
               }
               [/#if]
            [/#if]
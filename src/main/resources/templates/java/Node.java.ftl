@@ -194,15 +194,33 @@ public interface Node
    
    default <T extends Node> List<T> descendantsOfType(Class<T> clazz) {
         List<T> result = new ArrayList<T>();
-        for (Node child : children()) {
-            if (clazz.isInstance(child)) {
-                result.add(clazz.cast(child));
-            } 
-            result.addAll(child.descendantsOfType(clazz));
+        for (Iterator<Node> it = descendantIterator(); it.hasNext();) {
+            Node descendant = it.next();
+            if (clazz.isInstance(descendant)) {
+                result.add(clazz.cast(descendant));
+            }
         }
         return result;
    }
    
+   /**
+    * @return an Iterator over the descendants of this node in document 
+    * (pre-order) order. The tree is walked on demand, so no intermediate
+    * lists are built.
+    */
+   default Iterator<Node> descendantIterator() {
+        return Spliterators.iterator(new Nodes.TreeSpliterator(this));
+   }
+   
+   /**
+    * @return a lazily evaluated Stream over the descendants of this node
+    * in document order. The underlying Spliterator can be split, 
+    * so the stream may also be made parallel.
+    */
+   default java.util.stream.Stream<Node> descendantStream() {
+        return java.util.stream.StreamSupport.stream(new Nodes.TreeSpliterator(this), false);
+   }
+   
    default <T extends Node> T firstAncestorOfType(Class<T> clazz) {
         Node parent = this;
         while (parent !=null) {
@@ -218,13 +236,32 @@ public interface Node
         if (!isIncluded(line, column)) {
             return null;
         }
-        for (Node child : children()) {
+        // The children are in document order, so we binary search for the last 
+        // one that starts at or before the position, and then work back over any
+        // preceding children that could still include it.
+        int low = 0, high = getChildCount() -1, candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Node child = getChild(mid);
+            if (isAfter(line, column, child.getBeginLine(), child.getBeginColumn())) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        Node result = null;
+        for (int i = candidate; i >= 0; i--) {
+            Node child = getChild(i);
             Node match = child.findNodeAt(line, column);
             if (match != null) {
-                return match;
+                result = match;
+            } 
+            else if (!isAfter(child.getEndLine(), child.getEndColumn(), line, column)) {
+                break;
             }
         }
-        return this;
+        return result != null ? result : this;
     }
     
     /**
@@ -297,15 +334,7 @@ public interface Node
     }
     
      static public List<Token> getTokens(Node node) {
-        List<Token> result = new ArrayList<Token>();
-        for (Node child : node.children()) {
-            if (child instanceof Token) {
-                result.add((Token) child);
-            } else {
-                result.addAll(getTokens(child));
-            }
-        }
-        return result;
+        return Nodes.getTokens(node);
     }
         
         
@@ -321,11 +350,11 @@ public interface Node
 
     default List<Node> descendants(Filter filter) {
        List<Node> result = new ArrayList<>();
-       for (Node child : children()) {
-          if (filter.accept(child)) {
-              result.add(child);
+       for (Iterator<Node> it = descendantIterator(); it.hasNext();) {
+          Node descendant = it.next();
+          if (filter.accept(descendant)) {
+              result.add(descendant);
           }
-          result.addAll(child.descendants(filter)); 
        }
        return result;
     }
@@ -35,6 +35,8 @@
 [#var parserData=grammar.parserData]
 [#var hasPhase2=parserData.phase2Lookaheads?size != 0]
 [#var tokenCount=grammar.lexerData.tokenCount]
+[#var tokenNodeHooks = grammar.options.userDefinedLexer || grammar.usesjjtreeOpenNodeScope || grammar.usesOpenNodeScopeHook
+                       || grammar.usesjjtreeCloseNodeScope || grammar.usesCloseNodeScopeHook]
 
 [#if grammar.parserPackage?has_content]
 package ${grammar.parserPackage};
@@ -50,7 +52,22 @@ import java.io.*;
 @SuppressWarnings("unused")
 public class ${grammar.parserClassName} implements ${grammar.constantsClassName} {
 
+[#if grammar.options.traceSink?has_content]
+    static final TraceSink LOGGER = new TraceSink();
+    
+    /**
+     * Sends the trace messages to ${grammar.options.traceSink} 
+     * rather than to a java.util.logging.Logger
+     */
+    static final class TraceSink {
+        void info(String message) {${grammar.options.traceSink}(message);}
+        void warning(String message) {${grammar.options.traceSink}(message);}
+        void finer(String message) {${grammar.options.traceSink}(message);}
+        void setLevel(Level level) {}
+    }
+[#else]
     static final java.util.logging.Logger LOGGER = Logger.getLogger("${grammar.parserClassName}");
+[/#if]
     
 [#if grammar.options.debugParser]
      static {
@@ -216,27 +233,50 @@ public class ${grammar.parserClassName} implements ${grammar.constantsClassName}
             handleUnexpectedTokenType(expectedType, forced, oldToken) ;
         }      
 [#if grammar.options.treeBuildingEnabled]
-      if (buildTree && tokensAreNodes) {
+      if (tokensAreNodes) {
+          if (buildTree) {
+  [#if tokenNodeHooks]
+              pushTokenNode(current_token);
+  [#else]
+              pushNode(current_token);
+  [/#if]
+          }
+  [#if grammar.options.eventParsing]
+          else if (eventHandler != null) {
+              eventHandler.token(current_token);
+          }
+  [/#if]
+      }
+[/#if]
+      if (trace_enabled) traceConsumedToken();
+      return current_token;
+  }
+  
+[#-- The rarely used parts of consumeToken are kept in separate methods, so that it stays
+     small enough for the JIT to inline at its many call sites. --]
+[#if grammar.options.treeBuildingEnabled && tokenNodeHooks]
+  private void pushTokenNode(Token token) {
   [#if grammar.options.userDefinedLexer]
-          current_token.setInputSource(inputSource);
+      token.setInputSource(inputSource);
   [/#if]
   [#if grammar.usesjjtreeOpenNodeScope]
-   	      jjtreeOpenNodeScope(current_token);
+      jjtreeOpenNodeScope(token);
   [/#if]
   [#if grammar.usesOpenNodeScopeHook]
-          openNodeScopeHook(current_token);
+      openNodeScopeHook(token);
   [/#if]          
-          pushNode(current_token);
+      pushNode(token);
   [#if grammar.usesjjtreeCloseNodeScope]
-   	      jjtreeCloseNodeScope(current_token);
+      jjtreeCloseNodeScope(token);
   [/#if]
   [#if grammar.usesCloseNodeScopeHook]
-   	      closeNodeScopeHook(current_token);
+      closeNodeScopeHook(token);
   [/#if]
-      }
+  }
+  
 [/#if]
-      if (trace_enabled) LOGGER.info("Consumed token of type " + tokenImage[current_token.kind] + " from " + current_token.getLocation());
-      return current_token;
+  private void traceConsumedToken() {
+      LOGGER.info("Consumed token of type " + tokenImage[current_token.kind] + " from " + current_token.getLocation());
   }
   
   private void handleUnexpectedTokenType( int expectedType,  boolean forced, Token oldToken) throws ParseException {
@@ -301,6 +341,30 @@ public class ${grammar.parserClassName} implements ${grammar.constantsClassName}
     return false;
   }
 [/#if]
+[#if parserData.phase2CacheSize > 0]
+
+  // Results of phase 2 routines at current_token. Moving current_token
+  // bumps the stamp, which makes all the earlier results stale.
+  private Token jj_la_cacheToken;
+  private long jj_la_cacheStamp;
+  private final long[] jj_la_cacheStamps = new long[${parserData.phase2CacheSize}];
+  private final boolean[] jj_la_cacheResults = new boolean[${parserData.phase2CacheSize}];
+
+  private boolean jj_la_cached(int index) {
+    if (jj_la_cacheToken != current_token) {
+      jj_la_cacheToken = current_token;
+      ++jj_la_cacheStamp;
+      return false;
+    }
+    return jj_la_cacheStamps[index] == jj_la_cacheStamp;
+  }
+
+  private boolean jj_la_cache(int index, boolean result) {
+    jj_la_cacheStamps[index] = jj_la_cacheStamp;
+    jj_la_cacheResults[index] = result;
+    return result;
+  }
+[/#if]
 
   final public Token getNextToken() {
     if (current_token.next != null) current_token = current_token.next;
@@ -350,13 +414,24 @@ public class ${grammar.parserClassName} implements ${grammar.constantsClassName}
         return false;
     } 
   
-[#if grammar.options.debugParser]
+[#if !grammar.options.traceSupport]
+  // A constant, so that the compiler leaves out all the tracing code
+  private static final boolean trace_enabled = false;
+[#elseif grammar.options.debugParser]
   private boolean trace_enabled = true;
  [#else]
   private boolean trace_enabled = false;
  [/#if]
  
+[#if grammar.options.traceSupport]
   public void setTracingEnabled(boolean tracingEnabled) {trace_enabled = tracingEnabled;}
+[#else]
+  public void setTracingEnabled(boolean tracingEnabled) {
+      if (tracingEnabled) {
+          throw new UnsupportedOperationException("This parser was not built with that feature!");
+      }
+  }
+[/#if]
   
  /**
  * @deprecated Use #setTracingEnabled
@@ -374,8 +449,6 @@ public class ${grammar.parserClassName} implements ${grammar.constantsClassName}
     setTracingEnabled(false);
   }
   
-  
-  }
 [#if grammar.options.debugLookahead]
   private void trace_scan(Token token, int expectedType) {
     if (trace_enabled) {
@@ -39,6 +39,9 @@
     [#set currentProduction = production]
     [@ParserProduction production/]
   [/#list]
+  [#list firstSetMasks as mask]
+   static private final long[] jj_first_set_${mask_index} = {${mask}};
+  [/#list]
 [/#macro]
 
 
@@ -48,7 +51,7 @@
 // Start of methods for Phase 2 Lookaheads
 //====================================
   [#list parserData.phase2Lookaheads as lookahead]
-     [@buildPhase2Routine lookahead.nestedExpansion/]
+     [@buildPhase2Routine lookahead/]
   [/#list]
 [/#macro]
 
@@ -72,9 +75,111 @@
     throws ParseException
     [#list (production.throwsList.types)! as throw], ${throw}[/#list] {
      if (trace_enabled) LOGGER.info("Entering production defined on line ${production.beginLine} of ${production.inputSource}");
+   [#if grammar.usesLazyProductions && production.lazy]
+     [@LazyProductionCode production/]
+   [/#if]
      ${production.javaCode}
+   [#if parserData.getPrecedenceChain(production)??]
+     jj_climb_${production.name}(0);
+     if (trace_enabled) LOGGER.info("Exiting normally from ${production.name}");
+   [#else]
    [@BuildCode production.expansion /]
+   [/#if]
     }   
+   [#if parserData.getPrecedenceChain(production)??]
+     [@PrecedenceClimbingCode parserData.getPrecedenceChain(production)/]
+   [/#if]
+[/#macro]
+
+[#-- The productions of the chain are its precedence levels, numbered from 0 for the one 
+     whose operators bind the loosest. A node for a level is only created once its first 
+     operator turns up, and the operand that was already parsed is moved into it. --]
+[#macro PrecedenceClimbingCode chain]
+   [#var name = chain.production.name, operand = chain.operand.name, levelCount = chain.levels?size]
+    private void jj_climb_${name}(int minLevel) throws ParseException {
+  [#if grammar.options.treeBuildingEnabled]
+        Token start = getToken(1);
+  [/#if]
+        ${operand}();
+        int level;
+        while ((level = jj_level_${name}(nextTokenKind())) >= minLevel) {
+  [#if grammar.options.treeBuildingEnabled]
+            Node node = null;
+            if (buildTree) {
+                switch (level) {
+     [#list chain.levels as level]
+                    case ${level_index} : node = new ${NODE_PREFIX}${level.name}(${NODE_USES_PARSER?string("this", "")}); break;
+     [/#list]
+                }
+                node.setBeginLine(start.beginLine);
+                node.setBeginColumn(start.beginColumn);
+                node.setInputSource(this.getInputSource());
+                Node left = popNode();
+                openNodeScope(node);
+                pushNode(left);
+            }
+  [/#if]
+            do {
+                consumeToken(nextTokenKind());
+                if (level + 1 < ${levelCount}) {
+                    jj_climb_${name}(level + 1);
+                } else {
+                    ${operand}();
+                }
+            } while (jj_level_${name}(nextTokenKind()) == level);
+  [#if grammar.options.treeBuildingEnabled]
+            if (buildTree) {
+                node.setEndLine(current_token.getEndLine());
+                node.setEndColumn(current_token.getEndColumn());
+                closeNodeScope(node, true);
+            }
+  [/#if]
+        }
+    }
+
+    static private int jj_level_${name}(int kind) {
+        switch (kind) {
+   [#list chain.operatorNames as names]
+     [#list names as tokenName]
+            case ${tokenName} :
+     [/#list]
+                return ${names_index};
+   [/#list]
+            default :
+                return -1;
+        }
+    }
+[/#macro]
+
+[#--  A LAZY production just skips to its closing delimiter and leaves a placeholder node 
+      that is filled in from a separate parser (which does go through the production) on first access. --]
+[#macro LazyProductionCode production]
+   [#var nodeName = NODE_PREFIX + production.treeBuildingAnnotation.nodeName]
+     if (expandingLazyNode) {
+         expandingLazyNode = false;
+     } else if (buildTree) {
+         final Token previous = current_token;
+         skipDelimited(${production.lazyOpenDelimiter.label}, ${production.lazyCloseDelimiter.label});
+   [#if NODE_USES_PARSER]
+         ${nodeName} lazyNode = new ${nodeName}(this);
+   [#else]
+         ${nodeName} lazyNode = new ${nodeName}();
+   [/#if]
+         lazyNode.setBeginLine(previous.next.beginLine);
+         lazyNode.setBeginColumn(previous.next.beginColumn);
+         lazyNode.setEndLine(current_token.getEndLine());
+         lazyNode.setEndColumn(current_token.getEndColumn());
+         lazyNode.setInputSource(this.getInputSource());
+         lazyNode.setLazyContent(() -> expandLazyNode(previous, parser -> parser.${production.name}()));
+         openNodeScope(lazyNode);
+         closeNodeScope(lazyNode, true);
+         if (trace_enabled) LOGGER.info("Skipped over ${production.name} lazily");
+   [#if production.returnType == "void"]
+         return;
+   [#else]
+         return lazyNode;
+   [/#if]
+     }
 [/#macro]
 
 [#macro BuildCode expansion]
@@ -89,6 +194,10 @@
       [#set buildTreeNode = (treeNodeBehavior?is_null && production?? && !grammar.options.nodeDefaultVoid)
                         || (treeNodeBehavior?? && !treeNodeBehavior.void)]
     [/#if]
+    [#if buildTreeNode && production?? && parserData.getDefersNodeCreation(production)]
+        [@DeferredNodeCode expansion production/]
+        [#return]
+    [/#if]
     [#if buildTreeNode]
         [@setupTreeVariables .scope /]
         [#if grammar.options.faultTolerant && forced]
@@ -136,6 +245,15 @@
  	                 closeNodeScope(${nodeVarName}, ${closeCondition});
                  }
              }
+  [#if grammar.options.eventParsing]
+             else if (eventHandler != null) {
+                 if (${parseExceptionVar} == null) {
+                     eventHandler.endNode(${nodeClassName(treeNodeBehavior)}.class, current_token);
+                 } else {
+                     eventHandler.abortNode(${nodeClassName(treeNodeBehavior)}.class, current_token, ${parseExceptionVar});
+                 }
+             }
+  [/#if]
 [#else]
              if (buildTree) {
                  if (${parseExceptionVar} == null) {
@@ -156,12 +274,44 @@
 		             }
 	             }
         }
+  [#if grammar.options.eventParsing]
+             else if (eventHandler != null) {
+                 eventHandler.endNode(${nodeClassName(treeNodeBehavior)}.class, current_token);
+             }
+  [/#if]
 [/#if]  
          }       
           ${grammar.utils.popNodeVariableName()!}
     [/#if]
 [/#macro]
 
+[#-- A smart node that is only created at the end of the production, once we know that it
+      has more than one child. Until then, its children just go on the enclosing scope. --]
+[#macro DeferredNodeCode expansion production]
+    [#var nodeVarName, forcedVarName, parseExceptionVar, treeNodeBehavior = expansion.treeNodeBehavior, closeCondition]
+    [@setupTreeVariables .scope /]
+    [#var nodeName = nodeClassName(treeNodeBehavior)]
+        int ${nodeVarName}Floor = buildTree ? openDeferredNodeScope() : 0;
+        Token ${nodeVarName}Start = getToken(1);
+        [@BuildPhase1Code expansion/]
+    [#if production.returnType == "void"]
+        if (trace_enabled) LOGGER.info("Exiting normally from ${production.name}");
+    [/#if]
+        if (buildTree) {
+            int ${nodeVarName}Mark = closeDeferredNodeScope(${nodeVarName}Floor);
+            if (nodeArity() - ${nodeVarName}Mark > 1) {
+                ${nodeName} ${nodeVarName} = new ${nodeName}(${NODE_USES_PARSER?string("this", "")});
+                ${nodeVarName}.setBeginLine(${nodeVarName}Start.beginLine);
+                ${nodeVarName}.setBeginColumn(${nodeVarName}Start.beginColumn);
+                ${nodeVarName}.setInputSource(this.getInputSource());
+                ${nodeVarName}.setEndLine(current_token.getEndLine());
+                ${nodeVarName}.setEndColumn(current_token.getEndColumn());
+                createDeferredNode(${nodeVarName}, ${nodeVarName}Mark);
+            }
+        }
+    ${grammar.utils.popNodeVariableName()!}
+[/#macro]
+
 [#--  A helper macro to set up some variables so that the BuildCode macro can be a bit more readable --]
 [#macro setupTreeVariables callingScope]
     [#set nodeNumbering = nodeNumbering +1]
@@ -185,12 +335,16 @@
 [/#macro]
 
 
-[#--  Boilerplate code to create the node variable --]
-[#macro createNode treeNodeBehavior nodeVarName]
-   [#var nodeName = NODE_PREFIX + currentProduction.name]
+[#function nodeClassName treeNodeBehavior]
    [#if treeNodeBehavior?? && treeNodeBehavior.nodeName??]
-      [#set nodeName = NODE_PREFIX + treeNodeBehavior.nodeName]
+      [#return NODE_PREFIX + treeNodeBehavior.nodeName]
    [/#if]
+   [#return NODE_PREFIX + currentProduction.name]
+[/#function]
+
+[#--  Boilerplate code to create the node variable --]
+[#macro createNode treeNodeBehavior nodeVarName]
+   [#var nodeName = nodeClassName(treeNodeBehavior)]
    ${nodeName} ${nodeVarName} = null;
    if (buildTree) {
    [#if NODE_USES_PARSER]
@@ -210,6 +364,11 @@
        openNodeScopeHook(${nodeVarName});
   [/#if]
   }
+  [#if grammar.options.eventParsing]
+   else if (eventHandler != null) {
+       eventHandler.startNode(${nodeName}.class, getToken(1));
+   }
+  [/#if]
 [/#macro]
 
 
@@ -306,7 +465,7 @@
 [/#macro]
 
 [#macro BuildPhase1CodeChoice choice]
-   [#var lookaheads=[] actions=[]]
+   [#var lookaheads=[] actions=[] endsWithReturn=[]]
    [#var defaultAction="consumeToken(-1);
 throw new ParseException();"]
    [#var inPhase1=false]
@@ -320,6 +479,7 @@ throw new ParseException();"]
       [#if !la.alwaysSucceeds]
          [#set lookaheads = lookaheads+[la]]
          [#set actions = actions+[action]]
+         [#set endsWithReturn = endsWithReturn+[nested.endsWithReturn]]
       [#else]
          [#set defaultAction = action]
          [#break]
@@ -358,7 +518,9 @@ throw new ParseException();"]
                  case ${tokenName}: 
           [/#list]
                     ${actions[lookahead_index]}
+                 [#if !endsWithReturn[lookahead_index]]
                     break;
+                 [/#if]
           [#set inPhase1 = true]
     [#else]
           [#if lookahead_index = 0]
@@ -406,15 +568,38 @@ throw new ParseException();"]
       [#set condition = condition?replace("2147483647", "INFINITY")]
    [#elseif lookahead.amount = 1&&!lookahead.possibleEmptyExpansion]
       [@newVar type="int" init="nextTokenKind()"/]
+      [#if lookahead.firstSetTokenNames?size > 3]
+         [#-- Past a few tokens, a single test against a static mask beats
+              the chain of comparisons. The kind is INVALID (-1) on bad input. --]
+         [#var mask = firstSetMask(lookahead)]
+         [#set condition]
+             int${newVarIndex} >= 0 && (${mask}[int${newVarIndex} >> 6] & (1L << int${newVarIndex})) != 0L
+         [/#set]
+      [#else]
       [#set condition]
       [#list lookahead.firstSetTokenNames as tokenName]
              int${newVarIndex} == ${tokenName} [#if tokenName_has_next]|| [/#if]
       [/#list]
      [/#set]
+      [/#if]
    [/#if]
   [@ifelse condition, action, fallback/]
 [/#macro]
 
+[#-- The name of the static mask for this lookahead's first set.
+     Identical first sets share the same mask. --]
+[#function firstSetMask lookahead]
+   [#var mask = ""]
+   [#list lookahead.firstSetMask as word]
+      [#set mask = mask + utils.toHexStringL(word)]
+      [#if word_has_next][#set mask = mask + ", "][/#if]
+   [/#list]
+   [#if !firstSetMasks?seq_contains(mask)]
+      [#set firstSetMasks = firstSetMasks + [mask]]
+   [/#if]
+   [#return "jj_first_set_" + firstSetMasks?seq_index_of(mask)]
+[/#function]
+
 [#macro ifelse condition action1 action2]
    [#if condition?is_null || condition?trim?length = 0]
       ${action1!}
@@ -441,20 +626,62 @@ throw new ParseException();"]
 [#var NODE_USES_PARSER = grammar.options.nodeUsesParser]
 [#var NODE_PREFIX = grammar.options.nodePrefix]
 [#var currentProduction]
+[#var firstSetMasks = []]
 
-[#macro buildPhase2Routine expansion]
+[#macro buildPhase2Routine lookahead]
+   [#var expansion = lookahead.nestedExpansion]
    private boolean ${expansion.phase2RoutineName}(int maxLookahead) {
+   [#if lookahead.table??]
+      [@LookaheadTableCode lookahead.table.decision/]
+   }
+      [#return]
+   [/#if]
+   [#var cacheIndex = lookahead.cacheIndex]
+   [#if cacheIndex >= 0]
+      if (jj_la_cached(${cacheIndex})) return jj_la_cacheResults[${cacheIndex}];
+   [/#if]
       jj_la = maxLookahead; 
       jj_lastpos = jj_scanpos = current_token;
       try { 
+   [#if cacheIndex >= 0]
+            return jj_la_cache(${cacheIndex}, !${expansion.phase3RoutineName}());
+   [#else]
             return !${expansion.phase3RoutineName}();
+   [/#if]
       }
       catch(LookaheadSuccess ls) {
+   [#if cacheIndex >= 0]
+          return jj_la_cache(${cacheIndex}, true);
+   [#else]
           return true; 
+   [/#if]
+      }
+      finally {
+          // So that the scan position does not keep the tokens from here on reachable
+          jj_lastpos = jj_scanpos = null;
       }
   }
 [/#macro]
 
+[#-- A nested switch on the kinds of the next few tokens that
+     gives the same answer as the phase 3 routine would. --]
+[#macro LookaheadTableCode decision]
+   [#if decision.isOutcome]
+      return ${decision.outcome?string("true", "false")};
+   [#else]
+      switch ([#if decision.position = 1]nextTokenKind()[#else]getToken(${decision.position}).kind[/#if]) {
+      [#list decision.branches as branch]
+         [#list branch.tokenNames as tokenName]
+         case ${tokenName} :
+         [/#list]
+            [@LookaheadTableCode branch.decision/]
+      [/#list]
+         default :
+            [@LookaheadTableCode decision.defaultDecision/]
+      }
+   [/#if]
+[/#macro]
+
 [#var currentPhase3Expansion]
 
 [#macro buildPhase3Routine expansion count]